@@ -16,7 +16,11 @@
 package org.cspoker.ai.bots.bot.gametree.mcts;
 
 import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.log4j.Logger;
 import org.cspoker.ai.bots.bot.AbstractBot;
@@ -27,8 +31,13 @@ import org.cspoker.ai.bots.bot.gametree.mcts.listeners.MCTSListener;
 import org.cspoker.ai.bots.bot.gametree.mcts.nodes.Config;
 import org.cspoker.ai.bots.bot.gametree.mcts.nodes.INode;
 import org.cspoker.ai.bots.bot.gametree.mcts.nodes.InnerNode;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.MergedNode;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.MergedRootNode;
 import org.cspoker.ai.bots.bot.gametree.mcts.nodes.RootNode;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.Config.Parallelization;
 import org.cspoker.ai.bots.listener.BotListener;
+import org.cspoker.ai.opponentmodels.OpponentModel;
+import org.cspoker.ai.opponentmodels.PerThreadOpponentModel;
 import org.cspoker.client.common.SmartLobbyContext;
 import org.cspoker.client.common.gamestate.AbstractGameState;
 import org.cspoker.client.common.gamestate.ForwardingGameState;
@@ -47,6 +56,7 @@ public class MCTSBot extends AbstractBot {
 	private final Config config;
 	private final MCTSListener.Factory[] MCTSlistenerFactories;
 	private final int decisionTime;
+	private final ExecutorService searchExecutor;
 
 	long startTime = System.currentTimeMillis();
 	
@@ -56,23 +66,125 @@ public class MCTSBot extends AbstractBot {
 			int decisionTime,
 			MCTSListener.Factory[] MCTSlisteners, 
 			BotListener... botListeners) {
+		this(botId, tableId, lobby, executor, buyIn, config, decisionTime, 
+				null, MCTSlisteners, botListeners);
+	}
+
+	/**
+	 * @param searchExecutor
+	 *            runs the extra search threads when the config asks for
+	 *            parallel search. The thread of the bot is always used as
+	 *            well. The bot shuts it down when it stops.
+	 */
+	public MCTSBot(PlayerId botId, TableId tableId,
+			SmartLobbyContext lobby, ExecutorService executor, int buyIn, 
+			Config config,
+			int decisionTime,
+			ExecutorService searchExecutor,
+			MCTSListener.Factory[] MCTSlisteners, 
+			BotListener... botListeners) {
 		super(botId, tableId, lobby, buyIn, executor, botListeners);
+		if (config.getParallelization() != Parallelization.NONE) {
+			if (searchExecutor == null) {
+				throw new IllegalArgumentException("Parallel search needs an executor for the search threads.");
+			}
+			if (!(config.getModel() instanceof PerThreadOpponentModel)) {
+				throw new IllegalArgumentException("Parallel search needs an opponent model per search thread.");
+			}
+		}
 		this.config = config;
 		this.MCTSlistenerFactories = MCTSlisteners;
 		this.decisionTime = decisionTime;
+		this.searchExecutor = searchExecutor;
 	}
 	
 	public Config getConfig() {
 		return config;
 	}
 
+	ExecutorService getSearchExecutor() {
+		return searchExecutor;
+	}
+
+	/**
+	 * Stops the search threads after the bot has left the table.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		if (searchExecutor != null) {
+			executor.execute(new Runnable() {
+
+				public void run() {
+					searchExecutor.shutdown();
+				}
+			});
+		}
+	}
+
 	@Override
 	public void doNextAction() throws RemoteException, IllegalActionException {
 		startTime = System.currentTimeMillis();
 		long endTime = System.currentTimeMillis()+decisionTime;
 		GameState gameState = tableContext.getGameState();	
-		RootNode root = new RootNode(gameState,botId,config);
+		RootNode root;
 		logger.info("Starting MCTS iterations.");
+		switch (config.getParallelization()) {
+		case ROOT:
+			root = searchRootParallel(gameState, endTime);
+			break;
+		case TREE:
+			root = new RootNode(gameState,botId,config);
+			searchTreeParallel(root, endTime);
+			break;
+		default:
+			root = new RootNode(gameState,botId,config);
+			iterateUntil(root, endTime);
+		}
+		INode node = root.selectChild(config.getMoveSelectionStrategy());
+		if (node instanceof MergedNode) {
+			// the opponent model needs a node of a real tree
+			node = ((MergedNode) node).getMostSampledNode();
+		}
+		config.getModel().setChosenNode(node);
+//		try {
+//		ImmutableList<INode> children = ((InnerNode) node).getChildren();
+//		for (INode n: children) {
+//			String str = " <last action> ";
+//			str = "" + n.getLastAction().getAction().getUnwrappedStateAfterAction().getClass();
+//			System.out.println("Child " +  str
+//					+ " with action " + n.getLastAction().getAction() + " with probability " +
+//					n.getLastAction().getProbability());
+//		}
+//		} catch (ClassCastException e) {
+//			System.out.println("-------------\nNO CLASS CAST\n-------------"); // do nothing
+//		}
+		SearchBotAction action = node.getLastAction().getAction();
+		if(logger.isInfoEnabled()) 
+			logger.info("Stopped MCTS after "+root.getNbSamples()+" samples and choosing "+action);
+		
+		// to calculate efficiency of sampling algorithms
+//		if (tableContext.getGameState().getRound() == Round.PREFLOP)
+//			System.out.print(root.getNbSamples());
+//		System.out.print("\t");
+//		if (tableContext.getGameState().getRound() == Round.FLOP)
+//			System.out.print(root.getNbSamples());
+//		System.out.print("\t");
+//		if (tableContext.getGameState().getRound() == Round.TURN)= 
+//			System.out.print(root.getNbSamples());
+//		System.out.print("\t");
+//		if (tableContext.getGameState().getRound() == Round.FINAL)
+//			System.out.print(root.getNbSamples());
+//		System.out.println("");
+		
+		action.perform(playerContext);
+		MCTSListener[] listeners = createListeners(gameState, botId);
+		for (MCTSListener listener : listeners) {
+			listener.onMCTS(root);
+		}
+	}
+
+	private void iterateUntil(RootNode root, long endTime) {
 		do{
 			iterate(root);
 			iterate(root);
@@ -110,46 +222,55 @@ public class MCTSBot extends AbstractBot {
 			iterate(root);
 			iterate(root);
 		}while(System.currentTimeMillis()<endTime);
-		INode node = root.selectChild(config.getMoveSelectionStrategy());
-		config.getModel().setChosenNode(node);
-//		try {
-//		ImmutableList<INode> children = ((InnerNode) node).getChildren();
-//		for (INode n: children) {
-//			String str = " <last action> ";
-//			str = "" + n.getLastAction().getAction().getUnwrappedStateAfterAction().getClass();
-//			System.out.println("Child " +  str
-//					+ " with action " + n.getLastAction().getAction() + " with probability " +
-//					n.getLastAction().getProbability());
-//		}
-//		} catch (ClassCastException e) {
-//			System.out.println("-------------\nNO CLASS CAST\n-------------"); // do nothing
-//		}
-		SearchBotAction action = node.getLastAction().getAction();
-		if(logger.isInfoEnabled()) 
-			logger.info("Stopped MCTS after "+root.getNbSamples()+" samples and choosing "+action);
-		
-		// to calculate efficiency of sampling algorithms
-//		if (tableContext.getGameState().getRound() == Round.PREFLOP)
-//			System.out.print(root.getNbSamples());
-//		System.out.print("\t");
-//		if (tableContext.getGameState().getRound() == Round.FLOP)
-//			System.out.print(root.getNbSamples());
-//		System.out.print("\t");
-//		if (tableContext.getGameState().getRound() == Round.TURN)= 
-//			System.out.print(root.getNbSamples());
-//		System.out.print("\t");
-//		if (tableContext.getGameState().getRound() == Round.FINAL)
-//			System.out.print(root.getNbSamples());
-//		System.out.println("");
-		
-		action.perform(playerContext);
-		MCTSListener[] listeners = createListeners(gameState, botId);
-		for (MCTSListener listener : listeners) {
-			listener.onMCTS(root);
+	}
+
+	/**
+	 * Let every search thread build its own tree and merge the roots.
+	 */
+	private RootNode searchRootParallel(GameState gameState, long endTime) {
+		RootNode[] roots = new RootNode[config.getNbThreads()];
+		for (int i = 0; i < roots.length; i++) {
+			roots[i] = new RootNode(gameState,botId,config);
+		}
+		List<Future<?>> searches = new ArrayList<Future<?>>(roots.length-1);
+		for (int i = 1; i < roots.length; i++) {
+			searches.add(searchExecutor.submit(new SearchThread(roots[i], endTime)));
 		}
+		iterateUntil(roots[0], endTime);
+		awaitSearchThreads(searches);
+		return new MergedRootNode(roots);
 	}
 
-	private void iterate(RootNode root) {
+	/**
+	 * Let every search thread iterate on the same tree.
+	 */
+	private void searchTreeParallel(RootNode root, long endTime) {
+		List<Future<?>> searches = new ArrayList<Future<?>>(config.getNbThreads()-1);
+		for (int i = 1; i < config.getNbThreads(); i++) {
+			searches.add(searchExecutor.submit(new SearchThread(root, endTime)));
+		}
+		iterateUntil(root, endTime);
+		awaitSearchThreads(searches);
+	}
+
+	private void awaitSearchThreads(List<Future<?>> searches) {
+		try {
+			for (Future<?> search : searches) {
+				search.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for MCTS search threads.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("MCTS search thread failed.", e.getCause());
+		}
+	}
+
+	/**
+	 * Runs one MCTS iteration on the given tree: selection, expansion,
+	 * simulation and back-propagation.
+	 */
+	public static void iterate(RootNode root) {
 		INode selectedLeaf = root.selectRecursively();
 		selectedLeaf.expand();
 		double value = selectedLeaf.simulate();
@@ -164,4 +285,25 @@ public class MCTSBot extends AbstractBot {
 		return listeners;
 	}
 
+	private class SearchThread implements Runnable {
+
+		private final RootNode root;
+		private final long endTime;
+
+		public SearchThread(RootNode root, long endTime) {
+			this.root = root;
+			this.endTime = endTime;
+		}
+
+		@Override
+		public void run() {
+			OpponentModel model = config.getModel();
+			if (model instanceof PerThreadOpponentModel) {
+				((PerThreadOpponentModel) model).enterSearchThread();
+			}
+			iterateUntil(root, endTime);
+		}
+
+	}
+
 }
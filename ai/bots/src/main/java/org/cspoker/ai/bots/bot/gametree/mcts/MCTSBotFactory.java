@@ -17,21 +17,27 @@
 package org.cspoker.ai.bots.bot.gametree.mcts;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.cspoker.ai.bots.bot.Bot;
 import org.cspoker.ai.bots.bot.BotFactory;
 import org.cspoker.ai.bots.bot.gametree.mcts.listeners.MCTSListener;
 import org.cspoker.ai.bots.bot.gametree.mcts.nodes.Config;
 import org.cspoker.ai.bots.bot.gametree.mcts.nodes.ShowdownNode;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.Config.Parallelization;
 import org.cspoker.ai.bots.bot.gametree.mcts.strategies.backpropagation.BackPropagationStrategy;
 import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.SelectionStrategy;
 import org.cspoker.ai.bots.bot.gametree.search.expander.sampling.Sampler;
 import org.cspoker.ai.bots.listener.BotListener;
 import org.cspoker.ai.opponentmodels.OpponentModel;
+import org.cspoker.ai.opponentmodels.PerThreadOpponentModel;
 import org.cspoker.client.common.SmartLobbyContext;
 import org.cspoker.common.elements.player.PlayerId;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.handeval.spears2p2.StateTableEvaluator;
+import org.cspoker.common.util.threading.LoggingThreadFactory;
 
 public class MCTSBotFactory implements BotFactory {
 
@@ -45,6 +51,8 @@ public class MCTSBotFactory implements BotFactory {
 	private final int decisionTime;
 	private final String name;
 	private final BackPropagationStrategy.Factory backPropStratFactory;
+	private final Parallelization parallelization;
+	private final int nbThreads;
 
 	public MCTSBotFactory(
 			String name,
@@ -57,6 +65,32 @@ public class MCTSBotFactory implements BotFactory {
 			Sampler sampler,
 			int decisionTime,
 			MCTSListener.Factory... listeners) {
+		this(name, opponentModelFactory, decisionNodeSelectionStrategy, 
+				opponentNodeSelectionStrategy, moveSelectionStrategy, 
+				showdownNodeFactory, backPropStratFactory, sampler, 
+				decisionTime, Parallelization.NONE, 1, listeners);
+	}
+
+	/**
+	 * @param parallelization
+	 *            the way the search threads share the work of a decision.
+	 * @param nbThreads
+	 *            the number of threads that search for every decision of a
+	 *            bot, including the thread of the bot itself.
+	 */
+	public MCTSBotFactory(
+			String name,
+			OpponentModel.Factory opponentModelFactory, 
+			SelectionStrategy decisionNodeSelectionStrategy,
+			SelectionStrategy opponentNodeSelectionStrategy,
+			SelectionStrategy moveSelectionStrategy,
+			ShowdownNode.Factory showdownNodeFactory,
+			BackPropagationStrategy.Factory backPropStratFactory,
+			Sampler sampler,
+			int decisionTime,
+			Parallelization parallelization,
+			int nbThreads,
+			MCTSListener.Factory... listeners) {
 		this.name = name;
 		this.listeners = listeners;
 		this.opponentModelFactory = opponentModelFactory;
@@ -67,20 +101,40 @@ public class MCTSBotFactory implements BotFactory {
 		this.backPropStratFactory = backPropStratFactory;
 		this.sampler = sampler;
 		this.decisionTime = decisionTime;
+		this.parallelization = nbThreads>1 ? parallelization : Parallelization.NONE;
+		this.nbThreads = nbThreads;
 		StateTableEvaluator.getInstance();
 	}
 
 	public Bot createBot(final PlayerId botId, TableId tableId,
 			SmartLobbyContext lobby, int buyIn, ExecutorService executor,
 			BotListener... botListeners) {
-		OpponentModel opponentModel = opponentModelFactory.create(botId);
-
+		if (parallelization == Parallelization.NONE) {
+			OpponentModel opponentModel = opponentModelFactory.create(botId);
+			Config config = new Config(opponentModel, showdownNodeFactory, 
+					decisionNodeSelectionStrategy, opponentNodeSelectionStrategy, 
+					moveSelectionStrategy, backPropStratFactory, sampler);
+			return new MCTSBot(botId, tableId, lobby, executor, buyIn,
+					config,
+					decisionTime,
+					listeners,
+					botListeners);
+		}
+		OpponentModel opponentModel = new PerThreadOpponentModel(opponentModelFactory, botId);
 		Config config = new Config(opponentModel, showdownNodeFactory, 
 				decisionNodeSelectionStrategy, opponentNodeSelectionStrategy, 
-				moveSelectionStrategy, backPropStratFactory, sampler);
+				moveSelectionStrategy, backPropStratFactory, sampler,
+				parallelization, nbThreads);
+		// the bot thread searches too and shuts the pool down when it stops,
+		// idle search threads die after a while
+		ThreadPoolExecutor searchExecutor = new ThreadPoolExecutor(nbThreads-1, nbThreads-1, 
+				60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), 
+				new LoggingThreadFactory("MCTS-"+botId));
+		searchExecutor.allowCoreThreadTimeOut(true);
 		return new MCTSBot(botId, tableId, lobby, executor, buyIn,
 				config,
 				decisionTime,
+				searchExecutor,
 				listeners,
 				botListeners);
 	}
@@ -15,8 +15,10 @@
  */
 package org.cspoker.ai.bots.bot.gametree.mcts.nodes;
 
-import org.cspoker.ai.bots.bot.gametree.action.ProbabilityAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.cspoker.ai.bots.bot.gametree.action.ProbabilityAction;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.Config.Parallelization;
 
 public abstract class AbstractNode implements INode {
 
@@ -24,9 +26,57 @@ public abstract class AbstractNode implements INode {
 	protected final InnerNode parent;
 	protected final ProbabilityAction lastAction;
 
+	//virtual loss for tree parallel search
+	private final boolean usesVirtualLoss;
+	private final int virtualLossValue;
+	private final AtomicInteger nbVirtualLosses = new AtomicInteger();
+
 	public AbstractNode(InnerNode parent, ProbabilityAction lastAction) {
 		this.parent = parent;
 		this.lastAction = lastAction;
+		// only the bot chooses between the children of decision nodes,
+		// the choices of opponents are left alone
+		this.usesVirtualLoss = parent instanceof DecisionNode
+				&& parent.getConfig().getParallelization()==Parallelization.TREE;
+		// a virtual loss is valued as if the bot folds right away
+		this.virtualLossValue = usesVirtualLoss ? 
+				parent.getGameState().getPlayer(parent.bot).getStack() : 0;
+	}
+
+	/**
+	 * Called when a search thread selects this node, before the thread
+	 * simulates and backpropagates the result.
+	 */
+	protected final void addVirtualLoss() {
+		if(usesVirtualLoss){
+			nbVirtualLosses.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Called when the search thread that selected this node backpropagates
+	 * through it.
+	 */
+	protected final void removeVirtualLoss() {
+		if(usesVirtualLoss){
+			nbVirtualLosses.decrementAndGet();
+		}
+	}
+
+	protected final int getNbVirtualLosses() {
+		return usesVirtualLoss ? nbVirtualLosses.get() : 0;
+	}
+
+	/**
+	 * Weighs the given expected value with the virtual losses of the search
+	 * threads that are still busy below this node.
+	 */
+	protected final double withVirtualLosses(double EV, int nbSamples) {
+		int nbLosses = getNbVirtualLosses();
+		if(nbLosses==0){
+			return EV;
+		}
+		return (EV*nbSamples + nbLosses*virtualLossValue)/(nbSamples+nbLosses);
 	}
 
 	@Override
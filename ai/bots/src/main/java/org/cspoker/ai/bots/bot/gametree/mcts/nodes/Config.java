@@ -33,6 +33,8 @@ public class Config {
 	private final SelectionStrategy moveSelectionStrategy;
 	private final BackPropagationStrategy.Factory backPropStratFactory;
 	private final Sampler sampler;
+	private final Parallelization parallelization;
+	private final int nbThreads;
 
 	public Config(OpponentModel model, 
 			ShowdownNode.Factory showdownNodeFactory, 
@@ -42,6 +44,24 @@ public class Config {
 			BackPropagationStrategy.Factory backPropStratFactory,
 			Sampler sampler
 			) {
+		this(model, showdownNodeFactory, decisionNodeSelectionStrategy,
+				opponentNodeSelectionStrategy, moveSelectionStrategy,
+				backPropStratFactory, sampler, Parallelization.NONE, 1);
+	}
+
+	public Config(OpponentModel model, 
+			ShowdownNode.Factory showdownNodeFactory, 
+			SelectionStrategy decisionNodeSelectionStrategy, 
+			SelectionStrategy opponentNodeSelectionStrategy, 
+			SelectionStrategy moveSelectionStrategy, 
+			BackPropagationStrategy.Factory backPropStratFactory,
+			Sampler sampler,
+			Parallelization parallelization,
+			int nbThreads
+			) {
+		if(nbThreads<1){
+			throw new IllegalArgumentException("Need at least one search thread, not "+nbThreads);
+		}
 		this.model = model;
 		this.showdownNodeFactory = showdownNodeFactory;
 		this.decisionNodeSelectionStrategy=decisionNodeSelectionStrategy;
@@ -49,6 +69,8 @@ public class Config {
 		this.moveSelectionStrategy=moveSelectionStrategy;
 		this.backPropStratFactory = backPropStratFactory;
 		this.sampler = sampler;
+		this.parallelization = nbThreads>1 ? parallelization : Parallelization.NONE;
+		this.nbThreads = this.parallelization==Parallelization.NONE ? 1 : nbThreads;
 	}
 	
 	public OpponentModel getModel() {
@@ -78,5 +100,41 @@ public class Config {
 	public Sampler getSampler() {
 		return sampler;
 	}
+
+	public Parallelization getParallelization() {
+		return parallelization;
+	}
+
+	/**
+	 * The number of threads that search for a single decision, including the
+	 * thread of the bot itself.
+	 */
+	public int getNbThreads() {
+		return nbThreads;
+	}
+
+	/**
+	 * The way multiple threads share the work of a single MCTS decision.
+	 */
+	public static enum Parallelization {
+
+		/**
+		 * Search on the thread of the bot only.
+		 */
+		NONE,
+
+		/**
+		 * Every thread builds its own tree. The statistics of the children of
+		 * the roots are merged before the move is selected.
+		 */
+		ROOT,
+
+		/**
+		 * All threads search the same tree. Nodes that are being searched by
+		 * one thread get a virtual loss so other threads explore elsewhere.
+		 */
+		TREE;
+
+	}
 	
 }
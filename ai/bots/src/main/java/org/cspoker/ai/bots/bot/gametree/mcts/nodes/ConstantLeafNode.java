@@ -15,13 +15,15 @@
  */
 package org.cspoker.ai.bots.bot.gametree.mcts.nodes;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.cspoker.ai.bots.bot.gametree.action.ProbabilityAction;
 import org.cspoker.client.common.gamestate.GameState;
 
 public class ConstantLeafNode extends LeafNode {
 
 	public final int value;
-	private int nbSamples=0;
+	private final AtomicInteger nbSamples = new AtomicInteger();
 	
 	public ConstantLeafNode(InnerNode parent, ProbabilityAction lastAction, int value) {
 		super(parent, lastAction);
@@ -30,7 +32,7 @@ public class ConstantLeafNode extends LeafNode {
 	
 	@Override
 	public double getEV() {
-		return value;
+		return withVirtualLosses(value, nbSamples.get());
 	}
 	
 	@Override
@@ -55,12 +57,12 @@ public class ConstantLeafNode extends LeafNode {
 	
 	@Override
 	public int getNbSamples() {
-		return nbSamples;
+		return nbSamples.get() + getNbVirtualLosses();
 	}
 	
 	@Override
 	public int getNbSamplesInMean() {
-		return nbSamples;
+		return nbSamples.get();
 	}
 	
 	@Override
@@ -70,7 +72,8 @@ public class ConstantLeafNode extends LeafNode {
 	
 	@Override
 	public void backPropagate(double value) {
-		++nbSamples;
+		removeVirtualLoss();
+		nbSamples.incrementAndGet();
 		parent.backPropagate(value);
 	}
 
@@ -25,6 +25,7 @@ import org.cspoker.ai.bots.bot.gametree.action.SearchBotAction;
 import org.cspoker.ai.bots.bot.gametree.mcts.strategies.backpropagation.BackPropagationStrategy;
 import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.SelectionStrategy;
 import org.cspoker.ai.bots.bot.gametree.search.expander.Expander;
+import org.cspoker.client.common.gamestate.FlatGameState;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.common.elements.player.PlayerId;
 
@@ -44,7 +45,7 @@ public abstract class InnerNode extends AbstractNode {
 	//children
 	private double[] probabilities = null;
 	private double[] cumulativeProbability = null;
-	private ImmutableList<INode> children = null;
+	private volatile ImmutableList<INode> children = null;
 
 	//protected boolean inTree = false;
 
@@ -53,7 +54,7 @@ public abstract class InnerNode extends AbstractNode {
 	public InnerNode(InnerNode parent, ProbabilityAction probAction, GameState gameState, PlayerId bot, Config config) {
 		super(parent,probAction);
 		this.bot = bot;
-		this.gameState = gameState;
+		this.gameState = FlatGameState.of(gameState);
 		this.config = config;
 		this.backPropStrategy = createBackPropStrategy();
 	}
@@ -62,6 +63,7 @@ public abstract class InnerNode extends AbstractNode {
 
 	public INode selectRecursively(){
 		//if(!inTree) return this;
+		addVirtualLoss();
 		boolean needsChildExpansion = (children==null);
 		if(needsChildExpansion){
 			config.getModel().assumeTemporarily(gameState);
@@ -100,18 +102,21 @@ public abstract class InnerNode extends AbstractNode {
 	}
 
 	public void backPropagate(double value){
-		backPropStrategy.onBackPropagate(value);
+		removeVirtualLoss();
+		synchronized (this) {
+			backPropStrategy.onBackPropagate(value);
+		}
 		parent.backPropagate(value);
 	}
 
 	@Override
 	public double getEV() {
-		return backPropStrategy.getEV();
+		return withVirtualLosses(backPropStrategy.getEV(), backPropStrategy.getNbSamples());
 	}
 	
 	@Override
 	public int getNbSamples() {
-		return backPropStrategy.getNbSamples();
+		return backPropStrategy.getNbSamples() + getNbVirtualLosses();
 	}
 	
 	@Override
@@ -152,7 +157,7 @@ public abstract class InnerNode extends AbstractNode {
 		return config;
 	}
 
-	protected void expandChildren(){
+	protected synchronized void expandChildren(){
 		if(children == null){
 			Expander expander = new Expander(gameState, config.getModel(), gameState.getNextToAct(), bot, config.getSampler());
 			List<ProbabilityAction> actions = expander.getProbabilityActions();
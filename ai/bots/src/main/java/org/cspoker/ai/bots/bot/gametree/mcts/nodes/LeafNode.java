@@ -25,6 +25,7 @@ public abstract class LeafNode extends AbstractNode {
 
 	@Override
 	public INode selectRecursively() {
+		addVirtualLoss();
 		return this;
 	}
 	
@@ -33,7 +33,7 @@ public class MCTSShowdownRollOutNode extends ShowdownNode {
 	
 	@Override
 	public double simulate() {
-		return stackSize + rollout.doRollOut(2, 2).getMean();
+		return stackSize + rollout.doRollOutMean(2, 2);
 	}
 
 	@Override
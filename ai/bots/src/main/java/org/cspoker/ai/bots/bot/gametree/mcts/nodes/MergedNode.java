@@ -0,0 +1,157 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.bot.gametree.mcts.nodes;
+
+import java.util.List;
+
+import org.cspoker.client.common.gamestate.GameState;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A read-only view that combines the statistics of the nodes for the same
+ * action in several independently searched trees.
+ */
+public class MergedNode extends AbstractNode {
+
+	private final ImmutableList<INode> nodes;
+
+	public MergedNode(InnerNode parent, List<INode> nodes) {
+		super(parent, nodes.get(0).getLastAction());
+		this.nodes = ImmutableList.copyOf(nodes);
+	}
+
+	public ImmutableList<INode> getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * The merged node with the most samples, which can stand in for this view
+	 * where a real tree node is needed.
+	 */
+	public INode getMostSampledNode() {
+		INode maxNode = nodes.get(0);
+		for (INode node : nodes) {
+			if(node.getNbSamples()>maxNode.getNbSamples()){
+				maxNode = node;
+			}
+		}
+		return maxNode;
+	}
+
+	@Override
+	public int getNbSamples() {
+		int nbSamples = 0;
+		for (INode node : nodes) {
+			nbSamples += node.getNbSamples();
+		}
+		return nbSamples;
+	}
+
+	@Override
+	public int getNbSamplesInMean() {
+		int nbSamples = 0;
+		for (INode node : nodes) {
+			nbSamples += node.getNbSamplesInMean();
+		}
+		return nbSamples;
+	}
+
+	@Override
+	public double getEV() {
+		int nbSamples = getNbSamples();
+		if(nbSamples==0){
+			return nodes.get(0).getEV();
+		}
+		double EV = 0;
+		for (INode node : nodes) {
+			EV += node.getNbSamples()*node.getEV();
+		}
+		return EV/nbSamples;
+	}
+
+	/**
+	 * The pooled variance of the samples of all merged nodes.
+	 */
+	@Override
+	public double getVariance() {
+		int nbSamples = getNbSamples();
+		if(nbSamples==0){
+			return 0;
+		}
+		double EV = getEV();
+		double variance = 0;
+		for (INode node : nodes) {
+			double diff = node.getEV()-EV;
+			variance += node.getNbSamples()*(node.getVariance()+diff*diff);
+		}
+		return variance/nbSamples;
+	}
+
+	@Override
+	public double getStdDev() {
+		return Math.sqrt(getVariance());
+	}
+
+	/**
+	 * The variance of the sample weighted mean of the independent estimates
+	 * of all merged nodes.
+	 */
+	@Override
+	public double getEVVar() {
+		int nbSamples = getNbSamples();
+		if(nbSamples==0){
+			return nodes.get(0).getEVVar();
+		}
+		double EVVar = 0;
+		for (INode node : nodes) {
+			double weight = node.getNbSamples()/(double)nbSamples;
+			EVVar += weight*weight*node.getEVVar();
+		}
+		return EVVar;
+	}
+
+	@Override
+	public double getEVStdDev() {
+		return Math.sqrt(getEVVar());
+	}
+
+	@Override
+	public GameState getGameState() {
+		return nodes.get(0).getGameState();
+	}
+
+	@Override
+	public INode selectRecursively() {
+		throw new UnsupportedOperationException("Merged nodes can't be searched.");
+	}
+
+	@Override
+	public void expand() {
+		throw new UnsupportedOperationException("Merged nodes can't be searched.");
+	}
+
+	@Override
+	public double simulate() {
+		throw new UnsupportedOperationException("Merged nodes can't be searched.");
+	}
+
+	@Override
+	public void backPropagate(double value) {
+		throw new UnsupportedOperationException("Merged nodes can't be searched.");
+	}
+
+}
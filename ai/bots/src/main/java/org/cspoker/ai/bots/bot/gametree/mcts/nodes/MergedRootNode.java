@@ -0,0 +1,154 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.bot.gametree.mcts.nodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The combined result of root parallel search. The children of the given
+ * roots are matched on their action and merged into {@link MergedNode}s, so
+ * the move selection strategy sees the samples of every search thread.
+ */
+public class MergedRootNode extends RootNode {
+
+	private final static Random random = new Random();
+
+	private final MergedNode stats;
+	private final ImmutableList<INode> children;
+	private final double[] probabilities;
+	private final double[] cumulativeProbability;
+
+	public MergedRootNode(RootNode... roots) {
+		super(roots[0]);
+		this.stats = new MergedNode(null, Arrays.<INode>asList(roots));
+		// samplers can choose different bet sizes in every tree,
+		// actions that don't occur in every tree are merged over fewer nodes
+		Map<String, List<INode>> nodesByAction = new LinkedHashMap<String, List<INode>>();
+		for (RootNode root : roots) {
+			for (INode child : root.getChildren()) {
+				String key = child.getLastAction().getAction().toString();
+				List<INode> nodes = nodesByAction.get(key);
+				if (nodes == null) {
+					nodes = new ArrayList<INode>(roots.length);
+					nodesByAction.put(key, nodes);
+				}
+				nodes.add(child);
+			}
+		}
+		ImmutableList.Builder<INode> childrenBuilder = ImmutableList.builder();
+		probabilities = new double[nodesByAction.size()];
+		cumulativeProbability = new double[nodesByAction.size()];
+		double cumul = 0;
+		int i = 0;
+		for (List<INode> nodes : nodesByAction.values()) {
+			double probability = 0;
+			for (INode node : nodes) {
+				probability += node.getLastAction().getProbability();
+			}
+			probability /= roots.length;
+			childrenBuilder.add(new MergedNode(this, nodes));
+			cumul += probability;
+			cumulativeProbability[i] = cumul;
+			probabilities[i] = probability;
+			++i;
+		}
+		children = childrenBuilder.build();
+	}
+
+	@Override
+	public ImmutableList<INode> getChildren() {
+		return children;
+	}
+
+	@Override
+	public double[] getProbabilities() {
+		return probabilities;
+	}
+
+	@Override
+	public double[] getCumulativeProbability() {
+		return cumulativeProbability;
+	}
+
+	@Override
+	public INode getRandomChild() {
+		double randomNumber = random.nextDouble()*cumulativeProbability[cumulativeProbability.length-1];
+		for(int i=0;i<cumulativeProbability.length-1;i++){
+			if(randomNumber<cumulativeProbability[i]){
+				return children.get(i);
+			}
+		}
+		return children.get(cumulativeProbability.length-1);
+	}
+
+	@Override
+	public double getEV() {
+		return stats.getEV();
+	}
+
+	@Override
+	public int getNbSamples() {
+		return stats.getNbSamples();
+	}
+
+	@Override
+	public int getNbSamplesInMean() {
+		return stats.getNbSamplesInMean();
+	}
+
+	@Override
+	public double getVariance() {
+		return stats.getVariance();
+	}
+
+	@Override
+	public double getStdDev() {
+		return stats.getStdDev();
+	}
+
+	@Override
+	public double getEVVar() {
+		return stats.getEVVar();
+	}
+
+	@Override
+	public double getEVStdDev() {
+		return stats.getEVStdDev();
+	}
+
+	@Override
+	public INode selectRecursively() {
+		throw new UnsupportedOperationException("Merged roots can't be searched.");
+	}
+
+	@Override
+	public void backPropagate(double value) {
+		throw new UnsupportedOperationException("Merged roots can't be searched.");
+	}
+
+	@Override
+	protected void expandChildren() {
+		// the children are merged from the searched roots
+	}
+
+}
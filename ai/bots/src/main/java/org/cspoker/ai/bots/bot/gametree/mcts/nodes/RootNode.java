@@ -27,9 +27,19 @@ public class RootNode extends DecisionNode{
 		expandChildren();
 	}
 
+	/**
+	 * Creates a root for the same decision as the given root, without assuming
+	 * its game state in the opponent model or expanding its children.
+	 */
+	protected RootNode(RootNode root) {
+		super(null, null, root.gameState, root.bot, root.config);
+	}
+
 	@Override
 	public void backPropagate(double value){
-		backPropStrategy.onBackPropagate(value);
+		synchronized (this) {
+			backPropStrategy.onBackPropagate(value);
+		}
 		//no parent to call
 	}
 
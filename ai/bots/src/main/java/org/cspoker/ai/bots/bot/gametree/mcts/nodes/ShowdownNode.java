@@ -30,7 +30,7 @@ public abstract class ShowdownNode extends LeafNode {
 
 	@Override
 	public double getEV() {
-		return stats.getMean();
+		return withVirtualLosses(stats.getMean(), stats.getNbSamples());
 	}
 	
 	@Override
@@ -45,7 +45,7 @@ public abstract class ShowdownNode extends LeafNode {
 	
 	@Override
 	public int getNbSamples() {
-		return stats.getNbSamples();
+		return stats.getNbSamples() + getNbVirtualLosses();
 	}
 	
 	@Override
@@ -65,7 +65,10 @@ public abstract class ShowdownNode extends LeafNode {
 	
 	@Override
 	public void backPropagate(double value) {
-		stats.add(value);
+		removeVirtualLoss();
+		synchronized (stats) {
+			stats.add(value);
+		}
 		parent.backPropagate(value);
 	}
 	
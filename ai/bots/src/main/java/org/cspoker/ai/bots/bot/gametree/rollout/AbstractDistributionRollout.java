@@ -15,16 +15,14 @@
  */
 package org.cspoker.ai.bots.bot.gametree.rollout;
 
-import java.util.EnumSet;
-import java.util.TreeMap;
-import java.util.TreeSet;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.apache.log4j.Logger;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.client.common.playerstate.PlayerState;
-import org.cspoker.common.elements.cards.Card;
 import org.cspoker.common.elements.player.PlayerId;
-import org.cspoker.common.util.MutableDouble;
 
 public abstract class AbstractDistributionRollout extends RollOutStrategy {
 
@@ -32,29 +30,114 @@ public abstract class AbstractDistributionRollout extends RollOutStrategy {
 
 	public final int relPotSize;
 
+	private final double rakeFactor;
+
+	// primitive copies of the fixed state, read by the sampling kernel
+	private final int botCard1Ordinal;
+	private final int botCard2Ordinal;
+	private final int botInvestment;
+	private final boolean botAllIn;
+	private final int[] liveCards;
+	private final int[] opponentInvestments;
+	private final int[] allInvestments;
+	private final boolean singlePot;
+
 	AbstractDistributionRollout(GameState gameState,PlayerId botId) {
 		super(gameState,botId);
 		this.relPotSize = gamePotSize
 				/ (allPlayers.size() * gameState.getTableConfiguration()
 						.getBigBlind());
+		this.rakeFactor = 1 - gameState.getTableConfiguration().getRake();
+		this.botCard1Ordinal = botCard1.ordinal();
+		this.botCard2Ordinal = botCard2.ordinal();
+		this.botInvestment = botState.getTotalInvestment();
+		this.botAllIn = botState.isAllIn();
+
+		this.liveCards = new int[cards.length - Long.bitCount(deadCards)];
+		for (int card = 0, i = 0; card < cards.length; card++) {
+			if ((deadCards & (1L << card)) == 0) {
+				liveCards[i++] = card;
+			}
+		}
+
+		// sorted so that drawers are found in order of investment
+		PlayerState[] opponents = activeOpponents
+				.toArray(new PlayerState[activeOpponents.size()]);
+		Arrays.sort(opponents, playerComparatorByInvestment);
+		this.opponentInvestments = new int[opponents.length];
+		for (int i = 0; i < opponents.length; i++) {
+			opponentInvestments[i] = opponents[i].getTotalInvestment();
+		}
+		this.allInvestments = new int[allPlayers.size()];
+		int i = 0;
+		for (PlayerState player : allPlayers) {
+			allInvestments[i++] = player.getTotalInvestment();
+		}
+		boolean singlePotBuilder = !botAllIn;
+		for (int investment : opponentInvestments) {
+			singlePotBuilder &= investment == botInvestment;
+		}
+		for (int investment : allInvestments) {
+			singlePotBuilder &= investment <= botInvestment;
+		}
+		this.singlePot = singlePotBuilder;
+	}
+
+	/**
+	 * Whether every active player has put the same amount in the pot and
+	 * nobody has put in more, so there are no side pots and the bot wins
+	 * its share of the whole pot.
+	 */
+	protected final boolean isSinglePot() {
+		return singlePot;
+	}
+
+	protected final double getRakeFactor() {
+		return rakeFactor;
 	}
 	
 	public RolloutResult doRollOut(int nbCommunitySamples, int nbOpponentSamples) {
+		RolloutContext context = RolloutContext.get();
+		sample(context, nbCommunitySamples, nbOpponentSamples);
+		return context.toResult(rakeFactor);
+	}
+
+	/**
+	 * Equivalent to <code>doRollOut(nbCommunitySamples, nbOpponentSamples).getMean()</code>,
+	 * but without allocating a result.
+	 */
+	public double doRollOutMean(int nbCommunitySamples, int nbOpponentSamples) {
+		RolloutContext context = RolloutContext.get();
+		sample(context, nbCommunitySamples, nbOpponentSamples);
+		return context.getMean(rakeFactor);
+	}
+
+	/**
+	 * Samples community cards and, for each of those, opponent cards. Cards
+	 * are dealt by a partial Fisher-Yates shuffle of the live cards in the
+	 * deck of the context: the community cards take the first positions and
+	 * the opponent cards the positions after that.
+	 */
+	private void sample(RolloutContext context, int nbCommunitySamples,
+			int nbOpponentSamples) {
 		boolean traceEnabled = logger.isTraceEnabled();
 
-		double totalProb = 0;
-		TreeSet<PlayerState> drawers = new TreeSet<PlayerState>(playerComparatorByInvestment);
-		TreeMap<Integer, MutableDouble> values = new TreeMap<Integer, MutableDouble>();
+		int[] deck = context.deck;
+		int nbLiveCards = liveCards.length;
+		System.arraycopy(liveCards, 0, deck, 0, nbLiveCards);
+		Random random = context.random;
+		int nbOpponents = opponentInvestments.length;
+		int[] drawerInvestments = context.getDrawerInvestments(nbOpponents);
+		FloatBuffer probabilities = getRelativeNearestProbabilities(relPotSize);
+		context.clear();
 
 		for (int i = 0; i < nbCommunitySamples; i++) {
 			int communitySampleRank = fixedRank;
-			EnumSet<Card> usedCommunityAndBotCards = EnumSet
-					.copyOf(usedFixedCommunityAndBotCards);
 			for (int j = 0; j < nbMissingCommunityCards; j++) {
-				Card communityCard = drawNewCard(usedCommunityAndBotCards);
+				int communityCard = deal(deck, j, nbLiveCards, random);
 				if (traceEnabled) {
 					logger.trace("Evaluating sampled community card "
-							+ communityCard);
+							+ cards[communityCard]);
 				}
 				communitySampleRank = updateIntermediateRank(
 						communitySampleRank, communityCard);
@@ -63,57 +146,100 @@ public abstract class AbstractDistributionRollout extends RollOutStrategy {
 				logger.trace("Evaluating bot cards " + botCard1 + " "
 						+ botCard2);
 			}
-			int botRank = getFinalRank(communitySampleRank, botCard1, botCard2);
+			int botRank = getFinalRank(communitySampleRank, botCard1Ordinal, botCard2Ordinal);
 			for (int j = 0; j < nbOpponentSamples; j++) {
-				EnumSet<Card> usedOpponentCards = EnumSet
-						.copyOf(usedCommunityAndBotCards);
-				double logProb = 0;
+				double prob = 1;
 				int maxOpponentWin = 0;
-				drawers.clear();
-				for (PlayerState opponentThatCanWin : activeOpponents) {
-					Card opponentCard1 = drawNewCard(usedOpponentCards);
-					Card opponentCard2 = drawNewCard(usedOpponentCards);
+				int nbDrawers = 0;
+				int position = nbMissingCommunityCards;
+				for (int k = 0; k < nbOpponents; k++) {
+					int opponentCard1 = deal(deck, position++, nbLiveCards, random);
+					int opponentCard2 = deal(deck, position++, nbLiveCards, random);
 					int opponentRank = getFinalRank(communitySampleRank,opponentCard1, opponentCard2);
 					if (traceEnabled) {
 						logger.trace("Evaluating sampled opponent cards "
-								+ opponentCard1 + " " + opponentCard2);
+								+ cards[opponentCard1] + " " + cards[opponentCard2]);
 					}
 					if (opponentRank > botRank) {
 						maxOpponentWin = Math.max(maxOpponentWin,
-								opponentThatCanWin.getTotalInvestment());
+								opponentInvestments[k]);
 					} else if (opponentRank == botRank) {
-						drawers.add(opponentThatCanWin);
+						drawerInvestments[nbDrawers++] = opponentInvestments[k];
 					}
-					float opponentRankProb = getRelativeNearestProbability(opponentRank, relPotSize);
-					logProb += Math.log(opponentRankProb);
-				}
-				double prob = Math.exp(logProb);
-				int won = calcAmountWon(botState, maxOpponentWin, drawers,
-						allPlayers);
-				MutableDouble value = values.get(won);
-				if (value == null) {
-					values.put(won, new MutableDouble(prob));
-				} else {
-					value.add(prob);
+					float opponentRankProb = probabilities.get(opponentRank);
+					if (opponentRankProb == 0) {
+						throw new IllegalStateException("No probability for rank "
+								+ opponentRank);
+					}
+					prob *= opponentRankProb;
 				}
-				totalProb += prob;
+				int won = calcAmountWon(maxOpponentWin, drawerInvestments, nbDrawers);
+				context.add(won, prob);
 			}
 		}
-		return new RolloutResult(values, totalProb, (1-gameState.getTableConfiguration().getRake()));
 	}
-	
-	protected float getRelativeNearestProbability(int rank, int relativePotSize){
-		float prob = getRelativeProbability(rank, relPotSize);
-		if(prob == 0){
-			prob = getRelativeNearestProbability(rank-1, relativePotSize);
+
+	/**
+	 * Swaps a random card from <code>deck[position..nbCards)</code> to
+	 * <code>position</code> and returns it.
+	 */
+	private static int deal(int[] deck, int position, int nbCards, Random random) {
+		int swap = position + random.nextInt(nbCards - position);
+		int card = deck[swap];
+		deck[swap] = deck[position];
+		deck[position] = card;
+		return card;
+	}
+
+	/**
+	 * @param drawerInvestments
+	 *            the investments of the drawing opponents, in ascending order
+	 */
+	private int calcAmountWon(int maxOpponentWin, int[] drawerInvestments, int nbDrawers) {
+		if (maxOpponentWin >= botInvestment) {
+			// won nothing
+			return 0;
+		} else if (nbDrawers == 0) {
+			// won something, no draw
+			if (maxOpponentWin == 0 && !botAllIn) {
+				// just win everything
+				return gamePotSize;
+			} else {
+				// Calculate from individual contributions
+				return getTotalToDistribute(botInvestment, maxOpponentWin);
+			}
+		} else {
+			// won something but must share
+			int myShare = 0;
+			int distributed = maxOpponentWin;
+			int nbSharing = nbDrawers + 1;
+			for (int i = 0; i < nbDrawers; i++) {
+				int limit = Math.min(botInvestment, drawerInvestments[i]);
+				if (limit > distributed) {
+					myShare += getTotalToDistribute(limit, distributed) / nbSharing;
+					distributed = limit;
+				}
+				--nbSharing;
+			}
+			return myShare + botInvestment - distributed;
 		}
-		if(Float.isInfinite(prob) || Float.isNaN(prob) || prob==0){
-			throw new IllegalStateException("Bad opponentRankProb: "+prob);
+	}
+
+	private int getTotalToDistribute(int limit, int distributed) {
+		int totalToDistribute = 0;
+		for (int investment : allInvestments) {
+			totalToDistribute += Math.max(0, Math.min(limit, investment)
+					- distributed);
 		}
-		return prob;
+		return totalToDistribute;
 	}
 	
-	protected abstract float getRelativeProbability(int rank,
+	/**
+	 * The relative probability of each opponent rank, indexed by rank, for
+	 * the given relative pot size. Ranks that are never shown down take the
+	 * probability of the nearest worse rank that is.
+	 */
+	protected abstract FloatBuffer getRelativeNearestProbabilities(
 			int relativePotSize);
 
 	@Override
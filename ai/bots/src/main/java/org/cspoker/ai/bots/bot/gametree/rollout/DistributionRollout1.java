@@ -15,7 +15,9 @@
  */
 package org.cspoker.ai.bots.bot.gametree.rollout;
 
-import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor1of1;
+import java.nio.FloatBuffer;
+
+import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.common.elements.player.PlayerId;
 
@@ -26,8 +28,8 @@ public class DistributionRollout1 extends AbstractDistributionRollout {
 	}
 
 	@Override
-	protected float getRelativeProbability(int rank, int relativePotSize) {
-		return ShowdownRankPredictor1of1.getRelativeProbability(rank);
+	protected FloatBuffer getRelativeNearestProbabilities(int relativePotSize) {
+		return ShowdownRankPredictor.get(1, 1).getRelativeNearestProbabilities();
 	}
 
 	@Override
@@ -15,8 +15,9 @@
  */
 package org.cspoker.ai.bots.bot.gametree.rollout;
 
-import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor1of2;
-import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor2of2;
+import java.nio.FloatBuffer;
+
+import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.common.elements.player.PlayerId;
 
@@ -27,11 +28,11 @@ public class DistributionRollout2 extends AbstractDistributionRollout {
 	}
 
 	@Override
-	protected float getRelativeProbability(int rank, int relativePotSize) {
+	protected FloatBuffer getRelativeNearestProbabilities(int relativePotSize) {
 		if (relativePotSize <= 15) {
-			return ShowdownRankPredictor1of2.getRelativeProbability(rank);
+			return ShowdownRankPredictor.get(1, 2).getRelativeNearestProbabilities();
 		} else {
-			return ShowdownRankPredictor2of2.getRelativeProbability(rank);
+			return ShowdownRankPredictor.get(2, 2).getRelativeNearestProbabilities();
 		}
 
 	}
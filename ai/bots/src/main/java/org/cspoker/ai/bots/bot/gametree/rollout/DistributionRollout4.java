@@ -15,10 +15,9 @@
  */
 package org.cspoker.ai.bots.bot.gametree.rollout;
 
-import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor1of4;
-import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor2of4;
-import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor3of4;
-import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor4of4;
+import java.nio.FloatBuffer;
+
+import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.common.elements.player.PlayerId;
 
@@ -29,15 +28,15 @@ public class DistributionRollout4 extends AbstractDistributionRollout {
 	}
 
 	@Override
-	protected float getRelativeProbability(int rank, int relativePotSize) {
+	protected FloatBuffer getRelativeNearestProbabilities(int relativePotSize) {
 		if (relativePotSize <= 4) {
-			return ShowdownRankPredictor1of4.getRelativeProbability(rank);
+			return ShowdownRankPredictor.get(1, 4).getRelativeNearestProbabilities();
 		} else if (relativePotSize <= 15) {
-			return ShowdownRankPredictor2of4.getRelativeProbability(rank);
+			return ShowdownRankPredictor.get(2, 4).getRelativeNearestProbabilities();
 		} else if (relativePotSize <= 30) {
-			return ShowdownRankPredictor3of4.getRelativeProbability(rank);
+			return ShowdownRankPredictor.get(3, 4).getRelativeNearestProbabilities();
 		} else {
-			return ShowdownRankPredictor4of4.getRelativeProbability(rank);
+			return ShowdownRankPredictor.get(4, 4).getRelativeNearestProbabilities();
 		}
 
 	}
@@ -15,6 +15,7 @@
  */
 package org.cspoker.ai.bots.bot.gametree.rollout;
 
+import java.nio.IntBuffer;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
@@ -38,7 +39,7 @@ public abstract class RollOutStrategy {
 	static final int[] offsets = new int[] { 0, 1277, 4137, 4995, 5853, 5863, 7140, 7296, 7452 };
 	static final Random random = new Random();
 	static final Card[] cards = Card.values();
-	final static int[] handRanks;
+	final static IntBuffer handRanks;
 	static {
 		handRanks = StateTableEvaluator.getInstance().handRanks;
 	}
@@ -52,6 +53,8 @@ public abstract class RollOutStrategy {
 	public final Card botCard1;
 	public final Card botCard2;
 	protected final EnumSet<Card> usedFixedCommunityAndBotCards;
+	/** Bit i is set when the card with ordinal i is already dealt. */
+	protected final long deadCards;
 	public final int fixedRank;
 	public final int nbMissingCommunityCards;
 	protected final EnumSet<Card> usedFixedCommunityCards;
@@ -73,6 +76,11 @@ public abstract class RollOutStrategy {
 		this.usedFixedCommunityCards = gameState.getCommunityCards();
 		this.usedFixedCommunityAndBotCards = getSetOf(botCard1,
 				botCard2, usedFixedCommunityCards);
+		long deadCardsBuilder = 0L;
+		for (Card deadCard : usedFixedCommunityAndBotCards) {
+			deadCardsBuilder |= 1L << deadCard.ordinal();
+		}
+		this.deadCards = deadCardsBuilder;
 
 		int fixedRankBuilder = 53;
 		boolean traceEnabled = logger.isTraceEnabled();
@@ -94,52 +102,12 @@ public abstract class RollOutStrategy {
 						handCard1), handCard2));
 	}
 
-	protected int calcAmountWon(PlayerState botState, int maxOpponentWin, Set<PlayerState> drawers,
-			Set<PlayerState> players) {
-		int botInvestment = botState.getTotalInvestment();
-		if (maxOpponentWin >= botInvestment) {
-			// won nothing
-			return 0;
-		} else if (drawers.isEmpty()) {
-			// won something, no draw
-			if (maxOpponentWin == 0 && !botState.isAllIn()) {
-				// just win everything
-				return gamePotSize;
-			} else {
-				// Calculate from individual contributions
-				int totalToDistribute = 0;
-				for (PlayerState player : players) {
-					totalToDistribute += Math.max(0, Math.min(botInvestment,
-							player.getTotalInvestment())
-							- maxOpponentWin);
-				}
-				return totalToDistribute;
-			}
-		} else {
-			// won something but must share
-			int myShare = 0;
-			int distributed = maxOpponentWin;
-			int nbDrawers = drawers.size() + 1;
-			for (PlayerState drawer : drawers) {
-				int limit = Math
-				.min(botInvestment, drawer.getTotalInvestment());
-				if (limit > distributed) {
-					int totalToDistribute = 0;
-					for (PlayerState player : players) {
-						totalToDistribute += Math.max(0, Math.min(limit, player
-								.getTotalInvestment())
-								- distributed);
-					}
-					myShare += totalToDistribute / nbDrawers;
-					distributed = limit;
-				}
-				--nbDrawers;
-			}
-			return myShare + botInvestment - distributed;
-		}
+	protected int getFinalRank(int communityRank, int handCard1,
+			int handCard2) {
+		return extractFinalRank(handRanks.get(handCard2 + 1
+				+ handRanks.get(handCard1 + 1 + communityRank)));
 	}
 
-
 	protected static Comparator<PlayerState> playerComparatorByInvestment = new Comparator<PlayerState>() {
 
 		@Override
@@ -193,7 +161,11 @@ public abstract class RollOutStrategy {
 	}
 
 	protected int updateIntermediateRank(int rank, Card card) {
-		return handRanks[card.ordinal() + 1 + rank];
+		return updateIntermediateRank(rank, card.ordinal());
+	}
+
+	protected int updateIntermediateRank(int rank, int card) {
+		return handRanks.get(card + 1 + rank);
 	}
 
 	public double getUpperWinBound() {
@@ -0,0 +1,120 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.bot.gametree.rollout;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.cspoker.common.util.MutableDouble;
+
+/**
+ * Per-thread scratch space for the showdown rollout kernel. Holds the deck
+ * that is partially shuffled for every sample, the drawer buffer and a
+ * primitive histogram of the amounts won, so a rollout does not allocate
+ * anything until a {@link RolloutResult} is asked for.
+ *
+ * Instances are confined to the thread that obtained them through
+ * {@link #get()}.
+ */
+final class RolloutContext {
+
+	private final static ThreadLocal<RolloutContext> contexts = new ThreadLocal<RolloutContext>() {
+		@Override
+		protected RolloutContext initialValue() {
+			return new RolloutContext();
+		}
+	};
+
+	static RolloutContext get() {
+		return contexts.get();
+	}
+
+	final Random random = new Random();
+
+	final int[] deck = new int[52];
+
+	private int[] drawerInvestments = new int[10];
+
+	// histogram of amounts won, unsorted, with the summed probability of each
+	private int[] values = new int[16];
+	private double[] probs = new double[16];
+	private int nbValues;
+	private double totalProb;
+
+	private RolloutContext() {
+	}
+
+	int[] getDrawerInvestments(int nbOpponents) {
+		if (drawerInvestments.length < nbOpponents) {
+			drawerInvestments = new int[nbOpponents];
+		}
+		return drawerInvestments;
+	}
+
+	void clear() {
+		nbValues = 0;
+		totalProb = 0;
+	}
+
+	void add(int value, double prob) {
+		totalProb += prob;
+		// few distinct amounts are ever won, a linear scan beats any map
+		for (int i = 0; i < nbValues; i++) {
+			if (values[i] == value) {
+				probs[i] += prob;
+				return;
+			}
+		}
+		if (nbValues == values.length) {
+			int[] newValues = new int[2 * nbValues];
+			double[] newProbs = new double[2 * nbValues];
+			System.arraycopy(values, 0, newValues, 0, nbValues);
+			System.arraycopy(probs, 0, newProbs, 0, nbValues);
+			values = newValues;
+			probs = newProbs;
+		}
+		values[nbValues] = value;
+		probs[nbValues] = prob;
+		++nbValues;
+	}
+
+	double getTotalProb() {
+		return totalProb;
+	}
+
+	/**
+	 * Same as {@link RolloutResult#getMean()} on {@link #toResult(double)},
+	 * without building the result.
+	 */
+	double getMean(double rakeFactor) {
+		RolloutResult.checkTotalProb(totalProb);
+		double mean = 0;
+		for (int i = 0; i < nbValues; i++) {
+			mean += values[i] * probs[i];
+		}
+		mean /= totalProb;
+		return mean * rakeFactor;
+	}
+
+	RolloutResult toResult(double rakeFactor) {
+		TreeMap<Integer, MutableDouble> result = new TreeMap<Integer, MutableDouble>();
+		for (int i = 0; i < nbValues; i++) {
+			result.put(values[i], new MutableDouble(probs[i]));
+		}
+		return new RolloutResult(result, totalProb, rakeFactor);
+	}
+
+}
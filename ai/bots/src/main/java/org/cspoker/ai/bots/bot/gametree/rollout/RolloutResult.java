@@ -31,13 +31,17 @@ public class RolloutResult {
 	private final double rakeFactor;
 
 	public RolloutResult(SortedMap<Integer, MutableDouble> values, double totalProb, double rakeFactor) {
+		checkTotalProb(totalProb);
+		this.values = Collections.unmodifiableSortedMap(values);
+		this.totalProb = totalProb;
+		this.rakeFactor = rakeFactor;
+	}
+	
+	static void checkTotalProb(double totalProb) {
 		if(Double.isNaN(totalProb) ||Double.isInfinite(totalProb) || totalProb==0) {
 			logger.error("Bad total probability: "+totalProb);
 			throw new IllegalStateException();
 		}
-		this.values = Collections.unmodifiableSortedMap(values);
-		this.totalProb = totalProb;
-		this.rakeFactor = rakeFactor;
 	}
 	
 	public double getMean() {
@@ -15,6 +15,11 @@
  */
 package org.cspoker.ai.bots.bot.gametree.rollout;
 
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution.ShowdownRankPredictor;
+import org.cspoker.ai.bots.equity.EquityCache;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.common.elements.player.PlayerId;
 
@@ -24,9 +29,30 @@ public class UniformRollout extends AbstractDistributionRollout {
 		super(gameState,botId);
 	}
 
+	private final static FloatBuffer uniform;
+	static {
+		float[] ones = new float[ShowdownRankPredictor.NB_RANKS];
+		Arrays.fill(ones, 1);
+		uniform = FloatBuffer.wrap(ones).asReadOnlyBuffer();
+	}
+
 	@Override
-	protected float getRelativeProbability(int rank, int relativePotSize) {
-		return 1;
+	protected FloatBuffer getRelativeNearestProbabilities(int relativePotSize) {
+		return uniform;
+	}
+
+	/**
+	 * Against uniformly distributed opponent hands and without side pots, the
+	 * mean is the cached equity of the bot times the pot.
+	 */
+	@Override
+	public double doRollOutMean(int nbCommunitySamples, int nbOpponentSamples) {
+		if (!isSinglePot()) {
+			return super.doRollOutMean(nbCommunitySamples, nbOpponentSamples);
+		}
+		double equity = EquityCache.getInstance().getEquity(botCard1, botCard2,
+				usedFixedCommunityCards, activeOpponents.size());
+		return equity * gamePotSize * getRakeFactor();
 	}
 
 
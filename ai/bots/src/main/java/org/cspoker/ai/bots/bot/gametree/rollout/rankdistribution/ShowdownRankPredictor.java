@@ -0,0 +1,179 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Relative probabilities of the ranks opponents show down with. The
+ * distributions are split in parts by the relative pot size,
+ * pot/(nbShowdownPlayers*BigBlind):
+ * <ul>
+ * <li>1 of 1: any pot</li>
+ * <li>1 of 2: &lt;=15, 2 of 2: &gt;15</li>
+ * <li>1 of 4: &lt;=4, 2 of 4: &lt;=15, 3 of 4: &lt;=30, 4 of 4: &gt;30</li>
+ * </ul>
+ * 
+ * All distributions are read once from a gzipped resource into one direct
+ * buffer, indexed by (distribution, rank). The buffer also holds a copy of
+ * each distribution where ranks that were never seen take the probability of
+ * the nearest worse rank that was.
+ */
+public final class ShowdownRankPredictor {
+
+	public final static int NB_RANKS = 7462;
+
+	private final static String RESOURCE = "showdownRanks.gz";
+
+	private final static int NB_DISTRIBUTIONS = 7;
+
+	private final static FloatBuffer probabilities;
+	private final static FloatBuffer nearestProbabilities;
+
+	static {
+		int size = NB_DISTRIBUTIONS * NB_RANKS;
+		FloatBuffer table = ByteBuffer.allocateDirect(2 * size * 4).order(
+				ByteOrder.nativeOrder()).asFloatBuffer();
+		try {
+			read(table);
+		} catch (IOException e) {
+			throw new IllegalStateException("Can't read " + RESOURCE, e);
+		}
+		for (int i = 0; i < size; i++) {
+			float probability = table.get(i);
+			if (probability == 0 && i % NB_RANKS > 0) {
+				probability = table.get(size + i - 1);
+			}
+			table.put(size + i, probability);
+		}
+		table.position(0).limit(size);
+		probabilities = table.slice().asReadOnlyBuffer();
+		table.position(size).limit(2 * size);
+		nearestProbabilities = table.slice().asReadOnlyBuffer();
+	}
+
+	private static void read(FloatBuffer table) throws IOException {
+		InputStream in = ShowdownRankPredictor.class.getResourceAsStream(RESOURCE);
+		if (in == null) {
+			throw new IOException("Missing resource");
+		}
+		int size = NB_DISTRIBUTIONS * NB_RANKS;
+		byte[] bytes = new byte[8 + 4 * size];
+		DataInputStream data = new DataInputStream(new GZIPInputStream(in));
+		try {
+			data.readFully(bytes);
+		} finally {
+			data.close();
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		if (buffer.getInt() != NB_DISTRIBUTIONS || buffer.getInt() != NB_RANKS) {
+			throw new IOException("Unexpected table dimensions");
+		}
+		for (int i = 0; i < size; i++) {
+			float probability = buffer.getFloat();
+			if (!(probability >= 0) || Float.isInfinite(probability)) {
+				throw new IOException("Bad probability " + probability + " at "
+						+ i);
+			}
+			table.put(i, probability);
+		}
+	}
+
+	private final static ShowdownRankPredictor[] predictors = new ShowdownRankPredictor[NB_DISTRIBUTIONS];
+	static {
+		for (int i = 0; i < NB_DISTRIBUTIONS; i++) {
+			predictors[i] = new ShowdownRankPredictor(i * NB_RANKS);
+		}
+	}
+
+	/**
+	 * @param part
+	 *            the part of the pot size range, from 1 to nbParts
+	 * @param nbParts
+	 *            1, 2 or 4
+	 */
+	public static ShowdownRankPredictor get(int part, int nbParts) {
+		if ((nbParts != 1 && nbParts != 2 && nbParts != 4) || part < 1
+				|| part > nbParts) {
+			throw new IllegalArgumentException("No distribution " + part
+					+ " of " + nbParts);
+		}
+		return predictors[nbParts - 1 + part - 1];
+	}
+
+	private final int offset;
+
+	// built once, a rollout asks for a row every time it samples
+	private final FloatBuffer row;
+	private final FloatBuffer nearestRow;
+
+	private ShowdownRankPredictor(int offset) {
+		this.offset = offset;
+		this.row = slice(probabilities, offset);
+		this.nearestRow = slice(nearestProbabilities, offset);
+	}
+
+	public float getRelativeProbability(int rank) {
+		return probabilities.get(offset + checkRank(rank));
+	}
+
+	/**
+	 * The relative probability of the given rank or, if that rank was never
+	 * seen, of the nearest worse rank that was. Zero when there is no such
+	 * rank.
+	 */
+	public float getRelativeNearestProbability(int rank) {
+		return nearestProbabilities.get(offset + checkRank(rank));
+	}
+
+	/**
+	 * A read-only view of {@link #getRelativeProbability(int)} for all ranks,
+	 * indexed by rank. The same view is returned to every caller, so it is
+	 * only read by absolute index and its position is never moved.
+	 */
+	public FloatBuffer getRelativeProbabilities() {
+		return row;
+	}
+
+	/**
+	 * A read-only view of {@link #getRelativeNearestProbability(int)} for all
+	 * ranks, indexed by rank. Shared like
+	 * {@link #getRelativeProbabilities()}.
+	 */
+	public FloatBuffer getRelativeNearestProbabilities() {
+		return nearestRow;
+	}
+
+	private static FloatBuffer slice(FloatBuffer table, int offset) {
+		FloatBuffer row = table.duplicate();
+		row.position(offset).limit(offset + NB_RANKS);
+		return row.slice();
+	}
+
+	private static int checkRank(int rank) {
+		if (rank < 0 || rank >= NB_RANKS) {
+			throw new IndexOutOfBoundsException("Bad rank " + rank);
+		}
+		return rank;
+	}
+
+}
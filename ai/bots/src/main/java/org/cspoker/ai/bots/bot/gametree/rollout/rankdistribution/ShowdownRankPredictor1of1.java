@@ -1,4838 +0,0 @@
-package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
-
-/**
- * This program is free software; you can redistribute it and/or modify it under
- * the terms of the GNU General Public License as published by the Free Software
- * Foundation; either version 2 of the License, or (at your option) any later
- * version.
- * 
- * This program is distributed in the hope that it will be useful, but WITHOUT
- * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
- * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
- * details.
- * 
- * You should have received a copy of the GNU General Public License along with
- * this program; if not, write to the Free Software Foundation, Inc., 59 Temple
- * Place - Suite 330, Boston, MA 02111-1307, USA.
- */
-
-public class ShowdownRankPredictor1of1 {
-
-	private final static float[] relShowdownProb = new float[7462];
-
-	public static float getRelativeProbability(int rank) {
-		return relShowdownProb[rank];
-	}
-
-	static {
-		relShowdownProb[48] = 0.32881197F;
-		relShowdownProb[51] = 0.30624643F;
-		relShowdownProb[82] = 0.2965755F;
-		relShowdownProb[85] = 0.38039032F;
-		relShowdownProb[86] = 0.34815383F;
-		relShowdownProb[102] = 0.30624643F;
-		relShowdownProb[105] = 0.41585043F;
-		relShowdownProb[106] = 0.36910754F;
-		relShowdownProb[112] = 0.28045726F;
-		relShowdownProb[115] = 0.3030228F;
-		relShowdownProb[116] = 0.41477588F;
-		relShowdownProb[119] = 0.39006126F;
-		relShowdownProb[120] = 0.43841594F;
-		relShowdownProb[151] = 0.3030228F;
-		relShowdownProb[154] = 0.32558832F;
-		relShowdownProb[155] = 0.38039032F;
-		relShowdownProb[171] = 0.34170654F;
-		relShowdownProb[174] = 0.31269372F;
-		relShowdownProb[175] = 0.3658839F;
-		relShowdownProb[181] = 0.28690454F;
-		relShowdownProb[184] = 0.31591737F;
-		relShowdownProb[185] = 0.37071937F;
-		relShowdownProb[188] = 0.2772336F;
-		relShowdownProb[189] = 0.38039032F;
-		relShowdownProb[190] = 0.45345962F;
-		relShowdownProb[206] = 0.33525926F;
-		relShowdownProb[209] = 0.33848292F;
-		relShowdownProb[210] = 0.33525926F;
-		relShowdownProb[216] = 0.2675627F;
-		relShowdownProb[219] = 0.29335186F;
-		relShowdownProb[220] = 0.39650854F;
-		relShowdownProb[223] = 0.37071937F;
-		relShowdownProb[224] = 0.34600475F;
-		relShowdownProb[225] = 0.37007463F;
-		relShowdownProb[231] = 0.34815383F;
-		relShowdownProb[234] = 0.32881197F;
-		relShowdownProb[235] = 0.33311015F;
-		relShowdownProb[238] = 0.3513775F;
-		relShowdownProb[239] = 0.3535266F;
-		relShowdownProb[240] = 0.44593778F;
-		relShowdownProb[243] = 0.3997322F;
-		relShowdownProb[244] = 0.41262677F;
-		relShowdownProb[245] = 0.48032334F;
-		relShowdownProb[276] = 0.3030228F;
-		relShowdownProb[279] = 0.34170654F;
-		relShowdownProb[280] = 0.35460114F;
-		relShowdownProb[296] = 0.28690454F;
-		relShowdownProb[299] = 0.2546681F;
-		relShowdownProb[300] = 0.31914103F;
-		relShowdownProb[306] = 0.28045726F;
-		relShowdownProb[309] = 0.30624643F;
-		relShowdownProb[310] = 0.35675022F;
-		relShowdownProb[313] = 0.2675627F;
-		relShowdownProb[314] = 0.36104843F;
-		relShowdownProb[315] = 0.4330432F;
-		relShowdownProb[331] = 0.32881197F;
-		relShowdownProb[334] = 0.29335186F;
-		relShowdownProb[335] = 0.33525926F;
-		relShowdownProb[341] = 0.28690454F;
-		relShowdownProb[344] = 0.29335186F;
-		relShowdownProb[345] = 0.38253942F;
-		relShowdownProb[348] = 0.31591737F;
-		relShowdownProb[349] = 0.34922838F;
-		relShowdownProb[350] = 0.3849034F;
-		relShowdownProb[356] = 0.2965755F;
-		relShowdownProb[359] = 0.3642721F;
-		relShowdownProb[360] = 0.3320356F;
-		relShowdownProb[363] = 0.29335186F;
-		relShowdownProb[364] = 0.38253942F;
-		relShowdownProb[365] = 0.42229772F;
-		relShowdownProb[368] = 0.32881197F;
-		relShowdownProb[369] = 0.40080673F;
-		relShowdownProb[370] = 0.40510494F;
-		relShowdownProb[371] = 0.5061125F;
-		relShowdownProb[387] = 0.373943F;
-		relShowdownProb[390] = 0.36749572F;
-		relShowdownProb[391] = 0.3787785F;
-		relShowdownProb[397] = 0.24499714F;
-		relShowdownProb[400] = 0.32558832F;
-		relShowdownProb[401] = 0.340632F;
-		relShowdownProb[404] = 0.31914103F;
-		relShowdownProb[405] = 0.3535266F;
-		relShowdownProb[406] = 0.40746894F;
-		relShowdownProb[412] = 0.36749572F;
-		relShowdownProb[415] = 0.35460114F;
-		relShowdownProb[416] = 0.3782412F;
-		relShowdownProb[419] = 0.2965755F;
-		relShowdownProb[420] = 0.33740836F;
-		relShowdownProb[421] = 0.40403038F;
-		relShowdownProb[424] = 0.35782477F;
-		relShowdownProb[425] = 0.41047767F;
-		relShowdownProb[426] = 0.44217688F;
-		relShowdownProb[427] = 0.4853379F;
-		relShowdownProb[433] = 0.42229772F;
-		relShowdownProb[436] = 0.3320356F;
-		relShowdownProb[437] = 0.40725404F;
-		relShowdownProb[440] = 0.35782477F;
-		relShowdownProb[441] = 0.35889933F;
-		relShowdownProb[442] = 0.4249841F;
-		relShowdownProb[445] = 0.45131055F;
-		relShowdownProb[446] = 0.4061795F;
-		relShowdownProb[447] = 0.456146F;
-		relShowdownProb[448] = 0.5170729F;
-		relShowdownProb[451] = 0.4706524F;
-		relShowdownProb[452] = 0.48247245F;
-		relShowdownProb[453] = 0.5173953F;
-		relShowdownProb[454] = 0.5738091F;
-		relShowdownProb[485] = 0.3642721F;
-		relShowdownProb[488] = 0.34815383F;
-		relShowdownProb[489] = 0.38361394F;
-		relShowdownProb[505] = 0.34170654F;
-		relShowdownProb[508] = 0.34170654F;
-		relShowdownProb[509] = 0.36910754F;
-		relShowdownProb[515] = 0.2772336F;
-		relShowdownProb[518] = 0.3094701F;
-		relShowdownProb[519] = 0.3868376F;
-		relShowdownProb[522] = 0.34170654F;
-		relShowdownProb[523] = 0.38039032F;
-		relShowdownProb[524] = 0.44916144F;
-		relShowdownProb[540] = 0.3868376F;
-		relShowdownProb[543] = 0.43196866F;
-		relShowdownProb[544] = 0.38200215F;
-		relShowdownProb[550] = 0.34815383F;
-		relShowdownProb[553] = 0.4061795F;
-		relShowdownProb[554] = 0.36212298F;
-		relShowdownProb[557] = 0.3642721F;
-		relShowdownProb[558] = 0.38576305F;
-		relShowdownProb[559] = 0.42358717F;
-		relShowdownProb[565] = 0.2965755F;
-		relShowdownProb[568] = 0.373943F;
-		relShowdownProb[569] = 0.37286848F;
-		relShowdownProb[572] = 0.31269372F;
-		relShowdownProb[573] = 0.36212298F;
-		relShowdownProb[574] = 0.44217688F;
-		relShowdownProb[577] = 0.34170654F;
-		relShowdownProb[578] = 0.37179393F;
-		relShowdownProb[579] = 0.4083286F;
-		relShowdownProb[580] = 0.48247245F;
-		relShowdownProb[596] = 0.40940312F;
-		relShowdownProb[599] = 0.3642721F;
-		relShowdownProb[600] = 0.41262677F;
-		relShowdownProb[606] = 0.38361394F;
-		relShowdownProb[609] = 0.38361394F;
-		relShowdownProb[610] = 0.41907406F;
-		relShowdownProb[613] = 0.33848292F;
-		relShowdownProb[614] = 0.40403038F;
-		relShowdownProb[615] = 0.44421852F;
-		relShowdownProb[621] = 0.3868376F;
-		relShowdownProb[624] = 0.35782477F;
-		relShowdownProb[625] = 0.40188128F;
-		relShowdownProb[628] = 0.34815383F;
-		relShowdownProb[629] = 0.3642721F;
-		relShowdownProb[630] = 0.4416396F;
-		relShowdownProb[633] = 0.37716666F;
-		relShowdownProb[634] = 0.36964482F;
-		relShowdownProb[635] = 0.4475496F;
-		relShowdownProb[636] = 0.4813979F;
-		relShowdownProb[642] = 0.42552137F;
-		relShowdownProb[645] = 0.43841594F;
-		relShowdownProb[646] = 0.46420512F;
-		relShowdownProb[649] = 0.37716666F;
-		relShowdownProb[650] = 0.4179995F;
-		relShowdownProb[651] = 0.47011515F;
-		relShowdownProb[654] = 0.43519232F;
-		relShowdownProb[655] = 0.42122316F;
-		relShowdownProb[656] = 0.48408428F;
-		relShowdownProb[657] = 0.49160612F;
-		relShowdownProb[660] = 0.4609815F;
-		relShowdownProb[661] = 0.4921434F;
-		relShowdownProb[662] = 0.48838246F;
-		relShowdownProb[663] = 0.5757433F;
-		relShowdownProb[664] = 0.6482754F;
-		relShowdownProb[680] = 0.45131055F;
-		relShowdownProb[683] = 0.44486323F;
-		relShowdownProb[684] = 0.43680412F;
-		relShowdownProb[690] = 0.36104843F;
-		relShowdownProb[693] = 0.38039032F;
-		relShowdownProb[694] = 0.42229772F;
-		relShowdownProb[697] = 0.4061795F;
-		relShowdownProb[698] = 0.42229772F;
-		relShowdownProb[699] = 0.45582363F;
-		relShowdownProb[705] = 0.3997322F;
-		relShowdownProb[708] = 0.38039032F;
-		relShowdownProb[709] = 0.41692498F;
-		relShowdownProb[712] = 0.3932849F;
-		relShowdownProb[713] = 0.43411776F;
-		relShowdownProb[714] = 0.45507145F;
-		relShowdownProb[717] = 0.3932849F;
-		relShowdownProb[718] = 0.43626684F;
-		relShowdownProb[719] = 0.45184782F;
-		relShowdownProb[720] = 0.4917852F;
-		relShowdownProb[726] = 0.45131055F;
-		relShowdownProb[729] = 0.40295583F;
-		relShowdownProb[730] = 0.462056F;
-		relShowdownProb[733] = 0.37716666F;
-		relShowdownProb[734] = 0.49751613F;
-		relShowdownProb[735] = 0.47709972F;
-		relShowdownProb[738] = 0.47709972F;
-		relShowdownProb[739] = 0.4394905F;
-		relShowdownProb[740] = 0.47709972F;
-		relShowdownProb[741] = 0.514494F;
-		relShowdownProb[744] = 0.5319017F;
-		relShowdownProb[745] = 0.53297627F;
-		relShowdownProb[746] = 0.55769086F;
-		relShowdownProb[747] = 0.5618816F;
-		relShowdownProb[748] = 0.63137424F;
-		relShowdownProb[754] = 0.43841594F;
-		relShowdownProb[757] = 0.4609815F;
-		relShowdownProb[758] = 0.47924882F;
-		relShowdownProb[761] = 0.44486323F;
-		relShowdownProb[762] = 0.48462155F;
-		relShowdownProb[763] = 0.4921434F;
-		relShowdownProb[766] = 0.5061125F;
-		relShowdownProb[767] = 0.4964416F;
-		relShowdownProb[768] = 0.5093362F;
-		relShowdownProb[769] = 0.53705955F;
-		relShowdownProb[772] = 0.5190071F;
-		relShowdownProb[773] = 0.5351254F;
-		relShowdownProb[774] = 0.57434636F;
-		relShowdownProb[775] = 0.5667171F;
-		relShowdownProb[776] = 0.67180794F;
-		relShowdownProb[779] = 0.67696583F;
-		relShowdownProb[780] = 0.67159307F;
-		relShowdownProb[781] = 0.6882486F;
-		relShowdownProb[782] = 0.7224192F;
-		relShowdownProb[783] = 0.7429431F;
-		relShowdownProb[816] = 0.4964416F;
-		relShowdownProb[817] = 0.54157263F;
-		relShowdownProb[836] = 0.48677066F;
-		relShowdownProb[837] = 0.4899943F;
-		relShowdownProb[846] = 0.49321795F;
-		relShowdownProb[847] = 0.5738091F;
-		relShowdownProb[850] = 0.5093362F;
-		relShowdownProb[851] = 0.5867037F;
-		relShowdownProb[852] = 0.54157263F;
-		relShowdownProb[871] = 0.43196866F;
-		relShowdownProb[872] = 0.5206189F;
-		relShowdownProb[881] = 0.56736183F;
-		relShowdownProb[882] = 0.5426472F;
-		relShowdownProb[885] = 0.5641382F;
-		relShowdownProb[886] = 0.5018143F;
-		relShowdownProb[887] = 0.54544103F;
-		relShowdownProb[896] = 0.5319017F;
-		relShowdownProb[897] = 0.52867806F;
-		relShowdownProb[900] = 0.4964416F;
-		relShowdownProb[901] = 0.5093362F;
-		relShowdownProb[902] = 0.5652127F;
-		relShowdownProb[905] = 0.5802564F;
-		relShowdownProb[906] = 0.52867806F;
-		relShowdownProb[907] = 0.6017474F;
-		relShowdownProb[908] = 0.6732049F;
-		relShowdownProb[927] = 0.52223074F;
-		relShowdownProb[928] = 0.5496318F;
-		relShowdownProb[937] = 0.5512436F;
-		relShowdownProb[938] = 0.5641382F;
-		relShowdownProb[941] = 0.5254544F;
-		relShowdownProb[942] = 0.54372174F;
-		relShowdownProb[943] = 0.5841248F;
-		relShowdownProb[952] = 0.5641382F;
-		relShowdownProb[953] = 0.56736183F;
-		relShowdownProb[956] = 0.52867806F;
-		relShowdownProb[957] = 0.54587084F;
-		relShowdownProb[958] = 0.56467545F;
-		relShowdownProb[961] = 0.538349F;
-		relShowdownProb[962] = 0.55554175F;
-		relShowdownProb[963] = 0.54587084F;
-		relShowdownProb[964] = 0.6336257F;
-		relShowdownProb[973] = 0.52867806F;
-		relShowdownProb[974] = 0.5867037F;
-		relShowdownProb[977] = 0.5705855F;
-		relShowdownProb[978] = 0.5953001F;
-		relShowdownProb[979] = 0.5759582F;
-		relShowdownProb[982] = 0.55769086F;
-		relShowdownProb[983] = 0.5995983F;
-		relShowdownProb[984] = 0.62162656F;
-		relShowdownProb[985] = 0.6544003F;
-		relShowdownProb[988] = 0.6092692F;
-		relShowdownProb[989] = 0.6393566F;
-		relShowdownProb[990] = 0.62377566F;
-		relShowdownProb[991] = 0.6759987F;
-		relShowdownProb[992] = 0.75723463F;
-		relShowdownProb[1011] = 0.5867037F;
-		relShowdownProb[1012] = 0.66084754F;
-		relShowdownProb[1021] = 0.54157263F;
-		relShowdownProb[1022] = 0.60819465F;
-		relShowdownProb[1025] = 0.5802564F;
-		relShowdownProb[1026] = 0.57273453F;
-		relShowdownProb[1027] = 0.6079798F;
-		relShowdownProb[1036] = 0.5157835F;
-		relShowdownProb[1037] = 0.5802564F;
-		relShowdownProb[1040] = 0.593151F;
-		relShowdownProb[1041] = 0.60067284F;
-		relShowdownProb[1042] = 0.62914836F;
-		relShowdownProb[1045] = 0.58348006F;
-		relShowdownProb[1046] = 0.6210893F;
-		relShowdownProb[1047] = 0.6227011F;
-		relShowdownProb[1048] = 0.6389984F;
-		relShowdownProb[1057] = 0.5738091F;
-		relShowdownProb[1058] = 0.5877783F;
-		relShowdownProb[1061] = 0.5867037F;
-		relShowdownProb[1062] = 0.64580387F;
-		relShowdownProb[1063] = 0.61088103F;
-		relShowdownProb[1066] = 0.54801995F;
-		relShowdownProb[1067] = 0.57488364F;
-		relShowdownProb[1068] = 0.6184029F;
-		relShowdownProb[1069] = 0.6640712F;
-		relShowdownProb[1072] = 0.6705185F;
-		relShowdownProb[1073] = 0.626462F;
-		relShowdownProb[1074] = 0.64634115F;
-		relShowdownProb[1075] = 0.66568303F;
-		relShowdownProb[1076] = 0.78564876F;
-		relShowdownProb[1085] = 0.6415057F;
-		relShowdownProb[1086] = 0.702755F;
-		relShowdownProb[1089] = 0.6737422F;
-		relShowdownProb[1090] = 0.6640712F;
-		relShowdownProb[1091] = 0.63398385F;
-		relShowdownProb[1094] = 0.60282195F;
-		relShowdownProb[1095] = 0.68663675F;
-		relShowdownProb[1096] = 0.6898604F;
-		relShowdownProb[1097] = 0.6972748F;
-		relShowdownProb[1100] = 0.7253205F;
-		relShowdownProb[1101] = 0.71564955F;
-		relShowdownProb[1102] = 0.6973822F;
-		relShowdownProb[1103] = 0.71822846F;
-		relShowdownProb[1104] = 0.7854952F;
-		relShowdownProb[1107] = 0.68018943F;
-		relShowdownProb[1108] = 0.790868F;
-		relShowdownProb[1109] = 0.78710705F;
-		relShowdownProb[1110] = 0.80333275F;
-		relShowdownProb[1111] = 0.8751126F;
-		relShowdownProb[1112] = 0.9675238F;
-		relShowdownProb[1131] = 0.6092692F;
-		relShowdownProb[1132] = 0.61732835F;
-		relShowdownProb[1141] = 0.7188732F;
-		relShowdownProb[1142] = 0.6210893F;
-		relShowdownProb[1145] = 0.6640712F;
-		relShowdownProb[1146] = 0.6780403F;
-		relShowdownProb[1147] = 0.70146555F;
-		relShowdownProb[1156] = 0.71564955F;
-		relShowdownProb[1157] = 0.67159307F;
-		relShowdownProb[1160] = 0.6447293F;
-		relShowdownProb[1161] = 0.6995313F;
-		relShowdownProb[1162] = 0.71350044F;
-		relShowdownProb[1165] = 0.6415057F;
-		relShowdownProb[1166] = 0.6490275F;
-		relShowdownProb[1167] = 0.6850249F;
-		relShowdownProb[1168] = 0.7314096F;
-		relShowdownProb[1177] = 0.6447293F;
-		relShowdownProb[1178] = 0.7339169F;
-		relShowdownProb[1181] = 0.79624075F;
-		relShowdownProb[1182] = 0.71779865F;
-		relShowdownProb[1183] = 0.7124259F;
-		relShowdownProb[1186] = 0.702755F;
-		relShowdownProb[1187] = 0.6780403F;
-		relShowdownProb[1188] = 0.7194105F;
-		relShowdownProb[1189] = 0.7491755F;
-		relShowdownProb[1192] = 0.66729486F;
-		relShowdownProb[1193] = 0.7382151F;
-		relShowdownProb[1194] = 0.7473488F;
-		relShowdownProb[1195] = 0.7775436F;
-		relShowdownProb[1196] = 0.8095958F;
-		relShowdownProb[1205] = 0.747886F;
-		relShowdownProb[1206] = 0.8048371F;
-		relShowdownProb[1209] = 0.702755F;
-		relShowdownProb[1210] = 0.74896055F;
-		relShowdownProb[1211] = 0.76078063F;
-		relShowdownProb[1214] = 0.82525355F;
-		relShowdownProb[1215] = 0.7231714F;
-		relShowdownProb[1216] = 0.75110966F;
-		relShowdownProb[1217] = 0.75691223F;
-		relShowdownProb[1220] = 0.7382151F;
-		relShowdownProb[1221] = 0.7500351F;
-		relShowdownProb[1222] = 0.769377F;
-		relShowdownProb[1223] = 0.77399755F;
-		relShowdownProb[1224] = 0.8334201F;
-		relShowdownProb[1227] = 0.77689886F;
-		relShowdownProb[1228] = 0.8639373F;
-		relShowdownProb[1229] = 0.89187557F;
-		relShowdownProb[1230] = 0.86168075F;
-		relShowdownProb[1231] = 0.92346734F;
-		relShowdownProb[1232] = 1.0330176F;
-		relShowdownProb[1241] = 0.76078063F;
-		relShowdownProb[1242] = 0.77904797F;
-		relShowdownProb[1245] = 0.74143875F;
-		relShowdownProb[1246] = 0.76292974F;
-		relShowdownProb[1247] = 0.76776516F;
-		relShowdownProb[1250] = 0.7994644F;
-		relShowdownProb[1251] = 0.80591166F;
-		relShowdownProb[1252] = 0.8010762F;
-		relShowdownProb[1253] = 0.8223523F;
-		relShowdownProb[1256] = 0.8381481F;
-		relShowdownProb[1257] = 0.8349245F;
-		relShowdownProb[1258] = 0.8091353F;
-		relShowdownProb[1259] = 0.8184839F;
-		relShowdownProb[1260] = 0.87382317F;
-		relShowdownProb[1263] = 0.84459543F;
-		relShowdownProb[1264] = 0.8929501F;
-		relShowdownProb[1265] = 0.890801F;
-		relShowdownProb[1266] = 0.8968185F;
-		relShowdownProb[1267] = 0.95634854F;
-		relShowdownProb[1268] = 1.0498343F;
-		relShowdownProb[1271] = 0.94452846F;
-		relShowdownProb[1272] = 0.89402467F;
-		relShowdownProb[1273] = 0.92035115F;
-		relShowdownProb[1274] = 0.98869246F;
-		relShowdownProb[1275] = 0.9746159F;
-		relShowdownProb[1276] = 1.0995705F;
-		relShowdownProb[1295] = 0.42167905F;
-		relShowdownProb[1296] = 0.45541337F;
-		relShowdownProb[1305] = 0.53974915F;
-		relShowdownProb[1306] = 0.47790292F;
-		relShowdownProb[1309] = 0.33734322F;
-		relShowdownProb[1310] = 0.43011263F;
-		relShowdownProb[1311] = 0.42336574F;
-		relShowdownProb[1320] = 0.4469798F;
-		relShowdownProb[1321] = 0.40762308F;
-		relShowdownProb[1324] = 0.4048119F;
-		relShowdownProb[1325] = 0.45260218F;
-		relShowdownProb[1326] = 0.40762308F;
-		relShowdownProb[1329] = 0.4469798F;
-		relShowdownProb[1330] = 0.37951112F;
-		relShowdownProb[1331] = 0.37810552F;
-		relShowdownProb[1332] = 0.4151196F;
-		relShowdownProb[1341] = 0.41324547F;
-		relShowdownProb[1342] = 0.37107754F;
-		relShowdownProb[1345] = 0.3457768F;
-		relShowdownProb[1346] = 0.41324547F;
-		relShowdownProb[1347] = 0.40902868F;
-		relShowdownProb[1350] = 0.4891477F;
-		relShowdownProb[1351] = 0.41324547F;
-		relShowdownProb[1352] = 0.42167905F;
-		relShowdownProb[1353] = 0.41746226F;
-		relShowdownProb[1356] = 0.4048119F;
-		relShowdownProb[1357] = 0.42167905F;
-		relShowdownProb[1358] = 0.3837279F;
-		relShowdownProb[1359] = 0.38288456F;
-		relShowdownProb[1360] = 0.47649732F;
-		relShowdownProb[1369] = 0.5566163F;
-		relShowdownProb[1370] = 0.4413574F;
-		relShowdownProb[1373] = 0.46384695F;
-		relShowdownProb[1374] = 0.3991895F;
-		relShowdownProb[1375] = 0.41183987F;
-		relShowdownProb[1378] = 0.36264396F;
-		relShowdownProb[1379] = 0.44979098F;
-		relShowdownProb[1380] = 0.41605666F;
-		relShowdownProb[1381] = 0.442763F;
-		relShowdownProb[1384] = 0.522882F;
-		relShowdownProb[1385] = 0.4385462F;
-		relShowdownProb[1386] = 0.3823223F;
-		relShowdownProb[1387] = 0.40734196F;
-		relShowdownProb[1388] = 0.44191962F;
-		relShowdownProb[1391] = 0.5060148F;
-		relShowdownProb[1392] = 0.45260218F;
-		relShowdownProb[1393] = 0.42167905F;
-		relShowdownProb[1394] = 0.43179932F;
-		relShowdownProb[1395] = 0.4908344F;
-		relShowdownProb[1396] = 0.53131557F;
-		relShowdownProb[1405] = 0.43011263F;
-		relShowdownProb[1406] = 0.46665815F;
-		relShowdownProb[1409] = 0.3879447F;
-		relShowdownProb[1410] = 0.42730144F;
-		relShowdownProb[1411] = 0.4020007F;
-		relShowdownProb[1414] = 0.37107754F;
-		relShowdownProb[1415] = 0.3907559F;
-		relShowdownProb[1416] = 0.41465107F;
-		relShowdownProb[1417] = 0.4385462F;
-		relShowdownProb[1420] = 0.5060148F;
-		relShowdownProb[1421] = 0.45541337F;
-		relShowdownProb[1422] = 0.4835253F;
-		relShowdownProb[1423] = 0.40734196F;
-		relShowdownProb[1424] = 0.47790292F;
-		relShowdownProb[1427] = 0.4807141F;
-		relShowdownProb[1428] = 0.43011263F;
-		relShowdownProb[1429] = 0.46946934F;
-		relShowdownProb[1430] = 0.478184F;
-		relShowdownProb[1431] = 0.49027216F;
-		relShowdownProb[1432] = 0.55460835F;
-		relShowdownProb[1435] = 0.5144484F;
-		relShowdownProb[1436] = 0.4441686F;
-		relShowdownProb[1437] = 0.5270988F;
-		relShowdownProb[1438] = 0.53974915F;
-		relShowdownProb[1439] = 0.525131F;
-		relShowdownProb[1440] = 0.5606323F;
-		relShowdownProb[1441] = 0.6571946F;
-		relShowdownProb[1451] = 0.6437633F;
-		relShowdownProb[1455] = 0.6353297F;
-		relShowdownProb[1456] = 0.62830174F;
-		relShowdownProb[1460] = 0.58472824F;
-		relShowdownProb[1461] = 0.6086234F;
-		relShowdownProb[1462] = 0.61312133F;
-		relShowdownProb[1466] = 0.70842075F;
-		relShowdownProb[1467] = 0.6001898F;
-		relShowdownProb[1468] = 0.5903506F;
-		relShowdownProb[1469] = 0.63364303F;
-		relShowdownProb[1473] = 0.6381409F;
-		relShowdownProb[1474] = 0.6381409F;
-		relShowdownProb[1475] = 0.6274584F;
-		relShowdownProb[1476] = 0.6870557F;
-		relShowdownProb[1477] = 0.71323997F;
-		relShowdownProb[1481] = 0.7196655F;
-		relShowdownProb[1482] = 0.6817144F;
-		relShowdownProb[1483] = 0.7379383F;
-		relShowdownProb[1484] = 0.746653F;
-		relShowdownProb[1485] = 0.7469743F;
-		relShowdownProb[1486] = 0.8590204F;
-		relShowdownProb[1490] = 0.798379F;
-		relShowdownProb[1491] = 0.76042783F;
-		relShowdownProb[1492] = 0.7117942F;
-		relShowdownProb[1493] = 0.7668936F;
-		relShowdownProb[1494] = 0.8309085F;
-		relShowdownProb[1495] = 0.90871835F;
-		relShowdownProb[1496] = 0.98359644F;
-		relShowdownProb[1515] = 0.53131557F;
-		relShowdownProb[1516] = 0.4807141F;
-		relShowdownProb[1525] = 0.5481827F;
-		relShowdownProb[1526] = 0.41746226F;
-		relShowdownProb[1529] = 0.5481827F;
-		relShowdownProb[1530] = 0.53412676F;
-		relShowdownProb[1531] = 0.4705938F;
-		relShowdownProb[1540] = 0.53131557F;
-		relShowdownProb[1541] = 0.47228053F;
-		relShowdownProb[1544] = 0.49758127F;
-		relShowdownProb[1545] = 0.508826F;
-		relShowdownProb[1546] = 0.45541337F;
-		relShowdownProb[1549] = 0.3457768F;
-		relShowdownProb[1550] = 0.5060148F;
-		relShowdownProb[1551] = 0.4385462F;
-		relShowdownProb[1552] = 0.4572875F;
-		relShowdownProb[1561] = 0.49758127F;
-		relShowdownProb[1562] = 0.49336448F;
-		relShowdownProb[1565] = 0.43011263F;
-		relShowdownProb[1566] = 0.47228053F;
-		relShowdownProb[1567] = 0.45681897F;
-		relShowdownProb[1570] = 0.4891477F;
-		relShowdownProb[1571] = 0.49758127F;
-		relShowdownProb[1572] = 0.4821197F;
-		relShowdownProb[1573] = 0.4326427F;
-		relShowdownProb[1576] = 0.3963783F;
-		relShowdownProb[1577] = 0.4835253F;
-		relShowdownProb[1578] = 0.45681897F;
-		relShowdownProb[1579] = 0.45372665F;
-		relShowdownProb[1580] = 0.49456927F;
-		relShowdownProb[1589] = 0.6072178F;
-		relShowdownProb[1590] = 0.49758127F;
-		relShowdownProb[1593] = 0.43011263F;
-		relShowdownProb[1594] = 0.4413574F;
-		relShowdownProb[1595] = 0.3879447F;
-		relShowdownProb[1598] = 0.5566163F;
-		relShowdownProb[1599] = 0.45541337F;
-		relShowdownProb[1600] = 0.42167905F;
-		relShowdownProb[1601] = 0.4587868F;
-		relShowdownProb[1604] = 0.522882F;
-		relShowdownProb[1605] = 0.37388873F;
-		relShowdownProb[1606] = 0.4385462F;
-		relShowdownProb[1607] = 0.46806374F;
-		relShowdownProb[1608] = 0.5144484F;
-		relShowdownProb[1611] = 0.43011263F;
-		relShowdownProb[1612] = 0.5200708F;
-		relShowdownProb[1613] = 0.5102316F;
-		relShowdownProb[1614] = 0.44866648F;
-		relShowdownProb[1615] = 0.48746097F;
-		relShowdownProb[1616] = 0.55619466F;
-		relShowdownProb[1625] = 0.5481827F;
-		relShowdownProb[1626] = 0.5144484F;
-		relShowdownProb[1629] = 0.58191705F;
-		relShowdownProb[1630] = 0.5566163F;
-		relShowdownProb[1631] = 0.49477008F;
-		relShowdownProb[1634] = 0.6409521F;
-		relShowdownProb[1635] = 0.4807141F;
-		relShowdownProb[1636] = 0.41324547F;
-		relShowdownProb[1637] = 0.43179932F;
-		relShowdownProb[1640] = 0.47228053F;
-		relShowdownProb[1641] = 0.4469798F;
-		relShowdownProb[1642] = 0.46384695F;
-		relShowdownProb[1643] = 0.5068582F;
-		relShowdownProb[1644] = 0.51613516F;
-		relShowdownProb[1647] = 0.5481827F;
-		relShowdownProb[1648] = 0.53974915F;
-		relShowdownProb[1649] = 0.522882F;
-		relShowdownProb[1650] = 0.46806374F;
-		relShowdownProb[1651] = 0.5616765F;
-		relShowdownProb[1652] = 0.606013F;
-		relShowdownProb[1655] = 0.49758127F;
-		relShowdownProb[1656] = 0.62689614F;
-		relShowdownProb[1657] = 0.62408495F;
-		relShowdownProb[1658] = 0.5186652F;
-		relShowdownProb[1659] = 0.53356457F;
-		relShowdownProb[1660] = 0.6437633F;
-		relShowdownProb[1661] = 0.65407103F;
-		relShowdownProb[1671] = 0.6873368F;
-		relShowdownProb[1675] = 0.6128402F;
-		relShowdownProb[1676] = 0.6479801F;
-		relShowdownProb[1680] = 0.6381409F;
-		relShowdownProb[1681] = 0.6507913F;
-		relShowdownProb[1682] = 0.65107244F;
-		relShowdownProb[1686] = 0.6437633F;
-		relShowdownProb[1687] = 0.7252879F;
-		relShowdownProb[1688] = 0.647699F;
-		relShowdownProb[1689] = 0.62408495F;
-		relShowdownProb[1693] = 0.7252879F;
-		relShowdownProb[1694] = 0.70139277F;
-		relShowdownProb[1695] = 0.6561326F;
-		relShowdownProb[1696] = 0.7016739F;
-		relShowdownProb[1697] = 0.7365327F;
-		relShowdownProb[1701] = 0.7646446F;
-		relShowdownProb[1702] = 0.74777746F;
-		relShowdownProb[1703] = 0.7421551F;
-		relShowdownProb[1704] = 0.73259705F;
-		relShowdownProb[1705] = 0.7891422F;
-		relShowdownProb[1706] = 0.8331173F;
-		relShowdownProb[1710] = 0.8827148F;
-		relShowdownProb[1711] = 0.763239F;
-		relShowdownProb[1712] = 0.7801062F;
-		relShowdownProb[1713] = 0.812435F;
-		relShowdownProb[1714] = 0.85661083F;
-		relShowdownProb[1715] = 0.9029955F;
-		relShowdownProb[1716] = 1.0566071F;
-		relShowdownProb[1735] = 0.5566163F;
-		relShowdownProb[1736] = 0.5481827F;
-		relShowdownProb[1745] = 0.53131557F;
-		relShowdownProb[1746] = 0.50179803F;
-		relShowdownProb[1749] = 0.53974915F;
-		relShowdownProb[1750] = 0.5566163F;
-		relShowdownProb[1751] = 0.51613516F;
-		relShowdownProb[1760] = 0.70842075F;
-		relShowdownProb[1761] = 0.54396594F;
-		relShowdownProb[1764] = 0.46384695F;
-		relShowdownProb[1765] = 0.4863365F;
-		relShowdownProb[1766] = 0.4824008F;
-		relShowdownProb[1769] = 0.58191705F;
-		relShowdownProb[1770] = 0.5481827F;
-		relShowdownProb[1771] = 0.45119658F;
-		relShowdownProb[1772] = 0.49477008F;
-		relShowdownProb[1781] = 0.4469798F;
-		relShowdownProb[1782] = 0.47649732F;
-		relShowdownProb[1785] = 0.46384695F;
-		relShowdownProb[1786] = 0.5931618F;
-		relShowdownProb[1787] = 0.534689F;
-		relShowdownProb[1790] = 0.5650499F;
-		relShowdownProb[1791] = 0.58191705F;
-		relShowdownProb[1792] = 0.49898687F;
-		relShowdownProb[1793] = 0.4866176F;
-		relShowdownProb[1796] = 0.53131557F;
-		relShowdownProb[1797] = 0.5256932F;
-		relShowdownProb[1798] = 0.5060148F;
-		relShowdownProb[1799] = 0.5144484F;
-		relShowdownProb[1800] = 0.52107483F;
-		relShowdownProb[1809] = 0.58191705F;
-		relShowdownProb[1810] = 0.5186652F;
-		relShowdownProb[1813] = 0.5481827F;
-		relShowdownProb[1814] = 0.6521969F;
-		relShowdownProb[1815] = 0.49420783F;
-		relShowdownProb[1818] = 0.5481827F;
-		relShowdownProb[1819] = 0.54256034F;
-		relShowdownProb[1820] = 0.52990997F;
-		relShowdownProb[1821] = 0.47987074F;
-		relShowdownProb[1824] = 0.41324547F;
-		relShowdownProb[1825] = 0.4835253F;
-		relShowdownProb[1826] = 0.5130428F;
-		relShowdownProb[1827] = 0.51191837F;
-		relShowdownProb[1828] = 0.53806245F;
-		relShowdownProb[1831] = 0.5566163F;
-		relShowdownProb[1832] = 0.5931618F;
-		relShowdownProb[1833] = 0.515854F;
-		relShowdownProb[1834] = 0.51613516F;
-		relShowdownProb[1835] = 0.50320363F;
-		relShowdownProb[1836] = 0.5473394F;
-		relShowdownProb[1845] = 0.6409521F;
-		relShowdownProb[1846] = 0.5608331F;
-		relShowdownProb[1849] = 0.5481827F;
-		relShowdownProb[1850] = 0.595973F;
-		relShowdownProb[1851] = 0.53806245F;
-		relShowdownProb[1854] = 0.4385462F;
-		relShowdownProb[1855] = 0.5566163F;
-		relShowdownProb[1856] = 0.5130428F;
-		relShowdownProb[1857] = 0.51613516F;
-		relShowdownProb[1860] = 0.53974915F;
-		relShowdownProb[1861] = 0.5622387F;
-		relShowdownProb[1862] = 0.54396594F;
-		relShowdownProb[1863] = 0.51360506F;
-		relShowdownProb[1864] = 0.5566163F;
-		relShowdownProb[1867] = 0.5987842F;
-		relShowdownProb[1868] = 0.522882F;
-		relShowdownProb[1869] = 0.57770026F;
-		relShowdownProb[1870] = 0.5591464F;
-		relShowdownProb[1871] = 0.5717968F;
-		relShowdownProb[1872] = 0.62569135F;
-		relShowdownProb[1875] = 0.7674558F;
-		relShowdownProb[1876] = 0.6353297F;
-		relShowdownProb[1877] = 0.6409521F;
-		relShowdownProb[1878] = 0.5836038F;
-		relShowdownProb[1879] = 0.58978844F;
-		relShowdownProb[1880] = 0.59396505F;
-		relShowdownProb[1881] = 0.65532047F;
-		relShowdownProb[1891] = 0.71685433F;
-		relShowdownProb[1895] = 0.7280991F;
-		relShowdownProb[1896] = 0.69324034F;
-		relShowdownProb[1900] = 0.7393439F;
-		relShowdownProb[1901] = 0.70560956F;
-		relShowdownProb[1902] = 0.7033606F;
-		relShowdownProb[1906] = 0.71123195F;
-		relShowdownProb[1907] = 0.67046964F;
-		relShowdownProb[1908] = 0.692397F;
-		relShowdownProb[1909] = 0.6966138F;
-		relShowdownProb[1913] = 0.7955678F;
-		relShowdownProb[1914] = 0.7309103F;
-		relShowdownProb[1915] = 0.69324034F;
-		relShowdownProb[1916] = 0.70279837F;
-		relShowdownProb[1917] = 0.75821906F;
-		relShowdownProb[1921] = 0.7955678F;
-		relShowdownProb[1922] = 0.7618334F;
-		relShowdownProb[1923] = 0.74637187F;
-		relShowdownProb[1924] = 0.7539621F;
-		relShowdownProb[1925] = 0.80641097F;
-		relShowdownProb[1926] = 0.8611288F;
-		relShowdownProb[1930] = 0.95580584F;
-		relShowdownProb[1931] = 0.9333163F;
-		relShowdownProb[1932] = 0.852635F;
-		relShowdownProb[1933] = 0.83323777F;
-		relShowdownProb[1934] = 0.90038514F;
-		relShowdownProb[1935] = 0.9605246F;
-		relShowdownProb[1936] = 1.0139574F;
-		relShowdownProb[1955] = 0.7252879F;
-		relShowdownProb[1956] = 0.66625285F;
-		relShowdownProb[1965] = 0.61565137F;
-		relShowdownProb[1966] = 0.603001F;
-		relShowdownProb[1969] = 0.6072178F;
-		relShowdownProb[1970] = 0.58753943F;
-		relShowdownProb[1971] = 0.5172596F;
-		relShowdownProb[1980] = 0.62408495F;
-		relShowdownProb[1981] = 0.61986816F;
-		relShowdownProb[1984] = 0.49758127F;
-		relShowdownProb[1985] = 0.6803088F;
-		relShowdownProb[1986] = 0.5701101F;
-		relShowdownProb[1989] = 0.522882F;
-		relShowdownProb[1990] = 0.5903506F;
-		relShowdownProb[1991] = 0.5467771F;
-		relShowdownProb[1992] = 0.5837912F;
-		relShowdownProb[2001] = 0.53974915F;
-		relShowdownProb[2002] = 0.6915536F;
-		relShowdownProb[2005] = 0.58191705F;
-		relShowdownProb[2006] = 0.58472824F;
-		relShowdownProb[2007] = 0.6072178F;
-		relShowdownProb[2010] = 0.5650499F;
-		relShowdownProb[2011] = 0.58472824F;
-		relShowdownProb[2012] = 0.5481827F;
-		relShowdownProb[2013] = 0.55567926F;
-		relShowdownProb[2016] = 0.57348347F;
-		relShowdownProb[2017] = 0.610029F;
-		relShowdownProb[2018] = 0.5467771F;
-		relShowdownProb[2019] = 0.5768569F;
-		relShowdownProb[2020] = 0.55721873F;
-		relShowdownProb[2029] = 0.6915536F;
-		relShowdownProb[2030] = 0.70420396F;
-		relShowdownProb[2033] = 0.5987842F;
-		relShowdownProb[2034] = 0.6128402F;
-		relShowdownProb[2035] = 0.5751702F;
-		relShowdownProb[2038] = 0.5566163F;
-		relShowdownProb[2039] = 0.54537153F;
-		relShowdownProb[2040] = 0.6058122F;
-		relShowdownProb[2041] = 0.5538051F;
-		relShowdownProb[2044] = 0.67468643F;
-		relShowdownProb[2045] = 0.5903506F;
-		relShowdownProb[2046] = 0.5650499F;
-		relShowdownProb[2047] = 0.5481827F;
-		relShowdownProb[2048] = 0.5560541F;
-		relShowdownProb[2051] = 0.5903506F;
-		relShowdownProb[2052] = 0.5172596F;
-		relShowdownProb[2053] = 0.5650499F;
-		relShowdownProb[2054] = 0.579387F;
-		relShowdownProb[2055] = 0.56673664F;
-		relShowdownProb[2056] = 0.60257936F;
-		relShowdownProb[2065] = 0.61565137F;
-		relShowdownProb[2066] = 0.54396594F;
-		relShowdownProb[2069] = 0.5060148F;
-		relShowdownProb[2070] = 0.6578193F;
-		relShowdownProb[2071] = 0.6493857F;
-		relShowdownProb[2074] = 0.53974915F;
-		relShowdownProb[2075] = 0.61846256F;
-		relShowdownProb[2076] = 0.6044066F;
-		relShowdownProb[2077] = 0.60346955F;
-		relShowdownProb[2080] = 0.58191705F;
-		relShowdownProb[2081] = 0.62408495F;
-		relShowdownProb[2082] = 0.62830174F;
-		relShowdownProb[2083] = 0.5996276F;
-		relShowdownProb[2084] = 0.586415F;
-		relShowdownProb[2087] = 0.5650499F;
-		relShowdownProb[2088] = 0.67468643F;
-		relShowdownProb[2089] = 0.6086234F;
-		relShowdownProb[2090] = 0.5810737F;
-		relShowdownProb[2091] = 0.58023036F;
-		relShowdownProb[2092] = 0.64777935F;
-		relShowdownProb[2095] = 0.5903506F;
-		relShowdownProb[2096] = 0.5987842F;
-		relShowdownProb[2097] = 0.62689614F;
-		relShowdownProb[2098] = 0.614808F;
-		relShowdownProb[2099] = 0.62239826F;
-		relShowdownProb[2100] = 0.6590241F;
-		relShowdownProb[2101] = 0.73903155F;
-		relShowdownProb[2111] = 0.81805736F;
-		relShowdownProb[2115] = 0.74777746F;
-		relShowdownProb[2116] = 0.81131047F;
-		relShowdownProb[2120] = 0.7815118F;
-		relShowdownProb[2121] = 0.71404314F;
-		relShowdownProb[2122] = 0.75902224F;
-		relShowdownProb[2126] = 0.8321133F;
-		relShowdownProb[2127] = 0.7829174F;
-		relShowdownProb[2128] = 0.7320348F;
-		relShowdownProb[2129] = 0.7522754F;
-		relShowdownProb[2133] = 0.7309103F;
-		relShowdownProb[2134] = 0.75339985F;
-		relShowdownProb[2135] = 0.79613F;
-		relShowdownProb[2136] = 0.75452435F;
-		relShowdownProb[2137] = 0.8228765F;
-		relShowdownProb[2141] = 0.82086855F;
-		relShowdownProb[2142] = 0.86444205F;
-		relShowdownProb[2143] = 0.7809496F;
-		relShowdownProb[2144] = 0.81018597F;
-		relShowdownProb[2145] = 0.81645095F;
-		relShowdownProb[2146] = 0.88642955F;
-		relShowdownProb[2150] = 0.8939596F;
-		relShowdownProb[2151] = 0.8911484F;
-		relShowdownProb[2152] = 0.8931162F;
-		relShowdownProb[2153] = 0.92881835F;
-		relShowdownProb[2154] = 0.95138824F;
-		relShowdownProb[2155] = 0.9310071F;
-		relShowdownProb[2156] = 1.0660046F;
-		relShowdownProb[2175] = 0.75058866F;
-		relShowdownProb[2176] = 0.5987842F;
-		relShowdownProb[2185] = 0.63251853F;
-		relShowdownProb[2186] = 0.67468643F;
-		relShowdownProb[2189] = 0.53131557F;
-		relShowdownProb[2190] = 0.70560956F;
-		relShowdownProb[2191] = 0.6550081F;
-		relShowdownProb[2200] = 0.6072178F;
-		relShowdownProb[2201] = 0.6536025F;
-		relShowdownProb[2204] = 0.49758127F;
-		relShowdownProb[2205] = 0.54256034F;
-		relShowdownProb[2206] = 0.69324034F;
-		relShowdownProb[2209] = 0.75058866F;
-		relShowdownProb[2210] = 0.57910585F;
-		relShowdownProb[2211] = 0.61565137F;
-		relShowdownProb[2212] = 0.6451689F;
-		relShowdownProb[2221] = 0.5144484F;
-		relShowdownProb[2222] = 0.62408495F;
-		relShowdownProb[2225] = 0.5481827F;
-		relShowdownProb[2226] = 0.5931618F;
-		relShowdownProb[2227] = 0.6139647F;
-		relShowdownProb[2230] = 0.53974915F;
-		relShowdownProb[2231] = 0.5200708F;
-		relShowdownProb[2232] = 0.5538051F;
-		relShowdownProb[2233] = 0.6315815F;
-		relShowdownProb[2236] = 0.46384695F;
-		relShowdownProb[2237] = 0.5903506F;
-		relShowdownProb[2238] = 0.5917562F;
-		relShowdownProb[2239] = 0.60468775F;
-		relShowdownProb[2240] = 0.6048082F;
-		relShowdownProb[2249] = 0.5060148F;
-		relShowdownProb[2250] = 0.7421551F;
-		relShowdownProb[2253] = 0.5481827F;
-		relShowdownProb[2254] = 0.61565137F;
-		relShowdownProb[2255] = 0.612278F;
-		relShowdownProb[2258] = 0.5144484F;
-		relShowdownProb[2259] = 0.5509939F;
-		relShowdownProb[2260] = 0.61705697F;
-		relShowdownProb[2261] = 0.610029F;
-		relShowdownProb[2264] = 0.6409521F;
-		relShowdownProb[2265] = 0.6803088F;
-		relShowdownProb[2266] = 0.6058122F;
-		relShowdownProb[2267] = 0.612278F;
-		relShowdownProb[2268] = 0.59516984F;
-		relShowdownProb[2271] = 0.6072178F;
-		relShowdownProb[2272] = 0.62970734F;
-		relShowdownProb[2273] = 0.61565137F;
-		relShowdownProb[2274] = 0.60637444F;
-		relShowdownProb[2275] = 0.6162136F;
-		relShowdownProb[2276] = 0.64053047F;
-		relShowdownProb[2285] = 0.53974915F;
-		relShowdownProb[2286] = 0.75902224F;
-		relShowdownProb[2289] = 0.522882F;
-		relShowdownProb[2290] = 0.6437633F;
-		relShowdownProb[2291] = 0.67468643F;
-		relShowdownProb[2294] = 0.522882F;
-		relShowdownProb[2295] = 0.62127376F;
-		relShowdownProb[2296] = 0.67328084F;
-		relShowdownProb[2297] = 0.65407103F;
-		relShowdownProb[2300] = 0.66625285F;
-		relShowdownProb[2301] = 0.6128402F;
-		relShowdownProb[2302] = 0.61986816F;
-		relShowdownProb[2303] = 0.61312133F;
-		relShowdownProb[2304] = 0.618061F;
-		relShowdownProb[2307] = 0.58191705F;
-		relShowdownProb[2308] = 0.62689614F;
-		relShowdownProb[2309] = 0.62267935F;
-		relShowdownProb[2310] = 0.61565137F;
-		relShowdownProb[2311] = 0.63251853F;
-		relShowdownProb[2312] = 0.67348164F;
-		relShowdownProb[2315] = 0.63251853F;
-		relShowdownProb[2316] = 0.66625285F;
-		relShowdownProb[2317] = 0.7196655F;
-		relShowdownProb[2318] = 0.659506F;
-		relShowdownProb[2319] = 0.6611927F;
-		relShowdownProb[2320] = 0.7096256F;
-		relShowdownProb[2321] = 0.75964695F;
-		relShowdownProb[2330] = 0.75902224F;
-		relShowdownProb[2331] = 0.81805736F;
-		relShowdownProb[2334] = 0.7674558F;
-		relShowdownProb[2335] = 0.7224767F;
-		relShowdownProb[2336] = 0.7876964F;
-		relShowdownProb[2339] = 0.5987842F;
-		relShowdownProb[2340] = 0.75902224F;
-		relShowdownProb[2341] = 0.76042783F;
-		relShowdownProb[2342] = 0.7280991F;
-		relShowdownProb[2345] = 0.67468643F;
-		relShowdownProb[2346] = 0.7758894F;
-		relShowdownProb[2347] = 0.75199425F;
-		relShowdownProb[2348] = 0.7522754F;
-		relShowdownProb[2349] = 0.7909494F;
-		relShowdownProb[2352] = 0.7252879F;
-		relShowdownProb[2353] = 0.8068126F;
-		relShowdownProb[2354] = 0.76042783F;
-		relShowdownProb[2355] = 0.8146839F;
-		relShowdownProb[2356] = 0.8096238F;
-		relShowdownProb[2357] = 0.8228765F;
-		relShowdownProb[2360] = 0.61565137F;
-		relShowdownProb[2361] = 0.784323F;
-		relShowdownProb[2362] = 0.8770924F;
-		relShowdownProb[2363] = 0.8003468F;
-		relShowdownProb[2364] = 0.82649094F;
-		relShowdownProb[2365] = 0.863438F;
-		relShowdownProb[2366] = 0.9189591F;
-		relShowdownProb[2369] = 0.82649094F;
-		relShowdownProb[2370] = 0.9276939F;
-		relShowdownProb[2371] = 0.8981764F;
-		relShowdownProb[2372] = 0.96395826F;
-		relShowdownProb[2373] = 0.8523539F;
-		relShowdownProb[2374] = 0.940545F;
-		relShowdownProb[2375] = 0.9999817F;
-		relShowdownProb[2376] = 1.0679322F;
-		relShowdownProb[2392] = 0.66625285F;
-		relShowdownProb[2395] = 0.6578193F;
-		relShowdownProb[2396] = 0.8770924F;
-		relShowdownProb[2402] = 0.6409521F;
-		relShowdownProb[2405] = 0.4891477F;
-		relShowdownProb[2406] = 0.7421551F;
-		relShowdownProb[2409] = 0.62408495F;
-		relShowdownProb[2410] = 0.6774976F;
-		relShowdownProb[2411] = 0.7955678F;
-		relShowdownProb[2417] = 0.5144484F;
-		relShowdownProb[2420] = 0.61565137F;
-		relShowdownProb[2421] = 0.7379383F;
-		relShowdownProb[2424] = 0.5144484F;
-		relShowdownProb[2425] = 0.6999872F;
-		relShowdownProb[2426] = 0.7876964F;
-		relShowdownProb[2429] = 0.4469798F;
-		relShowdownProb[2430] = 0.5678611F;
-		relShowdownProb[2431] = 0.6957704F;
-		relShowdownProb[2432] = 0.7955678F;
-		relShowdownProb[2438] = 0.46384695F;
-		relShowdownProb[2441] = 0.6409521F;
-		relShowdownProb[2442] = 0.6114346F;
-		relShowdownProb[2445] = 0.61565137F;
-		relShowdownProb[2446] = 0.62408495F;
-		relShowdownProb[2447] = 0.67468643F;
-		relShowdownProb[2450] = 0.6409521F;
-		relShowdownProb[2451] = 0.57348347F;
-		relShowdownProb[2452] = 0.697176F;
-		relShowdownProb[2453] = 0.755274F;
-		relShowdownProb[2456] = 0.45541337F;
-		relShowdownProb[2457] = 0.5256932F;
-		relShowdownProb[2458] = 0.62549055F;
-		relShowdownProb[2459] = 0.6881802F;
-		relShowdownProb[2460] = 0.6097479F;
-		relShowdownProb[2466] = 0.57348347F;
-		relShowdownProb[2469] = 0.4469798F;
-		relShowdownProb[2470] = 0.6114346F;
-		relShowdownProb[2473] = 0.5144484F;
-		relShowdownProb[2474] = 0.68312F;
-		relShowdownProb[2475] = 0.70673406F;
-		relShowdownProb[2478] = 0.5144484F;
-		relShowdownProb[2479] = 0.5650499F;
-		relShowdownProb[2480] = 0.5664555F;
-		relShowdownProb[2481] = 0.6765606F;
-		relShowdownProb[2484] = 0.61565137F;
-		relShowdownProb[2485] = 0.58472824F;
-		relShowdownProb[2486] = 0.595973F;
-		relShowdownProb[2487] = 0.6797466F;
-		relShowdownProb[2488] = 0.701192F;
-		relShowdownProb[2491] = 0.4469798F;
-		relShowdownProb[2492] = 0.6072178F;
-		relShowdownProb[2493] = 0.62689614F;
-		relShowdownProb[2494] = 0.65528923F;
-		relShowdownProb[2495] = 0.67131305F;
-		relShowdownProb[2496] = 0.7016739F;
-		relShowdownProb[2502] = 0.62408495F;
-		relShowdownProb[2505] = 0.6915536F;
-		relShowdownProb[2506] = 0.7379383F;
-		relShowdownProb[2509] = 0.49758127F;
-		relShowdownProb[2510] = 0.67187524F;
-		relShowdownProb[2511] = 0.7252879F;
-		relShowdownProb[2514] = 0.4469798F;
-		relShowdownProb[2515] = 0.58753943F;
-		relShowdownProb[2516] = 0.62127376F;
-		relShowdownProb[2517] = 0.7290362F;
-		relShowdownProb[2520] = 0.4469798F;
-		relShowdownProb[2521] = 0.53974915F;
-		relShowdownProb[2522] = 0.6578193F;
-		relShowdownProb[2523] = 0.7075774F;
-		relShowdownProb[2524] = 0.7445647F;
-		relShowdownProb[2527] = 0.49758127F;
-		relShowdownProb[2528] = 0.595973F;
-		relShowdownProb[2529] = 0.70842075F;
-		relShowdownProb[2530] = 0.6738431F;
-		relShowdownProb[2531] = 0.7292236F;
-		relShowdownProb[2532] = 0.7455285F;
-		relShowdownProb[2535] = 0.5650499F;
-		relShowdownProb[2536] = 0.6578193F;
-		relShowdownProb[2537] = 0.67046964F;
-		relShowdownProb[2538] = 0.6999872F;
-		relShowdownProb[2539] = 0.7275369F;
-		relShowdownProb[2540] = 0.7851262F;
-		relShowdownProb[2541] = 0.8093114F;
-		relShowdownProb[2550] = 0.6578193F;
-		relShowdownProb[2551] = 0.8433581F;
-		relShowdownProb[2554] = 0.7252879F;
-		relShowdownProb[2555] = 0.8546029F;
-		relShowdownProb[2556] = 0.920947F;
-		relShowdownProb[2559] = 0.57348347F;
-		relShowdownProb[2560] = 0.71123195F;
-		relShowdownProb[2561] = 0.86163086F;
-		relShowdownProb[2562] = 0.83586156F;
-		relShowdownProb[2565] = 0.7337215F;
-		relShowdownProb[2566] = 0.7674558F;
-		relShowdownProb[2567] = 0.8321133F;
-		relShowdownProb[2568] = 0.873719F;
-		relShowdownProb[2569] = 0.882514F;
-		relShowdownProb[2572] = 0.81805736F;
-		relShowdownProb[2573] = 0.71404314F;
-		relShowdownProb[2574] = 0.8447637F;
-		relShowdownProb[2575] = 0.86359864F;
-		relShowdownProb[2576] = 0.85628957F;
-		relShowdownProb[2577] = 0.90618825F;
-		relShowdownProb[2580] = 0.7421551F;
-		relShowdownProb[2581] = 0.71123195F;
-		relShowdownProb[2582] = 0.8770924F;
-		relShowdownProb[2583] = 0.87793577F;
-		relShowdownProb[2584] = 0.8928351F;
-		relShowdownProb[2585] = 0.9228747F;
-		relShowdownProb[2586] = 0.9734762F;
-		relShowdownProb[2589] = 0.9614282F;
-		relShowdownProb[2590] = 0.9276939F;
-		relShowdownProb[2591] = 0.8939596F;
-		relShowdownProb[2592] = 0.92179036F;
-		relShowdownProb[2593] = 0.9524324F;
-		relShowdownProb[2594] = 0.9839178F;
-		relShowdownProb[2595] = 1.0541975F;
-		relShowdownProb[2596] = 1.134678F;
-		relShowdownProb[2612] = 0.5650499F;
-		relShowdownProb[2615] = 0.53974915F;
-		relShowdownProb[2616] = 0.7927566F;
-		relShowdownProb[2622] = 0.61565137F;
-		relShowdownProb[2625] = 0.58191705F;
-		relShowdownProb[2626] = 0.7730782F;
-		relShowdownProb[2629] = 0.5987842F;
-		relShowdownProb[2630] = 0.74777746F;
-		relShowdownProb[2631] = 0.8461693F;
-		relShowdownProb[2637] = 0.6578193F;
-		relShowdownProb[2640] = 0.5987842F;
-		relShowdownProb[2641] = 0.62408495F;
-		relShowdownProb[2644] = 0.6578193F;
-		relShowdownProb[2645] = 0.66906404F;
-		relShowdownProb[2646] = 0.82817763F;
-		relShowdownProb[2649] = 0.66625285F;
-		relShowdownProb[2650] = 0.7646446F;
-		relShowdownProb[2651] = 0.75902224F;
-		relShowdownProb[2652] = 0.9164491F;
-		relShowdownProb[2658] = 0.47228053F;
-		relShowdownProb[2661] = 0.5481827F;
-		relShowdownProb[2662] = 0.6887424F;
-		relShowdownProb[2665] = 0.57348347F;
-		relShowdownProb[2666] = 0.67187524F;
-		relShowdownProb[2667] = 0.75058866F;
-		relShowdownProb[2670] = 0.6915536F;
-		relShowdownProb[2671] = 0.6072178F;
-		relShowdownProb[2672] = 0.70279837F;
-		relShowdownProb[2673] = 0.8030643F;
-		relShowdownProb[2676] = 0.7337215F;
-		relShowdownProb[2677] = 0.54256034F;
-		relShowdownProb[2678] = 0.67328084F;
-		relShowdownProb[2679] = 0.7438418F;
-		relShowdownProb[2680] = 0.8813092F;
-		relShowdownProb[2686] = 0.47228053F;
-		relShowdownProb[2689] = 0.522882F;
-		relShowdownProb[2690] = 0.66906404F;
-		relShowdownProb[2693] = 0.70842075F;
-		relShowdownProb[2694] = 0.6915536F;
-		relShowdownProb[2695] = 0.7539621F;
-		relShowdownProb[2698] = 0.6578193F;
-		relShowdownProb[2699] = 0.6465745F;
-		relShowdownProb[2700] = 0.68312F;
-		relShowdownProb[2701] = 0.7665188F;
-		relShowdownProb[2704] = 0.61565137F;
-		relShowdownProb[2705] = 0.6128402F;
-		relShowdownProb[2706] = 0.6521969F;
-		relShowdownProb[2707] = 0.716011F;
-		relShowdownProb[2708] = 0.8156477F;
-		relShowdownProb[2711] = 0.5987842F;
-		relShowdownProb[2712] = 0.57348347F;
-		relShowdownProb[2713] = 0.62830174F;
-		relShowdownProb[2714] = 0.68059F;
-		relShowdownProb[2715] = 0.8304266F;
-		relShowdownProb[2716] = 0.79388106F;
-		relShowdownProb[2722] = 0.522882F;
-		relShowdownProb[2725] = 0.5566163F;
-		relShowdownProb[2726] = 0.6774976F;
-		relShowdownProb[2729] = 0.5987842F;
-		relShowdownProb[2730] = 0.61565137F;
-		relShowdownProb[2731] = 0.7758894F;
-		relShowdownProb[2734] = 0.68312F;
-		relShowdownProb[2735] = 0.62127376F;
-		relShowdownProb[2736] = 0.75761664F;
-		relShowdownProb[2737] = 0.8433581F;
-		relShowdownProb[2740] = 0.5903506F;
-		relShowdownProb[2741] = 0.67468643F;
-		relShowdownProb[2742] = 0.6803088F;
-		relShowdownProb[2743] = 0.7758894F;
-		relShowdownProb[2744] = 0.7909494F;
-		relShowdownProb[2747] = 0.66625285F;
-		relShowdownProb[2748] = 0.6774976F;
-		relShowdownProb[2749] = 0.6381409F;
-		relShowdownProb[2750] = 0.7682992F;
-		relShowdownProb[2751] = 0.7933188F;
-		relShowdownProb[2752] = 0.8100454F;
-		relShowdownProb[2755] = 0.5650499F;
-		relShowdownProb[2756] = 0.63251853F;
-		relShowdownProb[2757] = 0.6789032F;
-		relShowdownProb[2758] = 0.7716726F;
-		relShowdownProb[2759] = 0.7663314F;
-		relShowdownProb[2760] = 0.8096238F;
-		relShowdownProb[2761] = 0.875843F;
-		relShowdownProb[2770] = 0.61565137F;
-		relShowdownProb[2771] = 0.86022526F;
-		relShowdownProb[2774] = 0.7674558F;
-		relShowdownProb[2775] = 0.7955678F;
-		relShowdownProb[2776] = 0.9428743F;
-		relShowdownProb[2779] = 0.8011902F;
-		relShowdownProb[2780] = 0.7955678F;
-		relShowdownProb[2781] = 0.8447637F;
-		relShowdownProb[2782] = 0.94737226F;
-		relShowdownProb[2785] = 0.8096238F;
-		relShowdownProb[2786] = 0.8068126F;
-		relShowdownProb[2787] = 0.7674558F;
-		relShowdownProb[2788] = 0.8534784F;
-		relShowdownProb[2789] = 0.9168507F;
-		relShowdownProb[2792] = 0.8096238F;
-		relShowdownProb[2793] = 0.8742812F;
-		relShowdownProb[2794] = 0.7295047F;
-		relShowdownProb[2795] = 0.8990197F;
-		relShowdownProb[2796] = 0.9310673F;
-		relShowdownProb[2797] = 0.9631149F;
-		relShowdownProb[2800] = 0.7252879F;
-		relShowdownProb[2801] = 0.7758894F;
-		relShowdownProb[2802] = 0.86163086F;
-		relShowdownProb[2803] = 0.8990197F;
-		relShowdownProb[2804] = 0.95468134F;
-		relShowdownProb[2805] = 0.9943593F;
-		relShowdownProb[2806] = 1.0295216F;
-		relShowdownProb[2809] = 0.94456106F;
-		relShowdownProb[2810] = 0.9754842F;
-		relShowdownProb[2811] = 0.89958197F;
-		relShowdownProb[2812] = 1.0052829F;
-		relShowdownProb[2813] = 1.0187765F;
-		relShowdownProb[2814] = 1.0389369F;
-		relShowdownProb[2815] = 1.1063051F;
-		relShowdownProb[2816] = 1.183111F;
-		relShowdownProb[2832] = 0.58191705F;
-		relShowdownProb[2835] = 0.67468643F;
-		relShowdownProb[2836] = 0.6493857F;
-		relShowdownProb[2842] = 0.6409521F;
-		relShowdownProb[2845] = 0.67468643F;
-		relShowdownProb[2846] = 0.7646446F;
-		relShowdownProb[2849] = 0.6578193F;
-		relShowdownProb[2850] = 0.75621104F;
-		relShowdownProb[2851] = 0.8883372F;
-		relShowdownProb[2857] = 0.53131557F;
-		relShowdownProb[2860] = 0.61565137F;
-		relShowdownProb[2861] = 0.71404314F;
-		relShowdownProb[2864] = 0.5903506F;
-		relShowdownProb[2865] = 0.6915536F;
-		relShowdownProb[2866] = 0.7646446F;
-		relShowdownProb[2869] = 0.6915536F;
-		relShowdownProb[2870] = 0.6465745F;
-		relShowdownProb[2871] = 0.878498F;
-		relShowdownProb[2872] = 0.8503861F;
-		relShowdownProb[2878] = 0.5903506F;
-		relShowdownProb[2881] = 0.6493857F;
-		relShowdownProb[2882] = 0.67187524F;
-		relShowdownProb[2885] = 0.4385462F;
-		relShowdownProb[2886] = 0.75058866F;
-		relShowdownProb[2887] = 0.7379383F;
-		relShowdownProb[2890] = 0.63251853F;
-		relShowdownProb[2891] = 0.71685433F;
-		relShowdownProb[2892] = 0.74918306F;
-		relShowdownProb[2893] = 0.8461693F;
-		relShowdownProb[2896] = 0.7252879F;
-		relShowdownProb[2897] = 0.6353297F;
-		relShowdownProb[2898] = 0.74637187F;
-		relShowdownProb[2899] = 0.829021F;
-		relShowdownProb[2900] = 0.94793445F;
-		relShowdownProb[2906] = 0.5903506F;
-		relShowdownProb[2909] = 0.5566163F;
-		relShowdownProb[2910] = 0.66906404F;
-		relShowdownProb[2913] = 0.53974915F;
-		relShowdownProb[2914] = 0.63251853F;
-		relShowdownProb[2915] = 0.7758894F;
-		relShowdownProb[2918] = 0.62408495F;
-		relShowdownProb[2919] = 0.71685433F;
-		relShowdownProb[2920] = 0.7210711F;
-		relShowdownProb[2921] = 0.8330504F;
-		relShowdownProb[2924] = 0.71685433F;
-		relShowdownProb[2925] = 0.71685433F;
-		relShowdownProb[2926] = 0.74918306F;
-		relShowdownProb[2927] = 0.82564753F;
-		relShowdownProb[2928] = 0.89757395F;
-		relShowdownProb[2931] = 0.6409521F;
-		relShowdownProb[2932] = 0.70279837F;
-		relShowdownProb[2933] = 0.66344166F;
-		relShowdownProb[2934] = 0.77082926F;
-		relShowdownProb[2935] = 0.8697833F;
-		relShowdownProb[2936] = 0.96255267F;
-		relShowdownProb[2942] = 0.6578193F;
-		relShowdownProb[2945] = 0.4385462F;
-		relShowdownProb[2946] = 0.6465745F;
-		relShowdownProb[2949] = 0.6915536F;
-		relShowdownProb[2950] = 0.6578193F;
-		relShowdownProb[2951] = 0.71825993F;
-		relShowdownProb[2954] = 0.75902224F;
-		relShowdownProb[2955] = 0.74496627F;
-		relShowdownProb[2956] = 0.78713423F;
-		relShowdownProb[2957] = 0.8480434F;
-		relShowdownProb[2960] = 0.68312F;
-		relShowdownProb[2961] = 0.7674558F;
-		relShowdownProb[2962] = 0.67468643F;
-		relShowdownProb[2963] = 0.8028769F;
-		relShowdownProb[2964] = 0.9011883F;
-		relShowdownProb[2967] = 0.6999872F;
-		relShowdownProb[2968] = 0.7646446F;
-		relShowdownProb[2969] = 0.7407495F;
-		relShowdownProb[2970] = 0.75480545F;
-		relShowdownProb[2971] = 0.8669721F;
-		relShowdownProb[2972] = 1.0402821F;
-		relShowdownProb[2975] = 0.49758127F;
-		relShowdownProb[2976] = 0.6465745F;
-		relShowdownProb[2977] = 0.7224767F;
-		relShowdownProb[2978] = 0.7623957F;
-		relShowdownProb[2979] = 0.86078745F;
-		relShowdownProb[2980] = 0.97990173F;
-		relShowdownProb[2981] = 0.9517898F;
-		relShowdownProb[2990] = 0.7927566F;
-		relShowdownProb[2991] = 0.75621104F;
-		relShowdownProb[2994] = 0.7927566F;
-		relShowdownProb[2995] = 0.7787006F;
-		relShowdownProb[2996] = 0.8799036F;
-		relShowdownProb[2999] = 0.7758894F;
-		relShowdownProb[3000] = 0.89958197F;
-		relShowdownProb[3001] = 0.8799036F;
-		relShowdownProb[3002] = 0.9745471F;
-		relShowdownProb[3005] = 0.75902224F;
-		relShowdownProb[3006] = 0.8517917F;
-		relShowdownProb[3007] = 0.85881966F;
-		relShowdownProb[3008] = 0.93444073F;
-		relShowdownProb[3009] = 1.0198609F;
-		relShowdownProb[3012] = 0.86022526F;
-		relShowdownProb[3013] = 0.8489805F;
-		relShowdownProb[3014] = 0.8869316F;
-		relShowdownProb[3015] = 0.92853725F;
-		relShowdownProb[3016] = 1.0024717F;
-		relShowdownProb[3017] = 1.0672697F;
-		relShowdownProb[3020] = 0.8349245F;
-		relShowdownProb[3021] = 0.8939596F;
-		relShowdownProb[3022] = 0.8981764F;
-		relShowdownProb[3023] = 0.96817505F;
-		relShowdownProb[3024] = 1.0547599F;
-		relShowdownProb[3025] = 1.1056023F;
-		relShowdownProb[3026] = 1.14603F;
-		relShowdownProb[3029] = 1.0710647F;
-		relShowdownProb[3030] = 0.9164491F;
-		relShowdownProb[3031] = 0.95018345F;
-		relShowdownProb[3032] = 1.0002227F;
-		relShowdownProb[3033] = 1.0592577F;
-		relShowdownProb[3034] = 1.1377302F;
-		relShowdownProb[3035] = 1.2002792F;
-		relShowdownProb[3036] = 1.3076869F;
-		relShowdownProb[3052] = 0.62408495F;
-		relShowdownProb[3055] = 0.6409521F;
-		relShowdownProb[3056] = 0.62408495F;
-		relShowdownProb[3062] = 0.6409521F;
-		relShowdownProb[3065] = 0.7337215F;
-		relShowdownProb[3066] = 0.6015954F;
-		relShowdownProb[3069] = 0.57348347F;
-		relShowdownProb[3070] = 0.6521969F;
-		relShowdownProb[3071] = 0.79781675F;
-		relShowdownProb[3077] = 0.5987842F;
-		relShowdownProb[3080] = 0.784323F;
-		relShowdownProb[3081] = 0.7365327F;
-		relShowdownProb[3084] = 0.4807141F;
-		relShowdownProb[3085] = 0.784323F;
-		relShowdownProb[3086] = 0.70982635F;
-		relShowdownProb[3089] = 0.6072178F;
-		relShowdownProb[3090] = 0.71404314F;
-		relShowdownProb[3091] = 0.8531973F;
-		relShowdownProb[3092] = 0.95440024F;
-		relShowdownProb[3098] = 0.58191705F;
-		relShowdownProb[3101] = 0.53131557F;
-		relShowdownProb[3102] = 0.6943648F;
-		relShowdownProb[3105] = 0.5060148F;
-		relShowdownProb[3106] = 0.6943648F;
-		relShowdownProb[3107] = 0.78572863F;
-		relShowdownProb[3110] = 0.75902224F;
-		relShowdownProb[3111] = 0.74777746F;
-		relShowdownProb[3112] = 0.784323F;
-		relShowdownProb[3113] = 0.8307077F;
-		relShowdownProb[3116] = 0.75058866F;
-		relShowdownProb[3117] = 0.75058866F;
-		relShowdownProb[3118] = 0.7899454F;
-		relShowdownProb[3119] = 0.96395826F;
-		relShowdownProb[3120] = 0.97913873F;
-		relShowdownProb[3126] = 0.66625285F;
-		relShowdownProb[3129] = 0.53974915F;
-		relShowdownProb[3130] = 0.75058866F;
-		relShowdownProb[3133] = 0.9614282F;
-		relShowdownProb[3134] = 0.6999872F;
-		relShowdownProb[3135] = 0.791351F;
-		relShowdownProb[3138] = 0.6915536F;
-		relShowdownProb[3139] = 0.68312F;
-		relShowdownProb[3140] = 0.7997846F;
-		relShowdownProb[3141] = 0.8231175F;
-		relShowdownProb[3144] = 0.8011902F;
-		relShowdownProb[3145] = 0.71404314F;
-		relShowdownProb[3146] = 0.7674558F;
-		relShowdownProb[3147] = 0.89986306F;
-		relShowdownProb[3148] = 1.0349208F;
-		relShowdownProb[3151] = 0.8517917F;
-		relShowdownProb[3152] = 0.8377357F;
-		relShowdownProb[3153] = 0.8967708F;
-		relShowdownProb[3154] = 0.8711889F;
-		relShowdownProb[3155] = 1.0277724F;
-		relShowdownProb[3156] = 1.1509026F;
-		relShowdownProb[3162] = 0.6409521F;
-		relShowdownProb[3165] = 0.7674558F;
-		relShowdownProb[3166] = 0.74496627F;
-		relShowdownProb[3169] = 0.7758894F;
-		relShowdownProb[3170] = 0.75621104F;
-		relShowdownProb[3171] = 0.7815118F;
-		relShowdownProb[3174] = 0.75902224F;
-		relShowdownProb[3175] = 0.75339985F;
-		relShowdownProb[3176] = 0.7618334F;
-		relShowdownProb[3177] = 0.81974405F;
-		relShowdownProb[3180] = 0.82649094F;
-		relShowdownProb[3181] = 0.7252879F;
-		relShowdownProb[3182] = 0.8349245F;
-		relShowdownProb[3183] = 0.85769516F;
-		relShowdownProb[3184] = 0.96444017F;
-		relShowdownProb[3187] = 0.82649094F;
-		relShowdownProb[3188] = 0.94456106F;
-		relShowdownProb[3189] = 0.8391413F;
-		relShowdownProb[3190] = 0.9007064F;
-		relShowdownProb[3191] = 0.96536386F;
-		relShowdownProb[3192] = 1.1655209F;
-		relShowdownProb[3195] = 0.95299464F;
-		relShowdownProb[3196] = 0.9164491F;
-		relShowdownProb[3197] = 0.8869316F;
-		relShowdownProb[3198] = 0.86781543F;
-		relShowdownProb[3199] = 0.95749253F;
-		relShowdownProb[3200] = 1.1140358F;
-		relShowdownProb[3201] = 1.2558004F;
-		relShowdownProb[3210] = 1.0120296F;
-		relShowdownProb[3211] = 0.9389387F;
-		relShowdownProb[3214] = 0.9698618F;
-		relShowdownProb[3215] = 1.045764F;
-		relShowdownProb[3216] = 0.9347219F;
-		relShowdownProb[3219] = 0.9276939F;
-		relShowdownProb[3220] = 0.8546029F;
-		relShowdownProb[3221] = 0.8869316F;
-		relShowdownProb[3222] = 0.99853593F;
-		relShowdownProb[3225] = 0.9698618F;
-		relShowdownProb[3226] = 1.0007849F;
-		relShowdownProb[3227] = 0.94737226F;
-		relShowdownProb[3228] = 1.0356437F;
-		relShowdownProb[3229] = 1.1096183F;
-		relShowdownProb[3232] = 0.9276939F;
-		relShowdownProb[3233] = 1.0092185F;
-		relShowdownProb[3234] = 1.0935543F;
-		relShowdownProb[3235] = 1.069378F;
-		relShowdownProb[3236] = 1.118855F;
-		relShowdownProb[3237] = 1.2186524F;
-		relShowdownProb[3240] = 1.0879319F;
-		relShowdownProb[3241] = 0.9811066F;
-		relShowdownProb[3242] = 1.0612255F;
-		relShowdownProb[3243] = 1.0381738F;
-		relShowdownProb[3244] = 1.1126704F;
-		relShowdownProb[3245] = 1.2212628F;
-		relShowdownProb[3246] = 1.3993497F;
-		relShowdownProb[3249] = 0.9276939F;
-		relShowdownProb[3250] = 1.0851207F;
-		relShowdownProb[3251] = 1.1582117F;
-		relShowdownProb[3252] = 1.1039557F;
-		relShowdownProb[3253] = 1.2043153F;
-		relShowdownProb[3254] = 1.2433507F;
-		relShowdownProb[3255] = 1.4297931F;
-		relShowdownProb[3256] = 1.4340099F;
-		relShowdownProb[3272] = 0.66625285F;
-		relShowdownProb[3275] = 0.6578193F;
-		relShowdownProb[3276] = 0.70842075F;
-		relShowdownProb[3282] = 0.71685433F;
-		relShowdownProb[3285] = 0.5650499F;
-		relShowdownProb[3286] = 0.7280991F;
-		relShowdownProb[3289] = 0.6915536F;
-		relShowdownProb[3290] = 0.6915536F;
-		relShowdownProb[3291] = 0.76408243F;
-		relShowdownProb[3297] = 0.6409521F;
-		relShowdownProb[3300] = 0.7421551F;
-		relShowdownProb[3301] = 0.8377357F;
-		relShowdownProb[3304] = 0.58191705F;
-		relShowdownProb[3305] = 0.770267F;
-		relShowdownProb[3306] = 0.8011902F;
-		relShowdownProb[3309] = 0.66625285F;
-		relShowdownProb[3310] = 0.7280991F;
-		relShowdownProb[3311] = 0.75621104F;
-		relShowdownProb[3312] = 0.8546029F;
-		relShowdownProb[3318] = 0.75902224F;
-		relShowdownProb[3321] = 0.8433581F;
-		relShowdownProb[3322] = 0.82367975F;
-		relShowdownProb[3325] = 0.8349245F;
-		relShowdownProb[3326] = 0.75058866F;
-		relShowdownProb[3327] = 0.75902224F;
-		relShowdownProb[3330] = 0.63251853F;
-		relShowdownProb[3331] = 0.7421551F;
-		relShowdownProb[3332] = 0.8419525F;
-		relShowdownProb[3333] = 0.840828F;
-		relShowdownProb[3336] = 0.784323F;
-		relShowdownProb[3337] = 0.7674558F;
-		relShowdownProb[3338] = 0.86725324F;
-		relShowdownProb[3339] = 0.965645F;
-		relShowdownProb[3340] = 1.0735948F;
-		relShowdownProb[3346] = 0.7252879F;
-		relShowdownProb[3349] = 0.71685433F;
-		relShowdownProb[3350] = 0.8040014F;
-		relShowdownProb[3353] = 0.7674558F;
-		relShowdownProb[3354] = 0.7899454F;
-		relShowdownProb[3355] = 0.86163086F;
-		relShowdownProb[3358] = 0.86865884F;
-		relShowdownProb[3359] = 0.7787006F;
-		relShowdownProb[3360] = 0.8799036F;
-		relShowdownProb[3361] = 0.8534784F;
-		relShowdownProb[3364] = 0.75058866F;
-		relShowdownProb[3365] = 0.885526F;
-		relShowdownProb[3366] = 0.78713423F;
-		relShowdownProb[3367] = 0.8888994F;
-		relShowdownProb[3368] = 1.02215F;
-		relShowdownProb[3371] = 0.86022526F;
-		relShowdownProb[3372] = 0.9361275F;
-		relShowdownProb[3373] = 0.95580584F;
-		relShowdownProb[3374] = 0.9740786F;
-		relShowdownProb[3375] = 1.1104214F;
-		relShowdownProb[3376] = 1.274033F;
-		relShowdownProb[3382] = 0.8433581F;
-		relShowdownProb[3385] = 0.7421551F;
-		relShowdownProb[3386] = 0.8040014F;
-		relShowdownProb[3389] = 0.6999872F;
-		relShowdownProb[3390] = 0.9164491F;
-		relShowdownProb[3391] = 0.8433581F;
-		relShowdownProb[3394] = 0.8349245F;
-		relShowdownProb[3395] = 0.9164491F;
-		relShowdownProb[3396] = 0.85881966F;
-		relShowdownProb[3397] = 0.89058614F;
-		relShowdownProb[3400] = 0.7927566F;
-		relShowdownProb[3401] = 0.7927566F;
-		relShowdownProb[3402] = 0.86163086F;
-		relShowdownProb[3403] = 0.92010367F;
-		relShowdownProb[3404] = 1.0249612F;
-		relShowdownProb[3407] = 1.1975684F;
-		relShowdownProb[3408] = 0.89958197F;
-		relShowdownProb[3409] = 0.91504353F;
-		relShowdownProb[3410] = 0.99431914F;
-		relShowdownProb[3411] = 1.0772494F;
-		relShowdownProb[3412] = 1.2224475F;
-		relShowdownProb[3415] = 0.91082674F;
-		relShowdownProb[3416] = 0.8883372F;
-		relShowdownProb[3417] = 1.0949599F;
-		relShowdownProb[3418] = 1.0322703F;
-		relShowdownProb[3419] = 1.0508242F;
-		relShowdownProb[3420] = 1.22809F;
-		relShowdownProb[3421] = 1.4477646F;
-		relShowdownProb[3430] = 0.86022526F;
-		relShowdownProb[3431] = 1.0260856F;
-		relShowdownProb[3434] = 1.1469669F;
-		relShowdownProb[3435] = 0.885526F;
-		relShowdownProb[3436] = 0.9290995F;
-		relShowdownProb[3439] = 1.2566035F;
-		relShowdownProb[3440] = 0.9220715F;
-		relShowdownProb[3441] = 1.0570087F;
-		relShowdownProb[3442] = 1.0238367F;
-		relShowdownProb[3445] = 0.9361275F;
-		relShowdownProb[3446] = 1.1019878F;
-		relShowdownProb[3447] = 0.99094576F;
-		relShowdownProb[3448] = 1.1528705F;
-		relShowdownProb[3449] = 1.0766871F;
-		relShowdownProb[3452] = 0.98672897F;
-		relShowdownProb[3453] = 1.0626311F;
-		relShowdownProb[3454] = 1.125883F;
-		relShowdownProb[3455] = 1.1773279F;
-		relShowdownProb[3456] = 1.2228692F;
-		relShowdownProb[3457] = 1.327024F;
-		relShowdownProb[3460] = 1.1132326F;
-		relShowdownProb[3461] = 1.1441557F;
-		relShowdownProb[3462] = 1.1371278F;
-		relShowdownProb[3463] = 1.1807013F;
-		relShowdownProb[3464] = 1.1790146F;
-		relShowdownProb[3465] = 1.3321042F;
-		relShowdownProb[3466] = 1.540534F;
-		relShowdownProb[3469] = 1.1385334F;
-		relShowdownProb[3470] = 1.279093F;
-		relShowdownProb[3471] = 1.1961628F;
-		relShowdownProb[3472] = 1.2169657F;
-		relShowdownProb[3473] = 1.2667239F;
-		relShowdownProb[3474] = 1.315237F;
-		relShowdownProb[3475] = 1.5442488F;
-		relShowdownProb[3476] = 1.5942479F;
-		relShowdownProb[3492] = 0.7252879F;
-		relShowdownProb[3495] = 0.62408495F;
-		relShowdownProb[3496] = 0.7379383F;
-		relShowdownProb[3502] = 0.67468643F;
-		relShowdownProb[3505] = 0.784323F;
-		relShowdownProb[3506] = 0.75339985F;
-		relShowdownProb[3509] = 0.6072178F;
-		relShowdownProb[3510] = 0.7337215F;
-		relShowdownProb[3511] = 0.7337215F;
-		relShowdownProb[3517] = 0.6915536F;
-		relShowdownProb[3520] = 0.6409521F;
-		relShowdownProb[3521] = 0.7365327F;
-		relShowdownProb[3524] = 0.58191705F;
-		relShowdownProb[3525] = 0.7393439F;
-		relShowdownProb[3526] = 0.74918306F;
-		relShowdownProb[3529] = 0.7421551F;
-		relShowdownProb[3530] = 0.66625285F;
-		relShowdownProb[3531] = 0.78713423F;
-		relShowdownProb[3532] = 0.8461693F;
-		relShowdownProb[3538] = 0.8096238F;
-		relShowdownProb[3541] = 0.75902224F;
-		relShowdownProb[3542] = 0.71123195F;
-		relShowdownProb[3545] = 0.6999872F;
-		relShowdownProb[3546] = 0.7224767F;
-		relShowdownProb[3547] = 0.86303645F;
-		relShowdownProb[3550] = 0.7337215F;
-		relShowdownProb[3551] = 0.86022526F;
-		relShowdownProb[3552] = 0.8349245F;
-		relShowdownProb[3553] = 0.86865884F;
-		relShowdownProb[3556] = 0.7927566F;
-		relShowdownProb[3557] = 0.8011902F;
-		relShowdownProb[3558] = 0.86584765F;
-		relShowdownProb[3559] = 0.876249F;
-		relShowdownProb[3560] = 1.0385352F;
-		relShowdownProb[3566] = 0.71685433F;
-		relShowdownProb[3569] = 0.8011902F;
-		relShowdownProb[3570] = 0.885526F;
-		relShowdownProb[3573] = 0.7674558F;
-		relShowdownProb[3574] = 0.82649094F;
-		relShowdownProb[3575] = 0.8377357F;
-		relShowdownProb[3578] = 0.9614282F;
-		relShowdownProb[3579] = 0.7730782F;
-		relShowdownProb[3580] = 0.8433581F;
-		relShowdownProb[3581] = 0.8939596F;
-		relShowdownProb[3584] = 0.91082674F;
-		relShowdownProb[3585] = 0.9192603F;
-		relShowdownProb[3586] = 0.9319107F;
-		relShowdownProb[3587] = 0.9361275F;
-		relShowdownProb[3588] = 1.0536354F;
-		relShowdownProb[3591] = 0.9782954F;
-		relShowdownProb[3592] = 1.0232744F;
-		relShowdownProb[3593] = 0.99656814F;
-		relShowdownProb[3594] = 0.99684924F;
-		relShowdownProb[3595] = 1.1059235F;
-		relShowdownProb[3596] = 1.2594147F;
-		relShowdownProb[3602] = 1.0288968F;
-		relShowdownProb[3605] = 1.0035961F;
-		relShowdownProb[3606] = 0.98954016F;
-		relShowdownProb[3609] = 0.9782954F;
-		relShowdownProb[3610] = 0.9220715F;
-		relShowdownProb[3611] = 0.9333163F;
-		relShowdownProb[3614] = 0.8433581F;
-		relShowdownProb[3615] = 0.9220715F;
-		relShowdownProb[3616] = 0.8770924F;
-		relShowdownProb[3617] = 0.93697083F;
-		relShowdownProb[3620] = 0.8096238F;
-		relShowdownProb[3621] = 0.95299464F;
-		relShowdownProb[3622] = 0.9782954F;
-		relShowdownProb[3623] = 0.98672897F;
-		relShowdownProb[3624] = 1.0384549F;
-		relShowdownProb[3627] = 1.1132326F;
-		relShowdownProb[3628] = 1.0682535F;
-		relShowdownProb[3629] = 0.972673F;
-		relShowdownProb[3630] = 1.0449207F;
-		relShowdownProb[3631] = 1.1362845F;
-		relShowdownProb[3632] = 1.3064018F;
-		relShowdownProb[3635] = 0.9782954F;
-		relShowdownProb[3636] = 1.017652F;
-		relShowdownProb[3637] = 1.1062046F;
-		relShowdownProb[3638] = 1.1570873F;
-		relShowdownProb[3639] = 1.1835124F;
-		relShowdownProb[3640] = 1.3023858F;
-		relShowdownProb[3641] = 1.4847118F;
-		relShowdownProb[3650] = 0.9782954F;
-		relShowdownProb[3651] = 1.0654423F;
-		relShowdownProb[3654] = 0.8939596F;
-		relShowdownProb[3655] = 0.99797374F;
-		relShowdownProb[3656] = 1.052792F;
-		relShowdownProb[3659] = 1.2819042F;
-		relShowdownProb[3660] = 1.0682535F;
-		relShowdownProb[3661] = 1.2017852F;
-		relShowdownProb[3662] = 1.1225096F;
-		relShowdownProb[3665] = 0.9698618F;
-		relShowdownProb[3666] = 1.1975684F;
-		relShowdownProb[3667] = 1.0682535F;
-		relShowdownProb[3668] = 1.1908216F;
-		relShowdownProb[3669] = 1.2425475F;
-		relShowdownProb[3672] = 1.1891348F;
-		relShowdownProb[3673] = 1.1891348F;
-		relShowdownProb[3674] = 1.2158412F;
-		relShowdownProb[3675] = 1.229616F;
-		relShowdownProb[3676] = 1.3133897F;
-		relShowdownProb[3677] = 1.3533889F;
-		relShowdownProb[3680] = 1.1216662F;
-		relShowdownProb[3681] = 1.2650371F;
-		relShowdownProb[3682] = 1.227086F;
-		relShowdownProb[3683] = 1.2346762F;
-		relShowdownProb[3684] = 1.3100162F;
-		relShowdownProb[3685] = 1.3955568F;
-		relShowdownProb[3686] = 1.6489213F;
-		relShowdownProb[3689] = 1.2566035F;
-		relShowdownProb[3690] = 1.3690512F;
-		relShowdownProb[3691] = 1.3831072F;
-		relShowdownProb[3692] = 1.3949143F;
-		relShowdownProb[3693] = 1.4348332F;
-		relShowdownProb[3694] = 1.4650334F;
-		relShowdownProb[3695] = 1.680391F;
-		relShowdownProb[3696] = 1.7421368F;
-		relShowdownProb[3712] = 0.7337215F;
-		relShowdownProb[3715] = 0.885526F;
-		relShowdownProb[3716] = 0.7969734F;
-		relShowdownProb[3722] = 0.9614282F;
-		relShowdownProb[3725] = 0.7252879F;
-		relShowdownProb[3726] = 0.82649094F;
-		relShowdownProb[3729] = 0.7421551F;
-		relShowdownProb[3730] = 0.7758894F;
-		relShowdownProb[3731] = 0.8163706F;
-		relShowdownProb[3737] = 0.7674558F;
-		relShowdownProb[3740] = 0.71685433F;
-		relShowdownProb[3741] = 0.89958197F;
-		relShowdownProb[3744] = 0.7337215F;
-		relShowdownProb[3745] = 0.8546029F;
-		relShowdownProb[3746] = 0.87287563F;
-		relShowdownProb[3749] = 0.86022526F;
-		relShowdownProb[3750] = 0.74777746F;
-		relShowdownProb[3751] = 0.8363301F;
-		relShowdownProb[3752] = 0.9220715F;
-		relShowdownProb[3758] = 0.8349245F;
-		relShowdownProb[3761] = 0.784323F;
-		relShowdownProb[3762] = 0.91363794F;
-		relShowdownProb[3765] = 0.8011902F;
-		relShowdownProb[3766] = 0.7955678F;
-		relShowdownProb[3767] = 0.9178547F;
-		relShowdownProb[3770] = 0.82649094F;
-		relShowdownProb[3771] = 0.812435F;
-		relShowdownProb[3772] = 0.85600847F;
-		relShowdownProb[3773] = 0.9428743F;
-		relShowdownProb[3776] = 0.86865884F;
-		relShowdownProb[3777] = 0.9417499F;
-		relShowdownProb[3778] = 0.9670506F;
-		relShowdownProb[3779] = 0.97492194F;
-		relShowdownProb[3780] = 1.0554024F;
-		relShowdownProb[3786] = 0.9698618F;
-		relShowdownProb[3789] = 0.784323F;
-		relShowdownProb[3790] = 0.91363794F;
-		relShowdownProb[3793] = 0.784323F;
-		relShowdownProb[3794] = 0.8517917F;
-		relShowdownProb[3795] = 0.9417499F;
-		relShowdownProb[3798] = 0.9614282F;
-		relShowdownProb[3799] = 0.8827148F;
-		relShowdownProb[3800] = 0.91363794F;
-		relShowdownProb[3801] = 1.0120296F;
-		relShowdownProb[3804] = 0.8939596F;
-		relShowdownProb[3805] = 0.9698618F;
-		relShowdownProb[3806] = 0.9684562F;
-		relShowdownProb[3807] = 1.0364871F;
-		relShowdownProb[3808] = 1.0806228F;
-		relShowdownProb[3811] = 0.99516255F;
-		relShowdownProb[3812] = 1.0879319F;
-		relShowdownProb[3813] = 1.0471696F;
-		relShowdownProb[3814] = 1.1326299F;
-		relShowdownProb[3815] = 1.132911F;
-		relShowdownProb[3816] = 1.2789525F;
-		relShowdownProb[3822] = 0.95299464F;
-		relShowdownProb[3825] = 0.8433581F;
-		relShowdownProb[3826] = 1.0513864F;
-		relShowdownProb[3829] = 0.885526F;
-		relShowdownProb[3830] = 1.0401416F;
-		relShowdownProb[3831] = 1.0148408F;
-		relShowdownProb[3834] = 1.0288968F;
-		relShowdownProb[3835] = 1.0738759F;
-		relShowdownProb[3836] = 1.0303024F;
-		relShowdownProb[3837] = 1.1191362F;
-		relShowdownProb[3840] = 0.8433581F;
-		relShowdownProb[3841] = 0.99797374F;
-		relShowdownProb[3842] = 0.9698618F;
-		relShowdownProb[3843] = 1.0609444F;
-		relShowdownProb[3844] = 1.0772494F;
-		relShowdownProb[3847] = 1.0204632F;
-		relShowdownProb[3848] = 1.2172468F;
-		relShowdownProb[3849] = 1.0963655F;
-		relShowdownProb[3850] = 1.1747978F;
-		relShowdownProb[3851] = 1.1334733F;
-		relShowdownProb[3852] = 1.2927475F;
-		relShowdownProb[3855] = 1.2397363F;
-		relShowdownProb[3856] = 1.1807013F;
-		relShowdownProb[3857] = 1.104799F;
-		relShowdownProb[3858] = 1.2793742F;
-		relShowdownProb[3859] = 1.1835124F;
-		relShowdownProb[3860] = 1.372264F;
-		relShowdownProb[3861] = 1.5124221F;
-		relShowdownProb[3870] = 1.045764F;
-		relShowdownProb[3871] = 1.2425475F;
-		relShowdownProb[3874] = 1.104799F;
-		relShowdownProb[3875] = 1.1863236F;
-		relShowdownProb[3876] = 1.2664427F;
-		relShowdownProb[3879] = 1.1807013F;
-		relShowdownProb[3880] = 1.3184497F;
-		relShowdownProb[3881] = 1.1722677F;
-		relShowdownProb[3882] = 1.2456399F;
-		relShowdownProb[3885] = 1.1216662F;
-		relShowdownProb[3886] = 1.3156385F;
-		relShowdownProb[3887] = 1.2467643F;
-		relShowdownProb[3888] = 1.2776874F;
-		relShowdownProb[3889] = 1.3285701F;
-		relShowdownProb[3892] = 1.2650371F;
-		relShowdownProb[3893] = 1.2847154F;
-		relShowdownProb[3894] = 1.2425475F;
-		relShowdownProb[3895] = 1.4252751F;
-		relShowdownProb[3896] = 1.3713002F;
-		relShowdownProb[3897] = 1.4413391F;
-		relShowdownProb[3900] = 1.467443F;
-		relShowdownProb[3901] = 1.3774848F;
-		relShowdownProb[3902] = 1.3634288F;
-		relShowdownProb[3903] = 1.4050345F;
-		relShowdownProb[3904] = 1.4663186F;
-		relShowdownProb[3905] = 1.4481663F;
-		relShowdownProb[3906] = 1.6791861F;
-		relShowdownProb[3909] = 1.467443F;
-		relShowdownProb[3910] = 1.4224639F;
-		relShowdownProb[3911] = 1.4070023F;
-		relShowdownProb[3912] = 1.4615395F;
-		relShowdownProb[3913] = 1.4882458F;
-		relShowdownProb[3914] = 1.5831035F;
-		relShowdownProb[3915] = 1.837617F;
-		relShowdownProb[3916] = 1.7912323F;
-		relShowdownProb[3935] = 1.1891348F;
-		relShowdownProb[3936] = 1.307205F;
-		relShowdownProb[3945] = 1.104799F;
-		relShowdownProb[3946] = 1.1385334F;
-		relShowdownProb[3949] = 1.1638341F;
-		relShowdownProb[3950] = 1.1244774F;
-		relShowdownProb[3951] = 1.2127489F;
-		relShowdownProb[3960] = 1.1975684F;
-		relShowdownProb[3961] = 1.2678483F;
-		relShowdownProb[3964] = 1.1385334F;
-		relShowdownProb[3965] = 1.2256804F;
-		relShowdownProb[3966] = 1.1596173F;
-		relShowdownProb[3969] = 1.0963655F;
-		relShowdownProb[3970] = 1.2481699F;
-		relShowdownProb[3971] = 1.1947572F;
-		relShowdownProb[3972] = 1.3681142F;
-		relShowdownProb[3981] = 1.1469669F;
-		relShowdownProb[3982] = 1.2987714F;
-		relShowdownProb[3985] = 1.0626311F;
-		relShowdownProb[3986] = 1.1835124F;
-		relShowdownProb[3987] = 1.2819042F;
-		relShowdownProb[3990] = 1.3325057F;
-		relShowdownProb[3991] = 1.352184F;
-		relShowdownProb[3992] = 1.2045964F;
-		relShowdownProb[3993] = 1.4210583F;
-		relShowdownProb[3996] = 1.1554005F;
-		relShowdownProb[3997] = 1.2228692F;
-		relShowdownProb[3998] = 1.2762818F;
-		relShowdownProb[3999] = 1.3282889F;
-		relShowdownProb[4000] = 1.3855169F;
-		relShowdownProb[4009] = 1.3999743F;
-		relShowdownProb[4010] = 1.36624F;
-		relShowdownProb[4013] = 1.3325057F;
-		relShowdownProb[4014] = 1.3015826F;
-		relShowdownProb[4015] = 1.3057994F;
-		relShowdownProb[4018] = 1.2228692F;
-		relShowdownProb[4019] = 1.352184F;
-		relShowdownProb[4020] = 1.2748762F;
-		relShowdownProb[4021] = 1.2979281F;
-		relShowdownProb[4024] = 1.4505758F;
-		relShowdownProb[4025] = 1.3578064F;
-		relShowdownProb[4026] = 1.3029882F;
-		relShowdownProb[4027] = 1.3341925F;
-		relShowdownProb[4028] = 1.4241507F;
-		relShowdownProb[4031] = 1.3409393F;
-		relShowdownProb[4032] = 1.36624F;
-		relShowdownProb[4033] = 1.3423449F;
-		relShowdownProb[4034] = 1.3510597F;
-		relShowdownProb[4035] = 1.4528248F;
-		relShowdownProb[4036] = 1.5559956F;
-		relShowdownProb[4045] = 1.206002F;
-		relShowdownProb[4046] = 1.4252751F;
-		relShowdownProb[4049] = 1.2397363F;
-		relShowdownProb[4050] = 1.3690512F;
-		relShowdownProb[4051] = 1.4294919F;
-		relShowdownProb[4054] = 1.4337087F;
-		relShowdownProb[4055] = 1.3915408F;
-		relShowdownProb[4056] = 1.3746736F;
-		relShowdownProb[4057] = 1.4244318F;
-		relShowdownProb[4060] = 1.4168415F;
-		relShowdownProb[4061] = 1.4084079F;
-		relShowdownProb[4062] = 1.3648344F;
-		relShowdownProb[4063] = 1.4396123F;
-		relShowdownProb[4064] = 1.3713002F;
-		relShowdownProb[4067] = 1.3409393F;
-		relShowdownProb[4068] = 1.380296F;
-		relShowdownProb[4069] = 1.439331F;
-		relShowdownProb[4070] = 1.5340683F;
-		relShowdownProb[4071] = 1.4972417F;
-		relShowdownProb[4072] = 1.5923404F;
-		relShowdownProb[4075] = 1.6023804F;
-		relShowdownProb[4076] = 1.5096109F;
-		relShowdownProb[4077] = 1.4899325F;
-		relShowdownProb[4078] = 1.4699731F;
-		relShowdownProb[4079] = 1.6006936F;
-		relShowdownProb[4080] = 1.6915354F;
-		relShowdownProb[4081] = 1.8713179F;
-		relShowdownProb[4090] = 1.3493729F;
-		relShowdownProb[4091] = 1.4955549F;
-		relShowdownProb[4094] = 1.3746736F;
-		relShowdownProb[4095] = 1.3690512F;
-		relShowdownProb[4096] = 1.4477646F;
-		relShowdownProb[4099] = 1.2144356F;
-		relShowdownProb[4100] = 1.5461564F;
-		relShowdownProb[4101] = 1.4435478F;
-		relShowdownProb[4102] = 1.4902138F;
-		relShowdownProb[4105] = 1.467443F;
-		relShowdownProb[4106] = 1.4365199F;
-		relShowdownProb[4107] = 1.3648344F;
-		relShowdownProb[4108] = 1.4716598F;
-		relShowdownProb[4109] = 1.5163578F;
-		relShowdownProb[4112] = 1.4421422F;
-		relShowdownProb[4113] = 1.5096109F;
-		relShowdownProb[4114] = 1.4238695F;
-		relShowdownProb[4115] = 1.4902138F;
-		relShowdownProb[4116] = 1.5484054F;
-		relShowdownProb[4117] = 1.6308938F;
-		relShowdownProb[4120] = 1.6951498F;
-		relShowdownProb[4121] = 1.6867162F;
-		relShowdownProb[4122] = 1.5841076F;
-		relShowdownProb[4123] = 1.58973F;
-		relShowdownProb[4124] = 1.6023804F;
-		relShowdownProb[4125] = 1.6822985F;
-		relShowdownProb[4126] = 1.8809897F;
-		relShowdownProb[4129] = 1.4421422F;
-		relShowdownProb[4130] = 1.6192476F;
-		relShowdownProb[4131] = 1.6445483F;
-		relShowdownProb[4132] = 1.6167175F;
-		relShowdownProb[4133] = 1.6372391F;
-		relShowdownProb[4134] = 1.7537832F;
-		relShowdownProb[4135] = 1.9297839F;
-		relShowdownProb[4136] = 2.012915F;
-		relShowdownProb[4140] = 0.714177F;
-		relShowdownProb[4141] = 0.61478126F;
-		relShowdownProb[4142] = 0.5610339F;
-		relShowdownProb[4143] = 0.5183306F;
-		relShowdownProb[4144] = 0.55745775F;
-		relShowdownProb[4145] = 0.59479696F;
-		relShowdownProb[4146] = 0.6430048F;
-		relShowdownProb[4147] = 0.86645F;
-		relShowdownProb[4151] = 0.80252886F;
-		relShowdownProb[4152] = 0.736265F;
-		relShowdownProb[4153] = 0.58753943F;
-		relShowdownProb[4154] = 0.58017683F;
-		relShowdownProb[4155] = 0.57007945F;
-		relShowdownProb[4156] = 0.63739514F;
-		relShowdownProb[4157] = 0.66447914F;
-		relShowdownProb[4158] = 0.91363794F;
-		relShowdownProb[4160] = 1.33356F;
-		relShowdownProb[4161] = 0.7537513F;
-		relShowdownProb[4162] = 0.89986306F;
-		relShowdownProb[4163] = 0.820386F;
-		relShowdownProb[4164] = 0.6851317F;
-		relShowdownProb[4165] = 0.69361633F;
-		relShowdownProb[4166] = 0.6084763F;
-		relShowdownProb[4167] = 0.64751786F;
-		relShowdownProb[4168] = 0.740698F;
-		relShowdownProb[4169] = 0.994882F;
-		relShowdownProb[4173] = 0.714177F;
-		relShowdownProb[4174] = 0.6295066F;
-		relShowdownProb[4175] = 0.63613296F;
-		relShowdownProb[4176] = 0.6331879F;
-		relShowdownProb[4177] = 0.6226698F;
-		relShowdownProb[4178] = 0.6626385F;
-		relShowdownProb[4179] = 0.66447914F;
-		relShowdownProb[4180] = 0.88452196F;
-		relShowdownProb[4182] = 1.2175982F;
-		relShowdownProb[4183] = 0.63778955F;
-		relShowdownProb[4184] = 0.7143243F;
-		relShowdownProb[4185] = 0.7926937F;
-		relShowdownProb[4186] = 0.7489639F;
-		relShowdownProb[4187] = 0.6979245F;
-		relShowdownProb[4188] = 0.6632288F;
-		relShowdownProb[4189] = 0.7144488F;
-		relShowdownProb[4190] = 0.7261269F;
-		relShowdownProb[4191] = 0.9879143F;
-		relShowdownProb[4193] = 1.3915408F;
-		relShowdownProb[4194] = 1.3915408F;
-		relShowdownProb[4195] = 0.88770705F;
-		relShowdownProb[4196] = 0.8816925F;
-		relShowdownProb[4197] = 0.87433094F;
-		relShowdownProb[4198] = 0.7581305F;
-		relShowdownProb[4199] = 0.7855964F;
-		relShowdownProb[4200] = 0.76027894F;
-		relShowdownProb[4201] = 0.812333F;
-		relShowdownProb[4202] = 1.0683284F;
-		relShowdownProb[4206] = 0.80252886F;
-		relShowdownProb[4207] = 0.6920891F;
-		relShowdownProb[4208] = 0.72448474F;
-		relShowdownProb[4209] = 0.66558355F;
-		relShowdownProb[4210] = 0.66684574F;
-		relShowdownProb[4211] = 0.63818395F;
-		relShowdownProb[4212] = 0.6920891F;
-		relShowdownProb[4213] = 0.8859722F;
-		relShowdownProb[4215] = 0.869713F;
-		relShowdownProb[4216] = 0.6957704F;
-		relShowdownProb[4217] = 0.79781675F;
-		relShowdownProb[4218] = 0.73038584F;
-		relShowdownProb[4219] = 0.7681135F;
-		relShowdownProb[4220] = 0.66345906F;
-		relShowdownProb[4221] = 0.69525385F;
-		relShowdownProb[4222] = 0.677092F;
-		relShowdownProb[4223] = 0.71094865F;
-		relShowdownProb[4224] = 0.9208798F;
-		relShowdownProb[4226] = 1.1306269F;
-		relShowdownProb[4227] = 1.2175982F;
-		relShowdownProb[4228] = 0.84772027F;
-		relShowdownProb[4229] = 0.9046932F;
-		relShowdownProb[4230] = 0.81070596F;
-		relShowdownProb[4231] = 0.8366061F;
-		relShowdownProb[4232] = 0.75210196F;
-		relShowdownProb[4233] = 0.74645567F;
-		relShowdownProb[4234] = 0.8153372F;
-		relShowdownProb[4235] = 1.0628418F;
-		relShowdownProb[4237] = 0.7537513F;
-		relShowdownProb[4238] = 1.2175982F;
-		relShowdownProb[4239] = 1.1736733F;
-		relShowdownProb[4240] = 1.0679266F;
-		relShowdownProb[4241] = 1.0060905F;
-		relShowdownProb[4242] = 0.8592799F;
-		relShowdownProb[4243] = 0.92968893F;
-		relShowdownProb[4244] = 0.85720736F;
-		relShowdownProb[4245] = 0.9009335F;
-		relShowdownProb[4246] = 1.1143816F;
-		relShowdownProb[4249] = 0.5742867F;
-		relShowdownProb[4250] = 0.72890234F;
-		relShowdownProb[4251] = 0.7951662F;
-		relShowdownProb[4252] = 0.7399463F;
-		relShowdownProb[4253] = 0.6493857F;
-		relShowdownProb[4254] = 0.6678975F;
-		relShowdownProb[4255] = 0.6586942F;
-		relShowdownProb[4256] = 0.73197013F;
-		relShowdownProb[4257] = 0.9296573F;
-		relShowdownProb[4259] = 0.98567474F;
-		relShowdownProb[4260] = 0.6557836F;
-		relShowdownProb[4261] = 0.84420145F;
-		relShowdownProb[4262] = 0.83769375F;
-		relShowdownProb[4263] = 0.7957741F;
-		relShowdownProb[4264] = 0.7941404F;
-		relShowdownProb[4265] = 0.6993861F;
-		relShowdownProb[4266] = 0.7035531F;
-		relShowdownProb[4267] = 0.7261269F;
-		relShowdownProb[4268] = 1.0080031F;
-		relShowdownProb[4270] = 0.72476083F;
-		relShowdownProb[4271] = 0.95276666F;
-		relShowdownProb[4272] = 0.8237282F;
-		relShowdownProb[4273] = 0.87402564F;
-		relShowdownProb[4274] = 0.8004438F;
-		relShowdownProb[4275] = 0.80437505F;
-		relShowdownProb[4276] = 0.7642817F;
-		relShowdownProb[4277] = 0.78024584F;
-		relShowdownProb[4278] = 0.7858961F;
-		relShowdownProb[4279] = 1.0107133F;
-		relShowdownProb[4281] = 0.9566843F;
-		relShowdownProb[4282] = 1.128986F;
-		relShowdownProb[4283] = 1.0963655F;
-		relShowdownProb[4284] = 1.0607352F;
-		relShowdownProb[4285] = 0.9690699F;
-		relShowdownProb[4286] = 0.96463746F;
-		relShowdownProb[4287] = 0.86884016F;
-		relShowdownProb[4288] = 0.8208272F;
-		relShowdownProb[4289] = 0.89498675F;
-		relShowdownProb[4290] = 1.102893F;
-		relShowdownProb[4292] = 1.0436556F;
-		relShowdownProb[4293] = 1.0327158F;
-		relShowdownProb[4294] = 1.2163098F;
-		relShowdownProb[4295] = 1.1308385F;
-		relShowdownProb[4296] = 1.1459748F;
-		relShowdownProb[4297] = 1.0443671F;
-		relShowdownProb[4298] = 0.9541714F;
-		relShowdownProb[4299] = 0.9486418F;
-		relShowdownProb[4300] = 0.9853804F;
-		relShowdownProb[4301] = 1.1845425F;
-		relShowdownProb[4304] = 0.5521987F;
-		relShowdownProb[4305] = 0.64055055F;
-		relShowdownProb[4306] = 0.73258364F;
-		relShowdownProb[4307] = 0.80621016F;
-		relShowdownProb[4308] = 0.6552758F;
-		relShowdownProb[4309] = 0.72890234F;
-		relShowdownProb[4310] = 0.7170695F;
-		relShowdownProb[4311] = 0.72522104F;
-		relShowdownProb[4312] = 0.97825074F;
-		relShowdownProb[4314] = 0.5218278F;
-		relShowdownProb[4315] = 0.9116992F;
-		relShowdownProb[4316] = 0.7382353F;
-		relShowdownProb[4317] = 0.7926937F;
-		relShowdownProb[4318] = 0.78726315F;
-		relShowdownProb[4319] = 0.758239F;
-		relShowdownProb[4320] = 0.7262459F;
-		relShowdownProb[4321] = 0.77359706F;
-		relShowdownProb[4322] = 0.8117322F;
-		relShowdownProb[4323] = 0.99729526F;
-		relShowdownProb[4325] = 0.8117322F;
-		relShowdownProb[4326] = 0.82740265F;
-		relShowdownProb[4327] = 0.84549314F;
-		relShowdownProb[4328] = 0.8625253F;
-		relShowdownProb[4329] = 0.90306485F;
-		relShowdownProb[4330] = 0.828198F;
-		relShowdownProb[4331] = 0.7724016F;
-		relShowdownProb[4332] = 0.7794779F;
-		relShowdownProb[4333] = 0.834564F;
-		relShowdownProb[4334] = 0.99333715F;
-		relShowdownProb[4336] = 0.72476083F;
-		relShowdownProb[4337] = 0.85767925F;
-		relShowdownProb[4338] = 0.9223623F;
-		relShowdownProb[4339] = 1.1434367F;
-		relShowdownProb[4340] = 0.9255162F;
-		relShowdownProb[4341] = 0.97011054F;
-		relShowdownProb[4342] = 0.8548749F;
-		relShowdownProb[4343] = 0.84356475F;
-		relShowdownProb[4344] = 0.8735784F;
-		relShowdownProb[4345] = 1.1067225F;
-		relShowdownProb[4347] = 0.9566843F;
-		relShowdownProb[4348] = 0.88393474F;
-		relShowdownProb[4349] = 1.0154487F;
-		relShowdownProb[4350] = 1.0631236F;
-		relShowdownProb[4351] = 1.0158458F;
-		relShowdownProb[4352] = 0.9789162F;
-		relShowdownProb[4353] = 0.9826102F;
-		relShowdownProb[4354] = 0.91422737F;
-		relShowdownProb[4355] = 0.95182806F;
-		relShowdownProb[4356] = 1.1636529F;
-		relShowdownProb[4358] = 1.1306269F;
-		relShowdownProb[4359] = 0.86643106F;
-		relShowdownProb[4360] = 1.1408128F;
-		relShowdownProb[4361] = 1.2241168F;
-		relShowdownProb[4362] = 1.2213961F;
-		relShowdownProb[4363] = 1.2373881F;
-		relShowdownProb[4364] = 1.1626425F;
-		relShowdownProb[4365] = 1.0495645F;
-		relShowdownProb[4366] = 1.0885252F;
-		relShowdownProb[4367] = 1.2629822F;
-		relShowdownProb[4370] = 0.97186977F;
-		relShowdownProb[4371] = 0.6258252F;
-		relShowdownProb[4372] = 0.7436276F;
-		relShowdownProb[4373] = 0.7819134F;
-		relShowdownProb[4374] = 0.8290344F;
-		relShowdownProb[4375] = 0.78044087F;
-		relShowdownProb[4376] = 0.7328466F;
-		relShowdownProb[4377] = 0.85529447F;
-		relShowdownProb[4378] = 1.0145731F;
-		relShowdownProb[4380] = 0.57980865F;
-		relShowdownProb[4381] = 0.7197625F;
-		relShowdownProb[4382] = 0.66637164F;
-		relShowdownProb[4383] = 0.77884746F;
-		relShowdownProb[4384] = 0.84683985F;
-		relShowdownProb[4385] = 0.8357861F;
-		relShowdownProb[4386] = 0.8150896F;
-		relShowdownProb[4387] = 0.82340616F;
-		relShowdownProb[4388] = 0.8147678F;
-		relShowdownProb[4389] = 1.0615426F;
-		relShowdownProb[4391] = 1.1016365F;
-		relShowdownProb[4392] = 0.97783947F;
-		relShowdownProb[4393] = 0.8513646F;
-		relShowdownProb[4394] = 0.829698F;
-		relShowdownProb[4395] = 0.9112745F;
-		relShowdownProb[4396] = 0.88285065F;
-		relShowdownProb[4397] = 0.8576601F;
-		relShowdownProb[4398] = 0.8301631F;
-		relShowdownProb[4399] = 0.88924026F;
-		relShowdownProb[4400] = 1.1077302F;
-		relShowdownProb[4402] = 0.7827417F;
-		relShowdownProb[4403] = 0.9451975F;
-		relShowdownProb[4404] = 0.8797097F;
-		relShowdownProb[4405] = 0.8751246F;
-		relShowdownProb[4406] = 0.9581815F;
-		relShowdownProb[4407] = 0.82644117F;
-		relShowdownProb[4408] = 0.8698377F;
-		relShowdownProb[4409] = 0.9110196F;
-		relShowdownProb[4410] = 0.91936845F;
-		relShowdownProb[4411] = 1.1143816F;
-		relShowdownProb[4413] = 1.0146651F;
-		relShowdownProb[4414] = 0.84892744F;
-		relShowdownProb[4415] = 0.95276666F;
-		relShowdownProb[4416] = 1.0216376F;
-		relShowdownProb[4417] = 0.9675721F;
-		relShowdownProb[4418] = 1.0287157F;
-		relShowdownProb[4419] = 0.9325971F;
-		relShowdownProb[4420] = 0.9912858F;
-		relShowdownProb[4421] = 0.9789054F;
-		relShowdownProb[4422] = 1.2025837F;
-		relShowdownProb[4424] = 0.869713F;
-		relShowdownProb[4425] = 0.84017557F;
-		relShowdownProb[4426] = 1.1073823F;
-		relShowdownProb[4427] = 1.1034675F;
-		relShowdownProb[4428] = 1.0897365F;
-		relShowdownProb[4429] = 1.1123993F;
-		relShowdownProb[4430] = 1.1051657F;
-		relShowdownProb[4431] = 1.0281448F;
-		relShowdownProb[4432] = 1.0937698F;
-		relShowdownProb[4433] = 1.2921786F;
-		relShowdownProb[4435] = 1.0436556F;
-		relShowdownProb[4436] = 0.971453F;
-		relShowdownProb[4437] = 1.0238063F;
-		relShowdownProb[4438] = 1.0619653F;
-		relShowdownProb[4439] = 1.3018752F;
-		relShowdownProb[4440] = 1.2518442F;
-		relShowdownProb[4441] = 1.2111559F;
-		relShowdownProb[4442] = 1.1630113F;
-		relShowdownProb[4443] = 1.2513483F;
-		relShowdownProb[4444] = 1.4055543F;
-		relShowdownProb[4447] = 0.5742867F;
-		relShowdownProb[4448] = 0.6331879F;
-		relShowdownProb[4449] = 0.64791316F;
-		relShowdownProb[4450] = 0.6957704F;
-		relShowdownProb[4451] = 0.8201992F;
-		relShowdownProb[4452] = 0.9013987F;
-		relShowdownProb[4453] = 0.84880835F;
-		relShowdownProb[4454] = 0.9166499F;
-		relShowdownProb[4455] = 1.1583903F;
-		relShowdownProb[4457] = 0.869713F;
-		relShowdownProb[4458] = 0.9436886F;
-		relShowdownProb[4459] = 0.69903696F;
-		relShowdownProb[4460] = 0.78923213F;
-		relShowdownProb[4461] = 0.7957741F;
-		relShowdownProb[4462] = 0.8386583F;
-		relShowdownProb[4463] = 0.898768F;
-		relShowdownProb[4464] = 0.94948536F;
-		relShowdownProb[4465] = 0.871838F;
-		relShowdownProb[4466] = 1.1710553F;
-		relShowdownProb[4468] = 1.0436556F;
-		relShowdownProb[4469] = 0.9151575F;
-		relShowdownProb[4470] = 0.8689791F;
-		relShowdownProb[4471] = 0.76763403F;
-		relShowdownProb[4472] = 0.7758148F;
-		relShowdownProb[4473] = 0.8898574F;
-		relShowdownProb[4474] = 0.9388587F;
-		relShowdownProb[4475] = 0.97069955F;
-		relShowdownProb[4476] = 0.97335756F;
-		relShowdownProb[4477] = 1.2144005F;
-		relShowdownProb[4479] = 0.7827417F;
-		relShowdownProb[4480] = 0.88393474F;
-		relShowdownProb[4481] = 0.9863412F;
-		relShowdownProb[4482] = 0.8534784F;
-		relShowdownProb[4483] = 0.8939956F;
-		relShowdownProb[4484] = 0.9386401F;
-		relShowdownProb[4485] = 0.9985178F;
-		relShowdownProb[4486] = 0.9307256F;
-		relShowdownProb[4487] = 1.0496024F;
-		relShowdownProb[4488] = 1.240276F;
-		relShowdownProb[4490] = 0.9566843F;
-		relShowdownProb[4491] = 0.86643106F;
-		relShowdownProb[4492] = 0.9109787F;
-		relShowdownProb[4493] = 0.9453083F;
-		relShowdownProb[4494] = 0.9813621F;
-		relShowdownProb[4495] = 0.9703792F;
-		relShowdownProb[4496] = 0.9992812F;
-		relShowdownProb[4497] = 0.98829323F;
-		relShowdownProb[4498] = 1.0548397F;
-		relShowdownProb[4499] = 1.2552828F;
-		relShowdownProb[4501] = 0.9276939F;
-		relShowdownProb[4502] = 0.91894203F;
-		relShowdownProb[4503] = 0.8441179F;
-		relShowdownProb[4504] = 1.018022F;
-		relShowdownProb[4505] = 1.0983895F;
-		relShowdownProb[4506] = 1.0457388F;
-		relShowdownProb[4507] = 1.0829818F;
-		relShowdownProb[4508] = 1.1153008F;
-		relShowdownProb[4509] = 1.2120624F;
-		relShowdownProb[4510] = 1.3788263F;
-		relShowdownProb[4512] = 1.072646F;
-		relShowdownProb[4513] = 0.79641646F;
-		relShowdownProb[4514] = 0.9736607F;
-		relShowdownProb[4515] = 0.99360895F;
-		relShowdownProb[4516] = 1.0876411F;
-		relShowdownProb[4517] = 1.2586256F;
-		relShowdownProb[4518] = 1.1774576F;
-		relShowdownProb[4519] = 1.2188238F;
-		relShowdownProb[4520] = 1.2213482F;
-		relShowdownProb[4521] = 1.45647F;
-		relShowdownProb[4523] = 0.89870346F;
-		relShowdownProb[4524] = 0.9364457F;
-		relShowdownProb[4525] = 1.0447003F;
-		relShowdownProb[4526] = 1.0155807F;
-		relShowdownProb[4527] = 1.2523867F;
-		relShowdownProb[4528] = 1.473606F;
-		relShowdownProb[4529] = 1.491911F;
-		relShowdownProb[4530] = 1.3974972F;
-		relShowdownProb[4531] = 1.3985777F;
-		relShowdownProb[4532] = 1.563456F;
-		relShowdownProb[4535] = 0.6847264F;
-		relShowdownProb[4536] = 0.736265F;
-		relShowdownProb[4537] = 0.6331879F;
-		relShowdownProb[4538] = 0.786331F;
-		relShowdownProb[4539] = 0.78044087F;
-		relShowdownProb[4540] = 0.9056059F;
-		relShowdownProb[4541] = 0.9505707F;
-		relShowdownProb[4542] = 1.0473369F;
-		relShowdownProb[4543] = 1.234471F;
-		relShowdownProb[4545] = 0.6957704F;
-		relShowdownProb[4546] = 0.9276939F;
-		relShowdownProb[4547] = 0.8166319F;
-		relShowdownProb[4548] = 0.84807837F;
-		relShowdownProb[4549] = 0.8340734F;
-		relShowdownProb[4550] = 0.8271698F;
-		relShowdownProb[4551] = 0.9576528F;
-		relShowdownProb[4552] = 0.968942F;
-		relShowdownProb[4553] = 1.0649052F;
-		relShowdownProb[4554] = 1.2601256F;
-		relShowdownProb[4556] = 0.9276939F;
-		relShowdownProb[4557] = 0.8775483F;
-		relShowdownProb[4558] = 0.7926498F;
-		relShowdownProb[4559] = 0.7545679F;
-		relShowdownProb[4560] = 0.8579116F;
-		relShowdownProb[4561] = 0.88285065F;
-		relShowdownProb[4562] = 0.95408344F;
-		relShowdownProb[4563] = 1.0083295F;
-		relShowdownProb[4564] = 0.99679023F;
-		relShowdownProb[4565] = 1.2993506F;
-		relShowdownProb[4567] = 0.869713F;
-		relShowdownProb[4568] = 0.9101902F;
-		relShowdownProb[4569] = 0.87437814F;
-		relShowdownProb[4570] = 0.94315547F;
-		relShowdownProb[4571] = 0.94949865F;
-		relShowdownProb[4572] = 0.9181159F;
-		relShowdownProb[4573] = 1.0005128F;
-		relShowdownProb[4574] = 1.011065F;
-		relShowdownProb[4575] = 1.090635F;
-		relShowdownProb[4576] = 1.3628197F;
-		relShowdownProb[4578] = 0.7827417F;
-		relShowdownProb[4579] = 0.89268655F;
-		relShowdownProb[4580] = 0.83576024F;
-		relShowdownProb[4581] = 0.97760147F;
-		relShowdownProb[4582] = 0.933444F;
-		relShowdownProb[4583] = 0.8742245F;
-		relShowdownProb[4584] = 1.0630234F;
-		relShowdownProb[4585] = 1.0870477F;
-		relShowdownProb[4586] = 1.1702129F;
-		relShowdownProb[4587] = 1.3245988F;
-		relShowdownProb[4589] = 0.6957704F;
-		relShowdownProb[4590] = 0.7876646F;
-		relShowdownProb[4591] = 0.89426345F;
-		relShowdownProb[4592] = 1.0204632F;
-		relShowdownProb[4593] = 0.96109086F;
-		relShowdownProb[4594] = 1.0792607F;
-		relShowdownProb[4595] = 1.1021407F;
-		relShowdownProb[4596] = 1.1537085F;
-		relShowdownProb[4597] = 1.2330403F;
-		relShowdownProb[4598] = 1.4226209F;
-		relShowdownProb[4600] = 1.0436556F;
-		relShowdownProb[4601] = 0.770161F;
-		relShowdownProb[4602] = 1.0238063F;
-		relShowdownProb[4603] = 0.9643134F;
-		relShowdownProb[4604] = 1.0604501F;
-		relShowdownProb[4605] = 1.1985908F;
-		relShowdownProb[4606] = 1.212147F;
-		relShowdownProb[4607] = 1.2399421F;
-		relShowdownProb[4608] = 1.2900022F;
-		relShowdownProb[4609] = 1.516261F;
-		relShowdownProb[4611] = 0.98567474F;
-		relShowdownProb[4612] = 1.0414677F;
-		relShowdownProb[4613] = 1.0614156F;
-		relShowdownProb[4614] = 1.1034675F;
-		relShowdownProb[4615] = 1.1724131F;
-		relShowdownProb[4616] = 1.2369251F;
-		relShowdownProb[4617] = 1.4811919F;
-		relShowdownProb[4618] = 1.4175997F;
-		relShowdownProb[4619] = 1.3592885F;
-		relShowdownProb[4620] = 1.623696F;
-		relShowdownProb[4622] = 1.1886078F;
-		relShowdownProb[4623] = 1.2515116F;
-		relShowdownProb[4624] = 1.2327464F;
-		relShowdownProb[4625] = 1.2108847F;
-		relShowdownProb[4626] = 1.266782F;
-		relShowdownProb[4627] = 1.428784F;
-		relShowdownProb[4628] = 1.5981793F;
-		relShowdownProb[4629] = 1.7083682F;
-		relShowdownProb[4630] = 1.715479F;
-		relShowdownProb[4631] = 1.97088F;
-		relShowdownProb[4634] = 0.59637463F;
-		relShowdownProb[4635] = 0.7730782F;
-		relShowdownProb[4636] = 0.67368245F;
-		relShowdownProb[4637] = 0.8459685F;
-		relShowdownProb[4638] = 0.8246168F;
-		relShowdownProb[4639] = 0.87720716F;
-		relShowdownProb[4640] = 1.0018463F;
-		relShowdownProb[4641] = 1.0958077F;
-		relShowdownProb[4642] = 1.3635627F;
-		relShowdownProb[4644] = 1.0436556F;
-		relShowdownProb[4645] = 1.0396569F;
-		relShowdownProb[4646] = 0.823165F;
-		relShowdownProb[4647] = 0.7650013F;
-		relShowdownProb[4648] = 0.7191755F;
-		relShowdownProb[4649] = 0.8472746F;
-		relShowdownProb[4650] = 0.9183963F;
-		relShowdownProb[4651] = 0.9946248F;
-		relShowdownProb[4652] = 1.0837262F;
-		relShowdownProb[4653] = 1.3954346F;
-		relShowdownProb[4655] = 1.2175982F;
-		relShowdownProb[4656] = 0.8775483F;
-		relShowdownProb[4657] = 0.99815166F;
-		relShowdownProb[4658] = 0.8068324F;
-		relShowdownProb[4659] = 0.9092221F;
-		relShowdownProb[4660] = 0.9276939F;
-		relShowdownProb[4661] = 0.99062276F;
-		relShowdownProb[4662] = 1.0451915F;
-		relShowdownProb[4663] = 1.1908609F;
-		relShowdownProb[4664] = 1.3712686F;
-		relShowdownProb[4666] = 0.98567474F;
-		relShowdownProb[4667] = 1.0589713F;
-		relShowdownProb[4668] = 0.9810096F;
-		relShowdownProb[4669] = 0.94624776F;
-		relShowdownProb[4670] = 0.8602973F;
-		relShowdownProb[4671] = 0.9824251F;
-		relShowdownProb[4672] = 0.9526319F;
-		relShowdownProb[4673] = 1.0641195F;
-		relShowdownProb[4674] = 1.1477238F;
-		relShowdownProb[4675] = 1.4221767F;
-		relShowdownProb[4677] = 0.89870346F;
-		relShowdownProb[4678] = 0.84892744F;
-		relShowdownProb[4679] = 1.0530579F;
-		relShowdownProb[4680] = 0.9100794F;
-		relShowdownProb[4681] = 1.0695313F;
-		relShowdownProb[4682] = 0.98517346F;
-		relShowdownProb[4683] = 1.1149979F;
-		relShowdownProb[4684] = 1.109492F;
-		relShowdownProb[4685] = 1.194347F;
-		relShowdownProb[4686] = 1.439967F;
-		relShowdownProb[4688] = 0.57980865F;
-		relShowdownProb[4689] = 0.8139201F;
-		relShowdownProb[4690] = 0.95276666F;
-		relShowdownProb[4691] = 1.0253459F;
-		relShowdownProb[4692] = 0.94624776F;
-		relShowdownProb[4693] = 1.051822F;
-		relShowdownProb[4694] = 1.1003106F;
-		relShowdownProb[4695] = 1.1854687F;
-		relShowdownProb[4696] = 1.2551838F;
-		relShowdownProb[4697] = 1.4828975F;
-		relShowdownProb[4699] = 0.9566843F;
-		relShowdownProb[4700] = 1.0152122F;
-		relShowdownProb[4701] = 0.9694819F;
-		relShowdownProb[4702] = 0.98384374F;
-		relShowdownProb[4703] = 1.1020364F;
-		relShowdownProb[4704] = 1.1743122F;
-		relShowdownProb[4705] = 1.1468117F;
-		relShowdownProb[4706] = 1.3025426F;
-		relShowdownProb[4707] = 1.3303869F;
-		relShowdownProb[4708] = 1.6138884F;
-		relShowdownProb[4710] = 0.9276939F;
-		relShowdownProb[4711] = 1.0064603F;
-		relShowdownProb[4712] = 1.0447003F;
-		relShowdownProb[4713] = 1.0717306F;
-		relShowdownProb[4714] = 1.1340258F;
-		relShowdownProb[4715] = 1.2764255F;
-		relShowdownProb[4716] = 1.3691418F;
-		relShowdownProb[4717] = 1.3997307F;
-		relShowdownProb[4718] = 1.4748105F;
-		relShowdownProb[4719] = 1.6459384F;
-		relShowdownProb[4721] = 1.1306269F;
-		relShowdownProb[4722] = 1.1639932F;
-		relShowdownProb[4723] = 1.1449915F;
-		relShowdownProb[4724] = 1.2475041F;
-		relShowdownProb[4725] = 1.2427899F;
-		relShowdownProb[4726] = 1.4208839F;
-		relShowdownProb[4727] = 1.5081316F;
-		relShowdownProb[4728] = 1.7215999F;
-		relShowdownProb[4729] = 1.7096736F;
-		relShowdownProb[4730] = 1.9661852F;
-		relShowdownProb[4732] = 1.4205313F;
-		relShowdownProb[4733] = 1.2952707F;
-		relShowdownProb[4734] = 1.4124348F;
-		relShowdownProb[4735] = 1.2938888F;
-		relShowdownProb[4736] = 1.3563524F;
-		relShowdownProb[4737] = 1.4276555F;
-		relShowdownProb[4738] = 1.5450381F;
-		relShowdownProb[4739] = 1.8240197F;
-		relShowdownProb[4740] = 1.8617103F;
-		relShowdownProb[4741] = 2.1329508F;
-		relShowdownProb[4744] = 0.61846256F;
-		relShowdownProb[4745] = 0.75835294F;
-		relShowdownProb[4746] = 0.8761553F;
-		relShowdownProb[4747] = 0.8813092F;
-		relShowdownProb[4748] = 0.908551F;
-		relShowdownProb[4749] = 0.9750252F;
-		relShowdownProb[4750] = 1.0775764F;
-		relShowdownProb[4751] = 1.1418242F;
-		relShowdownProb[4752] = 1.4391526F;
-		relShowdownProb[4754] = 0.8117322F;
-		relShowdownProb[4755] = 0.9116992F;
-		relShowdownProb[4756] = 0.9080947F;
-		relShowdownProb[4757] = 0.87230915F;
-		relShowdownProb[4758] = 0.83620113F;
-		relShowdownProb[4759] = 0.9205136F;
-		relShowdownProb[4760] = 1.0599264F;
-		relShowdownProb[4761] = 1.038986F;
-		relShowdownProb[4762] = 1.1996878F;
-		relShowdownProb[4763] = 1.4630891F;
-		relShowdownProb[4765] = 0.9566843F;
-		relShowdownProb[4766] = 1.0655943F;
-		relShowdownProb[4767] = 0.9335654F;
-		relShowdownProb[4768] = 0.9178943F;
-		relShowdownProb[4769] = 0.90306485F;
-		relShowdownProb[4770] = 0.8394088F;
-		relShowdownProb[4771] = 1.0241172F;
-		relShowdownProb[4772] = 1.1027884F;
-		relShowdownProb[4773] = 1.1506047F;
-		relShowdownProb[4774] = 1.5006245F;
-		relShowdownProb[4776] = 0.8117322F;
-		relShowdownProb[4777] = 0.971453F;
-		relShowdownProb[4778] = 1.0236622F;
-		relShowdownProb[4779] = 0.9771709F;
-		relShowdownProb[4780] = 0.96337444F;
-		relShowdownProb[4781] = 0.95779604F;
-		relShowdownProb[4782] = 1.0493914F;
-		relShowdownProb[4783] = 1.1490065F;
-		relShowdownProb[4784] = 1.2559547F;
-		relShowdownProb[4785] = 1.5159992F;
-		relShowdownProb[4787] = 0.72476083F;
-		relShowdownProb[4788] = 0.9977085F;
-		relShowdownProb[4789] = 1.1032035F;
-		relShowdownProb[4790] = 1.0245733F;
-		relShowdownProb[4791] = 1.1231996F;
-		relShowdownProb[4792] = 1.1215204F;
-		relShowdownProb[4793] = 1.0826364F;
-		relShowdownProb[4794] = 1.1850541F;
-		relShowdownProb[4795] = 1.3438611F;
-		relShowdownProb[4796] = 1.6635821F;
-		relShowdownProb[4798] = 0.9276939F;
-		relShowdownProb[4799] = 1.0064603F;
-		relShowdownProb[4800] = 1.007091F;
-		relShowdownProb[4801] = 1.1278805F;
-		relShowdownProb[4802] = 1.0371617F;
-		relShowdownProb[4803] = 1.0727277F;
-		relShowdownProb[4804] = 1.2362822F;
-		relShowdownProb[4805] = 1.2467732F;
-		relShowdownProb[4806] = 1.3192832F;
-		relShowdownProb[4807] = 1.6058052F;
-		relShowdownProb[4809] = 1.3045695F;
-		relShowdownProb[4810] = 0.9802049F;
-		relShowdownProb[4811] = 1.0614156F;
-		relShowdownProb[4812] = 1.1132326F;
-		relShowdownProb[4813] = 1.1372248F;
-		relShowdownProb[4814] = 1.1781456F;
-		relShowdownProb[4815] = 1.2226968F;
-		relShowdownProb[4816] = 1.2682859F;
-		relShowdownProb[4817] = 1.3915408F;
-		relShowdownProb[4818] = 1.6662055F;
-		relShowdownProb[4820] = 1.1016365F;
-		relShowdownProb[4821] = 1.0939786F;
-		relShowdownProb[4822] = 1.0781307F;
-		relShowdownProb[4823] = 1.2182086F;
-		relShowdownProb[4824] = 1.1388242F;
-		relShowdownProb[4825] = 1.3091544F;
-		relShowdownProb[4826] = 1.341143F;
-		relShowdownProb[4827] = 1.4693288F;
-		relShowdownProb[4828] = 1.4666008F;
-		relShowdownProb[4829] = 1.755297F;
-		relShowdownProb[4831] = 1.33356F;
-		relShowdownProb[4832] = 1.4002926F;
-		relShowdownProb[4833] = 1.1826007F;
-		relShowdownProb[4834] = 1.2548281F;
-		relShowdownProb[4835] = 1.2219968F;
-		relShowdownProb[4836] = 1.4220126F;
-		relShowdownProb[4837] = 1.5559423F;
-		relShowdownProb[4838] = 1.6689953F;
-		relShowdownProb[4839] = 1.8298442F;
-		relShowdownProb[4840] = 2.0004573F;
-		relShowdownProb[4842] = 1.3045695F;
-		relShowdownProb[4843] = 1.3477817F;
-		relShowdownProb[4844] = 1.2118523F;
-		relShowdownProb[4845] = 1.3598039F;
-		relShowdownProb[4846] = 1.4491218F;
-		relShowdownProb[4847] = 1.4739273F;
-		relShowdownProb[4848] = 1.5450381F;
-		relShowdownProb[4849] = 1.8955532F;
-		relShowdownProb[4850] = 1.9640211F;
-		relShowdownProb[4851] = 2.2102587F;
-		relShowdownProb[4853] = 1.3625504F;
-		relShowdownProb[4854] = 1.2865188F;
-		relShowdownProb[4855] = 1.42915F;
-		relShowdownProb[4856] = 1.4647799F;
-		relShowdownProb[4857] = 1.4875091F;
-		relShowdownProb[4858] = 1.5156847F;
-		relShowdownProb[4859] = 1.599559F;
-		relShowdownProb[4860] = 1.92341F;
-		relShowdownProb[4861] = 2.0849366F;
-		relShowdownProb[4862] = 2.3714406F;
-		relShowdownProb[4866] = 1.3400023F;
-		relShowdownProb[4867] = 1.2847824F;
-		relShowdownProb[4868] = 1.2148372F;
-		relShowdownProb[4869] = 1.2560681F;
-		relShowdownProb[4870] = 1.2968782F;
-		relShowdownProb[4871] = 1.3804969F;
-		relShowdownProb[4872] = 1.4841875F;
-		relShowdownProb[4873] = 1.6516877F;
-		relShowdownProb[4875] = 1.1016365F;
-		relShowdownProb[4876] = 1.4495217F;
-		relShowdownProb[4877] = 1.3392764F;
-		relShowdownProb[4878] = 1.4503871F;
-		relShowdownProb[4879] = 1.2021722F;
-		relShowdownProb[4880] = 1.2637316F;
-		relShowdownProb[4881] = 1.3388544F;
-		relShowdownProb[4882] = 1.4787067F;
-		relShowdownProb[4883] = 1.4996098F;
-		relShowdownProb[4884] = 1.6884418F;
-		relShowdownProb[4886] = 1.5654835F;
-		relShowdownProb[4887] = 2.1163018F;
-		relShowdownProb[4888] = 1.3093401F;
-		relShowdownProb[4889] = 1.417673F;
-		relShowdownProb[4890] = 1.3053392F;
-		relShowdownProb[4891] = 1.3382895F;
-		relShowdownProb[4892] = 1.4138705F;
-		relShowdownProb[4893] = 1.5297734F;
-		relShowdownProb[4894] = 1.5267293F;
-		relShowdownProb[4895] = 1.6811435F;
-		relShowdownProb[4897] = 1.6234643F;
-		relShowdownProb[4898] = 1.406036F;
-		relShowdownProb[4899] = 1.476846F;
-		relShowdownProb[4900] = 1.4100947F;
-		relShowdownProb[4901] = 1.3598248F;
-		relShowdownProb[4902] = 1.3696483F;
-		relShowdownProb[4903] = 1.4813176F;
-		relShowdownProb[4904] = 1.5446407F;
-		relShowdownProb[4905] = 1.5949199F;
-		relShowdownProb[4906] = 1.7251852F;
-		relShowdownProb[4908] = 1.2755791F;
-		relShowdownProb[4909] = 1.3127743F;
-		relShowdownProb[4910] = 1.4751168F;
-		relShowdownProb[4911] = 1.3739264F;
-		relShowdownProb[4912] = 1.4087913F;
-		relShowdownProb[4913] = 1.4102551F;
-		relShowdownProb[4914] = 1.4425346F;
-		relShowdownProb[4915] = 1.5479021F;
-		relShowdownProb[4916] = 1.5987415F;
-		relShowdownProb[4917] = 1.712483F;
-		relShowdownProb[4919] = 1.1016365F;
-		relShowdownProb[4920] = 1.5315701F;
-		relShowdownProb[4921] = 1.4584017F;
-		relShowdownProb[4922] = 1.4574559F;
-		relShowdownProb[4923] = 1.430504F;
-		relShowdownProb[4924] = 1.4803904F;
-		relShowdownProb[4925] = 1.5709078F;
-		relShowdownProb[4926] = 1.6441454F;
-		relShowdownProb[4927] = 1.6502695F;
-		relShowdownProb[4928] = 1.7762748F;
-		relShowdownProb[4930] = 1.3915408F;
-		relShowdownProb[4931] = 1.2515116F;
-		relShowdownProb[4932] = 1.4124348F;
-		relShowdownProb[4933] = 1.4232777F;
-		relShowdownProb[4934] = 1.4107345F;
-		relShowdownProb[4935] = 1.5346562F;
-		relShowdownProb[4936] = 1.6030703F;
-		relShowdownProb[4937] = 1.622735F;
-		relShowdownProb[4938] = 1.7469261F;
-		relShowdownProb[4939] = 1.8465126F;
-		relShowdownProb[4941] = 1.4205313F;
-		relShowdownProb[4942] = 1.5753292F;
-		relShowdownProb[4943] = 1.2870708F;
-		relShowdownProb[4944] = 1.3866582F;
-		relShowdownProb[4945] = 1.5019044F;
-		relShowdownProb[4946] = 1.566471F;
-		relShowdownProb[4947] = 1.6313972F;
-		relShowdownProb[4948] = 1.7315031F;
-		relShowdownProb[4949] = 1.782269F;
-		relShowdownProb[4950] = 1.9049698F;
-		relShowdownProb[4952] = 1.6814451F;
-		relShowdownProb[4953] = 1.4090445F;
-		relShowdownProb[4954] = 1.6046597F;
-		relShowdownProb[4955] = 1.6649663F;
-		relShowdownProb[4956] = 1.6714485F;
-		relShowdownProb[4957] = 1.7831585F;
-		relShowdownProb[4958] = 1.8981657F;
-		relShowdownProb[4959] = 1.9713495F;
-		relShowdownProb[4960] = 2.0233908F;
-		relShowdownProb[4961] = 2.215949F;
-		relShowdownProb[4963] = 1.5075026F;
-		relShowdownProb[4964] = 1.6803511F;
-		relShowdownProb[4965] = 1.6756994F;
-		relShowdownProb[4966] = 1.686938F;
-		relShowdownProb[4967] = 1.6906421F;
-		relShowdownProb[4968] = 1.7673584F;
-		relShowdownProb[4969] = 1.9233291F;
-		relShowdownProb[4970] = 2.1235898F;
-		relShowdownProb[4971] = 2.2223198F;
-		relShowdownProb[4972] = 2.307592F;
-		relShowdownProb[4974] = 1.8843782F;
-		relShowdownProb[4975] = 1.942906F;
-		relShowdownProb[4976] = 1.7592753F;
-		relShowdownProb[4977] = 1.7235576F;
-		relShowdownProb[4978] = 1.8537883F;
-		relShowdownProb[4979] = 1.8689307F;
-		relShowdownProb[4980] = 2.0625672F;
-		relShowdownProb[4981] = 2.1695857F;
-		relShowdownProb[4982] = 2.3568578F;
-		relShowdownProb[4983] = 2.5160463F;
-		relShowdownProb[4985] = 1.5075026F;
-		relShowdownProb[4986] = 1.8466359F;
-		relShowdownProb[4987] = 1.9013546F;
-		relShowdownProb[4988] = 1.8724768F;
-		relShowdownProb[4989] = 2.1049054F;
-		relShowdownProb[4990] = 2.003232F;
-		relShowdownProb[4991] = 2.0499854F;
-		relShowdownProb[4992] = 2.2330732F;
-		relShowdownProb[4993] = 2.3882964F;
-		relShowdownProb[4994] = 2.6996405F;
-		relShowdownProb[5003] = 0.79202324F;
-		relShowdownProb[5004] = 1.0065296F;
-		relShowdownProb[5007] = 0.9405276F;
-		relShowdownProb[5008] = 0.7260213F;
-		relShowdownProb[5009] = 0.8580252F;
-		relShowdownProb[5012] = 0.89102614F;
-		relShowdownProb[5013] = 0.8085237F;
-		relShowdownProb[5014] = 0.79202324F;
-		relShowdownProb[5015] = 0.7078708F;
-		relShowdownProb[5018] = 0.89102614F;
-		relShowdownProb[5019] = 0.77552277F;
-		relShowdownProb[5020] = 0.69302034F;
-		relShowdownProb[5021] = 0.69797045F;
-		relShowdownProb[5022] = 0.7953233F;
-		relShowdownProb[5025] = 0.64351887F;
-		relShowdownProb[5026] = 0.8580252F;
-		relShowdownProb[5027] = 0.750772F;
-		relShowdownProb[5028] = 0.71777105F;
-		relShowdownProb[5029] = 0.7062207F;
-		relShowdownProb[5030] = 0.75902224F;
-		relShowdownProb[5033] = 0.74252176F;
-		relShowdownProb[5034] = 0.89102614F;
-		relShowdownProb[5035] = 0.6517691F;
-		relShowdownProb[5036] = 0.66331947F;
-		relShowdownProb[5037] = 0.7062207F;
-		relShowdownProb[5038] = 0.7095208F;
-		relShowdownProb[5039] = 0.79202324F;
-		relShowdownProb[5042] = 1.1385334F;
-		relShowdownProb[5043] = 0.97352856F;
-		relShowdownProb[5044] = 0.6847701F;
-		relShowdownProb[5045] = 0.7573722F;
-		relShowdownProb[5046] = 0.7326215F;
-		relShowdownProb[5047] = 0.76373667F;
-		relShowdownProb[5048] = 0.7937911F;
-		relShowdownProb[5049] = 0.86077523F;
-		relShowdownProb[5053] = 0.99002904F;
-		relShowdownProb[5054] = 1.0972822F;
-		relShowdownProb[5055] = 0.9850789F;
-		relShowdownProb[5056] = 1.0197299F;
-		relShowdownProb[5057] = 0.9570281F;
-		relShowdownProb[5058] = 0.9847253F;
-		relShowdownProb[5059] = 1.0697814F;
-		relShowdownProb[5060] = 1.1440336F;
-		relShowdownProb[5069] = 1.0395305F;
-		relShowdownProb[5070] = 0.9405276F;
-		relShowdownProb[5073] = 0.84152466F;
-		relShowdownProb[5074] = 0.8580252F;
-		relShowdownProb[5075] = 0.9817788F;
-		relShowdownProb[5078] = 1.1880349F;
-		relShowdownProb[5079] = 1.0725315F;
-		relShowdownProb[5080] = 0.7260213F;
-		relShowdownProb[5081] = 0.7128209F;
-		relShowdownProb[5084] = 0.9405276F;
-		relShowdownProb[5085] = 1.0395305F;
-		relShowdownProb[5086] = 0.9570281F;
-		relShowdownProb[5087] = 0.84152466F;
-		relShowdownProb[5088] = 0.77552277F;
-		relShowdownProb[5091] = 0.79202324F;
-		relShowdownProb[5092] = 1.0395305F;
-		relShowdownProb[5093] = 0.8085237F;
-		relShowdownProb[5094] = 0.8464748F;
-		relShowdownProb[5095] = 0.87452567F;
-		relShowdownProb[5096] = 0.8721684F;
-		relShowdownProb[5099] = 0.64351887F;
-		relShowdownProb[5100] = 0.9075266F;
-		relShowdownProb[5101] = 0.6765199F;
-		relShowdownProb[5102] = 0.8959763F;
-		relShowdownProb[5103] = 0.7887231F;
-		relShowdownProb[5104] = 0.84859633F;
-		relShowdownProb[5105] = 0.8503642F;
-		relShowdownProb[5108] = 0.74252176F;
-		relShowdownProb[5109] = 1.056031F;
-		relShowdownProb[5110] = 0.77552277F;
-		relShowdownProb[5111] = 0.74252176F;
-		relShowdownProb[5112] = 0.851425F;
-		relShowdownProb[5113] = 0.6694482F;
-		relShowdownProb[5114] = 0.8574359F;
-		relShowdownProb[5115] = 0.8841509F;
-		relShowdownProb[5119] = 1.1550338F;
-		relShowdownProb[5120] = 1.1055324F;
-		relShowdownProb[5121] = 1.0642812F;
-		relShowdownProb[5122] = 1.0791316F;
-		relShowdownProb[5123] = 1.0442449F;
-		relShowdownProb[5124] = 1.1031752F;
-		relShowdownProb[5125] = 1.1729094F;
-		relShowdownProb[5126] = 1.1660342F;
-		relShowdownProb[5135] = 1.4355421F;
-		relShowdownProb[5136] = 1.0890319F;
-		relShowdownProb[5139] = 1.2870377F;
-		relShowdownProb[5140] = 1.1220329F;
-		relShowdownProb[5141] = 1.0395305F;
-		relShowdownProb[5144] = 1.2870377F;
-		relShowdownProb[5145] = 0.9570281F;
-		relShowdownProb[5146] = 0.9240271F;
-		relShowdownProb[5147] = 0.89102614F;
-		relShowdownProb[5150] = 1.2375363F;
-		relShowdownProb[5151] = 0.9240271F;
-		relShowdownProb[5152] = 1.02303F;
-		relShowdownProb[5153] = 0.84152466F;
-		relShowdownProb[5154] = 0.86132526F;
-		relShowdownProb[5157] = 1.2375363F;
-		relShowdownProb[5158] = 0.7095208F;
-		relShowdownProb[5159] = 0.91577685F;
-		relShowdownProb[5160] = 0.8266742F;
-		relShowdownProb[5161] = 0.7953233F;
-		relShowdownProb[5162] = 0.89809775F;
-		relShowdownProb[5165] = 0.9405276F;
-		relShowdownProb[5166] = 0.8250242F;
-		relShowdownProb[5167] = 0.99002904F;
-		relShowdownProb[5168] = 0.8019235F;
-		relShowdownProb[5169] = 0.8019235F;
-		relShowdownProb[5170] = 0.822667F;
-		relShowdownProb[5171] = 0.91224104F;
-		relShowdownProb[5174] = 0.84152466F;
-		relShowdownProb[5175] = 1.1220329F;
-		relShowdownProb[5176] = 1.0725315F;
-		relShowdownProb[5177] = 0.8761757F;
-		relShowdownProb[5178] = 0.8250242F;
-		relShowdownProb[5179] = 0.8061665F;
-		relShowdownProb[5180] = 0.9316881F;
-		relShowdownProb[5181] = 0.99277914F;
-		relShowdownProb[5185] = 1.2210358F;
-		relShowdownProb[5186] = 1.2210358F;
-		relShowdownProb[5187] = 1.2573369F;
-		relShowdownProb[5188] = 1.0131297F;
-		relShowdownProb[5189] = 1.0466021F;
-		relShowdownProb[5190] = 1.1579804F;
-		relShowdownProb[5191] = 1.1550338F;
-		relShowdownProb[5192] = 1.2089355F;
-		relShowdownProb[5201] = 1.3365391F;
-		relShowdownProb[5202] = 1.3117884F;
-		relShowdownProb[5205] = 0.84152466F;
-		relShowdownProb[5206] = 1.2540368F;
-		relShowdownProb[5207] = 1.1484337F;
-		relShowdownProb[5210] = 0.89102614F;
-		relShowdownProb[5211] = 1.02303F;
-		relShowdownProb[5212] = 0.9075266F;
-		relShowdownProb[5213] = 0.99002904F;
-		relShowdownProb[5216] = 1.3860407F;
-		relShowdownProb[5217] = 1.1880349F;
-		relShowdownProb[5218] = 0.94877785F;
-		relShowdownProb[5219] = 0.9652783F;
-		relShowdownProb[5220] = 0.98672897F;
-		relShowdownProb[5223] = 1.0395305F;
-		relShowdownProb[5224] = 1.0725315F;
-		relShowdownProb[5225] = 1.1055324F;
-		relShowdownProb[5226] = 0.920727F;
-		relShowdownProb[5227] = 0.8448248F;
-		relShowdownProb[5228] = 1.0018151F;
-		relShowdownProb[5231] = 0.99002904F;
-		relShowdownProb[5232] = 1.2540368F;
-		relShowdownProb[5233] = 1.0477808F;
-		relShowdownProb[5234] = 0.97022843F;
-		relShowdownProb[5235] = 0.9240271F;
-		relShowdownProb[5236] = 0.9428848F;
-		relShowdownProb[5237] = 0.9829574F;
-		relShowdownProb[5240] = 1.0395305F;
-		relShowdownProb[5241] = 1.3200387F;
-		relShowdownProb[5242] = 1.02303F;
-		relShowdownProb[5243] = 0.97022843F;
-		relShowdownProb[5244] = 0.99002904F;
-		relShowdownProb[5245] = 0.8650968F;
-		relShowdownProb[5246] = 0.952903F;
-		relShowdownProb[5247] = 1.0079045F;
-		relShowdownProb[5251] = 1.4850435F;
-		relShowdownProb[5252] = 1.4355421F;
-		relShowdownProb[5253] = 1.2672372F;
-		relShowdownProb[5254] = 1.230936F;
-		relShowdownProb[5255] = 1.1479622F;
-		relShowdownProb[5256] = 1.1226223F;
-		relShowdownProb[5257] = 1.2554119F;
-		relShowdownProb[5258] = 1.3310391F;
-		relShowdownProb[5267] = 0.99002904F;
-		relShowdownProb[5268] = 1.1385334F;
-		relShowdownProb[5271] = 1.0890319F;
-		relShowdownProb[5272] = 1.3860407F;
-		relShowdownProb[5273] = 1.0989323F;
-		relShowdownProb[5276] = 0.54451597F;
-		relShowdownProb[5277] = 1.1385334F;
-		relShowdownProb[5278] = 1.1055324F;
-		relShowdownProb[5279] = 1.1770345F;
-		relShowdownProb[5282] = 1.1385334F;
-		relShowdownProb[5283] = 1.2375363F;
-		relShowdownProb[5284] = 1.0807817F;
-		relShowdownProb[5285] = 1.0098296F;
-		relShowdownProb[5286] = 1.1951065F;
-		relShowdownProb[5289] = 1.1880349F;
-		relShowdownProb[5290] = 1.1880349F;
-		relShowdownProb[5291] = 1.1220329F;
-		relShowdownProb[5292] = 0.9306273F;
-		relShowdownProb[5293] = 0.9570281F;
-		relShowdownProb[5294] = 1.1031752F;
-		relShowdownProb[5297] = 1.2375363F;
-		relShowdownProb[5298] = 1.0725315F;
-		relShowdownProb[5299] = 1.0477808F;
-		relShowdownProb[5300] = 1.0741816F;
-		relShowdownProb[5301] = 0.98672897F;
-		relShowdownProb[5302] = 1.0112439F;
-		relShowdownProb[5303] = 0.9811895F;
-		relShowdownProb[5306] = 1.1880349F;
-		relShowdownProb[5307] = 0.97352856F;
-		relShowdownProb[5308] = 1.1137826F;
-		relShowdownProb[5309] = 0.96032816F;
-		relShowdownProb[5310] = 0.9999293F;
-		relShowdownProb[5311] = 0.9829574F;
-		relShowdownProb[5312] = 1.04837F;
-		relShowdownProb[5313] = 1.0656563F;
-		relShowdownProb[5316] = 1.5345451F;
-		relShowdownProb[5317] = 1.2375363F;
-		relShowdownProb[5318] = 1.4025412F;
-		relShowdownProb[5319] = 1.2028853F;
-		relShowdownProb[5320] = 1.2738373F;
-		relShowdownProb[5321] = 1.1809632F;
-		relShowdownProb[5322] = 1.1332296F;
-		relShowdownProb[5323] = 1.2444115F;
-		relShowdownProb[5324] = 1.3420393F;
-		relShowdownProb[5330] = 0.89102614F;
-		relShowdownProb[5333] = 1.2870377F;
-		relShowdownProb[5334] = 1.4850435F;
-		relShowdownProb[5337] = 1.2375363F;
-		relShowdownProb[5338] = 1.468543F;
-		relShowdownProb[5339] = 1.4751433F;
-		relShowdownProb[5342] = 0.69302034F;
-		relShowdownProb[5343] = 0.99002904F;
-		relShowdownProb[5344] = 1.262287F;
-		relShowdownProb[5345] = 1.2540368F;
-		relShowdownProb[5348] = 0.49501452F;
-		relShowdownProb[5349] = 1.1715344F;
-		relShowdownProb[5350] = 1.0312803F;
-		relShowdownProb[5351] = 1.158334F;
-		relShowdownProb[5352] = 1.2233931F;
-		relShowdownProb[5355] = 0.84152466F;
-		relShowdownProb[5356] = 1.0725315F;
-		relShowdownProb[5357] = 1.0890319F;
-		relShowdownProb[5358] = 1.2127856F;
-		relShowdownProb[5359] = 1.2606369F;
-		relShowdownProb[5360] = 1.158334F;
-		relShowdownProb[5363] = 0.59401745F;
-		relShowdownProb[5364] = 0.97352856F;
-		relShowdownProb[5365] = 1.1467836F;
-		relShowdownProb[5366] = 1.1038824F;
-		relShowdownProb[5367] = 1.1154327F;
-		relShowdownProb[5368] = 1.0725315F;
-		relShowdownProb[5369] = 1.0819603F;
-		relShowdownProb[5372] = 1.1880349F;
-		relShowdownProb[5373] = 0.99002904F;
-		relShowdownProb[5374] = 1.0395305F;
-		relShowdownProb[5375] = 1.0543809F;
-		relShowdownProb[5376] = 1.1451336F;
-		relShowdownProb[5377] = 1.0961035F;
-		relShowdownProb[5378] = 1.1986423F;
-		relShowdownProb[5379] = 1.1687843F;
-		relShowdownProb[5382] = 0.84152466F;
-		relShowdownProb[5383] = 1.4520426F;
-		relShowdownProb[5384] = 1.1385334F;
-		relShowdownProb[5385] = 1.1731844F;
-		relShowdownProb[5386] = 1.2870377F;
-		relShowdownProb[5387] = 1.1927493F;
-		relShowdownProb[5388] = 1.3524504F;
-		relShowdownProb[5389] = 1.3461645F;
-		relShowdownProb[5390] = 1.394841F;
-		relShowdownProb[5396] = 0.9405276F;
-		relShowdownProb[5399] = 1.0395305F;
-		relShowdownProb[5400] = 1.0065296F;
-		relShowdownProb[5403] = 0.89102614F;
-		relShowdownProb[5404] = 1.1055324F;
-		relShowdownProb[5405] = 1.4355421F;
-		relShowdownProb[5408] = 0.74252176F;
-		relShowdownProb[5409] = 1.2870377F;
-		relShowdownProb[5410] = 1.1880349F;
-		relShowdownProb[5411] = 1.600547F;
-		relShowdownProb[5414] = 1.0890319F;
-		relShowdownProb[5415] = 0.9570281F;
-		relShowdownProb[5416] = 0.9570281F;
-		relShowdownProb[5417] = 1.3266389F;
-		relShowdownProb[5418] = 1.4143271F;
-		relShowdownProb[5421] = 0.99002904F;
-		relShowdownProb[5422] = 1.0065296F;
-		relShowdownProb[5423] = 1.0147798F;
-		relShowdownProb[5424] = 1.3018882F;
-		relShowdownProb[5425] = 1.2738373F;
-		relShowdownProb[5426] = 1.2820876F;
-		relShowdownProb[5429] = 1.0890319F;
-		relShowdownProb[5430] = 1.056031F;
-		relShowdownProb[5431] = 1.1797847F;
-		relShowdownProb[5432] = 1.1187328F;
-		relShowdownProb[5433] = 1.2441365F;
-		relShowdownProb[5434] = 1.2799661F;
-		relShowdownProb[5435] = 1.2485366F;
-		relShowdownProb[5438] = 0.79202324F;
-		relShowdownProb[5439] = 1.2375363F;
-		relShowdownProb[5440] = 0.99002904F;
-		relShowdownProb[5441] = 1.3414893F;
-		relShowdownProb[5442] = 1.191335F;
-		relShowdownProb[5443] = 1.26818F;
-		relShowdownProb[5444] = 1.24284F;
-		relShowdownProb[5445] = 1.3172886F;
-		relShowdownProb[5448] = 1.1880349F;
-		relShowdownProb[5449] = 1.1715344F;
-		relShowdownProb[5450] = 1.2292861F;
-		relShowdownProb[5451] = 1.262287F;
-		relShowdownProb[5452] = 1.3893408F;
-		relShowdownProb[5453] = 1.3954695F;
-		relShowdownProb[5454] = 1.4054877F;
-		relShowdownProb[5455] = 1.434167F;
-		relShowdownProb[5456] = 1.4498426F;
-		relShowdownProb[5462] = 1.1385334F;
-		relShowdownProb[5465] = 1.1385334F;
-		relShowdownProb[5466] = 1.02303F;
-		relShowdownProb[5469] = 1.4355421F;
-		relShowdownProb[5470] = 1.2870377F;
-		relShowdownProb[5471] = 1.36129F;
-		relShowdownProb[5474] = 1.0395305F;
-		relShowdownProb[5475] = 0.99002904F;
-		relShowdownProb[5476] = 1.1632842F;
-		relShowdownProb[5477] = 1.3420393F;
-		relShowdownProb[5480] = 0.84152466F;
-		relShowdownProb[5481] = 1.1385334F;
-		relShowdownProb[5482] = 1.2045354F;
-		relShowdownProb[5483] = 1.3810905F;
-		relShowdownProb[5484] = 1.5628315F;
-		relShowdownProb[5487] = 1.2375363F;
-		relShowdownProb[5488] = 1.02303F;
-		relShowdownProb[5489] = 1.2787875F;
-		relShowdownProb[5490] = 1.0494307F;
-		relShowdownProb[5491] = 1.3926408F;
-		relShowdownProb[5492] = 1.5568206F;
-		relShowdownProb[5495] = 0.99002904F;
-		relShowdownProb[5496] = 1.0890319F;
-		relShowdownProb[5497] = 1.056031F;
-		relShowdownProb[5498] = 1.2969381F;
-		relShowdownProb[5499] = 1.3332391F;
-		relShowdownProb[5500] = 1.2752517F;
-		relShowdownProb[5501] = 1.4392089F;
-		relShowdownProb[5504] = 1.1880349F;
-		relShowdownProb[5505] = 1.0395305F;
-		relShowdownProb[5506] = 1.1550338F;
-		relShowdownProb[5507] = 1.2127856F;
-		relShowdownProb[5508] = 1.3794404F;
-		relShowdownProb[5509] = 1.3718973F;
-		relShowdownProb[5510] = 1.3188602F;
-		relShowdownProb[5511] = 1.4723146F;
-		relShowdownProb[5514] = 1.4355421F;
-		relShowdownProb[5515] = 1.4025412F;
-		relShowdownProb[5516] = 1.3530397F;
-		relShowdownProb[5517] = 1.1979351F;
-		relShowdownProb[5518] = 1.4784434F;
-		relShowdownProb[5519] = 1.5251162F;
-		relShowdownProb[5520] = 1.4655966F;
-		relShowdownProb[5521] = 1.5551707F;
-		relShowdownProb[5522] = 1.7105502F;
-		relShowdownProb[5528] = 1.0890319F;
-		relShowdownProb[5531] = 1.2375363F;
-		relShowdownProb[5532] = 0.9240271F;
-		relShowdownProb[5535] = 1.2375363F;
-		relShowdownProb[5536] = 1.1385334F;
-		relShowdownProb[5537] = 1.2457865F;
-		relShowdownProb[5540] = 1.1385334F;
-		relShowdownProb[5541] = 0.97352856F;
-		relShowdownProb[5542] = 1.1797847F;
-		relShowdownProb[5543] = 1.5345451F;
-		relShowdownProb[5546] = 0.89102614F;
-		relShowdownProb[5547] = 1.1880349F;
-		relShowdownProb[5548] = 1.2210358F;
-		relShowdownProb[5549] = 1.36624F;
-		relShowdownProb[5550] = 1.5628315F;
-		relShowdownProb[5553] = 0.89102614F;
-		relShowdownProb[5554] = 1.1715344F;
-		relShowdownProb[5555] = 1.2210358F;
-		relShowdownProb[5556] = 1.3810905F;
-		relShowdownProb[5557] = 1.600547F;
-		relShowdownProb[5558] = 1.5914717F;
-		relShowdownProb[5561] = 1.3365391F;
-		relShowdownProb[5562] = 1.02303F;
-		relShowdownProb[5563] = 1.2375363F;
-		relShowdownProb[5564] = 1.2028853F;
-		relShowdownProb[5565] = 1.3101385F;
-		relShowdownProb[5566] = 1.5369022F;
-		relShowdownProb[5567] = 1.7398844F;
-		relShowdownProb[5570] = 1.0395305F;
-		relShowdownProb[5571] = 1.056031F;
-		relShowdownProb[5572] = 1.262287F;
-		relShowdownProb[5573] = 1.2721874F;
-		relShowdownProb[5574] = 1.5279448F;
-		relShowdownProb[5575] = 1.5651888F;
-		relShowdownProb[5576] = 1.6087972F;
-		relShowdownProb[5577] = 1.6590058F;
-		relShowdownProb[5580] = 1.2375363F;
-		relShowdownProb[5581] = 1.5840465F;
-		relShowdownProb[5582] = 1.4025412F;
-		relShowdownProb[5583] = 1.4107914F;
-		relShowdownProb[5584] = 1.5708461F;
-		relShowdownProb[5585] = 1.6524056F;
-		relShowdownProb[5586] = 1.8545365F;
-		relShowdownProb[5587] = 1.8893055F;
-		relShowdownProb[5588] = 1.9598075F;
-		relShowdownProb[5594] = 0.99002904F;
-		relShowdownProb[5597] = 1.0890319F;
-		relShowdownProb[5598] = 1.2210358F;
-		relShowdownProb[5601] = 1.3860407F;
-		relShowdownProb[5602] = 1.1550338F;
-		relShowdownProb[5603] = 1.4272919F;
-		relShowdownProb[5606] = 1.1880349F;
-		relShowdownProb[5607] = 1.2705373F;
-		relShowdownProb[5608] = 1.0807817F;
-		relShowdownProb[5609] = 1.2969381F;
-		relShowdownProb[5612] = 1.5345451F;
-		relShowdownProb[5613] = 1.567546F;
-		relShowdownProb[5614] = 1.1962851F;
-		relShowdownProb[5615] = 1.4256418F;
-		relShowdownProb[5616] = 1.4223417F;
-		relShowdownProb[5619] = 1.0890319F;
-		relShowdownProb[5620] = 1.468543F;
-		relShowdownProb[5621] = 1.567546F;
-		relShowdownProb[5622] = 1.3563398F;
-		relShowdownProb[5623] = 1.5378451F;
-		relShowdownProb[5624] = 1.7622517F;
-		relShowdownProb[5627] = 1.6830493F;
-		relShowdownProb[5628] = 1.1550338F;
-		relShowdownProb[5629] = 1.3695402F;
-		relShowdownProb[5630] = 1.3365391F;
-		relShowdownProb[5631] = 1.4850435F;
-		relShowdownProb[5632] = 1.5981897F;
-		relShowdownProb[5633] = 1.8535544F;
-		relShowdownProb[5636] = 1.2870377F;
-		relShowdownProb[5637] = 1.4025412F;
-		relShowdownProb[5638] = 1.4602928F;
-		relShowdownProb[5639] = 1.465243F;
-		relShowdownProb[5640] = 1.2804376F;
-		relShowdownProb[5641] = 1.5321878F;
-		relShowdownProb[5642] = 1.8138746F;
-		relShowdownProb[5643] = 1.8258964F;
-		relShowdownProb[5646] = 1.6830493F;
-		relShowdownProb[5647] = 1.6830493F;
-		relShowdownProb[5648] = 1.5180445F;
-		relShowdownProb[5649] = 1.5444453F;
-		relShowdownProb[5650] = 1.6665488F;
-		relShowdownProb[5651] = 1.7301936F;
-		relShowdownProb[5652] = 1.8598403F;
-		relShowdownProb[5653] = 2.0763109F;
-		relShowdownProb[5654] = 2.082436F;
-		relShowdownProb[5660] = 2.0295596F;
-		relShowdownProb[5663] = 0.74252176F;
-		relShowdownProb[5664] = 1.3365391F;
-		relShowdownProb[5667] = 0.99002904F;
-		relShowdownProb[5668] = 1.2045354F;
-		relShowdownProb[5669] = 1.2045354F;
-		relShowdownProb[5672] = 1.1385334F;
-		relShowdownProb[5673] = 1.2540368F;
-		relShowdownProb[5674] = 1.3365391F;
-		relShowdownProb[5675] = 1.2969381F;
-		relShowdownProb[5678] = 1.5345451F;
-		relShowdownProb[5679] = 1.1880349F;
-		relShowdownProb[5680] = 1.1302831F;
-		relShowdownProb[5681] = 1.3365391F;
-		relShowdownProb[5682] = 1.4784434F;
-		relShowdownProb[5685] = 1.2870377F;
-		relShowdownProb[5686] = 1.3035382F;
-		relShowdownProb[5687] = 1.4190416F;
-		relShowdownProb[5688] = 1.3117884F;
-		relShowdownProb[5689] = 1.3893408F;
-		relShowdownProb[5690] = 1.6500484F;
-		relShowdownProb[5693] = 1.3860407F;
-		relShowdownProb[5694] = 1.6335479F;
-		relShowdownProb[5695] = 1.4107914F;
-		relShowdownProb[5696] = 1.499894F;
-		relShowdownProb[5697] = 1.5114443F;
-		relShowdownProb[5698] = 1.723122F;
-		relShowdownProb[5699] = 1.8425541F;
-		relShowdownProb[5702] = 1.5840465F;
-		relShowdownProb[5703] = 1.6830493F;
-		relShowdownProb[5704] = 1.4850435F;
-		relShowdownProb[5705] = 1.4899937F;
-		relShowdownProb[5706] = 1.5246447F;
-		relShowdownProb[5707] = 1.579332F;
-		relShowdownProb[5708] = 1.8916626F;
-		relShowdownProb[5709] = 1.9220706F;
-		relShowdownProb[5712] = 1.5345451F;
-		relShowdownProb[5713] = 1.4025412F;
-		relShowdownProb[5714] = 1.806803F;
-		relShowdownProb[5715] = 1.6483984F;
-		relShowdownProb[5716] = 1.6533484F;
-		relShowdownProb[5717] = 1.6854066F;
-		relShowdownProb[5718] = 2.001273F;
-		relShowdownProb[5719] = 2.1973145F;
-		relShowdownProb[5720] = 2.21294F;
-		relShowdownProb[5726] = 1.5345451F;
-		relShowdownProb[5729] = 1.0890319F;
-		relShowdownProb[5730] = 1.3695402F;
-		relShowdownProb[5733] = 1.0890319F;
-		relShowdownProb[5734] = 0.9240271F;
-		relShowdownProb[5735] = 1.3200387F;
-		relShowdownProb[5738] = 1.1880349F;
-		relShowdownProb[5739] = 0.97352856F;
-		relShowdownProb[5740] = 1.2457865F;
-		relShowdownProb[5741] = 1.227636F;
-		relShowdownProb[5744] = 1.4850435F;
-		relShowdownProb[5745] = 1.501544F;
-		relShowdownProb[5746] = 1.3777905F;
-		relShowdownProb[5747] = 1.3315891F;
-		relShowdownProb[5748] = 1.4817435F;
-		relShowdownProb[5751] = 1.4850435F;
-		relShowdownProb[5752] = 1.3695402F;
-		relShowdownProb[5753] = 1.2375363F;
-		relShowdownProb[5754] = 1.3860407F;
-		relShowdownProb[5755] = 1.5939468F;
-		relShowdownProb[5756] = 1.6146902F;
-		relShowdownProb[5759] = 1.1880349F;
-		relShowdownProb[5760] = 1.6500484F;
-		relShowdownProb[5761] = 1.3942909F;
-		relShowdownProb[5762] = 1.4949439F;
-		relShowdownProb[5763] = 1.6071471F;
-		relShowdownProb[5764] = 1.5534027F;
-		relShowdownProb[5765] = 1.9765222F;
-		relShowdownProb[5768] = 1.1385334F;
-		relShowdownProb[5769] = 1.6335479F;
-		relShowdownProb[5770] = 1.4602928F;
-		relShowdownProb[5771] = 1.6929497F;
-		relShowdownProb[5772] = 1.6269478F;
-		relShowdownProb[5773] = 1.6476911F;
-		relShowdownProb[5774] = 1.8881269F;
-		relShowdownProb[5775] = 1.9659148F;
-		relShowdownProb[5778] = 1.5840465F;
-		relShowdownProb[5779] = 1.7490513F;
-		relShowdownProb[5780] = 1.773802F;
-		relShowdownProb[5781] = 1.841454F;
-		relShowdownProb[5782] = 1.7820523F;
-		relShowdownProb[5783] = 1.8386253F;
-		relShowdownProb[5784] = 1.9747543F;
-		relShowdownProb[5785] = 2.2591913F;
-		relShowdownProb[5786] = 2.2298155F;
-		relShowdownProb[5795] = 1.6830493F;
-		relShowdownProb[5796] = 1.7985528F;
-		relShowdownProb[5799] = 1.7325509F;
-		relShowdownProb[5800] = 1.7655518F;
-		relShowdownProb[5801] = 1.6417981F;
-		relShowdownProb[5804] = 1.8810552F;
-		relShowdownProb[5805] = 1.6665488F;
-		relShowdownProb[5806] = 1.6830493F;
-		relShowdownProb[5807] = 1.6236476F;
-		relShowdownProb[5810] = 1.2375363F;
-		relShowdownProb[5811] = 1.6170474F;
-		relShowdownProb[5812] = 1.6417981F;
-		relShowdownProb[5813] = 1.6483984F;
-		relShowdownProb[5814] = 1.7688519F;
-		relShowdownProb[5817] = 1.5840465F;
-		relShowdownProb[5818] = 1.9140562F;
-		relShowdownProb[5819] = 1.8150532F;
-		relShowdownProb[5820] = 1.6929497F;
-		relShowdownProb[5821] = 1.8315537F;
-		relShowdownProb[5822] = 1.8621975F;
-		relShowdownProb[5825] = 2.079061F;
-		relShowdownProb[5826] = 2.0625606F;
-		relShowdownProb[5827] = 1.6912996F;
-		relShowdownProb[5828] = 1.6978998F;
-		relShowdownProb[5829] = 1.9272566F;
-		relShowdownProb[5830] = 1.9281994F;
-		relShowdownProb[5831] = 2.1427057F;
-		relShowdownProb[5834] = 1.6830493F;
-		relShowdownProb[5835] = 1.8645546F;
-		relShowdownProb[5836] = 1.7573016F;
-		relShowdownProb[5837] = 1.6483984F;
-		relShowdownProb[5838] = 1.9173563F;
-		relShowdownProb[5839] = 1.9965585F;
-		relShowdownProb[5840] = 2.1126513F;
-		relShowdownProb[5841] = 2.2798169F;
-		relShowdownProb[5844] = 2.2275653F;
-		relShowdownProb[5845] = 1.9800581F;
-		relShowdownProb[5846] = 2.186314F;
-		relShowdownProb[5847] = 1.9404569F;
-		relShowdownProb[5848] = 1.9338567F;
-		relShowdownProb[5849] = 2.1097047F;
-		relShowdownProb[5850] = 2.2169578F;
-		relShowdownProb[5851] = 2.4159458F;
-		relShowdownProb[5852] = 2.4975734F;
-		relShowdownProb[5853] = 0.8653578F;
-		relShowdownProb[5854] = 0.6312979F;
-		relShowdownProb[5855] = 0.71047986F;
-		relShowdownProb[5856] = 0.78584385F;
-		relShowdownProb[5857] = 0.8697568F;
-		relShowdownProb[5858] = 0.97998077F;
-		relShowdownProb[5859] = 1.1014928F;
-		relShowdownProb[5860] = 1.2347907F;
-		relShowdownProb[5861] = 1.3366318F;
-		relShowdownProb[5862] = 1.8572655F;
-		relShowdownProb[5863] = 0.9126705F;
-		relShowdownProb[5864] = 0.9464731F;
-		relShowdownProb[5865] = 0.96337444F;
-		relShowdownProb[5866] = 1.0309796F;
-		relShowdownProb[5867] = 0.8957692F;
-		relShowdownProb[5868] = 0.6760522F;
-		relShowdownProb[5869] = 0.9126705F;
-		relShowdownProb[5870] = 1.0140784F;
-		relShowdownProb[5871] = 1.16619F;
-		relShowdownProb[5872] = 0.8957692F;
-		relShowdownProb[5873] = 0.997177F;
-		relShowdownProb[5874] = 0.81126267F;
-		relShowdownProb[5875] = 0.6904183F;
-		relShowdownProb[5876] = 0.72675616F;
-		relShowdownProb[5877] = 1.0816835F;
-		relShowdownProb[5878] = 1.2523867F;
-		relShowdownProb[5879] = 1.0816835F;
-		relShowdownProb[5880] = 1.3487241F;
-		relShowdownProb[5881] = 0.6422496F;
-		relShowdownProb[5882] = 0.81126267F;
-		relShowdownProb[5883] = 0.77746004F;
-		relShowdownProb[5884] = 1.0816835F;
-		relShowdownProb[5885] = 1.1492888F;
-		relShowdownProb[5886] = 0.608447F;
-		relShowdownProb[5887] = 0.6591509F;
-		relShowdownProb[5888] = 0.87886786F;
-		relShowdownProb[5889] = 1.1560493F;
-		relShowdownProb[5890] = 0.8450653F;
-		relShowdownProb[5891] = 0.74365747F;
-		relShowdownProb[5892] = 1.1881617F;
-		relShowdownProb[5893] = 1.0478809F;
-		relShowdownProb[5894] = 1.0757681F;
-		relShowdownProb[5895] = 1.1881617F;
-		relShowdownProb[5896] = 0.70985484F;
-		relShowdownProb[5897] = 0.87886786F;
-		relShowdownProb[5898] = 0.87886786F;
-		relShowdownProb[5899] = 0.93126196F;
-		relShowdownProb[5900] = 0.9802757F;
-		relShowdownProb[5901] = 0.9464731F;
-		relShowdownProb[5902] = 0.93126196F;
-		relShowdownProb[5903] = 0.87886786F;
-		relShowdownProb[5904] = 1.1721056F;
-		relShowdownProb[5905] = 1.2233326F;
-		relShowdownProb[5906] = 0.86196655F;
-		relShowdownProb[5907] = 1.0478809F;
-		relShowdownProb[5908] = 1.0918243F;
-		relShowdownProb[5909] = 1.216894F;
-		relShowdownProb[5910] = 1.2844992F;
-		relShowdownProb[5911] = 1.5731199F;
-		relShowdownProb[5912] = 1.4197097F;
-		relShowdownProb[5913] = 1.268443F;
-		relShowdownProb[5914] = 1.3898438F;
-		relShowdownProb[5915] = 0.77746004F;
-		relShowdownProb[5916] = 0.8450653F;
-		relShowdownProb[5917] = 0.77746004F;
-		relShowdownProb[5918] = 0.8450653F;
-		relShowdownProb[5919] = 1.1323875F;
-		relShowdownProb[5920] = 0.5577431F;
-		relShowdownProb[5921] = 0.8450653F;
-		relShowdownProb[5922] = 0.81126267F;
-		relShowdownProb[5923] = 0.67436206F;
-		relShowdownProb[5924] = 0.96337444F;
-		relShowdownProb[5925] = 1.0140784F;
-		relShowdownProb[5926] = 1.0275993F;
-		relShowdownProb[5927] = 1.0140784F;
-		relShowdownProb[5928] = 1.1078806F;
-		relShowdownProb[5929] = 1.2523867F;
-		relShowdownProb[5930] = 0.8450653F;
-		relShowdownProb[5931] = 0.9464731F;
-		relShowdownProb[5932] = 0.81126267F;
-		relShowdownProb[5933] = 0.9794307F;
-		relShowdownProb[5934] = 0.70985484F;
-		relShowdownProb[5935] = 0.87886786F;
-		relShowdownProb[5936] = 1.2202742F;
-		relShowdownProb[5937] = 0.9295718F;
-		relShowdownProb[5938] = 1.0918243F;
-		relShowdownProb[5939] = 1.0857077F;
-		relShowdownProb[5940] = 1.0985849F;
-		relShowdownProb[5941] = 0.9802757F;
-		relShowdownProb[5942] = 0.9954869F;
-		relShowdownProb[5943] = 1.4197097F;
-		relShowdownProb[5944] = 0.9954869F;
-		relShowdownProb[5945] = 1.4356629F;
-		relShowdownProb[5946] = 1.3521044F;
-		relShowdownProb[5947] = 1.0918243F;
-		relShowdownProb[5948] = 1.2371137F;
-		relShowdownProb[5949] = 1.5731199F;
-		relShowdownProb[5950] = 0.81126267F;
-		relShowdownProb[5951] = 0.8957692F;
-		relShowdownProb[5952] = 0.6929535F;
-		relShowdownProb[5953] = 0.7225308F;
-		relShowdownProb[5954] = 0.9126705F;
-		relShowdownProb[5955] = 1.0647823F;
-		relShowdownProb[5956] = 1.1721056F;
-		relShowdownProb[5957] = 0.7605587F;
-		relShowdownProb[5958] = 1.204218F;
-		relShowdownProb[5959] = 1.4374158F;
-		relShowdownProb[5960] = 1.0478809F;
-		relShowdownProb[5961] = 0.86196655F;
-		relShowdownProb[5962] = 0.9794307F;
-		relShowdownProb[5963] = 0.9802757F;
-		relShowdownProb[5964] = 0.8991495F;
-		relShowdownProb[5965] = 1.2523867F;
-		relShowdownProb[5966] = 1.216894F;
-		relShowdownProb[5967] = 0.9152057F;
-		relShowdownProb[5968] = 1.1760217F;
-		relShowdownProb[5969] = 1.5290768F;
-		relShowdownProb[5970] = 1.0647823F;
-		relShowdownProb[5971] = 0.87886786F;
-		relShowdownProb[5972] = 1.0597118F;
-		relShowdownProb[5973] = 1.1830914F;
-		relShowdownProb[5974] = 0.8349245F;
-		relShowdownProb[5975] = 1.1607487F;
-		relShowdownProb[5976] = 1.0478809F;
-		relShowdownProb[5977] = 1.1399931F;
-		relShowdownProb[5978] = 1.2829328F;
-		relShowdownProb[5979] = 1.3818437F;
-		relShowdownProb[5980] = 1.1323875F;
-		relShowdownProb[5981] = 1.1560493F;
-		relShowdownProb[5982] = 1.4356629F;
-		relShowdownProb[5983] = 1.7600324F;
-		relShowdownProb[5984] = 1.0140784F;
-		relShowdownProb[5985] = 0.74365747F;
-		relShowdownProb[5986] = 0.9295718F;
-		relShowdownProb[5987] = 1.2506967F;
-		relShowdownProb[5988] = 1.0309796F;
-		relShowdownProb[5989] = 0.7605587F;
-		relShowdownProb[5990] = 0.7605587F;
-		relShowdownProb[5991] = 0.9464731F;
-		relShowdownProb[5992] = 0.85098076F;
-		relShowdownProb[5993] = 0.77746004F;
-		relShowdownProb[5994] = 0.9464731F;
-		relShowdownProb[5995] = 0.9794307F;
-		relShowdownProb[5996] = 0.6929535F;
-		relShowdownProb[5997] = 1.1721056F;
-		relShowdownProb[5998] = 1.0918243F;
-		relShowdownProb[5999] = 0.6929535F;
-		relShowdownProb[6000] = 0.6760522F;
-		relShowdownProb[6001] = 0.7605587F;
-		relShowdownProb[6002] = 1.0275993F;
-		relShowdownProb[6003] = 0.9802757F;
-		relShowdownProb[6004] = 0.7605587F;
-		relShowdownProb[6005] = 0.9152057F;
-		relShowdownProb[6006] = 0.79436135F;
-		relShowdownProb[6007] = 1.1078806F;
-		relShowdownProb[6008] = 1.2997909F;
-		relShowdownProb[6009] = 1.0309796F;
-		relShowdownProb[6010] = 0.96337444F;
-		relShowdownProb[6011] = 0.85098076F;
-		relShowdownProb[6012] = 1.1999927F;
-		relShowdownProb[6013] = 0.8188683F;
-		relShowdownProb[6014] = 1.0385646F;
-		relShowdownProb[6015] = 1.1154861F;
-		relShowdownProb[6016] = 1.1078806F;
-		relShowdownProb[6017] = 1.1607487F;
-		relShowdownProb[6018] = 1.1912947F;
-		relShowdownProb[6019] = 0.7605587F;
-		relShowdownProb[6020] = 0.9464731F;
-		relShowdownProb[6021] = 1.0478809F;
-		relShowdownProb[6022] = 0.93126196F;
-		relShowdownProb[6023] = 0.6422496F;
-		relShowdownProb[6024] = 0.7605587F;
-		relShowdownProb[6025] = 0.96337444F;
-		relShowdownProb[6026] = 1.0309796F;
-		relShowdownProb[6027] = 0.9794307F;
-		relShowdownProb[6028] = 1.0398327F;
-		relShowdownProb[6029] = 0.72675616F;
-		relShowdownProb[6030] = 0.72675616F;
-		relShowdownProb[6031] = 0.9794307F;
-		relShowdownProb[6032] = 0.8957692F;
-		relShowdownProb[6033] = 1.204218F;
-		relShowdownProb[6034] = 1.0538377F;
-		relShowdownProb[6035] = 0.997177F;
-		relShowdownProb[6036] = 0.8188683F;
-		relShowdownProb[6037] = 1.5731199F;
-		relShowdownProb[6038] = 1.4562637F;
-		relShowdownProb[6039] = 1.1154861F;
-		relShowdownProb[6040] = 1.0647823F;
-		relShowdownProb[6041] = 1.0275993F;
-		relShowdownProb[6042] = 0.9126705F;
-		relShowdownProb[6043] = 1.1078806F;
-		relShowdownProb[6044] = 1.0843836F;
-		relShowdownProb[6045] = 1.0309796F;
-		relShowdownProb[6046] = 1.1239368F;
-		relShowdownProb[6047] = 1.3287518F;
-		relShowdownProb[6048] = 1.3236607F;
-		relShowdownProb[6049] = 1.1492888F;
-		relShowdownProb[6050] = 1.3487241F;
-		relShowdownProb[6051] = 1.0538377F;
-		relShowdownProb[6052] = 1.2945694F;
-		relShowdownProb[6053] = 1.5854838F;
-		relShowdownProb[6054] = 1.0985849F;
-		relShowdownProb[6055] = 1.1154861F;
-		relShowdownProb[6056] = 1.0647823F;
-		relShowdownProb[6057] = 1.1239368F;
-		relShowdownProb[6058] = 0.86196655F;
-		relShowdownProb[6059] = 1.0816835F;
-		relShowdownProb[6060] = 0.9794307F;
-		relShowdownProb[6061] = 0.9126705F;
-		relShowdownProb[6062] = 1.1239368F;
-		relShowdownProb[6063] = 0.96337444F;
-		relShowdownProb[6064] = 0.8957692F;
-		relShowdownProb[6065] = 1.0985849F;
-		relShowdownProb[6066] = 1.1078806F;
-		relShowdownProb[6067] = 1.0478809F;
-		relShowdownProb[6068] = 1.2523867F;
-		relShowdownProb[6069] = 1.1760217F;
-		relShowdownProb[6070] = 1.1999927F;
-		relShowdownProb[6071] = 1.0275993F;
-		relShowdownProb[6072] = 1.2065678F;
-		relShowdownProb[6073] = 1.3688878F;
-		relShowdownProb[6074] = 0.86196655F;
-		relShowdownProb[6075] = 0.86196655F;
-		relShowdownProb[6076] = 1.0918243F;
-		relShowdownProb[6077] = 1.3183018F;
-		relShowdownProb[6078] = 1.1721056F;
-		relShowdownProb[6079] = 1.1454756F;
-		relShowdownProb[6080] = 0.86196655F;
-		relShowdownProb[6081] = 0.9473182F;
-		relShowdownProb[6082] = 1.2218407F;
-		relShowdownProb[6083] = 1.3382065F;
-		relShowdownProb[6084] = 1.3183018F;
-		relShowdownProb[6085] = 1.2363305F;
-		relShowdownProb[6086] = 1.5120279F;
-		relShowdownProb[6087] = 1.3818437F;
-		relShowdownProb[6088] = 1.305148F;
-		relShowdownProb[6089] = 0.9802757F;
-		relShowdownProb[6090] = 1.1999927F;
-		relShowdownProb[6091] = 1.5253428F;
-		relShowdownProb[6092] = 1.0647823F;
-		relShowdownProb[6093] = 1.268443F;
-		relShowdownProb[6094] = 1.3898438F;
-		relShowdownProb[6095] = 1.1323875F;
-		relShowdownProb[6096] = 1.2844992F;
-		relShowdownProb[6097] = 1.2218407F;
-		relShowdownProb[6098] = 1.309115F;
-		relShowdownProb[6099] = 1.1154861F;
-		relShowdownProb[6100] = 1.4290054F;
-		relShowdownProb[6101] = 1.5731199F;
-		relShowdownProb[6102] = 1.309115F;
-		relShowdownProb[6103] = 1.2343568F;
-		relShowdownProb[6104] = 1.7239331F;
-		relShowdownProb[6105] = 1.8304114F;
-		relShowdownProb[6106] = 1.2829328F;
-		relShowdownProb[6107] = 1.832761F;
-		relShowdownProb[6108] = 1.6088246F;
-		relShowdownProb[6109] = 1.1154861F;
-		relShowdownProb[6110] = 0.86196655F;
-		relShowdownProb[6111] = 0.79436135F;
-		relShowdownProb[6112] = 0.87886786F;
-		relShowdownProb[6113] = 1.2337953F;
-		relShowdownProb[6114] = 0.87886786F;
-		relShowdownProb[6115] = 0.87886786F;
-		relShowdownProb[6116] = 0.828164F;
-		relShowdownProb[6117] = 0.9954869F;
-		relShowdownProb[6118] = 0.5577431F;
-		relShowdownProb[6119] = 0.9464731F;
-		relShowdownProb[6120] = 1.0436556F;
-		relShowdownProb[6121] = 1.1492888F;
-		relShowdownProb[6122] = 1.1560493F;
-		relShowdownProb[6123] = 1.1560493F;
-		relShowdownProb[6124] = 0.997177F;
-		relShowdownProb[6125] = 0.9464731F;
-		relShowdownProb[6126] = 1.0816835F;
-		relShowdownProb[6127] = 0.80281204F;
-		relShowdownProb[6128] = 0.81126267F;
-		relShowdownProb[6129] = 0.81126267F;
-		relShowdownProb[6130] = 0.8991495F;
-		relShowdownProb[6131] = 0.79436135F;
-		relShowdownProb[6132] = 1.1721056F;
-		relShowdownProb[6133] = 1.3762492F;
-		relShowdownProb[6134] = 0.9126705F;
-		relShowdownProb[6135] = 0.72675616F;
-		relShowdownProb[6136] = 1.0757681F;
-		relShowdownProb[6137] = 0.608447F;
-		relShowdownProb[6138] = 0.96337444F;
-		relShowdownProb[6139] = 1.3134788F;
-		relShowdownProb[6140] = 1.1323875F;
-		relShowdownProb[6141] = 1.0918243F;
-		relShowdownProb[6142] = 1.0843836F;
-		relShowdownProb[6143] = 1.3134788F;
-		relShowdownProb[6144] = 0.74365747F;
-		relShowdownProb[6145] = 1.0647823F;
-		relShowdownProb[6146] = 0.86196655F;
-		relShowdownProb[6147] = 0.867037F;
-		relShowdownProb[6148] = 1.0140784F;
-		relShowdownProb[6149] = 0.6929535F;
-		relShowdownProb[6150] = 0.9954869F;
-		relShowdownProb[6151] = 0.87886786F;
-		relShowdownProb[6152] = 0.9794307F;
-		relShowdownProb[6153] = 1.162166F;
-		relShowdownProb[6154] = 0.87886786F;
-		relShowdownProb[6155] = 0.70985484F;
-		relShowdownProb[6156] = 0.8188683F;
-		relShowdownProb[6157] = 0.87886786F;
-		relShowdownProb[6158] = 1.1881617F;
-		relShowdownProb[6159] = 1.1302027F;
-		relShowdownProb[6160] = 1.1492888F;
-		relShowdownProb[6161] = 1.4290054F;
-		relShowdownProb[6162] = 1.0232916F;
-		relShowdownProb[6163] = 1.1795735F;
-		relShowdownProb[6164] = 1.1492888F;
-		relShowdownProb[6165] = 0.81126267F;
-		relShowdownProb[6166] = 0.93126196F;
-		relShowdownProb[6167] = 0.9295718F;
-		relShowdownProb[6168] = 1.0275993F;
-		relShowdownProb[6169] = 1.1149297F;
-		relShowdownProb[6170] = 0.9126705F;
-		relShowdownProb[6171] = 0.9473182F;
-		relShowdownProb[6172] = 1.4203899F;
-		relShowdownProb[6173] = 1.2945694F;
-		relShowdownProb[6174] = 1.1492888F;
-		relShowdownProb[6175] = 1.332668F;
-		relShowdownProb[6176] = 1.0385646F;
-		relShowdownProb[6177] = 1.3963894F;
-		relShowdownProb[6178] = 1.5418466F;
-		relShowdownProb[6179] = 0.87886786F;
-		relShowdownProb[6180] = 0.87886786F;
-		relShowdownProb[6181] = 0.997177F;
-		relShowdownProb[6182] = 1.1078806F;
-		relShowdownProb[6183] = 0.997177F;
-		relShowdownProb[6184] = 0.87886786F;
-		relShowdownProb[6185] = 0.67436206F;
-		relShowdownProb[6186] = 0.79436135F;
-		relShowdownProb[6187] = 1.2363305F;
-		relShowdownProb[6188] = 1.4374158F;
-		relShowdownProb[6189] = 0.9802757F;
-		relShowdownProb[6190] = 0.9126705F;
-		relShowdownProb[6191] = 0.9794307F;
-		relShowdownProb[6192] = 1.16619F;
-		relShowdownProb[6193] = 1.1881617F;
-		relShowdownProb[6194] = 1.1607487F;
-		relShowdownProb[6195] = 1.0816835F;
-		relShowdownProb[6196] = 1.1881617F;
-		relShowdownProb[6197] = 1.0843836F;
-		relShowdownProb[6198] = 1.5290768F;
-		relShowdownProb[6199] = 0.79436135F;
-		relShowdownProb[6200] = 1.2506967F;
-		relShowdownProb[6201] = 0.85098076F;
-		relShowdownProb[6202] = 1.1830914F;
-		relShowdownProb[6203] = 1.1399931F;
-		relShowdownProb[6204] = 1.5120279F;
-		relShowdownProb[6205] = 0.828164F;
-		relShowdownProb[6206] = 1.0757681F;
-		relShowdownProb[6207] = 1.0538377F;
-		relShowdownProb[6208] = 1.1636578F;
-		relShowdownProb[6209] = 1.4704136F;
-		relShowdownProb[6210] = 1.1078806F;
-		relShowdownProb[6211] = 1.4356629F;
-		relShowdownProb[6212] = 1.5709381F;
-		relShowdownProb[6213] = 1.5411855F;
-		relShowdownProb[6214] = 0.9464731F;
-		relShowdownProb[6215] = 1.16619F;
-		relShowdownProb[6216] = 0.9954869F;
-		relShowdownProb[6217] = 1.2675979F;
-		relShowdownProb[6218] = 1.4290054F;
-		relShowdownProb[6219] = 1.1149297F;
-		relShowdownProb[6220] = 0.828164F;
-		relShowdownProb[6221] = 1.3166116F;
-		relShowdownProb[6222] = 1.2982057F;
-		relShowdownProb[6223] = 1.4836637F;
-		relShowdownProb[6224] = 1.1154861F;
-		relShowdownProb[6225] = 1.3487241F;
-		relShowdownProb[6226] = 1.1302027F;
-		relShowdownProb[6227] = 1.469118F;
-		relShowdownProb[6228] = 1.7059089F;
-		relShowdownProb[6229] = 1.385907F;
-		relShowdownProb[6230] = 1.2523867F;
-		relShowdownProb[6231] = 1.5425739F;
-		relShowdownProb[6232] = 1.5854838F;
-		relShowdownProb[6233] = 1.3869177F;
-		relShowdownProb[6234] = 1.4701328F;
-		relShowdownProb[6235] = 1.0647823F;
-		relShowdownProb[6236] = 1.0140784F;
-		relShowdownProb[6237] = 1.0140784F;
-		relShowdownProb[6238] = 0.9954869F;
-		relShowdownProb[6239] = 1.1154861F;
-		relShowdownProb[6240] = 0.79436135F;
-		relShowdownProb[6241] = 1.1881617F;
-		relShowdownProb[6242] = 0.8450653F;
-		relShowdownProb[6243] = 1.0115432F;
-		relShowdownProb[6244] = 1.1927493F;
-		relShowdownProb[6245] = 1.1492888F;
-		relShowdownProb[6246] = 1.0647823F;
-		relShowdownProb[6247] = 1.0918243F;
-		relShowdownProb[6248] = 0.8450653F;
-		relShowdownProb[6249] = 1.268443F;
-		relShowdownProb[6250] = 1.2676598F;
-		relShowdownProb[6251] = 1.0985849F;
-		relShowdownProb[6252] = 1.3808366F;
-		relShowdownProb[6253] = 1.2523867F;
-		relShowdownProb[6254] = 1.2232615F;
-		relShowdownProb[6255] = 0.8957692F;
-		relShowdownProb[6256] = 0.8957692F;
-		relShowdownProb[6257] = 0.867037F;
-		relShowdownProb[6258] = 1.16619F;
-		relShowdownProb[6259] = 1.2523867F;
-		relShowdownProb[6260] = 1.2829328F;
-		relShowdownProb[6261] = 1.0478809F;
-		relShowdownProb[6262] = 1.0757681F;
-		relShowdownProb[6263] = 1.527301F;
-		relShowdownProb[6264] = 1.4545723F;
-		relShowdownProb[6265] = 1.16619F;
-		relShowdownProb[6266] = 1.0275993F;
-		relShowdownProb[6267] = 1.4203899F;
-		relShowdownProb[6268] = 1.0618378F;
-		relShowdownProb[6269] = 1.1801871F;
-		relShowdownProb[6270] = 1.2675979F;
-		relShowdownProb[6271] = 1.2337953F;
-		relShowdownProb[6272] = 1.268443F;
-		relShowdownProb[6273] = 1.1999927F;
-		relShowdownProb[6274] = 1.0757681F;
-		relShowdownProb[6275] = 1.4509358F;
-		relShowdownProb[6276] = 1.216894F;
-		relShowdownProb[6277] = 1.1399931F;
-		relShowdownProb[6278] = 1.2371137F;
-		relShowdownProb[6279] = 1.5854838F;
-		relShowdownProb[6280] = 1.1323875F;
-		relShowdownProb[6281] = 1.4450616F;
-		relShowdownProb[6282] = 1.0538377F;
-		relShowdownProb[6283] = 1.4254808F;
-		relShowdownProb[6284] = 1.4701328F;
-		relShowdownProb[6285] = 1.3014005F;
-		relShowdownProb[6286] = 1.3487241F;
-		relShowdownProb[6287] = 1.2829328F;
-		relShowdownProb[6288] = 1.6873039F;
-		relShowdownProb[6289] = 1.6781704F;
-		relShowdownProb[6290] = 1.9216516F;
-		relShowdownProb[6291] = 1.216894F;
-		relShowdownProb[6292] = 1.2844992F;
-		relShowdownProb[6293] = 1.4290054F;
-		relShowdownProb[6294] = 1.2844992F;
-		relShowdownProb[6295] = 1.3647804F;
-		relShowdownProb[6296] = 1.1454756F;
-		relShowdownProb[6297] = 1.2675979F;
-		relShowdownProb[6298] = 1.4611179F;
-		relShowdownProb[6299] = 1.2829328F;
-		relShowdownProb[6300] = 1.5127552F;
-		relShowdownProb[6301] = 1.2844992F;
-		relShowdownProb[6302] = 1.6056241F;
-		relShowdownProb[6303] = 1.1607487F;
-		relShowdownProb[6304] = 1.4982095F;
-		relShowdownProb[6305] = 1.5117403F;
-		relShowdownProb[6306] = 1.6394266F;
-		relShowdownProb[6307] = 1.6859052F;
-		relShowdownProb[6308] = 1.649485F;
-		relShowdownProb[6309] = 1.5418466F;
-		relShowdownProb[6310] = 1.4701328F;
-		relShowdownProb[6311] = 1.5092187F;
-		relShowdownProb[6312] = 1.6394266F;
-		relShowdownProb[6313] = 1.332668F;
-		relShowdownProb[6314] = 1.603666F;
-		relShowdownProb[6315] = 1.6727581F;
-		relShowdownProb[6316] = 1.7059089F;
-		relShowdownProb[6317] = 1.8534265F;
-		relShowdownProb[6318] = 0.81126267F;
-		relShowdownProb[6319] = 0.96337444F;
-		relShowdownProb[6320] = 1.0985849F;
-		relShowdownProb[6321] = 0.96337444F;
-		relShowdownProb[6322] = 1.16619F;
-		relShowdownProb[6323] = 0.81126267F;
-		relShowdownProb[6324] = 0.7605587F;
-		relShowdownProb[6325] = 0.96337444F;
-		relShowdownProb[6326] = 0.96337444F;
-		relShowdownProb[6327] = 0.87886786F;
-		relShowdownProb[6328] = 1.1323875F;
-		relShowdownProb[6329] = 1.0918243F;
-		relShowdownProb[6330] = 0.96337444F;
-		relShowdownProb[6331] = 1.0757681F;
-		relShowdownProb[6332] = 1.2523867F;
-		relShowdownProb[6333] = 0.87886786F;
-		relShowdownProb[6334] = 0.9802757F;
-		relShowdownProb[6335] = 0.9802757F;
-		relShowdownProb[6336] = 0.9794307F;
-		relShowdownProb[6337] = 1.1999927F;
-		relShowdownProb[6338] = 0.997177F;
-		relShowdownProb[6339] = 0.8991495F;
-		relShowdownProb[6340] = 0.8957692F;
-		relShowdownProb[6341] = 0.9152057F;
-		relShowdownProb[6342] = 1.1927493F;
-		relShowdownProb[6343] = 1.0309796F;
-		relShowdownProb[6344] = 0.997177F;
-		relShowdownProb[6345] = 0.93126196F;
-		relShowdownProb[6346] = 0.9802757F;
-		relShowdownProb[6347] = 1.1721056F;
-		relShowdownProb[6348] = 1.1454756F;
-		relShowdownProb[6349] = 1.3690058F;
-		relShowdownProb[6350] = 1.0757681F;
-		relShowdownProb[6351] = 1.2218407F;
-		relShowdownProb[6352] = 1.4814819F;
-		relShowdownProb[6353] = 0.87886786F;
-		relShowdownProb[6354] = 1.0478809F;
-		relShowdownProb[6355] = 1.0985849F;
-		relShowdownProb[6356] = 0.88309324F;
-		relShowdownProb[6357] = 0.86196655F;
-		relShowdownProb[6358] = 0.9295718F;
-		relShowdownProb[6359] = 0.9954869F;
-		relShowdownProb[6360] = 1.16619F;
-		relShowdownProb[6361] = 1.0275993F;
-		relShowdownProb[6362] = 1.1162909F;
-		relShowdownProb[6363] = 0.8957692F;
-		relShowdownProb[6364] = 0.828164F;
-		relShowdownProb[6365] = 0.9473182F;
-		relShowdownProb[6366] = 1.1154861F;
-		relShowdownProb[6367] = 1.1560493F;
-		relShowdownProb[6368] = 1.2829328F;
-		relShowdownProb[6369] = 1.1154861F;
-		relShowdownProb[6370] = 1.2202742F;
-		relShowdownProb[6371] = 1.0538377F;
-		relShowdownProb[6372] = 1.4853889F;
-		relShowdownProb[6373] = 0.9126705F;
-		relShowdownProb[6374] = 0.8450653F;
-		relShowdownProb[6375] = 0.9152057F;
-		relShowdownProb[6376] = 0.81126267F;
-		relShowdownProb[6377] = 1.0757681F;
-		relShowdownProb[6378] = 1.1302027F;
-		relShowdownProb[6379] = 1.4028083F;
-		relShowdownProb[6380] = 1.2523867F;
-		relShowdownProb[6381] = 1.2065678F;
-		relShowdownProb[6382] = 1.2509322F;
-		relShowdownProb[6383] = 1.1154861F;
-		relShowdownProb[6384] = 1.3487241F;
-		relShowdownProb[6385] = 1.4051168F;
-		relShowdownProb[6386] = 1.629121F;
-		relShowdownProb[6387] = 1.4254808F;
-		relShowdownProb[6388] = 0.8450653F;
-		relShowdownProb[6389] = 0.9126705F;
-		relShowdownProb[6390] = 1.1830914F;
-		relShowdownProb[6391] = 0.9473182F;
-		relShowdownProb[6392] = 0.6422496F;
-		relShowdownProb[6393] = 0.8957692F;
-		relShowdownProb[6394] = 1.0275993F;
-		relShowdownProb[6395] = 1.3521044F;
-		relShowdownProb[6396] = 1.1881617F;
-		relShowdownProb[6397] = 1.2997909F;
-		relShowdownProb[6398] = 1.16619F;
-		relShowdownProb[6399] = 1.1830914F;
-		relShowdownProb[6400] = 0.96337444F;
-		relShowdownProb[6401] = 0.96337444F;
-		relShowdownProb[6402] = 0.9473182F;
-		relShowdownProb[6403] = 1.0843836F;
-		relShowdownProb[6404] = 0.997177F;
-		relShowdownProb[6405] = 1.0275993F;
-		relShowdownProb[6406] = 1.0691106F;
-		relShowdownProb[6407] = 1.1358856F;
-		relShowdownProb[6408] = 1.0478809F;
-		relShowdownProb[6409] = 1.0647823F;
-		relShowdownProb[6410] = 1.0757681F;
-		relShowdownProb[6411] = 0.8957692F;
-		relShowdownProb[6412] = 1.204218F;
-		relShowdownProb[6413] = 1.1607487F;
-		relShowdownProb[6414] = 1.385907F;
-		relShowdownProb[6415] = 1.0436556F;
-		relShowdownProb[6416] = 1.1607487F;
-		relShowdownProb[6417] = 1.1782036F;
-		relShowdownProb[6418] = 1.16619F;
-		relShowdownProb[6419] = 1.1560493F;
-		relShowdownProb[6420] = 1.5120279F;
-		relShowdownProb[6421] = 1.6582124F;
-		relShowdownProb[6422] = 1.4717627F;
-		relShowdownProb[6423] = 0.9464731F;
-		relShowdownProb[6424] = 1.2675979F;
-		relShowdownProb[6425] = 1.204218F;
-		relShowdownProb[6426] = 1.16619F;
-		relShowdownProb[6427] = 1.332668F;
-		relShowdownProb[6428] = 1.1607487F;
-		relShowdownProb[6429] = 1.3352032F;
-		relShowdownProb[6430] = 1.3005555F;
-		relShowdownProb[6431] = 1.0385646F;
-		relShowdownProb[6432] = 1.2218407F;
-		relShowdownProb[6433] = 1.1999927F;
-		relShowdownProb[6434] = 1.2202742F;
-		relShowdownProb[6435] = 1.3592978F;
-		relShowdownProb[6436] = 1.3527522F;
-		relShowdownProb[6437] = 1.2482259F;
-		relShowdownProb[6438] = 1.5211174F;
-		relShowdownProb[6439] = 1.6537927F;
-		relShowdownProb[6440] = 1.1760217F;
-		relShowdownProb[6441] = 1.3963894F;
-		relShowdownProb[6442] = 1.7475164F;
-		relShowdownProb[6443] = 1.636563F;
-		relShowdownProb[6444] = 0.8450653F;
-		relShowdownProb[6445] = 1.216894F;
-		relShowdownProb[6446] = 0.9464731F;
-		relShowdownProb[6447] = 0.9954869F;
-		relShowdownProb[6448] = 0.7605587F;
-		relShowdownProb[6449] = 1.1830914F;
-		relShowdownProb[6450] = 0.93126196F;
-		relShowdownProb[6451] = 1.1830914F;
-		relShowdownProb[6452] = 1.1078806F;
-		relShowdownProb[6453] = 1.0857077F;
-		relShowdownProb[6454] = 0.9464731F;
-		relShowdownProb[6455] = 1.216894F;
-		relShowdownProb[6456] = 0.80281204F;
-		relShowdownProb[6457] = 0.9464731F;
-		relShowdownProb[6458] = 1.3647804F;
-		relShowdownProb[6459] = 1.3134788F;
-		relShowdownProb[6460] = 1.2506967F;
-		relShowdownProb[6461] = 1.0597118F;
-		relShowdownProb[6462] = 1.2523867F;
-		relShowdownProb[6463] = 1.281512F;
-		relShowdownProb[6464] = 0.997177F;
-		relShowdownProb[6465] = 1.0647823F;
-		relShowdownProb[6466] = 1.1881617F;
-		relShowdownProb[6467] = 1.0478809F;
-		relShowdownProb[6468] = 1.2202742F;
-		relShowdownProb[6469] = 1.2982057F;
-		relShowdownProb[6470] = 1.2506967F;
-		relShowdownProb[6471] = 1.2844992F;
-		relShowdownProb[6472] = 1.2829328F;
-		relShowdownProb[6473] = 1.2800236F;
-		relShowdownProb[6474] = 1.1323875F;
-		relShowdownProb[6475] = 1.5735116F;
-		relShowdownProb[6476] = 1.1149297F;
-		relShowdownProb[6477] = 1.3236607F;
-		relShowdownProb[6478] = 1.527301F;
-		relShowdownProb[6479] = 1.1830914F;
-		relShowdownProb[6480] = 1.0140784F;
-		relShowdownProb[6481] = 1.1239368F;
-		relShowdownProb[6482] = 0.997177F;
-		relShowdownProb[6483] = 1.0757681F;
-		relShowdownProb[6484] = 1.2218407F;
-		relShowdownProb[6485] = 1.3183018F;
-		relShowdownProb[6486] = 0.9954869F;
-		relShowdownProb[6487] = 1.2065678F;
-		relShowdownProb[6488] = 1.5127552F;
-		relShowdownProb[6489] = 1.0647823F;
-		relShowdownProb[6490] = 1.3005555F;
-		relShowdownProb[6491] = 1.1607487F;
-		relShowdownProb[6492] = 1.3382065F;
-		relShowdownProb[6493] = 1.6226938F;
-		relShowdownProb[6494] = 1.4535123F;
-		relShowdownProb[6495] = 1.332668F;
-		relShowdownProb[6496] = 1.3745708F;
-		relShowdownProb[6497] = 1.3527522F;
-		relShowdownProb[6498] = 1.2759644F;
-		relShowdownProb[6499] = 1.2855186F;
-		relShowdownProb[6500] = 1.3183018F;
-		relShowdownProb[6501] = 1.4535123F;
-		relShowdownProb[6502] = 1.332668F;
-		relShowdownProb[6503] = 1.2506967F;
-		relShowdownProb[6504] = 1.6216803F;
-		relShowdownProb[6505] = 1.2982057F;
-		relShowdownProb[6506] = 1.2337953F;
-		relShowdownProb[6507] = 1.268443F;
-		relShowdownProb[6508] = 1.5120279F;
-		relShowdownProb[6509] = 1.8036697F;
-		relShowdownProb[6510] = 1.216894F;
-		relShowdownProb[6511] = 1.3166116F;
-		relShowdownProb[6512] = 1.9396721F;
-		relShowdownProb[6513] = 1.3672979F;
-		relShowdownProb[6514] = 1.4423945F;
-		relShowdownProb[6515] = 1.1999927F;
-		relShowdownProb[6516] = 1.6377366F;
-		relShowdownProb[6517] = 1.3287518F;
-		relShowdownProb[6518] = 1.5563923F;
-		relShowdownProb[6519] = 1.6226938F;
-		relShowdownProb[6520] = 1.6813226F;
-		relShowdownProb[6521] = 1.5718215F;
-		relShowdownProb[6522] = 1.7180177F;
-		relShowdownProb[6523] = 1.4203899F;
-		relShowdownProb[6524] = 1.6727581F;
-		relShowdownProb[6525] = 1.7475164F;
-		relShowdownProb[6526] = 2.1976342F;
-		relShowdownProb[6527] = 1.9593365F;
-		relShowdownProb[6528] = 1.0985849F;
-		relShowdownProb[6529] = 1.0309796F;
-		relShowdownProb[6530] = 1.2337953F;
-		relShowdownProb[6531] = 1.1239368F;
-		relShowdownProb[6532] = 1.1323875F;
-		relShowdownProb[6533] = 1.0647823F;
-		relShowdownProb[6534] = 1.0597118F;
-		relShowdownProb[6535] = 0.8957692F;
-		relShowdownProb[6536] = 1.268443F;
-		relShowdownProb[6537] = 1.1774576F;
-		relShowdownProb[6538] = 0.9802757F;
-		relShowdownProb[6539] = 1.1830914F;
-		relShowdownProb[6540] = 1.1239368F;
-		relShowdownProb[6541] = 1.1830914F;
-		relShowdownProb[6542] = 1.1078806F;
-		relShowdownProb[6543] = 1.2218407F;
-		relShowdownProb[6544] = 1.1830914F;
-		relShowdownProb[6545] = 1.2844992F;
-		relShowdownProb[6546] = 1.1607487F;
-		relShowdownProb[6547] = 1.441701F;
-		relShowdownProb[6548] = 0.9295718F;
-		relShowdownProb[6549] = 0.77746004F;
-		relShowdownProb[6550] = 1.2202742F;
-		relShowdownProb[6551] = 1.1154861F;
-		relShowdownProb[6552] = 1.0115432F;
-		relShowdownProb[6553] = 1.1760217F;
-		relShowdownProb[6554] = 1.0647823F;
-		relShowdownProb[6555] = 1.3487241F;
-		relShowdownProb[6556] = 1.1454756F;
-		relShowdownProb[6557] = 1.2509322F;
-		relShowdownProb[6558] = 1.0985849F;
-		relShowdownProb[6559] = 1.2523867F;
-		relShowdownProb[6560] = 1.2065678F;
-		relShowdownProb[6561] = 1.2509322F;
-		relShowdownProb[6562] = 1.4162245F;
-		relShowdownProb[6563] = 1.0647823F;
-		relShowdownProb[6564] = 1.0985849F;
-		relShowdownProb[6565] = 1.204218F;
-		relShowdownProb[6566] = 1.3014005F;
-		relShowdownProb[6567] = 1.2523867F;
-		relShowdownProb[6568] = 1.0385646F;
-		relShowdownProb[6569] = 0.96337444F;
-		relShowdownProb[6570] = 1.2202742F;
-		relShowdownProb[6571] = 1.3287518F;
-		relShowdownProb[6572] = 1.4400265F;
-		relShowdownProb[6573] = 1.1999927F;
-		relShowdownProb[6574] = 1.0757681F;
-		relShowdownProb[6575] = 1.2829328F;
-		relShowdownProb[6576] = 1.309115F;
-		relShowdownProb[6577] = 1.5810863F;
-		relShowdownProb[6578] = 1.3014005F;
-		relShowdownProb[6579] = 1.477174F;
-		relShowdownProb[6580] = 1.4203899F;
-		relShowdownProb[6581] = 1.6436666F;
-		relShowdownProb[6582] = 1.4146562F;
-		relShowdownProb[6583] = 1.5903324F;
-		relShowdownProb[6584] = 1.2337953F;
-		relShowdownProb[6585] = 1.4197097F;
-		relShowdownProb[6586] = 1.3808366F;
-		relShowdownProb[6587] = 1.16619F;
-		relShowdownProb[6588] = 1.3968929F;
-		relShowdownProb[6589] = 1.5120279F;
-		relShowdownProb[6590] = 1.216894F;
-		relShowdownProb[6591] = 1.3968929F;
-		relShowdownProb[6592] = 1.3898438F;
-		relShowdownProb[6593] = 1.4400265F;
-		relShowdownProb[6594] = 0.96337444F;
-		relShowdownProb[6595] = 1.332668F;
-		relShowdownProb[6596] = 1.4814819F;
-		relShowdownProb[6597] = 1.2945694F;
-		relShowdownProb[6598] = 1.4701328F;
-		relShowdownProb[6599] = 1.3352032F;
-		relShowdownProb[6600] = 1.477174F;
-		relShowdownProb[6601] = 1.1454756F;
-		relShowdownProb[6602] = 1.5563923F;
-		relShowdownProb[6603] = 1.9971616F;
-		relShowdownProb[6604] = 1.5754125F;
-		relShowdownProb[6605] = 1.5042162F;
-		relShowdownProb[6606] = 1.5895678F;
-		relShowdownProb[6607] = 1.771669F;
-		relShowdownProb[6608] = 1.527301F;
-		relShowdownProb[6609] = 1.6088246F;
-		relShowdownProb[6610] = 1.8137102F;
-		relShowdownProb[6611] = 1.9248006F;
-		relShowdownProb[6612] = 1.1830914F;
-		relShowdownProb[6613] = 1.5211174F;
-		relShowdownProb[6614] = 1.204218F;
-		relShowdownProb[6615] = 1.4197097F;
-		relShowdownProb[6616] = 1.3005555F;
-		relShowdownProb[6617] = 1.4203899F;
-		relShowdownProb[6618] = 1.385907F;
-		relShowdownProb[6619] = 1.5574553F;
-		relShowdownProb[6620] = 1.3592978F;
-		relShowdownProb[6621] = 1.469118F;
-		relShowdownProb[6622] = 1.0478809F;
-		relShowdownProb[6623] = 1.3487241F;
-		relShowdownProb[6624] = 1.4509358F;
-		relShowdownProb[6625] = 1.4982095F;
-		relShowdownProb[6626] = 1.3591794F;
-		relShowdownProb[6627] = 1.4028083F;
-		relShowdownProb[6628] = 1.4129491F;
-		relShowdownProb[6629] = 1.8022151F;
-		relShowdownProb[6630] = 1.469118F;
-		relShowdownProb[6631] = 1.7613856F;
-		relShowdownProb[6632] = 1.8137102F;
-		relShowdownProb[6633] = 1.5211174F;
-		relShowdownProb[6634] = 1.477174F;
-		relShowdownProb[6635] = 1.2676598F;
-		relShowdownProb[6636] = 1.4982095F;
-		relShowdownProb[6637] = 1.7059089F;
-		relShowdownProb[6638] = 1.8931427F;
-		relShowdownProb[6639] = 2.011409F;
-		relShowdownProb[6640] = 1.7915384F;
-		relShowdownProb[6641] = 1.6216803F;
-		relShowdownProb[6642] = 1.8480341F;
-		relShowdownProb[6643] = 1.6727581F;
-		relShowdownProb[6644] = 1.6504321F;
-		relShowdownProb[6645] = 1.9063815F;
-		relShowdownProb[6646] = 2.0240593F;
-		relShowdownProb[6647] = 1.5042162F;
-		relShowdownProb[6648] = 1.0140784F;
-		relShowdownProb[6649] = 1.4704136F;
-		relShowdownProb[6650] = 1.216894F;
-		relShowdownProb[6651] = 1.1492888F;
-		relShowdownProb[6652] = 1.1154861F;
-		relShowdownProb[6653] = 1.3521044F;
-		relShowdownProb[6654] = 1.4704136F;
-		relShowdownProb[6655] = 1.4704136F;
-		relShowdownProb[6656] = 1.216894F;
-		relShowdownProb[6657] = 1.2202742F;
-		relShowdownProb[6658] = 1.3014005F;
-		relShowdownProb[6659] = 1.3808366F;
-		relShowdownProb[6660] = 1.4129491F;
-		relShowdownProb[6661] = 1.1492888F;
-		relShowdownProb[6662] = 1.3014005F;
-		relShowdownProb[6663] = 1.3690058F;
-		relShowdownProb[6664] = 1.1999927F;
-		relShowdownProb[6665] = 1.3014005F;
-		relShowdownProb[6666] = 1.216894F;
-		relShowdownProb[6667] = 1.4611179F;
-		relShowdownProb[6668] = 1.2506967F;
-		relShowdownProb[6669] = 1.4129491F;
-		relShowdownProb[6670] = 1.4985824F;
-		relShowdownProb[6671] = 1.0816835F;
-		relShowdownProb[6672] = 1.1492888F;
-		relShowdownProb[6673] = 1.2523867F;
-		relShowdownProb[6674] = 1.2506967F;
-		relShowdownProb[6675] = 1.2844992F;
-		relShowdownProb[6676] = 1.4985824F;
-		relShowdownProb[6677] = 1.1323875F;
-		relShowdownProb[6678] = 1.3166116F;
-		relShowdownProb[6679] = 1.2676598F;
-		relShowdownProb[6680] = 1.634212F;
-		relShowdownProb[6681] = 0.9802757F;
-		relShowdownProb[6682] = 1.0816835F;
-		relShowdownProb[6683] = 1.1154861F;
-		relShowdownProb[6684] = 1.0985849F;
-		relShowdownProb[6685] = 1.0816835F;
-		relShowdownProb[6686] = 1.2506967F;
-		relShowdownProb[6687] = 0.9152057F;
-		relShowdownProb[6688] = 1.4028083F;
-		relShowdownProb[6689] = 1.3647804F;
-		relShowdownProb[6690] = 1.3762492F;
-		relShowdownProb[6691] = 1.0816835F;
-		relShowdownProb[6692] = 1.3014005F;
-		relShowdownProb[6693] = 1.2523867F;
-		relShowdownProb[6694] = 1.216894F;
-		relShowdownProb[6695] = 1.3005555F;
-		relShowdownProb[6696] = 1.8502905F;
-		relShowdownProb[6697] = 1.216894F;
-		relShowdownProb[6698] = 0.88309324F;
-		relShowdownProb[6699] = 1.588393F;
-		relShowdownProb[6700] = 1.5727648F;
-		relShowdownProb[6701] = 1.2844992F;
-		relShowdownProb[6702] = 0.9802757F;
-		relShowdownProb[6703] = 1.0275993F;
-		relShowdownProb[6704] = 1.6732292F;
-		relShowdownProb[6705] = 1.1560493F;
-		relShowdownProb[6706] = 1.4832908F;
-		relShowdownProb[6707] = 1.3690058F;
-		relShowdownProb[6708] = 1.4611179F;
-		relShowdownProb[6709] = 1.4662088F;
-		relShowdownProb[6710] = 1.4836637F;
-		relShowdownProb[6711] = 1.3352032F;
-		relShowdownProb[6712] = 1.3968929F;
-		relShowdownProb[6713] = 1.649485F;
-		relShowdownProb[6714] = 1.7745782F;
-		relShowdownProb[6715] = 1.8473068F;
-		relShowdownProb[6716] = 1.1154861F;
-		relShowdownProb[6717] = 1.6056241F;
-		relShowdownProb[6718] = 1.2844992F;
-		relShowdownProb[6719] = 1.385907F;
-		relShowdownProb[6720] = 1.3352032F;
-		relShowdownProb[6721] = 1.0140784F;
-		relShowdownProb[6722] = 1.2844992F;
-		relShowdownProb[6723] = 1.2844992F;
-		relShowdownProb[6724] = 1.6216803F;
-		relShowdownProb[6725] = 1.4068325F;
-		relShowdownProb[6726] = 1.2675979F;
-		relShowdownProb[6727] = 1.1830914F;
-		relShowdownProb[6728] = 1.2523867F;
-		relShowdownProb[6729] = 1.2337953F;
-		relShowdownProb[6730] = 1.332668F;
-		relShowdownProb[6731] = 1.2233326F;
-		relShowdownProb[6732] = 1.2506967F;
-		relShowdownProb[6733] = 1.3487241F;
-		relShowdownProb[6734] = 1.588393F;
-		relShowdownProb[6735] = 1.5582021F;
-		relShowdownProb[6736] = 1.4197097F;
-		relShowdownProb[6737] = 1.3183018F;
-		relShowdownProb[6738] = 1.204218F;
-		relShowdownProb[6739] = 1.2337953F;
-		relShowdownProb[6740] = 1.4932303F;
-		relShowdownProb[6741] = 1.2997909F;
-		relShowdownProb[6742] = 1.1492888F;
-		relShowdownProb[6743] = 1.3968929F;
-		relShowdownProb[6744] = 1.4203899F;
-		relShowdownProb[6745] = 1.5563923F;
-		relShowdownProb[6746] = 1.4535123F;
-		relShowdownProb[6747] = 1.3647804F;
-		relShowdownProb[6748] = 1.2982057F;
-		relShowdownProb[6749] = 1.6436666F;
-		relShowdownProb[6750] = 1.804992F;
-		relShowdownProb[6751] = 1.16619F;
-		relShowdownProb[6752] = 1.2675979F;
-		relShowdownProb[6753] = 1.3487241F;
-		relShowdownProb[6754] = 1.8084397F;
-		relShowdownProb[6755] = 1.6859052F;
-		relShowdownProb[6756] = 1.5291657F;
-		relShowdownProb[6757] = 1.5211174F;
-		relShowdownProb[6758] = 1.3968929F;
-		relShowdownProb[6759] = 1.2523867F;
-		relShowdownProb[6760] = 1.6582124F;
-		relShowdownProb[6761] = 1.2844992F;
-		relShowdownProb[6762] = 1.2844992F;
-		relShowdownProb[6763] = 1.695304F;
-		relShowdownProb[6764] = 1.5854838F;
-		relShowdownProb[6765] = 1.9416848F;
-		relShowdownProb[6766] = 1.7239331F;
-		relShowdownProb[6767] = 1.8304114F;
-		relShowdownProb[6768] = 1.3898438F;
-		relShowdownProb[6769] = 1.5563923F;
-		relShowdownProb[6770] = 1.7613856F;
-		relShowdownProb[6771] = 1.7613856F;
-		relShowdownProb[6772] = 1.2844992F;
-		relShowdownProb[6773] = 1.3014005F;
-		relShowdownProb[6774] = 1.2844992F;
-		relShowdownProb[6775] = 1.3014005F;
-		relShowdownProb[6776] = 1.0309796F;
-		relShowdownProb[6777] = 1.216894F;
-		relShowdownProb[6778] = 1.3647804F;
-		relShowdownProb[6779] = 1.3014005F;
-		relShowdownProb[6780] = 1.3647804F;
-		relShowdownProb[6781] = 1.6056241F;
-		relShowdownProb[6782] = 1.16619F;
-		relShowdownProb[6783] = 1.0647823F;
-		relShowdownProb[6784] = 1.1721056F;
-		relShowdownProb[6785] = 1.3014005F;
-		relShowdownProb[6786] = 1.4611179F;
-		relShowdownProb[6787] = 1.9420404F;
-		relShowdownProb[6788] = 1.2844992F;
-		relShowdownProb[6789] = 1.5574553F;
-		relShowdownProb[6790] = 1.6189389F;
-		relShowdownProb[6791] = 1.60189F;
-		relShowdownProb[6792] = 1.385907F;
-		relShowdownProb[6793] = 1.2337953F;
-		relShowdownProb[6794] = 1.204218F;
-		relShowdownProb[6795] = 1.2844992F;
-		relShowdownProb[6796] = 1.4932303F;
-		relShowdownProb[6797] = 1.5903324F;
-		relShowdownProb[6798] = 1.216894F;
-		relShowdownProb[6799] = 1.3166116F;
-		relShowdownProb[6800] = 1.4203899F;
-		relShowdownProb[6801] = 1.5854838F;
-		relShowdownProb[6802] = 1.4873149F;
-		relShowdownProb[6803] = 1.3647804F;
-		relShowdownProb[6804] = 1.680031F;
-		relShowdownProb[6805] = 1.1782036F;
-		relShowdownProb[6806] = 1.5967237F;
-		relShowdownProb[6807] = 1.2675979F;
-		relShowdownProb[6808] = 1.1492888F;
-		relShowdownProb[6809] = 1.4932303F;
-		relShowdownProb[6810] = 1.4704136F;
-		relShowdownProb[6811] = 1.4450616F;
-		relShowdownProb[6812] = 1.3609575F;
-		relShowdownProb[6813] = 1.5380188F;
-		relShowdownProb[6814] = 1.7180177F;
-		relShowdownProb[6815] = 1.6189389F;
-		relShowdownProb[6816] = 1.8036697F;
-		relShowdownProb[6817] = 1.3690058F;
-		relShowdownProb[6818] = 1.4290054F;
-		relShowdownProb[6819] = 1.3134788F;
-		relShowdownProb[6820] = 1.4982095F;
-		relShowdownProb[6821] = 1.6781704F;
-		relShowdownProb[6822] = 1.8084397F;
-		relShowdownProb[6823] = 1.5092865F;
-		relShowdownProb[6824] = 1.4662088F;
-		relShowdownProb[6825] = 1.629121F;
-		relShowdownProb[6826] = 1.5394787F;
-		relShowdownProb[6827] = 1.9481572F;
-		relShowdownProb[6828] = 1.3521044F;
-		relShowdownProb[6829] = 1.4366109F;
-		relShowdownProb[6830] = 1.541399F;
-		relShowdownProb[6831] = 1.0816835F;
-		relShowdownProb[6832] = 1.268443F;
-		relShowdownProb[6833] = 1.513874F;
-		relShowdownProb[6834] = 1.4535123F;
-		relShowdownProb[6835] = 1.2202742F;
-		relShowdownProb[6836] = 1.649485F;
-		relShowdownProb[6837] = 1.5127552F;
-		relShowdownProb[6838] = 1.6225253F;
-		relShowdownProb[6839] = 1.3968929F;
-		relShowdownProb[6840] = 1.634212F;
-		relShowdownProb[6841] = 1.8036697F;
-		relShowdownProb[6842] = 1.802993F;
-		relShowdownProb[6843] = 1.5042162F;
-		relShowdownProb[6844] = 1.5574553F;
-		relShowdownProb[6845] = 1.5425739F;
-		relShowdownProb[6846] = 1.4836637F;
-		relShowdownProb[6847] = 1.7336472F;
-		relShowdownProb[6848] = 1.879904F;
-		relShowdownProb[6849] = 1.4704136F;
-		relShowdownProb[6850] = 1.541399F;
-		relShowdownProb[6851] = 1.7411231F;
-		relShowdownProb[6852] = 1.8182154F;
-		relShowdownProb[6853] = 1.4701328F;
-		relShowdownProb[6854] = 1.9990529F;
-		relShowdownProb[6855] = 1.9460977F;
-		relShowdownProb[6856] = 1.2506967F;
-		relShowdownProb[6857] = 1.5718215F;
-		relShowdownProb[6858] = 1.4366109F;
-		relShowdownProb[6859] = 1.6394266F;
-		relShowdownProb[6860] = 1.1323875F;
-		relShowdownProb[6861] = 1.1154861F;
-		relShowdownProb[6862] = 1.4290054F;
-		relShowdownProb[6863] = 1.5211174F;
-		relShowdownProb[6864] = 1.4129491F;
-		relShowdownProb[6865] = 1.7432489F;
-		relShowdownProb[6866] = 1.3352032F;
-		relShowdownProb[6867] = 1.385907F;
-		relShowdownProb[6868] = 1.0597118F;
-		relShowdownProb[6869] = 1.6901306F;
-		relShowdownProb[6870] = 1.2523867F;
-		relShowdownProb[6871] = 1.7279572F;
-		relShowdownProb[6872] = 1.4197097F;
-		relShowdownProb[6873] = 1.4290054F;
-		relShowdownProb[6874] = 1.664758F;
-		relShowdownProb[6875] = 1.4853889F;
-		relShowdownProb[6876] = 1.3014005F;
-		relShowdownProb[6877] = 1.3183018F;
-		relShowdownProb[6878] = 1.4290054F;
-		relShowdownProb[6879] = 1.3352032F;
-		relShowdownProb[6880] = 1.0597118F;
-		relShowdownProb[6881] = 1.6209157F;
-		relShowdownProb[6882] = 1.5549201F;
-		relShowdownProb[6883] = 1.3968929F;
-		relShowdownProb[6884] = 1.4814819F;
-		relShowdownProb[6885] = 1.309115F;
-		relShowdownProb[6886] = 1.5380188F;
-		relShowdownProb[6887] = 1.2523867F;
-		relShowdownProb[6888] = 1.5578469F;
-		relShowdownProb[6889] = 1.6145753F;
-		relShowdownProb[6890] = 1.7772229F;
-		relShowdownProb[6891] = 1.4704136F;
-		relShowdownProb[6892] = 1.6901306F;
-		relShowdownProb[6893] = 1.268443F;
-		relShowdownProb[6894] = 1.4535123F;
-		relShowdownProb[6895] = 1.7019615F;
-		relShowdownProb[6896] = 1.559749F;
-		relShowdownProb[6897] = 1.5887227F;
-		relShowdownProb[6898] = 1.332668F;
-		relShowdownProb[6899] = 1.3898438F;
-		relShowdownProb[6900] = 1.6000295F;
-		relShowdownProb[6901] = 1.6056241F;
-		relShowdownProb[6902] = 1.3968929F;
-		relShowdownProb[6903] = 1.2829328F;
-		relShowdownProb[6904] = 1.629121F;
-		relShowdownProb[6905] = 1.6504321F;
-		relShowdownProb[6906] = 1.5380188F;
-		relShowdownProb[6907] = 1.3968929F;
-		relShowdownProb[6908] = 1.634212F;
-		relShowdownProb[6909] = 1.8182154F;
-		relShowdownProb[6910] = 1.7059089F;
-		relShowdownProb[6911] = 1.9083989F;
-		relShowdownProb[6912] = 1.4366109F;
-		relShowdownProb[6913] = 1.4704136F;
-		relShowdownProb[6914] = 1.6216803F;
-		relShowdownProb[6915] = 1.4535123F;
-		relShowdownProb[6916] = 1.332668F;
-		relShowdownProb[6917] = 1.3303742F;
-		relShowdownProb[6918] = 1.5380188F;
-		relShowdownProb[6919] = 1.4450616F;
-		relShowdownProb[6920] = 1.5425739F;
-		relShowdownProb[6921] = 1.6873039F;
-		relShowdownProb[6922] = 1.5887227F;
-		relShowdownProb[6923] = 1.7501302F;
-		relShowdownProb[6924] = 1.4967549F;
-		relShowdownProb[6925] = 1.7018496F;
-		relShowdownProb[6926] = 1.5394787F;
-		relShowdownProb[6927] = 1.6225253F;
-		relShowdownProb[6928] = 1.3166116F;
-		relShowdownProb[6929] = 1.6189389F;
-		relShowdownProb[6930] = 1.9054897F;
-		relShowdownProb[6931] = 1.5394787F;
-		relShowdownProb[6932] = 1.8401877F;
-		relShowdownProb[6933] = 1.3183018F;
-		relShowdownProb[6934] = 1.477174F;
-		relShowdownProb[6935] = 1.4356629F;
-		relShowdownProb[6936] = 1.832761F;
-		relShowdownProb[6937] = 1.7752547F;
-		relShowdownProb[6938] = 1.7210388F;
-		relShowdownProb[6939] = 2.0640955F;
-		relShowdownProb[6940] = 1.5549201F;
-		relShowdownProb[6941] = 1.4197097F;
-		relShowdownProb[6942] = 1.7822427F;
-		relShowdownProb[6943] = 1.5380188F;
-		relShowdownProb[6944] = 1.7180177F;
-		relShowdownProb[6945] = 1.6667906F;
-		relShowdownProb[6946] = 1.216894F;
-		relShowdownProb[6947] = 1.3166116F;
-		relShowdownProb[6948] = 1.3592978F;
-		relShowdownProb[6949] = 1.8618525F;
-		relShowdownProb[6950] = 1.5718215F;
-		relShowdownProb[6951] = 1.798299F;
-		relShowdownProb[6952] = 1.695304F;
-		relShowdownProb[6953] = 1.7163953F;
-		relShowdownProb[6954] = 1.3453102F;
-		relShowdownProb[6955] = 1.7915384F;
-		relShowdownProb[6956] = 1.8785801F;
-		relShowdownProb[6957] = 1.5578469F;
-		relShowdownProb[6958] = 2.0364013F;
-		relShowdownProb[6959] = 1.7197781F;
-		relShowdownProb[6960] = 1.8931427F;
-		relShowdownProb[6961] = 1.7070318F;
-		relShowdownProb[6962] = 1.734074F;
-		relShowdownProb[6963] = 1.649485F;
-		relShowdownProb[6964] = 1.6873039F;
-		relShowdownProb[6965] = 1.8862082F;
-		relShowdownProb[6966] = 1.8534265F;
-		relShowdownProb[6967] = 1.872255F;
-		relShowdownProb[6968] = 1.8929462F;
-		relShowdownProb[6969] = 1.7661865F;
-		relShowdownProb[6970] = 1.771669F;
-		relShowdownProb[6971] = 1.992764F;
-		relShowdownProb[6972] = 1.9416848F;
-		relShowdownProb[6973] = 1.8137102F;
-		relShowdownProb[6974] = 2.2770667F;
-		relShowdownProb[6975] = 1.9102061F;
-		relShowdownProb[6976] = 1.6394266F;
-		relShowdownProb[6977] = 1.3183018F;
-		relShowdownProb[6978] = 1.0647823F;
-		relShowdownProb[6979] = 1.4704136F;
-		relShowdownProb[6980] = 1.3690058F;
-		relShowdownProb[6981] = 1.385907F;
-		relShowdownProb[6982] = 1.3808366F;
-		relShowdownProb[6983] = 1.5211174F;
-		relShowdownProb[6984] = 1.541399F;
-		relShowdownProb[6985] = 1.3915408F;
-		relShowdownProb[6986] = 1.4197097F;
-		relShowdownProb[6987] = 1.5718215F;
-		relShowdownProb[6988] = 1.4290054F;
-		relShowdownProb[6989] = 1.5211174F;
-		relShowdownProb[6990] = 1.268443F;
-		relShowdownProb[6991] = 1.5291657F;
-		relShowdownProb[6992] = 1.4366109F;
-		relShowdownProb[6993] = 1.4611179F;
-		relShowdownProb[6994] = 1.4509358F;
-		relShowdownProb[6995] = 1.6747032F;
-		relShowdownProb[6996] = 1.3014005F;
-		relShowdownProb[6997] = 1.4028083F;
-		relShowdownProb[6998] = 1.3968929F;
-		relShowdownProb[6999] = 1.2844992F;
-		relShowdownProb[7000] = 1.3808366F;
-		relShowdownProb[7001] = 1.6056241F;
-		relShowdownProb[7002] = 1.656328F;
-		relShowdownProb[7003] = 1.477174F;
-		relShowdownProb[7004] = 1.4814819F;
-		relShowdownProb[7005] = 1.7891239F;
-		relShowdownProb[7006] = 1.4366109F;
-		relShowdownProb[7007] = 1.3005555F;
-		relShowdownProb[7008] = 1.588393F;
-		relShowdownProb[7009] = 1.6000295F;
-		relShowdownProb[7010] = 1.5967237F;
-		relShowdownProb[7011] = 1.385907F;
-		relShowdownProb[7012] = 1.4704136F;
-		relShowdownProb[7013] = 1.734074F;
-		relShowdownProb[7014] = 1.3690058F;
-		relShowdownProb[7015] = 1.2363305F;
-		relShowdownProb[7016] = 1.6820823F;
-		relShowdownProb[7017] = 1.4028083F;
-		relShowdownProb[7018] = 1.477174F;
-		relShowdownProb[7019] = 1.588393F;
-		relShowdownProb[7020] = 1.5127552F;
-		relShowdownProb[7021] = 1.6225253F;
-		relShowdownProb[7022] = 1.1239368F;
-		relShowdownProb[7023] = 1.527301F;
-		relShowdownProb[7024] = 1.8763982F;
-		relShowdownProb[7025] = 1.7475164F;
-		relShowdownProb[7026] = 1.3521044F;
-		relShowdownProb[7027] = 1.7661865F;
-		relShowdownProb[7028] = 1.771669F;
-		relShowdownProb[7029] = 1.8182154F;
-		relShowdownProb[7030] = 1.7059089F;
-		relShowdownProb[7031] = 1.842135F;
-		relShowdownProb[7032] = 1.5718215F;
-		relShowdownProb[7033] = 1.6732292F;
-		relShowdownProb[7034] = 1.2363305F;
-		relShowdownProb[7035] = 1.5549201F;
-		relShowdownProb[7036] = 1.5574553F;
-		relShowdownProb[7037] = 1.4527074F;
-		relShowdownProb[7038] = 1.5380188F;
-		relShowdownProb[7039] = 1.5574553F;
-		relShowdownProb[7040] = 1.634212F;
-		relShowdownProb[7041] = 1.5854838F;
-		relShowdownProb[7042] = 1.5042162F;
-		relShowdownProb[7043] = 1.332668F;
-		relShowdownProb[7044] = 1.5425739F;
-		relShowdownProb[7045] = 1.7018496F;
-		relShowdownProb[7046] = 1.5810863F;
-		relShowdownProb[7047] = 1.6394266F;
-		relShowdownProb[7048] = 1.3968929F;
-		relShowdownProb[7049] = 1.1607487F;
-		relShowdownProb[7050] = 2.094584F;
-		relShowdownProb[7051] = 1.9139465F;
-		relShowdownProb[7052] = 1.9858141F;
-		relShowdownProb[7053] = 1.4366109F;
-		relShowdownProb[7054] = 1.9749175F;
-		relShowdownProb[7055] = 1.756396F;
-		relShowdownProb[7056] = 1.6727581F;
-		relShowdownProb[7057] = 1.872339F;
-		relShowdownProb[7058] = 1.7872326F;
-		relShowdownProb[7059] = 2.0261059F;
-		relShowdownProb[7060] = 1.5042162F;
-		relShowdownProb[7061] = 1.5887227F;
-		relShowdownProb[7062] = 1.3968929F;
-		relShowdownProb[7063] = 1.5380188F;
-		relShowdownProb[7064] = 1.8143551F;
-		relShowdownProb[7065] = 1.6820823F;
-		relShowdownProb[7066] = 1.5718215F;
-		relShowdownProb[7067] = 1.5735116F;
-		relShowdownProb[7068] = 1.4051168F;
-		relShowdownProb[7069] = 1.832761F;
-		relShowdownProb[7070] = 1.7408345F;
-		relShowdownProb[7071] = 1.7501302F;
-		relShowdownProb[7072] = 1.4662088F;
-		relShowdownProb[7073] = 1.730941F;
-		relShowdownProb[7074] = 1.7475164F;
-		relShowdownProb[7075] = 1.5042162F;
-		relShowdownProb[7076] = 1.5092865F;
-		relShowdownProb[7077] = 1.9396721F;
-		relShowdownProb[7078] = 1.7600324F;
-		relShowdownProb[7079] = 1.2898335F;
-		relShowdownProb[7080] = 1.9328591F;
-		relShowdownProb[7081] = 1.5718215F;
-		relShowdownProb[7082] = 1.8625239F;
-		relShowdownProb[7083] = 1.7411231F;
-		relShowdownProb[7084] = 1.7454867F;
-		relShowdownProb[7085] = 1.8168622F;
-		relShowdownProb[7086] = 1.9196203F;
-		relShowdownProb[7087] = 2.011409F;
-		relShowdownProb[7088] = 1.6056241F;
-		relShowdownProb[7089] = 2.0551987F;
-		relShowdownProb[7090] = 1.9702182F;
-		relShowdownProb[7091] = 1.992764F;
-		relShowdownProb[7092] = 1.872339F;
-		relShowdownProb[7093] = 1.8931427F;
-		relShowdownProb[7094] = 2.2264652F;
-		relShowdownProb[7095] = 2.0590498F;
-		relShowdownProb[7096] = 1.6225253F;
-		relShowdownProb[7097] = 1.7408345F;
-		relShowdownProb[7098] = 1.6216803F;
-		relShowdownProb[7099] = 1.7915384F;
-		relShowdownProb[7100] = 1.3487241F;
-		relShowdownProb[7101] = 1.513874F;
-		relShowdownProb[7102] = 1.2675979F;
-		relShowdownProb[7103] = 1.4290054F;
-		relShowdownProb[7104] = 1.4356629F;
-		relShowdownProb[7105] = 1.7891239F;
-		relShowdownProb[7106] = 1.6732292F;
-		relShowdownProb[7107] = 1.5253428F;
-		relShowdownProb[7108] = 2.0618563F;
-		relShowdownProb[7109] = 1.629121F;
-		relShowdownProb[7110] = 1.5810863F;
-		relShowdownProb[7111] = 1.6225253F;
-		relShowdownProb[7112] = 1.7661865F;
-		relShowdownProb[7113] = 1.5120279F;
-		relShowdownProb[7114] = 2.0364013F;
-		relShowdownProb[7115] = 1.6226938F;
-		relShowdownProb[7116] = 1.8004714F;
-		relShowdownProb[7117] = 1.7577357F;
-		relShowdownProb[7118] = 1.8785801F;
-		relShowdownProb[7119] = 1.832761F;
-		relShowdownProb[7120] = 1.8182154F;
-		relShowdownProb[7121] = 1.9694232F;
-		relShowdownProb[7122] = 1.9725753F;
-		relShowdownProb[7123] = 1.7963527F;
-		relShowdownProb[7124] = 1.8929462F;
-		relShowdownProb[7125] = 2.1515362F;
-		relShowdownProb[7126] = 1.6189389F;
-		relShowdownProb[7127] = 1.730941F;
-		relShowdownProb[7128] = 1.7752547F;
-		relShowdownProb[7129] = 1.8401877F;
-		relShowdownProb[7130] = 1.7584016F;
-		relShowdownProb[7131] = 2.0933614F;
-		relShowdownProb[7132] = 2.0788605F;
-		relShowdownProb[7133] = 1.5253428F;
-		relShowdownProb[7134] = 1.8938531F;
-		relShowdownProb[7135] = 1.7600324F;
-		relShowdownProb[7136] = 1.9416848F;
-		relShowdownProb[7137] = 2.3167832F;
-		relShowdownProb[7138] = 2.1379128F;
-		relShowdownProb[7139] = 2.5894759F;
-		relShowdownProb[7140] = 1.0104483F;
-		relShowdownProb[7141] = 1.0248085F;
-		relShowdownProb[7142] = 1.0202552F;
-		relShowdownProb[7143] = 1.0250604F;
-		relShowdownProb[7144] = 1.01133F;
-		relShowdownProb[7145] = 1.1468743F;
-		relShowdownProb[7146] = 0.94339174F;
-		relShowdownProb[7147] = 1.100253F;
-		relShowdownProb[7148] = 1.0976378F;
-		relShowdownProb[7149] = 1.296189F;
-		relShowdownProb[7150] = 1.2212992F;
-		relShowdownProb[7151] = 1.5268704F;
-		relShowdownProb[7152] = 1.019171F;
-		relShowdownProb[7153] = 1.074282F;
-		relShowdownProb[7154] = 1.0834363F;
-		relShowdownProb[7155] = 1.1017656F;
-		relShowdownProb[7156] = 1.1313965F;
-		relShowdownProb[7157] = 1.0826494F;
-		relShowdownProb[7158] = 1.1461982F;
-		relShowdownProb[7159] = 1.2655174F;
-		relShowdownProb[7160] = 1.1223797F;
-		relShowdownProb[7161] = 1.2626668F;
-		relShowdownProb[7162] = 1.4389124F;
-		relShowdownProb[7163] = 1.6393999F;
-		relShowdownProb[7164] = 1.0788522F;
-		relShowdownProb[7165] = 1.0923038F;
-		relShowdownProb[7166] = 1.2753191F;
-		relShowdownProb[7167] = 1.2830688F;
-		relShowdownProb[7168] = 1.1544863F;
-		relShowdownProb[7169] = 1.1996305F;
-		relShowdownProb[7170] = 1.1530343F;
-		relShowdownProb[7171] = 1.3221147F;
-		relShowdownProb[7172] = 1.360801F;
-		relShowdownProb[7173] = 1.3297111F;
-		relShowdownProb[7174] = 1.4588974F;
-		relShowdownProb[7175] = 1.6570516F;
-		relShowdownProb[7176] = 1.0926248F;
-		relShowdownProb[7177] = 1.1310704F;
-		relShowdownProb[7178] = 1.2754952F;
-		relShowdownProb[7179] = 1.3458276F;
-		relShowdownProb[7180] = 1.3322772F;
-		relShowdownProb[7181] = 1.2913804F;
-		relShowdownProb[7182] = 1.3148237F;
-		relShowdownProb[7183] = 1.2655174F;
-		relShowdownProb[7184] = 1.2325933F;
-		relShowdownProb[7185] = 1.3319459F;
-		relShowdownProb[7186] = 1.4966465F;
-		relShowdownProb[7187] = 1.7320712F;
-		relShowdownProb[7188] = 1.0513071F;
-		relShowdownProb[7189] = 1.1356311F;
-		relShowdownProb[7190] = 1.193936F;
-		relShowdownProb[7191] = 1.3977933F;
-		relShowdownProb[7192] = 1.4269451F;
-		relShowdownProb[7193] = 1.4794679F;
-		relShowdownProb[7194] = 1.3102664F;
-		relShowdownProb[7195] = 1.378712F;
-		relShowdownProb[7196] = 1.4170324F;
-		relShowdownProb[7197] = 1.5196699F;
-		relShowdownProb[7198] = 1.416707F;
-		relShowdownProb[7199] = 1.6570516F;
-		relShowdownProb[7200] = 1.1913283F;
-		relShowdownProb[7201] = 1.1128273F;
-		relShowdownProb[7202] = 1.1622186F;
-		relShowdownProb[7203] = 1.330267F;
-		relShowdownProb[7204] = 1.5587742F;
-		relShowdownProb[7205] = 1.5345178F;
-		relShowdownProb[7206] = 1.5426962F;
-		relShowdownProb[7207] = 1.5281291F;
-		relShowdownProb[7208] = 1.4282787F;
-		relShowdownProb[7209] = 1.5196699F;
-		relShowdownProb[7210] = 1.6254381F;
-		relShowdownProb[7211] = 1.9681624F;
-		relShowdownProb[7212] = 1.2372369F;
-		relShowdownProb[7213] = 1.3408656F;
-		relShowdownProb[7214] = 1.1667496F;
-		relShowdownProb[7215] = 1.4360582F;
-		relShowdownProb[7216] = 1.3955166F;
-		relShowdownProb[7217] = 1.5554839F;
-		relShowdownProb[7218] = 1.8799473F;
-		relShowdownProb[7219] = 1.6458517F;
-		relShowdownProb[7220] = 1.7161837F;
-		relShowdownProb[7221] = 1.6962197F;
-		relShowdownProb[7222] = 1.7075982F;
-		relShowdownProb[7223] = 1.8776975F;
-		relShowdownProb[7224] = 1.2739638F;
-		relShowdownProb[7225] = 1.2245661F;
-		relShowdownProb[7226] = 1.3276024F;
-		relShowdownProb[7227] = 1.3865389F;
-		relShowdownProb[7228] = 1.435772F;
-		relShowdownProb[7229] = 1.5488175F;
-		relShowdownProb[7230] = 1.7244606F;
-		relShowdownProb[7231] = 2.0329778F;
-		relShowdownProb[7232] = 1.8826288F;
-		relShowdownProb[7233] = 1.7878469F;
-		relShowdownProb[7234] = 1.922991F;
-		relShowdownProb[7235] = 2.2241118F;
-		relShowdownProb[7236] = 1.3795536F;
-		relShowdownProb[7237] = 1.2770149F;
-		relShowdownProb[7238] = 1.4431447F;
-		relShowdownProb[7239] = 1.4158002F;
-		relShowdownProb[7240] = 1.6079751F;
-		relShowdownProb[7241] = 1.6221474F;
-		relShowdownProb[7242] = 1.65822F;
-		relShowdownProb[7243] = 2.066833F;
-		relShowdownProb[7244] = 2.094059F;
-		relShowdownProb[7245] = 2.2169302F;
-		relShowdownProb[7246] = 2.118399F;
-		relShowdownProb[7247] = 2.431519F;
-		relShowdownProb[7248] = 1.5677788F;
-		relShowdownProb[7249] = 1.4480437F;
-		relShowdownProb[7250] = 1.4068961F;
-		relShowdownProb[7251] = 1.6251316F;
-		relShowdownProb[7252] = 1.5028641F;
-		relShowdownProb[7253] = 1.5888157F;
-		relShowdownProb[7254] = 1.7487488F;
-		relShowdownProb[7255] = 2.0032043F;
-		relShowdownProb[7256] = 2.1890604F;
-		relShowdownProb[7257] = 2.2057562F;
-		relShowdownProb[7258] = 2.424834F;
-		relShowdownProb[7259] = 2.6433392F;
-		relShowdownProb[7260] = 1.5356429F;
-		relShowdownProb[7261] = 1.432081F;
-		relShowdownProb[7262] = 1.6311839F;
-		relShowdownProb[7263] = 1.5305948F;
-		relShowdownProb[7264] = 1.6281028F;
-		relShowdownProb[7265] = 1.6488129F;
-		relShowdownProb[7266] = 1.8768137F;
-		relShowdownProb[7267] = 1.9483522F;
-		relShowdownProb[7268] = 2.128011F;
-		relShowdownProb[7269] = 2.1342576F;
-		relShowdownProb[7270] = 2.3448944F;
-		relShowdownProb[7271] = 2.766901F;
-		relShowdownProb[7272] = 1.5608926F;
-		relShowdownProb[7273] = 1.5643432F;
-		relShowdownProb[7274] = 1.5677489F;
-		relShowdownProb[7275] = 1.5846158F;
-		relShowdownProb[7276] = 1.6862493F;
-		relShowdownProb[7277] = 1.5621502F;
-		relShowdownProb[7278] = 1.8723977F;
-		relShowdownProb[7279] = 1.8430358F;
-		relShowdownProb[7280] = 2.0364366F;
-		relShowdownProb[7281] = 2.1819265F;
-		relShowdownProb[7282] = 2.3040814F;
-		relShowdownProb[7283] = 2.8419206F;
-		relShowdownProb[7284] = 1.7996173F;
-		relShowdownProb[7285] = 1.7604562F;
-		relShowdownProb[7286] = 1.844144F;
-		relShowdownProb[7287] = 1.9109927F;
-		relShowdownProb[7288] = 1.8919985F;
-		relShowdownProb[7289] = 1.9021345F;
-		relShowdownProb[7290] = 2.0092947F;
-		relShowdownProb[7291] = 2.0997443F;
-		relShowdownProb[7292] = 2.3547661F;
-		relShowdownProb[7293] = 2.4051025F;
-		relShowdownProb[7294] = 2.3536086F;
-		relShowdownProb[7295] = 2.409753F;
-		relShowdownProb[7297] = 1.9267489F;
-		relShowdownProb[7298] = 1.2218407F;
-		relShowdownProb[7299] = 1.6207358F;
-		relShowdownProb[7300] = 1.1228294F;
-		relShowdownProb[7301] = 1.4167271F;
-		relShowdownProb[7302] = 1.2003707F;
-		relShowdownProb[7303] = 1.3684036F;
-		relShowdownProb[7304] = 1.1949378F;
-		relShowdownProb[7305] = 1.4443585F;
-		relShowdownProb[7306] = 1.2806809F;
-		relShowdownProb[7307] = 1.7184774F;
-		relShowdownProb[7310] = 1.527301F;
-		relShowdownProb[7311] = 1.0313773F;
-		relShowdownProb[7312] = 0.9500865F;
-		relShowdownProb[7313] = 1.4733962F;
-		relShowdownProb[7314] = 1.4804572F;
-		relShowdownProb[7315] = 1.249412F;
-		relShowdownProb[7316] = 1.286856F;
-		relShowdownProb[7317] = 1.6637547F;
-		relShowdownProb[7318] = 1.4891638F;
-		relShowdownProb[7319] = 1.7679299F;
-		relShowdownProb[7321] = 2.8901231F;
-		relShowdownProb[7322] = 2.4436815F;
-		relShowdownProb[7323] = 0.7366981F;
-		relShowdownProb[7324] = 1.4683155F;
-		relShowdownProb[7325] = 1.0200435F;
-		relShowdownProb[7326] = 1.920593F;
-		relShowdownProb[7327] = 1.6361347F;
-		relShowdownProb[7328] = 1.4936723F;
-		relShowdownProb[7329] = 1.6454716F;
-		relShowdownProb[7330] = 1.4593805F;
-		relShowdownProb[7331] = 1.9904666F;
-		relShowdownProb[7333] = 2.8901231F;
-		relShowdownProb[7334] = 1.2218407F;
-		relShowdownProb[7335] = 1.4733962F;
-		relShowdownProb[7336] = 1.9865445F;
-		relShowdownProb[7337] = 2.4934397F;
-		relShowdownProb[7338] = 1.6004943F;
-		relShowdownProb[7339] = 1.3089077F;
-		relShowdownProb[7340] = 1.7694272F;
-		relShowdownProb[7341] = 1.6271886F;
-		relShowdownProb[7342] = 1.3700306F;
-		relShowdownProb[7343] = 1.9533771F;
-		relShowdownProb[7345] = 0.96337444F;
-		relShowdownProb[7346] = 1.527301F;
-		relShowdownProb[7347] = 1.0313773F;
-		relShowdownProb[7348] = 1.8138015F;
-		relShowdownProb[7349] = 1.9267489F;
-		relShowdownProb[7350] = 1.920593F;
-		relShowdownProb[7351] = 1.84437F;
-		relShowdownProb[7352] = 1.884325F;
-		relShowdownProb[7353] = 1.7368867F;
-		relShowdownProb[7354] = 1.5338387F;
-		relShowdownProb[7355] = 2.0399191F;
-		relShowdownProb[7356] = 12.523868F;
-		relShowdownProb[7358] = 2.1382213F;
-		relShowdownProb[7359] = 2.2100942F;
-		relShowdownProb[7360] = 1.8138015F;
-		relShowdownProb[7361] = 1.9267489F;
-		relShowdownProb[7362] = 2.1206548F;
-		relShowdownProb[7363] = 1.7848742F;
-		relShowdownProb[7364] = 1.6315497F;
-		relShowdownProb[7365] = 1.4626415F;
-		relShowdownProb[7366] = 2.0103712F;
-		relShowdownProb[7367] = 1.7308406F;
-		relShowdownProb[7368] = 12.523868F;
-		relShowdownProb[7370] = 0.9163805F;
-		relShowdownProb[7371] = 1.7680753F;
-		relShowdownProb[7372] = 1.1228294F;
-		relShowdownProb[7373] = 1.6434034F;
-		relShowdownProb[7374] = 1.920593F;
-		relShowdownProb[7375] = 1.84437F;
-		relShowdownProb[7376] = 1.7004884F;
-		relShowdownProb[7377] = 1.6454716F;
-		relShowdownProb[7378] = 1.891238F;
-		relShowdownProb[7379] = 2.0770087F;
-		relShowdownProb[7382] = 2.4436815F;
-		relShowdownProb[7383] = 1.4733962F;
-		relShowdownProb[7384] = 1.381944F;
-		relShowdownProb[7385] = 1.360058F;
-		relShowdownProb[7386] = 2.04063F;
-		relShowdownProb[7387] = 2.4393282F;
-		relShowdownProb[7388] = 2.1141207F;
-		relShowdownProb[7389] = 2.084264F;
-		relShowdownProb[7390] = 2.1890707F;
-		relShowdownProb[7391] = 2.3860872F;
-		relShowdownProb[7393] = 0.96337444F;
-		relShowdownProb[7394] = 1.2218407F;
-		relShowdownProb[7395] = 1.4733962F;
-		relShowdownProb[7396] = 1.900173F;
-		relShowdownProb[7397] = 2.2100942F;
-		relShowdownProb[7398] = 1.6004943F;
-		relShowdownProb[7399] = 1.874118F;
-		relShowdownProb[7400] = 2.527753F;
-		relShowdownProb[7401] = 2.6327546F;
-		relShowdownProb[7402] = 2.0103712F;
-		relShowdownProb[7403] = 2.781708F;
-		relShowdownProb[7406] = 1.2218407F;
-		relShowdownProb[7407] = 1.0313773F;
-		relShowdownProb[7408] = 1.6410584F;
-		relShowdownProb[7409] = 1.9267489F;
-		relShowdownProb[7410] = 2.04063F;
-		relShowdownProb[7411] = 2.2905886F;
-		relShowdownProb[7412] = 2.16008F;
-		relShowdownProb[7413] = 2.3950753F;
-		relShowdownProb[7414] = 2.0699377F;
-		relShowdownProb[7415] = 2.2500927F;
-		relShowdownProb[7417] = 0.96337444F;
-		relShowdownProb[7418] = 1.832761F;
-		relShowdownProb[7419] = 2.0627546F;
-		relShowdownProb[7420] = 1.8138015F;
-		relShowdownProb[7421] = 2.040087F;
-		relShowdownProb[7422] = 1.3204077F;
-		relShowdownProb[7423] = 1.84437F;
-		relShowdownProb[7424] = 1.9302841F;
-		relShowdownProb[7425] = 1.956283F;
-		relShowdownProb[7426] = 2.3379872F;
-		relShowdownProb[7427] = 2.4973557F;
-		relShowdownProb[7429] = 1.9267489F;
-		relShowdownProb[7430] = 1.2218407F;
-		relShowdownProb[7431] = 2.2100942F;
-		relShowdownProb[7432] = 1.8138015F;
-		relShowdownProb[7433] = 1.5300653F;
-		relShowdownProb[7434] = 2.04063F;
-		relShowdownProb[7435] = 2.0228574F;
-		relShowdownProb[7436] = 1.9302841F;
-		relShowdownProb[7437] = 2.029415F;
-		relShowdownProb[7438] = 2.382662F;
-		relShowdownProb[7439] = 2.781708F;
-		relShowdownProb[7441] = 1.9267489F;
-		relShowdownProb[7442] = 1.832761F;
-		relShowdownProb[7443] = 1.6207358F;
-		relShowdownProb[7444] = 1.6410584F;
-		relShowdownProb[7445] = 2.3234324F;
-		relShowdownProb[7446] = 1.4004325F;
-		relShowdownProb[7447] = 1.5171431F;
-		relShowdownProb[7448] = 2.206039F;
-		relShowdownProb[7449] = 1.7186037F;
-		relShowdownProb[7450] = 2.174179F;
-		relShowdownProb[7451] = 2.1635506F;
-		relShowdownProb[7452] = 1.3431394F;
-		relShowdownProb[7453] = 0.8591252F;
-		relShowdownProb[7454] = 1.0285301F;
-		relShowdownProb[7455] = 1.2826376F;
-		relShowdownProb[7456] = 1.3068384F;
-		relShowdownProb[7457] = 1.5972469F;
-		relShowdownProb[7458] = 1.5125444F;
-		relShowdownProb[7459] = 1.8634547F;
-		relShowdownProb[7460] = 2.1054618F;
-		relShowdownProb[7461] = 2.282333F;
-	}
-
-}
@@ -1,4816 +0,0 @@
-package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
-
-/**
- * This program is free software; you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation; either version 2 of the License, or
- * (at your option) any later version.
- * 
- *  This program is distributed in the hope that it will be useful,
- *  but WITHOUT ANY WARRANTY; without even the implied warranty of
- *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- *  GNU General Public License for more details.
- *  
- *  You should have received a copy of the GNU General Public License
- *  along with this program; if not, write to the Free Software
- *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
- */
-
-/**
- * Probability distribution when (pot/(nbShowdownPlayer*BigBlind)<=15
- */
-public class ShowdownRankPredictor1of2 {
-
-	private final static float[] relShowdownProb = new float[7462];
-
-	public static float getRelativeProbability(int rank) {
-		return relShowdownProb[rank];
-	}
-
-	static {
-		relShowdownProb[48] = 0.44728598F;
-		relShowdownProb[51] = 0.3946641F;
-		relShowdownProb[82] = 0.40343443F;
-		relShowdownProb[85] = 0.56130004F;
-		relShowdownProb[86] = 0.3946641F;
-		relShowdownProb[102] = 0.42974538F;
-		relShowdownProb[105] = 0.6490032F;
-		relShowdownProb[106] = 0.5656852F;
-		relShowdownProb[112] = 0.44728598F;
-		relShowdownProb[115] = 0.56130004F;
-		relShowdownProb[116] = 0.6460798F;
-		relShowdownProb[119] = 0.54375947F;
-		relShowdownProb[120] = 0.6490032F;
-		relShowdownProb[151] = 0.35081255F;
-		relShowdownProb[154] = 0.47359693F;
-		relShowdownProb[155] = 0.55252975F;
-		relShowdownProb[171] = 0.587611F;
-		relShowdownProb[174] = 0.56130004F;
-		relShowdownProb[175] = 0.5700704F;
-		relShowdownProb[181] = 0.4385157F;
-		relShowdownProb[184] = 0.42097506F;
-		relShowdownProb[185] = 0.57591724F;
-		relShowdownProb[188] = 0.54375947F;
-		relShowdownProb[189] = 0.58176416F;
-		relShowdownProb[190] = 0.61392194F;
-		relShowdownProb[206] = 0.49113756F;
-		relShowdownProb[209] = 0.5788407F;
-		relShowdownProb[210] = 0.58322585F;
-		relShowdownProb[216] = 0.41220474F;
-		relShowdownProb[219] = 0.49113756F;
-		relShowdownProb[220] = 0.64023286F;
-		relShowdownProb[223] = 0.64023286F;
-		relShowdownProb[224] = 0.5846876F;
-		relShowdownProb[225] = 0.57357854F;
-		relShowdownProb[231] = 0.55252975F;
-		relShowdownProb[234] = 0.5349891F;
-		relShowdownProb[235] = 0.5232954F;
-		relShowdownProb[238] = 0.56130004F;
-		relShowdownProb[239] = 0.5583766F;
-		relShowdownProb[240] = 0.68554616F;
-		relShowdownProb[243] = 0.60515165F;
-		relShowdownProb[244] = 0.57591724F;
-		relShowdownProb[245] = 0.6723907F;
-		relShowdownProb[276] = 0.48236725F;
-		relShowdownProb[279] = 0.48236725F;
-		relShowdownProb[280] = 0.5174485F;
-		relShowdownProb[296] = 0.4385157F;
-		relShowdownProb[299] = 0.4648266F;
-		relShowdownProb[300] = 0.4692118F;
-		relShowdownProb[306] = 0.49990788F;
-		relShowdownProb[309] = 0.5086782F;
-		relShowdownProb[310] = 0.5496063F;
-		relShowdownProb[313] = 0.41220474F;
-		relShowdownProb[314] = 0.59930474F;
-		relShowdownProb[315] = 0.6022282F;
-		relShowdownProb[331] = 0.5174485F;
-		relShowdownProb[334] = 0.49990788F;
-		relShowdownProb[335] = 0.5349891F;
-		relShowdownProb[341] = 0.4648266F;
-		relShowdownProb[344] = 0.48236725F;
-		relShowdownProb[345] = 0.6226923F;
-		relShowdownProb[348] = 0.5349891F;
-		relShowdownProb[349] = 0.5963813F;
-		relShowdownProb[350] = 0.56130004F;
-		relShowdownProb[356] = 0.587611F;
-		relShowdownProb[359] = 0.61392194F;
-		relShowdownProb[360] = 0.5496063F;
-		relShowdownProb[363] = 0.5086782F;
-		relShowdownProb[364] = 0.63730943F;
-		relShowdownProb[365] = 0.7103954F;
-		relShowdownProb[368] = 0.5086782F;
-		relShowdownProb[369] = 0.67823756F;
-		relShowdownProb[370] = 0.64023286F;
-		relShowdownProb[371] = 0.7103954F;
-		relShowdownProb[387] = 0.5788407F;
-		relShowdownProb[390] = 0.5700704F;
-		relShowdownProb[391] = 0.6226923F;
-		relShowdownProb[397] = 0.42097506F;
-		relShowdownProb[400] = 0.56130004F;
-		relShowdownProb[401] = 0.56714696F;
-		relShowdownProb[404] = 0.6314626F;
-		relShowdownProb[405] = 0.61392194F;
-		relShowdownProb[406] = 0.6840845F;
-		relShowdownProb[412] = 0.6314626F;
-		relShowdownProb[415] = 0.55252975F;
-		relShowdownProb[416] = 0.61684537F;
-		relShowdownProb[419] = 0.5174485F;
-		relShowdownProb[420] = 0.56714696F;
-		relShowdownProb[421] = 0.6723907F;
-		relShowdownProb[424] = 0.5086782F;
-		relShowdownProb[425] = 0.64315635F;
-		relShowdownProb[426] = 0.7293978F;
-		relShowdownProb[427] = 0.7717876F;
-		relShowdownProb[433] = 0.60515165F;
-		relShowdownProb[436] = 0.5349891F;
-		relShowdownProb[437] = 0.634386F;
-		relShowdownProb[440] = 0.6577735F;
-		relShowdownProb[441] = 0.62853914F;
-		relShowdownProb[442] = 0.71624225F;
-		relShowdownProb[445] = 0.64023286F;
-		relShowdownProb[446] = 0.6577735F;
-		relShowdownProb[447] = 0.7103954F;
-		relShowdownProb[448] = 0.8507204F;
-		relShowdownProb[451] = 0.66654384F;
-		relShowdownProb[452] = 0.68993133F;
-		relShowdownProb[453] = 0.7250126F;
-		relShowdownProb[454] = 0.839319F;
-		relShowdownProb[485] = 0.55252975F;
-		relShowdownProb[488] = 0.56130004F;
-		relShowdownProb[489] = 0.49990788F;
-		relShowdownProb[505] = 0.61392194F;
-		relShowdownProb[508] = 0.5700704F;
-		relShowdownProb[509] = 0.5130634F;
-		relShowdownProb[515] = 0.4560563F;
-		relShowdownProb[518] = 0.587611F;
-		relShowdownProb[519] = 0.6314626F;
-		relShowdownProb[522] = 0.587611F;
-		relShowdownProb[523] = 0.6723907F;
-		relShowdownProb[524] = 0.66654384F;
-		relShowdownProb[540] = 0.5700704F;
-		relShowdownProb[543] = 0.7016251F;
-		relShowdownProb[544] = 0.6270774F;
-		relShowdownProb[550] = 0.55252975F;
-		relShowdownProb[553] = 0.6577735F;
-		relShowdownProb[554] = 0.5496063F;
-		relShowdownProb[557] = 0.55252975F;
-		relShowdownProb[558] = 0.6694673F;
-		relShowdownProb[559] = 0.66654384F;
-		relShowdownProb[565] = 0.49990788F;
-		relShowdownProb[568] = 0.6577735F;
-		relShowdownProb[569] = 0.62853914F;
-		relShowdownProb[572] = 0.5174485F;
-		relShowdownProb[573] = 0.63730943F;
-		relShowdownProb[574] = 0.6943165F;
-		relShowdownProb[577] = 0.5788407F;
-		relShowdownProb[578] = 0.65485007F;
-		relShowdownProb[579] = 0.6694673F;
-		relShowdownProb[580] = 0.7367063F;
-		relShowdownProb[596] = 0.5349891F;
-		relShowdownProb[599] = 0.5963813F;
-		relShowdownProb[600] = 0.6753141F;
-		relShowdownProb[606] = 0.5788407F;
-		relShowdownProb[609] = 0.64023286F;
-		relShowdownProb[610] = 0.6636204F;
-		relShowdownProb[613] = 0.5349891F;
-		relShowdownProb[614] = 0.67823756F;
-		relShowdownProb[615] = 0.71390355F;
-		relShowdownProb[621] = 0.61392194F;
-		relShowdownProb[624] = 0.587611F;
-		relShowdownProb[625] = 0.68116105F;
-		relShowdownProb[628] = 0.6226923F;
-		relShowdownProb[629] = 0.6197688F;
-		relShowdownProb[630] = 0.70747197F;
-		relShowdownProb[633] = 0.5788407F;
-		relShowdownProb[634] = 0.68116105F;
-		relShowdownProb[635] = 0.77617276F;
-		relShowdownProb[636] = 0.71916574F;
-		relShowdownProb[642] = 0.64023286F;
-		relShowdownProb[645] = 0.60515165F;
-		relShowdownProb[646] = 0.7337829F;
-		relShowdownProb[649] = 0.64023286F;
-		relShowdownProb[650] = 0.7717876F;
-		relShowdownProb[651] = 0.74986184F;
-		relShowdownProb[654] = 0.75424695F;
-		relShowdownProb[655] = 0.67823756F;
-		relShowdownProb[656] = 0.8273329F;
-		relShowdownProb[657] = 0.7665254F;
-		relShowdownProb[660] = 0.6490032F;
-		relShowdownProb[661] = 0.8097923F;
-		relShowdownProb[662] = 0.764479F;
-		relShowdownProb[663] = 0.8779084F;
-		relShowdownProb[664] = 0.9077275F;
-		relShowdownProb[680] = 0.6840845F;
-		relShowdownProb[683] = 0.71916574F;
-		relShowdownProb[684] = 0.6840845F;
-		relShowdownProb[690] = 0.5349891F;
-		relShowdownProb[693] = 0.6490032F;
-		relShowdownProb[694] = 0.64315635F;
-		relShowdownProb[697] = 0.7016251F;
-		relShowdownProb[698] = 0.69285476F;
-		relShowdownProb[699] = 0.6735601F;
-		relShowdownProb[705] = 0.64023286F;
-		relShowdownProb[708] = 0.5700704F;
-		relShowdownProb[709] = 0.6226923F;
-		relShowdownProb[712] = 0.6753141F;
-		relShowdownProb[713] = 0.70454854F;
-		relShowdownProb[714] = 0.68993133F;
-		relShowdownProb[717] = 0.64023286F;
-		relShowdownProb[718] = 0.68993133F;
-		relShowdownProb[719] = 0.727936F;
-		relShowdownProb[720] = 0.7893282F;
-		relShowdownProb[726] = 0.60515165F;
-		relShowdownProb[729] = 0.5700704F;
-		relShowdownProb[730] = 0.7016251F;
-		relShowdownProb[733] = 0.61392194F;
-		relShowdownProb[734] = 0.85656726F;
-		relShowdownProb[735] = 0.74255323F;
-		relShowdownProb[738] = 0.727936F;
-		relShowdownProb[739] = 0.67823756F;
-		relShowdownProb[740] = 0.78348136F;
-		relShowdownProb[741] = 0.86299884F;
-		relShowdownProb[744] = 0.94719386F;
-		relShowdownProb[745] = 0.8507204F;
-		relShowdownProb[746] = 0.84487355F;
-		relShowdownProb[747] = 0.8445812F;
-		relShowdownProb[748] = 0.92401516F;
-		relShowdownProb[754] = 0.61392194F;
-		relShowdownProb[757] = 0.5963813F;
-		relShowdownProb[758] = 0.6840845F;
-		relShowdownProb[761] = 0.6314626F;
-		relShowdownProb[762] = 0.79809856F;
-		relShowdownProb[763] = 0.7864048F;
-		relShowdownProb[766] = 0.8331798F;
-		relShowdownProb[767] = 0.8127157F;
-		relShowdownProb[768] = 0.8185626F;
-		relShowdownProb[769] = 0.8559826F;
-		relShowdownProb[772] = 0.727936F;
-		relShowdownProb[773] = 0.82148606F;
-		relShowdownProb[774] = 0.83025634F;
-		relShowdownProb[775] = 0.87878543F;
-		relShowdownProb[776] = 1.0278808F;
-		relShowdownProb[779] = 0.8858017F;
-		relShowdownProb[780] = 0.93257666F;
-		relShowdownProb[781] = 0.9296532F;
-		relShowdownProb[782] = 1.005078F;
-		relShowdownProb[783] = 1.0395745F;
-		relShowdownProb[816] = 0.64023286F;
-		relShowdownProb[817] = 0.78055793F;
-		relShowdownProb[836] = 0.66654384F;
-		relShowdownProb[837] = 0.670929F;
-		relShowdownProb[846] = 0.71916574F;
-		relShowdownProb[847] = 0.801022F;
-		relShowdownProb[850] = 0.8331798F;
-		relShowdownProb[851] = 0.95888764F;
-		relShowdownProb[852] = 0.76886415F;
-		relShowdownProb[871] = 0.5788407F;
-		relShowdownProb[872] = 0.7630173F;
-		relShowdownProb[881] = 0.81563914F;
-		relShowdownProb[882] = 0.79225165F;
-		relShowdownProb[885] = 0.8507204F;
-		relShowdownProb[886] = 0.7893282F;
-		relShowdownProb[887] = 0.8419501F;
-		relShowdownProb[896] = 0.6840845F;
-		relShowdownProb[897] = 0.8185626F;
-		relShowdownProb[900] = 0.7367063F;
-		relShowdownProb[901] = 0.76009387F;
-		relShowdownProb[902] = 0.7893282F;
-		relShowdownProb[905] = 0.8507204F;
-		relShowdownProb[906] = 0.8390267F;
-		relShowdownProb[907] = 0.9121126F;
-		relShowdownProb[908] = 0.941347F;
-		relShowdownProb[927] = 0.71916574F;
-		relShowdownProb[928] = 0.79809856F;
-		relShowdownProb[937] = 0.80686885F;
-		relShowdownProb[938] = 0.8097923F;
-		relShowdownProb[941] = 0.7717876F;
-		relShowdownProb[942] = 0.8331798F;
-		relShowdownProb[943] = 0.8279176F;
-		relShowdownProb[952] = 0.7103954F;
-		relShowdownProb[953] = 0.85656726F;
-		relShowdownProb[956] = 0.75424695F;
-		relShowdownProb[957] = 0.7717876F;
-		relShowdownProb[958] = 0.89018685F;
-		relShowdownProb[961] = 0.7717876F;
-		relShowdownProb[962] = 0.80686885F;
-		relShowdownProb[963] = 0.79078996F;
-		relShowdownProb[964] = 0.941347F;
-		relShowdownProb[973] = 0.75424695F;
-		relShowdownProb[974] = 0.8127157F;
-		relShowdownProb[977] = 0.94719386F;
-		relShowdownProb[978] = 0.9179595F;
-		relShowdownProb[979] = 0.87556964F;
-		relShowdownProb[982] = 0.8507204F;
-		relShowdownProb[983] = 0.9004189F;
-		relShowdownProb[984] = 0.92380637F;
-		relShowdownProb[985] = 0.94105464F;
-		relShowdownProb[988] = 0.9121126F;
-		relShowdownProb[989] = 0.9121126F;
-		relShowdownProb[990] = 0.9223446F;
-		relShowdownProb[991] = 1.0243726F;
-		relShowdownProb[992] = 1.0252496F;
-		relShowdownProb[1011] = 0.8331798F;
-		relShowdownProb[1012] = 0.8419501F;
-		relShowdownProb[1021] = 0.8507204F;
-		relShowdownProb[1022] = 0.81563914F;
-		relShowdownProb[1025] = 0.79809856F;
-		relShowdownProb[1026] = 0.7893282F;
-		relShowdownProb[1027] = 0.89632607F;
-		relShowdownProb[1036] = 0.6753141F;
-		relShowdownProb[1037] = 0.75424695F;
-		relShowdownProb[1040] = 0.8507204F;
-		relShowdownProb[1041] = 0.89164853F;
-		relShowdownProb[1042] = 0.8624142F;
-		relShowdownProb[1045] = 0.89457196F;
-		relShowdownProb[1046] = 0.85949075F;
-		relShowdownProb[1047] = 0.8843399F;
-		relShowdownProb[1048] = 0.87898034F;
-		relShowdownProb[1057] = 0.74547666F;
-		relShowdownProb[1058] = 0.87118447F;
-		relShowdownProb[1061] = 0.78055793F;
-		relShowdownProb[1062] = 0.8361032F;
-		relShowdownProb[1063] = 0.9106509F;
-		relShowdownProb[1066] = 0.7893282F;
-		relShowdownProb[1067] = 0.801022F;
-		relShowdownProb[1068] = 0.92088294F;
-		relShowdownProb[1069] = 0.9656115F;
-		relShowdownProb[1072] = 1.0436673F;
-		relShowdownProb[1073] = 0.847797F;
-		relShowdownProb[1074] = 0.9676579F;
-		relShowdownProb[1075] = 0.9550871F;
-		relShowdownProb[1076] = 1.1025537F;
-		relShowdownProb[1085] = 0.89457196F;
-		relShowdownProb[1086] = 0.9793517F;
-		relShowdownProb[1089] = 0.94719386F;
-		relShowdownProb[1090] = 0.95888764F;
-		relShowdownProb[1091] = 0.9457322F;
-		relShowdownProb[1094] = 0.78055793F;
-		relShowdownProb[1095] = 0.9033423F;
-		relShowdownProb[1096] = 1.0217415F;
-		relShowdownProb[1097] = 1.034897F;
-		relShowdownProb[1100] = 1.1664517F;
-		relShowdownProb[1101] = 1.0056627F;
-		relShowdownProb[1102] = 1.0319736F;
-		relShowdownProb[1103] = 1.0664701F;
-		relShowdownProb[1104] = 1.1266929F;
-		relShowdownProb[1107] = 0.94719386F;
-		relShowdownProb[1108] = 1.102136F;
-		relShowdownProb[1109] = 1.0889806F;
-		relShowdownProb[1110] = 1.118215F;
-		relShowdownProb[1111] = 1.1746373F;
-		relShowdownProb[1112] = 1.2553242F;
-		relShowdownProb[1131] = 0.71916574F;
-		relShowdownProb[1132] = 0.80686885F;
-		relShowdownProb[1141] = 0.9822751F;
-		relShowdownProb[1142] = 0.8273329F;
-		relShowdownProb[1145] = 0.85949075F;
-		relShowdownProb[1146] = 0.8741079F;
-		relShowdownProb[1147] = 0.87878543F;
-		relShowdownProb[1156] = 0.99981576F;
-		relShowdownProb[1157] = 0.86826104F;
-		relShowdownProb[1160] = 0.85949075F;
-		relShowdownProb[1161] = 0.90918916F;
-		relShowdownProb[1162] = 0.9647345F;
-		relShowdownProb[1165] = 0.8419501F;
-		relShowdownProb[1166] = 0.8390267F;
-		relShowdownProb[1167] = 0.904804F;
-		relShowdownProb[1168] = 0.9725303F;
-		relShowdownProb[1177] = 0.8331798F;
-		relShowdownProb[1178] = 0.92088294F;
-		relShowdownProb[1181] = 1.034897F;
-		relShowdownProb[1182] = 0.96181107F;
-		relShowdownProb[1183] = 0.9603493F;
-		relShowdownProb[1186] = 0.8858017F;
-		relShowdownProb[1187] = 0.9384236F;
-		relShowdownProb[1188] = 0.9574259F;
-		relShowdownProb[1189] = 1.0419133F;
-		relShowdownProb[1192] = 0.8770314F;
-		relShowdownProb[1193] = 0.98519856F;
-		relShowdownProb[1194] = 1.0363587F;
-		relShowdownProb[1195] = 1.0857648F;
-		relShowdownProb[1196] = 1.079375F;
-		relShowdownProb[1205] = 1.0261267F;
-		relShowdownProb[1206] = 1.102136F;
-		relShowdownProb[1209] = 0.9647345F;
-		relShowdownProb[1210] = 0.988122F;
-		relShowdownProb[1211] = 1.0144329F;
-		relShowdownProb[1214] = 1.0173564F;
-		relShowdownProb[1215] = 0.92088294F;
-		relShowdownProb[1216] = 1.0378205F;
-		relShowdownProb[1217] = 1.0287578F;
-		relShowdownProb[1220] = 0.9735048F;
-		relShowdownProb[1221] = 1.0319736F;
-		relShowdownProb[1222] = 1.0743635F;
-		relShowdownProb[1223] = 1.0638391F;
-		relShowdownProb[1224] = 1.1483264F;
-		relShowdownProb[1227] = 1.0699782F;
-		relShowdownProb[1228] = 1.0699782F;
-		relShowdownProb[1229] = 1.1635283F;
-		relShowdownProb[1230] = 1.1506652F;
-		relShowdownProb[1231] = 1.267018F;
-		relShowdownProb[1232] = 1.3949183F;
-		relShowdownProb[1241] = 0.92088294F;
-		relShowdownProb[1242] = 0.9530407F;
-		relShowdownProb[1245] = 0.9910454F;
-		relShowdownProb[1246] = 0.9384236F;
-		relShowdownProb[1247] = 0.9296532F;
-		relShowdownProb[1250] = 1.0524377F;
-		relShowdownProb[1251] = 1.0465908F;
-		relShowdownProb[1252] = 1.0392822F;
-		relShowdownProb[1253] = 1.0971662F;
-		relShowdownProb[1256] = 1.0173564F;
-		relShowdownProb[1257] = 1.0582845F;
-		relShowdownProb[1258] = 1.128447F;
-		relShowdownProb[1259] = 1.091904F;
-		relShowdownProb[1260] = 1.1570967F;
-		relShowdownProb[1263] = 1.0612079F;
-		relShowdownProb[1264] = 1.154758F;
-		relShowdownProb[1265] = 1.1679134F;
-		relShowdownProb[1266] = 1.201533F;
-		relShowdownProb[1267] = 1.2711108F;
-		relShowdownProb[1268] = 1.3723452F;
-		relShowdownProb[1271] = 1.1489111F;
-		relShowdownProb[1272] = 1.0758251F;
-		relShowdownProb[1273] = 1.1401408F;
-		relShowdownProb[1274] = 1.288359F;
-		relShowdownProb[1275] = 1.3114542F;
-		relShowdownProb[1276] = 1.485524F;
-		relShowdownProb[1295] = 0.7112813F;
-		relShowdownProb[1296] = 0.57361394F;
-		relShowdownProb[1305] = 0.8260041F;
-		relShowdownProb[1306] = 0.6500958F;
-		relShowdownProb[1309] = 0.48183572F;
-		relShowdownProb[1310] = 0.66539216F;
-		relShowdownProb[1311] = 0.6378587F;
-		relShowdownProb[1320] = 0.6195031F;
-		relShowdownProb[1321] = 0.53537303F;
-		relShowdownProb[1324] = 0.66539216F;
-		relShowdownProb[1325] = 0.6424476F;
-		relShowdownProb[1326] = 0.6042067F;
-		relShowdownProb[1329] = 0.6195031F;
-		relShowdownProb[1330] = 0.5047803F;
-		relShowdownProb[1331] = 0.61567897F;
-		relShowdownProb[1332] = 0.6475464F;
-		relShowdownProb[1341] = 0.43594658F;
-		relShowdownProb[1342] = 0.53537303F;
-		relShowdownProb[1345] = 0.57361394F;
-		relShowdownProb[1346] = 0.66539216F;
-		relShowdownProb[1347] = 0.6424476F;
-		relShowdownProb[1350] = 0.7112813F;
-		relShowdownProb[1351] = 0.66539216F;
-		relShowdownProb[1352] = 0.699809F;
-		relShowdownProb[1353] = 0.64015317F;
-		relShowdownProb[1356] = 0.66539216F;
-		relShowdownProb[1357] = 0.72657764F;
-		relShowdownProb[1358] = 0.6080308F;
-		relShowdownProb[1359] = 0.63556427F;
-		relShowdownProb[1360] = 0.72767025F;
-		relShowdownProb[1369] = 0.66539216F;
-		relShowdownProb[1370] = 0.6959849F;
-		relShowdownProb[1373] = 0.48183572F;
-		relShowdownProb[1374] = 0.67304033F;
-		relShowdownProb[1375] = 0.6615681F;
-		relShowdownProb[1378] = 0.48183572F;
-		relShowdownProb[1379] = 0.73422587F;
-		relShowdownProb[1380] = 0.66539216F;
-		relShowdownProb[1381] = 0.7043979F;
-		relShowdownProb[1384] = 0.8030595F;
-		relShowdownProb[1385] = 0.6195031F;
-		relShowdownProb[1386] = 0.66539216F;
-		relShowdownProb[1387] = 0.67686445F;
-		relShowdownProb[1388] = 0.7005738F;
-		relShowdownProb[1391] = 0.6424476F;
-		relShowdownProb[1392] = 0.6500958F;
-		relShowdownProb[1393] = 0.68068856F;
-		relShowdownProb[1394] = 0.6791589F;
-		relShowdownProb[1395] = 0.8061188F;
-		relShowdownProb[1396] = 0.8110901F;
-		relShowdownProb[1405] = 0.6424476F;
-		relShowdownProb[1406] = 0.71892947F;
-		relShowdownProb[1409] = 0.66539216F;
-		relShowdownProb[1410] = 0.6500958F;
-		relShowdownProb[1411] = 0.56214166F;
-		relShowdownProb[1414] = 0.6195031F;
-		relShowdownProb[1415] = 0.58891034F;
-		relShowdownProb[1416] = 0.69216084F;
-		relShowdownProb[1417] = 0.7158702F;
-		relShowdownProb[1420] = 0.5965585F;
-		relShowdownProb[1421] = 0.71892947F;
-		relShowdownProb[1422] = 0.80688363F;
-		relShowdownProb[1423] = 0.6539199F;
-		relShowdownProb[1424] = 0.7862335F;
-		relShowdownProb[1427] = 0.5506694F;
-		relShowdownProb[1428] = 0.7495222F;
-		relShowdownProb[1429] = 0.6692163F;
-		relShowdownProb[1430] = 0.75028706F;
-		relShowdownProb[1431] = 0.7831742F;
-		relShowdownProb[1432] = 0.8565968F;
-		relShowdownProb[1435] = 0.8030595F;
-		relShowdownProb[1436] = 0.657744F;
-		relShowdownProb[1437] = 0.8030595F;
-		relShowdownProb[1438] = 0.830593F;
-		relShowdownProb[1439] = 0.8214152F;
-		relShowdownProb[1440] = 0.8653376F;
-		relShowdownProb[1441] = 1.0061613F;
-		relShowdownProb[1451] = 0.87189317F;
-		relShowdownProb[1455] = 0.9177823F;
-		relShowdownProb[1456] = 0.9254305F;
-		relShowdownProb[1460] = 0.84894866F;
-		relShowdownProb[1461] = 0.9177823F;
-		relShowdownProb[1462] = 0.9269601F;
-		relShowdownProb[1466] = 1.0019124F;
-		relShowdownProb[1467] = 0.864245F;
-		relShowdownProb[1468] = 0.88565993F;
-		relShowdownProb[1469] = 0.9300194F;
-		relShowdownProb[1473] = 0.88718957F;
-		relShowdownProb[1474] = 0.89866185F;
-		relShowdownProb[1475] = 0.90631F;
-		relShowdownProb[1476] = 1.0172087F;
-		relShowdownProb[1477] = 1.0674683F;
-		relShowdownProb[1481] = 1.0630978F;
-		relShowdownProb[1482] = 0.9292546F;
-		relShowdownProb[1483] = 1.0049716F;
-		relShowdownProb[1484] = 1.0845127F;
-		relShowdownProb[1485] = 1.0773016F;
-		relShowdownProb[1486] = 1.240645F;
-		relShowdownProb[1490] = 1.0172087F;
-		relShowdownProb[1491] = 0.9827919F;
-		relShowdownProb[1492] = 0.9453158F;
-		relShowdownProb[1493] = 0.9896753F;
-		relShowdownProb[1494] = 1.1701725F;
-		relShowdownProb[1495] = 1.2521173F;
-		relShowdownProb[1496] = 1.316362F;
-		relShowdownProb[1515] = 0.68833673F;
-		relShowdownProb[1516] = 0.5850862F;
-		relShowdownProb[1525] = 0.57361394F;
-		relShowdownProb[1526] = 0.5506694F;
-		relShowdownProb[1529] = 0.7112813F;
-		relShowdownProb[1530] = 0.7648186F;
-		relShowdownProb[1531] = 0.67457F;
-		relShowdownProb[1540] = 0.87189317F;
-		relShowdownProb[1541] = 0.6424476F;
-		relShowdownProb[1544] = 0.8030595F;
-		relShowdownProb[1545] = 0.7495222F;
-		relShowdownProb[1546] = 0.7074572F;
-		relShowdownProb[1549] = 0.6424476F;
-		relShowdownProb[1550] = 0.8413004F;
-		relShowdownProb[1551] = 0.7074572F;
-		relShowdownProb[1552] = 0.73167646F;
-		relShowdownProb[1561] = 0.7571704F;
-		relShowdownProb[1562] = 0.73422587F;
-		relShowdownProb[1565] = 0.68833673F;
-		relShowdownProb[1566] = 0.6424476F;
-		relShowdownProb[1567] = 0.71892947F;
-		relShowdownProb[1570] = 0.8260041F;
-		relShowdownProb[1571] = 0.8260041F;
-		relShowdownProb[1572] = 0.76864266F;
-		relShowdownProb[1573] = 0.6791589F;
-		relShowdownProb[1576] = 0.5506694F;
-		relShowdownProb[1577] = 0.6500958F;
-		relShowdownProb[1578] = 0.6959849F;
-		relShowdownProb[1579] = 0.7319314F;
-		relShowdownProb[1580] = 0.78175384F;
-		relShowdownProb[1589] = 1.0783942F;
-		relShowdownProb[1590] = 0.78011495F;
-		relShowdownProb[1593] = 0.5047803F;
-		relShowdownProb[1594] = 0.68068856F;
-		relShowdownProb[1595] = 0.58891034F;
-		relShowdownProb[1598] = 0.66539216F;
-		relShowdownProb[1599] = 0.6347994F;
-		relShowdownProb[1600] = 0.657744F;
-		relShowdownProb[1601] = 0.77093714F;
-		relShowdownProb[1604] = 0.8030595F;
-		relShowdownProb[1605] = 0.53537303F;
-		relShowdownProb[1606] = 0.67304033F;
-		relShowdownProb[1607] = 0.7434037F;
-		relShowdownProb[1608] = 0.8367115F;
-		relShowdownProb[1611] = 0.5506694F;
-		relShowdownProb[1612] = 0.79541135F;
-		relShowdownProb[1613] = 0.8145318F;
-		relShowdownProb[1614] = 0.7319314F;
-		relShowdownProb[1615] = 0.8015299F;
-		relShowdownProb[1616] = 0.8363291F;
-		relShowdownProb[1625] = 0.87189317F;
-		relShowdownProb[1626] = 0.73422587F;
-		relShowdownProb[1629] = 0.9177823F;
-		relShowdownProb[1630] = 0.83365226F;
-		relShowdownProb[1631] = 0.8183559F;
-		relShowdownProb[1634] = 0.9407269F;
-		relShowdownProb[1635] = 0.6959849F;
-		relShowdownProb[1636] = 0.6347994F;
-		relShowdownProb[1637] = 0.64015317F;
-		relShowdownProb[1640] = 0.73422587F;
-		relShowdownProb[1641] = 0.6500958F;
-		relShowdownProb[1642] = 0.7648186F;
-		relShowdownProb[1643] = 0.8099429F;
-		relShowdownProb[1644] = 0.8275337F;
-		relShowdownProb[1647] = 0.8030595F;
-		relShowdownProb[1648] = 0.8183559F;
-		relShowdownProb[1649] = 0.8107077F;
-		relShowdownProb[1650] = 0.7411092F;
-		relShowdownProb[1651] = 0.86730427F;
-		relShowdownProb[1652] = 0.9735048F;
-		relShowdownProb[1655] = 0.6195031F;
-		relShowdownProb[1656] = 0.98661596F;
-		relShowdownProb[1657] = 0.99808824F;
-		relShowdownProb[1658] = 0.8099429F;
-		relShowdownProb[1659] = 0.8321226F;
-		relShowdownProb[1660] = 0.9767826F;
-		relShowdownProb[1661] = 0.9772682F;
-		relShowdownProb[1671] = 0.9177823F;
-		relShowdownProb[1675] = 0.79541135F;
-		relShowdownProb[1676] = 0.9177823F;
-		relShowdownProb[1680] = 0.9713196F;
-		relShowdownProb[1681] = 0.99808824F;
-		relShowdownProb[1682] = 0.95678806F;
-		relShowdownProb[1686] = 0.9330787F;
-		relShowdownProb[1687] = 1.0439774F;
-		relShowdownProb[1688] = 0.9590825F;
-		relShowdownProb[1689] = 0.95296395F;
-		relShowdownProb[1693] = 0.98661596F;
-		relShowdownProb[1694] = 1.0248569F;
-		relShowdownProb[1695] = 0.9177823F;
-		relShowdownProb[1696] = 1.0615683F;
-		relShowdownProb[1697] = 1.0630978F;
-		relShowdownProb[1701] = 1.0783942F;
-		relShowdownProb[1702] = 0.9713196F;
-		relShowdownProb[1703] = 0.98202705F;
-		relShowdownProb[1704] = 1.041683F;
-		relShowdownProb[1705] = 1.1330241F;
-		relShowdownProb[1706] = 1.185742F;
-		relShowdownProb[1710] = 1.1013387F;
-		relShowdownProb[1711] = 0.97514373F;
-		relShowdownProb[1712] = 0.99808824F;
-		relShowdownProb[1713] = 1.1288723F;
-		relShowdownProb[1714] = 1.1942096F;
-		relShowdownProb[1715] = 1.2488395F;
-		relShowdownProb[1716] = 1.438296F;
-		relShowdownProb[1735] = 0.78011495F;
-		relShowdownProb[1736] = 0.8260041F;
-		relShowdownProb[1745] = 0.73422587F;
-		relShowdownProb[1746] = 0.63097537F;
-		relShowdownProb[1749] = 0.7112813F;
-		relShowdownProb[1750] = 0.7724668F;
-		relShowdownProb[1751] = 0.76175934F;
-		relShowdownProb[1760] = 0.7571704F;
-		relShowdownProb[1761] = 0.7571704F;
-		relShowdownProb[1764] = 0.73422587F;
-		relShowdownProb[1765] = 0.78011495F;
-		relShowdownProb[1766] = 0.66539216F;
-		relShowdownProb[1769] = 0.7571704F;
-		relShowdownProb[1770] = 0.8107077F;
-		relShowdownProb[1771] = 0.69216084F;
-		relShowdownProb[1772] = 0.7214789F;
-		relShowdownProb[1781] = 0.6195031F;
-		relShowdownProb[1782] = 0.7227536F;
-		relShowdownProb[1785] = 0.5506694F;
-		relShowdownProb[1786] = 0.84894866F;
-		relShowdownProb[1787] = 0.725048F;
-		relShowdownProb[1790] = 0.7112813F;
-		relShowdownProb[1791] = 0.7877632F;
-		relShowdownProb[1792] = 0.74569815F;
-		relShowdownProb[1793] = 0.78011495F;
-		relShowdownProb[1796] = 0.68833673F;
-		relShowdownProb[1797] = 0.72657764F;
-		relShowdownProb[1798] = 0.82218F;
-		relShowdownProb[1799] = 0.8512431F;
-		relShowdownProb[1800] = 0.78175384F;
-		relShowdownProb[1809] = 0.78011495F;
-		relShowdownProb[1810] = 0.73422587F;
-		relShowdownProb[1813] = 0.73422587F;
-		relShowdownProb[1814] = 0.9789678F;
-		relShowdownProb[1815] = 0.7296369F;
-		relShowdownProb[1818] = 0.7112813F;
-		relShowdownProb[1819] = 0.7571704F;
-		relShowdownProb[1820] = 0.78393906F;
-		relShowdownProb[1821] = 0.7227536F;
-		relShowdownProb[1824] = 0.7112813F;
-		relShowdownProb[1825] = 0.67304033F;
-		relShowdownProb[1826] = 0.8565968F;
-		relShowdownProb[1827] = 0.76405376F;
-		relShowdownProb[1828] = 0.86730427F;
-		relShowdownProb[1831] = 0.8260041F;
-		relShowdownProb[1832] = 0.9177823F;
-		relShowdownProb[1833] = 0.82982814F;
-		relShowdownProb[1834] = 0.8145318F;
-		relShowdownProb[1835] = 0.80458915F;
-		relShowdownProb[1836] = 0.8225624F;
-		relShowdownProb[1845] = 0.87189317F;
-		relShowdownProb[1846] = 0.74569815F;
-		relShowdownProb[1849] = 0.87189317F;
-		relShowdownProb[1850] = 0.87189317F;
-		relShowdownProb[1851] = 0.8122373F;
-		relShowdownProb[1854] = 0.5506694F;
-		relShowdownProb[1855] = 0.83365226F;
-		relShowdownProb[1856] = 0.73422587F;
-		relShowdownProb[1857] = 0.7892928F;
-		relShowdownProb[1860] = 0.8030595F;
-		relShowdownProb[1861] = 0.87189317F;
-		relShowdownProb[1862] = 0.80688363F;
-		relShowdownProb[1863] = 0.7365203F;
-		relShowdownProb[1864] = 0.8887192F;
-		relShowdownProb[1867] = 0.8030595F;
-		relShowdownProb[1868] = 0.79541135F;
-		relShowdownProb[1869] = 0.9177823F;
-		relShowdownProb[1870] = 0.9177823F;
-		relShowdownProb[1871] = 0.9254305F;
-		relShowdownProb[1872] = 0.95274544F;
-		relShowdownProb[1875] = 1.1472279F;
-		relShowdownProb[1876] = 0.9177823F;
-		relShowdownProb[1877] = 0.89483774F;
-		relShowdownProb[1878] = 0.9246657F;
-		relShowdownProb[1879] = 0.86577463F;
-		relShowdownProb[1880] = 0.964764F;
-		relShowdownProb[1881] = 0.9857662F;
-		relShowdownProb[1891] = 0.90631F;
-		relShowdownProb[1895] = 1.0019124F;
-		relShowdownProb[1896] = 0.9590825F;
-		relShowdownProb[1900] = 1.0019124F;
-		relShowdownProb[1901] = 1.066922F;
-		relShowdownProb[1902] = 1.066922F;
-		relShowdownProb[1906] = 0.94837505F;
-		relShowdownProb[1907] = 0.99808824F;
-		relShowdownProb[1908] = 0.96137697F;
-		relShowdownProb[1909] = 1.0738053F;
-		relShowdownProb[1913] = 1.0325052F;
-		relShowdownProb[1914] = 0.9713196F;
-		relShowdownProb[1915] = 0.9338435F;
-		relShowdownProb[1916] = 1.0447422F;
-		relShowdownProb[1917] = 1.1188203F;
-		relShowdownProb[1921] = 1.1548761F;
-		relShowdownProb[1922] = 1.0439774F;
-		relShowdownProb[1923] = 1.037094F;
-		relShowdownProb[1924] = 1.0753349F;
-		relShowdownProb[1925] = 1.0827646F;
-		relShowdownProb[1926] = 1.2127838F;
-		relShowdownProb[1930] = 1.1778207F;
-		relShowdownProb[1931] = 1.193117F;
-		relShowdownProb[1932] = 1.1128111F;
-		relShowdownProb[1933] = 1.0661571F;
-		relShowdownProb[1934] = 1.1996726F;
-		relShowdownProb[1935] = 1.2816174F;
-		relShowdownProb[1936] = 1.3629067F;
-		relShowdownProb[1955] = 0.7571704F;
-		relShowdownProb[1956] = 0.7112813F;
-		relShowdownProb[1965] = 0.5047803F;
-		relShowdownProb[1966] = 0.89483774F;
-		relShowdownProb[1969] = 0.66539216F;
-		relShowdownProb[1970] = 0.7877632F;
-		relShowdownProb[1971] = 0.74187404F;
-		relShowdownProb[1980] = 0.8030595F;
-		relShowdownProb[1981] = 0.76864266F;
-		relShowdownProb[1984] = 0.6424476F;
-		relShowdownProb[1985] = 0.864245F;
-		relShowdownProb[1986] = 0.7892928F;
-		relShowdownProb[1989] = 0.6424476F;
-		relShowdownProb[1990] = 0.8795414F;
-		relShowdownProb[1991] = 0.74569815F;
-		relShowdownProb[1992] = 0.8285535F;
-		relShowdownProb[2001] = 0.84894866F;
-		relShowdownProb[2002] = 0.88336545F;
-		relShowdownProb[2005] = 0.7571704F;
-		relShowdownProb[2006] = 0.78011495F;
-		relShowdownProb[2007] = 0.9131934F;
-		relShowdownProb[2010] = 0.7112813F;
-		relShowdownProb[2011] = 0.8107077F;
-		relShowdownProb[2012] = 0.7724668F;
-		relShowdownProb[2013] = 0.79541135F;
-		relShowdownProb[2016] = 0.84894866F;
-		relShowdownProb[2017] = 0.88718957F;
-		relShowdownProb[2018] = 0.7877632F;
-		relShowdownProb[2019] = 0.88107103F;
-		relShowdownProb[2020] = 0.8243652F;
-		relShowdownProb[2029] = 1.0554496F;
-		relShowdownProb[2030] = 0.95219916F;
-		relShowdownProb[2033] = 0.8260041F;
-		relShowdownProb[2034] = 0.8183559F;
-		relShowdownProb[2035] = 0.78011495F;
-		relShowdownProb[2038] = 0.7112813F;
-		relShowdownProb[2039] = 0.7724668F;
-		relShowdownProb[2040] = 0.9139582F;
-		relShowdownProb[2041] = 0.79286194F;
-		relShowdownProb[2044] = 1.0554496F;
-		relShowdownProb[2045] = 0.79541135F;
-		relShowdownProb[2046] = 0.8183559F;
-		relShowdownProb[2047] = 0.8076484F;
-		relShowdownProb[2048] = 0.8550672F;
-		relShowdownProb[2051] = 0.87189317F;
-		relShowdownProb[2052] = 0.7112813F;
-		relShowdownProb[2053] = 0.8374764F;
-		relShowdownProb[2054] = 0.89942664F;
-		relShowdownProb[2055] = 0.8321226F;
-		relShowdownProb[2056] = 0.90286833F;
-		relShowdownProb[2065] = 0.87189317F;
-		relShowdownProb[2066] = 0.6195031F;
-		relShowdownProb[2069] = 0.5965585F;
-		relShowdownProb[2070] = 0.84894866F;
-		relShowdownProb[2071] = 0.936138F;
-		relShowdownProb[2074] = 0.68833673F;
-		relShowdownProb[2075] = 0.8107077F;
-		relShowdownProb[2076] = 0.8910137F;
-		relShowdownProb[2077] = 0.9203317F;
-		relShowdownProb[2080] = 0.8030595F;
-		relShowdownProb[2081] = 0.79541135F;
-		relShowdownProb[2082] = 0.94837505F;
-		relShowdownProb[2083] = 0.8925433F;
-		relShowdownProb[2084] = 0.9315491F;
-		relShowdownProb[2087] = 0.87189317F;
-		relShowdownProb[2088] = 0.9254305F;
-		relShowdownProb[2089] = 0.91013414F;
-		relShowdownProb[2090] = 0.8099429F;
-		relShowdownProb[2091] = 0.9162527F;
-		relShowdownProb[2092] = 0.9898938F;
-		relShowdownProb[2095] = 0.9177823F;
-		relShowdownProb[2096] = 0.90248597F;
-		relShowdownProb[2097] = 0.93690276F;
-		relShowdownProb[2098] = 0.9338435F;
-		relShowdownProb[2099] = 0.9667307F;
-		relShowdownProb[2100] = 1.048894F;
-		relShowdownProb[2101] = 1.1293821F;
-		relShowdownProb[2111] = 1.0210328F;
-		relShowdownProb[2115] = 1.0248569F;
-		relShowdownProb[2116] = 1.0967499F;
-		relShowdownProb[2120] = 1.1242833F;
-		relShowdownProb[2121] = 1.0057365F;
-		relShowdownProb[2122] = 1.0962399F;
-		relShowdownProb[2126] = 1.0172087F;
-		relShowdownProb[2127] = 1.0898665F;
-		relShowdownProb[2128] = 1.0279162F;
-		relShowdownProb[2129] = 1.0891017F;
-		relShowdownProb[2133] = 1.0401533F;
-		relShowdownProb[2134] = 1.0707461F;
-		relShowdownProb[2135] = 1.1334611F;
-		relShowdownProb[2136] = 1.0921609F;
-		relShowdownProb[2137] = 1.1636169F;
-		relShowdownProb[2141] = 1.0019124F;
-		relShowdownProb[2142] = 1.151052F;
-		relShowdownProb[2143] = 1.1128111F;
-		relShowdownProb[2144] = 1.2084134F;
-		relShowdownProb[2145] = 1.1384871F;
-		relShowdownProb[2146] = 1.2906314F;
-		relShowdownProb[2150] = 1.0172087F;
-		relShowdownProb[2151] = 1.151052F;
-		relShowdownProb[2152] = 1.1954114F;
-		relShowdownProb[2153] = 1.2894841F;
-		relShowdownProb[2154] = 1.304562F;
-		relShowdownProb[2155] = 1.2365478F;
-		relShowdownProb[2156] = 1.4212514F;
-		relShowdownProb[2175] = 1.0325052F;
-		relShowdownProb[2176] = 0.66539216F;
-		relShowdownProb[2185] = 0.78011495F;
-		relShowdownProb[2186] = 0.9292546F;
-		relShowdownProb[2189] = 0.66539216F;
-		relShowdownProb[2190] = 0.9177823F;
-		relShowdownProb[2191] = 0.864245F;
-		relShowdownProb[2200] = 1.0095606F;
-		relShowdownProb[2201] = 0.74569815F;
-		relShowdownProb[2204] = 0.78011495F;
-		relShowdownProb[2205] = 0.71892947F;
-		relShowdownProb[2206] = 0.7938817F;
-		relShowdownProb[2209] = 1.1013387F;
-		relShowdownProb[2210] = 0.7648186F;
-		relShowdownProb[2211] = 0.84894866F;
-		relShowdownProb[2212] = 1.0248569F;
-		relShowdownProb[2221] = 0.7571704F;
-		relShowdownProb[2222] = 0.76864266F;
-		relShowdownProb[2225] = 0.66539216F;
-		relShowdownProb[2226] = 0.72657764F;
-		relShowdownProb[2227] = 0.78470385F;
-		relShowdownProb[2230] = 0.6195031F;
-		relShowdownProb[2231] = 0.7112813F;
-		relShowdownProb[2232] = 0.7609945F;
-		relShowdownProb[2233] = 0.8565968F;
-		relShowdownProb[2236] = 0.48183572F;
-		relShowdownProb[2237] = 0.84894866F;
-		relShowdownProb[2238] = 0.7609945F;
-		relShowdownProb[2239] = 0.97055477F;
-		relShowdownProb[2240] = 0.87189317F;
-		relShowdownProb[2249] = 0.87189317F;
-		relShowdownProb[2250] = 0.95219916F;
-		relShowdownProb[2253] = 0.73422587F;
-		relShowdownProb[2254] = 0.68833673F;
-		relShowdownProb[2255] = 0.86271536F;
-		relShowdownProb[2258] = 0.8030595F;
-		relShowdownProb[2259] = 0.68833673F;
-		relShowdownProb[2260] = 0.89866185F;
-		relShowdownProb[2261] = 0.8693438F;
-		relShowdownProb[2264] = 0.96367145F;
-		relShowdownProb[2265] = 0.8795414F;
-		relShowdownProb[2266] = 0.82218F;
-		relShowdownProb[2267] = 0.9223712F;
-		relShowdownProb[2268] = 0.9177823F;
-		relShowdownProb[2271] = 0.9407269F;
-		relShowdownProb[2272] = 0.94837505F;
-		relShowdownProb[2273] = 0.90631F;
-		relShowdownProb[2274] = 0.9453158F;
-		relShowdownProb[2275] = 0.89942664F;
-		relShowdownProb[2276] = 0.9544936F;
-		relShowdownProb[2285] = 0.87189317F;
-		relShowdownProb[2286] = 1.0095606F;
-		relShowdownProb[2289] = 0.6424476F;
-		relShowdownProb[2290] = 0.7724668F;
-		relShowdownProb[2291] = 0.9223712F;
-		relShowdownProb[2294] = 0.66539216F;
-		relShowdownProb[2295] = 0.74187404F;
-		relShowdownProb[2296] = 0.9560232F;
-		relShowdownProb[2297] = 0.9203317F;
-		relShowdownProb[2300] = 1.0783942F;
-		relShowdownProb[2301] = 0.8260041F;
-		relShowdownProb[2302] = 0.8795414F;
-		relShowdownProb[2303] = 0.86042094F;
-		relShowdownProb[2304] = 0.94236577F;
-		relShowdownProb[2307] = 0.84894866F;
-		relShowdownProb[2308] = 0.8565968F;
-		relShowdownProb[2309] = 0.8757173F;
-		relShowdownProb[2310] = 0.8971322F;
-		relShowdownProb[2311] = 0.9835567F;
-		relShowdownProb[2312] = 1.048894F;
-		relShowdownProb[2315] = 0.8030595F;
-		relShowdownProb[2316] = 0.94837505F;
-		relShowdownProb[2317] = 0.95219916F;
-		relShowdownProb[2318] = 1.0049716F;
-		relShowdownProb[2319] = 1.0156791F;
-		relShowdownProb[2320] = 1.0554496F;
-		relShowdownProb[2321] = 1.1387299F;
-		relShowdownProb[2330] = 0.78011495F;
-		relShowdownProb[2331] = 1.1013387F;
-		relShowdownProb[2334] = 1.2848952F;
-		relShowdownProb[2335] = 1.0936906F;
-		relShowdownProb[2336] = 1.041683F;
-		relShowdownProb[2339] = 0.9407269F;
-		relShowdownProb[2340] = 0.9942642F;
-		relShowdownProb[2341] = 1.1319315F;
-		relShowdownProb[2342] = 0.93562806F;
-		relShowdownProb[2345] = 1.1242833F;
-		relShowdownProb[2346] = 1.0478015F;
-		relShowdownProb[2347] = 0.9292546F;
-		relShowdownProb[2348] = 1.0233272F;
-		relShowdownProb[2349] = 1.1341168F;
-		relShowdownProb[2352] = 1.1013387F;
-		relShowdownProb[2353] = 1.1625242F;
-		relShowdownProb[2354] = 1.0401533F;
-		relShowdownProb[2355] = 1.2114726F;
-		relShowdownProb[2356] = 1.1885281F;
-		relShowdownProb[2357] = 1.1756355F;
-		relShowdownProb[2360] = 0.87189317F;
-		relShowdownProb[2361] = 1.0554496F;
-		relShowdownProb[2362] = 1.2963675F;
-		relShowdownProb[2363] = 1.0806887F;
-		relShowdownProb[2364] = 1.1456982F;
-		relShowdownProb[2365] = 1.2226171F;
-		relShowdownProb[2366] = 1.311937F;
-		relShowdownProb[2369] = 1.1472279F;
-		relShowdownProb[2370] = 1.108987F;
-		relShowdownProb[2371] = 1.066922F;
-		relShowdownProb[2372] = 1.222945F;
-		relShowdownProb[2373] = 1.0845127F;
-		relShowdownProb[2374] = 1.2706915F;
-		relShowdownProb[2375] = 1.3389789F;
-		relShowdownProb[2376] = 1.3950291F;
-		relShowdownProb[2392] = 0.66539216F;
-		relShowdownProb[2395] = 0.6195031F;
-		relShowdownProb[2396] = 0.96367145F;
-		relShowdownProb[2402] = 0.5277248F;
-		relShowdownProb[2405] = 0.7112813F;
-		relShowdownProb[2406] = 0.8030595F;
-		relShowdownProb[2409] = 0.9407269F;
-		relShowdownProb[2410] = 0.74187404F;
-		relShowdownProb[2411] = 0.8030595F;
-		relShowdownProb[2417] = 0.5965585F;
-		relShowdownProb[2420] = 0.7571704F;
-		relShowdownProb[2421] = 0.9292546F;
-		relShowdownProb[2424] = 0.6195031F;
-		relShowdownProb[2425] = 0.8565968F;
-		relShowdownProb[2426] = 0.9407269F;
-		relShowdownProb[2429] = 0.41300204F;
-		relShowdownProb[2430] = 0.6424476F;
-		relShowdownProb[2431] = 0.8374764F;
-		relShowdownProb[2432] = 0.96367145F;
-		relShowdownProb[2438] = 0.48183572F;
-		relShowdownProb[2441] = 0.9177823F;
-		relShowdownProb[2442] = 0.5277248F;
-		relShowdownProb[2445] = 0.84894866F;
-		relShowdownProb[2446] = 0.8107077F;
-		relShowdownProb[2447] = 0.89942664F;
-		relShowdownProb[2450] = 0.9177823F;
-		relShowdownProb[2451] = 0.6959849F;
-		relShowdownProb[2452] = 0.82218F;
-		relShowdownProb[2453] = 0.95347387F;
-		relShowdownProb[2456] = 0.57361394F;
-		relShowdownProb[2457] = 0.71892947F;
-		relShowdownProb[2458] = 0.8145318F;
-		relShowdownProb[2459] = 0.9407269F;
-		relShowdownProb[2460] = 0.88107103F;
-		relShowdownProb[2466] = 0.66539216F;
-		relShowdownProb[2469] = 0.7112813F;
-		relShowdownProb[2470] = 0.56214166F;
-		relShowdownProb[2473] = 0.68833673F;
-		relShowdownProb[2474] = 0.9177823F;
-		relShowdownProb[2475] = 0.9453158F;
-		relShowdownProb[2478] = 0.78011495F;
-		relShowdownProb[2479] = 0.6042067F;
-		relShowdownProb[2480] = 0.67304033F;
-		relShowdownProb[2481] = 0.876992F;
-		relShowdownProb[2484] = 0.78011495F;
-		relShowdownProb[2485] = 0.7495222F;
-		relShowdownProb[2486] = 0.8374764F;
-		relShowdownProb[2487] = 0.95219916F;
-		relShowdownProb[2488] = 0.9882549F;
-		relShowdownProb[2491] = 0.43594658F;
-		relShowdownProb[2492] = 0.7495222F;
-		relShowdownProb[2493] = 0.7495222F;
-		relShowdownProb[2494] = 0.9315491F;
-		relShowdownProb[2495] = 0.97284925F;
-		relShowdownProb[2496] = 1.0554496F;
-		relShowdownProb[2502] = 0.7112813F;
-		relShowdownProb[2505] = 0.8030595F;
-		relShowdownProb[2506] = 0.86042094F;
-		relShowdownProb[2509] = 0.6424476F;
-		relShowdownProb[2510] = 0.90248597F;
-		relShowdownProb[2511] = 0.936138F;
-		relShowdownProb[2514] = 0.6424476F;
-		relShowdownProb[2515] = 0.7036331F;
-		relShowdownProb[2516] = 0.8910137F;
-		relShowdownProb[2517] = 0.94582564F;
-		relShowdownProb[2520] = 0.57361394F;
-		relShowdownProb[2521] = 0.8183559F;
-		relShowdownProb[2522] = 0.8527727F;
-		relShowdownProb[2523] = 0.9200768F;
-		relShowdownProb[2524] = 1.0701997F;
-		relShowdownProb[2527] = 0.7112813F;
-		relShowdownProb[2528] = 0.83365226F;
-		relShowdownProb[2529] = 0.9560232F;
-		relShowdownProb[2530] = 0.97284925F;
-		relShowdownProb[2531] = 1.1028684F;
-		relShowdownProb[2532] = 1.0852776F;
-		relShowdownProb[2535] = 0.73422587F;
-		relShowdownProb[2536] = 0.9560232F;
-		relShowdownProb[2537] = 0.95219916F;
-		relShowdownProb[2538] = 0.9590825F;
-		relShowdownProb[2539] = 1.0738053F;
-		relShowdownProb[2540] = 1.1483204F;
-		relShowdownProb[2541] = 1.2160616F;
-		relShowdownProb[2550] = 0.7112813F;
-		relShowdownProb[2551] = 0.89483774F;
-		relShowdownProb[2554] = 0.98661596F;
-		relShowdownProb[2555] = 1.0478015F;
-		relShowdownProb[2556] = 1.1288723F;
-		relShowdownProb[2559] = 0.87189317F;
-		relShowdownProb[2560] = 0.9407269F;
-		relShowdownProb[2561] = 1.1013387F;
-		relShowdownProb[2562] = 1.1956664F;
-		relShowdownProb[2565] = 1.0554496F;
-		relShowdownProb[2566] = 0.91013414F;
-		relShowdownProb[2567] = 1.1128111F;
-		relShowdownProb[2568] = 1.1655835F;
-		relShowdownProb[2569] = 1.2013115F;
-		relShowdownProb[2572] = 1.0325052F;
-		relShowdownProb[2573] = 0.84894866F;
-		relShowdownProb[2574] = 1.0898665F;
-		relShowdownProb[2575] = 1.1885281F;
-		relShowdownProb[2576] = 1.2298282F;
-		relShowdownProb[2577] = 1.2516257F;
-		relShowdownProb[2580] = 0.9407269F;
-		relShowdownProb[2581] = 0.78011495F;
-		relShowdownProb[2582] = 1.1319315F;
-		relShowdownProb[2583] = 1.2160616F;
-		relShowdownProb[2584] = 1.1441686F;
-		relShowdownProb[2585] = 1.3591919F;
-		relShowdownProb[2586] = 1.3799512F;
-		relShowdownProb[2589] = 1.0554496F;
-		relShowdownProb[2590] = 1.0860424F;
-		relShowdownProb[2591] = 1.0630978F;
-		relShowdownProb[2592] = 1.2045892F;
-		relShowdownProb[2593] = 1.2130023F;
-		relShowdownProb[2594] = 1.315488F;
-		relShowdownProb[2595] = 1.4061736F;
-		relShowdownProb[2596] = 1.5123742F;
-		relShowdownProb[2612] = 0.66539216F;
-		relShowdownProb[2615] = 0.5506694F;
-		relShowdownProb[2616] = 0.68833673F;
-		relShowdownProb[2622] = 0.7112813F;
-		relShowdownProb[2625] = 0.8030595F;
-		relShowdownProb[2626] = 0.864245F;
-		relShowdownProb[2629] = 0.5506694F;
-		relShowdownProb[2630] = 0.7112813F;
-		relShowdownProb[2631] = 0.8260041F;
-		relShowdownProb[2637] = 0.8030595F;
-		relShowdownProb[2640] = 0.68833673F;
-		relShowdownProb[2641] = 0.657744F;
-		relShowdownProb[2644] = 0.66539216F;
-		relShowdownProb[2645] = 0.9254305F;
-		relShowdownProb[2646] = 0.88565993F;
-		relShowdownProb[2649] = 0.7571704F;
-		relShowdownProb[2650] = 0.9942642F;
-		relShowdownProb[2651] = 1.0248569F;
-		relShowdownProb[2652] = 1.0019124F;
-		relShowdownProb[2658] = 0.5277248F;
-		relShowdownProb[2661] = 0.57361394F;
-		relShowdownProb[2662] = 0.79541135F;
-		relShowdownProb[2665] = 0.5047803F;
-		relShowdownProb[2666] = 0.8107077F;
-		relShowdownProb[2667] = 0.8764821F;
-		relShowdownProb[2670] = 0.8030595F;
-		relShowdownProb[2671] = 0.78011495F;
-		relShowdownProb[2672] = 0.88336545F;
-		relShowdownProb[2673] = 0.9764184F;
-		relShowdownProb[2676] = 0.89483774F;
-		relShowdownProb[2677] = 0.68833673F;
-		relShowdownProb[2678] = 0.8565968F;
-		relShowdownProb[2679] = 0.90631F;
-		relShowdownProb[2680] = 1.0554496F;
-		relShowdownProb[2686] = 0.6195031F;
-		relShowdownProb[2689] = 0.45889115F;
-		relShowdownProb[2690] = 0.6424476F;
-		relShowdownProb[2693] = 0.6424476F;
-		relShowdownProb[2694] = 0.8183559F;
-		relShowdownProb[2695] = 0.88565993F;
-		relShowdownProb[2698] = 0.87189317F;
-		relShowdownProb[2699] = 0.89483774F;
-		relShowdownProb[2700] = 0.8260041F;
-		relShowdownProb[2701] = 0.9254305F;
-		relShowdownProb[2704] = 0.9407269F;
-		relShowdownProb[2705] = 0.74187404F;
-		relShowdownProb[2706] = 0.7724668F;
-		relShowdownProb[2707] = 0.9407269F;
-		relShowdownProb[2708] = 1.0718386F;
-		relShowdownProb[2711] = 0.8260041F;
-		relShowdownProb[2712] = 0.71892947F;
-		relShowdownProb[2713] = 0.83365226F;
-		relShowdownProb[2714] = 0.9544936F;
-		relShowdownProb[2715] = 1.1487576F;
-		relShowdownProb[2716] = 1.0967499F;
-		relShowdownProb[2722] = 0.68833673F;
-		relShowdownProb[2725] = 0.57361394F;
-		relShowdownProb[2726] = 0.8107077F;
-		relShowdownProb[2729] = 0.6195031F;
-		relShowdownProb[2730] = 0.7112813F;
-		relShowdownProb[2731] = 0.9040156F;
-		relShowdownProb[2734] = 0.84894866F;
-		relShowdownProb[2735] = 0.7877632F;
-		relShowdownProb[2736] = 0.9789678F;
-		relShowdownProb[2737] = 1.0809436F;
-		relShowdownProb[2740] = 0.6424476F;
-		relShowdownProb[2741] = 0.84894866F;
-		relShowdownProb[2742] = 0.83365226F;
-		relShowdownProb[2743] = 0.97743815F;
-		relShowdownProb[2744] = 1.0423385F;
-		relShowdownProb[2747] = 0.7571704F;
-		relShowdownProb[2748] = 0.9789678F;
-		relShowdownProb[2749] = 0.8680691F;
-		relShowdownProb[2750] = 1.066922F;
-		relShowdownProb[2751] = 1.0891017F;
-		relShowdownProb[2752] = 1.1804975F;
-		relShowdownProb[2755] = 0.6424476F;
-		relShowdownProb[2756] = 0.864245F;
-		relShowdownProb[2757] = 0.9216064F;
-		relShowdownProb[2758] = 1.1105165F;
-		relShowdownProb[2759] = 1.0661571F;
-		relShowdownProb[2760] = 1.2105986F;
-		relShowdownProb[2761] = 1.2585515F;
-		relShowdownProb[2770] = 0.6195031F;
-		relShowdownProb[2771] = 1.0860424F;
-		relShowdownProb[2774] = 1.0095606F;
-		relShowdownProb[2775] = 0.9254305F;
-		relShowdownProb[2776] = 1.0508608F;
-		relShowdownProb[2779] = 0.84894866F;
-		relShowdownProb[2780] = 0.9942642F;
-		relShowdownProb[2781] = 0.9713196F;
-		relShowdownProb[2782] = 1.2721483F;
-		relShowdownProb[2785] = 0.8260041F;
-		relShowdownProb[2786] = 1.1166351F;
-		relShowdownProb[2787] = 1.0210328F;
-		relShowdownProb[2788] = 1.1173999F;
-		relShowdownProb[2789] = 1.1521446F;
-		relShowdownProb[2792] = 0.96367145F;
-		relShowdownProb[2793] = 1.0554496F;
-		relShowdownProb[2794] = 0.9713196F;
-		relShowdownProb[2795] = 1.037094F;
-		relShowdownProb[2796] = 1.2313579F;
-		relShowdownProb[2797] = 1.2871897F;
-		relShowdownProb[2800] = 0.9177823F;
-		relShowdownProb[2801] = 1.0783942F;
-		relShowdownProb[2802] = 1.0936906F;
-		relShowdownProb[2803] = 1.1311667F;
-		relShowdownProb[2804] = 1.2757174F;
-		relShowdownProb[2805] = 1.3231362F;
-		relShowdownProb[2806] = 1.3970686F;
-		relShowdownProb[2809] = 1.0554496F;
-		relShowdownProb[2810] = 1.1395797F;
-		relShowdownProb[2811] = 1.0439774F;
-		relShowdownProb[2812] = 1.1862336F;
-		relShowdownProb[2813] = 1.3063102F;
-		relShowdownProb[2814] = 1.4378589F;
-		relShowdownProb[2815] = 1.487299F;
-		relShowdownProb[2816] = 1.5412188F;
-		relShowdownProb[2832] = 0.43594658F;
-		relShowdownProb[2835] = 0.5965585F;
-		relShowdownProb[2836] = 0.6080308F;
-		relShowdownProb[2842] = 0.6195031F;
-		relShowdownProb[2845] = 0.78011495F;
-		relShowdownProb[2846] = 0.91013414F;
-		relShowdownProb[2849] = 0.5277248F;
-		relShowdownProb[2850] = 0.657744F;
-		relShowdownProb[2851] = 0.8183559F;
-		relShowdownProb[2857] = 0.5277248F;
-		relShowdownProb[2860] = 0.5506694F;
-		relShowdownProb[2861] = 0.68068856F;
-		relShowdownProb[2864] = 0.5965585F;
-		relShowdownProb[2865] = 0.7036331F;
-		relShowdownProb[2866] = 0.8374764F;
-		relShowdownProb[2869] = 0.8260041F;
-		relShowdownProb[2870] = 0.6959849F;
-		relShowdownProb[2871] = 0.9827919F;
-		relShowdownProb[2872] = 0.84894866F;
-		relShowdownProb[2878] = 0.45889115F;
-		relShowdownProb[2881] = 0.7571704F;
-		relShowdownProb[2882] = 0.66539216F;
-		relShowdownProb[2885] = 0.48183572F;
-		relShowdownProb[2886] = 0.9407269F;
-		relShowdownProb[2887] = 0.87189317F;
-		relShowdownProb[2890] = 0.6424476F;
-		relShowdownProb[2891] = 0.73422587F;
-		relShowdownProb[2892] = 0.80688363F;
-		relShowdownProb[2893] = 0.90248597F;
-		relShowdownProb[2896] = 0.84894866F;
-		relShowdownProb[2897] = 0.8107077F;
-		relShowdownProb[2898] = 0.89483774F;
-		relShowdownProb[2899] = 0.98891044F;
-		relShowdownProb[2900] = 1.0393884F;
-		relShowdownProb[2906] = 0.6195031F;
-		relShowdownProb[2909] = 0.57361394F;
-		relShowdownProb[2910] = 0.79541135F;
-		relShowdownProb[2913] = 0.45889115F;
-		relShowdownProb[2914] = 0.6424476F;
-		relShowdownProb[2915] = 0.864245F;
-		relShowdownProb[2918] = 0.68833673F;
-		relShowdownProb[2919] = 0.66539216F;
-		relShowdownProb[2920] = 0.8260041F;
-		relShowdownProb[2921] = 0.8413004F;
-		relShowdownProb[2924] = 0.8260041F;
-		relShowdownProb[2925] = 0.864245F;
-		relShowdownProb[2926] = 0.84894866F;
-		relShowdownProb[2927] = 0.9912049F;
-		relShowdownProb[2928] = 1.0620053F;
-		relShowdownProb[2931] = 0.73422587F;
-		relShowdownProb[2932] = 0.8030595F;
-		relShowdownProb[2933] = 0.73422587F;
-		relShowdownProb[2934] = 1.0233272F;
-		relShowdownProb[2935] = 1.0753349F;
-		relShowdownProb[2936] = 1.1778207F;
-		relShowdownProb[2942] = 0.73422587F;
-		relShowdownProb[2945] = 0.45889115F;
-		relShowdownProb[2946] = 0.68068856F;
-		relShowdownProb[2949] = 0.89483774F;
-		relShowdownProb[2950] = 0.7495222F;
-		relShowdownProb[2951] = 0.84512454F;
-		relShowdownProb[2954] = 0.8260041F;
-		relShowdownProb[2955] = 0.6424476F;
-		relShowdownProb[2956] = 0.87189317F;
-		relShowdownProb[2957] = 0.93817747F;
-		relShowdownProb[2960] = 0.87189317F;
-		relShowdownProb[2961] = 0.87189317F;
-		relShowdownProb[2962] = 0.78393906F;
-		relShowdownProb[2963] = 1.0003827F;
-		relShowdownProb[2964] = 1.0849499F;
-		relShowdownProb[2967] = 0.8030595F;
-		relShowdownProb[2968] = 0.9254305F;
-		relShowdownProb[2969] = 0.9254305F;
-		relShowdownProb[2970] = 0.95219916F;
-		relShowdownProb[2971] = 1.0936906F;
-		relShowdownProb[2972] = 1.3606123F;
-		relShowdownProb[2975] = 0.6195031F;
-		relShowdownProb[2976] = 0.83365226F;
-		relShowdownProb[2977] = 0.9139582F;
-		relShowdownProb[2978] = 0.96367145F;
-		relShowdownProb[2979] = 1.121224F;
-		relShowdownProb[2980] = 1.3296918F;
-		relShowdownProb[2981] = 1.3034694F;
-		relShowdownProb[2990] = 0.7112813F;
-		relShowdownProb[2991] = 0.7495222F;
-		relShowdownProb[2994] = 0.87189317F;
-		relShowdownProb[2995] = 0.78011495F;
-		relShowdownProb[2996] = 0.95219916F;
-		relShowdownProb[2999] = 0.84894866F;
-		relShowdownProb[3000] = 1.0095606F;
-		relShowdownProb[3001] = 0.9789678F;
-		relShowdownProb[3002] = 1.1242833F;
-		relShowdownProb[3005] = 1.0325052F;
-		relShowdownProb[3006] = 1.0172087F;
-		relShowdownProb[3007] = 1.0516256F;
-		relShowdownProb[3008] = 1.1564057F;
-		relShowdownProb[3009] = 1.2603117F;
-		relShowdownProb[3012] = 1.1013387F;
-		relShowdownProb[3013] = 0.9942642F;
-		relShowdownProb[3014] = 1.0133846F;
-		relShowdownProb[3015] = 1.167878F;
-		relShowdownProb[3016] = 1.2160616F;
-		relShowdownProb[3017] = 1.3835568F;
-		relShowdownProb[3020] = 0.96367145F;
-		relShowdownProb[3021] = 0.9560232F;
-		relShowdownProb[3022] = 1.0707461F;
-		relShowdownProb[3023] = 1.1816447F;
-		relShowdownProb[3024] = 1.3017212F;
-		relShowdownProb[3025] = 1.4170996F;
-		relShowdownProb[3026] = 1.5228388F;
-		relShowdownProb[3029] = 1.3307843F;
-		relShowdownProb[3030] = 1.0172087F;
-		relShowdownProb[3031] = 1.1319315F;
-		relShowdownProb[3032] = 1.1908226F;
-		relShowdownProb[3033] = 1.243595F;
-		relShowdownProb[3034] = 1.5056F;
-		relShowdownProb[3035] = 1.5315492F;
-		relShowdownProb[3036] = 1.7260863F;
-		relShowdownProb[3052] = 0.3212238F;
-		relShowdownProb[3055] = 0.78011495F;
-		relShowdownProb[3056] = 0.48183572F;
-		relShowdownProb[3062] = 0.57361394F;
-		relShowdownProb[3065] = 0.7571704F;
-		relShowdownProb[3066] = 0.6347994F;
-		relShowdownProb[3069] = 0.48183572F;
-		relShowdownProb[3070] = 0.68068856F;
-		relShowdownProb[3071] = 0.6791589F;
-		relShowdownProb[3077] = 0.43594658F;
-		relShowdownProb[3080] = 0.6195031F;
-		relShowdownProb[3081] = 0.58891034F;
-		relShowdownProb[3084] = 0.34416837F;
-		relShowdownProb[3085] = 0.71892947F;
-		relShowdownProb[3086] = 0.6195031F;
-		relShowdownProb[3089] = 0.5965585F;
-		relShowdownProb[3090] = 0.5277248F;
-		relShowdownProb[3091] = 0.79158723F;
-		relShowdownProb[3092] = 0.78393906F;
-		relShowdownProb[3098] = 0.5277248F;
-		relShowdownProb[3101] = 0.57361394F;
-		relShowdownProb[3102] = 0.5506694F;
-		relShowdownProb[3105] = 0.39005747F;
-		relShowdownProb[3106] = 0.68833673F;
-		relShowdownProb[3107] = 0.7533463F;
-		relShowdownProb[3110] = 0.6195031F;
-		relShowdownProb[3111] = 0.7724668F;
-		relShowdownProb[3112] = 0.82218F;
-		relShowdownProb[3113] = 0.87189317F;
-		relShowdownProb[3116] = 0.78011495F;
-		relShowdownProb[3117] = 0.6424476F;
-		relShowdownProb[3118] = 0.6959849F;
-		relShowdownProb[3119] = 0.9590825F;
-		relShowdownProb[3120] = 0.9177823F;
-		relShowdownProb[3126] = 0.66539216F;
-		relShowdownProb[3129] = 0.5965585F;
-		relShowdownProb[3130] = 0.5965585F;
-		relShowdownProb[3133] = 0.8030595F;
-		relShowdownProb[3134] = 0.67304033F;
-		relShowdownProb[3135] = 0.80688363F;
-		relShowdownProb[3138] = 0.5965585F;
-		relShowdownProb[3139] = 0.7648186F;
-		relShowdownProb[3140] = 0.7533463F;
-		relShowdownProb[3141] = 0.87189317F;
-		relShowdownProb[3144] = 0.7112813F;
-		relShowdownProb[3145] = 0.53537303F;
-		relShowdownProb[3146] = 0.73422587F;
-		relShowdownProb[3147] = 0.97055477F;
-		relShowdownProb[3148] = 1.0882276F;
-		relShowdownProb[3151] = 1.1013387F;
-		relShowdownProb[3152] = 0.96367145F;
-		relShowdownProb[3153] = 0.91013414F;
-		relShowdownProb[3154] = 0.96826035F;
-		relShowdownProb[3155] = 1.2022948F;
-		relShowdownProb[3156] = 1.2956027F;
-		relShowdownProb[3162] = 0.78011495F;
-		relShowdownProb[3165] = 0.9177823F;
-		relShowdownProb[3166] = 0.7571704F;
-		relShowdownProb[3169] = 0.78011495F;
-		relShowdownProb[3170] = 0.8030595F;
-		relShowdownProb[3171] = 0.88718957F;
-		relShowdownProb[3174] = 0.84894866F;
-		relShowdownProb[3175] = 0.8030595F;
-		relShowdownProb[3176] = 0.69216084F;
-		relShowdownProb[3177] = 0.78011495F;
-		relShowdownProb[3180] = 0.73422587F;
-		relShowdownProb[3181] = 0.73422587F;
-		relShowdownProb[3182] = 0.8260041F;
-		relShowdownProb[3183] = 0.855832F;
-		relShowdownProb[3184] = 1.0095606F;
-		relShowdownProb[3187] = 1.0554496F;
-		relShowdownProb[3188] = 1.0860424F;
-		relShowdownProb[3189] = 1.028681F;
-		relShowdownProb[3190] = 1.0508608F;
-		relShowdownProb[3191] = 1.1426389F;
-		relShowdownProb[3192] = 1.4168265F;
-		relShowdownProb[3195] = 0.89483774F;
-		relShowdownProb[3196] = 0.9330787F;
-		relShowdownProb[3197] = 1.0592737F;
-		relShowdownProb[3198] = 1.0760998F;
-		relShowdownProb[3199] = 1.1288723F;
-		relShowdownProb[3200] = 1.3438956F;
-		relShowdownProb[3201] = 1.5766189F;
-		relShowdownProb[3210] = 0.98661596F;
-		relShowdownProb[3211] = 0.864245F;
-		relShowdownProb[3214] = 1.1013387F;
-		relShowdownProb[3215] = 1.1854688F;
-		relShowdownProb[3216] = 0.9177823F;
-		relShowdownProb[3219] = 1.0554496F;
-		relShowdownProb[3220] = 0.864245F;
-		relShowdownProb[3221] = 1.0630978F;
-		relShowdownProb[3222] = 1.0554496F;
-		relShowdownProb[3225] = 1.0783942F;
-		relShowdownProb[3226] = 1.0783942F;
-		relShowdownProb[3227] = 0.9216064F;
-		relShowdownProb[3228] = 1.087572F;
-		relShowdownProb[3229] = 1.2635896F;
-		relShowdownProb[3232] = 1.0095606F;
-		relShowdownProb[3233] = 1.0095606F;
-		relShowdownProb[3234] = 1.2657747F;
-		relShowdownProb[3235] = 1.2160616F;
-		relShowdownProb[3236] = 1.3598474F;
-		relShowdownProb[3237] = 1.4260043F;
-		relShowdownProb[3240] = 1.4455072F;
-		relShowdownProb[3241] = 1.0783942F;
-		relShowdownProb[3242] = 1.2543025F;
-		relShowdownProb[3243] = 1.2068838F;
-		relShowdownProb[3244] = 1.3001916F;
-		relShowdownProb[3245] = 1.4072663F;
-		relShowdownProb[3246] = 1.7505847F;
-		relShowdownProb[3249] = 1.1013387F;
-		relShowdownProb[3250] = 1.2695988F;
-		relShowdownProb[3251] = 1.2810712F;
-		relShowdownProb[3252] = 1.2504784F;
-		relShowdownProb[3253] = 1.4485664F;
-		relShowdownProb[3254] = 1.443322F;
-		relShowdownProb[3255] = 1.7954116F;
-		relShowdownProb[3256] = 1.8027867F;
-		relShowdownProb[3272] = 0.5277248F;
-		relShowdownProb[3275] = 0.48183572F;
-		relShowdownProb[3276] = 0.5965585F;
-		relShowdownProb[3282] = 0.6195031F;
-		relShowdownProb[3285] = 0.5277248F;
-		relShowdownProb[3286] = 0.6347994F;
-		relShowdownProb[3289] = 0.5506694F;
-		relShowdownProb[3290] = 0.53537303F;
-		relShowdownProb[3291] = 0.6332698F;
-		relShowdownProb[3297] = 0.6195031F;
-		relShowdownProb[3300] = 0.5506694F;
-		relShowdownProb[3301] = 0.7112813F;
-		relShowdownProb[3304] = 0.66539216F;
-		relShowdownProb[3305] = 0.6500958F;
-		relShowdownProb[3306] = 0.7533463F;
-		relShowdownProb[3309] = 0.48183572F;
-		relShowdownProb[3310] = 0.6424476F;
-		relShowdownProb[3311] = 0.58891034F;
-		relShowdownProb[3312] = 0.72657764F;
-		relShowdownProb[3318] = 0.68833673F;
-		relShowdownProb[3321] = 0.7112813F;
-		relShowdownProb[3322] = 0.7648186F;
-		relShowdownProb[3325] = 0.73422587F;
-		relShowdownProb[3326] = 0.5430212F;
-		relShowdownProb[3327] = 0.61567897F;
-		relShowdownProb[3330] = 0.5965585F;
-		relShowdownProb[3331] = 0.5659658F;
-		relShowdownProb[3332] = 0.6500958F;
-		relShowdownProb[3333] = 0.7043979F;
-		relShowdownProb[3336] = 0.5277248F;
-		relShowdownProb[3337] = 0.6195031F;
-		relShowdownProb[3338] = 0.74187404F;
-		relShowdownProb[3339] = 0.84894866F;
-		relShowdownProb[3340] = 0.88795435F;
-		relShowdownProb[3346] = 0.73422587F;
-		relShowdownProb[3349] = 0.66539216F;
-		relShowdownProb[3350] = 0.7036331F;
-		relShowdownProb[3353] = 0.8030595F;
-		relShowdownProb[3354] = 0.8030595F;
-		relShowdownProb[3355] = 0.83365226F;
-		relShowdownProb[3358] = 0.73422587F;
-		relShowdownProb[3359] = 0.66539216F;
-		relShowdownProb[3360] = 0.8527727F;
-		relShowdownProb[3361] = 0.8145318F;
-		relShowdownProb[3364] = 0.5047803F;
-		relShowdownProb[3365] = 0.9407269F;
-		relShowdownProb[3366] = 0.7495222F;
-		relShowdownProb[3367] = 0.8374764F;
-		relShowdownProb[3368] = 1.0340347F;
-		relShowdownProb[3371] = 1.0095606F;
-		relShowdownProb[3372] = 0.9560232F;
-		relShowdownProb[3373] = 0.83365226F;
-		relShowdownProb[3374] = 0.9590825F;
-		relShowdownProb[3375] = 1.1059277F;
-		relShowdownProb[3376] = 1.2145319F;
-		relShowdownProb[3382] = 0.84894866F;
-		relShowdownProb[3385] = 0.73422587F;
-		relShowdownProb[3386] = 0.74187404F;
-		relShowdownProb[3389] = 0.7112813F;
-		relShowdownProb[3390] = 0.7877632F;
-		relShowdownProb[3391] = 0.7227536F;
-		relShowdownProb[3394] = 0.8030595F;
-		relShowdownProb[3395] = 0.7495222F;
-		relShowdownProb[3396] = 0.74187404F;
-		relShowdownProb[3397] = 0.87189317F;
-		relShowdownProb[3400] = 0.5965585F;
-		relShowdownProb[3401] = 0.74187404F;
-		relShowdownProb[3402] = 0.8565968F;
-		relShowdownProb[3403] = 0.9108989F;
-		relShowdownProb[3404] = 1.0676868F;
-		relShowdownProb[3407] = 0.98661596F;
-		relShowdownProb[3408] = 0.8565968F;
-		relShowdownProb[3409] = 0.94837505F;
-		relShowdownProb[3410] = 0.9338435F;
-		relShowdownProb[3411] = 1.1242833F;
-		relShowdownProb[3412] = 1.2608035F;
-		relShowdownProb[3415] = 0.9407269F;
-		relShowdownProb[3416] = 0.9560232F;
-		relShowdownProb[3417] = 1.1739966F;
-		relShowdownProb[3418] = 1.1609946F;
-		relShowdownProb[3419] = 1.1456982F;
-		relShowdownProb[3420] = 1.4269329F;
-		relShowdownProb[3421] = 1.5525818F;
-		relShowdownProb[3430] = 0.8030595F;
-		relShowdownProb[3431] = 0.9330787F;
-		relShowdownProb[3434] = 1.2619507F;
-		relShowdownProb[3435] = 0.73422587F;
-		relShowdownProb[3436] = 0.8680691F;
-		relShowdownProb[3439] = 1.0095606F;
-		relShowdownProb[3440] = 0.9177823F;
-		relShowdownProb[3441] = 1.0019124F;
-		relShowdownProb[3442] = 0.97055477F;
-		relShowdownProb[3445] = 0.87189317F;
-		relShowdownProb[3446] = 0.9942642F;
-		relShowdownProb[3447] = 1.028681F;
-		relShowdownProb[3448] = 1.0921609F;
-		relShowdownProb[3449] = 1.1273426F;
-		relShowdownProb[3452] = 0.98661596F;
-		relShowdownProb[3453] = 1.0860424F;
-		relShowdownProb[3454] = 1.1395797F;
-		relShowdownProb[3455] = 1.1196945F;
-		relShowdownProb[3456] = 1.2160616F;
-		relShowdownProb[3457] = 1.3560233F;
-		relShowdownProb[3460] = 1.1472279F;
-		relShowdownProb[3461] = 1.1242833F;
-		relShowdownProb[3462] = 1.2504784F;
-		relShowdownProb[3463] = 1.3101343F;
-		relShowdownProb[3464] = 1.2619507F;
-		relShowdownProb[3465] = 1.5056F;
-		relShowdownProb[3466] = 1.7692803F;
-		relShowdownProb[3469] = 1.0783942F;
-		relShowdownProb[3470] = 1.2772471F;
-		relShowdownProb[3471] = 1.1434038F;
-		relShowdownProb[3472] = 1.2321228F;
-		relShowdownProb[3473] = 1.3674957F;
-		relShowdownProb[3474] = 1.4608035F;
-		relShowdownProb[3475] = 1.781481F;
-		relShowdownProb[3476] = 2.0289545F;
-		relShowdownProb[3492] = 0.66539216F;
-		relShowdownProb[3495] = 0.5506694F;
-		relShowdownProb[3496] = 0.5506694F;
-		relShowdownProb[3502] = 0.5506694F;
-		relShowdownProb[3505] = 0.57361394F;
-		relShowdownProb[3506] = 0.58891034F;
-		relShowdownProb[3509] = 0.57361394F;
-		relShowdownProb[3510] = 0.57361394F;
-		relShowdownProb[3511] = 0.64703655F;
-		relShowdownProb[3517] = 0.6195031F;
-		relShowdownProb[3520] = 0.57361394F;
-		relShowdownProb[3521] = 0.6500958F;
-		relShowdownProb[3524] = 0.5277248F;
-		relShowdownProb[3525] = 0.5965585F;
-		relShowdownProb[3526] = 0.66539216F;
-		relShowdownProb[3529] = 0.66539216F;
-		relShowdownProb[3530] = 0.5506694F;
-		relShowdownProb[3531] = 0.63862354F;
-		relShowdownProb[3532] = 0.69343555F;
-		relShowdownProb[3538] = 0.66539216F;
-		relShowdownProb[3541] = 0.5047803F;
-		relShowdownProb[3542] = 0.4971321F;
-		relShowdownProb[3545] = 0.5277248F;
-		relShowdownProb[3546] = 0.4894839F;
-		relShowdownProb[3547] = 0.6539199F;
-		relShowdownProb[3550] = 0.57361394F;
-		relShowdownProb[3551] = 0.6500958F;
-		relShowdownProb[3552] = 0.657744F;
-		relShowdownProb[3553] = 0.7525815F;
-		relShowdownProb[3556] = 0.7112813F;
-		relShowdownProb[3557] = 0.7036331F;
-		relShowdownProb[3558] = 0.78393906F;
-		relShowdownProb[3559] = 0.68604225F;
-		relShowdownProb[3560] = 0.88992107F;
-		relShowdownProb[3566] = 0.5965585F;
-		relShowdownProb[3569] = 0.66539216F;
-		relShowdownProb[3570] = 0.78011495F;
-		relShowdownProb[3573] = 0.48183572F;
-		relShowdownProb[3574] = 0.7112813F;
-		relShowdownProb[3575] = 0.657744F;
-		relShowdownProb[3578] = 0.7112813F;
-		relShowdownProb[3579] = 0.62715125F;
-		relShowdownProb[3580] = 0.69216084F;
-		relShowdownProb[3581] = 0.725048F;
-		relShowdownProb[3584] = 0.5506694F;
-		relShowdownProb[3585] = 0.73422587F;
-		relShowdownProb[3586] = 0.7380499F;
-		relShowdownProb[3587] = 0.77552605F;
-		relShowdownProb[3588] = 0.90707487F;
-		relShowdownProb[3591] = 0.7571704F;
-		relShowdownProb[3592] = 0.8183559F;
-		relShowdownProb[3593] = 0.7648186F;
-		relShowdownProb[3594] = 0.8099429F;
-		relShowdownProb[3595] = 0.9162527F;
-		relShowdownProb[3596] = 0.9789678F;
-		relShowdownProb[3602] = 1.0325052F;
-		relShowdownProb[3605] = 0.9177823F;
-		relShowdownProb[3606] = 0.90248597F;
-		relShowdownProb[3609] = 0.73422587F;
-		relShowdownProb[3610] = 0.67304033F;
-		relShowdownProb[3611] = 0.8030595F;
-		relShowdownProb[3614] = 0.68833673F;
-		relShowdownProb[3615] = 0.79541135F;
-		relShowdownProb[3616] = 0.86042094F;
-		relShowdownProb[3617] = 0.8971322F;
-		relShowdownProb[3620] = 0.5277248F;
-		relShowdownProb[3621] = 0.7724668F;
-		relShowdownProb[3622] = 0.8260041F;
-		relShowdownProb[3623] = 0.8764821F;
-		relShowdownProb[3624] = 1.0263865F;
-		relShowdownProb[3627] = 1.2848952F;
-		relShowdownProb[3628] = 0.8795414F;
-		relShowdownProb[3629] = 0.88718957F;
-		relShowdownProb[3630] = 0.95219916F;
-		relShowdownProb[3631] = 1.1105165F;
-		relShowdownProb[3632] = 1.3471733F;
-		relShowdownProb[3635] = 0.89483774F;
-		relShowdownProb[3636] = 0.89483774F;
-		relShowdownProb[3637] = 0.9330787F;
-		relShowdownProb[3638] = 1.0577441F;
-		relShowdownProb[3639] = 1.1441686F;
-		relShowdownProb[3640] = 1.3624697F;
-		relShowdownProb[3641] = 1.4553405F;
-		relShowdownProb[3650] = 0.7571704F;
-		relShowdownProb[3651] = 0.9330787F;
-		relShowdownProb[3654] = 0.78011495F;
-		relShowdownProb[3655] = 0.8413004F;
-		relShowdownProb[3656] = 0.90248597F;
-		relShowdownProb[3659] = 0.98661596F;
-		relShowdownProb[3660] = 0.90248597F;
-		relShowdownProb[3661] = 0.9827919F;
-		relShowdownProb[3662] = 1.041683F;
-		relShowdownProb[3665] = 1.0325052F;
-		relShowdownProb[3666] = 1.0019124F;
-		relShowdownProb[3667] = 0.89866185F;
-		relShowdownProb[3668] = 1.011855F;
-		relShowdownProb[3669] = 1.1349908F;
-		relShowdownProb[3672] = 0.87189317F;
-		relShowdownProb[3673] = 1.0478015F;
-		relShowdownProb[3674] = 1.108987F;
-		relShowdownProb[3675] = 1.167878F;
-		relShowdownProb[3676] = 1.2634803F;
-		relShowdownProb[3677] = 1.3143954F;
-		relShowdownProb[3680] = 1.2619507F;
-		relShowdownProb[3681] = 1.1319315F;
-		relShowdownProb[3682] = 1.1242833F;
-		relShowdownProb[3683] = 1.1541113F;
-		relShowdownProb[3684] = 1.2588913F;
-		relShowdownProb[3685] = 1.3384326F;
-		relShowdownProb[3686] = 1.6588066F;
-		relShowdownProb[3689] = 1.2390062F;
-		relShowdownProb[3690] = 1.2313579F;
-		relShowdownProb[3691] = 1.3537289F;
-		relShowdownProb[3692] = 1.450096F;
-		relShowdownProb[3693] = 1.4256219F;
-		relShowdownProb[3694] = 1.5635077F;
-		relShowdownProb[3695] = 1.878176F;
-		relShowdownProb[3696] = 1.8527731F;
-		relShowdownProb[3712] = 0.6424476F;
-		relShowdownProb[3715] = 0.8260041F;
-		relShowdownProb[3716] = 0.699809F;
-		relShowdownProb[3722] = 0.78011495F;
-		relShowdownProb[3725] = 0.5965585F;
-		relShowdownProb[3726] = 0.657744F;
-		relShowdownProb[3729] = 0.6424476F;
-		relShowdownProb[3730] = 0.71892947F;
-		relShowdownProb[3731] = 0.6837478F;
-		relShowdownProb[3737] = 0.6195031F;
-		relShowdownProb[3740] = 0.6195031F;
-		relShowdownProb[3741] = 0.67304033F;
-		relShowdownProb[3744] = 0.57361394F;
-		relShowdownProb[3745] = 0.68833673F;
-		relShowdownProb[3746] = 0.7227536F;
-		relShowdownProb[3749] = 0.66539216F;
-		relShowdownProb[3750] = 0.7495222F;
-		relShowdownProb[3751] = 0.73040175F;
-		relShowdownProb[3752] = 0.8260041F;
-		relShowdownProb[3758] = 0.78011495F;
-		relShowdownProb[3761] = 0.39005747F;
-		relShowdownProb[3762] = 0.8183559F;
-		relShowdownProb[3765] = 0.7571704F;
-		relShowdownProb[3766] = 0.57361394F;
-		relShowdownProb[3767] = 0.7227536F;
-		relShowdownProb[3770] = 0.68833673F;
-		relShowdownProb[3771] = 0.6500958F;
-		relShowdownProb[3772] = 0.74187404F;
-		relShowdownProb[3773] = 0.8030595F;
-		relShowdownProb[3776] = 0.5506694F;
-		relShowdownProb[3777] = 0.83365226F;
-		relShowdownProb[3778] = 0.8183559F;
-		relShowdownProb[3779] = 0.77323157F;
-		relShowdownProb[3780] = 0.88992107F;
-		relShowdownProb[3786] = 0.8030595F;
-		relShowdownProb[3789] = 0.6195031F;
-		relShowdownProb[3790] = 0.8260041F;
-		relShowdownProb[3793] = 0.57361394F;
-		relShowdownProb[3794] = 0.7036331F;
-		relShowdownProb[3795] = 0.68068856F;
-		relShowdownProb[3798] = 0.7112813F;
-		relShowdownProb[3799] = 0.68833673F;
-		relShowdownProb[3800] = 0.69216084F;
-		relShowdownProb[3801] = 0.855832F;
-		relShowdownProb[3804] = 0.5506694F;
-		relShowdownProb[3805] = 0.7112813F;
-		relShowdownProb[3806] = 0.7112813F;
-		relShowdownProb[3807] = 0.7938817F;
-		relShowdownProb[3808] = 0.9315491F;
-		relShowdownProb[3811] = 0.68833673F;
-		relShowdownProb[3812] = 0.7724668F;
-		relShowdownProb[3813] = 0.8680691F;
-		relShowdownProb[3814] = 0.89024884F;
-		relShowdownProb[3815] = 0.9621418F;
-		relShowdownProb[3816] = 1.0680692F;
-		relShowdownProb[3822] = 0.66539216F;
-		relShowdownProb[3825] = 0.5506694F;
-		relShowdownProb[3826] = 0.72657764F;
-		relShowdownProb[3829] = 0.8030595F;
-		relShowdownProb[3830] = 0.68833673F;
-		relShowdownProb[3831] = 0.82982814F;
-		relShowdownProb[3834] = 0.9177823F;
-		relShowdownProb[3835] = 0.84894866F;
-		relShowdownProb[3836] = 0.8145318F;
-		relShowdownProb[3837] = 0.8397708F;
-		relShowdownProb[3840] = 0.66539216F;
-		relShowdownProb[3841] = 0.66539216F;
-		relShowdownProb[3842] = 0.69216084F;
-		relShowdownProb[3843] = 0.8328875F;
-		relShowdownProb[3844] = 0.8565968F;
-		relShowdownProb[3847] = 0.6424476F;
-		relShowdownProb[3848] = 0.8795414F;
-		relShowdownProb[3849] = 0.8145318F;
-		relShowdownProb[3850] = 0.9177823F;
-		relShowdownProb[3851] = 0.9300194F;
-		relShowdownProb[3852] = 1.0412459F;
-		relShowdownProb[3855] = 0.73422587F;
-		relShowdownProb[3856] = 0.9254305F;
-		relShowdownProb[3857] = 0.8030595F;
-		relShowdownProb[3858] = 0.95219916F;
-		relShowdownProb[3859] = 0.98661596F;
-		relShowdownProb[3860] = 1.1515983F;
-		relShowdownProb[3861] = 1.247747F;
-		relShowdownProb[3870] = 0.78011495F;
-		relShowdownProb[3871] = 1.0860424F;
-		relShowdownProb[3874] = 0.87189317F;
-		relShowdownProb[3875] = 1.0019124F;
-		relShowdownProb[3876] = 1.1204592F;
-		relShowdownProb[3879] = 1.0783942F;
-		relShowdownProb[3880] = 1.1166351F;
-		relShowdownProb[3881] = 1.0439774F;
-		relShowdownProb[3882] = 1.0577441F;
-		relShowdownProb[3885] = 0.78011495F;
-		relShowdownProb[3886] = 0.87189317F;
-		relShowdownProb[3887] = 0.9407269F;
-		relShowdownProb[3888] = 1.087572F;
-		relShowdownProb[3889] = 1.1900578F;
-		relShowdownProb[3892] = 1.0783942F;
-		relShowdownProb[3893] = 1.0478015F;
-		relShowdownProb[3894] = 1.1625242F;
-		relShowdownProb[3895] = 1.2573618F;
-		relShowdownProb[3896] = 1.2833656F;
-		relShowdownProb[3897] = 1.3930625F;
-		relShowdownProb[3900] = 1.1013387F;
-		relShowdownProb[3901] = 1.0630978F;
-		relShowdownProb[3902] = 1.1969411F;
-		relShowdownProb[3903] = 1.2091782F;
-		relShowdownProb[3904] = 1.3216065F;
-		relShowdownProb[3905] = 1.3428029F;
-		relShowdownProb[3906] = 1.6683971F;
-		relShowdownProb[3909] = 1.3307843F;
-		relShowdownProb[3910] = 1.2007651F;
-		relShowdownProb[3911] = 1.1854688F;
-		relShowdownProb[3912] = 1.2642452F;
-		relShowdownProb[3913] = 1.3338436F;
-		relShowdownProb[3914] = 1.4782851F;
-		relShowdownProb[3915] = 1.750342F;
-		relShowdownProb[3916] = 1.757717F;
-		relShowdownProb[3935] = 1.193117F;
-		relShowdownProb[3936] = 1.2963675F;
-		relShowdownProb[3945] = 1.1242833F;
-		relShowdownProb[3946] = 1.0019124F;
-		relShowdownProb[3949] = 0.7112813F;
-		relShowdownProb[3950] = 1.1242833F;
-		relShowdownProb[3951] = 1.1105165F;
-		relShowdownProb[3960] = 1.1013387F;
-		relShowdownProb[3961] = 1.1625242F;
-		relShowdownProb[3964] = 1.0095606F;
-		relShowdownProb[3965] = 1.1319315F;
-		relShowdownProb[3966] = 1.0783942F;
-		relShowdownProb[3969] = 1.1472279F;
-		relShowdownProb[3970] = 1.2160616F;
-		relShowdownProb[3971] = 1.0860424F;
-		relShowdownProb[3972] = 1.1701725F;
-		relShowdownProb[3981] = 1.2160616F;
-		relShowdownProb[3982] = 1.1854688F;
-		relShowdownProb[3985] = 0.89483774F;
-		relShowdownProb[3986] = 1.0095606F;
-		relShowdownProb[3987] = 1.0516256F;
-		relShowdownProb[3990] = 1.399618F;
-		relShowdownProb[3991] = 1.0936906F;
-		relShowdownProb[3992] = 1.0592737F;
-		relShowdownProb[3993] = 1.273423F;
-		relShowdownProb[3996] = 0.98661596F;
-		relShowdownProb[3997] = 0.9713196F;
-		relShowdownProb[3998] = 1.0783942F;
-		relShowdownProb[3999] = 1.2344172F;
-		relShowdownProb[4000] = 1.2586728F;
-		relShowdownProb[4009] = 1.1013387F;
-		relShowdownProb[4010] = 1.2848952F;
-		relShowdownProb[4013] = 1.3766735F;
-		relShowdownProb[4014] = 1.1625242F;
-		relShowdownProb[4015] = 1.1854688F;
-		relShowdownProb[4018] = 1.2848952F;
-		relShowdownProb[4019] = 1.0630978F;
-		relShowdownProb[4020] = 1.0325052F;
-		relShowdownProb[4021] = 1.1357557F;
-		relShowdownProb[4024] = 0.89483774F;
-		relShowdownProb[4025] = 1.1013387F;
-		relShowdownProb[4026] = 1.2084134F;
-		relShowdownProb[4027] = 1.0967499F;
-		relShowdownProb[4028] = 1.1564057F;
-		relShowdownProb[4031] = 1.3766735F;
-		relShowdownProb[4032] = 0.9942642F;
-		relShowdownProb[4033] = 1.0630978F;
-		relShowdownProb[4034] = 1.1013387F;
-		relShowdownProb[4035] = 1.226769F;
-		relShowdownProb[4036] = 1.3055453F;
-		relShowdownProb[4045] = 1.0554496F;
-		relShowdownProb[4046] = 1.108987F;
-		relShowdownProb[4049] = 0.9177823F;
-		relShowdownProb[4050] = 1.0325052F;
-		relShowdownProb[4051] = 1.193117F;
-		relShowdownProb[4054] = 1.0095606F;
-		relShowdownProb[4055] = 1.0783942F;
-		relShowdownProb[4056] = 1.0172087F;
-		relShowdownProb[4057] = 1.1587001F;
-		relShowdownProb[4060] = 0.89483774F;
-		relShowdownProb[4061] = 1.1701725F;
-		relShowdownProb[4062] = 0.9713196F;
-		relShowdownProb[4063] = 1.0967499F;
-		relShowdownProb[4064] = 1.0860424F;
-		relShowdownProb[4067] = 0.8030595F;
-		relShowdownProb[4068] = 1.0860424F;
-		relShowdownProb[4069] = 1.1434038F;
-		relShowdownProb[4070] = 1.2252394F;
-		relShowdownProb[4071] = 1.1824095F;
-		relShowdownProb[4072] = 1.2346357F;
-		relShowdownProb[4075] = 1.1242833F;
-		relShowdownProb[4076] = 1.1472279F;
-		relShowdownProb[4077] = 1.2160616F;
-		relShowdownProb[4078] = 1.1128111F;
-		relShowdownProb[4079] = 1.2313579F;
-		relShowdownProb[4080] = 1.3559141F;
-		relShowdownProb[4081] = 1.6222652F;
-		relShowdownProb[4090] = 1.1013387F;
-		relShowdownProb[4091] = 1.2160616F;
-		relShowdownProb[4094] = 1.0095606F;
-		relShowdownProb[4095] = 1.108987F;
-		relShowdownProb[4096] = 1.1663483F;
-		relShowdownProb[4099] = 1.2390062F;
-		relShowdownProb[4100] = 1.1854688F;
-		relShowdownProb[4101] = 1.0439774F;
-		relShowdownProb[4102] = 1.1655835F;
-		relShowdownProb[4105] = 1.1701725F;
-		relShowdownProb[4106] = 1.1242833F;
-		relShowdownProb[4107] = 0.98661596F;
-		relShowdownProb[4108] = 1.1587001F;
-		relShowdownProb[4109] = 1.1502872F;
-		relShowdownProb[4112] = 1.0783942F;
-		relShowdownProb[4113] = 1.193117F;
-		relShowdownProb[4114] = 0.9904401F;
-		relShowdownProb[4115] = 1.1564057F;
-		relShowdownProb[4116] = 1.1456982F;
-		relShowdownProb[4117] = 1.2444692F;
-		relShowdownProb[4120] = 1.193117F;
-		relShowdownProb[4121] = 1.2466543F;
-		relShowdownProb[4122] = 1.1204592F;
-		relShowdownProb[4123] = 1.1632891F;
-		relShowdownProb[4124] = 1.2084134F;
-		relShowdownProb[4125] = 1.3974328F;
-		relShowdownProb[4126] = 1.5233548F;
-		relShowdownProb[4129] = 0.89483774F;
-		relShowdownProb[4130] = 1.1701725F;
-		relShowdownProb[4131] = 1.1587001F;
-		relShowdownProb[4132] = 1.1518168F;
-		relShowdownProb[4133] = 1.1778207F;
-		relShowdownProb[4134] = 1.2969139F;
-		relShowdownProb[4135] = 1.613494F;
-		relShowdownProb[4136] = 1.6880639F;
-		relShowdownProb[4140] = 0.8813624F;
-		relShowdownProb[4141] = 0.79122305F;
-		relShowdownProb[4142] = 0.7751983F;
-		relShowdownProb[4143] = 0.6690342F;
-		relShowdownProb[4144] = 0.6781912F;
-		relShowdownProb[4145] = 0.8176925F;
-		relShowdownProb[4146] = 0.93310905F;
-		relShowdownProb[4147] = 1.1267416F;
-		relShowdownProb[4151] = 1.0416101F;
-		relShowdownProb[4152] = 0.9915327F;
-		relShowdownProb[4153] = 0.7631797F;
-		relShowdownProb[4154] = 0.7131023F;
-		relShowdownProb[4155] = 0.7726229F;
-		relShowdownProb[4156] = 0.847739F;
-		relShowdownProb[4157] = 0.8613314F;
-		relShowdownProb[4158] = 1.2373673F;
-		relShowdownProb[4160] = 0.946463F;
-		relShowdownProb[4161] = 0.4732315F;
-		relShowdownProb[4162] = 1.1105165F;
-		relShowdownProb[4163] = 0.8381613F;
-		relShowdownProb[4164] = 0.787272F;
-		relShowdownProb[4165] = 0.81264937F;
-		relShowdownProb[4166] = 0.74761444F;
-		relShowdownProb[4167] = 0.83000785F;
-		relShowdownProb[4168] = 1.0224444F;
-		relShowdownProb[4169] = 1.3093415F;
-		relShowdownProb[4173] = 0.8212695F;
-		relShowdownProb[4174] = 0.66102177F;
-		relShowdownProb[4175] = 0.8172633F;
-		relShowdownProb[4176] = 0.8613314F;
-		relShowdownProb[4177] = 0.82699263F;
-		relShowdownProb[4178] = 0.9378783F;
-		relShowdownProb[4179] = 0.9064011F;
-		relShowdownProb[4180] = 1.2018578F;
-		relShowdownProb[4182] = 1.1042068F;
-		relShowdownProb[4183] = 0.63097537F;
-		relShowdownProb[4184] = 0.65621436F;
-		relShowdownProb[4185] = 0.9040841F;
-		relShowdownProb[4186] = 0.908836F;
-		relShowdownProb[4187] = 0.7813936F;
-		relShowdownProb[4188] = 0.7335615F;
-		relShowdownProb[4189] = 0.9083504F;
-		relShowdownProb[4190] = 0.9976678F;
-		relShowdownProb[4191] = 1.282261F;
-		relShowdownProb[4193] = 1.1042068F;
-		relShowdownProb[4194] = 1.4196945F;
-		relShowdownProb[4195] = 0.89206856F;
-		relShowdownProb[4196] = 0.94907033F;
-		relShowdownProb[4197] = 0.9883419F;
-		relShowdownProb[4198] = 0.8540089F;
-		relShowdownProb[4199] = 0.87535745F;
-		relShowdownProb[4200] = 0.9652669F;
-		relShowdownProb[4201] = 1.0020411F;
-		relShowdownProb[4202] = 1.3062532F;
-		relShowdownProb[4206] = 0.7611766F;
-		relShowdownProb[4207] = 0.8212695F;
-		relShowdownProb[4208] = 0.90740263F;
-		relShowdownProb[4209] = 0.8212695F;
-		relShowdownProb[4210] = 0.87563926F;
-		relShowdownProb[4211] = 0.8198387F;
-		relShowdownProb[4212] = 0.9831864F;
-		relShowdownProb[4213] = 1.172479F;
-		relShowdownProb[4215] = 0.7887192F;
-		relShowdownProb[4216] = 0.946463F;
-		relShowdownProb[4217] = 0.7319314F;
-		relShowdownProb[4218] = 0.781656F;
-		relShowdownProb[4219] = 0.9319911F;
-		relShowdownProb[4220] = 0.7931145F;
-		relShowdownProb[4221] = 0.90219635F;
-		relShowdownProb[4222] = 0.8935288F;
-		relShowdownProb[4223] = 0.9200347F;
-		relShowdownProb[4224] = 1.2195767F;
-		relShowdownProb[4226] = 0.946463F;
-		relShowdownProb[4227] = 0.946463F;
-		relShowdownProb[4228] = 0.8050375F;
-		relShowdownProb[4229] = 0.9282116F;
-		relShowdownProb[4230] = 0.8264102F;
-		relShowdownProb[4231] = 0.92263466F;
-		relShowdownProb[4232] = 0.94991475F;
-		relShowdownProb[4233] = 0.94228435F;
-		relShowdownProb[4234] = 1.0053104F;
-		relShowdownProb[4235] = 1.328922F;
-		relShowdownProb[4237] = 0.7098473F;
-		relShowdownProb[4238] = 1.025335F;
-		relShowdownProb[4239] = 1.0516256F;
-		relShowdownProb[4240] = 1.0565169F;
-		relShowdownProb[4241] = 1.0486633F;
-		relShowdownProb[4242] = 0.9455324F;
-		relShowdownProb[4243] = 1.0529824F;
-		relShowdownProb[4244] = 0.95677304F;
-		relShowdownProb[4245] = 1.1309019F;
-		relShowdownProb[4246] = 1.3257645F;
-		relShowdownProb[4249] = 0.4206502F;
-		relShowdownProb[4250] = 0.6409908F;
-		relShowdownProb[4251] = 0.80123854F;
-		relShowdownProb[4252] = 0.73313326F;
-		relShowdownProb[4253] = 0.7171085F;
-		relShowdownProb[4254] = 0.70680684F;
-		relShowdownProb[4255] = 0.85203135F;
-		relShowdownProb[4256] = 0.96649396F;
-		relShowdownProb[4257] = 1.1310817F;
-		relShowdownProb[4259] = 1.1042068F;
-		relShowdownProb[4260] = 0.47867095F;
-		relShowdownProb[4261] = 0.9590825F;
-		relShowdownProb[4262] = 0.9040841F;
-		relShowdownProb[4263] = 0.8914697F;
-		relShowdownProb[4264] = 0.91032356F;
-		relShowdownProb[4265] = 0.8572271F;
-		relShowdownProb[4266] = 0.882942F;
-		relShowdownProb[4267] = 0.9580254F;
-		relShowdownProb[4268] = 1.292407F;
-		relShowdownProb[4270] = 0.3943596F;
-		relShowdownProb[4271] = 0.88677615F;
-		relShowdownProb[4272] = 0.69624865F;
-		relShowdownProb[4273] = 0.7822008F;
-		relShowdownProb[4274] = 0.8375779F;
-		relShowdownProb[4275] = 0.770133F;
-		relShowdownProb[4276] = 0.88088024F;
-		relShowdownProb[4277] = 0.96317756F;
-		relShowdownProb[4278] = 1.0347341F;
-		relShowdownProb[4279] = 1.223869F;
-		relShowdownProb[4281] = 0.946463F;
-		relShowdownProb[4282] = 1.0000364F;
-		relShowdownProb[4283] = 1.0133846F;
-		relShowdownProb[4284] = 0.9391261F;
-		relShowdownProb[4285] = 1.137533F;
-		relShowdownProb[4286] = 1.0423192F;
-		relShowdownProb[4287] = 0.9064334F;
-		relShowdownProb[4288] = 0.9340909F;
-		relShowdownProb[4289] = 1.1114873F;
-		relShowdownProb[4290] = 1.3557179F;
-		relShowdownProb[4292] = 1.025335F;
-		relShowdownProb[4293] = 1.0952779F;
-		relShowdownProb[4294] = 0.9955389F;
-		relShowdownProb[4295] = 1.0316677F;
-		relShowdownProb[4296] = 1.1934285F;
-		relShowdownProb[4297] = 1.0296898F;
-		relShowdownProb[4298] = 1.0751927F;
-		relShowdownProb[4299] = 1.086906F;
-		relShowdownProb[4300] = 1.106609F;
-		relShowdownProb[4301] = 1.2877839F;
-		relShowdownProb[4304] = 0.4206502F;
-		relShowdownProb[4305] = 0.66102177F;
-		relShowdownProb[4306] = 0.6109444F;
-		relShowdownProb[4307] = 0.82928187F;
-		relShowdownProb[4308] = 0.7571704F;
-		relShowdownProb[4309] = 0.8670545F;
-		relShowdownProb[4310] = 0.9207089F;
-		relShowdownProb[4311] = 0.93143976F;
-		relShowdownProb[4312] = 1.205864F;
-		relShowdownProb[4314] = 0.4732315F;
-		relShowdownProb[4315] = 0.8703108F;
-		relShowdownProb[4316] = 0.6931842F;
-		relShowdownProb[4317] = 0.76282096F;
-		relShowdownProb[4318] = 0.82779336F;
-		relShowdownProb[4319] = 0.85953295F;
-		relShowdownProb[4320] = 0.93873394F;
-		relShowdownProb[4321] = 0.9379935F;
-		relShowdownProb[4322] = 1.0125337F;
-		relShowdownProb[4323] = 1.2103074F;
-		relShowdownProb[4325] = 0.946463F;
-		relShowdownProb[4326] = 0.78445584F;
-		relShowdownProb[4327] = 0.84662515F;
-		relShowdownProb[4328] = 0.8656356F;
-		relShowdownProb[4329] = 0.871081F;
-		relShowdownProb[4330] = 0.92644715F;
-		relShowdownProb[4331] = 0.7869933F;
-		relShowdownProb[4332] = 0.93183774F;
-		relShowdownProb[4333] = 1.0249263F;
-		relShowdownProb[4334] = 1.1831608F;
-		relShowdownProb[4336] = 0.5521034F;
-		relShowdownProb[4337] = 0.7857429F;
-		relShowdownProb[4338] = 0.8703108F;
-		relShowdownProb[4339] = 1.1152122F;
-		relShowdownProb[4340] = 0.7761293F;
-		relShowdownProb[4341] = 0.9380872F;
-		relShowdownProb[4342] = 0.96885246F;
-		relShowdownProb[4343] = 0.9835792F;
-		relShowdownProb[4344] = 1.10178F;
-		relShowdownProb[4345] = 1.3140436F;
-		relShowdownProb[4347] = 0.4732315F;
-		relShowdownProb[4348] = 0.6190701F;
-		relShowdownProb[4349] = 0.8754072F;
-		relShowdownProb[4350] = 0.89349794F;
-		relShowdownProb[4351] = 0.9136295F;
-		relShowdownProb[4352] = 0.88259125F;
-		relShowdownProb[4353] = 1.0831965F;
-		relShowdownProb[4354] = 0.9729233F;
-		relShowdownProb[4355] = 1.1546528F;
-		relShowdownProb[4356] = 1.3575335F;
-		relShowdownProb[4358] = 1.025335F;
-		relShowdownProb[4359] = 0.64288056F;
-		relShowdownProb[4360] = 0.9549897F;
-		relShowdownProb[4361] = 0.9707313F;
-		relShowdownProb[4362] = 1.0635654F;
-		relShowdownProb[4363] = 1.163715F;
-		relShowdownProb[4364] = 1.1878797F;
-		relShowdownProb[4365] = 1.119278F;
-		relShowdownProb[4366] = 1.2191458F;
-		relShowdownProb[4367] = 1.3362584F;
-		relShowdownProb[4370] = 1.0215791F;
-		relShowdownProb[4371] = 0.540836F;
-		relShowdownProb[4372] = 0.80123854F;
-		relShowdownProb[4373] = 0.7511611F;
-		relShowdownProb[4374] = 0.9094057F;
-		relShowdownProb[4375] = 0.8785008F;
-		relShowdownProb[4376] = 0.8370081F;
-		relShowdownProb[4377] = 1.048287F;
-		relShowdownProb[4378] = 1.2405844F;
-		relShowdownProb[4380] = 0.31548768F;
-		relShowdownProb[4381] = 0.6092176F;
-		relShowdownProb[4382] = 0.8353758F;
-		relShowdownProb[4383] = 0.6215578F;
-		relShowdownProb[4384] = 0.712018F;
-		relShowdownProb[4385] = 0.8087424F;
-		relShowdownProb[4386] = 0.837553F;
-		relShowdownProb[4387] = 0.9930451F;
-		relShowdownProb[4388] = 0.93820417F;
-		relShowdownProb[4389] = 1.2751925F;
-		relShowdownProb[4391] = 0.7098473F;
-		relShowdownProb[4392] = 0.85266936F;
-		relShowdownProb[4393] = 0.79870296F;
-		relShowdownProb[4394] = 0.81760186F;
-		relShowdownProb[4395] = 0.9157518F;
-		relShowdownProb[4396] = 0.9950729F;
-		relShowdownProb[4397] = 0.8891644F;
-		relShowdownProb[4398] = 0.9548203F;
-		relShowdownProb[4399] = 1.0347341F;
-		relShowdownProb[4400] = 1.2737691F;
-		relShowdownProb[4402] = 0.7098473F;
-		relShowdownProb[4403] = 0.85717404F;
-		relShowdownProb[4404] = 0.68174344F;
-		relShowdownProb[4405] = 0.9338435F;
-		relShowdownProb[4406] = 0.8946223F;
-		relShowdownProb[4407] = 0.8115199F;
-		relShowdownProb[4408] = 0.83858657F;
-		relShowdownProb[4409] = 1.0454395F;
-		relShowdownProb[4410] = 1.0888369F;
-		relShowdownProb[4411] = 1.3114389F;
-		relShowdownProb[4413] = 0.7887192F;
-		relShowdownProb[4414] = 0.5000182F;
-		relShowdownProb[4415] = 0.75034904F;
-		relShowdownProb[4416] = 0.90253437F;
-		relShowdownProb[4417] = 0.8964989F;
-		relShowdownProb[4418] = 1.0451739F;
-		relShowdownProb[4419] = 0.944462F;
-		relShowdownProb[4420] = 1.0828351F;
-		relShowdownProb[4421] = 1.1002032F;
-		relShowdownProb[4422] = 1.4427829F;
-		relShowdownProb[4424] = 0.5521034F;
-		relShowdownProb[4425] = 0.66669095F;
-		relShowdownProb[4426] = 0.85266936F;
-		relShowdownProb[4427] = 0.8368726F;
-		relShowdownProb[4428] = 0.83211595F;
-		relShowdownProb[4429] = 0.9823568F;
-		relShowdownProb[4430] = 1.0946051F;
-		relShowdownProb[4431] = 1.0188041F;
-		relShowdownProb[4432] = 1.2191458F;
-		relShowdownProb[4433] = 1.3836616F;
-		relShowdownProb[4435] = 0.7887192F;
-		relShowdownProb[4436] = 0.9047948F;
-		relShowdownProb[4437] = 0.6366598F;
-		relShowdownProb[4438] = 0.7970215F;
-		relShowdownProb[4439] = 1.0086223F;
-		relShowdownProb[4440] = 1.0147264F;
-		relShowdownProb[4441] = 1.2026283F;
-		relShowdownProb[4442] = 1.2414311F;
-		relShowdownProb[4443] = 1.3310126F;
-		relShowdownProb[4444] = 1.5694956F;
-		relShowdownProb[4447] = 0.30046445F;
-		relShowdownProb[4448] = 0.56086695F;
-		relShowdownProb[4449] = 0.6009289F;
-		relShowdownProb[4450] = 0.6550125F;
-		relShowdownProb[4451] = 0.624966F;
-		relShowdownProb[4452] = 0.8212695F;
-		relShowdownProb[4453] = 0.85203135F;
-		relShowdownProb[4454] = 1.0416101F;
-		relShowdownProb[4455] = 1.3073542F;
-		relShowdownProb[4457] = 0.7887192F;
-		relShowdownProb[4458] = 1.1749196F;
-		relShowdownProb[4459] = 0.74650604F;
-		relShowdownProb[4460] = 0.58388764F;
-		relShowdownProb[4461] = 0.688863F;
-		relShowdownProb[4462] = 0.7149752F;
-		relShowdownProb[4463] = 0.93873394F;
-		relShowdownProb[4464] = 0.9634019F;
-		relShowdownProb[4465] = 0.9315971F;
-		relShowdownProb[4466] = 1.2632749F;
-		relShowdownProb[4468] = 0.8675911F;
-		relShowdownProb[4469] = 0.8185626F;
-		relShowdownProb[4470] = 0.84662515F;
-		relShowdownProb[4471] = 0.6576363F;
-		relShowdownProb[4472] = 0.6923977F;
-		relShowdownProb[4473] = 0.63669413F;
-		relShowdownProb[4474] = 0.9140168F;
-		relShowdownProb[4475] = 1.023768F;
-		relShowdownProb[4476] = 1.1033895F;
-		relShowdownProb[4477] = 1.328922F;
-		relShowdownProb[4479] = 0.7887192F;
-		relShowdownProb[4480] = 0.7619325F;
-		relShowdownProb[4481] = 0.8993212F;
-		relShowdownProb[4482] = 0.7824094F;
-		relShowdownProb[4483] = 0.7873709F;
-		relShowdownProb[4484] = 0.7966296F;
-		relShowdownProb[4485] = 1.0149883F;
-		relShowdownProb[4486] = 0.9877032F;
-		relShowdownProb[4487] = 1.1422272F;
-		relShowdownProb[4488] = 1.3661364F;
-		relShowdownProb[4490] = 1.025335F;
-		relShowdownProb[4491] = 0.4762078F;
-		relShowdownProb[4492] = 0.71624225F;
-		relShowdownProb[4493] = 0.8386381F;
-		relShowdownProb[4494] = 0.7874155F;
-		relShowdownProb[4495] = 0.87484926F;
-		relShowdownProb[4496] = 1.0058254F;
-		relShowdownProb[4497] = 1.021773F;
-		relShowdownProb[4498] = 1.127428F;
-		relShowdownProb[4499] = 1.3794917F;
-		relShowdownProb[4501] = 0.4732315F;
-		relShowdownProb[4502] = 0.69050133F;
-		relShowdownProb[4503] = 0.5116016F;
-		relShowdownProb[4504] = 0.8036633F;
-		relShowdownProb[4505] = 0.9086045F;
-		relShowdownProb[4506] = 0.8501165F;
-		relShowdownProb[4507] = 1.0150473F;
-		relShowdownProb[4508] = 1.1253064F;
-		relShowdownProb[4509] = 1.3079263F;
-		relShowdownProb[4510] = 1.4823116F;
-		relShowdownProb[4512] = 0.63097537F;
-		relShowdownProb[4513] = 0.5000182F;
-		relShowdownProb[4514] = 0.6707666F;
-		relShowdownProb[4515] = 0.7438867F;
-		relShowdownProb[4516] = 0.9355841F;
-		relShowdownProb[4517] = 0.988897F;
-		relShowdownProb[4518] = 1.0138749F;
-		relShowdownProb[4519] = 1.2188597F;
-		relShowdownProb[4520] = 1.2242805F;
-		relShowdownProb[4521] = 1.508495F;
-		relShowdownProb[4523] = 0.5521034F;
-		relShowdownProb[4524] = 0.5952597F;
-		relShowdownProb[4525] = 0.6821355F;
-		relShowdownProb[4526] = 0.7106775F;
-		relShowdownProb[4527] = 0.87466234F;
-		relShowdownProb[4528] = 1.0386825F;
-		relShowdownProb[4529] = 1.2301368F;
-		relShowdownProb[4530] = 1.3490516F;
-		relShowdownProb[4531] = 1.3560785F;
-		relShowdownProb[4532] = 1.6250294F;
-		relShowdownProb[4535] = 0.6009289F;
-		relShowdownProb[4536] = 0.6009289F;
-		relShowdownProb[4537] = 0.5007741F;
-		relShowdownProb[4538] = 0.66703105F;
-		relShowdownProb[4539] = 0.68906516F;
-		relShowdownProb[4540] = 0.83843887F;
-		relShowdownProb[4541] = 0.87563926F;
-		relShowdownProb[4542] = 1.028256F;
-		relShowdownProb[4543] = 1.2940003F;
-		relShowdownProb[4545] = 0.4732315F;
-		relShowdownProb[4546] = 0.8703108F;
-		relShowdownProb[4547] = 0.55099255F;
-		relShowdownProb[4548] = 0.7345683F;
-		relShowdownProb[4549] = 0.67728543F;
-		relShowdownProb[4550] = 0.73841697F;
-		relShowdownProb[4551] = 0.8684694F;
-		relShowdownProb[4552] = 0.9274067F;
-		relShowdownProb[4553] = 1.0967739F;
-		relShowdownProb[4554] = 1.2844619F;
-		relShowdownProb[4556] = 0.63097537F;
-		relShowdownProb[4557] = 1.0232033F;
-		relShowdownProb[4558] = 0.6389624F;
-		relShowdownProb[4559] = 0.59542745F;
-		relShowdownProb[4560] = 0.84316176F;
-		relShowdownProb[4561] = 0.7434453F;
-		relShowdownProb[4562] = 0.79803884F;
-		relShowdownProb[4563] = 0.946463F;
-		relShowdownProb[4564] = 0.9971372F;
-		relShowdownProb[4565] = 1.3249825F;
-		relShowdownProb[4567] = 0.946463F;
-		relShowdownProb[4568] = 0.976226F;
-		relShowdownProb[4569] = 0.68174344F;
-		relShowdownProb[4570] = 0.7824094F;
-		relShowdownProb[4571] = 0.8359075F;
-		relShowdownProb[4572] = 0.8264102F;
-		relShowdownProb[4573] = 0.8765808F;
-		relShowdownProb[4574] = 1.0371915F;
-		relShowdownProb[4575] = 1.0613328F;
-		relShowdownProb[4576] = 1.4130201F;
-		relShowdownProb[4578] = 1.1042068F;
-		relShowdownProb[4579] = 0.66669095F;
-		relShowdownProb[4580] = 0.7048733F;
-		relShowdownProb[4581] = 0.9105214F;
-		relShowdownProb[4582] = 0.7978448F;
-		relShowdownProb[4583] = 0.7600798F;
-		relShowdownProb[4584] = 0.8804307F;
-		relShowdownProb[4585] = 1.0299146F;
-		relShowdownProb[4586] = 1.1786747F;
-		relShowdownProb[4587] = 1.4324497F;
-		relShowdownProb[4589] = 0.8675911F;
-		relShowdownProb[4590] = 0.52382857F;
-		relShowdownProb[4591] = 0.6366598F;
-		relShowdownProb[4592] = 0.7173193F;
-		relShowdownProb[4593] = 0.7319314F;
-		relShowdownProb[4594] = 0.9313551F;
-		relShowdownProb[4595] = 0.9327462F;
-		relShowdownProb[4596] = 1.11124F;
-		relShowdownProb[4597] = 1.2809751F;
-		relShowdownProb[4598] = 1.4579694F;
-		relShowdownProb[4600] = 0.63097537F;
-		relShowdownProb[4601] = 0.64288056F;
-		relShowdownProb[4602] = 0.7048733F;
-		relShowdownProb[4603] = 0.79037964F;
-		relShowdownProb[4604] = 0.7528188F;
-		relShowdownProb[4605] = 0.92125875F;
-		relShowdownProb[4606] = 0.9923031F;
-		relShowdownProb[4607] = 1.1224179F;
-		relShowdownProb[4608] = 1.3121775F;
-		relShowdownProb[4609] = 1.5364535F;
-		relShowdownProb[4611] = 0.7098473F;
-		relShowdownProb[4612] = 0.7143117F;
-		relShowdownProb[4613] = 0.78445584F;
-		relShowdownProb[4614] = 0.81694704F;
-		relShowdownProb[4615] = 0.7919828F;
-		relShowdownProb[4616] = 0.9487658F;
-		relShowdownProb[4617] = 1.1612067F;
-		relShowdownProb[4618] = 1.2254899F;
-		relShowdownProb[4619] = 1.2747138F;
-		relShowdownProb[4620] = 1.58973F;
-		relShowdownProb[4622] = 0.23661575F;
-		relShowdownProb[4623] = 0.83336365F;
-		relShowdownProb[4624] = 0.79582477F;
-		relShowdownProb[4625] = 0.6641846F;
-		relShowdownProb[4626] = 0.7484673F;
-		relShowdownProb[4627] = 0.9303432F;
-		relShowdownProb[4628] = 1.081672F;
-		relShowdownProb[4629] = 1.3919456F;
-		relShowdownProb[4630] = 1.5573008F;
-		relShowdownProb[4631] = 1.8494985F;
-		relShowdownProb[4634] = 0.66102177F;
-		relShowdownProb[4635] = 0.68105274F;
-		relShowdownProb[4636] = 0.6209599F;
-		relShowdownProb[4637] = 0.7090961F;
-		relShowdownProb[4638] = 0.6169537F;
-		relShowdownProb[4639] = 0.7354225F;
-		relShowdownProb[4640] = 0.83056957F;
-		relShowdownProb[4641] = 0.98819417F;
-		relShowdownProb[4642] = 1.3086896F;
-		relShowdownProb[4644] = 0.63097537F;
-		relShowdownProb[4645] = 0.91382635F;
-		relShowdownProb[4646] = 0.8709237F;
-		relShowdownProb[4647] = 0.5744701F;
-		relShowdownProb[4648] = 0.5383551F;
-		relShowdownProb[4649] = 0.71106815F;
-		relShowdownProb[4650] = 0.75042504F;
-		relShowdownProb[4651] = 0.7495479F;
-		relShowdownProb[4652] = 1.0620867F;
-		relShowdownProb[4653] = 1.2818135F;
-		relShowdownProb[4655] = 0.946463F;
-		relShowdownProb[4656] = 0.75034904F;
-		relShowdownProb[4657] = 0.8306511F;
-		relShowdownProb[4658] = 0.70207113F;
-		relShowdownProb[4659] = 0.8599133F;
-		relShowdownProb[4660] = 0.83113366F;
-		relShowdownProb[4661] = 0.82289124F;
-		relShowdownProb[4662] = 0.95064163F;
-		relShowdownProb[4663] = 1.1704102F;
-		relShowdownProb[4664] = 1.3328615F;
-		relShowdownProb[4666] = 0.8675911F;
-		relShowdownProb[4667] = 0.9524156F;
-		relShowdownProb[4668] = 0.6672383F;
-		relShowdownProb[4669] = 0.8076484F;
-		relShowdownProb[4670] = 0.7334414F;
-		relShowdownProb[4671] = 0.89713895F;
-		relShowdownProb[4672] = 0.74631494F;
-		relShowdownProb[4673] = 0.8701686F;
-		relShowdownProb[4674] = 1.1066337F;
-		relShowdownProb[4675] = 1.3648342F;
-		relShowdownProb[4677] = 0.63097537F;
-		relShowdownProb[4678] = 0.64288056F;
-		relShowdownProb[4679] = 0.9549897F;
-		relShowdownProb[4680] = 0.7827289F;
-		relShowdownProb[4681] = 0.954285F;
-		relShowdownProb[4682] = 0.829178F;
-		relShowdownProb[4683] = 0.86975884F;
-		relShowdownProb[4684] = 0.93221515F;
-		relShowdownProb[4685] = 1.1578557F;
-		relShowdownProb[4686] = 1.4143664F;
-		relShowdownProb[4688] = 0.31548768F;
-		relShowdownProb[4689] = 0.5952597F;
-		relShowdownProb[4690] = 0.7730869F;
-		relShowdownProb[4691] = 0.73724484F;
-		relShowdownProb[4692] = 0.7268836F;
-		relShowdownProb[4693] = 0.9455743F;
-		relShowdownProb[4694] = 0.9182593F;
-		relShowdownProb[4695] = 0.99268097F;
-		relShowdownProb[4696] = 1.1478044F;
-		relShowdownProb[4697] = 1.363163F;
-		relShowdownProb[4699] = 0.5521034F;
-		relShowdownProb[4700] = 0.6190701F;
-		relShowdownProb[4701] = 0.5684463F;
-		relShowdownProb[4702] = 0.67082644F;
-		relShowdownProb[4703] = 0.83984995F;
-		relShowdownProb[4704] = 0.9734055F;
-		relShowdownProb[4705] = 0.97549564F;
-		relShowdownProb[4706] = 1.1285738F;
-		relShowdownProb[4707] = 1.222711F;
-		relShowdownProb[4708] = 1.4538485F;
-		relShowdownProb[4710] = 0.63097537F;
-		relShowdownProb[4711] = 0.4762078F;
-		relShowdownProb[4712] = 0.6821355F;
-		relShowdownProb[4713] = 0.7106775F;
-		relShowdownProb[4714] = 0.7919828F;
-		relShowdownProb[4715] = 0.91806144F;
-		relShowdownProb[4716] = 1.1121416F;
-		relShowdownProb[4717] = 1.0857232F;
-		relShowdownProb[4718] = 1.2858815F;
-		relShowdownProb[4719] = 1.4939176F;
-		relShowdownProb[4721] = 0.7098473F;
-		relShowdownProb[4722] = 0.7143117F;
-		relShowdownProb[4723] = 0.65939766F;
-		relShowdownProb[4724] = 0.6575427F;
-		relShowdownProb[4725] = 0.77022505F;
-		relShowdownProb[4726] = 0.99482244F;
-		relShowdownProb[4727] = 1.0063658F;
-		relShowdownProb[4728] = 1.3579469F;
-		relShowdownProb[4729] = 1.6252155F;
-		relShowdownProb[4730] = 1.7818028F;
-		relShowdownProb[4732] = 0.7887192F;
-		relShowdownProb[4733] = 0.69050133F;
-		relShowdownProb[4734] = 0.8299315F;
-		relShowdownProb[4735] = 0.90993285F;
-		relShowdownProb[4736] = 0.90512323F;
-		relShowdownProb[4737] = 0.89963883F;
-		relShowdownProb[4738] = 1.0063658F;
-		relShowdownProb[4739] = 1.3836063F;
-		relShowdownProb[4740] = 1.6184869F;
-		relShowdownProb[4741] = 2.0196278F;
-		relShowdownProb[4744] = 0.36055735F;
-		relShowdownProb[4745] = 0.7211147F;
-		relShowdownProb[4746] = 0.8212695F;
-		relShowdownProb[4747] = 0.7211147F;
-		relShowdownProb[4748] = 0.8172633F;
-		relShowdownProb[4749] = 0.7726229F;
-		relShowdownProb[4750] = 0.8413004F;
-		relShowdownProb[4751] = 0.8813624F;
-		relShowdownProb[4752] = 1.2926648F;
-		relShowdownProb[4754] = 0.4732315F;
-		relShowdownProb[4755] = 0.69624865F;
-		relShowdownProb[4756] = 0.8353758F;
-		relShowdownProb[4757] = 0.7345683F;
-		relShowdownProb[4758] = 0.6714967F;
-		relShowdownProb[4759] = 0.6641846F;
-		relShowdownProb[4760] = 0.9190599F;
-		relShowdownProb[4761] = 0.83000785F;
-		relShowdownProb[4762] = 0.90351707F;
-		relShowdownProb[4763] = 1.3069731F;
-		relShowdownProb[4765] = 0.7098473F;
-		relShowdownProb[4766] = 0.85266936F;
-		relShowdownProb[4767] = 0.6389624F;
-		relShowdownProb[4768] = 0.6576363F;
-		relShowdownProb[4769] = 0.78732324F;
-		relShowdownProb[4770] = 0.6519443F;
-		relShowdownProb[4771] = 0.8422209F;
-		relShowdownProb[4772] = 0.829461F;
-		relShowdownProb[4773] = 0.87944233F;
-		relShowdownProb[4774] = 1.3486195F;
-		relShowdownProb[4776] = 0.63097537F;
-		relShowdownProb[4777] = 0.8809844F;
-		relShowdownProb[4778] = 0.7977849F;
-		relShowdownProb[4779] = 0.82447445F;
-		relShowdownProb[4780] = 0.88444406F;
-		relShowdownProb[4781] = 0.83385533F;
-		relShowdownProb[4782] = 0.8630114F;
-		relShowdownProb[4783] = 0.97120714F;
-		relShowdownProb[4784] = 0.9739671F;
-		relShowdownProb[4785] = 1.3869736F;
-		relShowdownProb[4787] = 0.5521034F;
-		relShowdownProb[4788] = 0.66669095F;
-		relShowdownProb[4789] = 0.65939766F;
-		relShowdownProb[4790] = 0.7827289F;
-		relShowdownProb[4791] = 0.9282116F;
-		relShowdownProb[4792] = 0.93464357F;
-		relShowdownProb[4793] = 1.0004895F;
-		relShowdownProb[4794] = 1.0238084F;
-		relShowdownProb[4795] = 1.106609F;
-		relShowdownProb[4796] = 1.5512823F;
-		relShowdownProb[4798] = 0.7098473F;
-		relShowdownProb[4799] = 0.7619325F;
-		relShowdownProb[4800] = 0.97772753F;
-		relShowdownProb[4801] = 0.99627686F;
-		relShowdownProb[4802] = 0.84298307F;
-		relShowdownProb[4803] = 0.8389306F;
-		relShowdownProb[4804] = 1.0546864F;
-		relShowdownProb[4805] = 1.107221F;
-		relShowdownProb[4806] = 1.1018288F;
-		relShowdownProb[4807] = 1.3836616F;
-		relShowdownProb[4809] = 0.7098473F;
-		relShowdownProb[4810] = 0.7143117F;
-		relShowdownProb[4811] = 1.0118344F;
-		relShowdownProb[4812] = 0.82358885F;
-		relShowdownProb[4813] = 0.8659592F;
-		relShowdownProb[4814] = 1.0185993F;
-		relShowdownProb[4815] = 0.996141F;
-		relShowdownProb[4816] = 1.055594F;
-		relShowdownProb[4817] = 1.1913191F;
-		relShowdownProb[4818] = 1.4818071F;
-		relShowdownProb[4820] = 0.946463F;
-		relShowdownProb[4821] = 0.7381221F;
-		relShowdownProb[4822] = 0.7389801F;
-		relShowdownProb[4823] = 0.93650025F;
-		relShowdownProb[4824] = 0.8354984F;
-		relShowdownProb[4825] = 0.9518363F;
-		relShowdownProb[4826] = 1.1730809F;
-		relShowdownProb[4827] = 1.2384361F;
-		relShowdownProb[4828] = 1.2332337F;
-		relShowdownProb[4829] = 1.51661F;
-		relShowdownProb[4831] = 1.1042068F;
-		relShowdownProb[4832] = 1.0000364F;
-		relShowdownProb[4833] = 0.7389801F;
-		relShowdownProb[4834] = 0.8567981F;
-		relShowdownProb[4835] = 0.8267953F;
-		relShowdownProb[4836] = 1.0378085F;
-		relShowdownProb[4837] = 1.1136202F;
-		relShowdownProb[4838] = 1.2813058F;
-		relShowdownProb[4839] = 1.4972831F;
-		relShowdownProb[4840] = 1.8341712F;
-		relShowdownProb[4842] = 0.8675911F;
-		relShowdownProb[4843] = 1.0238467F;
-		relShowdownProb[4844] = 0.71624225F;
-		relShowdownProb[4845] = 0.7173193F;
-		relShowdownProb[4846] = 0.8572562F;
-		relShowdownProb[4847] = 0.91192055F;
-		relShowdownProb[4848] = 0.9493155F;
-		relShowdownProb[4849] = 1.3765132F;
-		relShowdownProb[4850] = 1.6966747F;
-		relShowdownProb[4851] = 1.9410727F;
-		relShowdownProb[4853] = 0.63097537F;
-		relShowdownProb[4854] = 0.64288056F;
-		relShowdownProb[4855] = 0.8640383F;
-		relShowdownProb[4856] = 0.7704541F;
-		relShowdownProb[4857] = 0.8137406F;
-		relShowdownProb[4858] = 0.87814575F;
-		relShowdownProb[4859] = 0.9447515F;
-		relShowdownProb[4860] = 1.3923757F;
-		relShowdownProb[4861] = 1.5289845F;
-		relShowdownProb[4862] = 2.0475276F;
-		relShowdownProb[4866] = 1.2218888F;
-		relShowdownProb[4867] = 1.1217339F;
-		relShowdownProb[4868] = 0.9614862F;
-		relShowdownProb[4869] = 0.99754196F;
-		relShowdownProb[4870] = 1.0788105F;
-		relShowdownProb[4871] = 1.0988414F;
-		relShowdownProb[4872] = 1.1000338F;
-		relShowdownProb[4873] = 1.2339073F;
-		relShowdownProb[4875] = 0.7887192F;
-		relShowdownProb[4876] = 1.4196945F;
-		relShowdownProb[4877] = 1.0842111F;
-		relShowdownProb[4878] = 1.2619507F;
-		relShowdownProb[4879] = 1.082499F;
-		relShowdownProb[4880] = 1.0001838F;
-		relShowdownProb[4881] = 1.0905052F;
-		relShowdownProb[4882] = 1.1158524F;
-		relShowdownProb[4883] = 1.1545857F;
-		relShowdownProb[4884] = 1.2235492F;
-		relShowdownProb[4886] = 1.2619507F;
-		relShowdownProb[4887] = 2.2084136F;
-		relShowdownProb[4888] = 1.10221F;
-		relShowdownProb[4889] = 1.2797246F;
-		relShowdownProb[4890] = 1.100019F;
-		relShowdownProb[4891] = 1.1742623F;
-		relShowdownProb[4892] = 1.2012004F;
-		relShowdownProb[4893] = 1.2556827F;
-		relShowdownProb[4894] = 1.1279093F;
-		relShowdownProb[4895] = 1.2540717F;
-		relShowdownProb[4897] = 1.6563103F;
-		relShowdownProb[4898] = 0.90702707F;
-		relShowdownProb[4899] = 1.4070024F;
-		relShowdownProb[4900] = 1.2871897F;
-		relShowdownProb[4901] = 1.2403789F;
-		relShowdownProb[4902] = 1.224725F;
-		relShowdownProb[4903] = 1.2022455F;
-		relShowdownProb[4904] = 1.1918423F;
-		relShowdownProb[4905] = 1.1503166F;
-		relShowdownProb[4906] = 1.3023226F;
-		relShowdownProb[4908] = 0.946463F;
-		relShowdownProb[4909] = 1.1428987F;
-		relShowdownProb[4910] = 1.2846885F;
-		relShowdownProb[4911] = 1.2539636F;
-		relShowdownProb[4912] = 1.2932388F;
-		relShowdownProb[4913] = 1.2255832F;
-		relShowdownProb[4914] = 1.320646F;
-		relShowdownProb[4915] = 1.2375258F;
-		relShowdownProb[4916] = 1.186682F;
-		relShowdownProb[4917] = 1.3252419F;
-		relShowdownProb[4919] = 0.946463F;
-		relShowdownProb[4920] = 1.3095715F;
-		relShowdownProb[4921] = 1.0118344F;
-		relShowdownProb[4922] = 1.1291138F;
-		relShowdownProb[4923] = 1.1307079F;
-		relShowdownProb[4924] = 1.1979644F;
-		relShowdownProb[4925] = 1.2121023F;
-		relShowdownProb[4926] = 1.2438654F;
-		relShowdownProb[4927] = 1.2254872F;
-		relShowdownProb[4928] = 1.3247279F;
-		relShowdownProb[4930] = 0.7887192F;
-		relShowdownProb[4931] = 0.85717404F;
-		relShowdownProb[4932] = 1.1141547F;
-		relShowdownProb[4933] = 1.162323F;
-		relShowdownProb[4934] = 1.2140836F;
-		relShowdownProb[4935] = 1.4044851F;
-		relShowdownProb[4936] = 1.3213062F;
-		relShowdownProb[4937] = 1.3016347F;
-		relShowdownProb[4938] = 1.4424536F;
-		relShowdownProb[4939] = 1.4055563F;
-		relShowdownProb[4941] = 1.3408226F;
-		relShowdownProb[4942] = 1.1190883F;
-		relShowdownProb[4943] = 1.0345721F;
-		relShowdownProb[4944] = 0.989635F;
-		relShowdownProb[4945] = 1.3054662F;
-		relShowdownProb[4946] = 1.1790488F;
-		relShowdownProb[4947] = 1.3584379F;
-		relShowdownProb[4948] = 1.3677664F;
-		relShowdownProb[4949] = 1.3629689F;
-		relShowdownProb[4950] = 1.4888749F;
-		relShowdownProb[4952] = 1.5774384F;
-		relShowdownProb[4953] = 0.9286052F;
-		relShowdownProb[4954] = 1.1141547F;
-		relShowdownProb[4955] = 1.1291138F;
-		relShowdownProb[4956] = 1.2227867F;
-		relShowdownProb[4957] = 1.2987959F;
-		relShowdownProb[4958] = 1.4171273F;
-		relShowdownProb[4959] = 1.5445347F;
-		relShowdownProb[4960] = 1.6636204F;
-		relShowdownProb[4961] = 1.686007F;
-		relShowdownProb[4963] = 1.025335F;
-		relShowdownProb[4964] = 1.1905195F;
-		relShowdownProb[4965] = 1.3301642F;
-		relShowdownProb[4966] = 1.1291138F;
-		relShowdownProb[4967] = 1.1792711F;
-		relShowdownProb[4968] = 1.2373872F;
-		relShowdownProb[4969] = 1.373769F;
-		relShowdownProb[4970] = 1.5598134F;
-		relShowdownProb[4971] = 1.8532995F;
-		relShowdownProb[4972] = 1.8384442F;
-		relShowdownProb[4974] = 0.7887192F;
-		relShowdownProb[4975] = 1.0476571F;
-		relShowdownProb[4976] = 1.216475F;
-		relShowdownProb[4977] = 1.2619507F;
-		relShowdownProb[4978] = 1.131404F;
-		relShowdownProb[4979] = 1.2343167F;
-		relShowdownProb[4980] = 1.357795F;
-		relShowdownProb[4981] = 1.5263258F;
-		relShowdownProb[4982] = 1.817209F;
-		relShowdownProb[4983] = 1.9457167F;
-		relShowdownProb[4985] = 1.1830788F;
-		relShowdownProb[4986] = 1.2381402F;
-		relShowdownProb[4987] = 1.1823682F;
-		relShowdownProb[4988] = 1.1158301F;
-		relShowdownProb[4989] = 1.4360129F;
-		relShowdownProb[4990] = 1.2680916F;
-		relShowdownProb[4991] = 1.4034352F;
-		relShowdownProb[4992] = 1.5157508F;
-		relShowdownProb[4993] = 1.6910139F;
-		relShowdownProb[4994] = 1.9627757F;
-		relShowdownProb[5003] = 0.5386983F;
-		relShowdownProb[5004] = 0.5386983F;
-		relShowdownProb[5007] = 0.942722F;
-		relShowdownProb[5008] = 0.3142407F;
-		relShowdownProb[5009] = 0.38157797F;
-		relShowdownProb[5012] = 0.5386983F;
-		relShowdownProb[5013] = 0.58358985F;
-		relShowdownProb[5014] = 0.56114405F;
-		relShowdownProb[5015] = 0.40402374F;
-		relShowdownProb[5018] = 0.8080475F;
-		relShowdownProb[5019] = 0.40402374F;
-		relShowdownProb[5020] = 0.49380678F;
-		relShowdownProb[5021] = 0.45789355F;
-		relShowdownProb[5022] = 0.5386983F;
-		relShowdownProb[5025] = 0.13467458F;
-		relShowdownProb[5026] = 0.40402374F;
-		relShowdownProb[5027] = 0.5162526F;
-		relShowdownProb[5028] = 0.28281662F;
-		relShowdownProb[5029] = 0.45789355F;
-		relShowdownProb[5030] = 0.5258722F;
-		relShowdownProb[5033] = 0.5386983F;
-		relShowdownProb[5034] = 0.40402374F;
-		relShowdownProb[5035] = 0.38157797F;
-		relShowdownProb[5036] = 0.43095866F;
-		relShowdownProb[5037] = 0.43993697F;
-		relShowdownProb[5038] = 0.5322852F;
-		relShowdownProb[5039] = 0.596416F;
-		relShowdownProb[5042] = 1.0773966F;
-		relShowdownProb[5043] = 0.852939F;
-		relShowdownProb[5044] = 0.4264695F;
-		relShowdownProb[5045] = 0.55216575F;
-		relShowdownProb[5046] = 0.52972F;
-		relShowdownProb[5047] = 0.513046F;
-		relShowdownProb[5048] = 0.596416F;
-		relShowdownProb[5049] = 0.62099946F;
-		relShowdownProb[5053] = 0.89783055F;
-		relShowdownProb[5054] = 0.7856017F;
-		relShowdownProb[5055] = 0.7272427F;
-		relShowdownProb[5056] = 0.79906917F;
-		relShowdownProb[5057] = 0.73750365F;
-		relShowdownProb[5058] = 0.7599494F;
-		relShowdownProb[5059] = 0.77437884F;
-		relShowdownProb[5060] = 0.8828667F;
-		relShowdownProb[5069] = 0.5386983F;
-		relShowdownProb[5070] = 0.67337286F;
-		relShowdownProb[5073] = 0.40402374F;
-		relShowdownProb[5074] = 0.40402374F;
-		relShowdownProb[5075] = 0.5386983F;
-		relShowdownProb[5078] = 0.5386983F;
-		relShowdownProb[5079] = 0.76315594F;
-		relShowdownProb[5080] = 0.44891527F;
-		relShowdownProb[5081] = 0.40402374F;
-		relShowdownProb[5084] = 0.5386983F;
-		relShowdownProb[5085] = 0.5386983F;
-		relShowdownProb[5086] = 0.49380678F;
-		relShowdownProb[5087] = 0.3501539F;
-		relShowdownProb[5088] = 0.42198035F;
-		relShowdownProb[5091] = 0.26934916F;
-		relShowdownProb[5092] = 0.76315594F;
-		relShowdownProb[5093] = 0.44891527F;
-		relShowdownProb[5094] = 0.57910067F;
-		relShowdownProb[5095] = 0.65541625F;
-		relShowdownProb[5096] = 0.513046F;
-		relShowdownProb[5099] = 0.40402374F;
-		relShowdownProb[5100] = 0.3591322F;
-		relShowdownProb[5101] = 0.44891527F;
-		relShowdownProb[5102] = 0.5252308F;
-		relShowdownProb[5103] = 0.6195031F;
-		relShowdownProb[5104] = 0.6156552F;
-		relShowdownProb[5105] = 0.6108454F;
-		relShowdownProb[5108] = 0.67337286F;
-		relShowdownProb[5109] = 0.852939F;
-		relShowdownProb[5110] = 0.40402374F;
-		relShowdownProb[5111] = 0.5117634F;
-		relShowdownProb[5112] = 0.55665493F;
-		relShowdownProb[5113] = 0.3911976F;
-		relShowdownProb[5114] = 0.66856307F;
-		relShowdownProb[5115] = 0.60977656F;
-		relShowdownProb[5119] = 1.0325052F;
-		relShowdownProb[5120] = 0.852939F;
-		relShowdownProb[5121] = 0.68684036F;
-		relShowdownProb[5122] = 0.75417763F;
-		relShowdownProb[5123] = 0.7759821F;
-		relShowdownProb[5124] = 0.7839984F;
-		relShowdownProb[5125] = 0.8417161F;
-		relShowdownProb[5126] = 0.8260041F;
-		relShowdownProb[5135] = 0.942722F;
-		relShowdownProb[5136] = 0.67337286F;
-		relShowdownProb[5139] = 0.5386983F;
-		relShowdownProb[5140] = 0.76315594F;
-		relShowdownProb[5141] = 0.7272427F;
-		relShowdownProb[5144] = 0.67337286F;
-		relShowdownProb[5145] = 0.5386983F;
-		relShowdownProb[5146] = 0.5386983F;
-		relShowdownProb[5147] = 0.48482847F;
-		relShowdownProb[5150] = 0.8080475F;
-		relShowdownProb[5151] = 0.58358985F;
-		relShowdownProb[5152] = 0.3591322F;
-		relShowdownProb[5153] = 0.49829593F;
-		relShowdownProb[5154] = 0.5207417F;
-		relShowdownProb[5157] = 0.942722F;
-		relShowdownProb[5158] = 0.40402374F;
-		relShowdownProb[5159] = 0.471361F;
-		relShowdownProb[5160] = 0.4174912F;
-		relShowdownProb[5161] = 0.43993697F;
-		relShowdownProb[5162] = 0.48098063F;
-		relShowdownProb[5165] = 0.5386983F;
-		relShowdownProb[5166] = 0.58358985F;
-		relShowdownProb[5167] = 0.58358985F;
-		relShowdownProb[5168] = 0.45789355F;
-		relShowdownProb[5169] = 0.43095866F;
-		relShowdownProb[5170] = 0.5066329F;
-		relShowdownProb[5171] = 0.63008463F;
-		relShowdownProb[5174] = 0.40402374F;
-		relShowdownProb[5175] = 0.40402374F;
-		relShowdownProb[5176] = 0.5162526F;
-		relShowdownProb[5177] = 0.56563324F;
-		relShowdownProb[5178] = 0.46687186F;
-		relShowdownProb[5179] = 0.48098063F;
-		relShowdownProb[5180] = 0.6397042F;
-		relShowdownProb[5181] = 0.6995596F;
-		relShowdownProb[5185] = 0.49380678F;
-		relShowdownProb[5186] = 1.0100594F;
-		relShowdownProb[5187] = 0.646438F;
-		relShowdownProb[5188] = 0.5386983F;
-		relShowdownProb[5189] = 0.7182644F;
-		relShowdownProb[5190] = 0.7839984F;
-		relShowdownProb[5191] = 0.83797514F;
-		relShowdownProb[5192] = 0.7661487F;
-		relShowdownProb[5201] = 1.2120712F;
-		relShowdownProb[5202] = 0.5386983F;
-		relShowdownProb[5205] = 0.67337286F;
-		relShowdownProb[5206] = 0.7182644F;
-		relShowdownProb[5207] = 0.78111255F;
-		relShowdownProb[5210] = 0.26934916F;
-		relShowdownProb[5211] = 0.6284814F;
-		relShowdownProb[5212] = 0.33668643F;
-		relShowdownProb[5213] = 0.58358985F;
-		relShowdownProb[5216] = 0.67337286F;
-		relShowdownProb[5217] = 0.5386983F;
-		relShowdownProb[5218] = 0.49380678F;
-		relShowdownProb[5219] = 0.48482847F;
-		relShowdownProb[5220] = 0.6284814F;
-		relShowdownProb[5223] = 0.942722F;
-		relShowdownProb[5224] = 0.7182644F;
-		relShowdownProb[5225] = 0.5162526F;
-		relShowdownProb[5226] = 0.55216575F;
-		relShowdownProb[5227] = 0.58358985F;
-		relShowdownProb[5228] = 0.55793756F;
-		relShowdownProb[5231] = 0.67337286F;
-		relShowdownProb[5232] = 0.6284814F;
-		relShowdownProb[5233] = 0.6060356F;
-		relShowdownProb[5234] = 0.5386983F;
-		relShowdownProb[5235] = 0.37708881F;
-		relShowdownProb[5236] = 0.60924214F;
-		relShowdownProb[5237] = 0.6589435F;
-		relShowdownProb[5240] = 0.942722F;
-		relShowdownProb[5241] = 0.5386983F;
-		relShowdownProb[5242] = 0.49380678F;
-		relShowdownProb[5243] = 0.55216575F;
-		relShowdownProb[5244] = 0.6105248F;
-		relShowdownProb[5245] = 0.5258722F;
-		relShowdownProb[5246] = 0.7599494F;
-		relShowdownProb[5247] = 0.7033006F;
-		relShowdownProb[5251] = 1.1671797F;
-		relShowdownProb[5252] = 1.0325052F;
-		relShowdownProb[5253] = 0.78111255F;
-		relShowdownProb[5254] = 0.852939F;
-		relShowdownProb[5255] = 0.76315594F;
-		relShowdownProb[5256] = 0.6781827F;
-		relShowdownProb[5257] = 0.82675225F;
-		relShowdownProb[5258] = 0.8020619F;
-		relShowdownProb[5267] = 0.67337286F;
-		relShowdownProb[5268] = 0.40402374F;
-		relShowdownProb[5271] = 0.942722F;
-		relShowdownProb[5272] = 0.7182644F;
-		relShowdownProb[5273] = 0.8080475F;
-		relShowdownProb[5276] = 0.26934916F;
-		relShowdownProb[5277] = 0.89783055F;
-		relShowdownProb[5278] = 0.8304932F;
-		relShowdownProb[5279] = 0.76315594F;
-		relShowdownProb[5282] = 0.26934916F;
-		relShowdownProb[5283] = 0.58358985F;
-		relShowdownProb[5284] = 0.5162526F;
-		relShowdownProb[5285] = 0.646438F;
-		relShowdownProb[5286] = 0.6926121F;
-		relShowdownProb[5289] = 0.13467458F;
-		relShowdownProb[5290] = 0.89783055F;
-		relShowdownProb[5291] = 0.6509271F;
-		relShowdownProb[5292] = 0.57910067F;
-		relShowdownProb[5293] = 0.5027851F;
-		relShowdownProb[5294] = 0.596416F;
-		relShowdownProb[5297] = 0.40402374F;
-		relShowdownProb[5298] = 0.58358985F;
-		relShowdownProb[5299] = 0.44891527F;
-		relShowdownProb[5300] = 0.5386983F;
-		relShowdownProb[5301] = 0.5386983F;
-		relShowdownProb[5302] = 0.51945907F;
-		relShowdownProb[5303] = 0.5338885F;
-		relShowdownProb[5306] = 0.8080475F;
-		relShowdownProb[5307] = 0.44891527F;
-		relShowdownProb[5308] = 0.67337286F;
-		relShowdownProb[5309] = 0.5386983F;
-		relShowdownProb[5310] = 0.646438F;
-		relShowdownProb[5311] = 0.5066329F;
-		relShowdownProb[5312] = 0.67337286F;
-		relShowdownProb[5313] = 0.755674F;
-		relShowdownProb[5316] = 1.2120712F;
-		relShowdownProb[5317] = 0.98761356F;
-		relShowdownProb[5318] = 1.0100594F;
-		relShowdownProb[5319] = 0.68684036F;
-		relShowdownProb[5320] = 0.8170258F;
-		relShowdownProb[5321] = 0.76956904F;
-		relShowdownProb[5322] = 0.72147095F;
-		relShowdownProb[5323] = 0.8342342F;
-		relShowdownProb[5324] = 0.8708956F;
-		relShowdownProb[5330] = 0.26934916F;
-		relShowdownProb[5333] = 0.26934916F;
-		relShowdownProb[5334] = 0.87538475F;
-		relShowdownProb[5337] = 0.5386983F;
-		relShowdownProb[5338] = 0.98761356F;
-		relShowdownProb[5339] = 0.8349824F;
-		relShowdownProb[5343] = 0.3142407F;
-		relShowdownProb[5344] = 0.58358985F;
-		relShowdownProb[5345] = 0.67337286F;
-		relShowdownProb[5348] = 0.5386983F;
-		relShowdownProb[5349] = 0.76315594F;
-		relShowdownProb[5350] = 0.5162526F;
-		relShowdownProb[5351] = 0.44442612F;
-		relShowdownProb[5352] = 0.77918863F;
-		relShowdownProb[5355] = 0.5386983F;
-		relShowdownProb[5356] = 0.58358985F;
-		relShowdownProb[5357] = 0.6509271F;
-		relShowdownProb[5358] = 0.59256816F;
-		relShowdownProb[5359] = 0.55665493F;
-		relShowdownProb[5360] = 0.68010664F;
-		relShowdownProb[5363] = 0.13467458F;
-		relShowdownProb[5364] = 0.67337286F;
-		relShowdownProb[5365] = 0.4264695F;
-		relShowdownProb[5366] = 0.7003078F;
-		relShowdownProb[5367] = 0.5386983F;
-		relShowdownProb[5368] = 0.60924214F;
-		relShowdownProb[5369] = 0.6108454F;
-		relShowdownProb[5372] = 0.40402374F;
-		relShowdownProb[5373] = 0.3591322F;
-		relShowdownProb[5374] = 0.6284814F;
-		relShowdownProb[5375] = 0.6060356F;
-		relShowdownProb[5376] = 0.65541625F;
-		relShowdownProb[5377] = 0.64130753F;
-		relShowdownProb[5378] = 0.74552F;
-		relShowdownProb[5379] = 0.755674F;
-		relShowdownProb[5382] = 0.40402374F;
-		relShowdownProb[5383] = 0.852939F;
-		relShowdownProb[5384] = 0.7407102F;
-		relShowdownProb[5385] = 0.6060356F;
-		relShowdownProb[5386] = 0.6823512F;
-		relShowdownProb[5387] = 0.8016344F;
-		relShowdownProb[5388] = 0.87057495F;
-		relShowdownProb[5389] = 0.93898106F;
-		relShowdownProb[5390] = 0.85593176F;
-		relShowdownProb[5396] = 0.40402374F;
-		relShowdownProb[5399] = 0.40402374F;
-		relShowdownProb[5400] = 0.76315594F;
-		relShowdownProb[5403] = 0.13467458F;
-		relShowdownProb[5404] = 0.58358985F;
-		relShowdownProb[5405] = 0.9157871F;
-		relShowdownProb[5408] = 0.40402374F;
-		relShowdownProb[5409] = 0.67337286F;
-		relShowdownProb[5410] = 0.471361F;
-		relShowdownProb[5411] = 0.82301134F;
-		relShowdownProb[5414] = 0.67337286F;
-		relShowdownProb[5415] = 0.67337286F;
-		relShowdownProb[5416] = 0.40402374F;
-		relShowdownProb[5417] = 0.646438F;
-		relShowdownProb[5418] = 0.8272867F;
-		relShowdownProb[5421] = 0.26934916F;
-		relShowdownProb[5422] = 0.3591322F;
-		relShowdownProb[5423] = 0.6284814F;
-		relShowdownProb[5424] = 0.67337286F;
-		relShowdownProb[5425] = 0.7272427F;
-		relShowdownProb[5426] = 0.7272427F;
-		relShowdownProb[5429] = 0.5386983F;
-		relShowdownProb[5430] = 0.3591322F;
-		relShowdownProb[5431] = 0.49380678F;
-		relShowdownProb[5432] = 0.65990543F;
-		relShowdownProb[5433] = 0.7272427F;
-		relShowdownProb[5434] = 0.7888082F;
-		relShowdownProb[5435] = 0.7481921F;
-		relShowdownProb[5438] = 0.26934916F;
-		relShowdownProb[5439] = 0.852939F;
-		relShowdownProb[5440] = 0.6509271F;
-		relShowdownProb[5441] = 0.8349824F;
-		relShowdownProb[5442] = 0.6913295F;
-		relShowdownProb[5443] = 0.92348284F;
-		relShowdownProb[5444] = 0.70704156F;
-		relShowdownProb[5445] = 0.90157145F;
-		relShowdownProb[5448] = 1.2120712F;
-		relShowdownProb[5449] = 0.76315594F;
-		relShowdownProb[5450] = 0.67337286F;
-		relShowdownProb[5451] = 0.7003078F;
-		relShowdownProb[5452] = 0.66439456F;
-		relShowdownProb[5453] = 0.7439167F;
-		relShowdownProb[5454] = 0.87538475F;
-		relShowdownProb[5455] = 0.9913545F;
-		relShowdownProb[5456] = 0.9187799F;
-		relShowdownProb[5462] = 0.942722F;
-		relShowdownProb[5465] = 0.5386983F;
-		relShowdownProb[5466] = 0.67337286F;
-		relShowdownProb[5469] = 0.942722F;
-		relShowdownProb[5470] = 0.5386983F;
-		relShowdownProb[5471] = 0.67337286F;
-		relShowdownProb[5474] = 0.40402374F;
-		relShowdownProb[5475] = 0.7182644F;
-		relShowdownProb[5476] = 0.6284814F;
-		relShowdownProb[5477] = 0.50877064F;
-		relShowdownProb[5480] = 0.40402374F;
-		relShowdownProb[5481] = 0.40402374F;
-		relShowdownProb[5482] = 0.6060356F;
-		relShowdownProb[5483] = 0.8215149F;
-		relShowdownProb[5484] = 0.7888082F;
-		relShowdownProb[5487] = 0.13467458F;
-		relShowdownProb[5488] = 0.44891527F;
-		relShowdownProb[5489] = 0.49380678F;
-		relShowdownProb[5490] = 0.4174912F;
-		relShowdownProb[5491] = 0.58358985F;
-		relShowdownProb[5492] = 0.8349824F;
-		relShowdownProb[5495] = 0.942722F;
-		relShowdownProb[5496] = 0.44891527F;
-		relShowdownProb[5497] = 0.6284814F;
-		relShowdownProb[5498] = 0.646438F;
-		relShowdownProb[5499] = 0.56563324F;
-		relShowdownProb[5500] = 0.68619907F;
-		relShowdownProb[5501] = 0.7481921F;
-		relShowdownProb[5504] = 0.5386983F;
-		relShowdownProb[5505] = 0.8080475F;
-		relShowdownProb[5506] = 0.24690339F;
-		relShowdownProb[5507] = 0.7407102F;
-		relShowdownProb[5508] = 0.8260041F;
-		relShowdownProb[5509] = 0.68619907F;
-		relShowdownProb[5510] = 0.7407102F;
-		relShowdownProb[5511] = 0.942722F;
-		relShowdownProb[5514] = 0.67337286F;
-		relShowdownProb[5515] = 0.58358985F;
-		relShowdownProb[5516] = 0.8080475F;
-		relShowdownProb[5517] = 0.6060356F;
-		relShowdownProb[5518] = 0.8170258F;
-		relShowdownProb[5519] = 0.9042436F;
-		relShowdownProb[5520] = 0.88500434F;
-		relShowdownProb[5521] = 0.9539449F;
-		relShowdownProb[5522] = 1.0025774F;
-		relShowdownProb[5528] = 0.5386983F;
-		relShowdownProb[5531] = 0.26934916F;
-		relShowdownProb[5532] = 0.3591322F;
-		relShowdownProb[5535] = 0.40402374F;
-		relShowdownProb[5536] = 0.3591322F;
-		relShowdownProb[5537] = 0.69581866F;
-		relShowdownProb[5540] = 0.26934916F;
-		relShowdownProb[5541] = 0.3142407F;
-		relShowdownProb[5542] = 0.5386983F;
-		relShowdownProb[5543] = 0.7407102F;
-		relShowdownProb[5546] = 0.5386983F;
-		relShowdownProb[5547] = 0.3591322F;
-		relShowdownProb[5548] = 0.471361F;
-		relShowdownProb[5549] = 0.6060356F;
-		relShowdownProb[5550] = 0.71185136F;
-		relShowdownProb[5553] = 0.26934916F;
-		relShowdownProb[5554] = 0.40402374F;
-		relShowdownProb[5555] = 0.33668643F;
-		relShowdownProb[5556] = 0.5252308F;
-		relShowdownProb[5557] = 0.7272427F;
-		relShowdownProb[5558] = 0.7003078F;
-		relShowdownProb[5561] = 0.26934916F;
-		relShowdownProb[5562] = 0.3591322F;
-		relShowdownProb[5563] = 0.5386983F;
-		relShowdownProb[5564] = 0.4174912F;
-		relShowdownProb[5565] = 0.58358985F;
-		relShowdownProb[5566] = 0.73750365F;
-		relShowdownProb[5567] = 0.84795105F;
-		relShowdownProb[5570] = 0.26934916F;
-		relShowdownProb[5571] = 0.49380678F;
-		relShowdownProb[5572] = 0.4264695F;
-		relShowdownProb[5573] = 0.45789355F;
-		relShowdownProb[5574] = 0.7003078F;
-		relShowdownProb[5575] = 0.8272867F;
-		relShowdownProb[5576] = 0.86095536F;
-		relShowdownProb[5577] = 1.0119833F;
-		relShowdownProb[5580] = 0.8080475F;
-		relShowdownProb[5581] = 0.6284814F;
-		relShowdownProb[5582] = 0.76315594F;
-		relShowdownProb[5583] = 0.8484498F;
-		relShowdownProb[5584] = 0.96067864F;
-		relShowdownProb[5585] = 0.8721782F;
-		relShowdownProb[5586] = 1.0244888F;
-		relShowdownProb[5587] = 1.0250232F;
-		relShowdownProb[5588] = 1.3253202F;
-		relShowdownProb[5594] = 0.26934916F;
-		relShowdownProb[5597] = 0.26934916F;
-		relShowdownProb[5598] = 0.6284814F;
-		relShowdownProb[5601] = 0.942722F;
-		relShowdownProb[5602] = 0.40402374F;
-		relShowdownProb[5603] = 0.8080475F;
-		relShowdownProb[5606] = 0.40402374F;
-		relShowdownProb[5607] = 0.49380678F;
-		relShowdownProb[5608] = 0.6060356F;
-		relShowdownProb[5609] = 0.5117634F;
-		relShowdownProb[5612] = 0.40402374F;
-		relShowdownProb[5613] = 0.852939F;
-		relShowdownProb[5614] = 0.38157797F;
-		relShowdownProb[5615] = 0.646438F;
-		relShowdownProb[5616] = 0.6913295F;
-		relShowdownProb[5619] = 0.40402374F;
-		relShowdownProb[5620] = 0.6284814F;
-		relShowdownProb[5621] = 0.6284814F;
-		relShowdownProb[5622] = 0.57910067F;
-		relShowdownProb[5623] = 0.65541625F;
-		relShowdownProb[5624] = 0.77437884F;
-		relShowdownProb[5627] = 0.67337286F;
-		relShowdownProb[5628] = 0.49380678F;
-		relShowdownProb[5629] = 0.7182644F;
-		relShowdownProb[5630] = 0.67337286F;
-		relShowdownProb[5631] = 0.7182644F;
-		relShowdownProb[5632] = 0.7759821F;
-		relShowdownProb[5633] = 1.0075654F;
-		relShowdownProb[5636] = 0.67337286F;
-		relShowdownProb[5637] = 0.76315594F;
-		relShowdownProb[5638] = 0.6509271F;
-		relShowdownProb[5639] = 0.79458F;
-		relShowdownProb[5640] = 0.55665493F;
-		relShowdownProb[5641] = 0.7503298F;
-		relShowdownProb[5642] = 1.0581574F;
-		relShowdownProb[5643] = 1.0158311F;
-		relShowdownProb[5646] = 0.8080475F;
-		relShowdownProb[5647] = 0.7182644F;
-		relShowdownProb[5648] = 0.87538475F;
-		relShowdownProb[5649] = 0.7272427F;
-		relShowdownProb[5650] = 0.96067864F;
-		relShowdownProb[5651] = 0.83369976F;
-		relShowdownProb[5652] = 0.88500434F;
-		relShowdownProb[5653] = 1.1035833F;
-		relShowdownProb[5654] = 1.1784025F;
-		relShowdownProb[5660] = 0.40402374F;
-		relShowdownProb[5663] = 0.13467458F;
-		relShowdownProb[5664] = 0.8080475F;
-		relShowdownProb[5667] = 0.26934916F;
-		relShowdownProb[5668] = 0.3142407F;
-		relShowdownProb[5669] = 0.5386983F;
-		relShowdownProb[5672] = 0.40402374F;
-		relShowdownProb[5673] = 0.58358985F;
-		relShowdownProb[5674] = 0.7182644F;
-		relShowdownProb[5675] = 0.67337286F;
-		relShowdownProb[5678] = 0.40402374F;
-		relShowdownProb[5679] = 0.3142407F;
-		relShowdownProb[5680] = 0.44891527F;
-		relShowdownProb[5681] = 0.56563324F;
-		relShowdownProb[5682] = 0.6284814F;
-		relShowdownProb[5685] = 0.67337286F;
-		relShowdownProb[5686] = 0.40402374F;
-		relShowdownProb[5687] = 0.6509271F;
-		relShowdownProb[5688] = 0.45789355F;
-		relShowdownProb[5689] = 0.7003078F;
-		relShowdownProb[5690] = 0.76956904F;
-		relShowdownProb[5693] = 0.67337286F;
-		relShowdownProb[5694] = 0.852939F;
-		relShowdownProb[5695] = 0.58358985F;
-		relShowdownProb[5696] = 0.68684036F;
-		relShowdownProb[5697] = 0.66439456F;
-		relShowdownProb[5698] = 0.7246775F;
-		relShowdownProb[5699] = 0.8778787F;
-		relShowdownProb[5702] = 0.5386983F;
-		relShowdownProb[5703] = 0.6284814F;
-		relShowdownProb[5704] = 0.7182644F;
-		relShowdownProb[5705] = 0.7137753F;
-		relShowdownProb[5706] = 0.6913295F;
-		relShowdownProb[5707] = 0.71185136F;
-		relShowdownProb[5708] = 1.019679F;
-		relShowdownProb[5709] = 1.0966358F;
-		relShowdownProb[5712] = 0.8080475F;
-		relShowdownProb[5713] = 0.58358985F;
-		relShowdownProb[5714] = 1.0773966F;
-		relShowdownProb[5715] = 0.8349824F;
-		relShowdownProb[5716] = 0.78111255F;
-		relShowdownProb[5717] = 0.89141744F;
-		relShowdownProb[5718] = 1.0533476F;
-		relShowdownProb[5719] = 1.0886195F;
-		relShowdownProb[5720] = 1.2488006F;
-		relShowdownProb[5726] = 1.3467457F;
-		relShowdownProb[5729] = 0.67337286F;
-		relShowdownProb[5730] = 0.6284814F;
-		relShowdownProb[5733] = 0.26934916F;
-		relShowdownProb[5734] = 0.44891527F;
-		relShowdownProb[5735] = 0.6060356F;
-		relShowdownProb[5738] = 0.67337286F;
-		relShowdownProb[5739] = 0.6284814F;
-		relShowdownProb[5740] = 0.76315594F;
-		relShowdownProb[5741] = 0.40402374F;
-		relShowdownProb[5744] = 0.13467458F;
-		relShowdownProb[5745] = 0.67337286F;
-		relShowdownProb[5746] = 0.5386983F;
-		relShowdownProb[5747] = 0.6195031F;
-		relShowdownProb[5748] = 0.66439456F;
-		relShowdownProb[5751] = 0.67337286F;
-		relShowdownProb[5752] = 0.44891527F;
-		relShowdownProb[5753] = 0.5386983F;
-		relShowdownProb[5754] = 0.6329705F;
-		relShowdownProb[5755] = 0.9247654F;
-		relShowdownProb[5756] = 0.67337286F;
-		relShowdownProb[5759] = 0.40402374F;
-		relShowdownProb[5760] = 0.76315594F;
-		relShowdownProb[5761] = 0.69581866F;
-		relShowdownProb[5762] = 0.48482847F;
-		relShowdownProb[5763] = 0.7451993F;
-		relShowdownProb[5764] = 0.7503298F;
-		relShowdownProb[5765] = 1.0004398F;
-		relShowdownProb[5768] = 0.8080475F;
-		relShowdownProb[5769] = 0.76315594F;
-		relShowdownProb[5770] = 0.56114405F;
-		relShowdownProb[5771] = 0.6195031F;
-		relShowdownProb[5772] = 0.78111255F;
-		relShowdownProb[5773] = 0.7823952F;
-		relShowdownProb[5774] = 0.96196127F;
-		relShowdownProb[5775] = 1.1582013F;
-		relShowdownProb[5778] = 0.942722F;
-		relShowdownProb[5779] = 0.76315594F;
-		relShowdownProb[5780] = 0.67337286F;
-		relShowdownProb[5781] = 0.8484498F;
-		relShowdownProb[5782] = 0.9247654F;
-		relShowdownProb[5783] = 0.7567429F;
-		relShowdownProb[5784] = 1.2120712F;
-		relShowdownProb[5785] = 1.3018543F;
-		relShowdownProb[5786] = 1.3345026F;
-		relShowdownProb[5795] = 0.8080475F;
-		relShowdownProb[5796] = 1.0773966F;
-		relShowdownProb[5799] = 0.942722F;
-		relShowdownProb[5800] = 1.0325052F;
-		relShowdownProb[5801] = 0.76315594F;
-		relShowdownProb[5804] = 1.0773966F;
-		relShowdownProb[5805] = 0.89783055F;
-		relShowdownProb[5806] = 0.98761356F;
-		relShowdownProb[5807] = 1.0235268F;
-		relShowdownProb[5810] = 1.2120712F;
-		relShowdownProb[5811] = 0.852939F;
-		relShowdownProb[5812] = 0.942722F;
-		relShowdownProb[5813] = 0.88885224F;
-		relShowdownProb[5814] = 1.0325052F;
-		relShowdownProb[5817] = 1.0773966F;
-		relShowdownProb[5818] = 1.0325052F;
-		relShowdownProb[5819] = 1.1447339F;
-		relShowdownProb[5820] = 0.8215149F;
-		relShowdownProb[5821] = 1.1043315F;
-		relShowdownProb[5822] = 1.0132658F;
-		relShowdownProb[5825] = 1.4814204F;
-		relShowdownProb[5826] = 1.4365288F;
-		relShowdownProb[5827] = 0.76315594F;
-		relShowdownProb[5828] = 0.8349824F;
-		relShowdownProb[5829] = 1.0145485F;
-		relShowdownProb[5830] = 0.936309F;
-		relShowdownProb[5831] = 1.0629672F;
-		relShowdownProb[5834] = 0.67337286F;
-		relShowdownProb[5835] = 0.852939F;
-		relShowdownProb[5836] = 0.76315594F;
-		relShowdownProb[5837] = 0.7003078F;
-		relShowdownProb[5838] = 1.0235268F;
-		relShowdownProb[5839] = 0.9683744F;
-		relShowdownProb[5840] = 0.96196127F;
-		relShowdownProb[5841] = 1.0923605F;
-		relShowdownProb[5844] = 0.942722F;
-		relShowdownProb[5845] = 1.1222881F;
-		relShowdownProb[5846] = 1.2794085F;
-		relShowdownProb[5847] = 0.9292546F;
-		relShowdownProb[5848] = 1.0953532F;
-		relShowdownProb[5849] = 1.1735928F;
-		relShowdownProb[5850] = 1.1110653F;
-		relShowdownProb[5851] = 1.2943723F;
-		relShowdownProb[5852] = 1.4049007F;
-		relShowdownProb[5853] = 0.60607755F;
-		relShowdownProb[5854] = 0.4455257F;
-		relShowdownProb[5855] = 0.50784963F;
-		relShowdownProb[5856] = 0.5376567F;
-		relShowdownProb[5857] = 0.5913998F;
-		relShowdownProb[5858] = 0.6422074F;
-		relShowdownProb[5859] = 0.69956344F;
-		relShowdownProb[5860] = 0.75782275F;
-		relShowdownProb[5861] = 0.7544356F;
-		relShowdownProb[5862] = 0.907414F;
-		relShowdownProb[5863] = 0.6437481F;
-		relShowdownProb[5864] = 0.4598201F;
-		relShowdownProb[5865] = 0.8736582F;
-		relShowdownProb[5866] = 0.5977661F;
-		relShowdownProb[5867] = 0.9196402F;
-		relShowdownProb[5868] = 0.5517841F;
-		relShowdownProb[5869] = 0.7816941F;
-		relShowdownProb[5870] = 0.7816941F;
-		relShowdownProb[5871] = 0.8736582F;
-		relShowdownProb[5872] = 0.5058021F;
-		relShowdownProb[5873] = 0.8276762F;
-		relShowdownProb[5874] = 0.9196402F;
-		relShowdownProb[5875] = 0.480512F;
-		relShowdownProb[5876] = 0.5058021F;
-		relShowdownProb[5877] = 0.8276762F;
-		relShowdownProb[5878] = 0.7862923F;
-		relShowdownProb[5879] = 0.7357121F;
-		relShowdownProb[5880] = 1.397853F;
-		relShowdownProb[5881] = 0.36785606F;
-		relShowdownProb[5882] = 0.9196402F;
-		relShowdownProb[5883] = 0.5977661F;
-		relShowdownProb[5884] = 0.5517841F;
-		relShowdownProb[5885] = 1.1495502F;
-		relShowdownProb[5886] = 0.7357121F;
-		relShowdownProb[5887] = 0.4138381F;
-		relShowdownProb[5888] = 0.5517841F;
-		relShowdownProb[5889] = 1.397853F;
-		relShowdownProb[5890] = 0.6897301F;
-		relShowdownProb[5891] = 0.6437481F;
-		relShowdownProb[5892] = 1.1357557F;
-		relShowdownProb[5893] = 0.5058021F;
-		relShowdownProb[5894] = 0.65524364F;
-		relShowdownProb[5895] = 1.2231214F;
-		relShowdownProb[5896] = 0.7816941F;
-		relShowdownProb[5897] = 0.6437481F;
-		relShowdownProb[5898] = 0.7357121F;
-		relShowdownProb[5899] = 0.82997525F;
-		relShowdownProb[5900] = 0.6897301F;
-		relShowdownProb[5901] = 1.0575862F;
-		relShowdownProb[5902] = 0.8736582F;
-		relShowdownProb[5903] = 0.5058021F;
-		relShowdownProb[5904] = 0.74260944F;
-		relShowdownProb[5905] = 0.62404156F;
-		relShowdownProb[5906] = 0.8736582F;
-		relShowdownProb[5907] = 0.5977661F;
-		relShowdownProb[5908] = 0.7862923F;
-		relShowdownProb[5909] = 1.0116042F;
-		relShowdownProb[5910] = 0.74260944F;
-		relShowdownProb[5911] = 1.0803529F;
-		relShowdownProb[5912] = 0.8276762F;
-		relShowdownProb[5913] = 0.5241949F;
-		relShowdownProb[5914] = 1.0803529F;
-		relShowdownProb[5915] = 0.8736582F;
-		relShowdownProb[5916] = 0.4598201F;
-		relShowdownProb[5917] = 0.5517841F;
-		relShowdownProb[5918] = 0.4598201F;
-		relShowdownProb[5919] = 0.6437481F;
-		relShowdownProb[5920] = 0.6437481F;
-		relShowdownProb[5921] = 0.5977661F;
-		relShowdownProb[5922] = 0.5977661F;
-		relShowdownProb[5923] = 0.5241949F;
-		relShowdownProb[5924] = 0.6897301F;
-		relShowdownProb[5925] = 1.0116042F;
-		relShowdownProb[5926] = 0.65524364F;
-		relShowdownProb[5927] = 0.6897301F;
-		relShowdownProb[5928] = 0.961024F;
-		relShowdownProb[5929] = 0.7862923F;
-		relShowdownProb[5930] = 0.8276762F;
-		relShowdownProb[5931] = 0.9656222F;
-		relShowdownProb[5932] = 0.8276762F;
-		relShowdownProb[5933] = 0.74260944F;
-		relShowdownProb[5934] = 0.6437481F;
-		relShowdownProb[5935] = 0.4598201F;
-		relShowdownProb[5936] = 1.2231214F;
-		relShowdownProb[5937] = 0.4598201F;
-		relShowdownProb[5938] = 1.1794385F;
-		relShowdownProb[5939] = 0.7904526F;
-		relShowdownProb[5940] = 1.2415142F;
-		relShowdownProb[5941] = 0.6437481F;
-		relShowdownProb[5942] = 0.65524364F;
-		relShowdownProb[5943] = 0.9656222F;
-		relShowdownProb[5944] = 0.65524364F;
-		relShowdownProb[5945] = 1.0803529F;
-		relShowdownProb[5946] = 1.0116042F;
-		relShowdownProb[5947] = 0.6989265F;
-		relShowdownProb[5948] = 0.91414475F;
-		relShowdownProb[5949] = 1.0803529F;
-		relShowdownProb[5950] = 0.9196402F;
-		relShowdownProb[5951] = 0.7816941F;
-		relShowdownProb[5952] = 0.8736582F;
-		relShowdownProb[5953] = 0.74260944F;
-		relShowdownProb[5954] = 0.7357121F;
-		relShowdownProb[5955] = 1.1495502F;
-		relShowdownProb[5956] = 1.0483898F;
-		relShowdownProb[5957] = 0.7816941F;
-		relShowdownProb[5958] = 1.2231214F;
-		relShowdownProb[5959] = 1.081672F;
-		relShowdownProb[5960] = 0.6437481F;
-		relShowdownProb[5961] = 0.5058021F;
-		relShowdownProb[5962] = 0.8736582F;
-		relShowdownProb[5963] = 0.8276762F;
-		relShowdownProb[5964] = 0.82997525F;
-		relShowdownProb[5965] = 0.66483253F;
-		relShowdownProb[5966] = 0.5977661F;
-		relShowdownProb[5967] = 0.5678778F;
-		relShowdownProb[5968] = 0.87259275F;
-		relShowdownProb[5969] = 1.3866783F;
-		relShowdownProb[5970] = 0.9656222F;
-		relShowdownProb[5971] = 0.5517841F;
-		relShowdownProb[5972] = 0.7862923F;
-		relShowdownProb[5973] = 0.8736582F;
-		relShowdownProb[5974] = 0.74260944F;
-		relShowdownProb[5975] = 0.87259275F;
-		relShowdownProb[5976] = 0.7816941F;
-		relShowdownProb[5977] = 0.91734105F;
-		relShowdownProb[5978] = 1.205009F;
-		relShowdownProb[5979] = 1.4246411F;
-		relShowdownProb[5980] = 0.7357121F;
-		relShowdownProb[5981] = 0.8736582F;
-		relShowdownProb[5982] = 0.45707238F;
-		relShowdownProb[5983] = 1.187201F;
-		relShowdownProb[5984] = 0.5058021F;
-		relShowdownProb[5985] = 0.5977661F;
-		relShowdownProb[5986] = 0.9196402F;
-		relShowdownProb[5987] = 0.7357121F;
-		relShowdownProb[5988] = 0.7816941F;
-		relShowdownProb[5989] = 0.5977661F;
-		relShowdownProb[5990] = 0.6437481F;
-		relShowdownProb[5991] = 1.1955322F;
-		relShowdownProb[5992] = 0.7862923F;
-		relShowdownProb[5993] = 0.6437481F;
-		relShowdownProb[5994] = 0.6897301F;
-		relShowdownProb[5995] = 0.74260944F;
-		relShowdownProb[5996] = 0.8736582F;
-		relShowdownProb[5997] = 0.7862923F;
-		relShowdownProb[5998] = 0.961024F;
-		relShowdownProb[5999] = 0.5517841F;
-		relShowdownProb[6000] = 0.5517841F;
-		relShowdownProb[6001] = 0.5977661F;
-		relShowdownProb[6002] = 0.82997525F;
-		relShowdownProb[6003] = 0.9196402F;
-		relShowdownProb[6004] = 0.8736582F;
-		relShowdownProb[6005] = 0.6989265F;
-		relShowdownProb[6006] = 0.6897301F;
-		relShowdownProb[6007] = 0.74260944F;
-		relShowdownProb[6008] = 0.9984665F;
-		relShowdownProb[6009] = 0.8276762F;
-		relShowdownProb[6010] = 0.8276762F;
-		relShowdownProb[6011] = 0.6989265F;
-		relShowdownProb[6012] = 0.8736582F;
-		relShowdownProb[6013] = 0.65524364F;
-		relShowdownProb[6014] = 0.7894887F;
-		relShowdownProb[6015] = 0.7816941F;
-		relShowdownProb[6016] = 0.7862923F;
-		relShowdownProb[6017] = 0.7894887F;
-		relShowdownProb[6018] = 0.4986244F;
-		relShowdownProb[6019] = 0.6897301F;
-		relShowdownProb[6020] = 0.8736582F;
-		relShowdownProb[6021] = 0.6437481F;
-		relShowdownProb[6022] = 0.8736582F;
-		relShowdownProb[6023] = 0.8276762F;
-		relShowdownProb[6024] = 0.9196402F;
-		relShowdownProb[6025] = 0.7862923F;
-		relShowdownProb[6026] = 1.2874962F;
-		relShowdownProb[6027] = 0.82997525F;
-		relShowdownProb[6028] = 0.8320554F;
-		relShowdownProb[6029] = 0.5977661F;
-		relShowdownProb[6030] = 0.32187405F;
-		relShowdownProb[6031] = 0.91734105F;
-		relShowdownProb[6032] = 0.7816941F;
-		relShowdownProb[6033] = 0.6989265F;
-		relShowdownProb[6034] = 0.9556968F;
-		relShowdownProb[6035] = 0.5517841F;
-		relShowdownProb[6036] = 0.21841455F;
-		relShowdownProb[6037] = 1.4127692F;
-		relShowdownProb[6038] = 1.1093427F;
-		relShowdownProb[6039] = 0.6897301F;
-		relShowdownProb[6040] = 0.8276762F;
-		relShowdownProb[6041] = 0.5678778F;
-		relShowdownProb[6042] = 0.7357121F;
-		relShowdownProb[6043] = 0.65524364F;
-		relShowdownProb[6044] = 0.4986244F;
-		relShowdownProb[6045] = 0.9656222F;
-		relShowdownProb[6046] = 0.8736582F;
-		relShowdownProb[6047] = 0.87259275F;
-		relShowdownProb[6048] = 0.87061405F;
-		relShowdownProb[6049] = 0.8276762F;
-		relShowdownProb[6050] = 0.961024F;
-		relShowdownProb[6051] = 0.87259275F;
-		relShowdownProb[6052] = 0.7914673F;
-		relShowdownProb[6053] = 1.0684808F;
-		relShowdownProb[6054] = 0.5977661F;
-		relShowdownProb[6055] = 0.5517841F;
-		relShowdownProb[6056] = 0.9196402F;
-		relShowdownProb[6057] = 1.1794385F;
-		relShowdownProb[6058] = 0.7816941F;
-		relShowdownProb[6059] = 0.8736582F;
-		relShowdownProb[6060] = 0.5678778F;
-		relShowdownProb[6061] = 0.5977661F;
-		relShowdownProb[6062] = 1.0047069F;
-		relShowdownProb[6063] = 0.62404156F;
-		relShowdownProb[6064] = 0.5977661F;
-		relShowdownProb[6065] = 0.9196402F;
-		relShowdownProb[6066] = 1.0483898F;
-		relShowdownProb[6067] = 0.8276762F;
-		relShowdownProb[6068] = 0.8736582F;
-		relShowdownProb[6069] = 0.9556968F;
-		relShowdownProb[6070] = 1.1495502F;
-		relShowdownProb[6071] = 0.8736582F;
-		relShowdownProb[6072] = 0.9556968F;
-		relShowdownProb[6073] = 1.1885815F;
-		relShowdownProb[6074] = 0.8276762F;
-		relShowdownProb[6075] = 0.5058021F;
-		relShowdownProb[6076] = 0.91734105F;
-		relShowdownProb[6077] = 1.0116042F;
-		relShowdownProb[6078] = 0.74260944F;
-		relShowdownProb[6079] = 1.0388008F;
-		relShowdownProb[6080] = 0.9196402F;
-		relShowdownProb[6081] = 0.5241949F;
-		relShowdownProb[6082] = 1.0388008F;
-		relShowdownProb[6083] = 1.1080543F;
-		relShowdownProb[6084] = 0.8736582F;
-		relShowdownProb[6085] = 0.961024F;
-		relShowdownProb[6086] = 0.87259275F;
-		relShowdownProb[6087] = 1.0684808F;
-		relShowdownProb[6088] = 0.7932661F;
-		relShowdownProb[6089] = 0.8736582F;
-		relShowdownProb[6090] = 0.9196402F;
-		relShowdownProb[6091] = 0.82997525F;
-		relShowdownProb[6092] = 0.7357121F;
-		relShowdownProb[6093] = 0.91734105F;
-		relShowdownProb[6094] = 0.87259275F;
-		relShowdownProb[6095] = 0.8736582F;
-		relShowdownProb[6096] = 0.91734105F;
-		relShowdownProb[6097] = 0.8310407F;
-		relShowdownProb[6098] = 1.1476276F;
-		relShowdownProb[6099] = 0.8736582F;
-		relShowdownProb[6100] = 1.0047069F;
-		relShowdownProb[6101] = 1.246561F;
-		relShowdownProb[6102] = 0.87061405F;
-		relShowdownProb[6103] = 0.9810513F;
-		relShowdownProb[6104] = 1.1035682F;
-		relShowdownProb[6105] = 1.2231214F;
-		relShowdownProb[6106] = 0.58172846F;
-		relShowdownProb[6107] = 0.8310407F;
-		relShowdownProb[6108] = 0.7546549F;
-		relShowdownProb[6109] = 1.1035682F;
-		relShowdownProb[6110] = 0.5977661F;
-		relShowdownProb[6111] = 0.5977661F;
-		relShowdownProb[6112] = 0.5977661F;
-		relShowdownProb[6113] = 0.9656222F;
-		relShowdownProb[6114] = 0.6437481F;
-		relShowdownProb[6115] = 0.6897301F;
-		relShowdownProb[6116] = 0.6437481F;
-		relShowdownProb[6117] = 1.0047069F;
-		relShowdownProb[6118] = 0.5058021F;
-		relShowdownProb[6119] = 0.5058021F;
-		relShowdownProb[6120] = 0.7862923F;
-		relShowdownProb[6121] = 0.8276762F;
-		relShowdownProb[6122] = 0.82997525F;
-		relShowdownProb[6123] = 0.82997525F;
-		relShowdownProb[6124] = 0.8276762F;
-		relShowdownProb[6125] = 0.4598201F;
-		relShowdownProb[6126] = 0.6897301F;
-		relShowdownProb[6127] = 0.6989265F;
-		relShowdownProb[6128] = 0.4598201F;
-		relShowdownProb[6129] = 0.6897301F;
-		relShowdownProb[6130] = 0.91734105F;
-		relShowdownProb[6131] = 0.5517841F;
-		relShowdownProb[6132] = 0.7862923F;
-		relShowdownProb[6133] = 0.9568637F;
-		relShowdownProb[6134] = 0.8276762F;
-		relShowdownProb[6135] = 0.4598201F;
-		relShowdownProb[6136] = 0.6989265F;
-		relShowdownProb[6137] = 0.5058021F;
-		relShowdownProb[6138] = 0.6115607F;
-		relShowdownProb[6139] = 1.0803529F;
-		relShowdownProb[6140] = 0.6437481F;
-		relShowdownProb[6141] = 0.65524364F;
-		relShowdownProb[6142] = 0.9972488F;
-		relShowdownProb[6143] = 1.205009F;
-		relShowdownProb[6144] = 0.5977661F;
-		relShowdownProb[6145] = 1.1955322F;
-		relShowdownProb[6146] = 0.4138381F;
-		relShowdownProb[6147] = 0.74260944F;
-		relShowdownProb[6148] = 0.6437481F;
-		relShowdownProb[6149] = 0.32187405F;
-		relShowdownProb[6150] = 0.65524364F;
-		relShowdownProb[6151] = 0.7816941F;
-		relShowdownProb[6152] = 0.82997525F;
-		relShowdownProb[6153] = 1.0400692F;
-		relShowdownProb[6154] = 0.4138381F;
-		relShowdownProb[6155] = 0.6897301F;
-		relShowdownProb[6156] = 0.39314616F;
-		relShowdownProb[6157] = 0.9196402F;
-		relShowdownProb[6158] = 0.961024F;
-		relShowdownProb[6159] = 0.9556968F;
-		relShowdownProb[6160] = 0.8736582F;
-		relShowdownProb[6161] = 1.5289018F;
-		relShowdownProb[6162] = 1.0803529F;
-		relShowdownProb[6163] = 0.832007F;
-		relShowdownProb[6164] = 0.7816941F;
-		relShowdownProb[6165] = 0.5977661F;
-		relShowdownProb[6166] = 0.65524364F;
-		relShowdownProb[6167] = 0.4138381F;
-		relShowdownProb[6168] = 0.8736582F;
-		relShowdownProb[6169] = 0.91414475F;
-		relShowdownProb[6170] = 0.7357121F;
-		relShowdownProb[6171] = 1.0483898F;
-		relShowdownProb[6172] = 1.121905F;
-		relShowdownProb[6173] = 0.9497608F;
-		relShowdownProb[6174] = 0.7357121F;
-		relShowdownProb[6175] = 1.0483898F;
-		relShowdownProb[6176] = 0.58172846F;
-		relShowdownProb[6177] = 0.9497608F;
-		relShowdownProb[6178] = 1.187201F;
-		relShowdownProb[6179] = 0.5058021F;
-		relShowdownProb[6180] = 0.5977661F;
-		relShowdownProb[6181] = 0.7816941F;
-		relShowdownProb[6182] = 0.5678778F;
-		relShowdownProb[6183] = 0.6897301F;
-		relShowdownProb[6184] = 0.5517841F;
-		relShowdownProb[6185] = 0.5241949F;
-		relShowdownProb[6186] = 0.6437481F;
-		relShowdownProb[6187] = 0.7862923F;
-		relShowdownProb[6188] = 0.9984665F;
-		relShowdownProb[6189] = 0.7357121F;
-		relShowdownProb[6190] = 0.36785606F;
-		relShowdownProb[6191] = 0.7862923F;
-		relShowdownProb[6192] = 0.7357121F;
-		relShowdownProb[6193] = 0.82997525F;
-		relShowdownProb[6194] = 0.8310407F;
-		relShowdownProb[6195] = 0.8276762F;
-		relShowdownProb[6196] = 1.2668043F;
-		relShowdownProb[6197] = 0.66483253F;
-		relShowdownProb[6198] = 1.3074396F;
-		relShowdownProb[6199] = 0.32187405F;
-		relShowdownProb[6200] = 1.0575862F;
-		relShowdownProb[6201] = 0.74260944F;
-		relShowdownProb[6202] = 0.8736582F;
-		relShowdownProb[6203] = 0.6989265F;
-		relShowdownProb[6204] = 0.9972488F;
-		relShowdownProb[6205] = 0.5058021F;
-		relShowdownProb[6206] = 0.6115607F;
-		relShowdownProb[6207] = 0.87259275F;
-		relShowdownProb[6208] = 0.87061405F;
-		relShowdownProb[6209] = 1.0116042F;
-		relShowdownProb[6210] = 0.82997525F;
-		relShowdownProb[6211] = 0.8310407F;
-		relShowdownProb[6212] = 1.5037879F;
-		relShowdownProb[6213] = 1.246561F;
-		relShowdownProb[6214] = 0.8736582F;
-		relShowdownProb[6215] = 0.7816941F;
-		relShowdownProb[6216] = 0.6989265F;
-		relShowdownProb[6217] = 1.2415142F;
-		relShowdownProb[6218] = 1.3104873F;
-		relShowdownProb[6219] = 0.7894887F;
-		relShowdownProb[6220] = 0.7357121F;
-		relShowdownProb[6221] = 0.82997525F;
-		relShowdownProb[6222] = 1.121905F;
-		relShowdownProb[6223] = 1.0289075F;
-		relShowdownProb[6224] = 0.9656222F;
-		relShowdownProb[6225] = 1.1357557F;
-		relShowdownProb[6226] = 0.6232805F;
-		relShowdownProb[6227] = 1.3059211F;
-		relShowdownProb[6228] = 1.2074478F;
-		relShowdownProb[6229] = 0.9196402F;
-		relShowdownProb[6230] = 0.91734105F;
-		relShowdownProb[6231] = 1.0803529F;
-		relShowdownProb[6232] = 1.1080543F;
-		relShowdownProb[6233] = 1.1319823F;
-		relShowdownProb[6234] = 0.6791894F;
-		relShowdownProb[6235] = 0.8736582F;
-		relShowdownProb[6236] = 0.5977661F;
-		relShowdownProb[6237] = 1.0116042F;
-		relShowdownProb[6238] = 0.5678778F;
-		relShowdownProb[6239] = 0.5977661F;
-		relShowdownProb[6240] = 0.5977661F;
-		relShowdownProb[6241] = 0.91734105F;
-		relShowdownProb[6242] = 0.6897301F;
-		relShowdownProb[6243] = 0.8736582F;
-		relShowdownProb[6244] = 0.8320554F;
-		relShowdownProb[6245] = 0.7357121F;
-		relShowdownProb[6246] = 0.5977661F;
-		relShowdownProb[6247] = 1.2668043F;
-		relShowdownProb[6248] = 0.6437481F;
-		relShowdownProb[6249] = 1.441536F;
-		relShowdownProb[6250] = 0.7894887F;
-		relShowdownProb[6251] = 0.8276762F;
-		relShowdownProb[6252] = 0.7862923F;
-		relShowdownProb[6253] = 0.7063846F;
-		relShowdownProb[6254] = 0.6339101F;
-		relShowdownProb[6255] = 0.5977661F;
-		relShowdownProb[6256] = 0.4598201F;
-		relShowdownProb[6257] = 0.39314616F;
-		relShowdownProb[6258] = 0.7357121F;
-		relShowdownProb[6259] = 0.6989265F;
-		relShowdownProb[6260] = 0.87259275F;
-		relShowdownProb[6261] = 0.5517841F;
-		relShowdownProb[6262] = 0.5678778F;
-		relShowdownProb[6263] = 0.9556968F;
-		relShowdownProb[6264] = 1.2663478F;
-		relShowdownProb[6265] = 0.7357121F;
-		relShowdownProb[6266] = 0.6989265F;
-		relShowdownProb[6267] = 0.8310407F;
-		relShowdownProb[6268] = 0.9101874F;
-		relShowdownProb[6269] = 0.8310407F;
-		relShowdownProb[6270] = 1.1955322F;
-		relShowdownProb[6271] = 0.8276762F;
-		relShowdownProb[6272] = 0.91734105F;
-		relShowdownProb[6273] = 0.6437481F;
-		relShowdownProb[6274] = 0.961024F;
-		relShowdownProb[6275] = 0.9556968F;
-		relShowdownProb[6276] = 0.7357121F;
-		relShowdownProb[6277] = 0.7862923F;
-		relShowdownProb[6278] = 1.3712171F;
-		relShowdownProb[6279] = 1.3059211F;
-		relShowdownProb[6280] = 0.7816941F;
-		relShowdownProb[6281] = 0.82997525F;
-		relShowdownProb[6282] = 1.0803529F;
-		relShowdownProb[6283] = 1.3059211F;
-		relShowdownProb[6284] = 0.9810513F;
-		relShowdownProb[6285] = 0.8736582F;
-		relShowdownProb[6286] = 0.91734105F;
-		relShowdownProb[6287] = 0.87259275F;
-		relShowdownProb[6288] = 0.87061405F;
-		relShowdownProb[6289] = 1.1319823F;
-		relShowdownProb[6290] = 1.2258949F;
-		relShowdownProb[6291] = 0.9196402F;
-		relShowdownProb[6292] = 0.32187405F;
-		relShowdownProb[6293] = 1.0047069F;
-		relShowdownProb[6294] = 0.7816941F;
-		relShowdownProb[6295] = 1.0047069F;
-		relShowdownProb[6296] = 0.9556968F;
-		relShowdownProb[6297] = 0.5517841F;
-		relShowdownProb[6298] = 0.82997525F;
-		relShowdownProb[6299] = 0.54017645F;
-		relShowdownProb[6300] = 1.3059211F;
-		relShowdownProb[6301] = 1.0116042F;
-		relShowdownProb[6302] = 0.82997525F;
-		relShowdownProb[6303] = 0.58172846F;
-		relShowdownProb[6304] = 1.2267743F;
-		relShowdownProb[6305] = 1.0565169F;
-		relShowdownProb[6306] = 0.8736582F;
-		relShowdownProb[6307] = 1.0483898F;
-		relShowdownProb[6308] = 1.2881131F;
-		relShowdownProb[6309] = 0.6727472F;
-		relShowdownProb[6310] = 0.8678531F;
-		relShowdownProb[6311] = 0.82840526F;
-		relShowdownProb[6312] = 0.8276762F;
-		relShowdownProb[6313] = 0.6989265F;
-		relShowdownProb[6314] = 0.7894887F;
-		relShowdownProb[6315] = 1.3454944F;
-		relShowdownProb[6316] = 1.2074478F;
-		relShowdownProb[6317] = 0.9004405F;
-		relShowdownProb[6318] = 0.5058021F;
-		relShowdownProb[6319] = 0.7816941F;
-		relShowdownProb[6320] = 0.5977661F;
-		relShowdownProb[6321] = 0.7357121F;
-		relShowdownProb[6322] = 0.5517841F;
-		relShowdownProb[6323] = 0.5058021F;
-		relShowdownProb[6324] = 0.6897301F;
-		relShowdownProb[6325] = 0.7816941F;
-		relShowdownProb[6326] = 0.91734105F;
-		relShowdownProb[6327] = 0.5058021F;
-		relShowdownProb[6328] = 0.8736582F;
-		relShowdownProb[6329] = 0.65524364F;
-		relShowdownProb[6330] = 0.7816941F;
-		relShowdownProb[6331] = 0.5241949F;
-		relShowdownProb[6332] = 1.1357557F;
-		relShowdownProb[6333] = 1.0575862F;
-		relShowdownProb[6334] = 0.8736582F;
-		relShowdownProb[6335] = 0.6437481F;
-		relShowdownProb[6336] = 0.82997525F;
-		relShowdownProb[6337] = 0.6897301F;
-		relShowdownProb[6338] = 0.8736582F;
-		relShowdownProb[6339] = 0.8736582F;
-		relShowdownProb[6340] = 0.4598201F;
-		relShowdownProb[6341] = 0.480512F;
-		relShowdownProb[6342] = 0.8320554F;
-		relShowdownProb[6343] = 0.7816941F;
-		relShowdownProb[6344] = 0.9196402F;
-		relShowdownProb[6345] = 0.91734105F;
-		relShowdownProb[6346] = 0.8736582F;
-		relShowdownProb[6347] = 0.65524364F;
-		relShowdownProb[6348] = 0.9972488F;
-		relShowdownProb[6349] = 0.7816941F;
-		relShowdownProb[6350] = 0.6115607F;
-		relShowdownProb[6351] = 0.87259275F;
-		relShowdownProb[6352] = 0.8310407F;
-		relShowdownProb[6353] = 0.7357121F;
-		relShowdownProb[6354] = 0.7357121F;
-		relShowdownProb[6355] = 0.9196402F;
-		relShowdownProb[6356] = 0.5678778F;
-		relShowdownProb[6357] = 0.5058021F;
-		relShowdownProb[6358] = 0.6897301F;
-		relShowdownProb[6359] = 0.91734105F;
-		relShowdownProb[6360] = 0.9196402F;
-		relShowdownProb[6361] = 0.480512F;
-		relShowdownProb[6362] = 0.74884987F;
-		relShowdownProb[6363] = 0.5058021F;
-		relShowdownProb[6364] = 0.4138381F;
-		relShowdownProb[6365] = 0.39314616F;
-		relShowdownProb[6366] = 0.5517841F;
-		relShowdownProb[6367] = 0.6115607F;
-		relShowdownProb[6368] = 0.9972488F;
-		relShowdownProb[6369] = 0.6897301F;
-		relShowdownProb[6370] = 0.74260944F;
-		relShowdownProb[6371] = 0.7894887F;
-		relShowdownProb[6372] = 1.148962F;
-		relShowdownProb[6373] = 0.7816941F;
-		relShowdownProb[6374] = 0.6437481F;
-		relShowdownProb[6375] = 0.74260944F;
-		relShowdownProb[6376] = 0.36785606F;
-		relShowdownProb[6377] = 0.5678778F;
-		relShowdownProb[6378] = 0.7894887F;
-		relShowdownProb[6379] = 1.0116042F;
-		relShowdownProb[6380] = 1.0047069F;
-		relShowdownProb[6381] = 0.7063846F;
-		relShowdownProb[6382] = 0.6727472F;
-		relShowdownProb[6383] = 0.7816941F;
-		relShowdownProb[6384] = 1.1357557F;
-		relShowdownProb[6385] = 1.121905F;
-		relShowdownProb[6386] = 1.0289075F;
-		relShowdownProb[6387] = 1.0289075F;
-		relShowdownProb[6388] = 0.6897301F;
-		relShowdownProb[6389] = 0.6437481F;
-		relShowdownProb[6390] = 0.7816941F;
-		relShowdownProb[6391] = 0.6115607F;
-		relShowdownProb[6392] = 0.5058021F;
-		relShowdownProb[6393] = 0.5517841F;
-		relShowdownProb[6394] = 0.7862923F;
-		relShowdownProb[6395] = 1.5174062F;
-		relShowdownProb[6396] = 0.6115607F;
-		relShowdownProb[6397] = 0.9568637F;
-		relShowdownProb[6398] = 0.5977661F;
-		relShowdownProb[6399] = 1.0116042F;
-		relShowdownProb[6400] = 0.5678778F;
-		relShowdownProb[6401] = 0.5977661F;
-		relShowdownProb[6402] = 0.6115607F;
-		relShowdownProb[6403] = 0.45707238F;
-		relShowdownProb[6404] = 0.5517841F;
-		relShowdownProb[6405] = 0.7862923F;
-		relShowdownProb[6406] = 0.4986244F;
-		relShowdownProb[6407] = 0.7131489F;
-		relShowdownProb[6408] = 0.8276762F;
-		relShowdownProb[6409] = 0.7816941F;
-		relShowdownProb[6410] = 0.82997525F;
-		relShowdownProb[6411] = 0.5977661F;
-		relShowdownProb[6412] = 0.7862923F;
-		relShowdownProb[6413] = 0.45707238F;
-		relShowdownProb[6414] = 1.2415142F;
-		relShowdownProb[6415] = 0.5241949F;
-		relShowdownProb[6416] = 0.66483253F;
-		relShowdownProb[6417] = 0.8310407F;
-		relShowdownProb[6418] = 0.8736582F;
-		relShowdownProb[6419] = 0.74260944F;
-		relShowdownProb[6420] = 1.0803529F;
-		relShowdownProb[6421] = 0.9101874F;
-		relShowdownProb[6422] = 0.7932661F;
-		relShowdownProb[6423] = 0.5058021F;
-		relShowdownProb[6424] = 0.9196402F;
-		relShowdownProb[6425] = 0.82997525F;
-		relShowdownProb[6426] = 0.8276762F;
-		relShowdownProb[6427] = 0.91734105F;
-		relShowdownProb[6428] = 0.7894887F;
-		relShowdownProb[6429] = 0.8276762F;
-		relShowdownProb[6430] = 1.0047069F;
-		relShowdownProb[6431] = 0.7894887F;
-		relShowdownProb[6432] = 0.7914673F;
-		relShowdownProb[6433] = 0.7816941F;
-		relShowdownProb[6434] = 0.65524364F;
-		relShowdownProb[6435] = 0.91414475F;
-		relShowdownProb[6436] = 0.7914673F;
-		relShowdownProb[6437] = 0.71692216F;
-		relShowdownProb[6438] = 1.2415142F;
-		relShowdownProb[6439] = 1.1357557F;
-		relShowdownProb[6440] = 0.7894887F;
-		relShowdownProb[6441] = 0.7914673F;
-		relShowdownProb[6442] = 1.0942496F;
-		relShowdownProb[6443] = 1.2829133F;
-		relShowdownProb[6444] = 1.0575862F;
-		relShowdownProb[6445] = 0.8276762F;
-		relShowdownProb[6446] = 0.5517841F;
-		relShowdownProb[6447] = 0.6115607F;
-		relShowdownProb[6448] = 0.6897301F;
-		relShowdownProb[6449] = 1.2415142F;
-		relShowdownProb[6450] = 0.82997525F;
-		relShowdownProb[6451] = 0.7357121F;
-		relShowdownProb[6452] = 0.6989265F;
-		relShowdownProb[6453] = 0.74884987F;
-		relShowdownProb[6454] = 0.8276762F;
-		relShowdownProb[6455] = 0.9656222F;
-		relShowdownProb[6456] = 0.480512F;
-		relShowdownProb[6457] = 0.8736582F;
-		relShowdownProb[6458] = 1.1794385F;
-		relShowdownProb[6459] = 0.91414475F;
-		relShowdownProb[6460] = 0.6897301F;
-		relShowdownProb[6461] = 0.82997525F;
-		relShowdownProb[6462] = 0.4986244F;
-		relShowdownProb[6463] = 0.47543257F;
-		relShowdownProb[6464] = 0.6437481F;
-		relShowdownProb[6465] = 0.9656222F;
-		relShowdownProb[6466] = 0.8736582F;
-		relShowdownProb[6467] = 0.6437481F;
-		relShowdownProb[6468] = 0.6115607F;
-		relShowdownProb[6469] = 1.1634569F;
-		relShowdownProb[6470] = 0.9196402F;
-		relShowdownProb[6471] = 0.5678778F;
-		relShowdownProb[6472] = 0.7894887F;
-		relShowdownProb[6473] = 0.9101874F;
-		relShowdownProb[6474] = 0.8736582F;
-		relShowdownProb[6475] = 1.0047069F;
-		relShowdownProb[6476] = 0.6232805F;
-		relShowdownProb[6477] = 0.4748804F;
-		relShowdownProb[6478] = 1.0199136F;
-		relShowdownProb[6479] = 1.0116042F;
-		relShowdownProb[6480] = 0.5977661F;
-		relShowdownProb[6481] = 0.6989265F;
-		relShowdownProb[6482] = 0.5517841F;
-		relShowdownProb[6483] = 0.6989265F;
-		relShowdownProb[6484] = 0.7894887F;
-		relShowdownProb[6485] = 0.8276762F;
-		relShowdownProb[6486] = 0.5678778F;
-		relShowdownProb[6487] = 0.7894887F;
-		relShowdownProb[6488] = 0.9497608F;
-		relShowdownProb[6489] = 0.7357121F;
-		relShowdownProb[6490] = 0.8736582F;
-		relShowdownProb[6491] = 0.7063846F;
-		relShowdownProb[6492] = 0.7914673F;
-		relShowdownProb[6493] = 0.9055859F;
-		relShowdownProb[6494] = 1.2415142F;
-		relShowdownProb[6495] = 0.6115607F;
-		relShowdownProb[6496] = 0.7063846F;
-		relShowdownProb[6497] = 0.6727472F;
-		relShowdownProb[6498] = 0.7546549F;
-		relShowdownProb[6499] = 0.82928187F;
-		relShowdownProb[6500] = 0.5517841F;
-		relShowdownProb[6501] = 0.6437481F;
-		relShowdownProb[6502] = 1.1357557F;
-		relShowdownProb[6503] = 0.6897301F;
-		relShowdownProb[6504] = 0.82997525F;
-		relShowdownProb[6505] = 0.9556968F;
-		relShowdownProb[6506] = 0.7357121F;
-		relShowdownProb[6507] = 0.5678778F;
-		relShowdownProb[6508] = 0.91414475F;
-		relShowdownProb[6509] = 1.187201F;
-		relShowdownProb[6510] = 0.5977661F;
-		relShowdownProb[6511] = 1.0047069F;
-		relShowdownProb[6512] = 1.205009F;
-		relShowdownProb[6513] = 1.1476276F;
-		relShowdownProb[6514] = 0.8678531F;
-		relShowdownProb[6515] = 0.5517841F;
-		relShowdownProb[6516] = 1.1794385F;
-		relShowdownProb[6517] = 0.6232805F;
-		relShowdownProb[6518] = 1.1080543F;
-		relShowdownProb[6519] = 1.2829133F;
-		relShowdownProb[6520] = 0.82840526F;
-		relShowdownProb[6521] = 0.8736582F;
-		relShowdownProb[6522] = 1.1357557F;
-		relShowdownProb[6523] = 0.8310407F;
-		relShowdownProb[6524] = 1.0289075F;
-		relShowdownProb[6525] = 0.7546549F;
-		relShowdownProb[6526] = 1.2966343F;
-		relShowdownProb[6527] = 0.9724757F;
-		relShowdownProb[6528] = 0.5058021F;
-		relShowdownProb[6529] = 0.6437481F;
-		relShowdownProb[6530] = 0.7816941F;
-		relShowdownProb[6531] = 0.91734105F;
-		relShowdownProb[6532] = 0.6897301F;
-		relShowdownProb[6533] = 0.5977661F;
-		relShowdownProb[6534] = 0.7862923F;
-		relShowdownProb[6535] = 0.4598201F;
-		relShowdownProb[6536] = 1.0047069F;
-		relShowdownProb[6537] = 0.7904526F;
-		relShowdownProb[6538] = 0.8736582F;
-		relShowdownProb[6539] = 0.7357121F;
-		relShowdownProb[6540] = 0.4368291F;
-		relShowdownProb[6541] = 0.6897301F;
-		relShowdownProb[6542] = 0.6115607F;
-		relShowdownProb[6543] = 0.66483253F;
-		relShowdownProb[6544] = 0.9656222F;
-		relShowdownProb[6545] = 1.0047069F;
-		relShowdownProb[6546] = 0.91414475F;
-		relShowdownProb[6547] = 0.95086515F;
-		relShowdownProb[6548] = 0.7357121F;
-		relShowdownProb[6549] = 0.6897301F;
-		relShowdownProb[6550] = 0.74260944F;
-		relShowdownProb[6551] = 0.5058021F;
-		relShowdownProb[6552] = 0.5241949F;
-		relShowdownProb[6553] = 0.91414475F;
-		relShowdownProb[6554] = 0.6437481F;
-		relShowdownProb[6555] = 0.961024F;
-		relShowdownProb[6556] = 0.6232805F;
-		relShowdownProb[6557] = 0.87061405F;
-		relShowdownProb[6558] = 0.6897301F;
-		relShowdownProb[6559] = 0.8736582F;
-		relShowdownProb[6560] = 0.91414475F;
-		relShowdownProb[6561] = 0.7914673F;
-		relShowdownProb[6562] = 0.75549155F;
-		relShowdownProb[6563] = 0.7357121F;
-		relShowdownProb[6564] = 0.5977661F;
-		relShowdownProb[6565] = 0.91734105F;
-		relShowdownProb[6566] = 0.6897301F;
-		relShowdownProb[6567] = 0.82997525F;
-		relShowdownProb[6568] = 0.87259275F;
-		relShowdownProb[6569] = 0.7357121F;
-		relShowdownProb[6570] = 1.0483898F;
-		relShowdownProb[6571] = 0.9972488F;
-		relShowdownProb[6572] = 0.9497608F;
-		relShowdownProb[6573] = 1.0575862F;
-		relShowdownProb[6574] = 0.480512F;
-		relShowdownProb[6575] = 0.7894887F;
-		relShowdownProb[6576] = 1.1476276F;
-		relShowdownProb[6577] = 1.0565169F;
-		relShowdownProb[6578] = 0.8736582F;
-		relShowdownProb[6579] = 1.0920727F;
-		relShowdownProb[6580] = 1.0388008F;
-		relShowdownProb[6581] = 1.2663478F;
-		relShowdownProb[6582] = 0.9433186F;
-		relShowdownProb[6583] = 0.8653376F;
-		relShowdownProb[6584] = 0.5977661F;
-		relShowdownProb[6585] = 0.9196402F;
-		relShowdownProb[6586] = 0.6115607F;
-		relShowdownProb[6587] = 0.5977661F;
-		relShowdownProb[6588] = 0.961024F;
-		relShowdownProb[6589] = 1.121905F;
-		relShowdownProb[6590] = 0.5977661F;
-		relShowdownProb[6591] = 0.8736582F;
-		relShowdownProb[6592] = 0.66483253F;
-		relShowdownProb[6593] = 0.98933417F;
-		relShowdownProb[6594] = 0.5517841F;
-		relShowdownProb[6595] = 0.6989265F;
-		relShowdownProb[6596] = 0.9556968F;
-		relShowdownProb[6597] = 0.55402714F;
-		relShowdownProb[6598] = 0.7923876F;
-		relShowdownProb[6599] = 0.8276762F;
-		relShowdownProb[6600] = 0.961024F;
-		relShowdownProb[6601] = 0.41552034F;
-		relShowdownProb[6602] = 0.8310407F;
-		relShowdownProb[6603] = 1.0942496F;
-		relShowdownProb[6604] = 0.82840526F;
-		relShowdownProb[6605] = 0.6437481F;
-		relShowdownProb[6606] = 0.8736582F;
-		relShowdownProb[6607] = 0.7063846F;
-		relShowdownProb[6608] = 0.9101874F;
-		relShowdownProb[6609] = 0.8678531F;
-		relShowdownProb[6610] = 1.044511F;
-		relShowdownProb[6611] = 0.99909747F;
-		relShowdownProb[6612] = 0.7357121F;
-		relShowdownProb[6613] = 0.8736582F;
-		relShowdownProb[6614] = 0.6989265F;
-		relShowdownProb[6615] = 0.9196402F;
-		relShowdownProb[6616] = 0.5678778F;
-		relShowdownProb[6617] = 1.121905F;
-		relShowdownProb[6618] = 0.8736582F;
-		relShowdownProb[6619] = 1.0920727F;
-		relShowdownProb[6620] = 0.7063846F;
-		relShowdownProb[6621] = 0.75189394F;
-		relShowdownProb[6622] = 0.36785606F;
-		relShowdownProb[6623] = 0.8736582F;
-		relShowdownProb[6624] = 0.7894887F;
-		relShowdownProb[6625] = 0.98933417F;
-		relShowdownProb[6626] = 0.8301204F;
-		relShowdownProb[6627] = 0.7357121F;
-		relShowdownProb[6628] = 0.5678778F;
-		relShowdownProb[6629] = 1.0388008F;
-		relShowdownProb[6630] = 0.9497608F;
-		relShowdownProb[6631] = 1.2451806F;
-		relShowdownProb[6632] = 1.1525638F;
-		relShowdownProb[6633] = 0.5977661F;
-		relShowdownProb[6634] = 1.0920727F;
-		relShowdownProb[6635] = 0.4986244F;
-		relShowdownProb[6636] = 0.7914673F;
-		relShowdownProb[6637] = 1.2451806F;
-		relShowdownProb[6638] = 0.9004405F;
-		relShowdownProb[6639] = 0.86042094F;
-		relShowdownProb[6640] = 0.6437481F;
-		relShowdownProb[6641] = 0.6115607F;
-		relShowdownProb[6642] = 0.87259275F;
-		relShowdownProb[6643] = 0.75189394F;
-		relShowdownProb[6644] = 1.3583788F;
-		relShowdownProb[6645] = 0.86442286F;
-		relShowdownProb[6646] = 0.79158723F;
-		relShowdownProb[6647] = 1.0575862F;
-		relShowdownProb[6648] = 0.36785606F;
-		relShowdownProb[6649] = 0.7816941F;
-		relShowdownProb[6650] = 0.8736582F;
-		relShowdownProb[6651] = 0.8276762F;
-		relShowdownProb[6652] = 0.8276762F;
-		relShowdownProb[6653] = 0.9196402F;
-		relShowdownProb[6654] = 0.9656222F;
-		relShowdownProb[6655] = 0.8276762F;
-		relShowdownProb[6656] = 0.8276762F;
-		relShowdownProb[6657] = 0.961024F;
-		relShowdownProb[6658] = 1.0575862F;
-		relShowdownProb[6659] = 0.7862923F;
-		relShowdownProb[6660] = 0.5678778F;
-		relShowdownProb[6661] = 0.8276762F;
-		relShowdownProb[6662] = 0.5058021F;
-		relShowdownProb[6663] = 0.8736582F;
-		relShowdownProb[6664] = 0.5977661F;
-		relShowdownProb[6665] = 0.8736582F;
-		relShowdownProb[6666] = 0.7357121F;
-		relShowdownProb[6667] = 0.6989265F;
-		relShowdownProb[6668] = 0.7357121F;
-		relShowdownProb[6669] = 1.0047069F;
-		relShowdownProb[6670] = 0.74884987F;
-		relShowdownProb[6671] = 0.5517841F;
-		relShowdownProb[6672] = 0.7816941F;
-		relShowdownProb[6673] = 0.91734105F;
-		relShowdownProb[6674] = 0.6437481F;
-		relShowdownProb[6675] = 0.6989265F;
-		relShowdownProb[6676] = 0.6656443F;
-		relShowdownProb[6677] = 0.6437481F;
-		relShowdownProb[6678] = 0.82997525F;
-		relShowdownProb[6679] = 0.7894887F;
-		relShowdownProb[6680] = 0.6232805F;
-		relShowdownProb[6681] = 0.22991005F;
-		relShowdownProb[6682] = 0.7357121F;
-		relShowdownProb[6683] = 0.5517841F;
-		relShowdownProb[6684] = 0.5058021F;
-		relShowdownProb[6685] = 0.7816941F;
-		relShowdownProb[6686] = 0.7357121F;
-		relShowdownProb[6687] = 0.480512F;
-		relShowdownProb[6688] = 0.6897301F;
-		relShowdownProb[6689] = 0.74260944F;
-		relShowdownProb[6690] = 0.8320554F;
-		relShowdownProb[6691] = 0.8736582F;
-		relShowdownProb[6692] = 0.6437481F;
-		relShowdownProb[6693] = 0.6115607F;
-		relShowdownProb[6694] = 0.6897301F;
-		relShowdownProb[6695] = 0.8736582F;
-		relShowdownProb[6696] = 1.4976997F;
-		relShowdownProb[6697] = 0.8736582F;
-		relShowdownProb[6698] = 0.7862923F;
-		relShowdownProb[6699] = 1.0388008F;
-		relShowdownProb[6700] = 0.55467135F;
-		relShowdownProb[6701] = 0.7816941F;
-		relShowdownProb[6702] = 0.7816941F;
-		relShowdownProb[6703] = 0.5241949F;
-		relShowdownProb[6704] = 1.0575862F;
-		relShowdownProb[6705] = 0.7862923F;
-		relShowdownProb[6706] = 0.6656443F;
-		relShowdownProb[6707] = 0.6897301F;
-		relShowdownProb[6708] = 0.961024F;
-		relShowdownProb[6709] = 1.1634569F;
-		relShowdownProb[6710] = 0.6727472F;
-		relShowdownProb[6711] = 0.9196402F;
-		relShowdownProb[6712] = 0.74260944F;
-		relShowdownProb[6713] = 0.7063846F;
-		relShowdownProb[6714] = 0.9101874F;
-		relShowdownProb[6715] = 1.1080543F;
-		relShowdownProb[6716] = 1.0116042F;
-		relShowdownProb[6717] = 0.9196402F;
-		relShowdownProb[6718] = 1.1495502F;
-		relShowdownProb[6719] = 0.4138381F;
-		relShowdownProb[6720] = 0.9196402F;
-		relShowdownProb[6721] = 0.32187405F;
-		relShowdownProb[6722] = 0.82997525F;
-		relShowdownProb[6723] = 0.9656222F;
-		relShowdownProb[6724] = 0.8736582F;
-		relShowdownProb[6725] = 0.7904526F;
-		relShowdownProb[6726] = 0.6897301F;
-		relShowdownProb[6727] = 0.7357121F;
-		relShowdownProb[6728] = 1.0483898F;
-		relShowdownProb[6729] = 0.8276762F;
-		relShowdownProb[6730] = 1.0047069F;
-		relShowdownProb[6731] = 0.58243877F;
-		relShowdownProb[6732] = 0.6897301F;
-		relShowdownProb[6733] = 0.6989265F;
-		relShowdownProb[6734] = 0.9972488F;
-		relShowdownProb[6735] = 1.1093427F;
-		relShowdownProb[6736] = 1.0116042F;
-		relShowdownProb[6737] = 0.7816941F;
-		relShowdownProb[6738] = 0.6989265F;
-		relShowdownProb[6739] = 0.6897301F;
-		relShowdownProb[6740] = 0.6989265F;
-		relShowdownProb[6741] = 0.8736582F;
-		relShowdownProb[6742] = 1.0575862F;
-		relShowdownProb[6743] = 1.0047069F;
-		relShowdownProb[6744] = 0.7479366F;
-		relShowdownProb[6745] = 0.9497608F;
-		relShowdownProb[6746] = 0.5977661F;
-		relShowdownProb[6747] = 0.6115607F;
-		relShowdownProb[6748] = 0.8310407F;
-		relShowdownProb[6749] = 0.6331739F;
-		relShowdownProb[6750] = 1.0199136F;
-		relShowdownProb[6751] = 0.8736582F;
-		relShowdownProb[6752] = 1.1495502F;
-		relShowdownProb[6753] = 0.6989265F;
-		relShowdownProb[6754] = 1.2874962F;
-		relShowdownProb[6755] = 1.0483898F;
-		relShowdownProb[6756] = 1.1648775F;
-		relShowdownProb[6757] = 0.9196402F;
-		relShowdownProb[6758] = 1.0483898F;
-		relShowdownProb[6759] = 0.7894887F;
-		relShowdownProb[6760] = 0.98933417F;
-		relShowdownProb[6761] = 0.9656222F;
-		relShowdownProb[6762] = 0.6989265F;
-		relShowdownProb[6763] = 1.1634569F;
-		relShowdownProb[6764] = 0.75189394F;
-		relShowdownProb[6765] = 0.64145666F;
-		relShowdownProb[6766] = 1.1035682F;
-		relShowdownProb[6767] = 1.2668043F;
-		relShowdownProb[6768] = 0.66483253F;
-		relShowdownProb[6769] = 0.9101874F;
-		relShowdownProb[6770] = 1.320646F;
-		relShowdownProb[6771] = 0.64145666F;
-		relShowdownProb[6772] = 0.7816941F;
-		relShowdownProb[6773] = 0.7357121F;
-		relShowdownProb[6774] = 0.9656222F;
-		relShowdownProb[6775] = 0.9196402F;
-		relShowdownProb[6776] = 0.6897301F;
-		relShowdownProb[6777] = 0.5058021F;
-		relShowdownProb[6778] = 0.8736582F;
-		relShowdownProb[6779] = 0.6437481F;
-		relShowdownProb[6780] = 1.1357557F;
-		relShowdownProb[6781] = 1.081672F;
-		relShowdownProb[6782] = 0.7816941F;
-		relShowdownProb[6783] = 0.6897301F;
-		relShowdownProb[6784] = 0.65524364F;
-		relShowdownProb[6785] = 0.6437481F;
-		relShowdownProb[6786] = 0.82997525F;
-		relShowdownProb[6787] = 1.7057135F;
-		relShowdownProb[6788] = 0.8276762F;
-		relShowdownProb[6789] = 0.961024F;
-		relShowdownProb[6790] = 0.9556968F;
-		relShowdownProb[6791] = 0.6339101F;
-		relShowdownProb[6792] = 0.5517841F;
-		relShowdownProb[6793] = 0.6897301F;
-		relShowdownProb[6794] = 0.6989265F;
-		relShowdownProb[6795] = 0.36785606F;
-		relShowdownProb[6796] = 0.5678778F;
-		relShowdownProb[6797] = 0.8320554F;
-		relShowdownProb[6798] = 1.0116042F;
-		relShowdownProb[6799] = 0.8736582F;
-		relShowdownProb[6800] = 1.2881131F;
-		relShowdownProb[6801] = 0.71232057F;
-		relShowdownProb[6802] = 0.9196402F;
-		relShowdownProb[6803] = 0.91734105F;
-		relShowdownProb[6804] = 0.91414475F;
-		relShowdownProb[6805] = 0.7914673F;
-		relShowdownProb[6806] = 0.7932661F;
-		relShowdownProb[6807] = 0.9196402F;
-		relShowdownProb[6808] = 0.7357121F;
-		relShowdownProb[6809] = 1.1794385F;
-		relShowdownProb[6810] = 0.8736582F;
-		relShowdownProb[6811] = 0.91734105F;
-		relShowdownProb[6812] = 0.6656443F;
-		relShowdownProb[6813] = 0.9196402F;
-		relShowdownProb[6814] = 0.8736582F;
-		relShowdownProb[6815] = 0.91414475F;
-		relShowdownProb[6816] = 1.2267743F;
-		relShowdownProb[6817] = 0.6437481F;
-		relShowdownProb[6818] = 0.91734105F;
-		relShowdownProb[6819] = 0.54017645F;
-		relShowdownProb[6820] = 1.0289075F;
-		relShowdownProb[6821] = 1.0942496F;
-		relShowdownProb[6822] = 0.9196402F;
-		relShowdownProb[6823] = 0.7862923F;
-		relShowdownProb[6824] = 0.66483253F;
-		relShowdownProb[6825] = 0.8310407F;
-		relShowdownProb[6826] = 0.8301204F;
-		relShowdownProb[6827] = 1.0095606F;
-		relShowdownProb[6828] = 0.9196402F;
-		relShowdownProb[6829] = 0.7816941F;
-		relShowdownProb[6830] = 1.1357557F;
-		relShowdownProb[6831] = 0.8276762F;
-		relShowdownProb[6832] = 0.65524364F;
-		relShowdownProb[6833] = 0.8320554F;
-		relShowdownProb[6834] = 0.7816941F;
-		relShowdownProb[6835] = 0.74260944F;
-		relShowdownProb[6836] = 0.87259275F;
-		relShowdownProb[6837] = 0.5936005F;
-		relShowdownProb[6838] = 0.8276762F;
-		relShowdownProb[6839] = 0.8736582F;
-		relShowdownProb[6840] = 0.7063846F;
-		relShowdownProb[6841] = 0.9497608F;
-		relShowdownProb[6842] = 1.3961115F;
-		relShowdownProb[6843] = 0.6897301F;
-		relShowdownProb[6844] = 0.6115607F;
-		relShowdownProb[6845] = 0.8310407F;
-		relShowdownProb[6846] = 0.6727472F;
-		relShowdownProb[6847] = 0.9055859F;
-		relShowdownProb[6848] = 1.1525638F;
-		relShowdownProb[6849] = 0.8736582F;
-		relShowdownProb[6850] = 1.0047069F;
-		relShowdownProb[6851] = 0.6232805F;
-		relShowdownProb[6852] = 0.8310407F;
-		relShowdownProb[6853] = 0.71692216F;
-		relShowdownProb[6854] = 1.0805286F;
-		relShowdownProb[6855] = 0.9004405F;
-		relShowdownProb[6856] = 0.6437481F;
-		relShowdownProb[6857] = 0.7816941F;
-		relShowdownProb[6858] = 0.7357121F;
-		relShowdownProb[6859] = 0.8736582F;
-		relShowdownProb[6860] = 0.5977661F;
-		relShowdownProb[6861] = 0.5058021F;
-		relShowdownProb[6862] = 0.6989265F;
-		relShowdownProb[6863] = 1.0116042F;
-		relShowdownProb[6864] = 1.0483898F;
-		relShowdownProb[6865] = 1.081672F;
-		relShowdownProb[6866] = 0.8276762F;
-		relShowdownProb[6867] = 0.8276762F;
-		relShowdownProb[6868] = 0.82997525F;
-		relShowdownProb[6869] = 1.1955322F;
-		relShowdownProb[6870] = 0.5241949F;
-		relShowdownProb[6871] = 1.2064803F;
-		relShowdownProb[6872] = 0.6437481F;
-		relShowdownProb[6873] = 0.961024F;
-		relShowdownProb[6874] = 0.9556968F;
-		relShowdownProb[6875] = 0.95086515F;
-		relShowdownProb[6876] = 0.5517841F;
-		relShowdownProb[6877] = 0.9196402F;
-		relShowdownProb[6878] = 0.7862923F;
-		relShowdownProb[6879] = 0.8276762F;
-		relShowdownProb[6880] = 1.0047069F;
-		relShowdownProb[6881] = 0.9152609F;
-		relShowdownProb[6882] = 0.5977661F;
-		relShowdownProb[6883] = 0.5241949F;
-		relShowdownProb[6884] = 0.9556968F;
-		relShowdownProb[6885] = 0.87061405F;
-		relShowdownProb[6886] = 0.7816941F;
-		relShowdownProb[6887] = 0.6989265F;
-		relShowdownProb[6888] = 0.7894887F;
-		relShowdownProb[6889] = 0.9497608F;
-		relShowdownProb[6890] = 0.90658987F;
-		relShowdownProb[6891] = 0.8736582F;
-		relShowdownProb[6892] = 0.8736582F;
-		relShowdownProb[6893] = 0.480512F;
-		relShowdownProb[6894] = 1.0116042F;
-		relShowdownProb[6895] = 0.6989265F;
-		relShowdownProb[6896] = 0.62404156F;
-		relShowdownProb[6897] = 1.0575862F;
-		relShowdownProb[6898] = 0.91734105F;
-		relShowdownProb[6899] = 1.0388008F;
-		relShowdownProb[6900] = 0.71232057F;
-		relShowdownProb[6901] = 0.9196402F;
-		relShowdownProb[6902] = 0.961024F;
-		relShowdownProb[6903] = 0.6232805F;
-		relShowdownProb[6904] = 0.8310407F;
-		relShowdownProb[6905] = 0.64145666F;
-		relShowdownProb[6906] = 0.7816941F;
-		relShowdownProb[6907] = 0.7862923F;
-		relShowdownProb[6908] = 0.66483253F;
-		relShowdownProb[6909] = 0.71232057F;
-		relShowdownProb[6910] = 0.9810513F;
-		relShowdownProb[6911] = 1.1177278F;
-		relShowdownProb[6912] = 0.5977661F;
-		relShowdownProb[6913] = 0.4598201F;
-		relShowdownProb[6914] = 1.1794385F;
-		relShowdownProb[6915] = 0.7816941F;
-		relShowdownProb[6916] = 0.82997525F;
-		relShowdownProb[6917] = 0.74884987F;
-		relShowdownProb[6918] = 0.6897301F;
-		relShowdownProb[6919] = 0.480512F;
-		relShowdownProb[6920] = 0.87259275F;
-		relShowdownProb[6921] = 1.187201F;
-		relShowdownProb[6922] = 0.7816941F;
-		relShowdownProb[6923] = 0.74260944F;
-		relShowdownProb[6924] = 0.66483253F;
-		relShowdownProb[6925] = 1.1080543F;
-		relShowdownProb[6926] = 0.45279294F;
-		relShowdownProb[6927] = 1.1035682F;
-		relShowdownProb[6928] = 0.91734105F;
-		relShowdownProb[6929] = 0.45707238F;
-		relShowdownProb[6930] = 1.0684808F;
-		relShowdownProb[6931] = 0.71692216F;
-		relShowdownProb[6932] = 0.7923876F;
-		relShowdownProb[6933] = 0.7357121F;
-		relShowdownProb[6934] = 0.91734105F;
-		relShowdownProb[6935] = 0.6232805F;
-		relShowdownProb[6936] = 1.2267743F;
-		relShowdownProb[6937] = 0.8678531F;
-		relShowdownProb[6938] = 0.64831716F;
-		relShowdownProb[6939] = 0.7923876F;
-		relShowdownProb[6940] = 0.5977661F;
-		relShowdownProb[6941] = 0.6437481F;
-		relShowdownProb[6942] = 0.91734105F;
-		relShowdownProb[6943] = 0.5977661F;
-		relShowdownProb[6944] = 0.8736582F;
-		relShowdownProb[6945] = 1.2064803F;
-		relShowdownProb[6946] = 0.7357121F;
-		relShowdownProb[6947] = 0.8736582F;
-		relShowdownProb[6948] = 0.6232805F;
-		relShowdownProb[6949] = 1.0684808F;
-		relShowdownProb[6950] = 1.1035682F;
-		relShowdownProb[6951] = 0.6989265F;
-		relShowdownProb[6952] = 0.54017645F;
-		relShowdownProb[6953] = 0.7914673F;
-		relShowdownProb[6954] = 0.8678531F;
-		relShowdownProb[6955] = 1.0116042F;
-		relShowdownProb[6956] = 0.8736582F;
-		relShowdownProb[6957] = 0.6232805F;
-		relShowdownProb[6958] = 0.8310407F;
-		relShowdownProb[6959] = 1.2074478F;
-		relShowdownProb[6960] = 1.0084933F;
-		relShowdownProb[6961] = 0.8276762F;
-		relShowdownProb[6962] = 0.8736582F;
-		relShowdownProb[6963] = 0.58172846F;
-		relShowdownProb[6964] = 1.0289075F;
-		relShowdownProb[6965] = 0.9055859F;
-		relShowdownProb[6966] = 0.9724757F;
-		relShowdownProb[6967] = 0.96367145F;
-		relShowdownProb[6968] = 0.8736582F;
-		relShowdownProb[6969] = 0.74260944F;
-		relShowdownProb[6970] = 0.9972488F;
-		relShowdownProb[6971] = 1.0289075F;
-		relShowdownProb[6972] = 0.9810513F;
-		relShowdownProb[6973] = 0.7203524F;
-		relShowdownProb[6974] = 1.1357557F;
-		relShowdownProb[6975] = 0.48183572F;
-		relShowdownProb[6976] = 1.0575862F;
-		relShowdownProb[6977] = 0.6437481F;
-		relShowdownProb[6978] = 0.4598201F;
-		relShowdownProb[6979] = 0.9196402F;
-		relShowdownProb[6980] = 0.36785606F;
-		relShowdownProb[6981] = 0.6897301F;
-		relShowdownProb[6982] = 0.6989265F;
-		relShowdownProb[6983] = 0.8276762F;
-		relShowdownProb[6984] = 0.91734105F;
-		relShowdownProb[6985] = 0.6656443F;
-		relShowdownProb[6986] = 0.8736582F;
-		relShowdownProb[6987] = 0.6437481F;
-		relShowdownProb[6988] = 0.7862923F;
-		relShowdownProb[6989] = 0.9656222F;
-		relShowdownProb[6990] = 0.74260944F;
-		relShowdownProb[6991] = 0.8320554F;
-		relShowdownProb[6992] = 0.8736582F;
-		relShowdownProb[6993] = 0.74260944F;
-		relShowdownProb[6994] = 0.7894887F;
-		relShowdownProb[6995] = 1.0697232F;
-		relShowdownProb[6996] = 1.0116042F;
-		relShowdownProb[6997] = 0.36785606F;
-		relShowdownProb[6998] = 0.8736582F;
-		relShowdownProb[6999] = 0.4598201F;
-		relShowdownProb[7000] = 0.6989265F;
-		relShowdownProb[7001] = 1.1648775F;
-		relShowdownProb[7002] = 0.7816941F;
-		relShowdownProb[7003] = 0.8736582F;
-		relShowdownProb[7004] = 0.91414475F;
-		relShowdownProb[7005] = 0.87061405F;
-		relShowdownProb[7006] = 0.4598201F;
-		relShowdownProb[7007] = 0.4368291F;
-		relShowdownProb[7008] = 0.9556968F;
-		relShowdownProb[7009] = 0.8310407F;
-		relShowdownProb[7010] = 0.71771693F;
-		relShowdownProb[7011] = 0.9196402F;
-		relShowdownProb[7012] = 0.5977661F;
-		relShowdownProb[7013] = 1.0483898F;
-		relShowdownProb[7014] = 0.5977661F;
-		relShowdownProb[7015] = 0.6115607F;
-		relShowdownProb[7016] = 1.0400692F;
-		relShowdownProb[7017] = 0.6437481F;
-		relShowdownProb[7018] = 0.961024F;
-		relShowdownProb[7019] = 0.9972488F;
-		relShowdownProb[7020] = 0.75189394F;
-		relShowdownProb[7021] = 0.8276762F;
-		relShowdownProb[7022] = 0.5241949F;
-		relShowdownProb[7023] = 0.58172846F;
-		relShowdownProb[7024] = 0.9101874F;
-		relShowdownProb[7025] = 0.9055859F;
-		relShowdownProb[7026] = 0.5517841F;
-		relShowdownProb[7027] = 0.91734105F;
-		relShowdownProb[7028] = 0.54017645F;
-		relShowdownProb[7029] = 0.75189394F;
-		relShowdownProb[7030] = 1.169715F;
-		relShowdownProb[7031] = 0.9735048F;
-		relShowdownProb[7032] = 0.5977661F;
-		relShowdownProb[7033] = 0.8276762F;
-		relShowdownProb[7034] = 0.6115607F;
-		relShowdownProb[7035] = 0.5517841F;
-		relShowdownProb[7036] = 0.6115607F;
-		relShowdownProb[7037] = 0.9152609F;
-		relShowdownProb[7038] = 0.6437481F;
-		relShowdownProb[7039] = 0.6115607F;
-		relShowdownProb[7040] = 0.9556968F;
-		relShowdownProb[7041] = 1.0684808F;
-		relShowdownProb[7042] = 0.6437481F;
-		relShowdownProb[7043] = 0.6115607F;
-		relShowdownProb[7044] = 0.87259275F;
-		relShowdownProb[7045] = 0.7914673F;
-		relShowdownProb[7046] = 1.018784F;
-		relShowdownProb[7047] = 0.6897301F;
-		relShowdownProb[7048] = 0.5678778F;
-		relShowdownProb[7049] = 0.58172846F;
-		relShowdownProb[7050] = 0.9497608F;
-		relShowdownProb[7051] = 1.0942496F;
-		relShowdownProb[7052] = 1.2606167F;
-		relShowdownProb[7053] = 0.7357121F;
-		relShowdownProb[7054] = 0.65524364F;
-		relShowdownProb[7055] = 0.4986244F;
-		relShowdownProb[7056] = 0.87061405F;
-		relShowdownProb[7057] = 1.320646F;
-		relShowdownProb[7058] = 0.9364581F;
-		relShowdownProb[7059] = 1.0335491F;
-		relShowdownProb[7060] = 0.5517841F;
-		relShowdownProb[7061] = 0.5058021F;
-		relShowdownProb[7062] = 0.480512F;
-		relShowdownProb[7063] = 0.5977661F;
-		relShowdownProb[7064] = 0.74260944F;
-		relShowdownProb[7065] = 0.8320554F;
-		relShowdownProb[7066] = 0.6437481F;
-		relShowdownProb[7067] = 0.6115607F;
-		relShowdownProb[7068] = 0.66483253F;
-		relShowdownProb[7069] = 0.8310407F;
-		relShowdownProb[7070] = 0.9656222F;
-		relShowdownProb[7071] = 0.82997525F;
-		relShowdownProb[7072] = 0.6232805F;
-		relShowdownProb[7073] = 0.55402714F;
-		relShowdownProb[7074] = 0.8301204F;
-		relShowdownProb[7075] = 0.8276762F;
-		relShowdownProb[7076] = 0.5678778F;
-		relShowdownProb[7077] = 1.3296651F;
-		relShowdownProb[7078] = 0.9497608F;
-		relShowdownProb[7079] = 0.3395947F;
-		relShowdownProb[7080] = 0.9364581F;
-		relShowdownProb[7081] = 0.5058021F;
-		relShowdownProb[7082] = 0.4368291F;
-		relShowdownProb[7083] = 1.1634569F;
-		relShowdownProb[7084] = 0.75189394F;
-		relShowdownProb[7085] = 0.71692216F;
-		relShowdownProb[7086] = 0.86442286F;
-		relShowdownProb[7087] = 0.96367145F;
-		relShowdownProb[7088] = 1.0116042F;
-		relShowdownProb[7089] = 1.0920727F;
-		relShowdownProb[7090] = 1.0388008F;
-		relShowdownProb[7091] = 0.75189394F;
-		relShowdownProb[7092] = 0.8678531F;
-		relShowdownProb[7093] = 0.64831716F;
-		relShowdownProb[7094] = 0.9292546F;
-		relShowdownProb[7095] = 1.021521F;
-		relShowdownProb[7096] = 0.8736582F;
-		relShowdownProb[7097] = 0.7816941F;
-		relShowdownProb[7098] = 0.6115607F;
-		relShowdownProb[7099] = 1.0116042F;
-		relShowdownProb[7100] = 0.65524364F;
-		relShowdownProb[7101] = 0.62404156F;
-		relShowdownProb[7102] = 0.4138381F;
-		relShowdownProb[7103] = 0.91734105F;
-		relShowdownProb[7104] = 0.7479366F;
-		relShowdownProb[7105] = 0.87061405F;
-		relShowdownProb[7106] = 0.5977661F;
-		relShowdownProb[7107] = 0.5678778F;
-		relShowdownProb[7108] = 1.246561F;
-		relShowdownProb[7109] = 1.0289075F;
-		relShowdownProb[7110] = 0.52825844F;
-		relShowdownProb[7111] = 0.9196402F;
-		relShowdownProb[7112] = 0.6989265F;
-		relShowdownProb[7113] = 0.58172846F;
-		relShowdownProb[7114] = 0.8310407F;
-		relShowdownProb[7115] = 0.6037239F;
-		relShowdownProb[7116] = 0.5402643F;
-		relShowdownProb[7117] = 0.5977661F;
-		relShowdownProb[7118] = 0.82997525F;
-		relShowdownProb[7119] = 0.7479366F;
-		relShowdownProb[7120] = 0.71232057F;
-		relShowdownProb[7121] = 0.9055859F;
-		relShowdownProb[7122] = 0.82840526F;
-		relShowdownProb[7123] = 0.8260041F;
-		relShowdownProb[7124] = 0.4598201F;
-		relShowdownProb[7125] = 1.1794385F;
-		relShowdownProb[7126] = 0.58172846F;
-		relShowdownProb[7127] = 0.75189394F;
-		relShowdownProb[7128] = 0.9055859F;
-		relShowdownProb[7129] = 0.75637F;
-		relShowdownProb[7130] = 0.6539199F;
-		relShowdownProb[7131] = 0.59256816F;
-		relShowdownProb[7132] = 0.7816941F;
-		relShowdownProb[7133] = 0.65524364F;
-		relShowdownProb[7134] = 0.9556968F;
-		relShowdownProb[7135] = 0.55402714F;
-		relShowdownProb[7136] = 0.71692216F;
-		relShowdownProb[7137] = 1.0084933F;
-		relShowdownProb[7138] = 0.8260041F;
-		relShowdownProb[7139] = 0.98761356F;
-		relShowdownProb[7140] = 0.574331F;
-		relShowdownProb[7141] = 0.6281267F;
-		relShowdownProb[7142] = 0.72576314F;
-		relShowdownProb[7143] = 0.5944378F;
-		relShowdownProb[7144] = 0.5653651F;
-		relShowdownProb[7145] = 0.71140736F;
-		relShowdownProb[7146] = 0.57655716F;
-		relShowdownProb[7147] = 0.57896435F;
-		relShowdownProb[7148] = 0.5140273F;
-		relShowdownProb[7149] = 0.6566467F;
-		relShowdownProb[7150] = 0.62829036F;
-		relShowdownProb[7151] = 0.61830246F;
-		relShowdownProb[7152] = 0.56204915F;
-		relShowdownProb[7153] = 0.6153078F;
-		relShowdownProb[7154] = 0.649367F;
-		relShowdownProb[7155] = 0.6956187F;
-		relShowdownProb[7156] = 0.78522927F;
-		relShowdownProb[7157] = 0.67396486F;
-		relShowdownProb[7158] = 0.58895624F;
-		relShowdownProb[7159] = 0.6651931F;
-		relShowdownProb[7160] = 0.46507233F;
-		relShowdownProb[7161] = 0.6748869F;
-		relShowdownProb[7162] = 0.71286786F;
-		relShowdownProb[7163] = 0.70834655F;
-		relShowdownProb[7164] = 0.61200905F;
-		relShowdownProb[7165] = 0.49012032F;
-		relShowdownProb[7166] = 0.7703275F;
-		relShowdownProb[7167] = 0.6892949F;
-		relShowdownProb[7168] = 0.6093379F;
-		relShowdownProb[7169] = 0.6115607F;
-		relShowdownProb[7170] = 0.5021627F;
-		relShowdownProb[7171] = 0.72678506F;
-		relShowdownProb[7172] = 0.8811897F;
-		relShowdownProb[7173] = 0.62016636F;
-		relShowdownProb[7174] = 0.8276517F;
-		relShowdownProb[7175] = 0.7683759F;
-		relShowdownProb[7176] = 0.49959925F;
-		relShowdownProb[7177] = 0.5955892F;
-		relShowdownProb[7178] = 0.6410198F;
-		relShowdownProb[7179] = 0.7019425F;
-		relShowdownProb[7180] = 0.7224109F;
-		relShowdownProb[7181] = 0.78005195F;
-		relShowdownProb[7182] = 0.65715116F;
-		relShowdownProb[7183] = 0.6528747F;
-		relShowdownProb[7184] = 0.49566922F;
-		relShowdownProb[7185] = 0.5715258F;
-		relShowdownProb[7186] = 0.7793217F;
-		relShowdownProb[7187] = 0.83440816F;
-		relShowdownProb[7188] = 0.63698906F;
-		relShowdownProb[7189] = 0.5211406F;
-		relShowdownProb[7190] = 0.567056F;
-		relShowdownProb[7191] = 0.64911985F;
-		relShowdownProb[7192] = 0.6470289F;
-		relShowdownProb[7193] = 0.7675711F;
-		relShowdownProb[7194] = 0.65715116F;
-		relShowdownProb[7195] = 0.73294425F;
-		relShowdownProb[7196] = 0.61805665F;
-		relShowdownProb[7197] = 0.7235274F;
-		relShowdownProb[7198] = 0.7249504F;
-		relShowdownProb[7199] = 0.7023436F;
-		relShowdownProb[7200] = 0.58078414F;
-		relShowdownProb[7201] = 0.60799736F;
-		relShowdownProb[7202] = 0.53007406F;
-		relShowdownProb[7203] = 0.66749114F;
-		relShowdownProb[7204] = 0.8335635F;
-		relShowdownProb[7205] = 0.70516694F;
-		relShowdownProb[7206] = 0.6509516F;
-		relShowdownProb[7207] = 0.7514218F;
-		relShowdownProb[7208] = 0.59969854F;
-		relShowdownProb[7209] = 0.79648817F;
-		relShowdownProb[7210] = 0.8457754F;
-		relShowdownProb[7211] = 0.86442286F;
-		relShowdownProb[7212] = 0.643234F;
-		relShowdownProb[7213] = 0.66383386F;
-		relShowdownProb[7214] = 0.6410198F;
-		relShowdownProb[7215] = 0.7715953F;
-		relShowdownProb[7216] = 0.67536896F;
-		relShowdownProb[7217] = 0.6831461F;
-		relShowdownProb[7218] = 0.7563438F;
-		relShowdownProb[7219] = 0.6590339F;
-		relShowdownProb[7220] = 0.89342844F;
-		relShowdownProb[7221] = 0.8086483F;
-		relShowdownProb[7222] = 0.6887029F;
-		relShowdownProb[7223] = 0.7203524F;
-		relShowdownProb[7224] = 0.5932741F;
-		relShowdownProb[7225] = 0.63901764F;
-		relShowdownProb[7226] = 0.7334746F;
-		relShowdownProb[7227] = 0.6613674F;
-		relShowdownProb[7228] = 0.66320014F;
-		relShowdownProb[7229] = 0.7677837F;
-		relShowdownProb[7230] = 0.6848174F;
-		relShowdownProb[7231] = 0.83765054F;
-		relShowdownProb[7232] = 0.7098473F;
-		relShowdownProb[7233] = 0.6748869F;
-		relShowdownProb[7234] = 0.86994046F;
-		relShowdownProb[7235] = 0.9724757F;
-		relShowdownProb[7236] = 0.674459F;
-		relShowdownProb[7237] = 0.5769771F;
-		relShowdownProb[7238] = 0.5978742F;
-		relShowdownProb[7239] = 0.6307485F;
-		relShowdownProb[7240] = 0.7301286F;
-		relShowdownProb[7241] = 0.79801136F;
-		relShowdownProb[7242] = 0.7208604F;
-		relShowdownProb[7243] = 0.9849317F;
-		relShowdownProb[7244] = 0.81387657F;
-		relShowdownProb[7245] = 1.0214504F;
-		relShowdownProb[7246] = 0.8880642F;
-		relShowdownProb[7247] = 1.2846284F;
-		relShowdownProb[7248] = 0.6994389F;
-		relShowdownProb[7249] = 0.70105815F;
-		relShowdownProb[7250] = 0.67183805F;
-		relShowdownProb[7251] = 0.7348527F;
-		relShowdownProb[7252] = 0.76663506F;
-		relShowdownProb[7253] = 0.64082736F;
-		relShowdownProb[7254] = 0.7989536F;
-		relShowdownProb[7255] = 0.82973033F;
-		relShowdownProb[7256] = 0.71182454F;
-		relShowdownProb[7257] = 0.9120093F;
-		relShowdownProb[7258] = 1.0693018F;
-		relShowdownProb[7259] = 1.320646F;
-		relShowdownProb[7260] = 0.5932741F;
-		relShowdownProb[7261] = 0.5459568F;
-		relShowdownProb[7262] = 0.6780017F;
-		relShowdownProb[7263] = 0.71035755F;
-		relShowdownProb[7264] = 0.68145335F;
-		relShowdownProb[7265] = 0.7677837F;
-		relShowdownProb[7266] = 0.8410038F;
-		relShowdownProb[7267] = 0.76406825F;
-		relShowdownProb[7268] = 0.9313038F;
-		relShowdownProb[7269] = 0.84886926F;
-		relShowdownProb[7270] = 1.0390955F;
-		relShowdownProb[7271] = 1.2245991F;
-		relShowdownProb[7272] = 0.7868688F;
-		relShowdownProb[7273] = 0.7072622F;
-		relShowdownProb[7274] = 0.83825666F;
-		relShowdownProb[7275] = 0.7715953F;
-		relShowdownProb[7276] = 0.7483818F;
-		relShowdownProb[7277] = 0.7738292F;
-		relShowdownProb[7278] = 0.919097F;
-		relShowdownProb[7279] = 0.8953925F;
-		relShowdownProb[7280] = 0.89571255F;
-		relShowdownProb[7281] = 0.866554F;
-		relShowdownProb[7282] = 0.9139161F;
-		relShowdownProb[7283] = 1.4407048F;
-		relShowdownProb[7284] = 0.8368287F;
-		relShowdownProb[7285] = 0.78791493F;
-		relShowdownProb[7286] = 0.93071145F;
-		relShowdownProb[7287] = 0.8695756F;
-		relShowdownProb[7288] = 0.9126608F;
-		relShowdownProb[7289] = 0.70732826F;
-		relShowdownProb[7290] = 0.8650325F;
-		relShowdownProb[7291] = 0.97299314F;
-		relShowdownProb[7292] = 1.0084181F;
-		relShowdownProb[7293] = 0.9785576F;
-		relShowdownProb[7294] = 0.83189803F;
-		relShowdownProb[7295] = 0.85589236F;
-		relShowdownProb[7298] = 0.8310407F;
-		relShowdownProb[7299] = 0.40085492F;
-		relShowdownProb[7300] = 1.1749196F;
-		relShowdownProb[7303] = 0.40466353F;
-		relShowdownProb[7304] = 0.25007463F;
-		relShowdownProb[7305] = 0.49741122F;
-		relShowdownProb[7306] = 0.32411575F;
-		relShowdownProb[7307] = 0.5381665F;
-		relShowdownProb[7310] = 0.8310407F;
-		relShowdownProb[7311] = 0.40085492F;
-		relShowdownProb[7313] = 0.46252492F;
-		relShowdownProb[7314] = 0.43543345F;
-		relShowdownProb[7315] = 0.40466353F;
-		relShowdownProb[7316] = 0.31259328F;
-		relShowdownProb[7317] = 0.39792898F;
-		relShowdownProb[7318] = 0.60771704F;
-		relShowdownProb[7319] = 0.57180196F;
-		relShowdownProb[7324] = 0.46996784F;
-		relShowdownProb[7325] = 0.30834994F;
-		relShowdownProb[7326] = 0.54429185F;
-		relShowdownProb[7327] = 0.4855962F;
-		relShowdownProb[7328] = 0.18755597F;
-		relShowdownProb[7329] = 0.4476701F;
-		relShowdownProb[7330] = 0.48617363F;
-		relShowdownProb[7331] = 0.5381665F;
-		relShowdownProb[7335] = 0.40085492F;
-		relShowdownProb[7336] = 0.70495176F;
-		relShowdownProb[7337] = 0.77087486F;
-		relShowdownProb[7338] = 0.3265751F;
-		relShowdownProb[7339] = 0.2427981F;
-		relShowdownProb[7340] = 0.50014925F;
-		relShowdownProb[7341] = 0.54715234F;
-		relShowdownProb[7342] = 0.44565916F;
-		relShowdownProb[7343] = 0.73997897F;
-		relShowdownProb[7348] = 0.70495176F;
-		relShowdownProb[7349] = 0.15417497F;
-		relShowdownProb[7350] = 0.43543345F;
-		relShowdownProb[7351] = 0.4855962F;
-		relShowdownProb[7352] = 0.4376306F;
-		relShowdownProb[7353] = 0.4476701F;
-		relShowdownProb[7354] = 0.5266881F;
-		relShowdownProb[7355] = 0.9417914F;
-		relShowdownProb[7358] = 0.8310407F;
-		relShowdownProb[7359] = 0.40085492F;
-		relShowdownProb[7361] = 0.77087486F;
-		relShowdownProb[7362] = 0.54429185F;
-		relShowdownProb[7363] = 0.2427981F;
-		relShowdownProb[7364] = 0.18755597F;
-		relShowdownProb[7365] = 0.54715234F;
-		relShowdownProb[7366] = 0.72926044F;
-		relShowdownProb[7367] = 0.4708957F;
-		relShowdownProb[7373] = 0.46252492F;
-		relShowdownProb[7374] = 0.6531502F;
-		relShowdownProb[7375] = 0.4855962F;
-		relShowdownProb[7376] = 0.31259328F;
-		relShowdownProb[7377] = 0.4476701F;
-		relShowdownProb[7378] = 0.60771704F;
-		relShowdownProb[7379] = 0.7736144F;
-		relShowdownProb[7383] = 0.40085492F;
-		relShowdownProb[7384] = 0.70495176F;
-		relShowdownProb[7386] = 0.3265751F;
-		relShowdownProb[7387] = 0.64746165F;
-		relShowdownProb[7388] = 0.50014925F;
-		relShowdownProb[7389] = 0.7461168F;
-		relShowdownProb[7390] = 0.72926044F;
-		relShowdownProb[7391] = 0.50453115F;
-		relShowdownProb[7393] = 2.6209745F;
-		relShowdownProb[7395] = 0.40085492F;
-		relShowdownProb[7396] = 0.70495176F;
-		relShowdownProb[7397] = 0.6166999F;
-		relShowdownProb[7398] = 0.21771672F;
-		relShowdownProb[7399] = 0.4855962F;
-		relShowdownProb[7400] = 0.50014925F;
-		relShowdownProb[7401] = 0.79585797F;
-		relShowdownProb[7402] = 1.0128617F;
-		relShowdownProb[7403] = 1.24451F;
-		relShowdownProb[7406] = 0.8310407F;
-		relShowdownProb[7407] = 0.40085492F;
-		relShowdownProb[7408] = 0.46996784F;
-		relShowdownProb[7409] = 0.30834994F;
-		relShowdownProb[7410] = 0.76200855F;
-		relShowdownProb[7411] = 0.64746165F;
-		relShowdownProb[7412] = 0.5626679F;
-		relShowdownProb[7413] = 1.0445635F;
-		relShowdownProb[7414] = 0.8913183F;
-		relShowdownProb[7415] = 0.67270815F;
-		relShowdownProb[7418] = 0.8310407F;
-		relShowdownProb[7419] = 0.40085492F;
-		relShowdownProb[7420] = 0.23498392F;
-		relShowdownProb[7421] = 0.30834994F;
-		relShowdownProb[7422] = 0.6531502F;
-		relShowdownProb[7423] = 0.2427981F;
-		relShowdownProb[7424] = 0.62518656F;
-		relShowdownProb[7425] = 0.54715234F;
-		relShowdownProb[7426] = 0.56720257F;
-		relShowdownProb[7427] = 1.0090623F;
-		relShowdownProb[7431] = 0.40085492F;
-		relShowdownProb[7432] = 0.46996784F;
-		relShowdownProb[7433] = 0.46252492F;
-		relShowdownProb[7434] = 1.3063004F;
-		relShowdownProb[7435] = 0.7283943F;
-		relShowdownProb[7436] = 1.3128918F;
-		relShowdownProb[7437] = 0.7461168F;
-		relShowdownProb[7438] = 1.0533762F;
-		relShowdownProb[7439] = 0.8745206F;
-		relShowdownProb[7441] = 2.6209745F;
-		relShowdownProb[7442] = 0.8310407F;
-		relShowdownProb[7443] = 0.40085492F;
-		relShowdownProb[7444] = 0.70495176F;
-		relShowdownProb[7445] = 0.77087486F;
-		relShowdownProb[7446] = 0.43543345F;
-		relShowdownProb[7447] = 0.40466353F;
-		relShowdownProb[7448] = 0.8752612F;
-		relShowdownProb[7449] = 0.4476701F;
-		relShowdownProb[7450] = 0.6482315F;
-		relShowdownProb[7451] = 1.076333F;
-		relShowdownProb[7452] = 0.6913295F;
-		relShowdownProb[7453] = 0.26336363F;
-		relShowdownProb[7454] = 0.23044316F;
-		relShowdownProb[7455] = 0.32920453F;
-		relShowdownProb[7456] = 0.36212498F;
-		relShowdownProb[7457] = 0.32920453F;
-		relShowdownProb[7458] = 0.6254886F;
-		relShowdownProb[7459] = 0.65840906F;
-		relShowdownProb[7460] = 0.6913295F;
-		relShowdownProb[7461] = 0.85102874F;
-	}
-
-}
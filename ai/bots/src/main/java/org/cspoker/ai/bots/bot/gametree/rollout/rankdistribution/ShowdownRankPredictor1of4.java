@@ -1,4746 +0,0 @@
-package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
-
-/**
- * This program is free software; you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation; either version 2 of the License, or
- * (at your option) any later version.
- * 
- *  This program is distributed in the hope that it will be useful,
- *  but WITHOUT ANY WARRANTY; without even the implied warranty of
- *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- *  GNU General Public License for more details.
- *  
- *  You should have received a copy of the GNU General Public License
- *  along with this program; if not, write to the Free Software
- *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
- */
-
-/**
- * Probability distribution when (pot/(nbShowdownPlayer*BigBlind)<=4
- */
-public class ShowdownRankPredictor1of4 {
-
-	private final static float[] relShowdownProb = new float[7462];
-
-	public static float getRelativeProbability(int rank) {
-		return relShowdownProb[rank];
-	}
-
-	static {
-		relShowdownProb[48] = 0.58628744F;
-		relShowdownProb[51] = 0.49172497F;
-		relShowdownProb[82] = 0.58628744F;
-		relShowdownProb[85] = 0.8699749F;
-		relShowdownProb[86] = 0.52954996F;
-		relShowdownProb[102] = 0.52954996F;
-		relShowdownProb[105] = 1.1536624F;
-		relShowdownProb[106] = 0.8416062F;
-		relShowdownProb[112] = 0.643025F;
-		relShowdownProb[115] = 0.88888747F;
-		relShowdownProb[116] = 0.8510624F;
-		relShowdownProb[119] = 0.88888747F;
-		relShowdownProb[120] = 0.77541244F;
-		relShowdownProb[151] = 0.52954996F;
-		relShowdownProb[154] = 0.73758745F;
-		relShowdownProb[155] = 0.77541244F;
-		relShowdownProb[171] = 0.8699749F;
-		relShowdownProb[174] = 0.96453744F;
-		relShowdownProb[175] = 0.8037812F;
-		relShowdownProb[181] = 0.6241124F;
-		relShowdownProb[184] = 0.6619375F;
-		relShowdownProb[185] = 0.8573666F;
-		relShowdownProb[188] = 0.77541244F;
-		relShowdownProb[189] = 0.7880208F;
-		relShowdownProb[190] = 0.8321499F;
-		relShowdownProb[206] = 0.75649995F;
-		relShowdownProb[209] = 0.8699749F;
-		relShowdownProb[210] = 0.79432493F;
-		relShowdownProb[216] = 0.6619375F;
-		relShowdownProb[219] = 0.68084997F;
-		relShowdownProb[220] = 0.93932074F;
-		relShowdownProb[223] = 0.8699749F;
-		relShowdownProb[224] = 0.90779996F;
-		relShowdownProb[225] = 0.8094549F;
-		relShowdownProb[231] = 0.88888747F;
-		relShowdownProb[234] = 1.0023624F;
-		relShowdownProb[235] = 0.8069333F;
-		relShowdownProb[238] = 0.79432493F;
-		relShowdownProb[239] = 0.8069333F;
-		relShowdownProb[240] = 1.0086666F;
-		relShowdownProb[243] = 0.8132374F;
-		relShowdownProb[244] = 0.7691083F;
-		relShowdownProb[245] = 0.85421455F;
-		relShowdownProb[276] = 0.69976246F;
-		relShowdownProb[279] = 0.73758745F;
-		relShowdownProb[280] = 0.8699749F;
-		relShowdownProb[296] = 0.60519993F;
-		relShowdownProb[299] = 0.77541244F;
-		relShowdownProb[300] = 0.6619375F;
-		relShowdownProb[306] = 0.73758745F;
-		relShowdownProb[309] = 0.8132374F;
-		relShowdownProb[310] = 0.7880208F;
-		relShowdownProb[313] = 0.71867496F;
-		relShowdownProb[314] = 0.96453744F;
-		relShowdownProb[315] = 0.88888747F;
-		relShowdownProb[331] = 0.79432493F;
-		relShowdownProb[334] = 0.8699749F;
-		relShowdownProb[335] = 0.7848687F;
-		relShowdownProb[341] = 0.8132374F;
-		relShowdownProb[344] = 0.6241124F;
-		relShowdownProb[345] = 0.98344994F;
-		relShowdownProb[348] = 0.8510624F;
-		relShowdownProb[349] = 0.9141041F;
-		relShowdownProb[350] = 0.79432493F;
-		relShowdownProb[356] = 0.94562495F;
-		relShowdownProb[359] = 0.94562495F;
-		relShowdownProb[360] = 0.8258458F;
-		relShowdownProb[363] = 0.8699749F;
-		relShowdownProb[364] = 1.0212749F;
-		relShowdownProb[365] = 1.0307312F;
-		relShowdownProb[368] = 0.8321499F;
-		relShowdownProb[369] = 0.94562495F;
-		relShowdownProb[370] = 0.9141041F;
-		relShowdownProb[371] = 0.9235604F;
-		relShowdownProb[387] = 0.92671245F;
-		relShowdownProb[390] = 0.90779996F;
-		relShowdownProb[391] = 0.8226937F;
-		relShowdownProb[397] = 0.6241124F;
-		relShowdownProb[400] = 0.94562495F;
-		relShowdownProb[401] = 0.8321499F;
-		relShowdownProb[404] = 1.0401875F;
-		relShowdownProb[405] = 0.9330166F;
-		relShowdownProb[406] = 1.0477524F;
-		relShowdownProb[412] = 0.96453744F;
-		relShowdownProb[415] = 0.73758745F;
-		relShowdownProb[416] = 0.9141041F;
-		relShowdownProb[419] = 0.79432493F;
-		relShowdownProb[420] = 0.92040825F;
-		relShowdownProb[421] = 0.986602F;
-		relShowdownProb[424] = 0.71867496F;
-		relShowdownProb[425] = 0.9519291F;
-		relShowdownProb[426] = 1.0685562F;
-		relShowdownProb[427] = 1.0569985F;
-		relShowdownProb[433] = 0.8321499F;
-		relShowdownProb[436] = 0.8699749F;
-		relShowdownProb[437] = 0.88258326F;
-		relShowdownProb[440] = 0.8699749F;
-		relShowdownProb[441] = 0.9708416F;
-		relShowdownProb[442] = 1.0969249F;
-		relShowdownProb[445] = 1.0212749F;
-		relShowdownProb[446] = 1.0401875F;
-		relShowdownProb[447] = 1.0055145F;
-		relShowdownProb[448] = 1.1669011F;
-		relShowdownProb[451] = 0.79432493F;
-		relShowdownProb[452] = 0.9141041F;
-		relShowdownProb[453] = 0.98344994F;
-		relShowdownProb[454] = 1.0401875F;
-		relShowdownProb[485] = 0.8321499F;
-		relShowdownProb[488] = 0.92671245F;
-		relShowdownProb[489] = 0.68084997F;
-		relShowdownProb[505] = 0.96453744F;
-		relShowdownProb[508] = 0.88888747F;
-		relShowdownProb[509] = 0.74704367F;
-		relShowdownProb[515] = 0.77541244F;
-		relShowdownProb[518] = 0.96453744F;
-		relShowdownProb[519] = 0.9708416F;
-		relShowdownProb[522] = 0.8510624F;
-		relShowdownProb[523] = 0.8762791F;
-		relShowdownProb[524] = 0.9141041F;
-		relShowdownProb[540] = 0.94562495F;
-		relShowdownProb[543] = 1.1347499F;
-		relShowdownProb[544] = 0.90779996F;
-		relShowdownProb[550] = 0.77541244F;
-		relShowdownProb[553] = 0.94562495F;
-		relShowdownProb[554] = 0.80062914F;
-		relShowdownProb[557] = 0.8699749F;
-		relShowdownProb[558] = 0.96453744F;
-		relShowdownProb[559] = 0.9342774F;
-		relShowdownProb[565] = 0.79432493F;
-		relShowdownProb[568] = 1.0969249F;
-		relShowdownProb[569] = 0.88258326F;
-		relShowdownProb[572] = 0.92671245F;
-		relShowdownProb[573] = 0.9771458F;
-		relShowdownProb[574] = 0.98029786F;
-		relShowdownProb[577] = 0.90779996F;
-		relShowdownProb[578] = 0.9897541F;
-		relShowdownProb[579] = 1.0023624F;
-		relShowdownProb[580] = 1.0055145F;
-		relShowdownProb[596] = 0.71867496F;
-		relShowdownProb[599] = 0.98344994F;
-		relShowdownProb[600] = 0.9172562F;
-		relShowdownProb[606] = 0.88888747F;
-		relShowdownProb[609] = 0.88888747F;
-		relShowdownProb[610] = 0.98344994F;
-		relShowdownProb[613] = 0.8321499F;
-		relShowdownProb[614] = 0.9897541F;
-		relShowdownProb[615] = 1.0174924F;
-		relShowdownProb[621] = 0.88888747F;
-		relShowdownProb[624] = 0.8510624F;
-		relShowdownProb[625] = 0.96453744F;
-		relShowdownProb[628] = 1.0780125F;
-		relShowdownProb[629] = 0.90149575F;
-		relShowdownProb[630] = 1.0811645F;
-		relShowdownProb[633] = 0.88888747F;
-		relShowdownProb[634] = 1.1347499F;
-		relShowdownProb[635] = 1.1063812F;
-		relShowdownProb[636] = 0.96453744F;
-		relShowdownProb[642] = 0.73758745F;
-		relShowdownProb[645] = 0.79432493F;
-		relShowdownProb[646] = 1.0023624F;
-		relShowdownProb[649] = 0.88888747F;
-		relShowdownProb[650] = 1.0464916F;
-		relShowdownProb[651] = 1.062252F;
-		relShowdownProb[654] = 1.0401875F;
-		relShowdownProb[655] = 0.94562495F;
-		relShowdownProb[656] = 1.2103999F;
-		relShowdownProb[657] = 1.1007074F;
-		relShowdownProb[660] = 0.8699749F;
-		relShowdownProb[661] = 1.0969249F;
-		relShowdownProb[662] = 1.0496436F;
-		relShowdownProb[663] = 1.1593362F;
-		relShowdownProb[664] = 1.1517712F;
-		relShowdownProb[680] = 0.8132374F;
-		relShowdownProb[683] = 1.0590999F;
-		relShowdownProb[684] = 1.0118186F;
-		relShowdownProb[690] = 0.75649995F;
-		relShowdownProb[693] = 1.0401875F;
-		relShowdownProb[694] = 0.95823324F;
-		relShowdownProb[697] = 1.0590999F;
-		relShowdownProb[698] = 1.065404F;
-		relShowdownProb[699] = 0.96831995F;
-		relShowdownProb[705] = 0.92671245F;
-		relShowdownProb[708] = 0.96453744F;
-		relShowdownProb[709] = 0.8573666F;
-		relShowdownProb[712] = 1.0212749F;
-		relShowdownProb[713] = 1.0527958F;
-		relShowdownProb[714] = 1.0055145F;
-		relShowdownProb[717] = 0.8321499F;
-		relShowdownProb[718] = 0.9897541F;
-		relShowdownProb[719] = 1.1158375F;
-		relShowdownProb[720] = 1.1221416F;
-		relShowdownProb[726] = 0.92671245F;
-		relShowdownProb[729] = 0.75649995F;
-		relShowdownProb[730] = 0.9771458F;
-		relShowdownProb[733] = 0.8321499F;
-		relShowdownProb[734] = 1.1914874F;
-		relShowdownProb[735] = 1.1126853F;
-		relShowdownProb[738] = 1.2103999F;
-		relShowdownProb[739] = 1.0149708F;
-		relShowdownProb[740] = 1.2103999F;
-		relShowdownProb[741] = 1.2387687F;
-		relShowdownProb[744] = 1.3616999F;
-		relShowdownProb[745] = 1.0843166F;
-		relShowdownProb[746] = 1.2324646F;
-		relShowdownProb[747] = 1.1025987F;
-		relShowdownProb[748] = 1.2387687F;
-		relShowdownProb[754] = 0.79432493F;
-		relShowdownProb[757] = 0.88888747F;
-		relShowdownProb[758] = 1.0401875F;
-		relShowdownProb[761] = 1.0401875F;
-		relShowdownProb[762] = 1.1851833F;
-		relShowdownProb[763] = 1.1284457F;
-		relShowdownProb[766] = 0.90779996F;
-		relShowdownProb[767] = 1.2167041F;
-		relShowdownProb[768] = 1.1914874F;
-		relShowdownProb[769] = 1.202835F;
-		relShowdownProb[772] = 1.0969249F;
-		relShowdownProb[773] = 1.1914874F;
-		relShowdownProb[774] = 1.1788791F;
-		relShowdownProb[775] = 1.2312037F;
-		relShowdownProb[776] = 1.3314399F;
-		relShowdownProb[779] = 0.90779996F;
-		relShowdownProb[780] = 1.1599666F;
-		relShowdownProb[781] = 1.062252F;
-		relShowdownProb[782] = 1.24066F;
-		relShowdownProb[783] = 1.2847891F;
-		relShowdownProb[816] = 0.88888747F;
-		relShowdownProb[817] = 1.0212749F;
-		relShowdownProb[836] = 1.0023624F;
-		relShowdownProb[837] = 0.92671245F;
-		relShowdownProb[846] = 0.98344994F;
-		relShowdownProb[847] = 1.0401875F;
-		relShowdownProb[850] = 1.1536624F;
-		relShowdownProb[851] = 1.2734416F;
-		relShowdownProb[852] = 0.92671245F;
-		relShowdownProb[871] = 0.6619375F;
-		relShowdownProb[872] = 1.0212749F;
-		relShowdownProb[881] = 1.1914874F;
-		relShowdownProb[882] = 1.0212749F;
-		relShowdownProb[885] = 1.323875F;
-		relShowdownProb[886] = 1.1221416F;
-		relShowdownProb[887] = 1.0590999F;
-		relShowdownProb[896] = 0.96453744F;
-		relShowdownProb[897] = 1.103229F;
-		relShowdownProb[900] = 0.8321499F;
-		relShowdownProb[901] = 0.96453744F;
-		relShowdownProb[902] = 1.0780125F;
-		relShowdownProb[905] = 1.0590999F;
-		relShowdownProb[906] = 1.0212749F;
-		relShowdownProb[907] = 1.2765937F;
-		relShowdownProb[908] = 1.1315979F;
-		relShowdownProb[927] = 1.1725749F;
-		relShowdownProb[928] = 0.8794312F;
-		relShowdownProb[937] = 1.28605F;
-		relShowdownProb[938] = 1.1158375F;
-		relShowdownProb[941] = 0.96453744F;
-		relShowdownProb[942] = 1.0717082F;
-		relShowdownProb[943] = 1.0855774F;
-		relShowdownProb[952] = 0.94562495F;
-		relShowdownProb[953] = 1.2230083F;
-		relShowdownProb[956] = 1.1158375F;
-		relShowdownProb[957] = 1.0590999F;
-		relShowdownProb[958] = 1.1189895F;
-		relShowdownProb[961] = 1.0780125F;
-		relShowdownProb[962] = 1.1347499F;
-		relShowdownProb[963] = 1.1347499F;
-		relShowdownProb[964] = 1.2251096F;
-		relShowdownProb[973] = 0.92671245F;
-		relShowdownProb[974] = 1.1284457F;
-		relShowdownProb[977] = 1.2482249F;
-		relShowdownProb[978] = 1.1158375F;
-		relShowdownProb[979] = 1.1694229F;
-		relShowdownProb[982] = 1.1347499F;
-		relShowdownProb[983] = 1.2671374F;
-		relShowdownProb[984] = 1.289202F;
-		relShowdownProb[985] = 1.1877049F;
-		relShowdownProb[988] = 1.1158375F;
-		relShowdownProb[989] = 1.1347499F;
-		relShowdownProb[990] = 1.2765937F;
-		relShowdownProb[991] = 1.2992886F;
-		relShowdownProb[992] = 1.1725749F;
-		relShowdownProb[1011] = 1.0590999F;
-		relShowdownProb[1012] = 0.98344994F;
-		relShowdownProb[1021] = 1.0212749F;
-		relShowdownProb[1022] = 1.0527958F;
-		relShowdownProb[1025] = 1.0212749F;
-		relShowdownProb[1026] = 1.0527958F;
-		relShowdownProb[1027] = 1.1158375F;
-		relShowdownProb[1036] = 0.8699749F;
-		relShowdownProb[1037] = 0.9708416F;
-		relShowdownProb[1040] = 1.0780125F;
-		relShowdownProb[1041] = 1.1221416F;
-		relShowdownProb[1042] = 1.0590999F;
-		relShowdownProb[1045] = 1.0590999F;
-		relShowdownProb[1046] = 1.0717082F;
-		relShowdownProb[1047] = 1.1536624F;
-		relShowdownProb[1048] = 1.0675055F;
-		relShowdownProb[1057] = 0.8510624F;
-		relShowdownProb[1058] = 1.0212749F;
-		relShowdownProb[1061] = 1.0212749F;
-		relShowdownProb[1062] = 1.0527958F;
-		relShowdownProb[1063] = 1.103229F;
-		relShowdownProb[1066] = 1.1158375F;
-		relShowdownProb[1067] = 0.9519291F;
-		relShowdownProb[1068] = 1.251377F;
-		relShowdownProb[1069] = 1.202835F;
-		relShowdownProb[1072] = 1.4373499F;
-		relShowdownProb[1073] = 1.0401875F;
-		relShowdownProb[1074] = 1.1568145F;
-		relShowdownProb[1075] = 1.2973974F;
-		relShowdownProb[1076] = 1.3630508F;
-		relShowdownProb[1085] = 1.1347499F;
-		relShowdownProb[1086] = 1.2293124F;
-		relShowdownProb[1089] = 1.2293124F;
-		relShowdownProb[1090] = 1.1788791F;
-		relShowdownProb[1091] = 1.1347499F;
-		relShowdownProb[1094] = 0.8510624F;
-		relShowdownProb[1095] = 1.1914874F;
-		relShowdownProb[1096] = 1.3490915F;
-		relShowdownProb[1097] = 1.3427874F;
-		relShowdownProb[1100] = 1.3995249F;
-		relShowdownProb[1101] = 1.2230083F;
-		relShowdownProb[1102] = 1.3175707F;
-		relShowdownProb[1103] = 1.4373499F;
-		relShowdownProb[1104] = 1.3957424F;
-		relShowdownProb[1107] = 1.1158375F;
-		relShowdownProb[1108] = 1.3175707F;
-		relShowdownProb[1109] = 1.3837645F;
-		relShowdownProb[1110] = 1.3484612F;
-		relShowdownProb[1111] = 1.4146549F;
-		relShowdownProb[1112] = 1.4234807F;
-		relShowdownProb[1131] = 0.88888747F;
-		relShowdownProb[1132] = 1.0401875F;
-		relShowdownProb[1141] = 1.3995249F;
-		relShowdownProb[1142] = 1.0717082F;
-		relShowdownProb[1145] = 1.1914874F;
-		relShowdownProb[1146] = 1.141054F;
-		relShowdownProb[1147] = 1.112055F;
-		relShowdownProb[1156] = 1.4373499F;
-		relShowdownProb[1157] = 1.1788791F;
-		relShowdownProb[1160] = 1.0780125F;
-		relShowdownProb[1161] = 1.103229F;
-		relShowdownProb[1162] = 1.2387687F;
-		relShowdownProb[1165] = 1.0969249F;
-		relShowdownProb[1166] = 1.065404F;
-		relShowdownProb[1167] = 1.2103999F;
-		relShowdownProb[1168] = 1.2608333F;
-		relShowdownProb[1177] = 1.1536624F;
-		relShowdownProb[1178] = 1.1095333F;
-		relShowdownProb[1181] = 1.4751749F;
-		relShowdownProb[1182] = 1.1536624F;
-		relShowdownProb[1183] = 1.2545291F;
-		relShowdownProb[1186] = 1.0780125F;
-		relShowdownProb[1187] = 1.1851833F;
-		relShowdownProb[1188] = 1.2923541F;
-		relShowdownProb[1189] = 1.2973974F;
-		relShowdownProb[1192] = 1.0780125F;
-		relShowdownProb[1193] = 1.0780125F;
-		relShowdownProb[1194] = 1.364852F;
-		relShowdownProb[1195] = 1.4108725F;
-		relShowdownProb[1196] = 1.3616999F;
-		relShowdownProb[1205] = 1.1536624F;
-		relShowdownProb[1206] = 1.2230083F;
-		relShowdownProb[1209] = 1.0401875F;
-		relShowdownProb[1210] = 1.1536624F;
-		relShowdownProb[1211] = 1.289202F;
-		relShowdownProb[1214] = 0.96453744F;
-		relShowdownProb[1215] = 1.1536624F;
-		relShowdownProb[1216] = 1.3081145F;
-		relShowdownProb[1217] = 1.2047262F;
-		relShowdownProb[1220] = 1.1158375F;
-		relShowdownProb[1221] = 1.1473583F;
-		relShowdownProb[1222] = 1.3837645F;
-		relShowdownProb[1223] = 1.3295486F;
-		relShowdownProb[1224] = 1.4184374F;
-		relShowdownProb[1227] = 1.2482249F;
-		relShowdownProb[1228] = 1.2103999F;
-		relShowdownProb[1229] = 1.4531103F;
-		relShowdownProb[1230] = 1.4335674F;
-		relShowdownProb[1231] = 1.5483032F;
-		relShowdownProb[1232] = 1.6075624F;
-		relShowdownProb[1241] = 1.3049624F;
-		relShowdownProb[1242] = 1.1095333F;
-		relShowdownProb[1245] = 1.28605F;
-		relShowdownProb[1246] = 1.1599666F;
-		relShowdownProb[1247] = 1.1126853F;
-		relShowdownProb[1250] = 1.2482249F;
-		relShowdownProb[1251] = 1.2230083F;
-		relShowdownProb[1252] = 1.2671374F;
-		relShowdownProb[1253] = 1.3503524F;
-		relShowdownProb[1256] = 1.0780125F;
-		relShowdownProb[1257] = 1.3301791F;
-		relShowdownProb[1258] = 1.2923541F;
-		relShowdownProb[1259] = 1.3787211F;
-		relShowdownProb[1260] = 1.4550016F;
-		relShowdownProb[1263] = 1.1158375F;
-		relShowdownProb[1264] = 1.3301791F;
-		relShowdownProb[1265] = 1.3806124F;
-		relShowdownProb[1266] = 1.3730474F;
-		relShowdownProb[1267] = 1.5319124F;
-		relShowdownProb[1268] = 1.6057612F;
-		relShowdownProb[1271] = 1.3995249F;
-		relShowdownProb[1272] = 1.1851833F;
-		relShowdownProb[1273] = 1.2450728F;
-		relShowdownProb[1274] = 1.5224562F;
-		relShowdownProb[1275] = 1.519304F;
-		relShowdownProb[1276] = 1.7813772F;
-		relShowdownProb[1295] = 0.94008493F;
-		relShowdownProb[1296] = 0.6926941F;
-		relShowdownProb[1305] = 1.1874757F;
-		relShowdownProb[1306] = 0.87411404F;
-		relShowdownProb[1309] = 0.643216F;
-		relShowdownProb[1310] = 0.7256796F;
-		relShowdownProb[1311] = 0.8411286F;
-		relShowdownProb[1320] = 0.94008493F;
-		relShowdownProb[1321] = 0.7256796F;
-		relShowdownProb[1324] = 0.54425967F;
-		relShowdownProb[1325] = 0.9565776F;
-		relShowdownProb[1326] = 0.9318386F;
-		relShowdownProb[1329] = 0.643216F;
-		relShowdownProb[1330] = 0.7421723F;
-		relShowdownProb[1331] = 0.80814314F;
-		relShowdownProb[1332] = 0.89610434F;
-		relShowdownProb[1341] = 0.643216F;
-		relShowdownProb[1342] = 0.8411286F;
-		relShowdownProb[1345] = 0.7916505F;
-		relShowdownProb[1346] = 0.89060676F;
-		relShowdownProb[1347] = 0.9483313F;
-		relShowdownProb[1350] = 1.0885193F;
-		relShowdownProb[1351] = 0.89060676F;
-		relShowdownProb[1352] = 0.9978094F;
-		relShowdownProb[1353] = 0.9005024F;
-		relShowdownProb[1356] = 0.89060676F;
-		relShowdownProb[1357] = 0.98956305F;
-		relShowdownProb[1358] = 0.8411286F;
-		relShowdownProb[1359] = 0.94008493F;
-		relShowdownProb[1360] = 1.0001656F;
-		relShowdownProb[1369] = 0.8411286F;
-		relShowdownProb[1370] = 0.94008493F;
-		relShowdownProb[1373] = 0.643216F;
-		relShowdownProb[1374] = 0.89060676F;
-		relShowdownProb[1375] = 0.98956305F;
-		relShowdownProb[1378] = 0.49478152F;
-		relShowdownProb[1379] = 1.105012F;
-		relShowdownProb[1380] = 1.0720266F;
-		relShowdownProb[1381] = 1.0143021F;
-		relShowdownProb[1384] = 0.98956305F;
-		relShowdownProb[1385] = 0.8576213F;
-		relShowdownProb[1386] = 1.0307949F;
-		relShowdownProb[1387] = 1.0143021F;
-		relShowdownProb[1388] = 0.98296595F;
-		relShowdownProb[1391] = 0.89060676F;
-		relShowdownProb[1392] = 0.9235922F;
-		relShowdownProb[1393] = 0.96482396F;
-		relShowdownProb[1394] = 1.0044065F;
-		relShowdownProb[1395] = 1.2039684F;
-		relShowdownProb[1396] = 1.1478932F;
-		relShowdownProb[1405] = 0.8411286F;
-		relShowdownProb[1406] = 1.105012F;
-		relShowdownProb[1409] = 0.7916505F;
-		relShowdownProb[1410] = 0.9235922F;
-		relShowdownProb[1411] = 0.7916505F;
-		relShowdownProb[1414] = 0.49478152F;
-		relShowdownProb[1415] = 0.89060676F;
-		relShowdownProb[1416] = 1.0225486F;
-		relShowdownProb[1417] = 1.0291456F;
-		relShowdownProb[1420] = 0.98956305F;
-		relShowdownProb[1421] = 0.9565776F;
-		relShowdownProb[1422] = 1.1792293F;
-		relShowdownProb[1423] = 0.94998056F;
-		relShowdownProb[1424] = 1.1478932F;
-		relShowdownProb[1427] = 0.44530338F;
-		relShowdownProb[1428] = 0.9565776F;
-		relShowdownProb[1429] = 0.8988531F;
-		relShowdownProb[1430] = 1.0093544F;
-		relShowdownProb[1431] = 1.1478932F;
-		relShowdownProb[1432] = 1.1804074F;
-		relShowdownProb[1435] = 0.7916505F;
-		relShowdownProb[1436] = 0.89060676F;
-		relShowdownProb[1437] = 1.170983F;
-		relShowdownProb[1438] = 1.0835716F;
-		relShowdownProb[1439] = 1.134699F;
-		relShowdownProb[1440] = 1.1969001F;
-		relShowdownProb[1441] = 1.3908858F;
-		relShowdownProb[1451] = 1.105012F;
-		relShowdownProb[1455] = 1.0885193F;
-		relShowdownProb[1456] = 1.1379975F;
-		relShowdownProb[1460] = 1.0885193F;
-		relShowdownProb[1461] = 1.2616929F;
-		relShowdownProb[1462] = 1.1627367F;
-		relShowdownProb[1466] = 1.286432F;
-		relShowdownProb[1467] = 1.0637803F;
-		relShowdownProb[1468] = 1.1478932F;
-		relShowdownProb[1469] = 1.2006699F;
-		relShowdownProb[1473] = 1.1379975F;
-		relShowdownProb[1474] = 1.1379975F;
-		relShowdownProb[1475] = 1.1478932F;
-		relShowdownProb[1476] = 1.3326116F;
-		relShowdownProb[1477] = 1.3712517F;
-		relShowdownProb[1481] = 1.3359101F;
-		relShowdownProb[1482] = 1.170983F;
-		relShowdownProb[1483] = 1.2963276F;
-		relShowdownProb[1484] = 1.3985825F;
-		relShowdownProb[1485] = 1.4136615F;
-		relShowdownProb[1486] = 1.5267544F;
-		relShowdownProb[1490] = 1.1544902F;
-		relShowdownProb[1491] = 1.2204611F;
-		relShowdownProb[1492] = 1.2221104F;
-		relShowdownProb[1493] = 1.1973714F;
-		relShowdownProb[1494] = 1.4442909F;
-		relShowdownProb[1495] = 1.5691643F;
-		relShowdownProb[1496] = 1.5281681F;
-		relShowdownProb[1515] = 0.8411286F;
-		relShowdownProb[1516] = 0.7669114F;
-		relShowdownProb[1525] = 0.643216F;
-		relShowdownProb[1526] = 0.7669114F;
-		relShowdownProb[1529] = 1.0390412F;
-		relShowdownProb[1530] = 0.9235922F;
-		relShowdownProb[1531] = 0.9005024F;
-		relShowdownProb[1540] = 1.0390412F;
-		relShowdownProb[1541] = 0.8658677F;
-		relShowdownProb[1544] = 0.89060676F;
-		relShowdownProb[1545] = 1.1215048F;
-		relShowdownProb[1546] = 1.0225486F;
-		relShowdownProb[1549] = 0.7421723F;
-		relShowdownProb[1550] = 0.98956305F;
-		relShowdownProb[1551] = 0.9730703F;
-		relShowdownProb[1552] = 0.96757275F;
-		relShowdownProb[1561] = 0.94008493F;
-		relShowdownProb[1562] = 0.98956305F;
-		relShowdownProb[1565] = 0.8411286F;
-		relShowdownProb[1566] = 0.82463586F;
-		relShowdownProb[1567] = 0.9978094F;
-		relShowdownProb[1570] = 0.94008493F;
-		relShowdownProb[1571] = 0.9565776F;
-		relShowdownProb[1572] = 1.1792293F;
-		relShowdownProb[1573] = 0.93018925F;
-		relShowdownProb[1576] = 0.6926941F;
-		relShowdownProb[1577] = 0.8576213F;
-		relShowdownProb[1578] = 0.96482396F;
-		relShowdownProb[1579] = 1.0835716F;
-		relShowdownProb[1580] = 1.1061901F;
-		relShowdownProb[1589] = 1.0390412F;
-		relShowdownProb[1590] = 1.2122147F;
-		relShowdownProb[1593] = 0.643216F;
-		relShowdownProb[1594] = 1.0060558F;
-		relShowdownProb[1595] = 0.9318386F;
-		relShowdownProb[1598] = 0.7916505F;
-		relShowdownProb[1599] = 0.8411286F;
-		relShowdownProb[1600] = 1.0225486F;
-		relShowdownProb[1601] = 1.1577888F;
-		relShowdownProb[1604] = 1.0885193F;
-		relShowdownProb[1605] = 0.5607524F;
-		relShowdownProb[1606] = 0.96482396F;
-		relShowdownProb[1607] = 1.1379975F;
-		relShowdownProb[1608] = 1.1940727F;
-		relShowdownProb[1611] = 0.59373784F;
-		relShowdownProb[1612] = 0.9565776F;
-		relShowdownProb[1613] = 1.1792293F;
-		relShowdownProb[1614] = 1.1083106F;
-		relShowdownProb[1615] = 1.1314005F;
-		relShowdownProb[1616] = 1.1107845F;
-		relShowdownProb[1625] = 1.1874757F;
-		relShowdownProb[1626] = 0.91534585F;
-		relShowdownProb[1629] = 0.89060676F;
-		relShowdownProb[1630] = 1.1215048F;
-		relShowdownProb[1631] = 1.0885193F;
-		relShowdownProb[1634] = 0.7421723F;
-		relShowdownProb[1635] = 0.9730703F;
-		relShowdownProb[1636] = 0.8988531F;
-		relShowdownProb[1637] = 0.83123296F;
-		relShowdownProb[1640] = 0.8411286F;
-		relShowdownProb[1641] = 0.8411286F;
-		relShowdownProb[1642] = 0.9730703F;
-		relShowdownProb[1643] = 1.0885193F;
-		relShowdownProb[1644] = 1.1511917F;
-		relShowdownProb[1647] = 0.98956305F;
-		relShowdownProb[1648] = 1.0885193F;
-		relShowdownProb[1649] = 1.2122147F;
-		relShowdownProb[1650] = 0.97471964F;
-		relShowdownProb[1651] = 1.2534466F;
-		relShowdownProb[1652] = 1.3005686F;
-		relShowdownProb[1655] = 0.8411286F;
-		relShowdownProb[1656] = 1.3194174F;
-		relShowdownProb[1657] = 1.4101274F;
-		relShowdownProb[1658] = 1.0786238F;
-		relShowdownProb[1659] = 1.1511917F;
-		relShowdownProb[1660] = 1.3830322F;
-		relShowdownProb[1661] = 1.2717718F;
-		relShowdownProb[1671] = 1.0637803F;
-		relShowdownProb[1675] = 0.9730703F;
-		relShowdownProb[1676] = 1.1379975F;
-		relShowdownProb[1680] = 1.0885193F;
-		relShowdownProb[1681] = 1.2369539F;
-		relShowdownProb[1682] = 1.1973714F;
-		relShowdownProb[1686] = 1.0225486F;
-		relShowdownProb[1687] = 1.2452002F;
-		relShowdownProb[1688] = 1.1429453F;
-		relShowdownProb[1689] = 1.1973714F;
-		relShowdownProb[1693] = 1.1544902F;
-		relShowdownProb[1694] = 1.2287074F;
-		relShowdownProb[1695] = 1.1379975F;
-		relShowdownProb[1696] = 1.3194174F;
-		relShowdownProb[1697] = 1.3123491F;
-		relShowdownProb[1701] = 1.2369539F;
-		relShowdownProb[1702] = 1.2204611F;
-		relShowdownProb[1703] = 1.2765363F;
-		relShowdownProb[1704] = 1.3392087F;
-		relShowdownProb[1705] = 1.3971688F;
-		relShowdownProb[1706] = 1.3889225F;
-		relShowdownProb[1710] = 1.3359101F;
-		relShowdownProb[1711] = 1.1627367F;
-		relShowdownProb[1712] = 1.2072669F;
-		relShowdownProb[1713] = 1.438165F;
-		relShowdownProb[1714] = 1.4749202F;
-		relShowdownProb[1715] = 1.5002483F;
-		relShowdownProb[1716] = 1.7218398F;
-		relShowdownProb[1735] = 0.94008493F;
-		relShowdownProb[1736] = 1.1379975F;
-		relShowdownProb[1745] = 0.89060676F;
-		relShowdownProb[1746] = 0.7421723F;
-		relShowdownProb[1749] = 0.98956305F;
-		relShowdownProb[1750] = 1.0060558F;
-		relShowdownProb[1751] = 0.88071114F;
-		relShowdownProb[1760] = 0.7916505F;
-		relShowdownProb[1761] = 0.94008493F;
-		relShowdownProb[1764] = 0.8411286F;
-		relShowdownProb[1765] = 0.8576213F;
-		relShowdownProb[1766] = 0.8411286F;
-		relShowdownProb[1769] = 0.89060676F;
-		relShowdownProb[1770] = 0.89060676F;
-		relShowdownProb[1771] = 0.9730703F;
-		relShowdownProb[1772] = 0.8576213F;
-		relShowdownProb[1781] = 0.7916505F;
-		relShowdownProb[1782] = 1.0390412F;
-		relShowdownProb[1785] = 0.49478152F;
-		relShowdownProb[1786] = 1.170983F;
-		relShowdownProb[1787] = 0.94008493F;
-		relShowdownProb[1790] = 0.98956305F;
-		relShowdownProb[1791] = 1.0885193F;
-		relShowdownProb[1792] = 0.96482396F;
-		relShowdownProb[1793] = 1.0885193F;
-		relShowdownProb[1796] = 0.8411286F;
-		relShowdownProb[1797] = 0.8411286F;
-		relShowdownProb[1798] = 1.0555339F;
-		relShowdownProb[1799] = 1.2270582F;
-		relShowdownProb[1800] = 1.102656F;
-		relShowdownProb[1809] = 0.7916505F;
-		relShowdownProb[1810] = 0.7174332F;
-		relShowdownProb[1813] = 0.643216F;
-		relShowdownProb[1814] = 1.2699393F;
-		relShowdownProb[1815] = 0.94008493F;
-		relShowdownProb[1818] = 0.7421723F;
-		relShowdownProb[1819] = 0.94008493F;
-		relShowdownProb[1820] = 1.080273F;
-		relShowdownProb[1821] = 0.8856589F;
-		relShowdownProb[1824] = 0.39582524F;
-		relShowdownProb[1825] = 0.8576213F;
-		relShowdownProb[1826] = 1.1462439F;
-		relShowdownProb[1827] = 1.0687281F;
-		relShowdownProb[1828] = 1.1907742F;
-		relShowdownProb[1831] = 0.7916505F;
-		relShowdownProb[1832] = 0.9730703F;
-		relShowdownProb[1833] = 1.195722F;
-		relShowdownProb[1834] = 1.1577888F;
-		relShowdownProb[1835] = 1.1149077F;
-		relShowdownProb[1836] = 1.0885193F;
-		relShowdownProb[1845] = 1.1874757F;
-		relShowdownProb[1846] = 0.8163895F;
-		relShowdownProb[1849] = 1.2369539F;
-		relShowdownProb[1850] = 0.8576213F;
-		relShowdownProb[1851] = 1.0489368F;
-		relShowdownProb[1854] = 0.54425967F;
-		relShowdownProb[1855] = 0.9070995F;
-		relShowdownProb[1856] = 0.9813167F;
-		relShowdownProb[1857] = 1.0835716F;
-		relShowdownProb[1860] = 0.89060676F;
-		relShowdownProb[1861] = 1.2699393F;
-		relShowdownProb[1862] = 1.105012F;
-		relShowdownProb[1863] = 1.0786238F;
-		relShowdownProb[1864] = 1.2171626F;
-		relShowdownProb[1867] = 0.94008493F;
-		relShowdownProb[1868] = 1.0225486F;
-		relShowdownProb[1869] = 1.2534466F;
-		relShowdownProb[1870] = 1.128102F;
-		relShowdownProb[1871] = 1.286432F;
-		relShowdownProb[1872] = 1.2770076F;
-		relShowdownProb[1875] = 1.2369539F;
-		relShowdownProb[1876] = 1.2039684F;
-		relShowdownProb[1877] = 1.195722F;
-		relShowdownProb[1878] = 1.17758F;
-		relShowdownProb[1879] = 1.1940727F;
-		relShowdownProb[1880] = 1.2911441F;
-		relShowdownProb[1881] = 1.3450727F;
-		relShowdownProb[1891] = 0.94008493F;
-		relShowdownProb[1895] = 1.0390412F;
-		relShowdownProb[1896] = 1.1973714F;
-		relShowdownProb[1900] = 1.1544902F;
-		relShowdownProb[1901] = 1.3524028F;
-		relShowdownProb[1902] = 1.1726322F;
-		relShowdownProb[1906] = 1.0225486F;
-		relShowdownProb[1907] = 1.1215048F;
-		relShowdownProb[1908] = 1.1825279F;
-		relShowdownProb[1909] = 1.329313F;
-		relShowdownProb[1913] = 1.0555339F;
-		relShowdownProb[1914] = 1.1462439F;
-		relShowdownProb[1915] = 1.128102F;
-		relShowdownProb[1916] = 1.2963276F;
-		relShowdownProb[1917] = 1.357115F;
-		relShowdownProb[1921] = 1.2699393F;
-		relShowdownProb[1922] = 1.105012F;
-		relShowdownProb[1923] = 1.2468494F;
-		relShowdownProb[1924] = 1.4117767F;
-		relShowdownProb[1925] = 1.3594712F;
-		relShowdownProb[1926] = 1.4295652F;
-		relShowdownProb[1930] = 1.4183737F;
-		relShowdownProb[1931] = 1.377142F;
-		relShowdownProb[1932] = 1.3507535F;
-		relShowdownProb[1933] = 1.2765363F;
-		relShowdownProb[1934] = 1.4207299F;
-		relShowdownProb[1935] = 1.5126178F;
-		relShowdownProb[1936] = 1.641261F;
-		relShowdownProb[1955] = 0.59373784F;
-		relShowdownProb[1956] = 0.59373784F;
-		relShowdownProb[1965] = 0.44530338F;
-		relShowdownProb[1966] = 0.91534585F;
-		relShowdownProb[1969] = 0.8411286F;
-		relShowdownProb[1970] = 0.9070995F;
-		relShowdownProb[1971] = 0.8576213F;
-		relShowdownProb[1980] = 0.7916505F;
-		relShowdownProb[1981] = 0.7916505F;
-		relShowdownProb[1984] = 0.6926941F;
-		relShowdownProb[1985] = 1.0390412F;
-		relShowdownProb[1986] = 0.910398F;
-		relShowdownProb[1989] = 0.39582524F;
-		relShowdownProb[1990] = 0.98956305F;
-		relShowdownProb[1991] = 0.89060676F;
-		relShowdownProb[1992] = 0.9730703F;
-		relShowdownProb[2001] = 0.7916505F;
-		relShowdownProb[2002] = 0.91534585F;
-		relShowdownProb[2005] = 0.7916505F;
-		relShowdownProb[2006] = 0.98956305F;
-		relShowdownProb[2007] = 1.0885193F;
-		relShowdownProb[2010] = 0.98956305F;
-		relShowdownProb[2011] = 0.87411404F;
-		relShowdownProb[2012] = 0.8823604F;
-		relShowdownProb[2013] = 1.0060558F;
-		relShowdownProb[2016] = 1.1874757F;
-		relShowdownProb[2017] = 0.98956305F;
-		relShowdownProb[2018] = 0.9813167F;
-		relShowdownProb[2019] = 1.1627367F;
-		relShowdownProb[2020] = 1.0531778F;
-		relShowdownProb[2029] = 1.1874757F;
-		relShowdownProb[2030] = 1.2369539F;
-		relShowdownProb[2033] = 0.8411286F;
-		relShowdownProb[2034] = 0.94008493F;
-		relShowdownProb[2035] = 0.8708155F;
-		relShowdownProb[2038] = 0.7916505F;
-		relShowdownProb[2039] = 0.9070995F;
-		relShowdownProb[2040] = 1.1132585F;
-		relShowdownProb[2041] = 1.017051F;
-		relShowdownProb[2044] = 1.0390412F;
-		relShowdownProb[2045] = 1.1215048F;
-		relShowdownProb[2046] = 1.0472876F;
-		relShowdownProb[2047] = 1.1033628F;
-		relShowdownProb[2048] = 1.141296F;
-		relShowdownProb[2051] = 1.0390412F;
-		relShowdownProb[2052] = 0.94008493F;
-		relShowdownProb[2053] = 1.0390412F;
-		relShowdownProb[2054] = 1.1874757F;
-		relShowdownProb[2055] = 1.1544902F;
-		relShowdownProb[2056] = 1.2691146F;
-		relShowdownProb[2065] = 0.94008493F;
-		relShowdownProb[2066] = 0.54425967F;
-		relShowdownProb[2069] = 0.54425967F;
-		relShowdownProb[2070] = 1.0225486F;
-		relShowdownProb[2071] = 1.1577888F;
-		relShowdownProb[2074] = 0.7916505F;
-		relShowdownProb[2075] = 1.0060558F;
-		relShowdownProb[2076] = 1.1132585F;
-		relShowdownProb[2077] = 1.1379975F;
-		relShowdownProb[2080] = 0.89060676F;
-		relShowdownProb[2081] = 0.9235922F;
-		relShowdownProb[2082] = 1.1544902F;
-		relShowdownProb[2083] = 1.1132585F;
-		relShowdownProb[2084] = 1.1643859F;
-		relShowdownProb[2087] = 0.8411286F;
-		relShowdownProb[2088] = 1.0060558F;
-		relShowdownProb[2089] = 1.105012F;
-		relShowdownProb[2090] = 1.0538846F;
-		relShowdownProb[2091] = 1.1808786F;
-		relShowdownProb[2092] = 1.3406223F;
-		relShowdownProb[2095] = 1.0390412F;
-		relShowdownProb[2096] = 1.1215048F;
-		relShowdownProb[2097] = 1.2039684F;
-		relShowdownProb[2098] = 1.1379975F;
-		relShowdownProb[2099] = 1.2699393F;
-		relShowdownProb[2100] = 1.3524028F;
-		relShowdownProb[2101] = 1.4165412F;
-		relShowdownProb[2111] = 1.2369539F;
-		relShowdownProb[2115] = 1.1215048F;
-		relShowdownProb[2116] = 1.0291456F;
-		relShowdownProb[2120] = 1.2039684F;
-		relShowdownProb[2121] = 1.0637803F;
-		relShowdownProb[2122] = 1.2534466F;
-		relShowdownProb[2126] = 1.3359101F;
-		relShowdownProb[2127] = 1.2699393F;
-		relShowdownProb[2128] = 1.3507535F;
-		relShowdownProb[2129] = 1.250148F;
-		relShowdownProb[2133] = 1.2039684F;
-		relShowdownProb[2134] = 1.1792293F;
-		relShowdownProb[2135] = 1.2814841F;
-		relShowdownProb[2136] = 1.3754927F;
-		relShowdownProb[2137] = 1.4749202F;
-		relShowdownProb[2141] = 1.1379975F;
-		relShowdownProb[2142] = 1.195722F;
-		relShowdownProb[2143] = 1.2171626F;
-		relShowdownProb[2144] = 1.3952839F;
-		relShowdownProb[2145] = 1.4089493F;
-		relShowdownProb[2146] = 1.5603288F;
-		relShowdownProb[2150] = 1.0390412F;
-		relShowdownProb[2151] = 1.2699393F;
-		relShowdownProb[2152] = 1.3507535F;
-		relShowdownProb[2153] = 1.5206286F;
-		relShowdownProb[2154] = 1.5903692F;
-		relShowdownProb[2155] = 1.4878788F;
-		relShowdownProb[2156] = 1.6200562F;
-		relShowdownProb[2175] = 0.8411286F;
-		relShowdownProb[2176] = 0.44530338F;
-		relShowdownProb[2185] = 0.7421723F;
-		relShowdownProb[2186] = 0.89060676F;
-		relShowdownProb[2189] = 0.59373784F;
-		relShowdownProb[2190] = 0.94008493F;
-		relShowdownProb[2191] = 0.80814314F;
-		relShowdownProb[2200] = 0.8411286F;
-		relShowdownProb[2201] = 0.7174332F;
-		relShowdownProb[2204] = 0.643216F;
-		relShowdownProb[2205] = 0.80814314F;
-		relShowdownProb[2206] = 0.6827985F;
-		relShowdownProb[2209] = 1.5338228F;
-		relShowdownProb[2210] = 0.8576213F;
-		relShowdownProb[2211] = 0.9978094F;
-		relShowdownProb[2212] = 1.1627367F;
-		relShowdownProb[2221] = 0.89060676F;
-		relShowdownProb[2222] = 0.8163895F;
-		relShowdownProb[2225] = 0.7916505F;
-		relShowdownProb[2226] = 0.70918685F;
-		relShowdownProb[2227] = 0.83123296F;
-		relShowdownProb[2230] = 0.89060676F;
-		relShowdownProb[2231] = 0.7916505F;
-		relShowdownProb[2232] = 0.84937495F;
-		relShowdownProb[2233] = 1.017051F;
-		relShowdownProb[2236] = 0.7421723F;
-		relShowdownProb[2237] = 0.9235922F;
-		relShowdownProb[2238] = 1.0060558F;
-		relShowdownProb[2239] = 1.123154F;
-		relShowdownProb[2240] = 1.1344633F;
-		relShowdownProb[2249] = 1.0885193F;
-		relShowdownProb[2250] = 0.96482396F;
-		relShowdownProb[2253] = 0.8411286F;
-		relShowdownProb[2254] = 0.8411286F;
-		relShowdownProb[2255] = 0.9697718F;
-		relShowdownProb[2258] = 0.8411286F;
-		relShowdownProb[2259] = 0.7421723F;
-		relShowdownProb[2260] = 1.0143021F;
-		relShowdownProb[2261] = 1.028046F;
-		relShowdownProb[2264] = 1.2369539F;
-		relShowdownProb[2265] = 1.0060558F;
-		relShowdownProb[2266] = 1.0225486F;
-		relShowdownProb[2267] = 1.1478932F;
-		relShowdownProb[2268] = 1.1804074F;
-		relShowdownProb[2271] = 1.1379975F;
-		relShowdownProb[2272] = 0.89060676F;
-		relShowdownProb[2273] = 0.9730703F;
-		relShowdownProb[2274] = 1.2072669F;
-		relShowdownProb[2275] = 1.213864F;
-		relShowdownProb[2276] = 1.232006F;
-		relShowdownProb[2285] = 0.98956305F;
-		relShowdownProb[2286] = 1.0390412F;
-		relShowdownProb[2289] = 0.94008493F;
-		relShowdownProb[2290] = 0.6926941F;
-		relShowdownProb[2291] = 1.0093544F;
-		relShowdownProb[2294] = 0.7916505F;
-		relShowdownProb[2295] = 0.7256796F;
-		relShowdownProb[2296] = 1.1215048F;
-		relShowdownProb[2297] = 1.066529F;
-		relShowdownProb[2300] = 1.3359101F;
-		relShowdownProb[2301] = 0.9565776F;
-		relShowdownProb[2302] = 1.0472876F;
-		relShowdownProb[2303] = 1.0340934F;
-		relShowdownProb[2304] = 1.1980782F;
-		relShowdownProb[2307] = 0.7421723F;
-		relShowdownProb[2308] = 0.80814314F;
-		relShowdownProb[2309] = 1.0390412F;
-		relShowdownProb[2310] = 1.1330497F;
-		relShowdownProb[2311] = 1.2633421F;
-		relShowdownProb[2312] = 1.3995249F;
-		relShowdownProb[2315] = 0.89060676F;
-		relShowdownProb[2316] = 0.9235922F;
-		relShowdownProb[2317] = 1.1544902F;
-		relShowdownProb[2318] = 1.1825279F;
-		relShowdownProb[2319] = 1.2303567F;
-		relShowdownProb[2320] = 1.3594712F;
-		relShowdownProb[2321] = 1.4935073F;
-		relShowdownProb[2330] = 0.6926941F;
-		relShowdownProb[2331] = 1.2616929F;
-		relShowdownProb[2334] = 1.3359101F;
-		relShowdownProb[2335] = 1.4513592F;
-		relShowdownProb[2336] = 1.0687281F;
-		relShowdownProb[2339] = 1.0885193F;
-		relShowdownProb[2340] = 1.0720266F;
-		relShowdownProb[2341] = 1.1792293F;
-		relShowdownProb[2342] = 1.0390412F;
-		relShowdownProb[2345] = 1.0390412F;
-		relShowdownProb[2346] = 1.3688955F;
-		relShowdownProb[2347] = 1.0390412F;
-		relShowdownProb[2348] = 1.1874757F;
-		relShowdownProb[2349] = 1.3253077F;
-		relShowdownProb[2352] = 1.4843446F;
-		relShowdownProb[2353] = 1.1215048F;
-		relShowdownProb[2354] = 1.195722F;
-		relShowdownProb[2355] = 1.4497099F;
-		relShowdownProb[2356] = 1.4282694F;
-		relShowdownProb[2357] = 1.5008373F;
-		relShowdownProb[2360] = 0.94008493F;
-		relShowdownProb[2361] = 1.1544902F;
-		relShowdownProb[2362] = 1.5008373F;
-		relShowdownProb[2363] = 1.2023191F;
-		relShowdownProb[2364] = 1.3326116F;
-		relShowdownProb[2365] = 1.5762326F;
-		relShowdownProb[2366] = 1.5921363F;
-		relShowdownProb[2369] = 1.1874757F;
-		relShowdownProb[2370] = 1.170983F;
-		relShowdownProb[2371] = 1.2122147F;
-		relShowdownProb[2372] = 1.2814841F;
-		relShowdownProb[2373] = 1.213864F;
-		relShowdownProb[2374] = 1.5149739F;
-		relShowdownProb[2375] = 1.5939033F;
-		relShowdownProb[2376] = 1.57906F;
-		relShowdownProb[2392] = 0.643216F;
-		relShowdownProb[2395] = 0.59373784F;
-		relShowdownProb[2396] = 0.7916505F;
-		relShowdownProb[2402] = 0.39582524F;
-		relShowdownProb[2405] = 0.6926941F;
-		relShowdownProb[2406] = 0.7669114F;
-		relShowdownProb[2409] = 0.6926941F;
-		relShowdownProb[2410] = 0.758665F;
-		relShowdownProb[2411] = 0.6597087F;
-		relShowdownProb[2417] = 0.59373784F;
-		relShowdownProb[2420] = 0.98956305F;
-		relShowdownProb[2421] = 0.7916505F;
-		relShowdownProb[2424] = 0.59373784F;
-		relShowdownProb[2425] = 1.0060558F;
-		relShowdownProb[2426] = 0.88071114F;
-		relShowdownProb[2429] = 0.24739076F;
-		relShowdownProb[2430] = 0.6267233F;
-		relShowdownProb[2431] = 0.91534585F;
-		relShowdownProb[2432] = 0.8576213F;
-		relShowdownProb[2438] = 0.54425967F;
-		relShowdownProb[2441] = 0.89060676F;
-		relShowdownProb[2442] = 0.49478152F;
-		relShowdownProb[2445] = 1.1874757F;
-		relShowdownProb[2446] = 0.8411286F;
-		relShowdownProb[2447] = 0.8609199F;
-		relShowdownProb[2450] = 1.1379975F;
-		relShowdownProb[2451] = 0.80814314F;
-		relShowdownProb[2452] = 0.7916505F;
-		relShowdownProb[2453] = 1.0335436F;
-		relShowdownProb[2456] = 0.7421723F;
-		relShowdownProb[2457] = 0.7916505F;
-		relShowdownProb[2458] = 0.89060676F;
-		relShowdownProb[2459] = 1.0736759F;
-		relShowdownProb[2460] = 0.97471964F;
-		relShowdownProb[2466] = 0.54425967F;
-		relShowdownProb[2469] = 0.89060676F;
-		relShowdownProb[2470] = 0.44530338F;
-		relShowdownProb[2473] = 0.643216F;
-		relShowdownProb[2474] = 0.9730703F;
-		relShowdownProb[2475] = 0.9598762F;
-		relShowdownProb[2478] = 0.54425967F;
-		relShowdownProb[2479] = 0.5112743F;
-		relShowdownProb[2480] = 0.7009405F;
-		relShowdownProb[2481] = 0.9565776F;
-		relShowdownProb[2484] = 1.0390412F;
-		relShowdownProb[2485] = 0.89060676F;
-		relShowdownProb[2486] = 0.8411286F;
-		relShowdownProb[2487] = 1.0588325F;
-		relShowdownProb[2488] = 1.1556683F;
-		relShowdownProb[2491] = 0.54425967F;
-		relShowdownProb[2492] = 0.77515775F;
-		relShowdownProb[2493] = 0.84937495F;
-		relShowdownProb[2494] = 1.1330497F;
-		relShowdownProb[2495] = 1.1808786F;
-		relShowdownProb[2496] = 1.2938538F;
-		relShowdownProb[2502] = 0.643216F;
-		relShowdownProb[2505] = 0.89060676F;
-		relShowdownProb[2506] = 0.66795504F;
-		relShowdownProb[2509] = 0.7916505F;
-		relShowdownProb[2510] = 1.170983F;
-		relShowdownProb[2511] = 0.8708155F;
-		relShowdownProb[2514] = 0.7421723F;
-		relShowdownProb[2515] = 0.70918685F;
-		relShowdownProb[2516] = 0.91534585F;
-		relShowdownProb[2517] = 1.0445387F;
-		relShowdownProb[2520] = 0.6926941F;
-		relShowdownProb[2521] = 0.94008493F;
-		relShowdownProb[2522] = 1.0967658F;
-		relShowdownProb[2523] = 0.9994587F;
-		relShowdownProb[2524] = 1.2793636F;
-		relShowdownProb[2527] = 0.7916505F;
-		relShowdownProb[2528] = 1.0555339F;
-		relShowdownProb[2529] = 1.1544902F;
-		relShowdownProb[2530] = 1.2171626F;
-		relShowdownProb[2531] = 1.329313F;
-		relShowdownProb[2532] = 1.3779665F;
-		relShowdownProb[2535] = 0.7916505F;
-		relShowdownProb[2536] = 1.1874757F;
-		relShowdownProb[2537] = 1.1874757F;
-		relShowdownProb[2538] = 1.1182063F;
-		relShowdownProb[2539] = 1.3128203F;
-		relShowdownProb[2540] = 1.4490031F;
-		relShowdownProb[2541] = 1.5741383F;
-		relShowdownProb[2550] = 0.6926941F;
-		relShowdownProb[2551] = 0.8411286F;
-		relShowdownProb[2554] = 1.3359101F;
-		relShowdownProb[2555] = 1.0885193F;
-		relShowdownProb[2556] = 1.1083106F;
-		relShowdownProb[2559] = 0.8411286F;
-		relShowdownProb[2560] = 1.0885193F;
-		relShowdownProb[2561] = 1.1297512F;
-		relShowdownProb[2562] = 1.2589442F;
-		relShowdownProb[2565] = 1.0885193F;
-		relShowdownProb[2566] = 1.0060558F;
-		relShowdownProb[2567] = 1.1462439F;
-		relShowdownProb[2568] = 1.1973714F;
-		relShowdownProb[2569] = 1.2758296F;
-		relShowdownProb[2572] = 1.1874757F;
-		relShowdownProb[2573] = 0.8576213F;
-		relShowdownProb[2574] = 1.1215048F;
-		relShowdownProb[2575] = 1.2963276F;
-		relShowdownProb[2576] = 1.4084781F;
-		relShowdownProb[2577] = 1.3606492F;
-		relShowdownProb[2580] = 0.89060676F;
-		relShowdownProb[2581] = 0.758665F;
-		relShowdownProb[2582] = 1.1627367F;
-		relShowdownProb[2583] = 1.4348664F;
-		relShowdownProb[2584] = 1.3326116F;
-		relShowdownProb[2585] = 1.5809448F;
-		relShowdownProb[2586] = 1.60804F;
-		relShowdownProb[2589] = 1.1379975F;
-		relShowdownProb[2590] = 1.0225486F;
-		relShowdownProb[2591] = 1.0472876F;
-		relShowdownProb[2592] = 1.2468494F;
-		relShowdownProb[2593] = 1.3194174F;
-		relShowdownProb[2594] = 1.4914129F;
-		relShowdownProb[2595] = 1.6716547F;
-		relShowdownProb[2596] = 1.7175988F;
-		relShowdownProb[2612] = 0.59373784F;
-		relShowdownProb[2615] = 0.7421723F;
-		relShowdownProb[2616] = 0.643216F;
-		relShowdownProb[2622] = 0.59373784F;
-		relShowdownProb[2625] = 1.0390412F;
-		relShowdownProb[2626] = 0.7421723F;
-		relShowdownProb[2629] = 0.59373784F;
-		relShowdownProb[2630] = 0.6597087F;
-		relShowdownProb[2631] = 0.7421723F;
-		relShowdownProb[2637] = 0.8411286F;
-		relShowdownProb[2640] = 0.6926941F;
-		relShowdownProb[2641] = 0.6597087F;
-		relShowdownProb[2644] = 1.0390412F;
-		relShowdownProb[2645] = 1.0720266F;
-		relShowdownProb[2646] = 0.89060676F;
-		relShowdownProb[2649] = 0.7916505F;
-		relShowdownProb[2650] = 0.9235922F;
-		relShowdownProb[2651] = 1.0472876F;
-		relShowdownProb[2652] = 0.8411286F;
-		relShowdownProb[2658] = 0.39582524F;
-		relShowdownProb[2661] = 0.29686892F;
-		relShowdownProb[2662] = 0.7421723F;
-		relShowdownProb[2665] = 0.49478152F;
-		relShowdownProb[2666] = 0.8576213F;
-		relShowdownProb[2667] = 0.77185917F;
-		relShowdownProb[2670] = 1.0390412F;
-		relShowdownProb[2671] = 0.80814314F;
-		relShowdownProb[2672] = 0.9565776F;
-		relShowdownProb[2673] = 0.95108F;
-		relShowdownProb[2676] = 1.0390412F;
-		relShowdownProb[2677] = 0.758665F;
-		relShowdownProb[2678] = 0.9318386F;
-		relShowdownProb[2679] = 0.8708155F;
-		relShowdownProb[2680] = 1.0340934F;
-		relShowdownProb[2686] = 0.6926941F;
-		relShowdownProb[2689] = 0.7421723F;
-		relShowdownProb[2690] = 0.6762014F;
-		relShowdownProb[2693] = 0.643216F;
-		relShowdownProb[2694] = 1.0555339F;
-		relShowdownProb[2695] = 0.8114417F;
-		relShowdownProb[2698] = 0.98956305F;
-		relShowdownProb[2699] = 1.0555339F;
-		relShowdownProb[2700] = 0.8988531F;
-		relShowdownProb[2701] = 1.017051F;
-		relShowdownProb[2704] = 1.0390412F;
-		relShowdownProb[2705] = 0.87411404F;
-		relShowdownProb[2706] = 0.9070995F;
-		relShowdownProb[2707] = 1.0143021F;
-		relShowdownProb[2708] = 1.1097243F;
-		relShowdownProb[2711] = 1.0885193F;
-		relShowdownProb[2712] = 0.8411286F;
-		relShowdownProb[2713] = 0.9070995F;
-		relShowdownProb[2714] = 1.0588325F;
-		relShowdownProb[2715] = 1.2633421F;
-		relShowdownProb[2716] = 1.2567451F;
-		relShowdownProb[2722] = 0.7421723F;
-		relShowdownProb[2725] = 0.7916505F;
-		relShowdownProb[2726] = 0.9565776F;
-		relShowdownProb[2729] = 0.89060676F;
-		relShowdownProb[2730] = 0.8576213F;
-		relShowdownProb[2731] = 0.8411286F;
-		relShowdownProb[2734] = 0.8411286F;
-		relShowdownProb[2735] = 0.9730703F;
-		relShowdownProb[2736] = 1.0472876F;
-		relShowdownProb[2737] = 1.0610315F;
-		relShowdownProb[2740] = 0.94008493F;
-		relShowdownProb[2741] = 0.9565776F;
-		relShowdownProb[2742] = 0.96482396F;
-		relShowdownProb[2743] = 1.152841F;
-		relShowdownProb[2744] = 1.1379975F;
-		relShowdownProb[2747] = 0.8411286F;
-		relShowdownProb[2748] = 1.1544902F;
-		relShowdownProb[2749] = 0.91534585F;
-		relShowdownProb[2750] = 1.1825279F;
-		relShowdownProb[2751] = 1.3095218F;
-		relShowdownProb[2752] = 1.4175491F;
-		relShowdownProb[2755] = 0.7421723F;
-		relShowdownProb[2756] = 0.87411404F;
-		relShowdownProb[2757] = 1.0637803F;
-		relShowdownProb[2758] = 1.3260145F;
-		relShowdownProb[2759] = 1.2369539F;
-		relShowdownProb[2760] = 1.4678519F;
-		relShowdownProb[2761] = 1.4935073F;
-		relShowdownProb[2770] = 0.643216F;
-		relShowdownProb[2771] = 0.98956305F;
-		relShowdownProb[2774] = 1.1874757F;
-		relShowdownProb[2775] = 0.87411404F;
-		relShowdownProb[2776] = 1.0489368F;
-		relShowdownProb[2779] = 0.8411286F;
-		relShowdownProb[2780] = 0.9235922F;
-		relShowdownProb[2781] = 0.8328822F;
-		relShowdownProb[2782] = 1.2314563F;
-		relShowdownProb[2785] = 1.0390412F;
-		relShowdownProb[2786] = 1.1215048F;
-		relShowdownProb[2787] = 1.2039684F;
-		relShowdownProb[2788] = 1.128102F;
-		relShowdownProb[2789] = 1.2122147F;
-		relShowdownProb[2792] = 1.2369539F;
-		relShowdownProb[2793] = 1.0885193F;
-		relShowdownProb[2794] = 1.0720266F;
-		relShowdownProb[2795] = 1.123154F;
-		relShowdownProb[2796] = 1.4249709F;
-		relShowdownProb[2797] = 1.4051795F;
-		relShowdownProb[2800] = 1.1379975F;
-		relShowdownProb[2801] = 1.105012F;
-		relShowdownProb[2802] = 1.0637803F;
-		relShowdownProb[2803] = 1.128102F;
-		relShowdownProb[2804] = 1.4315679F;
-		relShowdownProb[2805] = 1.4867007F;
-		relShowdownProb[2806] = 1.4660194F;
-		relShowdownProb[2809] = 0.94008493F;
-		relShowdownProb[2810] = 1.105012F;
-		relShowdownProb[2811] = 1.1462439F;
-		relShowdownProb[2812] = 1.232006F;
-		relShowdownProb[2813] = 1.3853883F;
-		relShowdownProb[2814] = 1.5903692F;
-		relShowdownProb[2815] = 1.7069963F;
-		relShowdownProb[2816] = 1.6822572F;
-		relShowdownProb[2832] = 0.44530338F;
-		relShowdownProb[2835] = 0.643216F;
-		relShowdownProb[2836] = 0.54425967F;
-		relShowdownProb[2842] = 0.49478152F;
-		relShowdownProb[2845] = 0.7421723F;
-		relShowdownProb[2846] = 0.94008493F;
-		relShowdownProb[2849] = 0.44530338F;
-		relShowdownProb[2850] = 0.7421723F;
-		relShowdownProb[2851] = 0.5607524F;
-		relShowdownProb[2857] = 0.44530338F;
-		relShowdownProb[2860] = 0.7916505F;
-		relShowdownProb[2861] = 0.61023057F;
-		relShowdownProb[2864] = 0.44530338F;
-		relShowdownProb[2865] = 0.70918685F;
-		relShowdownProb[2866] = 0.7834041F;
-		relShowdownProb[2869] = 0.89060676F;
-		relShowdownProb[2870] = 0.758665F;
-		relShowdownProb[2871] = 0.9483313F;
-		relShowdownProb[2872] = 0.7421723F;
-		relShowdownProb[2878] = 0.44530338F;
-		relShowdownProb[2881] = 0.94008493F;
-		relShowdownProb[2882] = 0.5607524F;
-		relShowdownProb[2885] = 0.54425967F;
-		relShowdownProb[2886] = 0.8576213F;
-		relShowdownProb[2887] = 0.89060676F;
-		relShowdownProb[2890] = 0.643216F;
-		relShowdownProb[2891] = 0.5772451F;
-		relShowdownProb[2892] = 0.7916505F;
-		relShowdownProb[2893] = 0.80814314F;
-		relShowdownProb[2896] = 0.8411286F;
-		relShowdownProb[2897] = 0.87411404F;
-		relShowdownProb[2898] = 1.0225486F;
-		relShowdownProb[2899] = 0.9796674F;
-		relShowdownProb[2900] = 0.9005024F;
-		relShowdownProb[2906] = 0.44530338F;
-		relShowdownProb[2909] = 0.49478152F;
-		relShowdownProb[2910] = 0.89060676F;
-		relShowdownProb[2913] = 0.6926941F;
-		relShowdownProb[2914] = 0.7421723F;
-		relShowdownProb[2915] = 0.9070995F;
-		relShowdownProb[2918] = 0.7421723F;
-		relShowdownProb[2919] = 0.758665F;
-		relShowdownProb[2920] = 0.8823604F;
-		relShowdownProb[2921] = 0.7696602F;
-		relShowdownProb[2924] = 0.7916505F;
-		relShowdownProb[2925] = 0.98956305F;
-		relShowdownProb[2926] = 0.8988531F;
-		relShowdownProb[2927] = 1.0340934F;
-		relShowdownProb[2928] = 0.96835816F;
-		relShowdownProb[2931] = 0.89060676F;
-		relShowdownProb[2932] = 0.82463586F;
-		relShowdownProb[2933] = 0.8411286F;
-		relShowdownProb[2934] = 1.0934672F;
-		relShowdownProb[2935] = 1.1808786F;
-		relShowdownProb[2936] = 1.1017135F;
-		relShowdownProb[2942] = 0.6926941F;
-		relShowdownProb[2945] = 0.643216F;
-		relShowdownProb[2946] = 0.7421723F;
-		relShowdownProb[2949] = 0.89060676F;
-		relShowdownProb[2950] = 0.82463586F;
-		relShowdownProb[2951] = 0.8823604F;
-		relShowdownProb[2954] = 0.89060676F;
-		relShowdownProb[2955] = 0.54425967F;
-		relShowdownProb[2956] = 0.94008493F;
-		relShowdownProb[2957] = 0.9730703F;
-		relShowdownProb[2960] = 0.6926941F;
-		relShowdownProb[2961] = 0.758665F;
-		relShowdownProb[2962] = 0.8576213F;
-		relShowdownProb[2963] = 1.0687281F;
-		relShowdownProb[2964] = 1.1804074F;
-		relShowdownProb[2967] = 1.0885193F;
-		relShowdownProb[2968] = 0.98956305F;
-		relShowdownProb[2969] = 0.9318386F;
-		relShowdownProb[2970] = 1.0044065F;
-		relShowdownProb[2971] = 1.250148F;
-		relShowdownProb[2972] = 1.4027057F;
-		relShowdownProb[2975] = 0.6926941F;
-		relShowdownProb[2976] = 0.94008493F;
-		relShowdownProb[2977] = 1.105012F;
-		relShowdownProb[2978] = 1.0439891F;
-		relShowdownProb[2979] = 1.286432F;
-		relShowdownProb[2980] = 1.4348664F;
-		relShowdownProb[2981] = 1.4796324F;
-		relShowdownProb[2990] = 0.59373784F;
-		relShowdownProb[2991] = 0.643216F;
-		relShowdownProb[2994] = 1.0885193F;
-		relShowdownProb[2995] = 0.89060676F;
-		relShowdownProb[2996] = 0.9565776F;
-		relShowdownProb[2999] = 0.7421723F;
-		relShowdownProb[3000] = 1.0390412F;
-		relShowdownProb[3001] = 1.0885193F;
-		relShowdownProb[3002] = 1.0445387F;
-		relShowdownProb[3005] = 1.1874757F;
-		relShowdownProb[3006] = 1.0885193F;
-		relShowdownProb[3007] = 1.1215048F;
-		relShowdownProb[3008] = 1.152841F;
-		relShowdownProb[3009] = 1.2722954F;
-		relShowdownProb[3012] = 0.98956305F;
-		relShowdownProb[3013] = 1.0390412F;
-		relShowdownProb[3014] = 1.0472876F;
-		relShowdownProb[3015] = 1.1973714F;
-		relShowdownProb[3016] = 1.2105654F;
-		relShowdownProb[3017] = 1.4373404F;
-		relShowdownProb[3020] = 0.94008493F;
-		relShowdownProb[3021] = 0.77515775F;
-		relShowdownProb[3022] = 1.0885193F;
-		relShowdownProb[3023] = 1.2419016F;
-		relShowdownProb[3024] = 1.2831334F;
-		relShowdownProb[3025] = 1.5243983F;
-		relShowdownProb[3026] = 1.5997937F;
-		relShowdownProb[3029] = 1.4843446F;
-		relShowdownProb[3030] = 1.0720266F;
-		relShowdownProb[3031] = 1.1462439F;
-		relShowdownProb[3032] = 1.1924235F;
-		relShowdownProb[3033] = 1.3062233F;
-		relShowdownProb[3034] = 1.5573838F;
-		relShowdownProb[3035] = 1.6433815F;
-		relShowdownProb[3036] = 1.9027884F;
-		relShowdownProb[3052] = 0.39582524F;
-		relShowdownProb[3055] = 0.94008493F;
-		relShowdownProb[3056] = 0.44530338F;
-		relShowdownProb[3062] = 0.49478152F;
-		relShowdownProb[3065] = 0.7421723F;
-		relShowdownProb[3066] = 0.7421723F;
-		relShowdownProb[3069] = 0.6926941F;
-		relShowdownProb[3070] = 0.7256796F;
-		relShowdownProb[3071] = 0.564051F;
-		relShowdownProb[3077] = 0.29686892F;
-		relShowdownProb[3080] = 0.54425967F;
-		relShowdownProb[3081] = 0.52776694F;
-		relShowdownProb[3084] = 0.24739076F;
-		relShowdownProb[3085] = 0.9730703F;
-		relShowdownProb[3086] = 0.5607524F;
-		relShowdownProb[3089] = 0.54425967F;
-		relShowdownProb[3090] = 0.59373784F;
-		relShowdownProb[3091] = 0.7421723F;
-		relShowdownProb[3092] = 0.6926941F;
-		relShowdownProb[3098] = 0.59373784F;
-		relShowdownProb[3101] = 0.7421723F;
-		relShowdownProb[3102] = 0.5112743F;
-		relShowdownProb[3105] = 0.643216F;
-		relShowdownProb[3106] = 0.61023057F;
-		relShowdownProb[3107] = 0.73392594F;
-		relShowdownProb[3110] = 0.7421723F;
-		relShowdownProb[3111] = 0.758665F;
-		relShowdownProb[3112] = 0.8823604F;
-		relShowdownProb[3113] = 0.82133734F;
-		relShowdownProb[3116] = 0.7421723F;
-		relShowdownProb[3117] = 0.7256796F;
-		relShowdownProb[3118] = 0.68444777F;
-		relShowdownProb[3119] = 0.8708155F;
-		relShowdownProb[3120] = 0.7520679F;
-		relShowdownProb[3126] = 0.44530338F;
-		relShowdownProb[3129] = 0.59373784F;
-		relShowdownProb[3130] = 0.54425967F;
-		relShowdownProb[3133] = 0.89060676F;
-		relShowdownProb[3134] = 0.80814314F;
-		relShowdownProb[3135] = 0.84937495F;
-		relShowdownProb[3138] = 0.643216F;
-		relShowdownProb[3139] = 0.758665F;
-		relShowdownProb[3140] = 0.7834041F;
-		relShowdownProb[3141] = 0.8510242F;
-		relShowdownProb[3144] = 0.643216F;
-		relShowdownProb[3145] = 0.52776694F;
-		relShowdownProb[3146] = 0.82463586F;
-		relShowdownProb[3147] = 0.9945109F;
-		relShowdownProb[3148] = 1.0001656F;
-		relShowdownProb[3151] = 1.2369539F;
-		relShowdownProb[3152] = 0.9730703F;
-		relShowdownProb[3153] = 0.91534585F;
-		relShowdownProb[3154] = 0.9598762F;
-		relShowdownProb[3155] = 1.098415F;
-		relShowdownProb[3156] = 1.1445946F;
-		relShowdownProb[3162] = 0.7421723F;
-		relShowdownProb[3165] = 0.7916505F;
-		relShowdownProb[3166] = 0.70918685F;
-		relShowdownProb[3169] = 0.7916505F;
-		relShowdownProb[3170] = 0.89060676F;
-		relShowdownProb[3171] = 0.94008493F;
-		relShowdownProb[3174] = 0.7916505F;
-		relShowdownProb[3175] = 0.89060676F;
-		relShowdownProb[3176] = 0.66795504F;
-		relShowdownProb[3177] = 0.79659826F;
-		relShowdownProb[3180] = 0.59373784F;
-		relShowdownProb[3181] = 0.7421723F;
-		relShowdownProb[3182] = 0.82463586F;
-		relShowdownProb[3183] = 0.8064939F;
-		relShowdownProb[3184] = 0.93655074F;
-		relShowdownProb[3187] = 1.4843446F;
-		relShowdownProb[3188] = 1.1874757F;
-		relShowdownProb[3189] = 1.0885193F;
-		relShowdownProb[3190] = 1.0637803F;
-		relShowdownProb[3191] = 1.1511917F;
-		relShowdownProb[3192] = 1.4620794F;
-		relShowdownProb[3195] = 1.1379975F;
-		relShowdownProb[3196] = 0.9565776F;
-		relShowdownProb[3197] = 1.2452002F;
-		relShowdownProb[3198] = 1.0291456F;
-		relShowdownProb[3199] = 1.098415F;
-		relShowdownProb[3200] = 1.3170613F;
-		relShowdownProb[3201] = 1.3382663F;
-		relShowdownProb[3210] = 1.1874757F;
-		relShowdownProb[3211] = 0.82463586F;
-		relShowdownProb[3214] = 0.89060676F;
-		relShowdownProb[3215] = 1.1874757F;
-		relShowdownProb[3216] = 1.0143021F;
-		relShowdownProb[3219] = 0.7421723F;
-		relShowdownProb[3220] = 1.0060558F;
-		relShowdownProb[3221] = 1.0143021F;
-		relShowdownProb[3222] = 0.9351371F;
-		relShowdownProb[3225] = 0.54425967F;
-		relShowdownProb[3226] = 0.98956305F;
-		relShowdownProb[3227] = 0.9483313F;
-		relShowdownProb[3228] = 1.098415F;
-		relShowdownProb[3229] = 1.1698049F;
-		relShowdownProb[3232] = 0.98956305F;
-		relShowdownProb[3233] = 0.89060676F;
-		relShowdownProb[3234] = 1.1544902F;
-		relShowdownProb[3235] = 1.1973714F;
-		relShowdownProb[3236] = 1.2798349F;
-		relShowdownProb[3237] = 1.3977578F;
-		relShowdownProb[3240] = 1.1379975F;
-		relShowdownProb[3241] = 0.9070995F;
-		relShowdownProb[3242] = 1.3029248F;
-		relShowdownProb[3243] = 1.128102F;
-		relShowdownProb[3244] = 1.2633421F;
-		relShowdownProb[3245] = 1.3736078F;
-		relShowdownProb[3246] = 1.5283252F;
-		relShowdownProb[3249] = 1.0390412F;
-		relShowdownProb[3250] = 1.2534466F;
-		relShowdownProb[3251] = 1.1627367F;
-		relShowdownProb[3252] = 1.1182063F;
-		relShowdownProb[3253] = 1.3688955F;
-		relShowdownProb[3254] = 1.3759639F;
-		relShowdownProb[3255] = 1.7140646F;
-		relShowdownProb[3256] = 1.7582415F;
-		relShowdownProb[3272] = 0.6926941F;
-		relShowdownProb[3275] = 0.44530338F;
-		relShowdownProb[3276] = 0.54425967F;
-		relShowdownProb[3282] = 0.643216F;
-		relShowdownProb[3285] = 0.6926941F;
-		relShowdownProb[3286] = 0.4617961F;
-		relShowdownProb[3289] = 0.54425967F;
-		relShowdownProb[3290] = 0.52776694F;
-		relShowdownProb[3291] = 0.60363346F;
-		relShowdownProb[3297] = 0.7421723F;
-		relShowdownProb[3300] = 0.7916505F;
-		relShowdownProb[3301] = 0.6597087F;
-		relShowdownProb[3304] = 0.8411286F;
-		relShowdownProb[3305] = 0.7916505F;
-		relShowdownProb[3306] = 0.77515775F;
-		relShowdownProb[3309] = 0.54425967F;
-		relShowdownProb[3310] = 0.5607524F;
-		relShowdownProb[3311] = 0.5772451F;
-		relShowdownProb[3312] = 0.6487136F;
-		relShowdownProb[3318] = 0.44530338F;
-		relShowdownProb[3321] = 0.7916505F;
-		relShowdownProb[3322] = 0.6762014F;
-		relShowdownProb[3325] = 0.7916505F;
-		relShowdownProb[3326] = 0.5607524F;
-		relShowdownProb[3327] = 0.59373784F;
-		relShowdownProb[3330] = 0.7421723F;
-		relShowdownProb[3331] = 0.42881066F;
-		relShowdownProb[3332] = 0.59373784F;
-		relShowdownProb[3333] = 0.6778507F;
-		relShowdownProb[3336] = 0.39582524F;
-		relShowdownProb[3337] = 0.59373784F;
-		relShowdownProb[3338] = 0.758665F;
-		relShowdownProb[3339] = 0.8757633F;
-		relShowdownProb[3340] = 0.72732884F;
-		relShowdownProb[3346] = 0.6926941F;
-		relShowdownProb[3349] = 0.59373784F;
-		relShowdownProb[3350] = 0.758665F;
-		relShowdownProb[3353] = 0.7421723F;
-		relShowdownProb[3354] = 0.758665F;
-		relShowdownProb[3355] = 0.8163895F;
-		relShowdownProb[3358] = 0.643216F;
-		relShowdownProb[3359] = 0.6267233F;
-		relShowdownProb[3360] = 0.8576213F;
-		relShowdownProb[3361] = 0.8510242F;
-		relShowdownProb[3364] = 0.44530338F;
-		relShowdownProb[3365] = 0.87411404F;
-		relShowdownProb[3366] = 0.66795504F;
-		relShowdownProb[3367] = 0.910398F;
-		relShowdownProb[3368] = 1.098415F;
-		relShowdownProb[3371] = 1.0390412F;
-		relShowdownProb[3372] = 0.9565776F;
-		relShowdownProb[3373] = 0.75041866F;
-		relShowdownProb[3374] = 0.94008493F;
-		relShowdownProb[3375] = 1.0786238F;
-		relShowdownProb[3376] = 0.82463586F;
-		relShowdownProb[3382] = 0.7421723F;
-		relShowdownProb[3385] = 0.7421723F;
-		relShowdownProb[3386] = 0.59373784F;
-		relShowdownProb[3389] = 0.59373784F;
-		relShowdownProb[3390] = 0.87411404F;
-		relShowdownProb[3391] = 0.7256796F;
-		relShowdownProb[3394] = 0.7916505F;
-		relShowdownProb[3395] = 0.7256796F;
-		relShowdownProb[3396] = 0.79989684F;
-		relShowdownProb[3397] = 0.8411286F;
-		relShowdownProb[3400] = 0.7421723F;
-		relShowdownProb[3401] = 0.758665F;
-		relShowdownProb[3402] = 0.8576213F;
-		relShowdownProb[3403] = 0.8856589F;
-		relShowdownProb[3404] = 1.0357426F;
-		relShowdownProb[3407] = 0.89060676F;
-		relShowdownProb[3408] = 0.94008493F;
-		relShowdownProb[3409] = 1.0060558F;
-		relShowdownProb[3410] = 0.93018925F;
-		relShowdownProb[3411] = 1.105012F;
-		relShowdownProb[3412] = 1.1627367F;
-		relShowdownProb[3415] = 0.643216F;
-		relShowdownProb[3416] = 0.9235922F;
-		relShowdownProb[3417] = 1.0390412F;
-		relShowdownProb[3418] = 1.1083106F;
-		relShowdownProb[3419] = 1.1182063F;
-		relShowdownProb[3420] = 1.3712517F;
-		relShowdownProb[3421] = 1.2982125F;
-		relShowdownProb[3430] = 0.98956305F;
-		relShowdownProb[3431] = 1.0060558F;
-		relShowdownProb[3434] = 1.3853883F;
-		relShowdownProb[3435] = 0.7256796F;
-		relShowdownProb[3436] = 0.8576213F;
-		relShowdownProb[3439] = 1.0390412F;
-		relShowdownProb[3440] = 0.77515775F;
-		relShowdownProb[3441] = 1.0885193F;
-		relShowdownProb[3442] = 0.98956305F;
-		relShowdownProb[3445] = 0.643216F;
-		relShowdownProb[3446] = 0.9235922F;
-		relShowdownProb[3447] = 1.170983F;
-		relShowdownProb[3448] = 1.0044065F;
-		relShowdownProb[3449] = 1.0159514F;
-		relShowdownProb[3452] = 0.98956305F;
-		relShowdownProb[3453] = 1.0720266F;
-		relShowdownProb[3454] = 1.2946783F;
-		relShowdownProb[3455] = 1.0637803F;
-		relShowdownProb[3456] = 1.1610873F;
-		relShowdownProb[3457] = 1.3260145F;
-		relShowdownProb[3460] = 1.0390412F;
-		relShowdownProb[3461] = 0.98956305F;
-		relShowdownProb[3462] = 1.195722F;
-		relShowdownProb[3463] = 1.2913798F;
-		relShowdownProb[3464] = 1.0753253F;
-		relShowdownProb[3465] = 1.4678519F;
-		relShowdownProb[3466] = 1.4971722F;
-		relShowdownProb[3469] = 0.94008493F;
-		relShowdownProb[3470] = 1.0390412F;
-		relShowdownProb[3471] = 1.0225486F;
-		relShowdownProb[3472] = 1.0934672F;
-		relShowdownProb[3473] = 1.2468494F;
-		relShowdownProb[3474] = 1.3759639F;
-		relShowdownProb[3475] = 1.6115742F;
-		relShowdownProb[3476] = 1.8448282F;
-		relShowdownProb[3492] = 0.6926941F;
-		relShowdownProb[3495] = 0.7421723F;
-		relShowdownProb[3496] = 0.37108615F;
-		relShowdownProb[3502] = 0.6926941F;
-		relShowdownProb[3505] = 0.643216F;
-		relShowdownProb[3506] = 0.44530338F;
-		relShowdownProb[3509] = 0.7916505F;
-		relShowdownProb[3510] = 0.5772451F;
-		relShowdownProb[3511] = 0.66300726F;
-		relShowdownProb[3517] = 0.59373784F;
-		relShowdownProb[3520] = 0.59373784F;
-		relShowdownProb[3521] = 0.5772451F;
-		relShowdownProb[3524] = 0.54425967F;
-		relShowdownProb[3525] = 0.6597087F;
-		relShowdownProb[3526] = 0.6019842F;
-		relShowdownProb[3529] = 0.7421723F;
-		relShowdownProb[3530] = 0.5607524F;
-		relShowdownProb[3531] = 0.643216F;
-		relShowdownProb[3532] = 0.68719655F;
-		relShowdownProb[3538] = 0.44530338F;
-		relShowdownProb[3541] = 0.44530338F;
-		relShowdownProb[3542] = 0.4782888F;
-		relShowdownProb[3545] = 0.39582524F;
-		relShowdownProb[3546] = 0.3628398F;
-		relShowdownProb[3547] = 0.61023057F;
-		relShowdownProb[3550] = 0.54425967F;
-		relShowdownProb[3551] = 0.59373784F;
-		relShowdownProb[3552] = 0.643216F;
-		relShowdownProb[3553] = 0.8015461F;
-		relShowdownProb[3556] = 0.59373784F;
-		relShowdownProb[3557] = 0.6597087F;
-		relShowdownProb[3558] = 0.8411286F;
-		relShowdownProb[3559] = 0.7471201F;
-		relShowdownProb[3560] = 0.7704455F;
-		relShowdownProb[3566] = 0.39582524F;
-		relShowdownProb[3569] = 0.54425967F;
-		relShowdownProb[3570] = 0.61023057F;
-		relShowdownProb[3573] = 0.49478152F;
-		relShowdownProb[3574] = 0.6762014F;
-		relShowdownProb[3575] = 0.6514624F;
-		relShowdownProb[3578] = 0.8411286F;
-		relShowdownProb[3579] = 0.643216F;
-		relShowdownProb[3580] = 0.6019842F;
-		relShowdownProb[3581] = 0.7322767F;
-		relShowdownProb[3584] = 0.49478152F;
-		relShowdownProb[3585] = 0.59373784F;
-		relShowdownProb[3586] = 0.68444777F;
-		relShowdownProb[3587] = 0.73722446F;
-		relShowdownProb[3588] = 0.87411404F;
-		relShowdownProb[3591] = 0.643216F;
-		relShowdownProb[3592] = 0.758665F;
-		relShowdownProb[3593] = 0.75041866F;
-		relShowdownProb[3594] = 0.8064939F;
-		relShowdownProb[3595] = 0.7982475F;
-		relShowdownProb[3596] = 0.7850534F;
-		relShowdownProb[3602] = 0.7421723F;
-		relShowdownProb[3605] = 1.0390412F;
-		relShowdownProb[3606] = 1.0060558F;
-		relShowdownProb[3609] = 0.643216F;
-		relShowdownProb[3610] = 0.77515775F;
-		relShowdownProb[3611] = 0.7256796F;
-		relShowdownProb[3614] = 0.7421723F;
-		relShowdownProb[3615] = 0.7421723F;
-		relShowdownProb[3616] = 0.89060676F;
-		relShowdownProb[3617] = 0.83123296F;
-		relShowdownProb[3620] = 0.6926941F;
-		relShowdownProb[3621] = 0.89060676F;
-		relShowdownProb[3622] = 0.82463586F;
-		relShowdownProb[3623] = 0.95492834F;
-		relShowdownProb[3624] = 1.0324441F;
-		relShowdownProb[3627] = 1.3853883F;
-		relShowdownProb[3628] = 0.89060676F;
-		relShowdownProb[3629] = 1.0225486F;
-		relShowdownProb[3630] = 0.93018925F;
-		relShowdownProb[3631] = 1.098415F;
-		relShowdownProb[3632] = 1.2652271F;
-		relShowdownProb[3635] = 0.98956305F;
-		relShowdownProb[3636] = 0.9235922F;
-		relShowdownProb[3637] = 0.82463586F;
-		relShowdownProb[3638] = 1.0241978F;
-		relShowdownProb[3639] = 1.0522354F;
-		relShowdownProb[3640] = 1.333554F;
-		relShowdownProb[3641] = 1.2110367F;
-		relShowdownProb[3650] = 0.8411286F;
-		relShowdownProb[3651] = 0.82463586F;
-		relShowdownProb[3654] = 0.643216F;
-		relShowdownProb[3655] = 0.89060676F;
-		relShowdownProb[3656] = 0.80814314F;
-		relShowdownProb[3659] = 0.49478152F;
-		relShowdownProb[3660] = 0.89060676F;
-		relShowdownProb[3661] = 0.98956305F;
-		relShowdownProb[3662] = 1.0934672F;
-		relShowdownProb[3665] = 0.94008493F;
-		relShowdownProb[3666] = 0.8576213F;
-		relShowdownProb[3667] = 0.8823604F;
-		relShowdownProb[3668] = 0.91534585F;
-		relShowdownProb[3669] = 1.0489368F;
-		relShowdownProb[3672] = 0.59373784F;
-		relShowdownProb[3673] = 0.98956305F;
-		relShowdownProb[3674] = 1.1379975F;
-		relShowdownProb[3675] = 1.0786238F;
-		relShowdownProb[3676] = 1.1610873F;
-		relShowdownProb[3677] = 1.1780512F;
-		relShowdownProb[3680] = 1.286432F;
-		relShowdownProb[3681] = 1.1215048F;
-		relShowdownProb[3682] = 0.9978094F;
-		relShowdownProb[3683] = 1.0439891F;
-		relShowdownProb[3684] = 1.2105654F;
-		relShowdownProb[3685] = 1.2228172F;
-		relShowdownProb[3686] = 1.4550242F;
-		relShowdownProb[3689] = 0.89060676F;
-		relShowdownProb[3690] = 1.0060558F;
-		relShowdownProb[3691] = 1.0637803F;
-		relShowdownProb[3692] = 1.1429453F;
-		relShowdownProb[3693] = 1.1742815F;
-		relShowdownProb[3694] = 1.3971688F;
-		relShowdownProb[3695] = 1.6592852F;
-		relShowdownProb[3696] = 1.5779997F;
-		relShowdownProb[3712] = 0.7421723F;
-		relShowdownProb[3715] = 0.94008493F;
-		relShowdownProb[3716] = 0.8163895F;
-		relShowdownProb[3722] = 1.0885193F;
-		relShowdownProb[3725] = 0.6926941F;
-		relShowdownProb[3726] = 0.52776694F;
-		relShowdownProb[3729] = 0.49478152F;
-		relShowdownProb[3730] = 0.6926941F;
-		relShowdownProb[3731] = 0.643216F;
-		relShowdownProb[3737] = 0.6926941F;
-		relShowdownProb[3740] = 0.54425967F;
-		relShowdownProb[3741] = 0.6267233F;
-		relShowdownProb[3744] = 0.54425967F;
-		relShowdownProb[3745] = 0.6926941F;
-		relShowdownProb[3746] = 0.68444777F;
-		relShowdownProb[3749] = 0.7421723F;
-		relShowdownProb[3750] = 0.7916505F;
-		relShowdownProb[3751] = 0.6514624F;
-		relShowdownProb[3752] = 0.7421723F;
-		relShowdownProb[3758] = 0.643216F;
-		relShowdownProb[3761] = 0.49478152F;
-		relShowdownProb[3762] = 0.77515775F;
-		relShowdownProb[3765] = 0.59373784F;
-		relShowdownProb[3766] = 0.6267233F;
-		relShowdownProb[3767] = 0.66795504F;
-		relShowdownProb[3770] = 0.7421723F;
-		relShowdownProb[3771] = 0.7421723F;
-		relShowdownProb[3772] = 0.70918685F;
-		relShowdownProb[3773] = 0.7520679F;
-		relShowdownProb[3776] = 0.49478152F;
-		relShowdownProb[3777] = 0.9070995F;
-		relShowdownProb[3778] = 0.75041866F;
-		relShowdownProb[3779] = 0.68774635F;
-		relShowdownProb[3780] = 0.8022529F;
-		relShowdownProb[3786] = 0.7421723F;
-		relShowdownProb[3789] = 0.643216F;
-		relShowdownProb[3790] = 0.80814314F;
-		relShowdownProb[3793] = 0.7421723F;
-		relShowdownProb[3794] = 0.59373784F;
-		relShowdownProb[3795] = 0.59373784F;
-		relShowdownProb[3798] = 0.54425967F;
-		relShowdownProb[3799] = 0.643216F;
-		relShowdownProb[3800] = 0.6762014F;
-		relShowdownProb[3801] = 0.8163895F;
-		relShowdownProb[3804] = 0.44530338F;
-		relShowdownProb[3805] = 0.7916505F;
-		relShowdownProb[3806] = 0.63496965F;
-		relShowdownProb[3807] = 0.8163895F;
-		relShowdownProb[3808] = 0.93018925F;
-		relShowdownProb[3811] = 0.6926941F;
-		relShowdownProb[3812] = 0.7256796F;
-		relShowdownProb[3813] = 0.8658677F;
-		relShowdownProb[3814] = 0.8708155F;
-		relShowdownProb[3815] = 0.83123296F;
-		relShowdownProb[3816] = 0.9574023F;
-		relShowdownProb[3822] = 0.6926941F;
-		relShowdownProb[3825] = 0.54425967F;
-		relShowdownProb[3826] = 0.643216F;
-		relShowdownProb[3829] = 0.643216F;
-		relShowdownProb[3830] = 0.6926941F;
-		relShowdownProb[3831] = 0.8658677F;
-		relShowdownProb[3834] = 0.7916505F;
-		relShowdownProb[3835] = 0.6926941F;
-		relShowdownProb[3836] = 0.8328822F;
-		relShowdownProb[3837] = 0.85597205F;
-		relShowdownProb[3840] = 0.49478152F;
-		relShowdownProb[3841] = 0.70918685F;
-		relShowdownProb[3842] = 0.5195206F;
-		relShowdownProb[3843] = 0.8708155F;
-		relShowdownProb[3844] = 0.8708155F;
-		relShowdownProb[3847] = 0.7421723F;
-		relShowdownProb[3848] = 0.7421723F;
-		relShowdownProb[3849] = 0.7174332F;
-		relShowdownProb[3850] = 0.78670263F;
-		relShowdownProb[3851] = 0.8609199F;
-		relShowdownProb[3852] = 0.97542644F;
-		relShowdownProb[3855] = 0.54425967F;
-		relShowdownProb[3856] = 0.89060676F;
-		relShowdownProb[3857] = 0.77515775F;
-		relShowdownProb[3858] = 0.8163895F;
-		relShowdownProb[3859] = 0.9038009F;
-		relShowdownProb[3860] = 1.0272607F;
-		relShowdownProb[3861] = 0.9966314F;
-		relShowdownProb[3870] = 0.44530338F;
-		relShowdownProb[3871] = 0.94008493F;
-		relShowdownProb[3874] = 0.54425967F;
-		relShowdownProb[3875] = 0.94008493F;
-		relShowdownProb[3876] = 1.195722F;
-		relShowdownProb[3879] = 0.7916505F;
-		relShowdownProb[3880] = 1.0060558F;
-		relShowdownProb[3881] = 1.1132585F;
-		relShowdownProb[3882] = 1.0390412F;
-		relShowdownProb[3885] = 1.1874757F;
-		relShowdownProb[3886] = 0.758665F;
-		relShowdownProb[3887] = 0.91534585F;
-		relShowdownProb[3888] = 0.93018925F;
-		relShowdownProb[3889] = 1.128102F;
-		relShowdownProb[3892] = 0.7916505F;
-		relShowdownProb[3893] = 0.87411404F;
-		relShowdownProb[3894] = 1.0885193F;
-		relShowdownProb[3895] = 1.0835716F;
-		relShowdownProb[3896] = 1.1215048F;
-		relShowdownProb[3897] = 1.2204611F;
-		relShowdownProb[3900] = 1.0390412F;
-		relShowdownProb[3901] = 1.0225486F;
-		relShowdownProb[3902] = 1.0555339F;
-		relShowdownProb[3903] = 1.152841F;
-		relShowdownProb[3904] = 1.170983F;
-		relShowdownProb[3905] = 1.2558026F;
-		relShowdownProb[3906] = 1.3959907F;
-		relShowdownProb[3909] = 0.98956305F;
-		relShowdownProb[3910] = 1.0720266F;
-		relShowdownProb[3911] = 1.0720266F;
-		relShowdownProb[3912] = 1.0241978F;
-		relShowdownProb[3913] = 1.2237597F;
-		relShowdownProb[3914] = 1.4466469F;
-		relShowdownProb[3915] = 1.4666739F;
-		relShowdownProb[3916] = 1.4702079F;
-		relShowdownProb[3935] = 0.7916505F;
-		relShowdownProb[3936] = 0.8658677F;
-		relShowdownProb[3945] = 1.0885193F;
-		relShowdownProb[3946] = 0.6597087F;
-		relShowdownProb[3949] = 0.44530338F;
-		relShowdownProb[3950] = 1.0390412F;
-		relShowdownProb[3951] = 0.6926941F;
-		relShowdownProb[3960] = 0.89060676F;
-		relShowdownProb[3961] = 0.82463586F;
-		relShowdownProb[3964] = 0.6926941F;
-		relShowdownProb[3965] = 0.9235922F;
-		relShowdownProb[3966] = 0.7009405F;
-		relShowdownProb[3969] = 0.7916505F;
-		relShowdownProb[3970] = 0.8411286F;
-		relShowdownProb[3971] = 0.89060676F;
-		relShowdownProb[3972] = 0.89060676F;
-		relShowdownProb[3981] = 0.7421723F;
-		relShowdownProb[3982] = 0.9070995F;
-		relShowdownProb[3985] = 0.7421723F;
-		relShowdownProb[3986] = 0.77515775F;
-		relShowdownProb[3987] = 0.80814314F;
-		relShowdownProb[3990] = 0.94008493F;
-		relShowdownProb[3991] = 0.80814314F;
-		relShowdownProb[3992] = 0.7174332F;
-		relShowdownProb[3993] = 1.0736759F;
-		relShowdownProb[3996] = 0.98956305F;
-		relShowdownProb[3997] = 0.758665F;
-		relShowdownProb[3998] = 0.75041866F;
-		relShowdownProb[3999] = 0.9994587F;
-		relShowdownProb[4000] = 0.9259483F;
-		relShowdownProb[4009] = 1.1379975F;
-		relShowdownProb[4010] = 0.8576213F;
-		relShowdownProb[4013] = 1.1379975F;
-		relShowdownProb[4014] = 0.9235922F;
-		relShowdownProb[4015] = 0.89060676F;
-		relShowdownProb[4018] = 0.98956305F;
-		relShowdownProb[4019] = 0.758665F;
-		relShowdownProb[4020] = 0.82463586F;
-		relShowdownProb[4021] = 0.776807F;
-		relShowdownProb[4024] = 0.44530338F;
-		relShowdownProb[4025] = 0.94008493F;
-		relShowdownProb[4026] = 0.8576213F;
-		relShowdownProb[4027] = 0.9598762F;
-		relShowdownProb[4028] = 0.89060676F;
-		relShowdownProb[4031] = 0.94008493F;
-		relShowdownProb[4032] = 0.5772451F;
-		relShowdownProb[4033] = 0.7669114F;
-		relShowdownProb[4034] = 0.89060676F;
-		relShowdownProb[4035] = 0.88730824F;
-		relShowdownProb[4036] = 0.9128719F;
-		relShowdownProb[4045] = 1.1379975F;
-		relShowdownProb[4046] = 0.54425967F;
-		relShowdownProb[4049] = 0.6926941F;
-		relShowdownProb[4050] = 0.94008493F;
-		relShowdownProb[4051] = 0.9318386F;
-		relShowdownProb[4054] = 0.7421723F;
-		relShowdownProb[4055] = 0.6267233F;
-		relShowdownProb[4056] = 0.75041866F;
-		relShowdownProb[4057] = 0.8262852F;
-		relShowdownProb[4060] = 1.0390412F;
-		relShowdownProb[4061] = 0.80814314F;
-		relShowdownProb[4062] = 0.73392594F;
-		relShowdownProb[4063] = 0.89060676F;
-		relShowdownProb[4064] = 0.8114417F;
-		relShowdownProb[4067] = 0.643216F;
-		relShowdownProb[4068] = 0.9070995F;
-		relShowdownProb[4069] = 0.79989684F;
-		relShowdownProb[4070] = 0.98461527F;
-		relShowdownProb[4071] = 0.9598762F;
-		relShowdownProb[4072] = 0.9966314F;
-		relShowdownProb[4075] = 0.7916505F;
-		relShowdownProb[4076] = 0.9235922F;
-		relShowdownProb[4077] = 0.8988531F;
-		relShowdownProb[4078] = 0.8114417F;
-		relShowdownProb[4079] = 0.9598762F;
-		relShowdownProb[4080] = 1.0673144F;
-		relShowdownProb[4081] = 1.2277912F;
-		relShowdownProb[4090] = 0.7916505F;
-		relShowdownProb[4091] = 0.94008493F;
-		relShowdownProb[4094] = 1.1379975F;
-		relShowdownProb[4095] = 0.9235922F;
-		relShowdownProb[4096] = 0.9978094F;
-		relShowdownProb[4099] = 1.1379975F;
-		relShowdownProb[4100] = 0.7916505F;
-		relShowdownProb[4101] = 0.87411404F;
-		relShowdownProb[4102] = 0.9252415F;
-		relShowdownProb[4105] = 0.94008493F;
-		relShowdownProb[4106] = 0.87411404F;
-		relShowdownProb[4107] = 0.8328822F;
-		relShowdownProb[4108] = 0.9054502F;
-		relShowdownProb[4109] = 0.9730703F;
-		relShowdownProb[4112] = 0.7421723F;
-		relShowdownProb[4113] = 0.82463586F;
-		relShowdownProb[4114] = 0.68444777F;
-		relShowdownProb[4115] = 0.9697718F;
-		relShowdownProb[4116] = 0.9796674F;
-		relShowdownProb[4117] = 1.0249046F;
-		relShowdownProb[4120] = 1.0885193F;
-		relShowdownProb[4121] = 0.87411404F;
-		relShowdownProb[4122] = 0.91534585F;
-		relShowdownProb[4123] = 0.98461527F;
-		relShowdownProb[4124] = 0.9928616F;
-		relShowdownProb[4125] = 1.1851196F;
-		relShowdownProb[4126] = 1.2457892F;
-		relShowdownProb[4129] = 0.59373784F;
-		relShowdownProb[4130] = 0.8576213F;
-		relShowdownProb[4131] = 0.9565776F;
-		relShowdownProb[4132] = 0.9994587F;
-		relShowdownProb[4133] = 0.98956305F;
-		relShowdownProb[4134] = 1.1450658F;
-		relShowdownProb[4135] = 1.3871554F;
-		relShowdownProb[4136] = 1.3659505F;
-		relShowdownProb[4140] = 0.9070995F;
-		relShowdownProb[4141] = 0.9286971F;
-		relShowdownProb[4142] = 0.920058F;
-		relShowdownProb[4143] = 0.7256796F;
-		relShowdownProb[4144] = 0.83305055F;
-		relShowdownProb[4145] = 0.8932153F;
-		relShowdownProb[4146] = 1.0798804F;
-		relShowdownProb[4147] = 1.1397645F;
-		relShowdownProb[4151] = 0.86390424F;
-		relShowdownProb[4152] = 0.9502947F;
-		relShowdownProb[4153] = 0.7645553F;
-		relShowdownProb[4154] = 0.67384535F;
-		relShowdownProb[4155] = 0.9070995F;
-		relShowdownProb[4156] = 0.9163556F;
-		relShowdownProb[4157] = 1.0582827F;
-		relShowdownProb[4158] = 1.2075026F;
-		relShowdownProb[4160] = 1.020487F;
-		relShowdownProb[4161] = 0.3401623F;
-		relShowdownProb[4162] = 1.0340934F;
-		relShowdownProb[4163] = 0.7107869F;
-		relShowdownProb[4164] = 0.6740831F;
-		relShowdownProb[4165] = 0.8256571F;
-		relShowdownProb[4166] = 0.7697214F;
-		relShowdownProb[4167] = 0.90862143F;
-		relShowdownProb[4168] = 1.136249F;
-		relShowdownProb[4169] = 1.3489698F;
-		relShowdownProb[4173] = 0.51834255F;
-		relShowdownProb[4174] = 0.5399402F;
-		relShowdownProb[4175] = 0.7515967F;
-		relShowdownProb[4176] = 0.9848509F;
-		relShowdownProb[4177] = 0.9996607F;
-		relShowdownProb[4178] = 1.0737096F;
-		relShowdownProb[4179] = 1.0186871F;
-		relShowdownProb[4180] = 1.2045574F;
-		relShowdownProb[4182] = 0.3401623F;
-		relShowdownProb[4183] = 0.3401623F;
-		relShowdownProb[4184] = 0.4898337F;
-		relShowdownProb[4185] = 0.7514033F;
-		relShowdownProb[4186] = 0.96119255F;
-		relShowdownProb[4187] = 0.8003819F;
-		relShowdownProb[4188] = 0.721235F;
-		relShowdownProb[4189] = 1.0227699F;
-		relShowdownProb[4190] = 1.0792584F;
-		relShowdownProb[4191] = 1.2204965F;
-		relShowdownProb[4193] = 1.3606492F;
-		relShowdownProb[4194] = 0.6803246F;
-		relShowdownProb[4195] = 0.51610833F;
-		relShowdownProb[4196] = 0.7871524F;
-		relShowdownProb[4197] = 0.6622629F;
-		relShowdownProb[4198] = 0.8139231F;
-		relShowdownProb[4199] = 0.85152227F;
-		relShowdownProb[4200] = 0.96416867F;
-		relShowdownProb[4201] = 1.0046244F;
-		relShowdownProb[4202] = 1.3056443F;
-		relShowdownProb[4206] = 0.51834255F;
-		relShowdownProb[4207] = 0.75591624F;
-		relShowdownProb[4208] = 0.8811824F;
-		relShowdownProb[4209] = 0.86390424F;
-		relShowdownProb[4210] = 1.0058314F;
-		relShowdownProb[4211] = 1.0135448F;
-		relShowdownProb[4212] = 1.119476F;
-		relShowdownProb[4213] = 1.2037066F;
-		relShowdownProb[4215] = 1.020487F;
-		relShowdownProb[4216] = 0.3401623F;
-		relShowdownProb[4217] = 0.65311164F;
-		relShowdownProb[4218] = 0.77171147F;
-		relShowdownProb[4219] = 0.9112605F;
-		relShowdownProb[4220] = 0.7835317F;
-		relShowdownProb[4221] = 0.9273021F;
-		relShowdownProb[4222] = 0.8994896F;
-		relShowdownProb[4223] = 0.9688392F;
-		relShowdownProb[4224] = 1.176469F;
-		relShowdownProb[4226] = 0.3401623F;
-		relShowdownProb[4227] = 0.6803246F;
-		relShowdownProb[4228] = 0.6099462F;
-		relShowdownProb[4229] = 0.7871524F;
-		relShowdownProb[4230] = 0.8067566F;
-		relShowdownProb[4231] = 0.76459444F;
-		relShowdownProb[4232] = 0.9110693F;
-		relShowdownProb[4233] = 1.0542779F;
-		relShowdownProb[4234] = 1.0504494F;
-		relShowdownProb[4235] = 1.2686177F;
-		relShowdownProb[4237] = 0.3401623F;
-		relShowdownProb[4238] = 0.5102435F;
-		relShowdownProb[4239] = 0.7834041F;
-		relShowdownProb[4240] = 0.8649088F;
-		relShowdownProb[4241] = 0.71545875F;
-		relShowdownProb[4242] = 0.8027429F;
-		relShowdownProb[4243] = 0.965622F;
-		relShowdownProb[4244] = 0.91154605F;
-		relShowdownProb[4245] = 1.2176065F;
-		relShowdownProb[4246] = 1.280611F;
-		relShowdownProb[4249] = 0.12958564F;
-		relShowdownProb[4250] = 0.604733F;
-		relShowdownProb[4251] = 0.5399402F;
-		relShowdownProb[4252] = 0.66088676F;
-		relShowdownProb[4253] = 0.76887476F;
-		relShowdownProb[4254] = 0.82070905F;
-		relShowdownProb[4255] = 0.8932153F;
-		relShowdownProb[4256] = 1.0330855F;
-		relShowdownProb[4257] = 1.1749098F;
-		relShowdownProb[4259] = 1.020487F;
-		relShowdownProb[4260] = 0.37535152F;
-		relShowdownProb[4261] = 0.8708155F;
-		relShowdownProb[4262] = 0.85294425F;
-		relShowdownProb[4263] = 0.7864303F;
-		relShowdownProb[4264] = 0.84250724F;
-		relShowdownProb[4265] = 0.97578853F;
-		relShowdownProb[4266] = 0.8812258F;
-		relShowdownProb[4267] = 0.99021065F;
-		relShowdownProb[4268] = 1.2592787F;
-		relShowdownProb[4270] = 0.17008115F;
-		relShowdownProb[4271] = 0.80903465F;
-		relShowdownProb[4272] = 0.6568651F;
-		relShowdownProb[4273] = 0.69719213F;
-		relShowdownProb[4274] = 0.7465509F;
-		relShowdownProb[4275] = 0.69882286F;
-		relShowdownProb[4276] = 0.88129574F;
-		relShowdownProb[4277] = 0.99570686F;
-		relShowdownProb[4278] = 1.0821744F;
-		relShowdownProb[4279] = 1.0987136F;
-		relShowdownProb[4281] = 0.85040575F;
-		relShowdownProb[4282] = 0.61614305F;
-		relShowdownProb[4283] = 0.7834041F;
-		relShowdownProb[4284] = 0.5273834F;
-		relShowdownProb[4285] = 0.98375577F;
-		relShowdownProb[4286] = 0.7385235F;
-		relShowdownProb[4287] = 0.8193157F;
-		relShowdownProb[4288] = 0.9604583F;
-		relShowdownProb[4289] = 1.1722516F;
-		relShowdownProb[4290] = 1.3171197F;
-		relShowdownProb[4292] = 0.85040575F;
-		relShowdownProb[4293] = 0.821524F;
-		relShowdownProb[4294] = 0.66520625F;
-		relShowdownProb[4295] = 0.73494923F;
-		relShowdownProb[4296] = 0.88657683F;
-		relShowdownProb[4297] = 0.7512787F;
-		relShowdownProb[4298] = 1.0758622F;
-		relShowdownProb[4299] = 0.9831788F;
-		relShowdownProb[4300] = 1.0567479F;
-		relShowdownProb[4301] = 1.1419983F;
-		relShowdownProb[4304] = 0.51834255F;
-		relShowdownProb[4305] = 0.6911234F;
-		relShowdownProb[4306] = 0.43195212F;
-		relShowdownProb[4307] = 0.7904724F;
-		relShowdownProb[4308] = 0.69976246F;
-		relShowdownProb[4309] = 0.8145383F;
-		relShowdownProb[4310] = 0.8932153F;
-		relShowdownProb[4311] = 0.9034999F;
-		relShowdownProb[4312] = 1.0568429F;
-		relShowdownProb[4315] = 0.56302726F;
-		relShowdownProb[4316] = 0.53659403F;
-		relShowdownProb[4317] = 0.6092459F;
-		relShowdownProb[4318] = 0.7989133F;
-		relShowdownProb[4319] = 0.9436081F;
-		relShowdownProb[4320] = 0.95760614F;
-		relShowdownProb[4321] = 0.87665987F;
-		relShowdownProb[4322] = 1.0080203F;
-		relShowdownProb[4323] = 1.1422029F;
-		relShowdownProb[4325] = 1.1905681F;
-		relShowdownProb[4326] = 0.51484025F;
-		relShowdownProb[4327] = 0.7233831F;
-		relShowdownProb[4328] = 0.58474183F;
-		relShowdownProb[4329] = 0.7826743F;
-		relShowdownProb[4330] = 0.78103733F;
-		relShowdownProb[4331] = 0.69670004F;
-		relShowdownProb[4332] = 0.9326304F;
-		relShowdownProb[4333] = 1.0504494F;
-		relShowdownProb[4334] = 1.1638435F;
-		relShowdownProb[4336] = 0.85040575F;
-		relShowdownProb[4337] = 0.410762F;
-		relShowdownProb[4338] = 0.62558585F;
-		relShowdownProb[4339] = 0.69614613F;
-		relShowdownProb[4340] = 0.5876982F;
-		relShowdownProb[4341] = 0.87498975F;
-		relShowdownProb[4342] = 0.9305085F;
-		relShowdownProb[4343] = 0.93822545F;
-		relShowdownProb[4344] = 1.0466533F;
-		relShowdownProb[4345] = 1.2272522F;
-		relShowdownProb[4347] = 0.5102435F;
-		relShowdownProb[4348] = 0.410762F;
-		relShowdownProb[4349] = 0.51484025F;
-		relShowdownProb[4350] = 0.5760413F;
-		relShowdownProb[4351] = 0.7141869F;
-		relShowdownProb[4352] = 0.68449837F;
-		relShowdownProb[4353] = 0.92052376F;
-		relShowdownProb[4354] = 0.9129517F;
-		relShowdownProb[4355] = 1.0256671F;
-		relShowdownProb[4356] = 1.139213F;
-		relShowdownProb[4358] = 1.020487F;
-		relShowdownProb[4359] = 0.51345253F;
-		relShowdownProb[4360] = 0.56387264F;
-		relShowdownProb[4361] = 0.48307073F;
-		relShowdownProb[4362] = 0.66547036F;
-		relShowdownProb[4363] = 0.79846483F;
-		relShowdownProb[4364] = 0.9228751F;
-		relShowdownProb[4365] = 0.9533211F;
-		relShowdownProb[4366] = 1.158945F;
-		relShowdownProb[4367] = 1.0912821F;
-		relShowdownProb[4370] = 0.38875693F;
-		relShowdownProb[4371] = 0.604733F;
-		relShowdownProb[4372] = 0.6911234F;
-		relShowdownProb[4373] = 0.6479282F;
-		relShowdownProb[4374] = 0.84662616F;
-		relShowdownProb[4375] = 0.870075F;
-		relShowdownProb[4376] = 0.83305055F;
-		relShowdownProb[4377] = 1.0798804F;
-		relShowdownProb[4378] = 1.2037066F;
-		relShowdownProb[4380] = 0.3401623F;
-		relShowdownProb[4381] = 0.18767576F;
-		relShowdownProb[4382] = 0.72823477F;
-		relShowdownProb[4383] = 0.5686295F;
-		relShowdownProb[4384] = 0.66160005F;
-		relShowdownProb[4385] = 0.68243086F;
-		relShowdownProb[4386] = 0.79396456F;
-		relShowdownProb[4387] = 0.97254455F;
-		relShowdownProb[4388] = 0.9260963F;
-		relShowdownProb[4389] = 1.2107351F;
-		relShowdownProb[4391] = 0.6803246F;
-		relShowdownProb[4392] = 0.73548603F;
-		relShowdownProb[4393] = 0.75782996F;
-		relShowdownProb[4394] = 0.5749222F;
-		relShowdownProb[4395] = 0.7826743F;
-		relShowdownProb[4396] = 0.86325175F;
-		relShowdownProb[4397] = 0.8693864F;
-		relShowdownProb[4398] = 0.8965867F;
-		relShowdownProb[4399] = 0.97289944F;
-		relShowdownProb[4400] = 1.192161F;
-		relShowdownProb[4402] = 0.3401623F;
-		relShowdownProb[4403] = 0.61614305F;
-		relShowdownProb[4404] = 0.531748F;
-		relShowdownProb[4405] = 0.65311164F;
-		relShowdownProb[4406] = 0.8176671F;
-		relShowdownProb[4407] = 0.6903589F;
-		relShowdownProb[4408] = 0.70227057F;
-		relShowdownProb[4409] = 1.076069F;
-		relShowdownProb[4410] = 1.0326979F;
-		relShowdownProb[4411] = 1.2160188F;
-		relShowdownProb[4413] = 0.17008115F;
-		relShowdownProb[4414] = 0.25672626F;
-		relShowdownProb[4415] = 0.76000226F;
-		relShowdownProb[4416] = 0.7233831F;
-		relShowdownProb[4417] = 0.56642413F;
-		relShowdownProb[4418] = 0.909882F;
-		relShowdownProb[4419] = 0.82271814F;
-		relShowdownProb[4420] = 0.97878957F;
-		relShowdownProb[4421] = 1.1154561F;
-		relShowdownProb[4422] = 1.2868371F;
-		relShowdownProb[4424] = 0.3401623F;
-		relShowdownProb[4425] = 0.46210727F;
-		relShowdownProb[4426] = 0.51484025F;
-		relShowdownProb[4427] = 0.57290494F;
-		relShowdownProb[4428] = 0.46345258F;
-		relShowdownProb[4429] = 0.5866272F;
-		relShowdownProb[4430] = 0.78089434F;
-		relShowdownProb[4431] = 0.84932244F;
-		relShowdownProb[4432] = 0.99826527F;
-		relShowdownProb[4433] = 1.0912821F;
-		relShowdownProb[4435] = 0.5102435F;
-		relShowdownProb[4436] = 0.35941678F;
-		relShowdownProb[4437] = 0.24516203F;
-		relShowdownProb[4438] = 0.47264656F;
-		relShowdownProb[4439] = 0.61709744F;
-		relShowdownProb[4440] = 0.644518F;
-		relShowdownProb[4441] = 0.80243415F;
-		relShowdownProb[4442] = 1.066395F;
-		relShowdownProb[4443] = 1.1541826F;
-		relShowdownProb[4444] = 1.2167739F;
-		relShowdownProb[4447] = 0.12958564F;
-		relShowdownProb[4448] = 0.6479282F;
-		relShowdownProb[4449] = 0.6263306F;
-		relShowdownProb[4450] = 0.6479282F;
-		relShowdownProb[4451] = 0.5528987F;
-		relShowdownProb[4452] = 0.79602605F;
-		relShowdownProb[4453] = 0.77751386F;
-		relShowdownProb[4454] = 0.97909147F;
-		relShowdownProb[4455] = 1.2238643F;
-		relShowdownProb[4457] = 1.020487F;
-		relShowdownProb[4458] = 0.56302726F;
-		relShowdownProb[4459] = 0.5749222F;
-		relShowdownProb[4460] = 0.6295541F;
-		relShowdownProb[4461] = 0.611668F;
-		relShowdownProb[4462] = 0.7077061F;
-		relShowdownProb[4463] = 0.84851176F;
-		relShowdownProb[4464] = 0.9360171F;
-		relShowdownProb[4465] = 0.9260963F;
-		relShowdownProb[4466] = 1.0536822F;
-		relShowdownProb[4468] = 0.6803246F;
-		relShowdownProb[4469] = 0.6619375F;
-		relShowdownProb[4470] = 0.79227674F;
-		relShowdownProb[4471] = 0.6324144F;
-		relShowdownProb[4472] = 0.590016F;
-		relShowdownProb[4473] = 0.6166084F;
-		relShowdownProb[4474] = 0.8693864F;
-		relShowdownProb[4475] = 0.9055976F;
-		relShowdownProb[4476] = 1.0328244F;
-		relShowdownProb[4477] = 1.1723387F;
-		relShowdownProb[4479] = 0.3401623F;
-		relShowdownProb[4480] = 0.51345253F;
-		relShowdownProb[4481] = 0.7819823F;
-		relShowdownProb[4482] = 0.74382156F;
-		relShowdownProb[4483] = 0.6977688F;
-		relShowdownProb[4484] = 0.674304F;
-		relShowdownProb[4485] = 0.8836905F;
-		relShowdownProb[4486] = 0.9337789F;
-		relShowdownProb[4487] = 1.095497F;
-		relShowdownProb[4488] = 1.1795101F;
-		relShowdownProb[4490] = 0.5102435F;
-		relShowdownProb[4491] = 0.46210727F;
-		relShowdownProb[4492] = 0.46580783F;
-		relShowdownProb[4493] = 0.4478086F;
-		relShowdownProb[4494] = 0.52851665F;
-		relShowdownProb[4495] = 0.71788853F;
-		relShowdownProb[4496] = 0.8284714F;
-		relShowdownProb[4497] = 0.8207787F;
-		relShowdownProb[4498] = 1.0014931F;
-		relShowdownProb[4499] = 1.1002179F;
-		relShowdownProb[4501] = 0.17008115F;
-		relShowdownProb[4502] = 0.25672626F;
-		relShowdownProb[4503] = 0.49032405F;
-		relShowdownProb[4504] = 0.4296787F;
-		relShowdownProb[4505] = 0.57691526F;
-		relShowdownProb[4506] = 0.529594F;
-		relShowdownProb[4507] = 0.88146406F;
-		relShowdownProb[4508] = 0.90132177F;
-		relShowdownProb[4509] = 1.2033882F;
-		relShowdownProb[4510] = 1.1299604F;
-		relShowdownProb[4512] = 0.85040575F;
-		relShowdownProb[4513] = 0.35941678F;
-		relShowdownProb[4514] = 0.39225924F;
-		relShowdownProb[4515] = 0.57290494F;
-		relShowdownProb[4516] = 0.8351571F;
-		relShowdownProb[4517] = 0.57290494F;
-		relShowdownProb[4518] = 0.7442868F;
-		relShowdownProb[4519] = 0.98232234F;
-		relShowdownProb[4520] = 1.0289487F;
-		relShowdownProb[4521] = 1.1811477F;
-		relShowdownProb[4523] = 0.17008115F;
-		relShowdownProb[4524] = 0.35941678F;
-		relShowdownProb[4525] = 0.51484025F;
-		relShowdownProb[4526] = 0.4869692F;
-		relShowdownProb[4527] = 0.42227045F;
-		relShowdownProb[4528] = 0.61403656F;
-		relShowdownProb[4529] = 0.87470305F;
-		relShowdownProb[4530] = 0.9828124F;
-		relShowdownProb[4531] = 1.0596206F;
-		relShowdownProb[4532] = 1.2532653F;
-		relShowdownProb[4535] = 0.51834255F;
-		relShowdownProb[4536] = 0.47514734F;
-		relShowdownProb[4537] = 0.6263306F;
-		relShowdownProb[4538] = 0.8163895F;
-		relShowdownProb[4539] = 0.803431F;
-		relShowdownProb[4540] = 0.83305055F;
-		relShowdownProb[4541] = 0.8376786F;
-		relShowdownProb[4542] = 0.9070995F;
-		relShowdownProb[4543] = 1.2123456F;
-		relShowdownProb[4545] = 0.3401623F;
-		relShowdownProb[4546] = 0.93837875F;
-		relShowdownProb[4547] = 0.4216096F;
-		relShowdownProb[4548] = 0.6904787F;
-		relShowdownProb[4549] = 0.7115322F;
-		relShowdownProb[4550] = 0.6740058F;
-		relShowdownProb[4551] = 0.83639014F;
-		relShowdownProb[4552] = 0.86296207F;
-		relShowdownProb[4553] = 1.0614488F;
-		relShowdownProb[4554] = 1.1364919F;
-		relShowdownProb[4556] = 0.5102435F;
-		relShowdownProb[4557] = 0.51484025F;
-		relShowdownProb[4558] = 0.5511491F;
-		relShowdownProb[4559] = 0.38328147F;
-		relShowdownProb[4560] = 0.6983863F;
-		relShowdownProb[4561] = 0.71526575F;
-		relShowdownProb[4562] = 0.69670004F;
-		relShowdownProb[4563] = 0.91911405F;
-		relShowdownProb[4564] = 0.9164995F;
-		relShowdownProb[4565] = 1.2318052F;
-		relShowdownProb[4567] = 0.3401623F;
-		relShowdownProb[4568] = 0.71883357F;
-		relShowdownProb[4569] = 0.34407222F;
-		relShowdownProb[4570] = 0.78010553F;
-		relShowdownProb[4571] = 0.77917516F;
-		relShowdownProb[4572] = 0.70641375F;
-		relShowdownProb[4573] = 0.6964183F;
-		relShowdownProb[4574] = 1.0182636F;
-		relShowdownProb[4575] = 0.9454768F;
-		relShowdownProb[4576] = 1.2244439F;
-		relShowdownProb[4578] = 0.85040575F;
-		relShowdownProb[4579] = 0.51345253F;
-		relShowdownProb[4580] = 0.612905F;
-		relShowdownProb[4581] = 0.7233831F;
-		relShowdownProb[4582] = 0.6184769F;
-		relShowdownProb[4583] = 0.6822852F;
-		relShowdownProb[4584] = 0.73066574F;
-		relShowdownProb[4585] = 0.9129517F;
-		relShowdownProb[4586] = 1.0222136F;
-		relShowdownProb[4587] = 1.2144177F;
-		relShowdownProb[4589] = 0.17008115F;
-		relShowdownProb[4590] = 0.410762F;
-		relShowdownProb[4591] = 0.39225924F;
-		relShowdownProb[4592] = 0.5299371F;
-		relShowdownProb[4593] = 0.5333745F;
-		relShowdownProb[4594] = 0.7818942F;
-		relShowdownProb[4595] = 0.7690626F;
-		relShowdownProb[4596] = 0.87965536F;
-		relShowdownProb[4597] = 1.0563835F;
-		relShowdownProb[4598] = 1.2073171F;
-		relShowdownProb[4600] = 0.3401623F;
-		relShowdownProb[4601] = 0.46210727F;
-		relShowdownProb[4602] = 0.44129163F;
-		relShowdownProb[4603] = 0.5012918F;
-		relShowdownProb[4604] = 0.49734074F;
-		relShowdownProb[4605] = 0.6597087F;
-		relShowdownProb[4606] = 0.68613935F;
-		relShowdownProb[4607] = 0.89824975F;
-		relShowdownProb[4608] = 1.1169509F;
-		relShowdownProb[4609] = 1.2441788F;
-		relShowdownProb[4611] = 0.3401623F;
-		relShowdownProb[4612] = 0.46210727F;
-		relShowdownProb[4613] = 0.46580783F;
-		relShowdownProb[4614] = 0.644518F;
-		relShowdownProb[4615] = 0.6287138F;
-		relShowdownProb[4616] = 0.5892836F;
-		relShowdownProb[4617] = 0.7717968F;
-		relShowdownProb[4618] = 0.9085555F;
-		relShowdownProb[4619] = 0.9116866F;
-		relShowdownProb[4620] = 1.2342353F;
-		relShowdownProb[4622] = 0.17008115F;
-		relShowdownProb[4623] = 0.61614305F;
-		relShowdownProb[4624] = 0.612905F;
-		relShowdownProb[4625] = 0.38671082F;
-		relShowdownProb[4626] = 0.54425967F;
-		relShowdownProb[4627] = 0.52307194F;
-		relShowdownProb[4628] = 0.6803246F;
-		relShowdownProb[4629] = 0.95741403F;
-		relShowdownProb[4630] = 1.168217F;
-		relShowdownProb[4631] = 1.3909471F;
-		relShowdownProb[4634] = 0.12958564F;
-		relShowdownProb[4635] = 0.604733F;
-		relShowdownProb[4636] = 0.56153774F;
-		relShowdownProb[4637] = 0.8682238F;
-		relShowdownProb[4638] = 0.613372F;
-		relShowdownProb[4639] = 0.71580637F;
-		relShowdownProb[4640] = 0.80991024F;
-		relShowdownProb[4641] = 0.8783027F;
-		relShowdownProb[4642] = 1.1029178F;
-		relShowdownProb[4644] = 1.020487F;
-		relShowdownProb[4645] = 1.0322167F;
-		relShowdownProb[4646] = 0.68990666F;
-		relShowdownProb[4647] = 0.48739672F;
-		relShowdownProb[4648] = 0.54925287F;
-		relShowdownProb[4649] = 0.6740058F;
-		relShowdownProb[4650] = 0.7091134F;
-		relShowdownProb[4651] = 0.73054993F;
-		relShowdownProb[4652] = 0.9260963F;
-		relShowdownProb[4653] = 1.1736134F;
-		relShowdownProb[4655] = 0.6803246F;
-		relShowdownProb[4656] = 0.6619375F;
-		relShowdownProb[4657] = 0.6200427F;
-		relShowdownProb[4658] = 0.6132504F;
-		relShowdownProb[4659] = 0.8067566F;
-		relShowdownProb[4660] = 0.76459444F;
-		relShowdownProb[4661] = 0.79197526F;
-		relShowdownProb[4662] = 0.8875758F;
-		relShowdownProb[4663] = 1.0927494F;
-		relShowdownProb[4664] = 1.169507F;
-		relShowdownProb[4666] = 0.5102435F;
-		relShowdownProb[4667] = 0.51345253F;
-		relShowdownProb[4668] = 0.46918938F;
-		relShowdownProb[4669] = 0.63496965F;
-		relShowdownProb[4670] = 0.73265725F;
-		relShowdownProb[4671] = 0.7786606F;
-		relShowdownProb[4672] = 0.7666454F;
-		relShowdownProb[4673] = 0.8137216F;
-		relShowdownProb[4674] = 0.9943206F;
-		relShowdownProb[4675] = 1.2075937F;
-		relShowdownProb[4677] = 0.3401623F;
-		relShowdownProb[4678] = 0.30807152F;
-		relShowdownProb[4679] = 0.80903465F;
-		relShowdownProb[4680] = 0.49947882F;
-		relShowdownProb[4681] = 0.7421723F;
-		relShowdownProb[4682] = 0.66660047F;
-		relShowdownProb[4683] = 0.72491246F;
-		relShowdownProb[4684] = 0.8163895F;
-		relShowdownProb[4685] = 1.0049465F;
-		relShowdownProb[4686] = 1.2116324F;
-		relShowdownProb[4689] = 0.51345253F;
-		relShowdownProb[4690] = 0.51484025F;
-		relShowdownProb[4691] = 0.65884066F;
-		relShowdownProb[4692] = 0.5986857F;
-		relShowdownProb[4693] = 0.8202223F;
-		relShowdownProb[4694] = 0.7694316F;
-		relShowdownProb[4695] = 0.79298985F;
-		relShowdownProb[4696] = 1.001684F;
-		relShowdownProb[4697] = 0.94485694F;
-		relShowdownProb[4699] = 0.3401623F;
-		relShowdownProb[4700] = 0.410762F;
-		relShowdownProb[4701] = 0.41677544F;
-		relShowdownProb[4702] = 0.5872276F;
-		relShowdownProb[4703] = 0.51610833F;
-		relShowdownProb[4704] = 0.68219876F;
-		relShowdownProb[4705] = 0.7123235F;
-		relShowdownProb[4706] = 0.8628507F;
-		relShowdownProb[4707] = 1.0932579F;
-		relShowdownProb[4708] = 1.0742688F;
-		relShowdownProb[4710] = 0.6803246F;
-		relShowdownProb[4711] = 0.410762F;
-		relShowdownProb[4712] = 0.44129163F;
-		relShowdownProb[4713] = 0.45832396F;
-		relShowdownProb[4714] = 0.58179486F;
-		relShowdownProb[4715] = 0.52307194F;
-		relShowdownProb[4716] = 0.865121F;
-		relShowdownProb[4717] = 0.81682634F;
-		relShowdownProb[4718] = 0.9564108F;
-		relShowdownProb[4719] = 1.1173363F;
-		relShowdownProb[4721] = 0.3401623F;
-		relShowdownProb[4722] = 0.8728693F;
-		relShowdownProb[4723] = 0.49032405F;
-		relShowdownProb[4724] = 0.47264656F;
-		relShowdownProb[4725] = 0.52549213F;
-		relShowdownProb[4726] = 0.61576825F;
-		relShowdownProb[4727] = 0.6298846F;
-		relShowdownProb[4728] = 0.83234644F;
-		relShowdownProb[4729] = 1.1443758F;
-		relShowdownProb[4730] = 1.3110709F;
-		relShowdownProb[4732] = 0.3401623F;
-		relShowdownProb[4733] = 0.61614305F;
-		relShowdownProb[4734] = 0.56387264F;
-		relShowdownProb[4735] = 0.7447764F;
-		relShowdownProb[4736] = 0.6662489F;
-		relShowdownProb[4737] = 0.6554952F;
-		relShowdownProb[4738] = 0.6397266F;
-		relShowdownProb[4739] = 0.8927425F;
-		relShowdownProb[4740] = 1.1633804F;
-		relShowdownProb[4741] = 1.4754027F;
-		relShowdownProb[4744] = 0.12958564F;
-		relShowdownProb[4745] = 0.7343186F;
-		relShowdownProb[4746] = 0.7991114F;
-		relShowdownProb[4747] = 0.8682238F;
-		relShowdownProb[4748] = 0.74295765F;
-		relShowdownProb[4749] = 0.6787819F;
-		relShowdownProb[4750] = 0.8006541F;
-		relShowdownProb[4751] = 0.84590626F;
-		relShowdownProb[4752] = 1.0395648F;
-		relShowdownProb[4754] = 0.6803246F;
-		relShowdownProb[4755] = 0.56302726F;
-		relShowdownProb[4756] = 0.8815474F;
-		relShowdownProb[4757] = 0.6498623F;
-		relShowdownProb[4758] = 0.66160005F;
-		relShowdownProb[4759] = 0.5223545F;
-		relShowdownProb[4760] = 0.81214696F;
-		relShowdownProb[4761] = 0.7533796F;
-		relShowdownProb[4762] = 0.80855334F;
-		relShowdownProb[4763] = 1.1107923F;
-		relShowdownProb[4765] = 0.3401623F;
-		relShowdownProb[4766] = 0.58838886F;
-		relShowdownProb[4767] = 0.5511491F;
-		relShowdownProb[4768] = 0.53659403F;
-		relShowdownProb[4769] = 0.77063316F;
-		relShowdownProb[4770] = 0.6494942F;
-		relShowdownProb[4771] = 0.7205188F;
-		relShowdownProb[4772] = 0.7929611F;
-		relShowdownProb[4773] = 0.8177995F;
-		relShowdownProb[4774] = 1.115704F;
-		relShowdownProb[4776] = 0.5102435F;
-		relShowdownProb[4777] = 0.56479776F;
-		relShowdownProb[4778] = 0.6568651F;
-		relShowdownProb[4779] = 0.5986857F;
-		relShowdownProb[4780] = 0.7210278F;
-		relShowdownProb[4781] = 0.674304F;
-		relShowdownProb[4782] = 0.7373841F;
-		relShowdownProb[4783] = 0.8937598F;
-		relShowdownProb[4784] = 0.8756999F;
-		relShowdownProb[4785] = 1.1682767F;
-		relShowdownProb[4787] = 0.5102435F;
-		relShowdownProb[4788] = 0.30807152F;
-		relShowdownProb[4789] = 0.41677544F;
-		relShowdownProb[4790] = 0.51670223F;
-		relShowdownProb[4791] = 0.6859471F;
-		relShowdownProb[4792] = 0.69012755F;
-		relShowdownProb[4793] = 0.82271814F;
-		relShowdownProb[4794] = 0.94367605F;
-		relShowdownProb[4795] = 1.0187602F;
-		relShowdownProb[4796] = 1.2868371F;
-		relShowdownProb[4798] = 0.6803246F;
-		relShowdownProb[4799] = 0.410762F;
-		relShowdownProb[4800] = 0.51484025F;
-		relShowdownProb[4801] = 0.7447764F;
-		relShowdownProb[4802] = 0.72930795F;
-		relShowdownProb[4803] = 0.72056913F;
-		relShowdownProb[4804] = 0.84863776F;
-		relShowdownProb[4805] = 0.94032127F;
-		relShowdownProb[4806] = 0.8512604F;
-		relShowdownProb[4807] = 1.0332646F;
-		relShowdownProb[4809] = 0.3401623F;
-		relShowdownProb[4810] = 0.61614305F;
-		relShowdownProb[4811] = 0.73548603F;
-		relShowdownProb[4812] = 0.5299371F;
-		relShowdownProb[4813] = 0.54425967F;
-		relShowdownProb[4814] = 0.8846094F;
-		relShowdownProb[4815] = 0.8904044F;
-		relShowdownProb[4816] = 0.76162124F;
-		relShowdownProb[4817] = 0.91725355F;
-		relShowdownProb[4818] = 1.2359573F;
-		relShowdownProb[4820] = 0.6803246F;
-		relShowdownProb[4821] = 0.51345253F;
-		relShowdownProb[4822] = 0.68645364F;
-		relShowdownProb[4823] = 0.8020669F;
-		relShowdownProb[4824] = 0.58179486F;
-		relShowdownProb[4825] = 0.6091471F;
-		relShowdownProb[4826] = 0.7939402F;
-		relShowdownProb[4827] = 0.9549898F;
-		relShowdownProb[4828] = 1.0148964F;
-		relShowdownProb[4829] = 1.1363664F;
-		relShowdownProb[4831] = 0.6803246F;
-		relShowdownProb[4832] = 0.25672626F;
-		relShowdownProb[4833] = 0.34322682F;
-		relShowdownProb[4834] = 0.44400132F;
-		relShowdownProb[4835] = 0.6287138F;
-		relShowdownProb[4836] = 0.59590477F;
-		relShowdownProb[4837] = 0.62496364F;
-		relShowdownProb[4838] = 0.9265771F;
-		relShowdownProb[4839] = 0.9502406F;
-		relShowdownProb[4840] = 1.3386145F;
-		relShowdownProb[4842] = 0.5102435F;
-		relShowdownProb[4843] = 0.30807152F;
-		relShowdownProb[4844] = 0.51484025F;
-		relShowdownProb[4845] = 0.40103346F;
-		relShowdownProb[4846] = 0.6568651F;
-		relShowdownProb[4847] = 0.6091471F;
-		relShowdownProb[4848] = 0.747988F;
-		relShowdownProb[4849] = 0.8817615F;
-		relShowdownProb[4850] = 1.1330314F;
-		relShowdownProb[4851] = 1.3497204F;
-		relShowdownProb[4853] = 0.3401623F;
-		relShowdownProb[4854] = 0.25672626F;
-		relShowdownProb[4855] = 0.51484025F;
-		relShowdownProb[4856] = 0.54425967F;
-		relShowdownProb[4857] = 0.46918938F;
-		relShowdownProb[4858] = 0.6621164F;
-		relShowdownProb[4859] = 0.6544895F;
-		relShowdownProb[4860] = 0.81334895F;
-		relShowdownProb[4861] = 0.8978118F;
-		relShowdownProb[4862] = 1.4257002F;
-		relShowdownProb[4866] = 1.2958564F;
-		relShowdownProb[4867] = 0.77751386F;
-		relShowdownProb[4868] = 0.77751386F;
-		relShowdownProb[4869] = 0.76887476F;
-		relShowdownProb[4870] = 0.8824165F;
-		relShowdownProb[4871] = 0.92561173F;
-		relShowdownProb[4872] = 0.9610935F;
-		relShowdownProb[4873] = 1.0136477F;
-		relShowdownProb[4875] = 1.020487F;
-		relShowdownProb[4876] = 0.3401623F;
-		relShowdownProb[4877] = 0.6132504F;
-		relShowdownProb[4878] = 0.97479343F;
-		relShowdownProb[4879] = 0.82387936F;
-		relShowdownProb[4880] = 0.79195684F;
-		relShowdownProb[4881] = 0.88487655F;
-		relShowdownProb[4882] = 0.9131874F;
-		relShowdownProb[4883] = 0.85129625F;
-		relShowdownProb[4884] = 1.0022831F;
-		relShowdownProb[4886] = 0.85040575F;
-		relShowdownProb[4887] = 1.1905681F;
-		relShowdownProb[4888] = 0.96451086F;
-		relShowdownProb[4889] = 1.03486F;
-		relShowdownProb[4890] = 0.85492116F;
-		relShowdownProb[4891] = 0.87969464F;
-		relShowdownProb[4892] = 0.9467975F;
-		relShowdownProb[4893] = 1.0227396F;
-		relShowdownProb[4894] = 0.90944946F;
-		relShowdownProb[4895] = 1.0420789F;
-		relShowdownProb[4897] = 1.020487F;
-		relShowdownProb[4898] = 0.7653652F;
-		relShowdownProb[4899] = 0.9696581F;
-		relShowdownProb[4900] = 0.8889575F;
-		relShowdownProb[4901] = 0.75591624F;
-		relShowdownProb[4902] = 0.98737377F;
-		relShowdownProb[4903] = 0.8836905F;
-		relShowdownProb[4904] = 0.9471186F;
-		relShowdownProb[4905] = 0.88267756F;
-		relShowdownProb[4906] = 1.0194337F;
-		relShowdownProb[4908] = 0.5102435F;
-		relShowdownProb[4909] = 0.92421454F;
-		relShowdownProb[4910] = 1.0541967F;
-		relShowdownProb[4911] = 0.9128406F;
-		relShowdownProb[4912] = 0.94458294F;
-		relShowdownProb[4913] = 0.88618654F;
-		relShowdownProb[4914] = 0.9147705F;
-		relShowdownProb[4915] = 0.91734093F;
-		relShowdownProb[4916] = 0.94278485F;
-		relShowdownProb[4917] = 0.96652055F;
-		relShowdownProb[4919] = 1.020487F;
-		relShowdownProb[4920] = 0.6674883F;
-		relShowdownProb[4921] = 0.6619375F;
-		relShowdownProb[4922] = 0.7447764F;
-		relShowdownProb[4923] = 0.7728487F;
-		relShowdownProb[4924] = 0.76656294F;
-		relShowdownProb[4925] = 0.7920619F;
-		relShowdownProb[4926] = 0.92732143F;
-		relShowdownProb[4927] = 0.9469845F;
-		relShowdownProb[4928] = 0.99734896F;
-		relShowdownProb[4930] = 0.3401623F;
-		relShowdownProb[4931] = 0.6674883F;
-		relShowdownProb[4932] = 0.71096987F;
-		relShowdownProb[4933] = 0.68748593F;
-		relShowdownProb[4934] = 0.72255164F;
-		relShowdownProb[4935] = 1.0195498F;
-		relShowdownProb[4936] = 0.8625792F;
-		relShowdownProb[4937] = 0.94560844F;
-		relShowdownProb[4938] = 1.0966426F;
-		relShowdownProb[4939] = 1.0221997F;
-		relShowdownProb[4941] = 1.020487F;
-		relShowdownProb[4942] = 0.46210727F;
-		relShowdownProb[4943] = 0.49032405F;
-		relShowdownProb[4944] = 0.5872276F;
-		relShowdownProb[4945] = 0.78823817F;
-		relShowdownProb[4946] = 0.7018434F;
-		relShowdownProb[4947] = 0.83774376F;
-		relShowdownProb[4948] = 0.89583117F;
-		relShowdownProb[4949] = 0.9484328F;
-		relShowdownProb[4950] = 1.054809F;
-		relShowdownProb[4952] = 0.6803246F;
-		relShowdownProb[4953] = 0.46210727F;
-		relShowdownProb[4954] = 0.73548603F;
-		relShowdownProb[4955] = 0.7018085F;
-		relShowdownProb[4956] = 0.8351571F;
-		relShowdownProb[4957] = 0.6952222F;
-		relShowdownProb[4958] = 0.8464075F;
-		relShowdownProb[4959] = 0.9265771F;
-		relShowdownProb[4960] = 1.081882F;
-		relShowdownProb[4961] = 1.123775F;
-		relShowdownProb[4963] = 0.6803246F;
-		relShowdownProb[4964] = 0.56479776F;
-		relShowdownProb[4965] = 0.76000226F;
-		relShowdownProb[4966] = 0.77342165F;
-		relShowdownProb[4967] = 0.58179486F;
-		relShowdownProb[4968] = 0.887236F;
-		relShowdownProb[4969] = 0.7283041F;
-		relShowdownProb[4970] = 0.92736983F;
-		relShowdownProb[4971] = 1.1470207F;
-		relShowdownProb[4972] = 1.142071F;
-		relShowdownProb[4975] = 0.71883357F;
-		relShowdownProb[4976] = 0.73548603F;
-		relShowdownProb[4977] = 0.644518F;
-		relShowdownProb[4978] = 0.74131924F;
-		relShowdownProb[4979] = 0.74819154F;
-		relShowdownProb[4980] = 0.743067F;
-		relShowdownProb[4981] = 0.91596776F;
-		relShowdownProb[4982] = 1.0643301F;
-		relShowdownProb[4983] = 1.1763382F;
-		relShowdownProb[4985] = 0.5102435F;
-		relShowdownProb[4986] = 0.61614305F;
-		relShowdownProb[4987] = 0.612905F;
-		relShowdownProb[4988] = 0.51561445F;
-		relShowdownProb[4989] = 0.8257733F;
-		relShowdownProb[4990] = 0.6886011F;
-		relShowdownProb[4991] = 0.8906962F;
-		relShowdownProb[4992] = 0.7867441F;
-		relShowdownProb[4993] = 0.95850176F;
-		relShowdownProb[4994] = 1.0819923F;
-		relShowdownProb[5004] = 0.38722032F;
-		relShowdownProb[5007] = 0.5808305F;
-		relShowdownProb[5008] = 0.29041526F;
-		relShowdownProb[5009] = 0.33881778F;
-		relShowdownProb[5012] = 0.5808305F;
-		relShowdownProb[5013] = 0.5808305F;
-		relShowdownProb[5014] = 0.43562287F;
-		relShowdownProb[5015] = 0.29041526F;
-		relShowdownProb[5018] = 0.87124574F;
-		relShowdownProb[5019] = 0.29041526F;
-		relShowdownProb[5020] = 0.53242797F;
-		relShowdownProb[5021] = 0.49370593F;
-		relShowdownProb[5022] = 0.50338644F;
-		relShowdownProb[5026] = 0.29041526F;
-		relShowdownProb[5027] = 0.43562287F;
-		relShowdownProb[5028] = 0.34849828F;
-		relShowdownProb[5029] = 0.42594236F;
-		relShowdownProb[5030] = 0.5808305F;
-		relShowdownProb[5034] = 0.48402542F;
-		relShowdownProb[5035] = 0.29041526F;
-		relShowdownProb[5036] = 0.3194568F;
-		relShowdownProb[5037] = 0.50338644F;
-		relShowdownProb[5038] = 0.4978547F;
-		relShowdownProb[5039] = 0.67417824F;
-		relShowdownProb[5042] = 0.5808305F;
-		relShowdownProb[5043] = 0.77444065F;
-		relShowdownProb[5044] = 0.33881778F;
-		relShowdownProb[5045] = 0.52274746F;
-		relShowdownProb[5046] = 0.50338644F;
-		relShowdownProb[5047] = 0.5531719F;
-		relShowdownProb[5048] = 0.63269037F;
-		relShowdownProb[5049] = 0.6857027F;
-		relShowdownProb[5053] = 0.5808305F;
-		relShowdownProb[5054] = 0.5808305F;
-		relShowdownProb[5055] = 0.6389136F;
-		relShowdownProb[5056] = 0.87124574F;
-		relShowdownProb[5057] = 0.74678206F;
-		relShowdownProb[5058] = 0.7364101F;
-		relShowdownProb[5059] = 0.7663736F;
-		relShowdownProb[5060] = 0.77444065F;
-		relShowdownProb[5069] = 0.29041526F;
-		relShowdownProb[5070] = 0.43562287F;
-		relShowdownProb[5073] = 0.29041526F;
-		relShowdownProb[5074] = 0.29041526F;
-		relShowdownProb[5075] = 0.38722032F;
-		relShowdownProb[5078] = 0.87124574F;
-		relShowdownProb[5079] = 0.5808305F;
-		relShowdownProb[5080] = 0.33881778F;
-		relShowdownProb[5081] = 0.3194568F;
-		relShowdownProb[5085] = 0.48402542F;
-		relShowdownProb[5086] = 0.33881778F;
-		relShowdownProb[5087] = 0.49370593F;
-		relShowdownProb[5088] = 0.42594236F;
-		relShowdownProb[5092] = 0.5808305F;
-		relShowdownProb[5093] = 0.48402542F;
-		relShowdownProb[5094] = 0.551789F;
-		relShowdownProb[5095] = 0.7357186F;
-		relShowdownProb[5096] = 0.4010496F;
-		relShowdownProb[5100] = 0.48402542F;
-		relShowdownProb[5101] = 0.38722032F;
-		relShowdownProb[5102] = 0.43562287F;
-		relShowdownProb[5103] = 0.6389136F;
-		relShowdownProb[5104] = 0.7191235F;
-		relShowdownProb[5105] = 0.6845502F;
-		relShowdownProb[5108] = 0.29041526F;
-		relShowdownProb[5109] = 0.77444065F;
-		relShowdownProb[5110] = 0.38722032F;
-		relShowdownProb[5111] = 0.3775398F;
-		relShowdownProb[5112] = 0.42594236F;
-		relShowdownProb[5113] = 0.4010496F;
-		relShowdownProb[5114] = 0.7260381F;
-		relShowdownProb[5115] = 0.61309886F;
-		relShowdownProb[5119] = 0.96805084F;
-		relShowdownProb[5120] = 0.9196483F;
-		relShowdownProb[5121] = 0.66795504F;
-		relShowdownProb[5122] = 0.7550796F;
-		relShowdownProb[5123] = 0.6361477F;
-		relShowdownProb[5124] = 0.6534343F;
-		relShowdownProb[5125] = 0.7502394F;
-		relShowdownProb[5126] = 0.7421723F;
-		relShowdownProb[5135] = 0.5808305F;
-		relShowdownProb[5136] = 0.43562287F;
-		relShowdownProb[5140] = 0.29041526F;
-		relShowdownProb[5141] = 0.52274746F;
-		relShowdownProb[5144] = 0.5808305F;
-		relShowdownProb[5145] = 0.67763555F;
-		relShowdownProb[5146] = 0.24201271F;
-		relShowdownProb[5147] = 0.29041526F;
-		relShowdownProb[5150] = 0.5808305F;
-		relShowdownProb[5151] = 0.29041526F;
-		relShowdownProb[5152] = 0.24201271F;
-		relShowdownProb[5153] = 0.4646644F;
-		relShowdownProb[5154] = 0.48402542F;
-		relShowdownProb[5157] = 0.5808305F;
-		relShowdownProb[5158] = 0.19361016F;
-		relShowdownProb[5159] = 0.53242797F;
-		relShowdownProb[5160] = 0.29041526F;
-		relShowdownProb[5161] = 0.40658134F;
-		relShowdownProb[5162] = 0.34573245F;
-		relShowdownProb[5165] = 0.87124574F;
-		relShowdownProb[5166] = 0.48402542F;
-		relShowdownProb[5167] = 0.53242797F;
-		relShowdownProb[5168] = 0.34849828F;
-		relShowdownProb[5169] = 0.40658134F;
-		relShowdownProb[5170] = 0.5531719F;
-		relShowdownProb[5171] = 0.63269037F;
-		relShowdownProb[5174] = 0.5808305F;
-		relShowdownProb[5175] = 0.19361016F;
-		relShowdownProb[5176] = 0.53242797F;
-		relShowdownProb[5177] = 0.49370593F;
-		relShowdownProb[5178] = 0.42594236F;
-		relShowdownProb[5179] = 0.41487893F;
-		relShowdownProb[5180] = 0.6534343F;
-		relShowdownProb[5181] = 0.7341052F;
-		relShowdownProb[5185] = 0.09680508F;
-		relShowdownProb[5186] = 1.1132585F;
-		relShowdownProb[5187] = 0.3775398F;
-		relShowdownProb[5188] = 0.5614695F;
-		relShowdownProb[5189] = 0.64997697F;
-		relShowdownProb[5190] = 0.64306235F;
-		relShowdownProb[5191] = 0.6534343F;
-		relShowdownProb[5192] = 0.6260062F;
-		relShowdownProb[5201] = 1.161661F;
-		relShowdownProb[5202] = 0.29041526F;
-		relShowdownProb[5205] = 0.87124574F;
-		relShowdownProb[5206] = 0.29041526F;
-		relShowdownProb[5207] = 0.6389136F;
-		relShowdownProb[5211] = 0.48402542F;
-		relShowdownProb[5212] = 0.14520763F;
-		relShowdownProb[5213] = 0.5485621F;
-		relShowdownProb[5216] = 0.29041526F;
-		relShowdownProb[5217] = 0.19361016F;
-		relShowdownProb[5218] = 0.29041526F;
-		relShowdownProb[5219] = 0.3775398F;
-		relShowdownProb[5220] = 0.61955255F;
-		relShowdownProb[5223] = 0.5808305F;
-		relShowdownProb[5224] = 0.38722032F;
-		relShowdownProb[5225] = 0.38722032F;
-		relShowdownProb[5226] = 0.26137373F;
-		relShowdownProb[5227] = 0.5808305F;
-		relShowdownProb[5228] = 0.5670012F;
-		relShowdownProb[5231] = 0.29041526F;
-		relShowdownProb[5232] = 0.87124574F;
-		relShowdownProb[5233] = 0.43562287F;
-		relShowdownProb[5234] = 0.6389136F;
-		relShowdownProb[5235] = 0.30977628F;
-		relShowdownProb[5236] = 0.5808305F;
-		relShowdownProb[5237] = 0.6534343F;
-		relShowdownProb[5240] = 0.5808305F;
-		relShowdownProb[5241] = 0.48402542F;
-		relShowdownProb[5242] = 0.43562287F;
-		relShowdownProb[5243] = 0.49370593F;
-		relShowdownProb[5244] = 0.6389136F;
-		relShowdownProb[5245] = 0.41487893F;
-		relShowdownProb[5246] = 0.7364101F;
-		relShowdownProb[5247] = 0.7260381F;
-		relShowdownProb[5251] = 0.77444065F;
-		relShowdownProb[5252] = 0.77444065F;
-		relShowdownProb[5253] = 0.6389136F;
-		relShowdownProb[5254] = 0.6389136F;
-		relShowdownProb[5255] = 0.64997697F;
-		relShowdownProb[5256] = 0.5808305F;
-		relShowdownProb[5257] = 0.717971F;
-		relShowdownProb[5258] = 0.7421723F;
-		relShowdownProb[5267] = 0.5808305F;
-		relShowdownProb[5268] = 0.29041526F;
-		relShowdownProb[5271] = 1.4520762F;
-		relShowdownProb[5272] = 0.29041526F;
-		relShowdownProb[5273] = 0.6389136F;
-		relShowdownProb[5277] = 0.48402542F;
-		relShowdownProb[5278] = 0.48402542F;
-		relShowdownProb[5279] = 0.45175704F;
-		relShowdownProb[5282] = 0.29041526F;
-		relShowdownProb[5283] = 0.48402542F;
-		relShowdownProb[5284] = 0.48402542F;
-		relShowdownProb[5285] = 0.4646644F;
-		relShowdownProb[5286] = 0.66380626F;
-		relShowdownProb[5290] = 0.77444065F;
-		relShowdownProb[5291] = 0.38722032F;
-		relShowdownProb[5292] = 0.49370593F;
-		relShowdownProb[5293] = 0.38722032F;
-		relShowdownProb[5294] = 0.5946598F;
-		relShowdownProb[5297] = 0.29041526F;
-		relShowdownProb[5298] = 0.5808305F;
-		relShowdownProb[5299] = 0.43562287F;
-		relShowdownProb[5300] = 0.4646644F;
-		relShowdownProb[5301] = 0.42594236F;
-		relShowdownProb[5302] = 0.44253752F;
-		relShowdownProb[5303] = 0.4667388F;
-		relShowdownProb[5306] = 0.87124574F;
-		relShowdownProb[5307] = 0.29041526F;
-		relShowdownProb[5308] = 0.48402542F;
-		relShowdownProb[5309] = 0.3775398F;
-		relShowdownProb[5310] = 0.50338644F;
-		relShowdownProb[5311] = 0.5255133F;
-		relShowdownProb[5312] = 0.6845502F;
-		relShowdownProb[5313] = 0.67763555F;
-		relShowdownProb[5316] = 0.87124574F;
-		relShowdownProb[5317] = 0.77444065F;
-		relShowdownProb[5318] = 0.87124574F;
-		relShowdownProb[5319] = 0.66795504F;
-		relShowdownProb[5320] = 0.5808305F;
-		relShowdownProb[5321] = 0.6914649F;
-		relShowdownProb[5322] = 0.56008655F;
-		relShowdownProb[5323] = 0.717971F;
-		relShowdownProb[5324] = 0.767987F;
-		relShowdownProb[5334] = 0.7260381F;
-		relShowdownProb[5337] = 0.29041526F;
-		relShowdownProb[5338] = 0.38722032F;
-		relShowdownProb[5339] = 0.52274746F;
-		relShowdownProb[5343] = 0.09680508F;
-		relShowdownProb[5344] = 0.29041526F;
-		relShowdownProb[5345] = 0.4194887F;
-		relShowdownProb[5349] = 0.29041526F;
-		relShowdownProb[5350] = 0.43562287F;
-		relShowdownProb[5351] = 0.3194568F;
-		relShowdownProb[5352] = 0.6015744F;
-		relShowdownProb[5355] = 0.5808305F;
-		relShowdownProb[5356] = 0.5808305F;
-		relShowdownProb[5357] = 0.62923306F;
-		relShowdownProb[5358] = 0.34849828F;
-		relShowdownProb[5359] = 0.44530338F;
-		relShowdownProb[5360] = 0.60987204F;
-		relShowdownProb[5363] = 0.29041526F;
-		relShowdownProb[5364] = 1.0648559F;
-		relShowdownProb[5365] = 0.24201271F;
-		relShowdownProb[5366] = 0.6389136F;
-		relShowdownProb[5367] = 0.42594236F;
-		relShowdownProb[5368] = 0.4563668F;
-		relShowdownProb[5369] = 0.5808305F;
-		relShowdownProb[5372] = 0.29041526F;
-		relShowdownProb[5373] = 0.09680508F;
-		relShowdownProb[5374] = 0.43562287F;
-		relShowdownProb[5375] = 0.43562287F;
-		relShowdownProb[5376] = 0.4646644F;
-		relShowdownProb[5377] = 0.5531719F;
-		relShowdownProb[5378] = 0.7156661F;
-		relShowdownProb[5379] = 0.7825077F;
-		relShowdownProb[5382] = 0.29041526F;
-		relShowdownProb[5383] = 0.87124574F;
-		relShowdownProb[5384] = 0.48402542F;
-		relShowdownProb[5385] = 0.6389136F;
-		relShowdownProb[5386] = 0.52274746F;
-		relShowdownProb[5387] = 0.74678206F;
-		relShowdownProb[5388] = 0.6845502F;
-		relShowdownProb[5389] = 0.87124574F;
-		relShowdownProb[5390] = 0.78089434F;
-		relShowdownProb[5396] = 0.29041526F;
-		relShowdownProb[5399] = 0.29041526F;
-		relShowdownProb[5400] = 0.5808305F;
-		relShowdownProb[5404] = 0.38722032F;
-		relShowdownProb[5405] = 0.6389136F;
-		relShowdownProb[5409] = 0.38722032F;
-		relShowdownProb[5410] = 0.48402542F;
-		relShowdownProb[5411] = 0.4194887F;
-		relShowdownProb[5414] = 0.5808305F;
-		relShowdownProb[5415] = 0.67763555F;
-		relShowdownProb[5416] = 0.29041526F;
-		relShowdownProb[5417] = 0.3775398F;
-		relShowdownProb[5418] = 0.7052942F;
-		relShowdownProb[5421] = 0.29041526F;
-		relShowdownProb[5422] = 0.38722032F;
-		relShowdownProb[5423] = 0.48402542F;
-		relShowdownProb[5424] = 0.3775398F;
-		relShowdownProb[5425] = 0.52274746F;
-		relShowdownProb[5426] = 0.43562287F;
-		relShowdownProb[5429] = 0.29041526F;
-		relShowdownProb[5430] = 0.19361016F;
-		relShowdownProb[5431] = 0.33881778F;
-		relShowdownProb[5432] = 0.40658134F;
-		relShowdownProb[5433] = 0.50338644F;
-		relShowdownProb[5434] = 0.64997697F;
-		relShowdownProb[5435] = 0.65612334F;
-		relShowdownProb[5438] = 0.5808305F;
-		relShowdownProb[5439] = 1.161661F;
-		relShowdownProb[5440] = 0.38722032F;
-		relShowdownProb[5441] = 0.69699657F;
-		relShowdownProb[5442] = 0.44530338F;
-		relShowdownProb[5443] = 0.82975787F;
-		relShowdownProb[5444] = 0.59120244F;
-		relShowdownProb[5445] = 0.7663736F;
-		relShowdownProb[5448] = 0.5808305F;
-		relShowdownProb[5449] = 0.87124574F;
-		relShowdownProb[5450] = 0.62923306F;
-		relShowdownProb[5451] = 0.52274746F;
-		relShowdownProb[5452] = 0.50338644F;
-		relShowdownProb[5453] = 0.511684F;
-		relShowdownProb[5454] = 0.6534343F;
-		relShowdownProb[5455] = 0.84704447F;
-		relShowdownProb[5456] = 0.7615333F;
-		relShowdownProb[5462] = 0.5808305F;
-		relShowdownProb[5466] = 0.29041526F;
-		relShowdownProb[5469] = 0.29041526F;
-		relShowdownProb[5470] = 0.38722032F;
-		relShowdownProb[5471] = 0.38722032F;
-		relShowdownProb[5475] = 0.48402542F;
-		relShowdownProb[5476] = 0.48402542F;
-		relShowdownProb[5477] = 0.25814688F;
-		relShowdownProb[5480] = 0.5808305F;
-		relShowdownProb[5481] = 0.48402542F;
-		relShowdownProb[5482] = 0.5808305F;
-		relShowdownProb[5483] = 0.8131627F;
-		relShowdownProb[5484] = 0.5185987F;
-		relShowdownProb[5488] = 0.5808305F;
-		relShowdownProb[5489] = 0.38722032F;
-		relShowdownProb[5490] = 0.34849828F;
-		relShowdownProb[5491] = 0.4646644F;
-		relShowdownProb[5492] = 0.49370593F;
-		relShowdownProb[5495] = 0.5808305F;
-		relShowdownProb[5496] = 0.48402542F;
-		relShowdownProb[5497] = 0.67763555F;
-		relShowdownProb[5498] = 0.60987204F;
-		relShowdownProb[5499] = 0.52274746F;
-		relShowdownProb[5500] = 0.5670012F;
-		relShowdownProb[5501] = 0.5055376F;
-		relShowdownProb[5505] = 0.87124574F;
-		relShowdownProb[5506] = 0.24201271F;
-		relShowdownProb[5507] = 0.7260381F;
-		relShowdownProb[5508] = 0.6389136F;
-		relShowdownProb[5509] = 0.511684F;
-		relShowdownProb[5510] = 0.56008655F;
-		relShowdownProb[5511] = 0.7716748F;
-		relShowdownProb[5514] = 0.29041526F;
-		relShowdownProb[5515] = 0.67763555F;
-		relShowdownProb[5516] = 0.96805084F;
-		relShowdownProb[5517] = 0.49370593F;
-		relShowdownProb[5518] = 0.67763555F;
-		relShowdownProb[5519] = 0.6223184F;
-		relShowdownProb[5520] = 0.7156661F;
-		relShowdownProb[5521] = 0.7260381F;
-		relShowdownProb[5522] = 0.70990396F;
-		relShowdownProb[5528] = 0.29041526F;
-		relShowdownProb[5531] = 0.29041526F;
-		relShowdownProb[5532] = 0.38722032F;
-		relShowdownProb[5535] = 0.29041526F;
-		relShowdownProb[5537] = 0.62923306F;
-		relShowdownProb[5540] = 0.29041526F;
-		relShowdownProb[5541] = 0.19361016F;
-		relShowdownProb[5542] = 0.19361016F;
-		relShowdownProb[5543] = 0.60987204F;
-		relShowdownProb[5546] = 0.29041526F;
-		relShowdownProb[5547] = 0.29041526F;
-		relShowdownProb[5548] = 0.19361016F;
-		relShowdownProb[5549] = 0.4646644F;
-		relShowdownProb[5550] = 0.5185987F;
-		relShowdownProb[5553] = 0.29041526F;
-		relShowdownProb[5554] = 0.19361016F;
-		relShowdownProb[5555] = 0.24201271F;
-		relShowdownProb[5556] = 0.3775398F;
-		relShowdownProb[5557] = 0.5614695F;
-		relShowdownProb[5558] = 0.52274746F;
-		relShowdownProb[5561] = 0.5808305F;
-		relShowdownProb[5562] = 0.29041526F;
-		relShowdownProb[5563] = 0.7260381F;
-		relShowdownProb[5564] = 0.29041526F;
-		relShowdownProb[5565] = 0.44530338F;
-		relShowdownProb[5566] = 0.5808305F;
-		relShowdownProb[5567] = 0.53780603F;
-		relShowdownProb[5570] = 0.29041526F;
-		relShowdownProb[5571] = 0.48402542F;
-		relShowdownProb[5572] = 0.33881778F;
-		relShowdownProb[5573] = 0.5808305F;
-		relShowdownProb[5574] = 0.5421085F;
-		relShowdownProb[5575] = 0.5946598F;
-		relShowdownProb[5576] = 0.6845502F;
-		relShowdownProb[5577] = 0.88784087F;
-		relShowdownProb[5580] = 0.29041526F;
-		relShowdownProb[5581] = 0.87124574F;
-		relShowdownProb[5582] = 0.48402542F;
-		relShowdownProb[5583] = 0.9002873F;
-		relShowdownProb[5584] = 0.8325237F;
-		relShowdownProb[5585] = 0.5393426F;
-		relShowdownProb[5586] = 0.6534343F;
-		relShowdownProb[5587] = 0.7825077F;
-		relShowdownProb[5588] = 0.8646454F;
-		relShowdownProb[5598] = 0.29041526F;
-		relShowdownProb[5602] = 0.38722032F;
-		relShowdownProb[5603] = 0.7260381F;
-		relShowdownProb[5607] = 0.38722032F;
-		relShowdownProb[5608] = 0.33881778F;
-		relShowdownProb[5609] = 0.43562287F;
-		relShowdownProb[5612] = 0.5808305F;
-		relShowdownProb[5613] = 0.77444065F;
-		relShowdownProb[5614] = 0.24201271F;
-		relShowdownProb[5615] = 0.551789F;
-		relShowdownProb[5616] = 0.40658134F;
-		relShowdownProb[5619] = 0.29041526F;
-		relShowdownProb[5620] = 0.48402542F;
-		relShowdownProb[5621] = 0.48402542F;
-		relShowdownProb[5622] = 0.52274746F;
-		relShowdownProb[5623] = 0.52274746F;
-		relShowdownProb[5624] = 0.56630975F;
-		relShowdownProb[5628] = 0.5808305F;
-		relShowdownProb[5629] = 0.48402542F;
-		relShowdownProb[5630] = 0.5808305F;
-		relShowdownProb[5631] = 0.5421085F;
-		relShowdownProb[5632] = 0.66380626F;
-		relShowdownProb[5633] = 0.73141617F;
-		relShowdownProb[5636] = 0.29041526F;
-		relShowdownProb[5637] = 0.38722032F;
-		relShowdownProb[5638] = 0.53242797F;
-		relShowdownProb[5639] = 0.6389136F;
-		relShowdownProb[5640] = 0.32913727F;
-		relShowdownProb[5641] = 0.7191235F;
-		relShowdownProb[5642] = 0.76752603F;
-		relShowdownProb[5643] = 0.7052942F;
-		relShowdownProb[5646] = 0.5808305F;
-		relShowdownProb[5647] = 0.77444065F;
-		relShowdownProb[5648] = 0.8228432F;
-		relShowdownProb[5649] = 0.7550796F;
-		relShowdownProb[5650] = 0.7550796F;
-		relShowdownProb[5651] = 0.67763555F;
-		relShowdownProb[5652] = 0.6119464F;
-		relShowdownProb[5653] = 0.8147761F;
-		relShowdownProb[5654] = 0.90424746F;
-		relShowdownProb[5660] = 0.29041526F;
-		relShowdownProb[5664] = 0.77444065F;
-		relShowdownProb[5667] = 0.29041526F;
-		relShowdownProb[5668] = 0.29041526F;
-		relShowdownProb[5669] = 0.29041526F;
-		relShowdownProb[5673] = 0.67763555F;
-		relShowdownProb[5674] = 0.38722032F;
-		relShowdownProb[5675] = 0.5808305F;
-		relShowdownProb[5678] = 0.29041526F;
-		relShowdownProb[5680] = 0.24201271F;
-		relShowdownProb[5681] = 0.3194568F;
-		relShowdownProb[5682] = 0.4646644F;
-		relShowdownProb[5685] = 0.29041526F;
-		relShowdownProb[5686] = 0.38722032F;
-		relShowdownProb[5687] = 0.5808305F;
-		relShowdownProb[5688] = 0.2323322F;
-		relShowdownProb[5689] = 0.50338644F;
-		relShowdownProb[5690] = 0.5255133F;
-		relShowdownProb[5693] = 0.5808305F;
-		relShowdownProb[5694] = 0.48402542F;
-		relShowdownProb[5695] = 0.33881778F;
-		relShowdownProb[5696] = 0.52274746F;
-		relShowdownProb[5697] = 0.40658134F;
-		relShowdownProb[5698] = 0.6084891F;
-		relShowdownProb[5699] = 0.6668795F;
-		relShowdownProb[5702] = 0.29041526F;
-		relShowdownProb[5703] = 0.5808305F;
-		relShowdownProb[5704] = 0.62923306F;
-		relShowdownProb[5705] = 0.551789F;
-		relShowdownProb[5706] = 0.44530338F;
-		relShowdownProb[5707] = 0.41487893F;
-		relShowdownProb[5708] = 0.75715405F;
-		relShowdownProb[5709] = 0.82975787F;
-		relShowdownProb[5713] = 0.5808305F;
-		relShowdownProb[5714] = 0.8228432F;
-		relShowdownProb[5715] = 0.9293288F;
-		relShowdownProb[5716] = 0.67763555F;
-		relShowdownProb[5717] = 0.66380626F;
-		relShowdownProb[5718] = 0.6119464F;
-		relShowdownProb[5719] = 0.7986419F;
-		relShowdownProb[5720] = 0.7722405F;
-		relShowdownProb[5726] = 0.5808305F;
-		relShowdownProb[5729] = 0.5808305F;
-		relShowdownProb[5730] = 0.29041526F;
-		relShowdownProb[5733] = 0.29041526F;
-		relShowdownProb[5734] = 0.19361016F;
-		relShowdownProb[5735] = 0.43562287F;
-		relShowdownProb[5739] = 0.48402542F;
-		relShowdownProb[5740] = 0.43562287F;
-		relShowdownProb[5741] = 0.20329067F;
-		relShowdownProb[5745] = 0.48402542F;
-		relShowdownProb[5746] = 0.33881778F;
-		relShowdownProb[5747] = 0.43562287F;
-		relShowdownProb[5748] = 0.40658134F;
-		relShowdownProb[5751] = 0.29041526F;
-		relShowdownProb[5752] = 0.38722032F;
-		relShowdownProb[5753] = 0.53242797F;
-		relShowdownProb[5754] = 0.4646644F;
-		relShowdownProb[5755] = 0.40658134F;
-		relShowdownProb[5756] = 0.511684F;
-		relShowdownProb[5759] = 0.5808305F;
-		relShowdownProb[5760] = 0.29041526F;
-		relShowdownProb[5761] = 0.53242797F;
-		relShowdownProb[5762] = 0.40658134F;
-		relShowdownProb[5763] = 0.5421085F;
-		relShowdownProb[5764] = 0.42870823F;
-		relShowdownProb[5765] = 0.7364101F;
-		relShowdownProb[5768] = 0.87124574F;
-		relShowdownProb[5769] = 0.19361016F;
-		relShowdownProb[5770] = 0.38722032F;
-		relShowdownProb[5771] = 0.29041526F;
-		relShowdownProb[5772] = 0.5614695F;
-		relShowdownProb[5773] = 0.4563668F;
-		relShowdownProb[5774] = 0.7156661F;
-		relShowdownProb[5775] = 0.8795433F;
-		relShowdownProb[5778] = 0.29041526F;
-		relShowdownProb[5779] = 0.67763555F;
-		relShowdownProb[5780] = 0.67763555F;
-		relShowdownProb[5781] = 0.66795504F;
-		relShowdownProb[5782] = 0.7550796F;
-		relShowdownProb[5783] = 0.5255133F;
-		relShowdownProb[5784] = 0.9127336F;
-		relShowdownProb[5785] = 1.0406547F;
-		relShowdownProb[5786] = 0.9636506F;
-		relShowdownProb[5795] = 1.161661F;
-		relShowdownProb[5796] = 0.29041526F;
-		relShowdownProb[5799] = 0.5808305F;
-		relShowdownProb[5800] = 0.5808305F;
-		relShowdownProb[5801] = 0.33881778F;
-		relShowdownProb[5804] = 1.161661F;
-		relShowdownProb[5805] = 0.38722032F;
-		relShowdownProb[5806] = 0.43562287F;
-		relShowdownProb[5807] = 0.43562287F;
-		relShowdownProb[5810] = 0.5808305F;
-		relShowdownProb[5811] = 0.38722032F;
-		relShowdownProb[5812] = 0.62923306F;
-		relShowdownProb[5813] = 0.4646644F;
-		relShowdownProb[5814] = 0.52274746F;
-		relShowdownProb[5818] = 0.48402542F;
-		relShowdownProb[5819] = 0.53242797F;
-		relShowdownProb[5820] = 0.60987204F;
-		relShowdownProb[5821] = 0.5421085F;
-		relShowdownProb[5822] = 0.511684F;
-		relShowdownProb[5825] = 0.87124574F;
-		relShowdownProb[5826] = 0.77444065F;
-		relShowdownProb[5827] = 0.43562287F;
-		relShowdownProb[5828] = 0.3194568F;
-		relShowdownProb[5829] = 0.79380167F;
-		relShowdownProb[5830] = 0.67763555F;
-		relShowdownProb[5831] = 0.76752603F;
-		relShowdownProb[5835] = 0.09680508F;
-		relShowdownProb[5836] = 0.29041526F;
-		relShowdownProb[5837] = 0.40658134F;
-		relShowdownProb[5838] = 0.5614695F;
-		relShowdownProb[5839] = 0.5531719F;
-		relShowdownProb[5840] = 0.67417824F;
-		relShowdownProb[5841] = 0.61309886F;
-		relShowdownProb[5844] = 0.5808305F;
-		relShowdownProb[5845] = 0.48402542F;
-		relShowdownProb[5846] = 0.48402542F;
-		relShowdownProb[5847] = 0.69699657F;
-		relShowdownProb[5848] = 0.7357186F;
-		relShowdownProb[5849] = 0.6223184F;
-		relShowdownProb[5850] = 0.75715405F;
-		relShowdownProb[5851] = 0.8147761F;
-		relShowdownProb[5852] = 0.89764714F;
-		relShowdownProb[5853] = 0.39734674F;
-		relShowdownProb[5854] = 0.30141866F;
-		relShowdownProb[5855] = 0.37056476F;
-		relShowdownProb[5856] = 0.3588781F;
-		relShowdownProb[5857] = 0.37592116F;
-		relShowdownProb[5858] = 0.41146812F;
-		relShowdownProb[5859] = 0.47866645F;
-		relShowdownProb[5860] = 0.500092F;
-		relShowdownProb[5861] = 0.4572409F;
-		relShowdownProb[5862] = 0.5053019F;
-		relShowdownProb[5863] = 0.8924096F;
-		relShowdownProb[5864] = 0.49578312F;
-		relShowdownProb[5865] = 0.8924096F;
-		relShowdownProb[5866] = 0.3966265F;
-		relShowdownProb[5867] = 0.793253F;
-		relShowdownProb[5868] = 0.29746985F;
-		relShowdownProb[5869] = 0.6940964F;
-		relShowdownProb[5870] = 0.5949397F;
-		relShowdownProb[5871] = 0.6940964F;
-		relShowdownProb[5872] = 0.6940964F;
-		relShowdownProb[5873] = 0.5949397F;
-		relShowdownProb[5874] = 0.49578312F;
-		relShowdownProb[5875] = 0.56519276F;
-		relShowdownProb[5876] = 0.49578312F;
-		relShowdownProb[5877] = 0.6940964F;
-		relShowdownProb[5878] = 0.8477891F;
-		relShowdownProb[5879] = 0.5949397F;
-		relShowdownProb[5880] = 1.0361867F;
-		relShowdownProb[5881] = 0.3966265F;
-		relShowdownProb[5882] = 1.0907228F;
-		relShowdownProb[5883] = 0.3966265F;
-		relShowdownProb[5884] = 0.3966265F;
-		relShowdownProb[5885] = 1.4873494F;
-		relShowdownProb[5886] = 0.793253F;
-		relShowdownProb[5887] = 0.19831325F;
-		relShowdownProb[5888] = 0.5949397F;
-		relShowdownProb[5889] = 1.2245843F;
-		relShowdownProb[5890] = 0.3966265F;
-		relShowdownProb[5891] = 1.0907228F;
-		relShowdownProb[5892] = 1.4129819F;
-		relShowdownProb[5893] = 0.49578312F;
-		relShowdownProb[5894] = 0.75359035F;
-		relShowdownProb[5895] = 1.0361867F;
-		relShowdownProb[5896] = 0.793253F;
-		relShowdownProb[5897] = 0.5949397F;
-		relShowdownProb[5898] = 0.6940964F;
-		relShowdownProb[5899] = 0.56519276F;
-		relShowdownProb[5900] = 0.8924096F;
-		relShowdownProb[5901] = 0.793253F;
-		relShowdownProb[5902] = 0.37679517F;
-		relShowdownProb[5903] = 0.49578312F;
-		relShowdownProb[5904] = 0.94198793F;
-		relShowdownProb[5905] = 0.6279919F;
-		relShowdownProb[5906] = 0.793253F;
-		relShowdownProb[5907] = 0.19831325F;
-		relShowdownProb[5908] = 0.94198793F;
-		relShowdownProb[5909] = 0.8924096F;
-		relShowdownProb[5910] = 0.47099397F;
-		relShowdownProb[5911] = 0.985641F;
-		relShowdownProb[5912] = 0.6940964F;
-		relShowdownProb[5913] = 0.28259638F;
-		relShowdownProb[5914] = 0.71682984F;
-		relShowdownProb[5915] = 1.0907228F;
-		relShowdownProb[5916] = 0.6940964F;
-		relShowdownProb[5917] = 0.49578312F;
-		relShowdownProb[5918] = 0.29746985F;
-		relShowdownProb[5919] = 0.6940964F;
-		relShowdownProb[5920] = 0.6940964F;
-		relShowdownProb[5921] = 0.5949397F;
-		relShowdownProb[5922] = 0.3966265F;
-		relShowdownProb[5923] = 0.28259638F;
-		relShowdownProb[5924] = 0.6940964F;
-		relShowdownProb[5925] = 0.6940964F;
-		relShowdownProb[5926] = 0.28259638F;
-		relShowdownProb[5927] = 0.5949397F;
-		relShowdownProb[5928] = 0.94198793F;
-		relShowdownProb[5929] = 0.8477891F;
-		relShowdownProb[5930] = 0.99156624F;
-		relShowdownProb[5931] = 0.49578312F;
-		relShowdownProb[5932] = 0.793253F;
-		relShowdownProb[5933] = 0.6593915F;
-		relShowdownProb[5934] = 0.099156626F;
-		relShowdownProb[5935] = 0.49578312F;
-		relShowdownProb[5936] = 1.2245843F;
-		relShowdownProb[5937] = 0.29746985F;
-		relShowdownProb[5938] = 0.94198793F;
-		relShowdownProb[5939] = 0.44856566F;
-		relShowdownProb[5940] = 0.3966265F;
-		relShowdownProb[5941] = 0.29746985F;
-		relShowdownProb[5942] = 0.28259638F;
-		relShowdownProb[5943] = 1.3881928F;
-		relShowdownProb[5944] = 0.47099397F;
-		relShowdownProb[5945] = 0.80643356F;
-		relShowdownProb[5946] = 1.3881928F;
-		relShowdownProb[5947] = 0.56519276F;
-		relShowdownProb[5948] = 1.2544522F;
-		relShowdownProb[5949] = 0.8960373F;
-		relShowdownProb[5950] = 0.6940964F;
-		relShowdownProb[5951] = 0.8924096F;
-		relShowdownProb[5952] = 0.5949397F;
-		relShowdownProb[5953] = 0.75359035F;
-		relShowdownProb[5954] = 0.99156624F;
-		relShowdownProb[5955] = 1.6856626F;
-		relShowdownProb[5956] = 1.1303855F;
-		relShowdownProb[5957] = 0.8924096F;
-		relShowdownProb[5958] = 1.4129819F;
-		relShowdownProb[5959] = 0.44856566F;
-		relShowdownProb[5960] = 0.3966265F;
-		relShowdownProb[5961] = 0.3966265F;
-		relShowdownProb[5962] = 0.75359035F;
-		relShowdownProb[5963] = 0.49578312F;
-		relShowdownProb[5964] = 0.37679517F;
-		relShowdownProb[5965] = 0.44801864F;
-		relShowdownProb[5966] = 0.5949397F;
-		relShowdownProb[5967] = 0.28259638F;
-		relShowdownProb[5968] = 0.6272261F;
-		relShowdownProb[5969] = 0.8543611F;
-		relShowdownProb[5970] = 0.99156624F;
-		relShowdownProb[5971] = 0.5949397F;
-		relShowdownProb[5972] = 0.47099397F;
-		relShowdownProb[5973] = 0.793253F;
-		relShowdownProb[5974] = 0.47099397F;
-		relShowdownProb[5975] = 0.17920746F;
-		relShowdownProb[5976] = 0.6940964F;
-		relShowdownProb[5977] = 1.1303855F;
-		relShowdownProb[5978] = 0.6272261F;
-		relShowdownProb[5979] = 1.1947163F;
-		relShowdownProb[5980] = 0.3966265F;
-		relShowdownProb[5981] = 0.28259638F;
-		relShowdownProb[5982] = 0.5376224F;
-		relShowdownProb[5983] = 0.6826951F;
-		relShowdownProb[5984] = 0.5949397F;
-		relShowdownProb[5985] = 0.49578312F;
-		relShowdownProb[5986] = 1.1898794F;
-		relShowdownProb[5987] = 0.49578312F;
-		relShowdownProb[5988] = 0.793253F;
-		relShowdownProb[5989] = 0.793253F;
-		relShowdownProb[5990] = 0.49578312F;
-		relShowdownProb[5991] = 0.6940964F;
-		relShowdownProb[5992] = 0.6593915F;
-		relShowdownProb[5993] = 0.6940964F;
-		relShowdownProb[5994] = 0.3966265F;
-		relShowdownProb[5995] = 0.6593915F;
-		relShowdownProb[5996] = 0.793253F;
-		relShowdownProb[5997] = 0.47099397F;
-		relShowdownProb[5998] = 0.6593915F;
-		relShowdownProb[5999] = 0.3966265F;
-		relShowdownProb[6000] = 0.3966265F;
-		relShowdownProb[6001] = 0.29746985F;
-		relShowdownProb[6002] = 0.6593915F;
-		relShowdownProb[6003] = 1.1898794F;
-		relShowdownProb[6004] = 0.3966265F;
-		relShowdownProb[6005] = 0.6593915F;
-		relShowdownProb[6006] = 0.5949397F;
-		relShowdownProb[6007] = 0.6593915F;
-		relShowdownProb[6008] = 0.8074182F;
-		relShowdownProb[6009] = 0.793253F;
-		relShowdownProb[6010] = 1.0907228F;
-		relShowdownProb[6011] = 0.47099397F;
-		relShowdownProb[6012] = 0.8924096F;
-		relShowdownProb[6013] = 0.94198793F;
-		relShowdownProb[6014] = 0.5376224F;
-		relShowdownProb[6015] = 0.49578312F;
-		relShowdownProb[6016] = 0.75359035F;
-		relShowdownProb[6017] = 1.0752448F;
-		relShowdownProb[6018] = 0.35841492F;
-		relShowdownProb[6019] = 0.29746985F;
-		relShowdownProb[6020] = 1.0907228F;
-		relShowdownProb[6021] = 0.29746985F;
-		relShowdownProb[6022] = 0.75359035F;
-		relShowdownProb[6023] = 0.8924096F;
-		relShowdownProb[6024] = 0.49578312F;
-		relShowdownProb[6025] = 0.6593915F;
-		relShowdownProb[6026] = 0.49578312F;
-		relShowdownProb[6027] = 0.94198793F;
-		relShowdownProb[6028] = 0.7177051F;
-		relShowdownProb[6029] = 0.5949397F;
-		relShowdownProb[6030] = 0.5949397F; // manually added because missing?
-		relShowdownProb[6031] = 0.75359035F;
-		relShowdownProb[6032] = 0.793253F;
-		relShowdownProb[6033] = 0.56519276F;
-		relShowdownProb[6034] = 1.0752448F;
-		relShowdownProb[6035] = 0.3966265F;
-		relShowdownProb[6037] = 1.3440559F;
-		relShowdownProb[6038] = 0.5126167F;
-		relShowdownProb[6039] = 0.29746985F;
-		relShowdownProb[6040] = 0.793253F;
-		relShowdownProb[6041] = 0.37679517F;
-		relShowdownProb[6042] = 0.5949397F;
-		relShowdownProb[6043] = 0.6593915F;
-		relShowdownProb[6044] = 0.2688112F;
-		relShowdownProb[6045] = 0.6940964F;
-		relShowdownProb[6046] = 0.75359035F;
-		relShowdownProb[6047] = 0.6272261F;
-		relShowdownProb[6048] = 0.5120213F;
-		relShowdownProb[6049] = 0.49578312F;
-		relShowdownProb[6050] = 0.47099397F;
-		relShowdownProb[6051] = 0.80643356F;
-		relShowdownProb[6052] = 0.34134755F;
-		relShowdownProb[6053] = 1.0240426F;
-		relShowdownProb[6054] = 0.3966265F;
-		relShowdownProb[6055] = 0.3966265F;
-		relShowdownProb[6056] = 1.289036F;
-		relShowdownProb[6057] = 1.1303855F;
-		relShowdownProb[6058] = 0.8924096F;
-		relShowdownProb[6059] = 0.6940964F;
-		relShowdownProb[6060] = 0.47099397F;
-		relShowdownProb[6061] = 0.5949397F;
-		relShowdownProb[6062] = 0.94198793F;
-		relShowdownProb[6063] = 0.44856566F;
-		relShowdownProb[6064] = 0.49578312F;
-		relShowdownProb[6065] = 0.8924096F;
-		relShowdownProb[6066] = 0.75359035F;
-		relShowdownProb[6067] = 1.1898794F;
-		relShowdownProb[6068] = 0.75359035F;
-		relShowdownProb[6069] = 0.985641F;
-		relShowdownProb[6070] = 1.1898794F;
-		relShowdownProb[6071] = 0.6593915F;
-		relShowdownProb[6072] = 0.5376224F;
-		relShowdownProb[6073] = 1.0252334F;
-		relShowdownProb[6074] = 0.3966265F;
-		relShowdownProb[6075] = 0.3966265F;
-		relShowdownProb[6076] = 0.8477891F;
-		relShowdownProb[6077] = 1.0907228F;
-		relShowdownProb[6078] = 0.75359035F;
-		relShowdownProb[6079] = 0.5376224F;
-		relShowdownProb[6080] = 0.29746985F;
-		relShowdownProb[6081] = 0.09419879F;
-		relShowdownProb[6082] = 0.71682984F;
-		relShowdownProb[6083] = 0.34134755F;
-		relShowdownProb[6084] = 0.49578312F;
-		relShowdownProb[6085] = 0.47099397F;
-		relShowdownProb[6086] = 0.71682984F;
-		relShowdownProb[6087] = 1.0240426F;
-		relShowdownProb[6088] = 0.4887476F;
-		relShowdownProb[6089] = 0.49578312F;
-		relShowdownProb[6090] = 0.793253F;
-		relShowdownProb[6091] = 0.56519276F;
-		relShowdownProb[6092] = 0.3966265F;
-		relShowdownProb[6093] = 0.75359035F;
-		relShowdownProb[6094] = 0.6272261F;
-		relShowdownProb[6095] = 0.3966265F;
-		relShowdownProb[6096] = 0.56519276F;
-		relShowdownProb[6097] = 0.6272261F;
-		relShowdownProb[6098] = 0.8533688F;
-		relShowdownProb[6099] = 0.29746985F;
-		relShowdownProb[6100] = 0.94198793F;
-		relShowdownProb[6101] = 0.80643356F;
-		relShowdownProb[6102] = 0.6826951F;
-		relShowdownProb[6103] = 0.81367725F;
-		relShowdownProb[6104] = 1.4873494F;
-		relShowdownProb[6105] = 0.37679517F;
-		relShowdownProb[6106] = 0.6272261F;
-		relShowdownProb[6107] = 0.59735817F;
-		relShowdownProb[6108] = 0.40683863F;
-		relShowdownProb[6109] = 1.1898794F;
-		relShowdownProb[6110] = 0.3966265F;
-		relShowdownProb[6111] = 0.3966265F;
-		relShowdownProb[6112] = 0.19831325F;
-		relShowdownProb[6113] = 0.8924096F;
-		relShowdownProb[6114] = 0.3966265F;
-		relShowdownProb[6115] = 0.29746985F;
-		relShowdownProb[6116] = 0.49578312F;
-		relShowdownProb[6117] = 0.94198793F;
-		relShowdownProb[6118] = 0.099156626F;
-		relShowdownProb[6119] = 0.5949397F;
-		relShowdownProb[6120] = 0.56519276F;
-		relShowdownProb[6121] = 0.6940964F;
-		relShowdownProb[6122] = 0.56519276F;
-		relShowdownProb[6123] = 0.28259638F;
-		relShowdownProb[6124] = 0.8924096F;
-		relShowdownProb[6125] = 0.49578312F;
-		relShowdownProb[6126] = 0.6940964F;
-		relShowdownProb[6127] = 0.75359035F;
-		relShowdownProb[6128] = 0.19831325F;
-		relShowdownProb[6129] = 0.793253F;
-		relShowdownProb[6130] = 0.56519276F;
-		relShowdownProb[6131] = 0.19831325F;
-		relShowdownProb[6132] = 0.8477891F;
-		relShowdownProb[6133] = 0.6279919F;
-		relShowdownProb[6134] = 0.3966265F;
-		relShowdownProb[6135] = 0.19831325F;
-		relShowdownProb[6136] = 0.37679517F;
-		relShowdownProb[6137] = 0.3966265F;
-		relShowdownProb[6138] = 0.56519276F;
-		relShowdownProb[6139] = 0.6272261F;
-		relShowdownProb[6140] = 0.49578312F;
-		relShowdownProb[6141] = 0.56519276F;
-		relShowdownProb[6142] = 0.6272261F;
-		relShowdownProb[6143] = 1.0752448F;
-		relShowdownProb[6144] = 0.3966265F;
-		relShowdownProb[6145] = 1.289036F;
-		relShowdownProb[6146] = 0.19831325F;
-		relShowdownProb[6147] = 0.6593915F;
-		relShowdownProb[6148] = 0.6940964F;
-		relShowdownProb[6149] = 0.3966265F;
-		relShowdownProb[6150] = 0.56519276F;
-		relShowdownProb[6151] = 0.8924096F;
-		relShowdownProb[6152] = 0.6593915F;
-		relShowdownProb[6153] = 0.7177051F;
-		relShowdownProb[6154] = 0.19831325F;
-		relShowdownProb[6155] = 0.99156624F;
-		relShowdownProb[6156] = 0.47099397F;
-		relShowdownProb[6157] = 0.793253F;
-		relShowdownProb[6158] = 0.94198793F;
-		relShowdownProb[6159] = 0.6272261F;
-		relShowdownProb[6160] = 0.8924096F;
-		relShowdownProb[6161] = 0.8477891F;
-		relShowdownProb[6162] = 0.80643356F;
-		relShowdownProb[6163] = 0.5126167F;
-		relShowdownProb[6164] = 0.3966265F;
-		relShowdownProb[6165] = 0.49578312F;
-		relShowdownProb[6166] = 0.75359035F;
-		relShowdownProb[6167] = 0.49578312F;
-		relShowdownProb[6168] = 0.6593915F;
-		relShowdownProb[6169] = 0.71682984F;
-		relShowdownProb[6170] = 0.99156624F;
-		relShowdownProb[6171] = 1.0361867F;
-		relShowdownProb[6172] = 1.3440559F;
-		relShowdownProb[6173] = 0.76803195F;
-		relShowdownProb[6174] = 0.29746985F;
-		relShowdownProb[6175] = 0.6593915F;
-		relShowdownProb[6176] = 0.5376224F;
-		relShowdownProb[6177] = 0.5120213F;
-		relShowdownProb[6178] = 1.0240426F;
-		relShowdownProb[6179] = 0.5949397F;
-		relShowdownProb[6180] = 0.6940964F;
-		relShowdownProb[6181] = 0.3966265F;
-		relShowdownProb[6182] = 0.28259638F;
-		relShowdownProb[6183] = 0.99156624F;
-		relShowdownProb[6184] = 0.29746985F;
-		relShowdownProb[6185] = 0.75359035F;
-		relShowdownProb[6186] = 0.49578312F;
-		relShowdownProb[6187] = 1.1303855F;
-		relShowdownProb[6188] = 0.7177051F;
-		relShowdownProb[6189] = 0.5949397F;
-		relShowdownProb[6190] = 0.3966265F;
-		relShowdownProb[6191] = 0.6593915F;
-		relShowdownProb[6192] = 0.5949397F;
-		relShowdownProb[6193] = 1.0361867F;
-		relShowdownProb[6194] = 0.71682984F;
-		relShowdownProb[6195] = 0.8924096F;
-		relShowdownProb[6196] = 1.0361867F;
-		relShowdownProb[6197] = 0.5376224F;
-		relShowdownProb[6198] = 1.0252334F;
-		relShowdownProb[6199] = 0.29746985F;
-		relShowdownProb[6200] = 0.99156624F;
-		relShowdownProb[6201] = 0.94198793F;
-		relShowdownProb[6202] = 1.3881928F;
-		relShowdownProb[6203] = 0.56519276F;
-		relShowdownProb[6204] = 0.71682984F;
-		relShowdownProb[6205] = 0.793253F;
-		relShowdownProb[6206] = 0.47099397F;
-		relShowdownProb[6207] = 0.71682984F;
-		relShowdownProb[6208] = 0.25601065F;
-		relShowdownProb[6209] = 0.49578312F;
-		relShowdownProb[6210] = 0.47099397F;
-		relShowdownProb[6211] = 0.80643356F;
-		relShowdownProb[6212] = 1.5360639F;
-		relShowdownProb[6213] = 1.221869F;
-		relShowdownProb[6214] = 0.3966265F;
-		relShowdownProb[6215] = 0.6940964F;
-		relShowdownProb[6216] = 0.56519276F;
-		relShowdownProb[6217] = 0.793253F;
-		relShowdownProb[6218] = 1.1303855F;
-		relShowdownProb[6219] = 0.6272261F;
-		relShowdownProb[6220] = 0.49578312F;
-		relShowdownProb[6221] = 0.94198793F;
-		relShowdownProb[6222] = 0.80643356F;
-		relShowdownProb[6223] = 0.76803195F;
-		relShowdownProb[6224] = 0.8924096F;
-		relShowdownProb[6225] = 1.0361867F;
-		relShowdownProb[6226] = 0.17920746F;
-		relShowdownProb[6227] = 1.2800533F;
-		relShowdownProb[6228] = 1.0577805F;
-		relShowdownProb[6229] = 0.793253F;
-		relShowdownProb[6230] = 1.1303855F;
-		relShowdownProb[6231] = 0.8960373F;
-		relShowdownProb[6232] = 0.5120213F;
-		relShowdownProb[6233] = 0.7323095F;
-		relShowdownProb[6234] = 0.24410318F;
-		relShowdownProb[6235] = 0.5949397F;
-		relShowdownProb[6236] = 0.3966265F;
-		relShowdownProb[6237] = 0.6940964F;
-		relShowdownProb[6238] = 0.47099397F;
-		relShowdownProb[6239] = 0.49578312F;
-		relShowdownProb[6240] = 0.49578312F;
-		relShowdownProb[6241] = 0.8477891F;
-		relShowdownProb[6242] = 0.8924096F;
-		relShowdownProb[6243] = 0.75359035F;
-		relShowdownProb[6244] = 0.6279919F;
-		relShowdownProb[6245] = 0.6940964F;
-		relShowdownProb[6246] = 0.6940964F;
-		relShowdownProb[6247] = 1.0361867F;
-		relShowdownProb[6248] = 0.5949397F;
-		relShowdownProb[6249] = 0.8477891F;
-		relShowdownProb[6250] = 0.6272261F;
-		relShowdownProb[6251] = 0.3966265F;
-		relShowdownProb[6252] = 0.94198793F;
-		relShowdownProb[6253] = 0.6272261F;
-		relShowdownProb[6254] = 0.17087223F;
-		relShowdownProb[6255] = 0.49578312F;
-		relShowdownProb[6256] = 0.5949397F;
-		relShowdownProb[6257] = 0.28259638F;
-		relShowdownProb[6258] = 0.29746985F;
-		relShowdownProb[6259] = 0.47099397F;
-		relShowdownProb[6260] = 0.80643356F;
-		relShowdownProb[6261] = 0.49578312F;
-		relShowdownProb[6262] = 0.37679517F;
-		relShowdownProb[6263] = 0.6272261F;
-		relShowdownProb[6264] = 0.93870574F;
-		relShowdownProb[6265] = 0.5949397F;
-		relShowdownProb[6266] = 0.37679517F;
-		relShowdownProb[6267] = 0.71682984F;
-		relShowdownProb[6268] = 0.59735817F;
-		relShowdownProb[6269] = 0.32583174F;
-		relShowdownProb[6270] = 1.0907228F;
-		relShowdownProb[6271] = 0.793253F;
-		relShowdownProb[6272] = 1.4129819F;
-		relShowdownProb[6273] = 0.3966265F;
-		relShowdownProb[6274] = 0.6593915F;
-		relShowdownProb[6275] = 0.985641F;
-		relShowdownProb[6276] = 0.99156624F;
-		relShowdownProb[6277] = 0.28259638F;
-		relShowdownProb[6278] = 0.80643356F;
-		relShowdownProb[6279] = 0.76803195F;
-		relShowdownProb[6280] = 0.49578312F;
-		relShowdownProb[6281] = 0.47099397F;
-		relShowdownProb[6282] = 0.80643356F;
-		relShowdownProb[6283] = 1.1947163F;
-		relShowdownProb[6284] = 0.9764127F;
-		relShowdownProb[6285] = 0.6940964F;
-		relShowdownProb[6286] = 0.37679517F;
-		relShowdownProb[6287] = 0.8960373F;
-		relShowdownProb[6288] = 0.6826951F;
-		relShowdownProb[6289] = 0.9764127F;
-		relShowdownProb[6290] = 0.62201107F;
-		relShowdownProb[6291] = 0.49578312F;
-		relShowdownProb[6292] = 0.29746985F;
-		relShowdownProb[6293] = 0.6593915F;
-		relShowdownProb[6294] = 0.5949397F;
-		relShowdownProb[6295] = 0.47099397F;
-		relShowdownProb[6296] = 0.80643356F;
-		relShowdownProb[6297] = 0.49578312F;
-		relShowdownProb[6298] = 0.37679517F;
-		relShowdownProb[6299] = 0.35841492F;
-		relShowdownProb[6300] = 0.4266844F;
-		relShowdownProb[6301] = 1.289036F;
-		relShowdownProb[6302] = 0.6593915F;
-		relShowdownProb[6303] = 0.35841492F;
-		relShowdownProb[6304] = 0.59735817F;
-		relShowdownProb[6305] = 0.5695741F;
-		relShowdownProb[6306] = 0.5949397F;
-		relShowdownProb[6307] = 0.75359035F;
-		relShowdownProb[6308] = 0.8960373F;
-		relShowdownProb[6309] = 0.4266844F;
-		relShowdownProb[6310] = 0.5695741F;
-		relShowdownProb[6311] = 0.38834596F;
-		relShowdownProb[6312] = 0.5949397F;
-		relShowdownProb[6313] = 0.47099397F;
-		relShowdownProb[6314] = 0.8960373F;
-		relShowdownProb[6315] = 0.59735817F;
-		relShowdownProb[6316] = 0.6509418F;
-		relShowdownProb[6317] = 0.46601516F;
-		relShowdownProb[6318] = 0.29746985F;
-		relShowdownProb[6319] = 0.6940964F;
-		relShowdownProb[6320] = 0.29746985F;
-		relShowdownProb[6321] = 0.793253F;
-		relShowdownProb[6322] = 0.29746985F;
-		relShowdownProb[6323] = 0.29746985F;
-		relShowdownProb[6324] = 0.3966265F;
-		relShowdownProb[6325] = 0.3966265F;
-		relShowdownProb[6326] = 0.94198793F;
-		relShowdownProb[6327] = 0.3966265F;
-		relShowdownProb[6328] = 0.5949397F;
-		relShowdownProb[6329] = 0.56519276F;
-		relShowdownProb[6330] = 0.8924096F;
-		relShowdownProb[6331] = 0.37679517F;
-		relShowdownProb[6332] = 1.4129819F;
-		relShowdownProb[6333] = 1.1898794F;
-		relShowdownProb[6334] = 0.49578312F;
-		relShowdownProb[6335] = 0.3966265F;
-		relShowdownProb[6336] = 0.6593915F;
-		relShowdownProb[6337] = 0.6940964F;
-		relShowdownProb[6338] = 0.99156624F;
-		relShowdownProb[6339] = 1.318783F;
-		relShowdownProb[6340] = 0.29746985F;
-		relShowdownProb[6341] = 0.6593915F;
-		relShowdownProb[6342] = 0.44856566F;
-		relShowdownProb[6343] = 0.3966265F;
-		relShowdownProb[6344] = 0.99156624F;
-		relShowdownProb[6345] = 1.5071807F;
-		relShowdownProb[6346] = 0.3966265F;
-		relShowdownProb[6347] = 0.6593915F;
-		relShowdownProb[6348] = 0.5376224F;
-		relShowdownProb[6349] = 0.793253F;
-		relShowdownProb[6350] = 0.37679517F;
-		relShowdownProb[6351] = 0.8960373F;
-		relShowdownProb[6352] = 0.80643356F;
-		relShowdownProb[6353] = 0.793253F;
-		relShowdownProb[6354] = 0.5949397F;
-		relShowdownProb[6355] = 0.6940964F;
-		relShowdownProb[6356] = 0.6593915F;
-		relShowdownProb[6357] = 0.5949397F;
-		relShowdownProb[6358] = 0.793253F;
-		relShowdownProb[6359] = 0.75359035F;
-		relShowdownProb[6360] = 0.49578312F;
-		relShowdownProb[6361] = 0.28259638F;
-		relShowdownProb[6362] = 0.2691394F;
-		relShowdownProb[6363] = 0.29746985F;
-		relShowdownProb[6364] = 0.49578312F;
-		relShowdownProb[6365] = 0.09419879F;
-		relShowdownProb[6366] = 0.3966265F;
-		relShowdownProb[6367] = 0.47099397F;
-		relShowdownProb[6368] = 0.5376224F;
-		relShowdownProb[6369] = 0.6940964F;
-		relShowdownProb[6370] = 0.47099397F;
-		relShowdownProb[6371] = 0.44801864F;
-		relShowdownProb[6372] = 0.8543611F;
-		relShowdownProb[6373] = 0.49578312F;
-		relShowdownProb[6374] = 0.5949397F;
-		relShowdownProb[6375] = 0.6593915F;
-		relShowdownProb[6376] = 0.29746985F;
-		relShowdownProb[6377] = 0.47099397F;
-		relShowdownProb[6378] = 0.6272261F;
-		relShowdownProb[6379] = 0.8924096F;
-		relShowdownProb[6380] = 0.75359035F;
-		relShowdownProb[6381] = 0.5376224F;
-		relShowdownProb[6382] = 0.4266844F;
-		relShowdownProb[6383] = 0.8924096F;
-		relShowdownProb[6384] = 1.1303855F;
-		relShowdownProb[6385] = 0.80643356F;
-		relShowdownProb[6386] = 0.6826951F;
-		relShowdownProb[6387] = 0.93870574F;
-		relShowdownProb[6388] = 0.3966265F;
-		relShowdownProb[6389] = 0.5949397F;
-		relShowdownProb[6390] = 0.5949397F;
-		relShowdownProb[6391] = 0.56519276F;
-		relShowdownProb[6392] = 0.5949397F;
-		relShowdownProb[6393] = 0.3966265F;
-		relShowdownProb[6394] = 0.6593915F;
-		relShowdownProb[6395] = 1.289036F;
-		relShowdownProb[6396] = 0.47099397F;
-		relShowdownProb[6397] = 0.9868445F;
-		relShowdownProb[6398] = 0.8924096F;
-		relShowdownProb[6399] = 0.49578312F;
-		relShowdownProb[6400] = 0.37679517F;
-		relShowdownProb[6401] = 0.49578312F;
-		relShowdownProb[6402] = 0.75359035F;
-		relShowdownProb[6403] = 0.35841492F;
-		relShowdownProb[6404] = 0.3966265F;
-		relShowdownProb[6405] = 0.8477891F;
-		relShowdownProb[6406] = 0.5376224F;
-		relShowdownProb[6407] = 0.5126167F;
-		relShowdownProb[6408] = 0.6940964F;
-		relShowdownProb[6409] = 0.6940964F;
-		relShowdownProb[6410] = 0.56519276F;
-		relShowdownProb[6411] = 0.793253F;
-		relShowdownProb[6412] = 0.6593915F;
-		relShowdownProb[6413] = 0.44801864F;
-		relShowdownProb[6414] = 1.0907228F;
-		relShowdownProb[6415] = 0.47099397F;
-		relShowdownProb[6416] = 0.35841492F;
-		relShowdownProb[6417] = 0.8533688F;
-		relShowdownProb[6418] = 0.793253F;
-		relShowdownProb[6419] = 0.47099397F;
-		relShowdownProb[6420] = 0.985641F;
-		relShowdownProb[6421] = 1.0240426F;
-		relShowdownProb[6422] = 0.40728968F;
-		relShowdownProb[6423] = 0.49578312F;
-		relShowdownProb[6424] = 0.3966265F;
-		relShowdownProb[6425] = 0.47099397F;
-		relShowdownProb[6426] = 0.793253F;
-		relShowdownProb[6427] = 0.8477891F;
-		relShowdownProb[6428] = 0.5376224F;
-		relShowdownProb[6429] = 0.5949397F;
-		relShowdownProb[6430] = 0.75359035F;
-		relShowdownProb[6431] = 0.35841492F;
-		relShowdownProb[6432] = 0.4266844F;
-		relShowdownProb[6433] = 0.49578312F;
-		relShowdownProb[6434] = 0.47099397F;
-		relShowdownProb[6435] = 0.71682984F;
-		relShowdownProb[6436] = 0.8533688F;
-		relShowdownProb[6437] = 0.895045F;
-		relShowdownProb[6438] = 1.0907228F;
-		relShowdownProb[6439] = 1.1303855F;
-		relShowdownProb[6440] = 0.5376224F;
-		relShowdownProb[6441] = 0.5120213F;
-		relShowdownProb[6442] = 0.7323095F;
-		relShowdownProb[6443] = 1.1391482F;
-		relShowdownProb[6444] = 1.1898794F;
-		relShowdownProb[6445] = 0.5949397F;
-		relShowdownProb[6446] = 0.5949397F;
-		relShowdownProb[6447] = 0.28259638F;
-		relShowdownProb[6448] = 0.5949397F;
-		relShowdownProb[6449] = 1.289036F;
-		relShowdownProb[6450] = 0.75359035F;
-		relShowdownProb[6451] = 0.49578312F;
-		relShowdownProb[6452] = 0.28259638F;
-		relShowdownProb[6453] = 0.44856566F;
-		relShowdownProb[6454] = 0.793253F;
-		relShowdownProb[6455] = 0.5949397F;
-		relShowdownProb[6456] = 0.28259638F;
-		relShowdownProb[6457] = 0.19831325F;
-		relShowdownProb[6458] = 1.2245843F;
-		relShowdownProb[6459] = 0.44801864F;
-		relShowdownProb[6460] = 0.6940964F;
-		relShowdownProb[6461] = 0.8477891F;
-		relShowdownProb[6462] = 0.44801864F;
-		relShowdownProb[6463] = 0.42718056F;
-		relShowdownProb[6464] = 0.49578312F;
-		relShowdownProb[6465] = 0.3966265F;
-		relShowdownProb[6466] = 0.8477891F;
-		relShowdownProb[6467] = 0.793253F;
-		relShowdownProb[6468] = 0.28259638F;
-		relShowdownProb[6469] = 0.71682984F;
-		relShowdownProb[6470] = 0.6940964F;
-		relShowdownProb[6471] = 0.09419879F;
-		relShowdownProb[6472] = 0.5376224F;
-		relShowdownProb[6473] = 1.1093795F;
-		relShowdownProb[6474] = 0.5949397F;
-		relShowdownProb[6475] = 0.8477891F;
-		relShowdownProb[6476] = 0.5376224F;
-		relShowdownProb[6477] = 0.34134755F;
-		relShowdownProb[6478] = 0.81457937F;
-		relShowdownProb[6479] = 0.6940964F;
-		relShowdownProb[6480] = 0.5949397F;
-		relShowdownProb[6481] = 0.6593915F;
-		relShowdownProb[6482] = 0.5949397F;
-		relShowdownProb[6483] = 0.37679517F;
-		relShowdownProb[6484] = 0.44801864F;
-		relShowdownProb[6485] = 1.0907228F;
-		relShowdownProb[6486] = 0.28259638F;
-		relShowdownProb[6487] = 0.71682984F;
-		relShowdownProb[6488] = 0.5120213F;
-		relShowdownProb[6489] = 0.29746985F;
-		relShowdownProb[6490] = 0.6593915F;
-		relShowdownProb[6491] = 0.6272261F;
-		relShowdownProb[6492] = 0.59735817F;
-		relShowdownProb[6493] = 0.24410318F;
-		relShowdownProb[6494] = 0.8924096F;
-		relShowdownProb[6495] = 0.09419879F;
-		relShowdownProb[6496] = 0.35841492F;
-		relShowdownProb[6497] = 0.34134755F;
-		relShowdownProb[6498] = 0.3254709F;
-		relShowdownProb[6499] = 0.38875693F;
-		relShowdownProb[6500] = 0.29746985F;
-		relShowdownProb[6501] = 0.49578312F;
-		relShowdownProb[6502] = 0.47099397F;
-		relShowdownProb[6503] = 0.29746985F;
-		relShowdownProb[6504] = 0.56519276F;
-		relShowdownProb[6505] = 0.17920746F;
-		relShowdownProb[6506] = 0.793253F;
-		relShowdownProb[6507] = 0.18839759F;
-		relShowdownProb[6508] = 0.44801864F;
-		relShowdownProb[6509] = 0.25601065F;
-		relShowdownProb[6510] = 0.49578312F;
-		relShowdownProb[6511] = 1.1303855F;
-		relShowdownProb[6512] = 1.0752448F;
-		relShowdownProb[6513] = 0.76803195F;
-		relShowdownProb[6514] = 0.6509418F;
-		relShowdownProb[6515] = 0.49578312F;
-		relShowdownProb[6516] = 1.0361867F;
-		relShowdownProb[6517] = 0.35841492F;
-		relShowdownProb[6518] = 0.6826951F;
-		relShowdownProb[6519] = 0.3254709F;
-		relShowdownProb[6520] = 0.62135357F;
-		relShowdownProb[6521] = 0.793253F;
-		relShowdownProb[6522] = 0.75359035F;
-		relShowdownProb[6523] = 0.35841492F;
-		relShowdownProb[6524] = 0.8533688F;
-		relShowdownProb[6525] = 0.48820636F;
-		relShowdownProb[6526] = 0.7766919F;
-		relShowdownProb[6527] = 0.31067678F;
-		relShowdownProb[6528] = 0.3966265F;
-		relShowdownProb[6529] = 0.49578312F;
-		relShowdownProb[6530] = 0.5949397F;
-		relShowdownProb[6531] = 0.47099397F;
-		relShowdownProb[6532] = 0.5949397F;
-		relShowdownProb[6533] = 0.3966265F;
-		relShowdownProb[6534] = 0.47099397F;
-		relShowdownProb[6535] = 0.29746985F;
-		relShowdownProb[6536] = 0.8477891F;
-		relShowdownProb[6537] = 0.35885254F;
-		relShowdownProb[6538] = 0.8924096F;
-		relShowdownProb[6539] = 0.49578312F;
-		relShowdownProb[6540] = 0.37679517F;
-		relShowdownProb[6541] = 0.793253F;
-		relShowdownProb[6542] = 0.47099397F;
-		relShowdownProb[6543] = 0.5376224F;
-		relShowdownProb[6544] = 0.3966265F;
-		relShowdownProb[6545] = 0.94198793F;
-		relShowdownProb[6546] = 0.8960373F;
-		relShowdownProb[6547] = 0.5126167F;
-		relShowdownProb[6548] = 0.5949397F;
-		relShowdownProb[6549] = 0.793253F;
-		relShowdownProb[6550] = 0.37679517F;
-		relShowdownProb[6551] = 0.3966265F;
-		relShowdownProb[6552] = 0.18839759F;
-		relShowdownProb[6553] = 0.71682984F;
-		relShowdownProb[6554] = 0.793253F;
-		relShowdownProb[6555] = 0.37679517F;
-		relShowdownProb[6556] = 0.44801864F;
-		relShowdownProb[6557] = 0.5120213F;
-		relShowdownProb[6558] = 0.793253F;
-		relShowdownProb[6559] = 0.8477891F;
-		relShowdownProb[6560] = 0.6272261F;
-		relShowdownProb[6561] = 0.25601065F;
-		relShowdownProb[6562] = 0.7331214F;
-		relShowdownProb[6563] = 0.3966265F;
-		relShowdownProb[6564] = 0.29746985F;
-		relShowdownProb[6565] = 0.75359035F;
-		relShowdownProb[6566] = 0.5949397F;
-		relShowdownProb[6567] = 0.6593915F;
-		relShowdownProb[6568] = 0.985641F;
-		relShowdownProb[6569] = 0.3966265F;
-		relShowdownProb[6570] = 1.318783F;
-		relShowdownProb[6571] = 1.1648484F;
-		relShowdownProb[6572] = 0.8533688F;
-		relShowdownProb[6573] = 0.6940964F;
-		relShowdownProb[6574] = 0.47099397F;
-		relShowdownProb[6575] = 0.6272261F;
-		relShowdownProb[6576] = 1.1947163F;
-		relShowdownProb[6577] = 0.5695741F;
-		relShowdownProb[6578] = 0.49578312F;
-		relShowdownProb[6579] = 0.56519276F;
-		relShowdownProb[6580] = 0.5376224F;
-		relShowdownProb[6581] = 1.2800533F;
-		relShowdownProb[6582] = 0.81367725F;
-		relShowdownProb[6583] = 0.54425967F;
-		relShowdownProb[6584] = 0.5949397F;
-		relShowdownProb[6585] = 0.29746985F;
-		relShowdownProb[6586] = 0.56519276F;
-		relShowdownProb[6587] = 0.3966265F;
-		relShowdownProb[6588] = 0.94198793F;
-		relShowdownProb[6589] = 0.80643356F;
-		relShowdownProb[6590] = 0.5949397F;
-		relShowdownProb[6591] = 0.28259638F;
-		relShowdownProb[6592] = 0.5376224F;
-		relShowdownProb[6593] = 0.8533688F;
-		relShowdownProb[6594] = 0.099156626F;
-		relShowdownProb[6595] = 0.09419879F;
-		relShowdownProb[6596] = 0.8960373F;
-		relShowdownProb[6597] = 0.4266844F;
-		relShowdownProb[6598] = 0.6509418F;
-		relShowdownProb[6599] = 0.99156624F;
-		relShowdownProb[6600] = 1.2245843F;
-		relShowdownProb[6601] = 0.2688112F;
-		relShowdownProb[6602] = 0.34134755F;
-		relShowdownProb[6603] = 0.24410318F;
-		relShowdownProb[6604] = 0.8543611F;
-		relShowdownProb[6605] = 0.29746985F;
-		relShowdownProb[6606] = 0.6593915F;
-		relShowdownProb[6607] = 0.5376224F;
-		relShowdownProb[6608] = 0.4266844F;
-		relShowdownProb[6609] = 0.5695741F;
-		relShowdownProb[6610] = 0.54368436F;
-		relShowdownProb[6611] = 0.817215F;
-		relShowdownProb[6612] = 0.99156624F;
-		relShowdownProb[6613] = 0.5949397F;
-		relShowdownProb[6614] = 0.6593915F;
-		relShowdownProb[6615] = 0.8924096F;
-		relShowdownProb[6616] = 0.28259638F;
-		relShowdownProb[6617] = 0.8960373F;
-		relShowdownProb[6618] = 0.6940964F;
-		relShowdownProb[6619] = 1.1303855F;
-		relShowdownProb[6620] = 0.44801864F;
-		relShowdownProb[6621] = 0.4266844F;
-		relShowdownProb[6622] = 0.3966265F;
-		relShowdownProb[6623] = 0.28259638F;
-		relShowdownProb[6624] = 0.35841492F;
-		relShowdownProb[6625] = 0.4266844F;
-		relShowdownProb[6626] = 0.9764127F;
-		relShowdownProb[6627] = 0.6940964F;
-		relShowdownProb[6628] = 0.09419879F;
-		relShowdownProb[6629] = 0.5376224F;
-		relShowdownProb[6630] = 0.25601065F;
-		relShowdownProb[6631] = 0.9764127F;
-		relShowdownProb[6632] = 0.54368436F;
-		relShowdownProb[6633] = 0.29746985F;
-		relShowdownProb[6634] = 0.56519276F;
-		relShowdownProb[6635] = 0.35841492F;
-		relShowdownProb[6636] = 0.76803195F;
-		relShowdownProb[6637] = 1.1391482F;
-		relShowdownProb[6638] = 0.46601516F;
-		relShowdownProb[6639] = 0.66795504F;
-		relShowdownProb[6640] = 0.3966265F;
-		relShowdownProb[6641] = 0.28259638F;
-		relShowdownProb[6642] = 0.5376224F;
-		relShowdownProb[6643] = 0.08533689F;
-		relShowdownProb[6644] = 0.81367725F;
-		relShowdownProb[6645] = 0.7766919F;
-		relShowdownProb[6646] = 0.37108615F;
-		relShowdownProb[6647] = 1.0907228F;
-		relShowdownProb[6648] = 0.19831325F;
-		relShowdownProb[6649] = 0.6940964F;
-		relShowdownProb[6650] = 0.793253F;
-		relShowdownProb[6651] = 0.5949397F;
-		relShowdownProb[6652] = 0.29746985F;
-		relShowdownProb[6653] = 0.6940964F;
-		relShowdownProb[6654] = 0.3966265F;
-		relShowdownProb[6655] = 0.29746985F;
-		relShowdownProb[6656] = 0.793253F;
-		relShowdownProb[6657] = 0.94198793F;
-		relShowdownProb[6658] = 0.8924096F;
-		relShowdownProb[6659] = 0.8477891F;
-		relShowdownProb[6660] = 0.09419879F;
-		relShowdownProb[6661] = 0.793253F;
-		relShowdownProb[6662] = 0.3966265F;
-		relShowdownProb[6663] = 0.8924096F;
-		relShowdownProb[6664] = 0.49578312F;
-		relShowdownProb[6665] = 0.5949397F;
-		relShowdownProb[6666] = 0.6940964F;
-		relShowdownProb[6667] = 0.8477891F;
-		relShowdownProb[6668] = 0.793253F;
-		relShowdownProb[6669] = 0.47099397F;
-		relShowdownProb[6670] = 0.7177051F;
-		relShowdownProb[6671] = 0.3966265F;
-		relShowdownProb[6672] = 0.6940964F;
-		relShowdownProb[6673] = 0.8477891F;
-		relShowdownProb[6674] = 0.099156626F;
-		relShowdownProb[6675] = 0.75359035F;
-		relShowdownProb[6676] = 0.5382788F;
-		relShowdownProb[6677] = 0.793253F;
-		relShowdownProb[6678] = 0.6593915F;
-		relShowdownProb[6679] = 0.2688112F;
-		relShowdownProb[6680] = 0.35841492F;
-		relShowdownProb[6681] = 0.19831325F;
-		relShowdownProb[6682] = 0.29746985F;
-		relShowdownProb[6683] = 0.5949397F;
-		relShowdownProb[6684] = 0.19831325F;
-		relShowdownProb[6685] = 0.793253F;
-		relShowdownProb[6686] = 0.5949397F;
-		relShowdownProb[6687] = 0.28259638F;
-		relShowdownProb[6688] = 0.29746985F;
-		relShowdownProb[6689] = 0.47099397F;
-		relShowdownProb[6690] = 0.5382788F;
-		relShowdownProb[6691] = 0.3966265F;
-		relShowdownProb[6692] = 0.5949397F;
-		relShowdownProb[6693] = 0.56519276F;
-		relShowdownProb[6694] = 0.6940964F;
-		relShowdownProb[6695] = 0.6593915F;
-		relShowdownProb[6696] = 0.9868445F;
-		relShowdownProb[6697] = 0.6940964F;
-		relShowdownProb[6698] = 0.37679517F;
-		relShowdownProb[6699] = 0.35841492F;
-		relShowdownProb[6700] = 0.34174445F;
-		relShowdownProb[6701] = 0.6940964F;
-		relShowdownProb[6702] = 0.49578312F;
-		relShowdownProb[6703] = 0.47099397F;
-		relShowdownProb[6704] = 1.1898794F;
-		relShowdownProb[6705] = 0.8477891F;
-		relShowdownProb[6706] = 0.6279919F;
-		relShowdownProb[6707] = 0.6940964F;
-		relShowdownProb[6708] = 0.37679517F;
-		relShowdownProb[6709] = 0.8960373F;
-		relShowdownProb[6710] = 0.5120213F;
-		relShowdownProb[6711] = 1.0907228F;
-		relShowdownProb[6712] = 0.47099397F;
-		relShowdownProb[6713] = 0.5376224F;
-		relShowdownProb[6714] = 0.93870574F;
-		relShowdownProb[6715] = 0.6826951F;
-		relShowdownProb[6716] = 0.8924096F;
-		relShowdownProb[6717] = 0.793253F;
-		relShowdownProb[6718] = 0.793253F;
-		relShowdownProb[6719] = 0.3966265F;
-		relShowdownProb[6720] = 0.99156624F;
-		relShowdownProb[6721] = 0.29746985F;
-		relShowdownProb[6722] = 0.8477891F;
-		relShowdownProb[6723] = 1.0907228F;
-		relShowdownProb[6724] = 0.37679517F;
-		relShowdownProb[6725] = 0.44856566F;
-		relShowdownProb[6726] = 0.3966265F;
-		relShowdownProb[6727] = 0.793253F;
-		relShowdownProb[6728] = 0.56519276F;
-		relShowdownProb[6729] = 0.5949397F;
-		relShowdownProb[6730] = 0.75359035F;
-		relShowdownProb[6731] = 0.7177051F;
-		relShowdownProb[6732] = 0.29746985F;
-		relShowdownProb[6733] = 0.18839759F;
-		relShowdownProb[6734] = 0.71682984F;
-		relShowdownProb[6735] = 0.9397972F;
-		relShowdownProb[6736] = 1.0907228F;
-		relShowdownProb[6737] = 0.793253F;
-		relShowdownProb[6738] = 0.47099397F;
-		relShowdownProb[6739] = 0.793253F;
-		relShowdownProb[6740] = 0.56519276F;
-		relShowdownProb[6741] = 0.5382788F;
-		relShowdownProb[6742] = 0.5949397F;
-		relShowdownProb[6743] = 0.75359035F;
-		relShowdownProb[6744] = 0.5376224F;
-		relShowdownProb[6745] = 0.5120213F;
-		relShowdownProb[6746] = 0.6940964F;
-		relShowdownProb[6747] = 0.47099397F;
-		relShowdownProb[6748] = 0.80643356F;
-		relShowdownProb[6749] = 0.59735817F;
-		relShowdownProb[6750] = 0.4887476F;
-		relShowdownProb[6751] = 0.3966265F;
-		relShowdownProb[6752] = 0.49578312F;
-		relShowdownProb[6753] = 0.47099397F;
-		relShowdownProb[6754] = 1.0907228F;
-		relShowdownProb[6755] = 1.2245843F;
-		relShowdownProb[6756] = 0.8074182F;
-		relShowdownProb[6757] = 0.49578312F;
-		relShowdownProb[6758] = 1.0361867F;
-		relShowdownProb[6759] = 0.5376224F;
-		relShowdownProb[6760] = 0.59735817F;
-		relShowdownProb[6761] = 0.6940964F;
-		relShowdownProb[6762] = 0.8477891F;
-		relShowdownProb[6763] = 0.985641F;
-		relShowdownProb[6764] = 0.34134755F;
-		relShowdownProb[6765] = 0.6509418F;
-		relShowdownProb[6766] = 0.5949397F;
-		relShowdownProb[6767] = 0.75359035F;
-		relShowdownProb[6768] = 0.5376224F;
-		relShowdownProb[6769] = 0.76803195F;
-		relShowdownProb[6770] = 0.81367725F;
-		relShowdownProb[6771] = 0.5695741F;
-		relShowdownProb[6772] = 0.6940964F;
-		relShowdownProb[6773] = 0.793253F;
-		relShowdownProb[6774] = 0.793253F;
-		relShowdownProb[6775] = 0.8924096F;
-		relShowdownProb[6776] = 0.49578312F;
-		relShowdownProb[6777] = 0.5949397F;
-		relShowdownProb[6778] = 0.37679517F;
-		relShowdownProb[6779] = 0.29746985F;
-		relShowdownProb[6780] = 1.2245843F;
-		relShowdownProb[6781] = 0.6279919F;
-		relShowdownProb[6782] = 0.29746985F;
-		relShowdownProb[6783] = 0.6940964F;
-		relShowdownProb[6784] = 0.6593915F;
-		relShowdownProb[6785] = 0.5949397F;
-		relShowdownProb[6786] = 0.6593915F;
-		relShowdownProb[6787] = 1.345697F;
-		relShowdownProb[6788] = 0.99156624F;
-		relShowdownProb[6789] = 0.94198793F;
-		relShowdownProb[6790] = 0.71682984F;
-		relShowdownProb[6791] = 0.5980528F;
-		relShowdownProb[6792] = 0.099156626F;
-		relShowdownProb[6793] = 0.6940964F;
-		relShowdownProb[6794] = 0.47099397F;
-		relShowdownProb[6795] = 0.29746985F;
-		relShowdownProb[6796] = 0.28259638F;
-		relShowdownProb[6797] = 0.44856566F;
-		relShowdownProb[6798] = 0.5949397F;
-		relShowdownProb[6799] = 1.0361867F;
-		relShowdownProb[6800] = 0.985641F;
-		relShowdownProb[6801] = 0.5120213F;
-		relShowdownProb[6802] = 0.5949397F;
-		relShowdownProb[6803] = 0.56519276F;
-		relShowdownProb[6804] = 0.44801864F;
-		relShowdownProb[6805] = 0.59735817F;
-		relShowdownProb[6806] = 0.16291587F;
-		relShowdownProb[6807] = 0.8924096F;
-		relShowdownProb[6808] = 0.6940964F;
-		relShowdownProb[6809] = 0.8477891F;
-		relShowdownProb[6810] = 0.49578312F;
-		relShowdownProb[6811] = 0.6593915F;
-		relShowdownProb[6812] = 0.5382788F;
-		relShowdownProb[6813] = 1.1898794F;
-		relShowdownProb[6814] = 0.6593915F;
-		relShowdownProb[6815] = 0.80643356F;
-		relShowdownProb[6816] = 1.2800533F;
-		relShowdownProb[6817] = 0.29746985F;
-		relShowdownProb[6818] = 0.8477891F;
-		relShowdownProb[6819] = 0.35841492F;
-		relShowdownProb[6820] = 1.0240426F;
-		relShowdownProb[6821] = 0.7323095F;
-		relShowdownProb[6822] = 0.8924096F;
-		relShowdownProb[6823] = 0.37679517F;
-		relShowdownProb[6824] = 0.2688112F;
-		relShowdownProb[6825] = 0.5120213F;
-		relShowdownProb[6826] = 0.48820636F;
-		relShowdownProb[6827] = 0.38875693F;
-		relShowdownProb[6828] = 1.0907228F;
-		relShowdownProb[6829] = 0.49578312F;
-		relShowdownProb[6830] = 1.1303855F;
-		relShowdownProb[6831] = 0.8924096F;
-		relShowdownProb[6832] = 0.75359035F;
-		relShowdownProb[6833] = 0.089713134F;
-		relShowdownProb[6834] = 0.3966265F;
-		relShowdownProb[6835] = 0.47099397F;
-		relShowdownProb[6836] = 0.8960373F;
-		relShowdownProb[6837] = 0.76803195F;
-		relShowdownProb[6838] = 0.3966265F;
-		relShowdownProb[6839] = 0.56519276F;
-		relShowdownProb[6840] = 0.5376224F;
-		relShowdownProb[6841] = 0.59735817F;
-		relShowdownProb[6842] = 1.0577805F;
-		relShowdownProb[6843] = 0.19831325F;
-		relShowdownProb[6844] = 0.47099397F;
-		relShowdownProb[6845] = 0.5376224F;
-		relShowdownProb[6846] = 0.34134755F;
-		relShowdownProb[6847] = 0.40683863F;
-		relShowdownProb[6848] = 1.3203763F;
-		relShowdownProb[6849] = 0.5949397F;
-		relShowdownProb[6850] = 0.8477891F;
-		relShowdownProb[6851] = 0.35841492F;
-		relShowdownProb[6852] = 0.34134755F;
-		relShowdownProb[6853] = 0.48820636F;
-		relShowdownProb[6854] = 0.8543611F;
-		relShowdownProb[6855] = 0.38834596F;
-		relShowdownProb[6856] = 0.793253F;
-		relShowdownProb[6857] = 0.49578312F;
-		relShowdownProb[6858] = 0.3966265F;
-		relShowdownProb[6859] = 0.99156624F;
-		relShowdownProb[6860] = 0.29746985F;
-		relShowdownProb[6861] = 0.5949397F;
-		relShowdownProb[6862] = 0.28259638F;
-		relShowdownProb[6863] = 0.99156624F;
-		relShowdownProb[6864] = 0.47099397F;
-		relShowdownProb[6865] = 0.9868445F;
-		relShowdownProb[6866] = 0.5949397F;
-		relShowdownProb[6867] = 0.793253F;
-		relShowdownProb[6868] = 0.47099397F;
-		relShowdownProb[6869] = 0.8924096F;
-		relShowdownProb[6870] = 0.56519276F;
-		relShowdownProb[6871] = 0.7177051F;
-		relShowdownProb[6872] = 0.29746985F;
-		relShowdownProb[6873] = 0.37679517F;
-		relShowdownProb[6874] = 0.71682984F;
-		relShowdownProb[6875] = 0.6834889F;
-		relShowdownProb[6876] = 0.6940964F;
-		relShowdownProb[6877] = 0.3966265F;
-		relShowdownProb[6878] = 0.47099397F;
-		relShowdownProb[6879] = 0.099156626F;
-		relShowdownProb[6880] = 1.0361867F;
-		relShowdownProb[6881] = 0.8971313F;
-		relShowdownProb[6882] = 0.3966265F;
-		relShowdownProb[6883] = 0.47099397F;
-		relShowdownProb[6884] = 0.985641F;
-		relShowdownProb[6885] = 0.6826951F;
-		relShowdownProb[6886] = 0.3966265F;
-		relShowdownProb[6887] = 0.6593915F;
-		relShowdownProb[6888] = 0.5376224F;
-		relShowdownProb[6889] = 1.1093795F;
-		relShowdownProb[6890] = 1.0589532F;
-		relShowdownProb[6891] = 0.3966265F;
-		relShowdownProb[6892] = 0.19831325F;
-		relShowdownProb[6893] = 0.18839759F;
-		relShowdownProb[6894] = 0.29746985F;
-		relShowdownProb[6895] = 0.56519276F;
-		relShowdownProb[6896] = 0.2691394F;
-		relShowdownProb[6897] = 0.793253F;
-		relShowdownProb[6898] = 0.56519276F;
-		relShowdownProb[6899] = 0.80643356F;
-		relShowdownProb[6900] = 0.5120213F;
-		relShowdownProb[6901] = 0.6940964F;
-		relShowdownProb[6902] = 0.75359035F;
-		relShowdownProb[6903] = 0.17920746F;
-		relShowdownProb[6904] = 0.8533688F;
-		relShowdownProb[6905] = 0.16273545F;
-		relShowdownProb[6906] = 0.5949397F;
-		relShowdownProb[6908] = 0.17920746F;
-		relShowdownProb[6909] = 0.8533688F;
-		relShowdownProb[6910] = 0.40683863F;
-		relShowdownProb[6911] = 0.62201107F;
-		relShowdownProb[6912] = 0.29746985F;
-		relShowdownProb[6913] = 0.29746985F;
-		relShowdownProb[6914] = 0.56519276F;
-		relShowdownProb[6915] = 0.5949397F;
-		relShowdownProb[6916] = 0.47099397F;
-		relShowdownProb[6917] = 0.44856566F;
-		relShowdownProb[6918] = 0.3966265F;
-		relShowdownProb[6919] = 0.6593915F;
-		relShowdownProb[6920] = 0.5376224F;
-		relShowdownProb[6921] = 0.93870574F;
-		relShowdownProb[6922] = 0.6940964F;
-		relShowdownProb[6923] = 0.18839759F;
-		relShowdownProb[6924] = 0.35841492F;
-		relShowdownProb[6925] = 0.59735817F;
-		relShowdownProb[6926] = 0.16273545F;
-		relShowdownProb[6927] = 0.8924096F;
-		relShowdownProb[6928] = 0.47099397F;
-		relShowdownProb[6929] = 0.44801864F;
-		relShowdownProb[6930] = 0.93870574F;
-		relShowdownProb[6931] = 0.7323095F;
-		relShowdownProb[6932] = 0.69902277F;
-		relShowdownProb[6933] = 0.6940964F;
-		relShowdownProb[6934] = 0.47099397F;
-		relShowdownProb[6935] = 0.17920746F;
-		relShowdownProb[6936] = 0.6826951F;
-		relShowdownProb[6937] = 0.16273545F;
-		relShowdownProb[6938] = 0.15533839F;
-		relShowdownProb[6939] = 0.52004594F;
-		relShowdownProb[6941] = 0.6940964F;
-		relShowdownProb[6942] = 0.18839759F;
-		relShowdownProb[6943] = 0.3966265F;
-		relShowdownProb[6944] = 0.47099397F;
-		relShowdownProb[6945] = 1.1662707F;
-		relShowdownProb[6946] = 0.6940964F;
-		relShowdownProb[6947] = 0.56519276F;
-		relShowdownProb[6948] = 0.6272261F;
-		relShowdownProb[6949] = 1.1947163F;
-		relShowdownProb[6950] = 0.793253F;
-		relShowdownProb[6951] = 0.6593915F;
-		relShowdownProb[6952] = 0.17920746F;
-		relShowdownProb[6953] = 0.4266844F;
-		relShowdownProb[6954] = 0.81367725F;
-		relShowdownProb[6955] = 0.793253F;
-		relShowdownProb[6956] = 0.6593915F;
-		relShowdownProb[6957] = 0.35841492F;
-		relShowdownProb[6958] = 0.76803195F;
-		relShowdownProb[6959] = 0.9764127F;
-		relShowdownProb[6960] = 0.46601516F;
-		relShowdownProb[6961] = 0.5949397F;
-		relShowdownProb[6962] = 0.6593915F;
-		relShowdownProb[6963] = 0.17920746F;
-		relShowdownProb[6964] = 0.5120213F;
-		relShowdownProb[6965] = 0.48820636F;
-		relShowdownProb[6966] = 0.46601516F;
-		relShowdownProb[6967] = 0.37108615F;
-		relShowdownProb[6968] = 0.3966265F;
-		relShowdownProb[6969] = 0.09419879F;
-		relShowdownProb[6970] = 0.80643356F;
-		relShowdownProb[6971] = 0.4266844F;
-		relShowdownProb[6972] = 0.6509418F;
-		relShowdownProb[6973] = 0.23300758F;
-		relShowdownProb[6974] = 0.44530338F;
-		relShowdownProb[6975] = 0.22265169F;
-		relShowdownProb[6976] = 0.793253F;
-		relShowdownProb[6977] = 0.6940964F;
-		relShowdownProb[6978] = 0.49578312F;
-		relShowdownProb[6979] = 0.8924096F;
-		relShowdownProb[6980] = 0.099156626F;
-		relShowdownProb[6981] = 0.6940964F;
-		relShowdownProb[6982] = 0.6593915F;
-		relShowdownProb[6983] = 0.29746985F;
-		relShowdownProb[6984] = 0.18839759F;
-		relShowdownProb[6985] = 0.35885254F;
-		relShowdownProb[6986] = 0.793253F;
-		relShowdownProb[6987] = 0.29746985F;
-		relShowdownProb[6988] = 0.47099397F;
-		relShowdownProb[6989] = 1.0907228F;
-		relShowdownProb[6990] = 0.47099397F;
-		relShowdownProb[6991] = 0.7177051F;
-		relShowdownProb[6992] = 0.5949397F;
-		relShowdownProb[6993] = 0.28259638F;
-		relShowdownProb[6994] = 0.5376224F;
-		relShowdownProb[6995] = 0.9397972F;
-		relShowdownProb[6996] = 0.6940964F;
-		relShowdownProb[6997] = 0.19831325F;
-		relShowdownProb[6998] = 0.47099397F;
-		relShowdownProb[6999] = 0.49578312F;
-		relShowdownProb[7000] = 0.6593915F;
-		relShowdownProb[7001] = 0.9868445F;
-		relShowdownProb[7002] = 0.793253F;
-		relShowdownProb[7003] = 1.0361867F;
-		relShowdownProb[7004] = 0.6272261F;
-		relShowdownProb[7005] = 0.8533688F;
-		relShowdownProb[7006] = 0.49578312F;
-		relShowdownProb[7007] = 0.09419879F;
-		relShowdownProb[7008] = 0.6272261F;
-		relShowdownProb[7009] = 0.5120213F;
-		relShowdownProb[7010] = 0.4887476F;
-		relShowdownProb[7011] = 0.793253F;
-		relShowdownProb[7012] = 0.3966265F;
-		relShowdownProb[7013] = 0.94198793F;
-		relShowdownProb[7014] = 0.5949397F;
-		relShowdownProb[7015] = 0.37679517F;
-		relShowdownProb[7016] = 0.6279919F;
-		relShowdownProb[7017] = 0.49578312F;
-		relShowdownProb[7018] = 0.75359035F;
-		relShowdownProb[7019] = 0.80643356F;
-		relShowdownProb[7020] = 0.59735817F;
-		relShowdownProb[7021] = 0.29746985F;
-		relShowdownProb[7022] = 0.37679517F;
-		relShowdownProb[7023] = 0.5376224F;
-		relShowdownProb[7024] = 0.8533688F;
-		relShowdownProb[7025] = 0.7323095F;
-		relShowdownProb[7026] = 0.49578312F;
-		relShowdownProb[7027] = 0.6593915F;
-		relShowdownProb[7028] = 0.35841492F;
-		relShowdownProb[7029] = 0.4266844F;
-		relShowdownProb[7030] = 0.6509418F;
-		relShowdownProb[7031] = 0.38875693F;
-		relShowdownProb[7032] = 0.793253F;
-		relShowdownProb[7033] = 0.793253F;
-		relShowdownProb[7034] = 0.6593915F;
-		relShowdownProb[7035] = 0.19831325F;
-		relShowdownProb[7036] = 0.09419879F;
-		relShowdownProb[7037] = 0.8074182F;
-		relShowdownProb[7038] = 0.6940964F;
-		relShowdownProb[7039] = 0.56519276F;
-		relShowdownProb[7040] = 0.71682984F;
-		relShowdownProb[7041] = 1.0240426F;
-		relShowdownProb[7042] = 0.5949397F;
-		relShowdownProb[7043] = 0.28259638F;
-		relShowdownProb[7044] = 0.35841492F;
-		relShowdownProb[7045] = 0.5120213F;
-		relShowdownProb[7046] = 0.48820636F;
-		relShowdownProb[7047] = 0.6940964F;
-		relShowdownProb[7048] = 0.47099397F;
-		relShowdownProb[7049] = 0.2688112F;
-		relShowdownProb[7050] = 0.34134755F;
-		relShowdownProb[7051] = 0.895045F;
-		relShowdownProb[7052] = 0.69902277F;
-		relShowdownProb[7053] = 0.49578312F;
-		relShowdownProb[7054] = 0.28259638F;
-		relShowdownProb[7055] = 0.35841492F;
-		relShowdownProb[7056] = 0.4266844F;
-		relShowdownProb[7057] = 0.48820636F;
-		relShowdownProb[7058] = 0.38834596F;
-		relShowdownProb[7059] = 1.0400919F;
-		relShowdownProb[7060] = 0.5949397F;
-		relShowdownProb[7061] = 0.19831325F;
-		relShowdownProb[7062] = 0.37679517F;
-		relShowdownProb[7063] = 0.3966265F;
-		relShowdownProb[7064] = 0.94198793F;
-		relShowdownProb[7065] = 0.44856566F;
-		relShowdownProb[7066] = 0.19831325F;
-		relShowdownProb[7067] = 0.28259638F;
-		relShowdownProb[7068] = 0.35841492F;
-		relShowdownProb[7069] = 0.6826951F;
-		relShowdownProb[7070] = 0.8924096F;
-		relShowdownProb[7071] = 0.94198793F;
-		relShowdownProb[7072] = 0.35841492F;
-		relShowdownProb[7073] = 0.59735817F;
-		relShowdownProb[7074] = 0.48820636F;
-		relShowdownProb[7075] = 0.29746985F;
-		relShowdownProb[7076] = 0.37679517F;
-		relShowdownProb[7077] = 0.71682984F;
-		relShowdownProb[7078] = 0.59735817F;
-		relShowdownProb[7079] = 0.40683863F;
-		relShowdownProb[7080] = 1.0096995F;
-		relShowdownProb[7081] = 0.099156626F;
-		relShowdownProb[7082] = 0.47099397F;
-		relShowdownProb[7083] = 1.0752448F;
-		relShowdownProb[7084] = 0.5120213F;
-		relShowdownProb[7085] = 0.3254709F;
-		relShowdownProb[7086] = 0.62135357F;
-		relShowdownProb[7087] = 0.5195206F;
-		relShowdownProb[7088] = 0.793253F;
-		relShowdownProb[7089] = 0.8477891F;
-		relShowdownProb[7090] = 0.5376224F;
-		relShowdownProb[7091] = 0.08533689F;
-		relShowdownProb[7092] = 0.48820636F;
-		relShowdownProb[7093] = 0.46601516F;
-		relShowdownProb[7094] = 0.22265169F;
-		relShowdownProb[7095] = 0.35529524F;
-		relShowdownProb[7096] = 0.49578312F;
-		relShowdownProb[7097] = 0.29746985F;
-		relShowdownProb[7098] = 0.28259638F;
-		relShowdownProb[7099] = 0.8924096F;
-		relShowdownProb[7100] = 0.56519276F;
-		relShowdownProb[7101] = 0.089713134F;
-		relShowdownProb[7102] = 0.3966265F;
-		relShowdownProb[7103] = 0.8477891F;
-		relShowdownProb[7104] = 0.5376224F;
-		relShowdownProb[7105] = 0.4266844F;
-		relShowdownProb[7106] = 0.3966265F;
-		relShowdownProb[7107] = 0.18839759F;
-		relShowdownProb[7108] = 1.2544522F;
-		relShowdownProb[7109] = 0.4266844F;
-		relShowdownProb[7110] = 0.24410318F;
-		relShowdownProb[7111] = 0.49578312F;
-		relShowdownProb[7112] = 0.56519276F;
-		relShowdownProb[7113] = 0.2688112F;
-		relShowdownProb[7114] = 0.59735817F;
-		relShowdownProb[7115] = 0.40683863F;
-		relShowdownProb[7116] = 0.38834596F;
-		relShowdownProb[7117] = 0.793253F;
-		relShowdownProb[7118] = 0.47099397F;
-		relShowdownProb[7119] = 0.44801864F;
-		relShowdownProb[7120] = 0.6826951F;
-		relShowdownProb[7121] = 0.81367725F;
-		relShowdownProb[7122] = 0.15533839F;
-		relShowdownProb[7123] = 0.59373784F;
-		relShowdownProb[7124] = 0.19831325F;
-		relShowdownProb[7125] = 0.56519276F;
-		relShowdownProb[7126] = 0.71682984F;
-		relShowdownProb[7127] = 0.4266844F;
-		relShowdownProb[7128] = 0.9764127F;
-		relShowdownProb[7129] = 0.38834596F;
-		relShowdownProb[7130] = 0.37108615F;
-		relShowdownProb[7132] = 0.29746985F;
-		relShowdownProb[7133] = 0.18839759F;
-		relShowdownProb[7134] = 0.80643356F;
-		relShowdownProb[7135] = 0.4266844F;
-		relShowdownProb[7136] = 0.48820636F;
-		relShowdownProb[7137] = 0.62135357F;
-		relShowdownProb[7138] = 0.59373784F;
-		relShowdownProb[7139] = 0.28396156F;
-		relShowdownProb[7140] = 0.29223034F;
-		relShowdownProb[7141] = 0.53903824F;
-		relShowdownProb[7142] = 0.42558423F;
-		relShowdownProb[7143] = 0.27273592F;
-		relShowdownProb[7144] = 0.3115646F;
-		relShowdownProb[7145] = 0.5113649F;
-		relShowdownProb[7146] = 0.41443354F;
-		relShowdownProb[7147] = 0.41173658F;
-		relShowdownProb[7148] = 0.39587855F;
-		relShowdownProb[7149] = 0.2753348F;
-		relShowdownProb[7150] = 0.37779728F;
-		relShowdownProb[7151] = 0.23300758F;
-		relShowdownProb[7152] = 0.40400508F;
-		relShowdownProb[7153] = 0.4146448F;
-		relShowdownProb[7154] = 0.4118557F;
-		relShowdownProb[7155] = 0.47728786F;
-		relShowdownProb[7156] = 0.6095829F;
-		relShowdownProb[7157] = 0.3633382F;
-		relShowdownProb[7158] = 0.26737648F;
-		relShowdownProb[7159] = 0.2656365F;
-		relShowdownProb[7160] = 0.19793928F;
-		relShowdownProb[7161] = 0.38022426F;
-		relShowdownProb[7162] = 0.32568732F;
-		relShowdownProb[7163] = 0.36245623F;
-		relShowdownProb[7164] = 0.49827293F;
-		relShowdownProb[7165] = 0.34784257F;
-		relShowdownProb[7166] = 0.46676978F;
-		relShowdownProb[7167] = 0.45001426F;
-		relShowdownProb[7168] = 0.2980183F;
-		relShowdownProb[7169] = 0.457537F;
-		relShowdownProb[7170] = 0.3342206F;
-		relShowdownProb[7171] = 0.43830022F;
-		relShowdownProb[7172] = 0.4090745F;
-		relShowdownProb[7173] = 0.38022426F;
-		relShowdownProb[7174] = 0.54715466F;
-		relShowdownProb[7175] = 0.45307028F;
-		relShowdownProb[7176] = 0.3770714F;
-		relShowdownProb[7177] = 0.46824965F;
-		relShowdownProb[7178] = 0.39874306F;
-		relShowdownProb[7179] = 0.3409199F;
-		relShowdownProb[7180] = 0.32511088F;
-		relShowdownProb[7181] = 0.43062305F;
-		relShowdownProb[7182] = 0.34758943F;
-		relShowdownProb[7183] = 0.45158204F;
-		relShowdownProb[7184] = 0.17154737F;
-		relShowdownProb[7185] = 0.28844598F;
-		relShowdownProb[7186] = 0.3647698F;
-		relShowdownProb[7187] = 0.36245623F;
-		relShowdownProb[7188] = 0.47133926F;
-		relShowdownProb[7189] = 0.4816282F;
-		relShowdownProb[7190] = 0.42532596F;
-		relShowdownProb[7191] = 0.46219033F;
-		relShowdownProb[7192] = 0.47412002F;
-		relShowdownProb[7193] = 0.41716608F;
-		relShowdownProb[7194] = 0.3342206F;
-		relShowdownProb[7195] = 0.49142754F;
-		relShowdownProb[7196] = 0.34309474F;
-		relShowdownProb[7197] = 0.30155715F;
-		relShowdownProb[7198] = 0.4950447F;
-		relShowdownProb[7199] = 0.38834596F;
-		relShowdownProb[7200] = 0.47133926F;
-		relShowdownProb[7201] = 0.44149253F;
-		relShowdownProb[7202] = 0.31899446F;
-		relShowdownProb[7203] = 0.2773142F;
-		relShowdownProb[7204] = 0.5379424F;
-		relShowdownProb[7205] = 0.3229673F;
-		relShowdownProb[7206] = 0.40106472F;
-		relShowdownProb[7207] = 0.33204564F;
-		relShowdownProb[7208] = 0.26391903F;
-		relShowdownProb[7209] = 0.39333543F;
-		relShowdownProb[7210] = 0.3647698F;
-		relShowdownProb[7211] = 0.4142357F;
-		relShowdownProb[7212] = 0.36360458F;
-		relShowdownProb[7213] = 0.4548711F;
-		relShowdownProb[7214] = 0.46520025F;
-		relShowdownProb[7215] = 0.5150121F;
-		relShowdownProb[7216] = 0.288652F;
-		relShowdownProb[7217] = 0.3128817F;
-		relShowdownProb[7218] = 0.40106472F;
-		relShowdownProb[7219] = 0.3586093F;
-		relShowdownProb[7220] = 0.47505426F;
-		relShowdownProb[7221] = 0.32777953F;
-		relShowdownProb[7222] = 0.40385225F;
-		relShowdownProb[7223] = 0.3754011F;
-		relShowdownProb[7224] = 0.5925408F;
-		relShowdownProb[7225] = 0.52176386F;
-		relShowdownProb[7226] = 0.6645718F;
-		relShowdownProb[7227] = 0.39616314F;
-		relShowdownProb[7228] = 0.32801366F;
-		relShowdownProb[7229] = 0.3780654F;
-		relShowdownProb[7230] = 0.38861984F;
-		relShowdownProb[7231] = 0.30548197F;
-		relShowdownProb[7232] = 0.31670284F;
-		relShowdownProb[7233] = 0.26222363F;
-		relShowdownProb[7234] = 0.31265983F;
-		relShowdownProb[7235] = 0.49190488F;
-		relShowdownProb[7236] = 0.4444056F;
-		relShowdownProb[7237] = 0.3745997F;
-		relShowdownProb[7238] = 0.2924116F;
-		relShowdownProb[7239] = 0.43577945F;
-		relShowdownProb[7240] = 0.4067369F;
-		relShowdownProb[7241] = 0.41717562F;
-		relShowdownProb[7242] = 0.37566584F;
-		relShowdownProb[7243] = 0.42478573F;
-		relShowdownProb[7244] = 0.29031092F;
-		relShowdownProb[7245] = 0.53755844F;
-		relShowdownProb[7246] = 0.3517423F;
-		relShowdownProb[7247] = 0.46601516F;
-		relShowdownProb[7248] = 0.5521403F;
-		relShowdownProb[7249] = 0.52176386F;
-		relShowdownProb[7250] = 0.731029F;
-		relShowdownProb[7251] = 0.3829577F;
-		relShowdownProb[7252] = 0.4592191F;
-		relShowdownProb[7253] = 0.35199192F;
-		relShowdownProb[7254] = 0.5181598F;
-		relShowdownProb[7255] = 0.55350864F;
-		relShowdownProb[7256] = 0.35816532F;
-		relShowdownProb[7257] = 0.43266895F;
-		relShowdownProb[7258] = 0.54715466F;
-		relShowdownProb[7259] = 0.64724326F;
-		relShowdownProb[7260] = 0.3770714F;
-		relShowdownProb[7261] = 0.36122113F;
-		relShowdownProb[7262] = 0.611406F;
-		relShowdownProb[7263] = 0.33013594F;
-		relShowdownProb[7264] = 0.39361638F;
-		relShowdownProb[7265] = 0.41717562F;
-		relShowdownProb[7266] = 0.41452783F;
-		relShowdownProb[7267] = 0.33467966F;
-		relShowdownProb[7268] = 0.4221234F;
-		relShowdownProb[7269] = 0.40678233F;
-		relShowdownProb[7270] = 0.65137464F;
-		relShowdownProb[7271] = 0.66018814F;
-		relShowdownProb[7272] = 0.659875F;
-		relShowdownProb[7273] = 0.5083853F;
-		relShowdownProb[7274] = 0.5848232F;
-		relShowdownProb[7275] = 0.5018066F;
-		relShowdownProb[7276] = 0.55106294F;
-		relShowdownProb[7277] = 0.45628583F;
-		relShowdownProb[7278] = 0.45338982F;
-		relShowdownProb[7279] = 0.437658F;
-		relShowdownProb[7280] = 0.46049827F;
-		relShowdownProb[7281] = 0.3940704F;
-		relShowdownProb[7282] = 0.36636463F;
-		relShowdownProb[7283] = 0.7766919F;
-		relShowdownProb[7284] = 0.76760966F;
-		relShowdownProb[7285] = 0.548521F;
-		relShowdownProb[7286] = 0.5848232F;
-		relShowdownProb[7287] = 0.56783384F;
-		relShowdownProb[7288] = 0.5904246F;
-		relShowdownProb[7289] = 0.43021238F;
-		relShowdownProb[7290] = 0.49225178F;
-		relShowdownProb[7291] = 0.5277641F;
-		relShowdownProb[7292] = 0.47328988F;
-		relShowdownProb[7293] = 0.5593257F;
-		relShowdownProb[7294] = 0.32846484F;
-		relShowdownProb[7295] = 0.38922194F;
-		relShowdownProb[7298] = 1.7920746F;
-		relShowdownProb[7303] = 0.34905016F;
-		relShowdownProb[7304] = 0.26963323F;
-		relShowdownProb[7305] = 0.42905143F;
-		relShowdownProb[7306] = 0.2620989F;
-		relShowdownProb[7307] = 0.29012856F;
-		relShowdownProb[7314] = 0.2347446F;
-		relShowdownProb[7315] = 0.17452508F;
-		relShowdownProb[7317] = 0.10726286F;
-		relShowdownProb[7318] = 0.6989304F;
-		relShowdownProb[7319] = 0.43519282F;
-		relShowdownProb[7326] = 0.4694892F;
-		relShowdownProb[7327] = 0.52357525F;
-		relShowdownProb[7328] = 0.13481662F;
-		relShowdownProb[7329] = 0.42905143F;
-		relShowdownProb[7330] = 0.3494652F;
-		relShowdownProb[7331] = 0.21759641F;
-		relShowdownProb[7335] = 0.8644124F;
-		relShowdownProb[7338] = 0.2347446F;
-		relShowdownProb[7340] = 0.13481662F;
-		relShowdownProb[7341] = 0.21452571F;
-		relShowdownProb[7342] = 0.1747326F;
-		relShowdownProb[7343] = 0.43519282F;
-		relShowdownProb[7348] = 0.50672454F;
-		relShowdownProb[7349] = 0.33246633F;
-		relShowdownProb[7350] = 0.4694892F;
-		relShowdownProb[7351] = 0.52357525F;
-		relShowdownProb[7352] = 0.53926647F;
-		relShowdownProb[7353] = 0.85810286F;
-		relShowdownProb[7354] = 0.3494652F;
-		relShowdownProb[7355] = 0.65278924F;
-		relShowdownProb[7362] = 0.4694892F;
-		relShowdownProb[7363] = 0.17452508F;
-		relShowdownProb[7364] = 0.26963323F;
-		relShowdownProb[7365] = 0.5363143F;
-		relShowdownProb[7366] = 0.5241978F;
-		relShowdownProb[7367] = 0.29012856F;
-		relShowdownProb[7373] = 0.66493267F;
-		relShowdownProb[7375] = 0.34905016F;
-		relShowdownProb[7377] = 0.64357716F;
-		relShowdownProb[7378] = 0.3494652F;
-		relShowdownProb[7379] = 0.14506428F;
-		relShowdownProb[7384] = 1.0134491F;
-		relShowdownProb[7387] = 0.34905016F;
-		relShowdownProb[7388] = 0.40444985F;
-		relShowdownProb[7390] = 0.3494652F;
-		relShowdownProb[7391] = 0.21759641F;
-		relShowdownProb[7395] = 0.8644124F;
-		relShowdownProb[7397] = 0.33246633F;
-		relShowdownProb[7398] = 0.2347446F;
-		relShowdownProb[7399] = 0.34905016F;
-		relShowdownProb[7400] = 0.53926647F;
-		relShowdownProb[7401] = 0.32178858F;
-		relShowdownProb[7402] = 0.9610293F;
-		relShowdownProb[7403] = 0.65278924F;
-		relShowdownProb[7408] = 0.50672454F;
-		relShowdownProb[7410] = 0.4694892F;
-		relShowdownProb[7411] = 0.34905016F;
-		relShowdownProb[7412] = 0.40444985F;
-		relShowdownProb[7413] = 0.32178858F;
-		relShowdownProb[7414] = 0.5241978F;
-		relShowdownProb[7415] = 0.43519282F;
-		relShowdownProb[7419] = 0.8644124F;
-		relShowdownProb[7422] = 0.4694892F;
-		relShowdownProb[7423] = 0.34905016F;
-		relShowdownProb[7424] = 0.26963323F;
-		relShowdownProb[7425] = 0.10726286F;
-		relShowdownProb[7426] = 0.2620989F;
-		relShowdownProb[7427] = 0.29012856F;
-		relShowdownProb[7431] = 0.8644124F;
-		relShowdownProb[7433] = 0.997399F;
-		relShowdownProb[7434] = 0.70423377F;
-		relShowdownProb[7435] = 0.17452508F;
-		relShowdownProb[7436] = 1.0785329F;
-		relShowdownProb[7437] = 0.32178858F;
-		relShowdownProb[7438] = 0.6989304F;
-		relShowdownProb[7439] = 0.3626607F;
-		relShowdownProb[7442] = 1.7920746F;
-		relShowdownProb[7445] = 0.66493267F;
-		relShowdownProb[7446] = 0.2347446F;
-		relShowdownProb[7447] = 0.17452508F;
-		relShowdownProb[7448] = 0.40444985F;
-		relShowdownProb[7449] = 0.10726286F;
-		relShowdownProb[7450] = 0.1747326F;
-		relShowdownProb[7451] = 0.21759641F;
-		relShowdownProb[7452] = 0.35495198F;
-		relShowdownProb[7453] = 0.21297118F;
-		relShowdownProb[7454] = 0.35495198F;
-		relShowdownProb[7455] = 0.28396156F;
-		relShowdownProb[7456] = 0.35495198F;
-		relShowdownProb[7457] = 0.14198078F;
-		relShowdownProb[7458] = 0.14198078F;
-		relShowdownProb[7459] = 0.42594236F;
-		relShowdownProb[7460] = 0.14198078F;
-		relShowdownProb[7461] = 0.7476648F;
-
-	}
-
-}
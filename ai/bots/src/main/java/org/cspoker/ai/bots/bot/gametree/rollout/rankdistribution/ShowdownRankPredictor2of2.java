@@ -1,4838 +0,0 @@
-package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
-
-/**
- * This program is free software; you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation; either version 2 of the License, or
- * (at your option) any later version.
- * 
- *  This program is distributed in the hope that it will be useful,
- *  but WITHOUT ANY WARRANTY; without even the implied warranty of
- *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- *  GNU General Public License for more details.
- *  
- *  You should have received a copy of the GNU General Public License
- *  along with this program; if not, write to the Free Software
- *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
- */
-
-/**
- * Probability distribution when (pot/(nbShowdownPlayer*BigBlind)>15
- */
-public class ShowdownRankPredictor2of2 {
-
-	private final static float[] relShowdownProb = new float[7462];
-
-	public static float getRelativeProbability(int rank) {
-		return relShowdownProb[rank];
-	}
-
-	static {
-		relShowdownProb[48] = 0.13740163F;
-		relShowdownProb[51] = 0.18320216F;
-		relShowdownProb[82] = 0.15572183F;
-		relShowdownProb[85] = 0.24732292F;
-		relShowdownProb[86] = 0.30228356F;
-		relShowdownProb[102] = 0.16488194F;
-		relShowdownProb[105] = 0.17404205F;
-		relShowdownProb[106] = 0.19694231F;
-		relShowdownProb[112] = 0.15572183F;
-		relShowdownProb[115] = 0.10076119F;
-		relShowdownProb[116] = 0.22594933F;
-		relShowdownProb[119] = 0.25648302F;
-		relShowdownProb[120] = 0.28701672F;
-		relShowdownProb[151] = 0.18320216F;
-		relShowdownProb[154] = 0.13740163F;
-		relShowdownProb[155] = 0.29312345F;
-		relShowdownProb[171] = 0.08244097F;
-		relShowdownProb[174] = 0.08244097F;
-		relShowdownProb[175] = 0.20152238F;
-		relShowdownProb[181] = 0.08244097F;
-		relShowdownProb[184] = 0.2198426F;
-		relShowdownProb[185] = 0.19541563F;
-		relShowdownProb[188] = 0.09160108F;
-		relShowdownProb[189] = 0.20762911F;
-		relShowdownProb[190] = 0.2686965F;
-		relShowdownProb[206] = 0.14656173F;
-		relShowdownProb[209] = 0.08244097F;
-		relShowdownProb[210] = 0.13282156F;
-		relShowdownProb[216] = 0.17404205F;
-		relShowdownProb[219] = 0.07328086F;
-		relShowdownProb[220] = 0.18320216F;
-		relShowdownProb[223] = 0.17404205F;
-		relShowdownProb[224] = 0.16488194F;
-		relShowdownProb[225] = 0.19602631F;
-		relShowdownProb[231] = 0.14656173F;
-		relShowdownProb[234] = 0.1190814F;
-		relShowdownProb[235] = 0.15877521F;
-		relShowdownProb[238] = 0.13740163F;
-		relShowdownProb[239] = 0.17404205F;
-		relShowdownProb[240] = 0.25495633F;
-		relShowdownProb[243] = 0.26564312F;
-		relShowdownProb[244] = 0.27480325F;
-		relShowdownProb[245] = 0.32365716F;
-		relShowdownProb[276] = 0.15572183F;
-		relShowdownProb[279] = 0.19236226F;
-		relShowdownProb[280] = 0.14656173F;
-		relShowdownProb[296] = 0.15572183F;
-		relShowdownProb[299] = 0.09160108F;
-		relShowdownProb[300] = 0.14656173F;
-		relShowdownProb[306] = 0.07328086F;
-		relShowdownProb[309] = 0.13740163F;
-		relShowdownProb[310] = 0.16488194F;
-		relShowdownProb[313] = 0.1099213F;
-		relShowdownProb[314] = 0.17404205F;
-		relShowdownProb[315] = 0.30228356F;
-		relShowdownProb[331] = 0.15572183F;
-		relShowdownProb[334] = 0.10076119F;
-		relShowdownProb[335] = 0.19236226F;
-		relShowdownProb[341] = 0.1190814F;
-		relShowdownProb[344] = 0.09160108F;
-		relShowdownProb[345] = 0.1893089F;
-		relShowdownProb[348] = 0.10076119F;
-		relShowdownProb[349] = 0.13129488F;
-		relShowdownProb[350] = 0.20518641F;
-		relShowdownProb[356] = 0.14656173F;
-		relShowdownProb[359] = 0.13740163F;
-		relShowdownProb[360] = 0.16182858F;
-		relShowdownProb[363] = 0.1099213F;
-		relShowdownProb[364] = 0.13740163F;
-		relShowdownProb[365] = 0.17098868F;
-		relShowdownProb[368] = 0.19236226F;
-		relShowdownProb[369] = 0.17709543F;
-		relShowdownProb[370] = 0.20762911F;
-		relShowdownProb[371] = 0.34350404F;
-		relShowdownProb[387] = 0.18320216F;
-		relShowdownProb[390] = 0.20152238F;
-		relShowdownProb[391] = 0.17862211F;
-		relShowdownProb[397] = 0.08244097F;
-		relShowdownProb[400] = 0.08244097F;
-		relShowdownProb[401] = 0.11602803F;
-		relShowdownProb[404] = 0.05496065F;
-		relShowdownProb[405] = 0.122134775F;
-		relShowdownProb[406] = 0.18503419F;
-		relShowdownProb[412] = 0.16488194F;
-		relShowdownProb[415] = 0.12824151F;
-		relShowdownProb[416] = 0.1893089F;
-		relShowdownProb[419] = 0.04580054F;
-		relShowdownProb[420] = 0.122134775F;
-		relShowdownProb[421] = 0.15877521F;
-		relShowdownProb[424] = 0.20152238F;
-		relShowdownProb[425] = 0.22594933F;
-		relShowdownProb[426] = 0.18625553F;
-		relShowdownProb[427] = 0.23205607F;
-		relShowdownProb[433] = 0.24732292F;
-		relShowdownProb[436] = 0.1099213F;
-		relShowdownProb[437] = 0.18625553F;
-		relShowdownProb[440] = 0.10076119F;
-		relShowdownProb[441] = 0.15877521F;
-		relShowdownProb[442] = 0.19694231F;
-		relShowdownProb[445] = 0.26564312F;
-		relShowdownProb[446] = 0.2381628F;
-		relShowdownProb[447] = 0.22594933F;
-		relShowdownProb[448] = 0.23633079F;
-		relShowdownProb[451] = 0.29312345F;
-		relShowdownProb[452] = 0.31144366F;
-		relShowdownProb[453] = 0.32518384F;
-		relShowdownProb[454] = 0.36915234F;
-		relShowdownProb[485] = 0.15572183F;
-		relShowdownProb[488] = 0.16488194F;
-		relShowdownProb[489] = 0.19236226F;
-		relShowdownProb[505] = 0.15572183F;
-		relShowdownProb[508] = 0.13740163F;
-		relShowdownProb[509] = 0.2381628F;
-		relShowdownProb[515] = 0.15572183F;
-		relShowdownProb[518] = 0.07328086F;
-		relShowdownProb[519] = 0.1801488F;
-		relShowdownProb[522] = 0.13740163F;
-		relShowdownProb[523] = 0.14656173F;
-		relShowdownProb[524] = 0.2595364F;
-		relShowdownProb[540] = 0.20152238F;
-		relShowdownProb[543] = 0.19236226F;
-		relShowdownProb[544] = 0.15572183F;
-		relShowdownProb[550] = 0.15572183F;
-		relShowdownProb[553] = 0.19236226F;
-		relShowdownProb[554] = 0.1801488F;
-		relShowdownProb[557] = 0.17404205F;
-		relShowdownProb[558] = 0.16793531F;
-		relShowdownProb[559] = 0.23633079F;
-		relShowdownProb[565] = 0.07328086F;
-		relShowdownProb[568] = 0.12824151F;
-		relShowdownProb[569] = 0.15877521F;
-		relShowdownProb[572] = 0.1190814F;
-		relShowdownProb[573] = 0.13740163F;
-		relShowdownProb[574] = 0.18320216F;
-		relShowdownProb[577] = 0.1190814F;
-		relShowdownProb[578] = 0.12518814F;
-		relShowdownProb[579] = 0.17556873F;
-		relShowdownProb[580] = 0.30075687F;
-		relShowdownProb[596] = 0.27480325F;
-		relShowdownProb[599] = 0.14656173F;
-		relShowdownProb[600] = 0.18778221F;
-		relShowdownProb[606] = 0.1190814F;
-		relShowdownProb[609] = 0.19236226F;
-		relShowdownProb[610] = 0.19846901F;
-		relShowdownProb[613] = 0.19236226F;
-		relShowdownProb[614] = 0.1801488F;
-		relShowdownProb[615] = 0.20518641F;
-		relShowdownProb[621] = 0.20152238F;
-		relShowdownProb[624] = 0.15572183F;
-		relShowdownProb[625] = 0.17098868F;
-		relShowdownProb[628] = 0.09160108F;
-		relShowdownProb[629] = 0.1496151F;
-		relShowdownProb[630] = 0.18472885F;
-		relShowdownProb[633] = 0.16488194F;
-		relShowdownProb[634] = 0.10076119F;
-		relShowdownProb[635] = 0.18778221F;
-		relShowdownProb[636] = 0.2686965F;
-		relShowdownProb[642] = 0.19236226F;
-		relShowdownProb[645] = 0.21068248F;
-		relShowdownProb[646] = 0.2381628F;
-		relShowdownProb[649] = 0.17404205F;
-		relShowdownProb[650] = 0.13129488F;
-		relShowdownProb[651] = 0.2091558F;
-		relShowdownProb[654] = 0.16488194F;
-		relShowdownProb[655] = 0.19236226F;
-		relShowdownProb[656] = 0.1801488F;
-		relShowdownProb[657] = 0.24365887F;
-		relShowdownProb[660] = 0.24732292F;
-		relShowdownProb[661] = 0.23205607F;
-		relShowdownProb[662] = 0.23358275F;
-		relShowdownProb[663] = 0.3306799F;
-		relShowdownProb[664] = 0.43602115F;
-		relShowdownProb[680] = 0.21068248F;
-		relShowdownProb[683] = 0.2198426F;
-		relShowdownProb[684] = 0.21526253F;
-		relShowdownProb[690] = 0.16488194F;
-		relShowdownProb[693] = 0.1190814F;
-		relShowdownProb[694] = 0.21678922F;
-		relShowdownProb[697] = 0.14656173F;
-		relShowdownProb[698] = 0.20762911F;
-		relShowdownProb[699] = 0.2381628F;
-		relShowdownProb[705] = 0.21068248F;
-		relShowdownProb[708] = 0.20152238F;
-		relShowdownProb[709] = 0.21678922F;
-		relShowdownProb[712] = 0.12824151F;
-		relShowdownProb[713] = 0.17404205F;
-		relShowdownProb[714] = 0.22136928F;
-		relShowdownProb[717] = 0.19236226F;
-		relShowdownProb[718] = 0.19541563F;
-		relShowdownProb[719] = 0.19846901F;
-		relShowdownProb[720] = 0.24223396F;
-		relShowdownProb[726] = 0.27480325F;
-		relShowdownProb[729] = 0.2381628F;
-		relShowdownProb[730] = 0.23510943F;
-		relShowdownProb[733] = 0.21068248F;
-		relShowdownProb[734] = 0.18625553F;
-		relShowdownProb[735] = 0.23663612F;
-		relShowdownProb[738] = 0.2381628F;
-		relShowdownProb[739] = 0.25342965F;
-		relShowdownProb[740] = 0.17709543F;
-		relShowdownProb[741] = 0.21068248F;
-		relShowdownProb[744] = 0.19236226F;
-		relShowdownProb[745] = 0.34503073F;
-		relShowdownProb[746] = 0.30991697F;
-		relShowdownProb[747] = 0.29953554F;
-		relShowdownProb[748] = 0.37687302F;
-		relShowdownProb[754] = 0.3297639F;
-		relShowdownProb[757] = 0.29312345F;
-		relShowdownProb[758] = 0.32365716F;
-		relShowdownProb[761] = 0.17404205F;
-		relShowdownProb[762] = 0.19541563F;
-		relShowdownProb[763] = 0.25190297F;
-		relShowdownProb[766] = 0.24732292F;
-		relShowdownProb[767] = 0.23510943F;
-		relShowdownProb[768] = 0.22594933F;
-		relShowdownProb[769] = 0.2628951F;
-		relShowdownProb[772] = 0.25648302F;
-		relShowdownProb[773] = 0.27785662F;
-		relShowdownProb[774] = 0.33434394F;
-		relShowdownProb[775] = 0.27388722F;
-		relShowdownProb[776] = 0.3456414F;
-		relShowdownProb[779] = 0.4763256F;
-		relShowdownProb[780] = 0.46411213F;
-		relShowdownProb[781] = 0.48548573F;
-		relShowdownProb[782] = 0.50472194F;
-		relShowdownProb[783] = 0.48487505F;
-		relShowdownProb[816] = 0.27480325F;
-		relShowdownProb[817] = 0.37556443F;
-		relShowdownProb[836] = 0.26564312F;
-		relShowdownProb[837] = 0.29312345F;
-		relShowdownProb[846] = 0.28396335F;
-		relShowdownProb[847] = 0.33587062F;
-		relShowdownProb[850] = 0.27480325F;
-		relShowdownProb[851] = 0.27785662F;
-		relShowdownProb[852] = 0.37556443F;
-		relShowdownProb[871] = 0.3206038F;
-		relShowdownProb[872] = 0.37556443F;
-		relShowdownProb[881] = 0.3206038F;
-		relShowdownProb[882] = 0.29617682F;
-		relShowdownProb[885] = 0.29312345F;
-		relShowdownProb[886] = 0.26564312F;
-		relShowdownProb[887] = 0.2821313F;
-		relShowdownProb[896] = 0.3206038F;
-		relShowdownProb[897] = 0.2992302F;
-		relShowdownProb[900] = 0.28396335F;
-		relShowdownProb[901] = 0.28701672F;
-		relShowdownProb[902] = 0.34197736F;
-		relShowdownProb[905] = 0.3297639F;
-		relShowdownProb[906] = 0.2992302F;
-		relShowdownProb[907] = 0.35113746F;
-		relShowdownProb[908] = 0.43052506F;
-		relShowdownProb[927] = 0.26564312F;
-		relShowdownProb[928] = 0.37098438F;
-		relShowdownProb[937] = 0.35724422F;
-		relShowdownProb[938] = 0.3786178F;
-		relShowdownProb[941] = 0.30228356F;
-		relShowdownProb[942] = 0.31755042F;
-		relShowdownProb[943] = 0.37373242F;
-		relShowdownProb[952] = 0.37556443F;
-		relShowdownProb[953] = 0.35724422F;
-		relShowdownProb[956] = 0.26564312F;
-		relShowdownProb[957] = 0.33587062F;
-		relShowdownProb[958] = 0.30075687F;
-		relShowdownProb[961] = 0.29312345F;
-		relShowdownProb[962] = 0.31755042F;
-		relShowdownProb[963] = 0.33281726F;
-		relShowdownProb[964] = 0.3999914F;
-		relShowdownProb[973] = 0.35724422F;
-		relShowdownProb[974] = 0.37251106F;
-		relShowdownProb[977] = 0.29312345F;
-		relShowdownProb[978] = 0.33281726F;
-		relShowdownProb[979] = 0.3373973F;
-		relShowdownProb[982] = 0.31144366F;
-		relShowdownProb[983] = 0.3786178F;
-		relShowdownProb[984] = 0.34961078F;
-		relShowdownProb[985] = 0.43510512F;
-		relShowdownProb[988] = 0.31144366F;
-		relShowdownProb[989] = 0.39388463F;
-		relShowdownProb[990] = 0.39388463F;
-		relShowdownProb[991] = 0.40212873F;
-		relShowdownProb[992] = 0.5660947F;
-		relShowdownProb[1011] = 0.41220486F;
-		relShowdownProb[1012] = 0.5450264F;
-		relShowdownProb[1021] = 0.3206038F;
-		relShowdownProb[1022] = 0.49464583F;
-		relShowdownProb[1025] = 0.3206038F;
-		relShowdownProb[1026] = 0.36335096F;
-		relShowdownProb[1027] = 0.3902206F;
-		relShowdownProb[1036] = 0.29312345F;
-		relShowdownProb[1037] = 0.3999914F;
-		relShowdownProb[1040] = 0.3480841F;
-		relShowdownProb[1041] = 0.36640432F;
-		relShowdownProb[1042] = 0.41525823F;
-		relShowdownProb[1045] = 0.31144366F;
-		relShowdownProb[1046] = 0.4396852F;
-		relShowdownProb[1047] = 0.4167849F;
-		relShowdownProb[1048] = 0.44579193F;
-		relShowdownProb[1057] = 0.4671655F;
-		relShowdownProb[1058] = 0.37556443F;
-		relShowdownProb[1061] = 0.42136496F;
-		relShowdownProb[1062] = 0.4885391F;
-		relShowdownProb[1063] = 0.4167849F;
-		relShowdownProb[1066] = 0.3297639F;
-		relShowdownProb[1067] = 0.36335096F;
-		relShowdownProb[1068] = 0.4076248F;
-		relShowdownProb[1069] = 0.41953295F;
-		relShowdownProb[1072] = 0.38472453F;
-		relShowdownProb[1073] = 0.43357843F;
-		relShowdownProb[1074] = 0.4076248F;
-		relShowdownProb[1075] = 0.4341891F;
-		relShowdownProb[1076] = 0.5561494F;
-		relShowdownProb[1085] = 0.48548573F;
-		relShowdownProb[1086] = 0.50075257F;
-		relShowdownProb[1089] = 0.5404464F;
-		relShowdownProb[1090] = 0.47327223F;
-		relShowdownProb[1091] = 0.4274717F;
-		relShowdownProb[1094] = 0.4580054F;
-		relShowdownProb[1095] = 0.49464583F;
-		relShowdownProb[1096] = 0.43205175F;
-		relShowdownProb[1097] = 0.4149529F;
-		relShowdownProb[1100] = 0.4488453F;
-		relShowdownProb[1101] = 0.43663183F;
-		relShowdownProb[1102] = 0.4396852F;
-		relShowdownProb[1103] = 0.47724164F;
-		relShowdownProb[1104] = 0.52212614F;
-		relShowdownProb[1107] = 0.50380594F;
-		relShowdownProb[1108] = 0.5679267F;
-		relShowdownProb[1109] = 0.5679267F;
-		relShowdownProb[1110] = 0.55601853F;
-		relShowdownProb[1111] = 0.6576958F;
-		relShowdownProb[1112] = 0.7706704F;
-		relShowdownProb[1131] = 0.5587666F;
-		relShowdownProb[1132] = 0.50380594F;
-		relShowdownProb[1141] = 0.5404464F;
-		relShowdownProb[1142] = 0.47021887F;
-		relShowdownProb[1145] = 0.5587666F;
-		relShowdownProb[1146] = 0.56182F;
-		relShowdownProb[1147] = 0.5715907F;
-		relShowdownProb[1156] = 0.53128624F;
-		relShowdownProb[1157] = 0.49159247F;
-		relShowdownProb[1160] = 0.48548573F;
-		relShowdownProb[1161] = 0.54655313F;
-		relShowdownProb[1162] = 0.5205995F;
-		relShowdownProb[1165] = 0.4671655F;
-		relShowdownProb[1166] = 0.5068593F;
-		relShowdownProb[1167] = 0.5190728F;
-		relShowdownProb[1168] = 0.5638555F;
-		relShowdownProb[1177] = 0.5496065F;
-		relShowdownProb[1178] = 0.6289941F;
-		relShowdownProb[1181] = 0.6870081F;
-		relShowdownProb[1182] = 0.5709801F;
-		relShowdownProb[1183] = 0.5450264F;
-		relShowdownProb[1186] = 0.5404464F;
-		relShowdownProb[1187] = 0.50380594F;
-		relShowdownProb[1188] = 0.5572399F;
-		relShowdownProb[1189] = 0.5505225F;
-		relShowdownProb[1192] = 0.50380594F;
-		relShowdownProb[1193] = 0.537393F;
-		relShowdownProb[1194] = 0.50533265F;
-		relShowdownProb[1195] = 0.594491F;
-		relShowdownProb[1196] = 0.6346646F;
-		relShowdownProb[1205] = 0.5679267F;
-		relShowdownProb[1206] = 0.64426094F;
-		relShowdownProb[1209] = 0.5770868F;
-		relShowdownProb[1210] = 0.5801402F;
-		relShowdownProb[1211] = 0.61983395F;
-		relShowdownProb[1214] = 0.6137272F;
-		relShowdownProb[1215] = 0.6167806F;
-		relShowdownProb[1216] = 0.5679267F;
-		relShowdownProb[1217] = 0.5578506F;
-		relShowdownProb[1220] = 0.6320475F;
-		relShowdownProb[1221] = 0.595407F;
-		relShowdownProb[1222] = 0.56945336F;
-		relShowdownProb[1223] = 0.5816668F;
-		relShowdownProb[1224] = 0.6118952F;
-		relShowdownProb[1227] = 0.6045671F;
-		relShowdownProb[1228] = 0.77860916F;
-		relShowdownProb[1229] = 0.7083817F;
-		relShowdownProb[1230] = 0.6934202F;
-		relShowdownProb[1231] = 0.6949469F;
-		relShowdownProb[1232] = 0.81112754F;
-		relShowdownProb[1241] = 0.6045671F;
-		relShowdownProb[1242] = 0.6412076F;
-		relShowdownProb[1245] = 0.595407F;
-		relShowdownProb[1246] = 0.65342104F;
-		relShowdownProb[1247] = 0.6702146F;
-		relShowdownProb[1250] = 0.6503677F;
-		relShowdownProb[1251] = 0.7083817F;
-		relShowdownProb[1252] = 0.6381542F;
-		relShowdownProb[1253] = 0.677848F;
-		relShowdownProb[1256] = 0.677848F;
-		relShowdownProb[1257] = 0.68090135F;
-		relShowdownProb[1258] = 0.58472025F;
-		relShowdownProb[1259] = 0.6338795F;
-		relShowdownProb[1260] = 0.68090135F;
-		relShowdownProb[1263] = 0.9160108F;
-		relShowdownProb[1264] = 0.71448845F;
-		relShowdownProb[1265] = 0.73128194F;
-		relShowdownProb[1266] = 0.71723646F;
-		relShowdownProb[1267] = 0.7615103F;
-		relShowdownProb[1268] = 0.85101765F;
-		relShowdownProb[1271] = 0.75112885F;
-		relShowdownProb[1272] = 0.80303615F;
-		relShowdownProb[1273] = 0.79234934F;
-		relShowdownProb[1274] = 0.77586114F;
-		relShowdownProb[1275] = 0.75845695F;
-		relShowdownProb[1276] = 0.83226126F;
-		relShowdownProb[1295] = 0.16775025F;
-		relShowdownProb[1296] = 0.26360756F;
-		relShowdownProb[1305] = 0.26360756F;
-		relShowdownProb[1306] = 0.3355005F;
-		relShowdownProb[1309] = 0.14378594F;
-		relShowdownProb[1310] = 0.23964323F;
-		relShowdownProb[1311] = 0.2156789F;
-		relShowdownProb[1320] = 0.38342917F;
-		relShowdownProb[1321] = 0.25561944F;
-		relShowdownProb[1324] = 0.16775025F;
-		relShowdownProb[1325] = 0.29555997F;
-		relShowdownProb[1326] = 0.19171458F;
-		relShowdownProb[1329] = 0.26360756F;
-		relShowdownProb[1330] = 0.2076908F;
-		relShowdownProb[1331] = 0.16775025F;
-		relShowdownProb[1332] = 0.19171458F;
-		relShowdownProb[1341] = 0.14378594F;
-		relShowdownProb[1342] = 0.18372647F;
-		relShowdownProb[1345] = 0.119821616F;
-		relShowdownProb[1346] = 0.22366701F;
-		relShowdownProb[1347] = 0.1557681F;
-		relShowdownProb[1350] = 0.16775025F;
-		relShowdownProb[1351] = 0.15976216F;
-		relShowdownProb[1352] = 0.1637562F;
-		relShowdownProb[1353] = 0.17973243F;
-		relShowdownProb[1356] = 0.119821616F;
-		relShowdownProb[1357] = 0.111833505F;
-		relShowdownProb[1358] = 0.12381567F;
-		relShowdownProb[1359] = 0.14618237F;
-		relShowdownProb[1360] = 0.2293728F;
-		relShowdownProb[1369] = 0.23964323F;
-		relShowdownProb[1370] = 0.17573836F;
-		relShowdownProb[1373] = 0.35946485F;
-		relShowdownProb[1374] = 0.119821616F;
-		relShowdownProb[1375] = 0.19171458F;
-		relShowdownProb[1378] = 0.2156789F;
-		relShowdownProb[1379] = 0.119821616F;
-		relShowdownProb[1380] = 0.14378594F;
-		relShowdownProb[1381] = 0.18212885F;
-		relShowdownProb[1384] = 0.38342917F;
-		relShowdownProb[1385] = 0.15976216F;
-		relShowdownProb[1386] = 0.13979189F;
-		relShowdownProb[1387] = 0.17733599F;
-		relShowdownProb[1388] = 0.19650745F;
-		relShowdownProb[1391] = 0.28757188F;
-		relShowdownProb[1392] = 0.2156789F;
-		relShowdownProb[1393] = 0.1557681F;
-		relShowdownProb[1394] = 0.16535383F;
-		relShowdownProb[1395] = 0.18372647F;
-		relShowdownProb[1396] = 0.26959863F;
-		relShowdownProb[1405] = 0.2156789F;
-		relShowdownProb[1406] = 0.26360756F;
-		relShowdownProb[1409] = 0.23964323F;
-		relShowdownProb[1410] = 0.14378594F;
-		relShowdownProb[1411] = 0.2076908F;
-		relShowdownProb[1414] = 0.14378594F;
-		relShowdownProb[1415] = 0.1997027F;
-		relShowdownProb[1416] = 0.17573836F;
-		relShowdownProb[1417] = 0.19411102F;
-		relShowdownProb[1420] = 0.38342917F;
-		relShowdownProb[1421] = 0.17573836F;
-		relShowdownProb[1422] = 0.19171458F;
-		relShowdownProb[1423] = 0.14857881F;
-		relShowdownProb[1424] = 0.19650745F;
-		relShowdownProb[1427] = 0.26360756F;
-		relShowdownProb[1428] = 0.16775025F;
-		relShowdownProb[1429] = 0.24763134F;
-		relShowdownProb[1430] = 0.2228682F;
-		relShowdownProb[1431] = 0.20130031F;
-		relShowdownProb[1432] = 0.22823165F;
-		relShowdownProb[1435] = 0.2156789F;
-		relShowdownProb[1436] = 0.27159566F;
-		relShowdownProb[1437] = 0.25561944F;
-		relShowdownProb[1438] = 0.23485036F;
-		relShowdownProb[1439] = 0.23644799F;
-		relShowdownProb[1440] = 0.25790176F;
-		relShowdownProb[1441] = 0.3576897F;
-		relShowdownProb[1451] = 0.4073935F;
-		relShowdownProb[1455] = 0.36745295F;
-		relShowdownProb[1456] = 0.31553024F;
-		relShowdownProb[1460] = 0.29555997F;
-		relShowdownProb[1461] = 0.29555997F;
-		relShowdownProb[1462] = 0.371447F;
-		relShowdownProb[1466] = 0.46331024F;
-		relShowdownProb[1467] = 0.3115362F;
-		relShowdownProb[1468] = 0.27319327F;
-		relShowdownProb[1469] = 0.36745295F;
-		relShowdownProb[1473] = 0.3994054F;
-		relShowdownProb[1474] = 0.3275124F;
-		relShowdownProb[1475] = 0.32112193F;
-		relShowdownProb[1476] = 0.35147673F;
-		relShowdownProb[1477] = 0.4096758F;
-		relShowdownProb[1481] = 0.45532215F;
-		relShowdownProb[1482] = 0.39141726F;
-		relShowdownProb[1483] = 0.46970072F;
-		relShowdownProb[1484] = 0.47289598F;
-		relShowdownProb[1485] = 0.44847518F;
-		relShowdownProb[1486] = 0.5580264F;
-		relShowdownProb[1490] = 0.5272151F;
-		relShowdownProb[1491] = 0.595114F;
-		relShowdownProb[1492] = 0.4912686F;
-		relShowdownProb[1493] = 0.5719485F;
-		relShowdownProb[1494] = 0.5808495F;
-		relShowdownProb[1495] = 0.6333428F;
-		relShowdownProb[1496] = 0.73741645F;
-		relShowdownProb[1515] = 0.38342917F;
-		relShowdownProb[1516] = 0.3355005F;
-		relShowdownProb[1525] = 0.5272151F;
-		relShowdownProb[1526] = 0.22766107F;
-		relShowdownProb[1529] = 0.19171458F;
-		relShowdownProb[1530] = 0.34348863F;
-		relShowdownProb[1531] = 0.3115362F;
-		relShowdownProb[1540] = 0.26360756F;
-		relShowdownProb[1541] = 0.26360756F;
-		relShowdownProb[1544] = 0.23964323F;
-		relShowdownProb[1545] = 0.2156789F;
-		relShowdownProb[1546] = 0.22766107F;
-		relShowdownProb[1549] = 0.07189297F;
-		relShowdownProb[1550] = 0.24763134F;
-		relShowdownProb[1551] = 0.17973243F;
-		relShowdownProb[1552] = 0.24230593F;
-		relShowdownProb[1561] = 0.3355005F;
-		relShowdownProb[1562] = 0.26360756F;
-		relShowdownProb[1565] = 0.19171458F;
-		relShowdownProb[1566] = 0.28757188F;
-		relShowdownProb[1567] = 0.19570863F;
-		relShowdownProb[1570] = 0.26360756F;
-		relShowdownProb[1571] = 0.2076908F;
-		relShowdownProb[1572] = 0.19171458F;
-		relShowdownProb[1573] = 0.2228682F;
-		relShowdownProb[1576] = 0.26360756F;
-		relShowdownProb[1577] = 0.27159566F;
-		relShowdownProb[1578] = 0.27159566F;
-		relShowdownProb[1579] = 0.19890387F;
-		relShowdownProb[1580] = 0.22081412F;
-		relShowdownProb[1589] = 0.23964323F;
-		relShowdownProb[1590] = 0.23964323F;
-		relShowdownProb[1593] = 0.28757188F;
-		relShowdownProb[1594] = 0.2076908F;
-		relShowdownProb[1595] = 0.1997027F;
-		relShowdownProb[1598] = 0.47928646F;
-		relShowdownProb[1599] = 0.2156789F;
-		relShowdownProb[1600] = 0.1997027F;
-		relShowdownProb[1601] = 0.15816453F;
-		relShowdownProb[1604] = 0.3115362F;
-		relShowdownProb[1605] = 0.19171458F;
-		relShowdownProb[1606] = 0.18372647F;
-		relShowdownProb[1607] = 0.18212885F;
-		relShowdownProb[1608] = 0.22047177F;
-		relShowdownProb[1611] = 0.38342917F;
-		relShowdownProb[1612] = 0.23165512F;
-		relShowdownProb[1613] = 0.22366701F;
-		relShowdownProb[1614] = 0.16056097F;
-		relShowdownProb[1615] = 0.19011696F;
-		relShowdownProb[1616] = 0.28397724F;
-		relShowdownProb[1625] = 0.23964323F;
-		relShowdownProb[1626] = 0.2516254F;
-		relShowdownProb[1629] = 0.26360756F;
-		relShowdownProb[1630] = 0.27958378F;
-		relShowdownProb[1631] = 0.19570863F;
-		relShowdownProb[1634] = 0.23964323F;
-		relShowdownProb[1635] = 0.23964323F;
-		relShowdownProb[1636] = 0.19171458F;
-		relShowdownProb[1637] = 0.20848961F;
-		relShowdownProb[1640] = 0.19171458F;
-		relShowdownProb[1641] = 0.15976216F;
-		relShowdownProb[1642] = 0.18372647F;
-		relShowdownProb[1643] = 0.21328248F;
-		relShowdownProb[1644] = 0.21887416F;
-		relShowdownProb[1647] = 0.2156789F;
-		relShowdownProb[1648] = 0.23964323F;
-		relShowdownProb[1649] = 0.2076908F;
-		relShowdownProb[1650] = 0.19171458F;
-		relShowdownProb[1651] = 0.22686225F;
-		relShowdownProb[1652] = 0.27958378F;
-		relShowdownProb[1655] = 0.28757188F;
-		relShowdownProb[1656] = 0.23964323F;
-		relShowdownProb[1657] = 0.28357783F;
-		relShowdownProb[1658] = 0.23964323F;
-		relShowdownProb[1659] = 0.22845988F;
-		relShowdownProb[1660] = 0.30925387F;
-		relShowdownProb[1661] = 0.34526375F;
-		relShowdownProb[1671] = 0.3355005F;
-		relShowdownProb[1675] = 0.35946485F;
-		relShowdownProb[1676] = 0.35547078F;
-		relShowdownProb[1680] = 0.34348863F;
-		relShowdownProb[1681] = 0.3634589F;
-		relShowdownProb[1682] = 0.35706842F;
-		relShowdownProb[1686] = 0.36745295F;
-		relShowdownProb[1687] = 0.3394946F;
-		relShowdownProb[1688] = 0.2899683F;
-		relShowdownProb[1689] = 0.3578672F;
-		relShowdownProb[1693] = 0.5352032F;
-		relShowdownProb[1694] = 0.4153816F;
-		relShowdownProb[1695] = 0.37623987F;
-		relShowdownProb[1696] = 0.37224582F;
-		relShowdownProb[1697] = 0.4370636F;
-		relShowdownProb[1701] = 0.45532215F;
-		relShowdownProb[1702] = 0.4073935F;
-		relShowdownProb[1703] = 0.4744936F;
-		relShowdownProb[1704] = 0.4904698F;
-		relShowdownProb[1705] = 0.47586298F;
-		relShowdownProb[1706] = 0.5580264F;
-		relShowdownProb[1710] = 0.68697727F;
-		relShowdownProb[1711] = 0.595114F;
-		relShowdownProb[1712] = 0.62546885F;
-		relShowdownProb[1713] = 0.565558F;
-		relShowdownProb[1714] = 0.5854142F;
-		relShowdownProb[1715] = 0.6333428F;
-		relShowdownProb[1716] = 0.7552185F;
-		relShowdownProb[1735] = 0.38342917F;
-		relShowdownProb[1736] = 0.3115362F;
-		relShowdownProb[1745] = 0.38342917F;
-		relShowdownProb[1746] = 0.371447F;
-		relShowdownProb[1749] = 0.45532215F;
-		relShowdownProb[1750] = 0.35147673F;
-		relShowdownProb[1751] = 0.28757188F;
-		relShowdownProb[1760] = 0.5991081F;
-		relShowdownProb[1761] = 0.26360756F;
-		relShowdownProb[1764] = 0.19171458F;
-		relShowdownProb[1765] = 0.23964323F;
-		relShowdownProb[1766] = 0.30195045F;
-		relShowdownProb[1769] = 0.47928646F;
-		relShowdownProb[1770] = 0.3275124F;
-		relShowdownProb[1771] = 0.19171458F;
-		relShowdownProb[1772] = 0.30088538F;
-		relShowdownProb[1781] = 0.28757188F;
-		relShowdownProb[1782] = 0.3115362F;
-		relShowdownProb[1785] = 0.35946485F;
-		relShowdownProb[1786] = 0.3994054F;
-		relShowdownProb[1787] = 0.29715762F;
-		relShowdownProb[1790] = 0.3355005F;
-		relShowdownProb[1791] = 0.37544104F;
-		relShowdownProb[1792] = 0.26360756F;
-		relShowdownProb[1793] = 0.2228682F;
-		relShowdownProb[1796] = 0.23964323F;
-		relShowdownProb[1797] = 0.29555997F;
-		relShowdownProb[1798] = 0.22766107F;
-		relShowdownProb[1799] = 0.2372468F;
-		relShowdownProb[1800] = 0.24649018F;
-		relShowdownProb[1809] = 0.35946485F;
-		relShowdownProb[1810] = 0.26360756F;
-		relShowdownProb[1813] = 0.35946485F;
-		relShowdownProb[1814] = 0.44733402F;
-		relShowdownProb[1815] = 0.2444361F;
-		relShowdownProb[1818] = 0.35946485F;
-		relShowdownProb[1819] = 0.27159566F;
-		relShowdownProb[1820] = 0.33150646F;
-		relShowdownProb[1821] = 0.24683252F;
-		relShowdownProb[1824] = 0.23964323F;
-		relShowdownProb[1825] = 0.3355005F;
-		relShowdownProb[1826] = 0.19570863F;
-		relShowdownProb[1827] = 0.25402182F;
-		relShowdownProb[1828] = 0.2604123F;
-		relShowdownProb[1831] = 0.28757188F;
-		relShowdownProb[1832] = 0.3035481F;
-		relShowdownProb[1833] = 0.2516254F;
-		relShowdownProb[1834] = 0.24683252F;
-		relShowdownProb[1835] = 0.2076908F;
-		relShowdownProb[1836] = 0.2899683F;
-		relShowdownProb[1845] = 0.5032508F;
-		relShowdownProb[1846] = 0.2755897F;
-		relShowdownProb[1849] = 0.3355005F;
-		relShowdownProb[1850] = 0.29555997F;
-		relShowdownProb[1851] = 0.29715762F;
-		relShowdownProb[1854] = 0.28757188F;
-		relShowdownProb[1855] = 0.2156789F;
-		relShowdownProb[1856] = 0.26360756F;
-		relShowdownProb[1857] = 0.26121113F;
-		relShowdownProb[1860] = 0.3115362F;
-		relShowdownProb[1861] = 0.3035481F;
-		relShowdownProb[1862] = 0.2676016F;
-		relShowdownProb[1863] = 0.27319327F;
-		relShowdownProb[1864] = 0.23325275F;
-		relShowdownProb[1867] = 0.4073935F;
-		relShowdownProb[1868] = 0.28757188F;
-		relShowdownProb[1869] = 0.29955405F;
-		relShowdownProb[1870] = 0.25402182F;
-		relShowdownProb[1871] = 0.24603371F;
-		relShowdownProb[1872] = 0.29898345F;
-		relShowdownProb[1875] = 0.47928646F;
-		relShowdownProb[1876] = 0.35147673F;
-		relShowdownProb[1877] = 0.32351837F;
-		relShowdownProb[1878] = 0.2444361F;
-		relShowdownProb[1879] = 0.3115362F;
-		relShowdownProb[1880] = 0.28186607F;
-		relShowdownProb[1881] = 0.33993837F;
-		relShowdownProb[1891] = 0.5032508F;
-		relShowdownProb[1895] = 0.57514375F;
-		relShowdownProb[1896] = 0.37384343F;
-		relShowdownProb[1900] = 0.47928646F;
-		relShowdownProb[1901] = 0.4073935F;
-		relShowdownProb[1902] = 0.3930149F;
-		relShowdownProb[1906] = 0.5431913F;
-		relShowdownProb[1907] = 0.39141726F;
-		relShowdownProb[1908] = 0.41218635F;
-		relShowdownProb[1909] = 0.37544104F;
-		relShowdownProb[1913] = 0.6070962F;
-		relShowdownProb[1914] = 0.55517346F;
-		relShowdownProb[1915] = 0.3786363F;
-		relShowdownProb[1916] = 0.39141726F;
-		relShowdownProb[1917] = 0.46216908F;
-		relShowdownProb[1921] = 0.5511794F;
-		relShowdownProb[1922] = 0.48727456F;
-		relShowdownProb[1923] = 0.4888722F;
-		relShowdownProb[1924] = 0.48727456F;
-		relShowdownProb[1925] = 0.53748554F;
-		relShowdownProb[1926] = 0.5049625F;
-		relShowdownProb[1930] = 0.6789892F;
-		relShowdownProb[1931] = 0.6909713F;
-		relShowdownProb[1932] = 0.5991081F;
-		relShowdownProb[1933] = 0.6326581F;
-		relShowdownProb[1934] = 0.66643643F;
-		relShowdownProb[1935] = 0.6855508F;
-		relShowdownProb[1936] = 0.7175603F;
-		relShowdownProb[1955] = 0.7908227F;
-		relShowdownProb[1956] = 0.5991081F;
-		relShowdownProb[1965] = 0.5991081F;
-		relShowdownProb[1966] = 0.4313578F;
-		relShowdownProb[1969] = 0.5032508F;
-		relShowdownProb[1970] = 0.4073935F;
-		relShowdownProb[1971] = 0.29555997F;
-		relShowdownProb[1980] = 0.4073935F;
-		relShowdownProb[1981] = 0.4912686F;
-		relShowdownProb[1984] = 0.38342917F;
-		relShowdownProb[1985] = 0.51922697F;
-		relShowdownProb[1986] = 0.3642577F;
-		relShowdownProb[1989] = 0.4313578F;
-		relShowdownProb[1990] = 0.31952432F;
-		relShowdownProb[1991] = 0.3634589F;
-		relShowdownProb[1992] = 0.35413945F;
-		relShowdownProb[2001] = 0.3115362F;
-		relShowdownProb[2002] = 0.5871259F;
-		relShowdownProb[2005] = 0.5032508F;
-		relShowdownProb[2006] = 0.4313578F;
-		relShowdownProb[2007] = 0.3355005F;
-		relShowdownProb[2010] = 0.3115362F;
-		relShowdownProb[2011] = 0.4313578F;
-		relShowdownProb[2012] = 0.3994054F;
-		relShowdownProb[2013] = 0.3062108F;
-		relShowdownProb[2016] = 0.3355005F;
-		relShowdownProb[2017] = 0.27958378F;
-		relShowdownProb[2018] = 0.31553024F;
-		relShowdownProb[2019] = 0.26840043F;
-		relShowdownProb[2020] = 0.33721226F;
-		relShowdownProb[2029] = 0.4073935F;
-		relShowdownProb[2030] = 0.45532215F;
-		relShowdownProb[2033] = 0.38342917F;
-		relShowdownProb[2034] = 0.43934593F;
-		relShowdownProb[2035] = 0.38342917F;
-		relShowdownProb[2038] = 0.38342917F;
-		relShowdownProb[2039] = 0.29555997F;
-		relShowdownProb[2040] = 0.3394946F;
-		relShowdownProb[2041] = 0.28757188F;
-		relShowdownProb[2044] = 0.35946485F;
-		relShowdownProb[2045] = 0.36745295F;
-		relShowdownProb[2046] = 0.29156592F;
-		relShowdownProb[2047] = 0.27798614F;
-		relShowdownProb[2048] = 0.2668028F;
-		relShowdownProb[2051] = 0.3115362F;
-		relShowdownProb[2052] = 0.34348863F;
-		relShowdownProb[2053] = 0.29955405F;
-		relShowdownProb[2054] = 0.28038257F;
-		relShowdownProb[2055] = 0.2604123F;
-		relShowdownProb[2056] = 0.31632906F;
-		relShowdownProb[2065] = 0.47928646F;
-		relShowdownProb[2066] = 0.4313578F;
-		relShowdownProb[2069] = 0.38342917F;
-		relShowdownProb[2070] = 0.47129834F;
-		relShowdownProb[2071] = 0.3259148F;
-		relShowdownProb[2074] = 0.47928646F;
-		relShowdownProb[2075] = 0.35946485F;
-		relShowdownProb[2076] = 0.32351837F;
-		relShowdownProb[2077] = 0.3035481F;
-		relShowdownProb[2080] = 0.38342917F;
-		relShowdownProb[2081] = 0.36745295F;
-		relShowdownProb[2082] = 0.28757188F;
-		relShowdownProb[2083] = 0.3043469F;
-		relShowdownProb[2084] = 0.2300575F;
-		relShowdownProb[2087] = 0.3115362F;
-		relShowdownProb[2088] = 0.3994054F;
-		relShowdownProb[2089] = 0.32351837F;
-		relShowdownProb[2090] = 0.29715762F;
-		relShowdownProb[2091] = 0.26999804F;
-		relShowdownProb[2092] = 0.30583042F;
-		relShowdownProb[2095] = 0.28757188F;
-		relShowdownProb[2096] = 0.34348863F;
-		relShowdownProb[2097] = 0.3115362F;
-		relShowdownProb[2098] = 0.28517544F;
-		relShowdownProb[2099] = 0.2811814F;
-		relShowdownProb[2100] = 0.30468926F;
-		relShowdownProb[2101] = 0.38964215F;
-		relShowdownProb[2111] = 0.69496536F;
-		relShowdownProb[2115] = 0.5112389F;
-		relShowdownProb[2116] = 0.5272151F;
-		relShowdownProb[2120] = 0.47129834F;
-		relShowdownProb[2121] = 0.47928646F;
-		relShowdownProb[2122] = 0.48727456F;
-		relShowdownProb[2126] = 0.58313185F;
-		relShowdownProb[2127] = 0.48727456F;
-		relShowdownProb[2128] = 0.41697922F;
-		relShowdownProb[2129] = 0.3930149F;
-		relShowdownProb[2133] = 0.55916756F;
-		relShowdownProb[2134] = 0.5272151F;
-		relShowdownProb[2135] = 0.5008544F;
-		relShowdownProb[2136] = 0.41058874F;
-		relShowdownProb[2137] = 0.4781453F;
-		relShowdownProb[2141] = 0.6230724F;
-		relShowdownProb[2142] = 0.56715566F;
-		relShowdownProb[2143] = 0.4984579F;
-		relShowdownProb[2144] = 0.506446F;
-		relShowdownProb[2145] = 0.5705791F;
-		relShowdownProb[2146] = 0.5854142F;
-		relShowdownProb[2150] = 0.71094155F;
-		relShowdownProb[2151] = 0.62706643F;
-		relShowdownProb[2152] = 0.65662247F;
-		relShowdownProb[2153] = 0.60549855F;
-		relShowdownProb[2154] = 0.6618718F;
-		relShowdownProb[2155] = 0.6812715F;
-		relShowdownProb[2156] = 0.7682277F;
-		relShowdownProb[2175] = 0.7189297F;
-		relShowdownProb[2176] = 0.5272151F;
-		relShowdownProb[2185] = 0.5511794F;
-		relShowdownProb[2186] = 0.4673043F;
-		relShowdownProb[2189] = 0.45532215F;
-		relShowdownProb[2190] = 0.51922697F;
-		relShowdownProb[2191] = 0.5032508F;
-		relShowdownProb[2200] = 0.4313578F;
-		relShowdownProb[2201] = 0.5631616F;
-		relShowdownProb[2204] = 0.45532215F;
-		relShowdownProb[2205] = 0.46331024F;
-		relShowdownProb[2206] = 0.56076515F;
-		relShowdownProb[2209] = 0.5511794F;
-		relShowdownProb[2210] = 0.37544104F;
-		relShowdownProb[2211] = 0.39141726F;
-		relShowdownProb[2212] = 0.33150646F;
-		relShowdownProb[2221] = 0.28757188F;
-		relShowdownProb[2222] = 0.53919727F;
-		relShowdownProb[2225] = 0.35946485F;
-		relShowdownProb[2226] = 0.5032508F;
-		relShowdownProb[2227] = 0.41218635F;
-		relShowdownProb[2230] = 0.5272151F;
-		relShowdownProb[2231] = 0.37544104F;
-		relShowdownProb[2232] = 0.3355005F;
-		relShowdownProb[2233] = 0.4180443F;
-		relShowdownProb[2236] = 0.38342917F;
-		relShowdownProb[2237] = 0.43934593F;
-		relShowdownProb[2238] = 0.37943512F;
-		relShowdownProb[2239] = 0.35227555F;
-		relShowdownProb[2240] = 0.35946485F;
-		relShowdownProb[2249] = 0.23964323F;
-		relShowdownProb[2250] = 0.47928646F;
-		relShowdownProb[2253] = 0.38342917F;
-		relShowdownProb[2254] = 0.5431913F;
-		relShowdownProb[2255] = 0.37384343F;
-		relShowdownProb[2258] = 0.2156789F;
-		relShowdownProb[2259] = 0.36745295F;
-		relShowdownProb[2260] = 0.35946485F;
-		relShowdownProb[2261] = 0.4073935F;
-		relShowdownProb[2264] = 0.3355005F;
-		relShowdownProb[2265] = 0.4153816F;
-		relShowdownProb[2266] = 0.41937566F;
-		relShowdownProb[2267] = 0.34987912F;
-		relShowdownProb[2268] = 0.2978423F;
-		relShowdownProb[2271] = 0.26360756F;
-		relShowdownProb[2272] = 0.3994054F;
-		relShowdownProb[2273] = 0.38742322F;
-		relShowdownProb[2274] = 0.3187255F;
-		relShowdownProb[2275] = 0.3259148F;
-		relShowdownProb[2276] = 0.3426898F;
-		relShowdownProb[2285] = 0.4073935F;
-		relShowdownProb[2286] = 0.5511794F;
-		relShowdownProb[2289] = 0.4313578F;
-		relShowdownProb[2290] = 0.46331024F;
-		relShowdownProb[2291] = 0.4888722F;
-		relShowdownProb[2294] = 0.28757188F;
-		relShowdownProb[2295] = 0.44733402F;
-		relShowdownProb[2296] = 0.45132807F;
-		relShowdownProb[2297] = 0.38076645F;
-		relShowdownProb[2300] = 0.35946485F;
-		relShowdownProb[2301] = 0.38342917F;
-		relShowdownProb[2302] = 0.3634589F;
-		relShowdownProb[2303] = 0.35227555F;
-		relShowdownProb[2304] = 0.2978423F;
-		relShowdownProb[2307] = 0.3115362F;
-		relShowdownProb[2308] = 0.35946485F;
-		relShowdownProb[2309] = 0.4153816F;
-		relShowdownProb[2310] = 0.31632906F;
-		relShowdownProb[2311] = 0.31792668F;
-		relShowdownProb[2312] = 0.34577096F;
-		relShowdownProb[2315] = 0.5032508F;
-		relShowdownProb[2316] = 0.4073935F;
-		relShowdownProb[2317] = 0.45132807F;
-		relShowdownProb[2318] = 0.3355005F;
-		relShowdownProb[2319] = 0.32911003F;
-		relShowdownProb[2320] = 0.37772337F;
-		relShowdownProb[2321] = 0.39230484F;
-		relShowdownProb[2330] = 0.69496536F;
-		relShowdownProb[2331] = 0.6350545F;
-		relShowdownProb[2334] = 0.4313578F;
-		relShowdownProb[2335] = 0.43934593F;
-		relShowdownProb[2336] = 0.5511794F;
-		relShowdownProb[2339] = 0.45532215F;
-		relShowdownProb[2340] = 0.5352032F;
-		relShowdownProb[2341] = 0.4593162F;
-		relShowdownProb[2342] = 0.5112389F;
-		relShowdownProb[2345] = 0.4313578F;
-		relShowdownProb[2346] = 0.49526268F;
-		relShowdownProb[2347] = 0.5312092F;
-		relShowdownProb[2348] = 0.5128365F;
-		relShowdownProb[2349] = 0.4587456F;
-		relShowdownProb[2352] = 0.45532215F;
-		relShowdownProb[2353] = 0.48727456F;
-		relShowdownProb[2354] = 0.5152329F;
-		relShowdownProb[2355] = 0.47689003F;
-		relShowdownProb[2356] = 0.5032508F;
-		relShowdownProb[2357] = 0.47586298F;
-		relShowdownProb[2360] = 0.5032508F;
-		relShowdownProb[2361] = 0.5511794F;
-		relShowdownProb[2362] = 0.5272151F;
-		relShowdownProb[2363] = 0.52481866F;
-		relShowdownProb[2364] = 0.50005555F;
-		relShowdownProb[2365] = 0.5603087F;
-		relShowdownProb[2366] = 0.6179372F;
-		relShowdownProb[2369] = 0.7908227F;
-		relShowdownProb[2370] = 0.7988108F;
-		relShowdownProb[2371] = 0.7189297F;
-		relShowdownProb[2372] = 0.7069475F;
-		relShowdownProb[2373] = 0.68697727F;
-		relShowdownProb[2374] = 0.6687187F;
-		relShowdownProb[2375] = 0.7266325F;
-		relShowdownProb[2376] = 0.8010931F;
-		relShowdownProb[2392] = 0.8387513F;
-		relShowdownProb[2395] = 0.57514375F;
-		relShowdownProb[2396] = 0.9585729F;
-		relShowdownProb[2402] = 0.69496536F;
-		relShowdownProb[2405] = 0.3115362F;
-		relShowdownProb[2406] = 0.7189297F;
-		relShowdownProb[2409] = 0.28757188F;
-		relShowdownProb[2410] = 0.63904864F;
-		relShowdownProb[2411] = 0.7508821F;
-		relShowdownProb[2417] = 0.45532215F;
-		relShowdownProb[2420] = 0.6230724F;
-		relShowdownProb[2421] = 0.64703673F;
-		relShowdownProb[2424] = 0.38342917F;
-		relShowdownProb[2425] = 0.5511794F;
-		relShowdownProb[2426] = 0.62786525F;
-		relShowdownProb[2429] = 0.38342917F;
-		relShowdownProb[2430] = 0.4313578F;
-		relShowdownProb[2431] = 0.5431913F;
-		relShowdownProb[2432] = 0.62706643F;
-		relShowdownProb[2438] = 0.45532215F;
-		relShowdownProb[2441] = 0.35946485F;
-		relShowdownProb[2442] = 0.671001F;
-		relShowdownProb[2445] = 0.38342917F;
-		relShowdownProb[2446] = 0.47928646F;
-		relShowdownProb[2447] = 0.4888722F;
-		relShowdownProb[2450] = 0.4073935F;
-		relShowdownProb[2451] = 0.48727456F;
-		relShowdownProb[2452] = 0.5991081F;
-		relShowdownProb[2453] = 0.58579457F;
-		relShowdownProb[2456] = 0.3115362F;
-		relShowdownProb[2457] = 0.4313578F;
-		relShowdownProb[2458] = 0.43934593F;
-		relShowdownProb[2459] = 0.460115F;
-		relShowdownProb[2460] = 0.37384343F;
-		relShowdownProb[2466] = 0.4073935F;
-		relShowdownProb[2469] = 0.35946485F;
-		relShowdownProb[2470] = 0.6350545F;
-		relShowdownProb[2473] = 0.38342917F;
-		relShowdownProb[2474] = 0.47129834F;
-		relShowdownProb[2475] = 0.52242225F;
-		relShowdownProb[2478] = 0.26360756F;
-		relShowdownProb[2479] = 0.4073935F;
-		relShowdownProb[2480] = 0.4313578F;
-		relShowdownProb[2481] = 0.5272151F;
-		relShowdownProb[2484] = 0.45532215F;
-		relShowdownProb[2485] = 0.36745295F;
-		relShowdownProb[2486] = 0.34748268F;
-		relShowdownProb[2487] = 0.40499705F;
-		relShowdownProb[2488] = 0.46216908F;
-		relShowdownProb[2491] = 0.3355005F;
-		relShowdownProb[2492] = 0.4153816F;
-		relShowdownProb[2493] = 0.42736375F;
-		relShowdownProb[2494] = 0.33070767F;
-		relShowdownProb[2495] = 0.3802339F;
-		relShowdownProb[2496] = 0.3774381F;
-		relShowdownProb[2502] = 0.5511794F;
-		relShowdownProb[2505] = 0.57514375F;
-		relShowdownProb[2506] = 0.64703673F;
-		relShowdownProb[2509] = 0.3115362F;
-		relShowdownProb[2510] = 0.5112389F;
-		relShowdownProb[2511] = 0.5176294F;
-		relShowdownProb[2514] = 0.3355005F;
-		relShowdownProb[2515] = 0.4153816F;
-		relShowdownProb[2516] = 0.3634589F;
-		relShowdownProb[2517] = 0.44733402F;
-		relShowdownProb[2520] = 0.28757188F;
-		relShowdownProb[2521] = 0.28757188F;
-		relShowdownProb[2522] = 0.47928646F;
-		relShowdownProb[2523] = 0.4529257F;
-		relShowdownProb[2524] = 0.43820477F;
-		relShowdownProb[2527] = 0.3355005F;
-		relShowdownProb[2528] = 0.38342917F;
-		relShowdownProb[2529] = 0.41937566F;
-		relShowdownProb[2530] = 0.3930149F;
-		relShowdownProb[2531] = 0.38183156F;
-		relShowdownProb[2532] = 0.43615067F;
-		relShowdownProb[2535] = 0.35946485F;
-		relShowdownProb[2536] = 0.47928646F;
-		relShowdownProb[2537] = 0.4073935F;
-		relShowdownProb[2538] = 0.43375424F;
-		relShowdownProb[2539] = 0.40260062F;
-		relShowdownProb[2540] = 0.42108738F;
-		relShowdownProb[2541] = 0.45975998F;
-		relShowdownProb[2550] = 0.5032508F;
-		relShowdownProb[2551] = 0.7548762F;
-		relShowdownProb[2554] = 0.35946485F;
-		relShowdownProb[2555] = 0.69496536F;
-		relShowdownProb[2556] = 0.69496536F;
-		relShowdownProb[2559] = 0.38342917F;
-		relShowdownProb[2560] = 0.46331024F;
-		relShowdownProb[2561] = 0.6510308F;
-		relShowdownProb[2562] = 0.5884573F;
-		relShowdownProb[2565] = 0.35946485F;
-		relShowdownProb[2566] = 0.5431913F;
-		relShowdownProb[2567] = 0.5711497F;
-		relShowdownProb[2568] = 0.58952236F;
-		relShowdownProb[2569] = 0.6093785F;
-		relShowdownProb[2572] = 0.742894F;
-		relShowdownProb[2573] = 0.51922697F;
-		relShowdownProb[2574] = 0.6150843F;
-		relShowdownProb[2575] = 0.6039009F;
-		relShowdownProb[2576] = 0.53680086F;
-		relShowdownProb[2577] = 0.5571705F;
-		relShowdownProb[2580] = 0.6230724F;
-		relShowdownProb[2581] = 0.6150843F;
-		relShowdownProb[2582] = 0.66700697F;
-		relShowdownProb[2583] = 0.5727473F;
-		relShowdownProb[2584] = 0.6039009F;
-		relShowdownProb[2585] = 0.5546029F;
-		relShowdownProb[2586] = 0.66329825F;
-		relShowdownProb[2589] = 0.9585729F;
-		relShowdownProb[2590] = 0.7908227F;
-		relShowdownProb[2591] = 0.742894F;
-		relShowdownProb[2592] = 0.69975823F;
-		relShowdownProb[2593] = 0.7013559F;
-		relShowdownProb[2594] = 0.73148245F;
-		relShowdownProb[2595] = 0.7865433F;
-		relShowdownProb[2596] = 0.85792273F;
-		relShowdownProb[2612] = 0.5991081F;
-		relShowdownProb[2615] = 0.6230724F;
-		relShowdownProb[2616] = 1.0304658F;
-		relShowdownProb[2622] = 0.64703673F;
-		relShowdownProb[2625] = 0.57514375F;
-		relShowdownProb[2626] = 0.77484643F;
-		relShowdownProb[2629] = 0.6230724F;
-		relShowdownProb[2630] = 0.75887024F;
-		relShowdownProb[2631] = 0.87070376F;
-		relShowdownProb[2637] = 0.45532215F;
-		relShowdownProb[2640] = 0.47928646F;
-		relShowdownProb[2641] = 0.6070962F;
-		relShowdownProb[2644] = 0.6230724F;
-		relShowdownProb[2645] = 0.49526268F;
-		relShowdownProb[2646] = 0.7381011F;
-		relShowdownProb[2649] = 0.6230724F;
-		relShowdownProb[2650] = 0.59111995F;
-		relShowdownProb[2651] = 0.6230724F;
-		relShowdownProb[2652] = 0.8307632F;
-		relShowdownProb[2658] = 0.5032508F;
-		relShowdownProb[2661] = 0.5511794F;
-		relShowdownProb[2662] = 0.63904864F;
-		relShowdownProb[2665] = 0.5511794F;
-		relShowdownProb[2666] = 0.5352032F;
-		relShowdownProb[2667] = 0.671001F;
-		relShowdownProb[2670] = 0.5032508F;
-		relShowdownProb[2671] = 0.5431913F;
-		relShowdownProb[2672] = 0.55916756F;
-		relShowdownProb[2673] = 0.68431455F;
-		relShowdownProb[2676] = 0.5032508F;
-		relShowdownProb[2677] = 0.4073935F;
-		relShowdownProb[2678] = 0.4593162F;
-		relShowdownProb[2679] = 0.61348665F;
-		relShowdownProb[2680] = 0.6877761F;
-		relShowdownProb[2686] = 0.4313578F;
-		relShowdownProb[2689] = 0.47928646F;
-		relShowdownProb[2690] = 0.68697727F;
-		relShowdownProb[2693] = 0.69496536F;
-		relShowdownProb[2694] = 0.6150843F;
-		relShowdownProb[2695] = 0.6518296F;
-		relShowdownProb[2698] = 0.47928646F;
-		relShowdownProb[2699] = 0.44733402F;
-		relShowdownProb[2700] = 0.5232211F;
-		relShowdownProb[2701] = 0.60177076F;
-		relShowdownProb[2704] = 0.3355005F;
-		relShowdownProb[2705] = 0.46331024F;
-		relShowdownProb[2706] = 0.4912686F;
-		relShowdownProb[2707] = 0.5631616F;
-		relShowdownProb[2708] = 0.61280197F;
-		relShowdownProb[2711] = 0.38342917F;
-		relShowdownProb[2712] = 0.4153816F;
-		relShowdownProb[2713] = 0.40339944F;
-		relShowdownProb[2714] = 0.44813284F;
-		relShowdownProb[2715] = 0.55916756F;
-		relShowdownProb[2716] = 0.4904698F;
-		relShowdownProb[2722] = 0.5032508F;
-		relShowdownProb[2725] = 0.38342917F;
-		relShowdownProb[2726] = 0.5431913F;
-		relShowdownProb[2729] = 0.5991081F;
-		relShowdownProb[2730] = 0.5352032F;
-		relShowdownProb[2731] = 0.66620815F;
-		relShowdownProb[2734] = 0.5272151F;
-		relShowdownProb[2735] = 0.48727456F;
-		relShowdownProb[2736] = 0.56715566F;
-		relShowdownProb[2737] = 0.68165183F;
-		relShowdownProb[2740] = 0.45532215F;
-		relShowdownProb[2741] = 0.5112389F;
-		relShowdownProb[2742] = 0.5511794F;
-		relShowdownProb[2743] = 0.57514375F;
-		relShowdownProb[2744] = 0.55631465F;
-		relShowdownProb[2747] = 0.5272151F;
-		relShowdownProb[2748] = 0.5272151F;
-		relShowdownProb[2749] = 0.4073935F;
-		relShowdownProb[2750] = 0.48647577F;
-		relShowdownProb[2751] = 0.46331024F;
-		relShowdownProb[2752] = 0.504449F;
-		relShowdownProb[2755] = 0.35946485F;
-		relShowdownProb[2756] = 0.37544104F;
-		relShowdownProb[2757] = 0.45132807F;
-		relShowdownProb[2758] = 0.49606147F;
-		relShowdownProb[2759] = 0.4441388F;
-		relShowdownProb[2760] = 0.44391054F;
-		relShowdownProb[2761] = 0.52632755F;
-		relShowdownProb[2770] = 0.5511794F;
-		relShowdownProb[2771] = 0.71094155F;
-		relShowdownProb[2774] = 0.6230724F;
-		relShowdownProb[2775] = 0.68697727F;
-		relShowdownProb[2776] = 0.84833705F;
-		relShowdownProb[2779] = 0.6230724F;
-		relShowdownProb[2780] = 0.6550248F;
-		relShowdownProb[2781] = 0.6430427F;
-		relShowdownProb[2782] = 0.671001F;
-		relShowdownProb[2785] = 0.814787F;
-		relShowdownProb[2786] = 0.5511794F;
-		relShowdownProb[2787] = 0.6310605F;
-		relShowdownProb[2788] = 0.65662247F;
-		relShowdownProb[2789] = 0.70352405F;
-		relShowdownProb[2792] = 0.69496536F;
-		relShowdownProb[2793] = 0.70295346F;
-		relShowdownProb[2794] = 0.5991081F;
-		relShowdownProb[2795] = 0.7069475F;
-		relShowdownProb[2796] = 0.65023196F;
-		relShowdownProb[2797] = 0.68657786F;
-		relShowdownProb[2800] = 0.57514375F;
-		relShowdownProb[2801] = 0.6230724F;
-		relShowdownProb[2802] = 0.6430427F;
-		relShowdownProb[2803] = 0.66381174F;
-		relShowdownProb[2804] = 0.70934397F;
-		relShowdownProb[2805] = 0.6504602F;
-		relShowdownProb[2806] = 0.7464443F;
-		relShowdownProb[2809] = 0.8627156F;
-		relShowdownProb[2810] = 0.8467394F;
-		relShowdownProb[2811] = 0.74688804F;
-		relShowdownProb[2812] = 0.9130407F;
-		relShowdownProb[2813] = 0.7860298F;
-		relShowdownProb[2814] = 0.74745864F;
-		relShowdownProb[2815] = 0.79595786F;
-		relShowdownProb[2816] = 0.91338307F;
-		relShowdownProb[2832] = 0.814787F;
-		relShowdownProb[2835] = 0.8387513F;
-		relShowdownProb[2836] = 0.7189297F;
-		relShowdownProb[2842] = 0.742894F;
-		relShowdownProb[2845] = 0.5991081F;
-		relShowdownProb[2846] = 0.7508821F;
-		relShowdownProb[2849] = 0.8387513F;
-		relShowdownProb[2850] = 0.8627156F;
-		relShowdownProb[2851] = 1.0544302F;
-		relShowdownProb[2857] = 0.64703673F;
-		relShowdownProb[2860] = 0.7189297F;
-		relShowdownProb[2861] = 0.6789892F;
-		relShowdownProb[2864] = 0.5032508F;
-		relShowdownProb[2865] = 0.6310605F;
-		relShowdownProb[2866] = 0.71094155F;
-		relShowdownProb[2869] = 0.7908227F;
-		relShowdownProb[2870] = 0.64703673F;
-		relShowdownProb[2871] = 0.82277507F;
-		relShowdownProb[2872] = 0.890674F;
-		relShowdownProb[2878] = 0.9106443F;
-		relShowdownProb[2881] = 0.6230724F;
-		relShowdownProb[2882] = 0.5991081F;
-		relShowdownProb[2885] = 0.5032508F;
-		relShowdownProb[2886] = 0.6150843F;
-		relShowdownProb[2887] = 0.6350545F;
-		relShowdownProb[2890] = 0.64703673F;
-		relShowdownProb[2891] = 0.70295346F;
-		relShowdownProb[2892] = 0.71094155F;
-		relShowdownProb[2893] = 0.76685834F;
-		relShowdownProb[2896] = 0.6230724F;
-		relShowdownProb[2897] = 0.46331024F;
-		relShowdownProb[2898] = 0.60310215F;
-		relShowdownProb[2899] = 0.69256896F;
-		relShowdownProb[2900] = 0.8962657F;
-		relShowdownProb[2906] = 0.6230724F;
-		relShowdownProb[2909] = 0.5272151F;
-		relShowdownProb[2910] = 0.63904864F;
-		relShowdownProb[2913] = 0.5991081F;
-		relShowdownProb[2914] = 0.57514375F;
-		relShowdownProb[2915] = 0.7708524F;
-		relShowdownProb[2918] = 0.64703673F;
-		relShowdownProb[2919] = 0.77484643F;
-		relShowdownProb[2920] = 0.6310605F;
-		relShowdownProb[2921] = 0.8334259F;
-		relShowdownProb[2924] = 0.671001F;
-		relShowdownProb[2925] = 0.56715566F;
-		relShowdownProb[2926] = 0.6510308F;
-		relShowdownProb[2927] = 0.69496536F;
-		relShowdownProb[2928] = 0.7548762F;
-		relShowdownProb[2931] = 0.5272151F;
-		relShowdownProb[2932] = 0.55916756F;
-		relShowdownProb[2933] = 0.5072448F;
-		relShowdownProb[2934] = 0.5559723F;
-		relShowdownProb[2935] = 0.6598177F;
-		relShowdownProb[2936] = 0.7492845F;
-		relShowdownProb[2942] = 0.64703673F;
-		relShowdownProb[2945] = 0.3115362F;
-		relShowdownProb[2946] = 0.6789892F;
-		relShowdownProb[2949] = 0.5511794F;
-		relShowdownProb[2950] = 0.64703673F;
-		relShowdownProb[2951] = 0.66700697F;
-		relShowdownProb[2954] = 0.64703673F;
-		relShowdownProb[2955] = 0.77484643F;
-		relShowdownProb[2956] = 0.71493566F;
-		relShowdownProb[2957] = 0.8494021F;
-		relShowdownProb[2960] = 0.5991081F;
-		relShowdownProb[2961] = 0.63904864F;
-		relShowdownProb[2962] = 0.5112389F;
-		relShowdownProb[2963] = 0.62546885F;
-		relShowdownProb[2964] = 0.7531644F;
-		relShowdownProb[2967] = 0.64703673F;
-		relShowdownProb[2968] = 0.6150843F;
-		relShowdownProb[2969] = 0.5431913F;
-		relShowdownProb[2970] = 0.5344044F;
-		relShowdownProb[2971] = 0.67259866F;
-		relShowdownProb[2972] = 0.7440922F;
-		relShowdownProb[2975] = 0.3355005F;
-		relShowdownProb[2976] = 0.51922697F;
-		relShowdownProb[2977] = 0.53919727F;
-		relShowdownProb[2978] = 0.5200258F;
-		relShowdownProb[2979] = 0.64703673F;
-		relShowdownProb[2980] = 0.5991081F;
-		relShowdownProb[2981] = 0.59226114F;
-		relShowdownProb[2990] = 0.8387513F;
-		relShowdownProb[2991] = 0.63904864F;
-		relShowdownProb[2994] = 0.9585729F;
-		relShowdownProb[2995] = 0.8547275F;
-		relShowdownProb[2996] = 0.8547275F;
-		relShowdownProb[2999] = 0.76685834F;
-		relShowdownProb[3000] = 0.8627156F;
-		relShowdownProb[3001] = 0.78283453F;
-		relShowdownProb[3002] = 0.8440767F;
-		relShowdownProb[3005] = 0.5991081F;
-		relShowdownProb[3006] = 0.71094155F;
-		relShowdownProb[3007] = 0.6310605F;
-		relShowdownProb[3008] = 0.742894F;
-		relShowdownProb[3009] = 0.8353278F;
-		relShowdownProb[3012] = 0.64703673F;
-		relShowdownProb[3013] = 0.68697727F;
-		relShowdownProb[3014] = 0.68697727F;
-		relShowdownProb[3015] = 0.6901725F;
-		relShowdownProb[3016] = 0.7876274F;
-		relShowdownProb[3017] = 0.81239057F;
-		relShowdownProb[3020] = 0.7908227F;
-		relShowdownProb[3021] = 0.7988108F;
-		relShowdownProb[3022] = 0.71094155F;
-		relShowdownProb[3023] = 0.80040836F;
-		relShowdownProb[3024] = 0.82277507F;
-		relShowdownProb[3025] = 0.85130405F;
-		relShowdownProb[3026] = 0.84851456F;
-		relShowdownProb[3029] = 0.88667995F;
-		relShowdownProb[3030] = 0.78283453F;
-		relShowdownProb[3031] = 0.7788405F;
-		relShowdownProb[3032] = 0.8794907F;
-		relShowdownProb[3033] = 0.9186324F;
-		relShowdownProb[3034] = 0.87869185F;
-		relShowdownProb[3035] = 0.9277616F;
-		relShowdownProb[3036] = 1.0017087F;
-		relShowdownProb[3052] = 0.8387513F;
-		relShowdownProb[3055] = 0.6230724F;
-		relShowdownProb[3056] = 0.7189297F;
-		relShowdownProb[3062] = 0.9346086F;
-		relShowdownProb[3065] = 0.8627156F;
-		relShowdownProb[3066] = 0.64703673F;
-		relShowdownProb[3069] = 0.76685834F;
-		relShowdownProb[3070] = 0.7269178F;
-		relShowdownProb[3071] = 1.0017087F;
-		relShowdownProb[3077] = 0.5991081F;
-		relShowdownProb[3080] = 0.9825372F;
-		relShowdownProb[3081] = 0.8067989F;
-		relShowdownProb[3084] = 0.64703673F;
-		relShowdownProb[3085] = 0.9346086F;
-		relShowdownProb[3086] = 0.8307632F;
-		relShowdownProb[3089] = 0.5272151F;
-		relShowdownProb[3090] = 0.814787F;
-		relShowdownProb[3091] = 0.97055507F;
-		relShowdownProb[3092] = 1.1542815F;
-		relShowdownProb[3098] = 0.64703673F;
-		relShowdownProb[3101] = 0.45532215F;
-		relShowdownProb[3102] = 0.78283453F;
-		relShowdownProb[3105] = 0.57514375F;
-		relShowdownProb[3106] = 0.75887024F;
-		relShowdownProb[3107] = 0.8627156F;
-		relShowdownProb[3110] = 0.8387513F;
-		relShowdownProb[3111] = 0.71094155F;
-		relShowdownProb[3112] = 0.84274536F;
-		relShowdownProb[3113] = 0.86990494F;
-		relShowdownProb[3116] = 0.69496536F;
-		relShowdownProb[3117] = 0.8307632F;
-		relShowdownProb[3118] = 0.8986621F;
-		relShowdownProb[3119] = 0.9945194F;
-		relShowdownProb[3120] = 1.1071517F;
-		relShowdownProb[3126] = 0.69496536F;
-		relShowdownProb[3129] = 0.5272151F;
-		relShowdownProb[3130] = 0.9266205F;
-		relShowdownProb[3133] = 1.3180377F;
-		relShowdownProb[3134] = 0.70295346F;
-		relShowdownProb[3135] = 0.7868286F;
-		relShowdownProb[3138] = 0.5991081F;
-		relShowdownProb[3139] = 0.671001F;
-		relShowdownProb[3140] = 0.88667995F;
-		relShowdownProb[3141] = 0.81957984F;
-		relShowdownProb[3144] = 0.76685834F;
-		relShowdownProb[3145] = 0.7988108F;
-		relShowdownProb[3146] = 0.814787F;
-		relShowdownProb[3147] = 0.9489872F;
-		relShowdownProb[3148] = 1.0407363F;
-		relShowdownProb[3151] = 0.69496536F;
-		relShowdownProb[3152] = 0.77484643F;
-		relShowdownProb[3153] = 0.73091185F;
-		relShowdownProb[3154] = 0.7381011F;
-		relShowdownProb[3155] = 0.8994609F;
-		relShowdownProb[3156] = 1.1167375F;
-		relShowdownProb[3162] = 0.5991081F;
-		relShowdownProb[3165] = 0.76685834F;
-		relShowdownProb[3166] = 0.77484643F;
-		relShowdownProb[3169] = 0.671001F;
-		relShowdownProb[3170] = 0.8067989F;
-		relShowdownProb[3171] = 0.7548762F;
-		relShowdownProb[3174] = 0.7189297F;
-		relShowdownProb[3175] = 0.68697727F;
-		relShowdownProb[3176] = 0.83475727F;
-		relShowdownProb[3177] = 0.8435442F;
-		relShowdownProb[3180] = 0.814787F;
-		relShowdownProb[3181] = 0.69496536F;
-		relShowdownProb[3182] = 0.8627156F;
-		relShowdownProb[3183] = 0.8603192F;
-		relShowdownProb[3184] = 0.9157795F;
-		relShowdownProb[3187] = 0.5032508F;
-		relShowdownProb[3188] = 0.814787F;
-		relShowdownProb[3189] = 0.7189297F;
-		relShowdownProb[3190] = 0.7620655F;
-		relShowdownProb[3191] = 0.8595204F;
-		relShowdownProb[3192] = 0.9346086F;
-		relShowdownProb[3195] = 0.742894F;
-		relShowdownProb[3196] = 0.89466804F;
-		relShowdownProb[3197] = 0.7788405F;
-		relShowdownProb[3198] = 0.62546885F;
-		relShowdownProb[3199] = 0.8067989F;
-		relShowdownProb[3200] = 0.9174912F;
-		relShowdownProb[3201] = 1.0213367F;
-		relShowdownProb[3210] = 1.0544302F;
-		relShowdownProb[3211] = 0.99851346F;
-		relShowdownProb[3214] = 1.0065016F;
-		relShowdownProb[3215] = 0.9505848F;
-		relShowdownProb[3216] = 0.9346086F;
-		relShowdownProb[3219] = 0.814787F;
-		relShowdownProb[3220] = 0.87070376F;
-		relShowdownProb[3221] = 0.77484643F;
-		relShowdownProb[3222] = 0.97055507F;
-		relShowdownProb[3225] = 0.9346086F;
-		relShowdownProb[3226] = 0.8547275F;
-		relShowdownProb[3227] = 0.99052536F;
-		relShowdownProb[3228] = 0.9585729F;
-		relShowdownProb[3229] = 1.0219072F;
-		relShowdownProb[3232] = 0.7908227F;
-		relShowdownProb[3233] = 1.0304658F;
-		relShowdownProb[3234] = 0.97055507F;
-		relShowdownProb[3235] = 0.9633658F;
-		relShowdownProb[3236] = 0.9425967F;
-		relShowdownProb[3237] = 1.0472409F;
-		relShowdownProb[3240] = 0.9346086F;
-		relShowdownProb[3241] = 0.87070376F;
-		relShowdownProb[3242] = 0.9505848F;
-		relShowdownProb[3243] = 0.93940145F;
-		relShowdownProb[3244] = 0.96017057F;
-		relShowdownProb[3245] = 1.0361717F;
-		relShowdownProb[3246] = 1.1236604F;
-		relShowdownProb[3249] = 0.8627156F;
-		relShowdownProb[3250] = 0.9505848F;
-		relShowdownProb[3251] = 1.0624183F;
-		relShowdownProb[3252] = 1.080791F;
-		relShowdownProb[3253] = 1.1007612F;
-		relShowdownProb[3254] = 1.1605579F;
-		relShowdownProb[3255] = 1.1237556F;
-		relShowdownProb[3256] = 1.1605579F;
-		relShowdownProb[3272] = 0.7189297F;
-		relShowdownProb[3275] = 0.76685834F;
-		relShowdownProb[3276] = 0.9106443F;
-		relShowdownProb[3282] = 1.0544302F;
-		relShowdownProb[3285] = 0.6230724F;
-		relShowdownProb[3286] = 0.8627156F;
-		relShowdownProb[3289] = 0.69496536F;
-		relShowdownProb[3290] = 0.87070376F;
-		relShowdownProb[3291] = 0.92023F;
-		relShowdownProb[3297] = 0.6230724F;
-		relShowdownProb[3300] = 1.0783945F;
-		relShowdownProb[3301] = 0.82277507F;
-		relShowdownProb[3304] = 0.47928646F;
-		relShowdownProb[3305] = 0.87869185F;
-		relShowdownProb[3306] = 1.0065016F;
-		relShowdownProb[3309] = 0.76685834F;
-		relShowdownProb[3310] = 0.7908227F;
-		relShowdownProb[3311] = 0.8826859F;
-		relShowdownProb[3312] = 1.0304658F;
-		relShowdownProb[3318] = 0.88667995F;
-		relShowdownProb[3321] = 1.1742518F;
-		relShowdownProb[3322] = 0.9505848F;
-		relShowdownProb[3325] = 0.8627156F;
-		relShowdownProb[3326] = 0.87869185F;
-		relShowdownProb[3327] = 0.9465908F;
-		relShowdownProb[3330] = 0.8627156F;
-		relShowdownProb[3331] = 0.87869185F;
-		relShowdownProb[3332] = 1.0384539F;
-		relShowdownProb[3333] = 1.0160873F;
-		relShowdownProb[3336] = 1.0304658F;
-		relShowdownProb[3337] = 0.8627156F;
-		relShowdownProb[3338] = 1.0664123F;
-		relShowdownProb[3339] = 1.1167375F;
-		relShowdownProb[3340] = 1.3372092F;
-		relShowdownProb[3346] = 0.76685834F;
-		relShowdownProb[3349] = 0.8387513F;
-		relShowdownProb[3350] = 0.99052536F;
-		relShowdownProb[3353] = 0.8627156F;
-		relShowdownProb[3354] = 0.8387513F;
-		relShowdownProb[3355] = 0.93061453F;
-		relShowdownProb[3358] = 1.0304658F;
-		relShowdownProb[3359] = 0.88667995F;
-		relShowdownProb[3360] = 0.9465908F;
-		relShowdownProb[3361] = 0.9346086F;
-		relShowdownProb[3364] = 0.9825372F;
-		relShowdownProb[3365] = 0.90265614F;
-		relShowdownProb[3366] = 0.86670965F;
-		relShowdownProb[3367] = 0.92502284F;
-		relShowdownProb[3368] = 1.0400516F;
-		relShowdownProb[3371] = 0.7908227F;
-		relShowdownProb[3372] = 0.9266205F;
-		relShowdownProb[3373] = 1.0943707F;
-		relShowdownProb[3374] = 0.9825372F;
-		relShowdownProb[3375] = 1.1422994F;
-		relShowdownProb[3376] = 1.3755522F;
-		relShowdownProb[3382] = 0.9346086F;
-		relShowdownProb[3385] = 0.8627156F;
-		relShowdownProb[3386] = 0.88667995F;
-		relShowdownProb[3389] = 0.88667995F;
-		relShowdownProb[3390] = 1.0863826F;
-		relShowdownProb[3391] = 0.9346086F;
-		relShowdownProb[3394] = 0.9825372F;
-		relShowdownProb[3395] = 1.0544302F;
-		relShowdownProb[3396] = 0.890674F;
-		relShowdownProb[3397] = 0.9346086F;
-		relShowdownProb[3400] = 0.9585729F;
-		relShowdownProb[3401] = 0.8387513F;
-		relShowdownProb[3402] = 0.9505848F;
-		relShowdownProb[3403] = 1.0280695F;
-		relShowdownProb[3404] = 0.99052536F;
-		relShowdownProb[3407] = 1.2221805F;
-		relShowdownProb[3408] = 0.9425967F;
-		relShowdownProb[3409] = 0.99851346F;
-		relShowdownProb[3410] = 1.0736017F;
-		relShowdownProb[3411] = 1.0336611F;
-		relShowdownProb[3412] = 1.2221805F;
-		relShowdownProb[3415] = 0.9825372F;
-		relShowdownProb[3416] = 0.76685834F;
-		relShowdownProb[3417] = 0.9425967F;
-		relShowdownProb[3418] = 0.9106443F;
-		relShowdownProb[3419] = 0.90265614F;
-		relShowdownProb[3420] = 1.0544302F;
-		relShowdownProb[3421] = 1.3705311F;
-		relShowdownProb[3430] = 1.1263232F;
-		relShowdownProb[3431] = 1.1982162F;
-		relShowdownProb[3434] = 1.1502875F;
-		relShowdownProb[3435] = 0.9585729F;
-		relShowdownProb[3436] = 1.0504361F;
-		relShowdownProb[3439] = 1.557681F;
-		relShowdownProb[3440] = 0.8387513F;
-		relShowdownProb[3441] = 1.186234F;
-		relShowdownProb[3442] = 1.0544302F;
-		relShowdownProb[3445] = 1.0544302F;
-		relShowdownProb[3446] = 1.262121F;
-		relShowdownProb[3447] = 1.0384539F;
-		relShowdownProb[3448] = 1.2892805F;
-		relShowdownProb[3449] = 1.0368564F;
-		relShowdownProb[3452] = 1.0304658F;
-		relShowdownProb[3453] = 1.190228F;
-		relShowdownProb[3454] = 1.2101983F;
-		relShowdownProb[3455] = 1.2485412F;
-		relShowdownProb[3456] = 1.3180377F;
-		relShowdownProb[3457] = 1.3863361F;
-		relShowdownProb[3460] = 1.0783945F;
-		relShowdownProb[3461] = 1.2301686F;
-		relShowdownProb[3462] = 1.0584242F;
-		relShowdownProb[3463] = 1.1670625F;
-		relShowdownProb[3464] = 1.0927731F;
-		relShowdownProb[3465] = 1.1868045F;
-		relShowdownProb[3466] = 1.4600486F;
-		relShowdownProb[3469] = 1.1982162F;
-		relShowdownProb[3470] = 1.3020616F;
-		relShowdownProb[3471] = 1.2940735F;
-		relShowdownProb[3472] = 1.2437483F;
-		relShowdownProb[3473] = 1.2014114F;
-		relShowdownProb[3474] = 1.233592F;
-		relShowdownProb[3475] = 1.43358F;
-		relShowdownProb[3476] = 1.3043438F;
-		relShowdownProb[3492] = 0.76685834F;
-		relShowdownProb[3495] = 0.69496536F;
-		relShowdownProb[3496] = 0.9585729F;
-		relShowdownProb[3502] = 0.88667995F;
-		relShowdownProb[3505] = 1.0544302F;
-		relShowdownProb[3506] = 0.9505848F;
-		relShowdownProb[3509] = 0.69496536F;
-		relShowdownProb[3510] = 0.9346086F;
-		relShowdownProb[3511] = 0.93940145F;
-		relShowdownProb[3517] = 0.8627156F;
-		relShowdownProb[3520] = 0.814787F;
-		relShowdownProb[3521] = 0.8387513F;
-		relShowdownProb[3524] = 0.69496536F;
-		relShowdownProb[3525] = 1.0144897F;
-		relShowdownProb[3526] = 0.8826859F;
-		relShowdownProb[3529] = 0.8627156F;
-		relShowdownProb[3530] = 0.69496536F;
-		relShowdownProb[3531] = 0.9505848F;
-		relShowdownProb[3532] = 0.99851346F;
-		relShowdownProb[3538] = 1.1023588F;
-		relShowdownProb[3541] = 0.88667995F;
-		relShowdownProb[3542] = 0.99052536F;
-		relShowdownProb[3545] = 0.8627156F;
-		relShowdownProb[3546] = 0.9425967F;
-		relShowdownProb[3547] = 1.0384539F;
-		relShowdownProb[3550] = 0.9106443F;
-		relShowdownProb[3551] = 1.1582756F;
-		relShowdownProb[3552] = 1.0144897F;
-		relShowdownProb[3553] = 0.9945194F;
-		relShowdownProb[3556] = 0.76685834F;
-		relShowdownProb[3557] = 1.0863826F;
-		relShowdownProb[3558] = 1.0224777F;
-		relShowdownProb[3559] = 1.0831873F;
-		relShowdownProb[3560] = 1.1965044F;
-		relShowdownProb[3566] = 0.88667995F;
-		relShowdownProb[3569] = 1.1023588F;
-		relShowdownProb[3570] = 0.99052536F;
-		relShowdownProb[3573] = 0.9106443F;
-		relShowdownProb[3574] = 0.99851346F;
-		relShowdownProb[3575] = 1.1263232F;
-		relShowdownProb[3578] = 1.2461448F;
-		relShowdownProb[3579] = 1.0304658F;
-		relShowdownProb[3580] = 0.9825372F;
-		relShowdownProb[3581] = 1.0903767F;
-		relShowdownProb[3584] = 1.2221805F;
-		relShowdownProb[3585] = 1.1662637F;
-		relShowdownProb[3586] = 1.1662637F;
-		relShowdownProb[3587] = 1.1407018F;
-		relShowdownProb[3588] = 1.1950209F;
-		relShowdownProb[3591] = 1.1742518F;
-		relShowdownProb[3592] = 1.3020616F;
-		relShowdownProb[3593] = 1.2661151F;
-		relShowdownProb[3594] = 1.169459F;
-		relShowdownProb[3595] = 1.3260258F;
-		relShowdownProb[3596] = 1.5353143F;
-		relShowdownProb[3602] = 1.0783945F;
-		relShowdownProb[3605] = 1.0065016F;
-		relShowdownProb[3606] = 1.1502875F;
-		relShowdownProb[3609] = 1.1742518F;
-		relShowdownProb[3610] = 1.1263232F;
-		relShowdownProb[3611] = 1.0943707F;
-		relShowdownProb[3614] = 1.1742518F;
-		relShowdownProb[3615] = 1.0863826F;
-		relShowdownProb[3616] = 0.97055507F;
-		relShowdownProb[3617] = 1.0400516F;
-		relShowdownProb[3620] = 1.1742518F;
-		relShowdownProb[3621] = 1.0943707F;
-		relShowdownProb[3622] = 1.1422994F;
-		relShowdownProb[3623] = 1.131116F;
-		relShowdownProb[3624] = 1.1295184F;
-		relShowdownProb[3627] = 1.2461448F;
-		relShowdownProb[3628] = 1.3899307F;
-		relShowdownProb[3629] = 1.0624183F;
-		relShowdownProb[3630] = 1.2389555F;
-		relShowdownProb[3631] = 1.1998137F;
-		relShowdownProb[3632] = 1.3853661F;
-		relShowdownProb[3635] = 0.9585729F;
-		relShowdownProb[3636] = 1.1982162F;
-		relShowdownProb[3637] = 1.3100497F;
-		relShowdownProb[3638] = 1.2725055F;
-		relShowdownProb[3639] = 1.2429496F;
-		relShowdownProb[3640] = 1.2758149F;
-		relShowdownProb[3641] = 1.6250093F;
-		relShowdownProb[3650] = 1.1742518F;
-		relShowdownProb[3651] = 1.2141924F;
-		relShowdownProb[3654] = 0.88667995F;
-		relShowdownProb[3655] = 1.2381567F;
-		relShowdownProb[3656] = 1.338008F;
-		relShowdownProb[3659] = 1.5816454F;
-		relShowdownProb[3660] = 1.2221805F;
-		relShowdownProb[3661] = 1.5097524F;
-		relShowdownProb[3662] = 1.253334F;
-		relShowdownProb[3665] = 1.1502875F;
-		relShowdownProb[3666] = 1.5017642F;
-		relShowdownProb[3667] = 1.2221805F;
-		relShowdownProb[3668] = 1.3491914F;
-		relShowdownProb[3669] = 1.4362618F;
-		relShowdownProb[3672] = 1.4618237F;
-		relShowdownProb[3673] = 1.3659664F;
-		relShowdownProb[3674] = 1.3220319F;
-		relShowdownProb[3675] = 1.380345F;
-		relShowdownProb[3676] = 1.4682142F;
-		relShowdownProb[3677] = 1.4949173F;
-		relShowdownProb[3680] = 1.2221805F;
-		relShowdownProb[3681] = 1.4937761F;
-		relShowdownProb[3682] = 1.3819426F;
-		relShowdownProb[3683] = 1.4378594F;
-		relShowdownProb[3684] = 1.413895F;
-		relShowdownProb[3685] = 1.5165993F;
-		relShowdownProb[3686] = 1.7804605F;
-		relShowdownProb[3689] = 1.2221805F;
-		relShowdownProb[3690] = 1.5976216F;
-		relShowdownProb[3691] = 1.4378594F;
-		relShowdownProb[3692] = 1.4570308F;
-		relShowdownProb[3693] = 1.5433024F;
-		relShowdownProb[3694] = 1.449271F;
-		relShowdownProb[3695] = 1.5936275F;
-		relShowdownProb[3696] = 1.7066021F;
-		relShowdownProb[3712] = 0.9106443F;
-		relShowdownProb[3715] = 0.9106443F;
-		relShowdownProb[3716] = 0.9945194F;
-		relShowdownProb[3722] = 1.485788F;
-		relShowdownProb[3725] = 0.9106443F;
-		relShowdownProb[3726] = 1.1263232F;
-		relShowdownProb[3729] = 0.9106443F;
-		relShowdownProb[3730] = 0.9266205F;
-		relShowdownProb[3731] = 1.0352588F;
-		relShowdownProb[3737] = 0.9825372F;
-		relShowdownProb[3740] = 0.671001F;
-		relShowdownProb[3741] = 1.0704064F;
-		relShowdownProb[3744] = 1.1502875F;
-		relShowdownProb[3745] = 1.190228F;
-		relShowdownProb[3746] = 1.0664123F;
-		relShowdownProb[3749] = 1.1502875F;
-		relShowdownProb[3750] = 0.7908227F;
-		relShowdownProb[3751] = 0.92262644F;
-		relShowdownProb[3752] = 1.0357913F;
-		relShowdownProb[3758] = 1.0783945F;
-		relShowdownProb[3761] = 1.3180377F;
-		relShowdownProb[3762] = 1.0704064F;
-		relShowdownProb[3765] = 1.1742518F;
-		relShowdownProb[3766] = 1.0544302F;
-		relShowdownProb[3767] = 1.186234F;
-		relShowdownProb[3770] = 1.1263232F;
-		relShowdownProb[3771] = 0.9825372F;
-		relShowdownProb[3772] = 1.1063529F;
-		relShowdownProb[3773] = 1.1215303F;
-		relShowdownProb[3776] = 1.1982162F;
-		relShowdownProb[3777] = 1.0624183F;
-		relShowdownProb[3778] = 1.2062043F;
-		relShowdownProb[3779] = 1.1670625F;
-		relShowdownProb[3780] = 1.3146143F;
-		relShowdownProb[3786] = 1.0783945F;
-		relShowdownProb[3789] = 0.9585729F;
-		relShowdownProb[3790] = 1.0384539F;
-		relShowdownProb[3793] = 0.88667995F;
-		relShowdownProb[3794] = 1.0384539F;
-		relShowdownProb[3795] = 1.2181864F;
-		relShowdownProb[3798] = 1.270109F;
-		relShowdownProb[3799] = 1.0224777F;
-		relShowdownProb[3800] = 1.1023588F;
-		relShowdownProb[3801] = 1.1958197F;
-		relShowdownProb[3804] = 1.1982162F;
-		relShowdownProb[3805] = 1.270109F;
-		relShowdownProb[3806] = 1.1942221F;
-		relShowdownProb[3807] = 1.291677F;
-		relShowdownProb[3808] = 1.2253757F;
-		relShowdownProb[3811] = 1.3659664F;
-		relShowdownProb[3812] = 1.3499902F;
-		relShowdownProb[3813] = 1.2181864F;
-		relShowdownProb[3814] = 1.346795F;
-		relShowdownProb[3815] = 1.3020616F;
-		relShowdownProb[3816] = 1.5085541F;
-		relShowdownProb[3822] = 1.1742518F;
-		relShowdownProb[3825] = 1.0544302F;
-		relShowdownProb[3826] = 1.3739545F;
-		relShowdownProb[3829] = 1.0304658F;
-		relShowdownProb[3830] = 1.413895F;
-		relShowdownProb[3831] = 1.2780973F;
-		relShowdownProb[3834] = 1.1023588F;
-		relShowdownProb[3835] = 1.2461448F;
-		relShowdownProb[3836] = 1.2062043F;
-		relShowdownProb[3837] = 1.4019129F;
-		relShowdownProb[3840] = 1.0783945F;
-		relShowdownProb[3841] = 1.3979188F;
-		relShowdownProb[3842] = 1.2141924F;
-		relShowdownProb[3843] = 1.2653162F;
-		relShowdownProb[3844] = 1.3356116F;
-		relShowdownProb[3847] = 1.2221805F;
-		relShowdownProb[3848] = 1.4698118F;
-		relShowdownProb[3849] = 1.3499902F;
-		relShowdownProb[3850] = 1.4762022F;
-		relShowdownProb[3851] = 1.3723569F;
-		relShowdownProb[3852] = 1.5280108F;
-		relShowdownProb[3855] = 1.9171458F;
-		relShowdownProb[3856] = 1.3260258F;
-		relShowdownProb[3857] = 1.3739545F;
-		relShowdownProb[3858] = 1.5672667F;
-		relShowdownProb[3859] = 1.4250784F;
-		relShowdownProb[3860] = 1.6044685F;
-		relShowdownProb[3861] = 1.874923F;
-		relShowdownProb[3870] = 1.2940735F;
-		relShowdownProb[3871] = 1.3979188F;
-		relShowdownProb[3874] = 1.2940735F;
-		relShowdownProb[3875] = 1.4458475F;
-		relShowdownProb[3876] = 1.4937761F;
-		relShowdownProb[3879] = 1.3180377F;
-		relShowdownProb[3880] = 1.5496929F;
-		relShowdownProb[3881] = 1.4258772F;
-		relShowdownProb[3882] = 1.4330665F;
-		relShowdownProb[3885] = 1.485788F;
-		relShowdownProb[3886] = 1.8053123F;
-		relShowdownProb[3887] = 1.5816454F;
-		relShowdownProb[3888] = 1.5145452F;
-		relShowdownProb[3889] = 1.5720596F;
-		relShowdownProb[3892] = 1.3899307F;
-		relShowdownProb[3893] = 1.5177405F;
-		relShowdownProb[3894] = 1.4218831F;
-		relShowdownProb[3895] = 1.6199882F;
-		relShowdownProb[3896] = 1.5049595F;
-		relShowdownProb[3897] = 1.6113154F;
-		relShowdownProb[3900] = 2.013003F;
-		relShowdownProb[3901] = 1.6455501F;
-		relShowdownProb[3902] = 1.5696632F;
-		relShowdownProb[3903] = 1.5696632F;
-		relShowdownProb[3904] = 1.6487454F;
-		relShowdownProb[3905] = 1.6090331F;
-		relShowdownProb[3906] = 1.8486763F;
-		relShowdownProb[3909] = 1.6775026F;
-		relShowdownProb[3910] = 1.5257286F;
-		relShowdownProb[3911] = 1.629574F;
-		relShowdownProb[3912] = 1.6942776F;
-		relShowdownProb[3913] = 1.709455F;
-		relShowdownProb[3914] = 1.7699364F;
-		relShowdownProb[3915] = 1.9881829F;
-		relShowdownProb[3916] = 1.896605F;
-		relShowdownProb[3935] = 0.9585729F;
-		relShowdownProb[3936] = 1.5097524F;
-		relShowdownProb[3945] = 1.1982162F;
-		relShowdownProb[3946] = 1.3100497F;
-		relShowdownProb[3949] = 1.413895F;
-		relShowdownProb[3950] = 1.1582756F;
-		relShowdownProb[3951] = 1.2940735F;
-		relShowdownProb[3960] = 1.3659664F;
-		relShowdownProb[3961] = 1.4698118F;
-		relShowdownProb[3964] = 1.1982162F;
-		relShowdownProb[3965] = 1.342002F;
-		relShowdownProb[3966] = 1.2741032F;
-		relShowdownProb[3969] = 1.2940735F;
-		relShowdownProb[3970] = 1.2461448F;
-		relShowdownProb[3971] = 1.2860854F;
-		relShowdownProb[3972] = 1.5683318F;
-		relShowdownProb[3981] = 1.1502875F;
-		relShowdownProb[3982] = 1.3659664F;
-		relShowdownProb[3985] = 1.2461448F;
-		relShowdownProb[3986] = 1.3180377F;
-		relShowdownProb[3987] = 1.4777999F;
-		relShowdownProb[3990] = 1.413895F;
-		relShowdownProb[3991] = 1.5337167F;
-		relShowdownProb[3992] = 1.2900794F;
-		relShowdownProb[3993] = 1.5528882F;
-		relShowdownProb[3996] = 1.413895F;
-		relShowdownProb[3997] = 1.5017642F;
-		relShowdownProb[3998] = 1.4897821F;
-		relShowdownProb[3999] = 1.4977702F;
-		relShowdownProb[4000] = 1.5063288F;
-		relShowdownProb[4009] = 1.8212886F;
-		relShowdownProb[4010] = 1.413895F;
-		relShowdownProb[4013] = 1.485788F;
-		relShowdownProb[4014] = 1.5097524F;
-		relShowdownProb[4015] = 1.4698118F;
-		relShowdownProb[4018] = 1.4618237F;
-		relShowdownProb[4019] = 1.7334193F;
-		relShowdownProb[4020] = 1.3619723F;
-		relShowdownProb[4021] = 1.5073559F;
-		relShowdownProb[4024] = 2.1088605F;
-		relShowdownProb[4025] = 1.6535382F;
-		relShowdownProb[4026] = 1.3619723F;
-		relShowdownProb[4027] = 1.6199882F;
-		relShowdownProb[4028] = 1.6743073F;
-		relShowdownProb[4031] = 1.485788F;
-		relShowdownProb[4032] = 1.8212886F;
-		relShowdownProb[4033] = 1.6575323F;
-		relShowdownProb[4034] = 1.5792489F;
-		relShowdownProb[4035] = 1.743005F;
-		relShowdownProb[4036] = 1.8009188F;
-		relShowdownProb[4045] = 1.4618237F;
-		relShowdownProb[4046] = 1.781348F;
-		relShowdownProb[4049] = 1.2940735F;
-		relShowdownProb[4050] = 1.5736572F;
-		relShowdownProb[4051] = 1.7374134F;
-		relShowdownProb[4054] = 1.8212886F;
-		relShowdownProb[4055] = 1.5496929F;
-		relShowdownProb[4056] = 1.7334193F;
-		relShowdownProb[4057] = 1.7302241F;
-		relShowdownProb[4060] = 1.8212886F;
-		relShowdownProb[4061] = 1.637562F;
-		relShowdownProb[4062] = 1.7254312F;
-		relShowdownProb[4063] = 1.8308743F;
-		relShowdownProb[4064] = 1.6487454F;
-		relShowdownProb[4067] = 1.8212886F;
-		relShowdownProb[4068] = 1.8053123F;
-		relShowdownProb[4069] = 1.8372648F;
-		relShowdownProb[4070] = 1.8260814F;
-		relShowdownProb[4071] = 1.8037148F;
-		relShowdownProb[4072] = 1.9639333F;
-		relShowdownProb[4075] = 2.013003F;
-		relShowdownProb[4076] = 1.853241F;
-		relShowdownProb[4077] = 1.7014669F;
-		relShowdownProb[4078] = 1.7230349F;
-		relShowdownProb[4079] = 2.0002222F;
-		relShowdownProb[4080] = 2.0050151F;
-		relShowdownProb[4081] = 2.1949544F;
-		relShowdownProb[4090] = 1.5097524F;
-		relShowdownProb[4091] = 1.6535382F;
-		relShowdownProb[4094] = 1.7733599F;
-		relShowdownProb[4095] = 1.6695145F;
-		relShowdownProb[4096] = 1.7493956F;
-		relShowdownProb[4099] = 1.5337167F;
-		relShowdownProb[4100] = 1.8851933F;
-		relShowdownProb[4101] = 1.7853421F;
-		relShowdownProb[4102] = 1.7374134F;
-		relShowdownProb[4105] = 1.8931816F;
-		relShowdownProb[4106] = 1.8292767F;
-		relShowdownProb[4107] = 1.6775026F;
-		relShowdownProb[4108] = 1.8428564F;
-		relShowdownProb[4109] = 1.9075601F;
-		relShowdownProb[4112] = 1.8212886F;
-		relShowdownProb[4113] = 1.7973242F;
-		relShowdownProb[4114] = 1.9530923F;
-		relShowdownProb[4115] = 1.929128F;
-		relShowdownProb[4116] = 2.0050151F;
-		relShowdownProb[4117] = 2.048379F;
-		relShowdownProb[4120] = 2.2047176F;
-		relShowdownProb[4121] = 2.1168485F;
-		relShowdownProb[4122] = 1.9371161F;
-		relShowdownProb[4123] = 2.106464F;
-		relShowdownProb[4124] = 2.0401628F;
-		relShowdownProb[4125] = 2.0963078F;
-		relShowdownProb[4126] = 2.3279629F;
-		relShowdownProb[4129] = 2.084896F;
-		relShowdownProb[4130] = 1.9970269F;
-		relShowdownProb[4131] = 2.1448069F;
-		relShowdownProb[4132] = 2.1424105F;
-		relShowdownProb[4133] = 2.118446F;
-		relShowdownProb[4134] = 2.2206938F;
-		relShowdownProb[4135] = 2.3425126F;
-		relShowdownProb[4136] = 2.450352F;
-		relShowdownProb[4140] = 0.39750347F;
-		relShowdownProb[4141] = 0.4184247F;
-		relShowdownProb[4142] = 0.26988393F;
-		relShowdownProb[4143] = 0.4016877F;
-		relShowdownProb[4144] = 0.41244718F;
-		relShowdownProb[4145] = 0.38106534F;
-		relShowdownProb[4146] = 0.3713519F;
-		relShowdownProb[4147] = 0.5919758F;
-		relShowdownProb[4151] = 0.6694795F;
-		relShowdownProb[4152] = 0.44980654F;
-		relShowdownProb[4153] = 0.4016877F;
-		relShowdownProb[4154] = 0.4644514F;
-		relShowdownProb[4155] = 0.34669474F;
-		relShowdownProb[4156] = 0.38779002F;
-		relShowdownProb[4157] = 0.44108936F;
-		relShowdownProb[4158] = 0.64332795F;
-		relShowdownProb[4160] = 1.8123019F;
-		relShowdownProb[4161] = 0.49426416F;
-		relShowdownProb[4162] = 0.7644619F;
-		relShowdownProb[4163] = 0.7475438F;
-		relShowdownProb[4164] = 0.62878865F;
-		relShowdownProb[4165] = 0.54272145F;
-		relShowdownProb[4166] = 0.41684046F;
-		relShowdownProb[4167] = 0.4467175F;
-		relShowdownProb[4168] = 0.4640735F;
-		relShowdownProb[4169] = 0.69013137F;
-		relShowdownProb[4173] = 0.79500693F;
-		relShowdownProb[4174] = 0.5230309F;
-		relShowdownProb[4175] = 0.47700414F;
-		relShowdownProb[4176] = 0.49374112F;
-		relShowdownProb[4177] = 0.37359348F;
-		relShowdownProb[4178] = 0.40348095F;
-		relShowdownProb[4179] = 0.41493782F;
-		relShowdownProb[4180] = 0.60766673F;
-		relShowdownProb[4182] = 1.3180377F;
-		relShowdownProb[4183] = 0.8237736F;
-		relShowdownProb[4184] = 0.7117404F;
-		relShowdownProb[4185] = 0.6590189F;
-		relShowdownProb[4186] = 0.59251237F;
-		relShowdownProb[4187] = 0.6284143F;
-		relShowdownProb[4188] = 0.50490534F;
-		relShowdownProb[4189] = 0.51527315F;
-		relShowdownProb[4190] = 0.41576844F;
-		relShowdownProb[4191] = 0.69437397F;
-		relShowdownProb[4193] = 1.4827925F;
-		relShowdownProb[4194] = 1.4827925F;
-		relShowdownProb[4195] = 0.6590189F;
-		relShowdownProb[4196] = 0.74071544F;
-		relShowdownProb[4197] = 0.7523313F;
-		relShowdownProb[4198] = 0.6769378F;
-		relShowdownProb[4199] = 0.689302F;
-		relShowdownProb[4200] = 0.4888087F;
-		relShowdownProb[4201] = 0.56511724F;
-		relShowdownProb[4202] = 0.8384964F;
-		relShowdownProb[4206] = 0.81592816F;
-		relShowdownProb[4207] = 0.50210965F;
-		relShowdownProb[4208] = 0.5272151F;
-		relShowdownProb[4209] = 0.4811884F;
-		relShowdownProb[4210] = 0.50509834F;
-		relShowdownProb[4211] = 0.42141342F;
-		relShowdownProb[4212] = 0.38355595F;
-		relShowdownProb[4213] = 0.633216F;
-		relShowdownProb[4215] = 1.3180377F;
-		relShowdownProb[4216] = 0.32950944F;
-		relShowdownProb[4217] = 0.7644619F;
-		relShowdownProb[4218] = 0.6491828F;
-		relShowdownProb[4219] = 0.61065054F;
-		relShowdownProb[4220] = 0.4366255F;
-		relShowdownProb[4221] = 0.48435685F;
-		relShowdownProb[4222] = 0.43566012F;
-		relShowdownProb[4223] = 0.4830505F;
-		relShowdownProb[4224] = 0.6292835F;
-		relShowdownProb[4226] = 1.4004151F;
-		relShowdownProb[4227] = 1.4827925F;
-		relShowdownProb[4228] = 0.7953676F;
-		relShowdownProb[4229] = 0.8387513F;
-		relShowdownProb[4230] = 0.83397967F;
-		relShowdownProb[4231] = 0.73666763F;
-		relShowdownProb[4232] = 0.5537489F;
-		relShowdownProb[4233] = 0.51935923F;
-		relShowdownProb[4234] = 0.6026779F;
-		relShowdownProb[4235] = 0.81468725F;
-		relShowdownProb[4237] = 0.9885283F;
-		relShowdownProb[4238] = 1.4416038F;
-		relShowdownProb[4239] = 1.3180377F;
-		relShowdownProb[4240] = 1.0932561F;
-		relShowdownProb[4241] = 0.96532345F;
-		relShowdownProb[4242] = 0.7892674F;
-		relShowdownProb[4243] = 0.7879882F;
-		relShowdownProb[4244] = 0.68917006F;
-		relShowdownProb[4245] = 0.6522597F;
-		relShowdownProb[4246] = 0.8841327F;
-		relShowdownProb[4249] = 0.627637F;
-		relShowdownProb[4250] = 0.64855826F;
-		relShowdownProb[4251] = 0.58579457F;
-		relShowdownProb[4252] = 0.7155062F;
-		relShowdownProb[4253] = 0.53976786F;
-		relShowdownProb[4254] = 0.57383955F;
-		relShowdownProb[4255] = 0.48193556F;
-		relShowdownProb[4256] = 0.4620106F;
-		relShowdownProb[4257] = 0.6931902F;
-		relShowdownProb[4259] = 0.6590189F;
-		relShowdownProb[4260] = 0.6817437F;
-		relShowdownProb[4261] = 0.5799366F;
-		relShowdownProb[4262] = 0.7967243F;
-		relShowdownProb[4263] = 0.7859858F;
-		relShowdownProb[4264] = 0.7345102F;
-		relShowdownProb[4265] = 0.5313248F;
-		relShowdownProb[4266] = 0.5418108F;
-		relShowdownProb[4267] = 0.507203F;
-		relShowdownProb[4268] = 0.76482147F;
-		relShowdownProb[4270] = 0.90615094F;
-		relShowdownProb[4271] = 0.99743396F;
-		relShowdownProb[4272] = 0.8408172F;
-		relShowdownProb[4273] = 0.8714299F;
-		relShowdownProb[4274] = 0.76399535F;
-		relShowdownProb[4275] = 0.75657755F;
-		relShowdownProb[4276] = 0.6200834F;
-		relShowdownProb[4277] = 0.56954944F;
-		relShowdownProb[4278] = 0.5258493F;
-		relShowdownProb[4279] = 0.79685736F;
-		relShowdownProb[4281] = 0.90615094F;
-		relShowdownProb[4282] = 1.4921182F;
-		relShowdownProb[4283] = 1.1183351F;
-		relShowdownProb[4284] = 1.1647775F;
-		relShowdownProb[4285] = 0.9281956F;
-		relShowdownProb[4286] = 0.917572F;
-		relShowdownProb[4287] = 0.81349856F;
-		relShowdownProb[4288] = 0.6504043F;
-		relShowdownProb[4289] = 0.6759168F;
-		relShowdownProb[4290] = 0.90589595F;
-		relShowdownProb[4292] = 1.0709057F;
-		relShowdownProb[4293] = 1.09422F;
-		relShowdownProb[4294] = 1.3473275F;
-		relShowdownProb[4295] = 1.2218306F;
-		relShowdownProb[4296] = 1.2226142F;
-		relShowdownProb[4297] = 0.99863595F;
-		relShowdownProb[4298] = 0.81367236F;
-		relShowdownProb[4299] = 0.84396935F;
-		relShowdownProb[4300] = 0.8647532F;
-		relShowdownProb[4301] = 1.0320357F;
-		relShowdownProb[4304] = 0.43934593F;
-		relShowdownProb[4305] = 0.64855826F;
-		relShowdownProb[4306] = 0.86823124F;
-		relShowdownProb[4307] = 0.74688804F;
-		relShowdownProb[4308] = 0.5774261F;
-		relShowdownProb[4309] = 0.61568207F;
-		relShowdownProb[4310] = 0.5379746F;
-		relShowdownProb[4311] = 0.5352349F;
-		relShowdownProb[4312] = 0.7378222F;
-		relShowdownProb[4314] = 0.8237736F;
-		relShowdownProb[4315] = 0.9998907F;
-		relShowdownProb[4316] = 0.79824823F;
-		relShowdownProb[4317] = 0.88524926F;
-		relShowdownProb[4318] = 0.7799398F;
-		relShowdownProb[4319] = 0.69370407F;
-		relShowdownProb[4320] = 0.51077634F;
-		relShowdownProb[4321] = 0.6258468F;
-		relShowdownProb[4322] = 0.60726345F;
-		relShowdownProb[4323] = 0.7924823F;
-		relShowdownProb[4325] = 0.8237736F;
-		relShowdownProb[4326] = 1.0686792F;
-		relShowdownProb[4327] = 0.63399285F;
-		relShowdownProb[4328] = 0.8823228F;
-		relShowdownProb[4329] = 0.9389561F;
-		relShowdownProb[4330] = 0.7127757F;
-		relShowdownProb[4331] = 0.73833185F;
-		relShowdownProb[4332] = 0.6568367F;
-		relShowdownProb[4333] = 0.6095071F;
-		relShowdownProb[4334] = 0.7817706F;
-		relShowdownProb[4336] = 0.90615094F;
-		relShowdownProb[4337] = 0.9450082F;
-		relShowdownProb[4338] = 0.9998907F;
-		relShowdownProb[4339] = 1.3180377F;
-		relShowdownProb[4340] = 0.99626327F;
-		relShowdownProb[4341] = 1.0381005F;
-		relShowdownProb[4342] = 0.70578796F;
-		relShowdownProb[4343] = 0.6977847F;
-		relShowdownProb[4344] = 0.66577804F;
-		relShowdownProb[4345] = 0.873251F;
-		relShowdownProb[4347] = 1.3180377F;
-		relShowdownProb[4348] = 1.2434318F;
-		relShowdownProb[4349] = 1.329912F;
-		relShowdownProb[4350] = 1.2122099F;
-		relShowdownProb[4351] = 1.0675509F;
-		relShowdownProb[4352] = 1.0875833F;
-		relShowdownProb[4353] = 0.9056285F;
-		relShowdownProb[4354] = 0.8397176F;
-		relShowdownProb[4355] = 0.77777606F;
-		relShowdownProb[4356] = 1.0198941F;
-		relShowdownProb[4358] = 1.4004151F;
-		relShowdownProb[4359] = 1.2931691F;
-		relShowdownProb[4360] = 1.270541F;
-		relShowdownProb[4361] = 1.4272243F;
-		relShowdownProb[4362] = 1.4273946F;
-		relShowdownProb[4363] = 1.3535538F;
-		relShowdownProb[4364] = 1.1317933F;
-		relShowdownProb[4365] = 1.0556895F;
-		relShowdownProb[4366] = 0.93223023F;
-		relShowdownProb[4367] = 1.1842269F;
-		relShowdownProb[4370] = 1.255274F;
-		relShowdownProb[4371] = 0.64855826F;
-		relShowdownProb[4372] = 0.627637F;
-		relShowdownProb[4373] = 0.7719935F;
-		relShowdownProb[4374] = 0.7238747F;
-		relShowdownProb[4375] = 0.6933895F;
-		relShowdownProb[4376] = 0.607463F;
-		relShowdownProb[4377] = 0.7078351F;
-		relShowdownProb[4378] = 0.81313866F;
-		relShowdownProb[4380] = 0.49426416F;
-		relShowdownProb[4381] = 0.9089916F;
-		relShowdownProb[4382] = 0.6126091F;
-		relShowdownProb[4383] = 0.86557704F;
-		relShowdownProb[4384] = 1.0278276F;
-		relShowdownProb[4385] = 0.873251F;
-		relShowdownProb[4386] = 0.763229F;
-		relShowdownProb[4387] = 0.7010369F;
-		relShowdownProb[4388] = 0.67972106F;
-		relShowdownProb[4389] = 0.8685495F;
-		relShowdownProb[4391] = 1.5651698F;
-		relShowdownProb[4392] = 1.0686792F;
-		relShowdownProb[4393] = 0.9176212F;
-		relShowdownProb[4394] = 0.9746054F;
-		relShowdownProb[4395] = 0.92146003F;
-		relShowdownProb[4396] = 0.8760372F;
-		relShowdownProb[4397] = 0.7556365F;
-		relShowdownProb[4398] = 0.66120106F;
-		relShowdownProb[4399] = 0.70853066F;
-		relShowdownProb[4400] = 0.9820136F;
-		relShowdownProb[4402] = 0.8237736F;
-		relShowdownProb[4403] = 0.9947455F;
-		relShowdownProb[4404] = 0.98474085F;
-		relShowdownProb[4405] = 0.7996096F;
-		relShowdownProb[4406] = 1.070519F;
-		relShowdownProb[4407] = 0.7970435F;
-		relShowdownProb[4408] = 0.9013678F;
-		relShowdownProb[4409] = 0.78393096F;
-		relShowdownProb[4410] = 0.7519574F;
-		relShowdownProb[4411] = 0.9589439F;
-		relShowdownProb[4413] = 1.4004151F;
-		relShowdownProb[4414] = 1.2434318F;
-		relShowdownProb[4415] = 1.1399245F;
-		relShowdownProb[4416] = 1.1929076F;
-		relShowdownProb[4417] = 1.1212267F;
-		relShowdownProb[4418] = 1.071411F;
-		relShowdownProb[4419] = 0.8944823F;
-		relShowdownProb[4420] = 0.89924186F;
-		relShowdownProb[4421] = 0.8296278F;
-		relShowdownProb[4422] = 1.0819511F;
-		relShowdownProb[4424] = 1.153283F;
-		relShowdownProb[4425] = 1.1190886F;
-		relShowdownProb[4426] = 1.5555221F;
-		relShowdownProb[4427] = 1.345786F;
-		relShowdownProb[4428] = 1.3583272F;
-		relShowdownProb[4429] = 1.2667369F;
-		relShowdownProb[4430] = 1.0888138F;
-		relShowdownProb[4431] = 1.0347016F;
-		relShowdownProb[4432] = 0.98356086F;
-		relShowdownProb[4433] = 1.2029604F;
-		relShowdownProb[4435] = 1.5651698F;
-		relShowdownProb[4436] = 1.09422F;
-		relShowdownProb[4437] = 1.4130315F;
-		relShowdownProb[4438] = 1.35966F;
-		relShowdownProb[4439] = 1.5581264F;
-		relShowdownProb[4440] = 1.5145873F;
-		relShowdownProb[4441] = 1.2786093F;
-		relShowdownProb[4442] = 1.1808761F;
-		relShowdownProb[4443] = 1.2524637F;
-		relShowdownProb[4444] = 1.2702539F;
-		relShowdownProb[4447] = 0.7531644F;
-		relShowdownProb[4448] = 0.7322432F;
-		relShowdownProb[4449] = 0.71132195F;
-		relShowdownProb[4450] = 0.8033754F;
-		relShowdownProb[4451] = 0.98748225F;
-		relShowdownProb[4452] = 0.8906468F;
-		relShowdownProb[4453] = 0.81592816F;
-		relShowdownProb[4454] = 0.8560272F;
-		relShowdownProb[4455] = 1.0990622F;
-		relShowdownProb[4457] = 0.8237736F;
-		relShowdownProb[4458] = 0.8180924F;
-		relShowdownProb[4459] = 0.68686473F;
-		relShowdownProb[4460] = 0.9049215F;
-		relShowdownProb[4461] = 0.88272256F;
-		relShowdownProb[4462] = 0.8610092F;
-		relShowdownProb[4463] = 0.8659713F;
-		relShowdownProb[4464] = 0.94429886F;
-		relShowdownProb[4465] = 0.76598006F;
-		relShowdownProb[4466] = 1.0829208F;
-		relShowdownProb[4468] = 0.90615094F;
-		relShowdownProb[4469] = 1.0686792F;
-		relShowdownProb[4470] = 0.9009372F;
-		relShowdownProb[4471] = 0.8632219F;
-		relShowdownProb[4472] = 0.8398117F;
-		relShowdownProb[4473] = 1.0751365F;
-		relShowdownProb[4474] = 0.9575241F;
-		relShowdownProb[4475] = 0.94270253F;
-		relShowdownProb[4476] = 0.87926096F;
-		relShowdownProb[4477] = 1.1397392F;
-		relShowdownProb[4479] = 0.49426416F;
-		relShowdownProb[4480] = 1.0693514F;
-		relShowdownProb[4481] = 1.1513894F;
-		relShowdownProb[4482] = 0.9050526F;
-		relShowdownProb[4483] = 1.0082426F;
-		relShowdownProb[4484] = 1.1158608F;
-		relShowdownProb[4485] = 0.99207145F;
-		relShowdownProb[4486] = 0.85715526F;
-		relShowdownProb[4487] = 0.9445937F;
-		relShowdownProb[4488] = 1.1180878F;
-		relShowdownProb[4490] = 0.9885283F;
-		relShowdownProb[4491] = 1.1439573F;
-		relShowdownProb[4492] = 1.223044F;
-		relShowdownProb[4493] = 1.0844615F;
-		relShowdownProb[4494] = 1.2417877F;
-		relShowdownProb[4495] = 1.0309805F;
-		relShowdownProb[4496] = 1.0003711F;
-		relShowdownProb[4497] = 0.93963337F;
-		relShowdownProb[4498] = 0.98183775F;
-		relShowdownProb[4499] = 1.1440082F;
-		relShowdownProb[4501] = 1.6475472F;
-		relShowdownProb[4502] = 1.2931691F;
-		relShowdownProb[4503] = 1.2111698F;
-		relShowdownProb[4504] = 1.2556044F;
-		relShowdownProb[4505] = 1.2811327F;
-		relShowdownProb[4506] = 1.3377689F;
-		relShowdownProb[4507] = 1.1547157F;
-		relShowdownProb[4508] = 1.0955664F;
-		relShowdownProb[4509] = 1.1507993F;
-		relShowdownProb[4510] = 1.3140234F;
-		relShowdownProb[4512] = 1.5651698F;
-		relShowdownProb[4513] = 1.2185632F;
-		relShowdownProb[4514] = 1.2824152F;
-		relShowdownProb[4515] = 1.3249748F;
-		relShowdownProb[4516] = 1.3271277F;
-		relShowdownProb[4517] = 1.4490708F;
-		relShowdownProb[4518] = 1.3039562F;
-		relShowdownProb[4519] = 1.2516F;
-		relShowdownProb[4520] = 1.1311518F;
-		relShowdownProb[4521] = 1.4162601F;
-		relShowdownProb[4523] = 1.3180377F;
-		relShowdownProb[4524] = 1.3677751F;
-		relShowdownProb[4525] = 1.4367799F;
-		relShowdownProb[4526] = 1.3388488F;
-		relShowdownProb[4527] = 1.6270949F;
-		relShowdownProb[4528] = 1.9601587F;
-		relShowdownProb[4529] = 1.7167718F;
-		relShowdownProb[4530] = 1.4386287F;
-		relShowdownProb[4531] = 1.4813344F;
-		relShowdownProb[4532] = 1.557681F;
-		relShowdownProb[4535] = 1.0042193F;
-		relShowdownProb[4536] = 0.81592816F;
-		relShowdownProb[4537] = 0.7322432F;
-		relShowdownProb[4538] = 0.84103364F;
-		relShowdownProb[4539] = 0.9079816F;
-		relShowdownProb[4540] = 1.0012305F;
-		relShowdownProb[4541] = 0.9885283F;
-		relShowdownProb[4542] = 1.0844173F;
-		relShowdownProb[4543] = 1.2036684F;
-		relShowdownProb[4545] = 0.9885283F;
-		relShowdownProb[4546] = 1.0907899F;
-		relShowdownProb[4547] = 0.9281956F;
-		relShowdownProb[4548] = 0.8754131F;
-		relShowdownProb[4549] = 0.99155134F;
-		relShowdownProb[4550] = 0.88549286F;
-		relShowdownProb[4551] = 1.1154885F;
-		relShowdownProb[4552] = 0.99737424F;
-		relShowdownProb[4553] = 1.0316578F;
-		relShowdownProb[4554] = 1.223991F;
-		relShowdownProb[4556] = 1.4827925F;
-		relShowdownProb[4557] = 1.0686792F;
-		relShowdownProb[4558] = 0.8842532F;
-		relShowdownProb[4559] = 0.85393995F;
-		relShowdownProb[4560] = 0.909796F;
-		relShowdownProb[4561] = 0.935767F;
-		relShowdownProb[4562] = 1.1507595F;
-		relShowdownProb[4563] = 0.9645243F;
-		relShowdownProb[4564] = 1.0124305F;
-		relShowdownProb[4565] = 1.3015795F;
-		relShowdownProb[4567] = 1.0709057F;
-		relShowdownProb[4568] = 0.7460591F;
-		relShowdownProb[4569] = 1.0453403F;
-		relShowdownProb[4570] = 1.2477424F;
-		relShowdownProb[4571] = 1.0476711F;
-		relShowdownProb[4572] = 1.0692047F;
-		relShowdownProb[4573] = 1.128127F;
-		relShowdownProb[4574] = 0.97776F;
-		relShowdownProb[4575] = 1.1524382F;
-		relShowdownProb[4576] = 1.3506826F;
-		relShowdownProb[4578] = 0.5766415F;
-		relShowdownProb[4579] = 1.1439573F;
-		relShowdownProb[4580] = 1.0093082F;
-		relShowdownProb[4581] = 1.0677774F;
-		relShowdownProb[4582] = 1.0402695F;
-		relShowdownProb[4583] = 0.94579655F;
-		relShowdownProb[4584] = 1.242801F;
-		relShowdownProb[4585] = 1.1097027F;
-		relShowdownProb[4586] = 1.1574646F;
-		relShowdownProb[4587] = 1.301849F;
-		relShowdownProb[4589] = 0.6590189F;
-		relShowdownProb[4590] = 0.92013955F;
-		relShowdownProb[4591] = 1.2586666F;
-		relShowdownProb[4592] = 1.3249748F;
-		relShowdownProb[4593] = 1.2020504F;
-		relShowdownProb[4594] = 1.2474949F;
-		relShowdownProb[4595] = 1.2378094F;
-		relShowdownProb[4596] = 1.1942093F;
-		relShowdownProb[4597] = 1.1640459F;
-		relShowdownProb[4598] = 1.39431F;
-		relShowdownProb[4600] = 1.4827925F;
-		relShowdownProb[4601] = 0.8704023F;
-		relShowdownProb[4602] = 1.4130315F;
-		relShowdownProb[4603] = 1.186234F;
-		relShowdownProb[4604] = 1.3862121F;
-		relShowdownProb[4605] = 1.4305974F;
-		relShowdownProb[4606] = 1.4363232F;
-		relShowdownProb[4607] = 1.3694733F;
-		relShowdownProb[4608] = 1.2590212F;
-		relShowdownProb[4609] = 1.5038638F;
-		relShowdownProb[4611] = 1.0709057F;
-		relShowdownProb[4612] = 1.2434318F;
-		relShowdownProb[4613] = 1.4724026F;
-		relShowdownProb[4614] = 1.3874081F;
-		relShowdownProb[4615] = 1.5134709F;
-		relShowdownProb[4616] = 1.5874177F;
-		relShowdownProb[4617] = 1.8469143F;
-		relShowdownProb[4618] = 1.5909541F;
-		relShowdownProb[4619] = 1.4530075F;
-		relShowdownProb[4620] = 1.7328049F;
-		relShowdownProb[4622] = 1.8123019F;
-		relShowdownProb[4623] = 1.7408046F;
-		relShowdownProb[4624] = 1.8167547F;
-		relShowdownProb[4625] = 1.6440787F;
-		relShowdownProb[4626] = 1.6089151F;
-		relShowdownProb[4627] = 1.9626256F;
-		relShowdownProb[4628] = 2.1480052F;
-		relShowdownProb[4629] = 1.9927227F;
-		relShowdownProb[4630] = 1.865708F;
-		relShowdownProb[4631] = 2.1491487F;
-		relShowdownProb[4634] = 0.6904007F;
-		relShowdownProb[4635] = 0.8368494F;
-		relShowdownProb[4636] = 0.80546755F;
-		relShowdownProb[4637] = 0.9916665F;
-		relShowdownProb[4638] = 1.016772F;
-		relShowdownProb[4639] = 0.9653655F;
-		relShowdownProb[4640] = 1.1813025F;
-		relShowdownProb[4641] = 1.215175F;
-		relShowdownProb[4642] = 1.4463546F;
-		relShowdownProb[4644] = 1.153283F;
-		relShowdownProb[4645] = 1.0907899F;
-		relShowdownProb[4646] = 0.90963167F;
-		relShowdownProb[4647] = 0.93442976F;
-		relShowdownProb[4648] = 0.92504483F;
-		relShowdownProb[4649] = 0.99975F;
-		relShowdownProb[4650] = 1.0920045F;
-		relShowdownProb[4651] = 1.1941953F;
-		relShowdownProb[4652] = 1.1627716F;
-		relShowdownProb[4653] = 1.461874F;
-		relShowdownProb[4655] = 1.5651698F;
-		relShowdownProb[4656] = 1.0686792F;
-		relShowdownProb[4657] = 1.1845655F;
-		relShowdownProb[4658] = 0.96532345F;
-		relShowdownProb[4659] = 1.0089405F;
-		relShowdownProb[4660] = 0.9596589F;
-		relShowdownProb[4661] = 1.1738323F;
-		relShowdownProb[4662] = 1.165285F;
-		relShowdownProb[4663] = 1.2548676F;
-		relShowdownProb[4664] = 1.4250169F;
-		relShowdownProb[4666] = 1.3180377F;
-		relShowdownProb[4667] = 1.2434318F;
-		relShowdownProb[4668] = 1.1210896F;
-		relShowdownProb[4669] = 1.0720041F;
-		relShowdownProb[4670] = 0.9575488F;
-		relShowdownProb[4671] = 1.119749F;
-		relShowdownProb[4672] = 1.133796F;
-		relShowdownProb[4673] = 1.1694355F;
-		relShowdownProb[4674] = 1.2014421F;
-		relShowdownProb[4675] = 1.4744612F;
-		relShowdownProb[4677] = 0.9885283F;
-		relShowdownProb[4678] = 1.0196141F;
-		relShowdownProb[4679] = 1.270541F;
-		relShowdownProb[4680] = 1.0093833F;
-		relShowdownProb[4681] = 1.2091091F;
-		relShowdownProb[4682] = 1.120522F;
-		relShowdownProb[4683] = 1.3375436F;
-		relShowdownProb[4684] = 1.3329189F;
-		relShowdownProb[4685] = 1.2812397F;
-		relShowdownProb[4686] = 1.506907F;
-		relShowdownProb[4688] = 0.8237736F;
-		relShowdownProb[4689] = 1.09422F;
-		relShowdownProb[4690] = 1.1280503F;
-		relShowdownProb[4691] = 1.3180377F;
-		relShowdownProb[4692] = 1.1967783F;
-		relShowdownProb[4693] = 1.1992288F;
-		relShowdownProb[4694] = 1.2714543F;
-		relShowdownProb[4695] = 1.3810014F;
-		relShowdownProb[4696] = 1.3610892F;
-		relShowdownProb[4697] = 1.6980609F;
-		relShowdownProb[4699] = 1.3180377F;
-		relShowdownProb[4700] = 1.5667242F;
-		relShowdownProb[4701] = 1.4249057F;
-		relShowdownProb[4702] = 1.2625414F;
-		relShowdownProb[4703] = 1.3862121F;
-		relShowdownProb[4704] = 1.3361926F;
-		relShowdownProb[4705] = 1.291084F;
-		relShowdownProb[4706] = 1.4123363F;
-		relShowdownProb[4707] = 1.4311529F;
-		relShowdownProb[4708] = 1.7441103F;
-		relShowdownProb[4710] = 1.3180377F;
-		relShowdownProb[4711] = 1.4921182F;
-		relShowdownProb[4712] = 1.3061635F;
-		relShowdownProb[4713] = 1.4082193F;
-		relShowdownProb[4714] = 1.5907352F;
-		relShowdownProb[4715] = 1.7541767F;
-		relShowdownProb[4716] = 1.5116328F;
-		relShowdownProb[4717] = 1.7792451F;
-		relShowdownProb[4718] = 1.6629604F;
-		relShowdownProb[4719] = 1.8592101F;
-		relShowdownProb[4721] = 1.6475472F;
-		relShowdownProb[4722] = 1.8154105F;
-		relShowdownProb[4723] = 1.5080252F;
-		relShowdownProb[4724] = 1.8591269F;
-		relShowdownProb[4725] = 1.6998142F;
-		relShowdownProb[4726] = 1.879246F;
-		relShowdownProb[4727] = 1.9758649F;
-		relShowdownProb[4728] = 2.118051F;
-		relShowdownProb[4729] = 1.8591096F;
-		relShowdownProb[4730] = 2.1998425F;
-		relShowdownProb[4732] = 2.2241888F;
-		relShowdownProb[4733] = 1.7656733F;
-		relShowdownProb[4734] = 2.1017358F;
-		relShowdownProb[4735] = 1.7758825F;
-		relShowdownProb[4736] = 1.7634436F;
-		relShowdownProb[4737] = 1.9369704F;
-		relShowdownProb[4738] = 2.114104F;
-		relShowdownProb[4739] = 2.2510948F;
-		relShowdownProb[4740] = 2.2016294F;
-		relShowdownProb[4741] = 2.3767025F;
-		relShowdownProb[4744] = 1.0042193F;
-		relShowdownProb[4745] = 0.79500693F;
-		relShowdownProb[4746] = 0.95191616F;
-		relShowdownProb[4747] = 1.016772F;
-		relShowdownProb[4748] = 1.0753515F;
-		relShowdownProb[4749] = 1.1506679F;
-		relShowdownProb[4750] = 1.2306169F;
-		relShowdownProb[4751] = 1.3738277F;
-		relShowdownProb[4752] = 1.6583565F;
-		relShowdownProb[4754] = 1.153283F;
-		relShowdownProb[4755] = 1.2271386F;
-		relShowdownProb[4756] = 0.85393995F;
-		relShowdownProb[4757] = 1.0131186F;
-		relShowdownProb[4758] = 0.9673672F;
-		relShowdownProb[4759] = 1.1058459F;
-		relShowdownProb[4760] = 1.2182308F;
-		relShowdownProb[4761] = 1.2140986F;
-		relShowdownProb[4762] = 1.3956709F;
-		relShowdownProb[4763] = 1.5891137F;
-		relShowdownProb[4765] = 1.5651698F;
-		relShowdownProb[4766] = 0.96181136F;
-		relShowdownProb[4767] = 1.3514059F;
-		relShowdownProb[4768] = 1.0024513F;
-		relShowdownProb[4769] = 1.0730927F;
-		relShowdownProb[4770] = 0.9954968F;
-		relShowdownProb[4771] = 1.1507595F;
-		relShowdownProb[4772] = 1.3005803F;
-		relShowdownProb[4773] = 1.3675495F;
-		relShowdownProb[4774] = 1.6993223F;
-		relShowdownProb[4776] = 1.2356604F;
-		relShowdownProb[4777] = 1.2683005F;
-		relShowdownProb[4778] = 1.1665392F;
-		relShowdownProb[4779] = 1.0368564F;
-		relShowdownProb[4780] = 1.1152627F;
-		relShowdownProb[4781] = 1.0497646F;
-		relShowdownProb[4782] = 1.2131616F;
-		relShowdownProb[4783] = 1.2685037F;
-		relShowdownProb[4784] = 1.4988455F;
-		relShowdownProb[4785] = 1.7315398F;
-		relShowdownProb[4787] = 0.74139625F;
-		relShowdownProb[4788] = 1.3429064F;
-		relShowdownProb[4789] = 1.329912F;
-		relShowdownProb[4790] = 1.4431679F;
-		relShowdownProb[4791] = 1.2908056F;
-		relShowdownProb[4792] = 1.2382718F;
-		relShowdownProb[4793] = 1.1369121F;
-		relShowdownProb[4794] = 1.3435482F;
-		relShowdownProb[4795] = 1.5254447F;
-		relShowdownProb[4796] = 1.8225886F;
-		relShowdownProb[4798] = 1.2356604F;
-		relShowdownProb[4799] = 1.1190886F;
-		relShowdownProb[4800] = 1.0330566F;
-		relShowdownProb[4801] = 1.193171F;
-		relShowdownProb[4802] = 1.254772F;
-		relShowdownProb[4803] = 1.2883354F;
-		relShowdownProb[4804] = 1.4714892F;
-		relShowdownProb[4805] = 1.3369268F;
-		relShowdownProb[4806] = 1.5515093F;
-		relShowdownProb[4807] = 1.8184906F;
-		relShowdownProb[4809] = 2.059434F;
-		relShowdownProb[4810] = 1.168826F;
-		relShowdownProb[4811] = 1.1874214F;
-		relShowdownProb[4812] = 1.4220934F;
-		relShowdownProb[4813] = 1.3407625F;
-		relShowdownProb[4814] = 1.3398235F;
-		relShowdownProb[4815] = 1.3396008F;
-		relShowdownProb[4816] = 1.4382361F;
-		relShowdownProb[4817] = 1.5754157F;
-		relShowdownProb[4818] = 1.8556061F;
-		relShowdownProb[4820] = 1.3180377F;
-		relShowdownProb[4821] = 1.5915928F;
-		relShowdownProb[4822] = 1.4724026F;
-		relShowdownProb[4823] = 1.4429045F;
-		relShowdownProb[4824] = 1.4862012F;
-		relShowdownProb[4825] = 1.6611766F;
-		relShowdownProb[4826] = 1.485113F;
-		relShowdownProb[4827] = 1.717133F;
-		relShowdownProb[4828] = 1.6746244F;
-		relShowdownProb[4829] = 2.0132666F;
-		relShowdownProb[4831] = 1.6475472F;
-		relShowdownProb[4832] = 1.8154105F;
-		relShowdownProb[4833] = 1.6861384F;
-		relShowdownProb[4834] = 1.5122749F;
-		relShowdownProb[4835] = 1.6225499F;
-		relShowdownProb[4836] = 1.7894527F;
-		relShowdownProb[4837] = 2.02115F;
-		relShowdownProb[4838] = 2.009401F;
-		relShowdownProb[4839] = 2.2055275F;
-		relShowdownProb[4840] = 2.1464806F;
-		relShowdownProb[4842] = 1.5651698F;
-		relShowdownProb[4843] = 1.6164614F;
-		relShowdownProb[4844] = 1.8405032F;
-		relShowdownProb[4845] = 1.9354343F;
-		relShowdownProb[4846] = 2.140675F;
-		relShowdownProb[4847] = 2.0395913F;
-		relShowdownProb[4848] = 2.1045702F;
-		relShowdownProb[4849] = 2.4593554F;
-		relShowdownProb[4850] = 2.2930918F;
-		relShowdownProb[4851] = 2.5262392F;
-		relShowdownProb[4853] = 2.3889434F;
-		relShowdownProb[4854] = 1.715936F;
-		relShowdownProb[4855] = 1.9117484F;
-		relShowdownProb[4856] = 2.2545383F;
-		relShowdownProb[4857] = 2.13613F;
-		relShowdownProb[4858] = 2.1005225F;
-		relShowdownProb[4859] = 2.2165916F;
-		relShowdownProb[4860] = 2.4446287F;
-		relShowdownProb[4861] = 2.6330767F;
-		relShowdownProb[4862] = 2.7240322F;
-		relShowdownProb[4866] = 1.4226439F;
-		relShowdownProb[4867] = 1.4540257F;
-		relShowdownProb[4868] = 1.4623942F;
-		relShowdownProb[4869] = 1.372433F;
-		relShowdownProb[4870] = 1.5063288F;
-		relShowdownProb[4871] = 1.6856537F;
-		relShowdownProb[4872] = 1.7835352F;
-		relShowdownProb[4873] = 2.044702F;
-		relShowdownProb[4875] = 0.8237736F;
-		relShowdownProb[4876] = 1.6475472F;
-		relShowdownProb[4877] = 1.7078799F;
-		relShowdownProb[4878] = 1.5147598F;
-		relShowdownProb[4879] = 1.2636234F;
-		relShowdownProb[4880] = 1.4404562F;
-		relShowdownProb[4881] = 1.497103F;
-		relShowdownProb[4882] = 1.8023503F;
-		relShowdownProb[4883] = 1.8010882F;
-		relShowdownProb[4884] = 2.1603096F;
-		relShowdownProb[4886] = 1.9770566F;
-		relShowdownProb[4887] = 2.2241888F;
-		relShowdownProb[4888] = 1.3847739F;
-		relShowdownProb[4889] = 1.466549F;
-		relShowdownProb[4890] = 1.5396547F;
-		relShowdownProb[4891] = 1.4335154F;
-		relShowdownProb[4892] = 1.5977963F;
-		relShowdownProb[4893] = 1.7762959F;
-		relShowdownProb[4894] = 1.8797404F;
-		relShowdownProb[4895] = 2.06552F;
-		relShowdownProb[4897] = 2.1418114F;
-		relShowdownProb[4898] = 1.8946793F;
-		relShowdownProb[4899] = 1.5452857F;
-		relShowdownProb[4900] = 1.3356116F;
-		relShowdownProb[4901] = 1.4532211F;
-		relShowdownProb[4902] = 1.4657824F;
-		relShowdownProb[4903] = 1.6865214F;
-		relShowdownProb[4904] = 1.8866031F;
-		relShowdownProb[4905] = 2.0040934F;
-		relShowdownProb[4906] = 2.1409612F;
-		relShowdownProb[4908] = 1.4004151F;
-		relShowdownProb[4909] = 1.4175123F;
-		relShowdownProb[4910] = 1.7692579F;
-		relShowdownProb[4911] = 1.5766401F;
-		relShowdownProb[4912] = 1.4378594F;
-		relShowdownProb[4913] = 1.6143113F;
-		relShowdownProb[4914] = 1.50195F;
-		relShowdownProb[4915] = 1.7665957F;
-		relShowdownProb[4916] = 2.0138547F;
-		relShowdownProb[4917] = 2.119383F;
-		relShowdownProb[4919] = 1.4004151F;
-		relShowdownProb[4920] = 1.7656733F;
-		relShowdownProb[4921] = 1.8405032F;
-		relShowdownProb[4922] = 1.699575F;
-		relShowdownProb[4923] = 1.6238226F;
-		relShowdownProb[4924] = 1.6856033F;
-		relShowdownProb[4925] = 1.8331959F;
-		relShowdownProb[4926] = 2.0463166F;
-		relShowdownProb[4927] = 2.0052056F;
-		relShowdownProb[4928] = 2.1075222F;
-		relShowdownProb[4930] = 1.8946793F;
-		relShowdownProb[4931] = 1.7408046F;
-		relShowdownProb[4932] = 1.8048805F;
-		relShowdownProb[4933] = 1.7550713F;
-		relShowdownProb[4934] = 1.6407298F;
-		relShowdownProb[4935] = 1.6920264F;
-		relShowdownProb[4936] = 1.8247681F;
-		relShowdownProb[4937] = 1.9273194F;
-		relShowdownProb[4938] = 2.0901718F;
-		relShowdownProb[4939] = 2.267078F;
-		relShowdownProb[4941] = 1.5651698F;
-		relShowdownProb[4942] = 1.9646224F;
-		relShowdownProb[4943] = 1.5317736F;
-		relShowdownProb[4944] = 1.7550713F;
-		relShowdownProb[4945] = 1.6998142F;
-		relShowdownProb[4946] = 1.9401772F;
-		relShowdownProb[4947] = 1.909431F;
-		relShowdownProb[4948] = 2.0057096F;
-		relShowdownProb[4949] = 2.1572318F;
-		relShowdownProb[4950] = 2.308212F;
-		relShowdownProb[4952] = 2.306566F;
-		relShowdownProb[4953] = 1.8651478F;
-		relShowdownProb[4954] = 2.1373584F;
-		relShowdownProb[4955] = 2.3308458F;
-		relShowdownProb[4956] = 2.17249F;
-		relShowdownProb[4957] = 2.2640746F;
-		relShowdownProb[4958] = 2.3858151F;
-		relShowdownProb[4959] = 2.4217932F;
-		relShowdownProb[4960] = 2.452836F;
-		relShowdownProb[4961] = 2.7187865F;
-		relShowdownProb[4963] = 1.9770566F;
-		relShowdownProb[4964] = 2.1138341F;
-		relShowdownProb[4965] = 2.11361F;
-		relShowdownProb[4966] = 2.1435456F;
-		relShowdownProb[4967] = 2.1134055F;
-		relShowdownProb[4968] = 2.1935227F;
-		relShowdownProb[4969] = 2.4001157F;
-		relShowdownProb[4970] = 2.7133906F;
-		relShowdownProb[4971] = 2.679055F;
-		relShowdownProb[4972] = 2.801492F;
-		relShowdownProb[4974] = 2.718453F;
-		relShowdownProb[4975] = 2.7604187F;
-		relShowdownProb[4976] = 2.374843F;
-		relShowdownProb[4977] = 2.1990418F;
-		relShowdownProb[4978] = 2.6633453F;
-		relShowdownProb[4979] = 2.5110064F;
-		relShowdownProb[4980] = 2.74333F;
-		relShowdownProb[4981] = 2.864339F;
-		relShowdownProb[4982] = 2.9421532F;
-		relShowdownProb[4983] = 3.120494F;
-		relShowdownProb[4985] = 1.7299246F;
-		relShowdownProb[4986] = 2.7106814F;
-		relShowdownProb[4987] = 2.7310693F;
-		relShowdownProb[4988] = 2.4557126F;
-		relShowdownProb[4989] = 2.808784F;
-		relShowdownProb[4990] = 2.7098343F;
-		relShowdownProb[4991] = 2.7361796F;
-		relShowdownProb[4992] = 2.930609F;
-		relShowdownProb[4993] = 3.1091046F;
-		relShowdownProb[4994] = 3.4568093F;
-		relShowdownProb[5003] = 1.1252812F;
-		relShowdownProb[5004] = 1.3597149F;
-		relShowdownProb[5007] = 0.9846211F;
-		relShowdownProb[5008] = 0.84396094F;
-		relShowdownProb[5009] = 1.242498F;
-		relShowdownProb[5012] = 0.84396094F;
-		relShowdownProb[5013] = 0.8908477F;
-		relShowdownProb[5014] = 1.0080645F;
-		relShowdownProb[5015] = 0.9564891F;
-		relShowdownProb[5018] = 0.7033008F;
-		relShowdownProb[5019] = 1.0783945F;
-		relShowdownProb[5020] = 0.7501875F;
-		relShowdownProb[5021] = 0.858027F;
-		relShowdownProb[5022] = 1.0502625F;
-		relShowdownProb[5025] = 1.5472617F;
-		relShowdownProb[5026] = 0.93773437F;
-		relShowdownProb[5027] = 0.6564141F;
-		relShowdownProb[5028] = 1.0549512F;
-		relShowdownProb[5029] = 0.9471117F;
-		relShowdownProb[5030] = 0.9980173F;
-		relShowdownProb[5033] = 0.9846211F;
-		relShowdownProb[5034] = 1.2190547F;
-		relShowdownProb[5035] = 0.8205176F;
-		relShowdownProb[5036] = 0.7314328F;
-		relShowdownProb[5037] = 0.8252062F;
-		relShowdownProb[5038] = 0.7501875F;
-		relShowdownProb[5039] = 0.8590317F;
-		relShowdownProb[5042] = 1.2659414F;
-		relShowdownProb[5043] = 0.93773437F;
-		relShowdownProb[5044] = 0.7033008F;
-		relShowdownProb[5045] = 0.886159F;
-		relShowdownProb[5046] = 0.93773437F;
-		relShowdownProb[5047] = 0.85735714F;
-		relShowdownProb[5048] = 0.8992203F;
-		relShowdownProb[5049] = 0.9689922F;
-		relShowdownProb[5053] = 1.2659414F;
-		relShowdownProb[5054] = 1.242498F;
-		relShowdownProb[5055] = 1.0690172F;
-		relShowdownProb[5056] = 1.2096773F;
-		relShowdownProb[5057] = 1.1185832F;
-		relShowdownProb[5058] = 1.1353284F;
-		relShowdownProb[5059] = 1.1799824F;
-		relShowdownProb[5060] = 1.272193F;
-		relShowdownProb[5069] = 0.7033008F;
-		relShowdownProb[5070] = 1.0549512F;
-		relShowdownProb[5073] = 1.4066015F;
-		relShowdownProb[5074] = 1.0315078F;
-		relShowdownProb[5075] = 1.5238184F;
-		relShowdownProb[5078] = 1.828582F;
-		relShowdownProb[5079] = 1.2190547F;
-		relShowdownProb[5080] = 0.9846211F;
-		relShowdownProb[5081] = 1.0268191F;
-		relShowdownProb[5084] = 1.1252812F;
-		relShowdownProb[5085] = 1.172168F;
-		relShowdownProb[5086] = 1.3831582F;
-		relShowdownProb[5087] = 1.1674793F;
-		relShowdownProb[5088] = 0.9564891F;
-		relShowdownProb[5091] = 0.9846211F;
-		relShowdownProb[5092] = 1.2659414F;
-		relShowdownProb[5093] = 1.0315078F;
-		relShowdownProb[5094] = 0.900225F;
-		relShowdownProb[5095] = 1.0127531F;
-		relShowdownProb[5096] = 1.0850927F;
-		relShowdownProb[5099] = 0.84396094F;
-		relShowdownProb[5100] = 0.84396094F;
-		relShowdownProb[5101] = 0.84396094F;
-		relShowdownProb[5102] = 1.0971493F;
-		relShowdownProb[5103] = 1.0408852F;
-		relShowdownProb[5104] = 0.9712249F;
-		relShowdownProb[5105] = 0.8640552F;
-		relShowdownProb[5108] = 1.1252812F;
-		relShowdownProb[5109] = 1.4534882F;
-		relShowdownProb[5110] = 1.0783945F;
-		relShowdownProb[5111] = 0.94242305F;
-		relShowdownProb[5112] = 1.0502625F;
-		relShowdownProb[5113] = 0.8640552F;
-		relShowdownProb[5114] = 0.9695504F;
-		relShowdownProb[5115] = 0.93773437F;
-		relShowdownProb[5119] = 1.1252812F;
-		relShowdownProb[5120] = 0.8908477F;
-		relShowdownProb[5121] = 1.2378094F;
-		relShowdownProb[5122] = 1.3784696F;
-		relShowdownProb[5123] = 1.2592432F;
-		relShowdownProb[5124] = 1.2810122F;
-		relShowdownProb[5125] = 1.3597149F;
-		relShowdownProb[5126] = 1.3909726F;
-		relShowdownProb[5135] = 2.3912227F;
-		relShowdownProb[5136] = 1.6175917F;
-		relShowdownProb[5139] = 1.6879219F;
-		relShowdownProb[5140] = 1.3597149F;
-		relShowdownProb[5141] = 1.1534133F;
-		relShowdownProb[5144] = 1.2659414F;
-		relShowdownProb[5145] = 1.4534882F;
-		relShowdownProb[5146] = 1.172168F;
-		relShowdownProb[5147] = 1.1956114F;
-		relShowdownProb[5150] = 1.828582F;
-		relShowdownProb[5151] = 1.172168F;
-		relShowdownProb[5152] = 1.570705F;
-		relShowdownProb[5153] = 0.97055507F;
-		relShowdownProb[5154] = 0.93773437F;
-		relShowdownProb[5157] = 1.6879219F;
-		relShowdownProb[5158] = 0.8908477F;
-		relShowdownProb[5159] = 1.3362715F;
-		relShowdownProb[5160] = 1.0690172F;
-		relShowdownProb[5161] = 1.0221305F;
-		relShowdownProb[5162] = 1.1520736F;
-		relShowdownProb[5165] = 0.9846211F;
-		relShowdownProb[5166] = 1.0315078F;
-		relShowdownProb[5167] = 1.3362715F;
-		relShowdownProb[5168] = 0.97055507F;
-		relShowdownProb[5169] = 1.0502625F;
-		relShowdownProb[5170] = 1.0248097F;
-		relShowdownProb[5171] = 1.0901163F;
-		relShowdownProb[5174] = 1.2659414F;
-		relShowdownProb[5175] = 1.3597149F;
-		relShowdownProb[5176] = 1.4534882F;
-		relShowdownProb[5177] = 1.0408852F;
-		relShowdownProb[5178] = 0.9658664F;
-		relShowdownProb[5179] = 0.91094196F;
-		relShowdownProb[5180] = 1.1704935F;
-		relShowdownProb[5181] = 1.121374F;
-		relShowdownProb[5185] = 1.5472617F;
-		relShowdownProb[5186] = 1.4769317F;
-		relShowdownProb[5187] = 1.5613277F;
-		relShowdownProb[5188] = 1.4159789F;
-		relShowdownProb[5189] = 1.2257528F;
-		relShowdownProb[5190] = 1.3915309F;
-		relShowdownProb[5191] = 1.207333F;
-		relShowdownProb[5192] = 1.4941235F;
-		relShowdownProb[5201] = 1.1252812F;
-		relShowdownProb[5202] = 2.1099024F;
-		relShowdownProb[5205] = 0.9846211F;
-		relShowdownProb[5206] = 1.828582F;
-		relShowdownProb[5207] = 1.4066015F;
-		relShowdownProb[5210] = 0.9846211F;
-		relShowdownProb[5211] = 1.2659414F;
-		relShowdownProb[5212] = 1.6175917F;
-		relShowdownProb[5213] = 1.3753438F;
-		relShowdownProb[5216] = 2.1099024F;
-		relShowdownProb[5217] = 1.500375F;
-		relShowdownProb[5218] = 1.1018379F;
-		relShowdownProb[5219] = 1.3644035F;
-		relShowdownProb[5220] = 1.2659414F;
-		relShowdownProb[5223] = 0.9846211F;
-		relShowdownProb[5224] = 1.2659414F;
-		relShowdownProb[5225] = 1.6175917F;
-		relShowdownProb[5226] = 1.2800074F;
-		relShowdownProb[5227] = 1.0783945F;
-		relShowdownProb[5228] = 1.3798091F;
-		relShowdownProb[5231] = 1.4066015F;
-		relShowdownProb[5232] = 1.3128282F;
-		relShowdownProb[5233] = 1.4066015F;
-		relShowdownProb[5234] = 1.2096773F;
-		relShowdownProb[5235] = 1.4159789F;
-		relShowdownProb[5236] = 1.2123566F;
-		relShowdownProb[5237] = 1.1704935F;
-		relShowdownProb[5240] = 1.2659414F;
-		relShowdownProb[5241] = 1.6410352F;
-		relShowdownProb[5242] = 1.3831582F;
-		relShowdownProb[5243] = 1.2518754F;
-		relShowdownProb[5244] = 1.256564F;
-		relShowdownProb[5245] = 1.0716964F;
-		relShowdownProb[5246] = 1.1202576F;
-		relShowdownProb[5247] = 1.2112403F;
-		relShowdownProb[5251] = 1.6879219F;
-		relShowdownProb[5252] = 1.5238184F;
-		relShowdownProb[5253] = 1.4066015F;
-		relShowdownProb[5254] = 1.3597149F;
-		relShowdownProb[5255] = 1.3329225F;
-		relShowdownProb[5256] = 1.3965544F;
-		relShowdownProb[5257] = 1.53554F;
-		relShowdownProb[5258] = 1.6004F;
-		relShowdownProb[5267] = 1.4066015F;
-		relShowdownProb[5268] = 1.828582F;
-		relShowdownProb[5271] = 1.4066015F;
-		relShowdownProb[5272] = 1.9692422F;
-		relShowdownProb[5273] = 1.3784696F;
-		relShowdownProb[5276] = 0.5626406F;
-		relShowdownProb[5277] = 1.500375F;
-		relShowdownProb[5278] = 1.4066015F;
-		relShowdownProb[5279] = 1.5785196F;
-		relShowdownProb[5282] = 1.1252812F;
-		relShowdownProb[5283] = 1.500375F;
-		relShowdownProb[5284] = 1.5238184F;
-		relShowdownProb[5285] = 1.3925356F;
-		relShowdownProb[5286] = 1.6879219F;
-		relShowdownProb[5289] = 1.2659414F;
-		relShowdownProb[5290] = 1.7348086F;
-		relShowdownProb[5291] = 1.5941484F;
-		relShowdownProb[5292] = 1.2237433F;
-		relShowdownProb[5293] = 1.3409601F;
-		relShowdownProb[5294] = 1.5338656F;
-		relShowdownProb[5297] = 2.2505624F;
-		relShowdownProb[5298] = 1.4534882F;
-		relShowdownProb[5299] = 1.5941484F;
-		relShowdownProb[5300] = 1.4628656F;
-		relShowdownProb[5301] = 1.2753187F;
-		relShowdownProb[5302] = 1.3932054F;
-		relShowdownProb[5303] = 1.3563658F;
-		relShowdownProb[5306] = 1.6879219F;
-		relShowdownProb[5307] = 1.2190547F;
-		relShowdownProb[5308] = 1.5472617F;
-		relShowdownProb[5309] = 1.1534133F;
-		relShowdownProb[5310] = 1.2378094F;
-		relShowdownProb[5311] = 1.4668845F;
-		relShowdownProb[5312] = 1.2558943F;
-		relShowdownProb[5313] = 1.1760752F;
-		relShowdownProb[5316] = 2.3912227F;
-		relShowdownProb[5317] = 1.4066015F;
-		relShowdownProb[5318] = 1.7113652F;
-		relShowdownProb[5319] = 1.6316578F;
-		relShowdownProb[5320] = 1.5753938F;
-		relShowdownProb[5321] = 1.3932054F;
-		relShowdownProb[5322] = 1.4317194F;
-		relShowdownProb[5323] = 1.5511689F;
-		relShowdownProb[5324] = 1.6972992F;
-		relShowdownProb[5330] = 1.1252812F;
-		relShowdownProb[5333] = 2.1099024F;
-		relShowdownProb[5334] = 2.1802325F;
-		relShowdownProb[5337] = 1.9692422F;
-		relShowdownProb[5338] = 1.828582F;
-		relShowdownProb[5339] = 1.8848461F;
-		relShowdownProb[5342] = 1.4066015F;
-		relShowdownProb[5343] = 1.5941484F;
-		relShowdownProb[5344] = 1.8754687F;
-		relShowdownProb[5345] = 1.7035508F;
-		relShowdownProb[5348] = 0.5626406F;
-		relShowdownProb[5349] = 1.6410352F;
-		relShowdownProb[5350] = 1.500375F;
-		relShowdownProb[5351] = 1.7441859F;
-		relShowdownProb[5352] = 1.5271674F;
-		relShowdownProb[5355] = 0.9846211F;
-		relShowdownProb[5356] = 1.500375F;
-		relShowdownProb[5357] = 1.3128282F;
-		relShowdownProb[5358] = 1.73012F;
-		relShowdownProb[5359] = 1.8192047F;
-		relShowdownProb[5360] = 1.5191296F;
-		relShowdownProb[5363] = 0.84396094F;
-		relShowdownProb[5364] = 1.2659414F;
-		relShowdownProb[5365] = 1.7348086F;
-		relShowdownProb[5366] = 1.4347336F;
-		relShowdownProb[5367] = 1.6222805F;
-		relShowdownProb[5368] = 1.4266958F;
-		relShowdownProb[5369] = 1.4518137F;
-		relShowdownProb[5372] = 1.6879219F;
-		relShowdownProb[5373] = 1.4534882F;
-		relShowdownProb[5374] = 1.500375F;
-		relShowdownProb[5375] = 1.2940735F;
-		relShowdownProb[5376] = 1.4816203F;
-		relShowdownProb[5377] = 1.3932054F;
-		relShowdownProb[5378] = 1.6025211F;
-		relShowdownProb[5379] = 1.46521F;
-		relShowdownProb[5382] = 1.2659414F;
-		relShowdownProb[5383] = 2.0630157F;
-		relShowdownProb[5384] = 1.3831582F;
-		relShowdownProb[5385] = 1.5894598F;
-		relShowdownProb[5386] = 1.7441859F;
-		relShowdownProb[5387] = 1.4668845F;
-		relShowdownProb[5388] = 1.7180634F;
-		relShowdownProb[5389] = 1.6332207F;
-		relShowdownProb[5390] = 1.7629406F;
-		relShowdownProb[5396] = 1.2659414F;
-		relShowdownProb[5399] = 1.828582F;
-		relShowdownProb[5400] = 1.3128282F;
-		relShowdownProb[5403] = 1.4066015F;
-		relShowdownProb[5404] = 1.3597149F;
-		relShowdownProb[5405] = 1.856714F;
-		relShowdownProb[5408] = 0.84396094F;
-		relShowdownProb[5409] = 1.6410352F;
-		relShowdownProb[5410] = 1.7816954F;
-		relShowdownProb[5411] = 2.484996F;
-		relShowdownProb[5414] = 1.2659414F;
-		relShowdownProb[5415] = 1.0315078F;
-		relShowdownProb[5416] = 1.5238184F;
-		relShowdownProb[5417] = 1.73012F;
-		relShowdownProb[5418] = 2.1400437F;
-		relShowdownProb[5421] = 1.4066015F;
-		relShowdownProb[5422] = 1.4066015F;
-		relShowdownProb[5423] = 1.4066015F;
-		relShowdownProb[5424] = 1.8145161F;
-		relShowdownProb[5425] = 1.7254312F;
-		relShowdownProb[5426] = 1.9129782F;
-		relShowdownProb[5429] = 1.4066015F;
-		relShowdownProb[5430] = 1.5941484F;
-		relShowdownProb[5431] = 1.7348086F;
-		relShowdownProb[5432] = 1.2940735F;
-		relShowdownProb[5433] = 1.8098273F;
-		relShowdownProb[5434] = 1.7482048F;
-		relShowdownProb[5435] = 1.6775026F;
-		relShowdownProb[5438] = 1.4066015F;
-		relShowdownProb[5439] = 1.7348086F;
-		relShowdownProb[5440] = 1.3128282F;
-		relShowdownProb[5441] = 1.6879219F;
-		relShowdownProb[5442] = 1.6972992F;
-		relShowdownProb[5443] = 1.5941484F;
-		relShowdownProb[5444] = 1.7029926F;
-		relShowdownProb[5445] = 1.6332207F;
-		relShowdownProb[5448] = 1.4066015F;
-		relShowdownProb[5449] = 1.2190547F;
-		relShowdownProb[5450] = 1.6175917F;
-		relShowdownProb[5451] = 1.828582F;
-		relShowdownProb[5452] = 1.8192047F;
-		relShowdownProb[5453] = 2.0496194F;
-		relShowdownProb[5454] = 1.8084878F;
-		relShowdownProb[5455] = 1.7504375F;
-		relShowdownProb[5456] = 1.844211F;
-		relShowdownProb[5462] = 1.828582F;
-		relShowdownProb[5465] = 1.828582F;
-		relShowdownProb[5466] = 1.1252812F;
-		relShowdownProb[5469] = 2.3912227F;
-		relShowdownProb[5470] = 1.9692422F;
-		relShowdownProb[5471] = 2.156789F;
-		relShowdownProb[5474] = 1.2659414F;
-		relShowdownProb[5475] = 1.3597149F;
-		relShowdownProb[5476] = 1.500375F;
-		relShowdownProb[5477] = 2.328707F;
-		relShowdownProb[5480] = 1.4066015F;
-		relShowdownProb[5481] = 1.828582F;
-		relShowdownProb[5482] = 1.828582F;
-		relShowdownProb[5483] = 1.9692422F;
-		relShowdownProb[5484] = 2.2907512F;
-		relShowdownProb[5487] = 2.2505624F;
-		relShowdownProb[5488] = 1.2659414F;
-		relShowdownProb[5489] = 1.9457989F;
-		relShowdownProb[5490] = 1.6879219F;
-		relShowdownProb[5491] = 2.1755438F;
-		relShowdownProb[5492] = 2.2153974F;
-		relShowdownProb[5495] = 1.4066015F;
-		relShowdownProb[5496] = 1.9223554F;
-		relShowdownProb[5497] = 1.500375F;
-		relShowdownProb[5498] = 1.9692422F;
-		relShowdownProb[5499] = 2.0817704F;
-		relShowdownProb[5500] = 1.8352802F;
-		relShowdownProb[5501] = 2.1255312F;
-		relShowdownProb[5504] = 2.2505624F;
-		relShowdownProb[5505] = 1.3597149F;
-		relShowdownProb[5506] = 1.7582519F;
-		relShowdownProb[5507] = 1.3925356F;
-		relShowdownProb[5508] = 1.9036008F;
-		relShowdownProb[5509] = 2.1299965F;
-		relShowdownProb[5510] = 1.793417F;
-		relShowdownProb[5511] = 1.856714F;
-		relShowdownProb[5514] = 2.813203F;
-		relShowdownProb[5515] = 1.8754687F;
-		relShowdownProb[5516] = 1.5472617F;
-		relShowdownProb[5517] = 1.80045F;
-		relShowdownProb[5518] = 1.9879968F;
-		relShowdownProb[5519] = 2.0496194F;
-		relShowdownProb[5520] = 1.9340771F;
-		relShowdownProb[5521] = 1.9340771F;
-		relShowdownProb[5522] = 2.2536883F;
-		relShowdownProb[5528] = 1.828582F;
-		relShowdownProb[5531] = 1.828582F;
-		relShowdownProb[5532] = 1.3128282F;
-		relShowdownProb[5535] = 1.828582F;
-		relShowdownProb[5536] = 1.9692422F;
-		relShowdownProb[5537] = 2.0395722F;
-		relShowdownProb[5540] = 2.1099024F;
-		relShowdownProb[5541] = 1.4534882F;
-		relShowdownProb[5542] = 1.9457989F;
-		relShowdownProb[5543] = 2.2786946F;
-		relShowdownProb[5546] = 1.1252812F;
-		relShowdownProb[5547] = 2.156789F;
-		relShowdownProb[5548] = 2.086459F;
-		relShowdownProb[5549] = 2.1380343F;
-		relShowdownProb[5550] = 2.421364F;
-		relShowdownProb[5553] = 1.4066015F;
-		relShowdownProb[5554] = 2.297449F;
-		relShowdownProb[5555] = 1.9926856F;
-		relShowdownProb[5556] = 1.9692422F;
-		relShowdownProb[5557] = 2.5412602F;
-		relShowdownProb[5558] = 2.5037508F;
-		relShowdownProb[5561] = 2.1099024F;
-		relShowdownProb[5562] = 1.5941484F;
-		relShowdownProb[5563] = 1.8520254F;
-		relShowdownProb[5564] = 2.0395722F;
-		relShowdownProb[5565] = 2.0255063F;
-		relShowdownProb[5566] = 2.2304683F;
-		relShowdownProb[5567] = 2.5891888F;
-		relShowdownProb[5570] = 1.4066015F;
-		relShowdownProb[5571] = 1.7348086F;
-		relShowdownProb[5572] = 1.7816954F;
-		relShowdownProb[5573] = 2.0255063F;
-		relShowdownProb[5574] = 2.2880719F;
-		relShowdownProb[5575] = 2.2639587F;
-		relShowdownProb[5576] = 2.2606096F;
-		relShowdownProb[5577] = 2.326921F;
-		relShowdownProb[5580] = 1.5472617F;
-		relShowdownProb[5581] = 2.344336F;
-		relShowdownProb[5582] = 1.9457989F;
-		relShowdownProb[5583] = 1.8989121F;
-		relShowdownProb[5584] = 1.9317328F;
-		relShowdownProb[5585] = 2.478298F;
-		relShowdownProb[5586] = 2.54193F;
-		relShowdownProb[5587] = 2.5396972F;
-		relShowdownProb[5588] = 2.512702F;
-		relShowdownProb[5594] = 1.5472617F;
-		relShowdownProb[5597] = 1.6879219F;
-		relShowdownProb[5598] = 1.9692422F;
-		relShowdownProb[5601] = 1.9692422F;
-		relShowdownProb[5602] = 1.9223554F;
-		relShowdownProb[5603] = 2.1333456F;
-		relShowdownProb[5606] = 1.828582F;
-		relShowdownProb[5607] = 2.156789F;
-		relShowdownProb[5608] = 1.4300449F;
-		relShowdownProb[5609] = 2.0536382F;
-		relShowdownProb[5612] = 2.672543F;
-		relShowdownProb[5613] = 2.156789F;
-		relShowdownProb[5614] = 1.6410352F;
-		relShowdownProb[5615] = 2.1942985F;
-		relShowdownProb[5616] = 2.156789F;
-		relShowdownProb[5619] = 1.4066015F;
-		relShowdownProb[5620] = 2.344336F;
-		relShowdownProb[5621] = 2.5084395F;
-		relShowdownProb[5622] = 1.8989121F;
-		relShowdownProb[5623] = 2.2693172F;
-		relShowdownProb[5624] = 2.686609F;
-		relShowdownProb[5627] = 3.0945234F;
-		relShowdownProb[5628] = 1.6410352F;
-		relShowdownProb[5629] = 1.6879219F;
-		relShowdownProb[5630] = 2.0114403F;
-		relShowdownProb[5631] = 2.2036757F;
-		relShowdownProb[5632] = 2.3041472F;
-		relShowdownProb[5633] = 2.6985912F;
-		relShowdownProb[5636] = 1.6879219F;
-		relShowdownProb[5637] = 2.2036757F;
-		relShowdownProb[5638] = 2.1099024F;
-		relShowdownProb[5639] = 2.0536382F;
-		relShowdownProb[5640] = 1.856714F;
-		relShowdownProb[5641] = 2.089808F;
-		relShowdownProb[5642] = 2.446482F;
-		relShowdownProb[5643] = 2.6645052F;
-		relShowdownProb[5646] = 2.672543F;
-		relShowdownProb[5647] = 2.5318828F;
-		relShowdownProb[5648] = 2.2271192F;
-		relShowdownProb[5649] = 2.0677042F;
-		relShowdownProb[5650] = 2.2411852F;
-		relShowdownProb[5651] = 2.337638F;
-		relShowdownProb[5652] = 2.672543F;
-		relShowdownProb[5653] = 2.879626F;
-		relShowdownProb[5654] = 2.851565F;
-		relShowdownProb[5660] = 3.7978241F;
-		relShowdownProb[5663] = 1.2659414F;
-		relShowdownProb[5664] = 1.8754687F;
-		relShowdownProb[5667] = 1.9692422F;
-		relShowdownProb[5668] = 1.828582F;
-		relShowdownProb[5669] = 1.9223554F;
-		relShowdownProb[5672] = 1.9692422F;
-		relShowdownProb[5673] = 1.9223554F;
-		relShowdownProb[5674] = 2.156789F;
-		relShowdownProb[5675] = 1.9411101F;
-		relShowdownProb[5678] = 2.3912227F;
-		relShowdownProb[5679] = 1.8754687F;
-		relShowdownProb[5680] = 1.6879219F;
-		relShowdownProb[5681] = 2.0114403F;
-		relShowdownProb[5682] = 2.3537133F;
-		relShowdownProb[5685] = 1.828582F;
-		relShowdownProb[5686] = 2.344336F;
-		relShowdownProb[5687] = 1.9926856F;
-		relShowdownProb[5688] = 2.1099024F;
-		relShowdownProb[5689] = 2.0817704F;
-		relShowdownProb[5690] = 2.4983923F;
-		relShowdownProb[5693] = 2.672543F;
-		relShowdownProb[5694] = 2.4381094F;
-		relShowdownProb[5695] = 2.156789F;
-		relShowdownProb[5696] = 2.2083645F;
-		relShowdownProb[5697] = 2.1942985F;
-		relShowdownProb[5698] = 2.7194297F;
-		relShowdownProb[5699] = 2.8705091F;
-		relShowdownProb[5702] = 2.672543F;
-		relShowdownProb[5703] = 2.9538634F;
-		relShowdownProb[5704] = 2.3208926F;
-		relShowdownProb[5705] = 2.2364964F;
-		relShowdownProb[5706] = 2.4099774F;
-		relShowdownProb[5707] = 2.4314113F;
-		relShowdownProb[5708] = 2.8332975F;
-		relShowdownProb[5709] = 2.6926372F;
-		relShowdownProb[5712] = 2.2505624F;
-		relShowdownProb[5713] = 2.1099024F;
-		relShowdownProb[5714] = 2.6256564F;
-		relShowdownProb[5715] = 2.602213F;
-		relShowdownProb[5716] = 2.4662414F;
-		relShowdownProb[5717] = 2.484996F;
-		relShowdownProb[5718] = 3.0040991F;
-		relShowdownProb[5719] = 3.2429981F;
-		relShowdownProb[5720] = 3.0881298F;
-		relShowdownProb[5726] = 2.2505624F;
-		relShowdownProb[5729] = 1.4066015F;
-		relShowdownProb[5730] = 1.7816954F;
-		relShowdownProb[5733] = 2.1099024F;
-		relShowdownProb[5734] = 1.3597149F;
-		relShowdownProb[5735] = 2.1802325F;
-		relShowdownProb[5738] = 1.5472617F;
-		relShowdownProb[5739] = 1.5941484F;
-		relShowdownProb[5740] = 1.6175917F;
-		relShowdownProb[5741] = 1.842648F;
-		relShowdownProb[5744] = 2.672543F;
-		relShowdownProb[5745] = 2.156789F;
-		relShowdownProb[5746] = 2.274006F;
-		relShowdownProb[5747] = 1.8145161F;
-		relShowdownProb[5748] = 2.2130532F;
-		relShowdownProb[5751] = 1.6879219F;
-		relShowdownProb[5752] = 2.1099024F;
-		relShowdownProb[5753] = 1.7113652F;
-		relShowdownProb[5754] = 1.9692422F;
-		relShowdownProb[5755] = 2.25994F;
-		relShowdownProb[5756] = 2.5117886F;
-		relShowdownProb[5759] = 2.5318828F;
-		relShowdownProb[5760] = 2.4381094F;
-		relShowdownProb[5761] = 2.086459F;
-		relShowdownProb[5762] = 2.2224305F;
-		relShowdownProb[5763] = 2.4756188F;
-		relShowdownProb[5764] = 2.297449F;
-		relShowdownProb[5765] = 2.968934F;
-		relShowdownProb[5768] = 1.6879219F;
-		relShowdownProb[5769] = 2.7194297F;
-		relShowdownProb[5770] = 2.414666F;
-		relShowdownProb[5771] = 2.602213F;
-		relShowdownProb[5772] = 2.4193547F;
-		relShowdownProb[5773] = 2.5251846F;
-		relShowdownProb[5774] = 2.7679908F;
-		relShowdownProb[5775] = 2.6886184F;
-		relShowdownProb[5778] = 2.3912227F;
-		relShowdownProb[5779] = 2.9069765F;
-		relShowdownProb[5780] = 2.813203F;
-		relShowdownProb[5781] = 2.714741F;
-		relShowdownProb[5782] = 2.5693922F;
-		relShowdownProb[5783] = 2.7730145F;
-		relShowdownProb[5784] = 2.68259F;
-		relShowdownProb[5785] = 3.1961114F;
-		relShowdownProb[5786] = 3.030587F;
-		relShowdownProb[5795] = 2.9538634F;
-		relShowdownProb[5796] = 2.5318828F;
-		relShowdownProb[5799] = 2.9538634F;
-		relShowdownProb[5800] = 2.016129F;
-		relShowdownProb[5801] = 2.2036757F;
-		relShowdownProb[5804] = 2.1099024F;
-		relShowdownProb[5805] = 2.156789F;
-		relShowdownProb[5806] = 2.274006F;
-		relShowdownProb[5807] = 2.1942985F;
-		relShowdownProb[5810] = 1.4066015F;
-		relShowdownProb[5811] = 2.156789F;
-		relShowdownProb[5812] = 2.2271192F;
-		relShowdownProb[5813] = 2.3068266F;
-		relShowdownProb[5814] = 2.3912227F;
-		relShowdownProb[5817] = 1.5472617F;
-		relShowdownProb[5818] = 2.484996F;
-		relShowdownProb[5819] = 2.6490996F;
-		relShowdownProb[5820] = 2.3068266F;
-		relShowdownProb[5821] = 2.3818452F;
-		relShowdownProb[5822] = 2.5519772F;
-		relShowdownProb[5825] = 2.672543F;
-		relShowdownProb[5826] = 2.344336F;
-		relShowdownProb[5827] = 2.297449F;
-		relShowdownProb[5828] = 2.6303449F;
-		relShowdownProb[5829] = 2.6537883F;
-		relShowdownProb[5830] = 2.7931087F;
-		relShowdownProb[5831] = 3.109594F;
-		relShowdownProb[5834] = 2.672543F;
-		relShowdownProb[5835] = 3.00075F;
-		relShowdownProb[5836] = 2.5084395F;
-		relShowdownProb[5837] = 2.4756188F;
-		relShowdownProb[5838] = 2.6537883F;
-		relShowdownProb[5839] = 2.8533916F;
-		relShowdownProb[5840] = 3.325608F;
-		relShowdownProb[5841] = 3.3016064F;
-		relShowdownProb[5844] = 4.0791445F;
-		relShowdownProb[5845] = 2.7663164F;
-		relShowdownProb[5846] = 3.2117403F;
-		relShowdownProb[5847] = 2.700675F;
-		relShowdownProb[5848] = 2.672543F;
-		relShowdownProb[5849] = 2.9806557F;
-		relShowdownProb[5850] = 3.2201128F;
-		relShowdownProb[5851] = 3.5477617F;
-		relShowdownProb[5852] = 3.6859355F;
-		relShowdownProb[5853] = 0.99574786F;
-		relShowdownProb[5854] = 0.6959858F;
-		relShowdownProb[5855] = 0.80164546F;
-		relShowdownProb[5856] = 0.922871F;
-		relShowdownProb[5857] = 0.99221015F;
-		relShowdownProb[5858] = 1.165558F;
-		relShowdownProb[5859] = 1.3558869F;
-		relShowdownProb[5860] = 1.539612F;
-		relShowdownProb[5861] = 1.709894F;
-		relShowdownProb[5862] = 2.5375936F;
-		relShowdownProb[5863] = 1.0565647F;
-		relShowdownProb[5864] = 1.4887956F;
-		relShowdownProb[5865] = 0.864462F;
-		relShowdownProb[5866] = 1.008539F;
-		relShowdownProb[5867] = 0.96051335F;
-		relShowdownProb[5868] = 0.81643635F;
-		relShowdownProb[5869] = 0.81643635F;
-		relShowdownProb[5870] = 1.152616F;
-		relShowdownProb[5871] = 1.5368214F;
-		relShowdownProb[5872] = 1.0565647F;
-		relShowdownProb[5873] = 1.0565647F;
-		relShowdownProb[5874] = 0.67235935F;
-		relShowdownProb[5875] = 0.5474926F;
-		relShowdownProb[5876] = 0.81643635F;
-		relShowdownProb[5877] = 1.3447187F;
-		relShowdownProb[5878] = 1.551229F;
-		relShowdownProb[5879] = 1.2486674F;
-		relShowdownProb[5880] = 1.6881022F;
-		relShowdownProb[5881] = 0.720385F;
-		relShowdownProb[5882] = 0.7684107F;
-		relShowdownProb[5883] = 0.720385F;
-		relShowdownProb[5884] = 1.1045903F;
-		relShowdownProb[5885] = 1.008539F;
-		relShowdownProb[5886] = 0.576308F;
-		relShowdownProb[5887] = 0.81643635F;
-		relShowdownProb[5888] = 1.0565647F;
-		relShowdownProb[5889] = 0.95811206F;
-		relShowdownProb[5890] = 1.008539F;
-		relShowdownProb[5891] = 0.7684107F;
-		relShowdownProb[5892] = 1.2318584F;
-		relShowdownProb[5893] = 1.44077F;
-		relShowdownProb[5894] = 1.186234F;
-		relShowdownProb[5895] = 1.3231071F;
-		relShowdownProb[5896] = 0.432231F;
-		relShowdownProb[5897] = 0.9124877F;
-		relShowdownProb[5898] = 0.96051335F;
-		relShowdownProb[5899] = 0.9124877F;
-		relShowdownProb[5900] = 1.152616F;
-		relShowdownProb[5901] = 0.7684107F;
-		relShowdownProb[5902] = 1.0037365F;
-		relShowdownProb[5903] = 1.2006416F;
-		relShowdownProb[5904] = 1.6424779F;
-		relShowdownProb[5905] = 1.7815236F;
-		relShowdownProb[5906] = 0.81643635F;
-		relShowdownProb[5907] = 1.5368214F;
-		relShowdownProb[5908] = 1.0949852F;
-		relShowdownProb[5909] = 1.296693F;
-		relShowdownProb[5910] = 1.8249754F;
-		relShowdownProb[5911] = 1.8227497F;
-		relShowdownProb[5912] = 1.3927443F;
-		relShowdownProb[5913] = 1.779351F;
-		relShowdownProb[5914] = 1.8227497F;
-		relShowdownProb[5915] = 0.432231F;
-		relShowdownProb[5916] = 1.2486674F;
-		relShowdownProb[5917] = 0.720385F;
-		relShowdownProb[5918] = 1.2486674F;
-		relShowdownProb[5919] = 1.3927443F;
-		relShowdownProb[5920] = 0.6243337F;
-		relShowdownProb[5921] = 1.1045903F;
-		relShowdownProb[5922] = 0.96051335F;
-		relShowdownProb[5923] = 0.68436575F;
-		relShowdownProb[5924] = 1.2486674F;
-		relShowdownProb[5925] = 1.008539F;
-		relShowdownProb[5926] = 1.2774827F;
-		relShowdownProb[5927] = 1.0565647F;
-		relShowdownProb[5928] = 1.186234F;
-		relShowdownProb[5929] = 1.4143559F;
-		relShowdownProb[5930] = 0.7684107F;
-		relShowdownProb[5931] = 0.720385F;
-		relShowdownProb[5932] = 0.81643635F;
-		relShowdownProb[5933] = 1.186234F;
-		relShowdownProb[5934] = 0.576308F;
-		relShowdownProb[5935] = 1.152616F;
-		relShowdownProb[5936] = 1.2318584F;
-		relShowdownProb[5937] = 1.2006416F;
-		relShowdownProb[5938] = 1.0493609F;
-		relShowdownProb[5939] = 1.4339092F;
-		relShowdownProb[5940] = 0.864462F;
-		relShowdownProb[5941] = 1.2006416F;
-		relShowdownProb[5942] = 1.186234F;
-		relShowdownProb[5943] = 1.584847F;
-		relShowdownProb[5944] = 1.0493609F;
-		relShowdownProb[5945] = 1.6057558F;
-		relShowdownProb[5946] = 1.2006416F;
-		relShowdownProb[5947] = 1.4143559F;
-		relShowdownProb[5948] = 1.3887618F;
-		relShowdownProb[5949] = 1.779351F;
-		relShowdownProb[5950] = 0.67235935F;
-		relShowdownProb[5951] = 0.9124877F;
-		relShowdownProb[5952] = 0.38420534F;
-		relShowdownProb[5953] = 0.593117F;
-		relShowdownProb[5954] = 1.1045903F;
-		relShowdownProb[5955] = 1.1045903F;
-		relShowdownProb[5956] = 1.2318584F;
-		relShowdownProb[5957] = 0.7684107F;
-		relShowdownProb[5958] = 1.0949852F;
-		relShowdownProb[5959] = 2.0422344F;
-		relShowdownProb[5960] = 1.152616F;
-		relShowdownProb[5961] = 0.96051335F;
-		relShowdownProb[5962] = 0.95811206F;
-		relShowdownProb[5963] = 1.296693F;
-		relShowdownProb[5964] = 0.82123893F;
-		relShowdownProb[5965] = 1.4321605F;
-		relShowdownProb[5966] = 1.296693F;
-		relShowdownProb[5967] = 1.186234F;
-		relShowdownProb[5968] = 1.2585653F;
-		relShowdownProb[5969] = 1.5310694F;
-		relShowdownProb[5970] = 1.2486674F;
-		relShowdownProb[5971] = 0.9124877F;
-		relShowdownProb[5972] = 1.4599802F;
-		relShowdownProb[5973] = 1.4887956F;
-		relShowdownProb[5974] = 0.8668633F;
-		relShowdownProb[5975] = 0.6943809F;
-		relShowdownProb[5976] = 1.0565647F;
-		relShowdownProb[5977] = 1.4599802F;
-		relShowdownProb[5978] = 1.4755594F;
-		relShowdownProb[5979] = 1.5292912F;
-		relShowdownProb[5980] = 1.2006416F;
-		relShowdownProb[5981] = 1.3231071F;
-		relShowdownProb[5982] = 1.8227497F;
-		relShowdownProb[5983] = 1.9426131F;
-		relShowdownProb[5984] = 1.3447187F;
-		relShowdownProb[5985] = 0.7684107F;
-		relShowdownProb[5986] = 0.9124877F;
-		relShowdownProb[5987] = 1.728924F;
-		relShowdownProb[5988] = 1.008539F;
-		relShowdownProb[5989] = 0.9124877F;
-		relShowdownProb[5990] = 0.67235935F;
-		relShowdownProb[5991] = 0.9124877F;
-		relShowdownProb[5992] = 0.68436575F;
-		relShowdownProb[5993] = 0.52828234F;
-		relShowdownProb[5994] = 1.1045903F;
-		relShowdownProb[5995] = 1.0037365F;
-		relShowdownProb[5996] = 0.52828234F;
-		relShowdownProb[5997] = 1.551229F;
-		relShowdownProb[5998] = 1.1406096F;
-		relShowdownProb[5999] = 0.52828234F;
-		relShowdownProb[6000] = 0.720385F;
-		relShowdownProb[6001] = 0.576308F;
-		relShowdownProb[6002] = 1.0949852F;
-		relShowdownProb[6003] = 0.96051335F;
-		relShowdownProb[6004] = 0.432231F;
-		relShowdownProb[6005] = 0.9124877F;
-		relShowdownProb[6006] = 0.96051335F;
-		relShowdownProb[6007] = 1.3231071F;
-		relShowdownProb[6008] = 1.477361F;
-		relShowdownProb[6009] = 1.1045903F;
-		relShowdownProb[6010] = 0.96051335F;
-		relShowdownProb[6011] = 0.82123893F;
-		relShowdownProb[6012] = 1.4887956F;
-		relShowdownProb[6013] = 0.68436575F;
-		relShowdownProb[6014] = 1.1717677F;
-		relShowdownProb[6015] = 1.3447187F;
-		relShowdownProb[6016] = 1.1406096F;
-		relShowdownProb[6017] = 1.3453629F;
-		relShowdownProb[6018] = 1.8227497F;
-		relShowdownProb[6019] = 0.6243337F;
-		relShowdownProb[6020] = 1.0565647F;
-		relShowdownProb[6021] = 1.0565647F;
-		relShowdownProb[6022] = 0.95811206F;
-		relShowdownProb[6023] = 0.6243337F;
-		relShowdownProb[6024] = 0.6243337F;
-		relShowdownProb[6025] = 0.8668633F;
-		relShowdownProb[6026] = 0.81643635F;
-		relShowdownProb[6027] = 1.0493609F;
-		relShowdownProb[6028] = 1.1297467F;
-		relShowdownProb[6029] = 1.008539F;
-		relShowdownProb[6030] = 0.9124877F;
-		relShowdownProb[6031] = 1.0037365F;
-		relShowdownProb[6032] = 0.864462F;
-		relShowdownProb[6033] = 1.4599802F;
-		relShowdownProb[6034] = 1.2585653F;
-		relShowdownProb[6035] = 1.2006416F;
-		relShowdownProb[6036] = 1.2318584F;
-		relShowdownProb[6037] = 1.5189581F;
-		relShowdownProb[6038] = 1.6965904F;
-		relShowdownProb[6039] = 0.9124877F;
-		relShowdownProb[6040] = 1.2486674F;
-		relShowdownProb[6041] = 1.2774827F;
-		relShowdownProb[6042] = 0.864462F;
-		relShowdownProb[6043] = 1.4143559F;
-		relShowdownProb[6044] = 1.3019642F;
-		relShowdownProb[6045] = 0.9124877F;
-		relShowdownProb[6046] = 1.4143559F;
-		relShowdownProb[6047] = 1.2151666F;
-		relShowdownProb[6048] = 1.8186165F;
-		relShowdownProb[6049] = 1.2006416F;
-		relShowdownProb[6050] = 1.5056046F;
-		relShowdownProb[6051] = 1.1283689F;
-		relShowdownProb[6052] = 1.7772844F;
-		relShowdownProb[6053] = 1.7359521F;
-		relShowdownProb[6054] = 1.3927443F;
-		relShowdownProb[6055] = 1.44077F;
-		relShowdownProb[6056] = 0.9124877F;
-		relShowdownProb[6057] = 0.9124877F;
-		relShowdownProb[6058] = 0.7684107F;
-		relShowdownProb[6059] = 1.152616F;
-		relShowdownProb[6060] = 1.2318584F;
-		relShowdownProb[6061] = 0.9124877F;
-		relShowdownProb[6062] = 1.0493609F;
-		relShowdownProb[6063] = 1.1731985F;
-		relShowdownProb[6064] = 0.96051335F;
-		relShowdownProb[6065] = 0.96051335F;
-		relShowdownProb[6066] = 1.0037365F;
-		relShowdownProb[6067] = 1.0565647F;
-		relShowdownProb[6068] = 1.1406096F;
-		relShowdownProb[6069] = 1.3887618F;
-		relShowdownProb[6070] = 1.2486674F;
-		relShowdownProb[6071] = 1.0493609F;
-		relShowdownProb[6072] = 1.3019642F;
-		relShowdownProb[6073] = 1.6965904F;
-		relShowdownProb[6074] = 0.576308F;
-		relShowdownProb[6075] = 0.9124877F;
-		relShowdownProb[6076] = 1.3687315F;
-		relShowdownProb[6077] = 1.584847F;
-		relShowdownProb[6078] = 1.4143559F;
-		relShowdownProb[6079] = 1.2585653F;
-		relShowdownProb[6080] = 0.81643635F;
-		relShowdownProb[6081] = 1.2318584F;
-		relShowdownProb[6082] = 1.1283689F;
-		relShowdownProb[6083] = 1.6532878F;
-		relShowdownProb[6084] = 1.6328727F;
-		relShowdownProb[6085] = 1.4143559F;
-		relShowdownProb[6086] = 1.996345F;
-		relShowdownProb[6087] = 1.2399658F;
-		relShowdownProb[6088] = 1.7359521F;
-		relShowdownProb[6089] = 0.864462F;
-		relShowdownProb[6090] = 1.2486674F;
-		relShowdownProb[6091] = 1.6881022F;
-		relShowdownProb[6092] = 1.008539F;
-		relShowdownProb[6093] = 1.0949852F;
-		relShowdownProb[6094] = 1.6491545F;
-		relShowdownProb[6095] = 1.2006416F;
-		relShowdownProb[6096] = 1.5056046F;
-		relShowdownProb[6097] = 1.2151666F;
-		relShowdownProb[6098] = 1.3639624F;
-		relShowdownProb[6099] = 1.2006416F;
-		relShowdownProb[6100] = 1.6424779F;
-		relShowdownProb[6101] = 1.8661486F;
-		relShowdownProb[6102] = 1.6119556F;
-		relShowdownProb[6103] = 1.4581614F;
-		relShowdownProb[6104] = 1.9210267F;
-		relShowdownProb[6105] = 2.60059F;
-		relShowdownProb[6106] = 1.5189581F;
-		relShowdownProb[6107] = 2.6039283F;
-		relShowdownProb[6108] = 2.0887177F;
-		relShowdownProb[6109] = 1.0565647F;
-		relShowdownProb[6110] = 1.1045903F;
-		relShowdownProb[6111] = 0.9124877F;
-		relShowdownProb[6112] = 1.0565647F;
-		relShowdownProb[6113] = 1.44077F;
-		relShowdownProb[6114] = 1.2006416F;
-		relShowdownProb[6115] = 1.152616F;
-		relShowdownProb[6116] = 0.96051335F;
-		relShowdownProb[6117] = 0.8668633F;
-		relShowdownProb[6118] = 0.576308F;
-		relShowdownProb[6119] = 1.1045903F;
-		relShowdownProb[6120] = 1.1406096F;
-		relShowdownProb[6121] = 1.3927443F;
-		relShowdownProb[6122] = 1.186234F;
-		relShowdownProb[6123] = 1.3687315F;
-		relShowdownProb[6124] = 1.1045903F;
-		relShowdownProb[6125] = 1.1045903F;
-		relShowdownProb[6126] = 1.5368214F;
-		relShowdownProb[6127] = 0.7299901F;
-		relShowdownProb[6128] = 0.864462F;
-		relShowdownProb[6129] = 0.81643635F;
-		relShowdownProb[6130] = 0.95811206F;
-		relShowdownProb[6131] = 0.81643635F;
-		relShowdownProb[6132] = 1.4143559F;
-		relShowdownProb[6133] = 1.477361F;
-		relShowdownProb[6134] = 0.81643635F;
-		relShowdownProb[6135] = 0.6243337F;
-		relShowdownProb[6136] = 1.0037365F;
-		relShowdownProb[6137] = 0.38420534F;
-		relShowdownProb[6138] = 1.0949852F;
-		relShowdownProb[6139] = 1.3019642F;
-		relShowdownProb[6140] = 1.296693F;
-		relShowdownProb[6141] = 1.186234F;
-		relShowdownProb[6142] = 1.5189581F;
-		relShowdownProb[6143] = 1.3019642F;
-		relShowdownProb[6144] = 0.9124877F;
-		relShowdownProb[6145] = 0.9124877F;
-		relShowdownProb[6146] = 1.008539F;
-		relShowdownProb[6147] = 0.8668633F;
-		relShowdownProb[6148] = 1.1045903F;
-		relShowdownProb[6149] = 0.864462F;
-		relShowdownProb[6150] = 1.2318584F;
-		relShowdownProb[6151] = 0.81643635F;
-		relShowdownProb[6152] = 0.8668633F;
-		relShowdownProb[6153] = 0.99939126F;
-		relShowdownProb[6154] = 1.0565647F;
-		relShowdownProb[6155] = 0.576308F;
-		relShowdownProb[6156] = 0.9124877F;
-		relShowdownProb[6157] = 0.96051335F;
-		relShowdownProb[6158] = 1.3687315F;
-		relShowdownProb[6159] = 1.1717677F;
-		relShowdownProb[6160] = 0.96051335F;
-		relShowdownProb[6161] = 1.4143559F;
-		relShowdownProb[6162] = 1.0415713F;
-		relShowdownProb[6163] = 1.7379707F;
-		relShowdownProb[6164] = 1.1045903F;
-		relShowdownProb[6165] = 1.008539F;
-		relShowdownProb[6166] = 1.1406096F;
-		relShowdownProb[6167] = 1.2006416F;
-		relShowdownProb[6168] = 1.0037365F;
-		relShowdownProb[6169] = 1.0849701F;
-		relShowdownProb[6170] = 1.1045903F;
-		relShowdownProb[6171] = 1.0493609F;
-		relShowdownProb[6172] = 1.3887618F;
-		relShowdownProb[6173] = 1.3639624F;
-		relShowdownProb[6174] = 1.2486674F;
-		relShowdownProb[6175] = 1.4143559F;
-		relShowdownProb[6176] = 1.0849701F;
-		relShowdownProb[6177] = 1.6532878F;
-		relShowdownProb[6178] = 2.0252776F;
-		relShowdownProb[6179] = 0.864462F;
-		relShowdownProb[6180] = 1.1045903F;
-		relShowdownProb[6181] = 1.0565647F;
-		relShowdownProb[6182] = 1.3687315F;
-		relShowdownProb[6183] = 1.0565647F;
-		relShowdownProb[6184] = 0.9124877F;
-		relShowdownProb[6185] = 0.593117F;
-		relShowdownProb[6186] = 0.864462F;
-		relShowdownProb[6187] = 1.4143559F;
-		relShowdownProb[6188] = 1.6511682F;
-		relShowdownProb[6189] = 0.96051335F;
-		relShowdownProb[6190] = 1.296693F;
-		relShowdownProb[6191] = 1.0037365F;
-		relShowdownProb[6192] = 1.3927443F;
-		relShowdownProb[6193] = 1.4143559F;
-		relShowdownProb[6194] = 1.3453629F;
-		relShowdownProb[6195] = 1.152616F;
-		relShowdownProb[6196] = 1.0949852F;
-		relShowdownProb[6197] = 1.3887618F;
-		relShowdownProb[6198] = 1.448309F;
-		relShowdownProb[6199] = 1.0565647F;
-		relShowdownProb[6200] = 1.2486674F;
-		relShowdownProb[6201] = 0.9124877F;
-		relShowdownProb[6202] = 1.2486674F;
-		relShowdownProb[6203] = 1.779351F;
-		relShowdownProb[6204] = 1.779351F;
-		relShowdownProb[6205] = 1.2006416F;
-		relShowdownProb[6206] = 0.82123893F;
-		relShowdownProb[6207] = 0.86797607F;
-		relShowdownProb[6208] = 1.3226302F;
-		relShowdownProb[6209] = 1.9690523F;
-		relShowdownProb[6210] = 1.0949852F;
-		relShowdownProb[6211] = 1.9095473F;
-		relShowdownProb[6212] = 1.1573014F;
-		relShowdownProb[6213] = 1.7754056F;
-		relShowdownProb[6214] = 1.2006416F;
-		relShowdownProb[6215] = 1.584847F;
-		relShowdownProb[6216] = 1.3231071F;
-		relShowdownProb[6217] = 1.4887956F;
-		relShowdownProb[6218] = 1.6424779F;
-		relShowdownProb[6219] = 0.95477366F;
-		relShowdownProb[6220] = 0.9124877F;
-		relShowdownProb[6221] = 1.5056046F;
-		relShowdownProb[6222] = 1.4755594F;
-		relShowdownProb[6223] = 1.9426131F;
-		relShowdownProb[6224] = 1.296693F;
-		relShowdownProb[6225] = 1.3687315F;
-		relShowdownProb[6226] = 1.562357F;
-		relShowdownProb[6227] = 1.6119556F;
-		relShowdownProb[6228] = 1.9704883F;
-		relShowdownProb[6229] = 1.728924F;
-		relShowdownProb[6230] = 1.3231071F;
-		relShowdownProb[6231] = 2.0831425F;
-		relShowdownProb[6232] = 1.4466268F;
-		relShowdownProb[6233] = 1.69462F;
-		relShowdownProb[6234] = 1.9310786F;
-		relShowdownProb[6235] = 1.2486674F;
-		relShowdownProb[6236] = 1.152616F;
-		relShowdownProb[6237] = 0.96051335F;
-		relShowdownProb[6238] = 1.2774827F;
-		relShowdownProb[6239] = 1.4887956F;
-		relShowdownProb[6240] = 0.81643635F;
-		relShowdownProb[6241] = 1.186234F;
-		relShowdownProb[6242] = 1.1045903F;
-		relShowdownProb[6243] = 1.2318584F;
-		relShowdownProb[6244] = 1.3904574F;
-		relShowdownProb[6245] = 1.296693F;
-		relShowdownProb[6246] = 1.4887956F;
-		relShowdownProb[6247] = 0.82123893F;
-		relShowdownProb[6248] = 1.008539F;
-		relShowdownProb[6249] = 1.2774827F;
-		relShowdownProb[6250] = 1.2151666F;
-		relShowdownProb[6251] = 1.1045903F;
-		relShowdownProb[6252] = 1.5968535F;
-		relShowdownProb[6253] = 1.7359521F;
-		relShowdownProb[6254] = 1.3241682F;
-		relShowdownProb[6255] = 0.96051335F;
-		relShowdownProb[6256] = 1.152616F;
-		relShowdownProb[6257] = 0.7756145F;
-		relShowdownProb[6258] = 1.3447187F;
-		relShowdownProb[6259] = 1.6881022F;
-		relShowdownProb[6260] = 1.3887618F;
-		relShowdownProb[6261] = 1.4887956F;
-		relShowdownProb[6262] = 1.0493609F;
-		relShowdownProb[6263] = 1.9095473F;
-		relShowdownProb[6264] = 1.7772844F;
-		relShowdownProb[6265] = 1.584847F;
-		relShowdownProb[6266] = 1.2318584F;
-		relShowdownProb[6267] = 1.6491545F;
-		relShowdownProb[6268] = 1.1159693F;
-		relShowdownProb[6269] = 1.5386848F;
-		relShowdownProb[6270] = 1.296693F;
-		relShowdownProb[6271] = 1.5368214F;
-		relShowdownProb[6272] = 1.779351F;
-		relShowdownProb[6273] = 1.873001F;
-		relShowdownProb[6274] = 1.3687315F;
-		relShowdownProb[6275] = 1.4755594F;
-		relShowdownProb[6276] = 1.6328727F;
-		relShowdownProb[6277] = 1.3231071F;
-		relShowdownProb[6278] = 1.3019642F;
-		relShowdownProb[6279] = 1.4466268F;
-		relShowdownProb[6280] = 1.2006416F;
-		relShowdownProb[6281] = 1.779351F;
-		relShowdownProb[6282] = 0.9981725F;
-		relShowdownProb[6283] = 1.6532878F;
-		relShowdownProb[6284] = 1.9704883F;
-		relShowdownProb[6285] = 1.584847F;
-		relShowdownProb[6286] = 1.6424779F;
-		relShowdownProb[6287] = 1.779351F;
-		relShowdownProb[6288] = 2.0666096F;
-		relShowdownProb[6289] = 1.8128493F;
-		relShowdownProb[6290] = 2.6360755F;
-		relShowdownProb[6291] = 1.3927443F;
-		relShowdownProb[6292] = 2.161155F;
-		relShowdownProb[6293] = 1.6881022F;
-		relShowdownProb[6294] = 1.44077F;
-		relShowdownProb[6295] = 1.551229F;
-		relShowdownProb[6296] = 1.2151666F;
-		relShowdownProb[6297] = 1.6328727F;
-		relShowdownProb[6298] = 1.8249754F;
-		relShowdownProb[6299] = 1.6925534F;
-		relShowdownProb[6300] = 1.3639624F;
-		relShowdownProb[6301] = 1.44077F;
-		relShowdownProb[6302] = 2.3268435F;
-		relShowdownProb[6303] = 1.4321605F;
-		relShowdownProb[6304] = 1.487959F;
-		relShowdownProb[6305] = 1.852259F;
-		relShowdownProb[6306] = 2.2091806F;
-		relShowdownProb[6307] = 1.8249754F;
-		relShowdownProb[6308] = 1.779351F;
-		relShowdownProb[6309] = 2.1906064F;
-		relShowdownProb[6310] = 1.69462F;
-		relShowdownProb[6311] = 2.0690129F;
-		relShowdownProb[6312] = 2.449309F;
-		relShowdownProb[6313] = 2.007473F;
-		relShowdownProb[6314] = 1.8227497F;
-		relShowdownProb[6315] = 1.7359521F;
-		relShowdownProb[6316] = 2.0493078F;
-		relShowdownProb[6317] = 3.0470915F;
-		relShowdownProb[6318] = 1.008539F;
-		relShowdownProb[6319] = 1.008539F;
-		relShowdownProb[6320] = 1.6328727F;
-		relShowdownProb[6321] = 1.152616F;
-		relShowdownProb[6322] = 1.6808983F;
-		relShowdownProb[6323] = 0.9124877F;
-		relShowdownProb[6324] = 0.720385F;
-		relShowdownProb[6325] = 0.96051335F;
-		relShowdownProb[6326] = 0.8668633F;
-		relShowdownProb[6327] = 0.864462F;
-		relShowdownProb[6328] = 1.1045903F;
-		relShowdownProb[6329] = 1.186234F;
-		relShowdownProb[6330] = 0.81643635F;
-		relShowdownProb[6331] = 1.3231071F;
-		relShowdownProb[6332] = 1.4143559F;
-		relShowdownProb[6333] = 0.6243337F;
-		relShowdownProb[6334] = 0.81643635F;
-		relShowdownProb[6335] = 0.96051335F;
-		relShowdownProb[6336] = 1.186234F;
-		relShowdownProb[6337] = 1.44077F;
-		relShowdownProb[6338] = 1.2006416F;
-		relShowdownProb[6339] = 0.8668633F;
-		relShowdownProb[6340] = 1.2006416F;
-		relShowdownProb[6341] = 1.0949852F;
-		relShowdownProb[6342] = 1.1731985F;
-		relShowdownProb[6343] = 1.2006416F;
-		relShowdownProb[6344] = 1.1045903F;
-		relShowdownProb[6345] = 0.68436575F;
-		relShowdownProb[6346] = 1.0565647F;
-		relShowdownProb[6347] = 1.5056046F;
-		relShowdownProb[6348] = 1.3887618F;
-		relShowdownProb[6349] = 1.4887956F;
-		relShowdownProb[6350] = 1.551229F;
-		relShowdownProb[6351] = 1.2585653F;
-		relShowdownProb[6352] = 1.5189581F;
-		relShowdownProb[6353] = 0.9124877F;
-		relShowdownProb[6354] = 1.296693F;
-		relShowdownProb[6355] = 0.9124877F;
-		relShowdownProb[6356] = 0.7756145F;
-		relShowdownProb[6357] = 1.1045903F;
-		relShowdownProb[6358] = 0.9124877F;
-		relShowdownProb[6359] = 0.82123893F;
-		relShowdownProb[6360] = 1.008539F;
-		relShowdownProb[6361] = 1.4143559F;
-		relShowdownProb[6362] = 1.5642645F;
-		relShowdownProb[6363] = 0.96051335F;
-		relShowdownProb[6364] = 1.1045903F;
-		relShowdownProb[6365] = 0.95811206F;
-		relShowdownProb[6366] = 1.3927443F;
-		relShowdownProb[6367] = 1.3687315F;
-		relShowdownProb[6368] = 1.1283689F;
-		relShowdownProb[6369] = 1.44077F;
-		relShowdownProb[6370] = 1.3687315F;
-		relShowdownProb[6371] = 1.0849701F;
-		relShowdownProb[6372] = 1.779351F;
-		relShowdownProb[6373] = 0.96051335F;
-		relShowdownProb[6374] = 0.864462F;
-		relShowdownProb[6375] = 1.0949852F;
-		relShowdownProb[6376] = 1.0565647F;
-		relShowdownProb[6377] = 1.4599802F;
-		relShowdownProb[6378] = 1.4755594F;
-		relShowdownProb[6379] = 1.5368214F;
-		relShowdownProb[6380] = 1.3687315F;
-		relShowdownProb[6381] = 1.5189581F;
-		relShowdownProb[6382] = 1.6532878F;
-		relShowdownProb[6383] = 1.2006416F;
-		relShowdownProb[6384] = 1.2774827F;
-		relShowdownProb[6385] = 1.562357F;
-		relShowdownProb[6386] = 1.3639624F;
-		relShowdownProb[6387] = 1.5706234F;
-		relShowdownProb[6388] = 1.2486674F;
-		relShowdownProb[6389] = 1.1045903F;
-		relShowdownProb[6390] = 1.296693F;
-		relShowdownProb[6391] = 1.0037365F;
-		relShowdownProb[6392] = 0.67235935F;
-		relShowdownProb[6393] = 1.2006416F;
-		relShowdownProb[6394] = 0.95811206F;
-		relShowdownProb[6395] = 0.81643635F;
-		relShowdownProb[6396] = 1.8249754F;
-		relShowdownProb[6397] = 1.4339092F;
-		relShowdownProb[6398] = 1.3447187F;
-		relShowdownProb[6399] = 1.008539F;
-		relShowdownProb[6400] = 0.95811206F;
-		relShowdownProb[6401] = 1.3927443F;
-		relShowdownProb[6402] = 0.82123893F;
-		relShowdownProb[6403] = 1.6925534F;
-		relShowdownProb[6404] = 1.4887956F;
-		relShowdownProb[6405] = 1.0037365F;
-		relShowdownProb[6406] = 1.5189581F;
-		relShowdownProb[6407] = 1.2000273F;
-		relShowdownProb[6408] = 1.1045903F;
-		relShowdownProb[6409] = 1.008539F;
-		relShowdownProb[6410] = 1.1406096F;
-		relShowdownProb[6411] = 1.1045903F;
-		relShowdownProb[6412] = 1.3687315F;
-		relShowdownProb[6413] = 1.6057558F;
-		relShowdownProb[6414] = 1.5368214F;
-		relShowdownProb[6415] = 1.3687315F;
-		relShowdownProb[6416] = 1.7359521F;
-		relShowdownProb[6417] = 1.3639624F;
-		relShowdownProb[6418] = 1.5368214F;
-		relShowdownProb[6419] = 1.3231071F;
-		relShowdownProb[6420] = 1.4755594F;
-		relShowdownProb[6421] = 2.0666096F;
-		relShowdownProb[6422] = 2.2093937F;
-		relShowdownProb[6423] = 0.9124877F;
-		relShowdownProb[6424] = 1.3447187F;
-		relShowdownProb[6425] = 1.2774827F;
-		relShowdownProb[6426] = 1.3927443F;
-		relShowdownProb[6427] = 1.4599802F;
-		relShowdownProb[6428] = 1.2585653F;
-		relShowdownProb[6429] = 1.9210267F;
-		relShowdownProb[6430] = 1.551229F;
-		relShowdownProb[6431] = 0.95477366F;
-		relShowdownProb[6432] = 1.6119556F;
-		relShowdownProb[6433] = 1.44077F;
-		relShowdownProb[6434] = 1.186234F;
-		relShowdownProb[6435] = 1.3019642F;
-		relShowdownProb[6436] = 1.5706234F;
-		relShowdownProb[6437] = 1.6158005F;
-		relShowdownProb[6438] = 1.584847F;
-		relShowdownProb[6439] = 1.7337266F;
-		relShowdownProb[6440] = 1.3453629F;
-		relShowdownProb[6441] = 1.5706234F;
-		relShowdownProb[6442] = 2.0493078F;
-		relShowdownProb[6443] = 2.1675372F;
-		relShowdownProb[6444] = 0.7684107F;
-		relShowdownProb[6445] = 1.296693F;
-		relShowdownProb[6446] = 1.296693F;
-		relShowdownProb[6447] = 1.2774827F;
-		relShowdownProb[6448] = 0.720385F;
-		relShowdownProb[6449] = 1.2006416F;
-		relShowdownProb[6450] = 1.1406096F;
-		relShowdownProb[6451] = 1.0565647F;
-		relShowdownProb[6452] = 1.551229F;
-		relShowdownProb[6453] = 1.1731985F;
-		relShowdownProb[6454] = 1.296693F;
-		relShowdownProb[6455] = 1.2486674F;
-		relShowdownProb[6456] = 1.0493609F;
-		relShowdownProb[6457] = 0.720385F;
-		relShowdownProb[6458] = 1.8249754F;
-		relShowdownProb[6459] = 1.562357F;
-		relShowdownProb[6460] = 1.4887956F;
-		relShowdownProb[6461] = 0.95811206F;
-		relShowdownProb[6462] = 1.6491545F;
-		relShowdownProb[6463] = 1.6965904F;
-		relShowdownProb[6464] = 0.864462F;
-		relShowdownProb[6465] = 1.2006416F;
-		relShowdownProb[6466] = 1.4599802F;
-		relShowdownProb[6467] = 1.6808983F;
-		relShowdownProb[6468] = 1.186234F;
-		relShowdownProb[6469] = 1.5189581F;
-		relShowdownProb[6470] = 1.44077F;
-		relShowdownProb[6471] = 1.779351F;
-		relShowdownProb[6472] = 1.3887618F;
-		relShowdownProb[6473] = 1.5706234F;
-		relShowdownProb[6474] = 1.4887956F;
-		relShowdownProb[6475] = 1.6881022F;
-		relShowdownProb[6476] = 1.4755594F;
-		relShowdownProb[6477] = 2.0666096F;
-		relShowdownProb[6478] = 2.0121264F;
-		relShowdownProb[6479] = 1.296693F;
-		relShowdownProb[6480] = 1.2486674F;
-		relShowdownProb[6481] = 1.3687315F;
-		relShowdownProb[6482] = 1.3927443F;
-		relShowdownProb[6483] = 1.1406096F;
-		relShowdownProb[6484] = 1.3453629F;
-		relShowdownProb[6485] = 1.728924F;
-		relShowdownProb[6486] = 1.0037365F;
-		relShowdownProb[6487] = 1.2151666F;
-		relShowdownProb[6488] = 1.7772844F;
-		relShowdownProb[6489] = 1.3447187F;
-		relShowdownProb[6490] = 1.4143559F;
-		relShowdownProb[6491] = 1.562357F;
-		relShowdownProb[6492] = 1.8599488F;
-		relShowdownProb[6493] = 2.2857664F;
-		relShowdownProb[6494] = 1.7769496F;
-		relShowdownProb[6495] = 1.8705997F;
-		relShowdownProb[6496] = 1.8661486F;
-		relShowdownProb[6497] = 1.6119556F;
-		relShowdownProb[6498] = 1.69462F;
-		relShowdownProb[6499] = 1.9958857F;
-		relShowdownProb[6500] = 1.6328727F;
-		relShowdownProb[6501] = 1.873001F;
-		relShowdownProb[6502] = 1.186234F;
-		relShowdownProb[6503] = 1.7769496F;
-		relShowdownProb[6504] = 2.007473F;
-		relShowdownProb[6505] = 1.562357F;
-		relShowdownProb[6506] = 1.44077F;
-		relShowdownProb[6507] = 1.7337266F;
-		relShowdownProb[6508] = 2.039744F;
-		relShowdownProb[6509] = 2.2732706F;
-		relShowdownProb[6510] = 1.296693F;
-		relShowdownProb[6511] = 1.6424779F;
-		relShowdownProb[6512] = 2.3435354F;
-		relShowdownProb[6513] = 1.7359521F;
-		relShowdownProb[6514] = 1.8916688F;
-		relShowdownProb[6515] = 1.44077F;
-		relShowdownProb[6516] = 1.7337266F;
-		relShowdownProb[6517] = 1.8227497F;
-		relShowdownProb[6518] = 1.9839454F;
-		relShowdownProb[6519] = 2.1281273F;
-		relShowdownProb[6520] = 2.181868F;
-		relShowdownProb[6521] = 1.9690523F;
-		relShowdownProb[6522] = 2.3268435F;
-		relShowdownProb[6523] = 2.1265414F;
-		relShowdownProb[6524] = 2.0666096F;
-		relShowdownProb[6525] = 2.8375032F;
-		relShowdownProb[6526] = 2.8589995F;
-		relShowdownProb[6527] = 2.6709075F;
-		relShowdownProb[6528] = 1.008539F;
-		relShowdownProb[6529] = 1.3927443F;
-		relShowdownProb[6530] = 1.0565647F;
-		relShowdownProb[6531] = 1.0493609F;
-		relShowdownProb[6532] = 1.44077F;
-		relShowdownProb[6533] = 1.728924F;
-		relShowdownProb[6534] = 0.9124877F;
-		relShowdownProb[6535] = 0.96051335F;
-		relShowdownProb[6536] = 1.5968535F;
-		relShowdownProb[6537] = 1.4339092F;
-		relShowdownProb[6538] = 0.96051335F;
-		relShowdownProb[6539] = 1.3447187F;
-		relShowdownProb[6540] = 1.3687315F;
-		relShowdownProb[6541] = 1.6328727F;
-		relShowdownProb[6542] = 1.2774827F;
-		relShowdownProb[6543] = 1.7359521F;
-		relShowdownProb[6544] = 1.5368214F;
-		relShowdownProb[6545] = 1.5968535F;
-		relShowdownProb[6546] = 1.1717677F;
-		relShowdownProb[6547] = 1.2000273F;
-		relShowdownProb[6548] = 0.96051335F;
-		relShowdownProb[6549] = 0.9124877F;
-		relShowdownProb[6550] = 1.4599802F;
-		relShowdownProb[6551] = 1.152616F;
-		relShowdownProb[6552] = 1.2318584F;
-		relShowdownProb[6553] = 1.2151666F;
-		relShowdownProb[6554] = 0.720385F;
-		relShowdownProb[6555] = 1.5056046F;
-		relShowdownProb[6556] = 1.4321605F;
-		relShowdownProb[6557] = 1.3639624F;
-		relShowdownProb[6558] = 1.2486674F;
-		relShowdownProb[6559] = 1.6424779F;
-		relShowdownProb[6560] = 1.3019642F;
-		relShowdownProb[6561] = 1.487959F;
-		relShowdownProb[6562] = 1.7359521F;
-		relShowdownProb[6563] = 1.4887956F;
-		relShowdownProb[6564] = 0.864462F;
-		relShowdownProb[6565] = 1.4143559F;
-		relShowdownProb[6566] = 1.728924F;
-		relShowdownProb[6567] = 1.4599802F;
-		relShowdownProb[6568] = 1.2151666F;
-		relShowdownProb[6569] = 1.1045903F;
-		relShowdownProb[6570] = 1.5056046F;
-		relShowdownProb[6571] = 1.6057558F;
-		relShowdownProb[6572] = 1.6119556F;
-		relShowdownProb[6573] = 1.44077F;
-		relShowdownProb[6574] = 1.4599802F;
-		relShowdownProb[6575] = 1.3019642F;
-		relShowdownProb[6576] = 1.2399658F;
-		relShowdownProb[6577] = 2.0887177F;
-		relShowdownProb[6578] = 1.584847F;
-		relShowdownProb[6579] = 1.8249754F;
-		relShowdownProb[6580] = 1.9529462F;
-		relShowdownProb[6581] = 2.2319386F;
-		relShowdownProb[6582] = 1.5369809F;
-		relShowdownProb[6583] = 2.2971516F;
-		relShowdownProb[6584] = 1.2486674F;
-		relShowdownProb[6585] = 1.8249754F;
-		relShowdownProb[6586] = 2.1899705F;
-		relShowdownProb[6587] = 1.6328727F;
-		relShowdownProb[6588] = 1.4143559F;
-		relShowdownProb[6589] = 1.779351F;
-		relShowdownProb[6590] = 1.3447187F;
-		relShowdownProb[6591] = 1.551229F;
-		relShowdownProb[6592] = 1.8661486F;
-		relShowdownProb[6593] = 1.901281F;
-		relShowdownProb[6594] = 1.2486674F;
-		relShowdownProb[6595] = 1.7337266F;
-		relShowdownProb[6596] = 2.039744F;
-		relShowdownProb[6597] = 1.8599488F;
-		relShowdownProb[6598] = 2.0098982F;
-		relShowdownProb[6599] = 1.9690523F;
-		relShowdownProb[6600] = 1.6424779F;
-		relShowdownProb[6601] = 1.779351F;
-		relShowdownProb[6602] = 2.1079419F;
-		relShowdownProb[6603] = 2.4434056F;
-		relShowdownProb[6604] = 2.4451969F;
-		relShowdownProb[6605] = 2.2572064F;
-		relShowdownProb[6606] = 1.9618485F;
-		relShowdownProb[6607] = 2.6907258F;
-		relShowdownProb[6608] = 2.1079419F;
-		relShowdownProb[6609] = 2.2463567F;
-		relShowdownProb[6610] = 1.9561576F;
-		relShowdownProb[6611] = 2.5907638F;
-		relShowdownProb[6612] = 1.3927443F;
-		relShowdownProb[6613] = 2.017078F;
-		relShowdownProb[6614] = 1.4599802F;
-		relShowdownProb[6615] = 1.44077F;
-		relShowdownProb[6616] = 1.6881022F;
-		relShowdownProb[6617] = 1.2585653F;
-		relShowdownProb[6618] = 1.873001F;
-		relShowdownProb[6619] = 1.8249754F;
-		relShowdownProb[6620] = 1.9095473F;
-		relShowdownProb[6621] = 1.6119556F;
-		relShowdownProb[6622] = 1.44077F;
-		relShowdownProb[6623] = 1.779351F;
-		relShowdownProb[6624] = 1.4755594F;
-		relShowdownProb[6625] = 1.7359521F;
-		relShowdownProb[6626] = 1.9310786F;
-		relShowdownProb[6627] = 1.584847F;
-		relShowdownProb[6628] = 1.6424779F;
-		relShowdownProb[6629] = 2.3001366F;
-		relShowdownProb[6630] = 1.901281F;
-		relShowdownProb[6631] = 2.0887177F;
-		relShowdownProb[6632] = 2.5204337F;
-		relShowdownProb[6633] = 1.6328727F;
-		relShowdownProb[6634] = 1.7337266F;
-		relShowdownProb[6635] = 1.4321605F;
-		relShowdownProb[6636] = 2.2319386F;
-		relShowdownProb[6637] = 2.0887177F;
-		relShowdownProb[6638] = 2.4828153F;
-		relShowdownProb[6639] = 2.8397722F;
-		relShowdownProb[6640] = 2.9295657F;
-		relShowdownProb[6641] = 2.5549655F;
-		relShowdownProb[6642] = 2.7775235F;
-		relShowdownProb[6643] = 2.355935F;
-		relShowdownProb[6644] = 1.7734395F;
-		relShowdownProb[6645] = 2.4451969F;
-		relShowdownProb[6646] = 2.7319329F;
-		relShowdownProb[6647] = 1.728924F;
-		relShowdownProb[6648] = 1.5368214F;
-		relShowdownProb[6649] = 1.873001F;
-		relShowdownProb[6650] = 1.4887956F;
-		relShowdownProb[6651] = 1.3447187F;
-		relShowdownProb[6652] = 1.296693F;
-		relShowdownProb[6653] = 1.9690523F;
-		relShowdownProb[6654] = 1.5368214F;
-		relShowdownProb[6655] = 1.7769496F;
-		relShowdownProb[6656] = 1.296693F;
-		relShowdownProb[6657] = 1.2774827F;
-		relShowdownProb[6658] = 1.6808983F;
-		relShowdownProb[6659] = 1.3687315F;
-		relShowdownProb[6660] = 1.8249754F;
-		relShowdownProb[6661] = 1.1045903F;
-		relShowdownProb[6662] = 1.9210267F;
-		relShowdownProb[6663] = 1.6328727F;
-		relShowdownProb[6664] = 1.1045903F;
-		relShowdownProb[6665] = 1.6328727F;
-		relShowdownProb[6666] = 1.3447187F;
-		relShowdownProb[6667] = 1.7337266F;
-		relShowdownProb[6668] = 1.0565647F;
-		relShowdownProb[6669] = 1.4599802F;
-		relShowdownProb[6670] = 2.129138F;
-		relShowdownProb[6671] = 1.3447187F;
-		relShowdownProb[6672] = 1.3447187F;
-		relShowdownProb[6673] = 1.3231071F;
-		relShowdownProb[6674] = 1.44077F;
-		relShowdownProb[6675] = 1.6881022F;
-		relShowdownProb[6676] = 2.2160416F;
-		relShowdownProb[6677] = 1.1045903F;
-		relShowdownProb[6678] = 1.551229F;
-		relShowdownProb[6679] = 1.2585653F;
-		relShowdownProb[6680] = 2.3001366F;
-		relShowdownProb[6681] = 1.3447187F;
-		relShowdownProb[6682] = 1.296693F;
-		relShowdownProb[6683] = 1.584847F;
-		relShowdownProb[6684] = 1.3447187F;
-		relShowdownProb[6685] = 1.3927443F;
-		relShowdownProb[6686] = 1.4887956F;
-		relShowdownProb[6687] = 1.4599802F;
-		relShowdownProb[6688] = 1.7769496F;
-		relShowdownProb[6689] = 1.6881022F;
-		relShowdownProb[6690] = 1.3035538F;
-		relShowdownProb[6691] = 0.96051335F;
-		relShowdownProb[6692] = 1.1045903F;
-		relShowdownProb[6693] = 1.4143559F;
-		relShowdownProb[6694] = 1.3927443F;
-		relShowdownProb[6695] = 1.779351F;
-		relShowdownProb[6696] = 2.3898487F;
-		relShowdownProb[6697] = 1.4887956F;
-		relShowdownProb[6698] = 1.1406096F;
-		relShowdownProb[6699] = 1.9095473F;
-		relShowdownProb[6700] = 2.0276325F;
-		relShowdownProb[6701] = 2.017078F;
-		relShowdownProb[6702] = 0.864462F;
-		relShowdownProb[6703] = 1.6424779F;
-		relShowdownProb[6704] = 1.9210267F;
-		relShowdownProb[6705] = 1.4599802F;
-		relShowdownProb[6706] = 1.9987825F;
-		relShowdownProb[6707] = 1.296693F;
-		relShowdownProb[6708] = 1.6881022F;
-		relShowdownProb[6709] = 1.4755594F;
-		relShowdownProb[6710] = 2.0252776F;
-		relShowdownProb[6711] = 1.584847F;
-		relShowdownProb[6712] = 1.779351F;
-		relShowdownProb[6713] = 2.3435354F;
-		relShowdownProb[6714] = 2.6865926F;
-		relShowdownProb[6715] = 1.9839454F;
-		relShowdownProb[6716] = 1.3447187F;
-		relShowdownProb[6717] = 1.9690523F;
-		relShowdownProb[6718] = 1.2006416F;
-		relShowdownProb[6719] = 1.9690523F;
-		relShowdownProb[6720] = 1.8249754F;
-		relShowdownProb[6721] = 1.2486674F;
-		relShowdownProb[6722] = 1.6424779F;
-		relShowdownProb[6723] = 1.3927443F;
-		relShowdownProb[6724] = 1.8705997F;
-		relShowdownProb[6725] = 1.911879F;
-		relShowdownProb[6726] = 1.296693F;
-		relShowdownProb[6727] = 1.6808983F;
-		relShowdownProb[6728] = 1.4143559F;
-		relShowdownProb[6729] = 1.44077F;
-		relShowdownProb[6730] = 1.6424779F;
-		relShowdownProb[6731] = 1.7380718F;
-		relShowdownProb[6732] = 1.584847F;
-		relShowdownProb[6733] = 1.8249754F;
-		relShowdownProb[6734] = 1.9095473F;
-		relShowdownProb[6735] = 1.944872F;
-		relShowdownProb[6736] = 1.7769496F;
-		relShowdownProb[6737] = 1.584847F;
-		relShowdownProb[6738] = 1.7337266F;
-		relShowdownProb[6739] = 1.6808983F;
-		relShowdownProb[6740] = 1.551229F;
-		relShowdownProb[6741] = 1.911879F;
-		relShowdownProb[6742] = 1.152616F;
-		relShowdownProb[6743] = 1.3687315F;
-		relShowdownProb[6744] = 2.0831425F;
-		relShowdownProb[6745] = 1.9426131F;
-		relShowdownProb[6746] = 1.9690523F;
-		relShowdownProb[6747] = 2.007473F;
-		relShowdownProb[6748] = 1.562357F;
-		relShowdownProb[6749] = 2.5212638F;
-		relShowdownProb[6750] = 2.0121264F;
-		relShowdownProb[6751] = 1.3927443F;
-		relShowdownProb[6752] = 1.2006416F;
-		relShowdownProb[6753] = 1.3687315F;
-		relShowdownProb[6754] = 2.2091806F;
-		relShowdownProb[6755] = 2.0530972F;
-		relShowdownProb[6756] = 1.7815236F;
-		relShowdownProb[6757] = 1.9690523F;
-		relShowdownProb[6758] = 1.5056046F;
-		relShowdownProb[6759] = 1.4755594F;
-		relShowdownProb[6760] = 2.1906064F;
-		relShowdownProb[6761] = 1.44077F;
-		relShowdownProb[6762] = 1.9618485F;
-		relShowdownProb[6763] = 2.213339F;
-		relShowdownProb[6764] = 2.4385996F;
-		relShowdownProb[6765] = 3.1527812F;
-		relShowdownProb[6766] = 1.728924F;
-		relShowdownProb[6767] = 2.0530972F;
-		relShowdownProb[6768] = 1.6491545F;
-		relShowdownProb[6769] = 1.4466268F;
-		relShowdownProb[6770] = 2.0887177F;
-		relShowdownProb[6771] = 2.6404543F;
-		relShowdownProb[6772] = 1.8249754F;
-		relShowdownProb[6773] = 1.6808983F;
-		relShowdownProb[6774] = 1.4887956F;
-		relShowdownProb[6775] = 1.584847F;
-		relShowdownProb[6776] = 1.1045903F;
-		relShowdownProb[6777] = 1.3447187F;
-		relShowdownProb[6778] = 1.3687315F;
-		relShowdownProb[6779] = 1.4887956F;
-		relShowdownProb[6780] = 1.4143559F;
-		relShowdownProb[6781] = 1.9553307F;
-		relShowdownProb[6782] = 1.44077F;
-		relShowdownProb[6783] = 1.152616F;
-		relShowdownProb[6784] = 1.4143559F;
-		relShowdownProb[6785] = 1.873001F;
-		relShowdownProb[6786] = 2.0530972F;
-		relShowdownProb[6787] = 2.0856862F;
-		relShowdownProb[6788] = 1.296693F;
-		relShowdownProb[6789] = 2.0987217F;
-		relShowdownProb[6790] = 2.2567377F;
-		relShowdownProb[6791] = 2.1517732F;
-		relShowdownProb[6792] = 2.017078F;
-		relShowdownProb[6793] = 1.8249754F;
-		relShowdownProb[6794] = 1.6881022F;
-		relShowdownProb[6795] = 1.9690523F;
-		relShowdownProb[6796] = 2.2812192F;
-		relShowdownProb[6797] = 1.9987825F;
-		relShowdownProb[6798] = 1.4887956F;
-		relShowdownProb[6799] = 1.4599802F;
-		relShowdownProb[6800] = 1.4321605F;
-		relShowdownProb[6801] = 2.1906064F;
-		relShowdownProb[6802] = 1.9690523F;
-		relShowdownProb[6803] = 1.9162241F;
-		relShowdownProb[6804] = 2.1265414F;
-		relShowdownProb[6805] = 1.281298F;
-		relShowdownProb[6806] = 1.6964988F;
-		relShowdownProb[6807] = 1.584847F;
-		relShowdownProb[6808] = 1.44077F;
-		relShowdownProb[6809] = 1.5968535F;
-		relShowdownProb[6810] = 1.9690523F;
-		relShowdownProb[6811] = 1.779351F;
-		relShowdownProb[6812] = 1.8684272F;
-		relShowdownProb[6813] = 1.296693F;
-		relShowdownProb[6814] = 2.2355947F;
-		relShowdownProb[6815] = 2.3001366F;
-		relShowdownProb[6816] = 2.0666096F;
-		relShowdownProb[6817] = 1.7769496F;
-		relShowdownProb[6818] = 1.779351F;
-		relShowdownProb[6819] = 1.779351F;
-		relShowdownProb[6820] = 2.0252776F;
-		relShowdownProb[6821] = 1.9704883F;
-		relShowdownProb[6822] = 2.161155F;
-		relShowdownProb[6823] = 1.5056046F;
-		relShowdownProb[6824] = 2.039744F;
-		relShowdownProb[6825] = 2.1906064F;
-		relShowdownProb[6826] = 1.852259F;
-		relShowdownProb[6827] = 2.4477844F;
-		relShowdownProb[6828] = 1.4887956F;
-		relShowdownProb[6829] = 1.9690523F;
-		relShowdownProb[6830] = 1.8705997F;
-		relShowdownProb[6831] = 1.296693F;
-		relShowdownProb[6832] = 1.8249754F;
-		relShowdownProb[6833] = 1.8249754F;
-		relShowdownProb[6834] = 1.6808983F;
-		relShowdownProb[6835] = 1.5056046F;
-		relShowdownProb[6836] = 1.8661486F;
-		relShowdownProb[6837] = 2.149274F;
-		relShowdownProb[6838] = 1.9210267F;
-		relShowdownProb[6839] = 1.7337266F;
-		relShowdownProb[6840] = 2.0831425F;
-		relShowdownProb[6841] = 2.3972673F;
-		relShowdownProb[6842] = 2.364586F;
-		relShowdownProb[6843] = 1.9690523F;
-		relShowdownProb[6844] = 2.0530972F;
-		relShowdownProb[6845] = 2.1265414F;
-		relShowdownProb[6846] = 1.8599488F;
-		relShowdownProb[6847] = 2.5616348F;
-		relShowdownProb[6848] = 2.708526F;
-		relShowdownProb[6849] = 1.9690523F;
-		relShowdownProb[6850] = 2.0530972F;
-		relShowdownProb[6851] = 2.3869343F;
-		relShowdownProb[6852] = 2.3972673F;
-		relShowdownProb[6853] = 1.8128493F;
-		relShowdownProb[6854] = 2.4451969F;
-		relShowdownProb[6855] = 2.4451969F;
-		relShowdownProb[6856] = 1.44077F;
-		relShowdownProb[6857] = 2.2572064F;
-		relShowdownProb[6858] = 2.0651038F;
-		relShowdownProb[6859] = 2.3532577F;
-		relShowdownProb[6860] = 1.44077F;
-		relShowdownProb[6861] = 1.7769496F;
-		relShowdownProb[6862] = 2.0987217F;
-		relShowdownProb[6863] = 1.7769496F;
-		relShowdownProb[6864] = 1.6424779F;
-		relShowdownProb[6865] = 2.3029451F;
-		relShowdownProb[6866] = 1.8249754F;
-		relShowdownProb[6867] = 1.9210267F;
-		relShowdownProb[6868] = 1.3231071F;
-		relShowdownProb[6869] = 2.2091806F;
-		relShowdownProb[6870] = 1.8705997F;
-		relShowdownProb[6871] = 2.0856862F;
-		relShowdownProb[6872] = 1.9210267F;
-		relShowdownProb[6873] = 1.779351F;
-		relShowdownProb[6874] = 1.6925534F;
-		relShowdownProb[6875] = 1.7379707F;
-		relShowdownProb[6876] = 1.873001F;
-		relShowdownProb[6877] = 1.6808983F;
-		relShowdownProb[6878] = 1.4143559F;
-		relShowdownProb[6879] = 1.728924F;
-		relShowdownProb[6880] = 1.0493609F;
-		relShowdownProb[6881] = 2.129138F;
-		relShowdownProb[6882] = 1.6808983F;
-		relShowdownProb[6883] = 1.8249754F;
-		relShowdownProb[6884] = 1.8227497F;
-		relShowdownProb[6885] = 1.6119556F;
-		relShowdownProb[6886] = 1.9210267F;
-		relShowdownProb[6887] = 1.3231071F;
-		relShowdownProb[6888] = 2.0831425F;
-		relShowdownProb[6889] = 1.8599488F;
-		relShowdownProb[6890] = 2.3672075F;
-		relShowdownProb[6891] = 1.6328727F;
-		relShowdownProb[6892] = 1.9690523F;
-		relShowdownProb[6893] = 2.007473F;
-		relShowdownProb[6894] = 1.873001F;
-		relShowdownProb[6895] = 2.372468F;
-		relShowdownProb[6896] = 2.2594934F;
-		relShowdownProb[6897] = 1.873001F;
-		relShowdownProb[6898] = 1.1406096F;
-		relShowdownProb[6899] = 1.4755594F;
-		relShowdownProb[6900] = 2.1079419F;
-		relShowdownProb[6901] = 1.7769496F;
-		relShowdownProb[6902] = 1.4599802F;
-		relShowdownProb[6903] = 1.6925534F;
-		relShowdownProb[6904] = 1.8599488F;
-		relShowdownProb[6905] = 2.364586F;
-		relShowdownProb[6906] = 1.8249754F;
-		relShowdownProb[6907] = 1.8249754F;
-		relShowdownProb[6908] = 2.039744F;
-		relShowdownProb[6909] = 2.562596F;
-		relShowdownProb[6910] = 2.2463567F;
-		relShowdownProb[6911] = 2.5231009F;
-		relShowdownProb[6912] = 1.44077F;
-		relShowdownProb[6913] = 2.2091806F;
-		relShowdownProb[6914] = 1.9162241F;
-		relShowdownProb[6915] = 1.873001F;
-		relShowdownProb[6916] = 1.779351F;
-		relShowdownProb[6917] = 1.8249754F;
-		relShowdownProb[6918] = 2.0651038F;
-		relShowdownProb[6919] = 1.8705997F;
-		relShowdownProb[6920] = 1.9095473F;
-		relShowdownProb[6921] = 2.0252776F;
-		relShowdownProb[6922] = 2.161155F;
-		relShowdownProb[6923] = 1.8249754F;
-		relShowdownProb[6924] = 2.1699402F;
-		relShowdownProb[6925] = 2.355935F;
-		relShowdownProb[6926] = 2.4434056F;
-		relShowdownProb[6927] = 1.9210267F;
-		relShowdownProb[6928] = 1.5968535F;
-		relShowdownProb[6929] = 2.3869343F;
-		relShowdownProb[6930] = 2.3972673F;
-		relShowdownProb[6931] = 2.0493078F;
-		relShowdownProb[6932] = 2.5956705F;
-		relShowdownProb[6933] = 1.873001F;
-		relShowdownProb[6934] = 1.7337266F;
-		relShowdownProb[6935] = 1.8227497F;
-		relShowdownProb[6936] = 2.3972673F;
-		relShowdownProb[6937] = 2.5616348F;
-		relShowdownProb[6938] = 2.4828153F;
-		relShowdownProb[6939] = 2.9146092F;
-		relShowdownProb[6940] = 2.0651038F;
-		relShowdownProb[6941] = 1.873001F;
-		relShowdownProb[6942] = 1.9162241F;
-		relShowdownProb[6943] = 2.5453603F;
-		relShowdownProb[6944] = 1.9618485F;
-		relShowdownProb[6945] = 1.8684272F;
-		relShowdownProb[6946] = 1.6328727F;
-		relShowdownProb[6947] = 1.4599802F;
-		relShowdownProb[6948] = 1.6925534F;
-		relShowdownProb[6949] = 2.2319386F;
-		relShowdownProb[6950] = 1.8249754F;
-		relShowdownProb[6951] = 2.2355947F;
-		relShowdownProb[6952] = 2.647327F;
-		relShowdownProb[6953] = 2.8932536F;
-		relShowdownProb[6954] = 1.7340298F;
-		relShowdownProb[6955] = 2.4973347F;
-		relShowdownProb[6956] = 2.0987217F;
-		relShowdownProb[6957] = 2.213339F;
-		relShowdownProb[6958] = 2.6452603F;
-		relShowdownProb[6959] = 2.0887177F;
-		relShowdownProb[6960] = 2.558052F;
-		relShowdownProb[6961] = 2.305232F;
-		relShowdownProb[6962] = 2.2812192F;
-		relShowdownProb[6963] = 2.213339F;
-		relShowdownProb[6964] = 1.7359521F;
-		relShowdownProb[6965] = 2.6010447F;
-		relShowdownProb[6966] = 2.4075785F;
-		relShowdownProb[6967] = 2.7678792F;
-		relShowdownProb[6968] = 2.8335145F;
-		relShowdownProb[6969] = 2.7830875F;
-		relShowdownProb[6970] = 2.3869343F;
-		relShowdownProb[6971] = 2.975918F;
-		relShowdownProb[6972] = 3.034552F;
-		relShowdownProb[6973] = 2.4075785F;
-		relShowdownProb[6974] = 3.343023F;
-		relShowdownProb[6975] = 3.0913978F;
-		relShowdownProb[6976] = 2.1131294F;
-		relShowdownProb[6977] = 1.9210267F;
-		relShowdownProb[6978] = 1.152616F;
-		relShowdownProb[6979] = 1.9210267F;
-		relShowdownProb[6980] = 1.6808983F;
-		relShowdownProb[6981] = 1.6328727F;
-		relShowdownProb[6982] = 1.7337266F;
-		relShowdownProb[6983] = 1.873001F;
-		relShowdownProb[6984] = 1.4143559F;
-		relShowdownProb[6985] = 1.3904574F;
-		relShowdownProb[6986] = 1.5368214F;
-		relShowdownProb[6987] = 2.3532577F;
-		relShowdownProb[6988] = 1.6881022F;
-		relShowdownProb[6989] = 1.6808983F;
-		relShowdownProb[6990] = 1.7337266F;
-		relShowdownProb[6991] = 2.0856862F;
-		relShowdownProb[6992] = 1.4887956F;
-		relShowdownProb[6993] = 1.6881022F;
-		relShowdownProb[6994] = 1.562357F;
-		relShowdownProb[6995] = 1.9034917F;
-		relShowdownProb[6996] = 1.2006416F;
-		relShowdownProb[6997] = 2.1131294F;
-		relShowdownProb[6998] = 1.4599802F;
-		relShowdownProb[6999] = 1.584847F;
-		relShowdownProb[7000] = 1.8249754F;
-		relShowdownProb[7001] = 1.8684272F;
-		relShowdownProb[7002] = 2.0651038F;
-		relShowdownProb[7003] = 1.5056046F;
-		relShowdownProb[7004] = 1.6491545F;
-		relShowdownProb[7005] = 2.562596F;
-		relShowdownProb[7006] = 2.5453603F;
-		relShowdownProb[7007] = 1.6424779F;
-		relShowdownProb[7008] = 2.039744F;
-		relShowdownProb[7009] = 1.9426131F;
-		relShowdownProb[7010] = 1.9726729F;
-		relShowdownProb[7011] = 1.7769496F;
-		relShowdownProb[7012] = 1.9690523F;
-		relShowdownProb[7013] = 2.2355947F;
-		relShowdownProb[7014] = 1.5368214F;
-		relShowdownProb[7015] = 1.6881022F;
-		relShowdownProb[7016] = 1.9553307F;
-		relShowdownProb[7017] = 1.584847F;
-		relShowdownProb[7018] = 2.0530972F;
-		relShowdownProb[7019] = 1.8227497F;
-		relShowdownProb[7020] = 1.8599488F;
-		relShowdownProb[7021] = 1.9690523F;
-		relShowdownProb[7022] = 1.5056046F;
-		relShowdownProb[7023] = 1.9529462F;
-		relShowdownProb[7024] = 2.2732706F;
-		relShowdownProb[7025] = 2.5616348F;
-		relShowdownProb[7026] = 1.9210267F;
-		relShowdownProb[7027] = 2.2355947F;
-		relShowdownProb[7028] = 2.4303331F;
-		relShowdownProb[7029] = 2.562596F;
-		relShowdownProb[7030] = 2.364586F;
-		relShowdownProb[7031] = 2.4101262F;
-		relShowdownProb[7032] = 2.0651038F;
-		relShowdownProb[7033] = 2.1131294F;
-		relShowdownProb[7034] = 1.779351F;
-		relShowdownProb[7035] = 2.305232F;
-		relShowdownProb[7036] = 2.2812192F;
-		relShowdownProb[7037] = 1.911879F;
-		relShowdownProb[7038] = 2.4012833F;
-		relShowdownProb[7039] = 2.007473F;
-		relShowdownProb[7040] = 1.9529462F;
-		relShowdownProb[7041] = 2.1906064F;
-		relShowdownProb[7042] = 2.017078F;
-		relShowdownProb[7043] = 1.9618485F;
-		relShowdownProb[7044] = 2.1699402F;
-		relShowdownProb[7045] = 2.3972673F;
-		relShowdownProb[7046] = 1.9310786F;
-		relShowdownProb[7047] = 2.3532577F;
-		relShowdownProb[7048] = 1.9162241F;
-		relShowdownProb[7049] = 1.4755594F;
-		relShowdownProb[7050] = 2.7279248F;
-		relShowdownProb[7051] = 2.6010447F;
-		relShowdownProb[7052] = 2.3323417F;
-		relShowdownProb[7053] = 1.728924F;
-		relShowdownProb[7054] = 2.8743362F;
-		relShowdownProb[7055] = 2.6039283F;
-		relShowdownProb[7056] = 1.9426131F;
-		relShowdownProb[7057] = 2.1675372F;
-		relShowdownProb[7058] = 2.2947233F;
-		relShowdownProb[7059] = 2.8426437F;
-		relShowdownProb[7060] = 2.1131294F;
-		relShowdownProb[7061] = 2.161155F;
-		relShowdownProb[7062] = 1.6424779F;
-		relShowdownProb[7063] = 1.728924F;
-		relShowdownProb[7064] = 2.7830875F;
-		relShowdownProb[7065] = 1.9553307F;
-		relShowdownProb[7066] = 1.8249754F;
-		relShowdownProb[7067] = 2.1899705F;
-		relShowdownProb[7068] = 2.039744F;
-		relShowdownProb[7069] = 2.3972673F;
-		relShowdownProb[7070] = 2.017078F;
-		relShowdownProb[7071] = 2.0987217F;
-		relShowdownProb[7072] = 2.3435354F;
-		relShowdownProb[7073] = 2.1906064F;
-		relShowdownProb[7074] = 2.1675372F;
-		relShowdownProb[7075] = 1.4887956F;
-		relShowdownProb[7076] = 2.0530972F;
-		relShowdownProb[7077] = 2.3869343F;
-		relShowdownProb[7078] = 2.1906064F;
-		relShowdownProb[7079] = 1.8916688F;
-		relShowdownProb[7080] = 2.558052F;
-		relShowdownProb[7081] = 2.449309F;
-		relShowdownProb[7082] = 2.60059F;
-		relShowdownProb[7083] = 1.779351F;
-		relShowdownProb[7084] = 2.4385996F;
-		relShowdownProb[7085] = 2.6010447F;
-		relShowdownProb[7086] = 2.5956705F;
-		relShowdownProb[7087] = 2.8038259F;
-		relShowdownProb[7088] = 2.0651038F;
-		relShowdownProb[7089] = 2.737463F;
-		relShowdownProb[7090] = 2.6039283F;
-		relShowdownProb[7091] = 2.975918F;
-		relShowdownProb[7092] = 2.6010447F;
-		relShowdownProb[7093] = 2.708526F;
-		relShowdownProb[7094] = 3.199237F;
-		relShowdownProb[7095] = 2.8565984F;
-		relShowdownProb[7096] = 2.0651038F;
-		relShowdownProb[7097] = 2.161155F;
-		relShowdownProb[7098] = 2.2355947F;
-		relShowdownProb[7099] = 2.2091806F;
-		relShowdownProb[7100] = 1.779351F;
-		relShowdownProb[7101] = 2.3029451F;
-		relShowdownProb[7102] = 1.9210267F;
-		relShowdownProb[7103] = 1.779351F;
-		relShowdownProb[7104] = 1.8661486F;
-		relShowdownProb[7105] = 2.3146029F;
-		relShowdownProb[7106] = 2.305232F;
-		relShowdownProb[7107] = 2.007473F;
-		relShowdownProb[7108] = 2.4303331F;
-		relShowdownProb[7109] = 2.2732706F;
-		relShowdownProb[7110] = 2.3251762F;
-		relShowdownProb[7111] = 1.9690523F;
-		relShowdownProb[7112] = 2.3268435F;
-		relShowdownProb[7113] = 1.8661486F;
-		relShowdownProb[7114] = 2.8105893F;
-		relShowdownProb[7115] = 2.2463567F;
-		relShowdownProb[7116] = 2.7837627F;
-		relShowdownProb[7117] = 2.6414118F;
-		relShowdownProb[7118] = 2.60059F;
-		relShowdownProb[7119] = 2.647327F;
-		relShowdownProb[7120] = 2.4385996F;
-		relShowdownProb[7121] = 2.9163227F;
-		relShowdownProb[7122] = 2.708526F;
-		relShowdownProb[7123] = 2.8397722F;
-		relShowdownProb[7124] = 2.737463F;
-		relShowdownProb[7125] = 2.1899705F;
-		relShowdownProb[7126] = 1.996345F;
-		relShowdownProb[7127] = 2.3146029F;
-		relShowdownProb[7128] = 2.1281273F;
-		relShowdownProb[7129] = 2.5204337F;
-		relShowdownProb[7130] = 2.8757188F;
-		relShowdownProb[7131] = 3.1976743F;
-		relShowdownProb[7132] = 2.88154F;
-		relShowdownProb[7133] = 2.007473F;
-		relShowdownProb[7134] = 2.2567377F;
-		relShowdownProb[7135] = 2.4799316F;
-		relShowdownProb[7136] = 3.1133716F;
-		relShowdownProb[7137] = 3.08471F;
-		relShowdownProb[7138] = 3.0195048F;
-		relShowdownProb[7139] = 3.644661F;
-		relShowdownProb[7140] = 1.3008134F;
-		relShowdownProb[7141] = 1.1179519F;
-		relShowdownProb[7142] = 1.1303799F;
-		relShowdownProb[7143] = 1.2417148F;
-		relShowdownProb[7144] = 1.3056448F;
-		relShowdownProb[7145] = 1.4143559F;
-		relShowdownProb[7146] = 1.1266633F;
-		relShowdownProb[7147] = 1.3830819F;
-		relShowdownProb[7148] = 1.4891838F;
-		relShowdownProb[7149] = 1.7336289F;
-		relShowdownProb[7150] = 1.7288729F;
-		relShowdownProb[7151] = 2.2194865F;
-		relShowdownProb[7152] = 1.2784194F;
-		relShowdownProb[7153] = 1.2786156F;
-		relShowdownProb[7154] = 1.3232094F;
-		relShowdownProb[7155] = 1.3077636F;
-		relShowdownProb[7156] = 1.3974991F;
-		relShowdownProb[7157] = 1.3231071F;
-		relShowdownProb[7158] = 1.4763174F;
-		relShowdownProb[7159] = 1.8655523F;
-		relShowdownProb[7160] = 1.546706F;
-		relShowdownProb[7161] = 1.7082278F;
-		relShowdownProb[7162] = 2.0065022F;
-		relShowdownProb[7163] = 2.300993F;
-		relShowdownProb[7164] = 1.2523291F;
-		relShowdownProb[7165] = 1.3996352F;
-		relShowdownProb[7166] = 1.6556741F;
-		relShowdownProb[7167] = 1.8163382F;
-		relShowdownProb[7168] = 1.4959146F;
-		relShowdownProb[7169] = 1.551229F;
-		relShowdownProb[7170] = 1.7288454F;
-		relShowdownProb[7171] = 1.9363147F;
-		relShowdownProb[7172] = 1.7384464F;
-		relShowdownProb[7173] = 1.8479341F;
-		relShowdownProb[7174] = 1.8739973F;
-		relShowdownProb[7175] = 2.3511508F;
-		relShowdownProb[7176] = 1.5588889F;
-		relShowdownProb[7177] = 1.4579533F;
-		relShowdownProb[7178] = 1.6544616F;
-		relShowdownProb[7179] = 1.8493626F;
-		relShowdownProb[7180] = 1.6796234F;
-		relShowdownProb[7181] = 1.6229246F;
-		relShowdownProb[7182] = 1.69647F;
-		relShowdownProb[7183] = 1.8784182F;
-		relShowdownProb[7184] = 1.8534906F;
-		relShowdownProb[7185] = 1.9241376F;
-		relShowdownProb[7186] = 1.9497144F;
-		relShowdownProb[7187] = 2.3636904F;
-		relShowdownProb[7188] = 1.3436449F;
-		relShowdownProb[7189] = 1.4449937F;
-		relShowdownProb[7190] = 1.5900857F;
-		relShowdownProb[7191] = 1.8548231F;
-		relShowdownProb[7192] = 2.047041F;
-		relShowdownProb[7193] = 1.9162241F;
-		relShowdownProb[7194] = 1.948998F;
-		relShowdownProb[7195] = 1.9105829F;
-		relShowdownProb[7196] = 2.1091444F;
-		relShowdownProb[7197] = 2.311505F;
-		relShowdownProb[7198] = 2.0001924F;
-		relShowdownProb[7199] = 2.4640062F;
-		relShowdownProb[7200] = 1.7480427F;
-		relShowdownProb[7201] = 1.4644331F;
-		relShowdownProb[7202] = 1.6287112F;
-		relShowdownProb[7203] = 1.7333002F;
-		relShowdownProb[7204] = 2.0017698F;
-		relShowdownProb[7205] = 2.0530972F;
-		relShowdownProb[7206] = 2.1562004F;
-		relShowdownProb[7207] = 2.1679006F;
-		relShowdownProb[7208] = 2.0580137F;
-		relShowdownProb[7209] = 2.089245F;
-		relShowdownProb[7210] = 2.2336533F;
-		relShowdownProb[7211] = 2.7336047F;
-		relShowdownProb[7212] = 1.6371595F;
-		relShowdownProb[7213] = 1.8661802F;
-		relShowdownProb[7214] = 1.5965233F;
-		relShowdownProb[7215] = 1.8804069F;
-		relShowdownProb[7216] = 1.849254F;
-		relShowdownProb[7217] = 2.1026397F;
-		relShowdownProb[7218] = 2.8684587F;
-		relShowdownProb[7219] = 2.3222911F;
-		relShowdownProb[7220] = 2.486234F;
-		relShowdownProb[7221] = 2.2924542F;
-		relShowdownProb[7222] = 2.504973F;
-		relShowdownProb[7223] = 2.683447F;
-		relShowdownProb[7224] = 1.6893399F;
-		relShowdownProb[7225] = 1.6005087F;
-		relShowdownProb[7226] = 1.6673368F;
-		relShowdownProb[7227] = 1.7844677F;
-		relShowdownProb[7228] = 2.0017698F;
-		relShowdownProb[7229] = 2.1847248F;
-		relShowdownProb[7230] = 2.628872F;
-		relShowdownProb[7231] = 3.0106156F;
-		relShowdownProb[7232] = 2.7930186F;
-		relShowdownProb[7233] = 2.63537F;
-		relShowdownProb[7234] = 2.6690264F;
-		relShowdownProb[7235] = 3.1035192F;
-		relShowdownProb[7236] = 1.8654486F;
-		relShowdownProb[7237] = 1.8856195F;
-		relShowdownProb[7238] = 2.0793428F;
-		relShowdownProb[7239] = 2.1426404F;
-		relShowdownProb[7240] = 2.4211884F;
-		relShowdownProb[7241] = 2.2920668F;
-		relShowdownProb[7242] = 2.4030023F;
-		relShowdownProb[7243] = 2.9053173F;
-		relShowdownProb[7244] = 3.2340214F;
-		relShowdownProb[7245] = 3.2958F;
-		relShowdownProb[7246] = 3.1611874F;
-		relShowdownProb[7247] = 3.2602625F;
-		relShowdownProb[7248] = 2.2698464F;
-		relShowdownProb[7249] = 2.1124122F;
-		relShowdownProb[7250] = 2.0085294F;
-		relShowdownProb[7251] = 2.2897472F;
-		relShowdownProb[7252] = 2.1542857F;
-		relShowdownProb[7253] = 2.3110094F;
-		relShowdownProb[7254] = 2.4594696F;
-		relShowdownProb[7255] = 2.8117986F;
-		relShowdownProb[7256] = 3.3827493F;
-		relShowdownProb[7257] = 3.3021502F;
-		relShowdownProb[7258] = 3.5397727F;
-		relShowdownProb[7259] = 3.7994597F;
-		relShowdownProb[7260] = 2.0872152F;
-		relShowdownProb[7261] = 2.18369F;
-		relShowdownProb[7262] = 2.4849112F;
-		relShowdownProb[7263] = 2.2129958F;
-		relShowdownProb[7264] = 2.3830593F;
-		relShowdownProb[7265] = 2.3867803F;
-		relShowdownProb[7266] = 2.7292583F;
-		relShowdownProb[7267] = 2.986367F;
-		relShowdownProb[7268] = 3.0791693F;
-		relShowdownProb[7269] = 3.072305F;
-		relShowdownProb[7270] = 3.5271533F;
-		relShowdownProb[7271] = 4.0251703F;
-		relShowdownProb[7272] = 2.1393957F;
-		relShowdownProb[7273] = 2.1512911F;
-		relShowdownProb[7274] = 2.1501565F;
-		relShowdownProb[7275] = 2.2641633F;
-		relShowdownProb[7276] = 2.389414F;
-		relShowdownProb[7277] = 2.2099817F;
-		relShowdownProb[7278] = 2.6665168F;
-		relShowdownProb[7279] = 2.7369835F;
-		relShowdownProb[7280] = 2.9614546F;
-		relShowdownProb[7281] = 3.140031F;
-		relShowdownProb[7282] = 3.3225157F;
-		relShowdownProb[7283] = 4.2007227F;
-		relShowdownProb[7284] = 2.6024964F;
-		relShowdownProb[7285] = 2.5465584F;
-		relShowdownProb[7286] = 2.4462857F;
-		relShowdownProb[7287] = 2.6862955F;
-		relShowdownProb[7288] = 2.5673492F;
-		relShowdownProb[7289] = 2.974004F;
-		relShowdownProb[7290] = 2.8108225F;
-		relShowdownProb[7291] = 2.967663F;
-		relShowdownProb[7292] = 3.2588391F;
-		relShowdownProb[7293] = 3.4971328F;
-		relShowdownProb[7294] = 3.6835258F;
-		relShowdownProb[7295] = 3.7399209F;
-		relShowdownProb[7297] = 2.737463F;
-		relShowdownProb[7298] = 0.86797607F;
-		relShowdownProb[7299] = 2.5120249F;
-		relShowdownProb[7300] = 1.4725664F;
-		relShowdownProb[7301] = 2.5764358F;
-		relShowdownProb[7302] = 1.5917517F;
-		relShowdownProb[7303] = 1.8596542F;
-		relShowdownProb[7304] = 1.5671349F;
-		relShowdownProb[7305] = 2.0780742F;
-		relShowdownProb[7306] = 1.9888109F;
-		relShowdownProb[7307] = 1.9672983F;
-		relShowdownProb[7310] = 0.86797607F;
-		relShowdownProb[7311] = 1.6746832F;
-		relShowdownProb[7312] = 1.7179941F;
-		relShowdownProb[7313] = 2.2543814F;
-		relShowdownProb[7314] = 2.0465379F;
-		relShowdownProb[7315] = 1.6905948F;
-		relShowdownProb[7316] = 1.8936212F;
-		relShowdownProb[7317] = 2.2858815F;
-		relShowdownProb[7318] = 1.8195504F;
-		relShowdownProb[7319] = 2.3888621F;
-		relShowdownProb[7321] = 8.212389F;
-		relShowdownProb[7322] = 2.6039283F;
-		relShowdownProb[7323] = 0.8373416F;
-		relShowdownProb[7324] = 1.9634218F;
-		relShowdownProb[7325] = 1.7712996F;
-		relShowdownProb[7326] = 2.9561102F;
-		relShowdownProb[7327] = 2.2823029F;
-		relShowdownProb[7328] = 2.3507023F;
-		relShowdownProb[7329] = 2.5975926F;
-		relShowdownProb[7330] = 1.9888109F;
-		relShowdownProb[7331] = 2.3888621F;
-		relShowdownProb[7333] = 2.737463F;
-		relShowdownProb[7334] = 1.7359521F;
-		relShowdownProb[7335] = 2.9306958F;
-		relShowdownProb[7336] = 2.9451327F;
-		relShowdownProb[7337] = 2.8984902F;
-		relShowdownProb[7338] = 2.273931F;
-		relShowdownProb[7339] = 2.1977732F;
-		relShowdownProb[7340] = 2.5465941F;
-		relShowdownProb[7341] = 2.2339296F;
-		relShowdownProb[7342] = 2.2003865F;
-		relShowdownProb[7343] = 2.3537319F;
-		relShowdownProb[7345] = 2.737463F;
-		relShowdownProb[7346] = 1.7359521F;
-		relShowdownProb[7347] = 1.6746832F;
-		relShowdownProb[7348] = 2.699705F;
-		relShowdownProb[7349] = 2.8984902F;
-		relShowdownProb[7350] = 3.2972F;
-		relShowdownProb[7351] = 2.620422F;
-		relShowdownProb[7352] = 2.9383779F;
-		relShowdownProb[7353] = 2.3378334F;
-		relShowdownProb[7354] = 2.031126F;
-		relShowdownProb[7355] = 2.5293834F;
-		relShowdownProb[7358] = 2.6039283F;
-		relShowdownProb[7359] = 3.3493664F;
-		relShowdownProb[7360] = 3.1905603F;
-		relShowdownProb[7361] = 3.0595176F;
-		relShowdownProb[7362] = 4.547862F;
-		relShowdownProb[7363] = 2.874011F;
-		relShowdownProb[7364] = 2.8077831F;
-		relShowdownProb[7365] = 2.2858815F;
-		relShowdownProb[7366] = 2.5389075F;
-		relShowdownProb[7367] = 2.4239924F;
-		relShowdownProb[7370] = 1.7359521F;
-		relShowdownProb[7371] = 2.9306958F;
-		relShowdownProb[7372] = 1.4725664F;
-		relShowdownProb[7373] = 2.737463F;
-		relShowdownProb[7374] = 2.9561102F;
-		relShowdownProb[7375] = 2.620422F;
-		relShowdownProb[7376] = 2.6771886F;
-		relShowdownProb[7377] = 2.4417372F;
-		relShowdownProb[7378] = 3.089004F;
-		relShowdownProb[7379] = 2.915817F;
-		relShowdownProb[7382] = 4.3398805F;
-		relShowdownProb[7383] = 1.6746832F;
-		relShowdownProb[7384] = 1.9634218F;
-		relShowdownProb[7385] = 2.2543814F;
-		relShowdownProb[7386] = 3.6382895F;
-		relShowdownProb[7387] = 4.3110166F;
-		relShowdownProb[7388] = 3.003675F;
-		relShowdownProb[7389] = 2.857352F;
-		relShowdownProb[7390] = 3.1313193F;
-		relShowdownProb[7391] = 3.548163F;
-		relShowdownProb[7394] = 2.6039283F;
-		relShowdownProb[7395] = 2.9306958F;
-		relShowdownProb[7396] = 2.2088494F;
-		relShowdownProb[7397] = 4.3477354F;
-		relShowdownProb[7398] = 2.501324F;
-		relShowdownProb[7399] = 2.958541F;
-		relShowdownProb[7400] = 4.0484314F;
-		relShowdownProb[7401] = 3.6885815F;
-		relShowdownProb[7402] = 2.3273318F;
-		relShowdownProb[7403] = 3.7238145F;
-		relShowdownProb[7406] = 0.86797607F;
-		relShowdownProb[7407] = 0.8373416F;
-		relShowdownProb[7408] = 2.2088494F;
-		relShowdownProb[7409] = 2.5764358F;
-		relShowdownProb[7410] = 2.6150205F;
-		relShowdownProb[7411] = 3.6347787F;
-		relShowdownProb[7412] = 3.1342697F;
-		relShowdownProb[7413] = 3.4288223F;
-		relShowdownProb[7414] = 2.9620588F;
-		relShowdownProb[7415] = 3.337381F;
-		relShowdownProb[7417] = 2.737463F;
-		relShowdownProb[7418] = 2.6039283F;
-		relShowdownProb[7419] = 2.9306958F;
-		relShowdownProb[7420] = 2.4542773F;
-		relShowdownProb[7421] = 2.8984902F;
-		relShowdownProb[7422] = 1.5917517F;
-		relShowdownProb[7423] = 2.7894814F;
-		relShowdownProb[7424] = 2.5465941F;
-		relShowdownProb[7425] = 2.9612556F;
-		relShowdownProb[7426] = 3.0043738F;
-		relShowdownProb[7427] = 3.5832932F;
-		relShowdownProb[7430] = 1.7359521F;
-		relShowdownProb[7431] = 3.3493664F;
-		relShowdownProb[7432] = 2.4542773F;
-		relShowdownProb[7433] = 3.381572F;
-		relShowdownProb[7434] = 2.1602345F;
-		relShowdownProb[7435] = 2.874011F;
-		relShowdownProb[7436] = 2.6118913F;
-		relShowdownProb[7437] = 2.493689F;
-		relShowdownProb[7438] = 3.38521F;
-		relShowdownProb[7439] = 4.461551F;
-		relShowdownProb[7441] = 2.737463F;
-		relShowdownProb[7442] = 3.4719043F;
-		relShowdownProb[7443] = 1.6746832F;
-		relShowdownProb[7444] = 1.9634218F;
-		relShowdownProb[7445] = 3.0595176F;
-		relShowdownProb[7446] = 1.3643585F;
-		relShowdownProb[7447] = 2.3668327F;
-		relShowdownProb[7448] = 3.2648642F;
-		relShowdownProb[7449] = 2.130026F;
-		relShowdownProb[7450] = 2.7927983F;
-		relShowdownProb[7451] = 2.9509473F;
-		relShowdownProb[7452] = 1.9942484F;
-		relShowdownProb[7453] = 1.100275F;
-		relShowdownProb[7454] = 1.3409601F;
-		relShowdownProb[7455] = 1.7879468F;
-		relShowdownProb[7456] = 1.5472617F;
-		relShowdownProb[7457] = 2.3037007F;
-		relShowdownProb[7458] = 2.20055F;
-		relShowdownProb[7459] = 3.128907F;
-		relShowdownProb[7460] = 3.128907F;
-		relShowdownProb[7461] = 3.1932847F;
-
-	}
-
-}
@@ -1,4798 +0,0 @@
-package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
-
-/**
- * This program is free software; you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation; either version 2 of the License, or
- * (at your option) any later version.
- * 
- *  This program is distributed in the hope that it will be useful,
- *  but WITHOUT ANY WARRANTY; without even the implied warranty of
- *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- *  GNU General Public License for more details.
- *  
- *  You should have received a copy of the GNU General Public License
- *  along with this program; if not, write to the Free Software
- *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
- */
-
-/**
- * Probability distribution when (pot/(nbShowdownPlayer*BigBlind)<=15, >4
- */
-public class ShowdownRankPredictor2of4 {
-
-	private final static float[] relShowdownProb = new float[7462];
-
-	public static float getRelativeProbability(int rank) {
-		return relShowdownProb[rank];
-	}
-
-	static {
-		relShowdownProb[48] = 0.34249657F;
-		relShowdownProb[51] = 0.32537174F;
-		relShowdownProb[82] = 0.22262277F;
-		relShowdownProb[85] = 0.3082469F;
-		relShowdownProb[86] = 0.29112208F;
-		relShowdownProb[102] = 0.34249657F;
-		relShowdownProb[105] = 0.22262277F;
-		relShowdownProb[106] = 0.33393416F;
-		relShowdownProb[112] = 0.29112208F;
-		relShowdownProb[115] = 0.29112208F;
-		relShowdownProb[116] = 0.4794952F;
-		relShowdownProb[119] = 0.25687242F;
-		relShowdownProb[120] = 0.5251614F;
-		relShowdownProb[151] = 0.20549794F;
-		relShowdownProb[154] = 0.25687242F;
-		relShowdownProb[155] = 0.3767462F;
-		relShowdownProb[171] = 0.32537174F;
-		relShowdownProb[174] = 0.20549794F;
-		relShowdownProb[175] = 0.38530862F;
-		relShowdownProb[181] = 0.29112208F;
-		relShowdownProb[184] = 0.22262277F;
-		relShowdownProb[185] = 0.33108002F;
-		relShowdownProb[188] = 0.32537174F;
-		relShowdownProb[189] = 0.39957932F;
-		relShowdownProb[190] = 0.43382898F;
-		relShowdownProb[206] = 0.27399725F;
-		relShowdownProb[209] = 0.32537174F;
-		relShowdownProb[210] = 0.39387104F;
-		relShowdownProb[216] = 0.20549794F;
-		relShowdownProb[219] = 0.32537174F;
-		relShowdownProb[220] = 0.38816276F;
-		relShowdownProb[223] = 0.46237037F;
-		relShowdownProb[224] = 0.31966347F;
-		relShowdownProb[225] = 0.38359615F;
-		relShowdownProb[231] = 0.2397476F;
-		relShowdownProb[234] = 0.13699862F;
-		relShowdownProb[235] = 0.27970552F;
-		relShowdownProb[238] = 0.34249657F;
-		relShowdownProb[239] = 0.34249657F;
-		relShowdownProb[240] = 0.41099587F;
-		relShowdownProb[243] = 0.39387104F;
-		relShowdownProb[244] = 0.4052876F;
-		relShowdownProb[245] = 0.53372383F;
-		relShowdownProb[276] = 0.27399725F;
-		relShowdownProb[279] = 0.27399725F;
-		relShowdownProb[280] = 0.22262277F;
-		relShowdownProb[296] = 0.29112208F;
-		relShowdownProb[299] = 0.17124829F;
-		relShowdownProb[300] = 0.3082469F;
-		relShowdownProb[306] = 0.3082469F;
-		relShowdownProb[309] = 0.25687242F;
-		relShowdownProb[310] = 0.35391313F;
-		relShowdownProb[313] = 0.15412346F;
-		relShowdownProb[314] = 0.29112208F;
-		relShowdownProb[315] = 0.3596214F;
-		relShowdownProb[331] = 0.27399725F;
-		relShowdownProb[334] = 0.1883731F;
-		relShowdownProb[335] = 0.31680933F;
-		relShowdownProb[341] = 0.17124829F;
-		relShowdownProb[344] = 0.3767462F;
-		relShowdownProb[345] = 0.29683036F;
-		relShowdownProb[348] = 0.25687242F;
-		relShowdownProb[349] = 0.32537174F;
-		relShowdownProb[350] = 0.36304635F;
-		relShowdownProb[356] = 0.29112208F;
-		relShowdownProb[359] = 0.34249657F;
-		relShowdownProb[360] = 0.31966347F;
-		relShowdownProb[363] = 0.20549794F;
-		relShowdownProb[364] = 0.30253863F;
-		relShowdownProb[365] = 0.44524553F;
-		relShowdownProb[368] = 0.2397476F;
-		relShowdownProb[369] = 0.44524553F;
-		relShowdownProb[370] = 0.41099587F;
-		relShowdownProb[371] = 0.52801555F;
-		relShowdownProb[387] = 0.29112208F;
-		relShowdownProb[390] = 0.29112208F;
-		relShowdownProb[391] = 0.44524553F;
-		relShowdownProb[397] = 0.25687242F;
-		relShowdownProb[400] = 0.2397476F;
-		relShowdownProb[401] = 0.34820485F;
-		relShowdownProb[404] = 0.27399725F;
-		relShowdownProb[405] = 0.34249657F;
-		relShowdownProb[406] = 0.37332126F;
-		relShowdownProb[412] = 0.34249657F;
-		relShowdownProb[415] = 0.3767462F;
-		relShowdownProb[416] = 0.37103796F;
-		relShowdownProb[419] = 0.29112208F;
-		relShowdownProb[420] = 0.27399725F;
-		relShowdownProb[421] = 0.41099587F;
-		relShowdownProb[424] = 0.34249657F;
-		relShowdownProb[425] = 0.38245448F;
-		relShowdownProb[426] = 0.44809967F;
-		relShowdownProb[427] = 0.53657794F;
-		relShowdownProb[433] = 0.41099587F;
-		relShowdownProb[436] = 0.25687242F;
-		relShowdownProb[437] = 0.43382898F;
-		relShowdownProb[440] = 0.4794952F;
-		relShowdownProb[441] = 0.3367883F;
-		relShowdownProb[442] = 0.38245448F;
-		relShowdownProb[445] = 0.3082469F;
-		relShowdownProb[446] = 0.32537174F;
-		relShowdownProb[447] = 0.46807864F;
-		relShowdownProb[448] = 0.58395666F;
-		relShowdownProb[451] = 0.5651193F;
-		relShowdownProb[452] = 0.49662003F;
-		relShowdownProb[453] = 0.5023283F;
-		relShowdownProb[454] = 0.6781432F;
-		relShowdownProb[485] = 0.29112208F;
-		relShowdownProb[488] = 0.2397476F;
-		relShowdownProb[489] = 0.3082469F;
-		relShowdownProb[505] = 0.3082469F;
-		relShowdownProb[508] = 0.29112208F;
-		relShowdownProb[509] = 0.31680933F;
-		relShowdownProb[515] = 0.17124829F;
-		relShowdownProb[518] = 0.27399725F;
-		relShowdownProb[519] = 0.35391313F;
-		relShowdownProb[522] = 0.3767462F;
-		relShowdownProb[523] = 0.5023283F;
-		relShowdownProb[524] = 0.44524553F;
-		relShowdownProb[540] = 0.25687242F;
-		relShowdownProb[543] = 0.34249657F;
-		relShowdownProb[544] = 0.40243345F;
-		relShowdownProb[550] = 0.3767462F;
-		relShowdownProb[553] = 0.41099587F;
-		relShowdownProb[554] = 0.3367883F;
-		relShowdownProb[557] = 0.29112208F;
-		relShowdownProb[558] = 0.42241243F;
-		relShowdownProb[559] = 0.4383956F;
-		relShowdownProb[565] = 0.2397476F;
-		relShowdownProb[568] = 0.29112208F;
-		relShowdownProb[569] = 0.41670415F;
-		relShowdownProb[572] = 0.17124829F;
-		relShowdownProb[573] = 0.35391313F;
-		relShowdownProb[574] = 0.4566621F;
-		relShowdownProb[577] = 0.3082469F;
-		relShowdownProb[578] = 0.36532968F;
-		relShowdownProb[579] = 0.3910169F;
-		relShowdownProb[580] = 0.50803655F;
-		relShowdownProb[596] = 0.39387104F;
-		relShowdownProb[599] = 0.27399725F;
-		relShowdownProb[600] = 0.47093278F;
-		relShowdownProb[606] = 0.32537174F;
-		relShowdownProb[609] = 0.44524553F;
-		relShowdownProb[610] = 0.39957932F;
-		relShowdownProb[613] = 0.25687242F;
-		relShowdownProb[614] = 0.42241243F;
-		relShowdownProb[615] = 0.46237037F;
-		relShowdownProb[621] = 0.39387104F;
-		relShowdownProb[624] = 0.3767462F;
-		relShowdownProb[625] = 0.43953726F;
-		relShowdownProb[628] = 0.22262277F;
-		relShowdownProb[629] = 0.3767462F;
-		relShowdownProb[630] = 0.40243345F;
-		relShowdownProb[633] = 0.32537174F;
-		relShowdownProb[634] = 0.2854138F;
-		relShowdownProb[635] = 0.49662003F;
-		relShowdownProb[636] = 0.5156476F;
-		relShowdownProb[642] = 0.5651193F;
-		relShowdownProb[645] = 0.44524553F;
-		relShowdownProb[646] = 0.5251614F;
-		relShowdownProb[649] = 0.39387104F;
-		relShowdownProb[650] = 0.5194531F;
-		relShowdownProb[651] = 0.4880576F;
-		relShowdownProb[654] = 0.53086966F;
-		relShowdownProb[655] = 0.44524553F;
-		relShowdownProb[656] = 0.5108907F;
-		relShowdownProb[657] = 0.4777827F;
-		relShowdownProb[660] = 0.4794952F;
-		relShowdownProb[661] = 0.5708276F;
-		relShowdownProb[662] = 0.53372383F;
-		relShowdownProb[663] = 0.63533115F;
-		relShowdownProb[664] = 0.7055429F;
-		relShowdownProb[680] = 0.5651193F;
-		relShowdownProb[683] = 0.44524553F;
-		relShowdownProb[684] = 0.4195583F;
-		relShowdownProb[690] = 0.3596214F;
-		relShowdownProb[693] = 0.27399725F;
-		relShowdownProb[694] = 0.38816276F;
-		relShowdownProb[697] = 0.39387104F;
-		relShowdownProb[698] = 0.36532968F;
-		relShowdownProb[699] = 0.43154567F;
-		relShowdownProb[705] = 0.39387104F;
-		relShowdownProb[708] = 0.2397476F;
-		relShowdownProb[709] = 0.4281207F;
-		relShowdownProb[712] = 0.39387104F;
-		relShowdownProb[713] = 0.42241243F;
-		relShowdownProb[714] = 0.41670415F;
-		relShowdownProb[717] = 0.49662003F;
-		relShowdownProb[718] = 0.4281207F;
-		relShowdownProb[719] = 0.39672518F;
-		relShowdownProb[720] = 0.50423104F;
-		relShowdownProb[726] = 0.32537174F;
-		relShowdownProb[729] = 0.4281207F;
-		relShowdownProb[730] = 0.46807864F;
-		relShowdownProb[733] = 0.44524553F;
-		relShowdownProb[734] = 0.55941105F;
-		relShowdownProb[735] = 0.43382898F;
-		relShowdownProb[738] = 0.32537174F;
-		relShowdownProb[739] = 0.37103796F;
-		relShowdownProb[740] = 0.4195583F;
-		relShowdownProb[741] = 0.546282F;
-		relShowdownProb[744] = 0.58224416F;
-		relShowdownProb[745] = 0.6507435F;
-		relShowdownProb[746] = 0.51374483F;
-		relShowdownProb[747] = 0.63361865F;
-		relShowdownProb[748] = 0.65685946F;
-		relShowdownProb[754] = 0.4794952F;
-		relShowdownProb[757] = 0.34249657F;
-		relShowdownProb[758] = 0.39387104F;
-		relShowdownProb[761] = 0.25687242F;
-		relShowdownProb[762] = 0.46807864F;
-		relShowdownProb[763] = 0.49947417F;
-		relShowdownProb[766] = 0.7534924F;
-		relShowdownProb[767] = 0.4509538F;
-		relShowdownProb[768] = 0.50803655F;
-		relShowdownProb[769] = 0.5616944F;
-		relShowdownProb[772] = 0.39387104F;
-		relShowdownProb[773] = 0.5194531F;
-		relShowdownProb[774] = 0.5394321F;
-		relShowdownProb[775] = 0.5736818F;
-		relShowdownProb[776] = 0.7671923F;
-		relShowdownProb[779] = 0.9076159F;
-		relShowdownProb[780] = 0.7477842F;
-		relShowdownProb[781] = 0.82199174F;
-		relShowdownProb[782] = 0.81342936F;
-		relShowdownProb[783] = 0.8391166F;
-		relShowdownProb[816] = 0.41099587F;
-		relShowdownProb[817] = 0.599369F;
-		relShowdownProb[836] = 0.3767462F;
-		relShowdownProb[837] = 0.46237037F;
-		relShowdownProb[846] = 0.49662003F;
-		relShowdownProb[847] = 0.5936607F;
-		relShowdownProb[850] = 0.5651193F;
-		relShowdownProb[851] = 0.68499315F;
-		relShowdownProb[852] = 0.63932693F;
-		relShowdownProb[871] = 0.53086966F;
-		relShowdownProb[872] = 0.5394321F;
-		relShowdownProb[881] = 0.49662003F;
-		relShowdownProb[882] = 0.60507727F;
-		relShowdownProb[885] = 0.4281207F;
-		relShowdownProb[886] = 0.49662003F;
-		relShowdownProb[887] = 0.6678683F;
-		relShowdownProb[896] = 0.4281207F;
-		relShowdownProb[897] = 0.5708276F;
-		relShowdownProb[900] = 0.68499315F;
-		relShowdownProb[901] = 0.58795244F;
-		relShowdownProb[902] = 0.5394321F;
-		relShowdownProb[905] = 0.6678683F;
-		relShowdownProb[906] = 0.6907014F;
-		relShowdownProb[907] = 0.61078554F;
-		relShowdownProb[908] = 0.7877421F;
-		relShowdownProb[927] = 0.32537174F;
-		relShowdownProb[928] = 0.73636764F;
-		relShowdownProb[937] = 0.41099587F;
-		relShowdownProb[938] = 0.53657794F;
-		relShowdownProb[941] = 0.63361865F;
-		relShowdownProb[942] = 0.63361865F;
-		relShowdownProb[943] = 0.6130689F;
-		relShowdownProb[952] = 0.53086966F;
-		relShowdownProb[953] = 0.5537028F;
-		relShowdownProb[956] = 0.44524553F;
-		relShowdownProb[957] = 0.53086966F;
-		relShowdownProb[958] = 0.7049721F;
-		relShowdownProb[961] = 0.4794952F;
-		relShowdownProb[962] = 0.53086966F;
-		relShowdownProb[963] = 0.49662003F;
-		relShowdownProb[964] = 0.71353453F;
-		relShowdownProb[973] = 0.6164938F;
-		relShowdownProb[974] = 0.5537028F;
-		relShowdownProb[977] = 0.68499315F;
-		relShowdownProb[978] = 0.76490897F;
-		relShowdownProb[979] = 0.6250562F;
-		relShowdownProb[982] = 0.599369F;
-		relShowdownProb[983] = 0.599369F;
-		relShowdownProb[984] = 0.6164938F;
-		relShowdownProb[985] = 0.73636764F;
-		relShowdownProb[988] = 0.68499315F;
-		relShowdownProb[989] = 0.7249511F;
-		relShowdownProb[990] = 0.6307645F;
-		relShowdownProb[991] = 0.7894546F;
-		relShowdownProb[992] = 0.91446584F;
-		relShowdownProb[1011] = 0.63361865F;
-		relShowdownProb[1012] = 0.7192428F;
-		relShowdownProb[1021] = 0.702118F;
-		relShowdownProb[1022] = 0.63361865F;
-		relShowdownProb[1025] = 0.599369F;
-		relShowdownProb[1026] = 0.5708276F;
-		relShowdownProb[1027] = 0.702118F;
-		relShowdownProb[1036] = 0.49662003F;
-		relShowdownProb[1037] = 0.5651193F;
-		relShowdownProb[1040] = 0.68499315F;
-		relShowdownProb[1041] = 0.70782626F;
-		relShowdownProb[1042] = 0.70782626F;
-		relShowdownProb[1045] = 0.77061725F;
-		relShowdownProb[1046] = 0.65645176F;
-		relShowdownProb[1047] = 0.65645176F;
-		relShowdownProb[1048] = 0.7249511F;
-		relShowdownProb[1057] = 0.6678683F;
-		relShowdownProb[1058] = 0.73636764F;
-		relShowdownProb[1061] = 0.58224416F;
-		relShowdownProb[1062] = 0.65645176F;
-		relShowdownProb[1063] = 0.74493F;
-		relShowdownProb[1066] = 0.49662003F;
-		relShowdownProb[1067] = 0.6907014F;
-		relShowdownProb[1068] = 0.63647276F;
-		relShowdownProb[1069] = 0.7689048F;
-		relShowdownProb[1072] = 0.73636764F;
-		relShowdownProb[1073] = 0.70782626F;
-		relShowdownProb[1074] = 0.79915863F;
-		relShowdownProb[1075] = 0.6678683F;
-		relShowdownProb[1076] = 0.8831518F;
-		relShowdownProb[1085] = 0.702118F;
-		relShowdownProb[1086] = 0.7820338F;
-		relShowdownProb[1089] = 0.68499315F;
-		relShowdownProb[1090] = 0.76490897F;
-		relShowdownProb[1091] = 0.79345036F;
-		relShowdownProb[1094] = 0.68499315F;
-		relShowdownProb[1095] = 0.63361865F;
-		relShowdownProb[1096] = 0.73065937F;
-		relShowdownProb[1097] = 0.7671923F;
-		relShowdownProb[1100] = 0.99324006F;
-		relShowdownProb[1101] = 0.82199174F;
-		relShowdownProb[1102] = 0.7877421F;
-		relShowdownProb[1103] = 0.7586299F;
-		relShowdownProb[1104] = 0.90647423F;
-		relShowdownProb[1107] = 0.7877421F;
-		relShowdownProb[1108] = 0.9076159F;
-		relShowdownProb[1109] = 0.84482485F;
-		relShowdownProb[1110] = 0.9213158F;
-		relShowdownProb[1111] = 0.98068184F;
-		relShowdownProb[1112] = 1.1096889F;
-		relShowdownProb[1131] = 0.5479945F;
-		relShowdownProb[1132] = 0.6250562F;
-		relShowdownProb[1141] = 0.6164938F;
-		relShowdownProb[1142] = 0.6222021F;
-		relShowdownProb[1145] = 0.58224416F;
-		relShowdownProb[1146] = 0.65645176F;
-		relShowdownProb[1147] = 0.6781432F;
-		relShowdownProb[1156] = 0.6164938F;
-		relShowdownProb[1157] = 0.5936607F;
-		relShowdownProb[1160] = 0.6507435F;
-		relShowdownProb[1161] = 0.73636764F;
-		relShowdownProb[1162] = 0.7249511F;
-		relShowdownProb[1165] = 0.599369F;
-		relShowdownProb[1166] = 0.6450352F;
-		relShowdownProb[1167] = 0.6593059F;
-		relShowdownProb[1168] = 0.72685385F;
-		relShowdownProb[1177] = 0.5479945F;
-		relShowdownProb[1178] = 0.7592007F;
-		relShowdownProb[1181] = 0.6507435F;
-		relShowdownProb[1182] = 0.7820338F;
-		relShowdownProb[1183] = 0.6964097F;
-		relShowdownProb[1186] = 0.68499315F;
-		relShowdownProb[1187] = 0.73636764F;
-		relShowdownProb[1188] = 0.6792849F;
-		relShowdownProb[1189] = 0.8288417F;
-		relShowdownProb[1192] = 0.702118F;
-		relShowdownProb[1193] = 0.930449F;
-		relShowdownProb[1194] = 0.76490897F;
-		relShowdownProb[1195] = 0.81171685F;
-		relShowdownProb[1196] = 0.8440094F;
-		relShowdownProb[1205] = 0.92474073F;
-		relShowdownProb[1206] = 1.0046566F;
-		relShowdownProb[1209] = 0.9076159F;
-		relShowdownProb[1210] = 0.8619497F;
-		relShowdownProb[1211] = 0.7791797F;
-		relShowdownProb[1214] = 1.0617393F;
-		relShowdownProb[1215] = 0.70782626F;
-		relShowdownProb[1216] = 0.81913763F;
-		relShowdownProb[1217] = 0.88877857F;
-		relShowdownProb[1220] = 0.8562414F;
-		relShowdownProb[1221] = 0.930449F;
-		relShowdownProb[1222] = 0.79915863F;
-		relShowdownProb[1223] = 0.8305542F;
-		relShowdownProb[1224] = 0.9327323F;
-		relShowdownProb[1227] = 0.9076159F;
-		relShowdownProb[1228] = 0.94757384F;
-		relShowdownProb[1229] = 0.89334524F;
-		relShowdownProb[1230] = 0.9093284F;
-		relShowdownProb[1231] = 1.0343397F;
-		relShowdownProb[1232] = 1.223569F;
-		relShowdownProb[1241] = 0.599369F;
-		relShowdownProb[1242] = 0.8391166F;
-		relShowdownProb[1245] = 0.77061725F;
-		relShowdownProb[1246] = 0.7592007F;
-		relShowdownProb[1247] = 0.7592007F;
-		relShowdownProb[1250] = 0.89049107F;
-		relShowdownProb[1251] = 0.8847828F;
-		relShowdownProb[1252] = 0.84482485F;
-		relShowdownProb[1253] = 0.89220357F;
-		relShowdownProb[1256] = 0.94186556F;
-		relShowdownProb[1257] = 0.8277F;
-		relShowdownProb[1258] = 0.9618445F;
-		relShowdownProb[1259] = 0.8408291F;
-		relShowdownProb[1260] = 0.90875757F;
-		relShowdownProb[1263] = 1.0103649F;
-		relShowdownProb[1264] = 0.99894834F;
-		relShowdownProb[1265] = 0.9875318F;
-		relShowdownProb[1266] = 1.0668768F;
-		relShowdownProb[1267] = 1.0548894F;
-		relShowdownProb[1268] = 1.1783513F;
-		relShowdownProb[1271] = 0.89049107F;
-		relShowdownProb[1272] = 0.9818235F;
-		relShowdownProb[1273] = 1.0617393F;
-		relShowdownProb[1274] = 1.0977015F;
-		relShowdownProb[1275] = 1.1450802F;
-		relShowdownProb[1276] = 1.2403269F;
-		relShowdownProb[1295] = 0.53761584F;
-		relShowdownProb[1296] = 0.47041383F;
-		relShowdownProb[1305] = 0.53761584F;
-		relShowdownProb[1306] = 0.4480132F;
-		relShowdownProb[1309] = 0.35841054F;
-		relShowdownProb[1310] = 0.5973509F;
-		relShowdownProb[1311] = 0.48385423F;
-		relShowdownProb[1320] = 0.35841054F;
-		relShowdownProb[1321] = 0.3882781F;
-		relShowdownProb[1324] = 0.7168211F;
-		relShowdownProb[1325] = 0.3882781F;
-		relShowdownProb[1326] = 0.3360099F;
-		relShowdownProb[1329] = 0.6272185F;
-		relShowdownProb[1330] = 0.31360924F;
-		relShowdownProb[1331] = 0.4480132F;
-		relShowdownProb[1332] = 0.44303527F;
-		relShowdownProb[1341] = 0.26880792F;
-		relShowdownProb[1342] = 0.26880792F;
-		relShowdownProb[1345] = 0.40321186F;
-		relShowdownProb[1346] = 0.4928145F;
-		relShowdownProb[1347] = 0.36587742F;
-		relShowdownProb[1350] = 0.40321186F;
-		relShowdownProb[1351] = 0.46294695F;
-		relShowdownProb[1352] = 0.46294695F;
-		relShowdownProb[1353] = 0.43009266F;
-		relShowdownProb[1356] = 0.4928145F;
-		relShowdownProb[1357] = 0.50774825F;
-		relShowdownProb[1358] = 0.40321186F;
-		relShowdownProb[1359] = 0.37633106F;
-		relShowdownProb[1360] = 0.5056149F;
-		relShowdownProb[1369] = 0.53761584F;
-		relShowdownProb[1370] = 0.47788072F;
-		relShowdownProb[1373] = 0.35841054F;
-		relShowdownProb[1374] = 0.50774825F;
-		relShowdownProb[1375] = 0.39574498F;
-		relShowdownProb[1378] = 0.4480132F;
-		relShowdownProb[1379] = 0.40321186F;
-		relShowdownProb[1380] = 0.29867545F;
-		relShowdownProb[1381] = 0.4524933F;
-		relShowdownProb[1384] = 0.6272185F;
-		relShowdownProb[1385] = 0.41814563F;
-		relShowdownProb[1386] = 0.35094365F;
-		relShowdownProb[1387] = 0.38529134F;
-		relShowdownProb[1388] = 0.4599602F;
-		relShowdownProb[1391] = 0.40321186F;
-		relShowdownProb[1392] = 0.43307942F;
-		relShowdownProb[1393] = 0.45548007F;
-		relShowdownProb[1394] = 0.39873174F;
-		relShowdownProb[1395] = 0.46294695F;
-		relShowdownProb[1396] = 0.5241754F;
-		relShowdownProb[1405] = 0.4928145F;
-		relShowdownProb[1406] = 0.37334433F;
-		relShowdownProb[1409] = 0.58241713F;
-		relShowdownProb[1410] = 0.40321186F;
-		relShowdownProb[1411] = 0.36587742F;
-		relShowdownProb[1414] = 0.7168211F;
-		relShowdownProb[1415] = 0.34347677F;
-		relShowdownProb[1416] = 0.41814563F;
-		relShowdownProb[1417] = 0.4524933F;
-		relShowdownProb[1420] = 0.2240066F;
-		relShowdownProb[1421] = 0.5226821F;
-		relShowdownProb[1422] = 0.4928145F;
-		relShowdownProb[1423] = 0.407692F;
-		relShowdownProb[1424] = 0.47190723F;
-		relShowdownProb[1427] = 0.6720198F;
-		relShowdownProb[1428] = 0.5973509F;
-		relShowdownProb[1429] = 0.47788072F;
-		relShowdownProb[1430] = 0.53761584F;
-		relShowdownProb[1431] = 0.47788072F;
-		relShowdownProb[1432] = 0.5909507F;
-		relShowdownProb[1435] = 0.8064237F;
-		relShowdownProb[1436] = 0.46294695F;
-		relShowdownProb[1437] = 0.47041383F;
-		relShowdownProb[1438] = 0.6316986F;
-		relShowdownProb[1439] = 0.56449664F;
-		relShowdownProb[1440] = 0.5930841F;
-		relShowdownProb[1441] = 0.6753384F;
-		relShowdownProb[1451] = 0.68695354F;
-		relShowdownProb[1455] = 0.79148996F;
-		relShowdownProb[1456] = 0.7168211F;
-		relShowdownProb[1460] = 0.64215225F;
-		relShowdownProb[1461] = 0.6197516F;
-		relShowdownProb[1462] = 0.7347416F;
-		relShowdownProb[1466] = 0.7765562F;
-		relShowdownProb[1467] = 0.7093542F;
-		relShowdownProb[1468] = 0.66305953F;
-		relShowdownProb[1469] = 0.7168211F;
-		relShowdownProb[1473] = 0.6720198F;
-		relShowdownProb[1474] = 0.68695354F;
-		relShowdownProb[1475] = 0.71234095F;
-		relShowdownProb[1476] = 0.74071515F;
-		relShowdownProb[1477] = 0.8170907F;
-		relShowdownProb[1481] = 0.8512251F;
-		relShowdownProb[1482] = 0.7168211F;
-		relShowdownProb[1483] = 0.7750628F;
-		relShowdownProb[1484] = 0.83927804F;
-		relShowdownProb[1485] = 0.7765562F;
-		relShowdownProb[1486] = 0.9920292F;
-		relShowdownProb[1490] = 0.86615884F;
-		relShowdownProb[1491] = 0.7690893F;
-		relShowdownProb[1492] = 0.7168211F;
-		relShowdownProb[1493] = 0.8243443F;
-		relShowdownProb[1494] = 0.9429611F;
-		relShowdownProb[1495] = 0.97602874F;
-		relShowdownProb[1496] = 1.1353934F;
-		relShowdownProb[1515] = 0.58241713F;
-		relShowdownProb[1516] = 0.3808112F;
-		relShowdownProb[1525] = 0.53761584F;
-		relShowdownProb[1526] = 0.35841054F;
-		relShowdownProb[1529] = 0.4480132F;
-		relShowdownProb[1530] = 0.61228466F;
-		relShowdownProb[1531] = 0.4928145F;
-		relShowdownProb[1540] = 0.7616224F;
-		relShowdownProb[1541] = 0.4480132F;
-		relShowdownProb[1544] = 0.7616224F;
-		relShowdownProb[1545] = 0.43307942F;
-		relShowdownProb[1546] = 0.4480132F;
-		relShowdownProb[1549] = 0.53761584F;
-		relShowdownProb[1550] = 0.73175484F;
-		relShowdownProb[1551] = 0.48534763F;
-		relShowdownProb[1552] = 0.5425937F;
-		relShowdownProb[1561] = 0.6272185F;
-		relShowdownProb[1562] = 0.53761584F;
-		relShowdownProb[1565] = 0.53761584F;
-		relShowdownProb[1566] = 0.47788072F;
-		relShowdownProb[1567] = 0.48534763F;
-		relShowdownProb[1570] = 0.7168211F;
-		relShowdownProb[1571] = 0.7018873F;
-		relShowdownProb[1572] = 0.41814563F;
-		relShowdownProb[1573] = 0.47041383F;
-		relShowdownProb[1576] = 0.40321186F;
-		relShowdownProb[1577] = 0.46294695F;
-		relShowdownProb[1578] = 0.45548007F;
-		relShowdownProb[1579] = 0.44353306F;
-		relShowdownProb[1580] = 0.508815F;
-		relShowdownProb[1589] = 1.1648343F;
-		relShowdownProb[1590] = 0.42561254F;
-		relShowdownProb[1593] = 0.35841054F;
-		relShowdownProb[1594] = 0.41814563F;
-		relShowdownProb[1595] = 0.30614233F;
-		relShowdownProb[1598] = 0.58241713F;
-		relShowdownProb[1599] = 0.46294695F;
-		relShowdownProb[1600] = 0.34347677F;
-		relShowdownProb[1601] = 0.4345728F;
-		relShowdownProb[1604] = 0.58241713F;
-		relShowdownProb[1605] = 0.53761584F;
-		relShowdownProb[1606] = 0.41814563F;
-		relShowdownProb[1607] = 0.407692F;
-		relShowdownProb[1608] = 0.54060256F;
-		relShowdownProb[1611] = 0.53761584F;
-		relShowdownProb[1612] = 0.68695354F;
-		relShowdownProb[1613] = 0.51521516F;
-		relShowdownProb[1614] = 0.41665226F;
-		relShowdownProb[1615] = 0.5286555F;
-		relShowdownProb[1616] = 0.61377805F;
-		relShowdownProb[1625] = 0.6272185F;
-		relShowdownProb[1626] = 0.58241713F;
-		relShowdownProb[1629] = 0.8960264F;
-		relShowdownProb[1630] = 0.61228466F;
-		relShowdownProb[1631] = 0.5749503F;
-		relShowdownProb[1634] = 1.1648343F;
-		relShowdownProb[1635] = 0.47788072F;
-		relShowdownProb[1636] = 0.41814563F;
-		relShowdownProb[1637] = 0.4793741F;
-		relShowdownProb[1640] = 0.6720198F;
-		relShowdownProb[1641] = 0.4928145F;
-		relShowdownProb[1642] = 0.6048178F;
-		relShowdownProb[1643] = 0.58689725F;
-		relShowdownProb[1644] = 0.5555363F;
-		relShowdownProb[1647] = 0.6272185F;
-		relShowdownProb[1648] = 0.5973509F;
-		relShowdownProb[1649] = 0.47788072F;
-		relShowdownProb[1650] = 0.5555363F;
-		relShowdownProb[1651] = 0.53761584F;
-		relShowdownProb[1652] = 0.69122034F;
-		relShowdownProb[1655] = 0.4480132F;
-		relShowdownProb[1656] = 0.7168211F;
-		relShowdownProb[1657] = 0.66455287F;
-		relShowdownProb[1658] = 0.5734569F;
-		relShowdownProb[1659] = 0.5764436F;
-		relShowdownProb[1660] = 0.64215225F;
-		relShowdownProb[1661] = 0.72345835F;
-		relShowdownProb[1671] = 0.8288244F;
-		relShowdownProb[1675] = 0.657086F;
-		relShowdownProb[1676] = 0.7541555F;
-		relShowdownProb[1680] = 0.91096014F;
-		relShowdownProb[1681] = 0.8064237F;
-		relShowdownProb[1682] = 0.7616224F;
-		relShowdownProb[1686] = 0.8810926F;
-		relShowdownProb[1687] = 0.86615884F;
-		relShowdownProb[1688] = 0.8243443F;
-		relShowdownProb[1689] = 0.74668866F;
-		relShowdownProb[1693] = 0.8213575F;
-		relShowdownProb[1694] = 0.86615884F;
-		relShowdownProb[1695] = 0.7437019F;
-		relShowdownProb[1696] = 0.84525156F;
-		relShowdownProb[1697] = 0.85762525F;
-		relShowdownProb[1701] = 0.9258939F;
-		relShowdownProb[1702] = 0.7541555F;
-		relShowdownProb[1703] = 0.7571423F;
-		relShowdownProb[1704] = 0.7825297F;
-		relShowdownProb[1705] = 0.9216271F;
-		relShowdownProb[1706] = 1.0080297F;
-		relShowdownProb[1710] = 0.94082767F;
-		relShowdownProb[1711] = 0.8288244F;
-		relShowdownProb[1712] = 0.8288244F;
-		relShowdownProb[1713] = 0.87213236F;
-		relShowdownProb[1714] = 0.9728286F;
-		relShowdownProb[1715] = 1.0400306F;
-		relShowdownProb[1716] = 1.2032354F;
-		relShowdownProb[1735] = 0.6272185F;
-		relShowdownProb[1736] = 0.4480132F;
-		relShowdownProb[1745] = 0.58241713F;
-		relShowdownProb[1746] = 0.51521516F;
-		relShowdownProb[1749] = 0.4928145F;
-		relShowdownProb[1750] = 0.5973509F;
-		relShowdownProb[1751] = 0.68994033F;
-		relShowdownProb[1760] = 0.6720198F;
-		relShowdownProb[1761] = 0.56001645F;
-		relShowdownProb[1764] = 0.6720198F;
-		relShowdownProb[1765] = 0.73175484F;
-		relShowdownProb[1766] = 0.5196953F;
-		relShowdownProb[1769] = 0.6720198F;
-		relShowdownProb[1770] = 0.74668866F;
-		relShowdownProb[1771] = 0.47041383F;
-		relShowdownProb[1772] = 0.6073068F;
-		relShowdownProb[1781] = 0.4928145F;
-		relShowdownProb[1782] = 0.47041383F;
-		relShowdownProb[1785] = 0.58241713F;
-		relShowdownProb[1786] = 0.58241713F;
-		relShowdownProb[1787] = 0.5555363F;
-		relShowdownProb[1790] = 0.4928145F;
-		relShowdownProb[1791] = 0.5226821F;
-		relShowdownProb[1792] = 0.56748337F;
-		relShowdownProb[1793] = 0.5286555F;
-		relShowdownProb[1796] = 0.58241713F;
-		relShowdownProb[1797] = 0.657086F;
-		relShowdownProb[1798] = 0.6272185F;
-		relShowdownProb[1799] = 0.54209596F;
-		relShowdownProb[1800] = 0.51521516F;
-		relShowdownProb[1809] = 0.7616224F;
-		relShowdownProb[1810] = 0.7616224F;
-		relShowdownProb[1813] = 0.8064237F;
-		relShowdownProb[1814] = 0.74668866F;
-		relShowdownProb[1815] = 0.5465761F;
-		relShowdownProb[1818] = 0.7168211F;
-		relShowdownProb[1819] = 0.61228466F;
-		relShowdownProb[1820] = 0.5525496F;
-		relShowdownProb[1821] = 0.577937F;
-		relShowdownProb[1824] = 1.0304303F;
-		relShowdownProb[1825] = 0.5226821F;
-		relShowdownProb[1826] = 0.6197516F;
-		relShowdownProb[1827] = 0.51521516F;
-		relShowdownProb[1828] = 0.6033244F;
-		relShowdownProb[1831] = 0.8960264F;
-		relShowdownProb[1832] = 0.8512251F;
-		relShowdownProb[1833] = 0.50774825F;
-		relShowdownProb[1834] = 0.5286555F;
-		relShowdownProb[1835] = 0.5495628F;
-		relShowdownProb[1836] = 0.6003377F;
-		relShowdownProb[1845] = 0.6272185F;
-		relShowdownProb[1846] = 0.69442046F;
-		relShowdownProb[1849] = 0.58241713F;
-		relShowdownProb[1850] = 0.86615884F;
-		relShowdownProb[1851] = 0.6272185F;
-		relShowdownProb[1854] = 0.58241713F;
-		relShowdownProb[1855] = 0.8064237F;
-		relShowdownProb[1856] = 0.51521516F;
-		relShowdownProb[1857] = 0.5331357F;
-		relShowdownProb[1860] = 0.7168211F;
-		relShowdownProb[1861] = 0.53761584F;
-		relShowdownProb[1862] = 0.56001645F;
-		relShowdownProb[1863] = 0.4524933F;
-		relShowdownProb[1864] = 0.62124497F;
-		relShowdownProb[1867] = 0.7168211F;
-		relShowdownProb[1868] = 0.58241713F;
-		relShowdownProb[1869] = 0.64215225F;
-		relShowdownProb[1870] = 0.748182F;
-		relShowdownProb[1871] = 0.62124497F;
-		relShowdownProb[1872] = 0.68268675F;
-		relShowdownProb[1875] = 1.1200329F;
-		relShowdownProb[1876] = 0.68695354F;
-		relShowdownProb[1877] = 0.64215225F;
-		relShowdownProb[1878] = 0.7257814F;
-		relShowdownProb[1879] = 0.59436417F;
-		relShowdownProb[1880] = 0.6976205F;
-		relShowdownProb[1881] = 0.6886129F;
-		relShowdownProb[1891] = 0.8960264F;
-		relShowdownProb[1895] = 1.0005628F;
-		relShowdownProb[1896] = 0.7526621F;
-		relShowdownProb[1900] = 0.8810926F;
-		relShowdownProb[1901] = 0.81389064F;
-		relShowdownProb[1902] = 0.9811489F;
-		relShowdownProb[1906] = 0.8960264F;
-		relShowdownProb[1907] = 0.8810926F;
-		relShowdownProb[1908] = 0.76610255F;
-		relShowdownProb[1909] = 0.86317205F;
-		relShowdownProb[1913] = 1.0304303F;
-		relShowdownProb[1914] = 0.81389064F;
-		relShowdownProb[1915] = 0.7705827F;
-		relShowdownProb[1916] = 0.83629125F;
-		relShowdownProb[1917] = 0.91949373F;
-		relShowdownProb[1921] = 1.0901654F;
-		relShowdownProb[1922] = 1.0154965F;
-		relShowdownProb[1923] = 0.8736257F;
-		relShowdownProb[1924] = 0.7974635F;
-		relShowdownProb[1925] = 0.85762525F;
-		relShowdownProb[1926] = 1.0560311F;
-		relShowdownProb[1930] = 0.97069526F;
-		relShowdownProb[1931] = 1.0229634F;
-		relShowdownProb[1932] = 0.9229072F;
-		relShowdownProb[1933] = 0.88407934F;
-		relShowdownProb[1934] = 1.0090964F;
-		relShowdownProb[1935] = 1.0928322F;
-		relShowdownProb[1936] = 1.1315533F;
-		relShowdownProb[1955] = 0.8960264F;
-		relShowdownProb[1956] = 0.7616224F;
-		relShowdownProb[1965] = 0.58241713F;
-		relShowdownProb[1966] = 0.8288244F;
-		relShowdownProb[1969] = 0.53761584F;
-		relShowdownProb[1970] = 0.6272185F;
-		relShowdownProb[1971] = 0.657086F;
-		relShowdownProb[1980] = 0.8064237F;
-		relShowdownProb[1981] = 0.78402305F;
-		relShowdownProb[1984] = 0.6272185F;
-		relShowdownProb[1985] = 0.73175484F;
-		relShowdownProb[1986] = 0.7078608F;
-		relShowdownProb[1989] = 0.8512251F;
-		relShowdownProb[1990] = 0.8213575F;
-		relShowdownProb[1991] = 0.64215225F;
-		relShowdownProb[1992] = 0.6919315F;
-		relShowdownProb[2001] = 0.8512251F;
-		relShowdownProb[2002] = 0.8736257F;
-		relShowdownProb[2005] = 0.7616224F;
-		relShowdownProb[2006] = 0.6272185F;
-		relShowdownProb[2007] = 0.7526621F;
-		relShowdownProb[2010] = 0.4928145F;
-		relShowdownProb[2011] = 0.79148996F;
-		relShowdownProb[2012] = 0.6720198F;
-		relShowdownProb[2013] = 0.62224054F;
-		relShowdownProb[2016] = 0.53761584F;
-		relShowdownProb[2017] = 0.8064237F;
-		relShowdownProb[2018] = 0.6272185F;
-		relShowdownProb[2019] = 0.645139F;
-		relShowdownProb[2020] = 0.6528192F;
-		relShowdownProb[2029] = 0.985629F;
-		relShowdownProb[2030] = 0.6720198F;
-		relShowdownProb[2033] = 0.8512251F;
-		relShowdownProb[2034] = 0.7168211F;
-		relShowdownProb[2035] = 0.7347416F;
-		relShowdownProb[2038] = 0.6720198F;
-		relShowdownProb[2039] = 0.6720198F;
-		relShowdownProb[2040] = 0.7690893F;
-		relShowdownProb[2041] = 0.6172626F;
-		relShowdownProb[2044] = 1.1200329F;
-		relShowdownProb[2045] = 0.5226821F;
-		relShowdownProb[2046] = 0.6272185F;
-		relShowdownProb[2047] = 0.56449664F;
-		relShowdownProb[2048] = 0.6242317F;
-		relShowdownProb[2051] = 0.7168211F;
-		relShowdownProb[2052] = 0.53761584F;
-		relShowdownProb[2053] = 0.68695354F;
-		relShowdownProb[2054] = 0.66305953F;
-		relShowdownProb[2055] = 0.56150985F;
-		relShowdownProb[2056] = 0.5846572F;
-		relShowdownProb[2065] = 0.8064237F;
-		relShowdownProb[2066] = 0.6720198F;
-		relShowdownProb[2069] = 0.6272185F;
-		relShowdownProb[2070] = 0.7018873F;
-		relShowdownProb[2071] = 0.7526621F;
-		relShowdownProb[2074] = 0.6272185F;
-		relShowdownProb[2075] = 0.657086F;
-		relShowdownProb[2076] = 0.68695354F;
-		relShowdownProb[2077] = 0.74668866F;
-		relShowdownProb[2080] = 0.7616224F;
-		relShowdownProb[2081] = 0.68695354F;
-		relShowdownProb[2082] = 0.78402305F;
-		relShowdownProb[2083] = 0.7302615F;
-		relShowdownProb[2084] = 0.74668866F;
-		relShowdownProb[2087] = 0.94082767F;
-		relShowdownProb[2088] = 0.86615884F;
-		relShowdownProb[2089] = 0.73175484F;
-		relShowdownProb[2090] = 0.6003377F;
-		relShowdownProb[2091] = 0.7078608F;
-		relShowdownProb[2092] = 0.6933537F;
-		relShowdownProb[2095] = 0.8512251F;
-		relShowdownProb[2096] = 0.73175484F;
-		relShowdownProb[2097] = 0.69442046F;
-		relShowdownProb[2098] = 0.7795429F;
-		relShowdownProb[2099] = 0.7078608F;
-		relShowdownProb[2100] = 0.8021569F;
-		relShowdownProb[2101] = 0.89436704F;
-		relShowdownProb[2111] = 0.8736257F;
-		relShowdownProb[2115] = 0.95576143F;
-		relShowdownProb[2116] = 1.1737945F;
-		relShowdownProb[2120] = 1.0453641F;
-		relShowdownProb[2121] = 0.96322834F;
-		relShowdownProb[2122] = 0.9806511F;
-		relShowdownProb[2126] = 0.7616224F;
-		relShowdownProb[2127] = 0.9482946F;
-		relShowdownProb[2128] = 0.7526621F;
-		relShowdownProb[2129] = 0.973682F;
-		relShowdownProb[2133] = 0.9258939F;
-		relShowdownProb[2134] = 0.9930959F;
-		relShowdownProb[2135] = 1.0214701F;
-		relShowdownProb[2136] = 0.8751191F;
-		relShowdownProb[2137] = 0.91096014F;
-		relShowdownProb[2141] = 0.91096014F;
-		relShowdownProb[2142] = 1.0976323F;
-		relShowdownProb[2143] = 1.0349104F;
-		relShowdownProb[2144] = 1.0782183F;
-		relShowdownProb[2145] = 0.90242654F;
-		relShowdownProb[2146] = 1.0784317F;
-		relShowdownProb[2150] = 1.0154965F;
-		relShowdownProb[2151] = 1.0677648F;
-		relShowdownProb[2152] = 1.0483508F;
-		relShowdownProb[2153] = 1.1050992F;
-		relShowdownProb[2154] = 1.0602978F;
-		relShowdownProb[2155] = 1.0240301F;
-		relShowdownProb[2156] = 1.258277F;
-		relShowdownProb[2175] = 1.1200329F;
-		relShowdownProb[2176] = 0.8960264F;
-		relShowdownProb[2185] = 0.8512251F;
-		relShowdownProb[2186] = 0.96322834F;
-		relShowdownProb[2189] = 0.7168211F;
-		relShowdownProb[2190] = 0.8960264F;
-		relShowdownProb[2191] = 0.91096014F;
-		relShowdownProb[2200] = 1.1200329F;
-		relShowdownProb[2201] = 0.7168211F;
-		relShowdownProb[2204] = 0.8960264F;
-		relShowdownProb[2205] = 0.6720198F;
-		relShowdownProb[2206] = 0.9229072F;
-		relShowdownProb[2209] = 0.7168211F;
-		relShowdownProb[2210] = 0.7018873F;
-		relShowdownProb[2211] = 0.68695354F;
-		relShowdownProb[2212] = 0.91842705F;
-		relShowdownProb[2221] = 0.6272185F;
-		relShowdownProb[2222] = 0.7168211F;
-		relShowdownProb[2225] = 0.53761584F;
-		relShowdownProb[2226] = 0.74668866F;
-		relShowdownProb[2227] = 0.7257814F;
-		relShowdownProb[2230] = 0.40321186F;
-		relShowdownProb[2231] = 0.6720198F;
-		relShowdownProb[2232] = 0.7018873F;
-		relShowdownProb[2233] = 0.7168211F;
-		relShowdownProb[2236] = 0.26880792F;
-		relShowdownProb[2237] = 0.7616224F;
-		relShowdownProb[2238] = 0.5450827F;
-		relShowdownProb[2239] = 0.8557052F;
-		relShowdownProb[2240] = 0.6528192F;
-		relShowdownProb[2249] = 0.7168211F;
-		relShowdownProb[2250] = 0.96322834F;
-		relShowdownProb[2253] = 0.6272185F;
-		relShowdownProb[2254] = 0.58241713F;
-		relShowdownProb[2255] = 0.7795429F;
-		relShowdownProb[2258] = 0.8064237F;
-		relShowdownProb[2259] = 0.657086F;
-		relShowdownProb[2260] = 0.8288244F;
-		relShowdownProb[2261] = 0.7417107F;
-		relShowdownProb[2264] = 0.7616224F;
-		relShowdownProb[2265] = 0.8064237F;
-		relShowdownProb[2266] = 0.6197516F;
-		relShowdownProb[2267] = 0.7437019F;
-		relShowdownProb[2268] = 0.7008206F;
-		relShowdownProb[2271] = 0.7616224F;
-		relShowdownProb[2272] = 0.985629F;
-		relShowdownProb[2273] = 0.8736257F;
-		relShowdownProb[2274] = 0.71234095F;
-		relShowdownProb[2275] = 0.64812577F;
-		relShowdownProb[2276] = 0.72802144F;
-		relShowdownProb[2285] = 0.7616224F;
-		relShowdownProb[2286] = 1.0304303F;
-		relShowdownProb[2289] = 0.35841054F;
-		relShowdownProb[2290] = 0.83629125F;
-		relShowdownProb[2291] = 0.8781058F;
-		relShowdownProb[2294] = 0.58241713F;
-		relShowdownProb[2295] = 0.74668866F;
-		relShowdownProb[2296] = 0.83629125F;
-		relShowdownProb[2297] = 0.8014458F;
-		relShowdownProb[2300] = 0.8960264F;
-		relShowdownProb[2301] = 0.7168211F;
-		relShowdownProb[2302] = 0.7616224F;
-		relShowdownProb[2303] = 0.7257814F;
-		relShowdownProb[2304] = 0.75202215F;
-		relShowdownProb[2307] = 0.94082767F;
-		relShowdownProb[2308] = 0.9258939F;
-		relShowdownProb[2309] = 0.74668866F;
-		relShowdownProb[2310] = 0.6989006F;
-		relShowdownProb[2311] = 0.7616224F;
-		relShowdownProb[2312] = 0.75308883F;
-		relShowdownProb[2315] = 0.6720198F;
-		relShowdownProb[2316] = 1.0154965F;
-		relShowdownProb[2317] = 0.7989569F;
-		relShowdownProb[2318] = 0.8781058F;
-		relShowdownProb[2319] = 0.8542118F;
-		relShowdownProb[2320] = 0.80429035F;
-		relShowdownProb[2321] = 0.83297265F;
-		relShowdownProb[2330] = 0.8512251F;
-		relShowdownProb[2331] = 0.985629F;
-		relShowdownProb[2334] = 1.2992382F;
-		relShowdownProb[2335] = 0.8064237F;
-		relShowdownProb[2336] = 0.99458927F;
-		relShowdownProb[2339] = 0.8064237F;
-		relShowdownProb[2340] = 0.97069526F;
-		relShowdownProb[2341] = 1.0976323F;
-		relShowdownProb[2342] = 0.87611467F;
-		relShowdownProb[2345] = 1.1648343F;
-		relShowdownProb[2346] = 0.7765562F;
-		relShowdownProb[2347] = 0.83629125F;
-		relShowdownProb[2348] = 0.9049866F;
-		relShowdownProb[2349] = 0.9952293F;
-		relShowdownProb[2352] = 0.8064237F;
-		relShowdownProb[2353] = 1.2395031F;
-		relShowdownProb[2354] = 0.88855946F;
-		relShowdownProb[2355] = 1.0080297F;
-		relShowdownProb[2356] = 0.98861575F;
-		relShowdownProb[2357] = 0.90242654F;
-		relShowdownProb[2360] = 0.8064237F;
-		relShowdownProb[2361] = 0.985629F;
-		relShowdownProb[2362] = 1.1349667F;
-		relShowdownProb[2363] = 0.9811489F;
-		relShowdownProb[2364] = 1.0065362F;
-		relShowdownProb[2365] = 0.92376053F;
-		relShowdownProb[2366] = 1.0928322F;
-		relShowdownProb[2369] = 1.0752317F;
-		relShowdownProb[2370] = 1.1050992F;
-		relShowdownProb[2371] = 0.9333608F;
-		relShowdownProb[2372] = 1.1827548F;
-		relShowdownProb[2373] = 0.99160254F;
-		relShowdownProb[2374] = 1.0730983F;
-		relShowdownProb[2375] = 1.1232331F;
-		relShowdownProb[2376] = 1.2416365F;
-		relShowdownProb[2392] = 0.7168211F;
-		relShowdownProb[2395] = 0.6720198F;
-		relShowdownProb[2396] = 1.1200329F;
-		relShowdownProb[2402] = 0.6720198F;
-		relShowdownProb[2405] = 0.6720198F;
-		relShowdownProb[2406] = 0.8512251F;
-		relShowdownProb[2409] = 1.2096356F;
-		relShowdownProb[2410] = 0.74668866F;
-		relShowdownProb[2411] = 0.91096014F;
-		relShowdownProb[2417] = 0.6272185F;
-		relShowdownProb[2420] = 0.58241713F;
-		relShowdownProb[2421] = 1.0080297F;
-		relShowdownProb[2424] = 0.6272185F;
-		relShowdownProb[2425] = 0.74668866F;
-		relShowdownProb[2426] = 1.0125098F;
-		relShowdownProb[2429] = 0.58241713F;
-		relShowdownProb[2430] = 0.657086F;
-		relShowdownProb[2431] = 0.7765562F;
-		relShowdownProb[2432] = 1.0602978F;
-		relShowdownProb[2438] = 0.40321186F;
-		relShowdownProb[2441] = 0.8960264F;
-		relShowdownProb[2442] = 0.56001645F;
-		relShowdownProb[2445] = 0.58241713F;
-		relShowdownProb[2446] = 0.8064237F;
-		relShowdownProb[2447] = 0.96770847F;
-		relShowdownProb[2450] = 0.7616224F;
-		relShowdownProb[2451] = 0.61228466F;
-		relShowdownProb[2452] = 0.8512251F;
-		relShowdownProb[2453] = 0.91096014F;
-		relShowdownProb[2456] = 0.4480132F;
-		relShowdownProb[2457] = 0.657086F;
-		relShowdownProb[2458] = 0.7765562F;
-		relShowdownProb[2459] = 0.83778465F;
-		relShowdownProb[2460] = 0.7974635F;
-		relShowdownProb[2466] = 0.8064237F;
-		relShowdownProb[2469] = 0.53761584F;
-		relShowdownProb[2470] = 0.6720198F;
-		relShowdownProb[2473] = 0.7168211F;
-		relShowdownProb[2474] = 0.8512251F;
-		relShowdownProb[2475] = 0.949788F;
-		relShowdownProb[2478] = 0.8960264F;
-		relShowdownProb[2479] = 0.68695354F;
-		relShowdownProb[2480] = 0.66455287F;
-		relShowdownProb[2481] = 0.81140167F;
-		relShowdownProb[2484] = 0.58241713F;
-		relShowdownProb[2485] = 0.6272185F;
-		relShowdownProb[2486] = 0.8512251F;
-		relShowdownProb[2487] = 0.86466545F;
-		relShowdownProb[2488] = 0.85442513F;
-		relShowdownProb[2491] = 0.35841054F;
-		relShowdownProb[2492] = 0.74668866F;
-		relShowdownProb[2493] = 0.6720198F;
-		relShowdownProb[2494] = 0.7705827F;
-		relShowdownProb[2495] = 0.8094105F;
-		relShowdownProb[2496] = 0.84898496F;
-		relShowdownProb[2502] = 0.8064237F;
-		relShowdownProb[2505] = 0.7168211F;
-		relShowdownProb[2506] = 1.0528309F;
-		relShowdownProb[2509] = 0.53761584F;
-		relShowdownProb[2510] = 0.68695354F;
-		relShowdownProb[2511] = 1.0035496F;
-		relShowdownProb[2514] = 0.53761584F;
-		relShowdownProb[2515] = 0.73175484F;
-		relShowdownProb[2516] = 0.8960264F;
-		relShowdownProb[2517] = 0.89104843F;
-		relShowdownProb[2520] = 0.4480132F;
-		relShowdownProb[2521] = 0.73175484F;
-		relShowdownProb[2522] = 0.63468534F;
-		relShowdownProb[2523] = 0.8601853F;
-		relShowdownProb[2524] = 0.91522694F;
-		relShowdownProb[2527] = 0.6720198F;
-		relShowdownProb[2528] = 0.64215225F;
-		relShowdownProb[2529] = 0.8064237F;
-		relShowdownProb[2530] = 0.7705827F;
-		relShowdownProb[2531] = 0.9199204F;
-		relShowdownProb[2532] = 0.83778465F;
-		relShowdownProb[2535] = 0.6720198F;
-		relShowdownProb[2536] = 0.74668866F;
-		relShowdownProb[2537] = 0.7616224F;
-		relShowdownProb[2538] = 0.8512251F;
-		relShowdownProb[2539] = 0.89005286F;
-		relShowdownProb[2540] = 0.8960264F;
-		relShowdownProb[2541] = 0.91096014F;
-		relShowdownProb[2550] = 0.7616224F;
-		relShowdownProb[2551] = 0.91842705F;
-		relShowdownProb[2554] = 0.6720198F;
-		relShowdownProb[2555] = 1.0005628F;
-		relShowdownProb[2556] = 1.1289933F;
-		relShowdownProb[2559] = 0.8960264F;
-		relShowdownProb[2560] = 0.8213575F;
-		relShowdownProb[2561] = 1.0826986F;
-		relShowdownProb[2562] = 1.1349667F;
-		relShowdownProb[2565] = 1.0752317F;
-		relShowdownProb[2566] = 0.83629125F;
-		relShowdownProb[2567] = 1.0752317F;
-		relShowdownProb[2568] = 1.1513939F;
-		relShowdownProb[2569] = 1.1616342F;
-		relShowdownProb[2572] = 0.8512251F;
-		relShowdownProb[2573] = 0.8810926F;
-		relShowdownProb[2574] = 1.0752317F;
-		relShowdownProb[2575] = 1.0976323F;
-		relShowdownProb[2576] = 1.0841919F;
-		relShowdownProb[2577] = 1.1737945F;
-		relShowdownProb[2580] = 1.0304303F;
-		relShowdownProb[2581] = 0.79148996F;
-		relShowdownProb[2582] = 1.1200329F;
-		relShowdownProb[2583] = 1.0438707F;
-		relShowdownProb[2584] = 0.98861575F;
-		relShowdownProb[2585] = 1.1947018F;
-		relShowdownProb[2586] = 1.1856349F;
-		relShowdownProb[2589] = 0.985629F;
-		relShowdownProb[2590] = 1.1648343F;
-		relShowdownProb[2591] = 1.0826986F;
-		relShowdownProb[2592] = 1.1827548F;
-		relShowdownProb[2593] = 1.1499006F;
-		relShowdownProb[2594] = 1.1840348F;
-		relShowdownProb[2595] = 1.1824348F;
-		relShowdownProb[2596] = 1.3465996F;
-		relShowdownProb[2612] = 0.7616224F;
-		relShowdownProb[2615] = 0.35841054F;
-		relShowdownProb[2616] = 0.7616224F;
-		relShowdownProb[2622] = 0.8064237F;
-		relShowdownProb[2625] = 0.58241713F;
-		relShowdownProb[2626] = 1.0005628F;
-		relShowdownProb[2629] = 0.53761584F;
-		relShowdownProb[2630] = 0.74668866F;
-		relShowdownProb[2631] = 0.9258939F;
-		relShowdownProb[2637] = 0.7616224F;
-		relShowdownProb[2640] = 0.6720198F;
-		relShowdownProb[2641] = 0.68695354F;
-		relShowdownProb[2644] = 0.31360924F;
-		relShowdownProb[2645] = 0.8213575F;
-		relShowdownProb[2646] = 0.8870661F;
-		relShowdownProb[2649] = 0.6272185F;
-		relShowdownProb[2650] = 1.0453641F;
-		relShowdownProb[2651] = 1.0080297F;
-		relShowdownProb[2652] = 1.1274998F;
-		relShowdownProb[2658] = 0.6720198F;
-		relShowdownProb[2661] = 0.7168211F;
-		relShowdownProb[2662] = 0.8512251F;
-		relShowdownProb[2665] = 0.4928145F;
-		relShowdownProb[2666] = 0.8064237F;
-		relShowdownProb[2667] = 0.96770847F;
-		relShowdownProb[2670] = 0.6272185F;
-		relShowdownProb[2671] = 0.7765562F;
-		relShowdownProb[2672] = 0.8213575F;
-		relShowdownProb[2673] = 0.99558485F;
-		relShowdownProb[2676] = 0.7616224F;
-		relShowdownProb[2677] = 0.64215225F;
-		relShowdownProb[2678] = 0.79148996F;
-		relShowdownProb[2679] = 0.949788F;
-		relShowdownProb[2680] = 1.0707515F;
-		relShowdownProb[2686] = 0.58241713F;
-		relShowdownProb[2689] = 0.2240066F;
-		relShowdownProb[2690] = 0.5973509F;
-		relShowdownProb[2693] = 0.6272185F;
-		relShowdownProb[2694] = 0.58241713F;
-		relShowdownProb[2695] = 0.91394687F;
-		relShowdownProb[2698] = 0.7168211F;
-		relShowdownProb[2699] = 0.7616224F;
-		relShowdownProb[2700] = 0.7765562F;
-		relShowdownProb[2701] = 0.84624714F;
-		relShowdownProb[2704] = 0.7616224F;
-		relShowdownProb[2705] = 0.5973509F;
-		relShowdownProb[2706] = 0.64215225F;
-		relShowdownProb[2707] = 0.882586F;
-		relShowdownProb[2708] = 1.0560311F;
-		relShowdownProb[2711] = 0.6272185F;
-		relShowdownProb[2712] = 0.6272185F;
-		relShowdownProb[2713] = 0.7690893F;
-		relShowdownProb[2714] = 0.8781058F;
-		relShowdownProb[2715] = 1.0692581F;
-		relShowdownProb[2716] = 0.9766687F;
-		relShowdownProb[2722] = 0.6720198F;
-		relShowdownProb[2725] = 0.40321186F;
-		relShowdownProb[2726] = 0.6720198F;
-		relShowdownProb[2729] = 0.40321186F;
-		relShowdownProb[2730] = 0.5973509F;
-		relShowdownProb[2731] = 0.94082767F;
-		relShowdownProb[2734] = 0.8512251F;
-		relShowdownProb[2735] = 0.5973509F;
-		relShowdownProb[2736] = 0.9258939F;
-		relShowdownProb[2737] = 1.1299888F;
-		relShowdownProb[2740] = 0.40321186F;
-		relShowdownProb[2741] = 0.7765562F;
-		relShowdownProb[2742] = 0.7168211F;
-		relShowdownProb[2743] = 0.8333045F;
-		relShowdownProb[2744] = 0.96002823F;
-		relShowdownProb[2747] = 0.6720198F;
-		relShowdownProb[2748] = 0.8512251F;
-		relShowdownProb[2749] = 0.84375817F;
-		relShowdownProb[2750] = 0.9721886F;
-		relShowdownProb[2751] = 0.9079734F;
-		relShowdownProb[2752] = 1.0057896F;
-		relShowdownProb[2755] = 0.58241713F;
-		relShowdownProb[2756] = 0.8810926F;
-		relShowdownProb[2757] = 0.78402305F;
-		relShowdownProb[2758] = 0.9318674F;
-		relShowdownProb[2759] = 0.95576143F;
-		relShowdownProb[2760] = 1.006963F;
-		relShowdownProb[2761] = 1.0702537F;
-		relShowdownProb[2770] = 0.6272185F;
-		relShowdownProb[2771] = 1.1947018F;
-		relShowdownProb[2774] = 0.8064237F;
-		relShowdownProb[2775] = 0.985629F;
-		relShowdownProb[2776] = 1.0662714F;
-		relShowdownProb[2779] = 0.8960264F;
-		relShowdownProb[2780] = 1.0304303F;
-		relShowdownProb[2781] = 1.1200329F;
-		relShowdownProb[2782] = 1.3241279F;
-		relShowdownProb[2785] = 0.6720198F;
-		relShowdownProb[2786] = 1.0901654F;
-		relShowdownProb[2787] = 0.88855946F;
-		relShowdownProb[2788] = 1.0976323F;
-		relShowdownProb[2789] = 1.1296332F;
-		relShowdownProb[2792] = 0.7616224F;
-		relShowdownProb[2793] = 1.0154965F;
-		relShowdownProb[2794] = 0.8960264F;
-		relShowdownProb[2795] = 0.9542681F;
-		relShowdownProb[2796] = 1.0841919F;
-		relShowdownProb[2797] = 1.1939552F;
-		relShowdownProb[2800] = 0.7168211F;
-		relShowdownProb[2801] = 1.0752317F;
-		relShowdownProb[2802] = 1.1349667F;
-		relShowdownProb[2803] = 1.1469138F;
-		relShowdownProb[2804] = 1.1349667F;
-		relShowdownProb[2805] = 1.1968353F;
-		relShowdownProb[2806] = 1.352336F;
-		relShowdownProb[2809] = 1.1648343F;
-		relShowdownProb[2810] = 1.2096356F;
-		relShowdownProb[2811] = 0.94082767F;
-		relShowdownProb[2812] = 1.1648343F;
-		relShowdownProb[2813] = 1.2574236F;
-		relShowdownProb[2814] = 1.3291057F;
-		relShowdownProb[2815] = 1.3040384F;
-		relShowdownProb[2816] = 1.4310821F;
-		relShowdownProb[2832] = 0.4480132F;
-		relShowdownProb[2835] = 0.58241713F;
-		relShowdownProb[2836] = 0.6720198F;
-		relShowdownProb[2842] = 0.6720198F;
-		relShowdownProb[2845] = 0.8064237F;
-		relShowdownProb[2846] = 0.8064237F;
-		relShowdownProb[2849] = 0.53761584F;
-		relShowdownProb[2850] = 0.56748337F;
-		relShowdownProb[2851] = 1.0005628F;
-		relShowdownProb[2857] = 0.6272185F;
-		relShowdownProb[2860] = 0.35841054F;
-		relShowdownProb[2861] = 0.7765562F;
-		relShowdownProb[2864] = 0.7168211F;
-		relShowdownProb[2865] = 0.6720198F;
-		relShowdownProb[2866] = 0.8960264F;
-		relShowdownProb[2869] = 0.8064237F;
-		relShowdownProb[2870] = 0.657086F;
-		relShowdownProb[2871] = 1.0229634F;
-		relShowdownProb[2872] = 0.9482946F;
-		relShowdownProb[2878] = 0.4928145F;
-		relShowdownProb[2881] = 0.6272185F;
-		relShowdownProb[2882] = 0.74668866F;
-		relShowdownProb[2885] = 0.40321186F;
-		relShowdownProb[2886] = 1.0005628F;
-		relShowdownProb[2887] = 0.85869193F;
-		relShowdownProb[2890] = 0.6720198F;
-		relShowdownProb[2891] = 0.8960264F;
-		relShowdownProb[2892] = 0.8288244F;
-		relShowdownProb[2893] = 1.0154965F;
-		relShowdownProb[2896] = 0.8960264F;
-		relShowdownProb[2897] = 0.7765562F;
-		relShowdownProb[2898] = 0.7616224F;
-		relShowdownProb[2899] = 1.0080297F;
-		relShowdownProb[2900] = 1.1827548F;
-		relShowdownProb[2906] = 0.8064237F;
-		relShowdownProb[2909] = 0.58241713F;
-		relShowdownProb[2910] = 0.6720198F;
-		relShowdownProb[2913] = 0.26880792F;
-		relShowdownProb[2914] = 0.53761584F;
-		relShowdownProb[2915] = 0.7989569F;
-		relShowdownProb[2918] = 0.6720198F;
-		relShowdownProb[2919] = 0.5973509F;
-		relShowdownProb[2920] = 0.79148996F;
-		relShowdownProb[2921] = 0.93087184F;
-		relShowdownProb[2924] = 0.7616224F;
-		relShowdownProb[2925] = 0.7765562F;
-		relShowdownProb[2926] = 0.8064237F;
-		relShowdownProb[2927] = 0.9721886F;
-		relShowdownProb[2928] = 1.158434F;
-		relShowdownProb[2931] = 0.6272185F;
-		relShowdownProb[2932] = 0.8213575F;
-		relShowdownProb[2933] = 0.657086F;
-		relShowdownProb[2934] = 0.9766687F;
-		relShowdownProb[2935] = 0.98264223F;
-		relShowdownProb[2936] = 1.2663839F;
-		relShowdownProb[2942] = 0.8064237F;
-		relShowdownProb[2945] = 0.26880792F;
-		relShowdownProb[2946] = 0.64215225F;
-		relShowdownProb[2949] = 0.8960264F;
-		relShowdownProb[2950] = 0.7018873F;
-		relShowdownProb[2951] = 0.7765562F;
-		relShowdownProb[2954] = 0.8064237F;
-		relShowdownProb[2955] = 0.7018873F;
-		relShowdownProb[2956] = 0.7690893F;
-		relShowdownProb[2957] = 0.87611467F;
-		relShowdownProb[2960] = 0.985629F;
-		relShowdownProb[2961] = 1.0154965F;
-		relShowdownProb[2962] = 0.73922175F;
-		relShowdownProb[2963] = 0.96770847F;
-		relShowdownProb[2964] = 1.0080297F;
-		relShowdownProb[2967] = 0.58241713F;
-		relShowdownProb[2968] = 0.8810926F;
-		relShowdownProb[2969] = 0.8960264F;
-		relShowdownProb[2970] = 0.91842705F;
-		relShowdownProb[2971] = 0.9587482F;
-		relShowdownProb[2972] = 1.3485197F;
-		relShowdownProb[2975] = 0.58241713F;
-		relShowdownProb[2976] = 0.74668866F;
-		relShowdownProb[2977] = 0.78402305F;
-		relShowdownProb[2978] = 0.90946674F;
-		relShowdownProb[2979] = 0.98861575F;
-		relShowdownProb[2980] = 1.2565703F;
-		relShowdownProb[2981] = 1.1627009F;
-		relShowdownProb[2990] = 0.8512251F;
-		relShowdownProb[2991] = 0.8810926F;
-		relShowdownProb[2994] = 0.7168211F;
-		relShowdownProb[2995] = 0.657086F;
-		relShowdownProb[2996] = 0.9333608F;
-		relShowdownProb[2999] = 0.8960264F;
-		relShowdownProb[3000] = 0.985629F;
-		relShowdownProb[3001] = 0.8736257F;
-		relShowdownProb[3002] = 1.1698122F;
-		relShowdownProb[3005] = 0.94082767F;
-		relShowdownProb[3006] = 0.985629F;
-		relShowdownProb[3007] = 0.985629F;
-		relShowdownProb[3008] = 1.1782746F;
-		relShowdownProb[3009] = 1.2352364F;
-		relShowdownProb[3012] = 1.1200329F;
-		relShowdownProb[3013] = 0.97069526F;
-		relShowdownProb[3014] = 0.9781621F;
-		relShowdownProb[3015] = 1.1737945F;
-		relShowdownProb[3016] = 1.2215827F;
-		relShowdownProb[3017] = 1.3373194F;
-		relShowdownProb[3020] = 0.8960264F;
-		relShowdownProb[3021] = 1.0602978F;
-		relShowdownProb[3022] = 1.0752317F;
-		relShowdownProb[3023] = 1.1603541F;
-		relShowdownProb[3024] = 1.3440396F;
-		relShowdownProb[3025] = 1.3227056F;
-		relShowdownProb[3026] = 1.4767842F;
-		relShowdownProb[3029] = 1.2096356F;
-		relShowdownProb[3030] = 0.985629F;
-		relShowdownProb[3031] = 1.1200329F;
-		relShowdownProb[3032] = 1.2096356F;
-		relShowdownProb[3033] = 1.2365164F;
-		relShowdownProb[3034] = 1.4699099F;
-		relShowdownProb[3035] = 1.4416424F;
-		relShowdownProb[3036] = 1.5910869F;
-		relShowdownProb[3052] = 0.2240066F;
-		relShowdownProb[3055] = 0.6720198F;
-		relShowdownProb[3056] = 0.53761584F;
-		relShowdownProb[3062] = 0.6272185F;
-		relShowdownProb[3065] = 0.6720198F;
-		relShowdownProb[3066] = 0.5525496F;
-		relShowdownProb[3069] = 0.31360924F;
-		relShowdownProb[3070] = 0.6720198F;
-		relShowdownProb[3071] = 0.7616224F;
-		relShowdownProb[3077] = 0.58241713F;
-		relShowdownProb[3080] = 0.6720198F;
-		relShowdownProb[3081] = 0.6272185F;
-		relShowdownProb[3084] = 0.35841054F;
-		relShowdownProb[3085] = 0.4480132F;
-		relShowdownProb[3086] = 0.6794867F;
-		relShowdownProb[3089] = 0.58241713F;
-		relShowdownProb[3090] = 0.4928145F;
-		relShowdownProb[3091] = 0.8288244F;
-		relShowdownProb[3092] = 0.8810926F;
-		relShowdownProb[3098] = 0.4480132F;
-		relShowdownProb[3101] = 0.35841054F;
-		relShowdownProb[3102] = 0.5973509F;
-		relShowdownProb[3105] = 0.17920527F;
-		relShowdownProb[3106] = 0.74668866F;
-		relShowdownProb[3107] = 0.79148996F;
-		relShowdownProb[3110] = 0.4480132F;
-		relShowdownProb[3111] = 0.8064237F;
-		relShowdownProb[3112] = 0.78402305F;
-		relShowdownProb[3113] = 0.9005065F;
-		relShowdownProb[3116] = 0.8512251F;
-		relShowdownProb[3117] = 0.50774825F;
-		relShowdownProb[3118] = 0.63468534F;
-		relShowdownProb[3119] = 1.0259502F;
-		relShowdownProb[3120] = 1.0662714F;
-		relShowdownProb[3126] = 0.7616224F;
-		relShowdownProb[3129] = 0.58241713F;
-		relShowdownProb[3130] = 0.64215225F;
-		relShowdownProb[3133] = 0.7168211F;
-		relShowdownProb[3134] = 0.56748337F;
-		relShowdownProb[3135] = 0.7541555F;
-		relShowdownProb[3138] = 0.4928145F;
-		relShowdownProb[3139] = 0.657086F;
-		relShowdownProb[3140] = 0.73922175F;
-		relShowdownProb[3141] = 0.8781058F;
-		relShowdownProb[3144] = 0.7616224F;
-		relShowdownProb[3145] = 0.5226821F;
-		relShowdownProb[3146] = 0.6496191F;
-		relShowdownProb[3147] = 0.9318674F;
-		relShowdownProb[3148] = 1.1680343F;
-		relShowdownProb[3151] = 0.985629F;
-		relShowdownProb[3152] = 1.0005628F;
-		relShowdownProb[3153] = 0.9034932F;
-		relShowdownProb[3154] = 0.99010915F;
-		relShowdownProb[3155] = 1.3111852F;
-		relShowdownProb[3156] = 1.4246819F;
-		relShowdownProb[3162] = 0.8064237F;
-		relShowdownProb[3165] = 1.0304303F;
-		relShowdownProb[3166] = 0.8213575F;
-		relShowdownProb[3169] = 0.6720198F;
-		relShowdownProb[3170] = 0.7168211F;
-		relShowdownProb[3171] = 0.84375817F;
-		relShowdownProb[3174] = 0.8960264F;
-		relShowdownProb[3175] = 0.7018873F;
-		relShowdownProb[3176] = 0.6720198F;
-		relShowdownProb[3177] = 0.7705827F;
-		relShowdownProb[3180] = 0.8960264F;
-		relShowdownProb[3181] = 0.74668866F;
-		relShowdownProb[3182] = 0.79148996F;
-		relShowdownProb[3183] = 0.9005065F;
-		relShowdownProb[3184] = 1.1008323F;
-		relShowdownProb[3187] = 0.6720198F;
-		relShowdownProb[3188] = 0.985629F;
-		relShowdownProb[3189] = 0.95576143F;
-		relShowdownProb[3190] = 1.0528309F;
-		relShowdownProb[3191] = 1.143927F;
-		relShowdownProb[3192] = 1.393321F;
-		relShowdownProb[3195] = 0.7168211F;
-		relShowdownProb[3196] = 0.91096014F;
-		relShowdownProb[3197] = 0.91842705F;
-		relShowdownProb[3198] = 1.1245131F;
-		relShowdownProb[3199] = 1.1499006F;
-		relShowdownProb[3200] = 1.3867074F;
-		relShowdownProb[3201] = 1.7771189F;
-		relShowdownProb[3210] = 0.8064237F;
-		relShowdownProb[3211] = 0.8960264F;
-		relShowdownProb[3214] = 1.2992382F;
-		relShowdownProb[3215] = 1.2096356F;
-		relShowdownProb[3216] = 0.84375817F;
-		relShowdownProb[3219] = 1.2992382F;
-		relShowdownProb[3220] = 0.74668866F;
-		relShowdownProb[3221] = 1.0826986F;
-		relShowdownProb[3222] = 1.1334734F;
-		relShowdownProb[3225] = 1.5232449F;
-		relShowdownProb[3226] = 1.1648343F;
-		relShowdownProb[3227] = 0.88855946F;
-		relShowdownProb[3228] = 1.0931522F;
-		relShowdownProb[3229] = 1.3440396F;
-		relShowdownProb[3232] = 1.0304303F;
-		relShowdownProb[3233] = 1.1499006F;
-		relShowdownProb[3234] = 1.3589734F;
-		relShowdownProb[3235] = 1.2365164F;
-		relShowdownProb[3236] = 1.4396157F;
-		relShowdownProb[3237] = 1.4381223F;
-		relShowdownProb[3240] = 1.6576488F;
-		relShowdownProb[3241] = 1.2395031F;
-		relShowdownProb[3242] = 1.2320362F;
-		relShowdownProb[3243] = 1.2723575F;
-		relShowdownProb[3244] = 1.3291057F;
-		relShowdownProb[3245] = 1.4507093F;
-		relShowdownProb[3246] = 1.9463683F;
-		relShowdownProb[3249] = 1.2096356F;
-		relShowdownProb[3250] = 1.2843045F;
-		relShowdownProb[3251] = 1.3963077F;
-		relShowdownProb[3252] = 1.3709203F;
-		relShowdownProb[3253] = 1.4993508F;
-		relShowdownProb[3254] = 1.4805769F;
-		relShowdownProb[3255] = 1.9040561F;
-		relShowdownProb[3256] = 1.8592547F;
-		relShowdownProb[3272] = 0.40321186F;
-		relShowdownProb[3275] = 0.53761584F;
-		relShowdownProb[3276] = 0.6496191F;
-		relShowdownProb[3282] = 0.58241713F;
-		relShowdownProb[3285] = 0.40321186F;
-		relShowdownProb[3286] = 0.79148996F;
-		relShowdownProb[3289] = 0.53761584F;
-		relShowdownProb[3290] = 0.5525496F;
-		relShowdownProb[3291] = 0.63617873F;
-		relShowdownProb[3297] = 0.4928145F;
-		relShowdownProb[3300] = 0.35841054F;
-		relShowdownProb[3301] = 0.73175484F;
-		relShowdownProb[3304] = 0.4928145F;
-		relShowdownProb[3305] = 0.5226821F;
-		relShowdownProb[3306] = 0.7168211F;
-		relShowdownProb[3309] = 0.4480132F;
-		relShowdownProb[3310] = 0.7018873F;
-		relShowdownProb[3311] = 0.58241713F;
-		relShowdownProb[3312] = 0.77157825F;
-		relShowdownProb[3318] = 0.8960264F;
-		relShowdownProb[3321] = 0.6720198F;
-		relShowdownProb[3322] = 0.83629125F;
-		relShowdownProb[3325] = 0.6272185F;
-		relShowdownProb[3326] = 0.5525496F;
-		relShowdownProb[3327] = 0.6272185F;
-		relShowdownProb[3330] = 0.4928145F;
-		relShowdownProb[3331] = 0.5973509F;
-		relShowdownProb[3332] = 0.6794867F;
-		relShowdownProb[3333] = 0.7347416F;
-		relShowdownProb[3336] = 0.6720198F;
-		relShowdownProb[3337] = 0.5973509F;
-		relShowdownProb[3338] = 0.69442046F;
-		relShowdownProb[3339] = 0.815384F;
-		relShowdownProb[3340] = 1.0438707F;
-		relShowdownProb[3346] = 0.8064237F;
-		relShowdownProb[3349] = 0.6720198F;
-		relShowdownProb[3350] = 0.6720198F;
-		relShowdownProb[3353] = 0.8512251F;
-		relShowdownProb[3354] = 0.8213575F;
-		relShowdownProb[3355] = 0.85869193F;
-		relShowdownProb[3358] = 0.8512251F;
-		relShowdownProb[3359] = 0.64215225F;
-		relShowdownProb[3360] = 0.84375817F;
-		relShowdownProb[3361] = 0.7705827F;
-		relShowdownProb[3364] = 0.53761584F;
-		relShowdownProb[3365] = 1.0005628F;
-		relShowdownProb[3366] = 0.7989569F;
-		relShowdownProb[3367] = 0.7795429F;
-		relShowdownProb[3368] = 0.9766687F;
-		relShowdownProb[3371] = 0.985629F;
-		relShowdownProb[3372] = 0.95576143F;
-		relShowdownProb[3373] = 0.91096014F;
-		relShowdownProb[3374] = 0.9721886F;
-		relShowdownProb[3375] = 1.143927F;
-		relShowdownProb[3376] = 1.5590858F;
-		relShowdownProb[3382] = 0.985629F;
-		relShowdownProb[3385] = 0.7616224F;
-		relShowdownProb[3386] = 0.8960264F;
-		relShowdownProb[3389] = 0.8512251F;
-		relShowdownProb[3390] = 0.68695354F;
-		relShowdownProb[3391] = 0.73922175F;
-		relShowdownProb[3394] = 0.8512251F;
-		relShowdownProb[3395] = 0.7765562F;
-		relShowdownProb[3396] = 0.7018873F;
-		relShowdownProb[3397] = 0.8960264F;
-		relShowdownProb[3400] = 0.4928145F;
-		relShowdownProb[3401] = 0.7168211F;
-		relShowdownProb[3402] = 0.8512251F;
-		relShowdownProb[3403] = 0.94082767F;
-		relShowdownProb[3404] = 1.0752317F;
-		relShowdownProb[3407] = 1.0752317F;
-		relShowdownProb[3408] = 0.79148996F;
-		relShowdownProb[3409] = 0.9034932F;
-		relShowdownProb[3410] = 0.9542681F;
-		relShowdownProb[3411] = 1.13198F;
-		relShowdownProb[3412] = 1.3552399F;
-		relShowdownProb[3415] = 1.2096356F;
-		relShowdownProb[3416] = 0.985629F;
-		relShowdownProb[3417] = 1.2992382F;
-		relShowdownProb[3418] = 1.1917151F;
-		relShowdownProb[3419] = 1.1708078F;
-		relShowdownProb[3420] = 1.4827102F;
-		relShowdownProb[3421] = 1.7707188F;
-		relShowdownProb[3430] = 0.6272185F;
-		relShowdownProb[3431] = 0.8512251F;
-		relShowdownProb[3434] = 1.2096356F;
-		relShowdownProb[3435] = 0.73175484F;
-		relShowdownProb[3436] = 0.8810926F;
-		relShowdownProb[3439] = 0.8512251F;
-		relShowdownProb[3440] = 1.0304303F;
-		relShowdownProb[3441] = 0.9258939F;
-		relShowdownProb[3442] = 0.93634754F;
-		relShowdownProb[3445] = 1.0752317F;
-		relShowdownProb[3446] = 1.0453641F;
-		relShowdownProb[3447] = 0.91096014F;
-		relShowdownProb[3448] = 1.1737945F;
-		relShowdownProb[3449] = 1.2365164F;
-		relShowdownProb[3452] = 1.0304303F;
-		relShowdownProb[3453] = 1.1200329F;
-		relShowdownProb[3454] = 0.985629F;
-		relShowdownProb[3455] = 1.155874F;
-		relShowdownProb[3456] = 1.254437F;
-		relShowdownProb[3457] = 1.393321F;
-		relShowdownProb[3460] = 1.2096356F;
-		relShowdownProb[3461] = 1.2693707F;
-		relShowdownProb[3462] = 1.2843045F;
-		relShowdownProb[3463] = 1.3037183F;
-		relShowdownProb[3464] = 1.3918276F;
-		relShowdownProb[3465] = 1.5467122F;
-		relShowdownProb[3466] = 2.0127406F;
-		relShowdownProb[3469] = 1.254437F;
-		relShowdownProb[3470] = 1.5232449F;
-		relShowdownProb[3471] = 1.2245693F;
-		relShowdownProb[3472] = 1.321639F;
-		relShowdownProb[3473] = 1.4903905F;
-		relShowdownProb[3474] = 1.5168446F;
-		relShowdownProb[3475] = 1.9248567F;
-		relShowdownProb[3476] = 2.1920645F;
-		relShowdownProb[3492] = 0.6720198F;
-		relShowdownProb[3495] = 0.35841054F;
-		relShowdownProb[3496] = 0.7168211F;
-		relShowdownProb[3502] = 0.4480132F;
-		relShowdownProb[3505] = 0.4928145F;
-		relShowdownProb[3506] = 0.73175484F;
-		relShowdownProb[3509] = 0.40321186F;
-		relShowdownProb[3510] = 0.53761584F;
-		relShowdownProb[3511] = 0.645139F;
-		relShowdownProb[3517] = 0.6720198F;
-		relShowdownProb[3520] = 0.58241713F;
-		relShowdownProb[3521] = 0.7168211F;
-		relShowdownProb[3524] = 0.53761584F;
-		relShowdownProb[3525] = 0.5525496F;
-		relShowdownProb[3526] = 0.7093542F;
-		relShowdownProb[3529] = 0.53761584F;
-		relShowdownProb[3530] = 0.4928145F;
-		relShowdownProb[3531] = 0.6496191F;
-		relShowdownProb[3532] = 0.7118432F;
-		relShowdownProb[3538] = 0.8512251F;
-		relShowdownProb[3541] = 0.58241713F;
-		relShowdownProb[3542] = 0.4928145F;
-		relShowdownProb[3545] = 0.6272185F;
-		relShowdownProb[3546] = 0.61228466F;
-		relShowdownProb[3547] = 0.6496191F;
-		relShowdownProb[3550] = 0.53761584F;
-		relShowdownProb[3551] = 0.657086F;
-		relShowdownProb[3552] = 0.6496191F;
-		relShowdownProb[3553] = 0.7213012F;
-		relShowdownProb[3556] = 0.8064237F;
-		relShowdownProb[3557] = 0.7018873F;
-		relShowdownProb[3558] = 0.73922175F;
-		relShowdownProb[3559] = 0.64065886F;
-		relShowdownProb[3560] = 0.9952293F;
-		relShowdownProb[3566] = 0.8064237F;
-		relShowdownProb[3569] = 0.7168211F;
-		relShowdownProb[3570] = 0.95576143F;
-		relShowdownProb[3573] = 0.4480132F;
-		relShowdownProb[3574] = 0.6720198F;
-		relShowdownProb[3575] = 0.6794867F;
-		relShowdownProb[3578] = 0.4928145F;
-		relShowdownProb[3579] = 0.61228466F;
-		relShowdownProb[3580] = 0.78402305F;
-		relShowdownProb[3581] = 0.7437019F;
-		relShowdownProb[3584] = 0.6272185F;
-		relShowdownProb[3585] = 0.8213575F;
-		relShowdownProb[3586] = 0.7765562F;
-		relShowdownProb[3587] = 0.8019436F;
-		relShowdownProb[3588] = 0.9258939F;
-		relShowdownProb[3591] = 0.7168211F;
-		relShowdownProb[3592] = 0.8810926F;
-		relShowdownProb[3593] = 0.7765562F;
-		relShowdownProb[3594] = 0.7885032F;
-		relShowdownProb[3595] = 0.985629F;
-		relShowdownProb[3596] = 1.1260065F;
-		relShowdownProb[3602] = 1.2992382F;
-		relShowdownProb[3605] = 0.8512251F;
-		relShowdownProb[3606] = 0.8064237F;
-		relShowdownProb[3609] = 0.7616224F;
-		relShowdownProb[3610] = 0.58241713F;
-		relShowdownProb[3611] = 0.8288244F;
-		relShowdownProb[3614] = 0.6272185F;
-		relShowdownProb[3615] = 0.8064237F;
-		relShowdownProb[3616] = 0.8512251F;
-		relShowdownProb[3617] = 0.93634754F;
-		relShowdownProb[3620] = 0.40321186F;
-		relShowdownProb[3621] = 0.68695354F;
-		relShowdownProb[3622] = 0.79148996F;
-		relShowdownProb[3623] = 0.8064237F;
-		relShowdownProb[3624] = 1.0154965F;
-		relShowdownProb[3627] = 1.1200329F;
-		relShowdownProb[3628] = 0.8512251F;
-		relShowdownProb[3629] = 0.7690893F;
-		relShowdownProb[3630] = 0.9811489F;
-		relShowdownProb[3631] = 1.1170462F;
-		relShowdownProb[3632] = 1.4187084F;
-		relShowdownProb[3635] = 0.7168211F;
-		relShowdownProb[3636] = 0.8810926F;
-		relShowdownProb[3637] = 1.0229634F;
-		relShowdownProb[3638] = 1.0797118F;
-		relShowdownProb[3639] = 1.2215827F;
-		relShowdownProb[3640] = 1.3696404F;
-		relShowdownProb[3641] = 1.6448483F;
-		relShowdownProb[3650] = 0.6720198F;
-		relShowdownProb[3651] = 1.0005628F;
-		relShowdownProb[3654] = 0.8960264F;
-		relShowdownProb[3655] = 0.79148996F;
-		relShowdownProb[3656] = 0.97069526F;
-		relShowdownProb[3659] = 1.2992382F;
-		relShowdownProb[3660] = 0.91096014F;
-		relShowdownProb[3661] = 0.96322834F;
-		relShowdownProb[3662] = 0.99010915F;
-		relShowdownProb[3665] = 1.0752317F;
-		relShowdownProb[3666] = 1.1200329F;
-		relShowdownProb[3667] = 0.91842705F;
-		relShowdownProb[3668] = 1.0841919F;
-		relShowdownProb[3669] = 1.203662F;
-		relShowdownProb[3672] = 1.0752317F;
-		relShowdownProb[3673] = 1.0901654F;
-		relShowdownProb[3674] = 1.0901654F;
-		relShowdownProb[3675] = 1.2365164F;
-		relShowdownProb[3676] = 1.3380661F;
-		relShowdownProb[3677] = 1.4037746F;
-		relShowdownProb[3680] = 1.254437F;
-		relShowdownProb[3681] = 1.1200329F;
-		relShowdownProb[3682] = 1.2096356F;
-		relShowdownProb[3683] = 1.2096356F;
-		relShowdownProb[3684] = 1.2723575F;
-		relShowdownProb[3685] = 1.4251086F;
-		relShowdownProb[3686] = 1.8401726F;
-		relShowdownProb[3689] = 1.6128474F;
-		relShowdownProb[3690] = 1.4037746F;
-		relShowdownProb[3691] = 1.6053805F;
-		relShowdownProb[3692] = 1.7158905F;
-		relShowdownProb[3693] = 1.6337547F;
-		relShowdownProb[3694] = 1.7067169F;
-		relShowdownProb[3695] = 2.0800612F;
-		relShowdownProb[3696] = 2.075261F;
-		relShowdownProb[3712] = 0.58241713F;
-		relShowdownProb[3715] = 0.7168211F;
-		relShowdownProb[3716] = 0.6048178F;
-		relShowdownProb[3722] = 0.53761584F;
-		relShowdownProb[3725] = 0.4480132F;
-		relShowdownProb[3726] = 0.74668866F;
-		relShowdownProb[3729] = 0.8064237F;
-		relShowdownProb[3730] = 0.74668866F;
-		relShowdownProb[3731] = 0.7078608F;
-		relShowdownProb[3737] = 0.58241713F;
-		relShowdownProb[3740] = 0.7168211F;
-		relShowdownProb[3741] = 0.68695354F;
-		relShowdownProb[3744] = 0.6272185F;
-		relShowdownProb[3745] = 0.6720198F;
-		relShowdownProb[3746] = 0.7541555F;
-		relShowdownProb[3749] = 0.58241713F;
-		relShowdownProb[3750] = 0.7018873F;
-		relShowdownProb[3751] = 0.8213575F;
-		relShowdownProb[3752] = 0.89104843F;
-		relShowdownProb[3758] = 0.8960264F;
-		relShowdownProb[3761] = 0.26880792F;
-		relShowdownProb[3762] = 0.8512251F;
-		relShowdownProb[3765] = 0.8064237F;
-		relShowdownProb[3766] = 0.5226821F;
-		relShowdownProb[3767] = 0.7616224F;
-		relShowdownProb[3770] = 0.6272185F;
-		relShowdownProb[3771] = 0.5973509F;
-		relShowdownProb[3772] = 0.79148996F;
-		relShowdownProb[3773] = 0.8601853F;
-		relShowdownProb[3776] = 0.58241713F;
-		relShowdownProb[3777] = 0.7765562F;
-		relShowdownProb[3778] = 0.8736257F;
-		relShowdownProb[3779] = 0.8557052F;
-		relShowdownProb[3780] = 0.97602874F;
-		relShowdownProb[3786] = 0.8960264F;
-		relShowdownProb[3789] = 0.58241713F;
-		relShowdownProb[3790] = 0.8213575F;
-		relShowdownProb[3793] = 0.40321186F;
-		relShowdownProb[3794] = 0.8213575F;
-		relShowdownProb[3795] = 0.7616224F;
-		relShowdownProb[3798] = 0.7616224F;
-		relShowdownProb[3799] = 0.68695354F;
-		relShowdownProb[3800] = 0.69442046F;
-		relShowdownProb[3801] = 0.8781058F;
-		relShowdownProb[3804] = 0.6720198F;
-		relShowdownProb[3805] = 0.657086F;
-		relShowdownProb[3806] = 0.7541555F;
-		relShowdownProb[3807] = 0.7571423F;
-		relShowdownProb[3808] = 0.9318674F;
-		relShowdownProb[3811] = 0.6720198F;
-		relShowdownProb[3812] = 0.7765562F;
-		relShowdownProb[3813] = 0.8288244F;
-		relShowdownProb[3814] = 0.882586F;
-		relShowdownProb[3815] = 1.0393906F;
-		relShowdownProb[3816] = 1.1581141F;
-		relShowdownProb[3822] = 0.6272185F;
-		relShowdownProb[3825] = 0.58241713F;
-		relShowdownProb[3826] = 0.7616224F;
-		relShowdownProb[3829] = 0.94082767F;
-		relShowdownProb[3830] = 0.6272185F;
-		relShowdownProb[3831] = 0.7765562F;
-		relShowdownProb[3834] = 0.985629F;
-		relShowdownProb[3835] = 0.985629F;
-		relShowdownProb[3836] = 0.8064237F;
-		relShowdownProb[3837] = 0.8288244F;
-		relShowdownProb[3840] = 0.8512251F;
-		relShowdownProb[3841] = 0.61228466F;
-		relShowdownProb[3842] = 0.8064237F;
-		relShowdownProb[3843] = 0.78402305F;
-		relShowdownProb[3844] = 0.8333045F;
-		relShowdownProb[3847] = 0.53761584F;
-		relShowdownProb[3848] = 0.985629F;
-		relShowdownProb[3849] = 0.9034932F;
-		relShowdownProb[3850] = 1.0080297F;
-		relShowdownProb[3851] = 0.997576F;
-		relShowdownProb[3852] = 1.0752317F;
-		relShowdownProb[3855] = 0.8960264F;
-		relShowdownProb[3856] = 0.9258939F;
-		relShowdownProb[3857] = 0.79148996F;
-		relShowdownProb[3858] = 1.0483508F;
-		relShowdownProb[3859] = 1.0662714F;
-		relShowdownProb[3860] = 1.2416365F;
-		relShowdownProb[3861] = 1.4571096F;
-		relShowdownProb[3870] = 0.985629F;
-		relShowdownProb[3871] = 1.2245693F;
-		relShowdownProb[3874] = 1.2096356F;
-		relShowdownProb[3875] = 1.0304303F;
-		relShowdownProb[3876] = 1.0229634F;
-		relShowdownProb[3879] = 1.254437F;
-		relShowdownProb[3880] = 1.2245693F;
-		relShowdownProb[3881] = 1.0080297F;
-		relShowdownProb[3882] = 1.0483508F;
-		relShowdownProb[3885] = 0.4480132F;
-		relShowdownProb[3886] = 0.985629F;
-		relShowdownProb[3887] = 0.96322834F;
-		relShowdownProb[3888] = 1.2051555F;
-		relShowdownProb[3889] = 1.2395031F;
-		relShowdownProb[3892] = 1.3440396F;
-		relShowdownProb[3893] = 1.1797681F;
-		relShowdownProb[3894] = 1.254437F;
-		relShowdownProb[3895] = 1.3574799F;
-		relShowdownProb[3896] = 1.3948144F;
-		relShowdownProb[3897] = 1.5467122F;
-		relShowdownProb[3900] = 1.1200329F;
-		relShowdownProb[3901] = 1.0752317F;
-		relShowdownProb[3902] = 1.3291057F;
-		relShowdownProb[3903] = 1.2499567F;
-		relShowdownProb[3904] = 1.4426024F;
-		relShowdownProb[3905] = 1.4187084F;
-		relShowdownProb[3906] = 1.9008559F;
-		relShowdownProb[3909] = 1.6128474F;
-		relShowdownProb[3910] = 1.2843045F;
-		relShowdownProb[3911] = 1.2768376F;
-		relShowdownProb[3912] = 1.4515628F;
-		relShowdownProb[3913] = 1.4067614F;
-		relShowdownProb[3914] = 1.4656432F;
-		relShowdownProb[3915] = 1.9824584F;
-		relShowdownProb[3916] = 2.003259F;
-		relShowdownProb[3935] = 1.5232449F;
-		relShowdownProb[3936] = 1.7024502F;
-		relShowdownProb[3945] = 1.2096356F;
-		relShowdownProb[3946] = 1.3291057F;
-		relShowdownProb[3949] = 0.985629F;
-		relShowdownProb[3950] = 1.1797681F;
-		relShowdownProb[3951] = 1.4694833F;
-		relShowdownProb[3960] = 1.254437F;
-		relShowdownProb[3961] = 1.4336421F;
-		relShowdownProb[3964] = 1.254437F;
-		relShowdownProb[3965] = 1.2992382F;
-		relShowdownProb[3966] = 1.3963077F;
-		relShowdownProb[3969] = 1.3440396F;
-		relShowdownProb[3970] = 1.5531124F;
-		relShowdownProb[3971] = 1.2619038F;
-		relShowdownProb[3972] = 1.4236864F;
-		relShowdownProb[3981] = 1.6576488F;
-		relShowdownProb[3982] = 1.3888409F;
-		relShowdownProb[3985] = 1.0304303F;
-		relShowdownProb[3986] = 1.2395031F;
-		relShowdownProb[3987] = 1.2693707F;
-		relShowdownProb[3990] = 1.7920527F;
-		relShowdownProb[3991] = 1.3888409F;
-		relShowdownProb[3992] = 1.3589734F;
-		relShowdownProb[3993] = 1.4470826F;
-		relShowdownProb[3996] = 0.985629F;
-		relShowdownProb[3997] = 1.1499006F;
-		relShowdownProb[3998] = 1.3440396F;
-		relShowdownProb[3999] = 1.4157217F;
-		relShowdownProb[4000] = 1.5136446F;
-		relShowdownProb[4009] = 1.0752317F;
-		relShowdownProb[4010] = 1.642715F;
-		relShowdownProb[4013] = 1.5680461F;
-		relShowdownProb[4014] = 1.3589734F;
-		relShowdownProb[4015] = 1.4336421F;
-		relShowdownProb[4018] = 1.5232449F;
-		relShowdownProb[4019] = 1.2843045F;
-		relShowdownProb[4020] = 1.2171025F;
-		relShowdownProb[4021] = 1.4470826F;
-		relShowdownProb[4024] = 1.3440396F;
-		relShowdownProb[4025] = 1.2395031F;
-		relShowdownProb[4026] = 1.5307118F;
-		relShowdownProb[4027] = 1.2141157F;
-		relShowdownProb[4028] = 1.3858541F;
-		relShowdownProb[4031] = 1.7024502F;
-		relShowdownProb[4032] = 1.314172F;
-		relShowdownProb[4033] = 1.321639F;
-		relShowdownProb[4034] = 1.2857978F;
-		relShowdownProb[4035] = 1.4874038F;
-		relShowdownProb[4036] = 1.6419684F;
-		relShowdownProb[4045] = 1.0304303F;
-		relShowdownProb[4046] = 1.5680461F;
-		relShowdownProb[4049] = 1.0752317F;
-		relShowdownProb[4050] = 1.0752317F;
-		relShowdownProb[4051] = 1.3963077F;
-		relShowdownProb[4054] = 1.254437F;
-		relShowdownProb[4055] = 1.3888409F;
-		relShowdownProb[4056] = 1.2768376F;
-		relShowdownProb[4057] = 1.4381223F;
-		relShowdownProb[4060] = 0.7616224F;
-		relShowdownProb[4061] = 1.4336421F;
-		relShowdownProb[4062] = 1.1872349F;
-		relShowdownProb[4063] = 1.2633972F;
-		relShowdownProb[4064] = 1.3201455F;
-		relShowdownProb[4067] = 0.985629F;
-		relShowdownProb[4068] = 1.2395031F;
-		relShowdownProb[4069] = 1.4037746F;
-		relShowdownProb[4070] = 1.4067614F;
-		relShowdownProb[4071] = 1.3350793F;
-		relShowdownProb[4072] = 1.4187084F;
-		relShowdownProb[4075] = 1.3888409F;
-		relShowdownProb[4076] = 1.314172F;
-		relShowdownProb[4077] = 1.4560429F;
-		relShowdownProb[4078] = 1.3798807F;
-		relShowdownProb[4079] = 1.4426024F;
-		relShowdownProb[4080] = 1.5915135F;
-		relShowdownProb[4081] = 1.9247974F;
-		relShowdownProb[4090] = 1.2992382F;
-		relShowdownProb[4091] = 1.4784435F;
-		relShowdownProb[4094] = 0.94082767F;
-		relShowdownProb[4095] = 1.2843045F;
-		relShowdownProb[4096] = 1.3291057F;
-		relShowdownProb[4099] = 1.3440396F;
-		relShowdownProb[4100] = 1.4784435F;
-		relShowdownProb[4101] = 1.1872349F;
-		relShowdownProb[4102] = 1.3709203F;
-		relShowdownProb[4105] = 1.3440396F;
-		relShowdownProb[4106] = 1.3589734F;
-		relShowdownProb[4107] = 1.1200329F;
-		relShowdownProb[4108] = 1.3350793F;
-		relShowdownProb[4109] = 1.2783309F;
-		relShowdownProb[4112] = 1.2992382F;
-		relShowdownProb[4113] = 1.5381786F;
-		relShowdownProb[4114] = 1.24697F;
-		relShowdownProb[4115] = 1.3037183F;
-		relShowdownProb[4116] = 1.2872912F;
-		relShowdownProb[4117] = 1.405908F;
-		relShowdownProb[4120] = 1.2992382F;
-		relShowdownProb[4121] = 1.5829799F;
-		relShowdownProb[4122] = 1.2619038F;
-		relShowdownProb[4123] = 1.3037183F;
-		relShowdownProb[4124] = 1.3679336F;
-		relShowdownProb[4125] = 1.561646F;
-		relShowdownProb[4126] = 1.7552516F;
-		relShowdownProb[4129] = 1.1200329F;
-		relShowdownProb[4130] = 1.3589734F;
-		relShowdownProb[4131] = 1.3515065F;
-		relShowdownProb[4132] = 1.2947581F;
-		relShowdownProb[4133] = 1.3410528F;
-		relShowdownProb[4134] = 1.4123082F;
-		relShowdownProb[4135] = 1.7888527F;
-		relShowdownProb[4136] = 1.9424572F;
-		relShowdownProb[4140] = 0.899582F;
-		relShowdownProb[4141] = 0.70402074F;
-		relShowdownProb[4142] = 0.657086F;
-		relShowdownProb[4143] = 0.6257962F;
-		relShowdownProb[4144] = 0.54757166F;
-		relShowdownProb[4145] = 0.7710703F;
-		relShowdownProb[4146] = 0.8180981F;
-		relShowdownProb[4147] = 1.1173662F;
-		relShowdownProb[4151] = 1.2515924F;
-		relShowdownProb[4152] = 1.036475F;
-		relShowdownProb[4153] = 0.7509554F;
-		relShowdownProb[4154] = 0.75877786F;
-		relShowdownProb[4155] = 0.64814603F;
-		relShowdownProb[4156] = 0.8004045F;
-		relShowdownProb[4157] = 0.697502F;
-		relShowdownProb[4158] = 1.2853712F;
-		relShowdownProb[4160] = 0.9240272F;
-		relShowdownProb[4161] = 0.6160181F;
-		relShowdownProb[4162] = 1.1827548F;
-		relShowdownProb[4163] = 0.97459584F;
-		relShowdownProb[4164] = 0.8816406F;
-		relShowdownProb[4165] = 0.7857569F;
-		relShowdownProb[4166] = 0.746356F;
-		relShowdownProb[4167] = 0.7689891F;
-		relShowdownProb[4168] = 0.95789206F;
-		relShowdownProb[4169] = 1.2875572F;
-		relShowdownProb[4173] = 1.0169188F;
-		relShowdownProb[4174] = 0.7822452F;
-		relShowdownProb[4175] = 0.8917596F;
-		relShowdownProb[4176] = 0.7822452F;
-		relShowdownProb[4177] = 0.6984333F;
-		relShowdownProb[4178] = 0.8339293F;
-		relShowdownProb[4179] = 0.8376543F;
-		relShowdownProb[4180] = 1.2187026F;
-		relShowdownProb[4182] = 1.8480544F;
-		relShowdownProb[4183] = 0.9240272F;
-		relShowdownProb[4184] = 0.64065886F;
-		relShowdownProb[4185] = 1.0481503F;
-		relShowdownProb[4186] = 0.8816406F;
-		relShowdownProb[4187] = 0.77812815F;
-		relShowdownProb[4188] = 0.7518439F;
-		relShowdownProb[4189] = 0.8351387F;
-		relShowdownProb[4190] = 0.9320903F;
-		relShowdownProb[4191] = 1.3668728F;
-		relShowdownProb[4193] = 0.9240272F;
-		relShowdownProb[4194] = 1.8480544F;
-		relShowdownProb[4195] = 1.2320362F;
-		relShowdownProb[4196] = 1.1200329F;
-		relShowdownProb[4197] = 1.3083571F;
-		relShowdownProb[4198] = 0.91565233F;
-		relShowdownProb[4199] = 0.8788705F;
-		relShowdownProb[4200] = 0.98318124F;
-		relShowdownProb[4201] = 1.0181854F;
-		relShowdownProb[4202] = 1.334269F;
-		relShowdownProb[4206] = 0.9386943F;
-		relShowdownProb[4207] = 0.8800259F;
-		relShowdownProb[4208] = 0.9269606F;
-		relShowdownProb[4209] = 0.7978901F;
-		relShowdownProb[4210] = 0.7822452F;
-		relShowdownProb[4211] = 0.6453523F;
-		relShowdownProb[4212] = 0.8930633F;
-		relShowdownProb[4213] = 1.1603304F;
-		relShowdownProb[4215] = 0.6160181F;
-		relShowdownProb[4216] = 1.5400453F;
-		relShowdownProb[4217] = 0.7885032F;
-		relShowdownProb[4218] = 0.79070985F;
-		relShowdownProb[4219] = 0.9833684F;
-		relShowdownProb[4220] = 0.79338557F;
-		relShowdownProb[4221] = 0.87806594F;
-		relShowdownProb[4222] = 0.8888852F;
-		relShowdownProb[4223] = 0.90306324F;
-		relShowdownProb[4224] = 1.272113F;
-		relShowdownProb[4226] = 1.5400453F;
-		relShowdownProb[4227] = 1.2320362F;
-		relShowdownProb[4228] = 1.0196162F;
-		relShowdownProb[4229] = 1.0996687F;
-		relShowdownProb[4230] = 0.83952916F;
-		relShowdownProb[4231] = 1.0868719F;
-		relShowdownProb[4232] = 0.97592366F;
-		relShowdownProb[4233] = 0.8444752F;
-		relShowdownProb[4234] = 0.98945916F;
-		relShowdownProb[4235] = 1.3974189F;
-		relShowdownProb[4237] = 0.9240272F;
-		relShowdownProb[4238] = 1.5400453F;
-		relShowdownProb[4239] = 1.3067051F;
-		relShowdownProb[4240] = 1.2415869F;
-		relShowdownProb[4241] = 1.3303678F;
-		relShowdownProb[4242] = 1.0612229F;
-		relShowdownProb[4243] = 1.1499006F;
-		relShowdownProb[4244] = 1.0105919F;
-		relShowdownProb[4245] = 1.0424923F;
-		relShowdownProb[4246] = 1.3579099F;
-		relShowdownProb[4249] = 0.5866839F;
-		relShowdownProb[4250] = 0.6257962F;
-		relShowdownProb[4251] = 1.0169188F;
-		relShowdownProb[4252] = 0.80962384F;
-		relShowdownProb[4253] = 0.66490847F;
-		relShowdownProb[4254] = 0.6146213F;
-		relShowdownProb[4255] = 0.8087857F;
-		relShowdownProb[4256] = 0.9223975F;
-		relShowdownProb[4257] = 1.0977508F;
-		relShowdownProb[4259] = 1.2320362F;
-		relShowdownProb[4260] = 0.5098081F;
-		relShowdownProb[4261] = 1.0841919F;
-		relShowdownProb[4262] = 0.9562072F;
-		relShowdownProb[4263] = 0.9720653F;
-		relShowdownProb[4264] = 0.99173194F;
-		relShowdownProb[4265] = 0.7737956F;
-		relShowdownProb[4266] = 0.91369134F;
-		relShowdownProb[4267] = 0.9320903F;
-		relShowdownProb[4268] = 1.3315817F;
-		relShowdownProb[4270] = 0.6160181F;
-		relShowdownProb[4271] = 0.93235177F;
-		relShowdownProb[4272] = 0.6797441F;
-		relShowdownProb[4273] = 0.8145694F;
-		relShowdownProb[4274] = 0.9376559F;
-		relShowdownProb[4275] = 0.8560977F;
-		relShowdownProb[4276] = 0.8788705F;
-		relShowdownProb[4277] = 0.9587037F;
-		relShowdownProb[4278] = 1.0181854F;
-		relShowdownProb[4279] = 1.3615218F;
-		relShowdownProb[4281] = 1.0780318F;
-		relShowdownProb[4282] = 1.394758F;
-		relShowdownProb[4283] = 1.2320362F;
-		relShowdownProb[4284] = 1.3370936F;
-		relShowdownProb[4285] = 1.2725257F;
-		relShowdownProb[4286] = 1.3156258F;
-		relShowdownProb[4287] = 0.9909281F;
-		relShowdownProb[4288] = 0.9300666F;
-		relShowdownProb[4289] = 1.0993555F;
-		relShowdownProb[4290] = 1.4036822F;
-		relShowdownProb[4292] = 1.2320362F;
-		relShowdownProb[4293] = 1.3482661F;
-		relShowdownProb[4294] = 1.2046577F;
-		relShowdownProb[4295] = 1.294987F;
-		relShowdownProb[4296] = 1.4829034F;
-		relShowdownProb[4297] = 1.2849458F;
-		relShowdownProb[4298] = 1.0991951F;
-		relShowdownProb[4299] = 1.1883188F;
-		relShowdownProb[4300] = 1.1663693F;
-		relShowdownProb[4301] = 1.4350637F;
-		relShowdownProb[4304] = 0.23467357F;
-		relShowdownProb[4305] = 0.66490847F;
-		relShowdownProb[4306] = 0.8018014F;
-		relShowdownProb[4307] = 0.8682922F;
-		relShowdownProb[4308] = 0.82917994F;
-		relShowdownProb[4309] = 0.92193186F;
-		relShowdownProb[4310] = 0.9470755F;
-		relShowdownProb[4311] = 0.9810659F;
-		relShowdownProb[4312] = 1.319387F;
-		relShowdownProb[4314] = 0.9240272F;
-		relShowdownProb[4315] = 1.1045842F;
-		relShowdownProb[4316] = 0.7982207F;
-		relShowdownProb[4317] = 0.8826528F;
-		relShowdownProb[4318] = 0.84773135F;
-		relShowdownProb[4319] = 0.77049947F;
-		relShowdownProb[4320] = 0.94392085F;
-		relShowdownProb[4321] = 1.0005127F;
-		relShowdownProb[4322] = 1.0352975F;
-		relShowdownProb[4323] = 1.2695274F;
-		relShowdownProb[4325] = 0.77002263F;
-		relShowdownProb[4326] = 1.0655448F;
-		relShowdownProb[4327] = 0.96691453F;
-		relShowdownProb[4328] = 1.1403972F;
-		relShowdownProb[4329] = 0.97036487F;
-		relShowdownProb[4330] = 1.0570946F;
-		relShowdownProb[4331] = 0.8303439F;
-		relShowdownProb[4332] = 0.9668629F;
-		relShowdownProb[4333] = 1.024569F;
-		relShowdownProb[4334] = 1.2179339F;
-		relShowdownProb[4336] = 0.30800906F;
-		relShowdownProb[4337] = 1.1622983F;
-		relShowdownProb[4338] = 1.1329069F;
-		relShowdownProb[4339] = 1.5090057F;
-		relShowdownProb[4340] = 0.94861007F;
-		relShowdownProb[4341] = 0.99580514F;
-		relShowdownProb[4342] = 1.0015262F;
-		relShowdownProb[4343] = 1.0347494F;
-		relShowdownProb[4344] = 1.1499006F;
-		relShowdownProb[4345] = 1.4011393F;
-		relShowdownProb[4347] = 0.4620136F;
-		relShowdownProb[4348] = 0.7903629F;
-		relShowdownProb[4349] = 1.198738F;
-		relShowdownProb[4350] = 1.1870714F;
-		relShowdownProb[4351] = 1.114965F;
-		relShowdownProb[4352] = 1.0581907F;
-		relShowdownProb[4353] = 1.2242221F;
-		relShowdownProb[4354] = 1.0531923F;
-		relShowdownProb[4355] = 1.2695602F;
-		relShowdownProb[4356] = 1.5258586F;
-		relShowdownProb[4358] = 1.0780318F;
-		relShowdownProb[4359] = 0.7903629F;
-		relShowdownProb[4360] = 1.3097322F;
-		relShowdownProb[4361] = 1.3268083F;
-		relShowdownProb[4362] = 1.4310989F;
-		relShowdownProb[4363] = 1.5197573F;
-		relShowdownProb[4364] = 1.41952F;
-		relShowdownProb[4365] = 1.2634257F;
-		relShowdownProb[4366] = 1.2877564F;
-		relShowdownProb[4367] = 1.5459867F;
-		relShowdownProb[4370] = 1.642715F;
-		relShowdownProb[4371] = 0.46934715F;
-		relShowdownProb[4372] = 0.8800259F;
-		relShowdownProb[4373] = 0.84482485F;
-		relShowdownProb[4374] = 0.94651675F;
-		relShowdownProb[4375] = 0.88281965F;
-		relShowdownProb[4376] = 0.8506917F;
-		relShowdownProb[4377] = 1.0429937F;
-		relShowdownProb[4378] = 1.2620224F;
-		relShowdownProb[4381] = 1.0196162F;
-		relShowdownProb[4382] = 0.93704164F;
-		relShowdownProb[4383] = 0.68037826F;
-		relShowdownProb[4384] = 0.7460036F;
-		relShowdownProb[4385] = 0.9230736F;
-		relShowdownProb[4386] = 0.8890418F;
-		relShowdownProb[4387] = 1.01705F;
-		relShowdownProb[4388] = 0.9514416F;
-		relShowdownProb[4389] = 1.3496809F;
-		relShowdownProb[4391] = 0.77002263F;
-		relShowdownProb[4392] = 0.99894834F;
-		relShowdownProb[4393] = 0.8109606F;
-		relShowdownProb[4394] = 1.0238048F;
-		relShowdownProb[4395] = 1.0248797F;
-		relShowdownProb[4396] = 1.1240935F;
-		relShowdownProb[4397] = 0.8788705F;
-		relShowdownProb[4398] = 1.0117384F;
-		relShowdownProb[4399] = 1.1075559F;
-		relShowdownProb[4400] = 1.3410093F;
-		relShowdownProb[4402] = 1.0780318F;
-		relShowdownProb[4403] = 1.0228225F;
-		relShowdownProb[4404] = 0.8213575F;
-		relShowdownProb[4405] = 1.1499006F;
-		relShowdownProb[4406] = 0.9601785F;
-		relShowdownProb[4407] = 0.9085813F;
-		relShowdownProb[4408] = 0.9591336F;
-		relShowdownProb[4409] = 1.0387757F;
-		relShowdownProb[4410] = 1.175173F;
-		relShowdownProb[4411] = 1.4138538F;
-		relShowdownProb[4413] = 1.3860408F;
-		relShowdownProb[4414] = 0.697379F;
-		relShowdownProb[4415] = 0.7325621F;
-		relShowdownProb[4416] = 1.0916777F;
-		relShowdownProb[4417] = 1.2041621F;
-		relShowdownProb[4418] = 1.1942438F;
-		relShowdownProb[4419] = 1.0314722F;
-		relShowdownProb[4420] = 1.1962675F;
-		relShowdownProb[4421] = 1.1007024F;
-		relShowdownProb[4422] = 1.571256F;
-		relShowdownProb[4424] = 0.6160181F;
-		relShowdownProb[4425] = 0.743871F;
-		relShowdownProb[4426] = 1.1543403F;
-		relShowdownProb[4427] = 1.1023482F;
-		relShowdownProb[4428] = 1.1620953F;
-		relShowdownProb[4429] = 1.3205658F;
-		relShowdownProb[4430] = 1.41952F;
-		relShowdownProb[4431] = 1.1692573F;
-		relShowdownProb[4432] = 1.4394393F;
-		relShowdownProb[4433] = 1.6635617F;
-		relShowdownProb[4435] = 1.0780318F;
-		relShowdownProb[4436] = 1.3017741F;
-		relShowdownProb[4437] = 0.9767495F;
-		relShowdownProb[4438] = 1.050473F;
-		relShowdownProb[4439] = 1.3465377F;
-		relShowdownProb[4440] = 1.3256998F;
-		relShowdownProb[4441] = 1.5532081F;
-		relShowdownProb[4442] = 1.4023176F;
-		relShowdownProb[4443] = 1.4802824F;
-		relShowdownProb[4444] = 1.8858963F;
-		relShowdownProb[4447] = 0.46934715F;
-		relShowdownProb[4448] = 0.5084594F;
-		relShowdownProb[4449] = 0.54757166F;
-		relShowdownProb[4450] = 0.657086F;
-		relShowdownProb[4451] = 0.6961983F;
-		relShowdownProb[4452] = 0.8381199F;
-		relShowdownProb[4453] = 0.9386943F;
-		relShowdownProb[4454] = 1.101662F;
-		relShowdownProb[4455] = 1.384574F;
-		relShowdownProb[4457] = 0.6160181F;
-		relShowdownProb[4458] = 1.6993604F;
-		relShowdownProb[4459] = 0.9023364F;
-		relShowdownProb[4460] = 0.5700466F;
-		relShowdownProb[4461] = 0.7347005F;
-		relShowdownProb[4462] = 0.7323559F;
-		relShowdownProb[4463] = 1.0097759F;
-		relShowdownProb[4464] = 0.99224395F;
-		relShowdownProb[4465] = 0.928865F;
-		relShowdownProb[4466] = 1.4427623F;
-		relShowdownProb[4468] = 1.0780318F;
-		relShowdownProb[4469] = 0.93235177F;
-		relShowdownProb[4470] = 0.9357237F;
-		relShowdownProb[4471] = 0.62469447F;
-		relShowdownProb[4472] = 0.7959172F;
-		relShowdownProb[4473] = 0.63276786F;
-		relShowdownProb[4474] = 0.9705318F;
-		relShowdownProb[4475] = 1.1137282F;
-		relShowdownProb[4476] = 1.1522411F;
-		relShowdownProb[4477] = 1.4794692F;
-		relShowdownProb[4479] = 1.2320362F;
-		relShowdownProb[4480] = 0.92983866F;
-		relShowdownProb[4481] = 0.99129355F;
-		relShowdownProb[4482] = 0.8049303F;
-		relShowdownProb[4483] = 0.8529482F;
-		relShowdownProb[4484] = 0.9085813F;
-		relShowdownProb[4485] = 1.118106F;
-		relShowdownProb[4486] = 1.0508544F;
-		relShowdownProb[4487] = 1.1972865F;
-		relShowdownProb[4488] = 1.5409989F;
-		relShowdownProb[4490] = 1.5400453F;
-		relShowdownProb[4491] = 0.51141125F;
-		relShowdownProb[4492] = 0.9101529F;
-		relShowdownProb[4493] = 1.1384639F;
-		relShowdownProb[4494] = 1.0283939F;
-		relShowdownProb[4495] = 0.95993006F;
-		relShowdownProb[4496] = 1.1825464F;
-		relShowdownProb[4497] = 1.1883188F;
-		relShowdownProb[4498] = 1.2445443F;
-		relShowdownProb[4499] = 1.6443964F;
-		relShowdownProb[4501] = 0.77002263F;
-		relShowdownProb[4502] = 1.0693145F;
-		relShowdownProb[4503] = 0.5327724F;
-		relShowdownProb[4504] = 1.1023482F;
-		relShowdownProb[4505] = 1.1827548F;
-		relShowdownProb[4506] = 1.1139969F;
-		relShowdownProb[4507] = 1.1195459F;
-		relShowdownProb[4508] = 1.334052F;
-		relShowdownProb[4509] = 1.4022925F;
-		relShowdownProb[4510] = 1.7836382F;
-		relShowdownProb[4512] = 0.4620136F;
-		relShowdownProb[4513] = 0.6508871F;
-		relShowdownProb[4514] = 0.9101529F;
-		relShowdownProb[4515] = 0.8948474F;
-		relShowdownProb[4516] = 1.028113F;
-		relShowdownProb[4517] = 1.3256998F;
-		relShowdownProb[4518] = 1.2320362F;
-		relShowdownProb[4519] = 1.4423839F;
-		relShowdownProb[4520] = 1.3944689F;
-		relShowdownProb[4521] = 1.7791944F;
-		relShowdownProb[4523] = 0.9240272F;
-		relShowdownProb[4524] = 0.8368548F;
-		relShowdownProb[4525] = 0.8213575F;
-		relShowdownProb[4526] = 0.920785F;
-		relShowdownProb[4527] = 1.2575266F;
-		relShowdownProb[4528] = 1.3836715F;
-		relShowdownProb[4529] = 1.5426337F;
-		relShowdownProb[4530] = 1.6651276F;
-		relShowdownProb[4531] = 1.6136404F;
-		relShowdownProb[4532] = 1.9471343F;
-		relShowdownProb[4535] = 0.5866839F;
-		relShowdownProb[4536] = 0.70402074F;
-		relShowdownProb[4537] = 0.3715665F;
-		relShowdownProb[4538] = 0.52801555F;
-		relShowdownProb[4539] = 0.5866839F;
-		relShowdownProb[4540] = 0.8548823F;
-		relShowdownProb[4541] = 0.9135507F;
-		relShowdownProb[4542] = 1.147293F;
-		relShowdownProb[4543] = 1.3715366F;
-		relShowdownProb[4545] = 0.30800906F;
-		relShowdownProb[4546] = 0.8496802F;
-		relShowdownProb[4547] = 0.5899892F;
-		relShowdownProb[4548] = 0.79070985F;
-		relShowdownProb[4549] = 0.64427584F;
-		relShowdownProb[4550] = 0.77049947F;
-		relShowdownProb[4551] = 0.9055055F;
-		relShowdownProb[4552] = 1.004647F;
-		relShowdownProb[4553] = 1.1223786F;
-		relShowdownProb[4554] = 1.4298344F;
-		relShowdownProb[4556] = 0.77002263F;
-		relShowdownProb[4557] = 1.5317208F;
-		relShowdownProb[4558] = 0.7173882F;
-		relShowdownProb[4559] = 0.78086805F;
-		relShowdownProb[4560] = 0.97036487F;
-		relShowdownProb[4561] = 0.75932145F;
-		relShowdownProb[4562] = 0.89504606F;
-		relShowdownProb[4563] = 0.98318124F;
-		relShowdownProb[4564] = 1.0373362F;
-		relShowdownProb[4565] = 1.3974189F;
-		relShowdownProb[4567] = 1.3860408F;
-		relShowdownProb[4568] = 1.2087903F;
-		relShowdownProb[4569] = 0.99129355F;
-		relShowdownProb[4570] = 0.7556489F;
-		relShowdownProb[4571] = 0.8529482F;
-		relShowdownProb[4572] = 0.93038726F;
-		relShowdownProb[4573] = 1.0333208F;
-		relShowdownProb[4574] = 1.0508544F;
-		relShowdownProb[4575] = 1.1562186F;
-		relShowdownProb[4576] = 1.5943998F;
-		relShowdownProb[4578] = 1.3860408F;
-		relShowdownProb[4579] = 0.8368548F;
-		relShowdownProb[4580] = 0.7547609F;
-		relShowdownProb[4581] = 1.0604869F;
-		relShowdownProb[4582] = 0.95711905F;
-		relShowdownProb[4583] = 0.81662345F;
-		relShowdownProb[4584] = 1.0158439F;
-		relShowdownProb[4585] = 1.0969096F;
-		relShowdownProb[4586] = 1.2945762F;
-		relShowdownProb[4587] = 1.6393522F;
-		relShowdownProb[4589] = 1.5400453F;
-		relShowdownProb[4590] = 0.55790323F;
-		relShowdownProb[4591] = 0.84355634F;
-		relShowdownProb[4592] = 0.88187855F;
-		relShowdownProb[4593] = 0.92649126F;
-		relShowdownProb[4594] = 1.0342164F;
-		relShowdownProb[4595] = 1.0499091F;
-		relShowdownProb[4596] = 1.2751968F;
-		relShowdownProb[4597] = 1.4858729F;
-		relShowdownProb[4598] = 1.6785712F;
-		relShowdownProb[4600] = 0.9240272F;
-		relShowdownProb[4601] = 0.6508871F;
-		relShowdownProb[4602] = 0.84355634F;
-		relShowdownProb[4603] = 0.9985978F;
-		relShowdownProb[4604] = 0.9771322F;
-		relShowdownProb[4605] = 1.1403972F;
-		relShowdownProb[4606] = 1.2741572F;
-		relShowdownProb[4607] = 1.3261919F;
-		relShowdownProb[4608] = 1.4802824F;
-		relShowdownProb[4609] = 1.7891201F;
-		relShowdownProb[4611] = 0.9240272F;
-		relShowdownProb[4612] = 0.92983866F;
-		relShowdownProb[4613] = 0.99894834F;
-		relShowdownProb[4614] = 0.9078162F;
-		relShowdownProb[4615] = 0.9771322F;
-		relShowdownProb[4616] = 1.2110527F;
-		relShowdownProb[4617] = 1.4805142F;
-		relShowdownProb[4618] = 1.4990104F;
-		relShowdownProb[4619] = 1.5637982F;
-		relShowdownProb[4620] = 1.9126717F;
-		relShowdownProb[4622] = 0.30800906F;
-		relShowdownProb[4623] = 0.88334674F;
-		relShowdownProb[4624] = 0.93235177F;
-		relShowdownProb[4625] = 0.9337538F;
-		relShowdownProb[4626] = 0.86667377F;
-		relShowdownProb[4627] = 1.2350339F;
-		relShowdownProb[4628] = 1.4358318F;
-		relShowdownProb[4629] = 1.7416424F;
-		relShowdownProb[4630] = 1.8565352F;
-		relShowdownProb[4631] = 2.2620585F;
-		relShowdownProb[4634] = 1.1733679F;
-		relShowdownProb[4635] = 0.743133F;
-		relShowdownProb[4636] = 0.60624003F;
-		relShowdownProb[4637] = 0.5397492F;
-		relShowdownProb[4638] = 0.6101513F;
-		relShowdownProb[4639] = 0.743133F;
-		relShowdownProb[4640] = 0.8423105F;
-		relShowdownProb[4641] = 1.0853653F;
-		relShowdownProb[4642] = 1.4966959F;
-		relShowdownProb[4644] = 0.30800906F;
-		relShowdownProb[4645] = 0.76471215F;
-		relShowdownProb[4646] = 0.9717469F;
-		relShowdownProb[4647] = 0.68037826F;
-		relShowdownProb[4648] = 0.5086388F;
-		relShowdownProb[4649] = 0.7628707F;
-		relShowdownProb[4650] = 0.7792835F;
-		relShowdownProb[4651] = 0.7483173F;
-		relShowdownProb[4652] = 1.1643065F;
-		relShowdownProb[4653] = 1.3703656F;
-		relShowdownProb[4655] = 1.0780318F;
-		relShowdownProb[4656] = 0.79915863F;
-		relShowdownProb[4657] = 0.96691453F;
-		relShowdownProb[4658] = 0.8155733F;
-		relShowdownProb[4659] = 0.91585F;
-		relShowdownProb[4660] = 0.908208F;
-		relShowdownProb[4661] = 0.862695F;
-		relShowdownProb[4662] = 1.0117384F;
-		relShowdownProb[4663] = 1.2224609F;
-		relShowdownProb[4664] = 1.4666488F;
-		relShowdownProb[4666] = 1.0780318F;
-		relShowdownProb[4667] = 1.3017741F;
-		relShowdownProb[4668] = 0.8496802F;
-		relShowdownProb[4669] = 1.0020561F;
-		relShowdownProb[4670] = 0.7476459F;
-		relShowdownProb[4671] = 0.99580514F;
-		relShowdownProb[4672] = 0.7312731F;
-		relShowdownProb[4673] = 0.9300666F;
-		relShowdownProb[4674] = 1.1846503F;
-		relShowdownProb[4675] = 1.5028554F;
-		relShowdownProb[4677] = 0.9240272F;
-		relShowdownProb[4678] = 0.92983866F;
-		relShowdownProb[4679] = 1.043346F;
-		relShowdownProb[4680] = 1.0292962F;
-		relShowdownProb[4681] = 1.130215F;
-		relShowdownProb[4682] = 0.9870492F;
-		relShowdownProb[4683] = 0.9897966F;
-		relShowdownProb[4684] = 1.0412693F;
-		relShowdownProb[4685] = 1.2883222F;
-		relShowdownProb[4686] = 1.6090872F;
-		relShowdownProb[4688] = 0.6160181F;
-		relShowdownProb[4689] = 0.697379F;
-		relShowdownProb[4690] = 0.99894834F;
-		relShowdownProb[4691] = 0.791097F;
-		relShowdownProb[4692] = 0.84764093F;
-		relShowdownProb[4693] = 1.0411574F;
-		relShowdownProb[4694] = 1.0399308F;
-		relShowdownProb[4695] = 1.1653336F;
-		relShowdownProb[4696] = 1.2537053F;
-		relShowdownProb[4697] = 1.7185968F;
-		relShowdownProb[4699] = 0.4620136F;
-		relShowdownProb[4700] = 0.7903629F;
-		relShowdownProb[4701] = 0.71036327F;
-		relShowdownProb[4702] = 0.75219053F;
-		relShowdownProb[4703] = 1.1215779F;
-		relShowdownProb[4704] = 1.2218541F;
-		relShowdownProb[4705] = 1.2093607F;
-		relShowdownProb[4706] = 1.3622515F;
-		relShowdownProb[4707] = 1.3454326F;
-		relShowdownProb[4708] = 1.7965645F;
-		relShowdownProb[4710] = 0.6160181F;
-		relShowdownProb[4711] = 0.51141125F;
-		relShowdownProb[4712] = 0.8657552F;
-		relShowdownProb[4713] = 0.9467226F;
-		relShowdownProb[4714] = 0.9516418F;
-		relShowdownProb[4715] = 1.2590152F;
-		relShowdownProb[4716] = 1.333673F;
-		relShowdownProb[4717] = 1.3131173F;
-		relShowdownProb[4718] = 1.5637982F;
-		relShowdownProb[4719] = 1.7994375F;
-		relShowdownProb[4721] = 1.0780318F;
-		relShowdownProb[4722] = 0.55790323F;
-		relShowdownProb[4723] = 0.8213575F;
-		relShowdownProb[4724] = 0.791097F;
-		relShowdownProb[4725] = 0.9261514F;
-		relShowdownProb[4726] = 1.3309588F;
-		relShowdownProb[4727] = 1.3278365F;
-		relShowdownProb[4728] = 1.7924078F;
-		relShowdownProb[4729] = 2.035404F;
-		relShowdownProb[4730] = 2.1797564F;
-		relShowdownProb[4732] = 1.0780318F;
-		relShowdownProb[4733] = 0.743871F;
-		relShowdownProb[4734] = 1.0655448F;
-		relShowdownProb[4735] = 1.0245354F;
-		relShowdownProb[4736] = 1.070597F;
-		relShowdownProb[4737] = 1.1091324F;
-		relShowdownProb[4738] = 1.2609991F;
-		relShowdownProb[4739] = 1.8010775F;
-		relShowdownProb[4740] = 2.0091197F;
-		relShowdownProb[4741] = 2.4690204F;
-		relShowdownProb[4744] = 0.46934715F;
-		relShowdownProb[4745] = 0.743133F;
-		relShowdownProb[4746] = 0.86046976F;
-		relShowdownProb[4747] = 0.6101513F;
-		relShowdownProb[4748] = 0.84482485F;
-		relShowdownProb[4749] = 0.8716447F;
-		relShowdownProb[4750] = 0.8758353F;
-		relShowdownProb[4751] = 0.8800259F;
-		relShowdownProb[4752] = 1.5019108F;
-		relShowdownProb[4754] = 0.30800906F;
-		relShowdownProb[4755] = 0.8496802F;
-		relShowdownProb[4756] = 0.7635154F;
-		relShowdownProb[4757] = 0.8090984F;
-		relShowdownProb[4758] = 0.66688204F;
-		relShowdownProb[4759] = 0.7857569F;
-		relShowdownProb[4760] = 1.0152637F;
-		relShowdownProb[4761] = 0.91369134F;
-		relShowdownProb[4762] = 0.97079295F;
-		relShowdownProb[4763] = 1.4582759F;
-		relShowdownProb[4765] = 1.0780318F;
-		relShowdownProb[4766] = 1.1321415F;
-		relShowdownProb[4767] = 0.7173882F;
-		relShowdownProb[4768] = 0.6941049F;
-		relShowdownProb[4769] = 0.81772316F;
-		relShowdownProb[4770] = 0.6551008F;
-		relShowdownProb[4771] = 0.94357264F;
-		relShowdownProb[4772] = 0.8526344F;
-		relShowdownProb[4773] = 0.9224313F;
-		relShowdownProb[4774] = 1.5563912F;
-		relShowdownProb[4776] = 0.77002263F;
-		relShowdownProb[4777] = 1.2087903F;
-		relShowdownProb[4778] = 0.96297085F;
-		relShowdownProb[4779] = 1.0184833F;
-		relShowdownProb[4780] = 1.0214318F;
-		relShowdownProb[4781] = 0.9231186F;
-		relShowdownProb[4782] = 0.97503084F;
-		relShowdownProb[4783] = 1.0186443F;
-		relShowdownProb[4784] = 1.0393331F;
-		relShowdownProb[4785] = 1.5740566F;
-		relShowdownProb[4787] = 0.4620136F;
-		relShowdownProb[4788] = 0.97633064F;
-		relShowdownProb[4789] = 0.88795406F;
-		relShowdownProb[4790] = 0.96691453F;
-		relShowdownProb[4791] = 1.1200329F;
-		relShowdownProb[4792] = 1.1361718F;
-		relShowdownProb[4793] = 1.1773369F;
-		relShowdownProb[4794] = 1.1128069F;
-		relShowdownProb[4795] = 1.1726234F;
-		relShowdownProb[4796] = 1.7629342F;
-		relShowdownProb[4798] = 0.77002263F;
-		relShowdownProb[4799] = 1.0228225F;
-		relShowdownProb[4800] = 1.3985276F;
-		relShowdownProb[4801] = 1.180161F;
-		relShowdownProb[4802] = 0.985629F;
-		relShowdownProb[4803] = 0.95092374F;
-		relShowdownProb[4804] = 1.2448432F;
-		relShowdownProb[4805] = 1.2830441F;
-		relShowdownProb[4806] = 1.3372856F;
-		relShowdownProb[4807] = 1.6835744F;
-		relShowdownProb[4809] = 0.9240272F;
-		relShowdownProb[4810] = 0.8368548F;
-		relShowdownProb[4811] = 1.2431357F;
-		relShowdownProb[4812] = 1.050473F;
-		relShowdownProb[4813] = 1.1385714F;
-		relShowdownProb[4814] = 1.1336092F;
-		relShowdownProb[4815] = 1.0985026F;
-		relShowdownProb[4816] = 1.2940255F;
-		relShowdownProb[4817] = 1.431246F;
-		relShowdownProb[4818] = 1.6724923F;
-		relShowdownProb[4820] = 1.2320362F;
-		relShowdownProb[4821] = 0.88334674F;
-		relShowdownProb[4822] = 0.79915863F;
-		relShowdownProb[4823] = 1.0245354F;
-		relShowdownProb[4824] = 1.070597F;
-		relShowdownProb[4825] = 1.2350339F;
-		relShowdownProb[4826] = 1.5071993F;
-		relShowdownProb[4827] = 1.4807392F;
-		relShowdownProb[4828] = 1.3955809F;
-		relShowdownProb[4829] = 1.841285F;
-		relShowdownProb[4831] = 1.5400453F;
-		relShowdownProb[4832] = 1.6737096F;
-		relShowdownProb[4833] = 1.0655448F;
-		relShowdownProb[4834] = 1.1542234F;
-		relShowdownProb[4835] = 0.9771322F;
-		relShowdownProb[4836] = 1.4088979F;
-		relShowdownProb[4837] = 1.5684512F;
-		relShowdownProb[4838] = 1.5797274F;
-		relShowdownProb[4839] = 1.9737252F;
-		relShowdownProb[4840] = 2.2745285F;
-		relShowdownProb[4842] = 1.0780318F;
-		relShowdownProb[4843] = 1.6272177F;
-		relShowdownProb[4844] = 0.93235177F;
-		relShowdownProb[4845] = 0.9337538F;
-		relShowdownProb[4846] = 1.0366098F;
-		relShowdownProb[4847] = 1.1690855F;
-		relShowdownProb[4848] = 1.1050452F;
-		relShowdownProb[4849] = 1.7757841F;
-		relShowdownProb[4850] = 2.1617885F;
-		relShowdownProb[4851] = 2.4343848F;
-		relShowdownProb[4853] = 0.9240272F;
-		relShowdownProb[4854] = 1.0228225F;
-		relShowdownProb[4855] = 1.0655448F;
-		relShowdownProb[4856] = 0.9596914F;
-		relShowdownProb[4857] = 1.0536034F;
-		relShowdownProb[4858] = 1.043184F;
-		relShowdownProb[4859] = 1.2164409F;
-		relShowdownProb[4860] = 1.8824688F;
-		relShowdownProb[4861] = 2.0519922F;
-		relShowdownProb[4862] = 2.55488F;
-		relShowdownProb[4866] = 1.0560311F;
-		relShowdownProb[4867] = 1.4275975F;
-		relShowdownProb[4868] = 1.0794984F;
-		relShowdownProb[4869] = 1.2046577F;
-		relShowdownProb[4870] = 1.2180676F;
-		relShowdownProb[4871] = 1.1985115F;
-		relShowdownProb[4872] = 1.2092208F;
-		relShowdownProb[4873] = 1.3871815F;
-		relShowdownProb[4875] = 0.6160181F;
-		relShowdownProb[4876] = 1.8480544F;
-		relShowdownProb[4877] = 1.4229151F;
-		relShowdownProb[4878] = 1.4343109F;
-		relShowdownProb[4879] = 1.3111578F;
-		relShowdownProb[4880] = 1.2205932F;
-		relShowdownProb[4881] = 1.2896594F;
-		relShowdownProb[4882] = 1.3147233F;
-		relShowdownProb[4883] = 1.3868471F;
-		relShowdownProb[4884] = 1.4013928F;
-		relShowdownProb[4886] = 1.6940498F;
-		relShowdownProb[4887] = 2.9260862F;
-		relShowdownProb[4888] = 1.2164409F;
-		relShowdownProb[4889] = 1.5270308F;
-		relShowdownProb[4890] = 1.3192601F;
-		relShowdownProb[4891] = 1.451644F;
-		relShowdownProb[4892] = 1.4234467F;
-		relShowdownProb[4893] = 1.444175F;
-		relShowdownProb[4894] = 1.2990642F;
-		relShowdownProb[4895] = 1.4153674F;
-		relShowdownProb[4897] = 2.002059F;
-		relShowdownProb[4898] = 1.0780318F;
-		relShowdownProb[4899] = 1.812651F;
-		relShowdownProb[4900] = 1.6919965F;
-		relShowdownProb[4901] = 1.6848359F;
-		relShowdownProb[4902] = 1.3883122F;
-		relShowdownProb[4903] = 1.451948F;
-		relShowdownProb[4904] = 1.3649029F;
-		relShowdownProb[4905] = 1.3931487F;
-		relShowdownProb[4906] = 1.5486276F;
-		relShowdownProb[4908] = 1.3860408F;
-		relShowdownProb[4909] = 1.3017741F;
-		relShowdownProb[4910] = 1.4651242F;
-		relShowdownProb[4911] = 1.5283488F;
-		relShowdownProb[4912] = 1.5884104F;
-		relShowdownProb[4913] = 1.5125287F;
-		relShowdownProb[4914] = 1.6513975F;
-		relShowdownProb[4915] = 1.4784435F;
-		relShowdownProb[4916] = 1.391513F;
-		relShowdownProb[4917] = 1.601521F;
-		relShowdownProb[4919] = 0.9240272F;
-		relShowdownProb[4920] = 1.8596773F;
-		relShowdownProb[4921] = 1.3541299F;
-		relShowdownProb[4922] = 1.4135995F;
-		relShowdownProb[4923] = 1.4784435F;
-		relShowdownProb[4924] = 1.5964414F;
-		relShowdownProb[4925] = 1.5829489F;
-		relShowdownProb[4926] = 1.5145414F;
-		relShowdownProb[4927] = 1.4672995F;
-		relShowdownProb[4928] = 1.6085265F;
-		relShowdownProb[4930] = 1.0780318F;
-		relShowdownProb[4931] = 1.0693145F;
-		relShowdownProb[4932] = 1.4651242F;
-		relShowdownProb[4933] = 1.5692251F;
-		relShowdownProb[4934] = 1.6398827F;
-		relShowdownProb[4935] = 1.7852646F;
-		relShowdownProb[4936] = 1.7183001F;
-		relShowdownProb[4937] = 1.6039717F;
-		relShowdownProb[4938] = 1.6764275F;
-		relShowdownProb[4939] = 1.7072325F;
-		relShowdownProb[4941] = 1.6940498F;
-		relShowdownProb[4942] = 1.7202016F;
-		relShowdownProb[4943] = 1.487323F;
-		relShowdownProb[4944] = 1.2968802F;
-		relShowdownProb[4945] = 1.6908636F;
-		relShowdownProb[4946] = 1.564776F;
-		relShowdownProb[4947] = 1.7997149F;
-		relShowdownProb[4948] = 1.7523994F;
-		relShowdownProb[4949] = 1.6963258F;
-		relShowdownProb[4950] = 1.8708243F;
-		relShowdownProb[4952] = 2.1560636F;
-		relShowdownProb[4953] = 1.3017741F;
-		relShowdownProb[4954] = 1.4429253F;
-		relShowdownProb[4955] = 1.51735F;
-		relShowdownProb[4956] = 1.5039339F;
-		relShowdownProb[4957] = 1.7866025F;
-		relShowdownProb[4958] = 1.8759032F;
-		relShowdownProb[4959] = 2.067251F;
-		relShowdownProb[4960] = 2.1305213F;
-		relShowdownProb[4961] = 2.1548164F;
-		relShowdownProb[4963] = 1.2320362F;
-		relShowdownProb[4964] = 1.8131855F;
-		relShowdownProb[4965] = 1.8869023F;
-		relShowdownProb[4966] = 1.4265683F;
-		relShowdownProb[4967] = 1.6908636F;
-		relShowdownProb[4968] = 1.5407947F;
-		relShowdownProb[4969] = 1.9204615F;
-		relShowdownProb[4970] = 2.0889554F;
-		relShowdownProb[4971] = 2.4343133F;
-		relShowdownProb[4972] = 2.3997493F;
-		relShowdownProb[4974] = 1.5400453F;
-		relShowdownProb[4975] = 1.3482661F;
-		relShowdownProb[4976] = 1.5539196F;
-		relShowdownProb[4977] = 1.8156323F;
-		relShowdownProb[4978] = 1.4699467F;
-		relShowdownProb[4979] = 1.6547056F;
-		relShowdownProb[4980] = 1.8179775F;
-		relShowdownProb[4981] = 2.0614238F;
-		relShowdownProb[4982] = 2.4175289F;
-		relShowdownProb[4983] = 2.5573342F;
-		relShowdownProb[4985] = 1.6940498F;
-		relShowdownProb[4986] = 1.7666935F;
-		relShowdownProb[4987] = 1.7315104F;
-		relShowdownProb[4988] = 1.6211003F;
-		relShowdownProb[4989] = 1.928774F;
-		relShowdownProb[4990] = 1.7626212F;
-		relShowdownProb[4991] = 1.7956984F;
-		relShowdownProb[4992] = 2.1027212F;
-		relShowdownProb[4993] = 2.3080146F;
-		relShowdownProb[4994] = 2.7300286F;
-		relShowdownProb[5003] = 1.051857F;
-		relShowdownProb[5004] = 0.70123804F;
-		relShowdownProb[5007] = 1.051857F;
-		relShowdownProb[5008] = 0.26296425F;
-		relShowdownProb[5009] = 0.3944464F;
-		relShowdownProb[5012] = 0.5259285F;
-		relShowdownProb[5013] = 0.5259285F;
-		relShowdownProb[5014] = 0.70123804F;
-		relShowdownProb[5015] = 0.47333568F;
-		relShowdownProb[5018] = 0.7888928F;
-		relShowdownProb[5019] = 0.5259285F;
-		relShowdownProb[5020] = 0.43827376F;
-		relShowdownProb[5021] = 0.3944464F;
-		relShowdownProb[5022] = 0.5434595F;
-		relShowdownProb[5025] = 0.26296425F;
-		relShowdownProb[5026] = 0.5259285F;
-		relShowdownProb[5027] = 0.5259285F;
-		relShowdownProb[5028] = 0.2103714F;
-		relShowdownProb[5029] = 0.4558047F;
-		relShowdownProb[5030] = 0.5008843F;
-		relShowdownProb[5033] = 1.051857F;
-		relShowdownProb[5034] = 0.35061902F;
-		relShowdownProb[5035] = 0.48210114F;
-		relShowdownProb[5036] = 0.4996321F;
-		relShowdownProb[5037] = 0.40321186F;
-		relShowdownProb[5038] = 0.55097276F;
-		relShowdownProb[5039] = 0.5353201F;
-		relShowdownProb[5042] = 1.3148212F;
-		relShowdownProb[5043] = 0.8765475F;
-		relShowdownProb[5044] = 0.48210114F;
-		relShowdownProb[5045] = 0.6048178F;
-		relShowdownProb[5046] = 0.5785214F;
-		relShowdownProb[5047] = 0.4507959F;
-		relShowdownProb[5048] = 0.5447117F;
-		relShowdownProb[5049] = 0.5332331F;
-		relShowdownProb[5053] = 1.1395118F;
-		relShowdownProb[5054] = 0.9642023F;
-		relShowdownProb[5055] = 0.8151892F;
-		relShowdownProb[5056] = 0.68370706F;
-		relShowdownProb[5057] = 0.67619383F;
-		relShowdownProb[5058] = 0.79828435F;
-		relShowdownProb[5059] = 0.77428365F;
-		relShowdownProb[5060] = 0.9700459F;
-		relShowdownProb[5069] = 0.7888928F;
-		relShowdownProb[5070] = 0.92037493F;
-		relShowdownProb[5073] = 0.5259285F;
-		relShowdownProb[5074] = 0.43827376F;
-		relShowdownProb[5075] = 0.70123804F;
-		relShowdownProb[5078] = 0.26296425F;
-		relShowdownProb[5079] = 0.8765475F;
-		relShowdownProb[5080] = 0.5697559F;
-		relShowdownProb[5081] = 0.47333568F;
-		relShowdownProb[5084] = 1.051857F;
-		relShowdownProb[5085] = 0.61358327F;
-		relShowdownProb[5086] = 0.61358327F;
-		relShowdownProb[5087] = 0.23666784F;
-		relShowdownProb[5088] = 0.3856809F;
-		relShowdownProb[5091] = 0.5259285F;
-		relShowdownProb[5092] = 0.7888928F;
-		relShowdownProb[5093] = 0.35061902F;
-		relShowdownProb[5094] = 0.5785214F;
-		relShowdownProb[5095] = 0.59605235F;
-		relShowdownProb[5096] = 0.62610537F;
-		relShowdownProb[5099] = 0.7888928F;
-		relShowdownProb[5100] = 0.26296425F;
-		relShowdownProb[5101] = 0.48210114F;
-		relShowdownProb[5102] = 0.5785214F;
-		relShowdownProb[5103] = 0.61358327F;
-		relShowdownProb[5104] = 0.5134064F;
-		relShowdownProb[5105] = 0.56349486F;
-		relShowdownProb[5108] = 1.051857F;
-		relShowdownProb[5109] = 0.8765475F;
-		relShowdownProb[5110] = 0.3944464F;
-		relShowdownProb[5111] = 0.6574106F;
-		relShowdownProb[5112] = 0.68370706F;
-		relShowdownProb[5113] = 0.37566322F;
-		relShowdownProb[5114] = 0.6198443F;
-		relShowdownProb[5115] = 0.61358327F;
-		relShowdownProb[5119] = 0.9642023F;
-		relShowdownProb[5120] = 0.7888928F;
-		relShowdownProb[5121] = 0.7100035F;
-		relShowdownProb[5122] = 0.75383085F;
-		relShowdownProb[5123] = 0.8765475F;
-		relShowdownProb[5124] = 0.8922002F;
-		relShowdownProb[5125] = 0.8911567F;
-		relShowdownProb[5126] = 0.8707039F;
-		relShowdownProb[5135] = 1.3148212F;
-		relShowdownProb[5136] = 0.92037493F;
-		relShowdownProb[5139] = 1.051857F;
-		relShowdownProb[5140] = 1.2271665F;
-		relShowdownProb[5141] = 0.94667137F;
-		relShowdownProb[5144] = 0.7888928F;
-		relShowdownProb[5145] = 0.43827376F;
-		relShowdownProb[5146] = 0.70123804F;
-		relShowdownProb[5147] = 0.63111424F;
-		relShowdownProb[5150] = 1.051857F;
-		relShowdownProb[5151] = 0.7888928F;
-		relShowdownProb[5152] = 0.43827376F;
-		relShowdownProb[5153] = 0.47333568F;
-		relShowdownProb[5154] = 0.5785214F;
-		relShowdownProb[5157] = 1.3148212F;
-		relShowdownProb[5158] = 0.61358327F;
-		relShowdownProb[5159] = 0.3944464F;
-		relShowdownProb[5160] = 0.4996321F;
-		relShowdownProb[5161] = 0.40321186F;
-		relShowdownProb[5162] = 0.61358327F;
-		relShowdownProb[5165] = 0.26296425F;
-		relShowdownProb[5166] = 0.70123804F;
-		relShowdownProb[5167] = 0.61358327F;
-		relShowdownProb[5168] = 0.5259285F;
-		relShowdownProb[5169] = 0.47333568F;
-		relShowdownProb[5170] = 0.42575166F;
-		relShowdownProb[5171] = 0.582278F;
-		relShowdownProb[5174] = 0.26296425F;
-		relShowdownProb[5175] = 0.61358327F;
-		relShowdownProb[5176] = 0.5259285F;
-		relShowdownProb[5177] = 0.6574106F;
-		relShowdownProb[5178] = 0.5259285F;
-		relShowdownProb[5179] = 0.5134064F;
-		relShowdownProb[5180] = 0.6104528F;
-		relShowdownProb[5181] = 0.6574106F;
-		relShowdownProb[5185] = 0.7888928F;
-		relShowdownProb[5186] = 0.9642023F;
-		relShowdownProb[5187] = 0.86778206F;
-		relShowdownProb[5188] = 0.5259285F;
-		relShowdownProb[5189] = 0.75132644F;
-		relShowdownProb[5190] = 0.85463387F;
-		relShowdownProb[5191] = 0.97881144F;
-		relShowdownProb[5192] = 0.88823485F;
-		relShowdownProb[5201] = 1.3148212F;
-		relShowdownProb[5202] = 0.7888928F;
-		relShowdownProb[5205] = 0.5259285F;
-		relShowdownProb[5206] = 1.051857F;
-		relShowdownProb[5207] = 0.7888928F;
-		relShowdownProb[5210] = 0.5259285F;
-		relShowdownProb[5211] = 0.5259285F;
-		relShowdownProb[5212] = 0.3944464F;
-		relShowdownProb[5213] = 0.61358327F;
-		relShowdownProb[5216] = 1.051857F;
-		relShowdownProb[5217] = 0.8765475F;
-		relShowdownProb[5218] = 0.61358327F;
-		relShowdownProb[5219] = 0.5785214F;
-		relShowdownProb[5220] = 0.63111424F;
-		relShowdownProb[5223] = 1.3148212F;
-		relShowdownProb[5224] = 1.051857F;
-		relShowdownProb[5225] = 0.61358327F;
-		relShowdownProb[5226] = 0.7888928F;
-		relShowdownProb[5227] = 0.5609904F;
-		relShowdownProb[5228] = 0.55097276F;
-		relShowdownProb[5231] = 1.051857F;
-		relShowdownProb[5232] = 0.35061902F;
-		relShowdownProb[5233] = 0.7888928F;
-		relShowdownProb[5234] = 0.44703925F;
-		relShowdownProb[5235] = 0.43827376F;
-		relShowdownProb[5236] = 0.58853906F;
-		relShowdownProb[5237] = 0.6574106F;
-		relShowdownProb[5240] = 0.7888928F;
-		relShowdownProb[5241] = 0.61358327F;
-		relShowdownProb[5242] = 0.48210114F;
-		relShowdownProb[5243] = 0.63111424F;
-		relShowdownProb[5244] = 0.61358327F;
-		relShowdownProb[5245] = 0.56349486F;
-		relShowdownProb[5246] = 0.7701096F;
-		relShowdownProb[5247] = 0.6939335F;
-		relShowdownProb[5251] = 1.4024761F;
-		relShowdownProb[5252] = 1.270994F;
-		relShowdownProb[5253] = 0.92037493F;
-		relShowdownProb[5254] = 1.051857F;
-		relShowdownProb[5255] = 0.8640254F;
-		relShowdownProb[5256] = 0.7701096F;
-		relShowdownProb[5257] = 0.8984612F;
-		relShowdownProb[5258] = 0.86486024F;
-		relShowdownProb[5267] = 0.7888928F;
-		relShowdownProb[5268] = 0.5259285F;
-		relShowdownProb[5271] = 0.5259285F;
-		relShowdownProb[5272] = 1.051857F;
-		relShowdownProb[5273] = 0.9992642F;
-		relShowdownProb[5276] = 0.5259285F;
-		relShowdownProb[5277] = 1.2271665F;
-		relShowdownProb[5278] = 1.1833391F;
-		relShowdownProb[5279] = 1.0226388F;
-		relShowdownProb[5283] = 0.61358327F;
-		relShowdownProb[5284] = 0.48210114F;
-		relShowdownProb[5285] = 0.8151892F;
-		relShowdownProb[5286] = 0.63862747F;
-		relShowdownProb[5289] = 0.26296425F;
-		relShowdownProb[5290] = 1.051857F;
-		relShowdownProb[5291] = 0.92037493F;
-		relShowdownProb[5292] = 0.6048178F;
-		relShowdownProb[5293] = 0.5609904F;
-		relShowdownProb[5294] = 0.56349486F;
-		relShowdownProb[5297] = 0.5259285F;
-		relShowdownProb[5298] = 0.5259285F;
-		relShowdownProb[5299] = 0.48210114F;
-		relShowdownProb[5300] = 0.6048178F;
-		relShowdownProb[5301] = 0.63111424F;
-		relShowdownProb[5302] = 0.60106117F;
-		relShowdownProb[5303] = 0.582278F;
-		relShowdownProb[5306] = 0.7888928F;
-		relShowdownProb[5307] = 0.61358327F;
-		relShowdownProb[5308] = 0.83272016F;
-		relShowdownProb[5309] = 0.68370706F;
-		relShowdownProb[5310] = 0.8064237F;
-		relShowdownProb[5311] = 0.4758401F;
-		relShowdownProb[5312] = 0.6480191F;
-		relShowdownProb[5313] = 0.84732926F;
-		relShowdownProb[5316] = 1.5777856F;
-		relShowdownProb[5317] = 1.1395118F;
-		relShowdownProb[5318] = 1.1395118F;
-		relShowdownProb[5319] = 0.7100035F;
-		relShowdownProb[5320] = 1.0343261F;
-		relShowdownProb[5321] = 0.8765475F;
-		relShowdownProb[5322] = 0.84524226F;
-		relShowdownProb[5323] = 0.8984612F;
-		relShowdownProb[5324] = 0.92329675F;
-		relShowdownProb[5330] = 0.26296425F;
-		relShowdownProb[5333] = 0.5259285F;
-		relShowdownProb[5334] = 1.051857F;
-		relShowdownProb[5337] = 0.7888928F;
-		relShowdownProb[5338] = 1.4901308F;
-		relShowdownProb[5339] = 1.1044499F;
-		relShowdownProb[5343] = 0.5259285F;
-		relShowdownProb[5344] = 0.7888928F;
-		relShowdownProb[5345] = 0.8765475F;
-		relShowdownProb[5348] = 1.051857F;
-		relShowdownProb[5349] = 1.2271665F;
-		relShowdownProb[5350] = 0.5697559F;
-		relShowdownProb[5351] = 0.5785214F;
-		relShowdownProb[5352] = 0.9015918F;
-		relShowdownProb[5355] = 0.5259285F;
-		relShowdownProb[5356] = 0.61358327F;
-		relShowdownProb[5357] = 0.70123804F;
-		relShowdownProb[5358] = 0.8151892F;
-		relShowdownProb[5359] = 0.64864516F;
-		relShowdownProb[5360] = 0.76259637F;
-		relShowdownProb[5364] = 0.35061902F;
-		relShowdownProb[5365] = 0.61358327F;
-		relShowdownProb[5366] = 0.7888928F;
-		relShowdownProb[5367] = 0.64864516F;
-		relShowdownProb[5368] = 0.73880434F;
-		relShowdownProb[5369] = 0.6198443F;
-		relShowdownProb[5372] = 0.5259285F;
-		relShowdownProb[5373] = 0.61358327F;
-		relShowdownProb[5374] = 0.70123804F;
-		relShowdownProb[5375] = 0.68370706F;
-		relShowdownProb[5376] = 0.7713618F;
-		relShowdownProb[5377] = 0.75132644F;
-		relShowdownProb[5378] = 0.76071805F;
-		relShowdownProb[5379] = 0.7304563F;
-		relShowdownProb[5382] = 0.5259285F;
-		relShowdownProb[5383] = 0.8765475F;
-		relShowdownProb[5384] = 0.9642023F;
-		relShowdownProb[5385] = 0.6048178F;
-		relShowdownProb[5386] = 0.7888928F;
-		relShowdownProb[5387] = 0.8640254F;
-		relShowdownProb[5388] = 0.9485496F;
-		relShowdownProb[5389] = 0.986116F;
-		relShowdownProb[5390] = 0.89992213F;
-		relShowdownProb[5396] = 0.5259285F;
-		relShowdownProb[5399] = 0.5259285F;
-		relShowdownProb[5400] = 0.8765475F;
-		relShowdownProb[5403] = 0.26296425F;
-		relShowdownProb[5404] = 0.7888928F;
-		relShowdownProb[5405] = 1.1570427F;
-		relShowdownProb[5408] = 0.7888928F;
-		relShowdownProb[5409] = 0.7888928F;
-		relShowdownProb[5410] = 0.43827376F;
-		relShowdownProb[5411] = 1.16873F;
-		relShowdownProb[5414] = 0.26296425F;
-		relShowdownProb[5415] = 0.61358327F;
-		relShowdownProb[5416] = 0.48210114F;
-		relShowdownProb[5417] = 0.86778206F;
-		relShowdownProb[5418] = 0.9015918F;
-		relShowdownProb[5421] = 0.26296425F;
-		relShowdownProb[5422] = 0.35061902F;
-		relShowdownProb[5423] = 0.7888928F;
-		relShowdownProb[5424] = 0.92037493F;
-		relShowdownProb[5425] = 0.9291404F;
-		relShowdownProb[5426] = 0.97296774F;
-		relShowdownProb[5429] = 0.7888928F;
-		relShowdownProb[5430] = 0.5259285F;
-		relShowdownProb[5431] = 0.5259285F;
-		relShowdownProb[5432] = 0.76259637F;
-		relShowdownProb[5433] = 0.8940785F;
-		relShowdownProb[5434] = 0.9141139F;
-		relShowdownProb[5435] = 0.7888928F;
-		relShowdownProb[5439] = 0.5259285F;
-		relShowdownProb[5440] = 0.8765475F;
-		relShowdownProb[5441] = 0.97296774F;
-		relShowdownProb[5442] = 0.8940785F;
-		relShowdownProb[5443] = 1.0017686F;
-		relShowdownProb[5444] = 0.79828435F;
-		relShowdownProb[5445] = 1.0153342F;
-		relShowdownProb[5448] = 1.8407499F;
-		relShowdownProb[5449] = 0.70123804F;
-		relShowdownProb[5450] = 0.70123804F;
-		relShowdownProb[5451] = 0.76259637F;
-		relShowdownProb[5452] = 0.8239547F;
-		relShowdownProb[5453] = 0.9391581F;
-		relShowdownProb[5454] = 1.0424654F;
-		relShowdownProb[5455] = 1.1249027F;
-		relShowdownProb[5456] = 1.0167952F;
-		relShowdownProb[5462] = 1.3148212F;
-		relShowdownProb[5465] = 0.5259285F;
-		relShowdownProb[5466] = 0.70123804F;
-		relShowdownProb[5469] = 1.5777856F;
-		relShowdownProb[5470] = 0.70123804F;
-		relShowdownProb[5471] = 0.7888928F;
-		relShowdownProb[5474] = 0.7888928F;
-		relShowdownProb[5475] = 0.9642023F;
-		relShowdownProb[5476] = 0.70123804F;
-		relShowdownProb[5477] = 0.70123804F;
-		relShowdownProb[5480] = 0.26296425F;
-		relShowdownProb[5481] = 0.35061902F;
-		relShowdownProb[5482] = 0.61358327F;
-		relShowdownProb[5483] = 0.8151892F;
-		relShowdownProb[5484] = 1.0330739F;
-		relShowdownProb[5487] = 0.26296425F;
-		relShowdownProb[5488] = 0.35061902F;
-		relShowdownProb[5489] = 0.3944464F;
-		relShowdownProb[5490] = 0.44703925F;
-		relShowdownProb[5491] = 0.59605235F;
-		relShowdownProb[5492] = 1.1307464F;
-		relShowdownProb[5495] = 1.3148212F;
-		relShowdownProb[5496] = 0.43827376F;
-		relShowdownProb[5497] = 0.5697559F;
-		relShowdownProb[5498] = 0.68370706F;
-		relShowdownProb[5499] = 0.5259285F;
-		relShowdownProb[5500] = 0.7888928F;
-		relShowdownProb[5501] = 0.91550523F;
-		relShowdownProb[5504] = 1.051857F;
-		relShowdownProb[5505] = 0.7888928F;
-		relShowdownProb[5506] = 0.26296425F;
-		relShowdownProb[5507] = 0.7100035F;
-		relShowdownProb[5508] = 0.9992642F;
-		relShowdownProb[5509] = 0.8264591F;
-		relShowdownProb[5510] = 0.873417F;
-		relShowdownProb[5511] = 1.1044499F;
-		relShowdownProb[5514] = 0.7888928F;
-		relShowdownProb[5515] = 0.5259285F;
-		relShowdownProb[5516] = 0.6574106F;
-		relShowdownProb[5517] = 0.73629993F;
-		relShowdownProb[5518] = 0.9642023F;
-		relShowdownProb[5519] = 1.1019455F;
-		relShowdownProb[5520] = 0.99550754F;
-		relShowdownProb[5521] = 1.1468164F;
-		relShowdownProb[5522] = 1.2271665F;
-		relShowdownProb[5528] = 0.7888928F;
-		relShowdownProb[5531] = 0.26296425F;
-		relShowdownProb[5532] = 0.35061902F;
-		relShowdownProb[5535] = 0.5259285F;
-		relShowdownProb[5536] = 0.70123804F;
-		relShowdownProb[5537] = 0.7888928F;
-		relShowdownProb[5540] = 0.26296425F;
-		relShowdownProb[5541] = 0.26296425F;
-		relShowdownProb[5542] = 0.7450654F;
-		relShowdownProb[5543] = 0.8151892F;
-		relShowdownProb[5546] = 0.7888928F;
-		relShowdownProb[5547] = 0.43827376F;
-		relShowdownProb[5548] = 0.61358327F;
-		relShowdownProb[5549] = 0.76259637F;
-		relShowdownProb[5550] = 0.88280857F;
-		relShowdownProb[5554] = 0.61358327F;
-		relShowdownProb[5555] = 0.35061902F;
-		relShowdownProb[5556] = 0.6574106F;
-		relShowdownProb[5557] = 0.8414856F;
-		relShowdownProb[5558] = 0.8414856F;
-		relShowdownProb[5562] = 0.43827376F;
-		relShowdownProb[5563] = 0.35061902F;
-		relShowdownProb[5564] = 0.4996321F;
-		relShowdownProb[5565] = 0.66617614F;
-		relShowdownProb[5566] = 0.8389812F;
-		relShowdownProb[5567] = 1.0615965F;
-		relShowdownProb[5570] = 0.26296425F;
-		relShowdownProb[5571] = 0.5259285F;
-		relShowdownProb[5572] = 0.5259285F;
-		relShowdownProb[5573] = 0.2892607F;
-		relShowdownProb[5574] = 0.7888928F;
-		relShowdownProb[5575] = 1.0017686F;
-		relShowdownProb[5576] = 0.9767244F;
-		relShowdownProb[5577] = 1.0819101F;
-		relShowdownProb[5580] = 1.3148212F;
-		relShowdownProb[5581] = 0.43827376F;
-		relShowdownProb[5582] = 0.9642023F;
-		relShowdownProb[5583] = 0.7888928F;
-		relShowdownProb[5584] = 0.9992642F;
-		relShowdownProb[5585] = 1.164556F;
-		relShowdownProb[5586] = 1.3054297F;
-		relShowdownProb[5587] = 1.2125574F;
-		relShowdownProb[5588] = 1.7152442F;
-		relShowdownProb[5594] = 0.5259285F;
-		relShowdownProb[5597] = 0.5259285F;
-		relShowdownProb[5598] = 0.8765475F;
-		relShowdownProb[5601] = 1.8407499F;
-		relShowdownProb[5602] = 0.43827376F;
-		relShowdownProb[5603] = 0.7888928F;
-		relShowdownProb[5606] = 0.5259285F;
-		relShowdownProb[5607] = 0.61358327F;
-		relShowdownProb[5608] = 0.8765475F;
-		relShowdownProb[5609] = 0.5785214F;
-		relShowdownProb[5612] = 0.26296425F;
-		relShowdownProb[5613] = 0.9642023F;
-		relShowdownProb[5614] = 0.5259285F;
-		relShowdownProb[5615] = 0.76259637F;
-		relShowdownProb[5616] = 0.9116094F;
-		relShowdownProb[5619] = 0.5259285F;
-		relShowdownProb[5620] = 0.7888928F;
-		relShowdownProb[5621] = 0.7888928F;
-		relShowdownProb[5622] = 0.6574106F;
-		relShowdownProb[5623] = 0.7888928F;
-		relShowdownProb[5624] = 0.9072267F;
-		relShowdownProb[5627] = 1.3148212F;
-		relShowdownProb[5628] = 0.35061902F;
-		relShowdownProb[5629] = 0.8765475F;
-		relShowdownProb[5630] = 0.76259637F;
-		relShowdownProb[5631] = 0.8765475F;
-		relShowdownProb[5632] = 0.8264591F;
-		relShowdownProb[5633] = 1.2174271F;
-		relShowdownProb[5636] = 1.051857F;
-		relShowdownProb[5637] = 1.1395118F;
-		relShowdownProb[5638] = 0.6574106F;
-		relShowdownProb[5639] = 0.86778206F;
-		relShowdownProb[5640] = 0.68370706F;
-		relShowdownProb[5641] = 0.76384854F;
-		relShowdownProb[5642] = 1.2396886F;
-		relShowdownProb[5643] = 1.2321754F;
-		relShowdownProb[5646] = 0.7888928F;
-		relShowdownProb[5647] = 0.70123804F;
-		relShowdownProb[5648] = 0.7888928F;
-		relShowdownProb[5649] = 0.68370706F;
-		relShowdownProb[5650] = 1.1570427F;
-		relShowdownProb[5651] = 0.926636F;
-		relShowdownProb[5652] = 1.0800318F;
-		relShowdownProb[5653] = 1.3440396F;
-		relShowdownProb[5654] = 1.3447036F;
-		relShowdownProb[5660] = 0.5259285F;
-		relShowdownProb[5663] = 0.26296425F;
-		relShowdownProb[5664] = 0.7888928F;
-		relShowdownProb[5667] = 0.26296425F;
-		relShowdownProb[5668] = 0.35061902F;
-		relShowdownProb[5669] = 0.7888928F;
-		relShowdownProb[5672] = 0.7888928F;
-		relShowdownProb[5673] = 0.5259285F;
-		relShowdownProb[5674] = 1.051857F;
-		relShowdownProb[5675] = 0.68370706F;
-		relShowdownProb[5678] = 0.5259285F;
-		relShowdownProb[5679] = 0.61358327F;
-		relShowdownProb[5680] = 0.6574106F;
-		relShowdownProb[5681] = 0.8151892F;
-		relShowdownProb[5682] = 0.7713618F;
-		relShowdownProb[5685] = 0.5259285F;
-		relShowdownProb[5686] = 0.43827376F;
-		relShowdownProb[5687] = 0.6574106F;
-		relShowdownProb[5688] = 0.6048178F;
-		relShowdownProb[5689] = 0.8765475F;
-		relShowdownProb[5690] = 1.0142907F;
-		relShowdownProb[5693] = 0.7888928F;
-		relShowdownProb[5694] = 1.2271665F;
-		relShowdownProb[5695] = 0.83272016F;
-		relShowdownProb[5696] = 0.8151892F;
-		relShowdownProb[5697] = 0.8590166F;
-		relShowdownProb[5698] = 0.7888928F;
-		relShowdownProb[5699] = 1.00316F;
-		relShowdownProb[5702] = 0.7888928F;
-		relShowdownProb[5703] = 0.70123804F;
-		relShowdownProb[5704] = 0.83272016F;
-		relShowdownProb[5705] = 0.8414856F;
-		relShowdownProb[5706] = 0.8239547F;
-		relShowdownProb[5707] = 0.926636F;
-		relShowdownProb[5708] = 1.2209055F;
-		relShowdownProb[5709] = 1.2772549F;
-		relShowdownProb[5712] = 1.5777856F;
-		relShowdownProb[5713] = 0.61358327F;
-		relShowdownProb[5714] = 1.1833391F;
-		relShowdownProb[5715] = 0.6574106F;
-		relShowdownProb[5716] = 0.8590166F;
-		relShowdownProb[5717] = 1.051857F;
-		relShowdownProb[5718] = 1.4275203F;
-		relShowdownProb[5719] = 1.336735F;
-		relShowdownProb[5720] = 1.6136444F;
-		relShowdownProb[5726] = 2.103714F;
-		relShowdownProb[5729] = 0.5259285F;
-		relShowdownProb[5730] = 0.9642023F;
-		relShowdownProb[5733] = 0.26296425F;
-		relShowdownProb[5734] = 0.70123804F;
-		relShowdownProb[5735] = 0.7888928F;
-		relShowdownProb[5738] = 1.051857F;
-		relShowdownProb[5739] = 0.7888928F;
-		relShowdownProb[5740] = 1.0956844F;
-		relShowdownProb[5741] = 0.55222493F;
-		relShowdownProb[5744] = 0.26296425F;
-		relShowdownProb[5745] = 0.8765475F;
-		relShowdownProb[5746] = 0.70123804F;
-		relShowdownProb[5747] = 0.7888928F;
-		relShowdownProb[5748] = 0.8940785F;
-		relShowdownProb[5751] = 1.051857F;
-		relShowdownProb[5752] = 0.5259285F;
-		relShowdownProb[5753] = 0.48210114F;
-		relShowdownProb[5754] = 0.7100035F;
-		relShowdownProb[5755] = 1.3498832F;
-		relShowdownProb[5756] = 0.76384854F;
-		relShowdownProb[5760] = 1.1395118F;
-		relShowdownProb[5761] = 0.8765475F;
-		relShowdownProb[5762] = 0.55222493F;
-		relShowdownProb[5763] = 0.9116094F;
-		relShowdownProb[5764] = 0.9767244F;
-		relShowdownProb[5765] = 1.1739476F;
-		relShowdownProb[5768] = 0.7888928F;
-		relShowdownProb[5769] = 1.1395118F;
-		relShowdownProb[5770] = 0.7450654F;
-		relShowdownProb[5771] = 0.86778206F;
-		relShowdownProb[5772] = 0.98173326F;
-		relShowdownProb[5773] = 1.0142907F;
-		relShowdownProb[5774] = 1.1739476F;
-		relShowdownProb[5775] = 1.3373611F;
-		relShowdownProb[5778] = 1.5777856F;
-		relShowdownProb[5779] = 0.8765475F;
-		relShowdownProb[5780] = 0.5259285F;
-		relShowdownProb[5781] = 0.94667137F;
-		relShowdownProb[5782] = 1.0343261F;
-		relShowdownProb[5783] = 0.9391581F;
-		relShowdownProb[5784] = 1.4087371F;
-		relShowdownProb[5785] = 1.4755217F;
-		relShowdownProb[5786] = 1.6196208F;
-		relShowdownProb[5795] = 0.26296425F;
-		relShowdownProb[5796] = 1.753095F;
-		relShowdownProb[5799] = 1.3148212F;
-		relShowdownProb[5800] = 1.4024761F;
-		relShowdownProb[5801] = 1.0956844F;
-		relShowdownProb[5804] = 1.051857F;
-		relShowdownProb[5805] = 1.1395118F;
-		relShowdownProb[5806] = 1.5339582F;
-		relShowdownProb[5807] = 1.5251927F;
-		relShowdownProb[5810] = 1.5777856F;
-		relShowdownProb[5811] = 1.3148212F;
-		relShowdownProb[5812] = 1.0956844F;
-		relShowdownProb[5813] = 1.2096356F;
-		relShowdownProb[5814] = 1.3849452F;
-		relShowdownProb[5817] = 2.103714F;
-		relShowdownProb[5818] = 1.5777856F;
-		relShowdownProb[5819] = 1.753095F;
-		relShowdownProb[5820] = 0.94667137F;
-		relShowdownProb[5821] = 1.5251927F;
-		relShowdownProb[5822] = 1.4024761F;
-		relShowdownProb[5825] = 2.103714F;
-		relShowdownProb[5826] = 1.8407499F;
-		relShowdownProb[5827] = 1.0080297F;
-		relShowdownProb[5828] = 1.1833391F;
-		relShowdownProb[5829] = 1.1044499F;
-		relShowdownProb[5830] = 1.164556F;
-		relShowdownProb[5831] = 1.3148212F;
-		relShowdownProb[5834] = 1.051857F;
-		relShowdownProb[5835] = 1.4901308F;
-		relShowdownProb[5836] = 1.051857F;
-		relShowdownProb[5837] = 0.97296774F;
-		relShowdownProb[5838] = 1.3148212F;
-		relShowdownProb[5839] = 1.3148212F;
-		relShowdownProb[5840] = 1.1739476F;
-		relShowdownProb[5841] = 1.4682171F;
-		relShowdownProb[5844] = 1.3148212F;
-		relShowdownProb[5845] = 1.6654403F;
-		relShowdownProb[5846] = 1.972232F;
-		relShowdownProb[5847] = 1.1044499F;
-		relShowdownProb[5848] = 1.2797594F;
-		relShowdownProb[5849] = 1.5903077F;
-		relShowdownProb[5850] = 1.3711708F;
-		relShowdownProb[5851] = 1.7165723F;
-		relShowdownProb[5852] = 1.8048911F;
-		relShowdownProb[5853] = 0.78130484F;
-		relShowdownProb[5854] = 0.567901F;
-		relShowdownProb[5855] = 0.6309521F;
-		relShowdownProb[5856] = 0.6873895F;
-		relShowdownProb[5857] = 0.77469105F;
-		relShowdownProb[5858] = 0.8350967F;
-		relShowdownProb[5859] = 0.88315666F;
-		relShowdownProb[5860] = 0.9642854F;
-		relShowdownProb[5861] = 0.9942677F;
-		relShowdownProb[5862] = 1.2164278F;
-		relShowdownProb[5863] = 0.4489201F;
-		relShowdownProb[5864] = 0.4489201F;
-		relShowdownProb[5865] = 0.8978402F;
-		relShowdownProb[5866] = 0.71827215F;
-		relShowdownProb[5867] = 0.9876242F;
-		relShowdownProb[5868] = 0.71827215F;
-		relShowdownProb[5869] = 0.8978402F;
-		relShowdownProb[5870] = 0.8978402F;
-		relShowdownProb[5871] = 0.9876242F;
-		relShowdownProb[5872] = 0.35913607F;
-		relShowdownProb[5873] = 1.0774082F;
-		relShowdownProb[5874] = 1.3467603F;
-		relShowdownProb[5875] = 0.4264741F;
-		relShowdownProb[5876] = 0.5387041F;
-		relShowdownProb[5877] = 0.9876242F;
-		relShowdownProb[5878] = 0.68235856F;
-		relShowdownProb[5879] = 0.8978402F;
-		relShowdownProb[5880] = 1.7911912F;
-		relShowdownProb[5881] = 0.35913607F;
-		relShowdownProb[5882] = 0.71827215F;
-		relShowdownProb[5883] = 0.8080562F;
-		relShowdownProb[5884] = 0.71827215F;
-		relShowdownProb[5885] = 0.8978402F;
-		relShowdownProb[5886] = 0.71827215F;
-		relShowdownProb[5887] = 0.5387041F;
-		relShowdownProb[5888] = 0.4489201F;
-		relShowdownProb[5889] = 1.6206015F;
-		relShowdownProb[5890] = 0.9876242F;
-		relShowdownProb[5891] = 0.26935205F;
-		relShowdownProb[5892] = 0.938243F;
-		relShowdownProb[5893] = 0.5387041F;
-		relShowdownProb[5894] = 0.5117689F;
-		relShowdownProb[5895] = 1.2794223F;
-		relShowdownProb[5896] = 0.8080562F;
-		relShowdownProb[5897] = 0.71827215F;
-		relShowdownProb[5898] = 0.71827215F;
-		relShowdownProb[5899] = 1.1088326F;
-		relShowdownProb[5900] = 0.5387041F;
-		relShowdownProb[5901] = 1.2569762F;
-		relShowdownProb[5902] = 1.3647171F;
-		relShowdownProb[5903] = 0.5387041F;
-		relShowdownProb[5904] = 0.5117689F;
-		relShowdownProb[5905] = 0.64986527F;
-		relShowdownProb[5906] = 0.8978402F;
-		relShowdownProb[5907] = 0.8978402F;
-		relShowdownProb[5908] = 0.68235856F;
-		relShowdownProb[5909] = 1.0774082F;
-		relShowdownProb[5910] = 0.938243F;
-		relShowdownProb[5911] = 1.0547433F;
-		relShowdownProb[5912] = 0.9876242F;
-		relShowdownProb[5913] = 0.76765335F;
-		relShowdownProb[5914] = 1.4604137F;
-		relShowdownProb[5915] = 0.71827215F;
-		relShowdownProb[5916] = 0.26935205F;
-		relShowdownProb[5917] = 0.6284881F;
-		relShowdownProb[5918] = 0.6284881F;
-		relShowdownProb[5919] = 0.4489201F;
-		relShowdownProb[5920] = 0.6284881F;
-		relShowdownProb[5921] = 0.4489201F;
-		relShowdownProb[5922] = 0.71827215F;
-		relShowdownProb[5923] = 0.68235856F;
-		relShowdownProb[5924] = 0.71827215F;
-		relShowdownProb[5925] = 1.3467603F;
-		relShowdownProb[5926] = 1.0235378F;
-		relShowdownProb[5927] = 0.8080562F;
-		relShowdownProb[5928] = 1.0235378F;
-		relShowdownProb[5929] = 0.76765335F;
-		relShowdownProb[5930] = 0.71827215F;
-		relShowdownProb[5931] = 1.1671922F;
-		relShowdownProb[5932] = 0.8080562F;
-		relShowdownProb[5933] = 0.76765335F;
-		relShowdownProb[5934] = 0.9876242F;
-		relShowdownProb[5935] = 0.4489201F;
-		relShowdownProb[5936] = 1.2794223F;
-		relShowdownProb[5937] = 0.6284881F;
-		relShowdownProb[5938] = 1.1941274F;
-		relShowdownProb[5939] = 1.1372643F;
-		relShowdownProb[5940] = 2.0650325F;
-		relShowdownProb[5941] = 0.9876242F;
-		relShowdownProb[5942] = 1.0235378F;
-		relShowdownProb[5943] = 0.6284881F;
-		relShowdownProb[5944] = 0.8529482F;
-		relShowdownProb[5945] = 1.2170115F;
-		relShowdownProb[5946] = 0.6284881F;
-		relShowdownProb[5947] = 0.76765335F;
-		relShowdownProb[5948] = 0.64907277F;
-		relShowdownProb[5949] = 1.1358774F;
-		relShowdownProb[5950] = 0.9876242F;
-		relShowdownProb[5951] = 0.71827215F;
-		relShowdownProb[5952] = 0.9876242F;
-		relShowdownProb[5953] = 0.76765335F;
-		relShowdownProb[5954] = 0.5387041F;
-		relShowdownProb[5955] = 0.71827215F;
-		relShowdownProb[5956] = 1.0235378F;
-		relShowdownProb[5957] = 0.6284881F;
-		relShowdownProb[5958] = 1.0235378F;
-		relShowdownProb[5959] = 1.7058964F;
-		relShowdownProb[5960] = 0.71827215F;
-		relShowdownProb[5961] = 0.6284881F;
-		relShowdownProb[5962] = 0.8529482F;
-		relShowdownProb[5963] = 1.1671922F;
-		relShowdownProb[5964] = 1.2794223F;
-		relShowdownProb[5965] = 0.73020685F;
-		relShowdownProb[5966] = 0.6284881F;
-		relShowdownProb[5967] = 0.8529482F;
-		relShowdownProb[5968] = 1.1358774F;
-		relShowdownProb[5969] = 1.85665F;
-		relShowdownProb[5970] = 0.9876242F;
-		relShowdownProb[5971] = 0.4489201F;
-		relShowdownProb[5972] = 1.0235378F;
-		relShowdownProb[5973] = 0.9876242F;
-		relShowdownProb[5974] = 0.938243F;
-		relShowdownProb[5975] = 1.4604137F;
-		relShowdownProb[5976] = 0.8978402F;
-		relShowdownProb[5977] = 0.68235856F;
-		relShowdownProb[5978] = 1.7849501F;
-		relShowdownProb[5979] = 1.6226819F;
-		relShowdownProb[5980] = 0.8978402F;
-		relShowdownProb[5981] = 1.4500118F;
-		relShowdownProb[5982] = 0.40567046F;
-		relShowdownProb[5983] = 1.4681407F;
-		relShowdownProb[5984] = 0.4489201F;
-		relShowdownProb[5985] = 0.71827215F;
-		relShowdownProb[5986] = 0.71827215F;
-		relShowdownProb[5987] = 0.9876242F;
-		relShowdownProb[5988] = 0.71827215F;
-		relShowdownProb[5989] = 0.4489201F;
-		relShowdownProb[5990] = 0.71827215F;
-		relShowdownProb[5991] = 1.7058964F;
-		relShowdownProb[5992] = 0.938243F;
-		relShowdownProb[5993] = 0.5387041F;
-		relShowdownProb[5994] = 0.9876242F;
-		relShowdownProb[5995] = 0.76765335F;
-		relShowdownProb[5996] = 0.9876242F;
-		relShowdownProb[5997] = 1.0235378F;
-		relShowdownProb[5998] = 1.1941274F;
-		relShowdownProb[5999] = 0.71827215F;
-		relShowdownProb[6000] = 0.71827215F;
-		relShowdownProb[6001] = 0.8978402F;
-		relShowdownProb[6002] = 0.938243F;
-		relShowdownProb[6003] = 0.6284881F;
-		relShowdownProb[6004] = 1.2569762F;
-		relShowdownProb[6005] = 0.76765335F;
-		relShowdownProb[6006] = 0.71827215F;
-		relShowdownProb[6007] = 0.8529482F;
-		relShowdownProb[6008] = 1.1372643F;
-		relShowdownProb[6009] = 0.8978402F;
-		relShowdownProb[6010] = 0.6284881F;
-		relShowdownProb[6011] = 0.938243F;
-		relShowdownProb[6012] = 0.8978402F;
-		relShowdownProb[6013] = 0.4264741F;
-		relShowdownProb[6014] = 1.0547433F;
-		relShowdownProb[6015] = 1.0774082F;
-		relShowdownProb[6016] = 0.8529482F;
-		relShowdownProb[6017] = 0.5679387F;
-		relShowdownProb[6018] = 0.64907277F;
-		relShowdownProb[6019] = 0.9876242F;
-		relShowdownProb[6020] = 0.71827215F;
-		relShowdownProb[6021] = 0.9876242F;
-		relShowdownProb[6022] = 1.0235378F;
-		relShowdownProb[6023] = 0.8080562F;
-		relShowdownProb[6024] = 1.1671922F;
-		relShowdownProb[6025] = 0.938243F;
-		relShowdownProb[6026] = 2.0650325F;
-		relShowdownProb[6027] = 0.68235856F;
-		relShowdownProb[6028] = 0.89356476F;
-		relShowdownProb[6029] = 0.6284881F;
-		relShowdownProb[6030] = 0.6284881F;
-		relShowdownProb[6031] = 0.8529482F;
-		relShowdownProb[6032] = 0.8080562F;
-		relShowdownProb[6033] = 0.76765335F;
-		relShowdownProb[6034] = 0.8113409F;
-		relShowdownProb[6035] = 0.71827215F;
-		relShowdownProb[6036] = 0.34117928F;
-		relShowdownProb[6037] = 1.5415478F;
-		relShowdownProb[6038] = 1.7019292F;
-		relShowdownProb[6039] = 0.9876242F;
-		relShowdownProb[6040] = 0.8080562F;
-		relShowdownProb[6041] = 0.76765335F;
-		relShowdownProb[6042] = 0.71827215F;
-		relShowdownProb[6043] = 0.68235856F;
-		relShowdownProb[6044] = 0.73020685F;
-		relShowdownProb[6045] = 1.1671922F;
-		relShowdownProb[6046] = 1.0235378F;
-		relShowdownProb[6047] = 1.1358774F;
-		relShowdownProb[6048] = 1.2363291F;
-		relShowdownProb[6049] = 1.1671922F;
-		relShowdownProb[6050] = 1.3647171F;
-		relShowdownProb[6051] = 0.97360915F;
-		relShowdownProb[6052] = 1.1590585F;
-		relShowdownProb[6053] = 1.1590585F;
-		relShowdownProb[6054] = 0.8080562F;
-		relShowdownProb[6055] = 0.6284881F;
-		relShowdownProb[6056] = 0.6284881F;
-		relShowdownProb[6057] = 1.1941274F;
-		relShowdownProb[6058] = 0.4489201F;
-		relShowdownProb[6059] = 0.9876242F;
-		relShowdownProb[6060] = 0.5970637F;
-		relShowdownProb[6061] = 0.6284881F;
-		relShowdownProb[6062] = 1.1088326F;
-		relShowdownProb[6063] = 0.7310984F;
-		relShowdownProb[6064] = 0.71827215F;
-		relShowdownProb[6065] = 0.9876242F;
-		relShowdownProb[6066] = 1.3647171F;
-		relShowdownProb[6067] = 0.35913607F;
-		relShowdownProb[6068] = 0.76765335F;
-		relShowdownProb[6069] = 0.89247507F;
-		relShowdownProb[6070] = 1.0774082F;
-		relShowdownProb[6071] = 1.0235378F;
-		relShowdownProb[6072] = 1.3792796F;
-		relShowdownProb[6073] = 1.3924875F;
-		relShowdownProb[6074] = 1.2569762F;
-		relShowdownProb[6075] = 0.5387041F;
-		relShowdownProb[6076] = 0.938243F;
-		relShowdownProb[6077] = 0.9876242F;
-		relShowdownProb[6078] = 0.5970637F;
-		relShowdownProb[6079] = 1.4604137F;
-		relShowdownProb[6080] = 1.4365443F;
-		relShowdownProb[6081] = 0.8529482F;
-		relShowdownProb[6082] = 1.3792796F;
-		relShowdownProb[6083] = 1.6999525F;
-		relShowdownProb[6084] = 1.0774082F;
-		relShowdownProb[6085] = 1.3647171F;
-		relShowdownProb[6086] = 0.97360915F;
-		relShowdownProb[6087] = 1.1590585F;
-		relShowdownProb[6088] = 0.88509923F;
-		relShowdownProb[6089] = 1.0774082F;
-		relShowdownProb[6090] = 0.9876242F;
-		relShowdownProb[6091] = 1.1088326F;
-		relShowdownProb[6092] = 0.9876242F;
-		relShowdownProb[6093] = 1.1088326F;
-		relShowdownProb[6094] = 1.1358774F;
-		relShowdownProb[6095] = 1.3467603F;
-		relShowdownProb[6096] = 1.2794223F;
-		relShowdownProb[6097] = 0.97360915F;
-		relShowdownProb[6098] = 1.3135996F;
-		relShowdownProb[6099] = 1.4365443F;
-		relShowdownProb[6100] = 1.1088326F;
-		relShowdownProb[6101] = 1.6226819F;
-		relShowdownProb[6102] = 1.081788F;
-		relShowdownProb[6103] = 1.1051488F;
-		relShowdownProb[6104] = 0.8080562F;
-		relShowdownProb[6105] = 1.876486F;
-		relShowdownProb[6106] = 0.5679387F;
-		relShowdownProb[6107] = 0.9272468F;
-		relShowdownProb[6108] = 1.0314722F;
-		relShowdownProb[6109] = 1.0774082F;
-		relShowdownProb[6110] = 0.71827215F;
-		relShowdownProb[6111] = 0.8080562F;
-		relShowdownProb[6112] = 0.8978402F;
-		relShowdownProb[6113] = 0.9876242F;
-		relShowdownProb[6114] = 0.8978402F;
-		relShowdownProb[6115] = 0.9876242F;
-		relShowdownProb[6116] = 0.8080562F;
-		relShowdownProb[6117] = 1.0235378F;
-		relShowdownProb[6118] = 0.8978402F;
-		relShowdownProb[6119] = 0.35913607F;
-		relShowdownProb[6120] = 1.0235378F;
-		relShowdownProb[6121] = 0.9876242F;
-		relShowdownProb[6122] = 1.1088326F;
-		relShowdownProb[6123] = 1.1941274F;
-		relShowdownProb[6124] = 0.8080562F;
-		relShowdownProb[6125] = 0.4489201F;
-		relShowdownProb[6126] = 0.6284881F;
-		relShowdownProb[6127] = 0.68235856F;
-		relShowdownProb[6128] = 0.71827215F;
-		relShowdownProb[6129] = 0.6284881F;
-		relShowdownProb[6130] = 1.1941274F;
-		relShowdownProb[6131] = 0.8978402F;
-		relShowdownProb[6132] = 0.76765335F;
-		relShowdownProb[6133] = 1.2997305F;
-		relShowdownProb[6134] = 1.2569762F;
-		relShowdownProb[6135] = 0.6284881F;
-		relShowdownProb[6136] = 0.8529482F;
-		relShowdownProb[6137] = 0.5387041F;
-		relShowdownProb[6138] = 0.68235856F;
-		relShowdownProb[6139] = 1.5415478F;
-		relShowdownProb[6140] = 0.71827215F;
-		relShowdownProb[6141] = 0.76765335F;
-		relShowdownProb[6142] = 1.2981455F;
-		relShowdownProb[6143] = 1.3792796F;
-		relShowdownProb[6144] = 0.8080562F;
-		relShowdownProb[6145] = 1.1671922F;
-		relShowdownProb[6146] = 0.6284881F;
-		relShowdownProb[6147] = 0.8529482F;
-		relShowdownProb[6148] = 0.6284881F;
-		relShowdownProb[6149] = 0.26935205F;
-		relShowdownProb[6150] = 0.68235856F;
-		relShowdownProb[6151] = 0.71827215F;
-		relShowdownProb[6152] = 1.0235378F;
-		relShowdownProb[6153] = 1.2997305F;
-		relShowdownProb[6154] = 0.6284881F;
-		relShowdownProb[6155] = 0.4489201F;
-		relShowdownProb[6156] = 0.34117928F;
-		relShowdownProb[6157] = 0.9876242F;
-		relShowdownProb[6158] = 1.0235378F;
-		relShowdownProb[6159] = 1.2170115F;
-		relShowdownProb[6160] = 0.8978402F;
-		relShowdownProb[6161] = 1.9617808F;
-		relShowdownProb[6162] = 1.2981455F;
-		relShowdownProb[6163] = 1.1604062F;
-		relShowdownProb[6164] = 0.9876242F;
-		relShowdownProb[6165] = 0.6284881F;
-		relShowdownProb[6166] = 0.5970637F;
-		relShowdownProb[6167] = 0.35913607F;
-		relShowdownProb[6168] = 1.0235378F;
-		relShowdownProb[6169] = 1.1358774F;
-		relShowdownProb[6170] = 0.5387041F;
-		relShowdownProb[6171] = 1.1088326F;
-		relShowdownProb[6172] = 0.97360915F;
-		relShowdownProb[6173] = 1.081788F;
-		relShowdownProb[6174] = 1.0774082F;
-		relShowdownProb[6175] = 1.3647171F;
-		relShowdownProb[6176] = 0.64907277F;
-		relShowdownProb[6177] = 1.3135996F;
-		relShowdownProb[6178] = 1.3908702F;
-		relShowdownProb[6179] = 0.4489201F;
-		relShowdownProb[6180] = 0.4489201F;
-		relShowdownProb[6181] = 1.0774082F;
-		relShowdownProb[6182] = 0.8529482F;
-		relShowdownProb[6183] = 0.4489201F;
-		relShowdownProb[6184] = 0.71827215F;
-		relShowdownProb[6185] = 0.34117928F;
-		relShowdownProb[6186] = 0.8080562F;
-		relShowdownProb[6187] = 0.5117689F;
-		relShowdownProb[6188] = 1.1372643F;
-		relShowdownProb[6189] = 0.8978402F;
-		relShowdownProb[6190] = 0.35913607F;
-		relShowdownProb[6191] = 0.938243F;
-		relShowdownProb[6192] = 0.71827215F;
-		relShowdownProb[6193] = 0.68235856F;
-		relShowdownProb[6194] = 0.97360915F;
-		relShowdownProb[6195] = 0.8080562F;
-		relShowdownProb[6196] = 1.4500118F;
-		relShowdownProb[6197] = 0.8113409F;
-		relShowdownProb[6198] = 1.4698479F;
-		relShowdownProb[6199] = 0.35913607F;
-		relShowdownProb[6200] = 1.1671922F;
-		relShowdownProb[6201] = 0.5970637F;
-		relShowdownProb[6202] = 0.35913607F;
-		relShowdownProb[6203] = 0.8529482F;
-		relShowdownProb[6204] = 1.2170115F;
-		relShowdownProb[6205] = 0.26935205F;
-		relShowdownProb[6206] = 0.76765335F;
-		relShowdownProb[6207] = 0.97360915F;
-		relShowdownProb[6208] = 1.3135996F;
-		relShowdownProb[6209] = 1.5263283F;
-		relShowdownProb[6210] = 1.1088326F;
-		relShowdownProb[6211] = 0.89247507F;
-		relShowdownProb[6212] = 1.3908702F;
-		relShowdownProb[6213] = 1.3276489F;
-		relShowdownProb[6214] = 1.3467603F;
-		relShowdownProb[6215] = 0.8080562F;
-		relShowdownProb[6216] = 0.8529482F;
-		relShowdownProb[6217] = 1.4365443F;
-		relShowdownProb[6218] = 1.2794223F;
-		relShowdownProb[6219] = 0.8113409F;
-		relShowdownProb[6220] = 0.8080562F;
-		relShowdownProb[6221] = 0.76765335F;
-		relShowdownProb[6222] = 1.3792796F;
-		relShowdownProb[6223] = 1.2363291F;
-		relShowdownProb[6224] = 0.9876242F;
-		relShowdownProb[6225] = 1.2794223F;
-		relShowdownProb[6226] = 0.97360915F;
-		relShowdownProb[6227] = 1.3135996F;
-		relShowdownProb[6228] = 1.3998551F;
-		relShowdownProb[6229] = 1.0774082F;
-		relShowdownProb[6230] = 0.76765335F;
-		relShowdownProb[6231] = 1.1358774F;
-		relShowdownProb[6232] = 1.6226819F;
-		relShowdownProb[6233] = 1.3261786F;
-		relShowdownProb[6234] = 1.0314722F;
-		relShowdownProb[6235] = 1.0774082F;
-		relShowdownProb[6236] = 0.8080562F;
-		relShowdownProb[6237] = 1.2569762F;
-		relShowdownProb[6238] = 0.5117689F;
-		relShowdownProb[6239] = 0.71827215F;
-		relShowdownProb[6240] = 0.71827215F;
-		relShowdownProb[6241] = 0.76765335F;
-		relShowdownProb[6242] = 0.5387041F;
-		relShowdownProb[6243] = 0.938243F;
-		relShowdownProb[6244] = 1.0560311F;
-		relShowdownProb[6245] = 0.8080562F;
-		relShowdownProb[6246] = 0.5387041F;
-		relShowdownProb[6247] = 1.3647171F;
-		relShowdownProb[6248] = 0.5387041F;
-		relShowdownProb[6249] = 2.0470755F;
-		relShowdownProb[6250] = 0.97360915F;
-		relShowdownProb[6251] = 1.2569762F;
-		relShowdownProb[6252] = 0.68235856F;
-		relShowdownProb[6253] = 0.8113409F;
-		relShowdownProb[6254] = 1.0056854F;
-		relShowdownProb[6255] = 0.71827215F;
-		relShowdownProb[6256] = 0.35913607F;
-		relShowdownProb[6257] = 0.5117689F;
-		relShowdownProb[6258] = 1.0774082F;
-		relShowdownProb[6259] = 0.938243F;
-		relShowdownProb[6260] = 0.97360915F;
-		relShowdownProb[6261] = 0.6284881F;
-		relShowdownProb[6262] = 0.68235856F;
-		relShowdownProb[6263] = 1.2981455F;
-		relShowdownProb[6264] = 1.4681407F;
-		relShowdownProb[6265] = 0.8080562F;
-		relShowdownProb[6266] = 1.0235378F;
-		relShowdownProb[6267] = 0.89247507F;
-		relShowdownProb[6268] = 1.2363291F;
-		relShowdownProb[6269] = 1.3276489F;
-		relShowdownProb[6270] = 1.3467603F;
-		relShowdownProb[6271] = 0.8978402F;
-		relShowdownProb[6272] = 0.5117689F;
-		relShowdownProb[6273] = 0.8978402F;
-		relShowdownProb[6274] = 1.1941274F;
-		relShowdownProb[6275] = 0.89247507F;
-		relShowdownProb[6276] = 0.5387041F;
-		relShowdownProb[6277] = 1.1941274F;
-		relShowdownProb[6278] = 1.9472183F;
-		relShowdownProb[6279] = 1.8544936F;
-		relShowdownProb[6280] = 1.0774082F;
-		relShowdownProb[6281] = 1.1088326F;
-		relShowdownProb[6282] = 1.2170115F;
-		relShowdownProb[6283] = 1.3908702F;
-		relShowdownProb[6284] = 1.0314722F;
-		relShowdownProb[6285] = 0.9876242F;
-		relShowdownProb[6286] = 1.3647171F;
-		relShowdownProb[6287] = 0.8113409F;
-		relShowdownProb[6288] = 0.9272468F;
-		relShowdownProb[6289] = 1.3261786F;
-		relShowdownProb[6290] = 1.7600518F;
-		relShowdownProb[6291] = 1.2569762F;
-		relShowdownProb[6292] = 0.35913607F;
-		relShowdownProb[6293] = 1.3647171F;
-		relShowdownProb[6294] = 0.8978402F;
-		relShowdownProb[6295] = 1.4500118F;
-		relShowdownProb[6296] = 1.0547433F;
-		relShowdownProb[6297] = 0.5387041F;
-		relShowdownProb[6298] = 1.2794223F;
-		relShowdownProb[6299] = 0.73020685F;
-		relShowdownProb[6300] = 2.0863054F;
-		relShowdownProb[6301] = 0.71827215F;
-		relShowdownProb[6302] = 0.8529482F;
-		relShowdownProb[6303] = 0.73020685F;
-		relShowdownProb[6304] = 1.8544936F;
-		relShowdownProb[6305] = 1.3261786F;
-		relShowdownProb[6306] = 1.1671922F;
-		relShowdownProb[6307] = 1.2794223F;
-		relShowdownProb[6308] = 1.4604137F;
-		relShowdownProb[6309] = 0.9272468F;
-		relShowdownProb[6310] = 1.0314722F;
-		relShowdownProb[6311] = 1.1955701F;
-		relShowdownProb[6312] = 0.9876242F;
-		relShowdownProb[6313] = 0.938243F;
-		relShowdownProb[6314] = 0.73020685F;
-		relShowdownProb[6315] = 2.0863054F;
-		relShowdownProb[6316] = 1.6945615F;
-		relShowdownProb[6317] = 1.2658978F;
-		relShowdownProb[6318] = 0.71827215F;
-		relShowdownProb[6319] = 0.8978402F;
-		relShowdownProb[6320] = 0.8080562F;
-		relShowdownProb[6321] = 0.71827215F;
-		relShowdownProb[6322] = 0.8080562F;
-		relShowdownProb[6323] = 0.71827215F;
-		relShowdownProb[6324] = 0.9876242F;
-		relShowdownProb[6325] = 1.0774082F;
-		relShowdownProb[6326] = 0.8529482F;
-		relShowdownProb[6327] = 0.5387041F;
-		relShowdownProb[6328] = 1.0774082F;
-		relShowdownProb[6329] = 0.76765335F;
-		relShowdownProb[6330] = 0.71827215F;
-		relShowdownProb[6331] = 0.68235856F;
-		relShowdownProb[6332] = 0.938243F;
-		relShowdownProb[6333] = 0.9876242F;
-		relShowdownProb[6334] = 1.2569762F;
-		relShowdownProb[6335] = 0.8080562F;
-		relShowdownProb[6336] = 0.938243F;
-		relShowdownProb[6337] = 0.71827215F;
-		relShowdownProb[6338] = 0.8080562F;
-		relShowdownProb[6339] = 0.5117689F;
-		relShowdownProb[6340] = 0.6284881F;
-		relShowdownProb[6341] = 0.34117928F;
-		relShowdownProb[6342] = 1.2184974F;
-		relShowdownProb[6343] = 1.1671922F;
-		relShowdownProb[6344] = 0.8978402F;
-		relShowdownProb[6345] = 0.4264741F;
-		relShowdownProb[6346] = 1.3467603F;
-		relShowdownProb[6347] = 0.68235856F;
-		relShowdownProb[6348] = 1.4604137F;
-		relShowdownProb[6349] = 0.71827215F;
-		relShowdownProb[6350] = 0.8529482F;
-		relShowdownProb[6351] = 0.89247507F;
-		relShowdownProb[6352] = 0.89247507F;
-		relShowdownProb[6353] = 0.71827215F;
-		relShowdownProb[6354] = 0.8978402F;
-		relShowdownProb[6355] = 1.1671922F;
-		relShowdownProb[6356] = 0.5117689F;
-		relShowdownProb[6357] = 0.4489201F;
-		relShowdownProb[6358] = 0.6284881F;
-		relShowdownProb[6359] = 0.938243F;
-		relShowdownProb[6360] = 1.1671922F;
-		relShowdownProb[6361] = 0.68235856F;
-		relShowdownProb[6362] = 1.1372643F;
-		relShowdownProb[6363] = 0.6284881F;
-		relShowdownProb[6364] = 0.35913607F;
-		relShowdownProb[6365] = 0.5970637F;
-		relShowdownProb[6366] = 0.6284881F;
-		relShowdownProb[6367] = 0.68235856F;
-		relShowdownProb[6368] = 1.4604137F;
-		relShowdownProb[6369] = 0.6284881F;
-		relShowdownProb[6370] = 1.0235378F;
-		relShowdownProb[6371] = 1.1358774F;
-		relShowdownProb[6372] = 1.4698479F;
-		relShowdownProb[6373] = 1.0774082F;
-		relShowdownProb[6374] = 0.71827215F;
-		relShowdownProb[6375] = 0.8529482F;
-		relShowdownProb[6376] = 0.4489201F;
-		relShowdownProb[6377] = 0.68235856F;
-		relShowdownProb[6378] = 0.89247507F;
-		relShowdownProb[6379] = 0.9876242F;
-		relShowdownProb[6380] = 1.1941274F;
-		relShowdownProb[6381] = 0.89247507F;
-		relShowdownProb[6382] = 0.9272468F;
-		relShowdownProb[6383] = 0.71827215F;
-		relShowdownProb[6384] = 1.1088326F;
-		relShowdownProb[6385] = 1.4604137F;
-		relShowdownProb[6386] = 1.3908702F;
-		relShowdownProb[6387] = 1.1590585F;
-		relShowdownProb[6388] = 0.8978402F;
-		relShowdownProb[6389] = 0.71827215F;
-		relShowdownProb[6390] = 0.9876242F;
-		relShowdownProb[6391] = 0.5970637F;
-		relShowdownProb[6392] = 0.35913607F;
-		relShowdownProb[6393] = 0.6284881F;
-		relShowdownProb[6394] = 0.938243F;
-		relShowdownProb[6395] = 1.7956804F;
-		relShowdownProb[6396] = 0.76765335F;
-		relShowdownProb[6397] = 0.89356476F;
-		relShowdownProb[6398] = 0.26935205F;
-		relShowdownProb[6399] = 1.5263283F;
-		relShowdownProb[6400] = 0.76765335F;
-		relShowdownProb[6401] = 0.71827215F;
-		relShowdownProb[6402] = 0.5117689F;
-		relShowdownProb[6403] = 0.5679387F;
-		relShowdownProb[6404] = 0.6284881F;
-		relShowdownProb[6405] = 0.68235856F;
-		relShowdownProb[6406] = 0.40567046F;
-		relShowdownProb[6407] = 0.928325F;
-		relShowdownProb[6408] = 0.8978402F;
-		relShowdownProb[6409] = 0.8978402F;
-		relShowdownProb[6410] = 0.938243F;
-		relShowdownProb[6411] = 0.4489201F;
-		relShowdownProb[6412] = 0.938243F;
-		relShowdownProb[6413] = 0.40567046F;
-		relShowdownProb[6414] = 1.4365443F;
-		relShowdownProb[6415] = 0.5117689F;
-		relShowdownProb[6416] = 0.89247507F;
-		relShowdownProb[6417] = 0.84997624F;
-		relShowdownProb[6418] = 0.71827215F;
-		relShowdownProb[6419] = 1.0235378F;
-		relShowdownProb[6420] = 1.2170115F;
-		relShowdownProb[6421] = 0.84997624F;
-		relShowdownProb[6422] = 1.106374F;
-		relShowdownProb[6423] = 0.5387041F;
-		relShowdownProb[6424] = 1.4365443F;
-		relShowdownProb[6425] = 1.0235378F;
-		relShowdownProb[6426] = 0.8978402F;
-		relShowdownProb[6427] = 1.0235378F;
-		relShowdownProb[6428] = 1.0547433F;
-		relShowdownProb[6429] = 1.0774082F;
-		relShowdownProb[6430] = 1.2794223F;
-		relShowdownProb[6431] = 1.1358774F;
-		relShowdownProb[6432] = 1.1590585F;
-		relShowdownProb[6433] = 1.0774082F;
-		relShowdownProb[6434] = 0.76765335F;
-		relShowdownProb[6435] = 1.1358774F;
-		relShowdownProb[6436] = 0.6954351F;
-		relShowdownProb[6437] = 0.5894127F;
-		relShowdownProb[6438] = 1.3467603F;
-		relShowdownProb[6439] = 1.1941274F;
-		relShowdownProb[6440] = 1.0547433F;
-		relShowdownProb[6441] = 1.081788F;
-		relShowdownProb[6442] = 1.4735317F;
-		relShowdownProb[6443] = 1.4735317F;
-		relShowdownProb[6444] = 0.8080562F;
-		relShowdownProb[6445] = 1.0774082F;
-		relShowdownProb[6446] = 0.5387041F;
-		relShowdownProb[6447] = 0.938243F;
-		relShowdownProb[6448] = 0.8080562F;
-		relShowdownProb[6449] = 1.0774082F;
-		relShowdownProb[6450] = 0.8529482F;
-		relShowdownProb[6451] = 0.8978402F;
-		relShowdownProb[6452] = 1.1088326F;
-		relShowdownProb[6453] = 1.0560311F;
-		relShowdownProb[6454] = 0.71827215F;
-		relShowdownProb[6455] = 1.2569762F;
-		relShowdownProb[6456] = 0.68235856F;
-		relShowdownProb[6457] = 1.5263283F;
-		relShowdownProb[6458] = 1.1088326F;
-		relShowdownProb[6459] = 1.3792796F;
-		relShowdownProb[6460] = 0.71827215F;
-		relShowdownProb[6461] = 0.76765335F;
-		relShowdownProb[6462] = 0.48680457F;
-		relShowdownProb[6463] = 0.4641625F;
-		relShowdownProb[6464] = 0.8080562F;
-		relShowdownProb[6465] = 1.2569762F;
-		relShowdownProb[6466] = 0.8529482F;
-		relShowdownProb[6467] = 0.5387041F;
-		relShowdownProb[6468] = 0.8529482F;
-		relShowdownProb[6469] = 1.5415478F;
-		relShowdownProb[6470] = 1.1671922F;
-		relShowdownProb[6471] = 1.0235378F;
-		relShowdownProb[6472] = 0.97360915F;
-		relShowdownProb[6473] = 0.61816454F;
-		relShowdownProb[6474] = 1.0774082F;
-		relShowdownProb[6475] = 1.1941274F;
-		relShowdownProb[6476] = 0.73020685F;
-		relShowdownProb[6477] = 0.61816454F;
-		relShowdownProb[6478] = 1.1801323F;
-		relShowdownProb[6479] = 1.2569762F;
-		relShowdownProb[6480] = 0.6284881F;
-		relShowdownProb[6481] = 0.68235856F;
-		relShowdownProb[6482] = 0.5387041F;
-		relShowdownProb[6483] = 0.938243F;
-		relShowdownProb[6484] = 1.1358774F;
-		relShowdownProb[6485] = 0.5387041F;
-		relShowdownProb[6486] = 0.8529482F;
-		relShowdownProb[6487] = 0.89247507F;
-		relShowdownProb[6488] = 1.2363291F;
-		relShowdownProb[6489] = 1.1671922F;
-		relShowdownProb[6490] = 1.1088326F;
-		relShowdownProb[6491] = 0.8113409F;
-		relShowdownProb[6492] = 1.0045173F;
-		relShowdownProb[6493] = 1.4735317F;
-		relShowdownProb[6494] = 1.6161124F;
-		relShowdownProb[6495] = 0.938243F;
-		relShowdownProb[6496] = 1.0547433F;
-		relShowdownProb[6497] = 1.0045173F;
-		relShowdownProb[6498] = 1.1788254F;
-		relShowdownProb[6499] = 1.1968353F;
-		relShowdownProb[6500] = 0.8080562F;
-		relShowdownProb[6501] = 0.71827215F;
-		relShowdownProb[6502] = 1.7911912F;
-		relShowdownProb[6503] = 1.0774082F;
-		relShowdownProb[6504] = 1.0235378F;
-		relShowdownProb[6505] = 1.7038159F;
-		relShowdownProb[6506] = 0.6284881F;
-		relShowdownProb[6507] = 0.938243F;
-		relShowdownProb[6508] = 1.3792796F;
-		relShowdownProb[6509] = 2.0863054F;
-		relShowdownProb[6510] = 0.6284881F;
-		relShowdownProb[6511] = 0.8529482F;
-		relShowdownProb[6512] = 1.2981455F;
-		relShowdownProb[6513] = 1.3135996F;
-		relShowdownProb[6514] = 1.1051488F;
-		relShowdownProb[6515] = 0.5387041F;
-		relShowdownProb[6516] = 1.2794223F;
-		relShowdownProb[6517] = 0.89247507F;
-		relShowdownProb[6518] = 1.3908702F;
-		relShowdownProb[6519] = 1.9892678F;
-		relShowdownProb[6520] = 1.0549147F;
-		relShowdownProb[6521] = 0.8978402F;
-		relShowdownProb[6522] = 1.5353067F;
-		relShowdownProb[6523] = 1.2170115F;
-		relShowdownProb[6524] = 1.2363291F;
-		relShowdownProb[6525] = 0.9577956F;
-		relShowdownProb[6526] = 1.7581912F;
-		relShowdownProb[6527] = 1.617536F;
-		relShowdownProb[6528] = 0.6284881F;
-		relShowdownProb[6529] = 0.8080562F;
-		relShowdownProb[6530] = 0.8978402F;
-		relShowdownProb[6531] = 1.3647171F;
-		relShowdownProb[6532] = 0.8080562F;
-		relShowdownProb[6533] = 0.8080562F;
-		relShowdownProb[6534] = 1.1088326F;
-		relShowdownProb[6535] = 0.6284881F;
-		relShowdownProb[6536] = 1.1941274F;
-		relShowdownProb[6537] = 1.2184974F;
-		relShowdownProb[6538] = 0.8978402F;
-		relShowdownProb[6539] = 0.8978402F;
-		relShowdownProb[6540] = 0.5117689F;
-		relShowdownProb[6541] = 0.6284881F;
-		relShowdownProb[6542] = 0.5970637F;
-		relShowdownProb[6543] = 0.73020685F;
-		relShowdownProb[6544] = 1.4365443F;
-		relShowdownProb[6545] = 1.0235378F;
-		relShowdownProb[6546] = 0.89247507F;
-		relShowdownProb[6547] = 1.315127F;
-		relShowdownProb[6548] = 0.8978402F;
-		relShowdownProb[6549] = 0.6284881F;
-		relShowdownProb[6550] = 1.1088326F;
-		relShowdownProb[6551] = 0.4489201F;
-		relShowdownProb[6552] = 0.76765335F;
-		relShowdownProb[6553] = 1.1358774F;
-		relShowdownProb[6554] = 0.4489201F;
-		relShowdownProb[6555] = 1.5353067F;
-		relShowdownProb[6556] = 0.8113409F;
-		relShowdownProb[6557] = 1.081788F;
-		relShowdownProb[6558] = 0.6284881F;
-		relShowdownProb[6559] = 0.8529482F;
-		relShowdownProb[6560] = 1.2170115F;
-		relShowdownProb[6561] = 1.2363291F;
-		relShowdownProb[6562] = 0.8113409F;
-		relShowdownProb[6563] = 1.0774082F;
-		relShowdownProb[6564] = 0.71827215F;
-		relShowdownProb[6565] = 1.1088326F;
-		relShowdownProb[6566] = 0.8080562F;
-		relShowdownProb[6567] = 0.8529482F;
-		relShowdownProb[6568] = 0.64907277F;
-		relShowdownProb[6569] = 0.9876242F;
-		relShowdownProb[6570] = 0.76765335F;
-		relShowdownProb[6571] = 0.73020685F;
-		relShowdownProb[6572] = 0.9272468F;
-		relShowdownProb[6573] = 1.4365443F;
-		relShowdownProb[6574] = 0.4264741F;
-		relShowdownProb[6575] = 0.89247507F;
-		relShowdownProb[6576] = 1.081788F;
-		relShowdownProb[6577] = 1.5472083F;
-		relShowdownProb[6578] = 1.1671922F;
-		relShowdownProb[6579] = 1.6206015F;
-		relShowdownProb[6580] = 1.2170115F;
-		relShowdownProb[6581] = 1.3135996F;
-		relShowdownProb[6582] = 1.1051488F;
-		relShowdownProb[6583] = 1.1264331F;
-		relShowdownProb[6584] = 0.6284881F;
-		relShowdownProb[6585] = 1.5263283F;
-		relShowdownProb[6586] = 0.5970637F;
-		relShowdownProb[6587] = 0.8080562F;
-		relShowdownProb[6588] = 1.0235378F;
-		relShowdownProb[6589] = 1.3792796F;
-		relShowdownProb[6590] = 0.6284881F;
-		relShowdownProb[6591] = 1.3647171F;
-		relShowdownProb[6592] = 0.8113409F;
-		relShowdownProb[6593] = 1.081788F;
-		relShowdownProb[6594] = 0.9876242F;
-		relShowdownProb[6595] = 1.1941274F;
-		relShowdownProb[6596] = 0.89247507F;
-		relShowdownProb[6597] = 0.6954351F;
-		relShowdownProb[6598] = 0.88411903F;
-		relShowdownProb[6599] = 0.71827215F;
-		relShowdownProb[6600] = 0.5970637F;
-		relShowdownProb[6601] = 0.5679387F;
-		relShowdownProb[6602] = 1.3135996F;
-		relShowdownProb[6603] = 1.6945615F;
-		relShowdownProb[6604] = 0.8439318F;
-		relShowdownProb[6605] = 0.8978402F;
-		relShowdownProb[6606] = 1.0235378F;
-		relShowdownProb[6607] = 0.8113409F;
-		relShowdownProb[6608] = 1.3908702F;
-		relShowdownProb[6609] = 1.1788254F;
-		relShowdownProb[6610] = 1.4768807F;
-		relShowdownProb[6611] = 1.1435888F;
-		relShowdownProb[6612] = 0.4489201F;
-		relShowdownProb[6613] = 1.0774082F;
-		relShowdownProb[6614] = 0.68235856F;
-		relShowdownProb[6615] = 0.9876242F;
-		relShowdownProb[6616] = 0.8529482F;
-		relShowdownProb[6617] = 1.2981455F;
-		relShowdownProb[6618] = 0.9876242F;
-		relShowdownProb[6619] = 1.0235378F;
-		relShowdownProb[6620] = 0.97360915F;
-		relShowdownProb[6621] = 0.9272468F;
-		relShowdownProb[6622] = 0.26935205F;
-		relShowdownProb[6623] = 1.4500118F;
-		relShowdownProb[6624] = 1.1358774F;
-		relShowdownProb[6625] = 1.5454113F;
-		relShowdownProb[6626] = 0.73676586F;
-		relShowdownProb[6627] = 0.71827215F;
-		relShowdownProb[6628] = 1.0235378F;
-		relShowdownProb[6629] = 1.3792796F;
-		relShowdownProb[6630] = 1.5454113F;
-		relShowdownProb[6631] = 1.4735317F;
-		relShowdownProb[6632] = 1.617536F;
-		relShowdownProb[6633] = 0.8978402F;
-		relShowdownProb[6634] = 1.5353067F;
-		relShowdownProb[6635] = 0.5679387F;
-		relShowdownProb[6636] = 0.6954351F;
-		relShowdownProb[6637] = 1.3261786F;
-		relShowdownProb[6638] = 1.2658978F;
-		relShowdownProb[6639] = 1.0080297F;
-		relShowdownProb[6640] = 0.8978402F;
-		relShowdownProb[6641] = 0.76765335F;
-		relShowdownProb[6642] = 1.2170115F;
-		relShowdownProb[6643] = 1.3135996F;
-		relShowdownProb[6644] = 1.7682381F;
-		relShowdownProb[6645] = 0.91425943F;
-		relShowdownProb[6646] = 1.1424336F;
-		relShowdownProb[6647] = 1.0774082F;
-		relShowdownProb[6648] = 0.5387041F;
-		relShowdownProb[6649] = 0.8978402F;
-		relShowdownProb[6650] = 0.8080562F;
-		relShowdownProb[6651] = 1.0774082F;
-		relShowdownProb[6652] = 1.2569762F;
-		relShowdownProb[6653] = 1.1671922F;
-		relShowdownProb[6654] = 1.4365443F;
-		relShowdownProb[6655] = 1.3467603F;
-		relShowdownProb[6656] = 0.71827215F;
-		relShowdownProb[6657] = 1.0235378F;
-		relShowdownProb[6658] = 1.1671922F;
-		relShowdownProb[6659] = 0.76765335F;
-		relShowdownProb[6660] = 1.0235378F;
-		relShowdownProb[6661] = 0.8978402F;
-		relShowdownProb[6662] = 0.5387041F;
-		relShowdownProb[6663] = 0.8978402F;
-		relShowdownProb[6664] = 0.6284881F;
-		relShowdownProb[6665] = 1.1671922F;
-		relShowdownProb[6666] = 0.8080562F;
-		relShowdownProb[6667] = 0.5117689F;
-		relShowdownProb[6668] = 0.71827215F;
-		relShowdownProb[6669] = 1.5353067F;
-		relShowdownProb[6670] = 0.7310984F;
-		relShowdownProb[6671] = 0.6284881F;
-		relShowdownProb[6672] = 0.71827215F;
-		relShowdownProb[6673] = 0.938243F;
-		relShowdownProb[6674] = 1.1671922F;
-		relShowdownProb[6675] = 0.5970637F;
-		relShowdownProb[6676] = 0.7310984F;
-		relShowdownProb[6677] = 0.5387041F;
-		relShowdownProb[6678] = 0.938243F;
-		relShowdownProb[6679] = 1.2981455F;
-		relShowdownProb[6680] = 0.89247507F;
-		relShowdownProb[6681] = 0.26935205F;
-		relShowdownProb[6682] = 1.1671922F;
-		relShowdownProb[6683] = 0.5387041F;
-		relShowdownProb[6684] = 0.71827215F;
-		relShowdownProb[6685] = 0.8080562F;
-		relShowdownProb[6686] = 0.8080562F;
-		relShowdownProb[6687] = 0.68235856F;
-		relShowdownProb[6688] = 0.8978402F;
-		relShowdownProb[6689] = 0.938243F;
-		relShowdownProb[6690] = 1.1372643F;
-		relShowdownProb[6691] = 1.1671922F;
-		relShowdownProb[6692] = 0.71827215F;
-		relShowdownProb[6693] = 0.68235856F;
-		relShowdownProb[6694] = 0.6284881F;
-		relShowdownProb[6695] = 1.1088326F;
-		relShowdownProb[6696] = 1.8683627F;
-		relShowdownProb[6697] = 0.8978402F;
-		relShowdownProb[6698] = 1.1088326F;
-		relShowdownProb[6699] = 1.6226819F;
-		relShowdownProb[6700] = 0.69624376F;
-		relShowdownProb[6701] = 0.8080562F;
-		relShowdownProb[6702] = 1.0774082F;
-		relShowdownProb[6703] = 0.5970637F;
-		relShowdownProb[6704] = 0.9876242F;
-		relShowdownProb[6705] = 0.76765335F;
-		relShowdownProb[6706] = 0.64986527F;
-		relShowdownProb[6707] = 0.5387041F;
-		relShowdownProb[6708] = 1.4500118F;
-		relShowdownProb[6709] = 1.3792796F;
-		relShowdownProb[6710] = 0.7727057F;
-		relShowdownProb[6711] = 0.71827215F;
-		relShowdownProb[6712] = 1.0235378F;
-		relShowdownProb[6713] = 0.8113409F;
-		relShowdownProb[6714] = 0.7727057F;
-		relShowdownProb[6715] = 1.3908702F;
-		relShowdownProb[6716] = 1.0774082F;
-		relShowdownProb[6717] = 1.0774082F;
-		relShowdownProb[6718] = 1.5263283F;
-		relShowdownProb[6719] = 0.17956804F;
-		relShowdownProb[6720] = 0.71827215F;
-		relShowdownProb[6721] = 0.35913607F;
-		relShowdownProb[6722] = 0.8529482F;
-		relShowdownProb[6723] = 0.8978402F;
-		relShowdownProb[6724] = 1.1941274F;
-		relShowdownProb[6725] = 1.1372643F;
-		relShowdownProb[6726] = 0.9876242F;
-		relShowdownProb[6727] = 0.71827215F;
-		relShowdownProb[6728] = 1.5353067F;
-		relShowdownProb[6729] = 1.0774082F;
-		relShowdownProb[6730] = 1.2794223F;
-		relShowdownProb[6731] = 0.48739895F;
-		relShowdownProb[6732] = 0.8978402F;
-		relShowdownProb[6733] = 1.1941274F;
-		relShowdownProb[6734] = 1.2170115F;
-		relShowdownProb[6735] = 1.1604062F;
-		relShowdownProb[6736] = 0.8978402F;
-		relShowdownProb[6737] = 0.8080562F;
-		relShowdownProb[6738] = 0.938243F;
-		relShowdownProb[6739] = 0.6284881F;
-		relShowdownProb[6740] = 0.76765335F;
-		relShowdownProb[6741] = 1.2184974F;
-		relShowdownProb[6742] = 1.5263283F;
-		relShowdownProb[6743] = 1.1088326F;
-		relShowdownProb[6744] = 0.89247507F;
-		relShowdownProb[6745] = 1.3908702F;
-		relShowdownProb[6746] = 0.5387041F;
-		relShowdownProb[6747] = 0.76765335F;
-		relShowdownProb[6748] = 0.89247507F;
-		relShowdownProb[6749] = 0.61816454F;
-		relShowdownProb[6750] = 1.4014071F;
-		relShowdownProb[6751] = 1.3467603F;
-		relShowdownProb[6752] = 1.7956804F;
-		relShowdownProb[6753] = 0.938243F;
-		relShowdownProb[6754] = 1.5263283F;
-		relShowdownProb[6755] = 0.68235856F;
-		relShowdownProb[6756] = 1.5434301F;
-		relShowdownProb[6757] = 1.2569762F;
-		relShowdownProb[6758] = 1.1088326F;
-		relShowdownProb[6759] = 0.97360915F;
-		relShowdownProb[6760] = 1.3135996F;
-		relShowdownProb[6761] = 1.1671922F;
-		relShowdownProb[6762] = 0.5970637F;
-		relShowdownProb[6763] = 1.2981455F;
-		relShowdownProb[6764] = 1.081788F;
-		relShowdownProb[6765] = 0.6630893F;
-		relShowdownProb[6766] = 1.5263283F;
-		relShowdownProb[6767] = 1.6206015F;
-		relShowdownProb[6768] = 0.73020685F;
-		relShowdownProb[6769] = 1.0045173F;
-		relShowdownProb[6770] = 1.7682381F;
-		relShowdownProb[6771] = 0.73676586F;
-		relShowdownProb[6772] = 0.8080562F;
-		relShowdownProb[6773] = 0.6284881F;
-		relShowdownProb[6774] = 1.1671922F;
-		relShowdownProb[6775] = 0.9876242F;
-		relShowdownProb[6776] = 0.8978402F;
-		relShowdownProb[6777] = 0.35913607F;
-		relShowdownProb[6778] = 1.1941274F;
-		relShowdownProb[6779] = 0.9876242F;
-		relShowdownProb[6780] = 0.938243F;
-		relShowdownProb[6781] = 1.5434301F;
-		relShowdownProb[6782] = 1.1671922F;
-		relShowdownProb[6783] = 0.71827215F;
-		relShowdownProb[6784] = 0.5970637F;
-		relShowdownProb[6785] = 0.71827215F;
-		relShowdownProb[6786] = 1.0235378F;
-		relShowdownProb[6787] = 2.1120622F;
-		relShowdownProb[6788] = 0.5387041F;
-		relShowdownProb[6789] = 0.938243F;
-		relShowdownProb[6790] = 1.1358774F;
-		relShowdownProb[6791] = 0.6188833F;
-		relShowdownProb[6792] = 0.9876242F;
-		relShowdownProb[6793] = 0.6284881F;
-		relShowdownProb[6794] = 0.8529482F;
-		relShowdownProb[6795] = 0.4489201F;
-		relShowdownProb[6796] = 0.8529482F;
-		relShowdownProb[6797] = 1.1372643F;
-		relShowdownProb[6798] = 1.4365443F;
-		relShowdownProb[6799] = 0.5970637F;
-		relShowdownProb[6800] = 1.5415478F;
-		relShowdownProb[6801] = 0.9272468F;
-		relShowdownProb[6802] = 1.0774082F;
-		relShowdownProb[6803] = 1.2794223F;
-		relShowdownProb[6804] = 1.2981455F;
-		relShowdownProb[6805] = 0.84997624F;
-		relShowdownProb[6806] = 1.1801323F;
-		relShowdownProb[6807] = 0.8080562F;
-		relShowdownProb[6808] = 0.8080562F;
-		relShowdownProb[6809] = 1.4500118F;
-		relShowdownProb[6810] = 1.2569762F;
-		relShowdownProb[6811] = 1.1088326F;
-		relShowdownProb[6812] = 0.7310984F;
-		relShowdownProb[6813] = 0.71827215F;
-		relShowdownProb[6814] = 1.0235378F;
-		relShowdownProb[6815] = 1.0547433F;
-		relShowdownProb[6816] = 1.081788F;
-		relShowdownProb[6817] = 0.9876242F;
-		relShowdownProb[6818] = 1.0235378F;
-		relShowdownProb[6819] = 0.73020685F;
-		relShowdownProb[6820] = 1.081788F;
-		relShowdownProb[6821] = 1.3998551F;
-		relShowdownProb[6822] = 0.8080562F;
-		relShowdownProb[6823] = 1.1088326F;
-		relShowdownProb[6824] = 0.97360915F;
-		relShowdownProb[6825] = 1.081788F;
-		relShowdownProb[6826] = 1.1788254F;
-		relShowdownProb[6827] = 1.6192477F;
-		relShowdownProb[6828] = 0.71827215F;
-		relShowdownProb[6829] = 0.9876242F;
-		relShowdownProb[6830] = 1.0235378F;
-		relShowdownProb[6831] = 0.8080562F;
-		relShowdownProb[6832] = 0.5970637F;
-		relShowdownProb[6833] = 1.5434301F;
-		relShowdownProb[6834] = 1.1671922F;
-		relShowdownProb[6835] = 0.76765335F;
-		relShowdownProb[6836] = 0.89247507F;
-		relShowdownProb[6837] = 0.38635284F;
-		relShowdownProb[6838] = 0.9876242F;
-		relShowdownProb[6839] = 1.1941274F;
-		relShowdownProb[6840] = 0.89247507F;
-		relShowdownProb[6841] = 1.3135996F;
-		relShowdownProb[6842] = 1.7682381F;
-		relShowdownProb[6843] = 1.0774082F;
-		relShowdownProb[6844] = 0.68235856F;
-		relShowdownProb[6845] = 1.0547433F;
-		relShowdownProb[6846] = 0.9272468F;
-		relShowdownProb[6847] = 1.3998551F;
-		relShowdownProb[6848] = 0.98458713F;
-		relShowdownProb[6849] = 0.9876242F;
-		relShowdownProb[6850] = 1.1088326F;
-		relShowdownProb[6851] = 0.8113409F;
-		relShowdownProb[6852] = 1.2363291F;
-		relShowdownProb[6853] = 0.88411903F;
-		relShowdownProb[6854] = 1.2658978F;
-		relShowdownProb[6855] = 1.406553F;
-		relShowdownProb[6856] = 0.5387041F;
-		relShowdownProb[6857] = 0.9876242F;
-		relShowdownProb[6858] = 0.8080562F;
-		relShowdownProb[6859] = 0.6284881F;
-		relShowdownProb[6860] = 0.8080562F;
-		relShowdownProb[6861] = 0.35913607F;
-		relShowdownProb[6862] = 1.0235378F;
-		relShowdownProb[6863] = 0.9876242F;
-		relShowdownProb[6864] = 1.5353067F;
-		relShowdownProb[6865] = 1.1372643F;
-		relShowdownProb[6866] = 1.0774082F;
-		relShowdownProb[6867] = 0.8978402F;
-		relShowdownProb[6868] = 1.1941274F;
-		relShowdownProb[6869] = 1.4365443F;
-		relShowdownProb[6870] = 0.5117689F;
-		relShowdownProb[6871] = 1.7058964F;
-		relShowdownProb[6872] = 0.8978402F;
-		relShowdownProb[6873] = 1.3647171F;
-		relShowdownProb[6874] = 0.89247507F;
-		relShowdownProb[6875] = 1.1604062F;
-		relShowdownProb[6876] = 0.4489201F;
-		relShowdownProb[6877] = 1.2569762F;
-		relShowdownProb[6878] = 1.0235378F;
-		relShowdownProb[6879] = 1.5263283F;
-		relShowdownProb[6880] = 0.8529482F;
-		relShowdownProb[6881] = 0.9747979F;
-		relShowdownProb[6882] = 0.71827215F;
-		relShowdownProb[6883] = 0.5117689F;
-		relShowdownProb[6884] = 0.97360915F;
-		relShowdownProb[6885] = 1.0045173F;
-		relShowdownProb[6886] = 0.8978402F;
-		relShowdownProb[6887] = 0.68235856F;
-		relShowdownProb[6888] = 0.8113409F;
-		relShowdownProb[6889] = 0.7727057F;
-		relShowdownProb[6890] = 0.8113409F;
-		relShowdownProb[6891] = 1.3467603F;
-		relShowdownProb[6892] = 1.4365443F;
-		relShowdownProb[6893] = 0.76765335F;
-		relShowdownProb[6894] = 1.5263283F;
-		relShowdownProb[6895] = 0.8529482F;
-		relShowdownProb[6896] = 0.89356476F;
-		relShowdownProb[6897] = 1.2569762F;
-		relShowdownProb[6898] = 1.0235378F;
-		relShowdownProb[6899] = 1.1358774F;
-		relShowdownProb[6900] = 0.9272468F;
-		relShowdownProb[6901] = 0.9876242F;
-		relShowdownProb[6902] = 1.1088326F;
-		relShowdownProb[6903] = 0.97360915F;
-		relShowdownProb[6904] = 0.7727057F;
-		relShowdownProb[6905] = 1.0314722F;
-		relShowdownProb[6906] = 0.9876242F;
-		relShowdownProb[6907] = 1.4500118F;
-		relShowdownProb[6908] = 0.97360915F;
-		relShowdownProb[6909] = 0.540894F;
-		relShowdownProb[6910] = 1.1051488F;
-		relShowdownProb[6911] = 1.5488455F;
-		relShowdownProb[6912] = 0.8978402F;
-		relShowdownProb[6913] = 0.5387041F;
-		relShowdownProb[6914] = 1.7058964F;
-		relShowdownProb[6915] = 0.9876242F;
-		relShowdownProb[6916] = 1.1088326F;
-		relShowdownProb[6917] = 1.0560311F;
-		relShowdownProb[6918] = 0.8978402F;
-		relShowdownProb[6919] = 0.34117928F;
-		relShowdownProb[6920] = 1.2170115F;
-		relShowdownProb[6921] = 1.4681407F;
-		relShowdownProb[6922] = 0.8080562F;
-		relShowdownProb[6923] = 1.2794223F;
-		relShowdownProb[6924] = 0.89247507F;
-		relShowdownProb[6925] = 1.4681407F;
-		relShowdownProb[6926] = 0.5894127F;
-		relShowdownProb[6927] = 1.1671922F;
-		relShowdownProb[6928] = 1.2794223F;
-		relShowdownProb[6929] = 0.48680457F;
-		relShowdownProb[6930] = 1.1590585F;
-		relShowdownProb[6931] = 0.73676586F;
-		relShowdownProb[6932] = 0.77360415F;
-		relShowdownProb[6933] = 0.6284881F;
-		relShowdownProb[6934] = 1.2794223F;
-		relShowdownProb[6935] = 0.97360915F;
-		relShowdownProb[6936] = 1.5454113F;
-		relShowdownProb[6937] = 1.5472083F;
-		relShowdownProb[6938] = 0.98458713F;
-		relShowdownProb[6939] = 1.0763189F;
-		relShowdownProb[6940] = 1.0774082F;
-		relShowdownProb[6941] = 0.6284881F;
-		relShowdownProb[6942] = 1.1941274F;
-		relShowdownProb[6943] = 0.8080562F;
-		relShowdownProb[6944] = 1.1088326F;
-		relShowdownProb[6945] = 1.2184974F;
-		relShowdownProb[6946] = 0.71827215F;
-		relShowdownProb[6947] = 1.0235378F;
-		relShowdownProb[6948] = 0.40567046F;
-		relShowdownProb[6949] = 1.0045173F;
-		relShowdownProb[6950] = 1.3467603F;
-		relShowdownProb[6951] = 0.5970637F;
-		relShowdownProb[6952] = 0.89247507F;
-		relShowdownProb[6953] = 1.081788F;
-		relShowdownProb[6954] = 0.88411903F;
-		relShowdownProb[6955] = 1.0774082F;
-		relShowdownProb[6956] = 1.0235378F;
-		relShowdownProb[6957] = 0.89247507F;
-		relShowdownProb[6958] = 0.84997624F;
-		relShowdownProb[6959] = 1.3261786F;
-		relShowdownProb[6960] = 1.3362254F;
-		relShowdownProb[6961] = 1.0774082F;
-		relShowdownProb[6962] = 0.938243F;
-		relShowdownProb[6963] = 0.97360915F;
-		relShowdownProb[6964] = 1.4681407F;
-		relShowdownProb[6965] = 1.3261786F;
-		relShowdownProb[6966] = 1.406553F;
-		relShowdownProb[6967] = 1.4112415F;
-		relShowdownProb[6968] = 1.2569762F;
-		relShowdownProb[6969] = 1.1941274F;
-		relShowdownProb[6970] = 1.0547433F;
-		relShowdownProb[6971] = 1.3908702F;
-		relShowdownProb[6972] = 1.3261786F;
-		relShowdownProb[6973] = 0.98458713F;
-		relShowdownProb[6974] = 1.6800494F;
-		relShowdownProb[6975] = 0.73922175F;
-		relShowdownProb[6976] = 1.2569762F;
-		relShowdownProb[6977] = 0.6284881F;
-		relShowdownProb[6978] = 0.35913607F;
-		relShowdownProb[6979] = 0.9876242F;
-		relShowdownProb[6980] = 0.6284881F;
-		relShowdownProb[6981] = 0.71827215F;
-		relShowdownProb[6982] = 0.5117689F;
-		relShowdownProb[6983] = 1.2569762F;
-		relShowdownProb[6984] = 1.4500118F;
-		relShowdownProb[6985] = 0.89356476F;
-		relShowdownProb[6986] = 0.8978402F;
-		relShowdownProb[6987] = 0.71827215F;
-		relShowdownProb[6988] = 1.0235378F;
-		relShowdownProb[6989] = 0.8080562F;
-		relShowdownProb[6990] = 0.938243F;
-		relShowdownProb[6991] = 0.7310984F;
-		relShowdownProb[6992] = 1.1671922F;
-		relShowdownProb[6993] = 1.1088326F;
-		relShowdownProb[6994] = 1.0547433F;
-		relShowdownProb[6995] = 1.1604062F;
-		relShowdownProb[6996] = 1.2569762F;
-		relShowdownProb[6997] = 0.4489201F;
-		relShowdownProb[6998] = 1.2794223F;
-		relShowdownProb[6999] = 0.4489201F;
-		relShowdownProb[7000] = 0.68235856F;
-		relShowdownProb[7001] = 1.2997305F;
-		relShowdownProb[7002] = 0.6284881F;
-		relShowdownProb[7003] = 0.68235856F;
-		relShowdownProb[7004] = 1.2170115F;
-		relShowdownProb[7005] = 0.9272468F;
-		relShowdownProb[7006] = 0.4489201F;
-		relShowdownProb[7007] = 0.76765335F;
-		relShowdownProb[7008] = 1.2981455F;
-		relShowdownProb[7009] = 1.0045173F;
-		relShowdownProb[7010] = 0.9588575F;
-		relShowdownProb[7011] = 0.8978402F;
-		relShowdownProb[7012] = 0.8080562F;
-		relShowdownProb[7013] = 1.0235378F;
-		relShowdownProb[7014] = 0.5387041F;
-		relShowdownProb[7015] = 0.76765335F;
-		relShowdownProb[7016] = 1.2184974F;
-		relShowdownProb[7017] = 0.8080562F;
-		relShowdownProb[7018] = 1.1941274F;
-		relShowdownProb[7019] = 1.2170115F;
-		relShowdownProb[7020] = 0.9272468F;
-		relShowdownProb[7021] = 1.2569762F;
-		relShowdownProb[7022] = 0.68235856F;
-		relShowdownProb[7023] = 0.5679387F;
-		relShowdownProb[7024] = 1.0045173F;
-		relShowdownProb[7025] = 1.1051488F;
-		relShowdownProb[7026] = 0.6284881F;
-		relShowdownProb[7027] = 1.1088326F;
-		relShowdownProb[7028] = 0.64907277F;
-		relShowdownProb[7029] = 0.9272468F;
-		relShowdownProb[7030] = 1.5472083F;
-		relShowdownProb[7031] = 1.3376393F;
-		relShowdownProb[7032] = 0.4489201F;
-		relShowdownProb[7033] = 0.8080562F;
-		relShowdownProb[7034] = 0.5970637F;
-		relShowdownProb[7035] = 0.8978402F;
-		relShowdownProb[7036] = 0.938243F;
-		relShowdownProb[7037] = 0.9747979F;
-		relShowdownProb[7038] = 0.6284881F;
-		relShowdownProb[7039] = 0.5970637F;
-		relShowdownProb[7040] = 1.1358774F;
-		relShowdownProb[7041] = 1.1590585F;
-		relShowdownProb[7042] = 0.71827215F;
-		relShowdownProb[7043] = 0.8529482F;
-		relShowdownProb[7044] = 1.1358774F;
-		relShowdownProb[7045] = 1.0045173F;
-		relShowdownProb[7046] = 1.4735317F;
-		relShowdownProb[7047] = 0.71827215F;
-		relShowdownProb[7048] = 0.5970637F;
-		relShowdownProb[7049] = 0.73020685F;
-		relShowdownProb[7050] = 1.3135996F;
-		relShowdownProb[7051] = 1.1788254F;
-		relShowdownProb[7052] = 1.8285189F;
-		relShowdownProb[7053] = 0.8978402F;
-		relShowdownProb[7054] = 0.938243F;
-		relShowdownProb[7055] = 0.64907277F;
-		relShowdownProb[7056] = 1.2363291F;
-		relShowdownProb[7057] = 1.9892678F;
-		relShowdownProb[7058] = 1.406553F;
-		relShowdownProb[7059] = 1.0090489F;
-		relShowdownProb[7060] = 0.5387041F;
-		relShowdownProb[7061] = 0.6284881F;
-		relShowdownProb[7062] = 0.5970637F;
-		relShowdownProb[7063] = 0.8080562F;
-		relShowdownProb[7064] = 0.4264741F;
-		relShowdownProb[7065] = 0.9747979F;
-		relShowdownProb[7066] = 1.0774082F;
-		relShowdownProb[7067] = 0.8529482F;
-		relShowdownProb[7068] = 0.89247507F;
-		relShowdownProb[7069] = 0.84997624F;
-		relShowdownProb[7070] = 0.9876242F;
-		relShowdownProb[7071] = 0.76765335F;
-		relShowdownProb[7072] = 0.89247507F;
-		relShowdownProb[7073] = 0.4636234F;
-		relShowdownProb[7074] = 1.0314722F;
-		relShowdownProb[7075] = 1.1671922F;
-		relShowdownProb[7076] = 0.76765335F;
-		relShowdownProb[7077] = 1.7849501F;
-		relShowdownProb[7078] = 1.1590585F;
-		relShowdownProb[7079] = 0.22102976F;
-		relShowdownProb[7080] = 0.91425943F;
-		relShowdownProb[7081] = 0.8978402F;
-		relShowdownProb[7082] = 0.4264741F;
-		relShowdownProb[7083] = 1.2981455F;
-		relShowdownProb[7084] = 0.9272468F;
-		relShowdownProb[7085] = 1.1051488F;
-		relShowdownProb[7086] = 0.98458713F;
-		relShowdownProb[7087] = 1.2096356F;
-		relShowdownProb[7088] = 1.1671922F;
-		relShowdownProb[7089] = 1.1941274F;
-		relShowdownProb[7090] = 1.3792796F;
-		relShowdownProb[7091] = 1.3908702F;
-		relShowdownProb[7092] = 1.252502F;
-		relShowdownProb[7093] = 0.7032765F;
-		relShowdownProb[7094] = 1.5456455F;
-		relShowdownProb[7095] = 1.4798733F;
-		relShowdownProb[7096] = 1.0774082F;
-		relShowdownProb[7097] = 1.1671922F;
-		relShowdownProb[7098] = 0.938243F;
-		relShowdownProb[7099] = 1.0774082F;
-		relShowdownProb[7100] = 0.68235856F;
-		relShowdownProb[7101] = 1.1372643F;
-		relShowdownProb[7102] = 0.35913607F;
-		relShowdownProb[7103] = 1.0235378F;
-		relShowdownProb[7104] = 0.8113409F;
-		relShowdownProb[7105] = 1.2363291F;
-		relShowdownProb[7106] = 0.8080562F;
-		relShowdownProb[7107] = 0.76765335F;
-		relShowdownProb[7108] = 1.1358774F;
-		relShowdownProb[7109] = 1.6226819F;
-		relShowdownProb[7110] = 0.73676586F;
-		relShowdownProb[7111] = 1.2569762F;
-		relShowdownProb[7112] = 0.8529482F;
-		relShowdownProb[7113] = 0.8113409F;
-		relShowdownProb[7114] = 1.081788F;
-		relShowdownProb[7115] = 0.81044245F;
-		relShowdownProb[7116] = 0.6329489F;
-		relShowdownProb[7117] = 0.4489201F;
-		relShowdownProb[7118] = 1.1941274F;
-		relShowdownProb[7119] = 1.0547433F;
-		relShowdownProb[7120] = 0.7727057F;
-		relShowdownProb[7121] = 0.88411903F;
-		relShowdownProb[7122] = 1.2658978F;
-		relShowdownProb[7123] = 0.94082767F;
-		relShowdownProb[7124] = 0.71827215F;
-		relShowdownProb[7125] = 1.7058964F;
-		relShowdownProb[7126] = 0.40567046F;
-		relShowdownProb[7127] = 1.081788F;
-		relShowdownProb[7128] = 0.81044245F;
-		relShowdownProb[7129] = 0.98458713F;
-		relShowdownProb[7130] = 0.8736257F;
-		relShowdownProb[7131] = 1.1570427F;
-		relShowdownProb[7132] = 1.0774082F;
-		relShowdownProb[7133] = 1.1088326F;
-		relShowdownProb[7134] = 1.1358774F;
-		relShowdownProb[7135] = 0.6954351F;
-		relShowdownProb[7136] = 0.73676586F;
-		relShowdownProb[7137] = 1.2658978F;
-		relShowdownProb[7138] = 1.0080297F;
-		relShowdownProb[7139] = 1.4784435F;
-		relShowdownProb[7140] = 0.8064237F;
-		relShowdownProb[7141] = 0.7258724F;
-		relShowdownProb[7142] = 0.95717615F;
-		relShowdownProb[7143] = 0.86434615F;
-		relShowdownProb[7144] = 0.7727484F;
-		relShowdownProb[7145] = 0.9016881F;
-		relShowdownProb[7146] = 0.71420443F;
-		relShowdownProb[7147] = 0.72158307F;
-		relShowdownProb[7148] = 0.57353413F;
-		relShowdownProb[7149] = 0.9497496F;
-		relShowdownProb[7150] = 0.82572645F;
-		relShowdownProb[7151] = 0.8908169F;
-		relShowdownProb[7152] = 0.7072466F;
-		relShowdownProb[7153] = 0.8009626F;
-		relShowdownProb[7154] = 0.85772926F;
-		relShowdownProb[7155] = 0.8519983F;
-		relShowdownProb[7156] = 0.91993856F;
-		relShowdownProb[7157] = 0.95042795F;
-		relShowdownProb[7158] = 0.88367665F;
-		relShowdownProb[7159] = 1.0222427F;
-		relShowdownProb[7160] = 0.68107176F;
-		relShowdownProb[7161] = 0.92600584F;
-		relShowdownProb[7162] = 1.0616482F;
-		relShowdownProb[7163] = 0.9963084F;
-		relShowdownProb[7164] = 0.7072466F;
-		relShowdownProb[7165] = 0.62992674F;
-		relShowdownProb[7166] = 1.0193305F;
-		relShowdownProb[7167] = 0.87669396F;
-		relShowdownProb[7168] = 0.7972801F;
-		relShowdownProb[7169] = 0.7310984F;
-		relShowdownProb[7170] = 0.6294683F;
-		relShowdownProb[7171] = 0.9861635F;
-		relShowdownProb[7172] = 1.3024004F;
-		relShowdownProb[7173] = 0.8310309F;
-		relShowdownProb[7174] = 1.0498521F;
-		relShowdownProb[7175] = 0.9963084F;
-		relShowdownProb[7176] = 0.6218893F;
-		relShowdownProb[7177] = 0.6904966F;
-		relShowdownProb[7178] = 0.84245604F;
-		relShowdownProb[7179] = 1.0248675F;
-		relShowdownProb[7180] = 1.0548629F;
-		relShowdownProb[7181] = 1.0479077F;
-		relShowdownProb[7182] = 0.8715715F;
-		relShowdownProb[7183] = 0.79374135F;
-		relShowdownProb[7184] = 0.7766608F;
-		relShowdownProb[7185] = 0.80728716F;
-		relShowdownProb[7186] = 1.0970365F;
-		relShowdownProb[7187] = 1.2424551F;
-		relShowdownProb[7188] = 0.79260397F;
-		relShowdownProb[7189] = 0.54512894F;
-		relShowdownProb[7190] = 0.7100701F;
-		relShowdownProb[7191] = 0.8130908F;
-		relShowdownProb[7192] = 0.7850143F;
-		relShowdownProb[7193] = 1.0844626F;
-		relShowdownProb[7194] = 0.8715715F;
-		relShowdownProb[7195] = 0.9500843F;
-		relShowdownProb[7196] = 0.84835255F;
-		relShowdownProb[7197] = 1.0684683F;
-		relShowdownProb[7198] = 0.9082991F;
-		relShowdownProb[7199] = 0.92598075F;
-		relShowdownProb[7200] = 0.6706649F;
-		relShowdownProb[7201] = 0.7631805F;
-		relShowdownProb[7202] = 0.7100701F;
-		relShowdownProb[7203] = 1.0163635F;
-		relShowdownProb[7204] = 1.1286333F;
-		relShowdownProb[7205] = 1.0479077F;
-		relShowdownProb[7206] = 0.8231509F;
-		relShowdownProb[7207] = 1.0823746F;
-		relShowdownProb[7208] = 0.8841984F;
-		relShowdownProb[7209] = 1.092212F;
-		relShowdownProb[7210] = 1.2739779F;
-		relShowdownProb[7211] = 1.2424551F;
-		relShowdownProb[7212] = 0.89015526F;
-		relShowdownProb[7213] = 0.8237504F;
-		relShowdownProb[7214] = 0.7582104F;
-		relShowdownProb[7215] = 1.0163635F;
-		relShowdownProb[7216] = 0.986069F;
-		relShowdownProb[7217] = 1.0151839F;
-		relShowdownProb[7218] = 1.0047282F;
-		relShowdownProb[7219] = 0.8658997F;
-		relShowdownProb[7220] = 1.21876F;
-		relShowdownProb[7221] = 1.2228026F;
-		relShowdownProb[7222] = 0.9082991F;
-		relShowdownProb[7223] = 0.9963084F;
-		relShowdownProb[7224] = 0.59750146F;
-		relShowdownProb[7225] = 0.7389526F;
-		relShowdownProb[7226] = 0.7822806F;
-		relShowdownProb[7227] = 0.8728769F;
-		relShowdownProb[7228] = 0.986069F;
-		relShowdownProb[7229] = 1.1214241F;
-		relShowdownProb[7230] = 0.91490424F;
-		relShowdownProb[7231] = 1.2627703F;
-		relShowdownProb[7232] = 0.97978747F;
-		relShowdownProb[7233] = 0.997237F;
-		relShowdownProb[7234] = 1.3329583F;
-		relShowdownProb[7235] = 1.3362254F;
-		relShowdownProb[7236] = 0.8413796F;
-		relShowdownProb[7237] = 0.7510665F;
-		relShowdownProb[7238] = 0.8544911F;
-		relShowdownProb[7239] = 0.7533047F;
-		relShowdownProb[7240] = 0.9385476F;
-		relShowdownProb[7241] = 1.1096196F;
-		relShowdownProb[7242] = 0.9735519F;
-		relShowdownProb[7243] = 1.4219788F;
-		relShowdownProb[7244] = 1.1709656F;
-		relShowdownProb[7245] = 1.4127525F;
-		relShowdownProb[7246] = 1.3565506F;
-		relShowdownProb[7247] = 1.957453F;
-		relShowdownProb[7248] = 0.8047979F;
-		relShowdownProb[7249] = 0.86009234F;
-		relShowdownProb[7250] = 0.6258245F;
-		relShowdownProb[7251] = 0.9446202F;
-		relShowdownProb[7252] = 0.9741887F;
-		relShowdownProb[7253] = 0.8499214F;
-		relShowdownProb[7254] = 0.997011F;
-		relShowdownProb[7255] = 1.0723119F;
-		relShowdownProb[7256] = 1.0308437F;
-		relShowdownProb[7257] = 1.2584182F;
-		relShowdownProb[7258] = 1.4509193F;
-		relShowdownProb[7259] = 1.8050764F;
-		relShowdownProb[7260] = 0.74382836F;
-		relShowdownProb[7261] = 0.6178128F;
-		relShowdownProb[7262] = 0.68599993F;
-		relShowdownProb[7263] = 0.9446202F;
-		relShowdownProb[7264] = 0.87914586F;
-		relShowdownProb[7265] = 1.0742062F;
-		relShowdownProb[7266] = 1.149495F;
-		relShowdownProb[7267] = 1.1072786F;
-		relShowdownProb[7268] = 1.3783191F;
-		relShowdownProb[7269] = 1.1855685F;
-		relShowdownProb[7270] = 1.3329583F;
-		relShowdownProb[7271] = 1.5940934F;
-		relShowdownProb[7272] = 0.89015526F;
-		relShowdownProb[7273] = 0.8722063F;
-		relShowdownProb[7274] = 1.0229824F;
-		relShowdownProb[7275] = 0.99244905F;
-		relShowdownProb[7276] = 0.9029066F;
-		relShowdownProb[7277] = 1.0269884F;
-		relShowdownProb[7278] = 1.3019791F;
-		relShowdownProb[7279] = 1.282112F;
-		relShowdownProb[7280] = 1.2161639F;
-		relShowdownProb[7281] = 1.2776514F;
-		relShowdownProb[7282] = 1.3383777F;
-		relShowdownProb[7283] = 2.039502F;
-		relShowdownProb[7284] = 0.8413796F;
-		relShowdownProb[7285] = 0.93277615F;
-		relShowdownProb[7286] = 1.2155437F;
-		relShowdownProb[7287] = 1.1359357F;
-		relShowdownProb[7288] = 1.1286333F;
-		relShowdownProb[7289] = 0.93255264F;
-		relShowdownProb[7290] = 1.1612246F;
-		relShowdownProb[7291] = 1.363701F;
-		relShowdownProb[7292] = 1.4246491F;
-		relShowdownProb[7293] = 1.3006722F;
-		relShowdownProb[7294] = 1.1553518F;
-		relShowdownProb[7295] = 1.2050881F;
-		relShowdownProb[7299] = 0.78270537F;
-		relShowdownProb[7300] = 1.3764819F;
-		relShowdownProb[7303] = 0.31605682F;
-		relShowdownProb[7304] = 0.24414663F;
-		relShowdownProb[7305] = 0.48562014F;
-		relShowdownProb[7306] = 0.39554077F;
-		relShowdownProb[7307] = 0.788114F;
-		relShowdownProb[7310] = 1.6226819F;
-		relShowdownProb[7311] = 0.78270537F;
-		relShowdownProb[7313] = 0.9031216F;
-		relShowdownProb[7314] = 0.6376673F;
-		relShowdownProb[7315] = 0.63211364F;
-		relShowdownProb[7316] = 0.36621994F;
-		relShowdownProb[7317] = 0.5827442F;
-		relShowdownProb[7318] = 0.5537571F;
-		relShowdownProb[7319] = 0.5910855F;
-		relShowdownProb[7324] = 0.9176546F;
-		relShowdownProb[7325] = 0.60208106F;
-		relShowdownProb[7326] = 0.6376673F;
-		relShowdownProb[7327] = 0.4740852F;
-		relShowdownProb[7328] = 0.24414663F;
-		relShowdownProb[7329] = 0.2913721F;
-		relShowdownProb[7330] = 0.63286525F;
-		relShowdownProb[7331] = 0.72243786F;
-		relShowdownProb[7336] = 1.3764819F;
-		relShowdownProb[7337] = 0.9031216F;
-		relShowdownProb[7338] = 0.42511156F;
-		relShowdownProb[7339] = 0.4740852F;
-		relShowdownProb[7340] = 0.8545132F;
-		relShowdownProb[7341] = 0.87411624F;
-		relShowdownProb[7342] = 0.71197337F;
-		relShowdownProb[7343] = 0.9851425F;
-		relShowdownProb[7348] = 0.9176546F;
-		relShowdownProb[7350] = 0.42511156F;
-		relShowdownProb[7351] = 0.4740852F;
-		relShowdownProb[7352] = 0.36621994F;
-		relShowdownProb[7353] = 0.097124025F;
-		relShowdownProb[7354] = 0.71197337F;
-		relShowdownProb[7355] = 1.2478472F;
-		relShowdownProb[7358] = 1.6226819F;
-		relShowdownProb[7361] = 1.5052027F;
-		relShowdownProb[7362] = 0.6376673F;
-		relShowdownProb[7363] = 0.31605682F;
-		relShowdownProb[7364] = 0.122073315F;
-		relShowdownProb[7365] = 0.48562014F;
-		relShowdownProb[7366] = 0.8701897F;
-		relShowdownProb[7367] = 0.5910855F;
-		relShowdownProb[7373] = 0.30104053F;
-		relShowdownProb[7374] = 1.0627788F;
-		relShowdownProb[7375] = 0.63211364F;
-		relShowdownProb[7376] = 0.6103666F;
-		relShowdownProb[7377] = 0.2913721F;
-		relShowdownProb[7378] = 0.63286525F;
-		relShowdownProb[7379] = 1.182171F;
-		relShowdownProb[7386] = 0.6376673F;
-		relShowdownProb[7387] = 0.790142F;
-		relShowdownProb[7388] = 0.6103666F;
-		relShowdownProb[7389] = 1.4568604F;
-		relShowdownProb[7390] = 1.1075141F;
-		relShowdownProb[7391] = 0.72243786F;
-		relShowdownProb[7393] = 5.117689F;
-		relShowdownProb[7396] = 1.3764819F;
-		relShowdownProb[7397] = 0.9031216F;
-		relShowdownProb[7398] = 0.21255578F;
-		relShowdownProb[7399] = 0.4740852F;
-		relShowdownProb[7400] = 0.48829326F;
-		relShowdownProb[7401] = 1.0683643F;
-		relShowdownProb[7402] = 0.94929785F;
-		relShowdownProb[7403] = 1.7075803F;
-		relShowdownProb[7406] = 1.6226819F;
-		relShowdownProb[7407] = 0.78270537F;
-		relShowdownProb[7408] = 0.4588273F;
-		relShowdownProb[7409] = 0.30104053F;
-		relShowdownProb[7410] = 1.0627788F;
-		relShowdownProb[7411] = 0.790142F;
-		relShowdownProb[7412] = 0.6103666F;
-		relShowdownProb[7413] = 1.6511084F;
-		relShowdownProb[7414] = 1.1866223F;
-		relShowdownProb[7415] = 0.85379016F;
-		relShowdownProb[7418] = 1.6226819F;
-		relShowdownProb[7420] = 0.4588273F;
-		relShowdownProb[7421] = 0.60208106F;
-		relShowdownProb[7422] = 0.8502231F;
-		relShowdownProb[7423] = 0.15802841F;
-		relShowdownProb[7424] = 0.9765865F;
-		relShowdownProb[7425] = 0.7769922F;
-		relShowdownProb[7426] = 0.79108155F;
-		relShowdownProb[7427] = 1.576228F;
-		relShowdownProb[7432] = 0.9176546F;
-		relShowdownProb[7434] = 1.7004462F;
-		relShowdownProb[7435] = 1.1061988F;
-		relShowdownProb[7436] = 1.5869532F;
-		relShowdownProb[7437] = 0.87411624F;
-		relShowdownProb[7438] = 1.3448386F;
-		relShowdownProb[7439] = 1.1164949F;
-		relShowdownProb[7441] = 5.117689F;
-		relShowdownProb[7444] = 1.3764819F;
-		relShowdownProb[7445] = 0.9031216F;
-		relShowdownProb[7446] = 0.6376673F;
-		relShowdownProb[7447] = 0.4740852F;
-		relShowdownProb[7448] = 1.0986599F;
-		relShowdownProb[7449] = 0.7769922F;
-		relShowdownProb[7450] = 0.8701897F;
-		relShowdownProb[7451] = 1.7075803F;
-		relShowdownProb[7452] = 0.89992213F;
-		relShowdownProb[7453] = 0.19284046F;
-		relShowdownProb[7454] = 0.1285603F;
-		relShowdownProb[7455] = 0.3856809F;
-		relShowdownProb[7456] = 0.3856809F;
-		relShowdownProb[7457] = 0.5142412F;
-		relShowdownProb[7458] = 0.9642023F;
-		relShowdownProb[7459] = 0.89992213F;
-		relShowdownProb[7460] = 1.2213229F;
-		relShowdownProb[7461] = 0.8616276F;
-
-	}
-
-}
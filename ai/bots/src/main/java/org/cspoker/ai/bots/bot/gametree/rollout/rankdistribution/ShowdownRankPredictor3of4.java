@@ -1,4822 +0,0 @@
-package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
-
-/**
- * This program is free software; you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation; either version 2 of the License, or
- * (at your option) any later version.
- * 
- *  This program is distributed in the hope that it will be useful,
- *  but WITHOUT ANY WARRANTY; without even the implied warranty of
- *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- *  GNU General Public License for more details.
- *  
- *  You should have received a copy of the GNU General Public License
- *  along with this program; if not, write to the Free Software
- *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
- */
-
-/**
- * Probability distribution when (pot/(nbShowdownPlayer*BigBlind)<=30, >15
- */
-public class ShowdownRankPredictor3of4 {
-
-	private final static float[] relShowdownProb = new float[7462];
-
-	public static float getRelativeProbability(int rank) {
-		return relShowdownProb[rank];
-	}
-
-	static {
-		relShowdownProb[48] = 0.19798356F;
-		relShowdownProb[51] = 0.10799103F;
-		relShowdownProb[82] = 0.14398804F;
-		relShowdownProb[85] = 0.23398057F;
-		relShowdownProb[86] = 0.25197908F;
-		relShowdownProb[102] = 0.21598206F;
-		relShowdownProb[105] = 0.14398804F;
-		relShowdownProb[106] = 0.23398057F;
-		relShowdownProb[112] = 0.16198654F;
-		relShowdownProb[115] = 0.14398804F;
-		relShowdownProb[116] = 0.25197908F;
-		relShowdownProb[119] = 0.23398057F;
-		relShowdownProb[120] = 0.3599701F;
-		relShowdownProb[151] = 0.10799103F;
-		relShowdownProb[154] = 0.10799103F;
-		relShowdownProb[155] = 0.26997757F;
-		relShowdownProb[171] = 0.14398804F;
-		relShowdownProb[174] = 0.10799103F;
-		relShowdownProb[175] = 0.19798356F;
-		relShowdownProb[181] = 0.03599701F;
-		relShowdownProb[184] = 0.26997757F;
-		relShowdownProb[185] = 0.20398305F;
-		relShowdownProb[188] = 0.21598206F;
-		relShowdownProb[189] = 0.22198157F;
-		relShowdownProb[190] = 0.24597958F;
-		relShowdownProb[206] = 0.21598206F;
-		relShowdownProb[209] = 0.053995516F;
-		relShowdownProb[210] = 0.19798356F;
-		relShowdownProb[216] = 0.14398804F;
-		relShowdownProb[219] = 0.08999252F;
-		relShowdownProb[220] = 0.19798356F;
-		relShowdownProb[223] = 0.25197908F;
-		relShowdownProb[224] = 0.16798605F;
-		relShowdownProb[225] = 0.19438386F;
-		relShowdownProb[231] = 0.19798356F;
-		relShowdownProb[234] = 0.12598954F;
-		relShowdownProb[235] = 0.21598206F;
-		relShowdownProb[238] = 0.19798356F;
-		relShowdownProb[239] = 0.23398057F;
-		relShowdownProb[240] = 0.2999751F;
-		relShowdownProb[243] = 0.2879761F;
-		relShowdownProb[244] = 0.31197408F;
-		relShowdownProb[245] = 0.3659696F;
-		relShowdownProb[276] = 0.16198654F;
-		relShowdownProb[279] = 0.12598954F;
-		relShowdownProb[280] = 0.14398804F;
-		relShowdownProb[296] = 0.23398057F;
-		relShowdownProb[299] = 0.16198654F;
-		relShowdownProb[300] = 0.1709858F;
-		relShowdownProb[306] = 0.07199402F;
-		relShowdownProb[309] = 0.17998505F;
-		relShowdownProb[310] = 0.17998505F;
-		relShowdownProb[313] = 0.08999252F;
-		relShowdownProb[314] = 0.17998505F;
-		relShowdownProb[315] = 0.31197408F;
-		relShowdownProb[331] = 0.19798356F;
-		relShowdownProb[334] = 0.07199402F;
-		relShowdownProb[335] = 0.24297982F;
-		relShowdownProb[341] = 0.12598954F;
-		relShowdownProb[344] = 0.07199402F;
-		relShowdownProb[345] = 0.20998256F;
-		relShowdownProb[348] = 0.12598954F;
-		relShowdownProb[349] = 0.17398556F;
-		relShowdownProb[350] = 0.21958177F;
-		relShowdownProb[356] = 0.17998505F;
-		relShowdownProb[359] = 0.07199402F;
-		relShowdownProb[360] = 0.19798356F;
-		relShowdownProb[363] = 0.10799103F;
-		relShowdownProb[364] = 0.19198406F;
-		relShowdownProb[365] = 0.19798356F;
-		relShowdownProb[368] = 0.21598206F;
-		relShowdownProb[369] = 0.22198157F;
-		relShowdownProb[370] = 0.26097834F;
-		relShowdownProb[371] = 0.41996512F;
-		relShowdownProb[387] = 0.25197908F;
-		relShowdownProb[390] = 0.12598954F;
-		relShowdownProb[391] = 0.26997757F;
-		relShowdownProb[397] = 0.053995516F;
-		relShowdownProb[400] = 0.07199402F;
-		relShowdownProb[401] = 0.13198903F;
-		relShowdownProb[404] = 0.07199402F;
-		relShowdownProb[405] = 0.14398804F;
-		relShowdownProb[406] = 0.23398057F;
-		relShowdownProb[412] = 0.19798356F;
-		relShowdownProb[415] = 0.23398057F;
-		relShowdownProb[416] = 0.20398305F;
-		relShowdownProb[419] = 0.053995516F;
-		relShowdownProb[420] = 0.12598954F;
-		relShowdownProb[421] = 0.21298231F;
-		relShowdownProb[424] = 0.23398057F;
-		relShowdownProb[425] = 0.2879761F;
-		relShowdownProb[426] = 0.21598206F;
-		relShowdownProb[427] = 0.2899759F;
-		relShowdownProb[433] = 0.3059746F;
-		relShowdownProb[436] = 0.12598954F;
-		relShowdownProb[437] = 0.23998007F;
-		relShowdownProb[440] = 0.14398804F;
-		relShowdownProb[441] = 0.22798106F;
-		relShowdownProb[442] = 0.25497884F;
-		relShowdownProb[445] = 0.3599701F;
-		relShowdownProb[446] = 0.2939756F;
-		relShowdownProb[447] = 0.27597708F;
-		relShowdownProb[448] = 0.25197908F;
-		relShowdownProb[451] = 0.3239731F;
-		relShowdownProb[452] = 0.2999751F;
-		relShowdownProb[453] = 0.3719691F;
-		relShowdownProb[454] = 0.43556383F;
-		relShowdownProb[485] = 0.21598206F;
-		relShowdownProb[488] = 0.21598206F;
-		relShowdownProb[489] = 0.25197908F;
-		relShowdownProb[505] = 0.23398057F;
-		relShowdownProb[508] = 0.16198654F;
-		relShowdownProb[509] = 0.26997757F;
-		relShowdownProb[515] = 0.17998505F;
-		relShowdownProb[518] = 0.053995516F;
-		relShowdownProb[519] = 0.17998505F;
-		relShowdownProb[522] = 0.16198654F;
-		relShowdownProb[523] = 0.14998755F;
-		relShowdownProb[524] = 0.3059746F;
-		relShowdownProb[540] = 0.17998505F;
-		relShowdownProb[543] = 0.25197908F;
-		relShowdownProb[544] = 0.14398804F;
-		relShowdownProb[550] = 0.14398804F;
-		relShowdownProb[553] = 0.3779686F;
-		relShowdownProb[554] = 0.19198406F;
-		relShowdownProb[557] = 0.17998505F;
-		relShowdownProb[558] = 0.21598206F;
-		relShowdownProb[559] = 0.2987752F;
-		relShowdownProb[565] = 0.08999252F;
-		relShowdownProb[568] = 0.16198654F;
-		relShowdownProb[569] = 0.21598206F;
-		relShowdownProb[572] = 0.12598954F;
-		relShowdownProb[573] = 0.16798605F;
-		relShowdownProb[574] = 0.23098081F;
-		relShowdownProb[577] = 0.16198654F;
-		relShowdownProb[578] = 0.13198903F;
-		relShowdownProb[579] = 0.20398305F;
-		relShowdownProb[580] = 0.35097086F;
-		relShowdownProb[596] = 0.25197908F;
-		relShowdownProb[599] = 0.19798356F;
-		relShowdownProb[600] = 0.19798356F;
-		relShowdownProb[606] = 0.10799103F;
-		relShowdownProb[609] = 0.19798356F;
-		relShowdownProb[610] = 0.24597958F;
-		relShowdownProb[613] = 0.23398057F;
-		relShowdownProb[614] = 0.19798356F;
-		relShowdownProb[615] = 0.21598206F;
-		relShowdownProb[621] = 0.23398057F;
-		relShowdownProb[624] = 0.14398804F;
-		relShowdownProb[625] = 0.21598206F;
-		relShowdownProb[628] = 0.17998505F;
-		relShowdownProb[629] = 0.16798605F;
-		relShowdownProb[630] = 0.21298231F;
-		relShowdownProb[633] = 0.17998505F;
-		relShowdownProb[634] = 0.119990036F;
-		relShowdownProb[635] = 0.24597958F;
-		relShowdownProb[636] = 0.31597376F;
-		relShowdownProb[642] = 0.26997757F;
-		relShowdownProb[645] = 0.26997757F;
-		relShowdownProb[646] = 0.3059746F;
-		relShowdownProb[649] = 0.25197908F;
-		relShowdownProb[650] = 0.19798356F;
-		relShowdownProb[651] = 0.27597708F;
-		relShowdownProb[654] = 0.17998505F;
-		relShowdownProb[655] = 0.26397806F;
-		relShowdownProb[656] = 0.20998256F;
-		relShowdownProb[657] = 0.30417475F;
-		relShowdownProb[660] = 0.26997757F;
-		relShowdownProb[661] = 0.31797358F;
-		relShowdownProb[662] = 0.31197408F;
-		relShowdownProb[663] = 0.39956683F;
-		relShowdownProb[664] = 0.5111576F;
-		relShowdownProb[680] = 0.2879761F;
-		relShowdownProb[683] = 0.25197908F;
-		relShowdownProb[684] = 0.2069828F;
-		relShowdownProb[690] = 0.19798356F;
-		relShowdownProb[693] = 0.21598206F;
-		relShowdownProb[694] = 0.2879761F;
-		relShowdownProb[697] = 0.16198654F;
-		relShowdownProb[698] = 0.25197908F;
-		relShowdownProb[699] = 0.3383719F;
-		relShowdownProb[705] = 0.23398057F;
-		relShowdownProb[708] = 0.2879761F;
-		relShowdownProb[709] = 0.26997757F;
-		relShowdownProb[712] = 0.21598206F;
-		relShowdownProb[713] = 0.18598455F;
-		relShowdownProb[714] = 0.26997757F;
-		relShowdownProb[717] = 0.25197908F;
-		relShowdownProb[718] = 0.26997757F;
-		relShowdownProb[719] = 0.23698032F;
-		relShowdownProb[720] = 0.29597542F;
-		relShowdownProb[726] = 0.3779686F;
-		relShowdownProb[729] = 0.25197908F;
-		relShowdownProb[730] = 0.3059746F;
-		relShowdownProb[733] = 0.3239731F;
-		relShowdownProb[734] = 0.27597708F;
-		relShowdownProb[735] = 0.32697284F;
-		relShowdownProb[738] = 0.23398057F;
-		relShowdownProb[739] = 0.3359721F;
-		relShowdownProb[740] = 0.20998256F;
-		relShowdownProb[741] = 0.27897683F;
-		relShowdownProb[744] = 0.2879761F;
-		relShowdownProb[745] = 0.4079661F;
-		relShowdownProb[746] = 0.42296487F;
-		relShowdownProb[747] = 0.36536965F;
-		relShowdownProb[748] = 0.45510507F;
-		relShowdownProb[754] = 0.39596713F;
-		relShowdownProb[757] = 0.43196413F;
-		relShowdownProb[758] = 0.4079661F;
-		relShowdownProb[761] = 0.26997757F;
-		relShowdownProb[762] = 0.25197908F;
-		relShowdownProb[763] = 0.3359721F;
-		relShowdownProb[766] = 0.3239731F;
-		relShowdownProb[767] = 0.3059746F;
-		relShowdownProb[768] = 0.2999751F;
-		relShowdownProb[769] = 0.31857353F;
-		relShowdownProb[772] = 0.3779686F;
-		relShowdownProb[773] = 0.39596713F;
-		relShowdownProb[774] = 0.4079661F;
-		relShowdownProb[775] = 0.3419716F;
-		relShowdownProb[776] = 0.46796113F;
-		relShowdownProb[779] = 0.5219567F;
-		relShowdownProb[780] = 0.56395316F;
-		relShowdownProb[781] = 0.55195415F;
-		relShowdownProb[782] = 0.56515306F;
-		relShowdownProb[783] = 0.5771521F;
-		relShowdownProb[816] = 0.3599701F;
-		relShowdownProb[817] = 0.3599701F;
-		relShowdownProb[836] = 0.3599701F;
-		relShowdownProb[837] = 0.31497383F;
-		relShowdownProb[846] = 0.3239731F;
-		relShowdownProb[847] = 0.45596212F;
-		relShowdownProb[850] = 0.3779686F;
-		relShowdownProb[851] = 0.38996762F;
-		relShowdownProb[852] = 0.44396314F;
-		relShowdownProb[871] = 0.4139656F;
-		relShowdownProb[872] = 0.43196413F;
-		relShowdownProb[881] = 0.44996265F;
-		relShowdownProb[882] = 0.3659696F;
-		relShowdownProb[885] = 0.39596713F;
-		relShowdownProb[886] = 0.3059746F;
-		relShowdownProb[887] = 0.3455713F;
-		relShowdownProb[896] = 0.4139656F;
-		relShowdownProb[897] = 0.3359721F;
-		relShowdownProb[900] = 0.3239731F;
-		relShowdownProb[901] = 0.3359721F;
-		relShowdownProb[902] = 0.44396314F;
-		relShowdownProb[905] = 0.4139656F;
-		relShowdownProb[906] = 0.3839681F;
-		relShowdownProb[907] = 0.4079661F;
-		relShowdownProb[908] = 0.5069579F;
-		relShowdownProb[927] = 0.3779686F;
-		relShowdownProb[928] = 0.46796113F;
-		relShowdownProb[937] = 0.3239731F;
-		relShowdownProb[938] = 0.46196163F;
-		relShowdownProb[941] = 0.39596713F;
-		relShowdownProb[942] = 0.35397062F;
-		relShowdownProb[943] = 0.47516054F;
-		relShowdownProb[952] = 0.46796113F;
-		relShowdownProb[953] = 0.3779686F;
-		relShowdownProb[956] = 0.2879761F;
-		relShowdownProb[957] = 0.45596212F;
-		relShowdownProb[958] = 0.3719691F;
-		relShowdownProb[961] = 0.39596713F;
-		relShowdownProb[962] = 0.39596713F;
-		relShowdownProb[963] = 0.4469629F;
-		relShowdownProb[964] = 0.4719608F;
-		relShowdownProb[973] = 0.50395817F;
-		relShowdownProb[974] = 0.44996265F;
-		relShowdownProb[977] = 0.4139656F;
-		relShowdownProb[978] = 0.44996265F;
-		relShowdownProb[979] = 0.4139656F;
-		relShowdownProb[982] = 0.3779686F;
-		relShowdownProb[983] = 0.49795866F;
-		relShowdownProb[984] = 0.47396064F;
-		relShowdownProb[985] = 0.56695294F;
-		relShowdownProb[988] = 0.48595965F;
-		relShowdownProb[989] = 0.49195915F;
-		relShowdownProb[990] = 0.4709609F;
-		relShowdownProb[991] = 0.5255563F;
-		relShowdownProb[992] = 0.6443465F;
-		relShowdownProb[1011] = 0.4139656F;
-		relShowdownProb[1012] = 0.65694547F;
-		relShowdownProb[1021] = 0.43196413F;
-		relShowdownProb[1022] = 0.56995267F;
-		relShowdownProb[1025] = 0.50395817F;
-		relShowdownProb[1026] = 0.44996265F;
-		relShowdownProb[1027] = 0.47516054F;
-		relShowdownProb[1036] = 0.2879761F;
-		relShowdownProb[1037] = 0.55795366F;
-		relShowdownProb[1040] = 0.3599701F;
-		relShowdownProb[1041] = 0.47396064F;
-		relShowdownProb[1042] = 0.5099577F;
-		relShowdownProb[1045] = 0.3779686F;
-		relShowdownProb[1046] = 0.56395316F;
-		relShowdownProb[1047] = 0.46796113F;
-		relShowdownProb[1048] = 0.5279561F;
-		relShowdownProb[1057] = 0.6119492F;
-		relShowdownProb[1058] = 0.49195915F;
-		relShowdownProb[1061] = 0.39596713F;
-		relShowdownProb[1062] = 0.55795366F;
-		relShowdownProb[1063] = 0.53395563F;
-		relShowdownProb[1066] = 0.4139656F;
-		relShowdownProb[1067] = 0.42596462F;
-		relShowdownProb[1068] = 0.49195915F;
-		relShowdownProb[1069] = 0.5453547F;
-		relShowdownProb[1072] = 0.44996265F;
-		relShowdownProb[1073] = 0.47396064F;
-		relShowdownProb[1074] = 0.49795866F;
-		relShowdownProb[1075] = 0.5165571F;
-		relShowdownProb[1076] = 0.7057985F;
-		relShowdownProb[1085] = 0.62994766F;
-		relShowdownProb[1086] = 0.6059497F;
-		relShowdownProb[1089] = 0.7559372F;
-		relShowdownProb[1090] = 0.55795366F;
-		relShowdownProb[1091] = 0.56995267F;
-		relShowdownProb[1094] = 0.62994766F;
-		relShowdownProb[1095] = 0.6899427F;
-		relShowdownProb[1096] = 0.5429549F;
-		relShowdownProb[1097] = 0.55975354F;
-		relShowdownProb[1100] = 0.5939507F;
-		relShowdownProb[1101] = 0.56395316F;
-		relShowdownProb[1102] = 0.5759522F;
-		relShowdownProb[1103] = 0.6101493F;
-		relShowdownProb[1104] = 0.6635449F;
-		relShowdownProb[1107] = 0.6659447F;
-		relShowdownProb[1108] = 0.7259397F;
-		relShowdownProb[1109] = 0.69894195F;
-		relShowdownProb[1110] = 0.71274084F;
-		relShowdownProb[1111] = 0.79073435F;
-		relShowdownProb[1112] = 0.8891262F;
-		relShowdownProb[1131] = 0.7019417F;
-		relShowdownProb[1132] = 0.48595965F;
-		relShowdownProb[1141] = 0.55795366F;
-		relShowdownProb[1142] = 0.45596212F;
-		relShowdownProb[1145] = 0.6119492F;
-		relShowdownProb[1146] = 0.6539457F;
-		relShowdownProb[1147] = 0.5795519F;
-		relShowdownProb[1156] = 0.62994766F;
-		relShowdownProb[1157] = 0.5759522F;
-		relShowdownProb[1160] = 0.5759522F;
-		relShowdownProb[1161] = 0.6839432F;
-		relShowdownProb[1162] = 0.6149489F;
-		relShowdownProb[1165] = 0.55795366F;
-		relShowdownProb[1166] = 0.56995267F;
-		relShowdownProb[1167] = 0.5729524F;
-		relShowdownProb[1168] = 0.6839432F;
-		relShowdownProb[1177] = 0.4139656F;
-		relShowdownProb[1178] = 0.6899427F;
-		relShowdownProb[1181] = 0.77393574F;
-		relShowdownProb[1182] = 0.6899427F;
-		relShowdownProb[1183] = 0.6539457F;
-		relShowdownProb[1186] = 0.7199402F;
-		relShowdownProb[1187] = 0.53995514F;
-		relShowdownProb[1188] = 0.6689444F;
-		relShowdownProb[1189] = 0.6443465F;
-		relShowdownProb[1192] = 0.55795366F;
-		relShowdownProb[1193] = 0.6719442F;
-		relShowdownProb[1194] = 0.5369554F;
-		relShowdownProb[1195] = 0.68574303F;
-		relShowdownProb[1196] = 0.75850844F;
-		relShowdownProb[1205] = 0.6659447F;
-		relShowdownProb[1206] = 0.8279312F;
-		relShowdownProb[1209] = 0.7379387F;
-		relShowdownProb[1210] = 0.70794123F;
-		relShowdownProb[1211] = 0.7529375F;
-		relShowdownProb[1214] = 0.7559372F;
-		relShowdownProb[1215] = 0.7259397F;
-		relShowdownProb[1216] = 0.662945F;
-		relShowdownProb[1217] = 0.63534725F;
-		relShowdownProb[1220] = 0.7379387F;
-		relShowdownProb[1221] = 0.6959422F;
-		relShowdownProb[1222] = 0.6899427F;
-		relShowdownProb[1223] = 0.72174007F;
-		relShowdownProb[1224] = 0.7007418F;
-		relShowdownProb[1227] = 0.6839432F;
-		relShowdownProb[1228] = 0.9419218F;
-		relShowdownProb[1229] = 0.8819268F;
-		relShowdownProb[1230] = 0.818932F;
-		relShowdownProb[1231] = 0.8243315F;
-		relShowdownProb[1232] = 0.9575205F;
-		relShowdownProb[1241] = 0.6659447F;
-		relShowdownProb[1242] = 0.6659447F;
-		relShowdownProb[1245] = 0.5219567F;
-		relShowdownProb[1246] = 0.7199402F;
-		relShowdownProb[1247] = 0.794934F;
-		relShowdownProb[1250] = 0.8819268F;
-		relShowdownProb[1251] = 0.83993024F;
-		relShowdownProb[1252] = 0.7679362F;
-		relShowdownProb[1253] = 0.77933526F;
-		relShowdownProb[1256] = 0.77393574F;
-		relShowdownProb[1257] = 0.79793376F;
-		relShowdownProb[1258] = 0.7019417F;
-		relShowdownProb[1259] = 0.76133674F;
-		relShowdownProb[1260] = 0.80513316F;
-		relShowdownProb[1263] = 1.1339059F;
-		relShowdownProb[1264] = 0.85792875F;
-		relShowdownProb[1265] = 0.84592974F;
-		relShowdownProb[1266] = 0.8999253F;
-		relShowdownProb[1267] = 0.90832454F;
-		relShowdownProb[1268] = 1.0319144F;
-		relShowdownProb[1271] = 0.91792375F;
-		relShowdownProb[1272] = 1.0439134F;
-		relShowdownProb[1273] = 0.974919F;
-		relShowdownProb[1274] = 0.90712464F;
-		relShowdownProb[1275] = 0.90832454F;
-		relShowdownProb[1276] = 1.0302001F;
-		relShowdownProb[1295] = 0.188348F;
-		relShowdownProb[1296] = 0.376696F;
-		relShowdownProb[1305] = 0.094174F;
-		relShowdownProb[1306] = 0.45517433F;
-		relShowdownProb[1309] = 0.188348F;
-		relShowdownProb[1310] = 0.282522F;
-		relShowdownProb[1311] = 0.2260176F;
-		relShowdownProb[1320] = 0.517957F;
-		relShowdownProb[1321] = 0.31391332F;
-		relShowdownProb[1324] = 0.376696F;
-		relShowdownProb[1325] = 0.34530467F;
-		relShowdownProb[1326] = 0.20404366F;
-		relShowdownProb[1329] = 0.32960898F;
-		relShowdownProb[1330] = 0.235435F;
-		relShowdownProb[1331] = 0.21973933F;
-		relShowdownProb[1332] = 0.22497122F;
-		relShowdownProb[1341] = 0.094174F;
-		relShowdownProb[1342] = 0.21973933F;
-		relShowdownProb[1345] = 0.047087F;
-		relShowdownProb[1346] = 0.29821765F;
-		relShowdownProb[1347] = 0.21189149F;
-		relShowdownProb[1350] = 0.141261F;
-		relShowdownProb[1351] = 0.25113067F;
-		relShowdownProb[1352] = 0.188348F;
-		relShowdownProb[1353] = 0.2071828F;
-		relShowdownProb[1356] = 0.188348F;
-		relShowdownProb[1357] = 0.17265233F;
-		relShowdownProb[1358] = 0.16480449F;
-		relShowdownProb[1359] = 0.1695132F;
-		relShowdownProb[1360] = 0.26906857F;
-		relShowdownProb[1369] = 0.188348F;
-		relShowdownProb[1370] = 0.15695666F;
-		relShowdownProb[1373] = 0.32960898F;
-		relShowdownProb[1374] = 0.15695666F;
-		relShowdownProb[1375] = 0.235435F;
-		relShowdownProb[1378] = 0.235435F;
-		relShowdownProb[1379] = 0.12556534F;
-		relShowdownProb[1380] = 0.21189149F;
-		relShowdownProb[1381] = 0.19305669F;
-		relShowdownProb[1384] = 0.42378297F;
-		relShowdownProb[1385] = 0.26682633F;
-		relShowdownProb[1386] = 0.15695666F;
-		relShowdownProb[1387] = 0.24014369F;
-		relShowdownProb[1388] = 0.29193938F;
-		relShowdownProb[1391] = 0.47087F;
-		relShowdownProb[1392] = 0.25113067F;
-		relShowdownProb[1393] = 0.17265233F;
-		relShowdownProb[1394] = 0.21189149F;
-		relShowdownProb[1395] = 0.23857413F;
-		relShowdownProb[1396] = 0.3249003F;
-		relShowdownProb[1405] = 0.188348F;
-		relShowdownProb[1406] = 0.31391332F;
-		relShowdownProb[1409] = 0.188348F;
-		relShowdownProb[1410] = 0.21973933F;
-		relShowdownProb[1411] = 0.21189149F;
-		relShowdownProb[1414] = 0.141261F;
-		relShowdownProb[1415] = 0.26682633F;
-		relShowdownProb[1416] = 0.21973933F;
-		relShowdownProb[1417] = 0.2778133F;
-		relShowdownProb[1420] = 0.612131F;
-		relShowdownProb[1421] = 0.235435F;
-		relShowdownProb[1422] = 0.2589785F;
-		relShowdownProb[1423] = 0.17422189F;
-		relShowdownProb[1424] = 0.26682633F;
-		relShowdownProb[1427] = 0.282522F;
-		relShowdownProb[1428] = 0.20404366F;
-		relShowdownProb[1429] = 0.32176116F;
-		relShowdownProb[1430] = 0.3060655F;
-		relShowdownProb[1431] = 0.24171326F;
-		relShowdownProb[1432] = 0.28476423F;
-		relShowdownProb[1435] = 0.235435F;
-		relShowdownProb[1436] = 0.31391332F;
-		relShowdownProb[1437] = 0.36884815F;
-		relShowdownProb[1438] = 0.31548288F;
-		relShowdownProb[1439] = 0.28880027F;
-		relShowdownProb[1440] = 0.33633572F;
-		relShowdownProb[1441] = 0.44296658F;
-		relShowdownProb[1451] = 0.43947867F;
-		relShowdownProb[1455] = 0.53365266F;
-		relShowdownProb[1456] = 0.46302214F;
-		relShowdownProb[1460] = 0.32960898F;
-		relShowdownProb[1461] = 0.4002395F;
-		relShowdownProb[1462] = 0.44261777F;
-		relShowdownProb[1466] = 0.612131F;
-		relShowdownProb[1467] = 0.42378297F;
-		relShowdownProb[1468] = 0.3437351F;
-		relShowdownProb[1469] = 0.4834265F;
-		relShowdownProb[1473] = 0.53365266F;
-		relShowdownProb[1474] = 0.4002395F;
-		relShowdownProb[1475] = 0.40965688F;
-		relShowdownProb[1476] = 0.47400913F;
-		relShowdownProb[1477] = 0.54037935F;
-		relShowdownProb[1481] = 0.5493483F;
-		relShowdownProb[1482] = 0.42378297F;
-		relShowdownProb[1483] = 0.5932962F;
-		relShowdownProb[1484] = 0.57132226F;
-		relShowdownProb[1485] = 0.57401294F;
-		relShowdownProb[1486] = 0.7147134F;
-		relShowdownProb[1490] = 0.62782663F;
-		relShowdownProb[1491] = 0.69060934F;
-		relShowdownProb[1492] = 0.58387876F;
-		relShowdownProb[1493] = 0.6435223F;
-		relShowdownProb[1494] = 0.7130317F;
-		relShowdownProb[1495] = 0.8038423F;
-		relShowdownProb[1496] = 0.90003437F;
-		relShowdownProb[1515] = 0.517957F;
-		relShowdownProb[1516] = 0.4002395F;
-		relShowdownProb[1525] = 0.565044F;
-		relShowdownProb[1526] = 0.282522F;
-		relShowdownProb[1529] = 0.282522F;
-		relShowdownProb[1530] = 0.43947867F;
-		relShowdownProb[1531] = 0.3013568F;
-		relShowdownProb[1540] = 0.141261F;
-		relShowdownProb[1541] = 0.35315248F;
-		relShowdownProb[1544] = 0.188348F;
-		relShowdownProb[1545] = 0.20404366F;
-		relShowdownProb[1546] = 0.25113067F;
-		relShowdownProb[1549] = 0.188348F;
-		relShowdownProb[1550] = 0.282522F;
-		relShowdownProb[1551] = 0.21189149F;
-		relShowdownProb[1552] = 0.25113067F;
-		relShowdownProb[1561] = 0.32960898F;
-		relShowdownProb[1562] = 0.188348F;
-		relShowdownProb[1565] = 0.32960898F;
-		relShowdownProb[1566] = 0.29821765F;
-		relShowdownProb[1567] = 0.24328282F;
-		relShowdownProb[1570] = 0.376696F;
-		relShowdownProb[1571] = 0.29821765F;
-		relShowdownProb[1572] = 0.21189149F;
-		relShowdownProb[1573] = 0.31077418F;
-		relShowdownProb[1576] = 0.47087F;
-		relShowdownProb[1577] = 0.25113067F;
-		relShowdownProb[1578] = 0.32960898F;
-		relShowdownProb[1579] = 0.2683959F;
-		relShowdownProb[1580] = 0.26234186F;
-		relShowdownProb[1589] = 0.376696F;
-		relShowdownProb[1590] = 0.235435F;
-		relShowdownProb[1593] = 0.376696F;
-		relShowdownProb[1594] = 0.15695666F;
-		relShowdownProb[1595] = 0.235435F;
-		relShowdownProb[1598] = 0.65921795F;
-		relShowdownProb[1599] = 0.21973933F;
-		relShowdownProb[1600] = 0.282522F;
-		relShowdownProb[1601] = 0.22130889F;
-		relShowdownProb[1604] = 0.282522F;
-		relShowdownProb[1605] = 0.282522F;
-		relShowdownProb[1606] = 0.24328282F;
-		relShowdownProb[1607] = 0.22130889F;
-		relShowdownProb[1608] = 0.27938285F;
-		relShowdownProb[1611] = 0.612131F;
-		relShowdownProb[1612] = 0.20404366F;
-		relShowdownProb[1613] = 0.235435F;
-		relShowdownProb[1614] = 0.23072629F;
-		relShowdownProb[1615] = 0.24171326F;
-		relShowdownProb[1616] = 0.34138075F;
-		relShowdownProb[1625] = 0.235435F;
-		relShowdownProb[1626] = 0.376696F;
-		relShowdownProb[1629] = 0.376696F;
-		relShowdownProb[1630] = 0.42378297F;
-		relShowdownProb[1631] = 0.282522F;
-		relShowdownProb[1634] = 0.235435F;
-		relShowdownProb[1635] = 0.32960898F;
-		relShowdownProb[1636] = 0.27467415F;
-		relShowdownProb[1637] = 0.3060655F;
-		relShowdownProb[1640] = 0.188348F;
-		relShowdownProb[1641] = 0.15695666F;
-		relShowdownProb[1642] = 0.188348F;
-		relShowdownProb[1643] = 0.25426978F;
-		relShowdownProb[1644] = 0.28566113F;
-		relShowdownProb[1647] = 0.282522F;
-		relShowdownProb[1648] = 0.282522F;
-		relShowdownProb[1649] = 0.27467415F;
-		relShowdownProb[1650] = 0.23072629F;
-		relShowdownProb[1651] = 0.282522F;
-		relShowdownProb[1652] = 0.36996928F;
-		relShowdownProb[1655] = 0.282522F;
-		relShowdownProb[1656] = 0.34530467F;
-		relShowdownProb[1657] = 0.32960898F;
-		relShowdownProb[1658] = 0.3013568F;
-		relShowdownProb[1659] = 0.31391332F;
-		relShowdownProb[1660] = 0.40584508F;
-		relShowdownProb[1661] = 0.4412226F;
-		relShowdownProb[1671] = 0.376696F;
-		relShowdownProb[1675] = 0.39239165F;
-		relShowdownProb[1676] = 0.42378297F;
-		relShowdownProb[1680] = 0.4080873F;
-		relShowdownProb[1681] = 0.44732648F;
-		relShowdownProb[1682] = 0.46616128F;
-		relShowdownProb[1686] = 0.42378297F;
-		relShowdownProb[1687] = 0.36884815F;
-		relShowdownProb[1688] = 0.3625699F;
-		relShowdownProb[1689] = 0.44889605F;
-		relShowdownProb[1693] = 0.8161746F;
-		relShowdownProb[1694] = 0.55719614F;
-		relShowdownProb[1695] = 0.46145257F;
-		relShowdownProb[1696] = 0.48028737F;
-		relShowdownProb[1697] = 0.56952846F;
-		relShowdownProb[1701] = 0.517957F;
-		relShowdownProb[1702] = 0.53365266F;
-		relShowdownProb[1703] = 0.58858746F;
-		relShowdownProb[1704] = 0.62154835F;
-		relShowdownProb[1705] = 0.5605595F;
-		relShowdownProb[1706] = 0.6894882F;
-		relShowdownProb[1710] = 0.7376963F;
-		relShowdownProb[1711] = 0.7141528F;
-		relShowdownProb[1712] = 0.6450919F;
-		relShowdownProb[1713] = 0.66863537F;
-		relShowdownProb[1714] = 0.69285154F;
-		relShowdownProb[1715] = 0.6995783F;
-		relShowdownProb[1716] = 0.9296319F;
-		relShowdownProb[1735] = 0.376696F;
-		relShowdownProb[1736] = 0.565044F;
-		relShowdownProb[1745] = 0.517957F;
-		relShowdownProb[1746] = 0.32960898F;
-		relShowdownProb[1749] = 0.47087F;
-		relShowdownProb[1750] = 0.31391332F;
-		relShowdownProb[1751] = 0.34844378F;
-		relShowdownProb[1760] = 0.565044F;
-		relShowdownProb[1761] = 0.35315248F;
-		relShowdownProb[1764] = 0.235435F;
-		relShowdownProb[1765] = 0.29821765F;
-		relShowdownProb[1766] = 0.36727858F;
-		relShowdownProb[1769] = 0.517957F;
-		relShowdownProb[1770] = 0.42378297F;
-		relShowdownProb[1771] = 0.18050016F;
-		relShowdownProb[1772] = 0.39239165F;
-		relShowdownProb[1781] = 0.42378297F;
-		relShowdownProb[1782] = 0.32960898F;
-		relShowdownProb[1785] = 0.47087F;
-		relShowdownProb[1786] = 0.5493483F;
-		relShowdownProb[1787] = 0.32960898F;
-		relShowdownProb[1790] = 0.235435F;
-		relShowdownProb[1791] = 0.53365266F;
-		relShowdownProb[1792] = 0.2589785F;
-		relShowdownProb[1793] = 0.29193938F;
-		relShowdownProb[1796] = 0.282522F;
-		relShowdownProb[1797] = 0.29821765F;
-		relShowdownProb[1798] = 0.26682633F;
-		relShowdownProb[1799] = 0.3060655F;
-		relShowdownProb[1800] = 0.27915862F;
-		relShowdownProb[1809] = 0.517957F;
-		relShowdownProb[1810] = 0.376696F;
-		relShowdownProb[1813] = 0.47087F;
-		relShowdownProb[1814] = 0.43947867F;
-		relShowdownProb[1815] = 0.3201916F;
-		relShowdownProb[1818] = 0.42378297F;
-		relShowdownProb[1819] = 0.282522F;
-		relShowdownProb[1820] = 0.36100033F;
-		relShowdownProb[1821] = 0.2966481F;
-		relShowdownProb[1824] = 0.094174F;
-		relShowdownProb[1825] = 0.39239165F;
-		relShowdownProb[1826] = 0.31391332F;
-		relShowdownProb[1827] = 0.33431768F;
-		relShowdownProb[1828] = 0.26054806F;
-		relShowdownProb[1831] = 0.188348F;
-		relShowdownProb[1832] = 0.34530467F;
-		relShowdownProb[1833] = 0.36884815F;
-		relShowdownProb[1834] = 0.31548288F;
-		relShowdownProb[1835] = 0.25740892F;
-		relShowdownProb[1836] = 0.3390264F;
-		relShowdownProb[1845] = 0.42378297F;
-		relShowdownProb[1846] = 0.32960898F;
-		relShowdownProb[1849] = 0.42378297F;
-		relShowdownProb[1850] = 0.45517433F;
-		relShowdownProb[1851] = 0.376696F;
-		relShowdownProb[1854] = 0.376696F;
-		relShowdownProb[1855] = 0.26682633F;
-		relShowdownProb[1856] = 0.4002395F;
-		relShowdownProb[1857] = 0.29193938F;
-		relShowdownProb[1860] = 0.376696F;
-		relShowdownProb[1861] = 0.39239165F;
-		relShowdownProb[1862] = 0.32176116F;
-		relShowdownProb[1863] = 0.2966481F;
-		relShowdownProb[1864] = 0.30763507F;
-		relShowdownProb[1867] = 0.612131F;
-		relShowdownProb[1868] = 0.47087F;
-		relShowdownProb[1869] = 0.36100033F;
-		relShowdownProb[1870] = 0.3390264F;
-		relShowdownProb[1871] = 0.27938285F;
-		relShowdownProb[1872] = 0.3901494F;
-		relShowdownProb[1875] = 0.65921795F;
-		relShowdownProb[1876] = 0.4080873F;
-		relShowdownProb[1877] = 0.38454384F;
-		relShowdownProb[1878] = 0.31077418F;
-		relShowdownProb[1879] = 0.39866993F;
-		relShowdownProb[1880] = 0.35203138F;
-		relShowdownProb[1881] = 0.42029506F;
-		relShowdownProb[1891] = 0.5415005F;
-		relShowdownProb[1895] = 0.67491364F;
-		relShowdownProb[1896] = 0.517957F;
-		relShowdownProb[1900] = 0.565044F;
-		relShowdownProb[1901] = 0.5493483F;
-		relShowdownProb[1902] = 0.5367918F;
-		relShowdownProb[1906] = 0.69060934F;
-		relShowdownProb[1907] = 0.53365266F;
-		relShowdownProb[1908] = 0.58387876F;
-		relShowdownProb[1909] = 0.44261777F;
-		relShowdownProb[1913] = 0.72200066F;
-		relShowdownProb[1914] = 0.7612398F;
-		relShowdownProb[1915] = 0.4944135F;
-		relShowdownProb[1916] = 0.56190485F;
-		relShowdownProb[1917] = 0.6255844F;
-		relShowdownProb[1921] = 0.65921795F;
-		relShowdownProb[1922] = 0.5964353F;
-		relShowdownProb[1923] = 0.6027136F;
-		relShowdownProb[1924] = 0.5587657F;
-		relShowdownProb[1925] = 0.67491364F;
-		relShowdownProb[1926] = 0.6440829F;
-		relShowdownProb[1930] = 0.72200066F;
-		relShowdownProb[1931] = 0.7612398F;
-		relShowdownProb[1932] = 0.6545093F;
-		relShowdownProb[1933] = 0.75025284F;
-		relShowdownProb[1934] = 0.7780566F;
-		relShowdownProb[1935] = 0.83243084F;
-		relShowdownProb[1936] = 0.8825449F;
-		relShowdownProb[1955] = 0.94174F;
-		relShowdownProb[1956] = 0.65921795F;
-		relShowdownProb[1965] = 0.70630497F;
-		relShowdownProb[1966] = 0.4944135F;
-		relShowdownProb[1969] = 0.612131F;
-		relShowdownProb[1970] = 0.5964353F;
-		relShowdownProb[1971] = 0.36100033F;
-		relShowdownProb[1980] = 0.42378297F;
-		relShowdownProb[1981] = 0.47087F;
-		relShowdownProb[1984] = 0.42378297F;
-		relShowdownProb[1985] = 0.69060934F;
-		relShowdownProb[1986] = 0.46145257F;
-		relShowdownProb[1989] = 0.612131F;
-		relShowdownProb[1990] = 0.29821765F;
-		relShowdownProb[1991] = 0.47087F;
-		relShowdownProb[1992] = 0.47610188F;
-		relShowdownProb[2001] = 0.376696F;
-		relShowdownProb[2002] = 0.612131F;
-		relShowdownProb[2005] = 0.65921795F;
-		relShowdownProb[2006] = 0.48656565F;
-		relShowdownProb[2007] = 0.44261777F;
-		relShowdownProb[2010] = 0.47087F;
-		relShowdownProb[2011] = 0.376696F;
-		relShowdownProb[2012] = 0.45517433F;
-		relShowdownProb[2013] = 0.35053656F;
-		relShowdownProb[2016] = 0.42378297F;
-		relShowdownProb[2017] = 0.26682633F;
-		relShowdownProb[2018] = 0.36100033F;
-		relShowdownProb[2019] = 0.34844378F;
-		relShowdownProb[2020] = 0.42041963F;
-		relShowdownProb[2029] = 0.517957F;
-		relShowdownProb[2030] = 0.5415005F;
-		relShowdownProb[2033] = 0.47087F;
-		relShowdownProb[2034] = 0.50226134F;
-		relShowdownProb[2035] = 0.44261777F;
-		relShowdownProb[2038] = 0.376696F;
-		relShowdownProb[2039] = 0.4080873F;
-		relShowdownProb[2040] = 0.38454384F;
-		relShowdownProb[2041] = 0.3714641F;
-		relShowdownProb[2044] = 0.42378297F;
-		relShowdownProb[2045] = 0.517957F;
-		relShowdownProb[2046] = 0.282522F;
-		relShowdownProb[2047] = 0.33431768F;
-		relShowdownProb[2048] = 0.32646987F;
-		relShowdownProb[2051] = 0.517957F;
-		relShowdownProb[2052] = 0.36100033F;
-		relShowdownProb[2053] = 0.35315248F;
-		relShowdownProb[2054] = 0.32960898F;
-		relShowdownProb[2055] = 0.34844378F;
-		relShowdownProb[2056] = 0.4143656F;
-		relShowdownProb[2065] = 0.47087F;
-		relShowdownProb[2066] = 0.4944135F;
-		relShowdownProb[2069] = 0.42378297F;
-		relShowdownProb[2070] = 0.5807397F;
-		relShowdownProb[2071] = 0.38611338F;
-		relShowdownProb[2074] = 0.376696F;
-		relShowdownProb[2075] = 0.42378297F;
-		relShowdownProb[2076] = 0.46302214F;
-		relShowdownProb[2077] = 0.35576844F;
-		relShowdownProb[2080] = 0.282522F;
-		relShowdownProb[2081] = 0.39239165F;
-		relShowdownProb[2082] = 0.32960898F;
-		relShowdownProb[2083] = 0.32960898F;
-		relShowdownProb[2084] = 0.282522F;
-		relShowdownProb[2087] = 0.282522F;
-		relShowdownProb[2088] = 0.45517433F;
-		relShowdownProb[2089] = 0.36884815F;
-		relShowdownProb[2090] = 0.4002395F;
-		relShowdownProb[2091] = 0.3515829F;
-		relShowdownProb[2092] = 0.4349942F;
-		relShowdownProb[2095] = 0.282522F;
-		relShowdownProb[2096] = 0.42378297F;
-		relShowdownProb[2097] = 0.43163082F;
-		relShowdownProb[2098] = 0.37198728F;
-		relShowdownProb[2099] = 0.38297427F;
-		relShowdownProb[2100] = 0.4080873F;
-		relShowdownProb[2101] = 0.5127251F;
-		relShowdownProb[2111] = 0.77693546F;
-		relShowdownProb[2115] = 0.67491364F;
-		relShowdownProb[2116] = 0.6498006F;
-		relShowdownProb[2120] = 0.5964353F;
-		relShowdownProb[2121] = 0.65921795F;
-		relShowdownProb[2122] = 0.61736286F;
-		relShowdownProb[2126] = 0.67491364F;
-		relShowdownProb[2127] = 0.5964353F;
-		relShowdownProb[2128] = 0.4897048F;
-		relShowdownProb[2129] = 0.49284393F;
-		relShowdownProb[2133] = 0.72200066F;
-		relShowdownProb[2134] = 0.7376963F;
-		relShowdownProb[2135] = 0.6356745F;
-		relShowdownProb[2136] = 0.43633953F;
-		relShowdownProb[2137] = 0.6345534F;
-		relShowdownProb[2141] = 0.70630497F;
-		relShowdownProb[2142] = 0.77693546F;
-		relShowdownProb[2143] = 0.6780528F;
-		relShowdownProb[2144] = 0.64666146F;
-		relShowdownProb[2145] = 0.7870256F;
-		relShowdownProb[2146] = 0.70630497F;
-		relShowdownProb[2150] = 0.7847833F;
-		relShowdownProb[2151] = 0.6435223F;
-		relShowdownProb[2152] = 0.81460506F;
-		relShowdownProb[2153] = 0.7471137F;
-		relShowdownProb[2154] = 0.8072057F;
-		relShowdownProb[2155] = 0.84924763F;
-		relShowdownProb[2156] = 0.9296319F;
-		relShowdownProb[2175] = 0.84756595F;
-		relShowdownProb[2176] = 0.42378297F;
-		relShowdownProb[2185] = 0.612131F;
-		relShowdownProb[2186] = 0.47087F;
-		relShowdownProb[2189] = 0.612131F;
-		relShowdownProb[2190] = 0.5964353F;
-		relShowdownProb[2191] = 0.5493483F;
-		relShowdownProb[2200] = 0.612131F;
-		relShowdownProb[2201] = 0.753392F;
-		relShowdownProb[2204] = 0.565044F;
-		relShowdownProb[2205] = 0.517957F;
-		relShowdownProb[2206] = 0.63096577F;
-		relShowdownProb[2209] = 0.612131F;
-		relShowdownProb[2210] = 0.282522F;
-		relShowdownProb[2211] = 0.5101091F;
-		relShowdownProb[2212] = 0.42378297F;
-		relShowdownProb[2221] = 0.517957F;
-		relShowdownProb[2222] = 0.6356745F;
-		relShowdownProb[2225] = 0.42378297F;
-		relShowdownProb[2226] = 0.517957F;
-		relShowdownProb[2227] = 0.50853956F;
-		relShowdownProb[2230] = 0.800479F;
-		relShowdownProb[2231] = 0.43947867F;
-		relShowdownProb[2232] = 0.4080873F;
-		relShowdownProb[2233] = 0.50226134F;
-		relShowdownProb[2236] = 0.517957F;
-		relShowdownProb[2237] = 0.5807397F;
-		relShowdownProb[2238] = 0.46302214F;
-		relShowdownProb[2239] = 0.40494817F;
-		relShowdownProb[2240] = 0.44059977F;
-		relShowdownProb[2249] = 0.188348F;
-		relShowdownProb[2250] = 0.47087F;
-		relShowdownProb[2253] = 0.47087F;
-		relShowdownProb[2254] = 0.565044F;
-		relShowdownProb[2255] = 0.4143656F;
-		relShowdownProb[2258] = 0.235435F;
-		relShowdownProb[2259] = 0.43947867F;
-		relShowdownProb[2260] = 0.41593516F;
-		relShowdownProb[2261] = 0.517957F;
-		relShowdownProb[2264] = 0.376696F;
-		relShowdownProb[2265] = 0.53365266F;
-		relShowdownProb[2266] = 0.57289183F;
-		relShowdownProb[2267] = 0.47087F;
-		relShowdownProb[2268] = 0.34642577F;
-		relShowdownProb[2271] = 0.42378297F;
-		relShowdownProb[2272] = 0.50226134F;
-		relShowdownProb[2273] = 0.4944135F;
-		relShowdownProb[2274] = 0.42849168F;
-		relShowdownProb[2275] = 0.4269221F;
-		relShowdownProb[2276] = 0.4379091F;
-		relShowdownProb[2285] = 0.65921795F;
-		relShowdownProb[2286] = 0.5415005F;
-		relShowdownProb[2289] = 0.47087F;
-		relShowdownProb[2290] = 0.517957F;
-		relShowdownProb[2291] = 0.46145257F;
-		relShowdownProb[2294] = 0.42378297F;
-		relShowdownProb[2295] = 0.517957F;
-		relShowdownProb[2296] = 0.5415005F;
-		relShowdownProb[2297] = 0.45517433F;
-		relShowdownProb[2300] = 0.517957F;
-		relShowdownProb[2301] = 0.4080873F;
-		relShowdownProb[2302] = 0.376696F;
-		relShowdownProb[2303] = 0.4332004F;
-		relShowdownProb[2304] = 0.35315248F;
-		relShowdownProb[2307] = 0.47087F;
-		relShowdownProb[2308] = 0.36100033F;
-		relShowdownProb[2309] = 0.5415005F;
-		relShowdownProb[2310] = 0.4190743F;
-		relShowdownProb[2311] = 0.3955308F;
-		relShowdownProb[2312] = 0.4529321F;
-		relShowdownProb[2315] = 0.65921795F;
-		relShowdownProb[2316] = 0.48656565F;
-		relShowdownProb[2317] = 0.5807397F;
-		relShowdownProb[2318] = 0.36727858F;
-		relShowdownProb[2319] = 0.40180907F;
-		relShowdownProb[2320] = 0.47983894F;
-		relShowdownProb[2321] = 0.5092372F;
-		relShowdownProb[2330] = 0.89465296F;
-		relShowdownProb[2331] = 0.753392F;
-		relShowdownProb[2334] = 0.42378297F;
-		relShowdownProb[2335] = 0.48656565F;
-		relShowdownProb[2336] = 0.6403832F;
-		relShowdownProb[2339] = 0.612131F;
-		relShowdownProb[2340] = 0.612131F;
-		relShowdownProb[2341] = 0.53365266F;
-		relShowdownProb[2342] = 0.6225948F;
-		relShowdownProb[2345] = 0.565044F;
-		relShowdownProb[2346] = 0.5807397F;
-		relShowdownProb[2347] = 0.60428315F;
-		relShowdownProb[2348] = 0.612131F;
-		relShowdownProb[2349] = 0.5953142F;
-		relShowdownProb[2352] = 0.70630497F;
-		relShowdownProb[2353] = 0.5807397F;
-		relShowdownProb[2354] = 0.65921795F;
-		relShowdownProb[2355] = 0.612131F;
-		relShowdownProb[2356] = 0.66549623F;
-		relShowdownProb[2357] = 0.60540426F;
-		relShowdownProb[2360] = 0.612131F;
-		relShowdownProb[2361] = 0.5964353F;
-		relShowdownProb[2362] = 0.7298485F;
-		relShowdownProb[2363] = 0.70630497F;
-		relShowdownProb[2364] = 0.6403832F;
-		relShowdownProb[2365] = 0.7130317F;
-		relShowdownProb[2366] = 0.79207057F;
-		relShowdownProb[2369] = 0.89465296F;
-		relShowdownProb[2370] = 0.91034865F;
-		relShowdownProb[2371] = 0.8711095F;
-		relShowdownProb[2372] = 0.81460506F;
-		relShowdownProb[2373] = 0.80989635F;
-		relShowdownProb[2374] = 0.8027212F;
-		relShowdownProb[2375] = 0.88960797F;
-		relShowdownProb[2376] = 1.0103525F;
-		relShowdownProb[2392] = 0.89465296F;
-		relShowdownProb[2395] = 0.65921795F;
-		relShowdownProb[2396] = 1.130088F;
-		relShowdownProb[2402] = 0.65921795F;
-		relShowdownProb[2405] = 0.47087F;
-		relShowdownProb[2406] = 0.7298485F;
-		relShowdownProb[2409] = 0.188348F;
-		relShowdownProb[2410] = 0.5964353F;
-		relShowdownProb[2411] = 0.753392F;
-		relShowdownProb[2417] = 0.376696F;
-		relShowdownProb[2420] = 0.800479F;
-		relShowdownProb[2421] = 0.44732648F;
-		relShowdownProb[2424] = 0.32960898F;
-		relShowdownProb[2425] = 0.62782663F;
-		relShowdownProb[2426] = 0.7157224F;
-		relShowdownProb[2429] = 0.565044F;
-		relShowdownProb[2430] = 0.517957F;
-		relShowdownProb[2431] = 0.55719614F;
-		relShowdownProb[2432] = 0.6435223F;
-		relShowdownProb[2438] = 0.753392F;
-		relShowdownProb[2441] = 0.32960898F;
-		relShowdownProb[2442] = 0.8240225F;
-		relShowdownProb[2445] = 0.42378297F;
-		relShowdownProb[2446] = 0.565044F;
-		relShowdownProb[2447] = 0.565044F;
-		relShowdownProb[2450] = 0.47087F;
-		relShowdownProb[2451] = 0.565044F;
-		relShowdownProb[2452] = 0.7141528F;
-		relShowdownProb[2453] = 0.71676874F;
-		relShowdownProb[2456] = 0.376696F;
-		relShowdownProb[2457] = 0.53365266F;
-		relShowdownProb[2458] = 0.517957F;
-		relShowdownProb[2459] = 0.54620916F;
-		relShowdownProb[2460] = 0.4897048F;
-		relShowdownProb[2466] = 0.282522F;
-		relShowdownProb[2469] = 0.47087F;
-		relShowdownProb[2470] = 0.7298485F;
-		relShowdownProb[2473] = 0.565044F;
-		relShowdownProb[2474] = 0.6435223F;
-		relShowdownProb[2475] = 0.5932962F;
-		relShowdownProb[2478] = 0.565044F;
-		relShowdownProb[2479] = 0.50226134F;
-		relShowdownProb[2480] = 0.5258048F;
-		relShowdownProb[2481] = 0.6435223F;
-		relShowdownProb[2484] = 0.70630497F;
-		relShowdownProb[2485] = 0.47087F;
-		relShowdownProb[2486] = 0.50226134F;
-		relShowdownProb[2487] = 0.47087F;
-		relShowdownProb[2488] = 0.565044F;
-		relShowdownProb[2491] = 0.32960898F;
-		relShowdownProb[2492] = 0.517957F;
-		relShowdownProb[2493] = 0.5258048F;
-		relShowdownProb[2494] = 0.4379091F;
-		relShowdownProb[2495] = 0.46773085F;
-		relShowdownProb[2496] = 0.49676785F;
-		relShowdownProb[2502] = 0.47087F;
-		relShowdownProb[2505] = 0.47087F;
-		relShowdownProb[2506] = 0.753392F;
-		relShowdownProb[2509] = 0.47087F;
-		relShowdownProb[2510] = 0.62782663F;
-		relShowdownProb[2511] = 0.517957F;
-		relShowdownProb[2514] = 0.47087F;
-		relShowdownProb[2515] = 0.43947867F;
-		relShowdownProb[2516] = 0.34530467F;
-		relShowdownProb[2517] = 0.5074932F;
-		relShowdownProb[2520] = 0.42378297F;
-		relShowdownProb[2521] = 0.29821765F;
-		relShowdownProb[2522] = 0.57289183F;
-		relShowdownProb[2523] = 0.5697527F;
-		relShowdownProb[2524] = 0.5415005F;
-		relShowdownProb[2527] = 0.42378297F;
-		relShowdownProb[2528] = 0.48656565F;
-		relShowdownProb[2529] = 0.4944135F;
-		relShowdownProb[2530] = 0.47087F;
-		relShowdownProb[2531] = 0.49598306F;
-		relShowdownProb[2532] = 0.5556266F;
-		relShowdownProb[2535] = 0.517957F;
-		relShowdownProb[2536] = 0.5807397F;
-		relShowdownProb[2537] = 0.5493483F;
-		relShowdownProb[2538] = 0.48499608F;
-		relShowdownProb[2539] = 0.565044F;
-		relShowdownProb[2540] = 0.55831724F;
-		relShowdownProb[2541] = 0.5789957F;
-		relShowdownProb[2550] = 0.32960898F;
-		relShowdownProb[2551] = 0.89465296F;
-		relShowdownProb[2554] = 0.376696F;
-		relShowdownProb[2555] = 0.84756595F;
-		relShowdownProb[2556] = 0.84756595F;
-		relShowdownProb[2559] = 0.70630497F;
-		relShowdownProb[2560] = 0.62782663F;
-		relShowdownProb[2561] = 0.7376963F;
-		relShowdownProb[2562] = 0.76385576F;
-		relShowdownProb[2565] = 0.565044F;
-		relShowdownProb[2566] = 0.7690877F;
-		relShowdownProb[2567] = 0.65137017F;
-		relShowdownProb[2568] = 0.74397457F;
-		relShowdownProb[2569] = 0.7130317F;
-		relShowdownProb[2572] = 0.84756595F;
-		relShowdownProb[2573] = 0.50226134F;
-		relShowdownProb[2574] = 0.7690877F;
-		relShowdownProb[2575] = 0.7486833F;
-		relShowdownProb[2576] = 0.7188615F;
-		relShowdownProb[2577] = 0.7298485F;
-		relShowdownProb[2580] = 0.800479F;
-		relShowdownProb[2581] = 0.67491364F;
-		relShowdownProb[2582] = 0.8161746F;
-		relShowdownProb[2583] = 0.6733441F;
-		relShowdownProb[2584] = 0.75967026F;
-		relShowdownProb[2585] = 0.7197584F;
-		relShowdownProb[2586] = 0.87951785F;
-		relShowdownProb[2589] = 1.035914F;
-		relShowdownProb[2590] = 0.91034865F;
-		relShowdownProb[2591] = 0.83971816F;
-		relShowdownProb[2592] = 0.81931376F;
-		relShowdownProb[2593] = 0.8067573F;
-		relShowdownProb[2594] = 0.8341125F;
-		relShowdownProb[2595] = 0.94678503F;
-		relShowdownProb[2596] = 1.0453314F;
-		relShowdownProb[2612] = 0.376696F;
-		relShowdownProb[2615] = 0.70630497F;
-		relShowdownProb[2616] = 0.94174F;
-		relShowdownProb[2622] = 0.70630497F;
-		relShowdownProb[2625] = 0.70630497F;
-		relShowdownProb[2626] = 0.7690877F;
-		relShowdownProb[2629] = 0.800479F;
-		relShowdownProb[2630] = 0.7690877F;
-		relShowdownProb[2631] = 0.6435223F;
-		relShowdownProb[2637] = 0.42378297F;
-		relShowdownProb[2640] = 0.517957F;
-		relShowdownProb[2641] = 0.65921795F;
-		relShowdownProb[2644] = 0.65921795F;
-		relShowdownProb[2645] = 0.47087F;
-		relShowdownProb[2646] = 0.9134878F;
-		relShowdownProb[2649] = 0.84756595F;
-		relShowdownProb[2650] = 0.70630497F;
-		relShowdownProb[2651] = 0.70630497F;
-		relShowdownProb[2652] = 0.9025008F;
-		relShowdownProb[2658] = 0.753392F;
-		relShowdownProb[2661] = 0.800479F;
-		relShowdownProb[2662] = 0.800479F;
-		relShowdownProb[2665] = 0.65921795F;
-		relShowdownProb[2666] = 0.5964353F;
-		relShowdownProb[2667] = 0.81931376F;
-		relShowdownProb[2670] = 0.565044F;
-		relShowdownProb[2671] = 0.65921795F;
-		relShowdownProb[2672] = 0.61997885F;
-		relShowdownProb[2673] = 0.7376963F;
-		relShowdownProb[2676] = 0.47087F;
-		relShowdownProb[2677] = 0.47087F;
-		relShowdownProb[2678] = 0.61997885F;
-		relShowdownProb[2679] = 0.7298485F;
-		relShowdownProb[2680] = 0.7251398F;
-		relShowdownProb[2686] = 0.47087F;
-		relShowdownProb[2689] = 0.517957F;
-		relShowdownProb[2690] = 0.800479F;
-		relShowdownProb[2693] = 0.84756595F;
-		relShowdownProb[2694] = 0.67491364F;
-		relShowdownProb[2695] = 0.70630497F;
-		relShowdownProb[2698] = 0.376696F;
-		relShowdownProb[2699] = 0.43947867F;
-		relShowdownProb[2700] = 0.58858746F;
-		relShowdownProb[2701] = 0.71676874F;
-		relShowdownProb[2704] = 0.565044F;
-		relShowdownProb[2705] = 0.69060934F;
-		relShowdownProb[2706] = 0.5964353F;
-		relShowdownProb[2707] = 0.6498006F;
-		relShowdownProb[2708] = 0.6827615F;
-		relShowdownProb[2711] = 0.42378297F;
-		relShowdownProb[2712] = 0.47087F;
-		relShowdownProb[2713] = 0.517957F;
-		relShowdownProb[2714] = 0.5367918F;
-		relShowdownProb[2715] = 0.6560789F;
-		relShowdownProb[2716] = 0.60899186F;
-		relShowdownProb[2722] = 0.565044F;
-		relShowdownProb[2725] = 0.47087F;
-		relShowdownProb[2726] = 0.7376963F;
-		relShowdownProb[2729] = 0.612131F;
-		relShowdownProb[2730] = 0.5493483F;
-		relShowdownProb[2731] = 0.77222675F;
-		relShowdownProb[2734] = 0.47087F;
-		relShowdownProb[2735] = 0.612131F;
-		relShowdownProb[2736] = 0.77693546F;
-		relShowdownProb[2737] = 0.7376963F;
-		relShowdownProb[2740] = 0.376696F;
-		relShowdownProb[2741] = 0.67491364F;
-		relShowdownProb[2742] = 0.6356745F;
-		relShowdownProb[2743] = 0.69688755F;
-		relShowdownProb[2744] = 0.6457645F;
-		relShowdownProb[2747] = 0.70630497F;
-		relShowdownProb[2748] = 0.67491364F;
-		relShowdownProb[2749] = 0.5493483F;
-		relShowdownProb[2750] = 0.5744614F;
-		relShowdownProb[2751] = 0.5964353F;
-		relShowdownProb[2752] = 0.59565055F;
-		relShowdownProb[2755] = 0.517957F;
-		relShowdownProb[2756] = 0.48656565F;
-		relShowdownProb[2757] = 0.62782663F;
-		relShowdownProb[2758] = 0.66392666F;
-		relShowdownProb[2759] = 0.57760054F;
-		relShowdownProb[2760] = 0.5762552F;
-		relShowdownProb[2761] = 0.6539861F;
-		relShowdownProb[2770] = 0.612131F;
-		relShowdownProb[2771] = 0.7847833F;
-		relShowdownProb[2774] = 0.800479F;
-		relShowdownProb[2775] = 0.65921795F;
-		relShowdownProb[2776] = 0.9134878F;
-		relShowdownProb[2779] = 0.612131F;
-		relShowdownProb[2780] = 0.91034865F;
-		relShowdownProb[2781] = 0.7376963F;
-		relShowdownProb[2782] = 0.74816006F;
-		relShowdownProb[2785] = 0.800479F;
-		relShowdownProb[2786] = 0.612131F;
-		relShowdownProb[2787] = 0.67491364F;
-		relShowdownProb[2788] = 0.7157224F;
-		relShowdownProb[2789] = 0.84083927F;
-		relShowdownProb[2792] = 0.65921795F;
-		relShowdownProb[2793] = 0.89465296F;
-		relShowdownProb[2794] = 0.6984571F;
-		relShowdownProb[2795] = 0.8287312F;
-		relShowdownProb[2796] = 0.85698336F;
-		relShowdownProb[2797] = 0.81931376F;
-		relShowdownProb[2800] = 0.70630497F;
-		relShowdownProb[2801] = 0.7847833F;
-		relShowdownProb[2802] = 0.8161746F;
-		relShowdownProb[2803] = 0.8664008F;
-		relShowdownProb[2804] = 0.9072095F;
-		relShowdownProb[2805] = 0.79151005F;
-		relShowdownProb[2806] = 0.95743567F;
-		relShowdownProb[2809] = 1.1771749F;
-		relShowdownProb[2810] = 0.7690877F;
-		relShowdownProb[2811] = 0.79263115F;
-		relShowdownProb[2812] = 1.035914F;
-		relShowdownProb[2813] = 0.91662693F;
-		relShowdownProb[2814] = 0.9193176F;
-		relShowdownProb[2815] = 0.94678503F;
-		relShowdownProb[2816] = 1.1583402F;
-		relShowdownProb[2832] = 0.89465296F;
-		relShowdownProb[2835] = 0.70630497F;
-		relShowdownProb[2836] = 0.58858746F;
-		relShowdownProb[2842] = 0.800479F;
-		relShowdownProb[2845] = 0.32960898F;
-		relShowdownProb[2846] = 0.8318703F;
-		relShowdownProb[2849] = 0.89465296F;
-		relShowdownProb[2850] = 0.84756595F;
-		relShowdownProb[2851] = 1.130088F;
-		relShowdownProb[2857] = 0.70630497F;
-		relShowdownProb[2860] = 0.84756595F;
-		relShowdownProb[2861] = 0.565044F;
-		relShowdownProb[2864] = 0.517957F;
-		relShowdownProb[2865] = 0.72200066F;
-		relShowdownProb[2866] = 0.74554414F;
-		relShowdownProb[2869] = 0.70630497F;
-		relShowdownProb[2870] = 0.6435223F;
-		relShowdownProb[2871] = 0.93389213F;
-		relShowdownProb[2872] = 0.8318703F;
-		relShowdownProb[2878] = 1.083001F;
-		relShowdownProb[2881] = 0.612131F;
-		relShowdownProb[2882] = 0.5964353F;
-		relShowdownProb[2885] = 0.565044F;
-		relShowdownProb[2886] = 0.5493483F;
-		relShowdownProb[2887] = 0.8083268F;
-		relShowdownProb[2890] = 0.70630497F;
-		relShowdownProb[2891] = 0.7847833F;
-		relShowdownProb[2892] = 0.91034865F;
-		relShowdownProb[2893] = 0.8371022F;
-		relShowdownProb[2896] = 0.988827F;
-		relShowdownProb[2897] = 0.517957F;
-		relShowdownProb[2898] = 0.612131F;
-		relShowdownProb[2899] = 0.800479F;
-		relShowdownProb[2900] = 0.8616921F;
-		relShowdownProb[2906] = 0.47087F;
-		relShowdownProb[2909] = 0.65921795F;
-		relShowdownProb[2910] = 0.65921795F;
-		relShowdownProb[2913] = 0.70630497F;
-		relShowdownProb[2914] = 0.65921795F;
-		relShowdownProb[2915] = 0.87895733F;
-		relShowdownProb[2918] = 0.565044F;
-		relShowdownProb[2919] = 0.800479F;
-		relShowdownProb[2920] = 0.612131F;
-		relShowdownProb[2921] = 0.8841892F;
-		relShowdownProb[2924] = 1.130088F;
-		relShowdownProb[2925] = 0.47087F;
-		relShowdownProb[2926] = 0.7690877F;
-		relShowdownProb[2927] = 0.7675181F;
-		relShowdownProb[2928] = 0.8711095F;
-		relShowdownProb[2931] = 0.612131F;
-		relShowdownProb[2932] = 0.753392F;
-		relShowdownProb[2933] = 0.61997885F;
-		relShowdownProb[2934] = 0.65921795F;
-		relShowdownProb[2935] = 0.71258324F;
-		relShowdownProb[2936] = 0.8664008F;
-		relShowdownProb[2942] = 0.65921795F;
-		relShowdownProb[2945] = 0.47087F;
-		relShowdownProb[2946] = 0.7690877F;
-		relShowdownProb[2949] = 0.612131F;
-		relShowdownProb[2950] = 0.62782663F;
-		relShowdownProb[2951] = 0.77693546F;
-		relShowdownProb[2954] = 0.800479F;
-		relShowdownProb[2955] = 0.753392F;
-		relShowdownProb[2956] = 0.9260443F;
-		relShowdownProb[2957] = 0.93650806F;
-		relShowdownProb[2960] = 0.84756595F;
-		relShowdownProb[2961] = 0.53365266F;
-		relShowdownProb[2962] = 0.55719614F;
-		relShowdownProb[2963] = 0.6780528F;
-		relShowdownProb[2964] = 0.9013797F;
-		relShowdownProb[2967] = 0.753392F;
-		relShowdownProb[2968] = 0.72200066F;
-		relShowdownProb[2969] = 0.800479F;
-		relShowdownProb[2970] = 0.6874702F;
-		relShowdownProb[2971] = 0.78792244F;
-		relShowdownProb[2972] = 0.86404645F;
-		relShowdownProb[2975] = 0.42378297F;
-		relShowdownProb[2976] = 0.565044F;
-		relShowdownProb[2977] = 0.57289183F;
-		relShowdownProb[2978] = 0.6498006F;
-		relShowdownProb[2979] = 0.7942007F;
-		relShowdownProb[2980] = 0.7489075F;
-		relShowdownProb[2981] = 0.7511497F;
-		relShowdownProb[2990] = 0.89465296F;
-		relShowdownProb[2991] = 0.6435223F;
-		relShowdownProb[2994] = 1.224262F;
-		relShowdownProb[2995] = 0.988827F;
-		relShowdownProb[2996] = 1.0123705F;
-		relShowdownProb[2999] = 0.988827F;
-		relShowdownProb[3000] = 1.0202183F;
-		relShowdownProb[3001] = 0.7847833F;
-		relShowdownProb[3002] = 1.0202183F;
-		relShowdownProb[3005] = 0.565044F;
-		relShowdownProb[3006] = 0.86326164F;
-		relShowdownProb[3007] = 0.77693546F;
-		relShowdownProb[3008] = 0.85227466F;
-		relShowdownProb[3009] = 0.9551934F;
-		relShowdownProb[3012] = 0.65921795F;
-		relShowdownProb[3013] = 0.8318703F;
-		relShowdownProb[3014] = 0.89465296F;
-		relShowdownProb[3015] = 0.7957703F;
-		relShowdownProb[3016] = 0.96057475F;
-		relShowdownProb[3017] = 1.0312053F;
-		relShowdownProb[3020] = 0.988827F;
-		relShowdownProb[3021] = 1.224262F;
-		relShowdownProb[3022] = 0.8318703F;
-		relShowdownProb[3023] = 0.92290515F;
-		relShowdownProb[3024] = 0.966853F;
-		relShowdownProb[3025] = 1.0897276F;
-		relShowdownProb[3026] = 1.0742811F;
-		relShowdownProb[3029] = 0.84756595F;
-		relShowdownProb[3030] = 0.7847833F;
-		relShowdownProb[3031] = 0.96528345F;
-		relShowdownProb[3032] = 0.9087791F;
-		relShowdownProb[3033] = 1.0013835F;
-		relShowdownProb[3034] = 1.1054233F;
-		relShowdownProb[3035] = 1.1284063F;
-		relShowdownProb[3036] = 1.2619315F;
-		relShowdownProb[3052] = 0.89465296F;
-		relShowdownProb[3055] = 0.70630497F;
-		relShowdownProb[3056] = 0.5415005F;
-		relShowdownProb[3062] = 0.800479F;
-		relShowdownProb[3065] = 1.130088F;
-		relShowdownProb[3066] = 0.7847833F;
-		relShowdownProb[3069] = 0.753392F;
-		relShowdownProb[3070] = 0.70630497F;
-		relShowdownProb[3071] = 1.0264965F;
-		relShowdownProb[3077] = 0.753392F;
-		relShowdownProb[3080] = 0.94174F;
-		relShowdownProb[3081] = 0.91034865F;
-		relShowdownProb[3084] = 0.70630497F;
-		relShowdownProb[3085] = 0.9731313F;
-		relShowdownProb[3086] = 0.6356745F;
-		relShowdownProb[3089] = 0.565044F;
-		relShowdownProb[3090] = 0.800479F;
-		relShowdownProb[3091] = 0.9260443F;
-		relShowdownProb[3092] = 0.93389213F;
-		relShowdownProb[3098] = 0.42378297F;
-		relShowdownProb[3101] = 0.47087F;
-		relShowdownProb[3102] = 0.86326164F;
-		relShowdownProb[3105] = 0.565044F;
-		relShowdownProb[3106] = 0.7690877F;
-		relShowdownProb[3107] = 1.0437618F;
-		relShowdownProb[3110] = 0.84756595F;
-		relShowdownProb[3111] = 0.7847833F;
-		relShowdownProb[3112] = 0.753392F;
-		relShowdownProb[3113] = 0.84756595F;
-		relShowdownProb[3116] = 0.70630497F;
-		relShowdownProb[3117] = 1.0516096F;
-		relShowdownProb[3118] = 0.98097914F;
-		relShowdownProb[3119] = 1.1536314F;
-		relShowdownProb[3120] = 1.2760577F;
-		relShowdownProb[3126] = 0.70630497F;
-		relShowdownProb[3129] = 0.70630497F;
-		relShowdownProb[3130] = 1.0673053F;
-		relShowdownProb[3133] = 1.4126099F;
-		relShowdownProb[3134] = 0.69060934F;
-		relShowdownProb[3135] = 0.9025008F;
-		relShowdownProb[3138] = 0.65921795F;
-		relShowdownProb[3139] = 0.84756595F;
-		relShowdownProb[3140] = 0.84756595F;
-		relShowdownProb[3141] = 0.9181965F;
-		relShowdownProb[3144] = 0.70630497F;
-		relShowdownProb[3145] = 0.87895733F;
-		relShowdownProb[3146] = 0.8868051F;
-		relShowdownProb[3147] = 0.988827F;
-		relShowdownProb[3148] = 1.1334513F;
-		relShowdownProb[3151] = 0.89465296F;
-		relShowdownProb[3152] = 0.94174F;
-		relShowdownProb[3153] = 0.77693546F;
-		relShowdownProb[3154] = 0.7863529F;
-		relShowdownProb[3155] = 1.0076618F;
-		relShowdownProb[3156] = 1.1803141F;
-		relShowdownProb[3162] = 0.65921795F;
-		relShowdownProb[3165] = 0.70630497F;
-		relShowdownProb[3166] = 0.8161746F;
-		relShowdownProb[3169] = 0.70630497F;
-		relShowdownProb[3170] = 0.91034865F;
-		relShowdownProb[3171] = 0.800479F;
-		relShowdownProb[3174] = 0.94174F;
-		relShowdownProb[3175] = 0.753392F;
-		relShowdownProb[3176] = 0.9260443F;
-		relShowdownProb[3177] = 0.89465296F;
-		relShowdownProb[3180] = 0.753392F;
-		relShowdownProb[3181] = 0.53365266F;
-		relShowdownProb[3182] = 0.83971816F;
-		relShowdownProb[3183] = 0.92761385F;
-		relShowdownProb[3184] = 0.95183F;
-		relShowdownProb[3187] = 0.565044F;
-		relShowdownProb[3188] = 0.8161746F;
-		relShowdownProb[3189] = 0.89465296F;
-		relShowdownProb[3190] = 0.9087791F;
-		relShowdownProb[3191] = 0.99824435F;
-		relShowdownProb[3192] = 1.0853553F;
-		relShowdownProb[3195] = 0.800479F;
-		relShowdownProb[3196] = 1.035914F;
-		relShowdownProb[3197] = 0.9495878F;
-		relShowdownProb[3198] = 0.7298485F;
-		relShowdownProb[3199] = 0.9542965F;
-		relShowdownProb[3200] = 1.0897276F;
-		relShowdownProb[3201] = 1.2018396F;
-		relShowdownProb[3210] = 1.083001F;
-		relShowdownProb[3211] = 1.1143923F;
-		relShowdownProb[3214] = 1.271349F;
-		relShowdownProb[3215] = 0.91034865F;
-		relShowdownProb[3216] = 1.0202183F;
-		relShowdownProb[3219] = 0.800479F;
-		relShowdownProb[3220] = 0.87895733F;
-		relShowdownProb[3221] = 0.9260443F;
-		relShowdownProb[3222] = 1.083001F;
-		relShowdownProb[3225] = 0.94174F;
-		relShowdownProb[3226] = 0.89465296F;
-		relShowdownProb[3227] = 1.0908488F;
-		relShowdownProb[3228] = 0.9464487F;
-		relShowdownProb[3229] = 1.1973552F;
-		relShowdownProb[3232] = 1.130088F;
-		relShowdownProb[3233] = 1.3812187F;
-		relShowdownProb[3234] = 1.1536314F;
-		relShowdownProb[3235] = 1.0406227F;
-		relShowdownProb[3236] = 1.1457837F;
-		relShowdownProb[3237] = 1.2383881F;
-		relShowdownProb[3240] = 1.459697F;
-		relShowdownProb[3241] = 0.9731313F;
-		relShowdownProb[3242] = 1.1222402F;
-		relShowdownProb[3243] = 1.1536314F;
-		relShowdownProb[3244] = 1.1520619F;
-		relShowdownProb[3245] = 1.2040818F;
-		relShowdownProb[3246] = 1.4370254F;
-		relShowdownProb[3249] = 1.083001F;
-		relShowdownProb[3250] = 1.0673053F;
-		relShowdownProb[3251] = 1.271349F;
-		relShowdownProb[3252] = 1.1536314F;
-		relShowdownProb[3253] = 1.3466882F;
-		relShowdownProb[3254] = 1.3386161F;
-		relShowdownProb[3255] = 1.313391F;
-		relShowdownProb[3256] = 1.4344717F;
-		relShowdownProb[3272] = 0.42378297F;
-		relShowdownProb[3275] = 0.47087F;
-		relShowdownProb[3276] = 0.753392F;
-		relShowdownProb[3282] = 0.800479F;
-		relShowdownProb[3285] = 0.565044F;
-		relShowdownProb[3286] = 0.7376963F;
-		relShowdownProb[3289] = 0.517957F;
-		relShowdownProb[3290] = 0.753392F;
-		relShowdownProb[3291] = 0.88523555F;
-		relShowdownProb[3297] = 0.612131F;
-		relShowdownProb[3300] = 0.84756595F;
-		relShowdownProb[3301] = 0.84756595F;
-		relShowdownProb[3304] = 0.376696F;
-		relShowdownProb[3305] = 0.72200066F;
-		relShowdownProb[3306] = 0.87895733F;
-		relShowdownProb[3309] = 0.612131F;
-		relShowdownProb[3310] = 0.7376963F;
-		relShowdownProb[3311] = 0.89465296F;
-		relShowdownProb[3312] = 0.99929076F;
-		relShowdownProb[3318] = 0.70630497F;
-		relShowdownProb[3321] = 1.035914F;
-		relShowdownProb[3322] = 0.800479F;
-		relShowdownProb[3325] = 0.65921795F;
-		relShowdownProb[3326] = 0.86326164F;
-		relShowdownProb[3327] = 0.96528345F;
-		relShowdownProb[3330] = 0.565044F;
-		relShowdownProb[3331] = 0.89465296F;
-		relShowdownProb[3332] = 0.9025008F;
-		relShowdownProb[3333] = 1.0312053F;
-		relShowdownProb[3336] = 0.988827F;
-		relShowdownProb[3337] = 0.87895733F;
-		relShowdownProb[3338] = 1.0751531F;
-		relShowdownProb[3339] = 1.0453314F;
-		relShowdownProb[3340] = 1.0924183F;
-		relShowdownProb[3346] = 0.65921795F;
-		relShowdownProb[3349] = 0.753392F;
-		relShowdownProb[3350] = 0.988827F;
-		relShowdownProb[3353] = 0.753392F;
-		relShowdownProb[3354] = 0.988827F;
-		relShowdownProb[3355] = 0.8318703F;
-		relShowdownProb[3358] = 1.035914F;
-		relShowdownProb[3359] = 0.95743567F;
-		relShowdownProb[3360] = 1.0280662F;
-		relShowdownProb[3361] = 0.9558661F;
-		relShowdownProb[3364] = 0.988827F;
-		relShowdownProb[3365] = 1.0202183F;
-		relShowdownProb[3366] = 0.8711095F;
-		relShowdownProb[3367] = 0.94174F;
-		relShowdownProb[3368] = 1.0798619F;
-		relShowdownProb[3371] = 0.89465296F;
-		relShowdownProb[3372] = 0.86326164F;
-		relShowdownProb[3373] = 1.1065445F;
-		relShowdownProb[3374] = 1.0735836F;
-		relShowdownProb[3375] = 1.2462358F;
-		relShowdownProb[3376] = 1.3686621F;
-		relShowdownProb[3382] = 0.753392F;
-		relShowdownProb[3385] = 0.84756595F;
-		relShowdownProb[3386] = 0.94174F;
-		relShowdownProb[3389] = 0.94174F;
-		relShowdownProb[3390] = 1.2085663F;
-		relShowdownProb[3391] = 0.94174F;
-		relShowdownProb[3394] = 0.89465296F;
-		relShowdownProb[3395] = 0.9260443F;
-		relShowdownProb[3396] = 0.94174F;
-		relShowdownProb[3397] = 1.0076618F;
-		relShowdownProb[3400] = 0.800479F;
-		relShowdownProb[3401] = 0.800479F;
-		relShowdownProb[3402] = 0.9025008F;
-		relShowdownProb[3403] = 1.1159619F;
-		relShowdownProb[3404] = 1.1049749F;
-		relShowdownProb[3407] = 1.224262F;
-		relShowdownProb[3408] = 0.9260443F;
-		relShowdownProb[3409] = 0.9731313F;
-		relShowdownProb[3410] = 1.0782923F;
-		relShowdownProb[3411] = 1.130088F;
-		relShowdownProb[3412] = 1.2148446F;
-		relShowdownProb[3415] = 1.130088F;
-		relShowdownProb[3416] = 0.8318703F;
-		relShowdownProb[3417] = 1.1379358F;
-		relShowdownProb[3418] = 1.1395054F;
-		relShowdownProb[3419] = 1.0202183F;
-		relShowdownProb[3420] = 1.2063241F;
-		relShowdownProb[3421] = 1.535933F;
-		relShowdownProb[3430] = 1.271349F;
-		relShowdownProb[3431] = 1.1928706F;
-		relShowdownProb[3434] = 1.035914F;
-		relShowdownProb[3435] = 0.94174F;
-		relShowdownProb[3436] = 1.0673053F;
-		relShowdownProb[3439] = 1.5538709F;
-		relShowdownProb[3440] = 0.7376963F;
-		relShowdownProb[3441] = 1.0986966F;
-		relShowdownProb[3442] = 1.1395054F;
-		relShowdownProb[3445] = 1.1771749F;
-		relShowdownProb[3446] = 1.271349F;
-		relShowdownProb[3447] = 1.1379358F;
-		relShowdownProb[3448] = 1.3137273F;
-		relShowdownProb[3449] = 1.0924183F;
-		relShowdownProb[3452] = 0.94174F;
-		relShowdownProb[3453] = 1.271349F;
-		relShowdownProb[3454] = 1.2085663F;
-		relShowdownProb[3455] = 1.3231447F;
-		relShowdownProb[3456] = 1.3906361F;
-		relShowdownProb[3457] = 1.4502796F;
-		relShowdownProb[3460] = 1.224262F;
-		relShowdownProb[3461] = 1.4753926F;
-		relShowdownProb[3462] = 1.2321098F;
-		relShowdownProb[3463] = 1.3137273F;
-		relShowdownProb[3464] = 1.3184359F;
-		relShowdownProb[3465] = 1.4193367F;
-		relShowdownProb[3466] = 1.6759484F;
-		relShowdownProb[3469] = 1.271349F;
-		relShowdownProb[3470] = 1.459697F;
-		relShowdownProb[3471] = 1.4989362F;
-		relShowdownProb[3472] = 1.4079013F;
-		relShowdownProb[3473] = 1.4471405F;
-		relShowdownProb[3474] = 1.403641F;
-		relShowdownProb[3475] = 1.6783152F;
-		relShowdownProb[3476] = 1.5656427F;
-		relShowdownProb[3492] = 0.70630497F;
-		relShowdownProb[3495] = 0.65921795F;
-		relShowdownProb[3496] = 0.96528345F;
-		relShowdownProb[3502] = 0.800479F;
-		relShowdownProb[3505] = 0.89465296F;
-		relShowdownProb[3506] = 0.8318703F;
-		relShowdownProb[3509] = 0.565044F;
-		relShowdownProb[3510] = 0.86326164F;
-		relShowdownProb[3511] = 0.8287312F;
-		relShowdownProb[3517] = 0.70630497F;
-		relShowdownProb[3520] = 0.565044F;
-		relShowdownProb[3521] = 0.72200066F;
-		relShowdownProb[3524] = 0.565044F;
-		relShowdownProb[3525] = 0.8318703F;
-		relShowdownProb[3526] = 0.77693546F;
-		relShowdownProb[3529] = 0.65921795F;
-		relShowdownProb[3530] = 0.6435223F;
-		relShowdownProb[3531] = 0.800479F;
-		relShowdownProb[3532] = 0.84756595F;
-		relShowdownProb[3538] = 0.94174F;
-		relShowdownProb[3541] = 0.89465296F;
-		relShowdownProb[3542] = 0.94174F;
-		relShowdownProb[3545] = 0.94174F;
-		relShowdownProb[3546] = 0.72200066F;
-		relShowdownProb[3547] = 1.083001F;
-		relShowdownProb[3550] = 0.753392F;
-		relShowdownProb[3551] = 1.035914F;
-		relShowdownProb[3552] = 0.8318703F;
-		relShowdownProb[3553] = 0.92290515F;
-		relShowdownProb[3556] = 0.376696F;
-		relShowdownProb[3557] = 1.0045227F;
-		relShowdownProb[3558] = 0.8868051F;
-		relShowdownProb[3559] = 0.96057475F;
-		relShowdownProb[3560] = 1.0426407F;
-		relShowdownProb[3566] = 0.65921795F;
-		relShowdownProb[3569] = 0.84756595F;
-		relShowdownProb[3570] = 1.0202183F;
-		relShowdownProb[3573] = 0.84756595F;
-		relShowdownProb[3574] = 0.9260443F;
-		relShowdownProb[3575] = 1.0045227F;
-		relShowdownProb[3578] = 1.035914F;
-		relShowdownProb[3579] = 0.800479F;
-		relShowdownProb[3580] = 0.95743567F;
-		relShowdownProb[3581] = 0.92761385F;
-		relShowdownProb[3584] = 0.753392F;
-		relShowdownProb[3585] = 1.1771749F;
-		relShowdownProb[3586] = 1.0673053F;
-		relShowdownProb[3587] = 1.0735836F;
-		relShowdownProb[3588] = 1.1646185F;
-		relShowdownProb[3591] = 1.035914F;
-		relShowdownProb[3592] = 1.271349F;
-		relShowdownProb[3593] = 1.0437618F;
-		relShowdownProb[3594] = 1.0453314F;
-		relShowdownProb[3595] = 1.296462F;
-		relShowdownProb[3596] = 1.4251665F;
-		relShowdownProb[3602] = 1.1771749F;
-		relShowdownProb[3605] = 1.130088F;
-		relShowdownProb[3606] = 1.2085663F;
-		relShowdownProb[3609] = 1.1771749F;
-		relShowdownProb[3610] = 0.9731313F;
-		relShowdownProb[3611] = 1.1457837F;
-		relShowdownProb[3614] = 1.130088F;
-		relShowdownProb[3615] = 1.0986966F;
-		relShowdownProb[3616] = 0.89465296F;
-		relShowdownProb[3617] = 1.1018357F;
-		relShowdownProb[3620] = 1.035914F;
-		relShowdownProb[3621] = 0.9260443F;
-		relShowdownProb[3622] = 1.0280662F;
-		relShowdownProb[3623] = 1.1395054F;
-		relShowdownProb[3624] = 1.1897315F;
-		relShowdownProb[3627] = 1.506784F;
-		relShowdownProb[3628] = 1.3341316F;
-		relShowdownProb[3629] = 1.0673053F;
-		relShowdownProb[3630] = 1.1865923F;
-		relShowdownProb[3631] = 1.2996012F;
-		relShowdownProb[3632] = 1.4350324F;
-		relShowdownProb[3635] = 1.083001F;
-		relShowdownProb[3636] = 1.4126099F;
-		relShowdownProb[3637] = 1.2635012F;
-		relShowdownProb[3638] = 1.285475F;
-		relShowdownProb[3639] = 1.3623838F;
-		relShowdownProb[3640] = 1.3812187F;
-		relShowdownProb[3641] = 1.7175543F;
-		relShowdownProb[3650] = 1.035914F;
-		relShowdownProb[3651] = 1.1143923F;
-		relShowdownProb[3654] = 0.84756595F;
-		relShowdownProb[3655] = 1.0673053F;
-		relShowdownProb[3656] = 1.2399577F;
-		relShowdownProb[3659] = 1.5538709F;
-		relShowdownProb[3660] = 1.271349F;
-		relShowdownProb[3661] = 1.4204578F;
-		relShowdownProb[3662] = 1.2478055F;
-		relShowdownProb[3665] = 1.083001F;
-		relShowdownProb[3666] = 1.4440013F;
-		relShowdownProb[3667] = 1.1222402F;
-		relShowdownProb[3668] = 1.2760577F;
-		relShowdownProb[3669] = 1.3592447F;
-		relShowdownProb[3672] = 1.648045F;
-		relShowdownProb[3673] = 1.2399577F;
-		relShowdownProb[3674] = 1.224262F;
-		relShowdownProb[3675] = 1.459697F;
-		relShowdownProb[3676] = 1.4157491F;
-		relShowdownProb[3677] = 1.6166536F;
-		relShowdownProb[3680] = 1.6951319F;
-		relShowdownProb[3681] = 1.5381753F;
-		relShowdownProb[3682] = 1.4910883F;
-		relShowdownProb[3683] = 1.4126099F;
-		relShowdownProb[3684] = 1.5978189F;
-		relShowdownProb[3685] = 1.5942312F;
-		relShowdownProb[3686] = 1.9235911F;
-		relShowdownProb[3689] = 0.800479F;
-		relShowdownProb[3690] = 1.7736102F;
-		relShowdownProb[3691] = 1.5224797F;
-		relShowdownProb[3692] = 1.6998407F;
-		relShowdownProb[3693] = 1.7453581F;
-		relShowdownProb[3694] = 1.6727096F;
-		relShowdownProb[3695] = 1.7808975F;
-		relShowdownProb[3696] = 2.051648F;
-		relShowdownProb[3712] = 0.753392F;
-		relShowdownProb[3715] = 0.84756595F;
-		relShowdownProb[3716] = 0.8711095F;
-		relShowdownProb[3722] = 1.271349F;
-		relShowdownProb[3725] = 0.800479F;
-		relShowdownProb[3726] = 0.9260443F;
-		relShowdownProb[3729] = 0.753392F;
-		relShowdownProb[3730] = 0.70630497F;
-		relShowdownProb[3731] = 0.96057475F;
-		relShowdownProb[3737] = 0.89465296F;
-		relShowdownProb[3740] = 0.376696F;
-		relShowdownProb[3741] = 0.89465296F;
-		relShowdownProb[3744] = 0.988827F;
-		relShowdownProb[3745] = 1.0045227F;
-		relShowdownProb[3746] = 0.84756595F;
-		relShowdownProb[3749] = 0.800479F;
-		relShowdownProb[3750] = 0.70630497F;
-		relShowdownProb[3751] = 0.72200066F;
-		relShowdownProb[3752] = 0.94697183F;
-		relShowdownProb[3758] = 0.94174F;
-		relShowdownProb[3761] = 1.600958F;
-		relShowdownProb[3762] = 0.9260443F;
-		relShowdownProb[3765] = 0.89465296F;
-		relShowdownProb[3766] = 0.7847833F;
-		relShowdownProb[3767] = 1.1143923F;
-		relShowdownProb[3770] = 0.70630497F;
-		relShowdownProb[3771] = 0.72200066F;
-		relShowdownProb[3772] = 0.9260443F;
-		relShowdownProb[3773] = 0.9935357F;
-		relShowdownProb[3776] = 0.84756595F;
-		relShowdownProb[3777] = 0.94174F;
-		relShowdownProb[3778] = 1.0202183F;
-		relShowdownProb[3779] = 1.0217879F;
-		relShowdownProb[3780] = 1.1637216F;
-		relShowdownProb[3786] = 0.753392F;
-		relShowdownProb[3789] = 0.988827F;
-		relShowdownProb[3790] = 1.1614794F;
-		relShowdownProb[3793] = 0.65921795F;
-		relShowdownProb[3794] = 0.86326164F;
-		relShowdownProb[3795] = 1.0437618F;
-		relShowdownProb[3798] = 1.1771749F;
-		relShowdownProb[3799] = 0.84756595F;
-		relShowdownProb[3800] = 0.96528345F;
-		relShowdownProb[3801] = 1.0076618F;
-		relShowdownProb[3804] = 1.083001F;
-		relShowdownProb[3805] = 1.0202183F;
-		relShowdownProb[3806] = 1.035914F;
-		relShowdownProb[3807] = 1.1818837F;
-		relShowdownProb[3808] = 1.1269488F;
-		relShowdownProb[3811] = 1.365523F;
-		relShowdownProb[3812] = 1.2399577F;
-		relShowdownProb[3813] = 1.0986966F;
-		relShowdownProb[3814] = 1.2054272F;
-		relShowdownProb[3815] = 1.2211229F;
-		relShowdownProb[3816] = 1.3466882F;
-		relShowdownProb[3822] = 1.083001F;
-		relShowdownProb[3825] = 0.94174F;
-		relShowdownProb[3826] = 1.035914F;
-		relShowdownProb[3829] = 0.800479F;
-		relShowdownProb[3830] = 1.1771749F;
-		relShowdownProb[3831] = 1.2085663F;
-		relShowdownProb[3834] = 0.988827F;
-		relShowdownProb[3835] = 1.1457837F;
-		relShowdownProb[3836] = 1.0673053F;
-		relShowdownProb[3837] = 1.2666403F;
-		relShowdownProb[3840] = 0.94174F;
-		relShowdownProb[3841] = 1.130088F;
-		relShowdownProb[3842] = 1.035914F;
-		relShowdownProb[3843] = 1.130088F;
-		relShowdownProb[3844] = 1.1363662F;
-		relShowdownProb[3847] = 1.083001F;
-		relShowdownProb[3848] = 1.4440013F;
-		relShowdownProb[3849] = 1.1065445F;
-		relShowdownProb[3850] = 1.3466882F;
-		relShowdownProb[3851] = 1.2211229F;
-		relShowdownProb[3852] = 1.3587962F;
-		relShowdownProb[3855] = 1.506784F;
-		relShowdownProb[3856] = 1.3498273F;
-		relShowdownProb[3857] = 1.2399577F;
-		relShowdownProb[3858] = 1.5020753F;
-		relShowdownProb[3859] = 1.2901838F;
-		relShowdownProb[3860] = 1.5471443F;
-		relShowdownProb[3861] = 1.7915481F;
-		relShowdownProb[3870] = 1.3184359F;
-		relShowdownProb[3871] = 1.2085663F;
-		relShowdownProb[3874] = 0.89465296F;
-		relShowdownProb[3875] = 1.365523F;
-		relShowdownProb[3876] = 1.5617188F;
-		relShowdownProb[3879] = 1.459697F;
-		relShowdownProb[3880] = 1.4283056F;
-		relShowdownProb[3881] = 1.2085663F;
-		relShowdownProb[3882] = 1.3984839F;
-		relShowdownProb[3885] = 1.271349F;
-		relShowdownProb[3886] = 1.6951319F;
-		relShowdownProb[3887] = 1.2870446F;
-		relShowdownProb[3888] = 1.4644057F;
-		relShowdownProb[3889] = 1.5507318F;
-		relShowdownProb[3892] = 1.459697F;
-		relShowdownProb[3893] = 1.4283056F;
-		relShowdownProb[3894] = 1.2085663F;
-		relShowdownProb[3895] = 1.7328016F;
-		relShowdownProb[3896] = 1.4094708F;
-		relShowdownProb[3897] = 1.544902F;
-		relShowdownProb[3900] = 2.1189148F;
-		relShowdownProb[3901] = 1.648045F;
-		relShowdownProb[3902] = 1.6637406F;
-		relShowdownProb[3903] = 1.5303274F;
-		relShowdownProb[3904] = 1.648045F;
-		relShowdownProb[3905] = 1.5022994F;
-		relShowdownProb[3906] = 1.9053417F;
-		relShowdownProb[3909] = 1.7893059F;
-		relShowdownProb[3910] = 1.4753926F;
-		relShowdownProb[3911] = 1.5303274F;
-		relShowdownProb[3912] = 1.7610538F;
-		relShowdownProb[3913] = 1.7076885F;
-		relShowdownProb[3914] = 1.921598F;
-		relShowdownProb[3915] = 2.0415578F;
-		relShowdownProb[3916] = 2.1054616F;
-		relShowdownProb[3935] = 0.94174F;
-		relShowdownProb[3936] = 1.3890665F;
-		relShowdownProb[3945] = 0.988827F;
-		relShowdownProb[3946] = 1.130088F;
-		relShowdownProb[3949] = 1.271349F;
-		relShowdownProb[3950] = 1.271349F;
-		relShowdownProb[3951] = 1.1865923F;
-		relShowdownProb[3960] = 1.365523F;
-		relShowdownProb[3961] = 1.4126099F;
-		relShowdownProb[3964] = 1.224262F;
-		relShowdownProb[3965] = 1.3341316F;
-		relShowdownProb[3966] = 1.0986966F;
-		relShowdownProb[3969] = 1.271349F;
-		relShowdownProb[3970] = 1.271349F;
-		relShowdownProb[3971] = 1.3419795F;
-		relShowdownProb[3972] = 1.4440013F;
-		relShowdownProb[3981] = 1.224262F;
-		relShowdownProb[3982] = 1.4440013F;
-		relShowdownProb[3985] = 1.224262F;
-		relShowdownProb[3986] = 1.271349F;
-		relShowdownProb[3987] = 1.4989362F;
-		relShowdownProb[3990] = 1.083001F;
-		relShowdownProb[3991] = 1.365523F;
-		relShowdownProb[3992] = 1.1614794F;
-		relShowdownProb[3993] = 1.5444535F;
-		relShowdownProb[3996] = 1.600958F;
-		relShowdownProb[3997] = 1.4283056F;
-		relShowdownProb[3998] = 1.4047621F;
-		relShowdownProb[3999] = 1.5114926F;
-		relShowdownProb[4000] = 1.4966938F;
-		relShowdownProb[4009] = 2.071828F;
-		relShowdownProb[4010] = 1.4283056F;
-		relShowdownProb[4013] = 1.648045F;
-		relShowdownProb[4014] = 1.3498273F;
-		relShowdownProb[4015] = 1.459697F;
-		relShowdownProb[4018] = 1.3184359F;
-		relShowdownProb[4019] = 1.7736102F;
-		relShowdownProb[4020] = 1.2791967F;
-		relShowdownProb[4021] = 1.5727057F;
-		relShowdownProb[4024] = 2.024741F;
-		relShowdownProb[4025] = 1.836393F;
-		relShowdownProb[4026] = 1.4204578F;
-		relShowdownProb[4027] = 1.5114926F;
-		relShowdownProb[4028] = 1.6857146F;
-		relShowdownProb[4031] = 1.365523F;
-		relShowdownProb[4032] = 1.7108276F;
-		relShowdownProb[4033] = 1.6715884F;
-		relShowdownProb[4034] = 1.4455708F;
-		relShowdownProb[4035] = 1.8866191F;
-		relShowdownProb[4036] = 1.9305669F;
-		relShowdownProb[4045] = 1.459697F;
-		relShowdownProb[4046] = 1.4753926F;
-		relShowdownProb[4049] = 1.365523F;
-		relShowdownProb[4050] = 1.5381753F;
-		relShowdownProb[4051] = 1.8128494F;
-		relShowdownProb[4054] = 1.5538709F;
-		relShowdownProb[4055] = 1.6323493F;
-		relShowdownProb[4056] = 1.648045F;
-		relShowdownProb[4057] = 1.6762972F;
-		relShowdownProb[4060] = 1.365523F;
-		relShowdownProb[4061] = 1.7108276F;
-		relShowdownProb[4062] = 1.7500668F;
-		relShowdownProb[4063] = 1.7375102F;
-		relShowdownProb[4064] = 1.5224797F;
-		relShowdownProb[4067] = 1.6951319F;
-		relShowdownProb[4068] = 1.8677843F;
-		relShowdownProb[4069] = 1.8128494F;
-		relShowdownProb[4070] = 1.7610538F;
-		relShowdownProb[4071] = 1.8552277F;
-		relShowdownProb[4072] = 1.8543309F;
-		relShowdownProb[4075] = 1.742219F;
-		relShowdownProb[4076] = 1.7736102F;
-		relShowdownProb[4077] = 1.6951319F;
-		relShowdownProb[4078] = 1.600958F;
-		relShowdownProb[4079] = 2.024741F;
-		relShowdownProb[4080] = 1.9081446F;
-		relShowdownProb[4081] = 2.2375045F;
-		relShowdownProb[4090] = 1.271349F;
-		relShowdownProb[4091] = 1.6166536F;
-		relShowdownProb[4094] = 1.742219F;
-		relShowdownProb[4095] = 1.3341316F;
-		relShowdownProb[4096] = 1.5460231F;
-		relShowdownProb[4099] = 1.083001F;
-		relShowdownProb[4100] = 1.6637406F;
-		relShowdownProb[4101] = 1.6088058F;
-		relShowdownProb[4102] = 1.648045F;
-		relShowdownProb[4105] = 1.035914F;
-		relShowdownProb[4106] = 1.6951319F;
-		relShowdownProb[4107] = 1.5695666F;
-		relShowdownProb[4108] = 1.7280929F;
-		relShowdownProb[4109] = 1.7798885F;
-		relShowdownProb[4112] = 1.3184359F;
-		relShowdownProb[4113] = 1.506784F;
-		relShowdownProb[4114] = 2.0090454F;
-		relShowdownProb[4115] = 1.7375102F;
-		relShowdownProb[4116] = 1.9148713F;
-		relShowdownProb[4117] = 2.0023186F;
-		relShowdownProb[4120] = 2.213089F;
-		relShowdownProb[4121] = 2.1189148F;
-		relShowdownProb[4122] = 1.7265233F;
-		relShowdownProb[4123] = 1.9164408F;
-		relShowdownProb[4124] = 1.9368452F;
-		relShowdownProb[4125] = 1.9619583F;
-		relShowdownProb[4126] = 2.2248607F;
-		relShowdownProb[4129] = 2.213089F;
-		relShowdownProb[4130] = 1.742219F;
-		relShowdownProb[4131] = 1.9698061F;
-		relShowdownProb[4132] = 1.9823626F;
-		relShowdownProb[4133] = 2.0592713F;
-		relShowdownProb[4134] = 2.0561323F;
-		relShowdownProb[4135] = 2.349305F;
-		relShowdownProb[4136] = 2.4754307F;
-		relShowdownProb[4140] = 0.36996928F;
-		relShowdownProb[4141] = 0.5138462F;
-		relShowdownProb[4142] = 0.33297235F;
-		relShowdownProb[4143] = 0.37819082F;
-		relShowdownProb[4144] = 0.4639297F;
-		relShowdownProb[4145] = 0.47567478F;
-		relShowdownProb[4146] = 0.47616416F;
-		relShowdownProb[4147] = 0.7707693F;
-		relShowdownProb[4151] = 0.6577231F;
-		relShowdownProb[4152] = 0.45218468F;
-		relShowdownProb[4153] = 0.55495393F;
-		relShowdownProb[4154] = 0.5426216F;
-		relShowdownProb[4155] = 0.44631213F;
-		relShowdownProb[4156] = 0.48007917F;
-		relShowdownProb[4157] = 0.5720821F;
-		relShowdownProb[4158] = 0.7903889F;
-		relShowdownProb[4160] = 1.6186156F;
-		relShowdownProb[4162] = 0.77693546F;
-		relShowdownProb[4163] = 0.67643636F;
-		relShowdownProb[4164] = 0.8315823F;
-		relShowdownProb[4165] = 0.61737907F;
-		relShowdownProb[4166] = 0.50180686F;
-		relShowdownProb[4167] = 0.45625407F;
-		relShowdownProb[4168] = 0.5355838F;
-		relShowdownProb[4169] = 0.7947194F;
-		relShowdownProb[4173] = 0.9865847F;
-		relShowdownProb[4174] = 0.53440005F;
-		relShowdownProb[4175] = 0.55495393F;
-		relShowdownProb[4176] = 0.5015139F;
-		relShowdownProb[4177] = 0.44631213F;
-		relShowdownProb[4178] = 0.47567478F;
-		relShowdownProb[4179] = 0.4213539F;
-		relShowdownProb[4180] = 0.7847833F;
-		relShowdownProb[4182] = 1.6186156F;
-		relShowdownProb[4183] = 1.2948924F;
-		relShowdownProb[4184] = 0.8805269F;
-		relShowdownProb[4185] = 0.75374335F;
-		relShowdownProb[4186] = 0.5583481F;
-		relShowdownProb[4187] = 0.70557606F;
-		relShowdownProb[4188] = 0.5767895F;
-		relShowdownProb[4189] = 0.5735765F;
-		relShowdownProb[4190] = 0.49490654F;
-		relShowdownProb[4191] = 0.8169493F;
-		relShowdownProb[4193] = 0.8093078F;
-		relShowdownProb[4194] = 2.5897849F;
-		relShowdownProb[4195] = 0.8037264F;
-		relShowdownProb[4196] = 0.8989336F;
-		relShowdownProb[4197] = 0.63025737F;
-		relShowdownProb[4198] = 0.6885229F;
-		relShowdownProb[4199] = 0.7310334F;
-		relShowdownProb[4200] = 0.56169176F;
-		relShowdownProb[4201] = 0.66421944F;
-		relShowdownProb[4202] = 0.9394858F;
-		relShowdownProb[4206] = 0.945477F;
-		relShowdownProb[4207] = 0.49329236F;
-		relShowdownProb[4208] = 0.517957F;
-		relShowdownProb[4209] = 0.5508431F;
-		relShowdownProb[4210] = 0.59312534F;
-		relShowdownProb[4211] = 0.51531434F;
-		relShowdownProb[4212] = 0.4727385F;
-		relShowdownProb[4213] = 0.7070524F;
-		relShowdownProb[4215] = 1.6186156F;
-		relShowdownProb[4216] = 0.6474462F;
-		relShowdownProb[4217] = 0.8805269F;
-		relShowdownProb[4218] = 0.7344166F;
-		relShowdownProb[4219] = 0.66526586F;
-		relShowdownProb[4220] = 0.5291821F;
-		relShowdownProb[4221] = 0.60562897F;
-		relShowdownProb[4222] = 0.5388143F;
-		relShowdownProb[4223] = 0.5525327F;
-		relShowdownProb[4224] = 0.82068735F;
-		relShowdownProb[4226] = 1.2948924F;
-		relShowdownProb[4227] = 1.6186156F;
-		relShowdownProb[4228] = 0.580469F;
-		relShowdownProb[4229] = 0.8133209F;
-		relShowdownProb[4230] = 0.97403413F;
-		relShowdownProb[4231] = 0.7354676F;
-		relShowdownProb[4232] = 0.5553587F;
-		relShowdownProb[4233] = 0.5702672F;
-		relShowdownProb[4234] = 0.70447516F;
-		relShowdownProb[4235] = 0.97285366F;
-		relShowdownProb[4237] = 1.6186156F;
-		relShowdownProb[4238] = 1.6186156F;
-		relShowdownProb[4239] = 1.5303274F;
-		relShowdownProb[4240] = 0.8833375F;
-		relShowdownProb[4241] = 1.0456408F;
-		relShowdownProb[4242] = 0.7486694F;
-		relShowdownProb[4243] = 0.76858133F;
-		relShowdownProb[4244] = 0.7363114F;
-		relShowdownProb[4245] = 0.7370926F;
-		relShowdownProb[4246] = 0.98620296F;
-		relShowdownProb[4249] = 0.6166155F;
-		relShowdownProb[4250] = 0.8221539F;
-		relShowdownProb[4251] = 0.7604924F;
-		relShowdownProb[4252] = 0.6166155F;
-		relShowdownProb[4253] = 0.5837293F;
-		relShowdownProb[4254] = 0.6870858F;
-		relShowdownProb[4255] = 0.6078067F;
-		relShowdownProb[4256] = 0.58921033F;
-		relShowdownProb[4257] = 0.8906668F;
-		relShowdownProb[4259] = 0.97116935F;
-		relShowdownProb[4260] = 0.6251205F;
-		relShowdownProb[4261] = 0.62154835F;
-		relShowdownProb[4262] = 0.9083574F;
-		relShowdownProb[4263] = 0.93850005F;
-		relShowdownProb[4264] = 0.75368357F;
-		relShowdownProb[4265] = 0.6113969F;
-		relShowdownProb[4266] = 0.6344104F;
-		relShowdownProb[4267] = 0.6169383F;
-		relShowdownProb[4268] = 0.9103651F;
-		relShowdownProb[4270] = 1.1330309F;
-		relShowdownProb[4271] = 1.5398722F;
-		relShowdownProb[4272] = 0.8930293F;
-		relShowdownProb[4273] = 0.9203368F;
-		relShowdownProb[4274] = 0.8938196F;
-		relShowdownProb[4275] = 0.91542244F;
-		relShowdownProb[4276] = 0.7877026F;
-		relShowdownProb[4277] = 0.66459715F;
-		relShowdownProb[4278] = 0.61725444F;
-		relShowdownProb[4279] = 0.96746385F;
-		relShowdownProb[4281] = 0.8093078F;
-		relShowdownProb[4282] = 1.5147798F;
-		relShowdownProb[4283] = 1.2948924F;
-		relShowdownProb[4284] = 1.224627F;
-		relShowdownProb[4285] = 0.9848478F;
-		relShowdownProb[4286] = 0.91673803F;
-		relShowdownProb[4287] = 0.8911088F;
-		relShowdownProb[4288] = 0.74900645F;
-		relShowdownProb[4289] = 0.76697475F;
-		relShowdownProb[4290] = 1.103799F;
-		relShowdownProb[4292] = 0.8093078F;
-		relShowdownProb[4293] = 1.0261412F;
-		relShowdownProb[4294] = 1.2948924F;
-		relShowdownProb[4295] = 1.3988619F;
-		relShowdownProb[4296] = 1.2890332F;
-		relShowdownProb[4297] = 1.1836747F;
-		relShowdownProb[4298] = 0.96911615F;
-		relShowdownProb[4299] = 0.93148714F;
-		relShowdownProb[4300] = 0.95637995F;
-		relShowdownProb[4301] = 1.1610295F;
-		relShowdownProb[4304] = 0.49329236F;
-		relShowdownProb[4305] = 0.6577231F;
-		relShowdownProb[4306] = 0.7810463F;
-		relShowdownProb[4307] = 0.7646032F;
-		relShowdownProb[4308] = 0.7892678F;
-		relShowdownProb[4309] = 0.6694682F;
-		relShowdownProb[4310] = 0.6958946F;
-		relShowdownProb[4311] = 0.592636F;
-		relShowdownProb[4312] = 0.9180719F;
-		relShowdownProb[4314] = 0.6474462F;
-		relShowdownProb[4315] = 0.8930293F;
-		relShowdownProb[4316] = 0.8024686F;
-		relShowdownProb[4317] = 0.85037714F;
-		relShowdownProb[4318] = 0.84346205F;
-		relShowdownProb[4319] = 0.78575516F;
-		relShowdownProb[4320] = 0.58255744F;
-		relShowdownProb[4321] = 0.7300065F;
-		relShowdownProb[4322] = 0.72541094F;
-		relShowdownProb[4323] = 1.0299355F;
-		relShowdownProb[4325] = 0.48558468F;
-		relShowdownProb[4326] = 1.469878F;
-		relShowdownProb[4327] = 0.49173132F;
-		relShowdownProb[4328] = 0.87753046F;
-		relShowdownProb[4329] = 0.9625749F;
-		relShowdownProb[4330] = 0.8606536F;
-		relShowdownProb[4331] = 0.94070965F;
-		relShowdownProb[4332] = 0.7546393F;
-		relShowdownProb[4333] = 0.7145391F;
-		relShowdownProb[4334] = 0.90009177F;
-		relShowdownProb[4336] = 1.1330309F;
-		relShowdownProb[4337] = 0.97727734F;
-		relShowdownProb[4338] = 0.77395874F;
-		relShowdownProb[4339] = 1.2045511F;
-		relShowdownProb[4340] = 1.1185925F;
-		relShowdownProb[4341] = 1.1153646F;
-		relShowdownProb[4342] = 0.8019979F;
-		relShowdownProb[4343] = 0.86326164F;
-		relShowdownProb[4344] = 0.8333795F;
-		relShowdownProb[4345] = 1.0102566F;
-		relShowdownProb[4347] = 0.8093078F;
-		relShowdownProb[4348] = 1.2704605F;
-		relShowdownProb[4349] = 1.2598953F;
-		relShowdownProb[4350] = 1.0964053F;
-		relShowdownProb[4351] = 0.9960711F;
-		relShowdownProb[4352] = 1.1677865F;
-		relShowdownProb[4353] = 0.96911615F;
-		relShowdownProb[4354] = 0.88971645F;
-		relShowdownProb[4355] = 0.907082F;
-		relShowdownProb[4356] = 1.2219968F;
-		relShowdownProb[4358] = 0.97116935F;
-		relShowdownProb[4359] = 1.2215967F;
-		relShowdownProb[4360] = 1.1432384F;
-		relShowdownProb[4361] = 1.3944995F;
-		relShowdownProb[4362] = 1.4362563F;
-		relShowdownProb[4363] = 1.4112002F;
-		relShowdownProb[4364] = 1.1485133F;
-		relShowdownProb[4365] = 1.187672F;
-		relShowdownProb[4366] = 1.0150915F;
-		relShowdownProb[4367] = 1.3040948F;
-		relShowdownProb[4370] = 1.356554F;
-		relShowdownProb[4371] = 0.7810463F;
-		relShowdownProb[4372] = 0.5138462F;
-		relShowdownProb[4373] = 0.69060934F;
-		relShowdownProb[4374] = 0.7646032F;
-		relShowdownProb[4375] = 0.73993856F;
-		relShowdownProb[4376] = 0.6078067F;
-		relShowdownProb[4377] = 0.7913232F;
-		relShowdownProb[4378] = 1.0085088F;
-		relShowdownProb[4380] = 0.97116935F;
-		relShowdownProb[4381] = 0.8930293F;
-		relShowdownProb[4382] = 0.62008935F;
-		relShowdownProb[4383] = 0.94701093F;
-		relShowdownProb[4384] = 1.1642152F;
-		relShowdownProb[4385] = 0.84989846F;
-		relShowdownProb[4386] = 0.824809F;
-		relShowdownProb[4387] = 0.7908404F;
-		relShowdownProb[4388] = 0.8372734F;
-		relShowdownProb[4389] = 1.0516756F;
-		relShowdownProb[4391] = 1.6186156F;
-		relShowdownProb[4392] = 0.9799186F;
-		relShowdownProb[4393] = 1.1473731F;
-		relShowdownProb[4394] = 1.0030857F;
-		relShowdownProb[4395] = 0.9969526F;
-		relShowdownProb[4396] = 0.85282946F;
-		relShowdownProb[4397] = 0.83870494F;
-		relShowdownProb[4398] = 0.74177617F;
-		relShowdownProb[4399] = 0.828597F;
-		relShowdownProb[4400] = 1.1345468F;
-		relShowdownProb[4402] = 0.16186155F;
-		relShowdownProb[4403] = 0.8795496F;
-		relShowdownProb[4404] = 1.1014028F;
-		relShowdownProb[4405] = 0.91505736F;
-		relShowdownProb[4406] = 1.0456408F;
-		relShowdownProb[4407] = 0.8174247F;
-		relShowdownProb[4408] = 0.9245254F;
-		relShowdownProb[4409] = 0.88865167F;
-		relShowdownProb[4410] = 0.8134581F;
-		relShowdownProb[4411] = 1.1492338F;
-		relShowdownProb[4413] = 1.456754F;
-		relShowdownProb[4414] = 1.3193244F;
-		relShowdownProb[4415] = 1.2832267F;
-		relShowdownProb[4416] = 1.1801552F;
-		relShowdownProb[4417] = 1.1015375F;
-		relShowdownProb[4418] = 1.0565687F;
-		relShowdownProb[4419] = 0.9964923F;
-		relShowdownProb[4420] = 1.0108515F;
-		relShowdownProb[4421] = 0.9465204F;
-		relShowdownProb[4422] = 1.3068209F;
-		relShowdownProb[4424] = 1.1330309F;
-		relShowdownProb[4425] = 1.075005F;
-		relShowdownProb[4426] = 1.4232152F;
-		relShowdownProb[4427] = 1.1722184F;
-		relShowdownProb[4428] = 1.3684016F;
-		relShowdownProb[4429] = 1.3491694F;
-		relShowdownProb[4430] = 1.1485133F;
-		relShowdownProb[4431] = 1.2454062F;
-		relShowdownProb[4432] = 1.0118381F;
-		relShowdownProb[4433] = 1.4066344F;
-		relShowdownProb[4435] = 2.1042004F;
-		relShowdownProb[4436] = 1.075005F;
-		relShowdownProb[4437] = 1.3065581F;
-		relShowdownProb[4438] = 1.403936F;
-		relShowdownProb[4439] = 1.3863533F;
-		relShowdownProb[4440] = 1.6129363F;
-		relShowdownProb[4441] = 1.3225611F;
-		relShowdownProb[4442] = 1.2254105F;
-		relShowdownProb[4443] = 1.3721995F;
-		relShowdownProb[4444] = 1.3979101F;
-		relShowdownProb[4447] = 1.1099079F;
-		relShowdownProb[4448] = 0.6577231F;
-		relShowdownProb[4449] = 0.73993856F;
-		relShowdownProb[4450] = 0.72760624F;
-		relShowdownProb[4451] = 0.9783632F;
-		relShowdownProb[4452] = 1.0688001F;
-		relShowdownProb[4453] = 0.83243084F;
-		relShowdownProb[4454] = 0.9591796F;
-		relShowdownProb[4455] = 1.2907817F;
-		relShowdownProb[4457] = 0.6474462F;
-		relShowdownProb[4458] = 0.8037264F;
-		relShowdownProb[4459] = 0.5471377F;
-		relShowdownProb[4460] = 0.85037714F;
-		relShowdownProb[4461] = 0.96225953F;
-		relShowdownProb[4462] = 0.8819701F;
-		relShowdownProb[4463] = 0.9170953F;
-		relShowdownProb[4464] = 1.0254853F;
-		relShowdownProb[4465] = 0.91184837F;
-		relShowdownProb[4466] = 1.2636411F;
-		relShowdownProb[4468] = 0.6474462F;
-		relShowdownProb[4469] = 1.0499128F;
-		relShowdownProb[4470] = 0.85233426F;
-		relShowdownProb[4471] = 0.94837195F;
-		relShowdownProb[4472] = 0.7677681F;
-		relShowdownProb[4473] = 1.0875531F;
-		relShowdownProb[4474] = 0.96904427F;
-		relShowdownProb[4475] = 1.0504923F;
-		relShowdownProb[4476] = 1.0500035F;
-		relShowdownProb[4477] = 1.3070195F;
-		relShowdownProb[4479] = 0.3237231F;
-		relShowdownProb[4480] = 1.075005F;
-		relShowdownProb[4481] = 1.3097763F;
-		relShowdownProb[4482] = 1.0013835F;
-		relShowdownProb[4483] = 0.96286875F;
-		relShowdownProb[4484] = 1.0695277F;
-		relShowdownProb[4485] = 1.0637611F;
-		relShowdownProb[4486] = 0.90981007F;
-		relShowdownProb[4487] = 1.0989984F;
-		relShowdownProb[4488] = 1.3069193F;
-		relShowdownProb[4490] = 0.6474462F;
-		relShowdownProb[4491] = 1.123869F;
-		relShowdownProb[4492] = 1.0965756F;
-		relShowdownProb[4493] = 1.130982F;
-		relShowdownProb[4494] = 1.1343687F;
-		relShowdownProb[4495] = 1.0565687F;
-		relShowdownProb[4496] = 1.0348189F;
-		relShowdownProb[4497] = 1.0442681F;
-		relShowdownProb[4498] = 1.0582623F;
-		relShowdownProb[4499] = 1.2776625F;
-		relShowdownProb[4501] = 1.7804772F;
-		relShowdownProb[4502] = 1.3193244F;
-		relShowdownProb[4503] = 1.2132326F;
-		relShowdownProb[4504] = 1.3766751F;
-		relShowdownProb[4505] = 1.263815F;
-		relShowdownProb[4506] = 1.418954F;
-		relShowdownProb[4507] = 1.2385927F;
-		relShowdownProb[4508] = 1.2866447F;
-		relShowdownProb[4509] = 1.2948924F;
-		relShowdownProb[4510] = 1.5012865F;
-		relShowdownProb[4512] = 1.6186156F;
-		relShowdownProb[4513] = 1.1727328F;
-		relShowdownProb[4514] = 1.3065581F;
-		relShowdownProb[4515] = 1.2403706F;
-		relShowdownProb[4516] = 1.2948924F;
-		relShowdownProb[4517] = 1.416052F;
-		relShowdownProb[4518] = 1.3834321F;
-		relShowdownProb[4519] = 1.301209F;
-		relShowdownProb[4520] = 1.2433544F;
-		relShowdownProb[4521] = 1.6378499F;
-		relShowdownProb[4523] = 1.7804772F;
-		relShowdownProb[4524] = 0.97727734F;
-		relShowdownProb[4525] = 1.3765523F;
-		relShowdownProb[4526] = 1.281262F;
-		relShowdownProb[4527] = 1.52708F;
-		relShowdownProb[4528] = 1.8460518F;
-		relShowdownProb[4529] = 1.7083875F;
-		relShowdownProb[4530] = 1.6087428F;
-		relShowdownProb[4531] = 1.6042916F;
-		relShowdownProb[4532] = 1.7722304F;
-		relShowdownProb[4535] = 1.6032002F;
-		relShowdownProb[4536] = 0.69883084F;
-		relShowdownProb[4537] = 0.7604924F;
-		relShowdownProb[4538] = 0.77693546F;
-		relShowdownProb[4539] = 0.86326164F;
-		relShowdownProb[4540] = 0.91024184F;
-		relShowdownProb[4541] = 0.98218036F;
-		relShowdownProb[4542] = 1.137313F;
-		relShowdownProb[4543] = 1.2825601F;
-		relShowdownProb[4545] = 1.2948924F;
-		relShowdownProb[4546] = 1.250241F;
-		relShowdownProb[4547] = 1.0213237F;
-		relShowdownProb[4548] = 0.7923969F;
-		relShowdownProb[4549] = 0.91474056F;
-		relShowdownProb[4550] = 0.84188056F;
-		relShowdownProb[4551] = 1.0151496F;
-		relShowdownProb[4552] = 0.94727033F;
-		relShowdownProb[4553] = 1.1186243F;
-		relShowdownProb[4554] = 1.2962512F;
-		relShowdownProb[4556] = 0.97116935F;
-		relShowdownProb[4557] = 1.119907F;
-		relShowdownProb[4558] = 0.95068055F;
-		relShowdownProb[4559] = 0.9848478F;
-		relShowdownProb[4560] = 0.92819726F;
-		relShowdownProb[4561] = 0.9310707F;
-		relShowdownProb[4562] = 1.0257136F;
-		relShowdownProb[4563] = 1.0033273F;
-		relShowdownProb[4564] = 1.1036777F;
-		relShowdownProb[4565] = 1.4390688F;
-		relShowdownProb[4567] = 1.6186156F;
-		relShowdownProb[4568] = 0.92841345F;
-		relShowdownProb[4569] = 1.0120999F;
-		relShowdownProb[4570] = 1.2430967F;
-		relShowdownProb[4571] = 1.0071386F;
-		relShowdownProb[4572] = 0.93201697F;
-		relShowdownProb[4573] = 1.0804694F;
-		relShowdownProb[4574] = 0.9732852F;
-		relShowdownProb[4575] = 1.1288806F;
-		relShowdownProb[4576] = 1.4378785F;
-		relShowdownProb[4578] = 0.6474462F;
-		relShowdownProb[4579] = 1.2704605F;
-		relShowdownProb[4580] = 0.9565872F;
-		relShowdownProb[4581] = 1.0982F;
-		relShowdownProb[4582] = 0.9310384F;
-		relShowdownProb[4583] = 0.7985792F;
-		relShowdownProb[4584] = 1.1936007F;
-		relShowdownProb[4585] = 1.2197051F;
-		relShowdownProb[4586] = 1.2653137F;
-		relShowdownProb[4587] = 1.4685167F;
-		relShowdownProb[4589] = 0.48558468F;
-		relShowdownProb[4590] = 1.0261412F;
-		relShowdownProb[4591] = 1.2132326F;
-		relShowdownProb[4592] = 1.2131097F;
-		relShowdownProb[4593] = 1.108428F;
-		relShowdownProb[4594] = 1.2328836F;
-		relShowdownProb[4595] = 1.1879231F;
-		relShowdownProb[4596] = 1.3443788F;
-		relShowdownProb[4597] = 1.2883855F;
-		relShowdownProb[4598] = 1.5565002F;
-		relShowdownProb[4600] = 1.456754F;
-		relShowdownProb[4601] = 1.075005F;
-		relShowdownProb[4602] = 1.2132326F;
-		relShowdownProb[4603] = 1.1176966F;
-		relShowdownProb[4604] = 1.3574045F;
-		relShowdownProb[4605] = 1.376938F;
-		relShowdownProb[4606] = 1.427702F;
-		relShowdownProb[4607] = 1.440173F;
-		relShowdownProb[4608] = 1.3528727F;
-		relShowdownProb[4609] = 1.6326338F;
-		relShowdownProb[4611] = 1.2948924F;
-		relShowdownProb[4612] = 1.075005F;
-		relShowdownProb[4613] = 1.1432384F;
-		relShowdownProb[4614] = 1.3630447F;
-		relShowdownProb[4615] = 1.3216833F;
-		relShowdownProb[4616] = 1.5563915F;
-		relShowdownProb[4617] = 1.7845577F;
-		relShowdownProb[4618] = 1.7085098F;
-		relShowdownProb[4619] = 1.5748249F;
-		relShowdownProb[4620] = 1.896416F;
-		relShowdownProb[4622] = 1.456754F;
-		relShowdownProb[4623] = 1.7102354F;
-		relShowdownProb[4624] = 1.7265233F;
-		relShowdownProb[4625] = 1.2676315F;
-		relShowdownProb[4626] = 1.3931257F;
-		relShowdownProb[4627] = 1.7328244F;
-		relShowdownProb[4628] = 1.8498464F;
-		relShowdownProb[4629] = 2.1013787F;
-		relShowdownProb[4630] = 1.9609761F;
-		relShowdownProb[4631] = 2.3564947F;
-		relShowdownProb[4634] = 0.36996928F;
-		relShowdownProb[4635] = 0.7810463F;
-		relShowdownProb[4636] = 0.9249232F;
-		relShowdownProb[4637] = 0.77693546F;
-		relShowdownProb[4638] = 0.7810463F;
-		relShowdownProb[4639] = 0.8691342F;
-		relShowdownProb[4640] = 1.0702683F;
-		relShowdownProb[4641] = 1.2469335F;
-		relShowdownProb[4642] = 1.5237253F;
-		relShowdownProb[4644] = 0.6474462F;
-		relShowdownProb[4645] = 1.160938F;
-		relShowdownProb[4646] = 0.8754203F;
-		relShowdownProb[4647] = 0.7923969F;
-		relShowdownProb[4648] = 0.7721836F;
-		relShowdownProb[4649] = 0.84188056F;
-		relShowdownProb[4650] = 0.9632385F;
-		relShowdownProb[4651] = 0.9950684F;
-		relShowdownProb[4652] = 1.1728607F;
-		relShowdownProb[4653] = 1.557132F;
-		relShowdownProb[4655] = 1.2948924F;
-		relShowdownProb[4656] = 0.6999419F;
-		relShowdownProb[4657] = 0.9178985F;
-		relShowdownProb[4658] = 0.78423065F;
-		relShowdownProb[4659] = 0.8594419F;
-		relShowdownProb[4660] = 0.8606536F;
-		relShowdownProb[4661] = 0.92937577F;
-		relShowdownProb[4662] = 1.0633554F;
-		relShowdownProb[4663] = 1.2277995F;
-		relShowdownProb[4664] = 1.4929665F;
-		relShowdownProb[4666] = 1.2948924F;
-		relShowdownProb[4667] = 1.1727328F;
-		relShowdownProb[4668] = 1.0120999F;
-		relShowdownProb[4669] = 0.8977921F;
-		relShowdownProb[4670] = 0.81899184F;
-		relShowdownProb[4671] = 0.94729596F;
-		relShowdownProb[4672] = 1.0470529F;
-		relShowdownProb[4673] = 1.0240653F;
-		relShowdownProb[4674] = 1.1820045F;
-		relShowdownProb[4675] = 1.4752954F;
-		relShowdownProb[4677] = 0.8093078F;
-		relShowdownProb[4678] = 0.732958F;
-		relShowdownProb[4679] = 1.3298895F;
-		relShowdownProb[4680] = 0.9342895F;
-		relShowdownProb[4681] = 1.1771749F;
-		relShowdownProb[4682] = 0.94784635F;
-		relShowdownProb[4683] = 1.1771749F;
-		relShowdownProb[4684] = 1.3032466F;
-		relShowdownProb[4685] = 1.3113251F;
-		relShowdownProb[4686] = 1.5427378F;
-		relShowdownProb[4688] = 0.6474462F;
-		relShowdownProb[4689] = 0.97727734F;
-		relShowdownProb[4690] = 1.00325F;
-		relShowdownProb[4691] = 1.1858488F;
-		relShowdownProb[4692] = 1.1913011F;
-		relShowdownProb[4693] = 1.0942754F;
-		relShowdownProb[4694] = 1.2060537F;
-		relShowdownProb[4695] = 1.3402549F;
-		relShowdownProb[4696] = 1.3144134F;
-		relShowdownProb[4697] = 1.814164F;
-		relShowdownProb[4699] = 1.7804772F;
-		relShowdownProb[4700] = 1.6613715F;
-		relShowdownProb[4701] = 0.9799186F;
-		relShowdownProb[4702] = 0.9268704F;
-		relShowdownProb[4703] = 1.2591712F;
-		relShowdownProb[4704] = 1.1557717F;
-		relShowdownProb[4705] = 1.3028365F;
-		relShowdownProb[4706] = 1.2506766F;
-		relShowdownProb[4707] = 1.4752755F;
-		relShowdownProb[4708] = 1.9351666F;
-		relShowdownProb[4710] = 1.2948924F;
-		relShowdownProb[4711] = 1.5147798F;
-		relShowdownProb[4712] = 1.2598953F;
-		relShowdownProb[4713] = 1.3357838F;
-		relShowdownProb[4714] = 1.616383F;
-		relShowdownProb[4715] = 1.6761138F;
-		relShowdownProb[4716] = 1.4486121F;
-		relShowdownProb[4717] = 1.7209806F;
-		relShowdownProb[4718] = 1.6370322F;
-		relShowdownProb[4719] = 2.07752F;
-		relShowdownProb[4721] = 1.2948924F;
-		relShowdownProb[4722] = 1.7102354F;
-		relShowdownProb[4723] = 1.3065581F;
-		relShowdownProb[4724] = 1.5538709F;
-		relShowdownProb[4725] = 1.6878253F;
-		relShowdownProb[4726] = 1.6572104F;
-		relShowdownProb[4727] = 1.92946F;
-		relShowdownProb[4728] = 2.1177957F;
-		relShowdownProb[4729] = 1.9642173F;
-		relShowdownProb[4730] = 2.3827069F;
-		relShowdownProb[4732] = 2.1042004F;
-		relShowdownProb[4733] = 1.4170521F;
-		relShowdownProb[4734] = 1.6565291F;
-		relShowdownProb[4735] = 1.5947623F;
-		relShowdownProb[4736] = 1.6878253F;
-		relShowdownProb[4737] = 1.6004996F;
-		relShowdownProb[4738] = 1.8170643F;
-		relShowdownProb[4739] = 2.0047543F;
-		relShowdownProb[4740] = 2.2592423F;
-		relShowdownProb[4741] = 2.576784F;
-		relShowdownProb[4744] = 0.86326164F;
-		relShowdownProb[4745] = 0.41107696F;
-		relShowdownProb[4746] = 0.6166155F;
-		relShowdownProb[4747] = 0.8016001F;
-		relShowdownProb[4748] = 0.9208124F;
-		relShowdownProb[4749] = 1.145143F;
-		relShowdownProb[4750] = 1.0526507F;
-		relShowdownProb[4751] = 1.270913F;
-		relShowdownProb[4752] = 1.6443079F;
-		relShowdownProb[4754] = 0.6474462F;
-		relShowdownProb[4755] = 0.9823322F;
-		relShowdownProb[4756] = 0.8024686F;
-		relShowdownProb[4757] = 0.8310504F;
-		relShowdownProb[4758] = 0.9266203F;
-		relShowdownProb[4759] = 1.0744F;
-		relShowdownProb[4760] = 1.1420432F;
-		relShowdownProb[4761] = 1.051557F;
-		relShowdownProb[4762] = 1.3118414F;
-		relShowdownProb[4763] = 1.6305047F;
-		relShowdownProb[4765] = 1.456754F;
-		relShowdownProb[4766] = 0.4899593F;
-		relShowdownProb[4767] = 1.2785014F;
-		relShowdownProb[4768] = 1.0213237F;
-		relShowdownProb[4769] = 0.7219312F;
-		relShowdownProb[4770] = 0.8293571F;
-		relShowdownProb[4771] = 1.1957213F;
-		relShowdownProb[4772] = 1.2305766F;
-		relShowdownProb[4773] = 1.2948924F;
-		relShowdownProb[4774] = 1.6869982F;
-		relShowdownProb[4776] = 0.8093078F;
-		relShowdownProb[4777] = 0.8795496F;
-		relShowdownProb[4778] = 0.8930293F;
-		relShowdownProb[4779] = 1.0186487F;
-		relShowdownProb[4780] = 1.0292735F;
-		relShowdownProb[4781] = 0.9778539F;
-		relShowdownProb[4782] = 0.98021966F;
-		relShowdownProb[4783] = 1.1086987F;
-		relShowdownProb[4784] = 1.427702F;
-		relShowdownProb[4785] = 1.6891063F;
-		relShowdownProb[4787] = 1.2948924F;
-		relShowdownProb[4788] = 1.1727328F;
-		relShowdownProb[4789] = 1.0732442F;
-		relShowdownProb[4790] = 1.2785014F;
-		relShowdownProb[4791] = 1.2734892F;
-		relShowdownProb[4792] = 1.2239906F;
-		relShowdownProb[4793] = 1.0621951F;
-		relShowdownProb[4794] = 1.152872F;
-		relShowdownProb[4795] = 1.4099209F;
-		relShowdownProb[4796] = 1.8475744F;
-		relShowdownProb[4798] = 1.2948924F;
-		relShowdownProb[4799] = 0.97727734F;
-		relShowdownProb[4800] = 0.9799186F;
-		relShowdownProb[4801] = 1.2131097F;
-		relShowdownProb[4802] = 1.1602236F;
-		relShowdownProb[4803] = 1.2474738F;
-		relShowdownProb[4804] = 1.3191212F;
-		relShowdownProb[4805] = 1.2082914F;
-		relShowdownProb[4806] = 1.447807F;
-		relShowdownProb[4807] = 1.8798946F;
-		relShowdownProb[4809] = 1.456754F;
-		relShowdownProb[4810] = 0.732958F;
-		relShowdownProb[4811] = 1.2598953F;
-		relShowdownProb[4812] = 1.403936F;
-		relShowdownProb[4813] = 1.2770319F;
-		relShowdownProb[4814] = 1.1843094F;
-		relShowdownProb[4815] = 1.2869483F;
-		relShowdownProb[4816] = 1.3193244F;
-		relShowdownProb[4817] = 1.5976783F;
-		relShowdownProb[4818] = 1.8621414F;
-		relShowdownProb[4820] = 1.6186156F;
-		relShowdownProb[4821] = 1.1727328F;
-		relShowdownProb[4822] = 1.2832267F;
-		relShowdownProb[4823] = 1.3630447F;
-		relShowdownProb[4824] = 1.4288468F;
-		relShowdownProb[4825] = 1.543789F;
-		relShowdownProb[4826] = 1.4642446F;
-		relShowdownProb[4827] = 1.7814825F;
-		relShowdownProb[4828] = 1.5551805F;
-		relShowdownProb[4829] = 2.0878685F;
-		relShowdownProb[4831] = 1.2948924F;
-		relShowdownProb[4832] = 1.6125076F;
-		relShowdownProb[4833] = 1.5632036F;
-		relShowdownProb[4834] = 1.4857187F;
-		relShowdownProb[4835] = 1.4288468F;
-		relShowdownProb[4836] = 1.6194032F;
-		relShowdownProb[4837] = 1.8873116F;
-		relShowdownProb[4838] = 1.8748137F;
-		relShowdownProb[4839] = 2.064697F;
-		relShowdownProb[4840] = 2.1756291F;
-		relShowdownProb[4842] = 1.456754F;
-		relShowdownProb[4843] = 1.1727328F;
-		relShowdownProb[4844] = 1.4932094F;
-		relShowdownProb[4845] = 1.6629145F;
-		relShowdownProb[4846] = 1.7860585F;
-		relShowdownProb[4847] = 1.9533658F;
-		relShowdownProb[4848] = 1.9809747F;
-		relShowdownProb[4849] = 2.3691468F;
-		relShowdownProb[4850] = 2.291334F;
-		relShowdownProb[4851] = 2.561183F;
-		relShowdownProb[4853] = 1.7804772F;
-		relShowdownProb[4854] = 1.5636437F;
-		relShowdownProb[4855] = 1.9131744F;
-		relShowdownProb[4856] = 2.1536107F;
-		relShowdownProb[4857] = 1.9646645F;
-		relShowdownProb[4858] = 1.9470646F;
-		relShowdownProb[4859] = 1.8592126F;
-		relShowdownProb[4860] = 2.2353172F;
-		relShowdownProb[4861] = 2.548537F;
-		relShowdownProb[4862] = 2.9921818F;
-		relShowdownProb[4866] = 1.5209848F;
-		relShowdownProb[4867] = 1.6854156F;
-		relShowdownProb[4868] = 1.5168741F;
-		relShowdownProb[4869] = 1.4058832F;
-		relShowdownProb[4870] = 1.4622595F;
-		relShowdownProb[4871] = 1.6208178F;
-		relShowdownProb[4872] = 1.6888412F;
-		relShowdownProb[4873] = 1.8608084F;
-		relShowdownProb[4876] = 2.2660618F;
-		relShowdownProb[4877] = 1.7143646F;
-		relShowdownProb[4878] = 1.6041205F;
-		relShowdownProb[4879] = 1.3186519F;
-		relShowdownProb[4880] = 1.2989014F;
-		relShowdownProb[4881] = 1.4073664F;
-		relShowdownProb[4882] = 1.7815634F;
-		relShowdownProb[4883] = 1.7118343F;
-		relShowdownProb[4884] = 1.9484531F;
-		relShowdownProb[4886] = 1.7804772F;
-		relShowdownProb[4887] = 2.1042004F;
-		relShowdownProb[4888] = 1.0818089F;
-		relShowdownProb[4889] = 1.2948924F;
-		relShowdownProb[4890] = 1.5584546F;
-		relShowdownProb[4891] = 1.4865835F;
-		relShowdownProb[4892] = 1.5810722F;
-		relShowdownProb[4893] = 1.5993208F;
-		relShowdownProb[4894] = 1.7242869F;
-		relShowdownProb[4895] = 1.8675556F;
-		relShowdownProb[4897] = 1.9423387F;
-		relShowdownProb[4898] = 1.6186156F;
-		relShowdownProb[4899] = 1.3097763F;
-		relShowdownProb[4900] = 1.3121578F;
-		relShowdownProb[4901] = 1.2948924F;
-		relShowdownProb[4902] = 1.4438624F;
-		relShowdownProb[4903] = 1.6763984F;
-		relShowdownProb[4904] = 1.7519133F;
-		relShowdownProb[4905] = 1.9157768F;
-		relShowdownProb[4906] = 2.0312037F;
-		relShowdownProb[4908] = 0.48558468F;
-		relShowdownProb[4909] = 0.92841345F;
-		relShowdownProb[4910] = 1.4465466F;
-		relShowdownProb[4911] = 1.6554954F;
-		relShowdownProb[4912] = 1.3698035F;
-		relShowdownProb[4913] = 1.5374516F;
-		relShowdownProb[4914] = 1.3140558F;
-		relShowdownProb[4915] = 1.6582978F;
-		relShowdownProb[4916] = 1.9817771F;
-		relShowdownProb[4917] = 1.9244461F;
-		relShowdownProb[4919] = 0.48558468F;
-		relShowdownProb[4920] = 1.3193244F;
-		relShowdownProb[4921] = 1.5865349F;
-		relShowdownProb[4922] = 1.5947623F;
-		relShowdownProb[4923] = 1.5227935F;
-		relShowdownProb[4924] = 1.6341178F;
-		relShowdownProb[4925] = 1.7552389F;
-		relShowdownProb[4926] = 1.9835773F;
-		relShowdownProb[4927] = 1.9065502F;
-		relShowdownProb[4928] = 2.0087266F;
-		relShowdownProb[4930] = 2.1042004F;
-		relShowdownProb[4931] = 1.7590992F;
-		relShowdownProb[4932] = 1.7731861F;
-		relShowdownProb[4933] = 1.5129796F;
-		relShowdownProb[4934] = 1.6342436F;
-		relShowdownProb[4935] = 1.6765826F;
-		relShowdownProb[4936] = 1.7212272F;
-		relShowdownProb[4937] = 1.8690429F;
-		relShowdownProb[4938] = 2.1388273F;
-		relShowdownProb[4939] = 2.1307697F;
-		relShowdownProb[4941] = 1.1330309F;
-		relShowdownProb[4942] = 1.7102354F;
-		relShowdownProb[4943] = 1.3765523F;
-		relShowdownProb[4944] = 1.9082626F;
-		relShowdownProb[4945] = 1.6967556F;
-		relShowdownProb[4946] = 1.8021375F;
-		relShowdownProb[4947] = 1.9175873F;
-		relShowdownProb[4948] = 1.8820176F;
-		relShowdownProb[4949] = 2.1624067F;
-		relShowdownProb[4950] = 2.0852814F;
-		relShowdownProb[4952] = 2.5897849F;
-		relShowdownProb[4953] = 1.5147798F;
-		relShowdownProb[4954] = 2.0998256F;
-		relShowdownProb[4955] = 2.13998F;
-		relShowdownProb[4956] = 2.1075492F;
-		relShowdownProb[4957] = 2.2684247F;
-		relShowdownProb[4958] = 2.1729841F;
-		relShowdownProb[4959] = 2.4428186F;
-		relShowdownProb[4960] = 2.406605F;
-		relShowdownProb[4961] = 2.6369672F;
-		relShowdownProb[4963] = 1.2948924F;
-		relShowdownProb[4964] = 2.0522823F;
-		relShowdownProb[4965] = 1.7731861F;
-		relShowdownProb[4966] = 1.9082626F;
-		relShowdownProb[4967] = 1.8396404F;
-		relShowdownProb[4968] = 2.0037751F;
-		relShowdownProb[4969] = 2.1917167F;
-		relShowdownProb[4970] = 2.6295722F;
-		relShowdownProb[4971] = 2.7274063F;
-		relShowdownProb[4972] = 2.9070077F;
-		relShowdownProb[4974] = 2.5897849F;
-		relShowdownProb[4975] = 2.15001F;
-		relShowdownProb[4976] = 2.3331397F;
-		relShowdownProb[4977] = 2.0309367F;
-		relShowdownProb[4978] = 2.3397367F;
-		relShowdownProb[4979] = 2.3314366F;
-		relShowdownProb[4980] = 2.6740818F;
-		relShowdownProb[4981] = 2.7561677F;
-		relShowdownProb[4982] = 2.9494772F;
-		relShowdownProb[4983] = 3.2269132F;
-		relShowdownProb[4985] = 1.6186156F;
-		relShowdownProb[4986] = 2.540921F;
-		relShowdownProb[4987] = 2.4031339F;
-		relShowdownProb[4988] = 2.1127193F;
-		relShowdownProb[4989] = 2.4469001F;
-		relShowdownProb[4990] = 2.4385567F;
-		relShowdownProb[4991] = 2.528904F;
-		relShowdownProb[4992] = 2.7380826F;
-		relShowdownProb[4993] = 3.070334F;
-		relShowdownProb[4994] = 3.4522502F;
-		relShowdownProb[5003] = 0.8291406F;
-		relShowdownProb[5004] = 0.8291406F;
-		relShowdownProb[5007] = 1.1055208F;
-		relShowdownProb[5008] = 0.5527604F;
-		relShowdownProb[5009] = 0.7370139F;
-		relShowdownProb[5012] = 0.5527604F;
-		relShowdownProb[5013] = 0.5527604F;
-		relShowdownProb[5014] = 0.5988238F;
-		relShowdownProb[5015] = 0.60803646F;
-		relShowdownProb[5018] = 0.5527604F;
-		relShowdownProb[5019] = 0.7370139F;
-		relShowdownProb[5020] = 0.4606337F;
-		relShowdownProb[5021] = 0.58039844F;
-		relShowdownProb[5022] = 0.84756595F;
-		relShowdownProb[5025] = 1.1055208F;
-		relShowdownProb[5026] = 0.64488715F;
-		relShowdownProb[5027] = 0.5988238F;
-		relShowdownProb[5028] = 0.93969274F;
-		relShowdownProb[5029] = 0.64488715F;
-		relShowdownProb[5030] = 0.6712091F;
-		relShowdownProb[5033] = 0.8291406F;
-		relShowdownProb[5034] = 1.1055208F;
-		relShowdownProb[5035] = 0.6909505F;
-		relShowdownProb[5036] = 0.6356745F;
-		relShowdownProb[5037] = 0.4974844F;
-		relShowdownProb[5038] = 0.5264385F;
-		relShowdownProb[5039] = 0.6119847F;
-		relShowdownProb[5042] = 1.1055208F;
-		relShowdownProb[5043] = 0.4606337F;
-		relShowdownProb[5044] = 0.50669706F;
-		relShowdownProb[5045] = 0.6909505F;
-		relShowdownProb[5046] = 0.60803646F;
-		relShowdownProb[5047] = 0.6317262F;
-		relShowdownProb[5048] = 0.6218555F;
-		relShowdownProb[5049] = 0.7677228F;
-		relShowdownProb[5053] = 0.7370139F;
-		relShowdownProb[5054] = 1.1055208F;
-		relShowdownProb[5055] = 0.60803646F;
-		relShowdownProb[5056] = 0.7922899F;
-		relShowdownProb[5057] = 0.9475893F;
-		relShowdownProb[5058] = 0.8291406F;
-		relShowdownProb[5059] = 0.94429904F;
-		relShowdownProb[5060] = 1.1362298F;
-		relShowdownProb[5069] = 0.8291406F;
-		relShowdownProb[5070] = 0.4145703F;
-		relShowdownProb[5073] = 1.1055208F;
-		relShowdownProb[5074] = 0.5527604F;
-		relShowdownProb[5075] = 1.1976476F;
-		relShowdownProb[5078] = 1.381901F;
-		relShowdownProb[5079] = 0.8291406F;
-		relShowdownProb[5080] = 0.5527604F;
-		relShowdownProb[5081] = 0.6356745F;
-		relShowdownProb[5084] = 0.5527604F;
-		relShowdownProb[5085] = 0.8291406F;
-		relShowdownProb[5086] = 0.8291406F;
-		relShowdownProb[5087] = 0.8015026F;
-		relShowdownProb[5088] = 0.6633125F;
-		relShowdownProb[5091] = 0.8291406F;
-		relShowdownProb[5092] = 1.2897743F;
-		relShowdownProb[5093] = 0.9212674F;
-		relShowdownProb[5094] = 0.6633125F;
-		relShowdownProb[5095] = 0.51590973F;
-		relShowdownProb[5096] = 0.72385293F;
-		relShowdownProb[5099] = 0.2763802F;
-		relShowdownProb[5100] = 0.9212674F;
-		relShowdownProb[5101] = 0.4606337F;
-		relShowdownProb[5102] = 0.8844167F;
-		relShowdownProb[5103] = 0.71858853F;
-		relShowdownProb[5104] = 0.72385293F;
-		relShowdownProb[5105] = 0.7205627F;
-		relShowdownProb[5108] = 0.2763802F;
-		relShowdownProb[5109] = 1.4740278F;
-		relShowdownProb[5110] = 0.78307724F;
-		relShowdownProb[5111] = 0.58039844F;
-		relShowdownProb[5112] = 0.71858853F;
-		relShowdownProb[5113] = 0.6712091F;
-		relShowdownProb[5114] = 0.6712091F;
-		relShowdownProb[5115] = 0.7293367F;
-		relShowdownProb[5119] = 0.8291406F;
-		relShowdownProb[5120] = 0.9212674F;
-		relShowdownProb[5121] = 1.0778828F;
-		relShowdownProb[5122] = 1.0686702F;
-		relShowdownProb[5123] = 0.9739112F;
-		relShowdownProb[5124] = 1.0857794F;
-		relShowdownProb[5125] = 1.2283565F;
-		relShowdownProb[5126] = 1.271349F;
-		relShowdownProb[5135] = 2.2110417F;
-		relShowdownProb[5136] = 0.96733075F;
-		relShowdownProb[5139] = 1.381901F;
-		relShowdownProb[5140] = 0.8291406F;
-		relShowdownProb[5141] = 0.71858853F;
-		relShowdownProb[5144] = 1.6582812F;
-		relShowdownProb[5145] = 0.8291406F;
-		relShowdownProb[5146] = 0.6909505F;
-		relShowdownProb[5147] = 0.8291406F;
-		relShowdownProb[5150] = 0.8291406F;
-		relShowdownProb[5151] = 0.7370139F;
-		relShowdownProb[5152] = 1.1055208F;
-		relShowdownProb[5153] = 0.77386457F;
-		relShowdownProb[5154] = 0.4606337F;
-		relShowdownProb[5157] = 1.6582812F;
-		relShowdownProb[5158] = 0.64488715F;
-		relShowdownProb[5159] = 1.1055208F;
-		relShowdownProb[5160] = 0.8015026F;
-		relShowdownProb[5161] = 0.81071526F;
-		relShowdownProb[5162] = 0.7501749F;
-		relShowdownProb[5165] = 1.1055208F;
-		relShowdownProb[5166] = 0.8291406F;
-		relShowdownProb[5167] = 0.96733075F;
-		relShowdownProb[5168] = 0.6909505F;
-		relShowdownProb[5169] = 0.64488715F;
-		relShowdownProb[5170] = 0.68437004F;
-		relShowdownProb[5171] = 0.7896577F;
-		relShowdownProb[5174] = 0.8291406F;
-		relShowdownProb[5175] = 0.9212674F;
-		relShowdownProb[5176] = 0.96733075F;
-		relShowdownProb[5177] = 0.6356745F;
-		relShowdownProb[5178] = 0.4606337F;
-		relShowdownProb[5179] = 0.697531F;
-		relShowdownProb[5180] = 0.92784786F;
-		relShowdownProb[5181] = 0.9596535F;
-		relShowdownProb[5185] = 1.1976476F;
-		relShowdownProb[5186] = 1.1055208F;
-		relShowdownProb[5187] = 1.188435F;
-		relShowdownProb[5188] = 1.1792222F;
-		relShowdownProb[5189] = 0.81597966F;
-		relShowdownProb[5190] = 1.2535816F;
-		relShowdownProb[5191] = 1.0364258F;
-		relShowdownProb[5192] = 1.3389086F;
-		relShowdownProb[5201] = 0.2763802F;
-		relShowdownProb[5202] = 1.243711F;
-		relShowdownProb[5205] = 0.8291406F;
-		relShowdownProb[5206] = 1.381901F;
-		relShowdownProb[5207] = 1.0502448F;
-		relShowdownProb[5210] = 1.1055208F;
-		relShowdownProb[5211] = 1.1976476F;
-		relShowdownProb[5212] = 1.0594574F;
-		relShowdownProb[5213] = 1.1669387F;
-		relShowdownProb[5216] = 1.6582812F;
-		relShowdownProb[5217] = 0.9212674F;
-		relShowdownProb[5218] = 0.87520397F;
-		relShowdownProb[5219] = 0.8844167F;
-		relShowdownProb[5220] = 0.7922899F;
-		relShowdownProb[5223] = 0.8291406F;
-		relShowdownProb[5224] = 0.9212674F;
-		relShowdownProb[5225] = 1.0594574F;
-		relShowdownProb[5226] = 0.8567786F;
-		relShowdownProb[5227] = 0.7554392F;
-		relShowdownProb[5228] = 1.1581647F;
-		relShowdownProb[5231] = 1.9346615F;
-		relShowdownProb[5232] = 1.1055208F;
-		relShowdownProb[5233] = 1.0594574F;
-		relShowdownProb[5234] = 0.8291406F;
-		relShowdownProb[5235] = 0.9581181F;
-		relShowdownProb[5236] = 0.81597966F;
-		relShowdownProb[5237] = 0.91797715F;
-		relShowdownProb[5240] = 1.6582812F;
-		relShowdownProb[5241] = 1.0133941F;
-		relShowdownProb[5242] = 1.1976476F;
-		relShowdownProb[5243] = 0.71858853F;
-		relShowdownProb[5244] = 0.64488715F;
-		relShowdownProb[5245] = 0.9607503F;
-		relShowdownProb[5246] = 0.6810798F;
-		relShowdownProb[5247] = 0.86752677F;
-		relShowdownProb[5251] = 1.2897743F;
-		relShowdownProb[5252] = 1.2897743F;
-		relShowdownProb[5253] = 0.8291406F;
-		relShowdownProb[5254] = 1.0686702F;
-		relShowdownProb[5255] = 0.9607503F;
-		relShowdownProb[5256] = 1.2239695F;
-		relShowdownProb[5257] = 1.3435149F;
-		relShowdownProb[5258] = 1.4433188F;
-		relShowdownProb[5267] = 1.381901F;
-		relShowdownProb[5268] = 1.1055208F;
-		relShowdownProb[5271] = 0.5527604F;
-		relShowdownProb[5272] = 1.6582812F;
-		relShowdownProb[5273] = 0.93969274F;
-		relShowdownProb[5276] = 0.2763802F;
-		relShowdownProb[5277] = 0.9212674F;
-		relShowdownProb[5278] = 0.78307724F;
-		relShowdownProb[5279] = 1.0133941F;
-		relShowdownProb[5282] = 1.381901F;
-		relShowdownProb[5283] = 1.381901F;
-		relShowdownProb[5284] = 1.0133941F;
-		relShowdownProb[5285] = 1.0226067F;
-		relShowdownProb[5286] = 1.204228F;
-		relShowdownProb[5289] = 1.1055208F;
-		relShowdownProb[5290] = 1.2897743F;
-		relShowdownProb[5291] = 1.381901F;
-		relShowdownProb[5292] = 0.93969274F;
-		relShowdownProb[5293] = 1.0870955F;
-		relShowdownProb[5294] = 0.9607503F;
-		relShowdownProb[5297] = 2.2110417F;
-		relShowdownProb[5298] = 1.381901F;
-		relShowdownProb[5299] = 1.381901F;
-		relShowdownProb[5300] = 1.1055208F;
-		relShowdownProb[5301] = 1.0318195F;
-		relShowdownProb[5302] = 0.9739112F;
-		relShowdownProb[5303] = 1.0166843F;
-		relShowdownProb[5306] = 1.381901F;
-		relShowdownProb[5307] = 0.9212674F;
-		relShowdownProb[5308] = 1.1055208F;
-		relShowdownProb[5309] = 0.9120547F;
-		relShowdownProb[5310] = 0.90284204F;
-		relShowdownProb[5311] = 1.0660379F;
-		relShowdownProb[5312] = 1.0759087F;
-		relShowdownProb[5313] = 0.90591294F;
-		relShowdownProb[5316] = 1.9346615F;
-		relShowdownProb[5317] = 1.2897743F;
-		relShowdownProb[5318] = 1.0594574F;
-		relShowdownProb[5319] = 0.93969274F;
-		relShowdownProb[5320] = 1.3450503F;
-		relShowdownProb[5321] = 1.1055208F;
-		relShowdownProb[5322] = 1.2239695F;
-		relShowdownProb[5323] = 1.2667426F;
-		relShowdownProb[5324] = 1.523162F;
-		relShowdownProb[5330] = 1.381901F;
-		relShowdownProb[5333] = 2.487422F;
-		relShowdownProb[5334] = 1.243711F;
-		relShowdownProb[5337] = 1.1055208F;
-		relShowdownProb[5338] = 0.9212674F;
-		relShowdownProb[5339] = 1.6582812F;
-		relShowdownProb[5342] = 1.381901F;
-		relShowdownProb[5343] = 1.4740278F;
-		relShowdownProb[5344] = 1.1976476F;
-		relShowdownProb[5345] = 1.2590654F;
-		relShowdownProb[5349] = 1.4740278F;
-		relShowdownProb[5350] = 1.3358377F;
-		relShowdownProb[5351] = 1.326625F;
-		relShowdownProb[5352] = 1.243711F;
-		relShowdownProb[5355] = 0.8291406F;
-		relShowdownProb[5356] = 0.9212674F;
-		relShowdownProb[5357] = 0.96733075F;
-		relShowdownProb[5358] = 1.1607969F;
-		relShowdownProb[5359] = 1.271349F;
-		relShowdownProb[5360] = 1.1746159F;
-		relShowdownProb[5363] = 0.5527604F;
-		relShowdownProb[5364] = 1.1976476F;
-		relShowdownProb[5365] = 1.1055208F;
-		relShowdownProb[5366] = 1.1331588F;
-		relShowdownProb[5367] = 1.1976476F;
-		relShowdownProb[5368] = 0.93442833F;
-		relShowdownProb[5369] = 1.1647452F;
-		relShowdownProb[5372] = 1.381901F;
-		relShowdownProb[5373] = 1.1976476F;
-		relShowdownProb[5374] = 0.9212674F;
-		relShowdownProb[5375] = 0.8567786F;
-		relShowdownProb[5376] = 1.2529236F;
-		relShowdownProb[5377] = 0.9739112F;
-		relShowdownProb[5378] = 1.3424182F;
-		relShowdownProb[5379] = 1.1669387F;
-		relShowdownProb[5382] = 0.8291406F;
-		relShowdownProb[5383] = 1.8425348F;
-		relShowdownProb[5384] = 0.87520397F;
-		relShowdownProb[5385] = 1.1331588F;
-		relShowdownProb[5386] = 1.6582812F;
-		relShowdownProb[5387] = 1.1055208F;
-		relShowdownProb[5388] = 1.5891862F;
-		relShowdownProb[5389] = 1.4279644F;
-		relShowdownProb[5390] = 1.4740278F;
-		relShowdownProb[5396] = 0.8291406F;
-		relShowdownProb[5399] = 0.5527604F;
-		relShowdownProb[5400] = 0.9212674F;
-		relShowdownProb[5403] = 1.1055208F;
-		relShowdownProb[5404] = 0.8291406F;
-		relShowdownProb[5405] = 1.381901F;
-		relShowdownProb[5408] = 0.8291406F;
-		relShowdownProb[5409] = 1.1055208F;
-		relShowdownProb[5410] = 1.1976476F;
-		relShowdownProb[5411] = 1.9960793F;
-		relShowdownProb[5414] = 1.381901F;
-		relShowdownProb[5415] = 1.1976476F;
-		relShowdownProb[5416] = 1.2897743F;
-		relShowdownProb[5417] = 1.4371771F;
-		relShowdownProb[5418] = 1.7964714F;
-		relShowdownProb[5421] = 1.1055208F;
-		relShowdownProb[5422] = 0.7370139F;
-		relShowdownProb[5423] = 1.0133941F;
-		relShowdownProb[5424] = 1.4924531F;
-		relShowdownProb[5425] = 1.3634757F;
-		relShowdownProb[5426] = 1.6582812F;
-		relShowdownProb[5429] = 0.5527604F;
-		relShowdownProb[5430] = 1.381901F;
-		relShowdownProb[5431] = 1.5661545F;
-		relShowdownProb[5432] = 1.271349F;
-		relShowdownProb[5433] = 1.4924531F;
-		relShowdownProb[5434] = 1.4082229F;
-		relShowdownProb[5435] = 1.5047367F;
-		relShowdownProb[5438] = 0.8291406F;
-		relShowdownProb[5439] = 1.4740278F;
-		relShowdownProb[5440] = 1.0594574F;
-		relShowdownProb[5441] = 1.4095391F;
-		relShowdownProb[5442] = 1.3634757F;
-		relShowdownProb[5443] = 1.2897743F;
-		relShowdownProb[5444] = 1.3424182F;
-		relShowdownProb[5445] = 1.3665466F;
-		relShowdownProb[5448] = 0.5527604F;
-		relShowdownProb[5449] = 0.5527604F;
-		relShowdownProb[5450] = 1.1976476F;
-		relShowdownProb[5451] = 1.7135572F;
-		relShowdownProb[5452] = 1.6030052F;
-		relShowdownProb[5453] = 1.5266716F;
-		relShowdownProb[5454] = 1.5200912F;
-		relShowdownProb[5455] = 1.4817051F;
-		relShowdownProb[5456] = 1.7074155F;
-		relShowdownProb[5462] = 1.1055208F;
-		relShowdownProb[5465] = 1.381901F;
-		relShowdownProb[5466] = 1.1976476F;
-		relShowdownProb[5469] = 2.487422F;
-		relShowdownProb[5470] = 1.4740278F;
-		relShowdownProb[5471] = 1.7964714F;
-		relShowdownProb[5474] = 1.1055208F;
-		relShowdownProb[5475] = 0.64488715F;
-		relShowdownProb[5476] = 1.4740278F;
-		relShowdownProb[5477] = 1.8732437F;
-		relShowdownProb[5480] = 0.8291406F;
-		relShowdownProb[5481] = 1.1976476F;
-		relShowdownProb[5482] = 1.1515841F;
-		relShowdownProb[5483] = 1.4648151F;
-		relShowdownProb[5484] = 1.8556957F;
-		relShowdownProb[5487] = 3.0401824F;
-		relShowdownProb[5488] = 0.8291406F;
-		relShowdownProb[5489] = 1.5200912F;
-		relShowdownProb[5490] = 1.271349F;
-		relShowdownProb[5491] = 1.8056841F;
-		relShowdownProb[5492] = 1.7411953F;
-		relShowdownProb[5495] = 0.8291406F;
-		relShowdownProb[5496] = 1.8425348F;
-		relShowdownProb[5497] = 1.1515841F;
-		relShowdownProb[5498] = 1.271349F;
-		relShowdownProb[5499] = 1.7504079F;
-		relShowdownProb[5500] = 1.421384F;
-		relShowdownProb[5501] = 1.6889901F;
-		relShowdownProb[5504] = 1.1055208F;
-		relShowdownProb[5505] = 0.64488715F;
-		relShowdownProb[5506] = 1.1515841F;
-		relShowdownProb[5507] = 1.1607969F;
-		relShowdownProb[5508] = 1.4556024F;
-		relShowdownProb[5509] = 1.724086F;
-		relShowdownProb[5510] = 1.5299618F;
-		relShowdownProb[5511] = 1.47666F;
-		relShowdownProb[5514] = 3.3165624F;
-		relShowdownProb[5515] = 1.0133941F;
-		relShowdownProb[5516] = 1.0594574F;
-		relShowdownProb[5517] = 1.326625F;
-		relShowdownProb[5518] = 1.6951319F;
-		relShowdownProb[5519] = 1.8556957F;
-		relShowdownProb[5520] = 1.5398326F;
-		relShowdownProb[5521] = 1.5508001F;
-		relShowdownProb[5522] = 1.9285197F;
-		relShowdownProb[5528] = 0.8291406F;
-		relShowdownProb[5531] = 0.5527604F;
-		relShowdownProb[5532] = 1.1976476F;
-		relShowdownProb[5535] = 1.1055208F;
-		relShowdownProb[5536] = 1.5661545F;
-		relShowdownProb[5537] = 1.5661545F;
-		relShowdownProb[5540] = 1.381901F;
-		relShowdownProb[5541] = 1.1976476F;
-		relShowdownProb[5542] = 1.6122179F;
-		relShowdownProb[5543] = 1.8793855F;
-		relShowdownProb[5546] = 0.8291406F;
-		relShowdownProb[5547] = 1.1055208F;
-		relShowdownProb[5548] = 1.4740278F;
-		relShowdownProb[5549] = 1.5753672F;
-		relShowdownProb[5550] = 1.9938858F;
-		relShowdownProb[5553] = 0.8291406F;
-		relShowdownProb[5554] = 1.7504079F;
-		relShowdownProb[5555] = 1.381901F;
-		relShowdownProb[5556] = 1.298987F;
-		relShowdownProb[5557] = 2.0452135F;
-		relShowdownProb[5558] = 1.8102903F;
-		relShowdownProb[5561] = 1.381901F;
-		relShowdownProb[5562] = 0.8291406F;
-		relShowdownProb[5563] = 1.3358377F;
-		relShowdownProb[5564] = 1.298987F;
-		relShowdownProb[5565] = 1.5845798F;
-		relShowdownProb[5566] = 1.8425348F;
-		relShowdownProb[5567] = 2.1393876F;
-		relShowdownProb[5570] = 0.8291406F;
-		relShowdownProb[5571] = 1.6582812F;
-		relShowdownProb[5572] = 1.3358377F;
-		relShowdownProb[5573] = 1.6859193F;
-		relShowdownProb[5574] = 1.9162362F;
-		relShowdownProb[5575] = 1.5135107F;
-		relShowdownProb[5576] = 1.9050493F;
-		relShowdownProb[5577] = 2.1004896F;
-		relShowdownProb[5580] = 0.5527604F;
-		relShowdownProb[5581] = 1.381901F;
-		relShowdownProb[5582] = 1.6122179F;
-		relShowdownProb[5583] = 1.4648151F;
-		relShowdownProb[5584] = 1.6398559F;
-		relShowdownProb[5585] = 1.8688567F;
-		relShowdownProb[5586] = 2.201171F;
-		relShowdownProb[5587] = 2.226396F;
-		relShowdownProb[5588] = 2.167072F;
-		relShowdownProb[5594] = 1.381901F;
-		relShowdownProb[5597] = 1.9346615F;
-		relShowdownProb[5598] = 1.8425348F;
-		relShowdownProb[5601] = 1.6582812F;
-		relShowdownProb[5602] = 1.4740278F;
-		relShowdownProb[5603] = 1.8425348F;
-		relShowdownProb[5606] = 1.1055208F;
-		relShowdownProb[5607] = 1.381901F;
-		relShowdownProb[5608] = 0.9212674F;
-		relShowdownProb[5609] = 1.298987F;
-		relShowdownProb[5612] = 2.2110417F;
-		relShowdownProb[5613] = 1.9346615F;
-		relShowdownProb[5614] = 1.5661545F;
-		relShowdownProb[5615] = 1.6859193F;
-		relShowdownProb[5616] = 1.381901F;
-		relShowdownProb[5619] = 0.8291406F;
-		relShowdownProb[5620] = 1.6582812F;
-		relShowdownProb[5621] = 1.7964714F;
-		relShowdownProb[5622] = 1.1331588F;
-		relShowdownProb[5623] = 1.6767066F;
-		relShowdownProb[5624] = 2.0452135F;
-		relShowdownProb[5627] = 3.0401824F;
-		relShowdownProb[5628] = 1.0133941F;
-		relShowdownProb[5629] = 1.243711F;
-		relShowdownProb[5630] = 1.5477291F;
-		relShowdownProb[5631] = 1.6214305F;
-		relShowdownProb[5632] = 1.9609834F;
-		relShowdownProb[5633] = 2.0779698F;
-		relShowdownProb[5636] = 0.8291406F;
-		relShowdownProb[5637] = 1.9346615F;
-		relShowdownProb[5638] = 2.0728517F;
-		relShowdownProb[5639] = 1.9346615F;
-		relShowdownProb[5640] = 1.5477291F;
-		relShowdownProb[5641] = 1.5003498F;
-		relShowdownProb[5642] = 2.2406538F;
-		relShowdownProb[5643] = 2.392663F;
-		relShowdownProb[5646] = 3.0401824F;
-		relShowdownProb[5647] = 1.8425348F;
-		relShowdownProb[5648] = 1.9346615F;
-		relShowdownProb[5649] = 1.6030052F;
-		relShowdownProb[5650] = 1.8056841F;
-		relShowdownProb[5651] = 1.8951786F;
-		relShowdownProb[5652] = 2.2110417F;
-		relShowdownProb[5653] = 2.5334852F;
-		relShowdownProb[5654] = 2.6507375F;
-		relShowdownProb[5660] = 2.763802F;
-		relShowdownProb[5663] = 0.2763802F;
-		relShowdownProb[5664] = 1.4740278F;
-		relShowdownProb[5667] = 1.1055208F;
-		relShowdownProb[5668] = 1.381901F;
-		relShowdownProb[5669] = 1.4740278F;
-		relShowdownProb[5672] = 1.381901F;
-		relShowdownProb[5673] = 1.1976476F;
-		relShowdownProb[5674] = 1.8425348F;
-		relShowdownProb[5675] = 1.4095391F;
-		relShowdownProb[5678] = 1.1055208F;
-		relShowdownProb[5679] = 1.1976476F;
-		relShowdownProb[5680] = 1.243711F;
-		relShowdownProb[5681] = 1.4924531F;
-		relShowdownProb[5682] = 1.5108784F;
-		relShowdownProb[5685] = 1.6582812F;
-		relShowdownProb[5686] = 1.2897743F;
-		relShowdownProb[5687] = 1.6122179F;
-		relShowdownProb[5688] = 1.9622995F;
-		relShowdownProb[5689] = 1.5845798F;
-		relShowdownProb[5690] = 2.0399492F;
-		relShowdownProb[5693] = 1.6582812F;
-		relShowdownProb[5694] = 1.6582812F;
-		relShowdownProb[5695] = 1.5661545F;
-		relShowdownProb[5696] = 1.8241094F;
-		relShowdownProb[5697] = 1.5477291F;
-		relShowdownProb[5698] = 2.2768464F;
-		relShowdownProb[5699] = 2.1086786F;
-		relShowdownProb[5702] = 2.763802F;
-		relShowdownProb[5703] = 2.1189148F;
-		relShowdownProb[5704] = 1.8885981F;
-		relShowdownProb[5705] = 1.8793855F;
-		relShowdownProb[5706] = 1.8609601F;
-		relShowdownProb[5707] = 1.7898909F;
-		relShowdownProb[5708] = 2.4183269F;
-		relShowdownProb[5709] = 2.203145F;
-		relShowdownProb[5712] = 1.9346615F;
-		relShowdownProb[5713] = 1.381901F;
-		relShowdownProb[5714] = 2.3492317F;
-		relShowdownProb[5715] = 2.1557655F;
-		relShowdownProb[5716] = 2.0083628F;
-		relShowdownProb[5717] = 2.0004663F;
-		relShowdownProb[5718] = 2.4380684F;
-		relShowdownProb[5719] = 2.7100616F;
-		relShowdownProb[5720] = 2.7763648F;
-		relShowdownProb[5726] = 1.381901F;
-		relShowdownProb[5729] = 1.381901F;
-		relShowdownProb[5730] = 1.8425348F;
-		relShowdownProb[5733] = 2.763802F;
-		relShowdownProb[5734] = 1.1976476F;
-		relShowdownProb[5735] = 1.4279644F;
-		relShowdownProb[5738] = 1.9346615F;
-		relShowdownProb[5739] = 1.1055208F;
-		relShowdownProb[5740] = 1.243711F;
-		relShowdownProb[5741] = 1.5200912F;
-		relShowdownProb[5744] = 1.9346615F;
-		relShowdownProb[5745] = 1.2897743F;
-		relShowdownProb[5746] = 1.4740278F;
-		relShowdownProb[5747] = 1.381901F;
-		relShowdownProb[5748] = 1.6214305F;
-		relShowdownProb[5751] = 1.1055208F;
-		relShowdownProb[5752] = 1.5661545F;
-		relShowdownProb[5753] = 1.0133941F;
-		relShowdownProb[5754] = 1.5753672F;
-		relShowdownProb[5755] = 1.9346615F;
-		relShowdownProb[5756] = 1.9609834F;
-		relShowdownProb[5759] = 2.2110417F;
-		relShowdownProb[5760] = 2.2110417F;
-		relShowdownProb[5761] = 1.7964714F;
-		relShowdownProb[5762] = 1.4924531F;
-		relShowdownProb[5763] = 1.9715122F;
-		relShowdownProb[5764] = 1.724086F;
-		relShowdownProb[5765] = 2.4578097F;
-		relShowdownProb[5768] = 1.381901F;
-		relShowdownProb[5769] = 1.4740278F;
-		relShowdownProb[5770] = 1.8885981F;
-		relShowdownProb[5771] = 2.0452135F;
-		relShowdownProb[5772] = 1.8425348F;
-		relShowdownProb[5773] = 1.8293737F;
-		relShowdownProb[5774] = 2.062981F;
-		relShowdownProb[5775] = 2.1399724F;
-		relShowdownProb[5778] = 1.1055208F;
-		relShowdownProb[5779] = 2.487422F;
-		relShowdownProb[5780] = 2.257105F;
-		relShowdownProb[5781] = 1.8517474F;
-		relShowdownProb[5782] = 2.1004896F;
-		relShowdownProb[5783] = 2.0136273F;
-		relShowdownProb[5784] = 2.161688F;
-		relShowdownProb[5785] = 2.7714794F;
-		relShowdownProb[5786] = 2.7009883F;
-		relShowdownProb[5795] = 3.0401824F;
-		relShowdownProb[5796] = 1.381901F;
-		relShowdownProb[5799] = 3.5929427F;
-		relShowdownProb[5800] = 1.8425348F;
-		relShowdownProb[5801] = 2.0728517F;
-		relShowdownProb[5804] = 3.0401824F;
-		relShowdownProb[5805] = 2.0267882F;
-		relShowdownProb[5806] = 1.4740278F;
-		relShowdownProb[5807] = 1.7135572F;
-		relShowdownProb[5810] = 1.6582812F;
-		relShowdownProb[5811] = 1.9346615F;
-		relShowdownProb[5812] = 1.5661545F;
-		relShowdownProb[5813] = 1.7964714F;
-		relShowdownProb[5814] = 2.1004896F;
-		relShowdownProb[5817] = 1.381901F;
-		relShowdownProb[5818] = 1.9346615F;
-		relShowdownProb[5819] = 1.8425348F;
-		relShowdownProb[5820] = 1.7964714F;
-		relShowdownProb[5821] = 2.0452135F;
-		relShowdownProb[5822] = 2.2373636F;
-		relShowdownProb[5825] = 1.381901F;
-		relShowdownProb[5826] = 2.2110417F;
-		relShowdownProb[5827] = 1.7964714F;
-		relShowdownProb[5828] = 2.1557655F;
-		relShowdownProb[5829] = 2.1926162F;
-		relShowdownProb[5830] = 2.3952951F;
-		relShowdownProb[5831] = 2.556517F;
-		relShowdownProb[5834] = 2.2110417F;
-		relShowdownProb[5835] = 2.855929F;
-		relShowdownProb[5836] = 2.1649783F;
-		relShowdownProb[5837] = 1.8793855F;
-		relShowdownProb[5838] = 2.3584445F;
-		relShowdownProb[5839] = 2.6321924F;
-		relShowdownProb[5840] = 2.8526385F;
-		relShowdownProb[5841] = 2.8789606F;
-		relShowdownProb[5844] = 3.0401824F;
-		relShowdownProb[5845] = 2.3952951F;
-		relShowdownProb[5846] = 2.257105F;
-		relShowdownProb[5847] = 2.1557655F;
-		relShowdownProb[5848] = 2.6163993F;
-		relShowdownProb[5849] = 2.487422F;
-		relShowdownProb[5850] = 2.73419F;
-		relShowdownProb[5851] = 3.1092772F;
-		relShowdownProb[5852] = 2.9962127F;
-		relShowdownProb[5853] = 0.9170918F;
-		relShowdownProb[5854] = 0.59084994F;
-		relShowdownProb[5855] = 0.6812152F;
-		relShowdownProb[5856] = 0.74331236F;
-		relShowdownProb[5857] = 0.82950693F;
-		relShowdownProb[5858] = 0.9537013F;
-		relShowdownProb[5859] = 1.1158954F;
-		relShowdownProb[5860] = 1.3188697F;
-		relShowdownProb[5861] = 1.4046009F;
-		relShowdownProb[5862] = 2.0304735F;
-		relShowdownProb[5863] = 0.37745854F;
-		relShowdownProb[5864] = 1.6041988F;
-		relShowdownProb[5865] = 0.37745854F;
-		relShowdownProb[5866] = 0.7549171F;
-		relShowdownProb[5867] = 0.84928167F;
-		relShowdownProb[5868] = 1.1323756F;
-		relShowdownProb[5869] = 0.5661878F;
-		relShowdownProb[5870] = 1.1323756F;
-		relShowdownProb[5871] = 0.9436463F;
-		relShowdownProb[5872] = 0.84928167F;
-		relShowdownProb[5873] = 0.66055244F;
-		relShowdownProb[5874] = 0.2830939F;
-		relShowdownProb[5875] = 0.6275248F;
-		relShowdownProb[5876] = 0.66055244F;
-		relShowdownProb[5877] = 0.84928167F;
-		relShowdownProb[5878] = 1.4343424F;
-		relShowdownProb[5879] = 0.84928167F;
-		relShowdownProb[5880] = 1.2550496F;
-		relShowdownProb[5881] = 0.7549171F;
-		relShowdownProb[5882] = 0.7549171F;
-		relShowdownProb[5883] = 0.5661878F;
-		relShowdownProb[5884] = 0.9436463F;
-		relShowdownProb[5885] = 1.038011F;
-		relShowdownProb[5886] = 0.37745854F;
-		relShowdownProb[5887] = 0.9436463F;
-		relShowdownProb[5888] = 1.038011F;
-		relShowdownProb[5889] = 0.8068176F;
-		relShowdownProb[5890] = 1.038011F;
-		relShowdownProb[5891] = 0.37745854F;
-		relShowdownProb[5892] = 1.1654032F;
-		relShowdownProb[5893] = 0.9436463F;
-		relShowdownProb[5894] = 1.0757568F;
-		relShowdownProb[5895] = 0.9861104F;
-		relShowdownProb[5896] = 0.2830939F;
-		relShowdownProb[5897] = 0.84928167F;
-		relShowdownProb[5898] = 0.84928167F;
-		relShowdownProb[5899] = 0.5378784F;
-		relShowdownProb[5900] = 0.84928167F;
-		relShowdownProb[5901] = 0.9436463F;
-		relShowdownProb[5902] = 1.1654032F;
-		relShowdownProb[5903] = 1.2267402F;
-		relShowdownProb[5904] = 1.0757568F;
-		relShowdownProb[5905] = 1.0245303F;
-		relShowdownProb[5906] = 0.7549171F;
-		relShowdownProb[5907] = 0.84928167F;
-		relShowdownProb[5908] = 0.9861104F;
-		relShowdownProb[5909] = 0.9436463F;
-		relShowdownProb[5910] = 1.7032816F;
-		relShowdownProb[5911] = 1.5349213F;
-		relShowdownProb[5912] = 0.66055244F;
-		relShowdownProb[5913] = 1.2550496F;
-		relShowdownProb[5914] = 0.8527341F;
-		relShowdownProb[5915] = 0.37745854F;
-		relShowdownProb[5916] = 1.2267402F;
-		relShowdownProb[5917] = 0.5661878F;
-		relShowdownProb[5918] = 0.84928167F;
-		relShowdownProb[5919] = 1.6041988F;
-		relShowdownProb[5920] = 0.47182316F;
-		relShowdownProb[5921] = 0.9436463F;
-		relShowdownProb[5922] = 0.7549171F;
-		relShowdownProb[5923] = 0.1792928F;
-		relShowdownProb[5924] = 1.2267402F;
-		relShowdownProb[5925] = 0.66055244F;
-		relShowdownProb[5926] = 0.9861104F;
-		relShowdownProb[5927] = 0.7549171F;
-		relShowdownProb[5928] = 0.9861104F;
-		relShowdownProb[5929] = 1.6136352F;
-		relShowdownProb[5930] = 0.66055244F;
-		relShowdownProb[5931] = 0.7549171F;
-		relShowdownProb[5932] = 1.1323756F;
-		relShowdownProb[5933] = 0.9861104F;
-		relShowdownProb[5934] = 0.37745854F;
-		relShowdownProb[5935] = 0.5661878F;
-		relShowdownProb[5936] = 1.4343424F;
-		relShowdownProb[5937] = 1.1323756F;
-		relShowdownProb[5938] = 1.0757568F;
-		relShowdownProb[5939] = 1.0245303F;
-		relShowdownProb[5940] = 0.47182316F;
-		relShowdownProb[5941] = 0.9436463F;
-		relShowdownProb[5942] = 0.9861104F;
-		relShowdownProb[5943] = 1.2267402F;
-		relShowdownProb[5944] = 1.0757568F;
-		relShowdownProb[5945] = 1.2791011F;
-		relShowdownProb[5946] = 1.3211049F;
-		relShowdownProb[5947] = 0.9861104F;
-		relShowdownProb[5948] = 1.1085542F;
-		relShowdownProb[5949] = 1.6201947F;
-		relShowdownProb[5950] = 0.84928167F;
-		relShowdownProb[5951] = 0.9436463F;
-		relShowdownProb[5952] = 0.47182316F;
-		relShowdownProb[5953] = 0.448232F;
-		relShowdownProb[5954] = 1.1323756F;
-		relShowdownProb[5955] = 0.84928167F;
-		relShowdownProb[5956] = 1.4343424F;
-		relShowdownProb[5957] = 0.47182316F;
-		relShowdownProb[5958] = 0.896464F;
-		relShowdownProb[5959] = 2.0490606F;
-		relShowdownProb[5960] = 0.7549171F;
-		relShowdownProb[5961] = 0.5661878F;
-		relShowdownProb[5962] = 0.9861104F;
-		relShowdownProb[5963] = 1.1323756F;
-		relShowdownProb[5964] = 0.6275248F;
-		relShowdownProb[5965] = 1.7054682F;
-		relShowdownProb[5966] = 0.9436463F;
-		relShowdownProb[5967] = 0.5378784F;
-		relShowdownProb[5968] = 1.1938276F;
-		relShowdownProb[5969] = 1.626144F;
-		relShowdownProb[5970] = 1.1323756F;
-		relShowdownProb[5971] = 0.84928167F;
-		relShowdownProb[5972] = 1.2550496F;
-		relShowdownProb[5973] = 1.2267402F;
-		relShowdownProb[5974] = 1.0757568F;
-		relShowdownProb[5975] = 0.5116404F;
-		relShowdownProb[5976] = 0.66055244F;
-		relShowdownProb[5977] = 0.9861104F;
-		relShowdownProb[5978] = 1.1938276F;
-		relShowdownProb[5979] = 1.055766F;
-		relShowdownProb[5980] = 1.1323756F;
-		relShowdownProb[5981] = 1.5239888F;
-		relShowdownProb[5982] = 1.4496479F;
-		relShowdownProb[5983] = 1.6242553F;
-		relShowdownProb[5984] = 1.6985633F;
-		relShowdownProb[5985] = 0.5661878F;
-		relShowdownProb[5986] = 0.7549171F;
-		relShowdownProb[5987] = 1.5098342F;
-		relShowdownProb[5988] = 0.66055244F;
-		relShowdownProb[5989] = 0.7549171F;
-		relShowdownProb[5990] = 0.66055244F;
-		relShowdownProb[5991] = 1.038011F;
-		relShowdownProb[5992] = 0.3585856F;
-		relShowdownProb[5993] = 0.66055244F;
-		relShowdownProb[5994] = 0.7549171F;
-		relShowdownProb[5995] = 0.448232F;
-		relShowdownProb[5996] = 0.47182316F;
-		relShowdownProb[5997] = 1.0757568F;
-		relShowdownProb[5998] = 0.7171712F;
-		relShowdownProb[5999] = 0.18872927F;
-		relShowdownProb[6000] = 0.84928167F;
-		relShowdownProb[6001] = 0.5661878F;
-		relShowdownProb[6002] = 0.7171712F;
-		relShowdownProb[6003] = 0.9436463F;
-		relShowdownProb[6004] = 0.37745854F;
-		relShowdownProb[6005] = 0.896464F;
-		relShowdownProb[6006] = 0.9436463F;
-		relShowdownProb[6007] = 1.344696F;
-		relShowdownProb[6008] = 1.2806629F;
-		relShowdownProb[6009] = 1.1323756F;
-		relShowdownProb[6010] = 0.37745854F;
-		relShowdownProb[6011] = 0.9861104F;
-		relShowdownProb[6012] = 1.4154695F;
-		relShowdownProb[6013] = 0.6275248F;
-		relShowdownProb[6014] = 0.8527341F;
-		relShowdownProb[6015] = 1.2267402F;
-		relShowdownProb[6016] = 0.8068176F;
-		relShowdownProb[6017] = 1.4496479F;
-		relShowdownProb[6018] = 1.7907416F;
-		relShowdownProb[6019] = 0.7549171F;
-		relShowdownProb[6020] = 0.66055244F;
-		relShowdownProb[6021] = 0.5661878F;
-		relShowdownProb[6022] = 0.5378784F;
-		relShowdownProb[6023] = 0.2830939F;
-		relShowdownProb[6024] = 0.66055244F;
-		relShowdownProb[6025] = 0.5378784F;
-		relShowdownProb[6026] = 0.47182316F;
-		relShowdownProb[6027] = 0.896464F;
-		relShowdownProb[6028] = 1.0245303F;
-		relShowdownProb[6029] = 0.7549171F;
-		relShowdownProb[6030] = 0.37745854F;
-		relShowdownProb[6031] = 0.9861104F;
-		relShowdownProb[6032] = 0.5661878F;
-		relShowdownProb[6033] = 1.344696F;
-		relShowdownProb[6034] = 0.9380075F;
-		relShowdownProb[6035] = 0.9436463F;
-		relShowdownProb[6036] = 0.9861104F;
-		relShowdownProb[6037] = 1.3643745F;
-		relShowdownProb[6038] = 1.9513729F;
-		relShowdownProb[6039] = 1.3211049F;
-		relShowdownProb[6040] = 1.1323756F;
-		relShowdownProb[6041] = 1.0757568F;
-		relShowdownProb[6042] = 0.9436463F;
-		relShowdownProb[6043] = 1.344696F;
-		relShowdownProb[6044] = 0.76746064F;
-		relShowdownProb[6045] = 0.9436463F;
-		relShowdownProb[6046] = 1.1654032F;
-		relShowdownProb[6047] = 1.0232809F;
-		relShowdownProb[6048] = 1.2994043F;
-		relShowdownProb[6049] = 0.84928167F;
-		relShowdownProb[6050] = 1.0757568F;
-		relShowdownProb[6051] = 1.1085542F;
-		relShowdownProb[6052] = 1.5430425F;
-		relShowdownProb[6053] = 0.9745532F;
-		relShowdownProb[6054] = 1.2267402F;
-		relShowdownProb[6055] = 1.6041988F;
-		relShowdownProb[6056] = 0.9436463F;
-		relShowdownProb[6057] = 0.7171712F;
-		relShowdownProb[6058] = 0.9436463F;
-		relShowdownProb[6059] = 1.3211049F;
-		relShowdownProb[6060] = 1.5239888F;
-		relShowdownProb[6061] = 0.66055244F;
-		relShowdownProb[6062] = 0.7171712F;
-		relShowdownProb[6063] = 0.9391528F;
-		relShowdownProb[6064] = 1.2267402F;
-		relShowdownProb[6065] = 0.9436463F;
-		relShowdownProb[6066] = 0.9861104F;
-		relShowdownProb[6067] = 1.2267402F;
-		relShowdownProb[6068] = 1.2550496F;
-		relShowdownProb[6069] = 1.3643745F;
-		relShowdownProb[6070] = 1.5098342F;
-		relShowdownProb[6071] = 0.7171712F;
-		relShowdownProb[6072] = 0.9380075F;
-		relShowdownProb[6073] = 1.3822224F;
-		relShowdownProb[6074] = 0.37745854F;
-		relShowdownProb[6075] = 1.2267402F;
-		relShowdownProb[6076] = 1.5239888F;
-		relShowdownProb[6077] = 1.6041988F;
-		relShowdownProb[6078] = 1.4343424F;
-		relShowdownProb[6079] = 0.76746064F;
-		relShowdownProb[6080] = 0.66055244F;
-		relShowdownProb[6081] = 0.896464F;
-		relShowdownProb[6082] = 0.8527341F;
-		relShowdownProb[6083] = 1.380617F;
-		relShowdownProb[6084] = 1.3211049F;
-		relShowdownProb[6085] = 1.0757568F;
-		relShowdownProb[6086] = 1.2791011F;
-		relShowdownProb[6087] = 0.89334047F;
-		relShowdownProb[6088] = 1.5504255F;
-		relShowdownProb[6089] = 0.66055244F;
-		relShowdownProb[6090] = 1.038011F;
-		relShowdownProb[6091] = 1.1654032F;
-		relShowdownProb[6092] = 1.038011F;
-		relShowdownProb[6093] = 0.9861104F;
-		relShowdownProb[6094] = 1.1938276F;
-		relShowdownProb[6095] = 0.9436463F;
-		relShowdownProb[6096] = 0.5378784F;
-		relShowdownProb[6097] = 1.1085542F;
-		relShowdownProb[6098] = 1.4618298F;
-		relShowdownProb[6099] = 1.1323756F;
-		relShowdownProb[6100] = 1.344696F;
-		relShowdownProb[6101] = 1.6201947F;
-		relShowdownProb[6102] = 1.2994043F;
-		relShowdownProb[6103] = 1.3164023F;
-		relShowdownProb[6104] = 1.6985633F;
-		relShowdownProb[6105] = 2.3308065F;
-		relShowdownProb[6106] = 1.2791011F;
-		relShowdownProb[6107] = 2.2739575F;
-		relShowdownProb[6108] = 0.92922515F;
-		relShowdownProb[6109] = 0.7549171F;
-		relShowdownProb[6110] = 1.2267402F;
-		relShowdownProb[6111] = 1.038011F;
-		relShowdownProb[6112] = 1.1323756F;
-		relShowdownProb[6113] = 1.038011F;
-		relShowdownProb[6114] = 1.4154695F;
-		relShowdownProb[6115] = 0.7549171F;
-		relShowdownProb[6116] = 1.038011F;
-		relShowdownProb[6117] = 0.8068176F;
-		relShowdownProb[6118] = 0.37745854F;
-		relShowdownProb[6119] = 1.038011F;
-		relShowdownProb[6120] = 0.7171712F;
-		relShowdownProb[6121] = 0.9436463F;
-		relShowdownProb[6122] = 1.0757568F;
-		relShowdownProb[6123] = 1.6136352F;
-		relShowdownProb[6124] = 0.66055244F;
-		relShowdownProb[6125] = 0.84928167F;
-		relShowdownProb[6126] = 1.3211049F;
-		relShowdownProb[6127] = 0.448232F;
-		relShowdownProb[6128] = 0.7549171F;
-		relShowdownProb[6129] = 0.5661878F;
-		relShowdownProb[6130] = 0.8068176F;
-		relShowdownProb[6131] = 0.66055244F;
-		relShowdownProb[6132] = 1.1654032F;
-		relShowdownProb[6133] = 1.2806629F;
-		relShowdownProb[6134] = 0.66055244F;
-		relShowdownProb[6135] = 0.7549171F;
-		relShowdownProb[6136] = 0.896464F;
-		relShowdownProb[6137] = 0.2830939F;
-		relShowdownProb[6138] = 0.9861104F;
-		relShowdownProb[6139] = 1.0232809F;
-		relShowdownProb[6140] = 1.038011F;
-		relShowdownProb[6141] = 0.9861104F;
-		relShowdownProb[6142] = 1.2791011F;
-		relShowdownProb[6143] = 0.76746064F;
-		relShowdownProb[6144] = 0.66055244F;
-		relShowdownProb[6145] = 0.7549171F;
-		relShowdownProb[6146] = 0.47182316F;
-		relShowdownProb[6147] = 0.7171712F;
-		relShowdownProb[6148] = 1.038011F;
-		relShowdownProb[6149] = 0.5661878F;
-		relShowdownProb[6150] = 1.344696F;
-		relShowdownProb[6151] = 0.66055244F;
-		relShowdownProb[6152] = 0.6275248F;
-		relShowdownProb[6153] = 0.9391528F;
-		relShowdownProb[6154] = 0.84928167F;
-		relShowdownProb[6155] = 0.2830939F;
-		relShowdownProb[6156] = 0.6275248F;
-		relShowdownProb[6157] = 1.038011F;
-		relShowdownProb[6158] = 1.2550496F;
-		relShowdownProb[6159] = 1.0232809F;
-		relShowdownProb[6160] = 1.1323756F;
-		relShowdownProb[6161] = 1.344696F;
-		relShowdownProb[6162] = 0.5116404F;
-		relShowdownProb[6163] = 1.626144F;
-		relShowdownProb[6164] = 1.3211049F;
-		relShowdownProb[6165] = 0.9436463F;
-		relShowdownProb[6166] = 1.1654032F;
-		relShowdownProb[6167] = 0.9436463F;
-		relShowdownProb[6168] = 0.896464F;
-		relShowdownProb[6169] = 0.8527341F;
-		relShowdownProb[6170] = 1.038011F;
-		relShowdownProb[6171] = 0.9861104F;
-		relShowdownProb[6172] = 0.8527341F;
-		relShowdownProb[6173] = 1.2181915F;
-		relShowdownProb[6174] = 1.1323756F;
-		relShowdownProb[6175] = 1.4343424F;
-		relShowdownProb[6176] = 0.5116404F;
-		relShowdownProb[6177] = 1.2994043F;
-		relShowdownProb[6178] = 1.2181915F;
-		relShowdownProb[6179] = 0.9436463F;
-		relShowdownProb[6180] = 0.7549171F;
-		relShowdownProb[6181] = 1.1323756F;
-		relShowdownProb[6182] = 1.344696F;
-		relShowdownProb[6183] = 0.5661878F;
-		relShowdownProb[6184] = 1.038011F;
-		relShowdownProb[6185] = 0.6275248F;
-		relShowdownProb[6186] = 0.37745854F;
-		relShowdownProb[6187] = 1.5239888F;
-		relShowdownProb[6188] = 1.1099079F;
-		relShowdownProb[6189] = 0.66055244F;
-		relShowdownProb[6190] = 0.9436463F;
-		relShowdownProb[6191] = 0.7171712F;
-		relShowdownProb[6192] = 1.1323756F;
-		relShowdownProb[6193] = 1.0757568F;
-		relShowdownProb[6194] = 1.1085542F;
-		relShowdownProb[6195] = 1.038011F;
-		relShowdownProb[6196] = 0.896464F;
-		relShowdownProb[6197] = 1.1085542F;
-		relShowdownProb[6198] = 1.4635296F;
-		relShowdownProb[6199] = 0.84928167F;
-		relShowdownProb[6200] = 1.1323756F;
-		relShowdownProb[6201] = 0.8068176F;
-		relShowdownProb[6202] = 0.7549171F;
-		relShowdownProb[6203] = 1.5239888F;
-		relShowdownProb[6204] = 1.2791011F;
-		relShowdownProb[6205] = 0.9436463F;
-		relShowdownProb[6206] = 0.448232F;
-		relShowdownProb[6207] = 1.1085542F;
-		relShowdownProb[6208] = 1.2181915F;
-		relShowdownProb[6209] = 2.1703866F;
-		relShowdownProb[6210] = 0.7171712F;
-		relShowdownProb[6211] = 1.3643745F;
-		relShowdownProb[6212] = 0.9745532F;
-		relShowdownProb[6213] = 1.2403405F;
-		relShowdownProb[6214] = 1.3211049F;
-		relShowdownProb[6215] = 1.2267402F;
-		relShowdownProb[6216] = 1.2550496F;
-		relShowdownProb[6217] = 1.038011F;
-		relShowdownProb[6218] = 1.5239888F;
-		relShowdownProb[6219] = 1.2791011F;
-		relShowdownProb[6220] = 0.66055244F;
-		relShowdownProb[6221] = 1.4343424F;
-		relShowdownProb[6222] = 1.4496479F;
-		relShowdownProb[6223] = 1.9491065F;
-		relShowdownProb[6224] = 0.9436463F;
-		relShowdownProb[6225] = 1.5239888F;
-		relShowdownProb[6226] = 1.2791011F;
-		relShowdownProb[6227] = 1.4618298F;
-		relShowdownProb[6228] = 1.3938377F;
-		relShowdownProb[6229] = 1.1323756F;
-		relShowdownProb[6230] = 1.4343424F;
-		relShowdownProb[6231] = 1.4496479F;
-		relShowdownProb[6232] = 1.8678937F;
-		relShowdownProb[6233] = 1.0066606F;
-		relShowdownProb[6234] = 1.5487086F;
-		relShowdownProb[6235] = 1.4154695F;
-		relShowdownProb[6236] = 0.84928167F;
-		relShowdownProb[6237] = 1.1323756F;
-		relShowdownProb[6238] = 1.0757568F;
-		relShowdownProb[6239] = 0.5661878F;
-		relShowdownProb[6240] = 0.5661878F;
-		relShowdownProb[6241] = 1.344696F;
-		relShowdownProb[6242] = 1.2267402F;
-		relShowdownProb[6243] = 1.1654032F;
-		relShowdownProb[6244] = 0.85377526F;
-		relShowdownProb[6245] = 0.9436463F;
-		relShowdownProb[6246] = 1.3211049F;
-		relShowdownProb[6247] = 0.9861104F;
-		relShowdownProb[6248] = 0.84928167F;
-		relShowdownProb[6249] = 0.9861104F;
-		relShowdownProb[6250] = 0.5116404F;
-		relShowdownProb[6251] = 1.038011F;
-		relShowdownProb[6252] = 0.8068176F;
-		relShowdownProb[6253] = 1.4496479F;
-		relShowdownProb[6254] = 1.3009152F;
-		relShowdownProb[6255] = 1.038011F;
-		relShowdownProb[6256] = 1.2267402F;
-		relShowdownProb[6257] = 0.9861104F;
-		relShowdownProb[6258] = 1.1323756F;
-		relShowdownProb[6259] = 1.9722208F;
-		relShowdownProb[6260] = 1.1085542F;
-		relShowdownProb[6261] = 0.9436463F;
-		relShowdownProb[6262] = 0.6275248F;
-		relShowdownProb[6263] = 1.7907416F;
-		relShowdownProb[6264] = 1.5430425F;
-		relShowdownProb[6265] = 1.792928F;
-		relShowdownProb[6266] = 1.0757568F;
-		relShowdownProb[6267] = 0.8527341F;
-		relShowdownProb[6268] = 0.81212765F;
-		relShowdownProb[6269] = 1.4729043F;
-		relShowdownProb[6270] = 1.4154695F;
-		relShowdownProb[6271] = 1.2267402F;
-		relShowdownProb[6272] = 1.5239888F;
-		relShowdownProb[6273] = 1.2267402F;
-		relShowdownProb[6274] = 1.2550496F;
-		relShowdownProb[6275] = 1.6201947F;
-		relShowdownProb[6276] = 1.038011F;
-		relShowdownProb[6277] = 1.2550496F;
-		relShowdownProb[6278] = 1.1085542F;
-		relShowdownProb[6279] = 1.1369787F;
-		relShowdownProb[6280] = 0.7549171F;
-		relShowdownProb[6281] = 2.3308065F;
-		relShowdownProb[6282] = 1.1938276F;
-		relShowdownProb[6283] = 1.6242553F;
-		relShowdownProb[6284] = 1.7810149F;
-		relShowdownProb[6285] = 1.4154695F;
-		relShowdownProb[6286] = 1.5239888F;
-		relShowdownProb[6287] = 1.6201947F;
-		relShowdownProb[6288] = 1.9491065F;
-		relShowdownProb[6289] = 1.5487086F;
-		relShowdownProb[6290] = 2.071828F;
-		relShowdownProb[6291] = 1.4154695F;
-		relShowdownProb[6292] = 1.792928F;
-		relShowdownProb[6293] = 1.1654032F;
-		relShowdownProb[6294] = 1.5098342F;
-		relShowdownProb[6295] = 1.2550496F;
-		relShowdownProb[6296] = 1.1085542F;
-		relShowdownProb[6297] = 1.2267402F;
-		relShowdownProb[6298] = 1.0757568F;
-		relShowdownProb[6299] = 1.3643745F;
-		relShowdownProb[6300] = 1.7054682F;
-		relShowdownProb[6301] = 1.2267402F;
-		relShowdownProb[6302] = 1.5239888F;
-		relShowdownProb[6303] = 1.3643745F;
-		relShowdownProb[6304] = 1.4618298F;
-		relShowdownProb[6305] = 2.1681921F;
-		relShowdownProb[6306] = 1.6041988F;
-		relShowdownProb[6307] = 1.9722208F;
-		relShowdownProb[6308] = 2.0465617F;
-		relShowdownProb[6309] = 1.4618298F;
-		relShowdownProb[6310] = 1.7035794F;
-		relShowdownProb[6311] = 1.847891F;
-		relShowdownProb[6312] = 1.792928F;
-		relShowdownProb[6313] = 1.344696F;
-		relShowdownProb[6314] = 0.8527341F;
-		relShowdownProb[6315] = 1.5430425F;
-		relShowdownProb[6316] = 1.2389668F;
-		relShowdownProb[6317] = 2.8087943F;
-		relShowdownProb[6318] = 0.9436463F;
-		relShowdownProb[6319] = 0.7549171F;
-		relShowdownProb[6320] = 1.2267402F;
-		relShowdownProb[6321] = 0.84928167F;
-		relShowdownProb[6322] = 1.3211049F;
-		relShowdownProb[6323] = 0.66055244F;
-		relShowdownProb[6324] = 0.7549171F;
-		relShowdownProb[6325] = 0.66055244F;
-		relShowdownProb[6326] = 0.9861104F;
-		relShowdownProb[6327] = 1.038011F;
-		relShowdownProb[6328] = 1.3211049F;
-		relShowdownProb[6329] = 1.2550496F;
-		relShowdownProb[6330] = 0.66055244F;
-		relShowdownProb[6331] = 1.4343424F;
-		relShowdownProb[6332] = 0.896464F;
-		relShowdownProb[6333] = 0.47182316F;
-		relShowdownProb[6334] = 0.66055244F;
-		relShowdownProb[6335] = 0.7549171F;
-		relShowdownProb[6336] = 0.9861104F;
-		relShowdownProb[6337] = 0.84928167F;
-		relShowdownProb[6338] = 0.47182316F;
-		relShowdownProb[6339] = 0.7171712F;
-		relShowdownProb[6340] = 1.1323756F;
-		relShowdownProb[6341] = 1.2550496F;
-		relShowdownProb[6342] = 0.85377526F;
-		relShowdownProb[6343] = 1.038011F;
-		relShowdownProb[6344] = 0.66055244F;
-		relShowdownProb[6345] = 0.448232F;
-		relShowdownProb[6346] = 0.47182316F;
-		relShowdownProb[6347] = 1.2550496F;
-		relShowdownProb[6348] = 0.9380075F;
-		relShowdownProb[6349] = 1.2267402F;
-		relShowdownProb[6350] = 1.2550496F;
-		relShowdownProb[6351] = 0.8527341F;
-		relShowdownProb[6352] = 1.1085542F;
-		relShowdownProb[6353] = 0.5661878F;
-		relShowdownProb[6354] = 1.038011F;
-		relShowdownProb[6355] = 0.5661878F;
-		relShowdownProb[6356] = 0.3585856F;
-		relShowdownProb[6357] = 1.038011F;
-		relShowdownProb[6358] = 0.9436463F;
-		relShowdownProb[6359] = 0.8068176F;
-		relShowdownProb[6360] = 1.038011F;
-		relShowdownProb[6361] = 1.1654032F;
-		relShowdownProb[6362] = 1.2806629F;
-		relShowdownProb[6363] = 1.1323756F;
-		relShowdownProb[6364] = 0.84928167F;
-		relShowdownProb[6365] = 0.9861104F;
-		relShowdownProb[6366] = 1.2267402F;
-		relShowdownProb[6367] = 0.7171712F;
-		relShowdownProb[6368] = 1.1085542F;
-		relShowdownProb[6369] = 1.6041988F;
-		relShowdownProb[6370] = 0.9861104F;
-		relShowdownProb[6371] = 0.68218726F;
-		relShowdownProb[6372] = 1.7887584F;
-		relShowdownProb[6373] = 0.84928167F;
-		relShowdownProb[6374] = 0.84928167F;
-		relShowdownProb[6375] = 1.1654032F;
-		relShowdownProb[6376] = 0.84928167F;
-		relShowdownProb[6377] = 1.0757568F;
-		relShowdownProb[6378] = 1.5349213F;
-		relShowdownProb[6379] = 1.1323756F;
-		relShowdownProb[6380] = 1.344696F;
-		relShowdownProb[6381] = 1.2791011F;
-		relShowdownProb[6382] = 1.1369787F;
-		relShowdownProb[6383] = 1.1323756F;
-		relShowdownProb[6384] = 0.8068176F;
-		relShowdownProb[6385] = 0.5969138F;
-		relShowdownProb[6386] = 0.89334047F;
-		relShowdownProb[6387] = 1.055766F;
-		relShowdownProb[6388] = 1.2267402F;
-		relShowdownProb[6389] = 0.9436463F;
-		relShowdownProb[6390] = 1.3211049F;
-		relShowdownProb[6391] = 0.7171712F;
-		relShowdownProb[6392] = 0.84928167F;
-		relShowdownProb[6393] = 1.038011F;
-		relShowdownProb[6394] = 0.9861104F;
-		relShowdownProb[6395] = 0.66055244F;
-		relShowdownProb[6396] = 1.4343424F;
-		relShowdownProb[6397] = 1.3660403F;
-		relShowdownProb[6398] = 1.3211049F;
-		relShowdownProb[6399] = 1.1323756F;
-		relShowdownProb[6400] = 0.8068176F;
-		relShowdownProb[6401] = 0.84928167F;
-		relShowdownProb[6402] = 0.5378784F;
-		relShowdownProb[6403] = 1.7054682F;
-		relShowdownProb[6404] = 1.3211049F;
-		relShowdownProb[6405] = 0.5378784F;
-		relShowdownProb[6406] = 1.4496479F;
-		relShowdownProb[6407] = 1.2196081F;
-		relShowdownProb[6408] = 0.47182316F;
-		relShowdownProb[6409] = 0.7549171F;
-		relShowdownProb[6410] = 0.9861104F;
-		relShowdownProb[6411] = 0.7549171F;
-		relShowdownProb[6412] = 1.2550496F;
-		relShowdownProb[6413] = 1.1938276F;
-		relShowdownProb[6414] = 1.3211049F;
-		relShowdownProb[6415] = 1.344696F;
-		relShowdownProb[6416] = 1.7907416F;
-		relShowdownProb[6417] = 0.81212765F;
-		relShowdownProb[6418] = 1.6041988F;
-		relShowdownProb[6419] = 1.1654032F;
-		relShowdownProb[6420] = 1.2791011F;
-		relShowdownProb[6421] = 1.2994043F;
-		relShowdownProb[6422] = 1.8605107F;
-		relShowdownProb[6423] = 0.47182316F;
-		relShowdownProb[6424] = 1.4154695F;
-		relShowdownProb[6425] = 1.0757568F;
-		relShowdownProb[6426] = 1.038011F;
-		relShowdownProb[6427] = 0.896464F;
-		relShowdownProb[6428] = 0.8527341F;
-		relShowdownProb[6429] = 1.5098342F;
-		relShowdownProb[6430] = 1.6136352F;
-		relShowdownProb[6431] = 1.0232809F;
-		relShowdownProb[6432] = 1.380617F;
-		relShowdownProb[6433] = 1.2267402F;
-		relShowdownProb[6434] = 0.9861104F;
-		relShowdownProb[6435] = 1.3643745F;
-		relShowdownProb[6436] = 1.4618298F;
-		relShowdownProb[6437] = 1.4712732F;
-		relShowdownProb[6438] = 1.4154695F;
-		relShowdownProb[6439] = 1.0757568F;
-		relShowdownProb[6440] = 1.0232809F;
-		relShowdownProb[6441] = 1.4618298F;
-		relShowdownProb[6442] = 1.3938377F;
-		relShowdownProb[6443] = 1.7035794F;
-		relShowdownProb[6444] = 0.7549171F;
-		relShowdownProb[6445] = 0.9436463F;
-		relShowdownProb[6446] = 1.4154695F;
-		relShowdownProb[6447] = 0.8068176F;
-		relShowdownProb[6448] = 0.37745854F;
-		relShowdownProb[6449] = 1.1323756F;
-		relShowdownProb[6450] = 0.9861104F;
-		relShowdownProb[6451] = 1.4154695F;
-		relShowdownProb[6452] = 1.0757568F;
-		relShowdownProb[6453] = 0.76839775F;
-		relShowdownProb[6454] = 1.3211049F;
-		relShowdownProb[6455] = 0.9436463F;
-		relShowdownProb[6456] = 0.8068176F;
-		relShowdownProb[6457] = 0.7549171F;
-		relShowdownProb[6458] = 2.0618672F;
-		relShowdownProb[6459] = 1.7054682F;
-		relShowdownProb[6460] = 1.4154695F;
-		relShowdownProb[6461] = 0.6275248F;
-		relShowdownProb[6462] = 1.3643745F;
-		relShowdownProb[6463] = 1.7074512F;
-		relShowdownProb[6464] = 0.47182316F;
-		relShowdownProb[6465] = 1.2267402F;
-		relShowdownProb[6466] = 1.5239888F;
-		relShowdownProb[6467] = 1.2267402F;
-		relShowdownProb[6468] = 0.6275248F;
-		relShowdownProb[6469] = 0.76746064F;
-		relShowdownProb[6470] = 1.038011F;
-		relShowdownProb[6471] = 1.344696F;
-		relShowdownProb[6472] = 1.1085542F;
-		relShowdownProb[6473] = 1.6242553F;
-		relShowdownProb[6474] = 1.1323756F;
-		relShowdownProb[6475] = 1.6136352F;
-		relShowdownProb[6476] = 1.1938276F;
-		relShowdownProb[6477] = 1.8678937F;
-		relShowdownProb[6478] = 1.7829894F;
-		relShowdownProb[6479] = 1.038011F;
-		relShowdownProb[6480] = 1.6041988F;
-		relShowdownProb[6481] = 0.8068176F;
-		relShowdownProb[6482] = 0.84928167F;
-		relShowdownProb[6483] = 0.7171712F;
-		relShowdownProb[6484] = 1.1085542F;
-		relShowdownProb[6485] = 1.1323756F;
-		relShowdownProb[6486] = 0.896464F;
-		relShowdownProb[6487] = 1.1085542F;
-		relShowdownProb[6488] = 1.7054682F;
-		relShowdownProb[6489] = 1.5098342F;
-		relShowdownProb[6490] = 1.0757568F;
-		relShowdownProb[6491] = 1.4496479F;
-		relShowdownProb[6492] = 1.7866809F;
-		relShowdownProb[6493] = 1.7035794F;
-		relShowdownProb[6494] = 1.038011F;
-		relShowdownProb[6495] = 1.5239888F;
-		relShowdownProb[6496] = 1.876015F;
-		relShowdownProb[6497] = 1.380617F;
-		relShowdownProb[6498] = 1.7810149F;
-		relShowdownProb[6499] = 1.1839017F;
-		relShowdownProb[6500] = 1.6985633F;
-		relShowdownProb[6501] = 1.4154695F;
-		relShowdownProb[6502] = 0.5378784F;
-		relShowdownProb[6503] = 1.3211049F;
-		relShowdownProb[6504] = 2.24116F;
-		relShowdownProb[6505] = 1.1938276F;
-		relShowdownProb[6506] = 0.7549171F;
-		relShowdownProb[6507] = 1.4343424F;
-		relShowdownProb[6508] = 1.9612883F;
-		relShowdownProb[6509] = 1.6242553F;
-		relShowdownProb[6510] = 1.038011F;
-		relShowdownProb[6511] = 1.344696F;
-		relShowdownProb[6512] = 2.2171085F;
-		relShowdownProb[6513] = 1.7866809F;
-		relShowdownProb[6514] = 1.3164023F;
-		relShowdownProb[6515] = 1.5098342F;
-		relShowdownProb[6516] = 1.4343424F;
-		relShowdownProb[6517] = 2.0465617F;
-		relShowdownProb[6518] = 1.6242553F;
-		relShowdownProb[6519] = 2.0133212F;
-		relShowdownProb[6520] = 1.7000597F;
-		relShowdownProb[6521] = 2.2647512F;
-		relShowdownProb[6522] = 1.1654032F;
-		relShowdownProb[6523] = 1.7907416F;
-		relShowdownProb[6524] = 1.4618298F;
-		relShowdownProb[6525] = 2.6328046F;
-		relShowdownProb[6526] = 1.9957222F;
-		relShowdownProb[6527] = 1.9218066F;
-		relShowdownProb[6528] = 1.038011F;
-		relShowdownProb[6529] = 1.2267402F;
-		relShowdownProb[6530] = 1.038011F;
-		relShowdownProb[6531] = 1.344696F;
-		relShowdownProb[6532] = 1.3211049F;
-		relShowdownProb[6533] = 1.792928F;
-		relShowdownProb[6534] = 0.8068176F;
-		relShowdownProb[6535] = 0.47182316F;
-		relShowdownProb[6536] = 0.9861104F;
-		relShowdownProb[6537] = 1.4514179F;
-		relShowdownProb[6538] = 1.038011F;
-		relShowdownProb[6539] = 0.9436463F;
-		relShowdownProb[6540] = 1.2550496F;
-		relShowdownProb[6541] = 1.5098342F;
-		relShowdownProb[6542] = 0.8068176F;
-		relShowdownProb[6543] = 1.4496479F;
-		relShowdownProb[6544] = 1.038011F;
-		relShowdownProb[6545] = 1.4343424F;
-		relShowdownProb[6546] = 1.1085542F;
-		relShowdownProb[6547] = 0.97568643F;
-		relShowdownProb[6548] = 0.7549171F;
-		relShowdownProb[6549] = 0.7549171F;
-		relShowdownProb[6550] = 1.0757568F;
-		relShowdownProb[6551] = 1.1323756F;
-		relShowdownProb[6552] = 0.896464F;
-		relShowdownProb[6553] = 0.9380075F;
-		relShowdownProb[6554] = 0.7549171F;
-		relShowdownProb[6555] = 0.9861104F;
-		relShowdownProb[6556] = 1.2791011F;
-		relShowdownProb[6557] = 1.2181915F;
-		relShowdownProb[6558] = 1.038011F;
-		relShowdownProb[6559] = 2.1515136F;
-		relShowdownProb[6560] = 1.3643745F;
-		relShowdownProb[6561] = 1.1369787F;
-		relShowdownProb[6562] = 1.085298F;
-		relShowdownProb[6563] = 0.84928167F;
-		relShowdownProb[6564] = 0.66055244F;
-		relShowdownProb[6565] = 1.344696F;
-		relShowdownProb[6566] = 1.6041988F;
-		relShowdownProb[6567] = 1.6136352F;
-		relShowdownProb[6568] = 1.1938276F;
-		relShowdownProb[6569] = 1.1323756F;
-		relShowdownProb[6570] = 1.5239888F;
-		relShowdownProb[6571] = 1.4496479F;
-		relShowdownProb[6572] = 1.7866809F;
-		relShowdownProb[6573] = 1.2267402F;
-		relShowdownProb[6574] = 1.344696F;
-		relShowdownProb[6575] = 1.0232809F;
-		relShowdownProb[6576] = 1.4618298F;
-		relShowdownProb[6577] = 1.7810149F;
-		relShowdownProb[6578] = 1.9816573F;
-		relShowdownProb[6579] = 1.0757568F;
-		relShowdownProb[6580] = 1.5349213F;
-		relShowdownProb[6581] = 2.1927447F;
-		relShowdownProb[6582] = 1.4712732F;
-		relShowdownProb[6583] = 1.6278648F;
-		relShowdownProb[6584] = 1.3211049F;
-		relShowdownProb[6585] = 1.5098342F;
-		relShowdownProb[6586] = 1.792928F;
-		relShowdownProb[6587] = 1.792928F;
-		relShowdownProb[6588] = 1.2550496F;
-		relShowdownProb[6589] = 1.6201947F;
-		relShowdownProb[6590] = 1.038011F;
-		relShowdownProb[6591] = 1.9722208F;
-		relShowdownProb[6592] = 1.1938276F;
-		relShowdownProb[6593] = 1.4618298F;
-		relShowdownProb[6594] = 0.9436463F;
-		relShowdownProb[6595] = 1.0757568F;
-		relShowdownProb[6596] = 1.7907416F;
-		relShowdownProb[6597] = 1.7054682F;
-		relShowdownProb[6598] = 1.7035794F;
-		relShowdownProb[6599] = 1.6985633F;
-		relShowdownProb[6600] = 1.5239888F;
-		relShowdownProb[6601] = 1.3643745F;
-		relShowdownProb[6602] = 1.5430425F;
-		relShowdownProb[6603] = 2.0907567F;
-		relShowdownProb[6604] = 1.4043971F;
-		relShowdownProb[6605] = 1.792928F;
-		relShowdownProb[6606] = 1.792928F;
-		relShowdownProb[6607] = 2.0465617F;
-		relShowdownProb[6608] = 1.380617F;
-		relShowdownProb[6609] = 1.9358858F;
-		relShowdownProb[6610] = 1.7739753F;
-		relShowdownProb[6611] = 2.1210575F;
-		relShowdownProb[6612] = 0.9436463F;
-		relShowdownProb[6613] = 1.6041988F;
-		relShowdownProb[6614] = 1.1654032F;
-		relShowdownProb[6615] = 1.1323756F;
-		relShowdownProb[6616] = 1.0757568F;
-		relShowdownProb[6617] = 1.1085542F;
-		relShowdownProb[6618] = 2.076022F;
-		relShowdownProb[6619] = 1.9722208F;
-		relShowdownProb[6620] = 1.3643745F;
-		relShowdownProb[6621] = 1.380617F;
-		relShowdownProb[6622] = 1.038011F;
-		relShowdownProb[6623] = 1.2550496F;
-		relShowdownProb[6624] = 1.3643745F;
-		relShowdownProb[6625] = 1.1369787F;
-		relShowdownProb[6626] = 1.7810149F;
-		relShowdownProb[6627] = 1.792928F;
-		relShowdownProb[6628] = 1.1654032F;
-		relShowdownProb[6629] = 1.4496479F;
-		relShowdownProb[6630] = 1.7866809F;
-		relShowdownProb[6631] = 1.626144F;
-		relShowdownProb[6632] = 2.1435535F;
-		relShowdownProb[6633] = 1.6985633F;
-		relShowdownProb[6634] = 1.6136352F;
-		relShowdownProb[6635] = 1.1938276F;
-		relShowdownProb[6636] = 1.6242553F;
-		relShowdownProb[6637] = 1.7810149F;
-		relShowdownProb[6638] = 1.7739753F;
-		relShowdownProb[6639] = 1.6951319F;
-		relShowdownProb[6640] = 2.6422098F;
-		relShowdownProb[6641] = 2.1515136F;
-		relShowdownProb[6642] = 2.2171085F;
-		relShowdownProb[6643] = 2.1927447F;
-		relShowdownProb[6644] = 1.3938377F;
-		relShowdownProb[6645] = 1.7739753F;
-		relShowdownProb[6646] = 2.260176F;
-		relShowdownProb[6647] = 1.2267402F;
-		relShowdownProb[6648] = 1.038011F;
-		relShowdownProb[6649] = 1.038011F;
-		relShowdownProb[6650] = 0.9436463F;
-		relShowdownProb[6651] = 0.7549171F;
-		relShowdownProb[6652] = 1.038011F;
-		relShowdownProb[6653] = 1.9816573F;
-		relShowdownProb[6654] = 1.3211049F;
-		relShowdownProb[6655] = 1.792928F;
-		relShowdownProb[6656] = 0.9436463F;
-		relShowdownProb[6657] = 0.6275248F;
-		relShowdownProb[6658] = 1.6985633F;
-		relShowdownProb[6659] = 1.0757568F;
-		relShowdownProb[6660] = 1.4343424F;
-		relShowdownProb[6661] = 0.7549171F;
-		relShowdownProb[6662] = 1.5098342F;
-		relShowdownProb[6663] = 1.038011F;
-		relShowdownProb[6664] = 1.3211049F;
-		relShowdownProb[6665] = 1.3211049F;
-		relShowdownProb[6666] = 1.2267402F;
-		relShowdownProb[6667] = 1.344696F;
-		relShowdownProb[6668] = 0.47182316F;
-		relShowdownProb[6669] = 1.0757568F;
-		relShowdownProb[6670] = 1.1952853F;
-		relShowdownProb[6671] = 1.038011F;
-		relShowdownProb[6672] = 1.4154695F;
-		relShowdownProb[6673] = 1.1654032F;
-		relShowdownProb[6674] = 1.2267402F;
-		relShowdownProb[6675] = 1.4343424F;
-		relShowdownProb[6676] = 1.1099079F;
-		relShowdownProb[6677] = 0.9436463F;
-		relShowdownProb[6678] = 1.4343424F;
-		relShowdownProb[6679] = 0.8527341F;
-		relShowdownProb[6680] = 1.9612883F;
-		relShowdownProb[6681] = 1.3211049F;
-		relShowdownProb[6682] = 1.1323756F;
-		relShowdownProb[6683] = 1.038011F;
-		relShowdownProb[6684] = 1.2267402F;
-		relShowdownProb[6685] = 1.2267402F;
-		relShowdownProb[6686] = 1.4154695F;
-		relShowdownProb[6687] = 1.4343424F;
-		relShowdownProb[6688] = 1.5098342F;
-		relShowdownProb[6689] = 1.1654032F;
-		relShowdownProb[6690] = 0.85377526F;
-		relShowdownProb[6691] = 0.5661878F;
-		relShowdownProb[6692] = 0.7549171F;
-		relShowdownProb[6693] = 1.344696F;
-		relShowdownProb[6694] = 1.038011F;
-		relShowdownProb[6695] = 1.8825744F;
-		relShowdownProb[6696] = 1.792928F;
-		relShowdownProb[6697] = 0.84928167F;
-		relShowdownProb[6698] = 0.8068176F;
-		relShowdownProb[6699] = 1.4496479F;
-		relShowdownProb[6700] = 1.3822224F;
-		relShowdownProb[6701] = 1.3211049F;
-		relShowdownProb[6702] = 0.66055244F;
-		relShowdownProb[6703] = 1.5239888F;
-		relShowdownProb[6704] = 1.3211049F;
-		relShowdownProb[6705] = 1.2550496F;
-		relShowdownProb[6706] = 1.792928F;
-		relShowdownProb[6707] = 1.2267402F;
-		relShowdownProb[6708] = 1.4343424F;
-		relShowdownProb[6709] = 1.2791011F;
-		relShowdownProb[6710] = 1.4618298F;
-		relShowdownProb[6711] = 1.1323756F;
-		relShowdownProb[6712] = 0.9861104F;
-		relShowdownProb[6713] = 1.876015F;
-		relShowdownProb[6714] = 2.9236596F;
-		relShowdownProb[6715] = 1.7054682F;
-		relShowdownProb[6716] = 1.4154695F;
-		relShowdownProb[6717] = 1.3211049F;
-		relShowdownProb[6718] = 1.038011F;
-		relShowdownProb[6719] = 2.076022F;
-		relShowdownProb[6720] = 1.792928F;
-		relShowdownProb[6721] = 1.038011F;
-		relShowdownProb[6722] = 1.4343424F;
-		relShowdownProb[6723] = 0.9436463F;
-		relShowdownProb[6724] = 1.1654032F;
-		relShowdownProb[6725] = 1.2806629F;
-		relShowdownProb[6726] = 1.038011F;
-		relShowdownProb[6727] = 1.2267402F;
-		relShowdownProb[6728] = 1.2550496F;
-		relShowdownProb[6729] = 1.3211049F;
-		relShowdownProb[6730] = 1.6136352F;
-		relShowdownProb[6731] = 1.3660403F;
-		relShowdownProb[6732] = 1.2267402F;
-		relShowdownProb[6733] = 1.6136352F;
-		relShowdownProb[6734] = 1.1085542F;
-		relShowdownProb[6735] = 1.4635296F;
-		relShowdownProb[6736] = 1.6041988F;
-		relShowdownProb[6737] = 1.1323756F;
-		relShowdownProb[6738] = 1.344696F;
-		relShowdownProb[6739] = 1.2267402F;
-		relShowdownProb[6740] = 1.344696F;
-		relShowdownProb[6741] = 1.2806629F;
-		relShowdownProb[6742] = 0.5661878F;
-		relShowdownProb[6743] = 1.5239888F;
-		relShowdownProb[6744] = 1.9612883F;
-		relShowdownProb[6745] = 1.6242553F;
-		relShowdownProb[6746] = 1.9816573F;
-		relShowdownProb[6747] = 1.7032816F;
-		relShowdownProb[6748] = 1.7054682F;
-		relShowdownProb[6749] = 1.9491065F;
-		relShowdownProb[6750] = 2.0155532F;
-		relShowdownProb[6751] = 1.1323756F;
-		relShowdownProb[6752] = 0.7549171F;
-		relShowdownProb[6753] = 1.7032816F;
-		relShowdownProb[6754] = 1.792928F;
-		relShowdownProb[6755] = 2.0618672F;
-		relShowdownProb[6756] = 1.5367955F;
-		relShowdownProb[6757] = 1.9816573F;
-		relShowdownProb[6758] = 1.1654032F;
-		relShowdownProb[6759] = 1.4496479F;
-		relShowdownProb[6760] = 1.9491065F;
-		relShowdownProb[6761] = 1.5098342F;
-		relShowdownProb[6762] = 1.344696F;
-		relShowdownProb[6763] = 1.6201947F;
-		relShowdownProb[6764] = 2.2739575F;
-		relShowdownProb[6765] = 2.4004984F;
-		relShowdownProb[6766] = 1.792928F;
-		relShowdownProb[6767] = 2.4204528F;
-		relShowdownProb[6768] = 1.3643745F;
-		relShowdownProb[6769] = 1.380617F;
-		relShowdownProb[6770] = 1.2389668F;
-		relShowdownProb[6771] = 1.8584503F;
-		relShowdownProb[6772] = 1.2267402F;
-		relShowdownProb[6773] = 1.4154695F;
-		relShowdownProb[6774] = 1.4154695F;
-		relShowdownProb[6775] = 1.1323756F;
-		relShowdownProb[6776] = 1.4154695F;
-		relShowdownProb[6777] = 1.038011F;
-		relShowdownProb[6778] = 0.9861104F;
-		relShowdownProb[6779] = 1.038011F;
-		relShowdownProb[6780] = 1.1654032F;
-		relShowdownProb[6781] = 1.5367955F;
-		relShowdownProb[6782] = 1.3211049F;
-		relShowdownProb[6783] = 1.1323756F;
-		relShowdownProb[6784] = 1.344696F;
-		relShowdownProb[6785] = 1.5098342F;
-		relShowdownProb[6786] = 1.8825744F;
-		relShowdownProb[6787] = 1.8783056F;
-		relShowdownProb[6788] = 1.2267402F;
-		relShowdownProb[6789] = 1.344696F;
-		relShowdownProb[6790] = 1.6201947F;
-		relShowdownProb[6791] = 1.4635296F;
-		relShowdownProb[6792] = 1.6041988F;
-		relShowdownProb[6793] = 1.3211049F;
-		relShowdownProb[6794] = 1.1654032F;
-		relShowdownProb[6795] = 2.076022F;
-		relShowdownProb[6796] = 1.792928F;
-		relShowdownProb[6797] = 2.134438F;
-		relShowdownProb[6798] = 1.5098342F;
-		relShowdownProb[6799] = 0.896464F;
-		relShowdownProb[6800] = 1.2791011F;
-		relShowdownProb[6801] = 2.111532F;
-		relShowdownProb[6802] = 2.1703866F;
-		relShowdownProb[6803] = 1.8825744F;
-		relShowdownProb[6804] = 1.9612883F;
-		relShowdownProb[6805] = 1.2994043F;
-		relShowdownProb[6806] = 1.3178617F;
-		relShowdownProb[6807] = 1.6041988F;
-		relShowdownProb[6808] = 1.1323756F;
-		relShowdownProb[6809] = 1.2550496F;
-		relShowdownProb[6810] = 1.5098342F;
-		relShowdownProb[6811] = 1.792928F;
-		relShowdownProb[6812] = 1.622173F;
-		relShowdownProb[6813] = 0.9436463F;
-		relShowdownProb[6814] = 2.3308065F;
-		relShowdownProb[6815] = 1.9612883F;
-		relShowdownProb[6816] = 1.9491065F;
-		relShowdownProb[6817] = 0.9436463F;
-		relShowdownProb[6818] = 1.1654032F;
-		relShowdownProb[6819] = 1.5349213F;
-		relShowdownProb[6820] = 1.6242553F;
-		relShowdownProb[6821] = 1.1615314F;
-		relShowdownProb[6822] = 2.076022F;
-		relShowdownProb[6823] = 1.4343424F;
-		relShowdownProb[6824] = 1.5349213F;
-		relShowdownProb[6825] = 1.380617F;
-		relShowdownProb[6826] = 1.1615314F;
-		relShowdownProb[6827] = 2.1458218F;
-		relShowdownProb[6828] = 1.4154695F;
-		relShowdownProb[6829] = 1.3211049F;
-		relShowdownProb[6830] = 2.0618672F;
-		relShowdownProb[6831] = 0.9436463F;
-		relShowdownProb[6832] = 2.24116F;
-		relShowdownProb[6833] = 1.5367955F;
-		relShowdownProb[6834] = 1.2267402F;
-		relShowdownProb[6835] = 1.5239888F;
-		relShowdownProb[6836] = 1.3643745F;
-		relShowdownProb[6837] = 1.5430425F;
-		relShowdownProb[6838] = 1.8872926F;
-		relShowdownProb[6839] = 0.7171712F;
-		relShowdownProb[6840] = 1.7054682F;
-		relShowdownProb[6841] = 2.111532F;
-		relShowdownProb[6842] = 2.1681921F;
-		relShowdownProb[6843] = 1.6985633F;
-		relShowdownProb[6844] = 1.9722208F;
-		relShowdownProb[6845] = 1.5349213F;
-		relShowdownProb[6846] = 2.111532F;
-		relShowdownProb[6847] = 2.323063F;
-		relShowdownProb[6848] = 2.2174692F;
-		relShowdownProb[6849] = 1.9816573F;
-		relShowdownProb[6850] = 1.4343424F;
-		relShowdownProb[6851] = 1.9612883F;
-		relShowdownProb[6852] = 2.0303192F;
-		relShowdownProb[6853] = 1.2389668F;
-		relShowdownProb[6854] = 1.7739753F;
-		relShowdownProb[6855] = 1.1826502F;
-		relShowdownProb[6856] = 1.1323756F;
-		relShowdownProb[6857] = 1.6985633F;
-		relShowdownProb[6858] = 1.792928F;
-		relShowdownProb[6859] = 2.3591158F;
-		relShowdownProb[6860] = 0.7549171F;
-		relShowdownProb[6861] = 1.4154695F;
-		relShowdownProb[6862] = 1.6136352F;
-		relShowdownProb[6863] = 1.4154695F;
-		relShowdownProb[6864] = 1.1654032F;
-		relShowdownProb[6865] = 1.3660403F;
-		relShowdownProb[6866] = 0.84928167F;
-		relShowdownProb[6867] = 2.076022F;
-		relShowdownProb[6868] = 1.2550496F;
-		relShowdownProb[6869] = 1.5098342F;
-		relShowdownProb[6870] = 1.4343424F;
-		relShowdownProb[6871] = 1.792928F;
-		relShowdownProb[6872] = 1.6041988F;
-		relShowdownProb[6873] = 1.792928F;
-		relShowdownProb[6874] = 1.876015F;
-		relShowdownProb[6875] = 1.2196081F;
-		relShowdownProb[6876] = 1.6985633F;
-		relShowdownProb[6877] = 1.6041988F;
-		relShowdownProb[6878] = 1.2550496F;
-		relShowdownProb[6879] = 1.4154695F;
-		relShowdownProb[6880] = 1.1654032F;
-		relShowdownProb[6881] = 1.3660403F;
-		relShowdownProb[6882] = 1.8872926F;
-		relShowdownProb[6883] = 0.896464F;
-		relShowdownProb[6884] = 1.2791011F;
-		relShowdownProb[6885] = 1.2181915F;
-		relShowdownProb[6886] = 2.5478451F;
-		relShowdownProb[6887] = 1.1654032F;
-		relShowdownProb[6888] = 2.302382F;
-		relShowdownProb[6889] = 1.380617F;
-		relShowdownProb[6890] = 2.0155532F;
-		relShowdownProb[6891] = 1.038011F;
-		relShowdownProb[6892] = 1.8872926F;
-		relShowdownProb[6893] = 1.5239888F;
-		relShowdownProb[6894] = 1.4154695F;
-		relShowdownProb[6895] = 2.1515136F;
-		relShowdownProb[6896] = 1.622173F;
-		relShowdownProb[6897] = 1.9816573F;
-		relShowdownProb[6898] = 1.0757568F;
-		relShowdownProb[6899] = 1.1938276F;
-		relShowdownProb[6900] = 1.9491065F;
-		relShowdownProb[6901] = 2.076022F;
-		relShowdownProb[6902] = 0.9861104F;
-		relShowdownProb[6903] = 1.7054682F;
-		relShowdownProb[6904] = 1.9491065F;
-		relShowdownProb[6905] = 2.4779336F;
-		relShowdownProb[6906] = 1.8872926F;
-		relShowdownProb[6907] = 1.5239888F;
-		relShowdownProb[6908] = 1.7054682F;
-		relShowdownProb[6909] = 1.9491065F;
-		relShowdownProb[6910] = 1.9358858F;
-		relShowdownProb[6911] = 2.2938094F;
-		relShowdownProb[6912] = 1.1323756F;
-		relShowdownProb[6913] = 1.792928F;
-		relShowdownProb[6914] = 0.8068176F;
-		relShowdownProb[6915] = 1.6985633F;
-		relShowdownProb[6916] = 1.344696F;
-		relShowdownProb[6917] = 1.1952853F;
-		relShowdownProb[6918] = 1.6041988F;
-		relShowdownProb[6919] = 1.6136352F;
-		relShowdownProb[6920] = 1.5349213F;
-		relShowdownProb[6921] = 1.6242553F;
-		relShowdownProb[6922] = 1.8872926F;
-		relShowdownProb[6923] = 1.344696F;
-		relShowdownProb[6924] = 1.7054682F;
-		relShowdownProb[6925] = 2.1927447F;
-		relShowdownProb[6926] = 1.9358858F;
-		relShowdownProb[6927] = 2.076022F;
-		relShowdownProb[6928] = 1.1654032F;
-		relShowdownProb[6929] = 1.7907416F;
-		relShowdownProb[6930] = 1.2181915F;
-		relShowdownProb[6931] = 1.626144F;
-		relShowdownProb[6932] = 2.0696378F;
-		relShowdownProb[6933] = 1.5098342F;
-		relShowdownProb[6934] = 1.0757568F;
-		relShowdownProb[6935] = 1.5349213F;
-		relShowdownProb[6936] = 2.9236596F;
-		relShowdownProb[6937] = 1.4712732F;
-		relShowdownProb[6938] = 1.5522283F;
-		relShowdownProb[6939] = 1.9796536F;
-		relShowdownProb[6940] = 1.6985633F;
-		relShowdownProb[6941] = 1.6985633F;
-		relShowdownProb[6942] = 1.7032816F;
-		relShowdownProb[6943] = 2.1703866F;
-		relShowdownProb[6944] = 1.6136352F;
-		relShowdownProb[6945] = 1.7075505F;
-		relShowdownProb[6946] = 1.038011F;
-		relShowdownProb[6947] = 1.5239888F;
-		relShowdownProb[6948] = 1.5349213F;
-		relShowdownProb[6949] = 1.7054682F;
-		relShowdownProb[6950] = 1.6985633F;
-		relShowdownProb[6951] = 1.8825744F;
-		relShowdownProb[6952] = 2.5582023F;
-		relShowdownProb[6953] = 2.1927447F;
-		relShowdownProb[6954] = 1.5487086F;
-		relShowdownProb[6955] = 1.9816573F;
-		relShowdownProb[6956] = 2.0618672F;
-		relShowdownProb[6957] = 1.5349213F;
-		relShowdownProb[6958] = 2.0303192F;
-		relShowdownProb[6959] = 1.7810149F;
-		relShowdownProb[6960] = 2.7348785F;
-		relShowdownProb[6961] = 2.3591158F;
-		relShowdownProb[6962] = 2.4204528F;
-		relShowdownProb[6963] = 1.4496479F;
-		relShowdownProb[6964] = 1.4618298F;
-		relShowdownProb[6965] = 2.1681921F;
-		relShowdownProb[6966] = 1.4783127F;
-		relShowdownProb[6967] = 2.4720674F;
-		relShowdownProb[6968] = 2.4534805F;
-		relShowdownProb[6969] = 1.792928F;
-		relShowdownProb[6970] = 2.0465617F;
-		relShowdownProb[6971] = 2.5175958F;
-		relShowdownProb[6972] = 2.0907567F;
-		relShowdownProb[6973] = 1.7739753F;
-		relShowdownProb[6974] = 2.6133285F;
-		relShowdownProb[6975] = 2.1189148F;
-		relShowdownProb[6976] = 1.6041988F;
-		relShowdownProb[6977] = 1.792928F;
-		relShowdownProb[6978] = 0.84928167F;
-		relShowdownProb[6979] = 1.792928F;
-		relShowdownProb[6980] = 1.2267402F;
-		relShowdownProb[6981] = 0.84928167F;
-		relShowdownProb[6982] = 1.344696F;
-		relShowdownProb[6983] = 1.6985633F;
-		relShowdownProb[6984] = 0.896464F;
-		relShowdownProb[6985] = 1.0245303F;
-		relShowdownProb[6986] = 1.6985633F;
-		relShowdownProb[6987] = 2.1703866F;
-		relShowdownProb[6988] = 1.4343424F;
-		relShowdownProb[6989] = 1.038011F;
-		relShowdownProb[6990] = 1.9722208F;
-		relShowdownProb[6991] = 1.5367955F;
-		relShowdownProb[6992] = 1.2267402F;
-		relShowdownProb[6993] = 1.344696F;
-		relShowdownProb[6994] = 1.4496479F;
-		relShowdownProb[6995] = 1.9513729F;
-		relShowdownProb[6996] = 1.4154695F;
-		relShowdownProb[6997] = 1.6985633F;
-		relShowdownProb[6998] = 1.0757568F;
-		relShowdownProb[6999] = 1.2267402F;
-		relShowdownProb[7000] = 1.2550496F;
-		relShowdownProb[7001] = 1.9636831F;
-		relShowdownProb[7002] = 1.9816573F;
-		relShowdownProb[7003] = 1.1654032F;
-		relShowdownProb[7004] = 1.1085542F;
-		relShowdownProb[7005] = 1.9491065F;
-		relShowdownProb[7006] = 1.792928F;
-		relShowdownProb[7007] = 1.344696F;
-		relShowdownProb[7008] = 1.3643745F;
-		relShowdownProb[7009] = 1.1369787F;
-		relShowdownProb[7010] = 1.5504255F;
-		relShowdownProb[7011] = 2.076022F;
-		relShowdownProb[7012] = 1.5098342F;
-		relShowdownProb[7013] = 1.344696F;
-		relShowdownProb[7014] = 1.1323756F;
-		relShowdownProb[7015] = 1.6136352F;
-		relShowdownProb[7016] = 1.4514179F;
-		relShowdownProb[7017] = 1.6985633F;
-		relShowdownProb[7018] = 1.8825744F;
-		relShowdownProb[7019] = 1.7054682F;
-		relShowdownProb[7020] = 1.4618298F;
-		relShowdownProb[7021] = 1.1323756F;
-		relShowdownProb[7022] = 1.344696F;
-		relShowdownProb[7023] = 1.6201947F;
-		relShowdownProb[7024] = 1.8678937F;
-		relShowdownProb[7025] = 2.0133212F;
-		relShowdownProb[7026] = 1.3211049F;
-		relShowdownProb[7027] = 1.792928F;
-		relShowdownProb[7028] = 1.9612883F;
-		relShowdownProb[7029] = 2.111532F;
-		relShowdownProb[7030] = 1.9358858F;
-		relShowdownProb[7031] = 1.6278648F;
-		relShowdownProb[7032] = 1.6985633F;
-		relShowdownProb[7033] = 1.792928F;
-		relShowdownProb[7034] = 1.1654032F;
-		relShowdownProb[7035] = 1.8872926F;
-		relShowdownProb[7036] = 1.7032816F;
-		relShowdownProb[7037] = 1.0245303F;
-		relShowdownProb[7038] = 1.8872926F;
-		relShowdownProb[7039] = 1.8825744F;
-		relShowdownProb[7040] = 1.5349213F;
-		relShowdownProb[7041] = 1.7866809F;
-		relShowdownProb[7042] = 1.038011F;
-		relShowdownProb[7043] = 1.5239888F;
-		relShowdownProb[7044] = 1.4496479F;
-		relShowdownProb[7045] = 2.3551702F;
-		relShowdownProb[7046] = 1.5487086F;
-		relShowdownProb[7047] = 1.9816573F;
-		relShowdownProb[7048] = 1.8825744F;
-		relShowdownProb[7049] = 1.6201947F;
-		relShowdownProb[7050] = 2.2739575F;
-		relShowdownProb[7051] = 2.2456274F;
-		relShowdownProb[7052] = 2.1435535F;
-		relShowdownProb[7053] = 1.3211049F;
-		relShowdownProb[7054] = 2.1515136F;
-		relShowdownProb[7055] = 1.6201947F;
-		relShowdownProb[7056] = 1.2181915F;
-		relShowdownProb[7057] = 1.3938377F;
-		relShowdownProb[7058] = 1.847891F;
-		relShowdownProb[7059] = 2.1917593F;
-		relShowdownProb[7060] = 1.6985633F;
-		relShowdownProb[7061] = 1.5098342F;
-		relShowdownProb[7062] = 1.1654032F;
-		relShowdownProb[7063] = 1.4154695F;
-		relShowdownProb[7064] = 1.8825744F;
-		relShowdownProb[7065] = 1.792928F;
-		relShowdownProb[7066] = 1.5098342F;
-		relShowdownProb[7067] = 1.7032816F;
-		relShowdownProb[7068] = 1.7907416F;
-		relShowdownProb[7069] = 1.7866809F;
-		relShowdownProb[7070] = 0.9436463F;
-		relShowdownProb[7071] = 1.7032816F;
-		relShowdownProb[7072] = 2.3876553F;
-		relShowdownProb[7073] = 1.2181915F;
-		relShowdownProb[7074] = 2.1681921F;
-		relShowdownProb[7075] = 1.5098342F;
-		relShowdownProb[7076] = 1.9722208F;
-		relShowdownProb[7077] = 2.2171085F;
-		relShowdownProb[7078] = 1.4618298F;
-		relShowdownProb[7079] = 1.5487086F;
-		relShowdownProb[7080] = 1.9957222F;
-		relShowdownProb[7081] = 1.792928F;
-		relShowdownProb[7082] = 2.689392F;
-		relShowdownProb[7083] = 1.5349213F;
-		relShowdownProb[7084] = 1.9491065F;
-		relShowdownProb[7085] = 2.0907567F;
-		relShowdownProb[7086] = 1.9957222F;
-		relShowdownProb[7087] = 1.6951319F;
-		relShowdownProb[7088] = 1.4154695F;
-		relShowdownProb[7089] = 2.4204528F;
-		relShowdownProb[7090] = 2.4729288F;
-		relShowdownProb[7091] = 1.8678937F;
-		relShowdownProb[7092] = 1.9358858F;
-		relShowdownProb[7093] = 2.1435535F;
-		relShowdownProb[7094] = 2.260176F;
-		relShowdownProb[7095] = 2.366873F;
-		relShowdownProb[7096] = 1.6041988F;
-		relShowdownProb[7097] = 1.8872926F;
-		relShowdownProb[7098] = 1.6136352F;
-		relShowdownProb[7099] = 1.4154695F;
-		relShowdownProb[7100] = 1.344696F;
-		relShowdownProb[7101] = 1.8783056F;
-		relShowdownProb[7102] = 1.2267402F;
-		relShowdownProb[7103] = 1.2550496F;
-		relShowdownProb[7104] = 1.7907416F;
-		relShowdownProb[7105] = 1.7054682F;
-		relShowdownProb[7106] = 1.8872926F;
-		relShowdownProb[7107] = 1.1654032F;
-		relShowdownProb[7108] = 2.2171085F;
-		relShowdownProb[7109] = 2.1927447F;
-		relShowdownProb[7110] = 2.2456274F;
-		relShowdownProb[7111] = 1.2267402F;
-		relShowdownProb[7112] = 1.8825744F;
-		relShowdownProb[7113] = 1.1085542F;
-		relShowdownProb[7114] = 2.5988085F;
-		relShowdownProb[7115] = 1.7810149F;
-		relShowdownProb[7116] = 1.7739753F;
-		relShowdownProb[7117] = 2.5478451F;
-		relShowdownProb[7118] = 1.4343424F;
-		relShowdownProb[7119] = 1.9612883F;
-		relShowdownProb[7120] = 1.1369787F;
-		relShowdownProb[7121] = 2.4004984F;
-		relShowdownProb[7122] = 1.9218066F;
-		relShowdownProb[7123] = 1.977654F;
-		relShowdownProb[7124] = 1.8872926F;
-		relShowdownProb[7125] = 1.792928F;
-		relShowdownProb[7126] = 1.6201947F;
-		relShowdownProb[7127] = 1.7054682F;
-		relShowdownProb[7128] = 1.2389668F;
-		relShowdownProb[7129] = 1.7739753F;
-		relShowdownProb[7130] = 1.6951319F;
-		relShowdownProb[7131] = 2.3645864F;
-		relShowdownProb[7132] = 2.830939F;
-		relShowdownProb[7133] = 1.344696F;
-		relShowdownProb[7134] = 1.3643745F;
-		relShowdownProb[7135] = 1.5430425F;
-		relShowdownProb[7136] = 2.4779336F;
-		relShowdownProb[7137] = 2.5131316F;
-		relShowdownProb[7138] = 2.4720674F;
-		relShowdownProb[7139] = 2.9726226F;
-		relShowdownProb[7140] = 1.0197278F;
-		relShowdownProb[7141] = 0.80236566F;
-		relShowdownProb[7142] = 0.7969686F;
-		relShowdownProb[7143] = 1.0641767F;
-		relShowdownProb[7144] = 1.10868F;
-		relShowdownProb[7145] = 1.0757568F;
-		relShowdownProb[7146] = 0.9033147F;
-		relShowdownProb[7147] = 1.0491157F;
-		relShowdownProb[7148] = 1.0423326F;
-		relShowdownProb[7149] = 1.4349183F;
-		relShowdownProb[7150] = 1.4381572F;
-		relShowdownProb[7151] = 1.712379F;
-		relShowdownProb[7152] = 1.0380974F;
-		relShowdownProb[7153] = 0.88128686F;
-		relShowdownProb[7154] = 1.1627902F;
-		relShowdownProb[7155] = 1.2588431F;
-		relShowdownProb[7156] = 0.96687216F;
-		relShowdownProb[7157] = 1.1654032F;
-		relShowdownProb[7158] = 1.2086605F;
-		relShowdownProb[7159] = 1.5294337F;
-		relShowdownProb[7160] = 1.2181478F;
-		relShowdownProb[7161] = 1.3226204F;
-		relShowdownProb[7162] = 1.6241257F;
-		relShowdownProb[7163] = 1.8109331F;
-		relShowdownProb[7164] = 0.8202251F;
-		relShowdownProb[7165] = 0.91670465F;
-		relShowdownProb[7166] = 1.2281154F;
-		relShowdownProb[7167] = 1.2199098F;
-		relShowdownProb[7168] = 1.4180791F;
-		relShowdownProb[7169] = 1.2678562F;
-		relShowdownProb[7170] = 1.4758382F;
-		relShowdownProb[7171] = 1.6052734F;
-		relShowdownProb[7172] = 1.3186135F;
-		relShowdownProb[7173] = 1.3475754F;
-		relShowdownProb[7174] = 1.4257592F;
-		relShowdownProb[7175] = 1.8602102F;
-		relShowdownProb[7176] = 1.2047057F;
-		relShowdownProb[7177] = 0.9930967F;
-		relShowdownProb[7178] = 1.2775586F;
-		relShowdownProb[7179] = 1.1939543F;
-		relShowdownProb[7180] = 1.2118131F;
-		relShowdownProb[7181] = 1.2038231F;
-		relShowdownProb[7182] = 1.3613335F;
-		relShowdownProb[7183] = 1.5926335F;
-		relShowdownProb[7184] = 1.3688464F;
-		relShowdownProb[7185] = 1.7718122F;
-		relShowdownProb[7186] = 1.8348901F;
-		relShowdownProb[7187] = 1.6631018F;
-		relShowdownProb[7188] = 0.8586732F;
-		relShowdownProb[7189] = 1.0440247F;
-		relShowdownProb[7190] = 1.201664F;
-		relShowdownProb[7191] = 1.1687545F;
-		relShowdownProb[7192] = 1.6372368F;
-		relShowdownProb[7193] = 1.4215358F;
-		relShowdownProb[7194] = 1.4122244F;
-		relShowdownProb[7195] = 1.8075126F;
-		relShowdownProb[7196] = 1.6953603F;
-		relShowdownProb[7197] = 1.7967672F;
-		relShowdownProb[7198] = 1.7852986F;
-		relShowdownProb[7199] = 2.03268F;
-		relShowdownProb[7200] = 1.422578F;
-		relShowdownProb[7201] = 1.2222729F;
-		relShowdownProb[7202] = 1.2396113F;
-		relShowdownProb[7203] = 1.294427F;
-		relShowdownProb[7204] = 1.4109703F;
-		relShowdownProb[7205] = 1.588022F;
-		relShowdownProb[7206] = 1.7048475F;
-		relShowdownProb[7207] = 1.946552F;
-		relShowdownProb[7208] = 1.620011F;
-		relShowdownProb[7209] = 1.6470367F;
-		relShowdownProb[7210] = 1.6737174F;
-		relShowdownProb[7211] = 2.2913847F;
-		relShowdownProb[7212] = 1.2175217F;
-		relShowdownProb[7213] = 1.425985F;
-		relShowdownProb[7214] = 1.1637167F;
-		relShowdownProb[7215] = 1.2818598F;
-		relShowdownProb[7216] = 1.4734026F;
-		relShowdownProb[7217] = 1.5260248F;
-		relShowdownProb[7218] = 2.3791528F;
-		relShowdownProb[7219] = 2.0982313F;
-		relShowdownProb[7220] = 2.0595489F;
-		relShowdownProb[7221] = 1.6844693F;
-		relShowdownProb[7222] = 1.9588692F;
-		relShowdownProb[7223] = 2.1928306F;
-		relShowdownProb[7224] = 1.435394F;
-		relShowdownProb[7225] = 1.2477369F;
-		relShowdownProb[7226] = 1.1131203F;
-		relShowdownProb[7227] = 1.4829358F;
-		relShowdownProb[7228] = 1.4484297F;
-		relShowdownProb[7229] = 1.7617522F;
-		relShowdownProb[7230] = 1.9724737F;
-		relShowdownProb[7231] = 2.5785494F;
-		relShowdownProb[7232] = 2.3860626F;
-		relShowdownProb[7233] = 2.221004F;
-		relShowdownProb[7234] = 2.3184085F;
-		relShowdownProb[7235] = 2.4761739F;
-		relShowdownProb[7236] = 1.3841299F;
-		relShowdownProb[7237] = 1.324129F;
-		relShowdownProb[7238] = 1.5305403F;
-		relShowdownProb[7239] = 1.6211755F;
-		relShowdownProb[7240] = 2.0103207F;
-		relShowdownProb[7241] = 1.774159F;
-		relShowdownProb[7242] = 2.0341134F;
-		relShowdownProb[7243] = 2.1805372F;
-		relShowdownProb[7244] = 2.4990866F;
-		relShowdownProb[7245] = 2.7450612F;
-		relShowdownProb[7246] = 2.653152F;
-		relShowdownProb[7247] = 2.8087943F;
-		relShowdownProb[7248] = 1.8198745F;
-		relShowdownProb[7249] = 1.6551611F;
-		relShowdownProb[7250] = 1.5178913F;
-		relShowdownProb[7251] = 2.1490002F;
-		relShowdownProb[7252] = 1.6482131F;
-		relShowdownProb[7253] = 2.0098863F;
-		relShowdownProb[7254] = 2.2067049F;
-		relShowdownProb[7255] = 2.3642902F;
-		relShowdownProb[7256] = 2.3859928F;
-		relShowdownProb[7257] = 2.7700162F;
-		relShowdownProb[7258] = 2.9630997F;
-		relShowdownProb[7259] = 3.203011F;
-		relShowdownProb[7260] = 1.7429785F;
-		relShowdownProb[7261] = 2.0116575F;
-		relShowdownProb[7262] = 1.7329259F;
-		relShowdownProb[7263] = 1.7091464F;
-		relShowdownProb[7264] = 1.8979424F;
-		relShowdownProb[7265] = 1.9850729F;
-		relShowdownProb[7266] = 2.2806728F;
-		relShowdownProb[7267] = 2.511293F;
-		relShowdownProb[7268] = 2.4955535F;
-		relShowdownProb[7269] = 2.516303F;
-		relShowdownProb[7270] = 2.6779478F;
-		relShowdownProb[7271] = 3.375481F;
-		relShowdownProb[7272] = 1.6788983F;
-		relShowdownProb[7273] = 1.7824812F;
-		relShowdownProb[7274] = 1.7202768F;
-		relShowdownProb[7275] = 1.6714445F;
-		relShowdownProb[7276] = 1.9978341F;
-		relShowdownProb[7277] = 1.5632449F;
-		relShowdownProb[7278] = 2.231361F;
-		relShowdownProb[7279] = 2.1437867F;
-		relShowdownProb[7280] = 2.4346864F;
-		relShowdownProb[7281] = 2.3469365F;
-		relShowdownProb[7282] = 2.7652278F;
-		relShowdownProb[7283] = 3.7204204F;
-		relShowdownProb[7284] = 1.9608507F;
-		relShowdownProb[7285] = 1.9861934F;
-		relShowdownProb[7286] = 1.9353114F;
-		relShowdownProb[7287] = 2.0735967F;
-		relShowdownProb[7288] = 1.8979424F;
-		relShowdownProb[7289] = 2.10914F;
-		relShowdownProb[7290] = 2.3299847F;
-		relShowdownProb[7291] = 2.401041F;
-		relShowdownProb[7292] = 2.8242362F;
-		relShowdownProb[7293] = 2.7098649F;
-		relShowdownProb[7294] = 3.378387F;
-		relShowdownProb[7295] = 2.9154994F;
-		relShowdownProb[7298] = 1.7054682F;
-		relShowdownProb[7299] = 0.82263756F;
-		relShowdownProb[7300] = 0.96447164F;
-		relShowdownProb[7301] = 0.63279814F;
-		relShowdownProb[7302] = 1.1169999F;
-		relShowdownProb[7303] = 0.8304536F;
-		relShowdownProb[7304] = 1.411314F;
-		relShowdownProb[7305] = 1.4291075F;
-		relShowdownProb[7306] = 1.0808734F;
-		relShowdownProb[7307] = 1.3115101F;
-		relShowdownProb[7310] = 1.7054682F;
-		relShowdownProb[7312] = 1.4467075F;
-		relShowdownProb[7313] = 1.5819954F;
-		relShowdownProb[7314] = 1.7871999F;
-		relShowdownProb[7315] = 1.3287258F;
-		relShowdownProb[7316] = 1.6679165F;
-		relShowdownProb[7317] = 1.4291075F;
-		relShowdownProb[7318] = 0.99772924F;
-		relShowdownProb[7319] = 1.5876174F;
-		relShowdownProb[7321] = 5.378784F;
-		relShowdownProb[7322] = 1.7054682F;
-		relShowdownProb[7323] = 0.82263756F;
-		relShowdownProb[7324] = 1.9289433F;
-		relShowdownProb[7326] = 1.7871999F;
-		relShowdownProb[7327] = 0.6643629F;
-		relShowdownProb[7328] = 1.7962178F;
-		relShowdownProb[7329] = 2.2457404F;
-		relShowdownProb[7330] = 0.9145852F;
-		relShowdownProb[7331] = 1.8637248F;
-		relShowdownProb[7333] = 5.378784F;
-		relShowdownProb[7336] = 1.4467075F;
-		relShowdownProb[7337] = 1.5819954F;
-		relShowdownProb[7338] = 1.1169999F;
-		relShowdownProb[7339] = 0.9965443F;
-		relShowdownProb[7340] = 1.5396153F;
-		relShowdownProb[7341] = 1.5311867F;
-		relShowdownProb[7342] = 1.3303057F;
-		relShowdownProb[7343] = 1.794698F;
-		relShowdownProb[7345] = 5.378784F;
-		relShowdownProb[7347] = 1.6452751F;
-		relShowdownProb[7348] = 1.4467075F;
-		relShowdownProb[7349] = 2.2147934F;
-		relShowdownProb[7350] = 2.4573998F;
-		relShowdownProb[7351] = 1.3287258F;
-		relShowdownProb[7352] = 2.0528204F;
-		relShowdownProb[7353] = 1.7353449F;
-		relShowdownProb[7354] = 1.1640174F;
-		relShowdownProb[7355] = 1.5185906F;
-		relShowdownProb[7358] = 1.7054682F;
-		relShowdownProb[7359] = 0.82263756F;
-		relShowdownProb[7360] = 2.411179F;
-		relShowdownProb[7361] = 2.2147934F;
-		relShowdownProb[7362] = 2.2339997F;
-		relShowdownProb[7363] = 0.9965443F;
-		relShowdownProb[7364] = 1.6679165F;
-		relShowdownProb[7365] = 1.4291075F;
-		relShowdownProb[7366] = 2.0786026F;
-		relShowdownProb[7367] = 1.794698F;
-		relShowdownProb[7371] = 4.113188F;
-		relShowdownProb[7372] = 1.4467075F;
-		relShowdownProb[7373] = 1.2655963F;
-		relShowdownProb[7374] = 2.2339997F;
-		relShowdownProb[7375] = 1.8269979F;
-		relShowdownProb[7376] = 2.0528204F;
-		relShowdownProb[7377] = 1.2249494F;
-		relShowdownProb[7378] = 3.2426202F;
-		relShowdownProb[7379] = 2.6920469F;
-		relShowdownProb[7382] = 1.7054682F;
-		relShowdownProb[7383] = 1.6452751F;
-		relShowdownProb[7384] = 1.4467075F;
-		relShowdownProb[7385] = 1.8983943F;
-		relShowdownProb[7386] = 1.7871999F;
-		relShowdownProb[7387] = 3.3218143F;
-		relShowdownProb[7388] = 2.0528204F;
-		relShowdownProb[7389] = 2.1436615F;
-		relShowdownProb[7390] = 2.411179F;
-		relShowdownProb[7391] = 2.8301005F;
-		relShowdownProb[7394] = 1.7054682F;
-		relShowdownProb[7395] = 3.2905502F;
-		relShowdownProb[7396] = 1.4467075F;
-		relShowdownProb[7397] = 3.7967887F;
-		relShowdownProb[7398] = 1.5637999F;
-		relShowdownProb[7399] = 2.491361F;
-		relShowdownProb[7400] = 2.0528204F;
-		relShowdownProb[7401] = 2.3478196F;
-		relShowdownProb[7402] = 2.244891F;
-		relShowdownProb[7403] = 3.2442617F;
-		relShowdownProb[7408] = 1.4467075F;
-		relShowdownProb[7409] = 2.5311925F;
-		relShowdownProb[7410] = 1.3403999F;
-		relShowdownProb[7411] = 2.823542F;
-		relShowdownProb[7412] = 2.6943266F;
-		relShowdownProb[7413] = 3.4706898F;
-		relShowdownProb[7414] = 2.993188F;
-		relShowdownProb[7415] = 2.277886F;
-		relShowdownProb[7418] = 1.7054682F;
-		relShowdownProb[7419] = 3.2905502F;
-		relShowdownProb[7420] = 0.96447164F;
-		relShowdownProb[7421] = 2.8475916F;
-		relShowdownProb[7422] = 1.3403999F;
-		relShowdownProb[7423] = 1.6609071F;
-		relShowdownProb[7424] = 1.6679165F;
-		relShowdownProb[7425] = 2.1436615F;
-		relShowdownProb[7426] = 1.8291703F;
-		relShowdownProb[7427] = 3.2442617F;
-		relShowdownProb[7431] = 2.4679127F;
-		relShowdownProb[7432] = 2.893415F;
-		relShowdownProb[7433] = 3.4803896F;
-		relShowdownProb[7434] = 1.7871999F;
-		relShowdownProb[7435] = 1.9930886F;
-		relShowdownProb[7436] = 2.0528204F;
-		relShowdownProb[7437] = 2.858215F;
-		relShowdownProb[7438] = 2.7437556F;
-		relShowdownProb[7439] = 3.6584227F;
-		relShowdownProb[7442] = 1.7054682F;
-		relShowdownProb[7443] = 3.2905502F;
-		relShowdownProb[7445] = 1.8983943F;
-		relShowdownProb[7446] = 0.8935999F;
-		relShowdownProb[7447] = 1.6609071F;
-		relShowdownProb[7448] = 3.8490381F;
-		relShowdownProb[7449] = 1.4291075F;
-		relShowdownProb[7450] = 2.3280349F;
-		relShowdownProb[7451] = 2.6230202F;
-		relShowdownProb[7452] = 1.5538709F;
-		relShowdownProb[7453] = 0.60803646F;
-		relShowdownProb[7454] = 0.67559606F;
-		relShowdownProb[7455] = 0.9458345F;
-		relShowdownProb[7456] = 0.9458345F;
-		relShowdownProb[7457] = 1.7565498F;
-		relShowdownProb[7458] = 1.8241094F;
-		relShowdownProb[7459] = 2.2970266F;
-		relShowdownProb[7460] = 2.1619074F;
-		relShowdownProb[7461] = 1.6171182F;
-
-	}
-
-}
@@ -1,4830 +0,0 @@
-package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
-
-/**
- * This program is free software; you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation; either version 2 of the License, or
- * (at your option) any later version.
- * 
- *  This program is distributed in the hope that it will be useful,
- *  but WITHOUT ANY WARRANTY; without even the implied warranty of
- *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- *  GNU General Public License for more details.
- *  
- *  You should have received a copy of the GNU General Public License
- *  along with this program; if not, write to the Free Software
- *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
- */
-
-/**
- * Probability distribution when (pot/(nbShowdownPlayer*BigBlind)>30
- */
-public class ShowdownRankPredictor4of4 {
-
-	private final static float[] relShowdownProb = new float[7462];
-
-	public static float getRelativeProbability(int rank) {
-		return relShowdownProb[rank];
-	}
-
-	static {
-		relShowdownProb[48] = 0.070972286F;
-		relShowdownProb[51] = 0.24840301F;
-		relShowdownProb[82] = 0.1951738F;
-		relShowdownProb[85] = 0.24840301F;
-		relShowdownProb[86] = 0.33711836F;
-		relShowdownProb[102] = 0.12420151F;
-		relShowdownProb[105] = 0.1951738F;
-		relShowdownProb[106] = 0.15968765F;
-		relShowdownProb[112] = 0.14194457F;
-		relShowdownProb[115] = 0.053229216F;
-		relShowdownProb[116] = 0.20108815F;
-		relShowdownProb[119] = 0.2661461F;
-		relShowdownProb[120] = 0.24248865F;
-		relShowdownProb[151] = 0.24840301F;
-		relShowdownProb[154] = 0.15968765F;
-		relShowdownProb[155] = 0.30163223F;
-		relShowdownProb[171] = 0.053229216F;
-		relShowdownProb[174] = 0.070972286F;
-		relShowdownProb[175] = 0.1951738F;
-		relShowdownProb[181] = 0.12420151F;
-		relShowdownProb[184] = 0.15968765F;
-		relShowdownProb[185] = 0.1951738F;
-		relShowdownProb[189] = 0.2070025F;
-		relShowdownProb[190] = 0.2898035F;
-		relShowdownProb[206] = 0.070972286F;
-		relShowdownProb[209] = 0.12420151F;
-		relShowdownProb[210] = 0.08871536F;
-		relShowdownProb[216] = 0.1951738F;
-		relShowdownProb[219] = 0.070972286F;
-		relShowdownProb[220] = 0.17151636F;
-		relShowdownProb[223] = 0.08871536F;
-		relShowdownProb[224] = 0.1537733F;
-		relShowdownProb[225] = 0.19162518F;
-		relShowdownProb[231] = 0.12420151F;
-		relShowdownProb[234] = 0.10645843F;
-		relShowdownProb[235] = 0.10645843F;
-		relShowdownProb[238] = 0.10645843F;
-		relShowdownProb[239] = 0.12420151F;
-		relShowdownProb[240] = 0.21291687F;
-		relShowdownProb[243] = 0.28388914F;
-		relShowdownProb[244] = 0.24840301F;
-		relShowdownProb[245] = 0.27206042F;
-		relShowdownProb[276] = 0.17743072F;
-		relShowdownProb[279] = 0.24840301F;
-		relShowdownProb[280] = 0.14194457F;
-		relShowdownProb[296] = 0.08871536F;
-		relShowdownProb[299] = 0.053229216F;
-		relShowdownProb[300] = 0.12420151F;
-		relShowdownProb[306] = 0.070972286F;
-		relShowdownProb[309] = 0.08871536F;
-		relShowdownProb[310] = 0.14785893F;
-		relShowdownProb[313] = 0.12420151F;
-		relShowdownProb[314] = 0.16560201F;
-		relShowdownProb[315] = 0.2898035F;
-		relShowdownProb[331] = 0.12420151F;
-		relShowdownProb[334] = 0.12420151F;
-		relShowdownProb[335] = 0.15081611F;
-		relShowdownProb[341] = 0.10645843F;
-		relShowdownProb[344] = 0.10645843F;
-		relShowdownProb[345] = 0.18925944F;
-		relShowdownProb[348] = 0.08871536F;
-		relShowdownProb[349] = 0.09462972F;
-		relShowdownProb[350] = 0.1951738F;
-		relShowdownProb[356] = 0.10645843F;
-		relShowdownProb[359] = 0.1951738F;
-		relShowdownProb[360] = 0.12420151F;
-		relShowdownProb[363] = 0.10645843F;
-		relShowdownProb[364] = 0.09462972F;
-		relShowdownProb[365] = 0.14490175F;
-		relShowdownProb[368] = 0.15968765F;
-		relShowdownProb[369] = 0.14785893F;
-		relShowdownProb[370] = 0.15673047F;
-		relShowdownProb[371] = 0.27501762F;
-		relShowdownProb[387] = 0.10645843F;
-		relShowdownProb[390] = 0.2661461F;
-		relShowdownProb[391] = 0.10645843F;
-		relShowdownProb[397] = 0.10645843F;
-		relShowdownProb[400] = 0.08871536F;
-		relShowdownProb[401] = 0.10054407F;
-		relShowdownProb[404] = 0.053229216F;
-		relShowdownProb[405] = 0.10645843F;
-		relShowdownProb[406] = 0.14194457F;
-		relShowdownProb[412] = 0.14194457F;
-		relShowdownProb[415] = 0.053229216F;
-		relShowdownProb[416] = 0.17151636F;
-		relShowdownProb[419] = 0.035486143F;
-		relShowdownProb[420] = 0.11237279F;
-		relShowdownProb[421] = 0.10645843F;
-		relShowdownProb[424] = 0.15968765F;
-		relShowdownProb[425] = 0.16560201F;
-		relShowdownProb[426] = 0.15673047F;
-		relShowdownProb[427] = 0.17743072F;
-		relShowdownProb[433] = 0.1951738F;
-		relShowdownProb[436] = 0.08871536F;
-		relShowdownProb[437] = 0.13011587F;
-		relShowdownProb[440] = 0.070972286F;
-		relShowdownProb[441] = 0.09462972F;
-		relShowdownProb[442] = 0.1537733F;
-		relShowdownProb[445] = 0.17743072F;
-		relShowdownProb[446] = 0.18925944F;
-		relShowdownProb[447] = 0.17447354F;
-		relShowdownProb[448] = 0.23065993F;
-		relShowdownProb[451] = 0.2661461F;
-		relShowdownProb[452] = 0.33120403F;
-		relShowdownProb[453] = 0.28684634F;
-		relShowdownProb[454] = 0.30518085F;
-		relShowdownProb[485] = 0.12420151F;
-		relShowdownProb[488] = 0.12420151F;
-		relShowdownProb[489] = 0.17743072F;
-		relShowdownProb[505] = 0.08871536F;
-		relShowdownProb[508] = 0.12420151F;
-		relShowdownProb[509] = 0.20404533F;
-		relShowdownProb[515] = 0.14194457F;
-		relShowdownProb[518] = 0.08871536F;
-		relShowdownProb[519] = 0.17151636F;
-		relShowdownProb[522] = 0.10645843F;
-		relShowdownProb[523] = 0.1537733F;
-		relShowdownProb[524] = 0.23065993F;
-		relShowdownProb[540] = 0.21291687F;
-		relShowdownProb[543] = 0.12420151F;
-		relShowdownProb[544] = 0.15968765F;
-		relShowdownProb[550] = 0.15968765F;
-		relShowdownProb[553] = 0.017743072F;
-		relShowdownProb[554] = 0.17151636F;
-		relShowdownProb[557] = 0.15968765F;
-		relShowdownProb[558] = 0.12420151F;
-		relShowdownProb[559] = 0.18097934F;
-		relShowdownProb[565] = 0.070972286F;
-		relShowdownProb[568] = 0.08871536F;
-		relShowdownProb[569] = 0.10645843F;
-		relShowdownProb[572] = 0.10645843F;
-		relShowdownProb[573] = 0.10645843F;
-		relShowdownProb[574] = 0.13898739F;
-		relShowdownProb[577] = 0.070972286F;
-		relShowdownProb[578] = 0.13011587F;
-		relShowdownProb[579] = 0.14785893F;
-		relShowdownProb[580] = 0.25727454F;
-		relShowdownProb[596] = 0.28388914F;
-		relShowdownProb[599] = 0.08871536F;
-		relShowdownProb[600] = 0.18630226F;
-		relShowdownProb[606] = 0.12420151F;
-		relShowdownProb[609] = 0.17743072F;
-		relShowdownProb[610] = 0.14785893F;
-		relShowdownProb[613] = 0.17743072F;
-		relShowdownProb[614] = 0.15968765F;
-		relShowdownProb[615] = 0.1951738F;
-		relShowdownProb[621] = 0.15968765F;
-		relShowdownProb[624] = 0.15968765F;
-		relShowdownProb[625] = 0.13603021F;
-		relShowdownProb[628] = 0.017743072F;
-		relShowdownProb[629] = 0.14194457F;
-		relShowdownProb[630] = 0.14785893F;
-		relShowdownProb[633] = 0.14194457F;
-		relShowdownProb[634] = 0.09462972F;
-		relShowdownProb[635] = 0.13898739F;
-		relShowdownProb[636] = 0.22474559F;
-		relShowdownProb[642] = 0.12420151F;
-		relShowdownProb[645] = 0.15968765F;
-		relShowdownProb[646] = 0.15968765F;
-		relShowdownProb[649] = 0.14194457F;
-		relShowdownProb[650] = 0.10054407F;
-		relShowdownProb[651] = 0.14785893F;
-		relShowdownProb[654] = 0.14194457F;
-		relShowdownProb[655] = 0.13603021F;
-		relShowdownProb[656] = 0.15081611F;
-		relShowdownProb[657] = 0.1951738F;
-		relShowdownProb[660] = 0.21291687F;
-		relShowdownProb[661] = 0.1537733F;
-		relShowdownProb[662] = 0.1537733F;
-		relShowdownProb[663] = 0.27679193F;
-		relShowdownProb[664] = 0.36550727F;
-		relShowdownProb[680] = 0.15968765F;
-		relShowdownProb[683] = 0.17743072F;
-		relShowdownProb[684] = 0.21291687F;
-		relShowdownProb[690] = 0.12420151F;
-		relShowdownProb[693] = 0.070972286F;
-		relShowdownProb[694] = 0.13603021F;
-		relShowdownProb[697] = 0.14194457F;
-		relShowdownProb[698] = 0.17743072F;
-		relShowdownProb[699] = 0.13484734F;
-		relShowdownProb[705] = 0.1951738F;
-		relShowdownProb[708] = 0.10645843F;
-		relShowdownProb[709] = 0.16560201F;
-		relShowdownProb[712] = 0.035486143F;
-		relShowdownProb[713] = 0.1537733F;
-		relShowdownProb[714] = 0.18334508F;
-		relShowdownProb[717] = 0.12420151F;
-		relShowdownProb[718] = 0.13603021F;
-		relShowdownProb[719] = 0.16560201F;
-		relShowdownProb[720] = 0.19911669F;
-		relShowdownProb[726] = 0.17743072F;
-		relShowdownProb[729] = 0.21291687F;
-		relShowdownProb[730] = 0.17151636F;
-		relShowdownProb[733] = 0.08871536F;
-		relShowdownProb[734] = 0.12420151F;
-		relShowdownProb[735] = 0.14490175F;
-		relShowdownProb[738] = 0.23065993F;
-		relShowdownProb[739] = 0.1951738F;
-		relShowdownProb[740] = 0.15081611F;
-		relShowdownProb[741] = 0.15081611F;
-		relShowdownProb[744] = 0.12420151F;
-		relShowdownProb[745] = 0.29571787F;
-		relShowdownProb[746] = 0.20404533F;
-		relShowdownProb[747] = 0.23775716F;
-		relShowdownProb[748] = 0.30796903F;
-		relShowdownProb[754] = 0.24840301F;
-		relShowdownProb[757] = 0.15968765F;
-		relShowdownProb[758] = 0.22474559F;
-		relShowdownProb[761] = 0.10645843F;
-		relShowdownProb[762] = 0.14785893F;
-		relShowdownProb[763] = 0.17151636F;
-		relShowdownProb[766] = 0.21291687F;
-		relShowdownProb[767] = 0.18925944F;
-		relShowdownProb[768] = 0.1537733F;
-		relShowdownProb[769] = 0.21646547F;
-		relShowdownProb[772] = 0.15968765F;
-		relShowdownProb[773] = 0.1537733F;
-		relShowdownProb[774] = 0.26023173F;
-		relShowdownProb[775] = 0.2217884F;
-		relShowdownProb[776] = 0.24367152F;
-		relShowdownProb[779] = 0.40809065F;
-		relShowdownProb[780] = 0.36669016F;
-		relShowdownProb[781] = 0.4287909F;
-		relShowdownProb[782] = 0.4471254F;
-		relShowdownProb[783] = 0.3986277F;
-		relShowdownProb[816] = 0.21291687F;
-		relShowdownProb[817] = 0.37260452F;
-		relShowdownProb[836] = 0.17743072F;
-		relShowdownProb[837] = 0.2661461F;
-		relShowdownProb[846] = 0.24840301F;
-		relShowdownProb[847] = 0.23065993F;
-		relShowdownProb[850] = 0.17743072F;
-		relShowdownProb[851] = 0.18925944F;
-		relShowdownProb[852] = 0.31346095F;
-		relShowdownProb[871] = 0.21291687F;
-		relShowdownProb[872] = 0.32824683F;
-		relShowdownProb[881] = 0.1951738F;
-		relShowdownProb[882] = 0.23065993F;
-		relShowdownProb[885] = 0.21291687F;
-		relShowdownProb[886] = 0.24248865F;
-		relShowdownProb[887] = 0.2235627F;
-		relShowdownProb[896] = 0.24840301F;
-		relShowdownProb[897] = 0.27797478F;
-		relShowdownProb[900] = 0.23065993F;
-		relShowdownProb[901] = 0.24840301F;
-		relShowdownProb[902] = 0.25136018F;
-		relShowdownProb[905] = 0.2661461F;
-		relShowdownProb[906] = 0.22474559F;
-		relShowdownProb[907] = 0.2927607F;
-		relShowdownProb[908] = 0.3607758F;
-		relShowdownProb[927] = 0.15968765F;
-		relShowdownProb[928] = 0.28388914F;
-		relShowdownProb[937] = 0.37260452F;
-		relShowdownProb[938] = 0.31346095F;
-		relShowdownProb[941] = 0.1951738F;
-		relShowdownProb[942] = 0.2898035F;
-		relShowdownProb[943] = 0.27679193F;
-		relShowdownProb[952] = 0.2661461F;
-		relShowdownProb[953] = 0.33120403F;
-		relShowdownProb[956] = 0.24840301F;
-		relShowdownProb[957] = 0.21883123F;
-		relShowdownProb[958] = 0.23657429F;
-		relShowdownProb[961] = 0.23065993F;
-		relShowdownProb[962] = 0.24248865F;
-		relShowdownProb[963] = 0.22474559F;
-		relShowdownProb[964] = 0.32528967F;
-		relShowdownProb[973] = 0.21291687F;
-		relShowdownProb[974] = 0.2898035F;
-		relShowdownProb[977] = 0.1951738F;
-		relShowdownProb[978] = 0.21883123F;
-		relShowdownProb[979] = 0.27206042F;
-		relShowdownProb[982] = 0.2661461F;
-		relShowdownProb[983] = 0.25431737F;
-		relShowdownProb[984] = 0.23065993F;
-		relShowdownProb[985] = 0.31050375F;
-		relShowdownProb[988] = 0.21291687F;
-		relShowdownProb[989] = 0.3075466F;
-		relShowdownProb[990] = 0.31346095F;
-		relShowdownProb[991] = 0.2963093F;
-		relShowdownProb[992] = 0.48793447F;
-		relShowdownProb[1011] = 0.42583373F;
-		relShowdownProb[1012] = 0.4435768F;
-		relShowdownProb[1021] = 0.23065993F;
-		relShowdownProb[1022] = 0.4021763F;
-		relShowdownProb[1025] = 0.15968765F;
-		relShowdownProb[1026] = 0.27797478F;
-		relShowdownProb[1027] = 0.32647252F;
-		relShowdownProb[1036] = 0.3193753F;
-		relShowdownProb[1037] = 0.25431737F;
-		relShowdownProb[1040] = 0.3193753F;
-		relShowdownProb[1041] = 0.26023173F;
-		relShowdownProb[1042] = 0.3193753F;
-		relShowdownProb[1045] = 0.24840301F;
-		relShowdownProb[1046] = 0.34894708F;
-		relShowdownProb[1047] = 0.37260452F;
-		relShowdownProb[1048] = 0.3686616F;
-		relShowdownProb[1057] = 0.3193753F;
-		relShowdownProb[1058] = 0.28388914F;
-		relShowdownProb[1061] = 0.4435768F;
-		relShowdownProb[1062] = 0.41991937F;
-		relShowdownProb[1063] = 0.3164181F;
-		relShowdownProb[1066] = 0.2661461F;
-		relShowdownProb[1067] = 0.29571787F;
-		relShowdownProb[1068] = 0.3341612F;
-		relShowdownProb[1069] = 0.30340654F;
-		relShowdownProb[1072] = 0.30163223F;
-		relShowdownProb[1073] = 0.37851888F;
-		relShowdownProb[1074] = 0.34303272F;
-		relShowdownProb[1075] = 0.35486144F;
-		relShowdownProb[1076] = 0.41822955F;
-		relShowdownProb[1085] = 0.33711836F;
-		relShowdownProb[1086] = 0.3903476F;
-		relShowdownProb[1089] = 0.35486144F;
-		relShowdownProb[1090] = 0.40809065F;
-		relShowdownProb[1091] = 0.2927607F;
-		relShowdownProb[1094] = 0.33711836F;
-		relShowdownProb[1095] = 0.33120403F;
-		relShowdownProb[1096] = 0.3459899F;
-		relShowdownProb[1097] = 0.2909864F;
-		relShowdownProb[1100] = 0.30163223F;
-		relShowdownProb[1101] = 0.32528967F;
-		relShowdownProb[1102] = 0.3193753F;
-		relShowdownProb[1103] = 0.3459899F;
-		relShowdownProb[1104] = 0.38798183F;
-		relShowdownProb[1107] = 0.37260452F;
-		relShowdownProb[1108] = 0.43766245F;
-		relShowdownProb[1109] = 0.44061962F;
-		relShowdownProb[1110] = 0.4169622F;
-		relShowdownProb[1111] = 0.52756065F;
-		relShowdownProb[1112] = 0.67068815F;
-		relShowdownProb[1131] = 0.4435768F;
-		relShowdownProb[1132] = 0.5056776F;
-		relShowdownProb[1141] = 0.5322922F;
-		relShowdownProb[1142] = 0.4849773F;
-		relShowdownProb[1145] = 0.49680603F;
-		relShowdownProb[1146] = 0.46131986F;
-		relShowdownProb[1147] = 0.5677783F;
-		relShowdownProb[1156] = 0.4435768F;
-		relShowdownProb[1157] = 0.41991937F;
-		relShowdownProb[1160] = 0.42583373F;
-		relShowdownProb[1161] = 0.42583373F;
-		relShowdownProb[1162] = 0.44061962F;
-		relShowdownProb[1165] = 0.40809065F;
-		relShowdownProb[1166] = 0.44949117F;
-		relShowdownProb[1167] = 0.45244834F;
-		relShowdownProb[1168] = 0.44949117F;
-		relShowdownProb[1177] = 0.6919798F;
-		relShowdownProb[1178] = 0.5736927F;
-		relShowdownProb[1181] = 0.60326445F;
-		relShowdownProb[1182] = 0.47906294F;
-		relShowdownProb[1183] = 0.4554055F;
-		relShowdownProb[1186] = 0.40809065F;
-		relShowdownProb[1187] = 0.46723422F;
-		relShowdownProb[1188] = 0.44061962F;
-		relShowdownProb[1189] = 0.46309417F;
-		relShowdownProb[1192] = 0.46131986F;
-		relShowdownProb[1193] = 0.39626193F;
-		relShowdownProb[1194] = 0.47314858F;
-		relShowdownProb[1195] = 0.5074519F;
-		relShowdownProb[1196] = 0.5132817F;
-		relShowdownProb[1205] = 0.47906294F;
-		relShowdownProb[1206] = 0.47314858F;
-		relShowdownProb[1209] = 0.42583373F;
-		relShowdownProb[1210] = 0.44949117F;
-		relShowdownProb[1211] = 0.49384883F;
-		relShowdownProb[1214] = 0.49680603F;
-		relShowdownProb[1215] = 0.5263778F;
-		relShowdownProb[1216] = 0.47019142F;
-		relShowdownProb[1217] = 0.48438588F;
-		relShowdownProb[1220] = 0.5322922F;
-		relShowdownProb[1221] = 0.5145491F;
-		relShowdownProb[1222] = 0.47019142F;
-		relShowdownProb[1223] = 0.45954555F;
-		relShowdownProb[1224] = 0.52046347F;
-		relShowdownProb[1227] = 0.55003524F;
-		relShowdownProb[1228] = 0.6269219F;
-		relShowdownProb[1229] = 0.5677783F;
-		relShowdownProb[1230] = 0.57664984F;
-		relShowdownProb[1231] = 0.57250977F;
-		relShowdownProb[1232] = 0.67334956F;
-		relShowdownProb[1241] = 0.5322922F;
-		relShowdownProb[1242] = 0.60326445F;
-		relShowdownProb[1245] = 0.6387506F;
-		relShowdownProb[1246] = 0.579607F;
-		relShowdownProb[1247] = 0.5648211F;
-		relShowdownProb[1250] = 0.42583373F;
-		relShowdownProb[1251] = 0.5973501F;
-		relShowdownProb[1252] = 0.51750624F;
-		relShowdownProb[1253] = 0.5731012F;
-		relShowdownProb[1256] = 0.6210075F;
-		relShowdownProb[1257] = 0.5677783F;
-		relShowdownProb[1258] = 0.5145491F;
-		relShowdownProb[1259] = 0.5216463F;
-		relShowdownProb[1260] = 0.5594982F;
-		relShowdownProb[1263] = 0.7097229F;
-		relShowdownProb[1264] = 0.59143573F;
-		relShowdownProb[1265] = 0.6269219F;
-		relShowdownProb[1266] = 0.5393894F;
-		relShowdownProb[1267] = 0.6210075F;
-		relShowdownProb[1268] = 0.6801511F;
-		relShowdownProb[1271] = 0.6387506F;
-		relShowdownProb[1272] = 0.5736927F;
-		relShowdownProb[1273] = 0.612136F;
-		relShowdownProb[1274] = 0.6493964F;
-		relShowdownProb[1275] = 0.6150932F;
-		relShowdownProb[1276] = 0.64550984F;
-		relShowdownProb[1295] = 0.13925624F;
-		relShowdownProb[1296] = 0.1624656F;
-		relShowdownProb[1305] = 0.4177687F;
-		relShowdownProb[1306] = 0.23209372F;
-		relShowdownProb[1309] = 0.09283749F;
-		relShowdownProb[1310] = 0.23209372F;
-		relShowdownProb[1311] = 0.19495873F;
-		relShowdownProb[1320] = 0.23209372F;
-		relShowdownProb[1321] = 0.18567498F;
-		relShowdownProb[1324] = 0.046418745F;
-		relShowdownProb[1325] = 0.23209372F;
-		relShowdownProb[1326] = 0.17020206F;
-		relShowdownProb[1329] = 0.18567498F;
-		relShowdownProb[1330] = 0.17020206F;
-		relShowdownProb[1331] = 0.13151978F;
-		relShowdownProb[1332] = 0.15988679F;
-		relShowdownProb[1341] = 0.18567498F;
-		relShowdownProb[1342] = 0.15472914F;
-		relShowdownProb[1345] = 0.18567498F;
-		relShowdownProb[1346] = 0.13925624F;
-		relShowdownProb[1347] = 0.12378332F;
-		relShowdownProb[1350] = 0.18567498F;
-		relShowdownProb[1351] = 0.09283749F;
-		relShowdownProb[1352] = 0.13151978F;
-		relShowdownProb[1353] = 0.14853998F;
-		relShowdownProb[1356] = 0.046418745F;
-		relShowdownProb[1357] = 0.06189166F;
-		relShowdownProb[1358] = 0.10057394F;
-		relShowdownProb[1359] = 0.12997249F;
-		relShowdownProb[1360] = 0.18899061F;
-		relShowdownProb[1369] = 0.27851248F;
-		relShowdownProb[1370] = 0.2166208F;
-		relShowdownProb[1373] = 0.37134996F;
-		relShowdownProb[1374] = 0.07736457F;
-		relShowdownProb[1375] = 0.13925624F;
-		relShowdownProb[1378] = 0.23209372F;
-		relShowdownProb[1379] = 0.13925624F;
-		relShowdownProb[1380] = 0.10057394F;
-		relShowdownProb[1381] = 0.16710748F;
-		relShowdownProb[1384] = 0.37134996F;
-		relShowdownProb[1385] = 0.06189166F;
-		relShowdownProb[1386] = 0.13151978F;
-		relShowdownProb[1387] = 0.12533061F;
-		relShowdownProb[1388] = 0.111404985F;
-		relShowdownProb[1391] = 0.13925624F;
-		relShowdownProb[1392] = 0.17020206F;
-		relShowdownProb[1393] = 0.13151978F;
-		relShowdownProb[1394] = 0.12997249F;
-		relShowdownProb[1395] = 0.14235082F;
-		relShowdownProb[1396] = 0.22280997F;
-		relShowdownProb[1405] = 0.23209372F;
-		relShowdownProb[1406] = 0.23209372F;
-		relShowdownProb[1409] = 0.27851248F;
-		relShowdownProb[1410] = 0.09283749F;
-		relShowdownProb[1411] = 0.20888434F;
-		relShowdownProb[1414] = 0.18567498F;
-		relShowdownProb[1415] = 0.12378332F;
-		relShowdownProb[1416] = 0.13151978F;
-		relShowdownProb[1417] = 0.11604686F;
-		relShowdownProb[1420] = 0.18567498F;
-		relShowdownProb[1421] = 0.12378332F;
-		relShowdownProb[1422] = 0.13151978F;
-		relShowdownProb[1423] = 0.12533061F;
-		relShowdownProb[1424] = 0.14235082F;
-		relShowdownProb[1427] = 0.23209372F;
-		relShowdownProb[1428] = 0.12378332F;
-		relShowdownProb[1429] = 0.17793852F;
-		relShowdownProb[1430] = 0.1438981F;
-		relShowdownProb[1431] = 0.1640129F;
-		relShowdownProb[1432] = 0.1746229F;
-		relShowdownProb[1435] = 0.23209372F;
-		relShowdownProb[1436] = 0.23209372F;
-		relShowdownProb[1437] = 0.17020206F;
-		relShowdownProb[1438] = 0.15318185F;
-		relShowdownProb[1439] = 0.18567498F;
-		relShowdownProb[1440] = 0.18125415F;
-		relShowdownProb[1441] = 0.28710854F;
-		relShowdownProb[1451] = 0.37134996F;
-		relShowdownProb[1455] = 0.20114788F;
-		relShowdownProb[1456] = 0.2166208F;
-		relShowdownProb[1460] = 0.27851248F;
-		relShowdownProb[1461] = 0.20888434F;
-		relShowdownProb[1462] = 0.3063637F;
-		relShowdownProb[1466] = 0.3094583F;
-		relShowdownProb[1467] = 0.20114788F;
-		relShowdownProb[1468] = 0.2181681F;
-		relShowdownProb[1469] = 0.24756664F;
-		relShowdownProb[1473] = 0.27851248F;
-		relShowdownProb[1474] = 0.27851248F;
-		relShowdownProb[1475] = 0.2367356F;
-		relShowdownProb[1476] = 0.2537558F;
-		relShowdownProb[1477] = 0.28735414F;
-		relShowdownProb[1481] = 0.35587704F;
-		relShowdownProb[1482] = 0.3790864F;
-		relShowdownProb[1483] = 0.33885685F;
-		relShowdownProb[1484] = 0.3651608F;
-		relShowdownProb[1485] = 0.3514562F;
-		relShowdownProb[1486] = 0.42605776F;
-		relShowdownProb[1490] = 0.47966036F;
-		relShowdownProb[1491] = 0.5183426F;
-		relShowdownProb[1492] = 0.3992012F;
-		relShowdownProb[1493] = 0.49822786F;
-		relShowdownProb[1494] = 0.4575562F;
-		relShowdownProb[1495] = 0.48408118F;
-		relShowdownProb[1496] = 0.5941599F;
-		relShowdownProb[1515] = 0.23209372F;
-		relShowdownProb[1516] = 0.3249312F;
-		relShowdownProb[1525] = 0.46418744F;
-		relShowdownProb[1526] = 0.18567498F;
-		relShowdownProb[1529] = 0.09283749F;
-		relShowdownProb[1530] = 0.27851248F;
-		relShowdownProb[1531] = 0.31564745F;
-		relShowdownProb[1540] = 0.37134996F;
-		relShowdownProb[1541] = 0.18567498F;
-		relShowdownProb[1544] = 0.27851248F;
-		relShowdownProb[1545] = 0.23209372F;
-		relShowdownProb[1546] = 0.20114788F;
-		relShowdownProb[1550] = 0.2166208F;
-		relShowdownProb[1551] = 0.15472914F;
-		relShowdownProb[1552] = 0.23209372F;
-		relShowdownProb[1561] = 0.3249312F;
-		relShowdownProb[1562] = 0.3249312F;
-		relShowdownProb[1565] = 0.09283749F;
-		relShowdownProb[1566] = 0.29398537F;
-		relShowdownProb[1567] = 0.15472914F;
-		relShowdownProb[1570] = 0.18567498F;
-		relShowdownProb[1571] = 0.15472914F;
-		relShowdownProb[1572] = 0.17793852F;
-		relShowdownProb[1573] = 0.13925624F;
-		relShowdownProb[1576] = 0.09283749F;
-		relShowdownProb[1577] = 0.3094583F;
-		relShowdownProb[1578] = 0.23209372F;
-		relShowdownProb[1579] = 0.12533061F;
-		relShowdownProb[1580] = 0.18567498F;
-		relShowdownProb[1589] = 0.09283749F;
-		relShowdownProb[1590] = 0.23209372F;
-		relShowdownProb[1593] = 0.23209372F;
-		relShowdownProb[1594] = 0.24756664F;
-		relShowdownProb[1595] = 0.15472914F;
-		relShowdownProb[1598] = 0.27851248F;
-		relShowdownProb[1599] = 0.2166208F;
-		relShowdownProb[1600] = 0.12378332F;
-		relShowdownProb[1601] = 0.111404985F;
-		relShowdownProb[1604] = 0.3249312F;
-		relShowdownProb[1605] = 0.09283749F;
-		relShowdownProb[1606] = 0.13925624F;
-		relShowdownProb[1607] = 0.14853998F;
-		relShowdownProb[1608] = 0.1640129F;
-		relShowdownProb[1611] = 0.13925624F;
-		relShowdownProb[1612] = 0.24756664F;
-		relShowdownProb[1613] = 0.20888434F;
-		relShowdownProb[1614] = 0.09283749F;
-		relShowdownProb[1615] = 0.14235082F;
-		relShowdownProb[1616] = 0.22745185F;
-		relShowdownProb[1625] = 0.23209372F;
-		relShowdownProb[1626] = 0.13925624F;
-		relShowdownProb[1629] = 0.23209372F;
-		relShowdownProb[1630] = 0.12378332F;
-		relShowdownProb[1631] = 0.13925624F;
-		relShowdownProb[1634] = 0.23209372F;
-		relShowdownProb[1635] = 0.13925624F;
-		relShowdownProb[1636] = 0.1083104F;
-		relShowdownProb[1637] = 0.12068874F;
-		relShowdownProb[1640] = 0.18567498F;
-		relShowdownProb[1641] = 0.17020206F;
-		relShowdownProb[1642] = 0.17793852F;
-		relShowdownProb[1643] = 0.17174935F;
-		relShowdownProb[1644] = 0.16091831F;
-		relShowdownProb[1647] = 0.18567498F;
-		relShowdownProb[1648] = 0.20114788F;
-		relShowdownProb[1649] = 0.13925624F;
-		relShowdownProb[1650] = 0.15318185F;
-		relShowdownProb[1651] = 0.1825804F;
-		relShowdownProb[1652] = 0.20998956F;
-		relShowdownProb[1655] = 0.27851248F;
-		relShowdownProb[1656] = 0.13925624F;
-		relShowdownProb[1657] = 0.23209372F;
-		relShowdownProb[1658] = 0.1996006F;
-		relShowdownProb[1659] = 0.13925624F;
-		relShowdownProb[1660] = 0.21219997F;
-		relShowdownProb[1661] = 0.26819718F;
-		relShowdownProb[1671] = 0.27851248F;
-		relShowdownProb[1675] = 0.3249312F;
-		relShowdownProb[1676] = 0.27851248F;
-		relShowdownProb[1680] = 0.26303956F;
-		relShowdownProb[1681] = 0.28624892F;
-		relShowdownProb[1682] = 0.25530308F;
-		relShowdownProb[1686] = 0.3094583F;
-		relShowdownProb[1687] = 0.34040412F;
-		relShowdownProb[1688] = 0.2181681F;
-		relShowdownProb[1689] = 0.28160706F;
-		relShowdownProb[1693] = 0.29398537F;
-		relShowdownProb[1694] = 0.27851248F;
-		relShowdownProb[1695] = 0.2924381F;
-		relShowdownProb[1696] = 0.28160706F;
-		relShowdownProb[1697] = 0.31608954F;
-		relShowdownProb[1701] = 0.4332416F;
-		relShowdownProb[1702] = 0.30172184F;
-		relShowdownProb[1703] = 0.3434987F;
-		relShowdownProb[1704] = 0.37753913F;
-		relShowdownProb[1705] = 0.39566454F;
-		relShowdownProb[1706] = 0.45258275F;
-		relShowdownProb[1710] = 0.6034437F;
-		relShowdownProb[1711] = 0.4719239F;
-		relShowdownProb[1712] = 0.6034437F;
-		relShowdownProb[1713] = 0.46728203F;
-		relShowdownProb[1714] = 0.47523952F;
-		relShowdownProb[1715] = 0.5785765F;
-		relShowdownProb[1716] = 0.5941599F;
-		relShowdownProb[1735] = 0.4177687F;
-		relShowdownProb[1736] = 0.18567498F;
-		relShowdownProb[1745] = 0.27851248F;
-		relShowdownProb[1746] = 0.44097808F;
-		relShowdownProb[1749] = 0.4177687F;
-		relShowdownProb[1750] = 0.37134996F;
-		relShowdownProb[1751] = 0.21352622F;
-		relShowdownProb[1760] = 0.69628114F;
-		relShowdownProb[1761] = 0.23209372F;
-		relShowdownProb[1764] = 0.13925624F;
-		relShowdownProb[1765] = 0.18567498F;
-		relShowdownProb[1766] = 0.24137747F;
-		relShowdownProb[1769] = 0.4177687F;
-		relShowdownProb[1770] = 0.24756664F;
-		relShowdownProb[1771] = 0.19341144F;
-		relShowdownProb[1772] = 0.22177844F;
-		relShowdownProb[1781] = 0.13925624F;
-		relShowdownProb[1782] = 0.27851248F;
-		relShowdownProb[1785] = 0.27851248F;
-		relShowdownProb[1786] = 0.24756664F;
-		relShowdownProb[1787] = 0.25994498F;
-		relShowdownProb[1790] = 0.4177687F;
-		relShowdownProb[1791] = 0.23209372F;
-		relShowdownProb[1792] = 0.270776F;
-		relShowdownProb[1793] = 0.15318185F;
-		relShowdownProb[1796] = 0.18567498F;
-		relShowdownProb[1797] = 0.27851248F;
-		relShowdownProb[1798] = 0.20114788F;
-		relShowdownProb[1799] = 0.16710748F;
-		relShowdownProb[1800] = 0.2155156F;
-		relShowdownProb[1809] = 0.23209372F;
-		relShowdownProb[1810] = 0.1624656F;
-		relShowdownProb[1813] = 0.27851248F;
-		relShowdownProb[1814] = 0.44871452F;
-		relShowdownProb[1815] = 0.18567498F;
-		relShowdownProb[1818] = 0.27851248F;
-		relShowdownProb[1819] = 0.26303956F;
-		relShowdownProb[1820] = 0.28624892F;
-		relShowdownProb[1821] = 0.2181681F;
-		relShowdownProb[1824] = 0.37134996F;
-		relShowdownProb[1825] = 0.27851248F;
-		relShowdownProb[1826] = 0.08510103F;
-		relShowdownProb[1827] = 0.17174935F;
-		relShowdownProb[1828] = 0.25994498F;
-		relShowdownProb[1831] = 0.37134996F;
-		relShowdownProb[1832] = 0.3094583F;
-		relShowdownProb[1833] = 0.15472914F;
-		relShowdownProb[1834] = 0.1810331F;
-		relShowdownProb[1835] = 0.16091831F;
-		relShowdownProb[1836] = 0.24834028F;
-		relShowdownProb[1845] = 0.55702496F;
-		relShowdownProb[1846] = 0.23209372F;
-		relShowdownProb[1849] = 0.23209372F;
-		relShowdownProb[1850] = 0.18567498F;
-		relShowdownProb[1851] = 0.21352622F;
-		relShowdownProb[1854] = 0.18567498F;
-		relShowdownProb[1855] = 0.15472914F;
-		relShowdownProb[1856] = 0.14699268F;
-		relShowdownProb[1857] = 0.24601935F;
-		relShowdownProb[1860] = 0.27851248F;
-		relShowdownProb[1861] = 0.2166208F;
-		relShowdownProb[1862] = 0.2166208F;
-		relShowdownProb[1863] = 0.24601935F;
-		relShowdownProb[1864] = 0.16091831F;
-		relShowdownProb[1867] = 0.18567498F;
-		relShowdownProb[1868] = 0.13925624F;
-		relShowdownProb[1869] = 0.23983018F;
-		relShowdownProb[1870] = 0.1810331F;
-		relShowdownProb[1871] = 0.22280997F;
-		relShowdownProb[1872] = 0.2166208F;
-		relShowdownProb[1875] = 0.27851248F;
-		relShowdownProb[1876] = 0.29398537F;
-		relShowdownProb[1877] = 0.270776F;
-		relShowdownProb[1878] = 0.1810331F;
-		relShowdownProb[1879] = 0.22590455F;
-		relShowdownProb[1880] = 0.2166208F;
-		relShowdownProb[1881] = 0.26303956F;
-		relShowdownProb[1891] = 0.46418744F;
-		relShowdownProb[1895] = 0.46418744F;
-		relShowdownProb[1896] = 0.25066122F;
-		relShowdownProb[1900] = 0.40229577F;
-		relShowdownProb[1901] = 0.29398537F;
-		relShowdownProb[1902] = 0.2738706F;
-		relShowdownProb[1906] = 0.40229577F;
-		relShowdownProb[1907] = 0.28624892F;
-		relShowdownProb[1908] = 0.26458684F;
-		relShowdownProb[1909] = 0.32183662F;
-		relShowdownProb[1913] = 0.49513328F;
-		relShowdownProb[1914] = 0.37134996F;
-		relShowdownProb[1915] = 0.27851248F;
-		relShowdownProb[1916] = 0.2351883F;
-		relShowdownProb[1917] = 0.31608954F;
-		relShowdownProb[1921] = 0.4332416F;
-		relShowdownProb[1922] = 0.3790864F;
-		relShowdownProb[1923] = 0.37599182F;
-		relShowdownProb[1924] = 0.4177687F;
-		relShowdownProb[1925] = 0.40229577F;
-		relShowdownProb[1926] = 0.36140308F;
-		relShowdownProb[1930] = 0.6498624F;
-		relShowdownProb[1931] = 0.6498624F;
-		relShowdownProb[1932] = 0.5430993F;
-		relShowdownProb[1933] = 0.5291737F;
-		relShowdownProb[1934] = 0.57249784F;
-		relShowdownProb[1935] = 0.54873586F;
-		relShowdownProb[1936] = 0.5649824F;
-		relShowdownProb[1955] = 0.6498624F;
-		relShowdownProb[1956] = 0.6034437F;
-		relShowdownProb[1965] = 0.46418744F;
-		relShowdownProb[1966] = 0.44097808F;
-		relShowdownProb[1969] = 0.37134996F;
-		relShowdownProb[1970] = 0.29398537F;
-		relShowdownProb[1971] = 0.23209372F;
-		relShowdownProb[1980] = 0.4177687F;
-		relShowdownProb[1981] = 0.4873968F;
-		relShowdownProb[1984] = 0.3249312F;
-		relShowdownProb[1985] = 0.34040412F;
-		relShowdownProb[1986] = 0.25994498F;
-		relShowdownProb[1989] = 0.27851248F;
-		relShowdownProb[1990] = 0.3249312F;
-		relShowdownProb[1991] = 0.24756664F;
-		relShowdownProb[1992] = 0.26303956F;
-		relShowdownProb[2001] = 0.3249312F;
-		relShowdownProb[2002] = 0.55702496F;
-		relShowdownProb[2005] = 0.3249312F;
-		relShowdownProb[2006] = 0.35587704F;
-		relShowdownProb[2007] = 0.25994498F;
-		relShowdownProb[2010] = 0.13925624F;
-		relShowdownProb[2011] = 0.46418744F;
-		relShowdownProb[2012] = 0.3636135F;
-		relShowdownProb[2013] = 0.26819718F;
-		relShowdownProb[2016] = 0.27851248F;
-		relShowdownProb[2017] = 0.3094583F;
-		relShowdownProb[2018] = 0.27851248F;
-		relShowdownProb[2019] = 0.1996006F;
-		relShowdownProb[2020] = 0.24204059F;
-		relShowdownProb[2029] = 0.27851248F;
-		relShowdownProb[2030] = 0.4177687F;
-		relShowdownProb[2033] = 0.27851248F;
-		relShowdownProb[2034] = 0.38682288F;
-		relShowdownProb[2035] = 0.3063637F;
-		relShowdownProb[2038] = 0.37134996F;
-		relShowdownProb[2039] = 0.18567498F;
-		relShowdownProb[2040] = 0.28624892F;
-		relShowdownProb[2041] = 0.20114788F;
-		relShowdownProb[2044] = 0.27851248F;
-		relShowdownProb[2045] = 0.2166208F;
-		relShowdownProb[2046] = 0.3094583F;
-		relShowdownProb[2047] = 0.22280997F;
-		relShowdownProb[2048] = 0.20733705F;
-		relShowdownProb[2051] = 0.13925624F;
-		relShowdownProb[2052] = 0.3094583F;
-		relShowdownProb[2053] = 0.23983018F;
-		relShowdownProb[2054] = 0.2367356F;
-		relShowdownProb[2055] = 0.17948581F;
-		relShowdownProb[2056] = 0.23441465F;
-		relShowdownProb[2065] = 0.51060617F;
-		relShowdownProb[2066] = 0.39455932F;
-		relShowdownProb[2069] = 0.37134996F;
-		relShowdownProb[2070] = 0.37134996F;
-		relShowdownProb[2071] = 0.27851248F;
-		relShowdownProb[2074] = 0.55702496F;
-		relShowdownProb[2075] = 0.29398537F;
-		relShowdownProb[2076] = 0.2166208F;
-		relShowdownProb[2077] = 0.2578819F;
-		relShowdownProb[2080] = 0.46418744F;
-		relShowdownProb[2081] = 0.35587704F;
-		relShowdownProb[2082] = 0.25530308F;
-		relShowdownProb[2083] = 0.26922873F;
-		relShowdownProb[2084] = 0.18567498F;
-		relShowdownProb[2087] = 0.3249312F;
-		relShowdownProb[2088] = 0.35587704F;
-		relShowdownProb[2089] = 0.3094583F;
-		relShowdownProb[2090] = 0.20888434F;
-		relShowdownProb[2091] = 0.18876956F;
-		relShowdownProb[2092] = 0.19009581F;
-		relShowdownProb[2095] = 0.27851248F;
-		relShowdownProb[2096] = 0.26303956F;
-		relShowdownProb[2097] = 0.22435726F;
-		relShowdownProb[2098] = 0.1996006F;
-		relShowdownProb[2099] = 0.19805332F;
-		relShowdownProb[2100] = 0.20998956F;
-		relShowdownProb[2101] = 0.27851248F;
-		relShowdownProb[2111] = 0.5802343F;
-		relShowdownProb[2115] = 0.35587704F;
-		relShowdownProb[2116] = 0.4177687F;
-		relShowdownProb[2120] = 0.38682288F;
-		relShowdownProb[2121] = 0.31719476F;
-		relShowdownProb[2122] = 0.3610347F;
-		relShowdownProb[2126] = 0.47966036F;
-		relShowdownProb[2127] = 0.38682288F;
-		relShowdownProb[2128] = 0.35742432F;
-		relShowdownProb[2129] = 0.29707995F;
-		relShowdownProb[2133] = 0.38682288F;
-		relShowdownProb[2134] = 0.3249312F;
-		relShowdownProb[2135] = 0.37599182F;
-		relShowdownProb[2136] = 0.37753913F;
-		relShowdownProb[2137] = 0.3271416F;
-		relShowdownProb[2141] = 0.5260791F;
-		relShowdownProb[2142] = 0.40229577F;
-		relShowdownProb[2143] = 0.33421496F;
-		relShowdownProb[2144] = 0.3620662F;
-		relShowdownProb[2145] = 0.37577078F;
-		relShowdownProb[2146] = 0.46750307F;
-		relShowdownProb[2150] = 0.6343895F;
-		relShowdownProb[2151] = 0.6111801F;
-		relShowdownProb[2152] = 0.53381556F;
-		relShowdownProb[2153] = 0.4734712F;
-		relShowdownProb[2154] = 0.53492075F;
-		relShowdownProb[2155] = 0.5271843F;
-		relShowdownProb[2156] = 0.62333745F;
-		relShowdownProb[2175] = 0.69628114F;
-		relShowdownProb[2176] = 0.6034437F;
-		relShowdownProb[2185] = 0.46418744F;
-		relShowdownProb[2186] = 0.4873968F;
-		relShowdownProb[2189] = 0.3249312F;
-		relShowdownProb[2190] = 0.46418744F;
-		relShowdownProb[2191] = 0.47966036F;
-		relShowdownProb[2200] = 0.3249312F;
-		relShowdownProb[2201] = 0.44097808F;
-		relShowdownProb[2204] = 0.37134996F;
-		relShowdownProb[2205] = 0.38682288F;
-		relShowdownProb[2206] = 0.4734712F;
-		relShowdownProb[2209] = 0.51060617F;
-		relShowdownProb[2210] = 0.46418744F;
-		relShowdownProb[2211] = 0.3249312F;
-		relShowdownProb[2212] = 0.25530308F;
-		relShowdownProb[2221] = 0.09283749F;
-		relShowdownProb[2222] = 0.46418744F;
-		relShowdownProb[2225] = 0.3249312F;
-		relShowdownProb[2226] = 0.49513328F;
-		relShowdownProb[2227] = 0.35278246F;
-		relShowdownProb[2230] = 0.23209372F;
-		relShowdownProb[2231] = 0.29398537F;
-		relShowdownProb[2232] = 0.26303956F;
-		relShowdownProb[2233] = 0.3507194F;
-		relShowdownProb[2236] = 0.23209372F;
-		relShowdownProb[2237] = 0.34040412F;
-		relShowdownProb[2238] = 0.3094583F;
-		relShowdownProb[2239] = 0.3063637F;
-		relShowdownProb[2240] = 0.2851437F;
-		relShowdownProb[2249] = 0.27851248F;
-		relShowdownProb[2250] = 0.4873968F;
-		relShowdownProb[2253] = 0.3249312F;
-		relShowdownProb[2254] = 0.49513328F;
-		relShowdownProb[2255] = 0.3434987F;
-		relShowdownProb[2258] = 0.18567498F;
-		relShowdownProb[2259] = 0.29398537F;
-		relShowdownProb[2260] = 0.29398537F;
-		relShowdownProb[2261] = 0.30430067F;
-		relShowdownProb[2264] = 0.27851248F;
-		relShowdownProb[2265] = 0.27851248F;
-		relShowdownProb[2266] = 0.3094583F;
-		relShowdownProb[2267] = 0.23209372F;
-		relShowdownProb[2268] = 0.2586187F;
-		relShowdownProb[2271] = 0.13925624F;
-		relShowdownProb[2272] = 0.34040412F;
-		relShowdownProb[2273] = 0.27851248F;
-		relShowdownProb[2274] = 0.2367356F;
-		relShowdownProb[2275] = 0.21971539F;
-		relShowdownProb[2276] = 0.25298217F;
-		relShowdownProb[2285] = 0.18567498F;
-		relShowdownProb[2286] = 0.53381556F;
-		relShowdownProb[2289] = 0.4177687F;
-		relShowdownProb[2290] = 0.4332416F;
-		relShowdownProb[2291] = 0.50132245F;
-		relShowdownProb[2294] = 0.13925624F;
-		relShowdownProb[2295] = 0.40229577F;
-		relShowdownProb[2296] = 0.35587704F;
-		relShowdownProb[2297] = 0.31977358F;
-		relShowdownProb[2300] = 0.18567498F;
-		relShowdownProb[2301] = 0.37134996F;
-		relShowdownProb[2302] = 0.34040412F;
-		relShowdownProb[2303] = 0.2738706F;
-		relShowdownProb[2304] = 0.23209372F;
-		relShowdownProb[2307] = 0.18567498F;
-		relShowdownProb[2308] = 0.35587704F;
-		relShowdownProb[2309] = 0.29398537F;
-		relShowdownProb[2310] = 0.22745185F;
-		relShowdownProb[2311] = 0.24137747F;
-		relShowdownProb[2312] = 0.25198746F;
-		relShowdownProb[2315] = 0.4177687F;
-		relShowdownProb[2316] = 0.3094583F;
-		relShowdownProb[2317] = 0.31719476F;
-		relShowdownProb[2318] = 0.30172184F;
-		relShowdownProb[2319] = 0.2568504F;
-		relShowdownProb[2320] = 0.2851437F;
-		relShowdownProb[2321] = 0.2974238F;
-		relShowdownProb[2330] = 0.51060617F;
-		relShowdownProb[2331] = 0.51060617F;
-		relShowdownProb[2334] = 0.4177687F;
-		relShowdownProb[2335] = 0.38682288F;
-		relShowdownProb[2336] = 0.51060617F;
-		relShowdownProb[2339] = 0.3249312F;
-		relShowdownProb[2340] = 0.4332416F;
-		relShowdownProb[2341] = 0.41003224F;
-		relShowdownProb[2342] = 0.38682288F;
-		relShowdownProb[2345] = 0.37134996F;
-		relShowdownProb[2346] = 0.4177687F;
-		relShowdownProb[2347] = 0.4719239F;
-		relShowdownProb[2348] = 0.40848494F;
-		relShowdownProb[2349] = 0.32161558F;
-		relShowdownProb[2352] = 0.18567498F;
-		relShowdownProb[2353] = 0.38682288F;
-		relShowdownProb[2354] = 0.41003224F;
-		relShowdownProb[2355] = 0.36670807F;
-		relShowdownProb[2356] = 0.35897163F;
-		relShowdownProb[2357] = 0.36029786F;
-		relShowdownProb[2360] = 0.4177687F;
-		relShowdownProb[2361] = 0.51060617F;
-		relShowdownProb[2362] = 0.34040412F;
-		relShowdownProb[2363] = 0.3620662F;
-		relShowdownProb[2364] = 0.3620662F;
-		relShowdownProb[2365] = 0.41997913F;
-		relShowdownProb[2366] = 0.4442937F;
-		relShowdownProb[2369] = 0.7426999F;
-		relShowdownProb[2370] = 0.6498624F;
-		relShowdownProb[2371] = 0.58797073F;
-		relShowdownProb[2372] = 0.6127274F;
-		relShowdownProb[2373] = 0.5601195F;
-		relShowdownProb[2374] = 0.541552F;
-		relShowdownProb[2375] = 0.5802343F;
-		relShowdownProb[2376] = 0.61007494F;
-		relShowdownProb[2392] = 0.7426999F;
-		relShowdownProb[2395] = 0.46418744F;
-		relShowdownProb[2396] = 0.78911865F;
-		relShowdownProb[2402] = 0.69628114F;
-		relShowdownProb[2405] = 0.23209372F;
-		relShowdownProb[2406] = 0.69628114F;
-		relShowdownProb[2409] = 0.37134996F;
-		relShowdownProb[2410] = 0.66533536F;
-		relShowdownProb[2411] = 0.77364576F;
-		relShowdownProb[2417] = 0.51060617F;
-		relShowdownProb[2420] = 0.4177687F;
-		relShowdownProb[2421] = 0.9051655F;
-		relShowdownProb[2424] = 0.46418744F;
-		relShowdownProb[2425] = 0.46418744F;
-		relShowdownProb[2426] = 0.53845745F;
-		relShowdownProb[2429] = 0.18567498F;
-		relShowdownProb[2430] = 0.35587704F;
-		relShowdownProb[2431] = 0.53381556F;
-		relShowdownProb[2432] = 0.6266531F;
-		relShowdownProb[2438] = 0.18567498F;
-		relShowdownProb[2441] = 0.46418744F;
-		relShowdownProb[2442] = 0.51060617F;
-		relShowdownProb[2445] = 0.3249312F;
-		relShowdownProb[2446] = 0.38682288F;
-		relShowdownProb[2447] = 0.3992012F;
-		relShowdownProb[2450] = 0.3249312F;
-		relShowdownProb[2451] = 0.40229577F;
-		relShowdownProb[2452] = 0.49513328F;
-		relShowdownProb[2453] = 0.44355687F;
-		relShowdownProb[2456] = 0.23209372F;
-		relShowdownProb[2457] = 0.34040412F;
-		relShowdownProb[2458] = 0.34814057F;
-		relShowdownProb[2459] = 0.3806337F;
-		relShowdownProb[2460] = 0.28315434F;
-		relShowdownProb[2466] = 0.51060617F;
-		relShowdownProb[2469] = 0.27851248F;
-		relShowdownProb[2470] = 0.53381556F;
-		relShowdownProb[2473] = 0.23209372F;
-		relShowdownProb[2474] = 0.34040412F;
-		relShowdownProb[2475] = 0.4549037F;
-		relShowdownProb[2478] = 0.09283749F;
-		relShowdownProb[2479] = 0.3249312F;
-		relShowdownProb[2480] = 0.33266768F;
-		relShowdownProb[2481] = 0.42292634F;
-		relShowdownProb[2484] = 0.18567498F;
-		relShowdownProb[2485] = 0.27851248F;
-		relShowdownProb[2486] = 0.20114788F;
-		relShowdownProb[2487] = 0.35742432F;
-		relShowdownProb[2488] = 0.36803433F;
-		relShowdownProb[2491] = 0.3249312F;
-		relShowdownProb[2492] = 0.3094583F;
-		relShowdownProb[2493] = 0.33266768F;
-		relShowdownProb[2494] = 0.23209372F;
-		relShowdownProb[2495] = 0.29707995F;
-		relShowdownProb[2496] = 0.28315434F;
-		relShowdownProb[2502] = 0.6034437F;
-		relShowdownProb[2505] = 0.69628114F;
-		relShowdownProb[2506] = 0.53381556F;
-		relShowdownProb[2509] = 0.13925624F;
-		relShowdownProb[2510] = 0.38682288F;
-		relShowdownProb[2511] = 0.5291737F;
-		relShowdownProb[2514] = 0.23209372F;
-		relShowdownProb[2515] = 0.37134996F;
-		relShowdownProb[2516] = 0.3790864F;
-		relShowdownProb[2517] = 0.37650758F;
-		relShowdownProb[2520] = 0.18567498F;
-		relShowdownProb[2521] = 0.27851248F;
-		relShowdownProb[2522] = 0.40229577F;
-		relShowdownProb[2523] = 0.34814057F;
-		relShowdownProb[2524] = 0.33156246F;
-		relShowdownProb[2527] = 0.23209372F;
-		relShowdownProb[2528] = 0.29398537F;
-		relShowdownProb[2529] = 0.34040412F;
-		relShowdownProb[2530] = 0.3249312F;
-		relShowdownProb[2531] = 0.28160706F;
-		relShowdownProb[2532] = 0.331894F;
-		relShowdownProb[2535] = 0.23209372F;
-		relShowdownProb[2536] = 0.40229577F;
-		relShowdownProb[2537] = 0.270776F;
-		relShowdownProb[2538] = 0.37134996F;
-		relShowdownProb[2539] = 0.24137747F;
-		relShowdownProb[2540] = 0.30061662F;
-		relShowdownProb[2541] = 0.35931545F;
-		relShowdownProb[2550] = 0.6498624F;
-		relShowdownProb[2551] = 0.6498624F;
-		relShowdownProb[2554] = 0.37134996F;
-		relShowdownProb[2555] = 0.57249784F;
-		relShowdownProb[2556] = 0.5848762F;
-		relShowdownProb[2559] = 0.09283749F;
-		relShowdownProb[2560] = 0.3094583F;
-		relShowdownProb[2561] = 0.5802343F;
-		relShowdownProb[2562] = 0.44871452F;
-		relShowdownProb[2565] = 0.13925624F;
-		relShowdownProb[2566] = 0.3249312F;
-		relShowdownProb[2567] = 0.5260791F;
-		relShowdownProb[2568] = 0.45026183F;
-		relShowdownProb[2569] = 0.50729054F;
-		relShowdownProb[2572] = 0.69628114F;
-		relShowdownProb[2573] = 0.51060617F;
-		relShowdownProb[2574] = 0.4719239F;
-		relShowdownProb[2575] = 0.48275495F;
-		relShowdownProb[2576] = 0.37444454F;
-		relShowdownProb[2577] = 0.3992012F;
-		relShowdownProb[2580] = 0.4177687F;
-		relShowdownProb[2581] = 0.57249784F;
-		relShowdownProb[2582] = 0.5260791F;
-		relShowdownProb[2583] = 0.47811306F;
-		relShowdownProb[2584] = 0.46109286F;
-		relShowdownProb[2585] = 0.3934541F;
-		relShowdownProb[2586] = 0.4724765F;
-		relShowdownProb[2589] = 0.88195616F;
-		relShowdownProb[2590] = 0.66533536F;
-		relShowdownProb[2591] = 0.65759885F;
-		relShowdownProb[2592] = 0.5895181F;
-		relShowdownProb[2593] = 0.58797073F;
-		relShowdownProb[2594] = 0.62996864F;
-		relShowdownProb[2595] = 0.64157337F;
-		relShowdownProb[2596] = 0.6843449F;
-		relShowdownProb[2612] = 0.78911865F;
-		relShowdownProb[2615] = 0.55702496F;
-		relShowdownProb[2616] = 1.0676311F;
-		relShowdownProb[2622] = 0.6034437F;
-		relShowdownProb[2625] = 0.46418744F;
-		relShowdownProb[2626] = 0.7581728F;
-		relShowdownProb[2629] = 0.4177687F;
-		relShowdownProb[2630] = 0.7581728F;
-		relShowdownProb[2631] = 1.0676311F;
-		relShowdownProb[2637] = 0.51060617F;
-		relShowdownProb[2640] = 0.46418744F;
-		relShowdownProb[2641] = 0.5260791F;
-		relShowdownProb[2644] = 0.6034437F;
-		relShowdownProb[2645] = 0.51060617F;
-		relShowdownProb[2646] = 0.5663087F;
-		relShowdownProb[2649] = 0.51060617F;
-		relShowdownProb[2650] = 0.51060617F;
-		relShowdownProb[2651] = 0.55702496F;
-		relShowdownProb[2652] = 0.78911865F;
-		relShowdownProb[2658] = 0.23209372F;
-		relShowdownProb[2661] = 0.4177687F;
-		relShowdownProb[2662] = 0.47966036F;
-		relShowdownProb[2665] = 0.46418744F;
-		relShowdownProb[2666] = 0.44871452F;
-		relShowdownProb[2667] = 0.53845745F;
-		relShowdownProb[2670] = 0.4177687F;
-		relShowdownProb[2671] = 0.4177687F;
-		relShowdownProb[2672] = 0.51060617F;
-		relShowdownProb[2673] = 0.6498624F;
-		relShowdownProb[2676] = 0.55702496F;
-		relShowdownProb[2677] = 0.34040412F;
-		relShowdownProb[2678] = 0.31719476F;
-		relShowdownProb[2679] = 0.50132245F;
-		relShowdownProb[2680] = 0.6730718F;
-		relShowdownProb[2686] = 0.37134996F;
-		relShowdownProb[2689] = 0.4177687F;
-		relShowdownProb[2690] = 0.58797073F;
-		relShowdownProb[2693] = 0.55702496F;
-		relShowdownProb[2694] = 0.58797073F;
-		relShowdownProb[2695] = 0.6498624F;
-		relShowdownProb[2698] = 0.6498624F;
-		relShowdownProb[2699] = 0.46418744F;
-		relShowdownProb[2700] = 0.456451F;
-		relShowdownProb[2701] = 0.50029093F;
-		relShowdownProb[2704] = 0.23209372F;
-		relShowdownProb[2705] = 0.27851248F;
-		relShowdownProb[2706] = 0.41003224F;
-		relShowdownProb[2707] = 0.4873968F;
-		relShowdownProb[2708] = 0.5470781F;
-		relShowdownProb[2711] = 0.3249312F;
-		relShowdownProb[2712] = 0.35587704F;
-		relShowdownProb[2713] = 0.3094583F;
-		relShowdownProb[2714] = 0.36670807F;
-		relShowdownProb[2715] = 0.46728203F;
-		relShowdownProb[2716] = 0.37753913F;
-		relShowdownProb[2722] = 0.4177687F;
-		relShowdownProb[2725] = 0.27851248F;
-		relShowdownProb[2726] = 0.37134996F;
-		relShowdownProb[2729] = 0.55702496F;
-		relShowdownProb[2730] = 0.51060617F;
-		relShowdownProb[2731] = 0.5941599F;
-		relShowdownProb[2734] = 0.6034437F;
-		relShowdownProb[2735] = 0.40229577F;
-		relShowdownProb[2736] = 0.37134996F;
-		relShowdownProb[2737] = 0.6137589F;
-		relShowdownProb[2740] = 0.51060617F;
-		relShowdownProb[2741] = 0.34040412F;
-		relShowdownProb[2742] = 0.47966036F;
-		relShowdownProb[2743] = 0.45954555F;
-		relShowdownProb[2744] = 0.4873968F;
-		relShowdownProb[2747] = 0.37134996F;
-		relShowdownProb[2748] = 0.37134996F;
-		relShowdownProb[2749] = 0.270776F;
-		relShowdownProb[2750] = 0.4177687F;
-		relShowdownProb[2751] = 0.3434987F;
-		relShowdownProb[2752] = 0.40616402F;
-		relShowdownProb[2755] = 0.18567498F;
-		relShowdownProb[2756] = 0.26303956F;
-		relShowdownProb[2757] = 0.3094583F;
-		relShowdownProb[2758] = 0.3434987F;
-		relShowdownProb[2759] = 0.29707995F;
-		relShowdownProb[2760] = 0.3205104F;
-		relShowdownProb[2761] = 0.41089186F;
-		relShowdownProb[2770] = 0.46418744F;
-		relShowdownProb[2771] = 0.6343895F;
-		relShowdownProb[2774] = 0.51060617F;
-		relShowdownProb[2775] = 0.7117541F;
-		relShowdownProb[2776] = 0.7798349F;
-		relShowdownProb[2779] = 0.6034437F;
-		relShowdownProb[2780] = 0.44871452F;
-		relShowdownProb[2781] = 0.541552F;
-		relShowdownProb[2782] = 0.60860133F;
-		relShowdownProb[2785] = 0.78911865F;
-		relShowdownProb[2786] = 0.541552F;
-		relShowdownProb[2787] = 0.57249784F;
-		relShowdownProb[2788] = 0.6312949F;
-		relShowdownProb[2789] = 0.55702496F;
-		relShowdownProb[2792] = 0.69628114F;
-		relShowdownProb[2793] = 0.541552F;
-		relShowdownProb[2794] = 0.5028697F;
-		relShowdownProb[2795] = 0.6080856F;
-		relShowdownProb[2796] = 0.44561994F;
-		relShowdownProb[2797] = 0.57095057F;
-		relShowdownProb[2800] = 0.46418744F;
-		relShowdownProb[2801] = 0.46418744F;
-		relShowdownProb[2802] = 0.47966036F;
-		relShowdownProb[2803] = 0.4734712F;
-		relShowdownProb[2804] = 0.541552F;
-		relShowdownProb[2805] = 0.52165824F;
-		relShowdownProb[2806] = 0.5518673F;
-		relShowdownProb[2809] = 0.55702496F;
-		relShowdownProb[2810] = 0.89742905F;
-		relShowdownProb[2811] = 0.727227F;
-		relShowdownProb[2812] = 0.78447676F;
-		relShowdownProb[2813] = 0.6591462F;
-		relShowdownProb[2814] = 0.58133954F;
-		relShowdownProb[2815] = 0.6647827F;
-		relShowdownProb[2816] = 0.6843449F;
-		relShowdownProb[2832] = 0.69628114F;
-		relShowdownProb[2835] = 0.9283749F;
-		relShowdownProb[2836] = 0.8355374F;
-		relShowdownProb[2842] = 0.7426999F;
-		relShowdownProb[2845] = 0.88195616F;
-		relShowdownProb[2846] = 0.7581728F;
-		relShowdownProb[2849] = 0.8355374F;
-		relShowdownProb[2850] = 0.88195616F;
-		relShowdownProb[2851] = 1.0212123F;
-		relShowdownProb[2857] = 0.55702496F;
-		relShowdownProb[2860] = 0.55702496F;
-		relShowdownProb[2861] = 0.7581728F;
-		relShowdownProb[2864] = 0.51060617F;
-		relShowdownProb[2865] = 0.57249784F;
-		relShowdownProb[2866] = 0.6730718F;
-		relShowdownProb[2869] = 0.8355374F;
-		relShowdownProb[2870] = 0.6343895F;
-		relShowdownProb[2871] = 0.7117541F;
-		relShowdownProb[2872] = 0.9438478F;
-		relShowdownProb[2878] = 0.69628114F;
-		relShowdownProb[2881] = 0.6034437F;
-		relShowdownProb[2882] = 0.6189166F;
-		relShowdownProb[2885] = 0.46418744F;
-		relShowdownProb[2886] = 0.7117541F;
-		relShowdownProb[2887] = 0.4719239F;
-		relShowdownProb[2890] = 0.55702496F;
-		relShowdownProb[2891] = 0.6034437F;
-		relShowdownProb[2892] = 0.51060617F;
-		relShowdownProb[2893] = 0.6756506F;
-		relShowdownProb[2896] = 0.23209372F;
-		relShowdownProb[2897] = 0.40229577F;
-		relShowdownProb[2898] = 0.6266531F;
-		relShowdownProb[2899] = 0.5895181F;
-		relShowdownProb[2900] = 0.9190911F;
-		relShowdownProb[2906] = 0.7426999F;
-		relShowdownProb[2909] = 0.46418744F;
-		relShowdownProb[2910] = 0.66533536F;
-		relShowdownProb[2913] = 0.46418744F;
-		relShowdownProb[2914] = 0.51060617F;
-		relShowdownProb[2915] = 0.69628114F;
-		relShowdownProb[2918] = 0.69628114F;
-		relShowdownProb[2919] = 0.727227F;
-		relShowdownProb[2920] = 0.64212596F;
-		relShowdownProb[2921] = 0.7581728F;
-		relShowdownProb[2924] = 0.3249312F;
-		relShowdownProb[2925] = 0.6498624F;
-		relShowdownProb[2926] = 0.541552F;
-		relShowdownProb[2927] = 0.6173693F;
-		relShowdownProb[2928] = 0.64323115F;
-		relShowdownProb[2931] = 0.4177687F;
-		relShowdownProb[2932] = 0.34040412F;
-		relShowdownProb[2933] = 0.38682288F;
-		relShowdownProb[2934] = 0.45954555F;
-		relShowdownProb[2935] = 0.62510574F;
-		relShowdownProb[2936] = 0.6343895F;
-		relShowdownProb[2942] = 0.6034437F;
-		relShowdownProb[2945] = 0.18567498F;
-		relShowdownProb[2946] = 0.57249784F;
-		relShowdownProb[2949] = 0.51060617F;
-		relShowdownProb[2950] = 0.6498624F;
-		relShowdownProb[2951] = 0.6034437F;
-		relShowdownProb[2954] = 0.46418744F;
-		relShowdownProb[2955] = 0.8200645F;
-		relShowdownProb[2956] = 0.55702496F;
-		relShowdownProb[2957] = 0.79943395F;
-		relShowdownProb[2960] = 0.4177687F;
-		relShowdownProb[2961] = 0.7117541F;
-		relShowdownProb[2962] = 0.456451F;
-		relShowdownProb[2963] = 0.5616668F;
-		relShowdownProb[2964] = 0.61339056F;
-		relShowdownProb[2967] = 0.51060617F;
-		relShowdownProb[2968] = 0.51060617F;
-		relShowdownProb[2969] = 0.33266768F;
-		relShowdownProb[2970] = 0.38991746F;
-		relShowdownProb[2971] = 0.57249784F;
-		relShowdownProb[2972] = 0.62897396F;
-		relShowdownProb[2975] = 0.23209372F;
-		relShowdownProb[2976] = 0.47966036F;
-		relShowdownProb[2977] = 0.47966036F;
-		relShowdownProb[2978] = 0.39455932F;
-		relShowdownProb[2979] = 0.5075116F;
-		relShowdownProb[2980] = 0.46418744F;
-		relShowdownProb[2981] = 0.45092493F;
-		relShowdownProb[2990] = 0.7426999F;
-		relShowdownProb[2991] = 0.6034437F;
-		relShowdownProb[2994] = 0.6498624F;
-		relShowdownProb[2995] = 0.7426999F;
-		relShowdownProb[2996] = 0.7194905F;
-		relShowdownProb[2999] = 0.6034437F;
-		relShowdownProb[3000] = 0.7117541F;
-		relShowdownProb[3001] = 0.7968551F;
-		relShowdownProb[3002] = 0.7117541F;
-		relShowdownProb[3005] = 0.6034437F;
-		relShowdownProb[3006] = 0.541552F;
-		relShowdownProb[3007] = 0.51060617F;
-		relShowdownProb[3008] = 0.6359368F;
-		relShowdownProb[3009] = 0.7526468F;
-		relShowdownProb[3012] = 0.7426999F;
-		relShowdownProb[3013] = 0.541552F;
-		relShowdownProb[3014] = 0.5028697F;
-		relShowdownProb[3015] = 0.5755924F;
-		relShowdownProb[3016] = 0.6374841F;
-		relShowdownProb[3017] = 0.6220112F;
-		relShowdownProb[3020] = 0.69628114F;
-		relShowdownProb[3021] = 0.44871452F;
-		relShowdownProb[3022] = 0.58797073F;
-		relShowdownProb[3023] = 0.663788F;
-		relShowdownProb[3024] = 0.6777137F;
-		relShowdownProb[3025] = 0.6410208F;
-		relShowdownProb[3026] = 0.6343895F;
-		relShowdownProb[3029] = 0.9283749F;
-		relShowdownProb[3030] = 0.77364576F;
-		relShowdownProb[3031] = 0.6111801F;
-		relShowdownProb[3032] = 0.84482116F;
-		relShowdownProb[3033] = 0.801497F;
-		relShowdownProb[3034] = 0.674177F;
-		relShowdownProb[3035] = 0.74767333F;
-		relShowdownProb[3036] = 0.75463617F;
-		relShowdownProb[3052] = 0.78911865F;
-		relShowdownProb[3055] = 0.51060617F;
-		relShowdownProb[3056] = 0.85874677F;
-		relShowdownProb[3062] = 1.0676311F;
-		relShowdownProb[3065] = 0.69628114F;
-		relShowdownProb[3066] = 0.49513328F;
-		relShowdownProb[3069] = 0.7426999F;
-		relShowdownProb[3070] = 0.7117541F;
-		relShowdownProb[3071] = 0.9840774F;
-		relShowdownProb[3077] = 0.4177687F;
-		relShowdownProb[3080] = 1.0212123F;
-		relShowdownProb[3081] = 0.7117541F;
-		relShowdownProb[3084] = 0.6498624F;
-		relShowdownProb[3085] = 0.9283749F;
-		relShowdownProb[3086] = 1.0057395F;
-		relShowdownProb[3089] = 0.55702496F;
-		relShowdownProb[3090] = 0.78911865F;
-		relShowdownProb[3091] = 1.0134759F;
-		relShowdownProb[3092] = 1.3384072F;
-		relShowdownProb[3098] = 0.88195616F;
-		relShowdownProb[3101] = 0.51060617F;
-		relShowdownProb[3102] = 0.68080825F;
-		relShowdownProb[3105] = 0.55702496F;
-		relShowdownProb[3106] = 0.7581728F;
-		relShowdownProb[3107] = 0.65759885F;
-		relShowdownProb[3110] = 0.88195616F;
-		relShowdownProb[3111] = 0.6189166F;
-		relShowdownProb[3112] = 0.912902F;
-		relShowdownProb[3113] = 0.9098074F;
-		relShowdownProb[3116] = 0.6498624F;
-		relShowdownProb[3117] = 0.66533536F;
-		relShowdownProb[3118] = 0.88195616F;
-		relShowdownProb[3119] = 0.84946305F;
-		relShowdownProb[3120] = 0.9330168F;
-		relShowdownProb[3126] = 0.78911865F;
-		relShowdownProb[3129] = 0.37134996F;
-		relShowdownProb[3130] = 0.77364576F;
-		relShowdownProb[3133] = 1.2068874F;
-		relShowdownProb[3134] = 0.69628114F;
-		relShowdownProb[3135] = 0.6885447F;
-		relShowdownProb[3138] = 0.6034437F;
-		relShowdownProb[3139] = 0.6189166F;
-		relShowdownProb[3140] = 0.9051655F;
-		relShowdownProb[3141] = 0.73805803F;
-		relShowdownProb[3144] = 0.8355374F;
-		relShowdownProb[3145] = 0.727227F;
-		relShowdownProb[3146] = 0.7426999F;
-		relShowdownProb[3147] = 0.9283749F;
-		relShowdownProb[3148] = 0.9515843F;
-		relShowdownProb[3151] = 0.51060617F;
-		relShowdownProb[3152] = 0.57249784F;
-		relShowdownProb[3153] = 0.69628114F;
-		relShowdownProb[3154] = 0.6869974F;
-		relShowdownProb[3155] = 0.79221326F;
-		relShowdownProb[3156] = 1.0707257F;
-		relShowdownProb[3162] = 0.55702496F;
-		relShowdownProb[3165] = 0.8355374F;
-		relShowdownProb[3166] = 0.7117541F;
-		relShowdownProb[3169] = 0.7426999F;
-		relShowdownProb[3170] = 0.7117541F;
-		relShowdownProb[3171] = 0.7117541F;
-		relShowdownProb[3174] = 0.51060617F;
-		relShowdownProb[3175] = 0.6498624F;
-		relShowdownProb[3176] = 0.7813822F;
-		relShowdownProb[3177] = 0.78447676F;
-		relShowdownProb[3180] = 0.8355374F;
-		relShowdownProb[3181] = 0.8355374F;
-		relShowdownProb[3182] = 0.92063844F;
-		relShowdownProb[3183] = 0.79376054F;
-		relShowdownProb[3184] = 0.85874677F;
-		relShowdownProb[3187] = 0.46418744F;
-		relShowdownProb[3188] = 0.8355374F;
-		relShowdownProb[3189] = 0.5802343F;
-		relShowdownProb[3190] = 0.6173693F;
-		relShowdownProb[3191] = 0.727227F;
-		relShowdownProb[3192] = 0.7914396F;
-		relShowdownProb[3195] = 0.6498624F;
-		relShowdownProb[3196] = 0.7581728F;
-		relShowdownProb[3197] = 0.59570724F;
-		relShowdownProb[3198] = 0.53845745F;
-		relShowdownProb[3199] = 0.68390286F;
-		relShowdownProb[3200] = 0.7493312F;
-		relShowdownProb[3201] = 0.886377F;
-		relShowdownProb[3210] = 1.0212123F;
-		relShowdownProb[3211] = 0.88195616F;
-		relShowdownProb[3214] = 0.7426999F;
-		relShowdownProb[3215] = 0.9747936F;
-		relShowdownProb[3216] = 0.8355374F;
-		relShowdownProb[3219] = 0.88195616F;
-		relShowdownProb[3220] = 0.8510103F;
-		relShowdownProb[3221] = 0.66533536F;
-		relShowdownProb[3222] = 0.8958818F;
-		relShowdownProb[3225] = 0.9747936F;
-		relShowdownProb[3226] = 0.8200645F;
-		relShowdownProb[3227] = 0.89742905F;
-		relShowdownProb[3228] = 0.960868F;
-		relShowdownProb[3229] = 0.865378F;
-		relShowdownProb[3232] = 0.46418744F;
-		relShowdownProb[3233] = 0.6498624F;
-		relShowdownProb[3234] = 0.81232804F;
-		relShowdownProb[3235] = 0.8958818F;
-		relShowdownProb[3236] = 0.75507826F;
-		relShowdownProb[3237] = 0.8912399F;
-		relShowdownProb[3240] = 0.51060617F;
-		relShowdownProb[3241] = 0.77364576F;
-		relShowdownProb[3242] = 0.77364576F;
-		relShowdownProb[3243] = 0.74734175F;
-		relShowdownProb[3244] = 0.79221326F;
-		relShowdownProb[3245] = 0.8753249F;
-		relShowdownProb[3246] = 0.8510103F;
-		relShowdownProb[3249] = 0.6034437F;
-		relShowdownProb[3250] = 0.8510103F;
-		relShowdownProb[3251] = 0.85874677F;
-		relShowdownProb[3252] = 1.0165704F;
-		relShowdownProb[3253] = 0.89742905F;
-		relShowdownProb[3254] = 1.0234228F;
-		relShowdownProb[3255] = 0.9333483F;
-		relShowdownProb[3256] = 0.9051655F;
-		relShowdownProb[3272] = 0.9747936F;
-		relShowdownProb[3275] = 1.0212123F;
-		relShowdownProb[3276] = 1.0444218F;
-		relShowdownProb[3282] = 1.2997248F;
-		relShowdownProb[3285] = 0.6498624F;
-		relShowdownProb[3286] = 0.9747936F;
-		relShowdownProb[3289] = 0.88195616F;
-		relShowdownProb[3290] = 0.9593207F;
-		relShowdownProb[3291] = 0.9655099F;
-		relShowdownProb[3297] = 0.6498624F;
-		relShowdownProb[3300] = 1.2533062F;
-		relShowdownProb[3301] = 0.8200645F;
-		relShowdownProb[3304] = 0.6034437F;
-		relShowdownProb[3305] = 1.0212123F;
-		relShowdownProb[3306] = 1.1372592F;
-		relShowdownProb[3309] = 0.88195616F;
-		relShowdownProb[3310] = 0.8510103F;
-		relShowdownProb[3311] = 0.87421966F;
-		relShowdownProb[3312] = 1.0727887F;
-		relShowdownProb[3318] = 1.0676311F;
-		relShowdownProb[3321] = 1.2533062F;
-		relShowdownProb[3322] = 1.0985769F;
-		relShowdownProb[3325] = 1.1140499F;
-		relShowdownProb[3326] = 0.8510103F;
-		relShowdownProb[3327] = 0.92063844F;
-		relShowdownProb[3330] = 1.1140499F;
-		relShowdownProb[3331] = 0.9438478F;
-		relShowdownProb[3332] = 1.1759415F;
-		relShowdownProb[3333] = 0.9794355F;
-		relShowdownProb[3336] = 1.0212123F;
-		relShowdownProb[3337] = 0.88195616F;
-		relShowdownProb[3338] = 1.0753676F;
-		relShowdownProb[3339] = 1.183678F;
-		relShowdownProb[3340] = 1.5457442F;
-		relShowdownProb[3346] = 0.8355374F;
-		relShowdownProb[3349] = 0.9747936F;
-		relShowdownProb[3350] = 0.9593207F;
-		relShowdownProb[3353] = 0.9747936F;
-		relShowdownProb[3354] = 0.7117541F;
-		relShowdownProb[3355] = 1.0134759F;
-		relShowdownProb[3358] = 0.9747936F;
-		relShowdownProb[3359] = 0.8664832F;
-		relShowdownProb[3360] = 0.8664832F;
-		relShowdownProb[3361] = 0.9190911F;
-		relShowdownProb[3364] = 0.9747936F;
-		relShowdownProb[3365] = 0.78911865F;
-		relShowdownProb[3366] = 0.88195616F;
-		relShowdownProb[3367] = 0.8958818F;
-		relShowdownProb[3368] = 0.9995503F;
-		relShowdownProb[3371] = 0.69628114F;
-		relShowdownProb[3372] = 0.99026656F;
-		relShowdownProb[3373] = 1.0676311F;
-		relShowdownProb[3374] = 0.8958818F;
-		relShowdownProb[3375] = 1.024307F;
-		relShowdownProb[3376] = 1.3832786F;
-		relShowdownProb[3382] = 1.0676311F;
-		relShowdownProb[3385] = 0.8355374F;
-		relShowdownProb[3386] = 0.80459154F;
-		relShowdownProb[3389] = 0.78911865F;
-		relShowdownProb[3390] = 0.9747936F;
-		relShowdownProb[3391] = 0.89742905F;
-		relShowdownProb[3394] = 1.0212123F;
-		relShowdownProb[3395] = 1.1604686F;
-		relShowdownProb[3396] = 0.8200645F;
-		relShowdownProb[3397] = 0.86338866F;
-		relShowdownProb[3400] = 1.0676311F;
-		relShowdownProb[3401] = 0.88195616F;
-		relShowdownProb[3402] = 0.998003F;
-		relShowdownProb[3403] = 0.9283749F;
-		relShowdownProb[3404] = 0.9036182F;
-		relShowdownProb[3407] = 1.2068874F;
-		relShowdownProb[3408] = 0.9438478F;
-		relShowdownProb[3409] = 1.0134759F;
-		relShowdownProb[3410] = 1.0444218F;
-		relShowdownProb[3411] = 0.95313156F;
-		relShowdownProb[3412] = 1.2254548F;
-		relShowdownProb[3415] = 0.8355374F;
-		relShowdownProb[3416] = 0.7117541F;
-		relShowdownProb[3417] = 0.7581728F;
-		relShowdownProb[3418] = 0.71484864F;
-		relShowdownProb[3419] = 0.7984024F;
-		relShowdownProb[3420] = 0.9173228F;
-		relShowdownProb[3421] = 1.2289915F;
-		relShowdownProb[3430] = 0.9747936F;
-		relShowdownProb[3431] = 1.2068874F;
-		relShowdownProb[3434] = 1.2068874F;
-		relShowdownProb[3435] = 0.9747936F;
-		relShowdownProb[3436] = 1.0212123F;
-		relShowdownProb[3439] = 1.6710747F;
-		relShowdownProb[3440] = 0.9593207F;
-		relShowdownProb[3441] = 1.2610426F;
-		relShowdownProb[3442] = 0.9840774F;
-		relShowdownProb[3445] = 0.9283749F;
-		relShowdownProb[3446] = 1.2533062F;
-		relShowdownProb[3447] = 0.9283749F;
-		relShowdownProb[3448] = 1.2533062F;
-		relShowdownProb[3449] = 0.9778882F;
-		relShowdownProb[3452] = 1.0676311F;
-		relShowdownProb[3453] = 1.083104F;
-		relShowdownProb[3454] = 1.2223603F;
-		relShowdownProb[3455] = 1.183678F;
-		relShowdownProb[3456] = 1.2533062F;
-		relShowdownProb[3457] = 1.3113295F;
-		relShowdownProb[3460] = 0.9747936F;
-		relShowdownProb[3461] = 0.9593207F;
-		relShowdownProb[3462] = 0.912902F;
-		relShowdownProb[3463] = 1.0537055F;
-		relShowdownProb[3464] = 0.9190911F;
-		relShowdownProb[3465] = 0.965952F;
-		relShowdownProb[3466] = 1.2653406F;
-		relShowdownProb[3469] = 1.0676311F;
-		relShowdownProb[3470] = 1.1140499F;
-		relShowdownProb[3471] = 1.1140499F;
-		relShowdownProb[3472] = 1.1186917F;
-		relShowdownProb[3473] = 0.95313156F;
-		relShowdownProb[3474] = 1.0985769F;
-		relShowdownProb[3475] = 1.2201499F;
-		relShowdownProb[3476] = 1.085867F;
-		relShowdownProb[3492] = 0.78911865F;
-		relShowdownProb[3495] = 0.7426999F;
-		relShowdownProb[3496] = 0.9283749F;
-		relShowdownProb[3502] = 0.9283749F;
-		relShowdownProb[3505] = 1.2068874F;
-		relShowdownProb[3506] = 1.0366852F;
-		relShowdownProb[3509] = 0.78911865F;
-		relShowdownProb[3510] = 1.0212123F;
-		relShowdownProb[3511] = 1.0212123F;
-		relShowdownProb[3517] = 0.9747936F;
-		relShowdownProb[3520] = 1.0212123F;
-		relShowdownProb[3521] = 0.9438478F;
-		relShowdownProb[3524] = 0.78911865F;
-		relShowdownProb[3525] = 1.1604686F;
-		relShowdownProb[3526] = 0.99026656F;
-		relShowdownProb[3529] = 1.1140499F;
-		relShowdownProb[3530] = 0.78911865F;
-		relShowdownProb[3531] = 1.0676311F;
-		relShowdownProb[3532] = 1.1192075F;
-		relShowdownProb[3538] = 1.2533062F;
-		relShowdownProb[3541] = 0.8355374F;
-		relShowdownProb[3542] = 1.0366852F;
-		relShowdownProb[3545] = 0.78911865F;
-		relShowdownProb[3546] = 1.1295228F;
-		relShowdownProb[3547] = 1.0212123F;
-		relShowdownProb[3550] = 1.1140499F;
-		relShowdownProb[3551] = 1.2997248F;
-		relShowdownProb[3552] = 1.1991509F;
-		relShowdownProb[3553] = 1.0397799F;
-		relShowdownProb[3556] = 1.1604686F;
-		relShowdownProb[3557] = 1.1914145F;
-		relShowdownProb[3558] = 1.1372592F;
-		relShowdownProb[3559] = 1.1743942F;
-		relShowdownProb[3560] = 1.3361967F;
-		relShowdownProb[3566] = 1.0676311F;
-		relShowdownProb[3569] = 1.3925623F;
-		relShowdownProb[3570] = 0.9283749F;
-		relShowdownProb[3573] = 0.9747936F;
-		relShowdownProb[3574] = 1.1295228F;
-		relShowdownProb[3575] = 1.2068874F;
-		relShowdownProb[3578] = 1.5318185F;
-		relShowdownProb[3579] = 1.2378331F;
-		relShowdownProb[3580] = 0.98253006F;
-		relShowdownProb[3581] = 1.2068874F;
-		relShowdownProb[3584] = 1.6246561F;
-		relShowdownProb[3585] = 1.1759415F;
-		relShowdownProb[3586] = 1.2533062F;
-		relShowdownProb[3587] = 1.1976036F;
-		relShowdownProb[3588] = 1.2223603F;
-		relShowdownProb[3591] = 1.438981F;
-		relShowdownProb[3592] = 1.2997248F;
-		relShowdownProb[3593] = 1.4621904F;
-		relShowdownProb[3594] = 1.2997248F;
-		relShowdownProb[3595] = 1.3739948F;
-		relShowdownProb[3596] = 1.6463181F;
-		relShowdownProb[3602] = 0.9747936F;
-		relShowdownProb[3605] = 0.8355374F;
-		relShowdownProb[3606] = 1.083104F;
-		relShowdownProb[3609] = 1.2068874F;
-		relShowdownProb[3610] = 1.2533062F;
-		relShowdownProb[3611] = 1.0753676F;
-		relShowdownProb[3614] = 1.2068874F;
-		relShowdownProb[3615] = 1.0985769F;
-		relShowdownProb[3616] = 1.0212123F;
-		relShowdownProb[3617] = 0.9933611F;
-		relShowdownProb[3620] = 1.2533062F;
-		relShowdownProb[3621] = 1.2223603F;
-		relShowdownProb[3622] = 1.2765155F;
-		relShowdownProb[3623] = 1.109408F;
-		relShowdownProb[3624] = 1.0707257F;
-		relShowdownProb[3627] = 1.0676311F;
-		relShowdownProb[3628] = 1.438981F;
-		relShowdownProb[3629] = 1.0444218F;
-		relShowdownProb[3630] = 1.2672317F;
-		relShowdownProb[3631] = 1.1016716F;
-		relShowdownProb[3632] = 1.337302F;
-		relShowdownProb[3635] = 0.9283749F;
-		relShowdownProb[3636] = 0.9593207F;
-		relShowdownProb[3637] = 1.3461436F;
-		relShowdownProb[3638] = 1.2579479F;
-		relShowdownProb[3639] = 1.1264282F;
-		relShowdownProb[3640] = 1.1958352F;
-		relShowdownProb[3641] = 1.5583435F;
-		relShowdownProb[3650] = 1.2997248F;
-		relShowdownProb[3651] = 1.3306707F;
-		relShowdownProb[3654] = 0.9283749F;
-		relShowdownProb[3655] = 1.3925623F;
-		relShowdownProb[3656] = 1.4312446F;
-		relShowdownProb[3659] = 1.7174935F;
-		relShowdownProb[3660] = 1.1604686F;
-		relShowdownProb[3661] = 1.5859737F;
-		relShowdownProb[3662] = 1.2533062F;
-		relShowdownProb[3665] = 1.2533062F;
-		relShowdownProb[3666] = 1.5472915F;
-		relShowdownProb[3667] = 1.2997248F;
-		relShowdownProb[3668] = 1.4204136F;
-		relShowdownProb[3669] = 1.5070618F;
-		relShowdownProb[3672] = 1.2997248F;
-		relShowdownProb[3673] = 1.4853998F;
-		relShowdownProb[3674] = 1.4002988F;
-		relShowdownProb[3675] = 1.3043667F;
-		relShowdownProb[3676] = 1.528724F;
-		relShowdownProb[3677] = 1.401404F;
-		relShowdownProb[3680] = 0.7426999F;
-		relShowdownProb[3681] = 1.454454F;
-		relShowdownProb[3682] = 1.2919884F;
-		relShowdownProb[3683] = 1.4946835F;
-		relShowdownProb[3684] = 1.2564007F;
-		relShowdownProb[3685] = 1.4500332F;
-		relShowdownProb[3686] = 1.6366905F;
-		relShowdownProb[3689] = 1.5782373F;
-		relShowdownProb[3690] = 1.438981F;
-		relShowdownProb[3691] = 1.3616165F;
-		relShowdownProb[3692] = 1.2300967F;
-		relShowdownProb[3693] = 1.3585219F;
-		relShowdownProb[3694] = 1.242254F;
-		relShowdownProb[3695] = 1.4190873F;
-		relShowdownProb[3696] = 1.4008514F;
-		relShowdownProb[3712] = 1.0212123F;
-		relShowdownProb[3715] = 0.9747936F;
-		relShowdownProb[3716] = 1.0908405F;
-		relShowdownProb[3722] = 1.6246561F;
-		relShowdownProb[3725] = 1.0676311F;
-		relShowdownProb[3726] = 1.3306707F;
-		relShowdownProb[3729] = 1.0212123F;
-		relShowdownProb[3730] = 1.1295228F;
-		relShowdownProb[3731] = 1.1047661F;
-		relShowdownProb[3737] = 1.0212123F;
-		relShowdownProb[3740] = 0.9283749F;
-		relShowdownProb[3741] = 1.2533062F;
-		relShowdownProb[3744] = 1.2533062F;
-		relShowdownProb[3745] = 1.3616165F;
-		relShowdownProb[3746] = 1.268779F;
-		relShowdownProb[3749] = 1.4853998F;
-		relShowdownProb[3750] = 0.88195616F;
-		relShowdownProb[3751] = 1.0908405F;
-		relShowdownProb[3752] = 1.1243651F;
-		relShowdownProb[3758] = 1.2068874F;
-		relShowdownProb[3761] = 1.0212123F;
-		relShowdownProb[3762] = 1.2068874F;
-		relShowdownProb[3765] = 1.5318185F;
-		relShowdownProb[3766] = 1.2997248F;
-		relShowdownProb[3767] = 1.2455696F;
-		relShowdownProb[3770] = 1.5318185F;
-		relShowdownProb[3771] = 1.1914145F;
-		relShowdownProb[3772] = 1.2455696F;
-		relShowdownProb[3773] = 1.2208129F;
-		relShowdownProb[3776] = 1.5318185F;
-		relShowdownProb[3777] = 1.1604686F;
-		relShowdownProb[3778] = 1.3770894F;
-		relShowdownProb[3779] = 1.2857993F;
-		relShowdownProb[3780] = 1.4356655F;
-		relShowdownProb[3786] = 1.3461436F;
-		relShowdownProb[3789] = 0.9283749F;
-		relShowdownProb[3790] = 0.9283749F;
-		relShowdownProb[3793] = 1.1140499F;
-		relShowdownProb[3794] = 1.1759415F;
-		relShowdownProb[3795] = 1.3616165F;
-		relShowdownProb[3798] = 1.438981F;
-		relShowdownProb[3799] = 1.2223603F;
-		relShowdownProb[3800] = 1.2300967F;
-		relShowdownProb[3801] = 1.3786367F;
-		relShowdownProb[3804] = 1.2533062F;
-		relShowdownProb[3805] = 1.469927F;
-		relShowdownProb[3806] = 1.35388F;
-		relShowdownProb[3807] = 1.3925623F;
-		relShowdownProb[3808] = 1.3090086F;
-		relShowdownProb[3811] = 1.3461436F;
-		relShowdownProb[3812] = 1.469927F;
-		relShowdownProb[3813] = 1.3616165F;
-		relShowdownProb[3814] = 1.4900417F;
-		relShowdownProb[3815] = 1.4080353F;
-		relShowdownProb[3816] = 1.6571492F;
-		relShowdownProb[3822] = 1.2533062F;
-		relShowdownProb[3825] = 1.1140499F;
-		relShowdownProb[3826] = 1.7174935F;
-		relShowdownProb[3829] = 1.2533062F;
-		relShowdownProb[3830] = 1.6710747F;
-		relShowdownProb[3831] = 1.3461436F;
-		relShowdownProb[3834] = 1.2533062F;
-		relShowdownProb[3835] = 1.3306707F;
-		relShowdownProb[3836] = 1.3151977F;
-		relShowdownProb[3837] = 1.5039673F;
-		relShowdownProb[3840] = 1.1604686F;
-		relShowdownProb[3841] = 1.640129F;
-		relShowdownProb[3842] = 1.4080353F;
-		relShowdownProb[3843] = 1.3925623F;
-		relShowdownProb[3844] = 1.5194402F;
-		relShowdownProb[3847] = 1.3461436F;
-		relShowdownProb[3848] = 1.4853998F;
-		relShowdownProb[3849] = 1.5627644F;
-		relShowdownProb[3850] = 1.6060885F;
-		relShowdownProb[3851] = 1.4946835F;
-		relShowdownProb[3852] = 1.6975998F;
-		relShowdownProb[3855] = 2.2745185F;
-		relShowdownProb[3856] = 1.3151977F;
-		relShowdownProb[3857] = 1.5163456F;
-		relShowdownProb[3858] = 1.629298F;
-		relShowdownProb[3859] = 1.5318185F;
-		relShowdownProb[3860] = 1.6622331F;
-		relShowdownProb[3861] = 1.9451665F;
-		relShowdownProb[3870] = 1.3461436F;
-		relShowdownProb[3871] = 1.5627644F;
-		relShowdownProb[3874] = 1.6246561F;
-		relShowdownProb[3875] = 1.5318185F;
-		relShowdownProb[3876] = 1.438981F;
-		relShowdownProb[3879] = 1.2533062F;
-		relShowdownProb[3880] = 1.640129F;
-		relShowdownProb[3881] = 1.5937102F;
-		relShowdownProb[3882] = 1.4761161F;
-		relShowdownProb[3885] = 1.6246561F;
-		relShowdownProb[3886] = 1.8567498F;
-		relShowdownProb[3887] = 1.8412769F;
-		relShowdownProb[3888] = 1.5689535F;
-		relShowdownProb[3889] = 1.5813318F;
-		relShowdownProb[3892] = 1.2997248F;
-		relShowdownProb[3893] = 1.6091831F;
-		relShowdownProb[3894] = 1.5937102F;
-		relShowdownProb[3895] = 1.5503861F;
-		relShowdownProb[3896] = 1.6246561F;
-		relShowdownProb[3897] = 1.6688644F;
-		relShowdownProb[3900] = 1.9031686F;
-		relShowdownProb[3901] = 1.640129F;
-		relShowdownProb[3902] = 1.454454F;
-		relShowdownProb[3903] = 1.6014466F;
-		relShowdownProb[3904] = 1.6494128F;
-		relShowdownProb[3905] = 1.704231F;
-		relShowdownProb[3906] = 1.7987263F;
-		relShowdownProb[3909] = 1.5782373F;
-		relShowdownProb[3910] = 1.5937102F;
-		relShowdownProb[3911] = 1.7174935F;
-		relShowdownProb[3912] = 1.6385816F;
-		relShowdownProb[3913] = 1.7205881F;
-		relShowdownProb[3914] = 1.6489706F;
-		relShowdownProb[3915] = 1.9495872F;
-		relShowdownProb[3916] = 1.6992576F;
-		relShowdownProb[3935] = 1.0212123F;
-		relShowdownProb[3936] = 1.6014466F;
-		relShowdownProb[3945] = 1.3461436F;
-		relShowdownProb[3946] = 1.454454F;
-		relShowdownProb[3949] = 1.4853998F;
-		relShowdownProb[3950] = 1.0676311F;
-		relShowdownProb[3951] = 1.4111298F;
-		relShowdownProb[3960] = 1.3925623F;
-		relShowdownProb[3961] = 1.5472915F;
-		relShowdownProb[3964] = 1.2068874F;
-		relShowdownProb[3965] = 1.3616165F;
-		relShowdownProb[3966] = 1.4621904F;
-		relShowdownProb[3969] = 1.438981F;
-		relShowdownProb[3970] = 1.2223603F;
-		relShowdownProb[3971] = 1.2223603F;
-		relShowdownProb[3972] = 1.6710747F;
-		relShowdownProb[3981] = 1.0676311F;
-		relShowdownProb[3982] = 1.3306707F;
-		relShowdownProb[3985] = 1.2533062F;
-		relShowdownProb[3986] = 1.3306707F;
-		relShowdownProb[3987] = 1.438981F;
-		relShowdownProb[3990] = 1.7639123F;
-		relShowdownProb[3991] = 1.640129F;
-		relShowdownProb[3992] = 1.4157717F;
-		relShowdownProb[3993] = 1.555028F;
-		relShowdownProb[3996] = 1.2068874F;
-		relShowdownProb[3997] = 1.5627644F;
-		relShowdownProb[3998] = 1.5859737F;
-		relShowdownProb[3999] = 1.5039673F;
-		relShowdownProb[4000] = 1.5517123F;
-		relShowdownProb[4009] = 1.5318185F;
-		relShowdownProb[4010] = 1.4235082F;
-		relShowdownProb[4013] = 1.3461436F;
-		relShowdownProb[4014] = 1.6710747F;
-		relShowdownProb[4015] = 1.4853998F;
-		relShowdownProb[4018] = 1.6246561F;
-		relShowdownProb[4019] = 1.7174935F;
-		relShowdownProb[4020] = 1.4312446F;
-		relShowdownProb[4021] = 1.438981F;
-		relShowdownProb[4024] = 2.0888436F;
-		relShowdownProb[4025] = 1.454454F;
-		relShowdownProb[4026] = 1.2919884F;
-		relShowdownProb[4027] = 1.7082098F;
-		relShowdownProb[4028] = 1.6494128F;
-		relShowdownProb[4031] = 1.6710747F;
-		relShowdownProb[4032] = 1.9495872F;
-		relShowdownProb[4033] = 1.6246561F;
-		relShowdownProb[4034] = 1.6942842F;
-		relShowdownProb[4035] = 1.6246561F;
-		relShowdownProb[4036] = 1.6687539F;
-		relShowdownProb[4045] = 1.3925623F;
-		relShowdownProb[4046] = 2.1043165F;
-		relShowdownProb[4049] = 1.2533062F;
-		relShowdownProb[4050] = 1.6246561F;
-		relShowdownProb[4051] = 1.6710747F;
-		relShowdownProb[4054] = 2.0424247F;
-		relShowdownProb[4055] = 1.5472915F;
-		relShowdownProb[4056] = 1.7639123F;
-		relShowdownProb[4057] = 1.7778379F;
-		relShowdownProb[4060] = 2.2280998F;
-		relShowdownProb[4061] = 1.6091831F;
-		relShowdownProb[4062] = 1.6633383F;
-		relShowdownProb[4063] = 1.9078103F;
-		relShowdownProb[4064] = 1.7608176F;
-		relShowdownProb[4067] = 1.8567498F;
-		relShowdownProb[4068] = 1.7174935F;
-		relShowdownProb[4069] = 1.8799591F;
-		relShowdownProb[4070] = 1.8985267F;
-		relShowdownProb[4071] = 1.773196F;
-		relShowdownProb[4072] = 2.0689497F;
-		relShowdownProb[4075] = 2.2745185F;
-		relShowdownProb[4076] = 1.9341143F;
-		relShowdownProb[4077] = 1.7329664F;
-		relShowdownProb[4078] = 1.8196148F;
-		relShowdownProb[4079] = 1.9743439F;
-		relShowdownProb[4080] = 2.0954747F;
-		relShowdownProb[4081] = 2.181681F;
-		relShowdownProb[4090] = 1.810331F;
-		relShowdownProb[4091] = 1.6556019F;
-		relShowdownProb[4094] = 1.7174935F;
-		relShowdownProb[4095] = 1.9650601F;
-		relShowdownProb[4096] = 1.910905F;
-		relShowdownProb[4099] = 1.9495872F;
-		relShowdownProb[4100] = 2.1352623F;
-		relShowdownProb[4101] = 1.9341143F;
-		relShowdownProb[4102] = 1.810331F;
-		relShowdownProb[4105] = 2.7387059F;
-		relShowdownProb[4106] = 1.9186414F;
-		relShowdownProb[4107] = 1.7561759F;
-		relShowdownProb[4108] = 1.9774384F;
-		relShowdownProb[4109] = 2.0300465F;
-		relShowdownProb[4112] = 2.367356F;
-		relShowdownProb[4113] = 2.0424247F;
-		relShowdownProb[4114] = 1.8722227F;
-		relShowdownProb[4115] = 2.1027691F;
-		relShowdownProb[4116] = 2.0609922F;
-		relShowdownProb[4117] = 2.0932643F;
-		relShowdownProb[4120] = 2.1352623F;
-		relShowdownProb[4121] = 2.0733705F;
-		relShowdownProb[4122] = 2.1507351F;
-		relShowdownProb[4123] = 2.2698765F;
-		relShowdownProb[4124] = 2.138357F;
-		relShowdownProb[4125] = 2.2236788F;
-		relShowdownProb[4126] = 2.410459F;
-		relShowdownProb[4129] = 1.9495872F;
-		relShowdownProb[4130] = 2.3054643F;
-		relShowdownProb[4131] = 2.2590456F;
-		relShowdownProb[4132] = 2.2466671F;
-		relShowdownProb[4133] = 2.138357F;
-		relShowdownProb[4134] = 2.3607247F;
-		relShowdownProb[4135] = 2.330884F;
-		relShowdownProb[4136] = 2.4270372F;
-		relShowdownProb[4140] = 0.405243F;
-		relShowdownProb[4141] = 0.30393225F;
-		relShowdownProb[4142] = 0.21883123F;
-		relShowdownProb[4143] = 0.4295576F;
-		relShowdownProb[4144] = 0.3647187F;
-		relShowdownProb[4145] = 0.2865647F;
-		relShowdownProb[4146] = 0.27691606F;
-		relShowdownProb[4147] = 0.43932027F;
-		relShowdownProb[4151] = 0.6483888F;
-		relShowdownProb[4152] = 0.46602947F;
-		relShowdownProb[4153] = 0.27961767F;
-		relShowdownProb[4154] = 0.3890333F;
-		relShowdownProb[4155] = 0.27209175F;
-		relShowdownProb[4156] = 0.30393225F;
-		relShowdownProb[4157] = 0.31744036F;
-		relShowdownProb[4158] = 0.50563276F;
-		relShowdownProb[4160] = 1.9147732F;
-		relShowdownProb[4161] = 0.9573866F;
-		relShowdownProb[4162] = 0.76590925F;
-		relShowdownProb[4163] = 0.80020374F;
-		relShowdownProb[4164] = 0.44502375F;
-		relShowdownProb[4165] = 0.49795958F;
-		relShowdownProb[4166] = 0.32979017F;
-		relShowdownProb[4167] = 0.44549534F;
-		relShowdownProb[4168] = 0.38094965F;
-		relShowdownProb[4169] = 0.60264677F;
-		relShowdownProb[4173] = 0.6889131F;
-		relShowdownProb[4174] = 0.50655377F;
-		relShowdownProb[4175] = 0.40119058F;
-		relShowdownProb[4176] = 0.4700819F;
-		relShowdownProb[4177] = 0.29524848F;
-		relShowdownProb[4178] = 0.33866736F;
-		relShowdownProb[4179] = 0.39848897F;
-		relShowdownProb[4180] = 0.44208327F;
-		relShowdownProb[4182] = 0.9573866F;
-		relShowdownProb[4183] = 0.31912887F;
-		relShowdownProb[4184] = 0.71484864F;
-		relShowdownProb[4185] = 0.5715741F;
-		relShowdownProb[4186] = 0.620691F;
-		relShowdownProb[4187] = 0.5453843F;
-		relShowdownProb[4188] = 0.4378249F;
-		relShowdownProb[4189] = 0.44549534F;
-		relShowdownProb[4190] = 0.35755798F;
-		relShowdownProb[4191] = 0.5725145F;
-		relShowdownProb[4193] = 2.0743377F;
-		relShowdownProb[4194] = 0.63825774F;
-		relShowdownProb[4195] = 0.5282133F;
-		relShowdownProb[4196] = 0.56968457F;
-		relShowdownProb[4197] = 0.85854137F;
-		relShowdownProb[4198] = 0.6478991F;
-		relShowdownProb[4199] = 0.6759666F;
-		relShowdownProb[4200] = 0.42268723F;
-		relShowdownProb[4201] = 0.46959895F;
-		relShowdownProb[4202] = 0.7333174F;
-		relShowdownProb[4206] = 0.7294374F;
-		relShowdownProb[4207] = 0.5268159F;
-		relShowdownProb[4208] = 0.55923533F;
-		relShowdownProb[4209] = 0.41334787F;
-		relShowdownProb[4210] = 0.4110322F;
-		relShowdownProb[4211] = 0.34735113F;
-		relShowdownProb[4212] = 0.29042417F;
-		relShowdownProb[4213] = 0.57004184F;
-		relShowdownProb[4215] = 0.9573866F;
-		relShowdownProb[4217] = 0.663788F;
-		relShowdownProb[4218] = 0.5715741F;
-		relShowdownProb[4219] = 0.538713F;
-		relShowdownProb[4220] = 0.37149367F;
-		relShowdownProb[4221] = 0.38665056F;
-		relShowdownProb[4222] = 0.35553953F;
-		relShowdownProb[4223] = 0.40768296F;
-		relShowdownProb[4224] = 0.45542F;
-		relShowdownProb[4226] = 1.4360799F;
-		relShowdownProb[4227] = 1.2765155F;
-		relShowdownProb[4228] = 0.96839106F;
-		relShowdownProb[4229] = 0.82287776F;
-		relShowdownProb[4230] = 0.700389F;
-		relShowdownProb[4231] = 0.72502995F;
-		relShowdownProb[4232] = 0.5809961F;
-		relShowdownProb[4233] = 0.48609033F;
-		relShowdownProb[4234] = 0.49605525F;
-		relShowdownProb[4235] = 0.66947323F;
-		relShowdownProb[4237] = 0.4786933F;
-		relShowdownProb[4238] = 1.1967332F;
-		relShowdownProb[4239] = 1.083104F;
-		relShowdownProb[4240] = 1.2864109F;
-		relShowdownProb[4241] = 0.9109406F;
-		relShowdownProb[4242] = 0.8510103F;
-		relShowdownProb[4243] = 0.8015968F;
-		relShowdownProb[4244] = 0.64242935F;
-		relShowdownProb[4245] = 0.60225344F;
-		relShowdownProb[4246] = 0.8141244F;
-		relShowdownProb[4249] = 0.7294374F;
-		relShowdownProb[4250] = 0.5268159F;
-		relShowdownProb[4251] = 0.4457673F;
-		relShowdownProb[4252] = 0.80238116F;
-		relShowdownProb[4253] = 0.51060617F;
-		relShowdownProb[4254] = 0.45734566F;
-		relShowdownProb[4255] = 0.38208625F;
-		relShowdownProb[4256] = 0.34445655F;
-		relShowdownProb[4257] = 0.5133078F;
-		relShowdownProb[4259] = 0.31912887F;
-		relShowdownProb[4260] = 0.79231995F;
-		relShowdownProb[4261] = 0.51060617F;
-		relShowdownProb[4262] = 0.6858889F;
-		relShowdownProb[4263] = 0.6558245F;
-		relShowdownProb[4264] = 0.7034667F;
-		relShowdownProb[4265] = 0.44351095F;
-		relShowdownProb[4266] = 0.43692812F;
-		relShowdownProb[4267] = 0.41770795F;
-		relShowdownProb[4268] = 0.637588F;
-		relShowdownProb[4270] = 0.63825774F;
-		relShowdownProb[4271] = 0.48300585F;
-		relShowdownProb[4272] = 0.83633775F;
-		relShowdownProb[4273] = 0.8650766F;
-		relShowdownProb[4274] = 0.62131286F;
-		relShowdownProb[4275] = 0.5784813F;
-		relShowdownProb[4276] = 0.4692661F;
-		relShowdownProb[4277] = 0.46918285F;
-		relShowdownProb[4278] = 0.43322158F;
-		relShowdownProb[4279] = 0.6243104F;
-		relShowdownProb[4281] = 0.9573866F;
-		relShowdownProb[4282] = 1.3969414F;
-		relShowdownProb[4283] = 0.9283749F;
-		relShowdownProb[4284] = 1.0687106F;
-		relShowdownProb[4285] = 0.8869685F;
-		relShowdownProb[4286] = 0.92632097F;
-		relShowdownProb[4287] = 0.7357121F;
-		relShowdownProb[4288] = 0.5464821F;
-		relShowdownProb[4289] = 0.56297606F;
-		relShowdownProb[4290] = 0.719275F;
-		relShowdownProb[4292] = 1.2765155F;
-		relShowdownProb[4293] = 1.1560894F;
-		relShowdownProb[4294] = 1.4750845F;
-		relShowdownProb[4295] = 1.0435747F;
-		relShowdownProb[4296] = 1.1436654F;
-		relShowdownProb[4297] = 0.81446385F;
-		relShowdownProb[4298] = 0.6477034F;
-		relShowdownProb[4299] = 0.76179147F;
-		relShowdownProb[4300] = 0.7710931F;
-		relShowdownProb[4301] = 0.90153086F;
-		relShowdownProb[4304] = 0.48629162F;
-		relShowdownProb[4305] = 0.6078645F;
-		relShowdownProb[4306] = 0.91179675F;
-		relShowdownProb[4307] = 0.7294374F;
-		relShowdownProb[4308] = 0.35661384F;
-		relShowdownProb[4309] = 0.5673402F;
-		relShowdownProb[4310] = 0.39945382F;
-		relShowdownProb[4311] = 0.4727835F;
-		relShowdownProb[4312] = 0.60516286F;
-		relShowdownProb[4314] = 0.9573866F;
-		relShowdownProb[4315] = 1.1444621F;
-		relShowdownProb[4316] = 0.82703817F;
-		relShowdownProb[4317] = 0.93357104F;
-		relShowdownProb[4318] = 0.7260914F;
-		relShowdownProb[4319] = 0.62442553F;
-		relShowdownProb[4320] = 0.4378249F;
-		relShowdownProb[4321] = 0.5311675F;
-		relShowdownProb[4322] = 0.49122453F;
-		relShowdownProb[4323] = 0.58133024F;
-		relShowdownProb[4325] = 1.116951F;
-		relShowdownProb[4326] = 0.6210075F;
-		relShowdownProb[4327] = 0.7756043F;
-		relShowdownProb[4328] = 0.8650766F;
-		relShowdownProb[4329] = 0.89243114F;
-		relShowdownProb[4330] = 0.5784813F;
-		relShowdownProb[4331] = 0.5809961F;
-		relShowdownProb[4332] = 0.5368128F;
-		relShowdownProb[4333] = 0.5026693F;
-		relShowdownProb[4334] = 0.6668166F;
-		relShowdownProb[4336] = 0.63825774F;
-		relShowdownProb[4337] = 0.8670671F;
-		relShowdownProb[4338] = 1.1738074F;
-		relShowdownProb[4339] = 1.4051566F;
-		relShowdownProb[4340] = 0.8629964F;
-		relShowdownProb[4341] = 0.9564452F;
-		relShowdownProb[4342] = 0.6259044F;
-		relShowdownProb[4343] = 0.53813887F;
-		relShowdownProb[4344] = 0.5236986F;
-		relShowdownProb[4345] = 0.75089145F;
-		relShowdownProb[4347] = 1.7552087F;
-		relShowdownProb[4348] = 1.2042599F;
-		relShowdownProb[4349] = 1.3800167F;
-		relShowdownProb[4350] = 1.3044684F;
-		relShowdownProb[4351] = 1.1090089F;
-		relShowdownProb[4352] = 1.0024171F;
-		relShowdownProb[4353] = 0.858207F;
-		relShowdownProb[4354] = 0.77002704F;
-		relShowdownProb[4355] = 0.6706566F;
-		relShowdownProb[4356] = 0.86756015F;
-		relShowdownProb[4358] = 1.7552087F;
-		relShowdownProb[4359] = 1.3006006F;
-		relShowdownProb[4360] = 1.3800167F;
-		relShowdownProb[4361] = 1.5257759F;
-		relShowdownProb[4362] = 1.3935758F;
-		relShowdownProb[4363] = 1.2612278F;
-		relShowdownProb[4364] = 1.1266637F;
-		relShowdownProb[4365] = 0.93502724F;
-		relShowdownProb[4366] = 0.8499412F;
-		relShowdownProb[4367] = 1.0860101F;
-		relShowdownProb[4370] = 1.0941561F;
-		relShowdownProb[4371] = 0.5268159F;
-		relShowdownProb[4372] = 0.7699617F;
-		relShowdownProb[4373] = 0.8510103F;
-		relShowdownProb[4374] = 0.7132277F;
-		relShowdownProb[4375] = 0.6599672F;
-		relShowdownProb[4376] = 0.6078645F;
-		relShowdownProb[4377] = 0.61799556F;
-		relShowdownProb[4378] = 0.653792F;
-		relShowdownProb[4380] = 0.31912887F;
-		relShowdownProb[4381] = 0.8803555F;
-		relShowdownProb[4382] = 0.6112891F;
-		relShowdownProb[4383] = 0.7620988F;
-		relShowdownProb[4384] = 0.8900475F;
-		relShowdownProb[4385] = 0.89316565F;
-		relShowdownProb[4386] = 0.6936966F;
-		relShowdownProb[4387] = 0.6211233F;
-		relShowdownProb[4388] = 0.5346662F;
-		relShowdownProb[4389] = 0.6911668F;
-		relShowdownProb[4391] = 1.4360799F;
-		relShowdownProb[4392] = 1.1040133F;
-		relShowdownProb[4393] = 0.71097064F;
-		relShowdownProb[4394] = 0.9528918F;
-		relShowdownProb[4395] = 0.85854137F;
-		relShowdownProb[4396] = 0.8947178F;
-		relShowdownProb[4397] = 0.7094856F;
-		relShowdownProb[4398] = 0.5917621F;
-		relShowdownProb[4399] = 0.5886522F;
-		relShowdownProb[4400] = 0.8527814F;
-		relShowdownProb[4402] = 1.4360799F;
-		relShowdownProb[4403] = 1.1560894F;
-		relShowdownProb[4404] = 0.8510103F;
-		relShowdownProb[4405] = 0.73186886F;
-		relShowdownProb[4406] = 1.0907315F;
-		relShowdownProb[4407] = 0.79076177F;
-		relShowdownProb[4408] = 0.87846226F;
-		relShowdownProb[4409] = 0.6716307F;
-		relShowdownProb[4410] = 0.6709889F;
-		relShowdownProb[4411] = 0.7719691F;
-		relShowdownProb[4413] = 1.2765155F;
-		relShowdownProb[4414] = 1.1560894F;
-		relShowdownProb[4415] = 0.989012F;
-		relShowdownProb[4416] = 1.1634065F;
-		relShowdownProb[4417] = 1.1205611F;
-		relShowdownProb[4418] = 1.0572368F;
-		relShowdownProb[4419] = 0.8204243F;
-		relShowdownProb[4420] = 0.7782627F;
-		relShowdownProb[4421] = 0.7127751F;
-		relShowdownProb[4422] = 0.89107835F;
-		relShowdownProb[4424] = 1.2765155F;
-		relShowdownProb[4425] = 1.2524303F;
-		relShowdownProb[4426] = 1.65602F;
-		relShowdownProb[4427] = 1.4646336F;
-		relShowdownProb[4428] = 1.3266842F;
-		relShowdownProb[4429] = 1.1924336F;
-		relShowdownProb[4430] = 0.98791194F;
-		relShowdownProb[4431] = 0.82932854F;
-		relShowdownProb[4432] = 0.946161F;
-		relShowdownProb[4433] = 0.99529326F;
-		relShowdownProb[4435] = 0.9573866F;
-		relShowdownProb[4436] = 1.2042599F;
-		relShowdownProb[4437] = 1.4950181F;
-		relShowdownProb[4438] = 1.3302635F;
-		relShowdownProb[4439] = 1.7178386F;
-		relShowdownProb[4440] = 1.4183505F;
-		relShowdownProb[4441] = 1.2437843F;
-		relShowdownProb[4442] = 1.137448F;
-		relShowdownProb[4443] = 1.149499F;
-		relShowdownProb[4444] = 1.1621047F;
-		relShowdownProb[4447] = 0.3647187F;
-		relShowdownProb[4448] = 0.7699617F;
-		relShowdownProb[4449] = 0.7091752F;
-		relShowdownProb[4450] = 0.8753249F;
-		relShowdownProb[4451] = 0.97258323F;
-		relShowdownProb[4452] = 0.717859F;
-		relShowdownProb[4453] = 0.7815401F;
-		relShowdownProb[4454] = 0.75983065F;
-		relShowdownProb[4455] = 0.9185508F;
-		relShowdownProb[4457] = 0.9573866F;
-		relShowdownProb[4458] = 0.8803555F;
-		relShowdownProb[4459] = 0.82703817F;
-		relShowdownProb[4460] = 0.91451854F;
-		relShowdownProb[4461] = 0.8197806F;
-		relShowdownProb[4462] = 0.8220285F;
-		relShowdownProb[4463] = 0.8301615F;
-		relShowdownProb[4464] = 0.8610054F;
-		relShowdownProb[4465] = 0.63825774F;
-		relShowdownProb[4466] = 0.9242347F;
-		relShowdownProb[4468] = 1.116951F;
-		relShowdownProb[4469] = 1.1040133F;
-		relShowdownProb[4470] = 0.9048717F;
-		relShowdownProb[4471] = 0.82703817F;
-		relShowdownProb[4472] = 0.89243114F;
-		relShowdownProb[4473] = 1.0644057F;
-		relShowdownProb[4474] = 0.92735916F;
-		relShowdownProb[4475] = 0.8580551F;
-		relShowdownProb[4476] = 0.7374688F;
-		relShowdownProb[4477] = 0.97498685F;
-		relShowdownProb[4479] = 0.63825774F;
-		relShowdownProb[4480] = 1.1079191F;
-		relShowdownProb[4481] = 0.9977362F;
-		relShowdownProb[4482] = 0.8169699F;
-		relShowdownProb[4483] = 1.0583076F;
-		relShowdownProb[4484] = 1.1447219F;
-		relShowdownProb[4485] = 0.93885654F;
-		relShowdownProb[4486] = 0.7967793F;
-		relShowdownProb[4487] = 0.7888211F;
-		relShowdownProb[4488] = 0.9379556F;
-		relShowdownProb[4490] = 1.2765155F;
-		relShowdownProb[4491] = 1.1079191F;
-		relShowdownProb[4492] = 1.3570164F;
-		relShowdownProb[4493] = 1.0826144F;
-		relShowdownProb[4494] = 1.3187144F;
-		relShowdownProb[4495] = 1.0572368F;
-		relShowdownProb[4496] = 0.949965F;
-		relShowdownProb[4497] = 0.8565007F;
-		relShowdownProb[4498] = 0.91040826F;
-		relShowdownProb[4499] = 1.0112824F;
-		relShowdownProb[4501] = 1.4360799F;
-		relShowdownProb[4502] = 1.2524303F;
-		relShowdownProb[4503] = 1.1730142F;
-		relShowdownProb[4504] = 1.1555824F;
-		relShowdownProb[4505] = 1.3071518F;
-		relShowdownProb[4506] = 1.2612278F;
-		relShowdownProb[4507] = 1.0822631F;
-		relShowdownProb[4508] = 0.90250456F;
-		relShowdownProb[4509] = 1.0167221F;
-		relShowdownProb[4510] = 1.1559917F;
-		relShowdownProb[4512] = 1.4360799F;
-		relShowdownProb[4513] = 1.2042599F;
-		relShowdownProb[4514] = 1.242015F;
-		relShowdownProb[4515] = 1.3840115F;
-		relShowdownProb[4516] = 1.3381404F;
-		relShowdownProb[4517] = 1.5004655F;
-		relShowdownProb[4518] = 1.238329F;
-		relShowdownProb[4519] = 1.1914145F;
-		relShowdownProb[4520] = 1.0320088F;
-		relShowdownProb[4521] = 1.2289515F;
-		relShowdownProb[4523] = 0.7978222F;
-		relShowdownProb[4524] = 1.6859639F;
-		relShowdownProb[4525] = 1.4720179F;
-		relShowdownProb[4526] = 1.3571374F;
-		relShowdownProb[4527] = 1.7166932F;
-		relShowdownProb[4528] = 2.0686097F;
-		relShowdownProb[4529] = 1.7109598F;
-		relShowdownProb[4530] = 1.2826624F;
-		relShowdownProb[4531] = 1.3652744F;
-		relShowdownProb[4532] = 1.3645071F;
-		relShowdownProb[4535] = 0.48629162F;
-		relShowdownProb[4536] = 0.93205893F;
-		relShowdownProb[4537] = 0.7091752F;
-		relShowdownProb[4538] = 0.8996395F;
-		relShowdownProb[4539] = 0.9401638F;
-		relShowdownProb[4540] = 1.0709994F;
-		relShowdownProb[4541] = 0.9856089F;
-		relShowdownProb[4542] = 1.0198616F;
-		relShowdownProb[4543] = 1.1265756F;
-		relShowdownProb[4545] = 0.9573866F;
-		relShowdownProb[4546] = 0.8803555F;
-		relShowdownProb[4547] = 0.8989546F;
-		relShowdownProb[4548] = 0.93357104F;
-		relShowdownProb[4549] = 1.0540036F;
-		relShowdownProb[4550] = 0.94849443F;
-		relShowdownProb[4551] = 1.194068F;
-		relShowdownProb[4552] = 1.0237825F;
-		relShowdownProb[4553] = 0.9557158F;
-		relShowdownProb[4554] = 1.1439079F;
-		relShowdownProb[4556] = 1.9147732F;
-		relShowdownProb[4557] = 0.9660117F;
-		relShowdownProb[4558] = 0.8079212F;
-		relShowdownProb[4559] = 0.71916366F;
-		relShowdownProb[4560] = 0.89243114F;
-		relShowdownProb[4561] = 0.9409963F;
-		relShowdownProb[4562] = 1.2513762F;
-		relShowdownProb[4563] = 0.91300446F;
-		relShowdownProb[4564] = 0.95573306F;
-		relShowdownProb[4565] = 1.1795481F;
-		relShowdownProb[4567] = 0.63825774F;
-		relShowdownProb[4568] = 0.5780447F;
-		relShowdownProb[4569] = 1.0564266F;
-		relShowdownProb[4570] = 1.2594953F;
-		relShowdownProb[4571] = 1.1128596F;
-		relShowdownProb[4572] = 1.1974393F;
-		relShowdownProb[4573] = 1.1694529F;
-		relShowdownProb[4574] = 0.98867375F;
-		relShowdownProb[4575] = 1.1815951F;
-		relShowdownProb[4576] = 1.2567551F;
-		relShowdownProb[4578] = 0.4786933F;
-		relShowdownProb[4579] = 0.9634079F;
-		relShowdownProb[4580] = 1.0810131F;
-		relShowdownProb[4581] = 1.0502975F;
-		relShowdownProb[4582] = 1.1393691F;
-		relShowdownProb[4583] = 1.0962583F;
-		relShowdownProb[4584] = 1.2738167F;
-		relShowdownProb[4585] = 1.0376835F;
-		relShowdownProb[4586] = 1.0788823F;
-		relShowdownProb[4587] = 1.1340997F;
-		relShowdownProb[4589] = 0.7978222F;
-		relShowdownProb[4590] = 0.8670671F;
-		relShowdownProb[4591] = 1.2880156F;
-		relShowdownProb[4592] = 1.4108856F;
-		relShowdownProb[4593] = 1.2560912F;
-		relShowdownProb[4594] = 1.2801113F;
-		relShowdownProb[4595] = 1.3042659F;
-		relShowdownProb[4596] = 1.08951F;
-		relShowdownProb[4597] = 1.045588F;
-		relShowdownProb[4598] = 1.2441165F;
-		relShowdownProb[4600] = 1.4360799F;
-		relShowdownProb[4601] = 0.8188967F;
-		relShowdownProb[4602] = 1.6790203F;
-		relShowdownProb[4603] = 1.2899525F;
-		relShowdownProb[4604] = 1.3909616F;
-		relShowdownProb[4605] = 1.4769601F;
-		relShowdownProb[4606] = 1.4183505F;
-		relShowdownProb[4607] = 1.2868936F;
-		relShowdownProb[4608] = 1.1780777F;
-		relShowdownProb[4609] = 1.3909262F;
-		relShowdownProb[4611] = 0.9573866F;
-		relShowdownProb[4612] = 1.3969414F;
-		relShowdownProb[4613] = 1.8400223F;
-		relShowdownProb[4614] = 1.4511966F;
-		relShowdownProb[4615] = 1.6286577F;
-		relShowdownProb[4616] = 1.6523266F;
-		relShowdownProb[4617] = 1.9094096F;
-		relShowdownProb[4618] = 1.4711688F;
-		relShowdownProb[4619] = 1.3652744F;
-		relShowdownProb[4620] = 1.5634445F;
-		relShowdownProb[4622] = 2.0743377F;
-		relShowdownProb[4623] = 1.8786454F;
-		relShowdownProb[4624] = 1.8860228F;
-		relShowdownProb[4625] = 1.9483657F;
-		relShowdownProb[4626] = 1.8487465F;
-		relShowdownProb[4627] = 2.2051728F;
-		relShowdownProb[4628] = 2.399465F;
-		relShowdownProb[4629] = 1.9016237F;
-		relShowdownProb[4630] = 1.8117254F;
-		relShowdownProb[4631] = 1.9328614F;
-		relShowdownProb[4634] = 0.97258323F;
-		relShowdownProb[4635] = 0.8915346F;
-		relShowdownProb[4636] = 0.74969953F;
-		relShowdownProb[4637] = 1.215729F;
-		relShowdownProb[4638] = 1.2400436F;
-		relShowdownProb[4639] = 1.059421F;
-		relShowdownProb[4640] = 1.2808573F;
-		relShowdownProb[4641] = 1.1752048F;
-		relShowdownProb[4642] = 1.3616165F;
-		relShowdownProb[4644] = 1.5956444F;
-		relShowdownProb[4645] = 1.0564266F;
-		relShowdownProb[4646] = 1.0068291F;
-		relShowdownProb[4647] = 1.0288334F;
-		relShowdownProb[4648] = 1.077426F;
-		relShowdownProb[4649] = 1.1223851F;
-		relShowdownProb[4650] = 1.2111261F;
-		relShowdownProb[4651] = 1.3878893F;
-		relShowdownProb[4652] = 1.1695822F;
-		relShowdownProb[4653] = 1.3689389F;
-		relShowdownProb[4655] = 1.9147732F;
-		relShowdownProb[4656] = 1.4490175F;
-		relShowdownProb[4657] = 1.486575F;
-		relShowdownProb[4658] = 1.0967245F;
-		relShowdownProb[4659] = 1.1409563F;
-		relShowdownProb[4660] = 1.0335534F;
-		relShowdownProb[4661] = 1.3854523F;
-		relShowdownProb[4662] = 1.2511542F;
-		relShowdownProb[4663] = 1.2963576F;
-		relShowdownProb[4664] = 1.3681695F;
-		relShowdownProb[4666] = 1.4360799F;
-		relShowdownProb[4667] = 1.3487711F;
-		relShowdownProb[4668] = 1.2031525F;
-		relShowdownProb[4669] = 1.1914145F;
-		relShowdownProb[4670] = 1.069218F;
-		relShowdownProb[4671] = 1.2878121F;
-		relShowdownProb[4672] = 1.1969048F;
-		relShowdownProb[4673] = 1.2890303F;
-		relShowdownProb[4674] = 1.2405112F;
-		relShowdownProb[4675] = 1.4728011F;
-		relShowdownProb[4677] = 1.116951F;
-		relShowdownProb[4678] = 1.3006006F;
-		relShowdownProb[4679] = 1.242015F;
-		relShowdownProb[4680] = 1.0826144F;
-		relShowdownProb[4681] = 1.2448664F;
-		relShowdownProb[4682] = 1.2654793F;
-		relShowdownProb[4683] = 1.4843203F;
-		relShowdownProb[4684] = 1.3382823F;
-		relShowdownProb[4685] = 1.2538363F;
-		relShowdownProb[4686] = 1.455515F;
-		relShowdownProb[4688] = 0.9573866F;
-		relShowdownProb[4689] = 1.1560894F;
-		relShowdownProb[4690] = 1.242015F;
-		relShowdownProb[4691] = 1.4377595F;
-		relShowdownProb[4692] = 1.1743942F;
-		relShowdownProb[4693] = 1.3088778F;
-		relShowdownProb[4694] = 1.3322469F;
-		relShowdownProb[4695] = 1.4106716F;
-		relShowdownProb[4696] = 1.4240525F;
-		relShowdownProb[4697] = 1.5914325F;
-		relShowdownProb[4699] = 1.116951F;
-		relShowdownProb[4700] = 1.4451119F;
-		relShowdownProb[4701] = 1.817022F;
-		relShowdownProb[4702] = 1.5586926F;
-		relShowdownProb[4703] = 1.4966043F;
-		relShowdownProb[4704] = 1.5121257F;
-		relShowdownProb[4705] = 1.268684F;
-		relShowdownProb[4706] = 1.5650287F;
-		relShowdownProb[4707] = 1.3717778F;
-		relShowdownProb[4708] = 1.5426168F;
-		relShowdownProb[4710] = 1.2765155F;
-		relShowdownProb[4711] = 1.4451119F;
-		relShowdownProb[4712] = 1.3570164F;
-		relShowdownProb[4713] = 1.4377595F;
-		relShowdownProb[4714] = 1.5582292F;
-		relShowdownProb[4715] = 1.8076204F;
-		relShowdownProb[4716] = 1.5564756F;
-		relShowdownProb[4717] = 1.8194956F;
-		relShowdownProb[4718] = 1.691262F;
-		relShowdownProb[4719] = 1.6629132F;
-		relShowdownProb[4721] = 1.9147732F;
-		relShowdownProb[4722] = 1.8786454F;
-		relShowdownProb[4723] = 1.65602F;
-		relShowdownProb[4724] = 2.1364837F;
-		relShowdownProb[4725] = 1.7343004F;
-		relShowdownProb[4726] = 2.0623024F;
-		relShowdownProb[4727] = 1.9944111F;
-		relShowdownProb[4728] = 2.124154F;
-		relShowdownProb[4729] = 1.7701867F;
-		relShowdownProb[4730] = 2.028471F;
-		relShowdownProb[4732] = 2.3934665F;
-		relShowdownProb[4733] = 2.071327F;
-		relShowdownProb[4734] = 2.48403F;
-		relShowdownProb[4735] = 1.9483657F;
-		relShowdownProb[4736] = 1.8487465F;
-		relShowdownProb[4737] = 2.2300198F;
-		relShowdownProb[4738] = 2.432997F;
-		relShowdownProb[4739] = 2.4795625F;
-		relShowdownProb[4740] = 2.1385984F;
-		relShowdownProb[4741] = 2.2069876F;
-		relShowdownProb[4744] = 1.215729F;
-		relShowdownProb[4745] = 1.1346804F;
-		relShowdownProb[4746] = 1.2562534F;
-		relShowdownProb[4747] = 1.1914145F;
-		relShowdownProb[4748] = 1.2562534F;
-		relShowdownProb[4749] = 1.1231021F;
-		relShowdownProb[4750] = 1.3894045F;
-		relShowdownProb[4751] = 1.485891F;
-		relShowdownProb[4752] = 1.6750044F;
-		relShowdownProb[4754] = 1.5956444F;
-		relShowdownProb[4755] = 1.4085687F;
-		relShowdownProb[4756] = 0.93491274F;
-		relShowdownProb[4757] = 1.1812531F;
-		relShowdownProb[4758] = 1.007159F;
-		relShowdownProb[4759] = 1.1223851F;
-		relShowdownProb[4760] = 1.2793585F;
-		relShowdownProb[4761] = 1.3407696F;
-		relShowdownProb[4762] = 1.4736736F;
-		relShowdownProb[4763] = 1.5618227F;
-		relShowdownProb[4765] = 1.5956444F;
-		relShowdownProb[4766] = 1.3800167F;
-		relShowdownProb[4767] = 1.3896245F;
-		relShowdownProb[4768] = 1.0427873F;
-		relShowdownProb[4769] = 1.3894814F;
-		relShowdownProb[4770] = 1.1415365F;
-		relShowdownProb[4771] = 1.1005406F;
-		relShowdownProb[4772] = 1.3568261F;
-		relShowdownProb[4773] = 1.428639F;
-		relShowdownProb[4774] = 1.6975929F;
-		relShowdownProb[4776] = 1.5956444F;
-		relShowdownProb[4777] = 1.589623F;
-		relShowdownProb[4778] = 1.3792236F;
-		relShowdownProb[4779] = 1.0552528F;
-		relShowdownProb[4780] = 1.2001427F;
-		relShowdownProb[4781] = 1.167315F;
-		relShowdownProb[4782] = 1.4275012F;
-		relShowdownProb[4783] = 1.435037F;
-		relShowdownProb[4784] = 1.5678228F;
-		relShowdownProb[4785] = 1.7678883F;
-		relShowdownProb[4787] = 0.31912887F;
-		relShowdownProb[4788] = 1.4932822F;
-		relShowdownProb[4789] = 1.5410187F;
-		relShowdownProb[4790] = 1.6320008F;
-		relShowdownProb[4791] = 1.3187144F;
-		relShowdownProb[4792] = 1.2581218F;
-		relShowdownProb[4793] = 1.1874563F;
-		relShowdownProb[4794] = 1.4988762F;
-		relShowdownProb[4795] = 1.632903F;
-		relShowdownProb[4796] = 1.8135144F;
-		relShowdownProb[4798] = 1.116951F;
-		relShowdownProb[4799] = 1.3006006F;
-		relShowdownProb[4800] = 1.0810131F;
-		relShowdownProb[4801] = 1.2093304F;
-		relShowdownProb[4802] = 1.2867275F;
-		relShowdownProb[4803] = 1.3016862F;
-		relShowdownProb[4804] = 1.5976348F;
-		relShowdownProb[4805] = 1.4269329F;
-		relShowdownProb[4806] = 1.6229066F;
-		relShowdownProb[4807] = 1.7547228F;
-		relShowdownProb[4809] = 2.7125955F;
-		relShowdownProb[4810] = 1.5414526F;
-		relShowdownProb[4811] = 1.1270137F;
-		relShowdownProb[4812] = 1.4511966F;
-		relShowdownProb[4813] = 1.3997653F;
-		relShowdownProb[4814] = 1.4839932F;
-		relShowdownProb[4815] = 1.3678817F;
-		relShowdownProb[4816] = 1.5655378F;
-		relShowdownProb[4817] = 1.5432501F;
-		relShowdownProb[4818] = 1.8639954F;
-		relShowdownProb[4820] = 0.9573866F;
-		relShowdownProb[4821] = 2.0231566F;
-		relShowdownProb[4822] = 1.6100196F;
-		relShowdownProb[4823] = 1.5318185F;
-		relShowdownProb[4824] = 1.5054079F;
-		relShowdownProb[4825] = 1.7703499F;
-		relShowdownProb[4826] = 1.4999698F;
-		relShowdownProb[4827] = 1.6451985F;
-		relShowdownProb[4828] = 1.8074555F;
-		relShowdownProb[4829] = 1.9358146F;
-		relShowdownProb[4831] = 1.9147732F;
-		relShowdownProb[4832] = 1.9749862F;
-		relShowdownProb[4833] = 1.7940217F;
-		relShowdownProb[4834] = 1.5855665F;
-		relShowdownProb[4835] = 1.8047287F;
-		relShowdownProb[4836] = 1.9504908F;
-		relShowdownProb[4837] = 2.0959783F;
-		relShowdownProb[4838] = 2.1301363F;
-		relShowdownProb[4839] = 2.3293612F;
-		relShowdownProb[4840] = 2.1111603F;
-		relShowdownProb[4842] = 1.7552087F;
-		relShowdownProb[4843] = 2.071327F;
-		relShowdownProb[4844] = 2.0930254F;
-		relShowdownProb[4845] = 2.2171059F;
-		relShowdownProb[4846] = 2.4297812F;
-		relShowdownProb[4847] = 2.0871494F;
-		relShowdownProb[4848] = 2.1975455F;
-		relShowdownProb[4849] = 2.5458996F;
-		relShowdownProb[4850] = 2.3125968F;
-		relShowdownProb[4851] = 2.5068917F;
-		relShowdownProb[4853] = 2.8721597F;
-		relShowdownProb[4854] = 1.7823046F;
-		relShowdownProb[4855] = 1.978024F;
-		relShowdownProb[4856] = 2.2977278F;
-		relShowdownProb[4857] = 2.315335F;
-		relShowdownProb[4858] = 2.223808F;
-		relShowdownProb[4859] = 2.4976306F;
-		relShowdownProb[4860] = 2.6350417F;
-		relShowdownProb[4861] = 2.712777F;
-		relShowdownProb[4862] = 2.4843738F;
-		relShowdownProb[4866] = 1.4183505F;
-		relShowdownProb[4867] = 1.215729F;
-		relShowdownProb[4868] = 1.4345602F;
-		relShowdownProb[4869] = 1.3210922F;
-		relShowdownProb[4870] = 1.5688694F;
-		relShowdownProb[4871] = 1.7801746F;
-		relShowdownProb[4872] = 1.8607408F;
-		relShowdownProb[4873] = 2.2342398F;
-		relShowdownProb[4875] = 1.5956444F;
-		relShowdownProb[4876] = 1.5956444F;
-		relShowdownProb[4877] = 1.761951F;
-		relShowdownProb[4878] = 1.5051451F;
-		relShowdownProb[4879] = 1.2062485F;
-		relShowdownProb[4880] = 1.5254953F;
-		relShowdownProb[4881] = 1.5522883F;
-		relShowdownProb[4882] = 1.7734141F;
-		relShowdownProb[4883] = 1.9014065F;
-		relShowdownProb[4884] = 2.3467524F;
-		relShowdownProb[4886] = 2.0743377F;
-		relShowdownProb[4887] = 2.553031F;
-		relShowdownProb[4888] = 1.6804761F;
-		relShowdownProb[4889] = 1.6001391F;
-		relShowdownProb[4890] = 1.5024474F;
-		relShowdownProb[4891] = 1.3575028F;
-		relShowdownProb[4892] = 1.6033257F;
-		relShowdownProb[4893] = 1.9485881F;
-		relShowdownProb[4894] = 2.0239053F;
-		relShowdownProb[4895] = 2.2528305F;
-		relShowdownProb[4897] = 2.553031F;
-		relShowdownProb[4898] = 2.0743377F;
-		relShowdownProb[4899] = 1.760711F;
-		relShowdownProb[4900] = 1.3105559F;
-		relShowdownProb[4901] = 1.5929167F;
-		relShowdownProb[4902] = 1.5288061F;
-		relShowdownProb[4903] = 1.7130014F;
-		relShowdownProb[4904] = 2.0357502F;
-		relShowdownProb[4905] = 2.048971F;
-		relShowdownProb[4906] = 2.2184231F;
-		relShowdownProb[4908] = 2.233902F;
-		relShowdownProb[4909] = 1.9268157F;
-		relShowdownProb[4910] = 2.0930254F;
-		relShowdownProb[4911] = 1.5188918F;
-		relShowdownProb[4912] = 1.519159F;
-		relShowdownProb[4913] = 1.6922107F;
-		relShowdownProb[4914] = 1.716414F;
-		relShowdownProb[4915] = 1.8983021F;
-		relShowdownProb[4916] = 2.0216894F;
-		relShowdownProb[4917] = 2.3230753F;
-		relShowdownProb[4919] = 2.233902F;
-		relShowdownProb[4920] = 2.2158382F;
-		relShowdownProb[4921] = 2.0240245F;
-		relShowdownProb[4922] = 1.8408697F;
-		relShowdownProb[4923] = 1.6747882F;
-		relShowdownProb[4924] = 1.7044178F;
-		relShowdownProb[4925] = 1.8895613F;
-		relShowdownProb[4926] = 2.0855174F;
-		relShowdownProb[4927] = 2.0751395F;
-		relShowdownProb[4928] = 2.179796F;
-		relShowdownProb[4930] = 1.7552087F;
-		relShowdownProb[4931] = 1.6377934F;
-		relShowdownProb[4932] = 1.817022F;
-		relShowdownProb[4933] = 1.9886767F;
-		relShowdownProb[4934] = 1.6462648F;
-		relShowdownProb[4935] = 1.6598217F;
-		relShowdownProb[4936] = 1.9212993F;
-		relShowdownProb[4937] = 1.9749862F;
-		relShowdownProb[4938] = 2.0925963F;
-		relShowdownProb[4939] = 2.4064822F;
-		relShowdownProb[4941] = 1.9147732F;
-		relShowdownProb[4942] = 2.1676679F;
-		relShowdownProb[4943] = 1.7020206F;
-		relShowdownProb[4944] = 1.6258776F;
-		relShowdownProb[4945] = 1.7695146F;
-		relShowdownProb[4946] = 2.0871494F;
-		relShowdownProb[4947] = 1.9057837F;
-		relShowdownProb[4948] = 2.1407402F;
-		relShowdownProb[4949] = 2.1568708F;
-		relShowdownProb[4950] = 2.499471F;
-		relShowdownProb[4952] = 2.233902F;
-		relShowdownProb[4953] = 2.2158382F;
-		relShowdownProb[4954] = 2.139026F;
-		relShowdownProb[4955] = 2.458972F;
-		relShowdownProb[4956] = 2.2625136F;
-		relShowdownProb[4957] = 2.273502F;
-		relShowdownProb[4958] = 2.6084313F;
-		relShowdownProb[4959] = 2.3964033F;
-		relShowdownProb[4960] = 2.5218964F;
-		relShowdownProb[4961] = 2.7907627F;
-		relShowdownProb[4963] = 2.7125955F;
-		relShowdownProb[4964] = 2.071327F;
-		relShowdownProb[4965] = 2.3690288F;
-		relShowdownProb[4966] = 2.351476F;
-		relShowdownProb[4967] = 2.3681562F;
-		relShowdownProb[4968] = 2.348043F;
-		relShowdownProb[4969] = 2.5945811F;
-		relShowdownProb[4970] = 2.7848005F;
-		relShowdownProb[4971] = 2.6516988F;
-		relShowdownProb[4972] = 2.7222078F;
-		relShowdownProb[4974] = 2.7125955F;
-		relShowdownProb[4975] = 3.2755868F;
-		relShowdownProb[4976] = 2.4610298F;
-		relShowdownProb[4977] = 2.324602F;
-		relShowdownProb[4978] = 2.9227803F;
-		relShowdownProb[4979] = 2.6462073F;
-		relShowdownProb[4980] = 2.8438826F;
-		relShowdownProb[4981] = 2.9238622F;
-		relShowdownProb[4982] = 2.9643526F;
-		relShowdownProb[4983] = 3.0463457F;
-		relShowdownProb[4985] = 1.9147732F;
-		relShowdownProb[4986] = 2.8420534F;
-		relShowdownProb[4987] = 2.9440358F;
-		relShowdownProb[4988] = 2.768023F;
-		relShowdownProb[4989] = 3.1604762F;
-		relShowdownProb[4990] = 2.9381597F;
-		relShowdownProb[4991] = 2.9500666F;
-		relShowdownProb[4992] = 3.1271064F;
-		relShowdownProb[4993] = 3.1260445F;
-		relShowdownProb[4994] = 3.4197426F;
-		relShowdownProb[5003] = 1.3622892F;
-		relShowdownProb[5004] = 1.8163856F;
-		relShowdownProb[5007] = 1.0898314F;
-		relShowdownProb[5008] = 1.1806507F;
-		relShowdownProb[5009] = 1.7255664F;
-		relShowdownProb[5012] = 1.0898314F;
-		relShowdownProb[5013] = 1.27147F;
-		relShowdownProb[5014] = 1.3622892F;
-		relShowdownProb[5015] = 1.3077977F;
-		relShowdownProb[5018] = 0.8173735F;
-		relShowdownProb[5019] = 1.3622892F;
-		relShowdownProb[5020] = 1.0444218F;
-		relShowdownProb[5021] = 1.144323F;
-		relShowdownProb[5022] = 1.2533062F;
-		relShowdownProb[5025] = 1.9072049F;
-		relShowdownProb[5026] = 1.1806507F;
-		relShowdownProb[5027] = 0.7719639F;
-		relShowdownProb[5028] = 1.144323F;
-		relShowdownProb[5029] = 1.2533062F;
-		relShowdownProb[5030] = 1.27147F;
-		relShowdownProb[5033] = 1.0898314F;
-		relShowdownProb[5034] = 1.27147F;
-		relShowdownProb[5035] = 0.9081928F;
-		relShowdownProb[5036] = 0.84461933F;
-		relShowdownProb[5037] = 1.1079953F;
-		relShowdownProb[5038] = 0.9730637F;
-		relShowdownProb[5039] = 1.0801008F;
-		relShowdownProb[5042] = 1.634747F;
-		relShowdownProb[5043] = 1.4531085F;
-		relShowdownProb[5044] = 0.9081928F;
-		relShowdownProb[5045] = 1.0353398F;
-		relShowdownProb[5046] = 1.2169784F;
-		relShowdownProb[5047] = 1.0898314F;
-		relShowdownProb[5048] = 1.1774071F;
-		relShowdownProb[5049] = 1.1806507F;
-		relShowdownProb[5053] = 1.8163856F;
-		relShowdownProb[5054] = 1.3622892F;
-		relShowdownProb[5055] = 1.4985181F;
-		relShowdownProb[5056] = 1.652911F;
-		relShowdownProb[5057] = 1.3233666F;
-		relShowdownProb[5058] = 1.4012117F;
-		relShowdownProb[5059] = 1.4001306F;
-		relShowdownProb[5060] = 1.3986169F;
-		relShowdownProb[5069] = 0.5449157F;
-		relShowdownProb[5070] = 1.634747F;
-		relShowdownProb[5073] = 1.634747F;
-		relShowdownProb[5074] = 1.5439278F;
-		relShowdownProb[5075] = 1.770976F;
-		relShowdownProb[5078] = 2.1796627F;
-		relShowdownProb[5079] = 1.634747F;
-		relShowdownProb[5080] = 1.3622892F;
-		relShowdownProb[5081] = 1.3895351F;
-		relShowdownProb[5084] = 1.634747F;
-		relShowdownProb[5085] = 1.4531085F;
-		relShowdownProb[5086] = 1.9072049F;
-		relShowdownProb[5087] = 1.4712723F;
-		relShowdownProb[5088] = 1.2533062F;
-		relShowdownProb[5091] = 1.0898314F;
-		relShowdownProb[5092] = 1.3622892F;
-		relShowdownProb[5093] = 1.1806507F;
-		relShowdownProb[5094] = 1.144323F;
-		relShowdownProb[5095] = 1.4712723F;
-		relShowdownProb[5096] = 1.4012117F;
-		relShowdownProb[5099] = 1.3622892F;
-		relShowdownProb[5100] = 0.7265543F;
-		relShowdownProb[5101] = 1.2260603F;
-		relShowdownProb[5102] = 1.3077977F;
-		relShowdownProb[5103] = 1.3259615F;
-		relShowdownProb[5104] = 1.206599F;
-		relShowdownProb[5105] = 0.9730637F;
-		relShowdownProb[5108] = 1.9072049F;
-		relShowdownProb[5109] = 1.4531085F;
-		relShowdownProb[5110] = 1.3622892F;
-		relShowdownProb[5111] = 1.2533062F;
-		relShowdownProb[5112] = 1.3441254F;
-		relShowdownProb[5113] = 1.0379347F;
-		relShowdownProb[5114] = 1.2455215F;
-		relShowdownProb[5115] = 1.1201044F;
-		relShowdownProb[5119] = 1.5439278F;
-		relShowdownProb[5120] = 0.8627832F;
-		relShowdownProb[5121] = 1.3622892F;
-		relShowdownProb[5122] = 1.652911F;
-		relShowdownProb[5123] = 1.5439278F;
-		relShowdownProb[5124] = 1.4595956F;
-		relShowdownProb[5125] = 1.4985181F;
-		relShowdownProb[5126] = 1.5136547F;
-		relShowdownProb[5135] = 2.4521205F;
-		relShowdownProb[5136] = 2.1796627F;
-		relShowdownProb[5139] = 1.9072049F;
-		relShowdownProb[5140] = 1.8163856F;
-		relShowdownProb[5141] = 1.525764F;
-		relShowdownProb[5144] = 0.8173735F;
-		relShowdownProb[5145] = 1.9980242F;
-		relShowdownProb[5146] = 1.7255664F;
-		relShowdownProb[5147] = 1.5530097F;
-		relShowdownProb[5150] = 2.7245784F;
-		relShowdownProb[5151] = 1.634747F;
-		relShowdownProb[5152] = 1.9980242F;
-		relShowdownProb[5153] = 1.1988145F;
-		relShowdownProb[5154] = 1.3622892F;
-		relShowdownProb[5157] = 1.634747F;
-		relShowdownProb[5158] = 1.0898314F;
-		relShowdownProb[5159] = 1.5439278F;
-		relShowdownProb[5160] = 1.3350434F;
-		relShowdownProb[5161] = 1.27147F;
-		relShowdownProb[5162] = 1.5050052F;
-		relShowdownProb[5165] = 0.8173735F;
-		relShowdownProb[5166] = 1.1806507F;
-		relShowdownProb[5167] = 1.6801567F;
-		relShowdownProb[5168] = 1.2533062F;
-		relShowdownProb[5169] = 1.3986169F;
-		relShowdownProb[5170] = 1.3752635F;
-		relShowdownProb[5171] = 1.4109424F;
-		relShowdownProb[5174] = 1.634747F;
-		relShowdownProb[5175] = 1.7255664F;
-		relShowdownProb[5176] = 1.8617953F;
-		relShowdownProb[5177] = 1.3895351F;
-		relShowdownProb[5178] = 1.4167808F;
-		relShowdownProb[5179] = 1.1287539F;
-		relShowdownProb[5180] = 1.4012117F;
-		relShowdownProb[5181] = 1.27147F;
-		relShowdownProb[5185] = 1.9072049F;
-		relShowdownProb[5186] = 1.770976F;
-		relShowdownProb[5187] = 1.9072049F;
-		relShowdownProb[5188] = 1.5984193F;
-		relShowdownProb[5189] = 1.634747F;
-		relShowdownProb[5190] = 1.5569019F;
-		relShowdownProb[5191] = 1.384994F;
-		relShowdownProb[5192] = 1.6165832F;
-		relShowdownProb[5201] = 1.9072049F;
-		relShowdownProb[5202] = 2.8608074F;
-		relShowdownProb[5205] = 1.0898314F;
-		relShowdownProb[5206] = 2.270482F;
-		relShowdownProb[5207] = 1.8527133F;
-		relShowdownProb[5210] = 0.8173735F;
-		relShowdownProb[5211] = 1.5439278F;
-		relShowdownProb[5212] = 2.2250724F;
-		relShowdownProb[5213] = 1.5439278F;
-		relShowdownProb[5216] = 2.4521205F;
-		relShowdownProb[5217] = 1.9980242F;
-		relShowdownProb[5218] = 1.3622892F;
-		relShowdownProb[5219] = 1.7982218F;
-		relShowdownProb[5220] = 1.7074025F;
-		relShowdownProb[5223] = 1.0898314F;
-		relShowdownProb[5224] = 1.5439278F;
-		relShowdownProb[5225] = 2.134253F;
-		relShowdownProb[5226] = 1.6892387F;
-		relShowdownProb[5227] = 1.3986169F;
-		relShowdownProb[5228] = 1.5569019F;
-		relShowdownProb[5231] = 0.8173735F;
-		relShowdownProb[5232] = 1.5439278F;
-		relShowdownProb[5233] = 1.6801567F;
-		relShowdownProb[5234] = 1.5530097F;
-		relShowdownProb[5235] = 1.8163856F;
-		relShowdownProb[5236] = 1.6217729F;
-		relShowdownProb[5237] = 1.4012117F;
-		relShowdownProb[5240] = 1.3622892F;
-		relShowdownProb[5241] = 2.1796627F;
-		relShowdownProb[5242] = 1.5893375F;
-		relShowdownProb[5243] = 1.7164844F;
-		relShowdownProb[5244] = 1.7982218F;
-		relShowdownProb[5245] = 1.2195733F;
-		relShowdownProb[5246] = 1.5471714F;
-		relShowdownProb[5247] = 1.5136547F;
-		relShowdownProb[5251] = 2.1796627F;
-		relShowdownProb[5252] = 1.7255664F;
-		relShowdownProb[5253] = 1.9344507F;
-		relShowdownProb[5254] = 1.6165832F;
-		relShowdownProb[5255] = 1.6736696F;
-		relShowdownProb[5256] = 1.5277101F;
-		relShowdownProb[5257] = 1.717998F;
-		relShowdownProb[5258] = 1.7074025F;
-		relShowdownProb[5267] = 1.3622892F;
-		relShowdownProb[5268] = 2.4521205F;
-		relShowdownProb[5271] = 2.1796627F;
-		relShowdownProb[5272] = 2.270482F;
-		relShowdownProb[5273] = 1.7437302F;
-		relShowdownProb[5276] = 0.8173735F;
-		relShowdownProb[5277] = 2.0888436F;
-		relShowdownProb[5278] = 1.9526145F;
-		relShowdownProb[5279] = 2.1191165F;
-		relShowdownProb[5282] = 1.0898314F;
-		relShowdownProb[5283] = 1.634747F;
-		relShowdownProb[5284] = 2.043434F;
-		relShowdownProb[5285] = 1.7164844F;
-		relShowdownProb[5286] = 2.199124F;
-		relShowdownProb[5289] = 1.3622892F;
-		relShowdownProb[5290] = 2.0888436F;
-		relShowdownProb[5291] = 1.7255664F;
-		relShowdownProb[5292] = 1.525764F;
-		relShowdownProb[5293] = 1.5984193F;
-		relShowdownProb[5294] = 2.0888436F;
-		relShowdownProb[5297] = 2.1796627F;
-		relShowdownProb[5298] = 1.5439278F;
-		relShowdownProb[5299] = 1.7255664F;
-		relShowdownProb[5300] = 1.770976F;
-		relShowdownProb[5301] = 1.4894363F;
-		relShowdownProb[5302] = 1.7515147F;
-		relShowdownProb[5303] = 1.663939F;
-		relShowdownProb[5306] = 1.9072049F;
-		relShowdownProb[5307] = 1.4531085F;
-		relShowdownProb[5308] = 1.9526145F;
-		relShowdownProb[5309] = 1.3622892F;
-		relShowdownProb[5310] = 1.5076001F;
-		relShowdownProb[5311] = 1.8293598F;
-		relShowdownProb[5312] = 1.420673F;
-		relShowdownProb[5313] = 1.4001306F;
-		relShowdownProb[5316] = 2.7245784F;
-		relShowdownProb[5317] = 1.5439278F;
-		relShowdownProb[5318] = 2.3158917F;
-		relShowdownProb[5319] = 2.2614002F;
-		relShowdownProb[5320] = 1.7618941F;
-		relShowdownProb[5321] = 1.6087987F;
-		relShowdownProb[5322] = 1.6250165F;
-		relShowdownProb[5323] = 1.8390905F;
-		relShowdownProb[5324] = 1.8708773F;
-		relShowdownProb[5330] = 1.0898314F;
-		relShowdownProb[5333] = 1.634747F;
-		relShowdownProb[5334] = 2.9970362F;
-		relShowdownProb[5337] = 2.7245784F;
-		relShowdownProb[5338] = 2.7245784F;
-		relShowdownProb[5339] = 2.0706797F;
-		relShowdownProb[5342] = 1.3622892F;
-		relShowdownProb[5343] = 1.634747F;
-		relShowdownProb[5344] = 2.54294F;
-		relShowdownProb[5345] = 2.1191165F;
-		relShowdownProb[5348] = 1.0898314F;
-		relShowdownProb[5349] = 1.7255664F;
-		relShowdownProb[5350] = 1.634747F;
-		relShowdownProb[5351] = 2.0706797F;
-		relShowdownProb[5352] = 1.8098985F;
-		relShowdownProb[5355] = 1.0898314F;
-		relShowdownProb[5356] = 1.9980242F;
-		relShowdownProb[5357] = 1.5893375F;
-		relShowdownProb[5358] = 2.2341542F;
-		relShowdownProb[5359] = 2.3068097F;
-		relShowdownProb[5360] = 1.7982218F;
-		relShowdownProb[5363] = 1.0898314F;
-		relShowdownProb[5364] = 1.27147F;
-		relShowdownProb[5365] = 2.270482F;
-		relShowdownProb[5366] = 1.6619929F;
-		relShowdownProb[5367] = 1.9798603F;
-		relShowdownProb[5368] = 1.8812566F;
-		relShowdownProb[5369] = 1.7125921F;
-		relShowdownProb[5372] = 1.9072049F;
-		relShowdownProb[5373] = 1.634747F;
-		relShowdownProb[5374] = 2.134253F;
-		relShowdownProb[5375] = 1.770976F;
-		relShowdownProb[5376] = 1.7255664F;
-		relShowdownProb[5377] = 1.7385405F;
-		relShowdownProb[5378] = 1.8293598F;
-		relShowdownProb[5379] = 1.7255664F;
-		relShowdownProb[5382] = 1.634747F;
-		relShowdownProb[5383] = 2.1796627F;
-		relShowdownProb[5384] = 1.8617953F;
-		relShowdownProb[5385] = 1.9616965F;
-		relShowdownProb[5386] = 1.8163856F;
-		relShowdownProb[5387] = 1.7774631F;
-		relShowdownProb[5388] = 1.8974743F;
-		relShowdownProb[5389] = 1.8163856F;
-		relShowdownProb[5390] = 2.0282972F;
-		relShowdownProb[5396] = 1.634747F;
-		relShowdownProb[5399] = 2.9970362F;
-		relShowdownProb[5400] = 1.7255664F;
-		relShowdownProb[5403] = 1.634747F;
-		relShowdownProb[5404] = 1.8163856F;
-		relShowdownProb[5405] = 2.288646F;
-		relShowdownProb[5408] = 0.8173735F;
-		relShowdownProb[5409] = 2.270482F;
-		relShowdownProb[5410] = 2.3158917F;
-		relShowdownProb[5411] = 2.906217F;
-		relShowdownProb[5414] = 1.634747F;
-		relShowdownProb[5415] = 0.9081928F;
-		relShowdownProb[5416] = 1.7255664F;
-		relShowdownProb[5417] = 1.9889423F;
-		relShowdownProb[5418] = 2.4521205F;
-		relShowdownProb[5421] = 1.634747F;
-		relShowdownProb[5422] = 1.9980242F;
-		relShowdownProb[5423] = 1.7255664F;
-		relShowdownProb[5424] = 2.0979254F;
-		relShowdownProb[5425] = 2.0161881F;
-		relShowdownProb[5426] = 2.1251712F;
-		relShowdownProb[5429] = 2.1796627F;
-		relShowdownProb[5430] = 1.7255664F;
-		relShowdownProb[5431] = 1.9526145F;
-		relShowdownProb[5432] = 1.4167808F;
-		relShowdownProb[5433] = 2.1070073F;
-		relShowdownProb[5434] = 2.0369468F;
-		relShowdownProb[5435] = 1.8466587F;
-		relShowdownProb[5438] = 1.9072049F;
-		relShowdownProb[5439] = 1.9980242F;
-		relShowdownProb[5440] = 1.5439278F;
-		relShowdownProb[5441] = 1.9072049F;
-		relShowdownProb[5442] = 1.9980242F;
-		relShowdownProb[5443] = 1.8682823F;
-		relShowdownProb[5444] = 2.0239725F;
-		relShowdownProb[5445] = 1.8693635F;
-		relShowdownProb[5448] = 2.1796627F;
-		relShowdownProb[5449] = 1.8163856F;
-		relShowdownProb[5450] = 1.9980242F;
-		relShowdownProb[5451] = 1.9889423F;
-		relShowdownProb[5452] = 1.9616965F;
-		relShowdownProb[5453] = 2.5169916F;
-		relShowdownProb[5454] = 2.0823565F;
-		relShowdownProb[5455] = 1.9753194F;
-		relShowdownProb[5456] = 1.9798603F;
-		relShowdownProb[5462] = 2.4521205F;
-		relShowdownProb[5465] = 2.7245784F;
-		relShowdownProb[5466] = 1.3622892F;
-		relShowdownProb[5469] = 2.1796627F;
-		relShowdownProb[5470] = 2.3613014F;
-		relShowdownProb[5471] = 2.5883496F;
-		relShowdownProb[5474] = 1.3622892F;
-		relShowdownProb[5475] = 1.9980242F;
-		relShowdownProb[5476] = 1.5439278F;
-		relShowdownProb[5477] = 2.7245784F;
-		relShowdownProb[5480] = 1.9072049F;
-		relShowdownProb[5481] = 2.3613014F;
-		relShowdownProb[5482] = 2.4521205F;
-		relShowdownProb[5483] = 2.4248748F;
-		relShowdownProb[5484] = 2.6467333F;
-		relShowdownProb[5487] = 1.3622892F;
-		relShowdownProb[5488] = 1.634747F;
-		relShowdownProb[5489] = 2.4975302F;
-		relShowdownProb[5490] = 2.0706797F;
-		relShowdownProb[5491] = 2.5611038F;
-		relShowdownProb[5492] = 2.629218F;
-		relShowdownProb[5495] = 1.9072049F;
-		relShowdownProb[5496] = 1.9072049F;
-		relShowdownProb[5497] = 1.8163856F;
-		relShowdownProb[5498] = 2.5883496F;
-		relShowdownProb[5499] = 2.415793F;
-		relShowdownProb[5500] = 2.192637F;
-		relShowdownProb[5501] = 2.54294F;
-		relShowdownProb[5504] = 3.269494F;
-		relShowdownProb[5505] = 1.9980242F;
-		relShowdownProb[5506] = 2.270482F;
-		relShowdownProb[5507] = 1.634747F;
-		relShowdownProb[5508] = 2.288646F;
-		relShowdownProb[5509] = 2.478069F;
-		relShowdownProb[5510] = 2.0337033F;
-		relShowdownProb[5511] = 2.1796627F;
-		relShowdownProb[5514] = 2.4521205F;
-		relShowdownProb[5515] = 2.6337593F;
-		relShowdownProb[5516] = 1.9980242F;
-		relShowdownProb[5517] = 2.1796627F;
-		relShowdownProb[5518] = 2.1978266F;
-		relShowdownProb[5519] = 2.2445338F;
-		relShowdownProb[5520] = 2.3158917F;
-		relShowdownProb[5521] = 2.2780504F;
-		relShowdownProb[5522] = 2.5550492F;
-		relShowdownProb[5528] = 2.7245784F;
-		relShowdownProb[5531] = 2.9970362F;
-		relShowdownProb[5532] = 1.3622892F;
-		relShowdownProb[5535] = 2.4521205F;
-		relShowdownProb[5536] = 2.270482F;
-		relShowdownProb[5537] = 2.4067109F;
-		relShowdownProb[5540] = 2.7245784F;
-		relShowdownProb[5541] = 1.8163856F;
-		relShowdownProb[5542] = 2.3158917F;
-		relShowdownProb[5543] = 2.642841F;
-		relShowdownProb[5546] = 1.3622892F;
-		relShowdownProb[5547] = 3.0878556F;
-		relShowdownProb[5548] = 2.7245784F;
-		relShowdownProb[5549] = 2.5883496F;
-		relShowdownProb[5550] = 2.763501F;
-		relShowdownProb[5553] = 2.1796627F;
-		relShowdownProb[5554] = 2.7245784F;
-		relShowdownProb[5555] = 2.5883496F;
-		relShowdownProb[5556] = 2.5611038F;
-		relShowdownProb[5557] = 2.9788725F;
-		relShowdownProb[5558] = 3.1196423F;
-		relShowdownProb[5561] = 2.7245784F;
-		relShowdownProb[5562] = 2.270482F;
-		relShowdownProb[5563] = 2.3158917F;
-		relShowdownProb[5564] = 2.7245784F;
-		relShowdownProb[5565] = 2.4339569F;
-		relShowdownProb[5566] = 2.5818624F;
-		relShowdownProb[5567] = 3.0172184F;
-		relShowdownProb[5570] = 1.9072049F;
-		relShowdownProb[5571] = 1.7255664F;
-		relShowdownProb[5572] = 2.134253F;
-		relShowdownProb[5573] = 2.3431375F;
-		relShowdownProb[5574] = 2.6337593F;
-		relShowdownProb[5575] = 2.971088F;
-		relShowdownProb[5576] = 2.5883496F;
-		relShowdownProb[5577] = 2.5299656F;
-		relShowdownProb[5580] = 2.4521205F;
-		relShowdownProb[5581] = 3.178675F;
-		relShowdownProb[5582] = 2.270482F;
-		relShowdownProb[5583] = 2.288646F;
-		relShowdownProb[5584] = 2.2523181F;
-		relShowdownProb[5585] = 3.0100105F;
-		relShowdownProb[5586] = 2.8608074F;
-		relShowdownProb[5587] = 2.8078294F;
-		relShowdownProb[5588] = 2.823654F;
-		relShowdownProb[5594] = 1.634747F;
-		relShowdownProb[5597] = 1.3622892F;
-		relShowdownProb[5598] = 2.0888436F;
-		relShowdownProb[5601] = 2.1796627F;
-		relShowdownProb[5602] = 2.270482F;
-		relShowdownProb[5603] = 2.4521205F;
-		relShowdownProb[5606] = 2.7245784F;
-		relShowdownProb[5607] = 2.8153977F;
-		relShowdownProb[5608] = 1.8617953F;
-		relShowdownProb[5609] = 2.7245784F;
-		relShowdownProb[5612] = 2.9970362F;
-		relShowdownProb[5613] = 2.270482F;
-		relShowdownProb[5614] = 1.634747F;
-		relShowdownProb[5615] = 2.5883496F;
-		relShowdownProb[5616] = 2.8880532F;
-		relShowdownProb[5619] = 1.9072049F;
-		relShowdownProb[5620] = 2.906217F;
-		relShowdownProb[5621] = 3.0878556F;
-		relShowdownProb[5622] = 2.5611038F;
-		relShowdownProb[5623] = 2.7609062F;
-		relShowdownProb[5624] = 3.283117F;
-		relShowdownProb[5627] = 2.9970362F;
-		relShowdownProb[5628] = 2.270482F;
-		relShowdownProb[5629] = 2.134253F;
-		relShowdownProb[5630] = 2.397629F;
-		relShowdownProb[5631] = 2.7064147F;
-		relShowdownProb[5632] = 2.620785F;
-		relShowdownProb[5633] = 3.269494F;
-		relShowdownProb[5636] = 2.4521205F;
-		relShowdownProb[5637] = 2.3613014F;
-		relShowdownProb[5638] = 2.1796627F;
-		relShowdownProb[5639] = 2.1796627F;
-		relShowdownProb[5640] = 2.1796627F;
-		relShowdownProb[5641] = 2.620785F;
-		relShowdownProb[5642] = 2.6661947F;
-		relShowdownProb[5643] = 2.9191911F;
-		relShowdownProb[5646] = 2.4521205F;
-		relShowdownProb[5647] = 3.0878556F;
-		relShowdownProb[5648] = 2.5883496F;
-		relShowdownProb[5649] = 2.4793663F;
-		relShowdownProb[5650] = 2.5974314F;
-		relShowdownProb[5651] = 2.750527F;
-		relShowdownProb[5652] = 3.0943427F;
-		relShowdownProb[5653] = 3.15597F;
-		relShowdownProb[5654] = 3.0527663F;
-		relShowdownProb[5660] = 4.6317835F;
-		relShowdownProb[5663] = 2.1796627F;
-		relShowdownProb[5664] = 2.270482F;
-		relShowdownProb[5667] = 2.7245784F;
-		relShowdownProb[5668] = 2.1796627F;
-		relShowdownProb[5669] = 2.270482F;
-		relShowdownProb[5672] = 2.4521205F;
-		relShowdownProb[5673] = 2.54294F;
-		relShowdownProb[5674] = 2.3613014F;
-		relShowdownProb[5675] = 2.4793663F;
-		relShowdownProb[5678] = 3.541952F;
-		relShowdownProb[5679] = 2.4521205F;
-		relShowdownProb[5680] = 2.043434F;
-		relShowdownProb[5681] = 2.4248748F;
-		relShowdownProb[5682] = 3.1060195F;
-		relShowdownProb[5685] = 2.4521205F;
-		relShowdownProb[5686] = 3.269494F;
-		relShowdownProb[5687] = 2.3613014F;
-		relShowdownProb[5688] = 2.2341542F;
-		relShowdownProb[5689] = 2.5066123F;
-		relShowdownProb[5690] = 2.841346F;
-		relShowdownProb[5693] = 3.541952F;
-		relShowdownProb[5694] = 3.0878556F;
-		relShowdownProb[5695] = 2.6337593F;
-		relShowdownProb[5696] = 2.533858F;
-		relShowdownProb[5697] = 2.7972338F;
-		relShowdownProb[5698] = 3.1008298F;
-		relShowdownProb[5699] = 3.5924072F;
-		relShowdownProb[5702] = 2.4521205F;
-		relShowdownProb[5703] = 3.6327713F;
-		relShowdownProb[5704] = 2.6337593F;
-		relShowdownProb[5705] = 2.533858F;
-		relShowdownProb[5706] = 2.9607086F;
-		relShowdownProb[5707] = 3.0359588F;
-		relShowdownProb[5708] = 3.191649F;
-		relShowdownProb[5709] = 3.160511F;
-		relShowdownProb[5712] = 2.4521205F;
-		relShowdownProb[5713] = 2.7245784F;
-		relShowdownProb[5714] = 2.9516268F;
-		relShowdownProb[5715] = 3.051528F;
-		relShowdownProb[5716] = 2.8517253F;
-		relShowdownProb[5717] = 2.9321654F;
-		relShowdownProb[5718] = 3.4932988F;
-		relShowdownProb[5719] = 3.678181F;
-		relShowdownProb[5720] = 3.374762F;
-		relShowdownProb[5726] = 2.9970362F;
-		relShowdownProb[5729] = 1.634747F;
-		relShowdownProb[5730] = 1.634747F;
-		relShowdownProb[5733] = 1.3622892F;
-		relShowdownProb[5734] = 1.4531085F;
-		relShowdownProb[5735] = 2.8153977F;
-		relShowdownProb[5738] = 1.3622892F;
-		relShowdownProb[5739] = 1.9980242F;
-		relShowdownProb[5740] = 1.9072049F;
-		relShowdownProb[5741] = 2.1251712F;
-		relShowdownProb[5744] = 3.269494F;
-		relShowdownProb[5745] = 2.906217F;
-		relShowdownProb[5746] = 2.9970362F;
-		relShowdownProb[5747] = 2.1796627F;
-		relShowdownProb[5748] = 2.7245784F;
-		relShowdownProb[5751] = 2.1796627F;
-		relShowdownProb[5752] = 2.54294F;
-		relShowdownProb[5753] = 2.4067109F;
-		relShowdownProb[5754] = 2.3703833F;
-		relShowdownProb[5755] = 2.5611038F;
-		relShowdownProb[5756] = 3.0229847F;
-		relShowdownProb[5759] = 2.9970362F;
-		relShowdownProb[5760] = 2.6337593F;
-		relShowdownProb[5761] = 2.270482F;
-		relShowdownProb[5762] = 2.8608074F;
-		relShowdownProb[5763] = 2.906217F;
-		relShowdownProb[5764] = 2.8543203F;
-		relShowdownProb[5765] = 3.4446456F;
-		relShowdownProb[5768] = 1.9072049F;
-		relShowdownProb[5769] = 3.9960485F;
-		relShowdownProb[5770] = 2.8153977F;
-		relShowdownProb[5771] = 3.1060195F;
-		relShowdownProb[5772] = 2.906217F;
-		relShowdownProb[5773] = 3.191649F;
-		relShowdownProb[5774] = 3.3862617F;
-		relShowdownProb[5775] = 3.2305715F;
-		relShowdownProb[5778] = 3.541952F;
-		relShowdownProb[5779] = 3.178675F;
-		relShowdownProb[5780] = 3.405723F;
-		relShowdownProb[5781] = 3.541952F;
-		relShowdownProb[5782] = 2.9970362F;
-		relShowdownProb[5783] = 3.4511328F;
-		relShowdownProb[5784] = 3.2013798F;
-		relShowdownProb[5785] = 3.5873616F;
-		relShowdownProb[5786] = 3.3252242F;
-		relShowdownProb[5795] = 2.9970362F;
-		relShowdownProb[5796] = 3.6327713F;
-		relShowdownProb[5799] = 2.1796627F;
-		relShowdownProb[5800] = 2.1796627F;
-		relShowdownProb[5801] = 2.3158917F;
-		relShowdownProb[5804] = 1.0898314F;
-		relShowdownProb[5805] = 2.4521205F;
-		relShowdownProb[5806] = 2.9516268F;
-		relShowdownProb[5807] = 2.642841F;
-		relShowdownProb[5810] = 1.3622892F;
-		relShowdownProb[5811] = 2.270482F;
-		relShowdownProb[5812] = 2.9516268F;
-		relShowdownProb[5813] = 2.806316F;
-		relShowdownProb[5814] = 2.7245784F;
-		relShowdownProb[5817] = 1.634747F;
-		relShowdownProb[5818] = 2.906217F;
-		relShowdownProb[5819] = 3.3149037F;
-		relShowdownProb[5820] = 2.806316F;
-		relShowdownProb[5821] = 2.7427423F;
-		relShowdownProb[5822] = 2.8543203F;
-		relShowdownProb[5825] = 3.8144097F;
-		relShowdownProb[5826] = 2.6337593F;
-		relShowdownProb[5827] = 2.769988F;
-		relShowdownProb[5828] = 3.1332653F;
-		relShowdownProb[5829] = 3.142347F;
-		relShowdownProb[5830] = 3.1008298F;
-		relShowdownProb[5831] = 3.5711439F;
-		relShowdownProb[5834] = 3.269494F;
-		relShowdownProb[5835] = 3.0878556F;
-		relShowdownProb[5836] = 2.906217F;
-		relShowdownProb[5837] = 2.9697905F;
-		relShowdownProb[5838] = 2.9970362F;
-		relShowdownProb[5839] = 3.0100105F;
-		relShowdownProb[5840] = 3.726834F;
-		relShowdownProb[5841] = 3.6706126F;
-		relShowdownProb[5844] = 4.904241F;
-		relShowdownProb[5845] = 3.0878556F;
-		relShowdownProb[5846] = 4.086868F;
-		relShowdownProb[5847] = 3.1877568F;
-		relShowdownProb[5848] = 2.7972338F;
-		relShowdownProb[5849] = 3.4641068F;
-		relShowdownProb[5850] = 3.6587195F;
-		relShowdownProb[5851] = 3.8825243F;
-		relShowdownProb[5852] = 4.31598F;
-		relShowdownProb[5853] = 1.0685371F;
-		relShowdownProb[5854] = 0.7958066F;
-		relShowdownProb[5855] = 0.90727437F;
-		relShowdownProb[5856] = 1.093663F;
-		relShowdownProb[5857] = 1.1452854F;
-		relShowdownProb[5858] = 1.3654798F;
-		relShowdownProb[5859] = 1.5774513F;
-		relShowdownProb[5860] = 1.746937F;
-		relShowdownProb[5861] = 1.9945416F;
-		relShowdownProb[5862] = 3.015019F;
-		relShowdownProb[5863] = 1.6744576F;
-		relShowdownProb[5864] = 1.3023559F;
-		relShowdownProb[5865] = 1.3023559F;
-		relShowdownProb[5866] = 1.3023559F;
-		relShowdownProb[5867] = 1.116305F;
-		relShowdownProb[5868] = 0.5581525F;
-		relShowdownProb[5869] = 1.0232795F;
-		relShowdownProb[5870] = 1.2093304F;
-		relShowdownProb[5871] = 2.1395845F;
-		relShowdownProb[5872] = 1.2093304F;
-		relShowdownProb[5873] = 1.3953813F;
-		relShowdownProb[5874] = 1.0232795F;
-		relShowdownProb[5875] = 0.44187075F;
-		relShowdownProb[5876] = 0.93025416F;
-		relShowdownProb[5877] = 1.767483F;
-		relShowdownProb[5878] = 1.6791089F;
-		relShowdownProb[5879] = 1.5814321F;
-		relShowdownProb[5880] = 2.0326054F;
-		relShowdownProb[5881] = 0.65117794F;
-		relShowdownProb[5882] = 0.8372288F;
-		relShowdownProb[5883] = 0.8372288F;
-		relShowdownProb[5884] = 1.2093304F;
-		relShowdownProb[5885] = 0.93025416F;
-		relShowdownProb[5886] = 0.7442033F;
-		relShowdownProb[5887] = 0.7442033F;
-		relShowdownProb[5888] = 1.116305F;
-		relShowdownProb[5889] = 1.0604898F;
-		relShowdownProb[5890] = 0.93025416F;
-		relShowdownProb[5891] = 1.116305F;
-		relShowdownProb[5892] = 1.237238F;
-		relShowdownProb[5893] = 1.8605083F;
-		relShowdownProb[5894] = 1.3256122F;
-		relShowdownProb[5895] = 1.767483F;
-		relShowdownProb[5896] = 0.5581525F;
-		relShowdownProb[5897] = 0.93025416F;
-		relShowdownProb[5898] = 1.116305F;
-		relShowdownProb[5899] = 1.237238F;
-		relShowdownProb[5900] = 1.3953813F;
-		relShowdownProb[5901] = 0.65117794F;
-		relShowdownProb[5902] = 0.7953673F;
-		relShowdownProb[5903] = 1.116305F;
-		relShowdownProb[5904] = 2.2093537F;
-		relShowdownProb[5905] = 2.4408097F;
-		relShowdownProb[5906] = 0.93025416F;
-		relShowdownProb[5907] = 2.23261F;
-		relShowdownProb[5908] = 1.1488639F;
-		relShowdownProb[5909] = 1.6744576F;
-		relShowdownProb[5910] = 1.9442313F;
-		relShowdownProb[5911] = 2.1856434F;
-		relShowdownProb[5912] = 2.046559F;
-		relShowdownProb[5913] = 2.2093537F;
-		relShowdownProb[5914] = 2.690023F;
-		relShowdownProb[5915] = 0.46512708F;
-		relShowdownProb[5916] = 1.2093304F;
-		relShowdownProb[5917] = 0.8372288F;
-		relShowdownProb[5918] = 1.5814321F;
-		relShowdownProb[5919] = 1.3023559F;
-		relShowdownProb[5920] = 0.7442033F;
-		relShowdownProb[5921] = 1.3953813F;
-		relShowdownProb[5922] = 1.2093304F;
-		relShowdownProb[5923] = 1.237238F;
-		relShowdownProb[5924] = 1.2093304F;
-		relShowdownProb[5925] = 1.3023559F;
-		relShowdownProb[5926] = 1.5023605F;
-		relShowdownProb[5927] = 1.3023559F;
-		relShowdownProb[5928] = 1.3256122F;
-		relShowdownProb[5929] = 1.1488639F;
-		relShowdownProb[5930] = 0.8372288F;
-		relShowdownProb[5931] = 0.93025416F;
-		relShowdownProb[5932] = 0.5581525F;
-		relShowdownProb[5933] = 1.4139863F;
-		relShowdownProb[5934] = 0.93025416F;
-		relShowdownProb[5935] = 1.6744576F;
-		relShowdownProb[5936] = 0.97211564F;
-		relShowdownProb[5937] = 1.2093304F;
-		relShowdownProb[5938] = 1.237238F;
-		relShowdownProb[5939] = 1.767483F;
-		relShowdownProb[5940] = 1.2093304F;
-		relShowdownProb[5941] = 1.3953813F;
-		relShowdownProb[5942] = 1.3256122F;
-		relShowdownProb[5943] = 1.8605083F;
-		relShowdownProb[5944] = 0.97211564F;
-		relShowdownProb[5945] = 2.017517F;
-		relShowdownProb[5946] = 1.116305F;
-		relShowdownProb[5947] = 1.8558571F;
-		relShowdownProb[5948] = 1.5972011F;
-		relShowdownProb[5949] = 2.017517F;
-		relShowdownProb[5950] = 0.65117794F;
-		relShowdownProb[5951] = 0.8372288F;
-		relShowdownProb[5952] = 0.46512708F;
-		relShowdownProb[5953] = 0.70699316F;
-		relShowdownProb[5954] = 1.0232795F;
-		relShowdownProb[5955] = 1.3023559F;
-		relShowdownProb[5956] = 0.97211564F;
-		relShowdownProb[5957] = 1.116305F;
-		relShowdownProb[5958] = 1.3256122F;
-		relShowdownProb[5959] = 1.9358146F;
-		relShowdownProb[5960] = 1.6744576F;
-		relShowdownProb[5961] = 1.3023559F;
-		relShowdownProb[5962] = 1.0604898F;
-		relShowdownProb[5963] = 1.3953813F;
-		relShowdownProb[5964] = 0.97211564F;
-		relShowdownProb[5965] = 1.2609482F;
-		relShowdownProb[5966] = 1.5814321F;
-		relShowdownProb[5967] = 1.767483F;
-		relShowdownProb[5968] = 1.2609482F;
-		relShowdownProb[5969] = 1.4427594F;
-		relShowdownProb[5970] = 1.3023559F;
-		relShowdownProb[5971] = 1.0232795F;
-		relShowdownProb[5972] = 1.6791089F;
-		relShowdownProb[5973] = 1.6744576F;
-		relShowdownProb[5974] = 0.70699316F;
-		relShowdownProb[5975] = 0.9246954F;
-		relShowdownProb[5976] = 1.3953813F;
-		relShowdownProb[5977] = 1.9442313F;
-		relShowdownProb[5978] = 1.6812643F;
-		relShowdownProb[5979] = 2.0015051F;
-		relShowdownProb[5980] = 1.3953813F;
-		relShowdownProb[5981] = 1.0604898F;
-		relShowdownProb[5982] = 2.1015804F;
-		relShowdownProb[5983] = 2.401806F;
-		relShowdownProb[5984] = 0.93025416F;
-		relShowdownProb[5985] = 0.93025416F;
-		relShowdownProb[5986] = 1.0232795F;
-		relShowdownProb[5987] = 1.8605083F;
-		relShowdownProb[5988] = 1.3953813F;
-		relShowdownProb[5989] = 1.0232795F;
-		relShowdownProb[5990] = 0.7442033F;
-		relShowdownProb[5991] = 0.7442033F;
-		relShowdownProb[5992] = 0.97211564F;
-		relShowdownProb[5993] = 0.46512708F;
-		relShowdownProb[5994] = 1.3953813F;
-		relShowdownProb[5995] = 1.5907346F;
-		relShowdownProb[5996] = 0.5581525F;
-		relShowdownProb[5997] = 2.0326054F;
-		relShowdownProb[5998] = 1.5907346F;
-		relShowdownProb[5999] = 0.8372288F;
-		relShowdownProb[6000] = 0.5581525F;
-		relShowdownProb[6001] = 0.5581525F;
-		relShowdownProb[6002] = 1.5023605F;
-		relShowdownProb[6003] = 1.0232795F;
-		relShowdownProb[6004] = 0.5581525F;
-		relShowdownProb[6005] = 0.8837415F;
-		relShowdownProb[6006] = 1.0232795F;
-		relShowdownProb[6007] = 1.237238F;
-		relShowdownProb[6008] = 1.6833171F;
-		relShowdownProb[6009] = 1.0232795F;
-		relShowdownProb[6010] = 1.4884067F;
-		relShowdownProb[6011] = 0.618619F;
-		relShowdownProb[6012] = 1.4884067F;
-		relShowdownProb[6013] = 0.70699316F;
-		relShowdownProb[6014] = 1.4290746F;
-		relShowdownProb[6015] = 1.3953813F;
-		relShowdownProb[6016] = 1.4139863F;
-		relShowdownProb[6017] = 1.176885F;
-		relShowdownProb[6018] = 1.7653275F;
-		relShowdownProb[6019] = 0.5581525F;
-		relShowdownProb[6020] = 1.3953813F;
-		relShowdownProb[6021] = 1.4884067F;
-		relShowdownProb[6022] = 1.3256122F;
-		relShowdownProb[6023] = 0.93025416F;
-		relShowdownProb[6024] = 0.7442033F;
-		relShowdownProb[6025] = 1.1488639F;
-		relShowdownProb[6026] = 1.116305F;
-		relShowdownProb[6027] = 1.237238F;
-		relShowdownProb[6028] = 1.2624878F;
-		relShowdownProb[6029] = 1.2093304F;
-		relShowdownProb[6030] = 1.3953813F;
-		relShowdownProb[6031] = 1.237238F;
-		relShowdownProb[6032] = 1.116305F;
-		relShowdownProb[6033] = 1.5907346F;
-		relShowdownProb[6034] = 1.5972011F;
-		relShowdownProb[6035] = 1.3953813F;
-		relShowdownProb[6036] = 1.5023605F;
-		relShowdownProb[6037] = 1.5972011F;
-		relShowdownProb[6038] = 1.362606F;
-		relShowdownProb[6039] = 0.5581525F;
-		relShowdownProb[6040] = 1.3953813F;
-		relShowdownProb[6041] = 1.4139863F;
-		relShowdownProb[6042] = 0.93025416F;
-		relShowdownProb[6043] = 1.4139863F;
-		relShowdownProb[6044] = 1.7653275F;
-		relShowdownProb[6045] = 0.93025416F;
-		relShowdownProb[6046] = 1.5907346F;
-		relShowdownProb[6047] = 1.3450115F;
-		relShowdownProb[6048] = 2.2416856F;
-		relShowdownProb[6049] = 1.4884067F;
-		relShowdownProb[6050] = 1.9442313F;
-		relShowdownProb[6051] = 1.0928217F;
-		relShowdownProb[6052] = 2.0015051F;
-		relShowdownProb[6053] = 2.401806F;
-		relShowdownProb[6054] = 1.4884067F;
-		relShowdownProb[6055] = 1.3023559F;
-		relShowdownProb[6056] = 0.8372288F;
-		relShowdownProb[6057] = 1.1488639F;
-		relShowdownProb[6058] = 0.8372288F;
-		relShowdownProb[6059] = 1.0232795F;
-		relShowdownProb[6060] = 0.97211564F;
-		relShowdownProb[6061] = 1.116305F;
-		relShowdownProb[6062] = 1.3256122F;
-		relShowdownProb[6063] = 1.4308195F;
-		relShowdownProb[6064] = 0.65117794F;
-		relShowdownProb[6065] = 0.93025416F;
-		relShowdownProb[6066] = 0.97211564F;
-		relShowdownProb[6067] = 1.0232795F;
-		relShowdownProb[6068] = 1.237238F;
-		relShowdownProb[6069] = 1.4290746F;
-		relShowdownProb[6070] = 1.0232795F;
-		relShowdownProb[6071] = 1.4139863F;
-		relShowdownProb[6072] = 1.5972011F;
-		relShowdownProb[6073] = 1.9236791F;
-		relShowdownProb[6074] = 0.7442033F;
-		relShowdownProb[6075] = 0.65117794F;
-		relShowdownProb[6076] = 1.237238F;
-		relShowdownProb[6077] = 1.4884067F;
-		relShowdownProb[6078] = 1.5023605F;
-		relShowdownProb[6079] = 1.7653275F;
-		relShowdownProb[6080] = 1.0232795F;
-		relShowdownProb[6081] = 1.5907346F;
-		relShowdownProb[6082] = 1.3450115F;
-		relShowdownProb[6083] = 2.0015051F;
-		relShowdownProb[6084] = 2.046559F;
-		relShowdownProb[6085] = 1.767483F;
-		relShowdownProb[6086] = 2.690023F;
-		relShowdownProb[6087] = 1.5211439F;
-		relShowdownProb[6088] = 2.0633698F;
-		relShowdownProb[6089] = 1.2093304F;
-		relShowdownProb[6090] = 1.4884067F;
-		relShowdownProb[6091] = 2.1209795F;
-		relShowdownProb[6092] = 1.0232795F;
-		relShowdownProb[6093] = 1.1488639F;
-		relShowdownProb[6094] = 2.017517F;
-		relShowdownProb[6095] = 1.3953813F;
-		relShowdownProb[6096] = 2.386102F;
-		relShowdownProb[6097] = 1.3450115F;
-		relShowdownProb[6098] = 1.3610234F;
-		relShowdownProb[6099] = 1.2093304F;
-		relShowdownProb[6100] = 1.8558571F;
-		relShowdownProb[6101] = 2.1015804F;
-		relShowdownProb[6102] = 1.8413846F;
-		relShowdownProb[6103] = 1.603066F;
-		relShowdownProb[6104] = 2.046559F;
-		relShowdownProb[6105] = 2.9163468F;
-		relShowdownProb[6106] = 1.6812643F;
-		relShowdownProb[6107] = 2.9622276F;
-		relShowdownProb[6108] = 3.206132F;
-		relShowdownProb[6109] = 1.3023559F;
-		relShowdownProb[6110] = 1.0232795F;
-		relShowdownProb[6111] = 0.7442033F;
-		relShowdownProb[6112] = 1.0232795F;
-		relShowdownProb[6113] = 1.8605083F;
-		relShowdownProb[6114] = 0.93025416F;
-		relShowdownProb[6115] = 1.5814321F;
-		relShowdownProb[6116] = 0.8372288F;
-		relShowdownProb[6117] = 0.97211564F;
-		relShowdownProb[6118] = 0.7442033F;
-		relShowdownProb[6119] = 1.2093304F;
-		relShowdownProb[6120] = 1.5023605F;
-		relShowdownProb[6121] = 1.767483F;
-		relShowdownProb[6122] = 1.237238F;
-		relShowdownProb[6123] = 1.237238F;
-		relShowdownProb[6124] = 1.4884067F;
-		relShowdownProb[6125] = 1.3023559F;
-		relShowdownProb[6126] = 1.767483F;
-		relShowdownProb[6127] = 0.97211564F;
-		relShowdownProb[6128] = 0.93025416F;
-		relShowdownProb[6129] = 1.0232795F;
-		relShowdownProb[6130] = 1.1488639F;
-		relShowdownProb[6131] = 0.93025416F;
-		relShowdownProb[6132] = 1.5907346F;
-		relShowdownProb[6133] = 1.5991513F;
-		relShowdownProb[6134] = 0.93025416F;
-		relShowdownProb[6135] = 0.5581525F;
-		relShowdownProb[6136] = 1.237238F;
-		relShowdownProb[6137] = 0.5581525F;
-		relShowdownProb[6138] = 1.1488639F;
-		relShowdownProb[6139] = 1.5131378F;
-		relShowdownProb[6140] = 1.5814321F;
-		relShowdownProb[6141] = 1.3256122F;
-		relShowdownProb[6142] = 1.7653275F;
-		relShowdownProb[6143] = 1.7653275F;
-		relShowdownProb[6144] = 1.116305F;
-		relShowdownProb[6145] = 1.0232795F;
-		relShowdownProb[6146] = 1.4884067F;
-		relShowdownProb[6147] = 0.97211564F;
-		relShowdownProb[6148] = 1.116305F;
-		relShowdownProb[6149] = 1.116305F;
-		relShowdownProb[6150] = 1.1488639F;
-		relShowdownProb[6151] = 0.93025416F;
-		relShowdownProb[6152] = 1.0604898F;
-		relShowdownProb[6153] = 1.0941561F;
-		relShowdownProb[6154] = 1.2093304F;
-		relShowdownProb[6155] = 0.8372288F;
-		relShowdownProb[6156] = 1.1488639F;
-		relShowdownProb[6157] = 0.93025416F;
-		relShowdownProb[6158] = 1.4139863F;
-		relShowdownProb[6159] = 1.3450115F;
-		relShowdownProb[6160] = 0.7442033F;
-		relShowdownProb[6161] = 1.6791089F;
-		relShowdownProb[6162] = 1.5972011F;
-		relShowdownProb[6163] = 1.7633725F;
-		relShowdownProb[6164] = 1.0232795F;
-		relShowdownProb[6165] = 1.116305F;
-		relShowdownProb[6166] = 1.0604898F;
-		relShowdownProb[6167] = 1.3953813F;
-		relShowdownProb[6168] = 1.1488639F;
-		relShowdownProb[6169] = 1.2609482F;
-		relShowdownProb[6170] = 1.116305F;
-		relShowdownProb[6171] = 1.0604898F;
-		relShowdownProb[6172] = 1.8493907F;
-		relShowdownProb[6173] = 1.5211439F;
-		relShowdownProb[6174] = 1.3953813F;
-		relShowdownProb[6175] = 1.4139863F;
-		relShowdownProb[6176] = 1.5972011F;
-		relShowdownProb[6177] = 2.0015051F;
-		relShowdownProb[6178] = 2.7220469F;
-		relShowdownProb[6179] = 0.7442033F;
-		relShowdownProb[6180] = 1.4884067F;
-		relShowdownProb[6181] = 1.0232795F;
-		relShowdownProb[6182] = 1.3256122F;
-		relShowdownProb[6183] = 1.4884067F;
-		relShowdownProb[6184] = 0.8372288F;
-		relShowdownProb[6185] = 0.5302449F;
-		relShowdownProb[6186] = 1.3023559F;
-		relShowdownProb[6187] = 1.237238F;
-		relShowdownProb[6188] = 2.272478F;
-		relShowdownProb[6189] = 1.2093304F;
-		relShowdownProb[6190] = 1.5814321F;
-		relShowdownProb[6191] = 1.237238F;
-		relShowdownProb[6192] = 1.767483F;
-		relShowdownProb[6193] = 1.6791089F;
-		relShowdownProb[6194] = 1.5131378F;
-		relShowdownProb[6195] = 1.2093304F;
-		relShowdownProb[6196] = 1.3256122F;
-		relShowdownProb[6197] = 1.5972011F;
-		relShowdownProb[6198] = 1.5229126F;
-		relShowdownProb[6199] = 1.2093304F;
-		relShowdownProb[6200] = 1.3023559F;
-		relShowdownProb[6201] = 0.97211564F;
-		relShowdownProb[6202] = 1.767483F;
-		relShowdownProb[6203] = 1.9442313F;
-		relShowdownProb[6204] = 2.2697067F;
-		relShowdownProb[6205] = 1.3953813F;
-		relShowdownProb[6206] = 1.1488639F;
-		relShowdownProb[6207] = 0.67250574F;
-		relShowdownProb[6208] = 1.5211439F;
-		relShowdownProb[6209] = 1.6744576F;
-		relShowdownProb[6210] = 1.5023605F;
-		relShowdownProb[6211] = 2.35377F;
-		relShowdownProb[6212] = 1.4410837F;
-		relShowdownProb[6213] = 2.216212F;
-		relShowdownProb[6214] = 1.0232795F;
-		relShowdownProb[6215] = 1.9535338F;
-		relShowdownProb[6216] = 1.3256122F;
-		relShowdownProb[6217] = 2.1395845F;
-		relShowdownProb[6218] = 1.9442313F;
-		relShowdownProb[6219] = 0.7565689F;
-		relShowdownProb[6220] = 1.3023559F;
-		relShowdownProb[6221] = 1.5023605F;
-		relShowdownProb[6222] = 1.5131378F;
-		relShowdownProb[6223] = 1.9214449F;
-		relShowdownProb[6224] = 1.6744576F;
-		relShowdownProb[6225] = 1.1488639F;
-		relShowdownProb[6226] = 1.8493907F;
-		relShowdownProb[6227] = 1.7613245F;
-		relShowdownProb[6228] = 2.4427671F;
-		relShowdownProb[6229] = 2.23261F;
-		relShowdownProb[6230] = 1.1488639F;
-		relShowdownProb[6231] = 2.774086F;
-		relShowdownProb[6232] = 1.0407827F;
-		relShowdownProb[6233] = 2.5191035F;
-		relShowdownProb[6234] = 2.2900941F;
-		relShowdownProb[6235] = 1.116305F;
-		relShowdownProb[6236] = 1.3953813F;
-		relShowdownProb[6237] = 0.8372288F;
-		relShowdownProb[6238] = 1.5907346F;
-		relShowdownProb[6239] = 2.3256354F;
-		relShowdownProb[6240] = 1.0232795F;
-		relShowdownProb[6241] = 1.237238F;
-		relShowdownProb[6242] = 0.93025416F;
-		relShowdownProb[6243] = 1.3256122F;
-		relShowdownProb[6244] = 1.8516488F;
-		relShowdownProb[6245] = 1.5814321F;
-		relShowdownProb[6246] = 1.5814321F;
-		relShowdownProb[6247] = 0.7953673F;
-		relShowdownProb[6248] = 1.3023559F;
-		relShowdownProb[6249] = 1.5023605F;
-		relShowdownProb[6250] = 1.8493907F;
-		relShowdownProb[6251] = 1.116305F;
-		relShowdownProb[6252] = 2.2977278F;
-		relShowdownProb[6253] = 1.9334539F;
-		relShowdownProb[6254] = 1.362606F;
-		relShowdownProb[6255] = 0.8372288F;
-		relShowdownProb[6256] = 1.0232795F;
-		relShowdownProb[6257] = 0.5302449F;
-		relShowdownProb[6258] = 1.5814321F;
-		relShowdownProb[6259] = 1.3256122F;
-		relShowdownProb[6260] = 1.5972011F;
-		relShowdownProb[6261] = 1.9535338F;
-		relShowdownProb[6262] = 1.5023605F;
-		relShowdownProb[6263] = 1.9334539F;
-		relShowdownProb[6264] = 2.0815654F;
-		relShowdownProb[6265] = 1.3953813F;
-		relShowdownProb[6266] = 1.3256122F;
-		relShowdownProb[6267] = 2.4378333F;
-		relShowdownProb[6268] = 1.3610234F;
-		relShowdownProb[6269] = 1.5284221F;
-		relShowdownProb[6270] = 1.116305F;
-		relShowdownProb[6271] = 1.767483F;
-		relShowdownProb[6272] = 1.9442313F;
-		relShowdownProb[6273] = 2.4186609F;
-		relShowdownProb[6274] = 1.5023605F;
-		relShowdownProb[6275] = 1.3450115F;
-		relShowdownProb[6276] = 2.1395845F;
-		relShowdownProb[6277] = 1.4139863F;
-		relShowdownProb[6278] = 1.4290746F;
-		relShowdownProb[6279] = 1.6812643F;
-		relShowdownProb[6280] = 1.5814321F;
-		relShowdownProb[6281] = 1.237238F;
-		relShowdownProb[6282] = 0.9246954F;
-		relShowdownProb[6283] = 1.6812643F;
-		relShowdownProb[6284] = 2.0610847F;
-		relShowdownProb[6285] = 1.767483F;
-		relShowdownProb[6286] = 1.767483F;
-		relShowdownProb[6287] = 1.9334539F;
-		relShowdownProb[6288] = 2.2416856F;
-		relShowdownProb[6289] = 1.9847482F;
-		relShowdownProb[6290] = 3.136581F;
-		relShowdownProb[6291] = 1.3953813F;
-		relShowdownProb[6292] = 2.4186609F;
-		relShowdownProb[6293] = 2.1209795F;
-		relShowdownProb[6294] = 1.3953813F;
-		relShowdownProb[6295] = 1.8558571F;
-		relShowdownProb[6296] = 1.3450115F;
-		relShowdownProb[6297] = 2.046559F;
-		relShowdownProb[6298] = 2.474476F;
-		relShowdownProb[6299] = 1.9334539F;
-		relShowdownProb[6300] = 1.0407827F;
-		relShowdownProb[6301] = 1.6744576F;
-		relShowdownProb[6302] = 3.1814692F;
-		relShowdownProb[6303] = 1.5131378F;
-		relShowdownProb[6304] = 1.4410837F;
-		relShowdownProb[6305] = 1.6794024F;
-		relShowdownProb[6306] = 2.6977372F;
-		relShowdownProb[6307] = 1.6791089F;
-		relShowdownProb[6308] = 1.6812643F;
-		relShowdownProb[6309] = 2.802107F;
-		relShowdownProb[6310] = 1.7557389F;
-		relShowdownProb[6311] = 2.2588656F;
-		relShowdownProb[6312] = 3.0698388F;
-		relShowdownProb[6313] = 2.5628502F;
-		relShowdownProb[6314] = 2.690023F;
-		relShowdownProb[6315] = 1.8413846F;
-		relShowdownProb[6316] = 2.8244495F;
-		relShowdownProb[6317] = 3.206132F;
-		relShowdownProb[6318] = 1.0232795F;
-		relShowdownProb[6319] = 1.2093304F;
-		relShowdownProb[6320] = 2.046559F;
-		relShowdownProb[6321] = 1.3953813F;
-		relShowdownProb[6322] = 1.9535338F;
-		relShowdownProb[6323] = 1.116305F;
-		relShowdownProb[6324] = 0.65117794F;
-		relShowdownProb[6325] = 1.3023559F;
-		relShowdownProb[6326] = 0.7953673F;
-		relShowdownProb[6327] = 0.7442033F;
-		relShowdownProb[6328] = 0.93025416F;
-		relShowdownProb[6329] = 1.0604898F;
-		relShowdownProb[6330] = 0.93025416F;
-		relShowdownProb[6331] = 1.1488639F;
-		relShowdownProb[6332] = 1.8558571F;
-		relShowdownProb[6333] = 0.7442033F;
-		relShowdownProb[6334] = 0.93025416F;
-		relShowdownProb[6335] = 1.2093304F;
-		relShowdownProb[6336] = 1.4139863F;
-		relShowdownProb[6337] = 1.9535338F;
-		relShowdownProb[6338] = 1.8605083F;
-		relShowdownProb[6339] = 0.97211564F;
-		relShowdownProb[6340] = 1.2093304F;
-		relShowdownProb[6341] = 0.8837415F;
-		relShowdownProb[6342] = 1.4308195F;
-		relShowdownProb[6343] = 1.3023559F;
-		relShowdownProb[6344] = 1.4884067F;
-		relShowdownProb[6345] = 0.8837415F;
-		relShowdownProb[6346] = 1.5814321F;
-		relShowdownProb[6347] = 1.6791089F;
-		relShowdownProb[6348] = 1.7653275F;
-		relShowdownProb[6349] = 1.767483F;
-		relShowdownProb[6350] = 1.767483F;
-		relShowdownProb[6351] = 1.5972011F;
-		relShowdownProb[6352] = 1.8493907F;
-		relShowdownProb[6353] = 1.2093304F;
-		relShowdownProb[6354] = 1.4884067F;
-		relShowdownProb[6355] = 1.2093304F;
-		relShowdownProb[6356] = 1.1488639F;
-		relShowdownProb[6357] = 1.116305F;
-		relShowdownProb[6358] = 0.8372288F;
-		relShowdownProb[6359] = 0.97211564F;
-		relShowdownProb[6360] = 1.116305F;
-		relShowdownProb[6361] = 1.5907346F;
-		relShowdownProb[6362] = 1.8516488F;
-		relShowdownProb[6363] = 0.8372288F;
-		relShowdownProb[6364] = 1.3023559F;
-		relShowdownProb[6365] = 0.97211564F;
-		relShowdownProb[6366] = 1.5814321F;
-		relShowdownProb[6367] = 2.0326054F;
-		relShowdownProb[6368] = 1.0928217F;
-		relShowdownProb[6369] = 1.3023559F;
-		relShowdownProb[6370] = 1.6791089F;
-		relShowdownProb[6371] = 1.4290746F;
-		relShowdownProb[6372] = 1.6832192F;
-		relShowdownProb[6373] = 1.0232795F;
-		relShowdownProb[6374] = 0.8372288F;
-		relShowdownProb[6375] = 0.97211564F;
-		relShowdownProb[6376] = 1.2093304F;
-		relShowdownProb[6377] = 1.767483F;
-		relShowdownProb[6378] = 1.4290746F;
-		relShowdownProb[6379] = 2.046559F;
-		relShowdownProb[6380] = 1.4139863F;
-		relShowdownProb[6381] = 1.6812643F;
-		relShowdownProb[6382] = 2.0815654F;
-		relShowdownProb[6383] = 1.2093304F;
-		relShowdownProb[6384] = 1.767483F;
-		relShowdownProb[6385] = 2.4378333F;
-		relShowdownProb[6386] = 1.7613245F;
-		relShowdownProb[6387] = 2.0015051F;
-		relShowdownProb[6388] = 1.3023559F;
-		relShowdownProb[6389] = 1.2093304F;
-		relShowdownProb[6390] = 1.2093304F;
-		relShowdownProb[6391] = 1.3256122F;
-		relShowdownProb[6392] = 0.5581525F;
-		relShowdownProb[6393] = 1.3953813F;
-		relShowdownProb[6394] = 0.8837415F;
-		relShowdownProb[6395] = 0.93025416F;
-		relShowdownProb[6396] = 2.1209795F;
-		relShowdownProb[6397] = 1.5149854F;
-		relShowdownProb[6398] = 1.3953813F;
-		relShowdownProb[6399] = 0.8372288F;
-		relShowdownProb[6400] = 1.0604898F;
-		relShowdownProb[6401] = 1.8605083F;
-		relShowdownProb[6402] = 1.0604898F;
-		relShowdownProb[6403] = 1.5972011F;
-		relShowdownProb[6404] = 1.6744576F;
-		relShowdownProb[6405] = 1.5023605F;
-		relShowdownProb[6406] = 1.5972011F;
-		relShowdownProb[6407] = 1.1221461F;
-		relShowdownProb[6408] = 1.767483F;
-		relShowdownProb[6409] = 1.2093304F;
-		relShowdownProb[6410] = 1.4139863F;
-		relShowdownProb[6411] = 1.3953813F;
-		relShowdownProb[6412] = 1.4139863F;
-		relShowdownProb[6413] = 2.017517F;
-		relShowdownProb[6414] = 1.6744576F;
-		relShowdownProb[6415] = 1.4139863F;
-		relShowdownProb[6416] = 1.6812643F;
-		relShowdownProb[6417] = 1.8413846F;
-		relShowdownProb[6418] = 1.6744576F;
-		relShowdownProb[6419] = 1.4139863F;
-		relShowdownProb[6420] = 1.5972011F;
-		relShowdownProb[6421] = 2.7220469F;
-		relShowdownProb[6422] = 2.5218964F;
-		relShowdownProb[6423] = 1.3023559F;
-		relShowdownProb[6424] = 1.2093304F;
-		relShowdownProb[6425] = 1.5907346F;
-		relShowdownProb[6426] = 1.6744576F;
-		relShowdownProb[6427] = 1.9442313F;
-		relShowdownProb[6428] = 1.5972011F;
-		relShowdownProb[6429] = 2.23261F;
-		relShowdownProb[6430] = 1.4139863F;
-		relShowdownProb[6431] = 0.9246954F;
-		relShowdownProb[6432] = 1.7613245F;
-		relShowdownProb[6433] = 1.5814321F;
-		relShowdownProb[6434] = 1.4139863F;
-		relShowdownProb[6435] = 1.176885F;
-		relShowdownProb[6436] = 1.6812643F;
-		relShowdownProb[6437] = 1.6794024F;
-		relShowdownProb[6438] = 1.767483F;
-		relShowdownProb[6439] = 2.2977278F;
-		relShowdownProb[6440] = 1.5972011F;
-		relShowdownProb[6441] = 1.601204F;
-		relShowdownProb[6442] = 2.5954401F;
-		relShowdownProb[6443] = 2.5191035F;
-		relShowdownProb[6444] = 0.93025416F;
-		relShowdownProb[6445] = 1.5814321F;
-		relShowdownProb[6446] = 1.116305F;
-		relShowdownProb[6447] = 1.6791089F;
-		relShowdownProb[6448] = 1.0232795F;
-		relShowdownProb[6449] = 1.3953813F;
-		relShowdownProb[6450] = 1.3256122F;
-		relShowdownProb[6451] = 0.7442033F;
-		relShowdownProb[6452] = 1.9442313F;
-		relShowdownProb[6453] = 1.5149854F;
-		relShowdownProb[6454] = 1.3953813F;
-		relShowdownProb[6455] = 1.5814321F;
-		relShowdownProb[6456] = 1.237238F;
-		relShowdownProb[6457] = 0.65117794F;
-		relShowdownProb[6458] = 1.5907346F;
-		relShowdownProb[6459] = 1.3450115F;
-		relShowdownProb[6460] = 1.4884067F;
-		relShowdownProb[6461] = 1.3256122F;
-		relShowdownProb[6462] = 1.9334539F;
-		relShowdownProb[6463] = 1.6832192F;
-		relShowdownProb[6464] = 1.2093304F;
-		relShowdownProb[6465] = 1.3953813F;
-		relShowdownProb[6466] = 1.4139863F;
-		relShowdownProb[6467] = 2.046559F;
-		relShowdownProb[6468] = 1.767483F;
-		relShowdownProb[6469] = 2.2697067F;
-		relShowdownProb[6470] = 1.767483F;
-		relShowdownProb[6471] = 2.1209795F;
-		relShowdownProb[6472] = 1.6812643F;
-		relShowdownProb[6473] = 1.601204F;
-		relShowdownProb[6474] = 1.8605083F;
-		relShowdownProb[6475] = 1.6791089F;
-		relShowdownProb[6476] = 1.6812643F;
-		relShowdownProb[6477] = 2.1616254F;
-		relShowdownProb[6478] = 2.216212F;
-		relShowdownProb[6479] = 1.5814321F;
-		relShowdownProb[6480] = 0.8372288F;
-		relShowdownProb[6481] = 1.9442313F;
-		relShowdownProb[6482] = 1.8605083F;
-		relShowdownProb[6483] = 1.5907346F;
-		relShowdownProb[6484] = 1.5131378F;
-		relShowdownProb[6485] = 2.3256354F;
-		relShowdownProb[6486] = 1.0604898F;
-		relShowdownProb[6487] = 1.2609482F;
-		relShowdownProb[6488] = 1.9214449F;
-		relShowdownProb[6489] = 1.116305F;
-		relShowdownProb[6490] = 1.6791089F;
-		relShowdownProb[6491] = 1.5972011F;
-		relShowdownProb[6492] = 1.8413846F;
-		relShowdownProb[6493] = 2.8244495F;
-		relShowdownProb[6494] = 2.4186609F;
-		relShowdownProb[6495] = 2.2977278F;
-		relShowdownProb[6496] = 1.7653275F;
-		relShowdownProb[6497] = 1.7613245F;
-		relShowdownProb[6498] = 1.5267295F;
-		relShowdownProb[6499] = 2.7718623F;
-		relShowdownProb[6500] = 1.4884067F;
-		relShowdownProb[6501] = 2.3256354F;
-		relShowdownProb[6502] = 1.767483F;
-		relShowdownProb[6503] = 2.1395845F;
-		relShowdownProb[6504] = 1.767483F;
-		relShowdownProb[6505] = 1.8493907F;
-		relShowdownProb[6506] = 2.1395845F;
-		relShowdownProb[6507] = 1.9442313F;
-		relShowdownProb[6508] = 2.017517F;
-		relShowdownProb[6509] = 2.802107F;
-		relShowdownProb[6510] = 1.5814321F;
-		relShowdownProb[6511] = 1.9442313F;
-		relShowdownProb[6512] = 2.4378333F;
-		relShowdownProb[6513] = 1.8413846F;
-		relShowdownProb[6514] = 2.3664308F;
-		relShowdownProb[6515] = 1.3953813F;
-		relShowdownProb[6516] = 2.0326054F;
-		relShowdownProb[6517] = 1.5131378F;
-		relShowdownProb[6518] = 2.401806F;
-		relShowdownProb[6519] = 2.3664308F;
-		relShowdownProb[6520] = 2.550332F;
-		relShowdownProb[6521] = 1.6744576F;
-		relShowdownProb[6522] = 3.3582177F;
-		relShowdownProb[6523] = 2.4378333F;
-		relShowdownProb[6524] = 2.5619266F;
-		relShowdownProb[6525] = 2.9771225F;
-		relShowdownProb[6526] = 3.6433318F;
-		relShowdownProb[6527] = 3.2789986F;
-		relShowdownProb[6528] = 0.93025416F;
-		relShowdownProb[6529] = 1.4884067F;
-		relShowdownProb[6530] = 1.116305F;
-		relShowdownProb[6531] = 0.70699316F;
-		relShowdownProb[6532] = 1.4884067F;
-		relShowdownProb[6533] = 1.5814321F;
-		relShowdownProb[6534] = 0.97211564F;
-		relShowdownProb[6535] = 1.3953813F;
-		relShowdownProb[6536] = 2.1209795F;
-		relShowdownProb[6537] = 1.3466537F;
-		relShowdownProb[6538] = 0.8372288F;
-		relShowdownProb[6539] = 1.767483F;
-		relShowdownProb[6540] = 1.4139863F;
-		relShowdownProb[6541] = 1.6744576F;
-		relShowdownProb[6542] = 1.8558571F;
-		relShowdownProb[6543] = 2.017517F;
-		relShowdownProb[6544] = 2.046559F;
-		relShowdownProb[6545] = 1.767483F;
-		relShowdownProb[6546] = 1.2609482F;
-		relShowdownProb[6547] = 1.4427594F;
-		relShowdownProb[6548] = 1.116305F;
-		relShowdownProb[6549] = 1.0232795F;
-		relShowdownProb[6550] = 1.767483F;
-		relShowdownProb[6551] = 1.3023559F;
-		relShowdownProb[6552] = 1.5907346F;
-		relShowdownProb[6553] = 1.4290746F;
-		relShowdownProb[6554] = 0.7442033F;
-		relShowdownProb[6555] = 1.9442313F;
-		relShowdownProb[6556] = 1.5131378F;
-		relShowdownProb[6557] = 1.601204F;
-		relShowdownProb[6558] = 1.3953813F;
-		relShowdownProb[6559] = 1.1488639F;
-		relShowdownProb[6560] = 1.176885F;
-		relShowdownProb[6561] = 1.8413846F;
-		relShowdownProb[6562] = 2.292633F;
-		relShowdownProb[6563] = 2.046559F;
-		relShowdownProb[6564] = 1.2093304F;
-		relShowdownProb[6565] = 1.4139863F;
-		relShowdownProb[6566] = 1.767483F;
-		relShowdownProb[6567] = 1.4139863F;
-		relShowdownProb[6568] = 1.3450115F;
-		relShowdownProb[6569] = 1.116305F;
-		relShowdownProb[6570] = 1.5023605F;
-		relShowdownProb[6571] = 1.8493907F;
-		relShowdownProb[6572] = 1.5211439F;
-		relShowdownProb[6573] = 1.5814321F;
-		relShowdownProb[6574] = 1.5907346F;
-		relShowdownProb[6575] = 1.5972011F;
-		relShowdownProb[6576] = 1.0407827F;
-		relShowdownProb[6577] = 2.2900941F;
-		relShowdownProb[6578] = 1.2093304F;
-		relShowdownProb[6579] = 2.474476F;
-		relShowdownProb[6580] = 2.6059597F;
-		relShowdownProb[6581] = 2.1616254F;
-		relShowdownProb[6582] = 1.5267295F;
-		relShowdownProb[6583] = 2.9177496F;
-		relShowdownProb[6584] = 1.116305F;
-		relShowdownProb[6585] = 2.046559F;
-		relShowdownProb[6586] = 2.5628502F;
-		relShowdownProb[6587] = 1.3953813F;
-		relShowdownProb[6588] = 1.5023605F;
-		relShowdownProb[6589] = 1.9334539F;
-		relShowdownProb[6590] = 1.5814321F;
-		relShowdownProb[6591] = 1.1488639F;
-		relShowdownProb[6592] = 2.4378333F;
-		relShowdownProb[6593] = 2.3217459F;
-		relShowdownProb[6594] = 1.4884067F;
-		relShowdownProb[6595] = 2.386102F;
-		relShowdownProb[6596] = 2.35377F;
-		relShowdownProb[6597] = 1.9214449F;
-		relShowdownProb[6598] = 2.2900941F;
-		relShowdownProb[6599] = 2.1395845F;
-		relShowdownProb[6600] = 1.8558571F;
-		relShowdownProb[6601] = 2.1015804F;
-		relShowdownProb[6602] = 2.5619266F;
-		relShowdownProb[6603] = 2.900786F;
-		relShowdownProb[6604] = 3.351865F;
-		relShowdownProb[6605] = 2.6977372F;
-		relShowdownProb[6606] = 2.1209795F;
-		relShowdownProb[6607] = 3.2784653F;
-		relShowdownProb[6608] = 2.7220469F;
-		relShowdownProb[6609] = 2.4427671F;
-		relShowdownProb[6610] = 2.1131325F;
-		relShowdownProb[6611] = 2.9970362F;
-		relShowdownProb[6612] = 1.8605083F;
-		relShowdownProb[6613] = 2.4186609F;
-		relShowdownProb[6614] = 1.767483F;
-		relShowdownProb[6615] = 1.6744576F;
-		relShowdownProb[6616] = 2.2093537F;
-		relShowdownProb[6617] = 1.4290746F;
-		relShowdownProb[6618] = 1.6744576F;
-		relShowdownProb[6619] = 1.6791089F;
-		relShowdownProb[6620] = 2.35377F;
-		relShowdownProb[6621] = 1.9214449F;
-		relShowdownProb[6622] = 1.8605083F;
-		relShowdownProb[6623] = 2.2093537F;
-		relShowdownProb[6624] = 1.5972011F;
-		relShowdownProb[6625] = 2.2416856F;
-		relShowdownProb[6626] = 1.9847482F;
-		relShowdownProb[6627] = 1.3953813F;
-		relShowdownProb[6628] = 2.0326054F;
-		relShowdownProb[6629] = 3.1944022F;
-		relShowdownProb[6630] = 2.0015051F;
-		relShowdownProb[6631] = 2.5191035F;
-		relShowdownProb[6632] = 2.9146652F;
-		relShowdownProb[6633] = 1.4884067F;
-		relShowdownProb[6634] = 1.8558571F;
-		relShowdownProb[6635] = 1.6812643F;
-		relShowdownProb[6636] = 2.8821673F;
-		relShowdownProb[6637] = 2.3664308F;
-		relShowdownProb[6638] = 3.1332653F;
-		relShowdownProb[6639] = 3.8991745F;
-		relShowdownProb[6640] = 3.0698388F;
-		relShowdownProb[6641] = 3.004721F;
-		relShowdownProb[6642] = 3.1944022F;
-		relShowdownProb[6643] = 2.4818664F;
-		relShowdownProb[6644] = 2.2137578F;
-		relShowdownProb[6645] = 3.0603986F;
-		relShowdownProb[6646] = 3.1332653F;
-		relShowdownProb[6647] = 2.1395845F;
-		relShowdownProb[6648] = 1.9535338F;
-		relShowdownProb[6649] = 2.6047118F;
-		relShowdownProb[6650] = 2.1395845F;
-		relShowdownProb[6651] = 1.8605083F;
-		relShowdownProb[6652] = 1.5814321F;
-		relShowdownProb[6653] = 1.8605083F;
-		relShowdownProb[6654] = 1.767483F;
-		relShowdownProb[6655] = 1.6744576F;
-		relShowdownProb[6656] = 1.767483F;
-		relShowdownProb[6657] = 1.8558571F;
-		relShowdownProb[6658] = 1.6744576F;
-		relShowdownProb[6659] = 1.5907346F;
-		relShowdownProb[6660] = 2.1209795F;
-		relShowdownProb[6661] = 1.3953813F;
-		relShowdownProb[6662] = 2.3256354F;
-		relShowdownProb[6663] = 2.1395845F;
-		relShowdownProb[6664] = 0.93025416F;
-		relShowdownProb[6665] = 1.8605083F;
-		relShowdownProb[6666] = 1.3953813F;
-		relShowdownProb[6667] = 2.1209795F;
-		relShowdownProb[6668] = 1.5814321F;
-		relShowdownProb[6669] = 1.767483F;
-		relShowdownProb[6670] = 3.029971F;
-		relShowdownProb[6671] = 1.6744576F;
-		relShowdownProb[6672] = 1.3953813F;
-		relShowdownProb[6673] = 1.5023605F;
-		relShowdownProb[6674] = 1.5814321F;
-		relShowdownProb[6675] = 1.9442313F;
-		relShowdownProb[6676] = 3.2824683F;
-		relShowdownProb[6677] = 1.2093304F;
-		relShowdownProb[6678] = 1.6791089F;
-		relShowdownProb[6679] = 1.5972011F;
-		relShowdownProb[6680] = 2.5218964F;
-		relShowdownProb[6681] = 1.3023559F;
-		relShowdownProb[6682] = 1.3953813F;
-		relShowdownProb[6683] = 2.046559F;
-		relShowdownProb[6684] = 1.4884067F;
-		relShowdownProb[6685] = 1.4884067F;
-		relShowdownProb[6686] = 1.5814321F;
-		relShowdownProb[6687] = 1.4139863F;
-		relShowdownProb[6688] = 2.1395845F;
-		relShowdownProb[6689] = 2.2093537F;
-		relShowdownProb[6690] = 1.6833171F;
-		relShowdownProb[6691] = 1.4884067F;
-		relShowdownProb[6692] = 1.3953813F;
-		relShowdownProb[6693] = 1.4139863F;
-		relShowdownProb[6694] = 1.767483F;
-		relShowdownProb[6695] = 1.5907346F;
-		relShowdownProb[6696] = 3.029971F;
-		relShowdownProb[6697] = 2.23261F;
-		relShowdownProb[6698] = 1.5023605F;
-		relShowdownProb[6699] = 2.35377F;
-		relShowdownProb[6700] = 2.6450589F;
-		relShowdownProb[6701] = 2.6977372F;
-		relShowdownProb[6702] = 1.0232795F;
-		relShowdownProb[6703] = 1.6791089F;
-		relShowdownProb[6704] = 2.4186609F;
-		relShowdownProb[6705] = 1.5907346F;
-		relShowdownProb[6706] = 2.1883123F;
-		relShowdownProb[6707] = 1.4884067F;
-		relShowdownProb[6708] = 1.9442313F;
-		relShowdownProb[6709] = 1.6812643F;
-		relShowdownProb[6710] = 2.5619266F;
-		relShowdownProb[6711] = 2.046559F;
-		relShowdownProb[6712] = 2.474476F;
-		relShowdownProb[6713] = 2.774086F;
-		relShowdownProb[6714] = 2.4818664F;
-		relShowdownProb[6715] = 2.3217459F;
-		relShowdownProb[6716] = 1.3023559F;
-		relShowdownProb[6717] = 2.5116863F;
-		relShowdownProb[6718] = 1.3023559F;
-		relShowdownProb[6719] = 2.046559F;
-		relShowdownProb[6720] = 1.9535338F;
-		relShowdownProb[6721] = 1.3953813F;
-		relShowdownProb[6722] = 1.767483F;
-		relShowdownProb[6723] = 1.767483F;
-		relShowdownProb[6724] = 2.6512244F;
-		relShowdownProb[6725] = 2.4408097F;
-		relShowdownProb[6726] = 1.4884067F;
-		relShowdownProb[6727] = 2.046559F;
-		relShowdownProb[6728] = 1.5023605F;
-		relShowdownProb[6729] = 1.4884067F;
-		relShowdownProb[6730] = 1.5907346F;
-		relShowdownProb[6731] = 2.0199804F;
-		relShowdownProb[6732] = 2.046559F;
-		relShowdownProb[6733] = 1.9442313F;
-		relShowdownProb[6734] = 2.690023F;
-		relShowdownProb[6735] = 2.4847522F;
-		relShowdownProb[6736] = 1.9535338F;
-		relShowdownProb[6737] = 1.9535338F;
-		relShowdownProb[6738] = 2.0326054F;
-		relShowdownProb[6739] = 2.046559F;
-		relShowdownProb[6740] = 1.767483F;
-		relShowdownProb[6741] = 2.4408097F;
-		relShowdownProb[6742] = 1.6744576F;
-		relShowdownProb[6743] = 1.3256122F;
-		relShowdownProb[6744] = 2.1856434F;
-		relShowdownProb[6745] = 2.1616254F;
-		relShowdownProb[6746] = 1.8605083F;
-		relShowdownProb[6747] = 2.2093537F;
-		relShowdownProb[6748] = 1.3450115F;
-		relShowdownProb[6749] = 3.0422878F;
-		relShowdownProb[6750] = 2.0633698F;
-		relShowdownProb[6751] = 1.5814321F;
-		relShowdownProb[6752] = 1.5814321F;
-		relShowdownProb[6753] = 0.97211564F;
-		relShowdownProb[6754] = 2.5116863F;
-		relShowdownProb[6755] = 2.2093537F;
-		relShowdownProb[6756] = 1.9358146F;
-		relShowdownProb[6757] = 1.9535338F;
-		relShowdownProb[6758] = 1.767483F;
-		relShowdownProb[6759] = 1.5131378F;
-		relShowdownProb[6760] = 2.401806F;
-		relShowdownProb[6761] = 1.3953813F;
-		relShowdownProb[6762] = 2.474476F;
-		relShowdownProb[6763] = 2.774086F;
-		relShowdownProb[6764] = 2.5619266F;
-		relShowdownProb[6765] = 3.740487F;
-		relShowdownProb[6766] = 1.6744576F;
-		relShowdownProb[6767] = 1.767483F;
-		relShowdownProb[6768] = 1.9334539F;
-		relShowdownProb[6769] = 1.5211439F;
-		relShowdownProb[6770] = 2.900786F;
-		relShowdownProb[6771] = 3.2824683F;
-		relShowdownProb[6772] = 2.4186609F;
-		relShowdownProb[6773] = 1.9535338F;
-		relShowdownProb[6774] = 1.4884067F;
-		relShowdownProb[6775] = 1.9535338F;
-		relShowdownProb[6776] = 0.7442033F;
-		relShowdownProb[6777] = 1.6744576F;
-		relShowdownProb[6778] = 1.8558571F;
-		relShowdownProb[6779] = 1.8605083F;
-		relShowdownProb[6780] = 1.767483F;
-		relShowdownProb[6781] = 2.272478F;
-		relShowdownProb[6782] = 1.5814321F;
-		relShowdownProb[6783] = 1.116305F;
-		relShowdownProb[6784] = 1.5023605F;
-		relShowdownProb[6785] = 2.1395845F;
-		relShowdownProb[6786] = 2.1209795F;
-		relShowdownProb[6787] = 2.1883123F;
-		relShowdownProb[6788] = 1.4884067F;
-		relShowdownProb[6789] = 2.8279727F;
-		relShowdownProb[6790] = 2.8581493F;
-		relShowdownProb[6791] = 2.8053653F;
-		relShowdownProb[6792] = 2.3256354F;
-		relShowdownProb[6793] = 2.3256354F;
-		relShowdownProb[6794] = 2.2093537F;
-		relShowdownProb[6795] = 1.767483F;
-		relShowdownProb[6796] = 2.6512244F;
-		relShowdownProb[6797] = 1.8516488F;
-		relShowdownProb[6798] = 1.3953813F;
-		relShowdownProb[6799] = 2.1209795F;
-		relShowdownProb[6800] = 1.5972011F;
-		relShowdownProb[6801] = 2.1616254F;
-		relShowdownProb[6802] = 1.8605083F;
-		relShowdownProb[6803] = 1.8558571F;
-		relShowdownProb[6804] = 2.2697067F;
-		relShowdownProb[6805] = 1.3610234F;
-		relShowdownProb[6806] = 2.216212F;
-		relShowdownProb[6807] = 1.6744576F;
-		relShowdownProb[6808] = 1.6744576F;
-		relShowdownProb[6809] = 1.9442313F;
-		relShowdownProb[6810] = 2.3256354F;
-		relShowdownProb[6811] = 1.767483F;
-		relShowdownProb[6812] = 2.1041465F;
-		relShowdownProb[6813] = 1.5814321F;
-		relShowdownProb[6814] = 2.1209795F;
-		relShowdownProb[6815] = 2.5218964F;
-		relShowdownProb[6816] = 2.2416856F;
-		relShowdownProb[6817] = 2.5116863F;
-		relShowdownProb[6818] = 2.2977278F;
-		relShowdownProb[6819] = 1.9334539F;
-		relShowdownProb[6820] = 2.3217459F;
-		relShowdownProb[6821] = 2.748113F;
-		relShowdownProb[6822] = 2.3256354F;
-		relShowdownProb[6823] = 1.5907346F;
-		relShowdownProb[6824] = 2.5218964F;
-		relShowdownProb[6825] = 2.9622276F;
-		relShowdownProb[6826] = 2.4427671F;
-		relShowdownProb[6827] = 2.6259747F;
-		relShowdownProb[6828] = 1.5814321F;
-		relShowdownProb[6829] = 2.6047118F;
-		relShowdownProb[6830] = 1.767483F;
-		relShowdownProb[6831] = 1.5814321F;
-		relShowdownProb[6832] = 1.3256122F;
-		relShowdownProb[6833] = 2.0199804F;
-		relShowdownProb[6834] = 2.046559F;
-		relShowdownProb[6835] = 1.6791089F;
-		relShowdownProb[6836] = 2.2697067F;
-		relShowdownProb[6837] = 2.7220469F;
-		relShowdownProb[6838] = 2.1395845F;
-		relShowdownProb[6839] = 2.6512244F;
-		relShowdownProb[6840] = 2.35377F;
-		relShowdownProb[6841] = 2.5619266F;
-		relShowdownProb[6842] = 2.4427671F;
-		relShowdownProb[6843] = 2.23261F;
-		relShowdownProb[6844] = 2.1209795F;
-		relShowdownProb[6845] = 2.690023F;
-		relShowdownProb[6846] = 1.601204F;
-		relShowdownProb[6847] = 2.6717765F;
-		relShowdownProb[6848] = 3.1332653F;
-		relShowdownProb[6849] = 2.046559F;
-		relShowdownProb[6850] = 2.6512244F;
-		relShowdownProb[6851] = 2.774086F;
-		relShowdownProb[6852] = 2.7220469F;
-		relShowdownProb[6853] = 2.3664308F;
-		relShowdownProb[6854] = 3.0603986F;
-		relShowdownProb[6855] = 3.570465F;
-		relShowdownProb[6856] = 1.6744576F;
-		relShowdownProb[6857] = 2.7907627F;
-		relShowdownProb[6858] = 2.5116863F;
-		relShowdownProb[6859] = 2.4186609F;
-		relShowdownProb[6860] = 2.1395845F;
-		relShowdownProb[6861] = 2.1395845F;
-		relShowdownProb[6862] = 2.5628502F;
-		relShowdownProb[6863] = 2.1395845F;
-		relShowdownProb[6864] = 2.1209795F;
-		relShowdownProb[6865] = 3.1983025F;
-		relShowdownProb[6866] = 2.6977372F;
-		relShowdownProb[6867] = 1.6744576F;
-		relShowdownProb[6868] = 1.3256122F;
-		relShowdownProb[6869] = 2.8837879F;
-		relShowdownProb[6870] = 2.2093537F;
-		relShowdownProb[6871] = 2.272478F;
-		relShowdownProb[6872] = 2.23261F;
-		relShowdownProb[6873] = 1.8558571F;
-		relShowdownProb[6874] = 1.7653275F;
-		relShowdownProb[6875] = 2.2442923F;
-		relShowdownProb[6876] = 1.9535338F;
-		relShowdownProb[6877] = 1.8605083F;
-		relShowdownProb[6878] = 1.5907346F;
-		relShowdownProb[6879] = 1.9535338F;
-		relShowdownProb[6880] = 1.0604898F;
-		relShowdownProb[6881] = 2.7774732F;
-		relShowdownProb[6882] = 1.4884067F;
-		relShowdownProb[6883] = 2.7395985F;
-		relShowdownProb[6884] = 2.2697067F;
-		relShowdownProb[6885] = 2.0015051F;
-		relShowdownProb[6886] = 1.4884067F;
-		relShowdownProb[6887] = 1.5023605F;
-		relShowdownProb[6888] = 2.017517F;
-		relShowdownProb[6889] = 2.3217459F;
-		relShowdownProb[6890] = 2.5983176F;
-		relShowdownProb[6891] = 2.1395845F;
-		relShowdownProb[6892] = 2.046559F;
-		relShowdownProb[6893] = 2.386102F;
-		relShowdownProb[6894] = 2.4186609F;
-		relShowdownProb[6895] = 2.474476F;
-		relShowdownProb[6896] = 2.861639F;
-		relShowdownProb[6897] = 1.767483F;
-		relShowdownProb[6898] = 1.4139863F;
-		relShowdownProb[6899] = 1.8493907F;
-		relShowdownProb[6900] = 2.1616254F;
-		relShowdownProb[6901] = 1.5814321F;
-		relShowdownProb[6902] = 1.9442313F;
-		relShowdownProb[6903] = 1.6812643F;
-		relShowdownProb[6904] = 1.7613245F;
-		relShowdownProb[6905] = 2.2137578F;
-		relShowdownProb[6906] = 1.6744576F;
-		relShowdownProb[6907] = 2.1209795F;
-		relShowdownProb[6908] = 2.4378333F;
-		relShowdownProb[6909] = 3.1223478F;
-		relShowdownProb[6910] = 2.900786F;
-		relShowdownProb[6911] = 2.6989183F;
-		relShowdownProb[6912] = 1.6744576F;
-		relShowdownProb[6913] = 2.6047118F;
-		relShowdownProb[6914] = 3.004721F;
-		relShowdownProb[6915] = 1.9535338F;
-		relShowdownProb[6916] = 2.2093537F;
-		relShowdownProb[6917] = 2.356644F;
-		relShowdownProb[6918] = 2.5116863F;
-		relShowdownProb[6919] = 2.0326054F;
-		relShowdownProb[6920] = 2.1856434F;
-		relShowdownProb[6921] = 2.3217459F;
-		relShowdownProb[6922] = 2.4186609F;
-		relShowdownProb[6923] = 2.2093537F;
-		relShowdownProb[6924] = 2.6059597F;
-		relShowdownProb[6925] = 2.5619266F;
-		relShowdownProb[6926] = 2.9771225F;
-		relShowdownProb[6927] = 1.8605083F;
-		relShowdownProb[6928] = 2.0326054F;
-		relShowdownProb[6929] = 2.8581493F;
-		relShowdownProb[6930] = 3.522649F;
-		relShowdownProb[6931] = 2.3664308F;
-		relShowdownProb[6932] = 3.1332653F;
-		relShowdownProb[6933] = 2.3256354F;
-		relShowdownProb[6934] = 2.386102F;
-		relShowdownProb[6935] = 2.1015804F;
-		relShowdownProb[6936] = 2.0015051F;
-		relShowdownProb[6937] = 3.5114777F;
-		relShowdownProb[6938] = 3.4247317F;
-		relShowdownProb[6939] = 3.6940215F;
-		relShowdownProb[6940] = 2.4186609F;
-		relShowdownProb[6941] = 1.9535338F;
-		relShowdownProb[6942] = 2.474476F;
-		relShowdownProb[6943] = 2.7907627F;
-		relShowdownProb[6944] = 2.386102F;
-		relShowdownProb[6945] = 2.0199804F;
-		relShowdownProb[6946] = 2.23261F;
-		relShowdownProb[6947] = 1.5023605F;
-		relShowdownProb[6948] = 2.017517F;
-		relShowdownProb[6949] = 2.6419866F;
-		relShowdownProb[6950] = 1.9535338F;
-		relShowdownProb[6951] = 2.6512244F;
-		relShowdownProb[6952] = 2.6059597F;
-		relShowdownProb[6953] = 3.522649F;
-		relShowdownProb[6954] = 1.9084119F;
-		relShowdownProb[6955] = 3.0698388F;
-		relShowdownProb[6956] = 2.1209795F;
-		relShowdownProb[6957] = 2.774086F;
-		relShowdownProb[6958] = 3.202408F;
-		relShowdownProb[6959] = 2.4427671F;
-		relShowdownProb[6960] = 2.4774656F;
-		relShowdownProb[6961] = 2.1395845F;
-		relShowdownProb[6962] = 2.2093537F;
-		relShowdownProb[6963] = 2.8581493F;
-		relShowdownProb[6964] = 2.0015051F;
-		relShowdownProb[6965] = 2.900786F;
-		relShowdownProb[6966] = 3.2789986F;
-		relShowdownProb[6967] = 3.063637F;
-		relShowdownProb[6968] = 3.1628642F;
-		relShowdownProb[6969] = 3.8000884F;
-		relShowdownProb[6970] = 2.774086F;
-		relShowdownProb[6971] = 3.522649F;
-		relShowdownProb[6972] = 3.8168237F;
-		relShowdownProb[6973] = 3.1332653F;
-		relShowdownProb[6974] = 4.0384307F;
-		relShowdownProb[6975] = 3.8991745F;
-		relShowdownProb[6976] = 2.6047118F;
-		relShowdownProb[6977] = 1.9535338F;
-		relShowdownProb[6978] = 1.4884067F;
-		relShowdownProb[6979] = 1.9535338F;
-		relShowdownProb[6980] = 2.046559F;
-		relShowdownProb[6981] = 2.3256354F;
-		relShowdownProb[6982] = 2.2977278F;
-		relShowdownProb[6983] = 2.046559F;
-		relShowdownProb[6984] = 2.0326054F;
-		relShowdownProb[6985] = 1.767483F;
-		relShowdownProb[6986] = 1.3953813F;
-		relShowdownProb[6987] = 2.6977372F;
-		relShowdownProb[6988] = 1.9442313F;
-		relShowdownProb[6989] = 2.3256354F;
-		relShowdownProb[6990] = 1.5023605F;
-		relShowdownProb[6991] = 2.7774732F;
-		relShowdownProb[6992] = 1.6744576F;
-		relShowdownProb[6993] = 2.0326054F;
-		relShowdownProb[6994] = 1.5972011F;
-		relShowdownProb[6995] = 1.8435258F;
-		relShowdownProb[6996] = 1.0232795F;
-		relShowdownProb[6997] = 2.5116863F;
-		relShowdownProb[6998] = 1.767483F;
-		relShowdownProb[6999] = 1.8605083F;
-		relShowdownProb[7000] = 2.386102F;
-		relShowdownProb[7001] = 1.767483F;
-		relShowdownProb[7002] = 2.23261F;
-		relShowdownProb[7003] = 1.8558571F;
-		relShowdownProb[7004] = 2.1015804F;
-		relShowdownProb[7005] = 3.0422878F;
-		relShowdownProb[7006] = 3.1628642F;
-		relShowdownProb[7007] = 1.8558571F;
-		relShowdownProb[7008] = 2.6059597F;
-		relShowdownProb[7009] = 2.802107F;
-		relShowdownProb[7010] = 2.292633F;
-		relShowdownProb[7011] = 1.5814321F;
-		relShowdownProb[7012] = 2.3256354F;
-		relShowdownProb[7013] = 3.1814692F;
-		relShowdownProb[7014] = 1.9535338F;
-		relShowdownProb[7015] = 1.767483F;
-		relShowdownProb[7016] = 2.6091416F;
-		relShowdownProb[7017] = 1.3953813F;
-		relShowdownProb[7018] = 2.1209795F;
-		relShowdownProb[7019] = 1.8493907F;
-		relShowdownProb[7020] = 2.1616254F;
-		relShowdownProb[7021] = 2.7907627F;
-		relShowdownProb[7022] = 1.5907346F;
-		relShowdownProb[7023] = 2.2697067F;
-		relShowdownProb[7024] = 2.5619266F;
-		relShowdownProb[7025] = 2.9771225F;
-		relShowdownProb[7026] = 2.4186609F;
-		relShowdownProb[7027] = 2.6512244F;
-		relShowdownProb[7028] = 2.8581493F;
-		relShowdownProb[7029] = 3.0422878F;
-		relShowdownProb[7030] = 2.8244495F;
-		relShowdownProb[7031] = 3.2824683F;
-		relShowdownProb[7032] = 2.3256354F;
-		relShowdownProb[7033] = 2.4186609F;
-		relShowdownProb[7034] = 2.2977278F;
-		relShowdownProb[7035] = 2.6047118F;
-		relShowdownProb[7036] = 2.9163468F;
-		relShowdownProb[7037] = 2.7774732F;
-		relShowdownProb[7038] = 2.7907627F;
-		relShowdownProb[7039] = 2.1209795F;
-		relShowdownProb[7040] = 2.35377F;
-		relShowdownProb[7041] = 2.4818664F;
-		relShowdownProb[7042] = 2.8837879F;
-		relShowdownProb[7043] = 2.386102F;
-		relShowdownProb[7044] = 3.0262756F;
-		relShowdownProb[7045] = 2.401806F;
-		relShowdownProb[7046] = 2.2900941F;
-		relShowdownProb[7047] = 2.6047118F;
-		relShowdownProb[7048] = 1.9442313F;
-		relShowdownProb[7049] = 1.4290746F;
-		relShowdownProb[7050] = 3.2824683F;
-		relShowdownProb[7051] = 2.9771225F;
-		relShowdownProb[7052] = 2.404599F;
-		relShowdownProb[7053] = 2.1395845F;
-		relShowdownProb[7054] = 3.534966F;
-		relShowdownProb[7055] = 3.4465919F;
-		relShowdownProb[7056] = 2.6419866F;
-		relShowdownProb[7057] = 2.9771225F;
-		relShowdownProb[7058] = 2.6960654F;
-		relShowdownProb[7059] = 3.4152274F;
-		relShowdownProb[7060] = 2.4186609F;
-		relShowdownProb[7061] = 2.8837879F;
-		relShowdownProb[7062] = 2.0326054F;
-		relShowdownProb[7063] = 1.9535338F;
-		relShowdownProb[7064] = 3.7117143F;
-		relShowdownProb[7065] = 2.272478F;
-		relShowdownProb[7066] = 2.046559F;
-		relShowdownProb[7067] = 2.6512244F;
-		relShowdownProb[7068] = 2.2697067F;
-		relShowdownProb[7069] = 3.0422878F;
-		relShowdownProb[7070] = 3.0698388F;
-		relShowdownProb[7071] = 2.386102F;
-		relShowdownProb[7072] = 2.1856434F;
-		relShowdownProb[7073] = 3.1223478F;
-		relShowdownProb[7074] = 2.2137578F;
-		relShowdownProb[7075] = 1.5814321F;
-		relShowdownProb[7076] = 2.0326054F;
-		relShowdownProb[7077] = 2.6059597F;
-		relShowdownProb[7078] = 2.9622276F;
-		relShowdownProb[7079] = 2.2137578F;
-		relShowdownProb[7080] = 2.987532F;
-		relShowdownProb[7081] = 2.9768133F;
-		relShowdownProb[7082] = 2.386102F;
-		relShowdownProb[7083] = 1.9334539F;
-		relShowdownProb[7084] = 2.8821673F;
-		relShowdownProb[7085] = 2.9771225F;
-		relShowdownProb[7086] = 3.206132F;
-		relShowdownProb[7087] = 3.9688027F;
-		relShowdownProb[7088] = 2.6977372F;
-		relShowdownProb[7089] = 3.093095F;
-		relShowdownProb[7090] = 2.774086F;
-		relShowdownProb[7091] = 3.92295F;
-		relShowdownProb[7092] = 3.1297953F;
-		relShowdownProb[7093] = 3.2789986F;
-		relShowdownProb[7094] = 4.0384307F;
-		relShowdownProb[7095] = 3.3999262F;
-		relShowdownProb[7096] = 2.6047118F;
-		relShowdownProb[7097] = 2.4186609F;
-		relShowdownProb[7098] = 2.7395985F;
-		relShowdownProb[7099] = 2.9768133F;
-		relShowdownProb[7100] = 2.2093537F;
-		relShowdownProb[7101] = 2.6091416F;
-		relShowdownProb[7102] = 2.6047118F;
-		relShowdownProb[7103] = 2.2093537F;
-		relShowdownProb[7104] = 2.017517F;
-		relShowdownProb[7105] = 2.8821673F;
-		relShowdownProb[7106] = 2.6047118F;
-		relShowdownProb[7107] = 2.9163468F;
-		relShowdownProb[7108] = 2.690023F;
-		relShowdownProb[7109] = 2.2416856F;
-		relShowdownProb[7110] = 2.3664308F;
-		relShowdownProb[7111] = 2.6977372F;
-		relShowdownProb[7112] = 2.6512244F;
-		relShowdownProb[7113] = 2.6059597F;
-		relShowdownProb[7114] = 2.8821673F;
-		relShowdownProb[7115] = 2.5954401F;
-		relShowdownProb[7116] = 3.7161982F;
-		relShowdownProb[7117] = 2.6047118F;
-		relShowdownProb[7118] = 3.6233401F;
-		relShowdownProb[7119] = 3.1944022F;
-		relShowdownProb[7120] = 3.602709F;
-		relShowdownProb[7121] = 3.4351413F;
-		relShowdownProb[7122] = 3.570465F;
-		relShowdownProb[7123] = 3.6902902F;
-		relShowdownProb[7124] = 3.4419405F;
-		relShowdownProb[7125] = 2.5628502F;
-		relShowdownProb[7126] = 2.35377F;
-		relShowdownProb[7127] = 2.802107F;
-		relShowdownProb[7128] = 2.9771225F;
-		relShowdownProb[7129] = 3.2789986F;
-		relShowdownProb[7130] = 3.9688027F;
-		relShowdownProb[7131] = 3.8628469F;
-		relShowdownProb[7132] = 2.9768133F;
-		relShowdownProb[7133] = 2.5628502F;
-		relShowdownProb[7134] = 3.0262756F;
-		relShowdownProb[7135] = 3.2824683F;
-		relShowdownProb[7136] = 3.8168237F;
-		relShowdownProb[7137] = 3.6433318F;
-		relShowdownProb[7138] = 3.4814057F;
-		relShowdownProb[7139] = 4.3290524F;
-		relShowdownProb[7140] = 1.5666326F;
-		relShowdownProb[7141] = 1.3874542F;
-		relShowdownProb[7142] = 1.4811586F;
-		relShowdownProb[7143] = 1.4072943F;
-		relShowdownProb[7144] = 1.4869146F;
-		relShowdownProb[7145] = 1.7043586F;
-		relShowdownProb[7146] = 1.3294713F;
-		relShowdownProb[7147] = 1.682176F;
-		relShowdownProb[7148] = 1.9312799F;
-		relShowdownProb[7149] = 2.0295775F;
-		relShowdownProb[7150] = 1.9921789F;
-		relShowdownProb[7151] = 2.7203543F;
-		relShowdownProb[7152] = 1.4781936F;
-		relShowdownProb[7153] = 1.6338246F;
-		relShowdownProb[7154] = 1.4553994F;
-		relShowdownProb[7155] = 1.3689135F;
-		relShowdownProb[7156] = 1.81734F;
-		relShowdownProb[7157] = 1.451861F;
-		relShowdownProb[7158] = 1.6931946F;
-		relShowdownProb[7159] = 2.1432168F;
-		relShowdownProb[7160] = 1.8446199F;
-		relShowdownProb[7161] = 2.0541785F;
-		relShowdownProb[7162] = 2.3221717F;
-		relShowdownProb[7163] = 2.7324986F;
-		relShowdownProb[7164] = 1.6550715F;
-		relShowdownProb[7165] = 1.819941F;
-		relShowdownProb[7166] = 2.0607424F;
-		relShowdownProb[7167] = 2.3796067F;
-		relShowdownProb[7168] = 1.6267099F;
-		relShowdownProb[7169] = 1.8053576F;
-		relShowdownProb[7170] = 1.9440383F;
-		relShowdownProb[7171] = 2.2055197F;
-		relShowdownProb[7172] = 2.1169798F;
-		relShowdownProb[7173] = 2.2878876F;
-		relShowdownProb[7174] = 2.2977278F;
-		relShowdownProb[7175] = 2.81751F;
-		relShowdownProb[7176] = 1.8445835F;
-		relShowdownProb[7177] = 1.8952489F;
-		relShowdownProb[7178] = 1.9951327F;
-		relShowdownProb[7179] = 2.4435747F;
-		relShowdownProb[7180] = 2.122348F;
-		relShowdownProb[7181] = 2.0452304F;
-		relShowdownProb[7182] = 2.0443757F;
-		relShowdownProb[7183] = 2.1432168F;
-		relShowdownProb[7184] = 2.2779198F;
-		relShowdownProb[7185] = 2.0295775F;
-		relShowdownProb[7186] = 2.0655107F;
-		relShowdownProb[7187] = 2.9996765F;
-		relShowdownProb[7188] = 1.7814128F;
-		relShowdownProb[7189] = 1.8073897F;
-		relShowdownProb[7190] = 1.9078456F;
-		relShowdownProb[7191] = 2.4777799F;
-		relShowdownProb[7192] = 2.401939F;
-		relShowdownProb[7193] = 2.3482273F;
-		relShowdownProb[7194] = 2.4958944F;
-		relShowdownProb[7195] = 1.9563084F;
-		relShowdownProb[7196] = 2.4636197F;
-		relShowdownProb[7197] = 2.7799063F;
-		relShowdownProb[7198] = 2.1755083F;
-		relShowdownProb[7199] = 2.8660877F;
-		relShowdownProb[7200] = 2.0214615F;
-		relShowdownProb[7201] = 1.6567739F;
-		relShowdownProb[7202] = 1.9701935F;
-		relShowdownProb[7203] = 2.1185017F;
-		relShowdownProb[7204] = 2.498779F;
-		relShowdownProb[7205] = 2.4492264F;
-		relShowdownProb[7206] = 2.5836897F;
-		relShowdownProb[7207] = 2.367507F;
-		relShowdownProb[7208] = 2.43886F;
-		relShowdownProb[7209] = 2.533897F;
-		relShowdownProb[7210] = 2.7254963F;
-		relShowdownProb[7211] = 3.1089764F;
-		relShowdownProb[7212] = 2.0088272F;
-		relShowdownProb[7213] = 2.2717884F;
-		relShowdownProb[7214] = 2.020072F;
-		relShowdownProb[7215] = 2.4034464F;
-		relShowdownProb[7216] = 2.203357F;
-		relShowdownProb[7217] = 2.6051245F;
-		relShowdownProb[7218] = 3.3236783F;
-		relShowdownProb[7219] = 2.5294943F;
-		relShowdownProb[7220] = 2.8845398F;
-		relShowdownProb[7221] = 2.8414087F;
-		relShowdownProb[7222] = 2.9943793F;
-		relShowdownProb[7223] = 3.1089764F;
-		relShowdownProb[7224] = 1.882486F;
-		relShowdownProb[7225] = 1.9078002F;
-		relShowdownProb[7226] = 2.1821764F;
-		relShowdownProb[7227] = 2.0565572F;
-		relShowdownProb[7228] = 2.4618514F;
-		relShowdownProb[7229] = 2.5317407F;
-		relShowdownProb[7230] = 3.220546F;
-		relShowdownProb[7231] = 3.3892732F;
-		relShowdownProb[7232] = 3.1816597F;
-		relShowdownProb[7233] = 3.0013146F;
-		relShowdownProb[7234] = 2.9699354F;
-		relShowdownProb[7235] = 3.6919093F;
-		relShowdownProb[7236] = 2.3246806F;
-		relShowdownProb[7237] = 2.3847504F;
-		relShowdownProb[7238] = 2.5687335F;
-		relShowdownProb[7239] = 2.6388354F;
-		relShowdownProb[7240] = 2.8311288F;
-		relShowdownProb[7241] = 2.7641225F;
-		relShowdownProb[7242] = 2.7465787F;
-		relShowdownProb[7243] = 3.598754F;
-		relShowdownProb[7244] = 3.9615998F;
-		relShowdownProb[7246] = 3.5688114F;
-		relShowdownProb[7247] = 3.679765F;
-		relShowdownProb[7248] = 2.6658022F;
-		relShowdownProb[7249] = 2.4977121F;
-		relShowdownProb[7250] = 2.4190984F;
-		relShowdownProb[7251] = 2.465391F;
-		relShowdownProb[7252] = 2.6587994F;
-		relShowdownProb[7253] = 2.5806632F;
-		relShowdownProb[7254] = 2.6858137F;
-		relShowdownProb[7255] = 3.164005F;
-		relShowdownProb[7256] = 4.2362356F;
-		relShowdownProb[7257] = 3.8008454F;
-		relShowdownProb[7258] = 4.0821333F;
-		relShowdownProb[7259] = 4.396287F;
-		relShowdownProb[7260] = 2.4004855F;
-		relShowdownProb[7261] = 2.372199F;
-		relShowdownProb[7262] = 3.1922123F;
-		relShowdownProb[7263] = 2.7503357F;
-		relShowdownProb[7264] = 2.8434381F;
-		relShowdownProb[7265] = 2.7152F;
-		relShowdownProb[7266] = 3.159781F;
-		relShowdownProb[7267] = 3.3934557F;
-		relShowdownProb[7268] = 3.5641983F;
-		relShowdownProb[7269] = 3.577777F;
-		relShowdownProb[7270] = 4.302129F;
-		relShowdownProb[7271] = 4.675609F;
-		relShowdownProb[7272] = 2.539461F;
-		relShowdownProb[7273] = 2.4600582F;
-		relShowdownProb[7274] = 2.5562637F;
-		relShowdownProb[7275] = 2.7998912F;
-		relShowdownProb[7276] = 2.7203457F;
-		relShowdownProb[7277] = 2.813045F;
-		relShowdownProb[7278] = 3.0504038F;
-		relShowdownProb[7279] = 3.2606158F;
-		relShowdownProb[7280] = 3.4561923F;
-		relShowdownProb[7281] = 3.8282213F;
-		relShowdownProb[7282] = 3.8282294F;
-		relShowdownProb[7283] = 4.5420203F;
-		relShowdownProb[7284] = 3.20907F;
-		relShowdownProb[7285] = 3.087624F;
-		relShowdownProb[7286] = 2.905412F;
-		relShowdownProb[7287] = 3.208725F;
-		relShowdownProb[7288] = 3.2250252F;
-		relShowdownProb[7289] = 3.742573F;
-		relShowdownProb[7290] = 3.232699F;
-		relShowdownProb[7291] = 3.4417613F;
-		relShowdownProb[7292] = 3.648203F;
-		relShowdownProb[7293] = 4.209851F;
-		relShowdownProb[7294] = 3.982307F;
-		relShowdownProb[7295] = 4.4878726F;
-		relShowdownProb[7297] = 5.3024487F;
-		relShowdownProb[7299] = 4.054814F;
-		relShowdownProb[7300] = 2.852352F;
-		relShowdownProb[7301] = 4.3667226F;
-		relShowdownProb[7302] = 1.9820656F;
-		relShowdownProb[7303] = 2.9472044F;
-		relShowdownProb[7304] = 1.6442456F;
-		relShowdownProb[7305] = 2.7170212F;
-		relShowdownProb[7306] = 2.7867806F;
-		relShowdownProb[7307] = 2.5177472F;
-		relShowdownProb[7311] = 3.243851F;
-		relShowdownProb[7312] = 1.9015678F;
-		relShowdownProb[7313] = 2.8071787F;
-		relShowdownProb[7314] = 2.202295F;
-		relShowdownProb[7315] = 1.9648029F;
-		relShowdownProb[7316] = 2.2766478F;
-		relShowdownProb[7317] = 3.1195428F;
-		relShowdownProb[7318] = 2.540888F;
-		relShowdownProb[7319] = 3.1982193F;
-		relShowdownProb[7321] = 10.6048975F;
-		relShowdownProb[7322] = 3.3625286F;
-		relShowdownProb[7323] = 0.81096274F;
-		relShowdownProb[7324] = 1.9015678F;
-		relShowdownProb[7325] = 3.4309964F;
-		relShowdownProb[7326] = 3.964131F;
-		relShowdownProb[7327] = 3.7658722F;
-		relShowdownProb[7328] = 2.7825694F;
-		relShowdownProb[7329] = 3.0189126F;
-		relShowdownProb[7330] = 2.9507089F;
-		relShowdownProb[7331] = 2.9260304F;
-		relShowdownProb[7334] = 3.3625286F;
-		relShowdownProb[7335] = 5.676739F;
-		relShowdownProb[7336] = 4.2785277F;
-		relShowdownProb[7337] = 4.6786313F;
-		relShowdownProb[7338] = 3.3034425F;
-		relShowdownProb[7339] = 3.2746716F;
-		relShowdownProb[7340] = 3.4149716F;
-		relShowdownProb[7341] = 2.8176517F;
-		relShowdownProb[7342] = 2.9507089F;
-		relShowdownProb[7343] = 2.8579834F;
-		relShowdownProb[7346] = 3.3625286F;
-		relShowdownProb[7347] = 1.6219255F;
-		relShowdownProb[7348] = 3.8031356F;
-		relShowdownProb[7349] = 3.4309964F;
-		relShowdownProb[7350] = 3.964131F;
-		relShowdownProb[7351] = 3.7658722F;
-		relShowdownProb[7352] = 3.6679325F;
-		relShowdownProb[7353] = 2.8176517F;
-		relShowdownProb[7354] = 2.7867806F;
-		relShowdownProb[7355] = 3.4023612F;
-		relShowdownProb[7358] = 3.3625286F;
-		relShowdownProb[7359] = 6.487702F;
-		relShowdownProb[7360] = 3.8031356F;
-		relShowdownProb[7361] = 3.7429051F;
-		relShowdownProb[7362] = 6.606885F;
-		relShowdownProb[7363] = 4.58454F;
-		relShowdownProb[7364] = 3.7944129F;
-		relShowdownProb[7365] = 3.1195428F;
-		relShowdownProb[7366] = 2.9507089F;
-		relShowdownProb[7367] = 2.9940777F;
-		relShowdownProb[7370] = 3.3625286F;
-		relShowdownProb[7371] = 1.6219255F;
-		relShowdownProb[7372] = 1.426176F;
-		relShowdownProb[7373] = 4.054814F;
-		relShowdownProb[7374] = 3.7439015F;
-		relShowdownProb[7375] = 3.2746716F;
-		relShowdownProb[7376] = 3.1620107F;
-		relShowdownProb[7377] = 3.5220647F;
-		relShowdownProb[7378] = 3.032673F;
-		relShowdownProb[7379] = 3.1982193F;
-		relShowdownProb[7382] = 6.725057F;
-		relShowdownProb[7383] = 2.4328883F;
-		relShowdownProb[7384] = 2.852352F;
-		relShowdownProb[7385] = 2.49527F;
-		relShowdownProb[7386] = 5.285508F;
-		relShowdownProb[7387] = 5.2394743F;
-		relShowdownProb[7388] = 3.7944129F;
-		relShowdownProb[7389] = 3.4214342F;
-		relShowdownProb[7390] = 3.688386F;
-		relShowdownProb[7391] = 4.1508803F;
-		relShowdownProb[7394] = 3.3625286F;
-		relShowdownProb[7395] = 2.4328883F;
-		relShowdownProb[7396] = 2.852352F;
-		relShowdownProb[7397] = 4.6786313F;
-		relShowdownProb[7398] = 3.3034425F;
-		relShowdownProb[7399] = 3.438405F;
-		relShowdownProb[7400] = 5.8181F;
-		relShowdownProb[7401] = 5.031521F;
-		relShowdownProb[7402] = 2.458924F;
-		relShowdownProb[7403] = 4.1508803F;
-		relShowdownProb[7406] = 1.6812643F;
-		relShowdownProb[7407] = 1.6219255F;
-		relShowdownProb[7408] = 2.852352F;
-		relShowdownProb[7409] = 2.8071787F;
-		relShowdownProb[7410] = 3.7439015F;
-		relShowdownProb[7411] = 4.4208064F;
-		relShowdownProb[7412] = 3.5414522F;
-		relShowdownProb[7413] = 3.3208036F;
-		relShowdownProb[7414] = 2.8687446F;
-		relShowdownProb[7415] = 4.286975F;
-		relShowdownProb[7417] = 5.3024487F;
-		relShowdownProb[7418] = 3.3625286F;
-		relShowdownProb[7419] = 2.4328883F;
-		relShowdownProb[7420] = 3.8031356F;
-		relShowdownProb[7421] = 2.8071787F;
-		relShowdownProb[7422] = 1.761836F;
-		relShowdownProb[7423] = 3.7658722F;
-		relShowdownProb[7424] = 3.2884912F;
-		relShowdownProb[7425] = 3.8239558F;
-		relShowdownProb[7426] = 4.0982065F;
-		relShowdownProb[7427] = 3.8786917F;
-		relShowdownProb[7430] = 3.3625286F;
-		relShowdownProb[7431] = 4.054814F;
-		relShowdownProb[7432] = 1.9015678F;
-		relShowdownProb[7433] = 3.1190875F;
-		relShowdownProb[7434] = 2.642754F;
-		relShowdownProb[7435] = 3.7658722F;
-		relShowdownProb[7436] = 3.0355303F;
-		relShowdownProb[7437] = 2.3144996F;
-		relShowdownProb[7438] = 3.9342782F;
-		relShowdownProb[7439] = 5.3076835F;
-		relShowdownProb[7441] = 5.3024487F;
-		relShowdownProb[7442] = 5.0437927F;
-		relShowdownProb[7443] = 0.81096274F;
-		relShowdownProb[7444] = 3.8031356F;
-		relShowdownProb[7445] = 4.054814F;
-		relShowdownProb[7446] = 1.761836F;
-		relShowdownProb[7447] = 3.1109378F;
-		relShowdownProb[7448] = 2.7825694F;
-		relShowdownProb[7449] = 2.7170212F;
-		relShowdownProb[7450] = 3.3605294F;
-		relShowdownProb[7451] = 3.3343139F;
-		relShowdownProb[7452] = 2.4642298F;
-		relShowdownProb[7453] = 1.6650202F;
-		relShowdownProb[7454] = 1.9314234F;
-		relShowdownProb[7455] = 2.5308306F;
-		relShowdownProb[7456] = 2.064625F;
-		relShowdownProb[7457] = 2.730633F;
-		relShowdownProb[7458] = 2.5974314F;
-		relShowdownProb[7459] = 3.796246F;
-		relShowdownProb[7460] = 3.9294477F;
-		relShowdownProb[7461] = 4.718738F;
-
-	}
-
-}
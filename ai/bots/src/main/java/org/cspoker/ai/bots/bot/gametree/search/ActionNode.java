@@ -23,6 +23,7 @@ import org.cspoker.ai.bots.bot.gametree.action.GameEndedException;
 import org.cspoker.ai.bots.bot.gametree.action.ProbabilityAction;
 import org.cspoker.ai.bots.bot.gametree.search.nodevisitor.NodeVisitor;
 import org.cspoker.ai.opponentmodels.OpponentModel;
+import org.cspoker.client.common.gamestate.FlatGameState;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.client.common.playerstate.PlayerState;
 import org.cspoker.common.elements.player.PlayerId;
@@ -44,7 +45,7 @@ public abstract class ActionNode implements InnerGameTreeNode {
 
 	public ActionNode(PlayerId playerId, PlayerId botId, GameState gameState,
 			SearchConfiguration config, int searchId, NodeVisitor... visitors) {
-		this.gameState = gameState;
+		this.gameState = FlatGameState.of(gameState);
 		this.playerId = playerId;
 		this.visitors = visitors;
 		this.botId = botId;
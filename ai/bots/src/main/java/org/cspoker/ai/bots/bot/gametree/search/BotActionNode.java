@@ -23,7 +23,6 @@ import org.cspoker.ai.bots.bot.gametree.action.ActionWrapper;
 import org.cspoker.ai.bots.bot.gametree.search.expander.TokenExpander;
 import org.cspoker.ai.bots.bot.gametree.search.expander.sampling.Sampler;
 import org.cspoker.ai.bots.bot.gametree.search.nodevisitor.NodeVisitor;
-import org.cspoker.client.common.gamestate.CachingNode;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.common.api.lobby.holdemtable.holdemplayer.context.RemoteHoldemPlayerContext;
 import org.cspoker.common.api.shared.exception.IllegalActionException;
@@ -42,7 +41,7 @@ public class BotActionNode extends ActionNode {
 	public BotActionNode(PlayerId botId, GameState gameState,
 			SearchConfiguration config, Sampler sampler, int tokens, int searchId,
 			NodeVisitor... visitors) {
-		super(botId, botId, new CachingNode(gameState), config, searchId,
+		super(botId, botId, gameState, config, searchId,
 				visitors);
 		expander = config.getBotNodeExpanderFactory().create(this, tokens, sampler);
 	}
@@ -17,22 +17,19 @@
 package org.cspoker.ai.bots.bot.rule;
 
 import java.rmi.RemoteException;
-import java.util.EnumSet;
-import java.util.Random;
 import java.util.concurrent.ExecutorService;
 
 import org.apache.log4j.Logger;
 import org.cspoker.ai.bots.bot.AbstractBot;
+import org.cspoker.ai.bots.equity.EquityCache;
 import org.cspoker.ai.bots.listener.BotListener;
 import org.cspoker.client.common.SmartLobbyContext;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.client.common.playerstate.PlayerState;
 import org.cspoker.common.api.shared.exception.IllegalActionException;
-import org.cspoker.common.elements.cards.Card;
 import org.cspoker.common.elements.player.PlayerId;
 import org.cspoker.common.elements.table.Round;
 import org.cspoker.common.elements.table.TableId;
-import org.cspoker.common.handeval.stevebrecher.HandEval;
 
 public class HandBot extends AbstractBot {
 
@@ -54,9 +51,9 @@ public class HandBot extends AbstractBot {
 			if(p.isActivelyPlaying()) nbPlayers++;
 		}
 		
-		double winPercentage = getWinPercentage(gameState
-				.getCommunityCards(), playerContext.getPocketCards(),
-				100, nbPlayers - 1);
+		double winPercentage = EquityCache.getInstance().getEquity(
+				playerContext.getPocketCards(), gameState.getCommunityCards(),
+				nbPlayers - 1);
 		if (logger.isDebugEnabled()) {
 			logger.debug("Win percentage is " + winPercentage
 					+ " with " + playerContext.getPocketCards()
@@ -98,83 +95,4 @@ public class HandBot extends AbstractBot {
 		}
 	}
 
-	// Card roll out code
-
-	public double getWinPercentage(EnumSet<Card> fixedCommunityCards,
-			EnumSet<Card> botCards, int nbSamples, int nbOpponents) {
-		EnumSet<Card> usedFixedCards = EnumSet.copyOf(fixedCommunityCards);
-		usedFixedCards.addAll(botCards);
-
-		int nbFixedCards = fixedCommunityCards.size();
-		int nbMissingCommunityCards = 5 - nbFixedCards;
-		int nbCommunitySamples, nbOpponentSamples;
-		if (nbMissingCommunityCards == 0) {
-			nbCommunitySamples = 1;
-			nbOpponentSamples = nbSamples;
-		} else {
-			double root = Math.sqrt(nbSamples);
-			nbCommunitySamples = (int) (root * nbMissingCommunityCards / 2);
-			nbOpponentSamples = (int) (root * 2 / nbMissingCommunityCards);
-		}
-
-		int nbWins = 0;
-		for (int i = 0; i < nbCommunitySamples; i++) {
-			EnumSet<Card> fixedAndCommunityCards = EnumSet
-			.copyOf(usedFixedCards);
-			EnumSet<Card> communityCards = EnumSet.copyOf(fixedCommunityCards);
-			for (int j = 0; j < nbMissingCommunityCards; j++) {
-				Card communityCard;
-				do {
-					communityCard = getRandomCard();
-				} while (fixedAndCommunityCards.contains(communityCard));
-				fixedAndCommunityCards.add(communityCard);
-				communityCards.add(communityCard);
-			}
-			for (int j = 0; j < nbOpponentSamples; j++) {
-				EnumSet<Card> fixedAndCommunityAndOpponentCards = EnumSet
-				.copyOf(fixedAndCommunityCards);
-				// fixedAndCommunityCards coincidentally contains the bot's
-				// hand!
-				int botRank = getRank(fixedAndCommunityCards);
-				boolean botWins = true;
-				for (int k = 0; k < nbOpponents; k++) {
-					Card opponentFirst;
-					do {
-						opponentFirst = getRandomCard();
-					} while (fixedAndCommunityAndOpponentCards
-							.contains(opponentFirst));
-					fixedAndCommunityAndOpponentCards.add(opponentFirst);
-					Card opponentSecond;
-					do {
-						opponentSecond = getRandomCard();
-					} while (fixedAndCommunityAndOpponentCards
-							.contains(opponentSecond));
-					fixedAndCommunityAndOpponentCards.add(opponentSecond);
-					EnumSet<Card> particularOpponentHand = EnumSet.of(
-							opponentFirst, opponentSecond);
-					particularOpponentHand.addAll(communityCards);
-					int opponentRank = getRank(particularOpponentHand);
-					if (opponentRank >= botRank) {
-						botWins = false;
-					}// TODO fix for split pot
-				}
-				if (botWins) {
-					++nbWins;
-				}
-			}
-		}
-		return (double) nbWins / (nbOpponentSamples * nbCommunitySamples);
-	}
-
-	private int getRank(EnumSet<Card> cards) {
-		return HandEval.getRank(cards);
-	}
-
-	private static Random random = new Random();
-	private static Card[] cards = Card.values();
-
-	protected static Card getRandomCard() {
-		return cards[random.nextInt(cards.length)];
-	}
-
 }
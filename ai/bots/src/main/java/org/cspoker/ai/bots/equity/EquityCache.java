@@ -0,0 +1,248 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.equity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.cspoker.common.elements.cards.Card;
+
+/**
+ * Pot equities of hole cards against random hands, so bots and rollouts
+ * don't have to sample them on every decision.
+ * 
+ * Preflop equities come from the {@link PreflopEquityTable}. Flop and turn
+ * equities are computed on first use and kept in a bounded LRU cache keyed on
+ * the hole cards and board up to a permutation of the suits. River equities
+ * are cheap to compute and are not cached.
+ * 
+ * The cache is split in segments that are locked independently, so
+ * concurrent readers rarely wait on each other. Two threads missing on the
+ * same key both compute its equity, which is harmless.
+ */
+@ThreadSafe
+public final class EquityCache {
+
+	public final static int DEFAULT_CAPACITY = 1 << 16;
+
+	private final static int NB_SEGMENTS = 16;
+
+	/** Samples per multiway flop and turn equity, standard error under 0.5% */
+	private final static int NB_SAMPLES = 10000;
+
+	private final static class InstanceHolder {
+		private final static EquityCache instance = new EquityCache(
+				PreflopEquityTable.load(), DEFAULT_CAPACITY);
+	}
+
+	public static EquityCache getInstance() {
+		return InstanceHolder.instance;
+	}
+
+	private final PreflopEquityTable preflopEquities;
+
+	private final EquityCalculator calculator;
+
+	private final Segment[] segments;
+
+	private final AtomicLong nbHits = new AtomicLong();
+
+	private final AtomicLong nbMisses = new AtomicLong();
+
+	private final ThreadLocal<Random> randoms = new ThreadLocal<Random>() {
+		@Override
+		protected Random initialValue() {
+			return new Random();
+		}
+	};
+
+	public EquityCache(PreflopEquityTable preflopEquities, int capacity) {
+		this(preflopEquities, new EquityCalculator(), capacity);
+	}
+
+	EquityCache(PreflopEquityTable preflopEquities, EquityCalculator calculator,
+			int capacity) {
+		this.preflopEquities = preflopEquities;
+		this.calculator = calculator;
+		this.segments = new Segment[NB_SEGMENTS];
+		int segmentCapacity = Math.max(1, capacity / NB_SEGMENTS);
+		for (int i = 0; i < NB_SEGMENTS; i++) {
+			segments[i] = new Segment(segmentCapacity);
+		}
+	}
+
+	/**
+	 * @param holeCards
+	 *            the two hole cards of the player
+	 * @param board
+	 *            the community cards dealt so far
+	 * @param nbOpponents
+	 *            the number of opponents that haven't folded
+	 * @return the expected share of the pot at showdown against random hands
+	 */
+	public double getEquity(Collection<Card> holeCards, Collection<Card> board,
+			int nbOpponents) {
+		if (holeCards.size() != 2) {
+			throw new IllegalArgumentException("Need 2 hole cards, not "
+					+ holeCards.size());
+		}
+		Iterator<Card> iter = holeCards.iterator();
+		return getEquity(iter.next(), iter.next(), board, nbOpponents);
+	}
+
+	public double getEquity(Card holeCard1, Card holeCard2, Collection<Card> board,
+			int nbOpponents) {
+		if (nbOpponents == 0) {
+			return 1;
+		}
+		int[] boardCards = new int[board.size()];
+		int i = 0;
+		for (Card card : board) {
+			boardCards[i++] = card.ordinal();
+		}
+		return getEquity(holeCard1.ordinal(), holeCard2.ordinal(), boardCards,
+				nbOpponents);
+	}
+
+	double getEquity(int holeCard1, int holeCard2, int[] board, int nbOpponents) {
+		switch (board.length) {
+		case 0:
+			if (nbOpponents <= PreflopEquityTable.MAX_OPPONENTS) {
+				return preflopEquities.getEquity(PreflopEquityTable.getIndex(
+						holeCard1, holeCard2), nbOpponents);
+			}
+			return compute(holeCard1, holeCard2, board, nbOpponents);
+		case 3:
+		case 4:
+			Key key = new Key(holeCard1, holeCard2, board, nbOpponents);
+			Segment segment = segments[(key.hashCode() >>> 16) & (NB_SEGMENTS - 1)];
+			Double equity;
+			synchronized (segment) {
+				equity = segment.get(key);
+			}
+			if (equity != null) {
+				nbHits.incrementAndGet();
+				return equity;
+			}
+			nbMisses.incrementAndGet();
+			equity = compute(holeCard1, holeCard2, board, nbOpponents);
+			synchronized (segment) {
+				segment.put(key, equity);
+			}
+			return equity;
+		case 5:
+			return compute(holeCard1, holeCard2, board, nbOpponents);
+		default:
+			throw new IllegalArgumentException("Bad number of community cards: "
+					+ board.length);
+		}
+	}
+
+	private double compute(int holeCard1, int holeCard2, int[] board,
+			int nbOpponents) {
+		return calculator.getEquity(holeCard1, holeCard2, board, nbOpponents,
+				NB_SAMPLES, randoms.get());
+	}
+
+	public long getNbHits() {
+		return nbHits.get();
+	}
+
+	public long getNbMisses() {
+		return nbMisses.get();
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	private final static class Segment extends LinkedHashMap<Key, Double> {
+
+		private static final long serialVersionUID = 6571622420342498567L;
+
+		private final int capacity;
+
+		Segment(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+			return size() > capacity;
+		}
+
+	}
+
+	/**
+	 * Hole cards, board and number of opponents, with the suits relabeled so
+	 * that isomorphic situations get the same key. Each suit is described by
+	 * the ranks of the hole cards and of the board cards in it. Sorting those
+	 * descriptions removes the suit labels.
+	 */
+	final static class Key {
+
+		private final long high;
+
+		private final long low;
+
+		Key(int holeCard1, int holeCard2, int[] board, int nbOpponents) {
+			int[] suits = new int[4];
+			suits[holeCard1 & 3] |= 1 << (13 + (holeCard1 >>> 2));
+			suits[holeCard2 & 3] |= 1 << (13 + (holeCard2 >>> 2));
+			for (int card : board) {
+				suits[card & 3] |= 1 << (card >>> 2);
+			}
+			Arrays.sort(suits);
+			this.high = ((long) nbOpponents << 52) | ((long) suits[3] << 26) | suits[2];
+			this.low = ((long) suits[1] << 26) | suits[0];
+		}
+
+		@Override
+		public int hashCode() {
+			long hash = high * 0x9E3779B97F4A7C15L + low;
+			hash *= 0x9E3779B97F4A7C15L;
+			return (int) (hash ^ (hash >>> 32));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return high == other.high && low == other.low;
+		}
+
+	}
+
+}
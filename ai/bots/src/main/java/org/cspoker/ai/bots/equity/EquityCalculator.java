@@ -0,0 +1,205 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.equity;
+
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import org.cspoker.common.handeval.spears2p2.StateTableEvaluator;
+
+/**
+ * Computes the pot equity of two hole cards against a number of opponents
+ * holding random hands. Equity counts a split pot as the share of the pot the
+ * hand gets, so the equities of all players at the table add up to 1.
+ * 
+ * Cards are represented by their ordinal in
+ * {@link org.cspoker.common.elements.cards.Card}.
+ */
+final class EquityCalculator {
+
+	private final static int NB_CARDS = 52;
+
+	private final static int START_STATE = 53;
+
+	private final IntBuffer handRanks;
+
+	EquityCalculator() {
+		this(StateTableEvaluator.getInstance().handRanks);
+	}
+
+	EquityCalculator(IntBuffer handRanks) {
+		this.handRanks = handRanks;
+	}
+
+	/**
+	 * Exact against a single opponent once the flop is dealt, which takes a
+	 * few milliseconds at most. Sampled otherwise.
+	 */
+	double getEquity(int holeCard1, int holeCard2, int[] board, int nbOpponents,
+			int nbSamples, Random random) {
+		if (nbOpponents == 0) {
+			return 1;
+		}
+		if (nbOpponents == 1 && board.length >= 3) {
+			return enumerateHeadsUp(holeCard1, holeCard2, board);
+		}
+		return sample(holeCard1, holeCard2, board, nbOpponents, nbSamples, random);
+	}
+
+	/**
+	 * Exact equity against a single opponent.
+	 */
+	double enumerateHeadsUp(int holeCard1, int holeCard2, int[] board) {
+		int[] liveCards = getLiveCards(holeCard1, holeCard2, board);
+		int boardState = getState(board);
+		int nbMissing = 5 - board.length;
+		if (nbMissing == 0) {
+			return enumerateOpponents(holeCard1, holeCard2, boardState, liveCards, -1, -1);
+		}
+		if (nbMissing == 1) {
+			double total = 0;
+			for (int card : liveCards) {
+				total += enumerateOpponents(holeCard1, holeCard2,
+						handRanks.get(boardState + card + 1), liveCards, card, -1);
+			}
+			return total / liveCards.length;
+		}
+		if (nbMissing == 2) {
+			double total = 0;
+			int nbBoards = 0;
+			for (int i = 0; i < liveCards.length; i++) {
+				int state = handRanks.get(boardState + liveCards[i] + 1);
+				for (int j = i + 1; j < liveCards.length; j++) {
+					total += enumerateOpponents(holeCard1, holeCard2,
+							handRanks.get(state + liveCards[j] + 1),
+							liveCards, liveCards[i], liveCards[j]);
+					++nbBoards;
+				}
+			}
+			return total / nbBoards;
+		}
+		throw new IllegalArgumentException("Can't enumerate a board of "
+				+ board.length + " cards.");
+	}
+
+	private double enumerateOpponents(int holeCard1, int holeCard2,
+			int boardState, int[] liveCards, int used1, int used2) {
+		int rank = getRank(boardState, holeCard1, holeCard2);
+		double total = 0;
+		int nbHands = 0;
+		for (int i = 0; i < liveCards.length; i++) {
+			int card1 = liveCards[i];
+			if (card1 == used1 || card1 == used2) {
+				continue;
+			}
+			int state = handRanks.get(boardState + card1 + 1);
+			for (int j = i + 1; j < liveCards.length; j++) {
+				int card2 = liveCards[j];
+				if (card2 == used1 || card2 == used2) {
+					continue;
+				}
+				int opponentRank = handRanks.get(state + card2 + 1);
+				if (rank > opponentRank) {
+					total += 1;
+				} else if (rank == opponentRank) {
+					total += 0.5;
+				}
+				++nbHands;
+			}
+		}
+		return total / nbHands;
+	}
+
+	/**
+	 * Monte Carlo estimate. Missing board cards and opponent cards are dealt
+	 * by a partial Fisher-Yates shuffle of the live cards.
+	 */
+	double sample(int holeCard1, int holeCard2, int[] board, int nbOpponents,
+			int nbSamples, Random random) {
+		int[] deck = getLiveCards(holeCard1, holeCard2, board);
+		int nbLiveCards = deck.length;
+		int nbMissing = 5 - board.length;
+		if (nbMissing + 2 * nbOpponents > nbLiveCards) {
+			throw new IllegalArgumentException("Not enough cards for "
+					+ nbOpponents + " opponents.");
+		}
+		int boardState = getState(board);
+		double total = 0;
+		for (int i = 0; i < nbSamples; i++) {
+			int state = boardState;
+			int position = 0;
+			for (int j = 0; j < nbMissing; j++) {
+				state = handRanks.get(state + deal(deck, position++, nbLiveCards, random) + 1);
+			}
+			int rank = getRank(state, holeCard1, holeCard2);
+			int nbTies = 0;
+			boolean lost = false;
+			for (int j = 0; j < nbOpponents && !lost; j++) {
+				int card1 = deal(deck, position++, nbLiveCards, random);
+				int card2 = deal(deck, position++, nbLiveCards, random);
+				int opponentRank = getRank(state, card1, card2);
+				if (opponentRank > rank) {
+					lost = true;
+				} else if (opponentRank == rank) {
+					++nbTies;
+				}
+			}
+			if (!lost) {
+				total += 1.0 / (nbTies + 1);
+			}
+		}
+		return total / nbSamples;
+	}
+
+	private int getRank(int boardState, int card1, int card2) {
+		return handRanks.get(handRanks.get(boardState + card1 + 1) + card2 + 1);
+	}
+
+	private int getState(int[] board) {
+		int state = START_STATE;
+		for (int card : board) {
+			state = handRanks.get(state + card + 1);
+		}
+		return state;
+	}
+
+	private static int[] getLiveCards(int holeCard1, int holeCard2, int[] board) {
+		long deadCards = (1L << holeCard1) | (1L << holeCard2);
+		for (int card : board) {
+			deadCards |= 1L << card;
+		}
+		int[] liveCards = new int[NB_CARDS - Long.bitCount(deadCards)];
+		for (int card = 0, i = 0; card < NB_CARDS; card++) {
+			if ((deadCards & (1L << card)) == 0) {
+				liveCards[i++] = card;
+			}
+		}
+		return liveCards;
+	}
+
+	/**
+	 * Swaps a random card from <code>deck[position..nbCards)</code> to
+	 * <code>position</code> and returns it.
+	 */
+	private static int deal(int[] deck, int position, int nbCards, Random random) {
+		int swap = position + random.nextInt(nbCards - position);
+		int card = deck[swap];
+		deck[swap] = deck[position];
+		deck[position] = card;
+		return card;
+	}
+
+}
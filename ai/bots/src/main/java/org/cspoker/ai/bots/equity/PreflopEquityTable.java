@@ -0,0 +1,188 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.equity;
+
+import java.io.BufferedReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Random;
+
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.cards.Rank;
+
+/**
+ * The pot equity of each of the 169 distinct starting hands against 1 to
+ * {@link #MAX_OPPONENTS} random hands.
+ * 
+ * The table is generated offline by {@link #main(String[])} and read from a
+ * text resource with one line per starting hand, e.g.
+ * <code>AKs 0.6621 0.5054 ...</code>.
+ */
+public final class PreflopEquityTable {
+
+	public final static int NB_HANDS = 169;
+
+	public final static int MAX_OPPONENTS = 9;
+
+	final static String RESOURCE = "preflopEquities.txt";
+
+	private final static int NB_RANKS = 13;
+
+	private final static int NB_SAMPLES = 200000;
+
+	private final double[] equities;
+
+	private PreflopEquityTable(double[] equities) {
+		this.equities = equities;
+	}
+
+	/**
+	 * The index of the starting hand of the given cards. Pairs are on the
+	 * diagonal of a 13x13 matrix, suited hands above and offsuit hands below
+	 * it.
+	 */
+	public static int getIndex(Card card1, Card card2) {
+		return getIndex(card1.ordinal(), card2.ordinal());
+	}
+
+	static int getIndex(int card1, int card2) {
+		int rank1 = card1 >>> 2;
+		int rank2 = card2 >>> 2;
+		int high = Math.max(rank1, rank2);
+		int low = Math.min(rank1, rank2);
+		if ((card1 & 3) == (card2 & 3)) {
+			return high * NB_RANKS + low;
+		}
+		return low * NB_RANKS + high;
+	}
+
+	/**
+	 * The name of the starting hand with the given index, like
+	 * <code>AA</code>, <code>AKs</code> or <code>AKo</code>.
+	 */
+	public static String getName(int index) {
+		int row = index / NB_RANKS;
+		int column = index % NB_RANKS;
+		Rank[] ranks = Rank.values();
+		if (row == column) {
+			return ranks[row].getShortDescription() + ranks[row].getShortDescription();
+		}
+		String suffix = row > column ? "s" : "o";
+		return ranks[Math.max(row, column)].getShortDescription()
+				+ ranks[Math.min(row, column)].getShortDescription() + suffix;
+	}
+
+	public double getEquity(int index, int nbOpponents) {
+		if (nbOpponents < 1 || nbOpponents > MAX_OPPONENTS) {
+			throw new IllegalArgumentException("No preflop equities against "
+					+ nbOpponents + " opponents.");
+		}
+		return equities[index * MAX_OPPONENTS + nbOpponents - 1];
+	}
+
+	public double getEquity(Card card1, Card card2, int nbOpponents) {
+		return getEquity(getIndex(card1, card2), nbOpponents);
+	}
+
+	public static PreflopEquityTable load() {
+		InputStream in = PreflopEquityTable.class.getResourceAsStream(RESOURCE);
+		if (in == null) {
+			throw new IllegalStateException("Missing resource " + RESOURCE);
+		}
+		try {
+			try {
+				return read(new BufferedReader(new InputStreamReader(in, "US-ASCII")));
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Can't read " + RESOURCE, e);
+		}
+	}
+
+	static PreflopEquityTable read(BufferedReader reader) throws IOException {
+		double[] equities = new double[NB_HANDS * MAX_OPPONENTS];
+		boolean[] read = new boolean[NB_HANDS];
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.trim();
+			if (line.length() == 0 || line.startsWith("#")) {
+				continue;
+			}
+			String[] fields = line.split("\\s+");
+			if (fields.length != MAX_OPPONENTS + 1) {
+				throw new IOException("Bad line: " + line);
+			}
+			int index = getIndex(fields[0]);
+			for (int i = 0; i < MAX_OPPONENTS; i++) {
+				equities[index * MAX_OPPONENTS + i] = Double.parseDouble(fields[i + 1]);
+			}
+			read[index] = true;
+		}
+		for (int index = 0; index < NB_HANDS; index++) {
+			if (!read[index]) {
+				throw new IOException("Missing hand " + getName(index));
+			}
+		}
+		return new PreflopEquityTable(equities);
+	}
+
+	private static int getIndex(String name) throws IOException {
+		for (int index = 0; index < NB_HANDS; index++) {
+			if (getName(index).equals(name)) {
+				return index;
+			}
+		}
+		throw new IOException("Unknown hand " + name);
+	}
+
+	/**
+	 * Regenerates the table by sampling. Takes the output file as argument.
+	 */
+	public static void main(String[] args) throws IOException {
+		EquityCalculator calculator = new EquityCalculator();
+		Random random = new Random(0);
+		PrintWriter out = new PrintWriter(new FileWriter(args[0]));
+		try {
+			out.println("# Pot equity of each starting hand against 1 to "
+					+ MAX_OPPONENTS + " random hands,");
+			out.println("# sampled " + NB_SAMPLES
+					+ " times each by PreflopEquityTable.main.");
+			for (int index = 0; index < NB_HANDS; index++) {
+				int row = index / NB_RANKS;
+				int column = index % NB_RANKS;
+				// clubs and, unless suited, diamonds
+				int card1 = row * 4;
+				int card2 = column * 4 + (row > column ? 0 : 1);
+				StringBuilder line = new StringBuilder(getName(index));
+				for (int nbOpponents = 1; nbOpponents <= MAX_OPPONENTS; nbOpponents++) {
+					double equity = calculator.sample(card1, card2, new int[0],
+							nbOpponents, NB_SAMPLES, random);
+					line.append(String.format(Locale.US, " %.4f", equity));
+				}
+				out.println(line);
+				System.out.println(line);
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+}
@@ -0,0 +1,155 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.opponentmodels;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.INode;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.util.Pair;
+import org.cspoker.common.util.Triple;
+
+/**
+ * An opponent model that can be used by several search threads at once.
+ * 
+ * Opponent models keep a stack of temporary assumptions while a game tree is
+ * searched, so a single model can't be shared between threads. Every thread
+ * that calls {@link #enterSearchThread()} gets its own model, created by the
+ * given factory and kept up to date with the last game state that was assumed
+ * permanently. All other threads use the primary model.
+ * 
+ * Note that every search thread model is a full copy: factories that attach
+ * listeners or learn online will do so for every copy.
+ */
+@ThreadSafe
+public class PerThreadOpponentModel implements OpponentModel {
+
+	private final OpponentModel primary;
+	private final OpponentModel.Factory factory;
+	private final PlayerId bot;
+
+	private final ThreadLocal<SearchThreadModel> searchThreadModels = new ThreadLocal<SearchThreadModel>();
+
+	private volatile GameState permanentState = null;
+
+	public PerThreadOpponentModel(OpponentModel.Factory factory, PlayerId bot) {
+		this.factory = factory;
+		this.bot = bot;
+		this.primary = factory.create(bot);
+	}
+
+	/**
+	 * Let the current thread use its own model from now on, and make it assume
+	 * the last permanently assumed game state.
+	 */
+	public void enterSearchThread() {
+		SearchThreadModel searchThreadModel = searchThreadModels.get();
+		if (searchThreadModel == null) {
+			searchThreadModel = new SearchThreadModel(factory.create(bot));
+			searchThreadModels.set(searchThreadModel);
+		}
+		GameState state = permanentState;
+		if (state != null && searchThreadModel.assumedState != state) {
+			searchThreadModel.model.assumePermanently(state);
+			searchThreadModel.assumedState = state;
+		}
+	}
+
+	public OpponentModel getPrimary() {
+		return primary;
+	}
+
+	private OpponentModel getModel() {
+		SearchThreadModel searchThreadModel = searchThreadModels.get();
+		if (searchThreadModel == null) {
+			return primary;
+		}
+		return searchThreadModel.model;
+	}
+
+	@Override
+	public Pair<Double, Double> getCheckBetProbabilities(GameState gameState,
+			PlayerId actor) {
+		return getModel().getCheckBetProbabilities(gameState, actor);
+	}
+
+	@Override
+	public Triple<Double, Double, Double> getFoldCallRaiseProbabilities(
+			GameState gameState, PlayerId actor) {
+		return getModel().getFoldCallRaiseProbabilities(gameState, actor);
+	}
+
+	@Override
+	public double[] getShowdownProbabilities(GameState gameState, PlayerId actor)
+			throws UnsupportedOperationException {
+		return getModel().getShowdownProbabilities(gameState, actor);
+	}
+
+	@Override
+	public void assumePermanently(GameState gameState) {
+		SearchThreadModel searchThreadModel = searchThreadModels.get();
+		if (searchThreadModel == null) {
+			primary.assumePermanently(gameState);
+			permanentState = gameState;
+		} else {
+			searchThreadModel.model.assumePermanently(gameState);
+			searchThreadModel.assumedState = gameState;
+		}
+	}
+
+	@Override
+	public void assumeTemporarily(GameState gameState) {
+		getModel().assumeTemporarily(gameState);
+	}
+
+	@Override
+	public void forgetLastAssumption() {
+		getModel().forgetLastAssumption();
+	}
+
+	@Override
+	public void setChosenNode(INode node) {
+		primary.setChosenNode(node);
+	}
+
+	@Override
+	public INode getChosenNode() {
+		return primary.getChosenNode();
+	}
+
+	@Override
+	public PlayerId getBotId() {
+		return bot;
+	}
+
+	@Override
+	public String toString() {
+		return "Per thread " + primary;
+	}
+
+	private static class SearchThreadModel {
+
+		private final OpponentModel model;
+		private GameState assumedState = null;
+
+		public SearchThreadModel(OpponentModel model) {
+			this.model = model;
+		}
+
+	}
+
+}
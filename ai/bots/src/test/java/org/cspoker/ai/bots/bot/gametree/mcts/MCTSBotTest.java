@@ -0,0 +1,217 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.bot.gametree.mcts;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.MCTSShowdownRollOutNode;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.Config.Parallelization;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.backpropagation.SampleWeightedBackPropStrategy;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.MaxValueSelector;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.SamplingSelector;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.SamplingToFunctionSelector;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.UCTSelector;
+import org.cspoker.ai.bots.bot.gametree.search.expander.sampling.BucketSampler;
+import org.cspoker.ai.opponentmodels.simple.HistogramModelFactory;
+import org.cspoker.client.common.GameStateContainer;
+import org.cspoker.client.common.SmartHoldemTableContext;
+import org.cspoker.client.common.SmartLobbyContext;
+import org.cspoker.client.common.gamestate.DetailedHoldemTableState;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.client.common.gamestate.modifiers.BlindState;
+import org.cspoker.client.common.gamestate.modifiers.NewDealState;
+import org.cspoker.client.common.gamestate.modifiers.NewPocketCardsState;
+import org.cspoker.client.common.gamestate.modifiers.NextPlayerState;
+import org.cspoker.client.common.gamestate.modifiers.SitInState;
+import org.cspoker.common.api.lobby.holdemtable.context.RemoteHoldemTableContext;
+import org.cspoker.common.api.lobby.holdemtable.event.BlindEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewDealEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.SitInEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.context.RemoteHoldemPlayerContext;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.NewPocketCardsEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.listener.HoldemPlayerListener;
+import org.cspoker.common.api.lobby.holdemtable.listener.HoldemTableListener;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.player.SeatedPlayer;
+import org.cspoker.common.elements.table.DetailedHoldemTable;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+
+public class MCTSBotTest extends TestCase {
+
+	private final static int NB_PLAYERS = 3;
+
+	private final static int NB_THREADS = 3;
+
+	private final TableConfiguration config = new TableConfiguration(10);
+
+	private final PlayerId[] ids = new PlayerId[NB_PLAYERS];
+
+	private final GameStateContainer state = new GameStateContainer(
+			new DetailedHoldemTableState(new DetailedHoldemTable(new TableId(0),
+					config)));
+
+	private final Table table = new Table();
+
+	private ExecutorService executor;
+
+	@Override
+	protected void setUp() throws Exception {
+		executor = Executors.newSingleThreadExecutor();
+		GameState gameState = state.getGameState();
+		List<SeatedPlayer> players = new ArrayList<SeatedPlayer>();
+		for (int i = 0; i < NB_PLAYERS; i++) {
+			ids[i] = new PlayerId(i);
+			SeatedPlayer player = new SeatedPlayer(ids[i], new SeatId(i),
+					"Player " + i, 1000, 0, true, true);
+			players.add(player);
+			gameState = new SitInState(gameState, new SitInEvent(player));
+		}
+		// the dealer is the first to act with three players
+		gameState = new NewDealState(new NewDealEvent(players, ids[0]), gameState);
+		gameState = new BlindState(gameState, new BlindEvent(ids[1], config
+				.getSmallBlind()));
+		gameState = new BlindState(gameState, new BlindEvent(ids[2], config
+				.getBigBlind()));
+		gameState = new NewPocketCardsState(gameState, ids[0],
+				new NewPocketCardsEvent(EnumSet.of(Card.ACE_SPADES,
+						Card.KING_CLUBS)));
+		gameState = new NextPlayerState(gameState, new NextPlayerEvent(ids[0]));
+		state.setGameState(gameState);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		executor.shutdownNow();
+	}
+
+	public void testRootParallelSearch() throws Exception {
+		search(Parallelization.ROOT);
+	}
+
+	public void testTreeParallelSearch() throws Exception {
+		search(Parallelization.TREE);
+	}
+
+	private void search(Parallelization parallelization)
+			throws Exception {
+		MCTSBotFactory factory = new MCTSBotFactory("MCTSBot",
+				new HistogramModelFactory(),
+				new SamplingToFunctionSelector(50, new UCTSelector(2000)),
+				new SamplingSelector(), new MaxValueSelector(),
+				new MCTSShowdownRollOutNode.Factory(),
+				new SampleWeightedBackPropStrategy.Factory(),
+				new BucketSampler(0.01), 200, parallelization, NB_THREADS);
+		final MCTSBot bot = (MCTSBot) factory.createBot(ids[0], new TableId(0),
+				table.getLobbyContext(), 0, executor);
+		assertEquals(parallelization, bot.getConfig().getParallelization());
+		bot.start();
+		executor.submit(new Runnable() {
+			public void run() {
+				try {
+					bot.doNextAction();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		}).get();
+
+		assertEquals(1, table.nbActions);
+		if (table.raise >= 0) {
+			GameState gameState = state.getGameState();
+			assertTrue(table.raise >= gameState.getLowerRaiseBound(ids[0]));
+			assertTrue(table.raise <= gameState.getUpperRaiseBound(ids[0]));
+		}
+
+		bot.stop();
+		assertTrue(bot.getSearchExecutor().awaitTermination(10,
+				TimeUnit.SECONDS));
+		assertTrue(table.left);
+	}
+
+	/**
+	 * Records the action of the bot.
+	 */
+	private class Table implements RemoteHoldemTableContext,
+			RemoteHoldemPlayerContext {
+
+		private volatile int nbActions = 0;
+
+		private volatile int raise = -1;
+
+		private volatile boolean left = false;
+
+		SmartLobbyContext getLobbyContext() {
+			return new SmartLobbyContext(null, ids[0]) {
+				@Override
+				public SmartHoldemTableContext joinHoldemTable(TableId tableId,
+						HoldemTableListener holdemTableListener) {
+					return new SmartHoldemTableContext(Table.this, state, ids[0]);
+				}
+			};
+		}
+
+		public RemoteHoldemPlayerContext sitIn(int amount,
+				HoldemPlayerListener holdemPlayerListener) {
+			return this;
+		}
+
+		public RemoteHoldemPlayerContext sitIn(SeatId seatId, int amount,
+				HoldemPlayerListener holdemPlayerListener) {
+			return this;
+		}
+
+		public void leaveTable() {
+			left = true;
+		}
+
+		public void betOrRaise(int amount) {
+			raise = amount;
+			nbActions++;
+		}
+
+		public void checkOrCall() {
+			nbActions++;
+		}
+
+		public void fold() {
+			nbActions++;
+		}
+
+		public void reSitIn() {
+		}
+
+		public void sitOut() {
+		}
+
+		public void stopPlaying() {
+		}
+
+		public void startGame() {
+		}
+
+	}
+}
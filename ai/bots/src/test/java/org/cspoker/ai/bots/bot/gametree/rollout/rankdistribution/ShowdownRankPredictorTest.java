@@ -0,0 +1,80 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.bot.gametree.rollout.rankdistribution;
+
+import java.nio.FloatBuffer;
+
+import junit.framework.TestCase;
+
+public class ShowdownRankPredictorTest extends TestCase {
+
+	public void testKnownProbabilities() {
+		ShowdownRankPredictor predictor = ShowdownRankPredictor.get(1, 4);
+		assertEquals(0f, predictor.getRelativeProbability(47));
+		assertEquals(0.58628744F, predictor.getRelativeProbability(48));
+		assertEquals(0f, predictor.getRelativeProbability(49));
+		assertEquals(0.49172497F, predictor.getRelativeProbability(51));
+		assertEquals(0.7476648F, predictor.getRelativeProbability(7461));
+	}
+
+	public void testNearestProbabilities() {
+		ShowdownRankPredictor predictor = ShowdownRankPredictor.get(1, 4);
+		assertEquals(0f, predictor.getRelativeNearestProbability(47));
+		assertEquals(0.58628744F, predictor.getRelativeNearestProbability(48));
+		assertEquals(0.58628744F, predictor.getRelativeNearestProbability(49));
+		assertEquals(0.58628744F, predictor.getRelativeNearestProbability(50));
+		assertEquals(0.49172497F, predictor.getRelativeNearestProbability(51));
+	}
+
+	public void testRowsMatchLookups() {
+		int[][] parts = { { 1, 1 }, { 1, 2 }, { 2, 2 }, { 1, 4 }, { 2, 4 },
+				{ 3, 4 }, { 4, 4 } };
+		for (int[] part : parts) {
+			ShowdownRankPredictor predictor = ShowdownRankPredictor.get(part[0], part[1]);
+			FloatBuffer row = predictor.getRelativeProbabilities();
+			FloatBuffer nearestRow = predictor.getRelativeNearestProbabilities();
+			assertEquals(ShowdownRankPredictor.NB_RANKS, row.remaining());
+			assertTrue(row.isReadOnly());
+			float nearest = 0;
+			for (int rank = 0; rank < ShowdownRankPredictor.NB_RANKS; rank++) {
+				float probability = predictor.getRelativeProbability(rank);
+				assertEquals(probability, row.get(rank));
+				if (probability > 0) {
+					nearest = probability;
+				}
+				assertEquals(nearest, nearestRow.get(rank));
+			}
+		}
+	}
+
+	public void testRowsAreShared() {
+		ShowdownRankPredictor predictor = ShowdownRankPredictor.get(2, 4);
+		assertSame(predictor.getRelativeProbabilities(), predictor
+				.getRelativeProbabilities());
+		assertSame(predictor.getRelativeNearestProbabilities(), predictor
+				.getRelativeNearestProbabilities());
+	}
+
+	public void testBadDistribution() {
+		try {
+			ShowdownRankPredictor.get(3, 2);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+}
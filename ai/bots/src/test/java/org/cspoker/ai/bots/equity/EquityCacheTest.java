@@ -0,0 +1,118 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.bots.equity;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.elements.cards.Card;
+
+public class EquityCacheTest extends TestCase {
+
+	private final static int[] flop = { Card.TWO_CLUBS.ordinal(),
+			Card.SEVEN_HEARTS.ordinal(), Card.KING_DIAMONDS.ordinal() };
+
+	// same as flop with clubs and hearts swapped
+	private final static int[] isomorphicFlop = { Card.TWO_HEARTS.ordinal(),
+			Card.SEVEN_CLUBS.ordinal(), Card.KING_DIAMONDS.ordinal() };
+
+	public void testKeyIgnoresSuitLabels() {
+		EquityCache.Key key = new EquityCache.Key(Card.ACE_SPADES.ordinal(),
+				Card.KING_CLUBS.ordinal(), flop, 2);
+		EquityCache.Key isomorphicKey = new EquityCache.Key(Card.KING_HEARTS
+				.ordinal(), Card.ACE_SPADES.ordinal(), isomorphicFlop, 2);
+		assertEquals(key, isomorphicKey);
+		assertEquals(key.hashCode(), isomorphicKey.hashCode());
+
+		assertFalse(key.equals(new EquityCache.Key(Card.ACE_SPADES.ordinal(),
+				Card.KING_HEARTS.ordinal(), flop, 2)));
+		assertFalse(key.equals(new EquityCache.Key(Card.ACE_SPADES.ordinal(),
+				Card.KING_CLUBS.ordinal(), flop, 3)));
+	}
+
+	public void testPreflopTable() {
+		Set<String> names = new HashSet<String>();
+		for (int index = 0; index < PreflopEquityTable.NB_HANDS; index++) {
+			assertTrue(names.add(PreflopEquityTable.getName(index)));
+		}
+		assertEquals(PreflopEquityTable.getIndex(Card.ACE_SPADES, Card.KING_SPADES),
+				PreflopEquityTable.getIndex(Card.KING_HEARTS, Card.ACE_HEARTS));
+		assertEquals("AKs", PreflopEquityTable.getName(PreflopEquityTable
+				.getIndex(Card.ACE_SPADES, Card.KING_SPADES)));
+		assertEquals("AKo", PreflopEquityTable.getName(PreflopEquityTable
+				.getIndex(Card.ACE_SPADES, Card.KING_CLUBS)));
+		assertEquals("72o", PreflopEquityTable.getName(PreflopEquityTable
+				.getIndex(Card.TWO_SPADES, Card.SEVEN_CLUBS)));
+
+		PreflopEquityTable table = PreflopEquityTable.load();
+		assertEquals(0.852, table.getEquity(Card.ACE_SPADES, Card.ACE_CLUBS, 1), 0.005);
+		assertEquals(0.346, table.getEquity(Card.SEVEN_SPADES, Card.TWO_CLUBS, 1), 0.005);
+		for (int nbOpponents = 2; nbOpponents <= PreflopEquityTable.MAX_OPPONENTS; nbOpponents++) {
+			assertTrue(table.getEquity(Card.ACE_SPADES, Card.ACE_CLUBS, nbOpponents)
+					< table.getEquity(Card.ACE_SPADES, Card.ACE_CLUBS, nbOpponents - 1));
+		}
+	}
+
+	public void testFlopEquitiesAreCached() {
+		EquityCache cache = new EquityCache(PreflopEquityTable.load(), 1024);
+		EnumSet<Card> board = EnumSet.of(Card.TWO_CLUBS, Card.SEVEN_HEARTS,
+				Card.KING_DIAMONDS);
+		double equity = cache.getEquity(Card.ACE_SPADES, Card.KING_CLUBS, board, 1);
+		assertEquals(new EquityCalculator().enumerateHeadsUp(Card.ACE_SPADES
+				.ordinal(), Card.KING_CLUBS.ordinal(), flop), equity, 1e-9);
+		assertEquals(0, cache.getNbHits());
+		assertEquals(1, cache.getNbMisses());
+
+		EnumSet<Card> isomorphicBoard = EnumSet.of(Card.TWO_HEARTS,
+				Card.SEVEN_CLUBS, Card.KING_DIAMONDS);
+		assertEquals(equity, cache.getEquity(Card.KING_HEARTS, Card.ACE_SPADES,
+				isomorphicBoard, 1));
+		assertEquals(1, cache.getNbHits());
+		assertEquals(1, cache.getNbMisses());
+	}
+
+	public void testSampledEquityIsCloseToExact() {
+		EquityCalculator calculator = new EquityCalculator();
+		int card1 = Card.NINE_SPADES.ordinal();
+		int card2 = Card.EIGHT_SPADES.ordinal();
+		double exact = calculator.enumerateHeadsUp(card1, card2, flop);
+		double sampled = calculator.sample(card1, card2, flop, 1, 20000,
+				new Random(0));
+		assertEquals(exact, sampled, 0.02);
+	}
+
+	public void testCacheIsBounded() {
+		EquityCache cache = new EquityCache(PreflopEquityTable.load(), 32);
+		int[] board = new int[3];
+		for (int i = 0; i < 200; i++) {
+			board[0] = i % 13 * 4;
+			board[1] = (i / 13 + 1) % 13 * 4 + 1;
+			board[2] = 2;
+			if (board[0] == board[2] || board[1] == board[2]
+					|| board[0] == board[1]) {
+				continue;
+			}
+			cache.getEquity(Card.ACE_SPADES.ordinal(), Card.ACE_HEARTS.ordinal(),
+					board, 2);
+		}
+		assertTrue(cache.size() <= 32);
+	}
+
+}
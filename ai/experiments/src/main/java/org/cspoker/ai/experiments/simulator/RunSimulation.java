@@ -0,0 +1,97 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.experiments.simulator;
+
+import org.apache.log4j.Logger;
+import org.cspoker.ai.bots.bot.BotFactory;
+import org.cspoker.ai.bots.bot.rule.CallBotFactory;
+import org.cspoker.ai.bots.bot.rule.CardBotFactory;
+import org.cspoker.ai.bots.util.Gaussian;
+import org.cspoker.ai.bots.util.RunningStats;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.util.Log4JPropertiesLoader;
+import org.cspoker.common.util.random.SeededRandomSource;
+
+/**
+ * Plays a confrontation between bots in a {@link TableSimulator} and reports
+ * the speed and the profit of each bot, like the speed test of the
+ * {@link org.cspoker.ai.bots.BotRunner}.
+ */
+public class RunSimulation {
+
+	public final static String DEALS_PROPERTY = "cspoker.simulator.deals";
+
+	public final static String SEED_PROPERTY = "cspoker.simulator.seed";
+
+	public final static String REPORT_PROPERTY = "cspoker.simulator.report";
+
+	private static final TableConfiguration config = new TableConfiguration(
+			100, 0, false, true, true, 0);
+
+	static {
+		Log4JPropertiesLoader
+				.load("org/cspoker/ai/experiments/logging/log4j.properties");
+	}
+
+	private final static Logger logger = Logger.getLogger(RunSimulation.class);
+
+	public static void main(String[] args) {
+		long nbDeals = Long.getLong(DEALS_PROPERTY, 1000000);
+		long seed = Long.getLong(SEED_PROPERTY, 0);
+		int reportInterval = Integer.getInteger(REPORT_PROPERTY, 10000);
+
+		TableSimulator simulator = new TableSimulator(config,
+				new SeededRandomSource(seed), getBots());
+		try {
+			long startTime = System.currentTimeMillis();
+			long intervalStartTime = startTime;
+			while (simulator.getNbDeals() < nbDeals) {
+				simulator.play(Math.min(reportInterval, nbDeals
+						- simulator.getNbDeals()));
+				long nowTime = System.currentTimeMillis();
+				logger.info("deal #" + simulator.getNbDeals() + " at "
+						+ reportInterval * 1000.0
+						/ Math.max(1, nowTime - intervalStartTime)
+						+ " games/s (overall speed: " + simulator.getNbDeals()
+						* 1000.0 / Math.max(1, nowTime - startTime)
+						+ " games/s)");
+				report(simulator);
+				intervalStartTime = nowTime;
+			}
+		} finally {
+			simulator.stop();
+		}
+	}
+
+	private static BotFactory[] getBots() {
+		return new BotFactory[] { new CardBotFactory("CardBot"),
+				new CallBotFactory("CallBot") };
+	}
+
+	private static void report(TableSimulator simulator) {
+		int smallBet = config.getSmallBet();
+		for (int i = 0; i < simulator.getNbSeats(); i++) {
+			RunningStats profit = simulator.getProfit(i);
+			double avgProfit = (profit.getMean() / smallBet);
+			double stdDev = (profit.getEVStdDev() / smallBet);
+			double prob = Gaussian.bigPhi(avgProfit / stdDev);
+			logger.info("(" + simulator.getName(i) + " wins "
+					+ (float) avgProfit + " sb/game) " + " +- "
+					+ (float) stdDev + " (" + (float) prob + "% profitable)");
+		}
+	}
+
+}
@@ -0,0 +1,111 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.experiments.simulator;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import org.cspoker.client.common.GameStateContainer;
+import org.cspoker.client.common.SmartHoldemTableContext;
+import org.cspoker.client.common.SmartLobbyContext;
+import org.cspoker.common.api.lobby.holdemtable.context.RemoteHoldemTableContext;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.context.RemoteHoldemPlayerContext;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.listener.HoldemPlayerListener;
+import org.cspoker.common.api.lobby.holdemtable.listener.HoldemTableListener;
+import org.cspoker.common.api.shared.exception.IllegalActionException;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableId;
+
+/**
+ * The table and player context of the bot on one seat of a
+ * {@link TableSimulator}. Actions go straight to the simulator, the bot
+ * reads the game from the state the simulator keeps for its seat.
+ */
+@NotThreadSafe
+final class SimulatedSeat implements RemoteHoldemTableContext,
+		RemoteHoldemPlayerContext {
+
+	private final TableSimulator table;
+
+	private final int seat;
+
+	private final SmartLobbyContext lobbyContext;
+
+	SimulatedSeat(TableSimulator table, int seat, final PlayerId playerId,
+			final GameStateContainer state) {
+		this.table = table;
+		this.seat = seat;
+		// only joining the simulated table is supported
+		this.lobbyContext = new SmartLobbyContext(null, playerId) {
+			@Override
+			public SmartHoldemTableContext joinHoldemTable(TableId tableId,
+					HoldemTableListener holdemTableListener) {
+				return new SmartHoldemTableContext(SimulatedSeat.this, state,
+						playerId);
+			}
+		};
+	}
+
+	/**
+	 * The lobby to give to the bot factory.
+	 */
+	SmartLobbyContext getLobbyContext() {
+		return lobbyContext;
+	}
+
+	public RemoteHoldemPlayerContext sitIn(int amount,
+			HoldemPlayerListener holdemPlayerListener) {
+		return this;
+	}
+
+	public RemoteHoldemPlayerContext sitIn(SeatId seatId, int amount,
+			HoldemPlayerListener holdemPlayerListener) {
+		return this;
+	}
+
+	public void leaveTable() {
+		// the bots stay until the simulation stops
+	}
+
+	public void betOrRaise(int amount) throws IllegalActionException {
+		table.betOrRaise(seat, amount);
+	}
+
+	public void checkOrCall() throws IllegalActionException {
+		table.checkOrCall(seat);
+	}
+
+	public void fold() throws IllegalActionException {
+		table.fold(seat);
+	}
+
+	public void reSitIn() {
+		// nobody ever sits out
+	}
+
+	public void sitOut() throws IllegalActionException {
+		throw new IllegalActionException("Can not sit out of a simulated table.");
+	}
+
+	public void stopPlaying() throws IllegalActionException {
+		throw new IllegalActionException("Can not stop playing at a simulated table.");
+	}
+
+	public void startGame() {
+		// the simulator deals when it is asked to
+	}
+
+}
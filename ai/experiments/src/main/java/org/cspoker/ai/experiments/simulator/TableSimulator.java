@@ -0,0 +1,768 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.experiments.simulator;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import org.apache.log4j.Logger;
+import org.cspoker.ai.bots.bot.Bot;
+import org.cspoker.ai.bots.bot.BotFactory;
+import org.cspoker.ai.bots.util.RunningStats;
+import org.cspoker.client.common.GameStateContainer;
+import org.cspoker.client.common.gamestate.DetailedHoldemTableState;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.client.common.gamestate.modifiers.AllInState;
+import org.cspoker.client.common.gamestate.modifiers.BetState;
+import org.cspoker.client.common.gamestate.modifiers.BlindState;
+import org.cspoker.client.common.gamestate.modifiers.CallState;
+import org.cspoker.client.common.gamestate.modifiers.CheckState;
+import org.cspoker.client.common.gamestate.modifiers.FoldState;
+import org.cspoker.client.common.gamestate.modifiers.NewCommunityCardsState;
+import org.cspoker.client.common.gamestate.modifiers.NewDealState;
+import org.cspoker.client.common.gamestate.modifiers.NewPocketCardsState;
+import org.cspoker.client.common.gamestate.modifiers.NewRoundState;
+import org.cspoker.client.common.gamestate.modifiers.NextPlayerState;
+import org.cspoker.client.common.gamestate.modifiers.RaiseState;
+import org.cspoker.client.common.gamestate.modifiers.ShowHandState;
+import org.cspoker.client.common.gamestate.modifiers.WinnerState;
+import org.cspoker.common.api.lobby.holdemtable.event.AllInEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.BetEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.BlindEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CallEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CheckEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.FoldEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewCommunityCardsEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewDealEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewRoundEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.RaiseEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.ShowHandEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.WinnerEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.NewPocketCardsEvent;
+import org.cspoker.common.api.shared.exception.IllegalActionException;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.cards.Deck;
+import org.cspoker.common.elements.cards.DeckPool;
+import org.cspoker.common.elements.chips.Pots;
+import org.cspoker.common.elements.hand.Hand;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.player.SeatedPlayer;
+import org.cspoker.common.elements.player.ShowdownPlayer;
+import org.cspoker.common.elements.player.Winner;
+import org.cspoker.common.elements.table.DetailedHoldemTable;
+import org.cspoker.common.elements.table.Round;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+import org.cspoker.common.util.random.RandomSource;
+import org.cspoker.common.util.random.SeededRandomSource;
+import org.cspoker.server.embedded.gamecontrol.rules.BettingRules;
+import org.cspoker.server.embedded.gamecontrol.rules.NoLimit;
+
+/**
+ * Plays bots against each other without a server. The simulator applies the
+ * betting rules of the server table and splits the pots like its showdown,
+ * on a few arrays indexed by seat, and asks the bot on turn for its action
+ * on the calling thread. Nothing goes through a poker table, an executor or
+ * a chain of listeners.
+ * 
+ * The bots still read the game from the client game states, so every change
+ * is turned into the event the server would publish, once, and appended to
+ * the state of each seat. The order of the events is that of the server.
+ * 
+ * Every deal is dealt as in Doyle's game: all stacks start at 200 big blinds,
+ * so a deal does not depend on the ones before it. The decks come from a
+ * {@link DeckPool} without shuffling thread, so a {@link SeededRandomSource}
+ * deals the same cards every time. The bots only make the same decisions
+ * when they do not draw random numbers of their own.
+ */
+@NotThreadSafe
+public class TableSimulator {
+
+	private final static Logger logger = Logger.getLogger(TableSimulator.class);
+
+	private final TableConfiguration config;
+
+	private final DeckPool deckPool;
+
+	// no limit rules never look at the round, which only a server table has
+	private final BettingRules rules = new NoLimit();
+
+	private final ExecutorService executor = new DirectExecutorService();
+
+	private final int nbSeats;
+
+	private final int startStack;
+
+	private final PlayerId[] playerIds;
+
+	private final String[] names;
+
+	private final Bot[] bots;
+
+	private final GameStateContainer[] states;
+
+	private final RunningStats[] profits;
+
+	/***************************************************************************
+	 * The current deal, indexed by seat
+	 **************************************************************************/
+
+	private final int[] stacks;
+
+	private final int[] bets;
+
+	private final int[] investments;
+
+	private final boolean[] folded;
+
+	private final boolean[] allIn;
+
+	private final Card[][] pocketCards;
+
+	private final int[] handRanks;
+
+	private final int[] gained;
+
+	private final int[] potWinners;
+
+	private final List<Card> communityCards = new ArrayList<Card>(5);
+
+	private Deck deck;
+
+	private Deck stratifiedDeck;
+
+	private int nbStratifiedDeals;
+
+	private Round round;
+
+	private int dealer = -1;
+
+	private int current;
+
+	/**
+	 * The chips collected in the previous rounds of the deal.
+	 */
+	private int pot;
+
+	private int largestBet;
+
+	/**
+	 * The number of players that have not folded.
+	 */
+	private int nbLive;
+
+	/**
+	 * The number of players that have not folded and are not all-in.
+	 */
+	private int nbAble;
+
+	/**
+	 * The number of players that still have to act before the round ends.
+	 */
+	private int nbToAct;
+
+	private boolean acted;
+
+	private long nbDeals = 0;
+
+	/**
+	 * @param config
+	 *            the table configuration, it has to be a Doyle's game.
+	 * @param randomSource
+	 *            shuffles the decks.
+	 * @param botFactories
+	 *            create the bot on each seat, in seat order.
+	 */
+	public TableSimulator(TableConfiguration config, RandomSource randomSource,
+			BotFactory... botFactories) {
+		if (!config.isDoylesGame()) {
+			throw new IllegalArgumentException("Only Doyle's game is simulated.");
+		}
+		if (botFactories.length < 2
+				|| botFactories.length > config.getMaxNbPlayers()) {
+			throw new IllegalArgumentException("Between 2 and "
+					+ config.getMaxNbPlayers() + " bots play at a table: "
+					+ botFactories.length);
+		}
+		this.config = config;
+		this.deckPool = new DeckPool(randomSource, 0);
+		nbSeats = botFactories.length;
+		startStack = config.getDoylesGameStackSize();
+
+		playerIds = new PlayerId[nbSeats];
+		names = new String[nbSeats];
+		bots = new Bot[nbSeats];
+		states = new GameStateContainer[nbSeats];
+		profits = new RunningStats[nbSeats];
+		stacks = new int[nbSeats];
+		bets = new int[nbSeats];
+		investments = new int[nbSeats];
+		folded = new boolean[nbSeats];
+		allIn = new boolean[nbSeats];
+		pocketCards = new Card[nbSeats][2];
+		handRanks = new int[nbSeats];
+		gained = new int[nbSeats];
+		potWinners = new int[nbSeats];
+
+		TableId tableId = new TableId(0);
+		List<SeatedPlayer> players = new ArrayList<SeatedPlayer>(nbSeats);
+		for (int i = 0; i < nbSeats; i++) {
+			playerIds[i] = new PlayerId(i);
+			names[i] = botFactories[i].toString();
+			players.add(new SeatedPlayer(playerIds[i], new SeatId(i), names[i],
+					startStack, 0, true, false));
+		}
+		GameState initialState = new DetailedHoldemTableState(
+				new DetailedHoldemTable(tableId, "Simulator", players, false,
+						config));
+		for (int i = 0; i < nbSeats; i++) {
+			states[i] = new GameStateContainer(initialState);
+			profits[i] = new RunningStats();
+			SimulatedSeat seat = new SimulatedSeat(this, i, playerIds[i],
+					states[i]);
+			bots[i] = botFactories[i].createBot(playerIds[i], tableId, seat
+					.getLobbyContext(), startStack, executor);
+			bots[i].start();
+		}
+	}
+
+	/**
+	 * Plays the given number of deals.
+	 */
+	public void play(long nbDeals) {
+		for (long i = 0; i < nbDeals; i++) {
+			playDeal();
+		}
+	}
+
+	/**
+	 * Plays one deal, from the blinds to the winners.
+	 */
+	public void playDeal() {
+		startDeal();
+		while (true) {
+			if (nbLive == 1) {
+				collectBets();
+				awardPotToLastPlayer();
+				break;
+			}
+			if (nbToAct == 0) {
+				collectBets();
+				if (round == Round.FINAL) {
+					showdown();
+					break;
+				}
+				startRound(round.getNextRound());
+				continue;
+			}
+			askAction(current);
+			if (nbLive > 1 && nbToAct > 0) {
+				current = getNextAbleSeat(current);
+			}
+		}
+		endDeal();
+	}
+
+	public void stop() {
+		for (Bot bot : bots) {
+			bot.stop();
+		}
+		executor.shutdown();
+		deckPool.shutdown();
+	}
+
+	public int getNbSeats() {
+		return nbSeats;
+	}
+
+	public long getNbDeals() {
+		return nbDeals;
+	}
+
+	public String getName(int seat) {
+		return names[seat];
+	}
+
+	public Bot getBot(int seat) {
+		return bots[seat];
+	}
+
+	/**
+	 * The chips won by the bot on the given seat in each deal.
+	 */
+	public RunningStats getProfit(int seat) {
+		return profits[seat];
+	}
+
+	public TableConfiguration getConfig() {
+		return config;
+	}
+
+	/***************************************************************************
+	 * Deals and rounds
+	 **************************************************************************/
+
+	private void startDeal() {
+		dealer = (dealer + 1) % nbSeats;
+		deck = takeDeck();
+		Arrays.fill(stacks, startStack);
+		Arrays.fill(investments, 0);
+		Arrays.fill(folded, false);
+		Arrays.fill(allIn, false);
+		communityCards.clear();
+		pot = 0;
+		nbLive = nbSeats;
+		nbAble = nbSeats;
+
+		List<SeatedPlayer> players = new ArrayList<SeatedPlayer>(nbSeats);
+		for (int i = 0; i < nbSeats; i++) {
+			players.add(new SeatedPlayer(playerIds[i], new SeatId(i), names[i],
+					startStack, 0, true, false));
+		}
+		publish(new NewDealEvent(players, playerIds[dealer]));
+
+		startBettingRound(Round.PREFLOP);
+		// if there are only 2 players, blinds are inverted
+		int smallBlind = nbSeats == 2 ? dealer : getNextSeat(dealer);
+		int bigBlind = getNextSeat(smallBlind);
+		// a Doyle's game stack always covers the blinds
+		postBlind(smallBlind, config.getSmallBlind());
+		postBlind(bigBlind, config.getBigBlind());
+		for (int i = 1; i <= nbSeats; i++) {
+			int seat = (dealer + i) % nbSeats;
+			pocketCards[seat][0] = deck.drawCard();
+			pocketCards[seat][1] = deck.drawCard();
+			states[seat].setGameState(new NewPocketCardsState(states[seat]
+					.getGameState(), playerIds[seat], new NewPocketCardsEvent(
+					EnumSet.of(pocketCards[seat][0], pocketCards[seat][1]))));
+		}
+		nbToAct = nbAble;
+		current = getNextSeat(bigBlind);
+	}
+
+	private Deck takeDeck() {
+		if (!config.isStratifiedCards()) {
+			return deckPool.take();
+		}
+		// every seat gets the cards of every position once
+		if (stratifiedDeck == null || nbStratifiedDeals == nbSeats) {
+			stratifiedDeck = deckPool.take();
+			nbStratifiedDeals = 0;
+		}
+		++nbStratifiedDeals;
+		return new Deck(stratifiedDeck);
+	}
+
+	private void startRound(Round round) {
+		startBettingRound(round);
+		EnumSet<Card> newCards = EnumSet.noneOf(Card.class);
+		// burn a card before every street
+		deck.drawCard();
+		int nbCards = round == Round.FLOP ? 3 : 1;
+		for (int i = 0; i < nbCards; i++) {
+			Card card = deck.drawCard();
+			communityCards.add(card);
+			newCards.add(card);
+		}
+		publish(new NewCommunityCardsEvent(newCards));
+		nbToAct = nbAble > 1 ? nbAble : 0;
+		current = getNextAbleSeat(dealer);
+	}
+
+	private void startBettingRound(Round round) {
+		this.round = round;
+		rules.setBetPlaced(false);
+		rules.clearNBRaises();
+		rules.setLastBetAmount(config.getSmallBet());
+		Arrays.fill(bets, 0);
+		largestBet = 0;
+		publish(new NewRoundEvent(round, new Pots(pot)));
+	}
+
+	private void postBlind(int seat, int amount) {
+		moveToBet(seat, amount);
+		largestBet = amount;
+		rules.setBetPlaced(true);
+		rules.setLastBetAmount(amount);
+		publish(new BlindEvent(playerIds[seat], amount));
+	}
+
+	private void collectBets() {
+		for (int i = 0; i < nbSeats; i++) {
+			pot += bets[i];
+			bets[i] = 0;
+		}
+	}
+
+	private void endDeal() {
+		int total = 0;
+		for (int i = 0; i < nbSeats; i++) {
+			profits[i].add(stacks[i] - startStack);
+			total += stacks[i];
+		}
+		if (total != nbSeats * startStack) {
+			throw new IllegalStateException("Deal " + nbDeals + " ended with "
+					+ total + " chips instead of " + nbSeats * startStack);
+		}
+		++nbDeals;
+	}
+
+	private int getNextSeat(int seat) {
+		return (seat + 1) % nbSeats;
+	}
+
+	private int getNextAbleSeat(int seat) {
+		for (int i = 1; i <= nbSeats; i++) {
+			int next = (seat + i) % nbSeats;
+			if (!folded[next] && !allIn[next]) {
+				return next;
+			}
+		}
+		return -1;
+	}
+
+	/***************************************************************************
+	 * Actions
+	 **************************************************************************/
+
+	private void askAction(int seat) {
+		publish(new NextPlayerEvent(playerIds[seat]));
+		acted = false;
+		try {
+			bots[seat].doNextAction();
+		} catch (IllegalActionException e) {
+			throw new IllegalStateException(names[seat]
+					+ " tried an illegal action.", e);
+		} catch (RemoteException e) {
+			throw new IllegalStateException(names[seat] + " failed to act.", e);
+		}
+		if (!acted) {
+			throw new IllegalStateException(names[seat] + " did not act.");
+		}
+	}
+
+	void checkOrCall(int seat) throws IllegalActionException {
+		checkTurn(seat);
+		int deficit = largestBet - bets[seat];
+		if (deficit == 0) {
+			--nbToAct;
+			publish(new CheckEvent(playerIds[seat]));
+		} else if (deficit >= stacks[seat]) {
+			goAllIn(seat);
+		} else {
+			moveToBet(seat, deficit);
+			--nbToAct;
+			publish(new CallEvent(playerIds[seat], deficit));
+		}
+		acted = true;
+	}
+
+	void betOrRaise(int seat, int amount) throws IllegalActionException {
+		checkTurn(seat);
+		if (nbAble == 1) {
+			throw new IllegalActionException(names[seat]
+					+ " can not bet or raise, all other players are all-in.");
+		}
+		int deficit = largestBet - bets[seat];
+		if (largestBet == 0) {
+			if (!rules.isValidBet(amount, null)) {
+				throw new IllegalActionException(names[seat]
+						+ " can not bet. " + rules.getLastBetErrorMessage());
+			}
+			if (amount >= stacks[seat]) {
+				goAllIn(seat);
+			} else {
+				moveToBet(seat, amount);
+				largestBet = amount;
+				rules.setBetPlaced(true);
+				rules.setLastBetAmount(amount);
+				nbToAct = nbAble - 1;
+				publish(new BetEvent(playerIds[seat], amount));
+			}
+		} else if (amount + deficit >= stacks[seat]) {
+			goAllIn(seat);
+		} else {
+			if (!rules.isValidRaise(amount, null)) {
+				throw new IllegalActionException(names[seat]
+						+ " can not raise with " + amount + ". "
+						+ rules.getLastRaiseErrorMessage());
+			}
+			int movedAmount = deficit + amount;
+			moveToBet(seat, movedAmount);
+			largestBet += amount;
+			rules.incrementNBRaises();
+			rules.setLastBetAmount(amount);
+			nbToAct = nbAble - 1;
+			publish(new RaiseEvent(playerIds[seat], amount, movedAmount));
+		}
+		acted = true;
+	}
+
+	void fold(int seat) throws IllegalActionException {
+		checkTurn(seat);
+		folded[seat] = true;
+		--nbLive;
+		--nbAble;
+		--nbToAct;
+		publish(new FoldEvent(playerIds[seat]));
+		acted = true;
+	}
+
+	private void checkTurn(int seat) throws IllegalActionException {
+		if (seat != current || acted) {
+			throw new IllegalActionException(names[seat]
+					+ " can not act, it is not his turn.");
+		}
+	}
+
+	private void goAllIn(int seat) {
+		int amount = stacks[seat];
+		moveToBet(seat, amount);
+		allIn[seat] = true;
+		--nbAble;
+		if (bets[seat] > largestBet) {
+			if (largestBet > 0) {
+				rules.incrementNBRaises();
+			}
+			largestBet = bets[seat];
+			rules.setBetPlaced(true);
+			// as on the server, this does not change the minimum raise but
+			// everybody else has to act again
+			nbToAct = nbAble;
+		} else {
+			--nbToAct;
+		}
+		publish(new AllInEvent(playerIds[seat], amount));
+	}
+
+	private void moveToBet(int seat, int amount) {
+		stacks[seat] -= amount;
+		bets[seat] += amount;
+		investments[seat] += amount;
+	}
+
+	/***************************************************************************
+	 * Winners
+	 **************************************************************************/
+
+	private void awardPotToLastPlayer() {
+		int winner = 0;
+		while (folded[winner]) {
+			++winner;
+		}
+		stacks[winner] += pot;
+		publish(new WinnerEvent(Collections.singleton(new Winner(
+				playerIds[winner], pot))));
+	}
+
+	private void showdown() {
+		List<Card> cards = new ArrayList<Card>(7);
+		for (int i = 0; i < nbSeats; i++) {
+			if (!folded[i]) {
+				cards.clear();
+				cards.addAll(communityCards);
+				cards.add(pocketCards[i][0]);
+				cards.add(pocketCards[i][1]);
+				Hand hand = new Hand(cards);
+				handRanks[i] = hand.getBestFiveRank();
+				publish(new ShowHandEvent(new ShowdownPlayer(playerIds[i],
+						EnumSet.of(pocketCards[i][0], pocketCards[i][1]), hand
+								.getBestFive().getDescription())));
+			}
+		}
+
+		// every all-in amount caps a side pot
+		Arrays.fill(gained, 0);
+		int previousLevel = 0;
+		int distributed = 0;
+		while (true) {
+			int level = Integer.MAX_VALUE;
+			for (int i = 0; i < nbSeats; i++) {
+				if (!folded[i] && investments[i] > previousLevel) {
+					level = Math.min(level, investments[i]);
+				}
+			}
+			if (level == Integer.MAX_VALUE) {
+				break;
+			}
+			int amount = 0;
+			for (int i = 0; i < nbSeats; i++) {
+				amount += Math.min(investments[i], level)
+						- Math.min(investments[i], previousLevel);
+			}
+			int bestRank = Integer.MAX_VALUE;
+			int nbWinners = 0;
+			for (int i = 0; i < nbSeats; i++) {
+				if (!folded[i] && investments[i] >= level) {
+					if (handRanks[i] < bestRank) {
+						bestRank = handRanks[i];
+						nbWinners = 0;
+					}
+					if (handRanks[i] == bestRank) {
+						potWinners[nbWinners++] = i;
+					}
+				}
+			}
+			splitPot(amount, nbWinners);
+			distributed += amount;
+			previousLevel = level;
+		}
+		if (distributed != pot) {
+			throw new IllegalStateException("Split " + distributed
+					+ " chips of a pot of " + pot);
+		}
+
+		Set<Winner> winners = new HashSet<Winner>();
+		for (int i = 0; i < nbSeats; i++) {
+			if (gained[i] > 0) {
+				stacks[i] += gained[i];
+				winners.add(new Winner(playerIds[i], gained[i]));
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Deal " + nbDeals + " on " + communityCards + ": "
+					+ winners);
+		}
+		publish(new WinnerEvent(winners));
+	}
+
+	private void splitPot(int amount, int nbWinners) {
+		int share = amount / nbWinners;
+		for (int i = 0; i < nbWinners; i++) {
+			gained[potWinners[i]] += share;
+		}
+		int oddChips = amount - share * nbWinners;
+		if (oddChips == 0) {
+			return;
+		}
+		// the player with the single highest card gets the odd chips, as in
+		// the showdown of the server
+		int winner = potWinners[0];
+		Card highestCard = getHighestPocketCard(winner);
+		for (int i = 1; i < nbWinners; i++) {
+			Card otherHighestCard = getHighestPocketCard(potWinners[i]);
+			int compareSingleBestCard = highestCard.compareTo(otherHighestCard);
+			if ((compareSingleBestCard > 0)
+					|| ((compareSingleBestCard == 0) && (otherHighestCard
+							.getSuit().compareTo(highestCard.getSuit()) > 0))) {
+				winner = potWinners[i];
+				highestCard = otherHighestCard;
+			}
+		}
+		gained[winner] += oddChips;
+	}
+
+	private Card getHighestPocketCard(int seat) {
+		return new Hand(EnumSet.of(pocketCards[seat][0], pocketCards[seat][1]))
+				.getHighestRankCard();
+	}
+
+	/***************************************************************************
+	 * Game states of the seats
+	 **************************************************************************/
+
+	private void publish(NewDealEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new NewDealState(event, state.getGameState(),
+					state.getNbRetainedDeals()));
+		}
+	}
+
+	private void publish(NewRoundEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new NewRoundState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(NewCommunityCardsEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new NewCommunityCardsState(state.getGameState(),
+					event));
+		}
+	}
+
+	private void publish(NextPlayerEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new NextPlayerState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(BlindEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new BlindState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(CheckEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new CheckState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(CallEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new CallState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(BetEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new BetState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(RaiseEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new RaiseState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(AllInEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new AllInState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(FoldEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new FoldState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(ShowHandEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new ShowHandState(state.getGameState(), event));
+		}
+	}
+
+	private void publish(WinnerEvent event) {
+		for (GameStateContainer state : states) {
+			state.setGameState(new WinnerState(state.getGameState(), event));
+		}
+	}
+
+}
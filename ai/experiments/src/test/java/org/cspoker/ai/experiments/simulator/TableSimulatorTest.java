@@ -0,0 +1,338 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.experiments.simulator;
+
+import java.rmi.RemoteException;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import junit.framework.TestCase;
+
+import org.cspoker.ai.bots.bot.AbstractBot;
+import org.cspoker.ai.bots.bot.Bot;
+import org.cspoker.ai.bots.bot.BotFactory;
+import org.cspoker.ai.bots.listener.BotListener;
+import org.cspoker.client.common.SmartLobbyContext;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.common.api.lobby.holdemtable.event.ShowHandEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.WinnerEvent;
+import org.cspoker.common.api.lobby.holdemtable.listener.ForwardingHoldemTableListener;
+import org.cspoker.common.api.shared.exception.IllegalActionException;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.cards.Deck;
+import org.cspoker.common.elements.player.MutablePlayer;
+import org.cspoker.common.elements.player.MutableSeatedPlayer;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.player.Winner;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+import org.cspoker.common.util.random.SeededRandomSource;
+import org.cspoker.server.embedded.account.ExtendedAccountContext;
+import org.cspoker.server.embedded.elements.table.ServerTable;
+import org.cspoker.server.embedded.gamecontrol.Game;
+import org.cspoker.server.embedded.gamecontrol.PlayingTableState;
+import org.cspoker.server.embedded.gamecontrol.PokerTable;
+import org.cspoker.server.embedded.player.PlayerFactory;
+
+/**
+ * Plays the same deals in the simulator and on a server table and compares
+ * the winners. Every deal is dealt from a deck shuffled with a fixed seed and
+ * follows a script of actions, in the order the players are on turn:
+ * <code>a</code> goes all-in, <code>c</code> calls, <code>k</code> checks
+ * and <code>f</code> folds. The first seat deals.
+ */
+public class TableSimulatorTest extends TestCase {
+
+	private final static int NB_SEEDS = 100;
+
+	private final static int SMALL_BET = 10;
+
+	private final TableConfiguration simulatorConfig = new TableConfiguration(
+			SMALL_BET, 0, false, false, true, 0);
+
+	// the server table deals the deck it is given when the cards are
+	// stratified
+	private final TableConfiguration serverConfig = new TableConfiguration(
+			SMALL_BET, 0, false, true, false, 0);
+
+	private final PokerTable pokerTable = new PokerTable(new TableId(0),
+			"table", serverConfig, new ExtendedAccountContext() {
+
+				public void changePassword(String passwordHash) {
+				}
+
+				public void createAccount(String username, String passwordHash) {
+				}
+
+				public byte[] getAvatar(PlayerId playerId) {
+					return null;
+				}
+
+				public MutablePlayer getPlayer() {
+					return null;
+				}
+
+				public boolean hasPassword(String passwordHash) {
+					return false;
+				}
+
+				public void setAvatar(byte[] avatar) {
+				}
+
+				public PlayerId getPlayerID() {
+					return new PlayerId(0);
+				}
+
+			});
+
+	private final Showdown showdown = new Showdown();
+
+	private int nbSplitPots = 0;
+
+	@Override
+	protected void setUp() throws Exception {
+		pokerTable.subscribeHoldemTableListener(showdown);
+	}
+
+	public void testHeadsUpAllIn() throws Exception {
+		replay(2, "ac");
+	}
+
+	public void testThreeWayAllIn() throws Exception {
+		replay(3, "acc");
+	}
+
+	public void testAllInWithDeadBlind() throws Exception {
+		replay(3, "afc");
+		replay(3, "fac");
+	}
+
+	public void testFourWayAllIn() throws Exception {
+		replay(4, "accc");
+		replay(4, "acfc");
+		replay(4, "cfacc");
+	}
+
+	public void testCheckedDown() throws Exception {
+		replay(3, "cck" + "kkk" + "kkk" + "kkk");
+	}
+
+	public void testSplitPots() throws Exception {
+		replay(4, "ccck" + "kkkk" + "kkkk" + "kkkk");
+		replay(4, "fcck" + "kkk" + "kkk" + "kkk");
+		// the fixed decks have to tie a few times, or the odd chips are not
+		// compared
+		assertTrue(nbSplitPots > 0);
+	}
+
+	private void replay(int nbPlayers, String script) throws Exception {
+		for (int seed = 0; seed < NB_SEEDS; seed++) {
+			replay(nbPlayers, script, seed);
+		}
+	}
+
+	private void replay(int nbPlayers, String script, long seed)
+			throws Exception {
+		String deal = nbPlayers + " players, " + script + ", seed " + seed;
+
+		// a source with the same seed shuffles the same first deck
+		Script simulatorScript = new Script(script);
+		ScriptedBotFactory[] factories = new ScriptedBotFactory[nbPlayers];
+		for (int i = 0; i < nbPlayers; i++) {
+			factories[i] = new ScriptedBotFactory(simulatorScript);
+		}
+		TableSimulator simulator = new TableSimulator(simulatorConfig,
+				new SeededRandomSource(seed), factories);
+		simulator.playDeal();
+		simulator.stop();
+		assertTrue(deal, simulatorScript.isDone());
+		ScriptedBot[] bots = new ScriptedBot[nbPlayers];
+		for (int i = 0; i < nbPlayers; i++) {
+			bots[i] = (ScriptedBot) simulator.getBot(i);
+		}
+		WinnerEvent simulatorWinners = (WinnerEvent) bots[0].getGameState()
+				.getLastEvent();
+
+		ServerTable table = new ServerTable(serverConfig);
+		MutableSeatedPlayer[] players = new MutableSeatedPlayer[nbPlayers];
+		Map<PlayerId, Integer> seats = new HashMap<PlayerId, Integer>();
+		for (int i = 0; i < nbPlayers; i++) {
+			MutablePlayer player = PlayerFactory.global_Player_Factory
+					.createNewPlayer("Player " + i, serverConfig
+							.getDoylesGameStackSize());
+			players[i] = new MutableSeatedPlayer(player, serverConfig
+					.getDoylesGameStackSize());
+			assertEquals(i, table.addPlayer(players[i]).getId());
+			seats.put(player.getId(), i);
+		}
+		table.setPreviousDeck(Deck.createRandomDeck(new SeededRandomSource(
+				seed).getRandom()));
+		table.setNbDeckIterations(0);
+		showdown.clear();
+		PlayingTableState gameControl = new PlayingTableState(pokerTable,
+				table, players[0]);
+		gameControl.deal();
+		Game game = gameControl.getGame();
+		Script serverScript = new Script(script);
+		while (!serverScript.isDone()) {
+			MutableSeatedPlayer player = game.getCurrentPlayer();
+			switch (serverScript.next()) {
+			case 'a':
+				gameControl.allIn(player);
+				break;
+			case 'c':
+				gameControl.call(player);
+				break;
+			case 'k':
+				gameControl.check(player);
+				break;
+			case 'f':
+				gameControl.fold(player);
+				break;
+			}
+		}
+		assertNotNull(deal, showdown.winners);
+
+		// both dealt the same cards
+		assertFalse(deal, showdown.shown.isEmpty());
+		for (Map.Entry<PlayerId, EnumSet<Card>> shown : showdown.shown
+				.entrySet()) {
+			ScriptedBot bot = bots[seats.get(shown.getKey())];
+			assertEquals(deal, shown.getValue(), bot.getPocketCards());
+		}
+
+		Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+		for (Winner winner : showdown.winners.getWinners()) {
+			expected.put(seats.get(winner.getPlayerId()), winner
+					.getGainedAmount());
+		}
+		Map<Integer, Integer> actual = new HashMap<Integer, Integer>();
+		// the simulator numbers its players by seat
+		for (Winner winner : simulatorWinners.getWinners()) {
+			actual.put((int) winner.getPlayerId().getId(), winner
+					.getGainedAmount());
+		}
+		assertEquals(deal, expected, actual);
+		if (expected.size() > 1) {
+			++nbSplitPots;
+		}
+	}
+
+	/**
+	 * The actions of one deal, shared by all players.
+	 */
+	private static class Script {
+
+		private final String actions;
+
+		private int next = 0;
+
+		Script(String actions) {
+			this.actions = actions;
+		}
+
+		char next() {
+			return actions.charAt(next++);
+		}
+
+		boolean isDone() {
+			return next == actions.length();
+		}
+	}
+
+	/**
+	 * Keeps the hands that are shown and the winners of a server deal.
+	 */
+	private static class Showdown extends ForwardingHoldemTableListener {
+
+		private final Map<PlayerId, EnumSet<Card>> shown = new HashMap<PlayerId, EnumSet<Card>>();
+
+		private WinnerEvent winners;
+
+		void clear() {
+			shown.clear();
+			winners = null;
+		}
+
+		@Override
+		public void onShowHand(ShowHandEvent showHandEvent) {
+			shown.put(showHandEvent.getShowdownPlayer().getPlayerId(),
+					showHandEvent.getShowdownPlayer().getHandCards());
+		}
+
+		@Override
+		public void onWinner(WinnerEvent winnerEvent) {
+			winners = winnerEvent;
+		}
+	}
+
+	private static class ScriptedBot extends AbstractBot {
+
+		private final Script script;
+
+		ScriptedBot(PlayerId playerId, TableId tableId,
+				SmartLobbyContext lobby, int buyIn, ExecutorService executor,
+				Script script) {
+			super(playerId, tableId, lobby, buyIn, executor);
+			this.script = script;
+		}
+
+		@Override
+		public void doNextAction() throws RemoteException,
+				IllegalActionException {
+			switch (script.next()) {
+			case 'a':
+				// betting the whole stack goes all-in
+				playerContext.betOrRaise(getGameState().getPlayer(botId)
+						.getStack());
+				break;
+			case 'c':
+			case 'k':
+				playerContext.checkOrCall();
+				break;
+			case 'f':
+				playerContext.fold();
+				break;
+			}
+		}
+
+		GameState getGameState() {
+			return tableContext.getGameState();
+		}
+
+		EnumSet<Card> getPocketCards() {
+			return playerContext.getPocketCards();
+		}
+	}
+
+	private static class ScriptedBotFactory implements BotFactory {
+
+		private final Script script;
+
+		ScriptedBotFactory(Script script) {
+			this.script = script;
+		}
+
+		public Bot createBot(PlayerId playerId, TableId tableId,
+				SmartLobbyContext lobby, int buyIn, ExecutorService executor,
+				BotListener... botListeners) {
+			return new ScriptedBot(playerId, tableId, lobby, buyIn, executor,
+					script);
+		}
+	}
+}
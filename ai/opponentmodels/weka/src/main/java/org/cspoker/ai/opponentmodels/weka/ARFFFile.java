@@ -27,7 +27,8 @@ public class ARFFFile {
 	
 	private Instances instances;
 	private ArrayList<Prediction> predictions;
-	private M5P cl = null;
+	// the last model, trained on the ModelTrainer
+	private volatile M5P cl = null;
 	
 	private boolean echo = false;
 	
@@ -93,7 +94,7 @@ public class ARFFFile {
 		file.close();
 	}
 
-	public void write(Instance instance) {
+	public synchronized void write(Instance instance) {
 //		System.out.println("Writing instance " + (count +1) + " in file " + name);
 		try {
 			count++;
@@ -233,11 +234,14 @@ public class ARFFFile {
 	public Classifier createModel(String fileName, String attribute, String[] rmAttributes) throws Exception {
 //		System.out.println("Creating model for " + player + name);
 		Instances data;
-		if (config.solveConceptDrift())
-			data = instances;
-		else {
-			DataSource source = new DataSource(path + player + name);
-		    data = source.getDataSet();
+		// copy the window, the table events keep coming while we train
+		synchronized (this) {
+			if (config.solveConceptDrift())
+				data = new Instances(instances);
+			else {
+				DataSource source = new DataSource(path + player + name);
+			    data = source.getDataSet();
+			}
 		}
 	    if (rmAttributes.length > 0) {
 		    String[] optionsDel = new String[2];
@@ -256,12 +260,13 @@ public class ARFFFile {
 	    	data.setClass(data.attribute(attribute));
 	    
 	    // train M5P
-	    cl = new M5P();
+	    M5P cl = new M5P();
 	    cl.setBuildRegressionTree(true);
 	    cl.setUnpruned(false);
 	    cl.setUseUnsmoothed(false);
 	    // further options...
 	    cl.buildClassifier(data);
+	    this.cl = cl;
 	    
 //	    System.out.println("Number of instances: " + data.numInstances());
 //	    System.out.println("Number of measures: " + cl.measureNumRules());
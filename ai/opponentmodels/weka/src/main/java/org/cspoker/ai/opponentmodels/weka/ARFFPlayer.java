@@ -7,6 +7,7 @@ import java.net.URL;
 import org.apache.log4j.Logger;
 import org.cspoker.common.elements.player.PlayerId;
 
+import weka.classifiers.Classifier;
 import weka.core.Instance;
 
 public class ARFFPlayer {
@@ -30,6 +31,8 @@ public class ARFFPlayer {
 	private ActionTrackingVisitor actions = null;
 	
 	private long writeCounter = 0;
+
+	private final ModelTrainer trainer = ModelTrainer.getInstance();
 	
 	public ARFFPlayer(Object player, WekaRegressionModel baseModel, WekaOptions config,
 			ActionTrackingVisitor actions) {
@@ -155,13 +158,16 @@ public class ARFFPlayer {
 	}
 	
 	public void learnPreCheckBet() {
-		try {
+		learn(preCheckBetTraining);
+	}
+
+	private final ModelTrainer.Training preCheckBetTraining = new PlayerTraining("preCheckBet") {
+		@Override
+		protected void train() throws Exception {
 			logger.trace("Learning preBetModel for player " + player);
 			model.setPreBetModel(preCheckBetFile.createModel("preBet", "betProb", new String[]{"action"}));
-		} catch (Exception e) {
-			e.printStackTrace();
 		}
-	}
+	};
 
 	public void addPostCheckBetPrediction(Prediction p) {
 		postCheckBetFile.addPrediction(p);		
@@ -181,13 +187,16 @@ public class ARFFPlayer {
 	}
 	
 	public void learnPostCheckBet() {
-		try {
+		learn(postCheckBetTraining);
+	}
+
+	private final ModelTrainer.Training postCheckBetTraining = new PlayerTraining("postCheckBet") {
+		@Override
+		protected void train() throws Exception {
 			logger.trace("Learning postBetModel for player " + player);
 			model.setPostBetModel(postCheckBetFile.createModel("postBet", "betProb", new String[]{"action"}));
-		} catch (Exception e) {
-			e.printStackTrace();
 		}
-	}
+	};
 
 	public void addPreFoldCallRaisePrediction(Prediction p) {
 		preFoldCallRaiseFile.addPrediction(p);		
@@ -207,17 +216,22 @@ public class ARFFPlayer {
 	}
 	
 	public void learnPreFoldCallRaise() {
-		try {
+		learn(preFoldCallRaiseTraining);
+	}
+
+	private final ModelTrainer.Training preFoldCallRaiseTraining = new PlayerTraining("preFoldCallRaise") {
+		@Override
+		protected void train() throws Exception {
 			logger.trace("Learning preFoldModel for player " + player);
-			model.setPreFoldModel(preFoldCallRaiseFile.createModel("preFold", "foldProb",  new String[]{"callProb", "raiseProb", "action"}));
+			Classifier fold = preFoldCallRaiseFile.createModel("preFold", "foldProb",  new String[]{"callProb", "raiseProb", "action"});
 			logger.trace("Learning preCallModel for player " + player);
-			model.setPreCallModel(preFoldCallRaiseFile.createModel("preCall", "callProb",  new String[]{"foldProb", "raiseProb", "action"}));
+			Classifier call = preFoldCallRaiseFile.createModel("preCall", "callProb",  new String[]{"foldProb", "raiseProb", "action"});
 			logger.trace("Learning preRaiseModel for player " + player);
-			model.setPreRaiseModel(preFoldCallRaiseFile.createModel("preRaise", "raiseProb", new String[]{"callProb", "foldProb", "action"}));
-		} catch (Exception e) {
-			e.printStackTrace();
+			Classifier raise = preFoldCallRaiseFile.createModel("preRaise", "raiseProb", new String[]{"callProb", "foldProb", "action"});
+			// swap them together, the probabilities are normalized over the three
+			model.setPreFoldCallRaiseModels(fold, call, raise);
 		}
-	}
+	};
 
 	public void addPostFoldCallRaisePrediction(Prediction p) {
 		postFoldCallRaiseFile.addPrediction(p);		
@@ -237,17 +251,21 @@ public class ARFFPlayer {
 	}
 
 	public void learnPostFoldCallRaise() {
-		try {
+		learn(postFoldCallRaiseTraining);
+	}
+
+	private final ModelTrainer.Training postFoldCallRaiseTraining = new PlayerTraining("postFoldCallRaise") {
+		@Override
+		protected void train() throws Exception {
 			logger.trace("Learning postFoldModel for player " + player);
-			model.setPostFoldModel(postFoldCallRaiseFile.createModel("postFold", "foldProb",  new String[]{"callProb", "raiseProb", "action"}));
+			Classifier fold = postFoldCallRaiseFile.createModel("postFold", "foldProb",  new String[]{"callProb", "raiseProb", "action"});
 			logger.trace("Learning postCallModel for player " + player);
-			model.setPostCallModel(postFoldCallRaiseFile.createModel("postCall", "callProb",  new String[]{"foldProb", "raiseProb", "action"}));
+			Classifier call = postFoldCallRaiseFile.createModel("postCall", "callProb",  new String[]{"foldProb", "raiseProb", "action"});
 			logger.trace("Learning postRaiseModel for player " + player);
-			model.setPostRaiseModel(postFoldCallRaiseFile.createModel("postRaise", "raiseProb", new String[]{"callProb", "foldProb", "action"}));
-		} catch (Exception e) {
-			e.printStackTrace();
+			Classifier raise = postFoldCallRaiseFile.createModel("postRaise", "raiseProb", new String[]{"callProb", "foldProb", "action"});
+			model.setPostFoldCallRaiseModels(fold, call, raise);
 		}
-	}
+	};
 
 	public void addShowdownPrediction(Prediction p) {
 		showdownFile.addPrediction(p);		
@@ -267,21 +285,54 @@ public class ARFFPlayer {
 	}
 	
 	public void learnShowdown() {
-		try {
+		learn(showdownTraining);
+	}
+
+	private final ModelTrainer.Training showdownTraining = new PlayerTraining("showdown") {
+		@Override
+		protected void train() throws Exception {
 			logger.trace("Learning showdown0Model for player " + player);
-			model.setShowdown0Model(showdownFile.createModel("showdown0", "part0Prob", new String[]{"part1Prob", "part2Prob", "part3Prob", "part4Prob", "part5Prob", "avgPartition"}));
+			Classifier showdown0 = showdownFile.createModel("showdown0", "part0Prob", new String[]{"part1Prob", "part2Prob", "part3Prob", "part4Prob", "part5Prob", "avgPartition"});
 			logger.trace("Learning showdown1Model for player " + player);
-			model.setShowdown1Model(showdownFile.createModel("showdown1", "part1Prob", new String[]{"part0Prob", "part2Prob", "part3Prob", "part4Prob", "part5Prob", "avgPartition"}));
+			Classifier showdown1 = showdownFile.createModel("showdown1", "part1Prob", new String[]{"part0Prob", "part2Prob", "part3Prob", "part4Prob", "part5Prob", "avgPartition"});
 			logger.trace("Learning showdown2Model for player " + player);
-			model.setShowdown2Model(showdownFile.createModel("showdown5", "part2Prob", new String[]{"part0Prob", "part1Prob", "part3Prob", "part4Prob", "part5Prob", "avgPartition"}));
+			Classifier showdown2 = showdownFile.createModel("showdown5", "part2Prob", new String[]{"part0Prob", "part1Prob", "part3Prob", "part4Prob", "part5Prob", "avgPartition"});
 			logger.trace("Learning showdown3Model for player " + player);
-			model.setShowdown3Model(showdownFile.createModel("showdown3", "part3Prob", new String[]{"part0Prob", "part1Prob", "part2Prob", "part4Prob", "part5Prob", "avgPartition"}));
+			Classifier showdown3 = showdownFile.createModel("showdown3", "part3Prob", new String[]{"part0Prob", "part1Prob", "part2Prob", "part4Prob", "part5Prob", "avgPartition"});
 			logger.trace("Learning showdown4Model for player " + player);
-			model.setShowdown4Model(showdownFile.createModel("showdown4", "part4Prob", new String[]{"part0Prob", "part1Prob", "part2Prob", "part3Prob", "part5Prob", "avgPartition"}));
+			Classifier showdown4 = showdownFile.createModel("showdown4", "part4Prob", new String[]{"part0Prob", "part1Prob", "part2Prob", "part3Prob", "part5Prob", "avgPartition"});
 			logger.trace("Learning showdown5Model for player " + player);
-			model.setShowdown5Model(showdownFile.createModel("showdown5", "part5Prob", new String[]{"part0Prob", "part1Prob", "part2Prob", "part3Prob", "part4Prob", "avgPartition"}));
-		} catch (Exception e) {
-			e.printStackTrace();
+			Classifier showdown5 = showdownFile.createModel("showdown5", "part5Prob", new String[]{"part0Prob", "part1Prob", "part2Prob", "part3Prob", "part4Prob", "avgPartition"});
+			model.setShowdownModels(showdown0, showdown1, showdown2, showdown3, showdown4, showdown5);
+		}
+	};
+	
+	private abstract class PlayerTraining extends ModelTrainer.Training {
+
+		public PlayerTraining(String name) {
+			super(name);
+		}
+
+		@Override
+		public String toString() {
+			return super.toString() + " of " + player;
+		}
+
+	}
+
+	/**
+	 * Trains on the {@link ModelTrainer}, or right away when background
+	 * training is off. A training that is still queued is not queued again.
+	 */
+	private void learn(ModelTrainer.Training training) {
+		if (config.backgroundTraining()) {
+			trainer.request(training);
+		} else {
+			try {
+				training.train();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
 		}
 	}
 	
@@ -0,0 +1,221 @@
+package org.cspoker.ai.opponentmodels.weka;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.apache.log4j.Logger;
+import org.cspoker.common.util.threading.LoggingThreadFactory;
+
+/**
+ * Builds the classifiers of the online learning models in the background, so
+ * the thread that delivers the table events never waits for an M5P tree to be
+ * trained.
+ *
+ * A {@link Training} that is requested while it is still waiting in the queue
+ * is not queued again: when it runs it uses the instances gathered until then.
+ * The queue is bounded, a request that does not fit is dropped and the next
+ * one for the same model tries again.
+ */
+@ThreadSafe
+public final class ModelTrainer {
+
+	private final static Logger logger = Logger.getLogger(ModelTrainer.class);
+
+	public final static int QUEUE_CAPACITY = 256;
+
+	private static class InstanceHolder {
+		private final static ModelTrainer instance = new ModelTrainer(1,
+				QUEUE_CAPACITY);
+	}
+
+	/**
+	 * The trainer shared by all players, with a single thread.
+	 */
+	public static ModelTrainer getInstance() {
+		return InstanceHolder.instance;
+	}
+
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicLong nbRequests = new AtomicLong();
+	private final AtomicLong nbCoalesced = new AtomicLong();
+	private final AtomicLong nbRejected = new AtomicLong();
+	private final AtomicLong nbTrainings = new AtomicLong();
+	private final AtomicLong nbFailures = new AtomicLong();
+	private final AtomicLong totalTrainingTime = new AtomicLong();
+	private final AtomicLong maxTrainingTime = new AtomicLong();
+	private final AtomicLong totalWaitingTime = new AtomicLong();
+
+	public ModelTrainer(int nbThreads, int queueCapacity) {
+		final ThreadFactory threadFactory = new LoggingThreadFactory(
+				"CSPoker-WekaTrainer");
+		executor = new ThreadPoolExecutor(nbThreads, nbThreads, 0,
+				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(
+						queueCapacity), new ThreadFactory() {
+					public Thread newThread(Runnable r) {
+						// a pending training should not keep a bot alive
+						Thread thread = threadFactory.newThread(r);
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+	}
+
+	/**
+	 * Schedules the given training, unless it is already waiting to run.
+	 */
+	public void request(final Training training) {
+		nbRequests.incrementAndGet();
+		if (!training.pending.compareAndSet(false, true)) {
+			nbCoalesced.incrementAndGet();
+			return;
+		}
+		final long requested = System.nanoTime();
+		try {
+			executor.execute(new Runnable() {
+				public void run() {
+					// requests from now on need a new training
+					training.pending.set(false);
+					long start = System.nanoTime();
+					totalWaitingTime.addAndGet(start - requested);
+					try {
+						training.train();
+					} catch (Exception e) {
+						nbFailures.incrementAndGet();
+						logger.error("Failed to train " + training, e);
+						return;
+					}
+					long time = System.nanoTime() - start;
+					nbTrainings.incrementAndGet();
+					totalTrainingTime.addAndGet(time);
+					long max;
+					do {
+						max = maxTrainingTime.get();
+					} while (time > max
+							&& !maxTrainingTime.compareAndSet(max, time));
+					if (logger.isDebugEnabled()) {
+						logger.debug("Trained " + training + " in " + time
+								/ 1000000 + "ms, " + getQueueDepth()
+								+ " waiting");
+					}
+				}
+
+				@Override
+				public String toString() {
+					return training.toString();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			training.pending.set(false);
+			nbRejected.incrementAndGet();
+			logger.warn("Training queue is full, dropped " + training);
+		}
+	}
+
+	/**
+	 * The number of trainings waiting to run.
+	 */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public long getNbRequests() {
+		return nbRequests.get();
+	}
+
+	/**
+	 * The number of requests for a training that was already waiting.
+	 */
+	public long getNbCoalesced() {
+		return nbCoalesced.get();
+	}
+
+	/**
+	 * The number of requests dropped because the queue was full.
+	 */
+	public long getNbRejected() {
+		return nbRejected.get();
+	}
+
+	public long getNbTrainings() {
+		return nbTrainings.get();
+	}
+
+	public long getNbFailures() {
+		return nbFailures.get();
+	}
+
+	/**
+	 * The mean time to train a model, in milliseconds.
+	 */
+	public double getMeanTrainingTime() {
+		long n = nbTrainings.get();
+		return n == 0 ? 0 : totalTrainingTime.get() / 1E6 / n;
+	}
+
+	/**
+	 * The longest time to train a model, in milliseconds.
+	 */
+	public double getMaxTrainingTime() {
+		return maxTrainingTime.get() / 1E6;
+	}
+
+	/**
+	 * The mean time a training waited in the queue, in milliseconds.
+	 */
+	public double getMeanWaitingTime() {
+		long n = nbTrainings.get() + nbFailures.get();
+		return n == 0 ? 0 : totalWaitingTime.get() / 1E6 / n;
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	@Override
+	public String toString() {
+		return "ModelTrainer[requests=" + getNbRequests() + ", coalesced="
+				+ getNbCoalesced() + ", rejected=" + getNbRejected()
+				+ ", trainings=" + getNbTrainings() + ", failures="
+				+ getNbFailures() + ", queued=" + getQueueDepth()
+				+ ", meanTime=" + getMeanTrainingTime() + "ms, maxTime="
+				+ getMaxTrainingTime() + "ms, meanWait="
+				+ getMeanWaitingTime() + "ms]";
+	}
+
+	/**
+	 * Builds one or more classifiers and swaps them into a model. Classifiers
+	 * that are used together are swapped in with a single write, so a
+	 * prediction never mixes old and new ones. Each instance is queued at
+	 * most once at a time.
+	 */
+	public static abstract class Training {
+
+		private final AtomicBoolean pending = new AtomicBoolean();
+
+		private final String name;
+
+		public Training(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Called on a trainer thread, never concurrently with itself.
+		 */
+		protected abstract void train() throws Exception;
+
+		@Override
+		public String toString() {
+			return name;
+		}
+
+	}
+
+}
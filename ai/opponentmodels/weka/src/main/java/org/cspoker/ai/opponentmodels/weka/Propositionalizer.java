@@ -15,6 +15,7 @@
  */
 package org.cspoker.ai.opponentmodels.weka;
 
+import java.nio.IntBuffer;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -249,13 +250,13 @@ public class Propositionalizer implements Cloneable {
 
 			int startRank = 53;
 			for (Card card:cards) {
-				startRank = handRanks[card.ordinal() + 1 + startRank];
+				startRank = handRanks.get(card.ordinal() + 1 + startRank);
 			}
 
 			//add real rank
 			int realRank = startRank;
-			realRank = handRanks[card1.ordinal() + 1 + realRank];
-			realRank = handRanks[card2.ordinal() + 1 + realRank];
+			realRank = handRanks.get(card1.ordinal() + 1 + realRank);
+			realRank = handRanks.get(card2.ordinal() + 1 + realRank);
 			int realType = (realRank >>> 12) - 1;
 			realRank = realRank & 0xFFF;
 			realRank = offsets[realType] + realRank - 1;
@@ -271,13 +272,13 @@ public class Propositionalizer implements Cloneable {
 				do{
 					sampleCard1 = Card.values()[random.nextInt(Card.values().length)];
 				}while(cards.contains(sampleCard1));
-				rank = handRanks[sampleCard1.ordinal() + 1 + rank];
+				rank = handRanks.get(sampleCard1.ordinal() + 1 + rank);
 
 				Card sampleCard2;
 				do{
 					sampleCard2 = Card.values()[random.nextInt(Card.values().length)];
 				}while(cards.contains(sampleCard2) || sampleCard2.equals(sampleCard1));
-				rank = handRanks[sampleCard2.ordinal() + 1 + rank];
+				rank = handRanks.get(sampleCard2.ordinal() + 1 + rank);
 
 				int type = (rank >>> 12) - 1;
 				rank = rank & 0xFFF;
@@ -347,7 +348,7 @@ public class Propositionalizer implements Cloneable {
 		}
 	}
 
-	private final static int[] handRanks;
+	private final static IntBuffer handRanks;
 	static {
 		handRanks = StateTableEvaluator.getInstance().handRanks;
 	}
@@ -26,6 +26,10 @@ public class WekaOptions {
 	private boolean continueAfterCreation = true; 
 
 	private boolean modelPersistency = true;
+
+	/** train new models on the {@link ModelTrainer} instead of the thread
+	 * that reports the actions */
+	private boolean backgroundTraining = true;
 	
 	public boolean useOnlineLearning() {
 		return useOnlineLearning;
@@ -102,6 +106,14 @@ public class WekaOptions {
 		this.modelPersistency = modelPersistency;
 	}
 
+	public boolean backgroundTraining() {
+		return backgroundTraining;
+	}
+
+	public void setBackgroundTraining(boolean backgroundTraining) {
+		this.backgroundTraining = backgroundTraining;
+	}
+
 	public double getCdHighCoverage() {
 		return cdHighCoverage;
 	}
@@ -23,79 +23,56 @@ import org.cspoker.ai.opponentmodels.weka.Propositionalizer;
 import org.cspoker.ai.opponentmodels.weka.WekaModel;
 import org.cspoker.ai.opponentmodels.weka.WekaRegressionModel;
 
+import net.jcip.annotations.Immutable;
 import weka.classifiers.Classifier;
 import weka.core.Instance;
 
 public class WekaRegressionModel extends WekaModel {
 
-	protected Classifier preBetModel;
-	protected Classifier preFoldModel;
-	protected Classifier preCallModel;
-	protected Classifier preRaiseModel;
-	protected Classifier postBetModel;
-	protected Classifier postFoldModel;
-	protected Classifier postCallModel;
-	protected Classifier postRaiseModel;
-	protected Classifier showdown0Model;
-	protected Classifier showdown1Model;
-	protected Classifier showdown2Model;
-	protected Classifier showdown3Model;
-	protected Classifier showdown4Model;
-	protected Classifier showdown5Model;
+	// replaced by the ModelTrainer while the bot reads them, the classifiers
+	// that are used together are replaced together
+	protected volatile Classifier preBetModel;
+	protected volatile FoldCallRaiseModels preFoldCallRaiseModels;
+	protected volatile Classifier postBetModel;
+	protected volatile FoldCallRaiseModels postFoldCallRaiseModels;
+	protected volatile ShowdownModels showdownModels;
 
 	public WekaRegressionModel(Classifier preBetModel, Classifier preFoldModel, Classifier preCallModel, Classifier preRaiseModel, Classifier postBetModel,
 			Classifier postFoldModel, Classifier postCallModel, Classifier postRaiseModel, Classifier showdown0Model, Classifier showdown1Model,
 			Classifier showdown2Model, Classifier showdown3Model, Classifier showdown4Model, Classifier showdown5Model) {
 		this.preBetModel = preBetModel;
-		this.preFoldModel = preFoldModel;
-		this.preCallModel = preCallModel;
-		this.preRaiseModel = preRaiseModel;
+		this.preFoldCallRaiseModels = new FoldCallRaiseModels(preFoldModel, preCallModel, preRaiseModel);
 		this.postBetModel = postBetModel;
-		this.postFoldModel = postFoldModel;
-		this.postCallModel = postCallModel;
-		this.postRaiseModel = postRaiseModel;
-		this.showdown0Model = showdown0Model;
-		this.showdown1Model = showdown1Model;
-		this.showdown2Model = showdown2Model;
-		this.showdown3Model = showdown3Model;
-		this.showdown4Model = showdown4Model;
-		this.showdown5Model = showdown5Model;
+		this.postFoldCallRaiseModels = new FoldCallRaiseModels(postFoldModel, postCallModel, postRaiseModel);
+		this.showdownModels = new ShowdownModels(showdown0Model, showdown1Model, showdown2Model, 
+				showdown3Model, showdown4Model, showdown5Model);
 	}
 
 	public WekaRegressionModel(WekaRegressionModel model) {
 		this.preBetModel = model.preBetModel;
-		this.preFoldModel = model.preFoldModel;
-		this.preCallModel = model.preCallModel;
-		this.preRaiseModel = model.preRaiseModel;
+		this.preFoldCallRaiseModels = model.preFoldCallRaiseModels;
 		this.postBetModel = model.postBetModel;
-		this.postFoldModel = model.postFoldModel;
-		this.postCallModel = model.postCallModel;
-		this.postRaiseModel = model.postRaiseModel;
-		this.showdown0Model = model.showdown0Model;
-		this.showdown1Model = model.showdown1Model;
-		this.showdown2Model = model.showdown2Model;
-		this.showdown3Model = model.showdown3Model;
-		this.showdown4Model = model.showdown4Model;
-		this.showdown5Model = model.showdown5Model;
+		this.postFoldCallRaiseModels = model.postFoldCallRaiseModels;
+		this.showdownModels = model.showdownModels;
 	}
 
 	@Override
 	public String toString() {
+		FoldCallRaiseModels pre = preFoldCallRaiseModels;
+		FoldCallRaiseModels post = postFoldCallRaiseModels;
+		ShowdownModels showdown = showdownModels;
 		String str = "";
 		str += "preBetModel " + preBetModel.toString(); // (preBetModel == null?"NULL":"OK");
-		str += "\npreFoldModel " + preFoldModel.toString(); // (preFoldModel == null?"NULL":"OK");
-		str += "\npreCallModel " + preCallModel.toString(); // (preCallModel == null?"NULL":"OK");
-		str += "\npreRaiseModel " + preRaiseModel.toString(); // (preRaiseModel == null?"NULL":"OK");
+		str += "\npreFoldModel " + pre.fold.toString(); // (preFoldModel == null?"NULL":"OK");
+		str += "\npreCallModel " + pre.call.toString(); // (preCallModel == null?"NULL":"OK");
+		str += "\npreRaiseModel " + pre.raise.toString(); // (preRaiseModel == null?"NULL":"OK");
 		str += "\npostBetModel " + postBetModel.toString(); // (postBetModel == null?"NULL":"OK");
-		str += "\npostFoldModel " + postFoldModel.toString(); // (postFoldModel == null?"NULL":"OK");
-		str += "\npostCallModel " + postCallModel.toString(); // (postCallModel == null?"NULL":"OK");
-		str += "\npostRaiseModel " + postRaiseModel.toString().length(); // (postRaiseModel == null?"NULL":"OK");
-		str += "\nshowdown0Model " + showdown0Model.toString().length(); // (showdown0Model == null?"NULL":"OK");
-		str += "\nshowdown1Model " + showdown1Model.toString().length(); // (showdown1Model == null?"NULL":"OK");
-		str += "\nshowdown2Model " + showdown2Model.toString().length(); // (showdown2Model == null?"NULL":"OK");
-		str += "\nshowdown3Model " + showdown3Model.toString().length(); // (showdown3Model == null?"NULL":"OK");
-		str += "\nshowdown4Model " + showdown4Model.toString().length(); // (showdown4Model == null?"NULL":"OK");
-		str += "\nshowdown5Model " + showdown5Model.toString().length(); // (showdown5Model == null?"NULL":"OK");
+		str += "\npostFoldModel " + post.fold.toString(); // (postFoldModel == null?"NULL":"OK");
+		str += "\npostCallModel " + post.call.toString(); // (postCallModel == null?"NULL":"OK");
+		str += "\npostRaiseModel " + post.raise.toString().length(); // (postRaiseModel == null?"NULL":"OK");
+		for (int i = 0; i < ShowdownModels.NB_PARTITIONS; i++) {
+			str += "\nshowdown" + i + "Model " + showdown.get(i).toString().length();
+		}
 		return str;
 	}
 	
@@ -131,35 +108,18 @@ public class WekaRegressionModel extends WekaModel {
 	public Triple<Double, Double, Double> getFoldCallRaiseProbabilities(PlayerId actor, Propositionalizer props) {
 		Instance instance;
 		boolean preflop = "preflop".equals(props.getRound());
+		FoldCallRaiseModels models;
 		if (preflop) {
 			instance = getPreFoldCallRaiseInstance(actor, props);
+			models = preFoldCallRaiseModels;
 		} else {
 			instance = getPostFoldCallRaiseInstance(actor, props);
+			models = postFoldCallRaiseModels;
 		}
 		try {
-			double probFold;
-			if (preflop) {
-				probFold = preFoldModel.classifyInstance(instance);
-			} else {
-				probFold = postFoldModel.classifyInstance(instance);
-			}
-			probFold = Math.min(1, Math.max(0, probFold));
-
-			double probCall;
-			if (preflop) {
-				probCall = preCallModel.classifyInstance(instance);
-			} else {
-				probCall = postCallModel.classifyInstance(instance);
-			}
-			probCall = Math.min(1, Math.max(0, probCall));
-
-			double probRaise;
-			if (preflop) {
-				probRaise = preRaiseModel.classifyInstance(instance);
-			} else {
-				probRaise = postRaiseModel.classifyInstance(instance);
-			}
-			probRaise = Math.min(1, Math.max(0, probRaise));
+			double probFold = Math.min(1, Math.max(0, models.fold.classifyInstance(instance)));
+			double probCall = Math.min(1, Math.max(0, models.call.classifyInstance(instance)));
+			double probRaise = Math.min(1, Math.max(0, models.raise.classifyInstance(instance)));
 
 			double sum = probFold + probCall + probRaise;
 			if (Double.isNaN(sum) || sum == 0 || Double.isInfinite(sum)) {
@@ -177,15 +137,12 @@ public class WekaRegressionModel extends WekaModel {
 
 	public double[] getShowdownProbabilities(PlayerId actor, Propositionalizer props) {
 		Instance instance = getShowdownInstance(actor, props);
+		ShowdownModels models = showdownModels;
 		try {
-			double[] prob = {
-					Math.min(1,Math.max(0, showdown0Model.classifyInstance(instance))),
-					Math.min(1,Math.max(0, showdown1Model.classifyInstance(instance))),
-					Math.min(1,Math.max(0, showdown2Model.classifyInstance(instance))),
-					Math.min(1,Math.max(0, showdown3Model.classifyInstance(instance))),
-					Math.min(1,Math.max(0, showdown4Model.classifyInstance(instance))),
-					Math.min(1,Math.max(0, showdown5Model.classifyInstance(instance))),
-			};
+			double[] prob = new double[ShowdownModels.NB_PARTITIONS];
+			for (int i = 0; i < prob.length; i++) {
+				prob[i] = Math.min(1,Math.max(0, models.get(i).classifyInstance(instance)));
+			}
 			if (logger.isTraceEnabled()) {
 				logger.trace(instance + ": " + prob);
 			}
@@ -203,28 +160,38 @@ public class WekaRegressionModel extends WekaModel {
 		this.preBetModel = preBetModel;
 	}
 
+	/**
+	 * Replaces the preflop fold, call and raise classifiers at once.
+	 */
+	public synchronized void setPreFoldCallRaiseModels(Classifier fold, Classifier call, Classifier raise) {
+		this.preFoldCallRaiseModels = new FoldCallRaiseModels(fold, call, raise);
+	}
+
 	public Classifier getPreFoldModel() {
-		return preFoldModel;
+		return preFoldCallRaiseModels.fold;
 	}
 
-	public void setPreFoldModel(Classifier preFoldModel) {
-		this.preFoldModel = preFoldModel;
+	public synchronized void setPreFoldModel(Classifier preFoldModel) {
+		FoldCallRaiseModels models = preFoldCallRaiseModels;
+		setPreFoldCallRaiseModels(preFoldModel, models.call, models.raise);
 	}
 
 	public Classifier getPreCallModel() {
-		return preCallModel;
+		return preFoldCallRaiseModels.call;
 	}
 
-	public void setPreCallModel(Classifier preCallModel) {
-		this.preCallModel = preCallModel;
+	public synchronized void setPreCallModel(Classifier preCallModel) {
+		FoldCallRaiseModels models = preFoldCallRaiseModels;
+		setPreFoldCallRaiseModels(models.fold, preCallModel, models.raise);
 	}
 
 	public Classifier getPreRaiseModel() {
-		return preRaiseModel;
+		return preFoldCallRaiseModels.raise;
 	}
 
-	public void setPreRaiseModel(Classifier preRaiseModel) {
-		this.preRaiseModel = preRaiseModel;
+	public synchronized void setPreRaiseModel(Classifier preRaiseModel) {
+		FoldCallRaiseModels models = preFoldCallRaiseModels;
+		setPreFoldCallRaiseModels(models.fold, models.call, preRaiseModel);
 	}
 
 	public Classifier getPostBetModel() {
@@ -235,75 +202,140 @@ public class WekaRegressionModel extends WekaModel {
 		this.postBetModel = postBetModel;
 	}
 
+	/**
+	 * Replaces the postflop fold, call and raise classifiers at once.
+	 */
+	public synchronized void setPostFoldCallRaiseModels(Classifier fold, Classifier call, Classifier raise) {
+		this.postFoldCallRaiseModels = new FoldCallRaiseModels(fold, call, raise);
+	}
+
 	public Classifier getPostFoldModel() {
-		return postFoldModel;
+		return postFoldCallRaiseModels.fold;
 	}
 
-	public void setPostFoldModel(Classifier postFoldModel) {
-		this.postFoldModel = postFoldModel;
+	public synchronized void setPostFoldModel(Classifier postFoldModel) {
+		FoldCallRaiseModels models = postFoldCallRaiseModels;
+		setPostFoldCallRaiseModels(postFoldModel, models.call, models.raise);
 	}
 
 	public Classifier getPostCallModel() {
-		return postCallModel;
+		return postFoldCallRaiseModels.call;
 	}
 
-	public void setPostCallModel(Classifier postCallModel) {
-		this.postCallModel = postCallModel;
+	public synchronized void setPostCallModel(Classifier postCallModel) {
+		FoldCallRaiseModels models = postFoldCallRaiseModels;
+		setPostFoldCallRaiseModels(models.fold, postCallModel, models.raise);
 	}
 
 	public Classifier getPostRaiseModel() {
-		return postRaiseModel;
+		return postFoldCallRaiseModels.raise;
+	}
+
+	public synchronized void setPostRaiseModel(Classifier postRaiseModel) {
+		FoldCallRaiseModels models = postFoldCallRaiseModels;
+		setPostFoldCallRaiseModels(models.fold, models.call, postRaiseModel);
 	}
 
-	public void setPostRaiseModel(Classifier postRaiseModel) {
-		this.postRaiseModel = postRaiseModel;
+	/**
+	 * Replaces the classifiers of all showdown partitions at once.
+	 */
+	public synchronized void setShowdownModels(Classifier... showdownModels) {
+		this.showdownModels = new ShowdownModels(showdownModels);
 	}
 
 	public Classifier getShowdown0Model() {
-		return showdown0Model;
+		return showdownModels.get(0);
 	}
 
 	public void setShowdown0Model(Classifier showdown0Model) {
-		this.showdown0Model = showdown0Model;
+		setShowdownModel(0, showdown0Model);
 	}
 
 	public Classifier getShowdown1Model() {
-		return showdown1Model;
+		return showdownModels.get(1);
 	}
 
 	public void setShowdown1Model(Classifier showdown1Model) {
-		this.showdown1Model = showdown1Model;
+		setShowdownModel(1, showdown1Model);
 	}
 
 	public Classifier getShowdown2Model() {
-		return showdown2Model;
+		return showdownModels.get(2);
 	}
 
 	public void setShowdown2Model(Classifier showdown2Model) {
-		this.showdown2Model = showdown2Model;
+		setShowdownModel(2, showdown2Model);
 	}
 
 	public Classifier getShowdown3Model() {
-		return showdown3Model;
+		return showdownModels.get(3);
 	}
 
 	public void setShowdown3Model(Classifier showdown3Model) {
-		this.showdown3Model = showdown3Model;
+		setShowdownModel(3, showdown3Model);
 	}
 
 	public Classifier getShowdown4Model() {
-		return showdown4Model;
+		return showdownModels.get(4);
 	}
 
 	public void setShowdown4Model(Classifier showdown4Model) {
-		this.showdown4Model = showdown4Model;
+		setShowdownModel(4, showdown4Model);
 	}
 
 	public Classifier getShowdown5Model() {
-		return showdown5Model;
+		return showdownModels.get(5);
 	}
 
 	public void setShowdown5Model(Classifier showdown5Model) {
-		this.showdown5Model = showdown5Model;
+		setShowdownModel(5, showdown5Model);
+	}
+
+	private synchronized void setShowdownModel(int partition, Classifier model) {
+		Classifier[] models = showdownModels.models.clone();
+		models[partition] = model;
+		setShowdownModels(models);
+	}
+
+	/**
+	 * The fold, call and raise classifiers of a round. The probabilities are
+	 * normalized over the three, so they never come from different trainings.
+	 */
+	@Immutable
+	protected static final class FoldCallRaiseModels {
+
+		protected final Classifier fold;
+		protected final Classifier call;
+		protected final Classifier raise;
+
+		public FoldCallRaiseModels(Classifier fold, Classifier call, Classifier raise) {
+			this.fold = fold;
+			this.call = call;
+			this.raise = raise;
+		}
+
+	}
+
+	/**
+	 * The classifiers of the showdown partitions.
+	 */
+	@Immutable
+	protected static final class ShowdownModels {
+
+		public final static int NB_PARTITIONS = 6;
+
+		private final Classifier[] models;
+
+		public ShowdownModels(Classifier... models) {
+			if (models.length != NB_PARTITIONS) {
+				throw new IllegalArgumentException("Expected " + NB_PARTITIONS + " showdown models: " + models.length);
+			}
+			this.models = models.clone();
+		}
+
+		public Classifier get(int partition) {
+			return models[partition];
+		}
+
 	}
 }
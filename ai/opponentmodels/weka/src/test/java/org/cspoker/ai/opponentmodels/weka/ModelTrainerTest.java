@@ -0,0 +1,178 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.ai.opponentmodels.weka;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import weka.classifiers.Classifier;
+import weka.classifiers.functions.LinearRegression;
+
+public class ModelTrainerTest extends TestCase {
+
+	private ModelTrainer trainer;
+
+	@Override
+	protected void tearDown() throws Exception {
+		trainer.shutdown();
+	}
+
+	public void testCoalesce() throws Exception {
+		trainer = new ModelTrainer(1, 4);
+		Blocking blocking = new Blocking();
+		trainer.request(blocking);
+		blocking.started.await();
+		Counting counting = new Counting(1);
+		trainer.request(counting);
+		trainer.request(counting);
+		trainer.request(counting);
+		blocking.release.countDown();
+		assertTrue(counting.done.await(10, TimeUnit.SECONDS));
+		assertEquals(1, counting.nbTrainings.get());
+		assertEquals(4, trainer.getNbRequests());
+		assertEquals(2, trainer.getNbCoalesced());
+	}
+
+	public void testRequestWhileTraining() throws Exception {
+		trainer = new ModelTrainer(1, 4);
+		Blocking blocking = new Blocking();
+		trainer.request(blocking);
+		blocking.started.await();
+		// the running training uses the instances it had when it started
+		trainer.request(blocking);
+		assertEquals(0, trainer.getNbCoalesced());
+		assertEquals(1, trainer.getQueueDepth());
+		blocking.release.countDown();
+		Counting counting = new Counting(1);
+		trainer.request(counting);
+		assertTrue(counting.done.await(10, TimeUnit.SECONDS));
+		assertEquals(2, blocking.nbTrainings.get());
+	}
+
+	public void testFullQueue() throws Exception {
+		trainer = new ModelTrainer(1, 1);
+		Blocking blocking = new Blocking();
+		trainer.request(blocking);
+		blocking.started.await();
+		Counting queued = new Counting(1);
+		Counting dropped = new Counting(1);
+		trainer.request(queued);
+		trainer.request(dropped);
+		assertEquals(1, trainer.getNbRejected());
+		blocking.release.countDown();
+		assertTrue(queued.done.await(10, TimeUnit.SECONDS));
+
+		// the next request for a dropped training tries again
+		trainer.request(dropped);
+		assertTrue(dropped.done.await(10, TimeUnit.SECONDS));
+		assertEquals(0, trainer.getNbCoalesced());
+	}
+
+	public void testFailure() throws Exception {
+		trainer = new ModelTrainer(1, 4);
+		trainer.request(new ModelTrainer.Training("failing") {
+			@Override
+			protected void train() throws Exception {
+				throw new Exception("no instances");
+			}
+		});
+		Counting counting = new Counting(1);
+		trainer.request(counting);
+		assertTrue(counting.done.await(10, TimeUnit.SECONDS));
+		assertEquals(1, trainer.getNbFailures());
+	}
+
+	public void testSwapTogether() throws Exception {
+		trainer = new ModelTrainer(1, 4);
+		final Classifier[] old = classifiers(3);
+		final WekaRegressionModel model = new WekaRegressionModel(null, old[0], old[1], old[2],
+				null, null, null, null, null, null, null, null, null, null);
+		final Classifier[] trained = classifiers(3);
+		final CountDownLatch done = new CountDownLatch(1);
+		trainer.request(new ModelTrainer.Training("preFoldCallRaise") {
+			@Override
+			protected void train() throws Exception {
+				model.setPreFoldCallRaiseModels(trained[0], trained[1], trained[2]);
+				done.countDown();
+			}
+		});
+		// a reader sees either the old or the new classifiers, never a mix
+		while (done.getCount() > 0) {
+			WekaRegressionModel.FoldCallRaiseModels models = model.preFoldCallRaiseModels;
+			Classifier[] expected = models.fold == old[0] ? old : trained;
+			assertSame(expected[1], models.call);
+			assertSame(expected[2], models.raise);
+		}
+		assertSame(trained[0], model.getPreFoldModel());
+		assertSame(trained[1], model.getPreCallModel());
+		assertSame(trained[2], model.getPreRaiseModel());
+	}
+
+	private Classifier[] classifiers(int n) {
+		Classifier[] classifiers = new Classifier[n];
+		for (int i = 0; i < n; i++) {
+			classifiers[i] = new LinearRegression();
+		}
+		return classifiers;
+	}
+
+	/**
+	 * Keeps the trainer thread busy until it is released.
+	 */
+	private static class Blocking extends ModelTrainer.Training {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		private final AtomicInteger nbTrainings = new AtomicInteger();
+
+		public Blocking() {
+			super("blocking");
+		}
+
+		@Override
+		protected void train() throws Exception {
+			nbTrainings.incrementAndGet();
+			started.countDown();
+			release.await();
+		}
+
+	}
+
+	private static class Counting extends ModelTrainer.Training {
+
+		private final AtomicInteger nbTrainings = new AtomicInteger();
+
+		private final CountDownLatch done;
+
+		public Counting(int nbTrainings) {
+			super("counting");
+			done = new CountDownLatch(nbTrainings);
+		}
+
+		@Override
+		protected void train() throws Exception {
+			nbTrainings.incrementAndGet();
+			done.countDown();
+		}
+
+	}
+
+}
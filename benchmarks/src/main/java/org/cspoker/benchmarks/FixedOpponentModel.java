@@ -0,0 +1,93 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.benchmarks;
+
+import java.util.Arrays;
+
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.INode;
+import org.cspoker.ai.opponentmodels.OpponentModel;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.util.Pair;
+import org.cspoker.common.util.Triple;
+
+/**
+ * An opponent model that predicts the same probabilities in every state, so
+ * the benchmarks measure the search and not the learning of a model.
+ */
+public class FixedOpponentModel implements OpponentModel {
+
+	private final static Pair<Double, Double> checkBetProbabilities = new Pair<Double, Double>(0.7, 0.3);
+
+	private final static Triple<Double, Double, Double> foldCallRaiseProbabilities = new Triple<Double, Double, Double>(0.4, 0.45, 0.15);
+
+	// BucketRollOut uses 6 buckets
+	private final static double[] showdownProbabilities = new double[6];
+	static {
+		Arrays.fill(showdownProbabilities, 1.0 / showdownProbabilities.length);
+	}
+
+	private final PlayerId botId;
+
+	private volatile INode chosenNode;
+
+	public FixedOpponentModel(PlayerId botId) {
+		this.botId = botId;
+	}
+
+	@Override
+	public Pair<Double, Double> getCheckBetProbabilities(GameState gameState, PlayerId actor) {
+		return checkBetProbabilities;
+	}
+
+	@Override
+	public Triple<Double, Double, Double> getFoldCallRaiseProbabilities(GameState gameState, PlayerId actor) {
+		return foldCallRaiseProbabilities;
+	}
+
+	@Override
+	public double[] getShowdownProbabilities(GameState gameState, PlayerId actor) {
+		return showdownProbabilities.clone();
+	}
+
+	@Override
+	public void setChosenNode(INode node) {
+		this.chosenNode = node;
+	}
+
+	@Override
+	public INode getChosenNode() {
+		return chosenNode;
+	}
+
+	@Override
+	public void assumePermanently(GameState gameState) {
+	}
+
+	@Override
+	public void assumeTemporarily(GameState gameState) {
+	}
+
+	@Override
+	public void forgetLastAssumption() {
+	}
+
+	@Override
+	public PlayerId getBotId() {
+		return botId;
+	}
+
+}
@@ -0,0 +1,89 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.cspoker.ai.bots.bot.gametree.action.CheckAction;
+import org.cspoker.ai.bots.bot.gametree.action.GameEndedException;
+import org.cspoker.client.common.gamestate.FlatGameState;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.client.common.playerstate.PlayerState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Everybody checks from the flop to the showdown, the way a search expands a
+ * line of play, with states built on the chain of modifiers or on flat
+ * states.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateBenchmark {
+
+	@Param({ "3", "6" })
+	public int nbPlayers;
+
+	private GameState gameState;
+
+	@Setup
+	public void setup() {
+		gameState = GameStateFixtures.flop(nbPlayers);
+	}
+
+	@Benchmark
+	public int checkDownChained() {
+		return checkDown(gameState, false);
+	}
+
+	@Benchmark
+	public int checkDownFlat() {
+		return checkDown(gameState, true);
+	}
+
+	private static int checkDown(GameState state, boolean flat) {
+		int sum = 0;
+		try {
+			while (true) {
+				if (flat) {
+					state = FlatGameState.of(state);
+				}
+				// what the nodes read
+				for (PlayerState player : state.getAllSeatedPlayers()) {
+					sum += player.getTotalInvestment();
+				}
+				sum += state.getDeficit(GameStateFixtures.BOT);
+				state = new CheckAction(state, state.getNextToAct()).getStateAfterAction();
+			}
+		} catch (GameEndedException e) {
+			return sum;
+		}
+	}
+
+}
@@ -0,0 +1,109 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.benchmarks;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.cspoker.client.common.gamestate.DetailedHoldemTableState;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.client.common.gamestate.modifiers.BlindState;
+import org.cspoker.client.common.gamestate.modifiers.CallState;
+import org.cspoker.client.common.gamestate.modifiers.CheckState;
+import org.cspoker.client.common.gamestate.modifiers.NewCommunityCardsState;
+import org.cspoker.client.common.gamestate.modifiers.NewDealState;
+import org.cspoker.client.common.gamestate.modifiers.NewPocketCardsState;
+import org.cspoker.client.common.gamestate.modifiers.NewRoundState;
+import org.cspoker.client.common.gamestate.modifiers.NextPlayerState;
+import org.cspoker.client.common.gamestate.modifiers.SitInState;
+import org.cspoker.common.api.lobby.holdemtable.event.BlindEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CallEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CheckEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewCommunityCardsEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewDealEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewRoundEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.SitInEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.NewPocketCardsEvent;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.chips.Pots;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.player.SeatedPlayer;
+import org.cspoker.common.elements.table.DetailedHoldemTable;
+import org.cspoker.common.elements.table.Round;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+
+/**
+ * Fixed game states shared by the benchmarks, so that runs on different
+ * revisions measure the same situation.
+ */
+public final class GameStateFixtures {
+
+	public final static int SMALL_BET = 10;
+
+	public final static int STACK = 1000;
+
+	/**
+	 * The player the fixtures are built for: the small blind, holding the
+	 * ace and king of spades.
+	 */
+	public final static PlayerId BOT = new PlayerId(1);
+
+	private GameStateFixtures() {
+	}
+
+	/**
+	 * A flop of 2c 7h Kd after every player limped in, with {@link #BOT}
+	 * first to act.
+	 * 
+	 * @param nbPlayers
+	 *            at least 3, player 0 deals
+	 */
+	public static GameState flop(int nbPlayers) {
+		if (nbPlayers < 3) {
+			throw new IllegalArgumentException("The fixture needs at least 3 players, not " + nbPlayers);
+		}
+		TableConfiguration config = new TableConfiguration(SMALL_BET);
+		GameState state = new DetailedHoldemTableState(new DetailedHoldemTable(new TableId(0), config));
+		List<SeatedPlayer> players = new ArrayList<SeatedPlayer>(nbPlayers);
+		for (int i = 0; i < nbPlayers; i++) {
+			SeatedPlayer player = new SeatedPlayer(new PlayerId(i), new SeatId(i), "Player " + i, STACK, 0, true, true);
+			players.add(player);
+			state = new SitInState(state, new SitInEvent(player));
+		}
+		state = new NewDealState(new NewDealEvent(players, new PlayerId(0)), state);
+		state = new BlindState(state, new BlindEvent(BOT, config.getSmallBlind()));
+		state = new BlindState(state, new BlindEvent(new PlayerId(2), config.getBigBlind()));
+		state = new NewPocketCardsState(state, BOT, new NewPocketCardsEvent(EnumSet.of(Card.ACE_SPADES, Card.KING_SPADES)));
+		for (int i = 3; i <= nbPlayers; i++) {
+			PlayerId limper = new PlayerId(i % nbPlayers);
+			state = new NextPlayerState(state, new NextPlayerEvent(limper));
+			state = new CallState(state, new CallEvent(limper, config.getBigBlind()));
+		}
+		state = new NextPlayerState(state, new NextPlayerEvent(BOT));
+		state = new CallState(state, new CallEvent(BOT, config.getBigBlind() - config.getSmallBlind()));
+		state = new NextPlayerState(state, new NextPlayerEvent(new PlayerId(2)));
+		state = new CheckState(state, new CheckEvent(new PlayerId(2)));
+		state = new NewRoundState(state, new NewRoundEvent(Round.FLOP, new Pots(nbPlayers * config.getBigBlind())));
+		state = new NewCommunityCardsState(state, new NewCommunityCardsEvent(EnumSet.of(Card.TWO_CLUBS, Card.SEVEN_HEARTS, Card.KING_DIAMONDS)));
+		state = new NextPlayerState(state, new NextPlayerEvent(BOT));
+		return state;
+	}
+
+}
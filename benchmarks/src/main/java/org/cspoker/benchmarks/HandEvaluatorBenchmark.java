@@ -0,0 +1,134 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.benchmarks;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.hand.Hand;
+import org.cspoker.common.elements.hand.HandEvaluator;
+import org.cspoker.common.elements.hand.HandRanks;
+import org.cspoker.common.handeval.spears2p2.StateTableEvaluator;
+import org.cspoker.common.handeval.stevebrecher.HandEval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates one hand per operation, cycling through a fixed set of random
+ * hands. The 7 card benchmarks all see the same hands.
+ * 
+ * The first run generates the table file of the {@link StateTableEvaluator},
+ * which takes a while.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx1g" })
+public class HandEvaluatorBenchmark {
+
+	// a power of 2, so the next hand can be picked with a mask
+	private final static int NB_HANDS = 1024;
+
+	private final static long SEED = 1L;
+
+	private IntBuffer handRanks;
+
+	private int[][] ordinals7;
+
+	private EnumSet<Card>[] cards7;
+
+	private Hand[] hands5;
+
+	private int next;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setup() {
+		handRanks = StateTableEvaluator.getInstance().handRanks;
+		ordinals7 = new int[NB_HANDS][];
+		cards7 = new EnumSet[NB_HANDS];
+		hands5 = new Hand[NB_HANDS];
+		Random random = new Random(SEED);
+		List<Card> deck = new ArrayList<Card>(EnumSet.allOf(Card.class));
+		for (int i = 0; i < NB_HANDS; i++) {
+			Collections.shuffle(deck, random);
+			List<Card> cards = deck.subList(0, 7);
+			ordinals7[i] = new int[7];
+			for (int j = 0; j < 7; j++) {
+				ordinals7[i][j] = cards.get(j).ordinal();
+			}
+			cards7[i] = EnumSet.copyOf(cards);
+			hands5[i] = new Hand(cards.subList(0, 5));
+		}
+		// load the lookup map outside of the measurements
+		HandRanks.getInstance();
+	}
+
+	private int nextHand() {
+		return next++ & (NB_HANDS - 1);
+	}
+
+	@Benchmark
+	public int stateTableEvaluator7() {
+		int[] ordinals = ordinals7[nextHand()];
+		int rank = 53;
+		for (int i = 0; i < 7; i++) {
+			rank = handRanks.get(ordinals[i] + 1 + rank);
+		}
+		return rank;
+	}
+
+	@Benchmark
+	public int steveBrecherGetRank7() {
+		return HandEval.getRank(cards7[nextHand()]);
+	}
+
+	/**
+	 * A new hand every time, as at a showdown, because hands remember their
+	 * rank.
+	 */
+	@Benchmark
+	public int handGetBestFiveRank7() {
+		return new Hand(cards7[nextHand()]).getBestFiveRank();
+	}
+
+	@Benchmark
+	public int handEvaluator7() {
+		return HandEvaluator.getBestFiveRank(cards7[nextHand()]);
+	}
+
+	@Benchmark
+	public int handRanksGetHandRank5() {
+		return HandRanks.getInstance().getHandRank(hands5[nextHand()]);
+	}
+
+}
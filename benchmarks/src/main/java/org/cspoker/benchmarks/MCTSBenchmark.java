@@ -0,0 +1,89 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.cspoker.ai.bots.bot.gametree.mcts.MCTSBot;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.Config;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.MCTSShowdownRollOutNode;
+import org.cspoker.ai.bots.bot.gametree.mcts.nodes.RootNode;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.backpropagation.SampleWeightedBackPropStrategy;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.MaxValueSelector;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.SamplingSelector;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.SamplingToFunctionSelector;
+import org.cspoker.ai.bots.bot.gametree.mcts.strategies.selection.UCTSelector;
+import org.cspoker.ai.bots.bot.gametree.search.expander.sampling.BucketSampler;
+import org.cspoker.client.common.gamestate.GameState;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One MCTS iteration per operation, with the configuration of the MCTSBot
+ * in the experiments and a fixed opponent model. Every measurement
+ * iteration starts from a new tree, so the trees stay comparable between
+ * runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class MCTSBenchmark {
+
+	@Param({ "3", "6" })
+	public int nbPlayers;
+
+	private GameState gameState;
+
+	private Config config;
+
+	private RootNode root;
+
+	@Setup
+	public void setup() {
+		gameState = GameStateFixtures.flop(nbPlayers);
+		config = new Config(new FixedOpponentModel(GameStateFixtures.BOT),
+				new MCTSShowdownRollOutNode.Factory(),
+				new SamplingToFunctionSelector(50, new UCTSelector(2000)),
+				new SamplingSelector(),
+				new MaxValueSelector(),
+				new SampleWeightedBackPropStrategy.Factory(),
+				new BucketSampler(0.01));
+	}
+
+	@Setup(Level.Iteration)
+	public void newTree() {
+		root = new RootNode(gameState, GameStateFixtures.BOT, config);
+	}
+
+	@Benchmark
+	public void iterate() {
+		MCTSBot.iterate(root);
+	}
+
+}
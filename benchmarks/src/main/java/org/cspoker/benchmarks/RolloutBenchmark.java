@@ -0,0 +1,77 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.cspoker.ai.bots.bot.gametree.rollout.BucketRollOut;
+import org.cspoker.ai.bots.bot.gametree.rollout.DistributionRollout4;
+import org.cspoker.client.common.gamestate.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Showdown rollouts on the flop of {@link GameStateFixtures#flop(int)}, with
+ * the sample counts the MCTS showdown nodes use.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx1g" })
+public class RolloutBenchmark {
+
+	@Param({ "3", "6" })
+	public int nbPlayers;
+
+	private DistributionRollout4 distributionRollout;
+
+	private BucketRollOut bucketRollout;
+
+	@Setup
+	public void setup() {
+		GameState gameState = GameStateFixtures.flop(nbPlayers);
+		distributionRollout = new DistributionRollout4(gameState, GameStateFixtures.BOT);
+		bucketRollout = new BucketRollOut(gameState, GameStateFixtures.BOT,
+				new FixedOpponentModel(GameStateFixtures.BOT));
+	}
+
+	@Benchmark
+	public double distributionRollout4() {
+		return distributionRollout.doRollOut(2, 2).getMean();
+	}
+
+	@Benchmark
+	public double distributionRollout4Mean() {
+		return distributionRollout.doRollOutMean(2, 2);
+	}
+
+	@Benchmark
+	public double bucketRollOut() {
+		return bucketRollout.doRollOut(4);
+	}
+
+}
@@ -18,11 +18,40 @@ package org.cspoker.client.common;
 import org.cspoker.client.common.gamestate.GameState;
 
 public class GameStateContainer {
+
+	/**
+	 * System property with the number of deals kept in the history of a
+	 * table, when it is not given to the constructor.
+	 */
+	public final static String RETAINED_DEALS_PROPERTY = "cspoker.history.deals";
+
+	/**
+	 * Clients only see the last 100 deals of a table by default, the deals
+	 * before them are summarized. Set {@link #RETAINED_DEALS_PROPERTY} to
+	 * {@link Integer#MAX_VALUE} to keep the whole history.
+	 */
+	public final static int DEFAULT_RETAINED_DEALS = 100;
 	
 	private volatile GameState gameState;
+
+	private final int nbRetainedDeals;
 	
 	public GameStateContainer(GameState initialState) {
+		this(initialState, Integer.getInteger(RETAINED_DEALS_PROPERTY, DEFAULT_RETAINED_DEALS));
+	}
+
+	/**
+	 * @param nbRetainedDeals
+	 *            the number of deals kept in the history, older deals are
+	 *            replaced by a summary. Use {@link Integer#MAX_VALUE} to keep
+	 *            everything.
+	 */
+	public GameStateContainer(GameState initialState, int nbRetainedDeals) {
+		if (nbRetainedDeals < 1) {
+			throw new IllegalArgumentException("At least one deal is retained: " + nbRetainedDeals);
+		}
 		this.gameState = initialState;
+		this.nbRetainedDeals = nbRetainedDeals;
 	}
 	
 	public GameState getGameState() {
@@ -32,5 +61,9 @@ public class GameStateContainer {
 	public void setGameState(GameState gameState) {
 		this.gameState = gameState;
 	}
+
+	public int getNbRetainedDeals() {
+		return nbRetainedDeals;
+	}
 	
 }
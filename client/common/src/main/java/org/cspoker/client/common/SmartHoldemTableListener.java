@@ -144,7 +144,8 @@ public class SmartHoldemTableListener
 	@Override
 	public void onNewDeal(NewDealEvent newDealEvent) {
 		logger.trace(newDealEvent);
-		tableState.setGameState(new NewDealState(newDealEvent, tableState.getGameState()));
+		tableState.setGameState(new NewDealState(newDealEvent, tableState.getGameState(),
+				tableState.getNbRetainedDeals()));
 		super.onNewDeal(newDealEvent);
 	}
 	
@@ -96,7 +96,7 @@ implements GameState {
 		return getLargestBet() > 0;
 	}
 
-	public final Set<PlayerState> getAllSeatedPlayers() {
+	public Set<PlayerState> getAllSeatedPlayers() {
 		Set<PlayerId> ids = getSeatMap().values();
 		HashSet<PlayerState> states = new HashSet<PlayerState>();
 		for (PlayerId id : ids) {
@@ -0,0 +1,211 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.client.common.gamestate;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import net.jcip.annotations.Immutable;
+
+import org.cspoker.client.common.playerstate.FlatPlayerState;
+import org.cspoker.client.common.playerstate.PlayerState;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEvent;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.Round;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableConfiguration;
+
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * A snapshot of another game state that answers every query from its own
+ * fields. The modifier states only override what changed, so reading a player
+ * from a late state walks back through the whole deal. Search builds its
+ * states on top of flat states instead, and then only walks back to the
+ * nearest one.
+ * 
+ * Player states that are already flat are shared with the state they came
+ * from, only the players that changed are copied.
+ * 
+ * The history and the visitors are those of the wrapped state: this state is
+ * not an event of its own.
+ */
+@Immutable
+public final class FlatGameState extends AbstractGameState {
+
+	private final GameState gameState;
+
+	private final TableConfiguration tableConfiguration;
+	private final ImmutableBiMap<SeatId, PlayerId> seatMap;
+	private final PlayerId dealer;
+	private final PlayerId lastBettor;
+	private final PlayerId nextToAct;
+	private final PlayerId bigBlind;
+	private final PlayerId smallBlind;
+	private final int previousRoundsPotSize;
+	private final int roundPotSize;
+	private final int largestBet;
+	private final int minNextRaise;
+	private final int nbRaises;
+	private final Round round;
+	private final EnumSet<Card> communityCards;
+
+	private final PlayerId[] playerIds;
+	private final PlayerState[] players;
+	private final Set<PlayerState> allSeatedPlayers;
+
+	/**
+	 * Returns the given state if it is flat already.
+	 */
+	public static FlatGameState of(GameState gameState) {
+		if (gameState instanceof FlatGameState) {
+			return (FlatGameState) gameState;
+		}
+		return new FlatGameState(gameState);
+	}
+
+	private FlatGameState(GameState gameState) {
+		this.gameState = gameState;
+		this.tableConfiguration = gameState.getTableConfiguration();
+		this.seatMap = gameState.getSeatMap();
+		this.dealer = gameState.getDealer();
+		this.lastBettor = gameState.getLastBettor();
+		this.nextToAct = gameState.getNextToAct();
+		this.bigBlind = gameState.getBigBlind();
+		this.smallBlind = gameState.getSmallBlind();
+		this.previousRoundsPotSize = gameState.getPreviousRoundsPotSize();
+		this.roundPotSize = gameState.getRoundPotSize();
+		this.largestBet = gameState.getLargestBet();
+		this.minNextRaise = gameState.getMinNextRaise();
+		this.nbRaises = gameState.getNbRaises();
+		this.round = gameState.getRound();
+		this.communityCards = EnumSet.copyOf(gameState.getCommunityCards());
+
+		Set<PlayerId> ids = seatMap.values();
+		this.playerIds = ids.toArray(new PlayerId[ids.size()]);
+		this.players = new PlayerState[playerIds.length];
+		for (int i = 0; i < playerIds.length; i++) {
+			PlayerState player = gameState.getPlayer(playerIds[i]);
+			if (player instanceof FlatPlayerState) {
+				players[i] = player;
+			} else {
+				players[i] = new FlatPlayerState(player);
+			}
+		}
+		this.allSeatedPlayers = ImmutableSet.of(players);
+	}
+
+	public PlayerState getPlayer(PlayerId playerId) {
+		// at most 10 seats, a scan beats hashing
+		for (int i = 0; i < playerIds.length; i++) {
+			if (playerIds[i].equals(playerId)) {
+				return players[i];
+			}
+		}
+		return gameState.getPlayer(playerId);
+	}
+
+	/**
+	 * An immutable set, shared by all callers.
+	 */
+	@Override
+	public Set<PlayerState> getAllSeatedPlayers() {
+		return allSeatedPlayers;
+	}
+
+	public TableConfiguration getTableConfiguration() {
+		return tableConfiguration;
+	}
+
+	public ImmutableBiMap<SeatId, PlayerId> getSeatMap() {
+		return seatMap;
+	}
+
+	public PlayerId getDealer() {
+		return dealer;
+	}
+
+	public PlayerId getLastBettor() {
+		return lastBettor;
+	}
+
+	public PlayerId getNextToAct() {
+		return nextToAct;
+	}
+
+	public PlayerId getBigBlind() {
+		return bigBlind;
+	}
+
+	public PlayerId getSmallBlind() {
+		return smallBlind;
+	}
+
+	public int getPreviousRoundsPotSize() {
+		return previousRoundsPotSize;
+	}
+
+	public int getRoundPotSize() {
+		return roundPotSize;
+	}
+
+	public int getLargestBet() {
+		return largestBet;
+	}
+
+	public int getMinNextRaise() {
+		return minNextRaise;
+	}
+
+	public int getNbRaises() {
+		return nbRaises;
+	}
+
+	public Round getRound() {
+		return round;
+	}
+
+	public EnumSet<Card> getCommunityCards() {
+		return EnumSet.copyOf(communityCards);
+	}
+
+	public GameState getPreviousGameState() {
+		return gameState.getPreviousGameState();
+	}
+
+	public HoldemTableTreeEvent getLastEvent() {
+		return gameState.getLastEvent();
+	}
+
+	public void acceptVisitor(GameStateVisitor visitor) {
+		gameState.acceptVisitor(visitor);
+	}
+
+	@Override
+	public void acceptHistoryVisitor(GameStateVisitor visitor, GameState start) {
+		if (this != start) {
+			gameState.acceptHistoryVisitor(visitor, start);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "(Flat) " + gameState;
+	}
+
+}
@@ -0,0 +1,183 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.client.common.gamestate;
+
+import java.util.EnumSet;
+
+import net.jcip.annotations.Immutable;
+
+import org.cspoker.client.common.playerstate.FlatPlayerState;
+import org.cspoker.client.common.playerstate.PlayerState;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEvent;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.Round;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableConfiguration;
+
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Stands in for the deals that were dropped from the history. It keeps the
+ * table as it was at the end of the last dropped deal, but no reference to
+ * the states that led there.
+ * 
+ * This is the start of the history, like the initial table state, but
+ * visitors see nothing of it.
+ */
+@Immutable
+public final class HistorySummaryState extends AbstractGameState {
+
+	private final int nbDroppedDeals;
+
+	private final TableConfiguration tableConfiguration;
+	private final ImmutableBiMap<SeatId, PlayerId> seatMap;
+	private final ImmutableMap<PlayerId, PlayerState> players;
+	private final PlayerId dealer;
+	private final PlayerId lastBettor;
+	private final PlayerId bigBlind;
+	private final PlayerId smallBlind;
+	private final int previousRoundsPotSize;
+	private final int roundPotSize;
+	private final int largestBet;
+	private final int minNextRaise;
+	private final int nbRaises;
+	private final Round round;
+	private final EnumSet<Card> communityCards;
+
+	/**
+	 * @param gameState
+	 *            the last state that is dropped
+	 * @param nbDroppedDeals
+	 *            the number of deals that end in that state
+	 */
+	public HistorySummaryState(GameState gameState, int nbDroppedDeals) {
+		this.nbDroppedDeals = nbDroppedDeals;
+		this.tableConfiguration = gameState.getTableConfiguration();
+		this.seatMap = gameState.getSeatMap();
+		this.dealer = gameState.getDealer();
+		this.lastBettor = gameState.getLastBettor();
+		this.bigBlind = gameState.getBigBlind();
+		this.smallBlind = gameState.getSmallBlind();
+		this.previousRoundsPotSize = gameState.getPreviousRoundsPotSize();
+		this.roundPotSize = gameState.getRoundPotSize();
+		this.largestBet = gameState.getLargestBet();
+		this.minNextRaise = gameState.getMinNextRaise();
+		this.nbRaises = gameState.getNbRaises();
+		this.round = gameState.getRound();
+		this.communityCards = EnumSet.copyOf(gameState.getCommunityCards());
+
+		ImmutableMap.Builder<PlayerId, PlayerState> builder = ImmutableMap.builder();
+		for (PlayerState player : gameState.getAllSeatedPlayers()) {
+			builder.put(player.getPlayerId(), new FlatPlayerState(player));
+		}
+		this.players = builder.build();
+	}
+
+	/**
+	 * The number of deals this state replaces.
+	 */
+	public int getNbDroppedDeals() {
+		return nbDroppedDeals;
+	}
+
+	public PlayerState getPlayer(PlayerId playerId) {
+		return players.get(playerId);
+	}
+
+	public TableConfiguration getTableConfiguration() {
+		return tableConfiguration;
+	}
+
+	public ImmutableBiMap<SeatId, PlayerId> getSeatMap() {
+		return seatMap;
+	}
+
+	public PlayerId getDealer() {
+		return dealer;
+	}
+
+	public PlayerId getLastBettor() {
+		return lastBettor;
+	}
+
+	public PlayerId getNextToAct() {
+		return null;
+	}
+
+	public PlayerId getBigBlind() {
+		return bigBlind;
+	}
+
+	public PlayerId getSmallBlind() {
+		return smallBlind;
+	}
+
+	public int getPreviousRoundsPotSize() {
+		return previousRoundsPotSize;
+	}
+
+	public int getRoundPotSize() {
+		return roundPotSize;
+	}
+
+	public int getLargestBet() {
+		return largestBet;
+	}
+
+	public int getMinNextRaise() {
+		return minNextRaise;
+	}
+
+	public int getNbRaises() {
+		return nbRaises;
+	}
+
+	public Round getRound() {
+		return round;
+	}
+
+	public EnumSet<Card> getCommunityCards() {
+		return EnumSet.copyOf(communityCards);
+	}
+
+	/**
+	 * Like the initial state, points to itself.
+	 */
+	public GameState getPreviousGameState() {
+		return this;
+	}
+
+	public HoldemTableTreeEvent getLastEvent() {
+		return null;
+	}
+
+	public void acceptVisitor(GameStateVisitor visitor) {
+		// no event of its own
+	}
+
+	@Override
+	public void acceptHistoryVisitor(GameStateVisitor visitor, GameState start) {
+		// the history before this state is gone
+	}
+
+	@Override
+	public String toString() {
+		return "(" + nbDroppedDeals + " earlier deals)";
+	}
+
+}
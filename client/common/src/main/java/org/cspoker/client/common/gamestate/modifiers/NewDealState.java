@@ -23,8 +23,9 @@ import java.util.Set;
 import org.cspoker.client.common.gamestate.AbstractGameState;
 import org.cspoker.client.common.gamestate.GameState;
 import org.cspoker.client.common.gamestate.GameStateVisitor;
+import org.cspoker.client.common.gamestate.HistorySummaryState;
 import org.cspoker.client.common.playerstate.AbstractPlayerState;
-import org.cspoker.client.common.playerstate.ForwardingPlayerState;
+import org.cspoker.client.common.playerstate.FlatPlayerState;
 import org.cspoker.client.common.playerstate.PlayerState;
 import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEvent;
 import org.cspoker.common.api.lobby.holdemtable.event.NewDealEvent;
@@ -38,19 +39,47 @@ import org.cspoker.common.elements.table.TableConfiguration;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 
+/**
+ * The start of a deal. Deals link to the previous deal, so a table that is
+ * played for a long time builds up a long history. Only a given number of
+ * deals are kept: the states before the oldest one are replaced by a
+ * {@link HistorySummaryState}.
+ */
 public class NewDealState
 extends AbstractGameState {
 
 	private final TableConfiguration tableConfiguration;
 	private final NewDealEvent event;
 
-	//TODO make weak reference? clean up memory?
-	private final GameState previousGame;
+	// replaced by a summary once this is the oldest deal that is kept
+	private volatile GameState previousGame;
+
+	// the start of the deal before this one, null when that one was dropped
+	private volatile NewDealState previousDeal;
+
+	// the number of deals linked from this one, this one included, when it
+	// was created
+	private int nbLinkedDeals;
 
 	private final ImmutableBiMap<SeatId, PlayerId> seatMap;
 	private final ImmutableMap<PlayerId, PlayerState> playerStates;
 
+	/**
+	 * Keeps all history.
+	 */
 	public NewDealState(NewDealEvent newDealEvent, GameState previousGame) {
+		this(newDealEvent, previousGame, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param nbRetainedDeals
+	 *            the number of deals to keep in the history, this one
+	 *            included
+	 */
+	public NewDealState(NewDealEvent newDealEvent, GameState previousGame, int nbRetainedDeals) {
+		if (nbRetainedDeals < 1) {
+			throw new IllegalArgumentException("At least the new deal is retained: " + nbRetainedDeals);
+		}
 		this.previousGame = previousGame;
 		this.event = newDealEvent;
 		this.tableConfiguration = previousGame.getTableConfiguration();
@@ -119,17 +148,61 @@ extends AbstractGameState {
 		ImmutableMap<PlayerId, PlayerState> playerStatesInEvent = playerStateBuilder.build();
 		for(PlayerState p: previousGame.getAllSeatedPlayers()){
 			if(!playerStatesInEvent.containsKey(p.getPlayerId())){
-				playerStateBuilder.put(p.getPlayerId(), new ForwardingPlayerState(p) {
-					
-					@Override
-					public boolean hasBeenDealt() {
-						return false;
-					}
-					
-				});
+				// a copy, a wrapper would keep the dropped deals reachable
+				playerStateBuilder.put(p.getPlayerId(), new FlatPlayerState(p, false));
 			}
 		}
 		playerStates = playerStateBuilder.build();
+		this.previousDeal = findDeal(previousGame);
+		this.nbLinkedDeals = previousDeal == null ? 1 : previousDeal.nbLinkedDeals + 1;
+		if (nbLinkedDeals > nbRetainedDeals) {
+			dropDealsBefore(nbRetainedDeals);
+		}
+	}
+
+	private static NewDealState findDeal(GameState state) {
+		while (!(state instanceof NewDealState)) {
+			GameState previous = state.getPreviousGameState();
+			if (previous == state) {
+				return null;
+			}
+			state = previous;
+		}
+		return (NewDealState) state;
+	}
+
+	/**
+	 * Replaces the history before the oldest retained deal by a summary.
+	 * States are only created by the thread that follows the table, the
+	 * volatile links make the cut visible to threads reading old states.
+	 * 
+	 * Only called when more deals are linked than are retained, so the walk
+	 * is bounded by the number of retained deals.
+	 */
+	private void dropDealsBefore(int nbRetainedDeals) {
+		NewDealState oldest = this;
+		for (int i = 1; i < nbRetainedDeals; i++) {
+			oldest = oldest.previousDeal;
+			if (oldest == null) {
+				return;
+			}
+		}
+		NewDealState dropped = oldest.previousDeal;
+		if (dropped == null) {
+			return;
+		}
+		int nbDroppedDeals = 0;
+		NewDealState first = dropped;
+		for (NewDealState deal = dropped; deal != null; deal = deal.previousDeal) {
+			++nbDroppedDeals;
+			first = deal;
+		}
+		if (first.previousGame instanceof HistorySummaryState) {
+			nbDroppedDeals += ((HistorySummaryState) first.previousGame).getNbDroppedDeals();
+		}
+		oldest.previousGame = new HistorySummaryState(oldest.previousGame, nbDroppedDeals);
+		oldest.previousDeal = null;
+		nbLinkedDeals = nbRetainedDeals;
 	}
 
 	public TableConfiguration getTableConfiguration() {
@@ -0,0 +1,113 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.client.common.playerstate;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import net.jcip.annotations.Immutable;
+
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.SeatId;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A copy of all properties of a player state, so that reading them does not
+ * walk back through earlier states.
+ */
+@Immutable
+public final class FlatPlayerState extends AbstractPlayerState {
+
+	private final PlayerId playerId;
+	private final SeatId seatId;
+	private final String name;
+	private final EnumSet<Card> cards;
+	private final int stack;
+	private final int bet;
+	private final int totalInvestment;
+	private final List<Integer> betProgression;
+	private final boolean folded;
+	private final boolean dealt;
+	private final boolean checked;
+
+	public FlatPlayerState(PlayerState playerState) {
+		this(playerState, playerState.hasBeenDealt());
+	}
+
+	/**
+	 * A copy that overrides whether the player has been dealt.
+	 */
+	public FlatPlayerState(PlayerState playerState, boolean dealt) {
+		this.playerId = playerState.getPlayerId();
+		this.seatId = playerState.getSeatId();
+		this.name = playerState.getName();
+		this.cards = EnumSet.copyOf(playerState.getCards());
+		this.stack = playerState.getStack();
+		this.bet = playerState.getBet();
+		this.totalInvestment = playerState.getTotalInvestment();
+		this.betProgression = ImmutableList.copyOf(playerState.getBetProgression());
+		this.folded = playerState.hasFolded();
+		this.dealt = dealt;
+		this.checked = playerState.hasChecked();
+	}
+
+	public PlayerId getPlayerId() {
+		return playerId;
+	}
+
+	public SeatId getSeatId() {
+		return seatId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public EnumSet<Card> getCards() {
+		return EnumSet.copyOf(cards);
+	}
+
+	public int getStack() {
+		return stack;
+	}
+
+	public int getBet() {
+		return bet;
+	}
+
+	public int getTotalInvestment() {
+		return totalInvestment;
+	}
+
+	public List<Integer> getBetProgression() {
+		return betProgression;
+	}
+
+	public boolean hasFolded() {
+		return folded;
+	}
+
+	public boolean hasBeenDealt() {
+		return dealt;
+	}
+
+	public boolean hasChecked() {
+		return checked;
+	}
+
+}
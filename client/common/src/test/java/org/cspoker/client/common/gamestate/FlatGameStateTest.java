@@ -0,0 +1,171 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.client.common.gamestate;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.cspoker.client.common.gamestate.modifiers.BlindState;
+import org.cspoker.client.common.gamestate.modifiers.CallState;
+import org.cspoker.client.common.gamestate.modifiers.NewDealState;
+import org.cspoker.client.common.gamestate.modifiers.NewPocketCardsState;
+import org.cspoker.client.common.gamestate.modifiers.NextPlayerState;
+import org.cspoker.client.common.gamestate.modifiers.RaiseState;
+import org.cspoker.client.common.gamestate.modifiers.SitInState;
+import org.cspoker.client.common.playerstate.PlayerState;
+import org.cspoker.common.api.lobby.holdemtable.event.BlindEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CallEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewDealEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.RaiseEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.SitInEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.NewPocketCardsEvent;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.player.SeatedPlayer;
+import org.cspoker.common.elements.table.DetailedHoldemTable;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+
+public class FlatGameStateTest extends TestCase {
+
+	private final static int NB_PLAYERS = 4;
+
+	private final TableConfiguration config = new TableConfiguration(10);
+
+	private final PlayerId[] ids = new PlayerId[NB_PLAYERS];
+
+	/**
+	 * Blinds, pocket cards for player 1 and a raise by player 3.
+	 */
+	private GameState preflop() {
+		GameState state = new DetailedHoldemTableState(new DetailedHoldemTable(
+				new TableId(0), config));
+		List<SeatedPlayer> players = new ArrayList<SeatedPlayer>();
+		for (int i = 0; i < NB_PLAYERS; i++) {
+			ids[i] = new PlayerId(i);
+			SeatedPlayer player = new SeatedPlayer(ids[i], new SeatId(i),
+					"Player " + i, 1000, 0, true, true);
+			players.add(player);
+			state = new SitInState(state, new SitInEvent(player));
+		}
+		state = new NewDealState(new NewDealEvent(players, ids[0]), state);
+		state = new BlindState(state, new BlindEvent(ids[1], config.getSmallBlind()));
+		state = new BlindState(state, new BlindEvent(ids[2], config.getBigBlind()));
+		state = new NewPocketCardsState(state, ids[1], new NewPocketCardsEvent(
+				EnumSet.of(Card.ACE_SPADES, Card.KING_SPADES)));
+		state = new NextPlayerState(state, new NextPlayerEvent(ids[3]));
+		state = new RaiseState(state, new RaiseEvent(ids[3], 20, 30));
+		return new NextPlayerState(state, new NextPlayerEvent(ids[0]));
+	}
+
+	public void testSameProperties() {
+		GameState state = preflop();
+		FlatGameState flat = FlatGameState.of(state);
+		assertSame(flat, FlatGameState.of(flat));
+
+		assertEquals(state.getTableConfiguration(), flat.getTableConfiguration());
+		assertEquals(state.getSeatMap(), flat.getSeatMap());
+		assertEquals(state.getDealer(), flat.getDealer());
+		assertEquals(state.getLastBettor(), flat.getLastBettor());
+		assertEquals(state.getNextToAct(), flat.getNextToAct());
+		assertEquals(state.getBigBlind(), flat.getBigBlind());
+		assertEquals(state.getSmallBlind(), flat.getSmallBlind());
+		assertEquals(state.getPreviousRoundsPotSize(), flat.getPreviousRoundsPotSize());
+		assertEquals(state.getRoundPotSize(), flat.getRoundPotSize());
+		assertEquals(state.getGamePotSize(), flat.getGamePotSize());
+		assertEquals(state.getLargestBet(), flat.getLargestBet());
+		assertEquals(state.getMinNextRaise(), flat.getMinNextRaise());
+		assertEquals(state.getNbRaises(), flat.getNbRaises());
+		assertEquals(state.getRound(), flat.getRound());
+		assertEquals(state.getCommunityCards(), flat.getCommunityCards());
+		assertSame(state.getPreviousGameState(), flat.getPreviousGameState());
+		assertSame(state.getLastEvent(), flat.getLastEvent());
+
+		assertEquals(NB_PLAYERS, flat.getAllSeatedPlayers().size());
+		for (PlayerId id : ids) {
+			PlayerState player = state.getPlayer(id);
+			PlayerState flatPlayer = flat.getPlayer(id);
+			assertEquals(player.getPlayerId(), flatPlayer.getPlayerId());
+			assertEquals(player.getSeatId(), flatPlayer.getSeatId());
+			assertEquals(player.getName(), flatPlayer.getName());
+			assertEquals(player.getCards(), flatPlayer.getCards());
+			assertEquals(player.getStack(), flatPlayer.getStack());
+			assertEquals(player.getBet(), flatPlayer.getBet());
+			assertEquals(player.getTotalInvestment(), flatPlayer.getTotalInvestment());
+			assertEquals(player.getBetProgression(), flatPlayer.getBetProgression());
+			assertEquals(player.hasFolded(), flatPlayer.hasFolded());
+			assertEquals(player.hasBeenDealt(), flatPlayer.hasBeenDealt());
+			assertEquals(player.hasChecked(), flatPlayer.hasChecked());
+			assertEquals(player.isActivelyPlaying(), flatPlayer.isActivelyPlaying());
+			assertEquals(state.getDeficit(id), flat.getDeficit(id));
+			assertEquals(state.getUpperRaiseBound(id), flat.getUpperRaiseBound(id));
+			assertTrue(flat.getAllSeatedPlayers().contains(flatPlayer));
+		}
+	}
+
+	public void testUnchangedPlayersAreShared() {
+		FlatGameState flat = FlatGameState.of(preflop());
+		int largestBet = flat.getLargestBet();
+		FlatGameState next = FlatGameState.of(new CallState(flat, new CallEvent(
+				ids[0], largestBet)));
+		for (PlayerId id : ids) {
+			if (id.equals(ids[0])) {
+				assertNotSame(flat.getPlayer(id), next.getPlayer(id));
+				assertEquals(largestBet, next.getPlayer(id).getBet());
+			} else {
+				assertSame(flat.getPlayer(id), next.getPlayer(id));
+			}
+		}
+	}
+
+	public void testSameHistory() {
+		GameState state = preflop();
+		FlatGameState flat = FlatGameState.of(state);
+		assertEquals(getHistory(state, null), getHistory(flat, null));
+
+		GameState call = new CallState(flat, new CallEvent(ids[0], flat
+				.getLargestBet()));
+		List<String> history = getHistory(call, flat);
+		assertEquals(1, history.size());
+		assertEquals("visitCallState", history.get(0));
+		assertEquals(history, getHistory(FlatGameState.of(call), flat));
+		assertTrue(getHistory(FlatGameState.of(call), call).isEmpty());
+	}
+
+	private List<String> getHistory(GameState state, GameState start) {
+		final List<String> visits = new ArrayList<String>();
+		GameStateVisitor visitor = (GameStateVisitor) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[] { GameStateVisitor.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						visits.add(method.getName());
+						return null;
+					}
+				});
+		state.acceptHistoryVisitor(visitor, start);
+		return visits;
+	}
+
+}
@@ -0,0 +1,206 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.client.common.gamestate.modifiers;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.cspoker.client.common.gamestate.DetailedHoldemTableState;
+import org.cspoker.client.common.gamestate.GameState;
+import org.cspoker.client.common.gamestate.GameStateVisitor;
+import org.cspoker.client.common.gamestate.HistorySummaryState;
+import org.cspoker.client.common.playerstate.FlatPlayerState;
+import org.cspoker.client.common.playerstate.PlayerState;
+import org.cspoker.common.api.lobby.holdemtable.event.BlindEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewDealEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.SitInEvent;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.player.SeatedPlayer;
+import org.cspoker.common.elements.table.DetailedHoldemTable;
+import org.cspoker.common.elements.table.SeatId;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+
+public class NewDealStateTest extends TestCase {
+
+	private final static int NB_PLAYERS = 3;
+
+	private final TableConfiguration config = new TableConfiguration(10);
+
+	private final PlayerId[] ids = new PlayerId[NB_PLAYERS];
+
+	private final List<SeatedPlayer> players = new ArrayList<SeatedPlayer>();
+
+	private GameState sitIn() {
+		GameState state = new DetailedHoldemTableState(new DetailedHoldemTable(
+				new TableId(0), config));
+		for (int i = 0; i < NB_PLAYERS; i++) {
+			ids[i] = new PlayerId(i);
+			SeatedPlayer player = new SeatedPlayer(ids[i], new SeatId(i),
+					"Player " + i, 1000, 0, true, true);
+			players.add(player);
+			state = new SitInState(state, new SitInEvent(player));
+		}
+		return state;
+	}
+
+	/**
+	 * A new deal and its blinds.
+	 */
+	private GameState deal(GameState state, int nbRetainedDeals) {
+		return deal(state, players, nbRetainedDeals);
+	}
+
+	private GameState deal(GameState state, List<SeatedPlayer> players,
+			int nbRetainedDeals) {
+		state = new NewDealState(new NewDealEvent(players, ids[0]), state,
+				nbRetainedDeals);
+		state = new BlindState(state, new BlindEvent(ids[1], config.getSmallBlind()));
+		return new BlindState(state, new BlindEvent(ids[2], config.getBigBlind()));
+	}
+
+	public void testKeepAll() {
+		GameState state = sitIn();
+		for (int i = 0; i < 5; i++) {
+			state = deal(state, Integer.MAX_VALUE);
+		}
+		assertEquals(5, countDeals(state));
+		assertTrue(getFirst(state) instanceof DetailedHoldemTableState);
+		assertEquals(NB_PLAYERS + 5 * 3 + 1, getHistory(state, null).size());
+	}
+
+	public void testKeepLastDeals() {
+		GameState state = sitIn();
+		for (int i = 0; i < 5; i++) {
+			state = deal(state, 2);
+			assertEquals(Math.min(i + 1, 2), countDeals(state));
+		}
+		GameState first = getFirst(state);
+		assertTrue(first instanceof HistorySummaryState);
+		HistorySummaryState summary = (HistorySummaryState) first;
+		assertEquals(3, summary.getNbDroppedDeals());
+		assertEquals(config, summary.getTableConfiguration());
+		assertEquals(state.getSeatMap(), summary.getSeatMap());
+		assertEquals(NB_PLAYERS, summary.getAllSeatedPlayers().size());
+		assertEquals(config.getBigBlind(), summary.getPlayer(ids[2]).getBet());
+		assertEquals(2 * 3, getHistory(state, null).size());
+	}
+
+	public void testLongSession() {
+		GameState state = sitIn();
+		for (int i = 0; i < 50; i++) {
+			state = deal(state, 3);
+		}
+		assertEquals(3, countDeals(state));
+		assertEquals(47, ((HistorySummaryState) getFirst(state))
+				.getNbDroppedDeals());
+		for (int i = 0; i < 5000; i++) {
+			state = deal(state, Integer.MAX_VALUE);
+		}
+		// the summary of the first deals stays, nothing is dropped after it
+		assertEquals(3 + 5000, countDeals(state));
+		assertEquals(47, ((HistorySummaryState) getFirst(state))
+				.getNbDroppedDeals());
+	}
+
+	public void testHistoryFromRetainedState() {
+		GameState state = sitIn();
+		for (int i = 0; i < 3; i++) {
+			state = deal(state, 2);
+		}
+		GameState start = state;
+		for (int i = 0; i < 2; i++) {
+			state = deal(state, 2);
+		}
+		List<String> history = getHistory(state, start);
+		assertEquals(2 * 3, history.size());
+		assertEquals("visitNewDealState", history.get(0));
+		assertEquals("visitBlindState", history.get(5));
+	}
+
+	public void testSittingOut() {
+		GameState state = sitIn();
+		List<SeatedPlayer> dealtIn = new ArrayList<SeatedPlayer>(players);
+		dealtIn.set(0, new SeatedPlayer(players.get(0), false));
+		state = deal(state, dealtIn, 2);
+		// the new deal state, before the blinds
+		WeakReference<GameState> firstDeal = new WeakReference<GameState>(
+				state.getPreviousGameState().getPreviousGameState());
+		assertTrue(firstDeal.get() instanceof NewDealState);
+		for (int i = 0; i < 5; i++) {
+			state = deal(state, dealtIn, 2);
+		}
+		assertEquals(2, countDeals(state));
+		PlayerState sittingOut = state.getPlayer(ids[0]);
+		assertFalse(sittingOut.hasBeenDealt());
+		assertEquals(1000, sittingOut.getStack());
+		// a copy, not a wrapper around the state of the previous deal
+		assertTrue(sittingOut instanceof FlatPlayerState);
+		for (int i = 0; i < 10 && firstDeal.get() != null; i++) {
+			System.gc();
+		}
+		assertNull(firstDeal.get());
+	}
+
+	public void testRetainAtLeastOneDeal() {
+		try {
+			new NewDealState(new NewDealEvent(players, ids[0]), sitIn(), 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private int countDeals(GameState state) {
+		int nbDeals = 0;
+		for (; state.getPreviousGameState() != state; state = state
+				.getPreviousGameState()) {
+			if (state instanceof NewDealState) {
+				++nbDeals;
+			}
+		}
+		return nbDeals;
+	}
+
+	private GameState getFirst(GameState state) {
+		while (state.getPreviousGameState() != state) {
+			state = state.getPreviousGameState();
+		}
+		return state;
+	}
+
+	private List<String> getHistory(GameState state, GameState start) {
+		final List<String> visits = new ArrayList<String>();
+		GameStateVisitor visitor = (GameStateVisitor) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[] { GameStateVisitor.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						visits.add(method.getName());
+						return null;
+					}
+				});
+		state.acceptHistoryVisitor(visitor, start);
+		return visits;
+	}
+
+}
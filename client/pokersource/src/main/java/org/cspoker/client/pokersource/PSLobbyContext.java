@@ -26,6 +26,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 import org.cspoker.external.pokersource.PokersourceConnection;
 
 public class PSLobbyContext implements RemoteLobbyContext {
@@ -56,6 +57,11 @@ public class PSLobbyContext implements RemoteLobbyContext {
 	public TableList getTableList() {
 		throw new UnsupportedOperationException();
 	}
+
+	@Override
+	public TableListDelta getTableListChanges(long sinceVersion) {
+		throw new UnsupportedOperationException();
+	}
 	
 	volatile TableConfiguration config = null;
 
@@ -25,6 +25,7 @@ import org.cspoker.client.xml.common.listener.XmlServerListenerTree;
 import org.cspoker.common.api.lobby.action.CreateHoldemTableAction;
 import org.cspoker.common.api.lobby.action.GetHoldemTableInformationAction;
 import org.cspoker.common.api.lobby.action.GetTableListAction;
+import org.cspoker.common.api.lobby.action.GetTableListChangesAction;
 import org.cspoker.common.api.lobby.action.JoinHoldemTableAction;
 import org.cspoker.common.api.lobby.context.RemoteLobbyContext;
 import org.cspoker.common.api.lobby.holdemtable.context.RemoteHoldemTableContext;
@@ -36,6 +37,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 
 @ThreadSafe
 public class XmlRemoteLobbyContext implements RemoteLobbyContext{
@@ -65,6 +67,10 @@ public class XmlRemoteLobbyContext implements RemoteLobbyContext{
 		return performer.perform(new GetTableListAction(generator.getNextID()));
 	}
 
+	public TableListDelta getTableListChanges(long sinceVersion) throws RemoteException, IllegalActionException {
+		return performer.perform(new GetTableListChangesAction(generator.getNextID(), sinceVersion));
+	}
+
 	public RemoteHoldemTableContext joinHoldemTable(final TableId tableID,
 			HoldemTableListener holdemTableListener) throws RemoteException,
 			IllegalActionException {
@@ -17,24 +17,25 @@ package org.cspoker.client.xml.http;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
 import java.net.ProtocolException;
 import java.net.URL;
 import java.rmi.RemoteException;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.GZIPInputStream;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.PropertyException;
 import javax.xml.bind.Unmarshaller;
 
-import net.jcip.annotations.GuardedBy;
 import net.jcip.annotations.ThreadSafe;
 
 import org.apache.log4j.Logger;
@@ -50,49 +51,94 @@ import org.cspoker.common.jaxbcontext.AllHTTPJAXBContexts;
 import org.cspoker.common.util.Base64;
 import org.cspoker.common.util.threading.LoggingThreadFactory;
 
+/**
+ * Posts the actions as soon as they are performed, and receives the server
+ * events with long polls: a request for events that the server answers once
+ * there are any, or after {@link #POLL_TIMEOUT}.
+ */
 @ThreadSafe
 public class XmlHttpSerializer implements XmlActionSerializer {
 
 	private final static Logger logger = Logger.getLogger(XmlHttpSerializer.class);
 	
-	public final static long millisBetweenPolling = 1500;
+	/**
+	 * How long the server holds a long poll without events, in milliseconds.
+	 */
+	public final static long POLL_TIMEOUT = 25000;
+
+	/**
+	 * How long to wait before polling again after a failed poll, in
+	 * milliseconds.
+	 */
+	public final static long RETRY_DELAY = 1500;
 
-	private final URL url;
+	private final URL actionsUrl;
+	private final URL eventsUrl;
 	private final String authorizationString;
 
 	private final ConcurrentLinkedQueue<DispatchableAction<?>> actions = new ConcurrentLinkedQueue<DispatchableAction<?>>();
 
-	private final ScheduledExecutorService scheduler;
-	
-	@GuardedBy("pollerLock")
-	private ScheduledFuture<?> poller;
-	private final Object pollerLock = new Object();
-	
+	private final ExecutorService sender;
+
+	private final ExecutorService poller;
+
+	private volatile HttpURLConnection pollConnection;
+
 	private volatile ActionAndServerEventListener eventListener;
 
-	public XmlHttpSerializer(URL url, final String username, final String password) {
+	private final Runnable sendActions = new Runnable() {
+		public void run() {
+			// the actions of several calls may have been sent at once
+			if (!actions.isEmpty()) {
+				logger.debug("Sending request.");
+				sendRequest();
+			}
+		}
+	};
+
+	/**
+	 * @param url
+	 *            the url of the requests, the events are polled for relative to
+	 *            it
+	 */
+	public XmlHttpSerializer(URL url, final String username, final String password) throws MalformedURLException {
 		authorizationString = "Basic "
 			+ Base64.encode((username + ":" + password).getBytes(), 0);
-		this.url = url;
-		scheduler = Executors.newSingleThreadScheduledExecutor(new LoggingThreadFactory("http"));
-		synchronized (pollerLock) {
-			poller = new DummyScheduledFuture<Object>();
-		}
+		// the events come with the long polls
+		this.actionsUrl = new URL(url, "?events=false");
+		this.eventsUrl = new URL(url, "events?timeout=" + POLL_TIMEOUT);
+		sender = Executors.newSingleThreadExecutor(new LoggingThreadFactory("http"));
+		poller = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			private final ThreadFactory threadFactory = new LoggingThreadFactory("http-events");
+
+			public Thread newThread(Runnable r) {
+				// a waiting poll should not keep the client alive
+				Thread thread = threadFactory.newThread(r);
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
 	}
 
 
 	public synchronized void close() {
-		scheduler.shutdown();
-		scheduler.shutdownNow();
+		sender.shutdown();
+		sender.shutdownNow();
+		poller.shutdownNow();
+		HttpURLConnection connection = pollConnection;
+		if (connection != null) {
+			connection.disconnect();
+		}
 	}
 
 	public synchronized void sendRequest() {
 		HTTPRequest request = new HTTPRequest(actions);
 		BufferedReader in=null;
 		try {
-			HttpURLConnection connection = (HttpURLConnection) url
+			HttpURLConnection connection = (HttpURLConnection) actionsUrl
 			.openConnection();
 			connection.setRequestProperty("Authorization", authorizationString);
+			connection.setRequestProperty("Accept-Encoding", "gzip");
 			connection.setConnectTimeout(20000);
 			connection.setAllowUserInteraction(true);
 			connection.setInstanceFollowRedirects(false);
@@ -101,7 +147,6 @@ public class XmlHttpSerializer implements XmlActionSerializer {
 
 
 			Marshaller m = AllHTTPJAXBContexts.context.createMarshaller();
-			m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 			m.setProperty(Marshaller.JAXB_FRAGMENT, true);
 			m.marshal(request, connection.getOutputStream());
 
@@ -114,7 +159,7 @@ public class XmlHttpSerializer implements XmlActionSerializer {
 					|| connection.getResponseCode() / 100 == 5) {
 				String line;
 				in = new BufferedReader(new InputStreamReader(
-						connection.getInputStream()));
+						getInputStream(connection)));
 				StringBuffer buffer = new StringBuffer();
 				while ((line = in.readLine()) != null) {
 					buffer.append(line);
@@ -127,7 +172,7 @@ public class XmlHttpSerializer implements XmlActionSerializer {
 				throwRemoteExceptions(request, e.getMessage());
 			}
 			Unmarshaller unmarshaller = AllHTTPJAXBContexts.context.createUnmarshaller();
-			HTTPResponse response = (HTTPResponse)unmarshaller.unmarshal(connection.getInputStream());
+			HTTPResponse response = (HTTPResponse)unmarshaller.unmarshal(getInputStream(connection));
 
 			for(ServerEvent event:response.getEvents()){
 				eventListener.onServerEvent(event);
@@ -147,6 +192,14 @@ public class XmlHttpSerializer implements XmlActionSerializer {
 		} 
 	}
 
+	private static InputStream getInputStream(HttpURLConnection connection) throws IOException {
+		InputStream input = connection.getInputStream();
+		if ("gzip".equals(connection.getContentEncoding())) {
+			return new GZIPInputStream(input);
+		}
+		return input;
+	}
+
 	private void close(Reader r){
 		try {
 			r.close();
@@ -166,38 +219,74 @@ public class XmlHttpSerializer implements XmlActionSerializer {
 		}
 	}
 
-	public void setEventListener(ActionAndServerEventListener listener) {
+	/**
+	 * Sets the listener and starts polling for events.
+	 */
+	public synchronized void setEventListener(ActionAndServerEventListener listener) {
+		boolean first = eventListener == null;
 		this.eventListener = listener;
+		if (first && listener != null) {
+			poller.execute(new LongPoller());
+		}
 	}
 
 	public void perform(DispatchableAction<?> action)
 	throws RemoteException {
 		logger.debug("Action added: "+action);
 		actions.add(action);
-		pollNow();
+		sender.execute(sendActions);
 	}
 	
-	private void pollNow() {
-		synchronized (pollerLock) {
-			if (poller.cancel(false)) {
-				logger
-						.debug("Cancelled submitted poller task, submitting a new one immediately");
-				poller = scheduler.schedule(new Poller(), 0,
-						TimeUnit.MILLISECONDS);
-			} else {
-				logger
-						.debug("Failed to cancel poller task. It's most likely in progress.");
+	private class LongPoller implements Runnable{
+
+		public void run() {
+			try {
+				Unmarshaller unmarshaller = AllHTTPJAXBContexts.context.createUnmarshaller();
+				while (!Thread.currentThread().isInterrupted()) {
+					try {
+						if (!poll(unmarshaller)) {
+							return;
+						}
+					} catch (IOException e) {
+						logger.debug("Long poll failed: " + e.getMessage());
+						Thread.sleep(RETRY_DELAY);
+					} catch (JAXBException e) {
+						logger.error("Bad long poll response", e);
+						Thread.sleep(RETRY_DELAY);
+					}
+				}
+			} catch (JAXBException e) {
+				logger.error(e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
 			}
 		}
-	}
-	
-	private class Poller implements Runnable{
-		public void run() {
-			logger.debug("Sending request.");
-			sendRequest();
-			synchronized (pollerLock) {
-				poller = scheduler.schedule(this, millisBetweenPolling, TimeUnit.MILLISECONDS);
+
+		/**
+		 * @return whether polling should go on
+		 */
+		private boolean poll(Unmarshaller unmarshaller) throws IOException, JAXBException {
+			HttpURLConnection connection = (HttpURLConnection) eventsUrl.openConnection();
+			pollConnection = connection;
+			connection.setRequestProperty("Authorization", authorizationString);
+			connection.setRequestProperty("Accept-Encoding", "gzip");
+			connection.setConnectTimeout(20000);
+			connection.setReadTimeout((int) (2 * POLL_TIMEOUT));
+			connection.setInstanceFollowRedirects(false);
+			int status = connection.getResponseCode();
+			if (status == 401) {
+				logger.error("Long poll refused, stopped polling for events.");
+				return false;
 			}
+			if (status != 200) {
+				throw new IOException("Unexpected status of long poll: " + status);
+			}
+			HTTPResponse response = (HTTPResponse) unmarshaller.unmarshal(getInputStream(connection));
+			for (ServerEvent event : response.getEvents()) {
+				eventListener.onServerEvent(event);
+			}
+			return true;
 		}
+
 	}
 }
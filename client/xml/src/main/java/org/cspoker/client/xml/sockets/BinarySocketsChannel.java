@@ -0,0 +1,189 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.client.xml.sockets;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.rmi.RemoteException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.apache.log4j.Logger;
+import org.cspoker.client.xml.common.XmlActionSerializer;
+import org.cspoker.common.api.shared.action.DispatchableAction;
+import org.cspoker.common.api.shared.event.ActionEvent;
+import org.cspoker.common.api.shared.event.ServerEvent;
+import org.cspoker.common.api.shared.listener.ActionAndServerEventListener;
+import org.cspoker.common.api.shared.socket.BinaryProtocol;
+import org.cspoker.common.jaxbcontext.AllSocketJAXBContexts;
+
+/**
+ * Talks the {@link BinaryProtocol} to a socket server. Actions are sent as XML
+ * frames, the frequent table events come in compactly encoded.
+ */
+public class BinarySocketsChannel implements XmlActionSerializer {
+
+	private final static Logger logger = Logger.getLogger(BinarySocketsChannel.class);
+
+	/**
+	 * How long the server may take to answer the hello, in milliseconds.
+	 */
+	public final static int HELLO_TIMEOUT = 10000;
+
+	private final Socket socket;
+
+	private final DataOutputStream output;
+
+	private final DataInputStream input;
+
+	private final Marshaller marshaller;
+
+	private final ByteArrayOutputStream document = new ByteArrayOutputStream(512);
+
+	private final ExecutorService executor;
+
+	private volatile ActionAndServerEventListener eventHandler;
+
+	public BinarySocketsChannel(String server, int port) throws RemoteException {
+		try {
+			marshaller = AllSocketJAXBContexts.context.createMarshaller();
+			marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+			marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+		} catch (JAXBException exception) {
+			throw new RemoteException("Exception creating marshaller.", exception);
+		}
+		try {
+			socket = new Socket(server, port);
+			socket.setTcpNoDelay(true);
+			output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			input = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 64 * 1024));
+			negotiate();
+		} catch (IOException exception) {
+			throw new RemoteException("Exception opening socket.", exception);
+		}
+		executor = Executors.newSingleThreadExecutor();
+		executor.execute(new WaitForEvents());
+	}
+
+	private void negotiate() throws IOException {
+		byte[] hello = BinaryProtocol.getHello();
+		output.write(hello);
+		output.flush();
+		byte[] answer = new byte[hello.length];
+		socket.setSoTimeout(HELLO_TIMEOUT);
+		try {
+			input.readFully(answer);
+		} catch (SocketTimeoutException exception) {
+			socket.close();
+			throw new IOException("The server does not speak the binary protocol.");
+		}
+		socket.setSoTimeout(0);
+		if (!Arrays.equals(hello, answer)) {
+			socket.close();
+			throw new IOException("The server does not speak the binary protocol.");
+		}
+	}
+
+	public synchronized void close() {
+		executor.shutdownNow();
+		try {
+			socket.close();
+		} catch (IOException e) {
+			logger.error(e);
+		}
+	}
+
+	private class WaitForEvents implements Runnable {
+
+		public void run() {
+			try {
+				Unmarshaller unmarshaller = AllSocketJAXBContexts.context.createUnmarshaller();
+				byte[] frame = new byte[4 * 1024];
+				while (true) {
+					int length = input.readInt();
+					BinaryProtocol.checkLength(length);
+					if (frame.length < length) {
+						frame = new byte[Math.max(length, 2 * frame.length)];
+					}
+					input.readFully(frame, 0, length);
+					Object event;
+					if (frame[0] == BinaryProtocol.TABLE_EVENT_FRAME) {
+						event = BinaryProtocol.decode(ByteBuffer.wrap(frame, 1, length - 1));
+					} else if (frame[0] == BinaryProtocol.XML_FRAME) {
+						event = unmarshaller.unmarshal(new StringReader(new String(frame, 1, length - 1, "UTF-8")));
+					} else {
+						throw new IOException("Unknown frame type: " + frame[0]);
+					}
+					ActionAndServerEventListener handler = eventHandler;
+					if (handler == null) {
+						continue;
+					}
+					if (event instanceof ActionEvent<?>) {
+						handler.onActionPerformed((ActionEvent<?>) event);
+					} else if (event instanceof ServerEvent) {
+						handler.onServerEvent((ServerEvent) event);
+					} else {
+						throw new ClassCastException("Unknown event type.");
+					}
+				}
+			} catch (IOException e) {
+				logger.error(e);
+				close();
+			} catch (JAXBException e) {
+				logger.error(e);
+				close();
+			} catch (RuntimeException e) {
+				// a frame that does not decode, the stream can not be trusted anymore
+				logger.error("Closing the channel after a bad event.", e);
+				close();
+			}
+		}
+
+	}
+
+	public void setEventListener(ActionAndServerEventListener handler) {
+		this.eventHandler = handler;
+	}
+
+	public synchronized void perform(DispatchableAction<?> action) throws RemoteException {
+		try {
+			document.reset();
+			marshaller.marshal(action, document);
+			output.writeInt(document.size() + 1);
+			output.writeByte(BinaryProtocol.XML_FRAME);
+			document.writeTo(output);
+			output.flush();
+		} catch (JAXBException exception) {
+			throw new RemoteException("Exception sending action.", exception);
+		} catch (IOException exception) {
+			throw new RemoteException("Exception sending action.", exception);
+		}
+	}
+
+}
@@ -15,16 +15,13 @@
  */
 package org.cspoker.client.xml.sockets;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
-import java.io.StringReader;
 import java.io.Writer;
 import java.net.Socket;
 import java.net.UnknownHostException;
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
-import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.rmi.RemoteException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -45,19 +42,28 @@ public class XmlSocketsChannel implements XmlActionSerializer {
 
 	private final static Logger logger = Logger.getLogger(XmlSocketsChannel.class);
 
+	public final static int READ_BUFFER_SIZE = 8 * 1024;
+
+	private final static ThreadLocal<Unmarshaller> unmarshallers = new ThreadLocal<Unmarshaller>() {
+		@Override
+		protected Unmarshaller initialValue() {
+			try {
+				return AllSocketJAXBContexts.context.createUnmarshaller();
+			} catch (JAXBException exception) {
+				throw new IllegalStateException(exception);
+			}
+		}
+	};
+
 	private final Socket socket;
 	private final Writer socketWriter;
 
 	private final ExecutorService executor;
 
-	private final CharsetDecoder decoder;
-
 	private volatile ActionAndServerEventListener eventHandler;
 
 	public XmlSocketsChannel(String server, int port, String username,
 			String password) throws RemoteException {
-		Charset charset = Charset.forName("UTF-8");
-		decoder = charset.newDecoder();
 		try {
 			socket = new Socket(server, port);
 			socketWriter = new OutputStreamWriter(socket.getOutputStream());
@@ -70,35 +76,6 @@ public class XmlSocketsChannel implements XmlActionSerializer {
 		executor.execute(new WaitForEvents());
 	}
 
-	private String readUntilDelimiter() throws IOException,
-	InterruptedException {
-		StringBuilder sb = new StringBuilder();
-		ByteBuffer singleByteBuffer = ByteBuffer.allocateDirect(1);
-		while (true) {
-			int b = socket.getInputStream().read();
-			if (Thread.interrupted()) {
-				throw new InterruptedException();
-			}
-			if (b < 0) {
-				throw new IOException("Connection lost");
-			}
-			if (b == 0) {
-				if (sb.length() > 0) {
-					return sb.toString();
-				} else {
-					logger.trace("Delimiter found but no xml: length "
-							+ sb.length());
-				}
-			} else {
-				singleByteBuffer.put((byte) b);
-				singleByteBuffer.flip();
-				CharBuffer decoded = decoder.decode(singleByteBuffer);
-				sb.append(decoded);
-				singleByteBuffer.clear();
-			}
-		}
-	}
-
 	public synchronized void close() {
 		executor.shutdown();
 		executor.shutdownNow();
@@ -114,26 +91,42 @@ public class XmlSocketsChannel implements XmlActionSerializer {
 		}
 	}
 
+	/**
+	 * Reads the events in chunks, decoding every complete message at once.
+	 * Messages end with a zero byte.
+	 */
 	private class WaitForEvents implements Runnable {
 
+		// the start of a message that was not complete after the last read
+		private byte[] message = new byte[READ_BUFFER_SIZE];
+		private int messageLength = 0;
+
 		public void run() {
 			try {
+				InputStream input = socket.getInputStream();
+				byte[] chunk = new byte[READ_BUFFER_SIZE];
 				while (true) {
-					String s = readUntilDelimiter();
-					if (eventHandler!=null) {
-						Unmarshaller unmarshaller = AllSocketJAXBContexts.context
-						.createUnmarshaller();
-						Object event = unmarshaller.unmarshal(new StringReader(
-								s));
-						if (event instanceof ActionEvent<?>) {
-							eventHandler
-									.onActionPerformed((ActionEvent<?>) event);
-						} else if (event instanceof ServerEvent) {
-							eventHandler.onServerEvent((ServerEvent) event);
-						} else {
-							throw new ClassCastException("Unknown event type.");
+					int numBytesRead = input.read(chunk);
+					if (Thread.interrupted()) {
+						throw new InterruptedException();
+					}
+					if (numBytesRead < 0) {
+						throw new IOException("Connection lost");
+					}
+					int start = 0;
+					for (int i = 0; i < numBytesRead; i++) {
+						if (chunk[i] == 0x00) {
+							if (messageLength == 0) {
+								handle(chunk, start, i - start);
+							} else {
+								append(chunk, start, i - start);
+								handle(message, 0, messageLength);
+								messageLength = 0;
+							}
+							start = i + 1;
 						}
 					}
+					append(chunk, start, numBytesRead - start);
 				}
 			} catch (IOException e) {
 				logger.error(e);
@@ -147,6 +140,36 @@ public class XmlSocketsChannel implements XmlActionSerializer {
 			}
 		}
 
+		private void append(byte[] bytes, int offset, int length) {
+			if (messageLength + length > message.length) {
+				byte[] grown = new byte[Math.max(2 * message.length, messageLength + length)];
+				System.arraycopy(message, 0, grown, 0, messageLength);
+				message = grown;
+			}
+			System.arraycopy(bytes, offset, message, messageLength, length);
+			messageLength += length;
+		}
+
+		private void handle(byte[] bytes, int offset, int length) throws JAXBException {
+			if (length == 0) {
+				logger.trace("Delimiter found but no xml");
+				return;
+			}
+			ActionAndServerEventListener handler = eventHandler;
+			if (handler == null) {
+				return;
+			}
+			Object event = unmarshallers.get().unmarshal(
+					new ByteArrayInputStream(bytes, offset, length));
+			if (event instanceof ActionEvent<?>) {
+				handler.onActionPerformed((ActionEvent<?>) event);
+			} else if (event instanceof ServerEvent) {
+				handler.onServerEvent((ServerEvent) event);
+			} else {
+				throw new ClassCastException("Unknown event type.");
+			}
+		}
+
 	}
 
 	public void setEventListener(ActionAndServerEventListener handler) {
@@ -0,0 +1,50 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.api.lobby.action;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import net.jcip.annotations.Immutable;
+
+import org.cspoker.common.api.lobby.context.StaticLobbyContext;
+import org.cspoker.common.api.shared.event.EventId;
+import org.cspoker.common.elements.table.TableListDelta;
+
+@XmlRootElement
+@Immutable
+public class GetTableListChangesAction extends LobbyAction<TableListDelta> {
+
+	private static final long serialVersionUID = -2870262152870337525L;
+
+	@XmlAttribute
+	private final long sinceVersion;
+
+	public GetTableListChangesAction(EventId id, long sinceVersion) {
+		super(id);
+		this.sinceVersion = sinceVersion;
+	}
+
+	protected GetTableListChangesAction() {
+		sinceVersion = 0;
+	}
+
+	@Override
+	public TableListDelta perform(StaticLobbyContext lobbyContext) {
+		return lobbyContext.getTableListChanges(sinceVersion);
+	}
+
+}
@@ -22,6 +22,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 
 public class ForwardingLobbyContext implements LobbyContext{
 
@@ -44,6 +45,10 @@ public class ForwardingLobbyContext implements LobbyContext{
 		return lobbyContext.getTableList();
 	}
 
+	public TableListDelta getTableListChanges(long sinceVersion) {
+		return lobbyContext.getTableListChanges(sinceVersion);
+	}
+
 	public HoldemTableContext joinHoldemTable(TableId tableId,
 			HoldemTableListener holdemTableListener) throws IllegalActionException {
 		return lobbyContext.joinHoldemTable(tableId, holdemTableListener);
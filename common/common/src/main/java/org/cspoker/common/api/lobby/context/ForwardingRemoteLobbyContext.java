@@ -28,6 +28,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 
 @Immutable
 public class ForwardingRemoteLobbyContext implements RemoteLobbyContext, Unreferenced{
@@ -55,6 +56,10 @@ public class ForwardingRemoteLobbyContext implements RemoteLobbyContext, Unrefer
 		return lobbyContext.getTableList();
 	}
 
+	public TableListDelta getTableListChanges(long sinceVersion) throws RemoteException, IllegalActionException {
+		return lobbyContext.getTableListChanges(sinceVersion);
+	}
+
 	public RemoteHoldemTableContext joinHoldemTable(TableId tableId,
 			HoldemTableListener holdemTableListener) throws RemoteException, IllegalActionException {
 		return lobbyContext.joinHoldemTable(tableId, holdemTableListener);
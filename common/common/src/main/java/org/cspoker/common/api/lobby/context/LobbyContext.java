@@ -22,6 +22,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 
 public interface LobbyContext extends RemoteLobbyContext{
 
@@ -33,5 +34,7 @@ public interface LobbyContext extends RemoteLobbyContext{
 
 	DetailedHoldemTable getHoldemTableInformation(TableId tableId);
 
-	TableList getTableList();	
+	TableList getTableList();
+
+	TableListDelta getTableListChanges(long sinceVersion);	
 }
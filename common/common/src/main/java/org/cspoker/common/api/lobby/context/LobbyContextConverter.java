@@ -25,6 +25,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 
 /**
  * A wrapper class that converts a LobbyContextConverter in to a ExternalRemoteLobbyContext.
@@ -72,4 +73,9 @@ public class LobbyContextConverter implements ExternalRemoteLobbyContext {
 		return lobbyContext.getTableList();
 	}
 
+	public TableListDelta getTableListChanges(long sinceVersion)
+			throws RemoteException, IllegalActionException {
+		return lobbyContext.getTableListChanges(sinceVersion);
+	}
+
 }
@@ -25,6 +25,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 
 public interface RemoteLobbyContext extends Remote {
 
@@ -36,5 +37,11 @@ public interface RemoteLobbyContext extends Remote {
 
 	DetailedHoldemTable getHoldemTableInformation(TableId tableId) throws RemoteException, IllegalActionException;
 
-	TableList getTableList() throws RemoteException, IllegalActionException;	
+	TableList getTableList() throws RemoteException, IllegalActionException;
+
+	/**
+	 * Returns what changed in the list of tables since the given version of
+	 * {@link TableList#getVersion()}.
+	 */
+	TableListDelta getTableListChanges(long sinceVersion) throws RemoteException, IllegalActionException;	
 }
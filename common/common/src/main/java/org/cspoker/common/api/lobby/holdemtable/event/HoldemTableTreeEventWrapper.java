@@ -46,6 +46,14 @@ public class HoldemTableTreeEventWrapper extends LobbyTreeEvent {
 		event = null;
 	}
 	
+	public TableId getTableId() {
+		return tableID;
+	}
+
+	public HoldemTableTreeEvent getEvent() {
+		return event;
+	}
+
 	@Override
 	public void dispatch(LobbyListenerTree lobbyListenerTree) {
 		HoldemTableListenerTree listenerTree = lobbyListenerTree.getHoldemTableListenerTree(tableID);
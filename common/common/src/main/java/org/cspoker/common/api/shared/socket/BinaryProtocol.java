@@ -0,0 +1,333 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.api.shared.socket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.cspoker.common.api.lobby.holdemtable.event.AllInEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.BetEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.BlindEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CallEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CheckEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.FoldEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEventWrapper;
+import org.cspoker.common.api.lobby.holdemtable.event.JoinTableEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.LeaveTableEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewCommunityCardsEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewRoundEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.RaiseEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.SitOutEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.NewPocketCardsEvent;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.chips.Pots;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.Round;
+import org.cspoker.common.elements.table.TableId;
+
+/**
+ * The binary socket protocol, an alternative to the zero delimited XML
+ * documents.
+ * 
+ * A client that wants it starts the connection with {@link #HELLO}, the
+ * server answers with the same bytes. From then on both sides send frames: a
+ * big-endian int with the length of the rest of the frame, a frame type and
+ * the payload.
+ * 
+ * A {@link #XML_FRAME} holds a UTF-8 XML document, as it would be sent on the
+ * XML sockets. The frequent table events, from a bet to the pocket cards,
+ * have a compact encoding in a {@link #TABLE_EVENT_FRAME} of a few dozen bytes
+ * instead: ids as longs, amounts as ints and cards as their ordinal.
+ */
+@ThreadSafe
+public final class BinaryProtocol {
+
+	/**
+	 * The first bytes sent by both sides: no XML document starts with them.
+	 */
+	private final static byte[] HELLO = { (byte) 0xCA, (byte) 0x5B, 'B', 1 };
+
+	public final static int HELLO_LENGTH = HELLO.length;
+
+	public final static byte XML_FRAME = 0;
+
+	public final static byte TABLE_EVENT_FRAME = 1;
+
+	/**
+	 * The size of the length and type that start a frame.
+	 */
+	public final static int HEADER_LENGTH = 5;
+
+	/**
+	 * The largest frame length that is accepted.
+	 */
+	public final static int MAX_FRAME_LENGTH = 1024 * 1024;
+
+	private final static byte ALL_IN = 0;
+	private final static byte BET = 1;
+	private final static byte BLIND = 2;
+	private final static byte CALL = 3;
+	private final static byte CHECK = 4;
+	private final static byte FOLD = 5;
+	private final static byte RAISE = 6;
+	private final static byte NEXT_PLAYER = 7;
+	private final static byte NEW_ROUND = 8;
+	private final static byte NEW_COMMUNITY_CARDS = 9;
+	private final static byte NEW_POCKET_CARDS = 10;
+	private final static byte JOIN_TABLE = 11;
+	private final static byte LEAVE_TABLE = 12;
+	private final static byte SIT_OUT = 13;
+
+	private final static Card[] cards = Card.values();
+
+	private final static Round[] rounds = Round.values();
+
+	private BinaryProtocol() {
+	}
+
+	public static byte[] getHello() {
+		return HELLO.clone();
+	}
+
+	/**
+	 * Whether the given bytes, from the offset on, are a prefix of the hello.
+	 */
+	public static boolean isHello(byte[] bytes, int offset, int length,
+			int helloOffset) {
+		for (int i = 0; i < length; i++) {
+			if (bytes[offset + i] != HELLO[helloOffset + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the header of a frame with the given payload length at the
+	 * start of the array.
+	 */
+	public static void putHeader(byte[] frame, byte type, int payloadLength) {
+		int length = payloadLength + 1;
+		frame[0] = (byte) (length >>> 24);
+		frame[1] = (byte) (length >>> 16);
+		frame[2] = (byte) (length >>> 8);
+		frame[3] = (byte) length;
+		frame[4] = type;
+	}
+
+	/**
+	 * Reads the length of a frame, without its own four bytes.
+	 * 
+	 * @throws IOException
+	 *             the length is out of bounds
+	 */
+	public static int getLength(byte[] bytes, int offset) throws IOException {
+		int length = ((bytes[offset] & 0xFF) << 24)
+				| ((bytes[offset + 1] & 0xFF) << 16)
+				| ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+		checkLength(length);
+		return length;
+	}
+
+	public static void checkLength(int length) throws IOException {
+		if (length < 1 || length > MAX_FRAME_LENGTH) {
+			throw new IOException("Bad frame length: " + length);
+		}
+	}
+
+	/**
+	 * Encodes the given table event in a complete frame.
+	 * 
+	 * @return the frame, ready to be written, or null when the event has no
+	 *         compact encoding
+	 */
+	public static ByteBuffer encode(TableId tableId, HoldemTableTreeEvent event) {
+		// the most frequent first
+		if (event instanceof NextPlayerEvent) {
+			return playerFrame(tableId, NEXT_PLAYER,
+					((NextPlayerEvent) event).getPlayerId(), 0);
+		} else if (event instanceof CallEvent) {
+			CallEvent call = (CallEvent) event;
+			return amountFrame(tableId, CALL, call.getPlayerId(), call
+					.getMovedAmount());
+		} else if (event instanceof FoldEvent) {
+			return playerFrame(tableId, FOLD, ((FoldEvent) event).getPlayerId(), 0);
+		} else if (event instanceof CheckEvent) {
+			return playerFrame(tableId, CHECK,
+					((CheckEvent) event).getPlayerId(), 0);
+		} else if (event instanceof RaiseEvent) {
+			RaiseEvent raise = (RaiseEvent) event;
+			ByteBuffer frame = playerFrame(tableId, RAISE, raise.getPlayerId(), 8);
+			frame.putInt(raise.getAmount());
+			frame.putInt(raise.getMovedAmount());
+			return flip(frame);
+		} else if (event instanceof BetEvent) {
+			BetEvent bet = (BetEvent) event;
+			return amountFrame(tableId, BET, bet.getPlayerId(), bet.getAmount());
+		} else if (event instanceof BlindEvent) {
+			BlindEvent blind = (BlindEvent) event;
+			return amountFrame(tableId, BLIND, blind.getPlayerId(), blind
+					.getAmount());
+		} else if (event instanceof AllInEvent) {
+			AllInEvent allIn = (AllInEvent) event;
+			return amountFrame(tableId, ALL_IN, allIn.getPlayerId(), allIn
+					.getMovedAmount());
+		} else if (event instanceof NewRoundEvent) {
+			NewRoundEvent newRound = (NewRoundEvent) event;
+			ByteBuffer frame = frame(tableId, NEW_ROUND, 5);
+			frame.put((byte) newRound.getRound().ordinal());
+			frame.putInt(newRound.getPots().getTotalValue());
+			return flip(frame);
+		} else if (event instanceof NewCommunityCardsEvent) {
+			return cardsFrame(tableId, NEW_COMMUNITY_CARDS,
+					((NewCommunityCardsEvent) event).getCommunityCards());
+		} else if (event instanceof NewPocketCardsEvent) {
+			return cardsFrame(tableId, NEW_POCKET_CARDS,
+					((NewPocketCardsEvent) event).getPocketCards());
+		} else if (event instanceof JoinTableEvent) {
+			return playerFrame(tableId, JOIN_TABLE,
+					((JoinTableEvent) event).getPlayerId(), 0);
+		} else if (event instanceof LeaveTableEvent) {
+			return playerFrame(tableId, LEAVE_TABLE,
+					((LeaveTableEvent) event).getPlayerId(), 0);
+		} else if (event instanceof SitOutEvent) {
+			return playerFrame(tableId, SIT_OUT,
+					((SitOutEvent) event).getPlayerId(), 0);
+		}
+		return null;
+	}
+
+	private static ByteBuffer frame(TableId tableId, byte kind, int length) {
+		int payloadLength = 9 + length;
+		ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + payloadLength);
+		frame.putInt(payloadLength + 1);
+		frame.put(TABLE_EVENT_FRAME);
+		frame.putLong(tableId.getId());
+		frame.put(kind);
+		return frame;
+	}
+
+	private static ByteBuffer playerFrame(TableId tableId, byte kind,
+			PlayerId playerId, int length) {
+		ByteBuffer frame = frame(tableId, kind, 8 + length);
+		frame.putLong(playerId.getId());
+		return length == 0 ? flip(frame) : frame;
+	}
+
+	private static ByteBuffer amountFrame(TableId tableId, byte kind,
+			PlayerId playerId, int amount) {
+		ByteBuffer frame = playerFrame(tableId, kind, playerId, 4);
+		frame.putInt(amount);
+		return flip(frame);
+	}
+
+	private static ByteBuffer cardsFrame(TableId tableId, byte kind,
+			Set<Card> cards) {
+		ByteBuffer frame = frame(tableId, kind, 1 + cards.size());
+		frame.put((byte) cards.size());
+		for (Card card : cards) {
+			frame.put((byte) card.ordinal());
+		}
+		return flip(frame);
+	}
+
+	private static ByteBuffer flip(ByteBuffer frame) {
+		frame.flip();
+		return frame;
+	}
+
+	/**
+	 * Decodes the payload of a {@link #TABLE_EVENT_FRAME}.
+	 * 
+	 * @throws IOException
+	 *             the payload is not a known event
+	 */
+	public static HoldemTableTreeEventWrapper decode(ByteBuffer payload)
+			throws IOException {
+		TableId tableId = new TableId(payload.getLong());
+		byte kind = payload.get();
+		HoldemTableTreeEvent event;
+		switch (kind) {
+		case NEXT_PLAYER:
+			event = new NextPlayerEvent(playerId(payload));
+			break;
+		case CALL:
+			event = new CallEvent(playerId(payload), payload.getInt());
+			break;
+		case FOLD:
+			event = new FoldEvent(playerId(payload));
+			break;
+		case CHECK:
+			event = new CheckEvent(playerId(payload));
+			break;
+		case RAISE:
+			event = new RaiseEvent(playerId(payload), payload.getInt(), payload
+					.getInt());
+			break;
+		case BET:
+			event = new BetEvent(playerId(payload), payload.getInt());
+			break;
+		case BLIND:
+			event = new BlindEvent(playerId(payload), payload.getInt());
+			break;
+		case ALL_IN:
+			event = new AllInEvent(playerId(payload), payload.getInt());
+			break;
+		case NEW_ROUND:
+			event = new NewRoundEvent(rounds[payload.get()], new Pots(payload
+					.getInt()));
+			break;
+		case NEW_COMMUNITY_CARDS:
+			event = new NewCommunityCardsEvent(cards(payload));
+			break;
+		case NEW_POCKET_CARDS:
+			event = new NewPocketCardsEvent(cards(payload));
+			break;
+		case JOIN_TABLE:
+			event = new JoinTableEvent(playerId(payload));
+			break;
+		case LEAVE_TABLE:
+			event = new LeaveTableEvent(playerId(payload));
+			break;
+		case SIT_OUT:
+			event = new SitOutEvent(playerId(payload));
+			break;
+		default:
+			throw new IOException("Unknown table event: " + kind);
+		}
+		return new HoldemTableTreeEventWrapper(tableId, event);
+	}
+
+	private static PlayerId playerId(ByteBuffer payload) {
+		return new PlayerId(payload.getLong());
+	}
+
+	private static EnumSet<Card> cards(ByteBuffer payload) {
+		EnumSet<Card> result = EnumSet.noneOf(Card.class);
+		int nbCards = payload.get();
+		for (int i = 0; i < nbCards; i++) {
+			result.add(cards[payload.get()]);
+		}
+		return result;
+	}
+
+}
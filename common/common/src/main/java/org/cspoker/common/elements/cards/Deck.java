@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import org.cspoker.common.util.random.RandomOrgSeededRandomGenerator;
@@ -47,6 +48,15 @@ public class Deck {
 		return new Deck(cards);
 	}
 
+	/**
+	 * Returns a deck shuffled with the given generator.
+	 */
+	public static Deck createRandomDeck(Random random){
+		List<Card> cards = new ArrayList<Card>(Deck.PROTO_DECK);
+		Collections.shuffle(cards, random);
+		return new Deck(cards);
+	}
+
 	public static Deck createWeaklyRandomDeck(){
 		List<Card> cards = new ArrayList<Card>(Deck.PROTO_DECK);
 		Collections.shuffle(cards);	
@@ -79,7 +89,7 @@ public class Deck {
 	 *            number of cards to return
 	 * @return {@link List} of Cards
 	 */
-	public synchronized List<Card> deal(final int number) {
+	public List<Card> deal(final int number) {
 		final int deckSize = cards.size();
 		final List<Card> handView = cards.subList(deckSize - number, deckSize);
 		final ArrayList<Card> hand = new ArrayList<Card>(handView);
@@ -93,7 +103,7 @@ public class Deck {
 	 * @post The second card in the deck becomes the new top card
 	 * @result The top card from the deck is returned
 	 */
-	public synchronized Card drawCard() {
+	public Card drawCard() {
 		return deal(1).get(0);
 	}
 	
@@ -0,0 +1,158 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.elements.cards;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.apache.log4j.Logger;
+import org.cspoker.common.util.random.RandomSource;
+import org.cspoker.common.util.random.RandomSources;
+import org.cspoker.common.util.random.SeededRandomSource;
+import org.cspoker.common.util.threading.LoggingThread;
+
+/**
+ * Decks that are shuffled ahead of time on a background thread, so dealing a
+ * new hand never waits for a random generator.
+ * 
+ * When the pool runs dry the deck is shuffled by the caller, dealing is never
+ * held up by the pool either.
+ */
+@ThreadSafe
+public final class DeckPool {
+
+	private final static Logger logger = Logger.getLogger(DeckPool.class);
+
+	/**
+	 * The system property with the number of decks shuffled ahead of time.
+	 */
+	public final static String CAPACITY_PROPERTY = "cspoker.deckpool.capacity";
+
+	public final static int DEFAULT_CAPACITY = 64;
+
+	private static class InstanceHolder {
+		private final static DeckPool instance;
+		static {
+			RandomSource source = RandomSources.fromSystemProperties();
+			// a fixed seed only gives the same games when decks are
+			// shuffled in the order they are dealt
+			instance = new DeckPool(source, source instanceof SeededRandomSource ? 0 : Integer.getInteger(
+					CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+		}
+	}
+
+	/**
+	 * The pool used to deal the hands of the server, its source of random
+	 * numbers is picked by {@link RandomSources#fromSystemProperties()}.
+	 */
+	public static DeckPool getInstance() {
+		return InstanceHolder.instance;
+	}
+
+	private final RandomSource source;
+
+	private final BlockingQueue<Deck> decks;
+
+	private final Thread shuffler;
+
+	private final AtomicLong nbTaken = new AtomicLong();
+
+	private final AtomicLong nbMisses = new AtomicLong();
+
+	/**
+	 * @param capacity The number of decks shuffled ahead of time, with 0 every
+	 *            deck is shuffled when it is taken.
+	 */
+	public DeckPool(RandomSource source, int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("The capacity should not be negative: " + capacity);
+		this.source = source;
+		if (capacity == 0) {
+			decks = null;
+			shuffler = null;
+			return;
+		}
+		decks = new ArrayBlockingQueue<Deck>(capacity);
+		shuffler = new LoggingThread(new Runnable() {
+			public void run() {
+				try {
+					while (!Thread.currentThread().isInterrupted()) {
+						decks.put(Deck.createRandomDeck(DeckPool.this.source.getRandom()));
+					}
+				} catch (InterruptedException e) {
+					// stopped
+				}
+			}
+		}, "CSPoker-DeckPool");
+		// a full pool should not keep the server alive
+		shuffler.setDaemon(true);
+		shuffler.setPriority(Thread.MIN_PRIORITY);
+		shuffler.start();
+	}
+
+	/**
+	 * Returns a shuffled deck that is not handed out to anybody else.
+	 */
+	public Deck take() {
+		nbTaken.incrementAndGet();
+		Deck deck = decks == null ? null : decks.poll();
+		if (deck == null) {
+			if (decks != null) {
+				nbMisses.incrementAndGet();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Deck pool is empty, shuffling on the dealing thread.");
+				}
+			}
+			deck = Deck.createRandomDeck(source.getRandom());
+		}
+		return deck;
+	}
+
+	/**
+	 * The number of decks that are shuffled and waiting.
+	 */
+	public int getSize() {
+		return decks == null ? 0 : decks.size();
+	}
+
+	public long getNbTaken() {
+		return nbTaken.get();
+	}
+
+	/**
+	 * The number of decks that had to be shuffled by the caller because the
+	 * pool was empty.
+	 */
+	public long getNbMisses() {
+		return nbMisses.get();
+	}
+
+	public void shutdown() {
+		if (shuffler != null) {
+			shuffler.interrupt();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DeckPool[" + source + ", size=" + getSize() + ", taken=" + getNbTaken() + ", misses="
+				+ getNbMisses() + "]";
+	}
+
+}
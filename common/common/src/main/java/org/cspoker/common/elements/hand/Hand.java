@@ -45,6 +45,11 @@ public class Hand implements Iterable<Card>, Comparable<Hand> {
 
 	public final UniqueHandHash handHash;
 
+	/**
+	 * The rank of the best five cards, 0 until it is computed.
+	 */
+	private int bestFiveRank;
+
 	/***************************************************************************
 	 * Constructors
 	 **************************************************************************/
@@ -289,8 +294,14 @@ public class Hand implements Iterable<Card>, Comparable<Hand> {
 		return handHash.equals(other.handHash);
 	}
 
+	/**
+	 * Returns the rank of this five card hand, 1 being the best.
+	 */
 	public int getRank() {
-		return HandRanks.getInstance().getHandRank(this);
+		if (cards.size() != 5) {
+			throw new IllegalStateException("Only five card hands have a rank, not " + cards.size());
+		}
+		return getBestFiveRank();
 	}
 
 	public String getDescription() {
@@ -315,53 +326,58 @@ public class Hand implements Iterable<Card>, Comparable<Hand> {
 	}
 
 	public int getBestFiveRank() {
-		Pair<Hand,Integer> pair = getBestFiveWithRank();
-		return pair.getRight();
+		// racy but safe, every thread computes the same rank
+		int rank = bestFiveRank;
+		if (rank == 0) {
+			rank = HandEvaluator.getBestFiveRank(cards);
+			bestFiveRank = rank;
+		}
+		return rank;
 	}
 
 	public Pair<Hand,Integer> getBestFiveWithRank() {
+		final int bestRank = getBestFiveRank();
 		if (cards.size() == 5) {
-			return new Pair<Hand, Integer>(this,getRank());
+			return new Pair<Hand, Integer>(this,bestRank);
 		}
 
-		int minRank = Integer.MAX_VALUE;
-		EnumSet<Card> bestHand = null;
-
+		// look for the five cards that make the best rank
+		final EnumSet<Card> selection = getCards();
 		if (cards.size() == 7) {
 			for(Card firstToRemove:cards){
 				for(Card secondToRemove:cards){
 					if(firstToRemove.compareTo(secondToRemove)<0){
-						final EnumSet<Card> selection = getCards();
 						selection.remove(firstToRemove);
 						selection.remove(secondToRemove);
-
-						final int rank = (new Hand(selection)).getRank();
-						if (rank < minRank) {
-							minRank = rank;
-							bestHand = selection;
+						if (HandEvaluator.getBestFiveRank(selection) == bestRank) {
+							return new Pair<Hand, Integer>(new Hand(selection),bestRank);
 						}
+						selection.add(firstToRemove);
+						selection.add(secondToRemove);
 					}
 				}
 			}
 		} else if (cards.size() == 6) {
 			for(Card firstToRemove:cards){
-				final EnumSet<Card> selection = getCards();
 				selection.remove(firstToRemove);
-
-				final int rank = (new Hand(selection)).getRank();
-				if (rank < minRank) {
-					minRank = rank;
-					bestHand = selection;
+				if (HandEvaluator.getBestFiveRank(selection) == bestRank) {
+					return new Pair<Hand, Integer>(new Hand(selection),bestRank);
 				}
+				selection.add(firstToRemove);
 			}
 		}
-		return new Pair<Hand, Integer>(new Hand(bestHand),minRank);
+		throw new IllegalStateException("No five cards with rank " + bestRank + " in " + cards);
 	}
 
 	public int compareTo(Hand other) {
-		Integer thisRank = getBestFiveRank();
-		Integer otherRank = other.getBestFiveRank();
-		return otherRank.compareTo(thisRank);
+		int thisRank = getBestFiveRank();
+		int otherRank = other.getBestFiveRank();
+		if (thisRank < otherRank) {
+			return 1;
+		} else if (thisRank > otherRank) {
+			return -1;
+		}
+		return 0;
 	}
 
 }
@@ -0,0 +1,239 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.elements.hand;
+
+import java.util.Arrays;
+
+import org.cspoker.common.elements.cards.Card;
+
+/**
+ * Ranks the best five card hand out of 5 to 7 cards without building any
+ * hands. Ranks are those of {@link HandRanks}: 1 for a royal flush up to
+ * 7462 for a seven high, so a lower rank is a better hand.
+ * 
+ * The rank is computed from bit masks of the card ranks, using direct lookup
+ * tables for straights and five distinct ranks, and combinatorial offsets
+ * within the other hand types.
+ */
+public final class HandEvaluator {
+
+	private final static int ALL_RANKS = (1 << 13) - 1;
+
+	// first rank of each hand type
+	private final static int STRAIGHT_FLUSH = 1;
+	private final static int FOUR_OF_A_KIND = 11;
+	private final static int FULL_HOUSE = 167;
+	private final static int FLUSH = 323;
+	private final static int STRAIGHT = 1600;
+	private final static int THREE_OF_A_KIND = 1610;
+	private final static int TWO_PAIR = 2468;
+	private final static int ONE_PAIR = 3326;
+	private final static int HIGH_CARD = 6186;
+
+	private final static int[] cardRanks = new int[Card.values().length];
+	private final static int[] cardSuits = new int[Card.values().length];
+
+	/**
+	 * The highest rank of the best straight in the rank mask, or -1.
+	 */
+	private final static byte[] straights = new byte[ALL_RANKS + 1];
+
+	/**
+	 * The position of 5 distinct ranks among all non-straight 5 distinct
+	 * ranks, best first.
+	 */
+	private final static short[] distinctRanks = new short[ALL_RANKS + 1];
+
+	private final static int[][] binomials = new int[14][6];
+
+	static {
+		for (Card card : Card.values()) {
+			cardRanks[card.ordinal()] = card.getRank().ordinal();
+			cardSuits[card.ordinal()] = card.getSuit().ordinal();
+		}
+		for (int mask = 0; mask <= ALL_RANKS; mask++) {
+			straights[mask] = -1;
+			for (int high = 12; high >= 4; high--) {
+				int straight = 0x1F << (high - 4);
+				if ((mask & straight) == straight) {
+					straights[mask] = (byte) high;
+					break;
+				}
+			}
+			if (straights[mask] < 0 && (mask & 0x100F) == 0x100F) {
+				// the wheel, ace plays low
+				straights[mask] = 3;
+			}
+		}
+		// a higher mask is a better hand for masks with the same number of bits
+		short position = 0;
+		for (int mask = ALL_RANKS; mask >= 0; mask--) {
+			if (Integer.bitCount(mask) == 5 && straights[mask] < 0) {
+				distinctRanks[mask] = position++;
+			}
+		}
+		for (int n = 0; n < binomials.length; n++) {
+			binomials[n][0] = 1;
+			for (int k = 1; k < binomials[n].length; k++) {
+				binomials[n][k] = n == 0 ? 0 : binomials[n - 1][k - 1] + binomials[n - 1][k];
+			}
+		}
+	}
+
+	private HandEvaluator() {
+	}
+
+	/**
+	 * Returns the rank of the best five card hand in the given cards.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if there are less than 5 or more than 7 cards
+	 */
+	public static int getBestFiveRank(Iterable<Card> cards) {
+		int nbCards = 0;
+		int clubs = 0, diamonds = 0, hearts = 0, spades = 0;
+		for (Card card : cards) {
+			int bit = 1 << cardRanks[card.ordinal()];
+			switch (cardSuits[card.ordinal()]) {
+			case 0:
+				clubs |= bit;
+				break;
+			case 1:
+				diamonds |= bit;
+				break;
+			case 2:
+				hearts |= bit;
+				break;
+			default:
+				spades |= bit;
+			}
+			++nbCards;
+		}
+		if (nbCards < 5 || nbCards > Hand.MAX_CARDS) {
+			throw new IllegalArgumentException("Can't rank " + nbCards + " cards.");
+		}
+		return getBestFiveRank(clubs, diamonds, hearts, spades);
+	}
+
+	/**
+	 * Returns the rank of the best five card hand in the given cards.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             if there are less than 5 or more than 7 cards
+	 */
+	public static int getBestFiveRank(Card... cards) {
+		return getBestFiveRank(Arrays.asList(cards));
+	}
+
+	private static int getBestFiveRank(int clubs, int diamonds, int hearts, int spades) {
+		int flush = 0;
+		if (Integer.bitCount(clubs) >= 5) {
+			flush = clubs;
+		} else if (Integer.bitCount(diamonds) >= 5) {
+			flush = diamonds;
+		} else if (Integer.bitCount(hearts) >= 5) {
+			flush = hearts;
+		} else if (Integer.bitCount(spades) >= 5) {
+			flush = spades;
+		}
+		if (flush != 0 && straights[flush] >= 0) {
+			return STRAIGHT_FLUSH + 12 - straights[flush];
+		}
+
+		int ranks = clubs | diamonds | hearts | spades;
+		int atLeastTwo = (clubs & (diamonds | hearts | spades)) | (diamonds & (hearts | spades)) | (hearts & spades);
+		int atLeastThree = (clubs & diamonds & (hearts | spades)) | ((clubs | diamonds) & hearts & spades);
+		int quads = clubs & diamonds & hearts & spades;
+		int trips = atLeastThree & ~quads;
+		int pairs = atLeastTwo & ~atLeastThree;
+
+		if (quads != 0) {
+			int quad = highest(quads);
+			return FOUR_OF_A_KIND + 12 * (12 - quad) + getPosition(ranks & ~(1 << quad), 1, quad);
+		}
+		if (trips != 0) {
+			int trip = highest(trips);
+			int pairsLeft = (trips & ~(1 << trip)) | pairs;
+			if (pairsLeft != 0) {
+				int pair = highest(pairsLeft);
+				return FULL_HOUSE + 12 * (12 - trip) + getPosition(1 << pair, 1, trip);
+			}
+		}
+		if (flush != 0) {
+			return FLUSH + distinctRanks[keepHighest(flush, 5)];
+		}
+		if (straights[ranks] >= 0) {
+			return STRAIGHT + 12 - straights[ranks];
+		}
+		if (trips != 0) {
+			int trip = highest(trips);
+			return THREE_OF_A_KIND + 66 * (12 - trip) + getPosition(ranks & ~(1 << trip), 2, trip);
+		}
+		if (Integer.bitCount(pairs) >= 2) {
+			int highPairs = keepHighest(pairs, 2);
+			int kicker = highest(ranks & ~highPairs);
+			return TWO_PAIR + 11 * getPosition(highPairs, 2, -1) + getPosition(1 << kicker, 1, -1) - Integer.bitCount(highPairs & ~((1 << kicker) - 1));
+		}
+		if (pairs != 0) {
+			int pair = highest(pairs);
+			return ONE_PAIR + 220 * (12 - pair) + getPosition(ranks & ~(1 << pair), 3, pair);
+		}
+		return HIGH_CARD + distinctRanks[keepHighest(ranks, 5)];
+	}
+
+	private static int highest(int mask) {
+		return 31 - Integer.numberOfLeadingZeros(mask);
+	}
+
+	/**
+	 * Clears the lowest bits of the mask until only the given number of bits
+	 * is left.
+	 */
+	private static int keepHighest(int mask, int nbBits) {
+		while (Integer.bitCount(mask) > nbBits) {
+			mask &= mask - 1;
+		}
+		return mask;
+	}
+
+	/**
+	 * Returns the position of the highest ranks in the mask among all sets of
+	 * as many ranks, best first. The ranks are lexicographically ordered from
+	 * their highest rank down.
+	 * 
+	 * @param mask
+	 *            the ranks, of which only the highest are used
+	 * @param nbRanks
+	 *            the size of the set
+	 * @param excluded
+	 *            a rank that is not part of any set, or -1
+	 */
+	private static int getPosition(int mask, int nbRanks, int excluded) {
+		int nbAvailable = excluded < 0 ? 13 : 12;
+		// colexicographic index of the set, which is the reverse of the order we need
+		int index = 0;
+		int k = nbRanks;
+		for (int rank = 12; rank >= 0 && k > 0; rank--) {
+			if ((mask & (1 << rank)) != 0) {
+				int reduced = excluded >= 0 && rank > excluded ? rank - 1 : rank;
+				index += binomials[reduced][k];
+				--k;
+			}
+		}
+		return binomials[nbAvailable][nbRanks] - 1 - index;
+	}
+
+}
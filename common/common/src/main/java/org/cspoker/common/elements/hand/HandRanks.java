@@ -38,9 +38,13 @@ public final class HandRanks {
 	
 	private static Logger logger = Logger.getLogger(HandRanks.class);
 
-	private static HandRanks instance = new HandRanks();
-
-	private final Map<UniqueHandHash, Integer> rankMap = new HashMap<UniqueHandHash, Integer>();
+	/**
+	 * Only loaded when the descriptions are needed, ranking hands is done by
+	 * {@link HandEvaluator}.
+	 */
+	private static class InstanceHolder {
+		private final static HandRanks instance = new HandRanks();
+	}
 
 	private final Map<UniqueHandHash, String> shortDescriptionMap = new HashMap<UniqueHandHash, String>();
 
@@ -51,11 +55,11 @@ public final class HandRanks {
 	}
 
 	public static HandRanks getInstance() {
-		return HandRanks.instance;
+		return InstanceHolder.instance;
 	}
 
 	public int getHandRank(final Hand hand) {
-		return rankMap.get(hand.handHash);
+		return hand.getBestFiveRank();
 	}
 
 	public String getShortDescription(final Hand hand) {
@@ -66,9 +70,8 @@ public final class HandRanks {
 		return longDescriptionMap.get(hand.handHash);
 	}
 
-	private void addHandRank(final UniqueHandHash handInfo, final int rank,
+	private void addHandDescriptions(final UniqueHandHash handInfo,
 			final String shortDescription, final String longDescription) {
-		rankMap.put(handInfo, rank);
 		shortDescriptionMap.put(handInfo, shortDescription);
 		longDescriptionMap.put(handInfo, longDescription);
 	}
@@ -97,13 +100,12 @@ public final class HandRanks {
 
 				final boolean flush = "true".equals(rankStrings.get(7));
 
-				final int rank = Integer.parseInt(rankStrings.get(8).trim());
 				final String shortDescription = rankStrings.get(5);
 				final String longDescription = rankStrings.get(6);
 
 				final UniqueHandHash handInfo = new UniqueHandHash(product, flush);
 
-				addHandRank(handInfo, rank, shortDescription,
+				addHandDescriptions(handInfo, shortDescription,
 						longDescription);
 			}
 
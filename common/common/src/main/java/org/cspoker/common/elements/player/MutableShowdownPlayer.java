@@ -37,22 +37,34 @@ public class MutableShowdownPlayer implements Comparable<MutableShowdownPlayer>
 	private final MutableSeatedPlayer player;
 
 	/**
-	 * This variable contains the showdown player's best hand.
+	 * This variable contains the cards of the showdown player's hand.
 	 */
-	private final Hand bestHand;
+	private final Hand hand;
 
 	/**
-	 * Construct a new showdown player with given player and given best hand.
+	 * This variable contains the rank of the best five cards of the hand.
+	 */
+	private final int rank;
+
+	/**
+	 * This variable contains the showdown player's best hand, once it is
+	 * needed.
+	 */
+	private Hand bestHand;
+
+	/**
+	 * Construct a new showdown player with given player and given hand.
 	 * 
 	 * @param player
 	 *            The player for this showdown player.
-	 * @param bestHand
-	 *            The player's best hand.
+	 * @param hand
+	 *            The player's hand, of 5 to 7 cards. The best five cards are
+	 *            only looked up when they are asked for.
 	 */
-	public MutableShowdownPlayer(MutableSeatedPlayer player, Hand bestHand) {
+	public MutableShowdownPlayer(MutableSeatedPlayer player, Hand hand) {
 		this.player = player;
-		this.bestHand = bestHand;
-
+		this.hand = hand;
+		this.rank = hand.getBestFiveRank();
 	}
 
 	/**
@@ -70,9 +82,19 @@ public class MutableShowdownPlayer implements Comparable<MutableShowdownPlayer>
 	 * @return The best hand.
 	 */
 	public Hand getBestHand() {
+		if (bestHand == null) {
+			bestHand = hand.getBestFive();
+		}
 		return bestHand;
 	}
 
+	/**
+	 * Returns the rank of the best hand, 1 being the best.
+	 */
+	public int getRank() {
+		return rank;
+	}
+
 	//TODO remove copyof when internal representation moved to EnumSet
 	public ShowdownPlayer getSavedShowdownPlayer() {
 		return new ShowdownPlayer(player.getId(), EnumSet.copyOf(player.getPocketCards()), getBestHand().getDescription());
@@ -93,16 +115,17 @@ public class MutableShowdownPlayer implements Comparable<MutableShowdownPlayer>
 	 * -1 = first hand is best, 1 = second hand is best, 0 = tie
 	 */
 	public int compareTo(MutableShowdownPlayer o) {
-		return o.getBestHand().compareTo(getBestHand());
+		if (rank < o.rank) {
+			return -1;
+		} else if (rank > o.rank) {
+			return 1;
+		}
+		return 0;
 	}
 
 	@Override
 	public int hashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result
-				+ ((getBestHand() == null) ? 0 : getBestHand().hashCode());
-		return result;
+		return rank;
 	}
 
 	/**
@@ -117,12 +140,7 @@ public class MutableShowdownPlayer implements Comparable<MutableShowdownPlayer>
 		if (getClass() != obj.getClass())
 			return false;
 		MutableShowdownPlayer other = (MutableShowdownPlayer) obj;
-		if (bestHand == null) {
-			if (other.bestHand != null)
-				return false;
-		} else if (!getBestHand().equals(other.getBestHand()))
-			return false;
-		return true;
+		return rank == other.rank;
 	}
 	
 	
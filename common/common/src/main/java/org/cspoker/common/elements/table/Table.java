@@ -29,11 +29,19 @@ public class Table implements Serializable, Comparable<Table> {
 	@XmlAttribute
 	protected String name;
 	
+	@XmlAttribute
+	protected Integer nbPlayers;
+	
 	public Table(TableId id, String name){
 		this.id = id;
 		this.name = name;
 	}
 	
+	public Table(TableId id, String name, int nbPlayers){
+		this(id, name);
+		this.nbPlayers = nbPlayers;
+	}
+	
 	public Table() {
 		// no op
 	}
@@ -60,6 +68,15 @@ public class Table implements Serializable, Comparable<Table> {
 		return name;
 	}
 	
+	/**
+	 * Returns the number of players seated at this table, as far as known.
+	 * 
+	 * @return The number of seated players, 0 if not known.
+	 */
+	public int getNbPlayers() {
+		return nbPlayers == null ? 0 : nbPlayers;
+	}
+	
 	@Override
 	public String toString(){
 		return getName()+" ("+getId()+")";
@@ -22,6 +22,7 @@ import java.util.List;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 
@@ -38,12 +39,20 @@ public class TableList implements Serializable {
 	@XmlElement(name = "table")
 	private List<Table> tables;
 
+	@XmlAttribute
+	private long version;
+
 	public TableList(List<Table> tables) {
+		this(tables, 0);
+	}
+
+	public TableList(List<Table> tables, long version) {
 		if (tables == null) {
 			throw new IllegalArgumentException(
 					"The given list of tables is not effective.");
 		}
 		this.tables = tables;
+		this.version = version;
 	}
 
 	protected TableList() {
@@ -57,4 +66,12 @@ public class TableList implements Serializable {
 		return tables;
 	}
 
+	/**
+	 * The version of the lobby this list was taken from, to ask for the
+	 * changes since then with a {@link TableListDelta}.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
 }
@@ -0,0 +1,145 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.elements.table;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * The changes to the list of tables of the lobby between two versions.
+ * 
+ * When the lobby no longer knows what changed since the asked version, the
+ * delta is complete: it holds all tables and replaces the list of the client.
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@Immutable
+public class TableListDelta implements Serializable {
+
+	private static final long serialVersionUID = 4716237598432092611L;
+
+	@XmlAttribute
+	private final long sinceVersion;
+
+	@XmlAttribute
+	private final long version;
+
+	@XmlAttribute
+	private final boolean complete;
+
+	@XmlElementWrapper
+	@XmlElement(name = "table")
+	private final List<Table> tables;
+
+	@XmlElementWrapper
+	@XmlElement(name = "table")
+	private final List<Table> removed;
+
+	public TableListDelta(long sinceVersion, long version, boolean complete, List<Table> tables,
+			List<Table> removed) {
+		this.sinceVersion = sinceVersion;
+		this.version = version;
+		this.complete = complete;
+		this.tables = tables == null ? new ArrayList<Table>() : new ArrayList<Table>(tables);
+		this.removed = removed == null ? new ArrayList<Table>() : new ArrayList<Table>(removed);
+	}
+
+	protected TableListDelta() {
+		sinceVersion = 0;
+		version = 0;
+		complete = false;
+		tables = null;
+		removed = null;
+	}
+
+	/**
+	 * The version of the list these changes apply to.
+	 */
+	public long getSinceVersion() {
+		return sinceVersion;
+	}
+
+	/**
+	 * The version of the list after these changes.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Whether {@link #getTables()} holds all tables instead of the changed
+	 * ones.
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * The tables that were created or changed, or all tables if this delta is
+	 * complete.
+	 */
+	public List<Table> getTables() {
+		return tables == null ? Collections.<Table> emptyList() : Collections.unmodifiableList(tables);
+	}
+
+	/**
+	 * The tables that were removed.
+	 */
+	public List<Table> getRemoved() {
+		return removed == null ? Collections.<Table> emptyList() : Collections.unmodifiableList(removed);
+	}
+
+	/**
+	 * Returns the given list with these changes applied.
+	 */
+	public TableList applyTo(TableList tableList) {
+		if (complete) {
+			return new TableList(new ArrayList<Table>(getTables()), version);
+		}
+		if (tableList.getVersion() != sinceVersion) {
+			throw new IllegalArgumentException("These changes apply to version " + sinceVersion + ", not to "
+					+ tableList.getVersion() + ".");
+		}
+		TreeMap<Long, Table> result = new TreeMap<Long, Table>();
+		for (Table table : tableList.getTables()) {
+			result.put(table.getId().getId(), table);
+		}
+		for (Table table : getRemoved()) {
+			result.remove(table.getId().getId());
+		}
+		for (Table table : getTables()) {
+			result.put(table.getId().getId(), table);
+		}
+		return new TableList(new ArrayList<Table>(result.values()), version);
+	}
+
+	@Override
+	public String toString() {
+		return "TableListDelta[" + sinceVersion + "->" + version + (complete ? ", complete" : "") + ", tables="
+				+ getTables() + ", removed=" + getRemoved() + "]";
+	}
+
+}
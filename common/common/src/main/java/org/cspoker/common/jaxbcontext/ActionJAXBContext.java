@@ -31,6 +31,7 @@ import org.cspoker.common.api.chat.action.SendTableMessageAction;
 import org.cspoker.common.api.lobby.action.CreateHoldemTableAction;
 import org.cspoker.common.api.lobby.action.GetHoldemTableInformationAction;
 import org.cspoker.common.api.lobby.action.GetTableListAction;
+import org.cspoker.common.api.lobby.action.GetTableListChangesAction;
 import org.cspoker.common.api.lobby.action.JoinHoldemTableAction;
 import org.cspoker.common.api.lobby.holdemtable.action.LeaveTableAction;
 import org.cspoker.common.api.lobby.holdemtable.action.SitInAction;
@@ -76,7 +77,7 @@ public class ActionJAXBContext {
 				SendServerMessageAction.class,SendTableMessageAction.class,
 				//lobby
 				CreateHoldemTableAction.class,JoinHoldemTableAction.class,GetHoldemTableInformationAction.class, 
-				GetTableListAction.class, DetailedHoldemTable.class, Table.class,
+				GetTableListAction.class, GetTableListChangesAction.class, DetailedHoldemTable.class, Table.class,
 				//table
 				LeaveTableAction.class,SitInAction.class,SitInAnywhereAction.class,
 				//player
@@ -48,6 +48,7 @@ import org.cspoker.common.api.shared.event.IllegalActionEvent;
 import org.cspoker.common.api.shared.event.RemoteExceptionEvent;
 import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 
 public class EventJAXBContext {
 	
@@ -73,7 +74,7 @@ public class EventJAXBContext {
 				// lobby
 				TableCreatedEvent.class,
 				TableRemovedEvent.class,
-				TableList.class,
+				TableList.class, TableListDelta.class,
 				DetailedHoldemTable.class,
 				// table
 				AllInEvent.class, BetEvent.class, BlindEvent.class, CallEvent.class, CheckEvent.class,
@@ -0,0 +1,187 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A histogram of non-negative values, such as durations in nanoseconds.
+ * Every power of two is split in {@value #SUB_BUCKETS} buckets, so a
+ * percentile is off by at most a quarter of its value, whatever the range
+ * of the values. Recording a value takes two atomic updates on the stripe of
+ * the current thread and never allocates.
+ */
+@ThreadSafe
+public final class Histogram {
+
+	private final static int SUB_BITS = 2;
+
+	final static int SUB_BUCKETS = 1 << SUB_BITS;
+
+	final static int NB_BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+	// the buckets, then the sum and the maximum of the recorded values
+	private final static int SUM = NB_BUCKETS;
+
+	private final static int MAX = NB_BUCKETS + 1;
+
+	private final static int STRIDE = (MAX / Stripes.PADDING + 1)
+			* Stripes.PADDING;
+
+	private final AtomicLongArray cells;
+
+	private final int mask;
+
+	public Histogram() {
+		this(Stripes.getDefaultNbStripes());
+	}
+
+	/**
+	 * @param nbStripes
+	 *            a power of two, 1 for a histogram that is updated by one
+	 *            thread at a time
+	 */
+	public Histogram(int nbStripes) {
+		mask = Stripes.checkNbStripes(nbStripes) - 1;
+		cells = new AtomicLongArray(nbStripes * STRIDE);
+	}
+
+	static int getBucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * The smallest value that falls in the given bucket.
+	 */
+	static long getLowerBound(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+		long sub = bucket % SUB_BUCKETS;
+		return (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+	}
+
+	/**
+	 * Records the given value, negative values count as 0.
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		int offset = Stripes.getStripe(mask) * STRIDE;
+		cells.getAndIncrement(offset + getBucket(value));
+		cells.getAndAdd(offset + SUM, value);
+		long max;
+		while (value > (max = cells.get(offset + MAX))) {
+			if (cells.compareAndSet(offset + MAX, max, value)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Records the time since the given {@link System#nanoTime()}.
+	 */
+	public void recordSince(long startNanos) {
+		record(System.nanoTime() - startNanos);
+	}
+
+	public long getCount() {
+		long count = 0;
+		for (int offset = 0; offset < cells.length(); offset += STRIDE) {
+			for (int i = 0; i < NB_BUCKETS; i++) {
+				count += cells.get(offset + i);
+			}
+		}
+		return count;
+	}
+
+	public long getSum() {
+		long sum = 0;
+		for (int offset = 0; offset < cells.length(); offset += STRIDE) {
+			sum += cells.get(offset + SUM);
+		}
+		return sum;
+	}
+
+	public long getMax() {
+		long max = 0;
+		for (int offset = 0; offset < cells.length(); offset += STRIDE) {
+			max = Math.max(max, cells.get(offset + MAX));
+		}
+		return max;
+	}
+
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) getSum() / count;
+	}
+
+	/**
+	 * Estimates the value below which the given fraction of the recorded
+	 * values fall, 0 when nothing was recorded.
+	 * 
+	 * @param fraction
+	 *            between 0 and 1, 0.99 for the 99th percentile
+	 */
+	public long getPercentile(double fraction) {
+		if (fraction < 0 || fraction > 1) {
+			throw new IllegalArgumentException(
+					"The fraction should be between 0 and 1: " + fraction);
+		}
+		long[] counts = new long[NB_BUCKETS];
+		long count = 0;
+		for (int offset = 0; offset < cells.length(); offset += STRIDE) {
+			for (int i = 0; i < NB_BUCKETS; i++) {
+				long n = cells.get(offset + i);
+				counts[i] += n;
+				count += n;
+			}
+		}
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(fraction * count));
+		long seen = 0;
+		for (int i = 0; i < NB_BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				// the middle of the bucket, never beyond the largest value
+				long lower = getLowerBound(i);
+				long upper = i + 1 < NB_BUCKETS ? getLowerBound(i + 1) - 1
+						: Long.MAX_VALUE;
+				return Math.min(lower + (upper - lower) / 2, getMax());
+			}
+		}
+		return getMax();
+	}
+
+	@Override
+	public String toString() {
+		return "Histogram[count=" + getCount() + ", mean=" + getMean()
+				+ ", p50=" + getPercentile(0.5) + ", p99="
+				+ getPercentile(0.99) + ", max=" + getMax() + "]";
+	}
+
+}
@@ -0,0 +1,131 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Registers the management beans of CSPoker with the platform MBean server,
+ * under the {@value #DOMAIN} domain. Failing to register a bean is logged
+ * and otherwise ignored, metrics should never stop the server.
+ */
+public final class MBeans {
+
+	private final static Logger logger = Logger.getLogger(MBeans.class);
+
+	public final static String DOMAIN = "org.cspoker";
+
+	private MBeans() {
+	}
+
+	/**
+	 * Registers the given bean as <code>org.cspoker:type=...,name=...</code>,
+	 * replacing any bean that has the same name.
+	 * 
+	 * @return the name of the bean, or <code>null</code> if it could not be
+	 *         registered
+	 */
+	public static ObjectName register(String type, String name, Object mbean) {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type
+					+ ",name=" + quote(name));
+			try {
+				server.registerMBean(mbean, objectName);
+			} catch (InstanceAlreadyExistsException e) {
+				unregister(objectName);
+				server.registerMBean(mbean, objectName);
+			}
+			return objectName;
+		} catch (JMException e) {
+			logger.warn("Could not register the " + type + " bean of " + name,
+					e);
+			return null;
+		}
+	}
+
+	/**
+	 * Registers the given object as a bean with the given management
+	 * interface, so it need not follow the naming pattern of standard beans.
+	 */
+	public static <T> ObjectName register(String type, String name, T mbean,
+			Class<T> mbeanInterface) {
+		try {
+			return register(type, name, new StandardMBean(mbean,
+					mbeanInterface));
+		} catch (JMException e) {
+			logger.warn("Could not register the " + type + " bean of " + name,
+					e);
+			return null;
+		}
+	}
+
+	/**
+	 * Unregisters the bean with the given name, if any.
+	 */
+	public static void unregister(ObjectName name) {
+		if (name == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+		} catch (InstanceNotFoundException e) {
+			// already gone
+		} catch (JMException e) {
+			logger.warn("Could not unregister " + name, e);
+		}
+	}
+
+	/**
+	 * Unregisters the bean that was registered with the given type and name,
+	 * if any.
+	 */
+	public static void unregister(String type, String name) {
+		try {
+			unregister(new ObjectName(DOMAIN + ":type=" + type + ",name="
+					+ quote(name)));
+		} catch (JMException e) {
+			logger.warn("Could not unregister the " + type + " bean of " + name,
+					e);
+		}
+	}
+
+	private static String quote(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (",=:\"*?\n".indexOf(value.charAt(i)) >= 0) {
+				return ObjectName.quote(value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Converts nanoseconds to milliseconds, for the attributes of the beans.
+	 */
+	public static double toMillis(double nanos) {
+		return nanos / 1E6;
+	}
+
+}
@@ -0,0 +1,73 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A counter that many threads can update at once without contending for a
+ * single cache line. Reading it sums all stripes, so it is meant to be
+ * updated often and read seldom.
+ */
+@ThreadSafe
+public final class StripedCounter {
+
+	private final AtomicLongArray cells;
+
+	private final int mask;
+
+	public StripedCounter() {
+		this(Stripes.getDefaultNbStripes());
+	}
+
+	/**
+	 * @param nbStripes
+	 *            a power of two, 1 for a counter that is updated by one
+	 *            thread at a time
+	 */
+	public StripedCounter(int nbStripes) {
+		mask = Stripes.checkNbStripes(nbStripes) - 1;
+		cells = new AtomicLongArray(nbStripes * Stripes.PADDING);
+	}
+
+	public void increment() {
+		add(1);
+	}
+
+	public void add(long delta) {
+		cells.getAndAdd(Stripes.getStripe(mask) * Stripes.PADDING, delta);
+	}
+
+	/**
+	 * The sum of all updates. Updates that happen while the stripes are
+	 * summed may or may not be included.
+	 */
+	public long get() {
+		long sum = 0;
+		for (int i = 0; i < cells.length(); i += Stripes.PADDING) {
+			sum += cells.get(i);
+		}
+		return sum;
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString(get());
+	}
+
+}
@@ -0,0 +1,65 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.metrics;
+
+/**
+ * Spreads the updates of a metric over a number of cells, so threads that
+ * record at the same time seldom write to the same cache line.
+ */
+final class Stripes {
+
+	/**
+	 * The number of longs in a cache line.
+	 */
+	final static int PADDING = 8;
+
+	private final static int MAX_STRIPES = 64;
+
+	private Stripes() {
+	}
+
+	/**
+	 * The smallest power of two that is at least the number of processors.
+	 */
+	static int getDefaultNbStripes() {
+		int nbProcessors = Runtime.getRuntime().availableProcessors();
+		int nbStripes = 1;
+		while (nbStripes < nbProcessors && nbStripes < MAX_STRIPES) {
+			nbStripes <<= 1;
+		}
+		return nbStripes;
+	}
+
+	static int checkNbStripes(int nbStripes) {
+		if (nbStripes < 1 || nbStripes > MAX_STRIPES
+				|| Integer.bitCount(nbStripes) != 1) {
+			throw new IllegalArgumentException(
+					"The number of stripes should be a power of two up to "
+							+ MAX_STRIPES + ": " + nbStripes);
+		}
+		return nbStripes;
+	}
+
+	/**
+	 * The stripe of the current thread. Thread ids are handed out in
+	 * sequence, so threads that live at the same time mostly get different
+	 * stripes.
+	 */
+	static int getStripe(int mask) {
+		return (int) Thread.currentThread().getId() & mask;
+	}
+
+}
@@ -0,0 +1,75 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.metrics;
+
+import org.cspoker.common.util.threading.LoggingThreadPool;
+
+/**
+ * Exposes the queue and the task times of a {@link LoggingThreadPool}.
+ */
+public class ThreadPoolMonitor implements ThreadPoolMonitorMBean {
+
+	private final LoggingThreadPool pool;
+
+	public ThreadPoolMonitor(LoggingThreadPool pool) {
+		this.pool = pool;
+	}
+
+	public int getPoolSize() {
+		return pool.getPoolSize();
+	}
+
+	public int getActiveCount() {
+		return pool.getActiveCount();
+	}
+
+	public int getQueueSize() {
+		return pool.getQueue().size();
+	}
+
+	public long getCompletedTaskCount() {
+		return pool.getTaskTimes().getCount();
+	}
+
+	public double getMeanTaskTime() {
+		return MBeans.toMillis(pool.getTaskTimes().getMean());
+	}
+
+	public double getP50TaskTime() {
+		return MBeans.toMillis(pool.getTaskTimes().getPercentile(0.5));
+	}
+
+	public double getP99TaskTime() {
+		return MBeans.toMillis(pool.getTaskTimes().getPercentile(0.99));
+	}
+
+	public double getMaxTaskTime() {
+		return MBeans.toMillis(pool.getTaskTimes().getMax());
+	}
+
+	public double getMeanQueueTime() {
+		return MBeans.toMillis(pool.getQueueTimes().getMean());
+	}
+
+	public double getP99QueueTime() {
+		return MBeans.toMillis(pool.getQueueTimes().getPercentile(0.99));
+	}
+
+	public double getMaxQueueTime() {
+		return MBeans.toMillis(pool.getQueueTimes().getMax());
+	}
+
+}
@@ -0,0 +1,52 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.metrics;
+
+/**
+ * The attributes of a {@link ThreadPoolMonitor}, times are in milliseconds.
+ */
+public interface ThreadPoolMonitorMBean {
+
+	int getPoolSize();
+
+	int getActiveCount();
+
+	/**
+	 * The number of tasks that wait for a thread, including scheduled tasks
+	 * that are not due yet.
+	 */
+	int getQueueSize();
+
+	long getCompletedTaskCount();
+
+	double getMeanTaskTime();
+
+	double getP50TaskTime();
+
+	double getP99TaskTime();
+
+	double getMaxTaskTime();
+
+	/**
+	 * The mean time between a task being due and it being started.
+	 */
+	double getMeanQueueTime();
+
+	double getP99QueueTime();
+
+	double getMaxQueueTime();
+
+}
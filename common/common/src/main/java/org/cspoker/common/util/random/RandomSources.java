@@ -0,0 +1,56 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.random;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Picks the source of random numbers of the server.
+ */
+public final class RandomSources {
+
+	private final static Logger logger = Logger.getLogger(RandomSources.class);
+
+	/**
+	 * The system property that selects the source of random numbers:
+	 * <code>secure</code> for a {@link SecureRandomSource}, the default,
+	 * <code>randomorg</code> for the {@link RandomOrgSeededRandomGenerator},
+	 * or a number to use as the seed of a {@link SeededRandomSource}.
+	 */
+	public final static String PROPERTY = "cspoker.random";
+
+	private RandomSources() {
+	}
+
+	public static RandomSource fromSystemProperties() {
+		String value = System.getProperty(PROPERTY, "secure").trim();
+		if ("secure".equalsIgnoreCase(value)) {
+			return new SecureRandomSource();
+		}
+		if ("randomorg".equalsIgnoreCase(value)) {
+			return RandomOrgSeededRandomGenerator.getInstance();
+		}
+		try {
+			long seed = Long.parseLong(value);
+			logger.warn("Cards are dealt from the fixed seed " + seed + ".");
+			return new SeededRandomSource(seed);
+		} catch (NumberFormatException e) {
+			logger.error("Unknown random source " + value + ", using a secure one.");
+			return new SecureRandomSource();
+		}
+	}
+
+}
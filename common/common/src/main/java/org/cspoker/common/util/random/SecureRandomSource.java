@@ -0,0 +1,65 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.random;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Random;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A source of cryptographically strong random numbers that never blocks
+ * after its first use on a thread.
+ * 
+ * Every thread gets its own SHA1PRNG generator, explicitly seeded from the
+ * non-blocking system generator, so threads never contend on a shared
+ * generator and no generator ever waits for the entropy pool.
+ */
+@ThreadSafe
+public class SecureRandomSource implements RandomSource {
+
+	public final static int SEED_LENGTH = 32;
+
+	private final static SecureRandom seeds = new SecureRandom();
+
+	private final ThreadLocal<Random> randoms = new ThreadLocal<Random>() {
+		@Override
+		protected Random initialValue() {
+			byte[] seed = new byte[SEED_LENGTH];
+			synchronized (seeds) {
+				seeds.nextBytes(seed);
+			}
+			try {
+				SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+				// seeding before the first use keeps it from seeding itself
+				random.setSeed(seed);
+				return random;
+			} catch (NoSuchAlgorithmException e) {
+				return new SecureRandom(seed);
+			}
+		}
+	};
+
+	/**
+	 * Returns the generator of the calling thread, it should not be handed
+	 * to other threads.
+	 */
+	public Random getRandom() {
+		return randoms.get();
+	}
+
+}
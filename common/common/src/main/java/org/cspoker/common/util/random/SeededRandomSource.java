@@ -0,0 +1,52 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.random;
+
+import java.util.Random;
+
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A source of random numbers that repeats the same sequence for the same
+ * seed, to replay games in tests and simulations. The sequence is only
+ * reproducible when a single thread draws from it.
+ */
+@ThreadSafe
+public class SeededRandomSource implements RandomSource {
+
+	private final long seed;
+
+	private final Random random;
+
+	public SeededRandomSource(long seed) {
+		this.seed = seed;
+		this.random = new Random(seed);
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public Random getRandom() {
+		return random;
+	}
+
+	@Override
+	public String toString() {
+		return "SeededRandomSource[" + seed + "]";
+	}
+
+}
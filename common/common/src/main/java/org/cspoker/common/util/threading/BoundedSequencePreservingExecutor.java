@@ -0,0 +1,196 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.threading;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.apache.log4j.Logger;
+
+/**
+ * A {@link SequencePreservingExecutor} that holds at most a given number of
+ * waiting tasks and measures how long tasks wait before they run.
+ * 
+ * A task that does not fit closes the executor: the waiting tasks are
+ * discarded, {@link #overflowed()} is called once and every task given
+ * afterwards is ignored. Skipping a single task would leave whoever consumes
+ * the tasks with a sequence that has a hole in it.
+ */
+@ThreadSafe
+public class BoundedSequencePreservingExecutor extends SequencePreservingExecutor {
+
+	private final static Logger logger = Logger.getLogger(BoundedSequencePreservingExecutor.class);
+
+	private final String name;
+
+	private final int capacity;
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	private final AtomicLong nbTasks = new AtomicLong();
+	private final AtomicLong totalLag = new AtomicLong();
+	private final AtomicLong maxLag = new AtomicLong();
+
+	public BoundedSequencePreservingExecutor(String name, Executor executor, int capacity) {
+		super(executor);
+		if (capacity <= 0)
+			throw new IllegalArgumentException("The capacity should be positive: " + capacity);
+		this.name = name;
+		this.capacity = capacity;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		if (closed.get()) {
+			return;
+		}
+		if (size.incrementAndGet() > capacity) {
+			size.decrementAndGet();
+			close();
+			logger.warn(name + " has " + capacity + " tasks waiting for "
+					+ getLag() + "ms, discarded them");
+			overflowed();
+			return;
+		}
+		super.execute(new Task(command));
+	}
+
+	@Override
+	protected Runnable poll() {
+		Runnable task = super.poll();
+		if (task != null) {
+			size.decrementAndGet();
+		}
+		return task;
+	}
+
+	private void record(long lag) {
+		nbTasks.incrementAndGet();
+		totalLag.addAndGet(lag);
+		long max;
+		do {
+			max = maxLag.get();
+		} while (lag > max && !maxLag.compareAndSet(max, lag));
+	}
+
+	/**
+	 * Discards the waiting tasks and ignores the ones given from now on. The
+	 * task that is running, if any, runs to the end.
+	 */
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			while (poll() != null) {
+				// discard the task
+			}
+		}
+	}
+
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	/**
+	 * Called once, on the thread of the task that did not fit, after the
+	 * executor closed.
+	 */
+	protected void overflowed() {
+
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * The number of tasks waiting to run.
+	 */
+	public int getBacklog() {
+		return size.get();
+	}
+
+	/**
+	 * How long the oldest waiting task has been waiting, in milliseconds.
+	 */
+	public long getLag() {
+		Task oldest = (Task) peek();
+		return oldest == null ? 0 : (System.nanoTime() - oldest.queued) / 1000000;
+	}
+
+	/**
+	 * The number of tasks that ran or are running.
+	 */
+	public long getNbTasks() {
+		return nbTasks.get();
+	}
+
+	/**
+	 * The mean time a task waited before it ran, in milliseconds.
+	 */
+	public double getMeanLag() {
+		long n = nbTasks.get();
+		return n == 0 ? 0 : totalLag.get() / 1E6 / n;
+	}
+
+	/**
+	 * The longest time a task waited before it ran, in milliseconds.
+	 */
+	public double getMaxLag() {
+		return maxLag.get() / 1E6;
+	}
+
+	@Override
+	public String toString() {
+		return name + "[backlog=" + getBacklog() + ", lag=" + getLag()
+				+ "ms, tasks=" + getNbTasks() + ", meanLag=" + getMeanLag()
+				+ "ms, maxLag=" + getMaxLag() + "ms" + (isClosed() ? ", closed]" : "]");
+	}
+
+	private final class Task implements Runnable {
+
+		private final Runnable command;
+
+		private final long queued = System.nanoTime();
+
+		private Task(Runnable command) {
+			this.command = command;
+		}
+
+		public void run() {
+			if (closed.get()) {
+				return;
+			}
+			record(System.nanoTime() - queued);
+			command.run();
+		}
+
+		@Override
+		public String toString() {
+			return command.toString();
+		}
+
+	}
+
+}
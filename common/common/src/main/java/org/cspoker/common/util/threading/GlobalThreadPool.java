@@ -24,6 +24,8 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Logger;
+import org.cspoker.common.util.metrics.MBeans;
+import org.cspoker.common.util.metrics.ThreadPoolMonitor;
 
 public class GlobalThreadPool extends AbstractExecutorService {
 
@@ -37,6 +39,7 @@ public class GlobalThreadPool extends AbstractExecutorService {
 				.availableProcessors()), "CSPoker-Main");
 		executor
 		.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		MBeans.register("ThreadPool", "Main", new ThreadPoolMonitor(executor));
 	}
 
 	private int getCorePoolSize() {
@@ -0,0 +1,348 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.threading;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.jcip.annotations.ThreadSafe;
+
+import org.apache.log4j.Logger;
+
+/**
+ * A timer for many timeouts that are mostly cancelled before they expire,
+ * like the action timeouts of the tables.
+ * 
+ * Scheduling and cancelling take constant time: a new timeout is handed to
+ * the timer thread through a queue, a cancelled one is only marked. Once per
+ * tick the timer thread files the new timeouts in the slot of the wheel they
+ * expire in, drops the cancelled ones and hands the expired ones to the
+ * executor they were scheduled with. The timer thread never runs a task
+ * itself, so a slow task can not delay other timeouts.
+ * 
+ * A timeout expires at most one tick late.
+ */
+@ThreadSafe
+public class HashedWheelTimer {
+
+	private final static Logger logger = Logger.getLogger(HashedWheelTimer.class);
+
+	private final String name;
+
+	private final long tickDuration;
+
+	private final Slot[] wheel;
+
+	private final int mask;
+
+	private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<Timeout>();
+
+	private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<Timeout>();
+
+	private final AtomicInteger nbPending = new AtomicInteger();
+
+	private final AtomicLong nbExpired = new AtomicLong();
+
+	private final AtomicLong nbCancelled = new AtomicLong();
+
+	private final AtomicLong maxDelay = new AtomicLong();
+
+	private final long startTime;
+
+	private final Thread worker;
+
+	private volatile boolean stopped = false;
+
+	/**
+	 * @param tickDuration The resolution of the timer.
+	 * @param ticksPerWheel The number of slots, rounded up to a power of two.
+	 *            A timeout that is scheduled further ahead than a turn of the
+	 *            wheel passes its slot once for every turn.
+	 */
+	public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+		if (tickDuration <= 0)
+			throw new IllegalArgumentException("The tick duration should be positive: " + tickDuration);
+		if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30)
+			throw new IllegalArgumentException("Illegal number of ticks per wheel: " + ticksPerWheel);
+		this.name = name;
+		this.tickDuration = unit.toNanos(tickDuration);
+		int size = 1;
+		while (size < ticksPerWheel) {
+			size <<= 1;
+		}
+		wheel = new Slot[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new Slot();
+		}
+		mask = size - 1;
+		startTime = System.nanoTime();
+		worker = new LoggingThread(new Worker(), name);
+		// pending timeouts should not keep the server alive
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Runs the given task on the given executor once the given delay has
+	 * passed, unless the returned timeout is cancelled first.
+	 */
+	public Timeout schedule(Runnable task, Executor executor, long delay, TimeUnit unit) {
+		if (stopped)
+			throw new RejectedExecutionException(name + " is stopped.");
+		Timeout timeout = new Timeout(task, executor, System.nanoTime() + unit.toNanos(Math.max(0, delay)));
+		nbPending.incrementAndGet();
+		newTimeouts.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * Stops the timer thread, the pending timeouts never expire.
+	 */
+	public void stop() {
+		stopped = true;
+		worker.interrupt();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * The number of timeouts that did not expire and were not cancelled.
+	 */
+	public int getNbPending() {
+		return nbPending.get();
+	}
+
+	public long getNbExpired() {
+		return nbExpired.get();
+	}
+
+	public long getNbCancelled() {
+		return nbCancelled.get();
+	}
+
+	/**
+	 * The longest time a timeout was handed to its executor after its
+	 * deadline, in milliseconds.
+	 */
+	public double getMaxDelay() {
+		return maxDelay.get() / 1E6;
+	}
+
+	@Override
+	public String toString() {
+		return name + "[pending=" + getNbPending() + ", expired=" + getNbExpired() + ", cancelled="
+				+ getNbCancelled() + ", maxDelay=" + getMaxDelay() + "ms]";
+	}
+
+	private final class Worker implements Runnable {
+
+		// the ticks that were processed, only used by the timer thread
+		private long tick = 0;
+
+		public void run() {
+			while (!stopped) {
+				long deadline = startTime + (tick + 1) * tickDuration;
+				long sleep = deadline - System.nanoTime();
+				if (sleep > 0) {
+					try {
+						TimeUnit.NANOSECONDS.sleep(sleep);
+					} catch (InterruptedException e) {
+						if (stopped) {
+							return;
+						}
+					}
+					continue;
+				}
+				removeCancelled();
+				transferNewTimeouts();
+				wheel[(int) (tick & mask)].expire(deadline);
+				++tick;
+			}
+		}
+
+		private void transferNewTimeouts() {
+			Timeout timeout;
+			while ((timeout = newTimeouts.poll()) != null) {
+				if (timeout.isCancelled()) {
+					continue;
+				}
+				// the first tick that ends at or after the deadline
+				long ticks = (timeout.deadline - startTime + tickDuration - 1) / tickDuration - 1;
+				// a timeout that is already due goes in the current slot
+				ticks = Math.max(ticks, tick);
+				timeout.remainingRounds = (ticks - tick) / wheel.length;
+				wheel[(int) (ticks & mask)].add(timeout);
+			}
+		}
+
+		private void removeCancelled() {
+			Timeout timeout;
+			while ((timeout = cancelledTimeouts.poll()) != null) {
+				if (timeout.slot != null) {
+					timeout.slot.remove(timeout);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * The timeouts that expire in the same slot of the wheel, in a doubly
+	 * linked list so a cancelled timeout is removed in constant time.
+	 */
+	@NotThreadSafe
+	private final class Slot {
+
+		private Timeout head;
+
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.slot = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		void remove(Timeout timeout) {
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			} else {
+				tail = timeout.prev;
+			}
+			timeout.prev = timeout.next = null;
+			timeout.slot = null;
+		}
+
+		void expire(long tickDeadline) {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.remainingRounds <= 0 && timeout.deadline <= tickDeadline) {
+					remove(timeout);
+					timeout.expire();
+				} else {
+					--timeout.remainingRounds;
+				}
+				timeout = next;
+			}
+		}
+
+	}
+
+	/**
+	 * A task that is scheduled on a {@link HashedWheelTimer}.
+	 */
+	@ThreadSafe
+	public final class Timeout {
+
+		private final static int PENDING = 0;
+		private final static int CANCELLED = 1;
+		private final static int EXPIRED = 2;
+
+		private final AtomicInteger state = new AtomicInteger(PENDING);
+
+		private final Runnable task;
+
+		private final Executor executor;
+
+		private final long deadline;
+
+		// only used by the timer thread
+		private long remainingRounds;
+		private Slot slot;
+		private Timeout prev;
+		private Timeout next;
+
+		private Timeout(Runnable task, Executor executor, long deadline) {
+			this.task = task;
+			this.executor = executor;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Prevents the task from running, if it did not expire yet.
+		 * 
+		 * @return Whether the task will not run because of this call.
+		 */
+		public boolean cancel() {
+			if (!state.compareAndSet(PENDING, CANCELLED)) {
+				return false;
+			}
+			nbPending.decrementAndGet();
+			nbCancelled.incrementAndGet();
+			cancelledTimeouts.add(this);
+			return true;
+		}
+
+		public boolean isCancelled() {
+			return state.get() == CANCELLED;
+		}
+
+		public boolean isExpired() {
+			return state.get() == EXPIRED;
+		}
+
+		/**
+		 * The time left until this timeout expires, in the given unit.
+		 */
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		private void expire() {
+			if (!state.compareAndSet(PENDING, EXPIRED)) {
+				return;
+			}
+			nbPending.decrementAndGet();
+			nbExpired.incrementAndGet();
+			long delay = System.nanoTime() - deadline;
+			long max;
+			do {
+				max = maxDelay.get();
+			} while (delay > max && !maxDelay.compareAndSet(max, delay));
+			try {
+				executor.execute(task);
+			} catch (RuntimeException e) {
+				logger.error(name + " could not hand over " + task, e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "Timeout[" + task + ", " + getDelay(TimeUnit.MILLISECONDS) + "ms]";
+		}
+
+	}
+
+}
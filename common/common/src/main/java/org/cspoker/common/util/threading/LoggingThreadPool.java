@@ -15,10 +15,12 @@
  */
 package org.cspoker.common.util.threading;
 
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Logger;
+import org.cspoker.common.util.metrics.Histogram;
 
 public class LoggingThreadPool extends ScheduledThreadPoolExecutor {
 
@@ -28,14 +30,18 @@ public class LoggingThreadPool extends ScheduledThreadPoolExecutor {
 	}
 
 	private final ThreadLocal<Long> startTime = new ThreadLocal<Long>();
-	private final AtomicLong numTasks = new AtomicLong();
-	private final AtomicLong totalTime = new AtomicLong();
+	private final Histogram taskTimes = new Histogram();
+	private final Histogram queueTimes = new Histogram();
 	private static Logger logger = Logger.getLogger(LoggingThreadPool.class);
 
 	@Override
 	protected void beforeExecute(Thread t, Runnable r) {
 		super.beforeExecute(t, r);
 		logger.trace(String.format("Thread %s: starting %s", t, r));
+		if (r instanceof Delayed) {
+			// how long the task has been due, every task of this pool is
+			queueTimes.record(-((Delayed) r).getDelay(TimeUnit.NANOSECONDS));
+		}
 		startTime.set(System.nanoTime());
 	}
 
@@ -44,8 +50,7 @@ public class LoggingThreadPool extends ScheduledThreadPoolExecutor {
 		try {
 			long endTime = System.nanoTime();
 			long taskTime = endTime - startTime.get();
-			numTasks.incrementAndGet();
-			totalTime.addAndGet(taskTime);
+			taskTimes.record(taskTime);
 			logger.trace(String.format("Thread %s: done with %s, time=%dns", t,
 					r, taskTime));
 		} finally {
@@ -56,12 +61,26 @@ public class LoggingThreadPool extends ScheduledThreadPoolExecutor {
 	@Override
 	protected void terminated() {
 		try {
-			if (numTasks.get()>0) {
+			if (taskTimes.getCount()>0) {
 				logger.trace(String.format("Terminated: avg time=%dns",
-						totalTime.get() / numTasks.get()));
+						(long) taskTimes.getMean()));
 			}
 		} finally {
 			super.terminated();
 		}
 	}
+
+	/**
+	 * The run times of the tasks, in nanoseconds.
+	 */
+	public Histogram getTaskTimes() {
+		return taskTimes;
+	}
+
+	/**
+	 * The times between tasks being due and being started, in nanoseconds.
+	 */
+	public Histogram getQueueTimes() {
+		return queueTimes;
+	}
 }
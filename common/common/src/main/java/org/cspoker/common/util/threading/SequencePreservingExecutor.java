@@ -13,7 +13,7 @@
  * along with this program; if not, write to the Free Software
  * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
  */
-package org.cspoker.server.rmi;
+package org.cspoker.common.util.threading;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -25,6 +25,11 @@ import net.jcip.annotations.ThreadSafe;
 
 import org.apache.log4j.Logger;
 
+/**
+ * Runs the tasks given to it one after the other, in the order they were
+ * given, on a shared executor. Tasks given to different instances run in
+ * parallel.
+ */
 @ThreadSafe
 public class SequencePreservingExecutor implements Executor {
 
@@ -43,7 +48,7 @@ public class SequencePreservingExecutor implements Executor {
 		this.executor = executor;
 	}
 
-	public void execute(final Runnable command) {
+	public void execute(Runnable command) {
 		queue.add(command);
 		if(taskPending.compareAndSet(false, true)){
 			executor.execute(new Runnable(){
@@ -57,24 +62,38 @@ public class SequencePreservingExecutor implements Executor {
 						readQueue();
 					}
 				}
-				
-				public void readQueue(){
-					Runnable task;
-					while ((task = queue.poll()) != null) {
-						try {
-							task.run();
-						} catch (Exception e) {
-							logger.error(e);
-							throw new IllegalStateException(
-									"Performed task that threw an exception.",
-									e);
-						}
-					}
-				}
-				
 			});
 		}
 
 	}
 
+	private void readQueue(){
+		Runnable task;
+		while ((task = poll()) != null) {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				// throwing would leave taskPending set and the
+				// tasks behind this one would never run
+				logger.error("Performed task that threw an exception: " + task, e);
+			}
+		}
+	}
+
+	/**
+	 * Takes the next waiting task out of the queue.
+	 * 
+	 * @return the task, or null when no task is waiting
+	 */
+	protected Runnable poll() {
+		return queue.poll();
+	}
+
+	/**
+	 * @return the next waiting task, or null when no task is waiting
+	 */
+	protected Runnable peek() {
+		return queue.peek();
+	}
+
 }
@@ -19,13 +19,13 @@ package org.cspoker.common.util.threading;
 import java.util.List;
 import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Logger;
+import org.cspoker.common.util.metrics.MBeans;
+import org.cspoker.common.util.metrics.ThreadPoolMonitor;
 
 public class SingleThreadRequestExecutor extends AbstractExecutorService {
 
@@ -33,12 +33,13 @@ public class SingleThreadRequestExecutor extends AbstractExecutorService {
 	.getLogger(SingleThreadRequestExecutor.class);
 
 
-	private ScheduledExecutorService executor;
+	private LoggingThreadPool executor;
 
 	private static final SingleThreadRequestExecutor scheduledRequestExecutor = new SingleThreadRequestExecutor();
 
 	private SingleThreadRequestExecutor() {
-		executor = Executors.newSingleThreadScheduledExecutor();
+		executor = new LoggingThreadPool(1, "CSPoker-Scheduler");
+		MBeans.register("ThreadPool", "Scheduler", new ThreadPoolMonitor(executor));
 	}
 
 	public static SingleThreadRequestExecutor getInstance() {
@@ -0,0 +1,114 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.api.shared.socket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.api.lobby.holdemtable.event.AllInEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.BetEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.BlindEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CallEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.CheckEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.ConfigChangeEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.FoldEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEventWrapper;
+import org.cspoker.common.api.lobby.holdemtable.event.JoinTableEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.LeaveTableEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewCommunityCardsEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewRoundEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.RaiseEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.SitOutEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.NewPocketCardsEvent;
+import org.cspoker.common.elements.cards.Card;
+import org.cspoker.common.elements.chips.Pots;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.Round;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+
+public class BinaryProtocolTest extends TestCase {
+
+	private final TableId tableId = new TableId(123456789012L);
+
+	private final PlayerId playerId = new PlayerId(42);
+
+	public void testRoundTrip() throws IOException {
+		assertRoundTrip(new AllInEvent(playerId, 500));
+		assertRoundTrip(new BetEvent(playerId, 20));
+		assertRoundTrip(new BlindEvent(playerId, 5));
+		assertRoundTrip(new CallEvent(playerId, 10));
+		assertRoundTrip(new CheckEvent(playerId));
+		assertRoundTrip(new FoldEvent(playerId));
+		assertRoundTrip(new RaiseEvent(playerId, 40, 60));
+		assertRoundTrip(new NextPlayerEvent(playerId));
+		assertRoundTrip(new NewRoundEvent(Round.TURN, new Pots(1234)));
+		assertRoundTrip(new NewCommunityCardsEvent(EnumSet.of(Card.ACE_SPADES,
+				Card.TWO_CLUBS, Card.TEN_HEARTS)));
+		assertRoundTrip(new NewPocketCardsEvent(EnumSet.of(Card.KING_DIAMONDS,
+				Card.KING_HEARTS)));
+		assertRoundTrip(new JoinTableEvent(playerId));
+		assertRoundTrip(new LeaveTableEvent(playerId));
+		assertRoundTrip(new SitOutEvent(playerId));
+	}
+
+	public void testNoCompactEncoding() {
+		assertNull(BinaryProtocol.encode(tableId, new ConfigChangeEvent(
+				new TableConfiguration())));
+	}
+
+	public void testHeader() throws IOException {
+		byte[] frame = new byte[BinaryProtocol.HEADER_LENGTH + 300];
+		BinaryProtocol.putHeader(frame, BinaryProtocol.XML_FRAME, 300);
+		assertEquals(301, BinaryProtocol.getLength(frame, 0));
+		assertEquals(BinaryProtocol.XML_FRAME, frame[4]);
+	}
+
+	public void testBadLength() {
+		byte[] frame = new byte[BinaryProtocol.HEADER_LENGTH];
+		BinaryProtocol.putHeader(frame, BinaryProtocol.XML_FRAME,
+				BinaryProtocol.MAX_FRAME_LENGTH);
+		try {
+			BinaryProtocol.getLength(frame, 0);
+			fail();
+		} catch (IOException expected) {
+		}
+	}
+
+	public void testHello() {
+		byte[] hello = BinaryProtocol.getHello();
+		assertTrue(BinaryProtocol.isHello(hello, 0, hello.length, 0));
+		assertTrue(BinaryProtocol.isHello(hello, 1, 2, 1));
+		assertFalse(BinaryProtocol.isHello("<login".getBytes(), 0, 1, 0));
+	}
+
+	private void assertRoundTrip(HoldemTableTreeEvent event) throws IOException {
+		ByteBuffer frame = BinaryProtocol.encode(tableId, event);
+		assertEquals(frame.remaining() - 4, frame.getInt());
+		assertEquals(BinaryProtocol.TABLE_EVENT_FRAME, frame.get());
+		HoldemTableTreeEventWrapper decoded = BinaryProtocol.decode(frame);
+		assertFalse(frame.hasRemaining());
+		assertEquals(tableId, decoded.getTableId());
+		assertEquals(event.getClass(), decoded.getEvent().getClass());
+		assertEquals(event.toString(), decoded.getEvent().toString());
+	}
+
+}
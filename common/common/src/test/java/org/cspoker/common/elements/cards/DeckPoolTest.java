@@ -0,0 +1,58 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.elements.cards;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.util.random.SecureRandomSource;
+import org.cspoker.common.util.random.SeededRandomSource;
+
+public class DeckPoolTest extends TestCase {
+
+	public void testSameSeedDealsSameCards() {
+		DeckPool pool = new DeckPool(new SeededRandomSource(42), 0);
+		DeckPool other = new DeckPool(new SeededRandomSource(42), 0);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(pool.take().deal(52), other.take().deal(52));
+		}
+		assertFalse(new DeckPool(new SeededRandomSource(43), 0).take().deal(52).equals(
+				new DeckPool(new SeededRandomSource(42), 0).take().deal(52)));
+	}
+
+	public void testDecksAreComplete() throws InterruptedException {
+		DeckPool pool = new DeckPool(new SecureRandomSource(), 4);
+		try {
+			for (int i = 0; i < 100; i++) {
+				List<Card> cards = pool.take().deal(52);
+				assertEquals(52, cards.size());
+				assertEquals(EnumSet.allOf(Card.class), EnumSet.copyOf(cards));
+			}
+			assertEquals(100, pool.getNbTaken());
+			// the shuffler fills the pool again
+			long deadline = System.currentTimeMillis() + 10000;
+			while (pool.getSize() < 4 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertEquals(4, pool.getSize());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
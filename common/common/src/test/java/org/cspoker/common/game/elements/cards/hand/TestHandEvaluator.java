@@ -15,12 +15,22 @@
  */
 package org.cspoker.common.game.elements.cards.hand;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
 import junit.framework.TestCase;
 
 import org.apache.log4j.BasicConfigurator;
+import org.cspoker.common.elements.cards.Card;
 import org.cspoker.common.elements.cards.Rank;
 import org.cspoker.common.elements.cards.Suit;
 import org.cspoker.common.elements.hand.Hand;
+import org.cspoker.common.elements.hand.HandEvaluator;
 import org.cspoker.common.elements.hand.HandType;
 
 /**
@@ -627,4 +637,86 @@ public class TestHandEvaluator extends TestCase {
 		assertTrue(hand1.compareTo(hand2) == -1);
 	}
 
+	/**
+	 * Every five card hand gets the rank of handRanks.txt.
+	 */
+	public void testAllFiveCardHands() throws IOException {
+		Map<String, Integer> expectedRanks = new HashMap<String, Integer>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(getClass()
+				.getClassLoader().getResourceAsStream("org/cspoker/common/elements/hand/handRanks.txt")));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			String[] columns = line.split("\\s*,\\s*");
+			long product = 1;
+			for (int i = 0; i < 5; i++) {
+				product *= Rank.valueOf(columns[i]).getPrime();
+			}
+			expectedRanks.put(product + columns[7], Integer.valueOf(columns[8].trim()));
+		}
+		reader.close();
+		assertEquals(7462, expectedRanks.size());
+
+		Card[] cards = Card.values();
+		Card[] hand = new Card[5];
+		int nbHands = 0;
+		for (int a = 0; a < cards.length; a++) {
+			for (int b = a + 1; b < cards.length; b++) {
+				for (int c = b + 1; c < cards.length; c++) {
+					for (int d = c + 1; d < cards.length; d++) {
+						for (int e = d + 1; e < cards.length; e++) {
+							hand[0] = cards[a];
+							hand[1] = cards[b];
+							hand[2] = cards[c];
+							hand[3] = cards[d];
+							hand[4] = cards[e];
+							long product = 1;
+							boolean flush = true;
+							for (Card card : hand) {
+								product *= card.getRank().getPrime();
+								flush &= card.getSuit() == hand[0].getSuit();
+							}
+							assertEquals(expectedRanks.get(product + Boolean.toString(flush)).intValue(),
+									HandEvaluator.getBestFiveRank(hand));
+							++nbHands;
+						}
+					}
+				}
+			}
+		}
+		assertEquals(2598960, nbHands);
+	}
+
+	/**
+	 * The rank of six and seven cards is the best rank of their five card
+	 * subsets.
+	 */
+	public void testSixAndSevenCardHands() {
+		Random random = new Random(0);
+		Card[] cards = Card.values();
+		for (int i = 0; i < 20000; i++) {
+			EnumSet<Card> hand = EnumSet.noneOf(Card.class);
+			int size = 6 + random.nextInt(2);
+			while (hand.size() < size) {
+				hand.add(cards[random.nextInt(cards.length)]);
+			}
+			Card[] handCards = hand.toArray(new Card[size]);
+			int bestRank = Integer.MAX_VALUE;
+			for (int subset = 0; subset < 1 << size; subset++) {
+				if (Integer.bitCount(subset) == 5) {
+					EnumSet<Card> five = EnumSet.noneOf(Card.class);
+					for (int j = 0; j < size; j++) {
+						if ((subset & (1 << j)) != 0) {
+							five.add(handCards[j]);
+						}
+					}
+					bestRank = Math.min(bestRank, HandEvaluator.getBestFiveRank(five));
+				}
+			}
+			assertEquals(hand.toString(), bestRank, HandEvaluator.getBestFiveRank(hand));
+			Hand bestFive = new Hand(hand).getBestFive();
+			assertEquals(5, bestFive.size());
+			assertEquals(bestRank, bestFive.getRank());
+		}
+	}
+
 }
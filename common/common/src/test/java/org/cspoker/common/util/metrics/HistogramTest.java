@@ -0,0 +1,79 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.metrics;
+
+import junit.framework.TestCase;
+
+public class HistogramTest extends TestCase {
+
+	public void testBucketsCoverAllValues() {
+		int previous = -1;
+		for (long value = 0; value < 100000; value++) {
+			int bucket = Histogram.getBucket(value);
+			assertTrue(bucket == previous || bucket == previous + 1);
+			assertTrue(Histogram.getLowerBound(bucket) <= value);
+			previous = bucket;
+		}
+		assertEquals(Histogram.NB_BUCKETS - 1, Histogram
+				.getBucket(Long.MAX_VALUE));
+		assertEquals(Long.MAX_VALUE, Histogram.getLowerBound(Histogram
+				.getBucket(Long.MAX_VALUE))
+				+ (Long.MAX_VALUE >>> 3));
+	}
+
+	public void testPercentiles() {
+		Histogram histogram = new Histogram();
+		assertEquals(0, histogram.getPercentile(0.99));
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(500500, histogram.getSum());
+		assertEquals(500.5, histogram.getMean(), 1E-9);
+		assertEquals(1000, histogram.getMax());
+		assertEquals(500, histogram.getPercentile(0.5), 500 / 4);
+		assertEquals(990, histogram.getPercentile(0.99), 990 / 4);
+		assertEquals(1, histogram.getPercentile(0));
+		assertEquals(1000, histogram.getPercentile(1), 1000 / 4);
+	}
+
+	public void testConcurrentRecords() throws InterruptedException {
+		final Histogram histogram = new Histogram(4);
+		final StripedCounter counter = new StripedCounter(4);
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			final long value = i;
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++) {
+						histogram.record(value);
+						counter.increment();
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(80000, histogram.getCount());
+		assertEquals(80000, counter.get());
+		assertEquals(28 * 10000, histogram.getSum());
+		assertEquals(7, histogram.getMax());
+	}
+
+}
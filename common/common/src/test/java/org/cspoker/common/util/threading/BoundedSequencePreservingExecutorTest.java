@@ -0,0 +1,134 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.threading;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+public class BoundedSequencePreservingExecutorTest extends TestCase {
+
+	private ExecutorService pool;
+
+	@Override
+	protected void setUp() {
+		pool = Executors.newFixedThreadPool(4);
+	}
+
+	@Override
+	protected void tearDown() {
+		pool.shutdownNow();
+	}
+
+	public void testOrder() throws InterruptedException {
+		BoundedSequencePreservingExecutor executor = new BoundedSequencePreservingExecutor("test", pool, 1000);
+		final List<Integer> done = Collections.synchronizedList(new ArrayList<Integer>());
+		final CountDownLatch finished = new CountDownLatch(1000);
+		for (int i = 0; i < 1000; i++) {
+			final int task = i;
+			executor.execute(new Runnable() {
+				public void run() {
+					done.add(task);
+					finished.countDown();
+				}
+			});
+		}
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, done.get(i).intValue());
+		}
+		assertEquals(1000, executor.getNbTasks());
+		assertFalse(executor.isClosed());
+	}
+
+	public void testOverflowCloses() throws InterruptedException {
+		final AtomicInteger overflows = new AtomicInteger();
+		BoundedSequencePreservingExecutor executor = new BoundedSequencePreservingExecutor("test", pool, 3) {
+			@Override
+			protected void overflowed() {
+				overflows.incrementAndGet();
+			}
+		};
+		final CountDownLatch blocked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger ran = new AtomicInteger();
+		executor.execute(new Runnable() {
+			public void run() {
+				blocked.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		assertTrue(blocked.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < 5; i++) {
+			executor.execute(new Runnable() {
+				public void run() {
+					ran.incrementAndGet();
+				}
+			});
+		}
+		assertTrue(executor.isClosed());
+		assertEquals(1, overflows.get());
+		assertEquals(0, executor.getBacklog());
+		release.countDown();
+		final CountDownLatch finished = new CountDownLatch(1);
+		pool.execute(new Runnable() {
+			public void run() {
+				finished.countDown();
+			}
+		});
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		assertEquals(0, ran.get());
+	}
+
+	public void testLag() throws InterruptedException {
+		BoundedSequencePreservingExecutor executor = new BoundedSequencePreservingExecutor("test", pool, 10);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch finished = new CountDownLatch(1);
+		executor.execute(new Runnable() {
+			public void run() {
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		executor.execute(new Runnable() {
+			public void run() {
+				finished.countDown();
+			}
+		});
+		Thread.sleep(50);
+		assertEquals(1, executor.getBacklog());
+		assertTrue(executor.getLag() >= 40);
+		release.countDown();
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		assertTrue(executor.getMaxLag() >= 40);
+		assertEquals(2, executor.getNbTasks());
+	}
+
+}
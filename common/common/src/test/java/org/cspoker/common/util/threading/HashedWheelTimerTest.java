@@ -0,0 +1,97 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.threading;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.util.threading.HashedWheelTimer.Timeout;
+
+public class HashedWheelTimerTest extends TestCase {
+
+	private final static Executor direct = new Executor() {
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	private HashedWheelTimer timer;
+
+	@Override
+	protected void setUp() {
+		// 8 slots of 10ms, so the longer timeouts go round the wheel
+		timer = new HashedWheelTimer("test", 10, TimeUnit.MILLISECONDS, 8);
+	}
+
+	@Override
+	protected void tearDown() {
+		timer.stop();
+	}
+
+	public void testExpiresOnTime() throws InterruptedException {
+		final long[] delays = {0, 5, 30, 75, 200};
+		final CountDownLatch finished = new CountDownLatch(delays.length);
+		final long start = System.nanoTime();
+		final long[] late = new long[delays.length];
+		for (int i = 0; i < delays.length; i++) {
+			final int index = i;
+			timer.schedule(new Runnable() {
+				public void run() {
+					late[index] = (System.nanoTime() - start) / 1000000 - delays[index];
+					finished.countDown();
+				}
+			}, direct, delays[i], TimeUnit.MILLISECONDS);
+		}
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < delays.length; i++) {
+			assertTrue("early by " + -late[i] + "ms", late[i] >= 0);
+			assertTrue("late by " + late[i] + "ms", late[i] < 100);
+		}
+		assertEquals(0, timer.getNbPending());
+		assertEquals(delays.length, timer.getNbExpired());
+	}
+
+	public void testCancel() throws InterruptedException {
+		final AtomicInteger ran = new AtomicInteger();
+		Runnable task = new Runnable() {
+			public void run() {
+				ran.incrementAndGet();
+			}
+		};
+		Timeout cancelled = timer.schedule(task, direct, 50, TimeUnit.MILLISECONDS);
+		Timeout other = timer.schedule(task, direct, 150, TimeUnit.MILLISECONDS);
+		Thread.sleep(20);
+		assertTrue(cancelled.cancel());
+		assertFalse(cancelled.cancel());
+		assertTrue(other.cancel());
+		final CountDownLatch finished = new CountDownLatch(1);
+		timer.schedule(new Runnable() {
+			public void run() {
+				finished.countDown();
+			}
+		}, direct, 200, TimeUnit.MILLISECONDS);
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		assertEquals(0, ran.get());
+		assertTrue(cancelled.isCancelled());
+		assertEquals(2, timer.getNbCancelled());
+		assertEquals(0, timer.getNbPending());
+	}
+
+}
@@ -0,0 +1,97 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.common.util.threading;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+public class SequencePreservingExecutorTest extends TestCase {
+
+	private ExecutorService pool;
+
+	@Override
+	protected void setUp() {
+		pool = Executors.newFixedThreadPool(4);
+	}
+
+	@Override
+	protected void tearDown() {
+		pool.shutdownNow();
+	}
+
+	public void testOrder() throws InterruptedException {
+		SequencePreservingExecutor executor = new SequencePreservingExecutor(pool);
+		final List<Integer> done = Collections.synchronizedList(new ArrayList<Integer>());
+		final CountDownLatch finished = new CountDownLatch(1000);
+		for (int i = 0; i < 1000; i++) {
+			final int task = i;
+			executor.execute(new Runnable() {
+				public void run() {
+					done.add(task);
+					finished.countDown();
+				}
+			});
+		}
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, done.get(i).intValue());
+		}
+	}
+
+	public void testContinuesAfterException() throws InterruptedException {
+		SequencePreservingExecutor executor = new SequencePreservingExecutor(pool);
+		final CountDownLatch finished = new CountDownLatch(1);
+		executor.execute(new Runnable() {
+			public void run() {
+				throw new IllegalStateException("expected by the test");
+			}
+		});
+		executor.execute(new Runnable() {
+			public void run() {
+				finished.countDown();
+			}
+		});
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+	}
+
+	public void testExecutorsRunInParallel() throws InterruptedException {
+		final CountDownLatch bothStarted = new CountDownLatch(2);
+		final CountDownLatch finished = new CountDownLatch(2);
+		for (int i = 0; i < 2; i++) {
+			new SequencePreservingExecutor(pool).execute(new Runnable() {
+				public void run() {
+					bothStarted.countDown();
+					try {
+						if (bothStarted.await(10, TimeUnit.SECONDS)) {
+							finished.countDown();
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			});
+		}
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+	}
+
+}
@@ -22,15 +22,17 @@ package org.cspoker.common.handeval.spears2p2;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.zip.Deflater;
-import java.util.zip.ZipEntry;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.log4j.Logger;
 import org.cspoker.common.elements.cards.Card;
@@ -42,12 +44,34 @@ import org.cspoker.common.elements.cards.Card;
  * 
  * To evaluate 6 card hand make the last card a zero.
  * 
+ * The table is kept in a raw little-endian file that is memory-mapped, so
+ * every JVM on a host shares the same pages instead of holding its own copy
+ * on the heap. The file is {@value #TABLE_FILE_PROPERTY} or else
+ * <code>~/.cspoker/handRanks.bin</code>. When it does not exist, it is
+ * converted from an old <code>handRanks.zip</code> in the working directory
+ * or generated, and then moved into place atomically. Set
+ * {@value #VERIFY_PROPERTY} to <code>true</code> to check the checksum of
+ * an existing file when it is mapped.
+ * 
+ * File layout: magic, version, number of entries and CRC32 of the entries
+ * in a {@value #HEADER_SIZE} byte header, followed by the entries.
+ * 
  */
 public class StateTableEvaluator {
 	
 	private final static Logger logger = Logger.getLogger(StateTableEvaluator.class);
 
-	private final int HAND_RANKS_SIZE = 32487834;
+	public final static String TABLE_FILE_PROPERTY = "cspoker.handranks.file";
+
+	public final static String VERIFY_PROPERTY = "cspoker.handranks.verify";
+
+	private final static long MAGIC = 0x4353504f4b45523aL;
+
+	private final static int VERSION = 1;
+
+	final static int HEADER_SIZE = 32;
+
+	private final static int HAND_RANKS_SIZE = 32487834;
 	/*
 	 * Card to integer conversions: 2c = 1 2d = 2 2h = 3 2s = 4 3c = 5 3d = 6 3h
 	 * = 7 3s = 8 4c = 9 4d = 10 4h = 11 4s = 12 5c = 13 5d = 14 5h = 15 5s = 16
@@ -60,14 +84,18 @@ public class StateTableEvaluator {
 	private final int NUM_SUITS = 4;
 	private final int NUM_RANKS = 13;
 
-	public int[] handRanks = new int[HAND_RANKS_SIZE]; // array to hold hand
-														// rank lookup table
+	/**
+	 * The hand rank lookup table. Only use absolute gets, the buffer is
+	 * shared by all threads.
+	 */
+	public final IntBuffer handRanks;
+
+	private int[] generatedRanks; // array to fill while generating the table
 	private final boolean verbose = true; // toggles verbose mode
 
 	private int[] hand; // re-usable array to hold cards in a hand
 	private final int size = 612978; // lookup table size
-	private final long[] keys = new long[size]; // array to hold key lookup
-												// table
+	private long[] keys; // array to hold key lookup table
 	private int numKeys = 1; // counter for number of defined keys in key array
 	private long maxKey = 0; // holds current maximum key value
 	private int numCards = 0; // re-usable counter for number of cards in a hand
@@ -77,38 +105,183 @@ public class StateTableEvaluator {
 	private long startTimer;
 	private long stopTimer;
 
-	private final String HAND_RANKS_FILE = "handRanks.zip";
-
-	private StateTableEvaluator() throws FileNotFoundException, IOException,
-			ClassNotFoundException {
-		logger.info("Loading evaluation tables ...");
-		File f = new File(HAND_RANKS_FILE);
-		if (!f.exists()) {
-			logger.info("Evaluation tables do not exist, this is first time run. Generating them ...");
-			handRanks = new int[HAND_RANKS_SIZE];
-			generateTables();
-			saveTables();
-			logger.info("Loading evaluation tables (again) ...");
-		}
+	private final static String LEGACY_HAND_RANKS_FILE = "handRanks.zip";
+
+	private StateTableEvaluator() throws IOException, ClassNotFoundException {
 		long t = System.currentTimeMillis();
-		ZipInputStream zipStream = new ZipInputStream(new FileInputStream(
-				HAND_RANKS_FILE));
-		zipStream.getNextEntry();
-		ObjectInputStream s = new ObjectInputStream(zipStream);
-		handRanks = (int[]) s.readObject();
+		File file = getTableFile();
+		logger.info("Mapping evaluation tables from " + file + " ...");
+		IntBuffer mapped = null;
+		if (file.exists()) {
+			try {
+				mapped = map(file, HAND_RANKS_SIZE, Boolean.getBoolean(VERIFY_PROPERTY));
+			} catch (IOException e) {
+				logger.warn("Replacing bad evaluation tables in " + file, e);
+			}
+		}
+		if (mapped == null) {
+			File legacyFile = new File(LEGACY_HAND_RANKS_FILE);
+			if (legacyFile.exists()) {
+				logger.info("Converting evaluation tables from " + legacyFile + " ...");
+				generatedRanks = loadLegacyTables(legacyFile);
+			} else {
+				logger.info("Evaluation tables do not exist, this is first time run. Generating them ...");
+				generatedRanks = new int[HAND_RANKS_SIZE];
+				generateTables();
+			}
+			write(file, generatedRanks);
+			generatedRanks = null;
+			keys = null;
+			mapped = map(file, HAND_RANKS_SIZE, false);
+		}
+		handRanks = mapped;
 		t = System.currentTimeMillis() - t;
-		logger.info("Evaluation tables loaded in " + t / 1000.0
+		logger.info("Evaluation tables mapped in " + t / 1000.0
 				+ " seconds");
 	}
 
+	private static File getTableFile() {
+		String location = System.getProperty(TABLE_FILE_PROPERTY);
+		if (location != null) {
+			return new File(location);
+		}
+		return new File(new File(System.getProperty("user.home"), ".cspoker"), "handRanks.bin");
+	}
+
+	/**
+	 * Maps the entries of a table file.
+	 * 
+	 * @throws IOException
+	 *             when the file can't be read or its header, size or (when
+	 *             verifying) checksum is wrong
+	 */
+	static IntBuffer map(File file, int nbEntries, boolean verify) throws IOException {
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = in.getChannel();
+			long expectedSize = HEADER_SIZE + 4L * nbEntries;
+			if (channel.size() != expectedSize) {
+				throw new IOException("Expected " + expectedSize + " bytes in " + file + " but found " + channel.size());
+			}
+			// a bad file is not mapped, Windows can't delete a mapped file
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException("Bad header in " + file);
+				}
+			}
+			if (header.getLong(0) != MAGIC || header.getInt(8) != VERSION || header.getInt(12) != nbEntries) {
+				throw new IOException("Bad header in " + file);
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedSize);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			buffer.position(HEADER_SIZE);
+			ByteBuffer entries = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+			if (verify) {
+				CRC32 checksum = new CRC32();
+				byte[] chunk = new byte[1 << 16];
+				while (entries.hasRemaining()) {
+					int length = Math.min(chunk.length, entries.remaining());
+					entries.get(chunk, 0, length);
+					checksum.update(chunk, 0, length);
+				}
+				if (checksum.getValue() != header.getLong(16)) {
+					throw new IOException("Bad checksum in " + file);
+				}
+				entries.rewind();
+			}
+			return entries.asIntBuffer();
+		} finally {
+			// the mapping stays valid
+			in.close();
+		}
+	}
+
+	/**
+	 * Writes a table file next to the given file and renames it into place,
+	 * so other processes never see a partial table.
+	 */
+	static void write(File file, int[] entries) throws IOException {
+		File directory = file.getAbsoluteFile().getParentFile();
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Can't create directory " + directory);
+		}
+		File tempFile = File.createTempFile(file.getName(), ".tmp", directory);
+		try {
+			FileOutputStream out = new FileOutputStream(tempFile);
+			try {
+				FileChannel channel = out.getChannel();
+				channel.position(HEADER_SIZE);
+				CRC32 checksum = new CRC32();
+				ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+				for (int entry : entries) {
+					if (!buffer.hasRemaining()) {
+						flush(channel, buffer, checksum);
+					}
+					buffer.putInt(entry);
+				}
+				flush(channel, buffer, checksum);
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+				header.putLong(MAGIC).putInt(VERSION).putInt(entries.length).putLong(checksum.getValue());
+				header.rewind();
+				while (header.hasRemaining()) {
+					channel.write(header, header.position());
+				}
+				channel.force(true);
+			} finally {
+				out.close();
+			}
+			if (!tempFile.renameTo(file)) {
+				// Windows does not rename onto an existing file, which is a bad
+				// table or the table of another process that won the race
+				file.delete();
+				if (!tempFile.renameTo(file) && !isTable(file, entries.length)) {
+					throw new IOException("Can't rename " + tempFile + " to " + file);
+				}
+			}
+		} finally {
+			if (tempFile.exists()) {
+				tempFile.delete();
+			}
+		}
+	}
+
+	private static boolean isTable(File file, int nbEntries) {
+		try {
+			map(file, nbEntries, false);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 checksum) throws IOException {
+		checksum.update(buffer.array(), 0, buffer.position());
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	private static int[] loadLegacyTables(File legacyFile) throws IOException, ClassNotFoundException {
+		ZipInputStream zipStream = new ZipInputStream(new FileInputStream(
+				legacyFile));
+		try {
+			zipStream.getNextEntry();
+			ObjectInputStream s = new ObjectInputStream(zipStream);
+			return (int[]) s.readObject();
+		} finally {
+			zipStream.close();
+		}
+	}
+
 	private static StateTableEvaluator instance = null;
 
 	public synchronized static StateTableEvaluator getInstance() {
 		if (instance == null) {
 			try {
 				instance = new StateTableEvaluator();
-			} catch (FileNotFoundException e) {
-				throw new IllegalStateException(e);
 			} catch (IOException e) {
 				throw new IllegalStateException(e);
 			} catch (ClassNotFoundException e) {
@@ -507,6 +680,8 @@ public class StateTableEvaluator {
 		int keyIndex;
 		long key;
 
+		keys = new long[size];
+
 		if (verbose) {
 			logger.info("Generating and sorting keys...");
 			startTimer = System.currentTimeMillis();
@@ -554,37 +729,26 @@ public class StateTableEvaluator {
 																// rank
 																// insertion
 																// index
-				handRanks[maxHandRankIndex] = handRank; // populate hand rank
+				generatedRanks[maxHandRankIndex] = handRank; // populate hand rank
 														// lookup table with
 														// appropriate value
 			}
 
 			if (numCards == 6 || numCards == 7) {
 				// insert the hand rank into the hand rank lookup table
-				handRanks[keyIndex * 53 + 53] = getHandRank(keys[keyIndex]);
+				generatedRanks[keyIndex * 53 + 53] = getHandRank(keys[keyIndex]);
 			}
 		}
 
 	} // END generateTables method
 
-	private void saveTables() throws FileNotFoundException, IOException {
-		ZipOutputStream zipStream = new ZipOutputStream(new FileOutputStream(
-				HAND_RANKS_FILE));
-		zipStream.setLevel(Deflater.BEST_COMPRESSION);
-		ZipEntry entry = new ZipEntry("handRanks.ser");
-		zipStream.putNextEntry(entry);
-		ObjectOutputStream s = new ObjectOutputStream(zipStream);
-		s.writeObject(handRanks);
-		s.close();
-	}
-
 	public int getRank(Card[] cards) {
 		// System.out.println("Getting rank..");
 		// Card[] cards = sevenCardHand.toCards();
 		int rank = 53;
 		for (Card card : cards) {
 			int c = card.ordinal() + 1;
-			rank = handRanks[c + rank];
+			rank = handRanks.get(c + rank);
 		}
 		// System.out.println("Got rank");
 		int type = (rank >>> 12) - 1;
@@ -0,0 +1,128 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+
+package org.cspoker.common.handeval.spears2p2;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+
+import junit.framework.TestCase;
+
+public class StateTableEvaluatorTest extends TestCase {
+
+	private File file;
+
+	@Override
+	protected void setUp() throws Exception {
+		file = File.createTempFile("handRanks", ".bin");
+		file.delete();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		file.delete();
+	}
+
+	private int[] getEntries() {
+		int[] entries = new int[100000];
+		for (int i = 0; i < entries.length; i++) {
+			entries[i] = i * 31 - 7;
+		}
+		return entries;
+	}
+
+	public void testWriteAndMap() throws IOException {
+		int[] entries = getEntries();
+		StateTableEvaluator.write(file, entries);
+		assertEquals(StateTableEvaluator.HEADER_SIZE + 4L * entries.length, file.length());
+
+		IntBuffer mapped = StateTableEvaluator.map(file, entries.length, true);
+		assertEquals(entries.length, mapped.limit());
+		for (int i = 0; i < entries.length; i++) {
+			assertEquals(entries[i], mapped.get(i));
+		}
+	}
+
+	public void testWriteReplacesExistingFile() throws IOException {
+		StateTableEvaluator.write(file, new int[] { 1, 2, 3 });
+		int[] entries = getEntries();
+		StateTableEvaluator.write(file, entries);
+		assertEquals(entries[42], StateTableEvaluator.map(file, entries.length, true).get(42));
+		// no temporary files left behind
+		for (String name : file.getAbsoluteFile().getParentFile().list()) {
+			assertFalse(name.startsWith(file.getName()) && name.endsWith(".tmp"));
+		}
+	}
+
+	public void testWriteWhenRenameFails() throws IOException {
+		// renaming onto a directory fails, as renaming onto a file does on
+		// Windows
+		assertTrue(file.mkdir());
+		int[] entries = getEntries();
+		StateTableEvaluator.write(file, entries);
+		assertEquals(entries[42], StateTableEvaluator.map(file, entries.length, true).get(42));
+	}
+
+	public void testWriteWhenReplaceFails() throws IOException {
+		assertTrue(file.mkdir());
+		File child = new File(file, "child");
+		assertTrue(child.createNewFile());
+		try {
+			StateTableEvaluator.write(file, getEntries());
+			fail();
+		} catch (IOException e) {
+			// expected
+		} finally {
+			child.delete();
+		}
+		for (String name : file.getAbsoluteFile().getParentFile().list()) {
+			assertFalse(name.startsWith(file.getName()) && name.endsWith(".tmp"));
+		}
+	}
+
+	public void testWrongNumberOfEntries() throws IOException {
+		StateTableEvaluator.write(file, getEntries());
+		try {
+			StateTableEvaluator.map(file, 1000, false);
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	public void testBadChecksum() throws IOException {
+		int[] entries = getEntries();
+		StateTableEvaluator.write(file, entries);
+		RandomAccessFile out = new RandomAccessFile(file, "rw");
+		try {
+			out.seek(StateTableEvaluator.HEADER_SIZE + 4 * 500);
+			out.write(0xff);
+		} finally {
+			out.close();
+		}
+		// the checksum is only checked on request
+		StateTableEvaluator.map(file, entries.length, false);
+		try {
+			StateTableEvaluator.map(file, entries.length, true);
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.loadtest;
+
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cspoker.common.util.metrics.Histogram;
+import org.cspoker.common.util.metrics.StripedCounter;
+import org.cspoker.server.embedded.gamecontrol.PokerTable;
+
+/**
+ * Gathers the measures of the synthetic clients and prints a line with the
+ * throughput, the round-trip latency of the actions and the heap and CPU use
+ * of this virtual machine every time it is run. When the server runs in this
+ * virtual machine, its heap and CPU are included and the time the tables took
+ * to handle the actions is shown as well.
+ */
+final class LoadReport implements Runnable {
+
+	private final PrintStream out;
+
+	private final boolean embedded;
+
+	private final AtomicInteger nbConnected = new AtomicInteger();
+
+	private final AtomicInteger nbConnectFailures = new AtomicInteger();
+
+	private final StripedCounter nbActions = new StripedCounter();
+
+	private final StripedCounter nbFailures = new StripedCounter();
+
+	private final StripedCounter nbEvents = new StripedCounter();
+
+	private final Histogram totalLatencies = new Histogram();
+
+	// replaced at every report, a few late records may go to the old one
+	private volatile Histogram latencies = new Histogram();
+
+	private final long start = System.nanoTime();
+
+	// only used by the thread that runs the reports
+	private long lastReport = start;
+	private long lastActions = 0;
+	private long lastEvents = 0;
+	private long lastCpuTime = getProcessCpuTime();
+	private long lastGcTime = getGcTime();
+	private long maxHeap = 0;
+
+	LoadReport(PrintStream out, boolean embedded) {
+		this.out = out;
+		this.embedded = embedded;
+	}
+
+	void clientConnected() {
+		nbConnected.incrementAndGet();
+	}
+
+	void connectFailed() {
+		nbConnectFailures.incrementAndGet();
+	}
+
+	void eventReceived() {
+		nbEvents.increment();
+	}
+
+	/**
+	 * @param nanos
+	 *            the time from sending an action until the server replied
+	 */
+	void actionPerformed(long nanos) {
+		nbActions.increment();
+		latencies.record(nanos);
+		totalLatencies.record(nanos);
+	}
+
+	void actionFailed() {
+		nbFailures.increment();
+	}
+
+	void printHeader() {
+		out.println(String.format(
+				"%6s %7s %9s %9s %8s %8s %8s %7s %8s %5s %7s%s", "time",
+				"clients", "actions/s", "events/s", "p50(ms)", "p99(ms)",
+				"max(ms)", "failed", "heap(MB)", "cpu%", "gc(ms)",
+				embedded ? String.format(" %12s", "table p99(ms)") : ""));
+	}
+
+	public synchronized void run() {
+		long now = System.nanoTime();
+		double seconds = (now - lastReport) / 1E9;
+		Histogram interval = latencies;
+		latencies = new Histogram();
+
+		long actions = nbActions.get();
+		long events = nbEvents.get();
+		long cpuTime = getProcessCpuTime();
+		long gcTime = getGcTime();
+		long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage()
+				.getUsed();
+		maxHeap = Math.max(maxHeap, heap);
+		int nbProcessors = Runtime.getRuntime().availableProcessors();
+		double cpu = cpuTime < 0 ? -1 : 100.0 * (cpuTime - lastCpuTime)
+				/ (now - lastReport) / nbProcessors;
+
+		out.println(String.format(
+				"%6.0f %7d %9.0f %9.0f %8.2f %8.2f %8.2f %7d %8d %5.0f %7d%s",
+				(now - start) / 1E9, nbConnected.get(), (actions - lastActions)
+						/ seconds, (events - lastEvents) / seconds,
+				toMillis(interval.getPercentile(0.5)), toMillis(interval
+						.getPercentile(0.99)), toMillis(interval.getMax()),
+				nbFailures.get(), heap >> 20, cpu, gcTime - lastGcTime,
+				embedded ? String.format(" %12.2f", toMillis(PokerTable
+						.getAllActionTimes().getPercentile(0.99))) : ""));
+
+		lastReport = now;
+		lastActions = actions;
+		lastEvents = events;
+		lastCpuTime = cpuTime;
+		lastGcTime = gcTime;
+	}
+
+	synchronized void printSummary() {
+		double seconds = (System.nanoTime() - start) / 1E9;
+		out.println();
+		out.println(String.format("%d clients connected, %d failed to connect",
+				nbConnected.get(), nbConnectFailures.get()));
+		out.println(String.format(
+				"%d actions in %.0fs, %.0f actions/s, %d failed", nbActions
+						.get(), seconds, nbActions.get() / seconds, nbFailures
+						.get()));
+		out.println(String.format(
+				"round trip p50 %.2fms, p99 %.2fms, max %.2fms, mean %.2fms",
+				toMillis(totalLatencies.getPercentile(0.5)),
+				toMillis(totalLatencies.getPercentile(0.99)),
+				toMillis(totalLatencies.getMax()), toMillis(totalLatencies
+						.getMean())));
+		out.println(String.format("%d events, %.0f events/s, peak heap %dMB",
+				nbEvents.get(), nbEvents.get() / seconds, maxHeap >> 20));
+	}
+
+	private static double toMillis(double nanos) {
+		return nanos / 1E6;
+	}
+
+	/**
+	 * The CPU time used by this virtual machine in nanoseconds, or -1 if it
+	 * does not tell.
+	 */
+	private static long getProcessCpuTime() {
+		OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+		if (os instanceof com.sun.management.OperatingSystemMXBean) {
+			return ((com.sun.management.OperatingSystemMXBean) os)
+					.getProcessCpuTime();
+		}
+		return -1;
+	}
+
+	private static long getGcTime() {
+		long time = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory
+				.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, gc.getCollectionTime());
+		}
+		return time;
+	}
+
+}
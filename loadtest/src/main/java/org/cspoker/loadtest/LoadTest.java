@@ -0,0 +1,182 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.cspoker.common.RemoteCSPokerServer;
+import org.cspoker.common.api.lobby.context.RemoteLobbyContext;
+import org.cspoker.common.api.lobby.listener.DefaultLobbyListener;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+import org.cspoker.common.util.Log4JPropertiesLoader;
+import org.cspoker.common.util.threading.LoggingThreadFactory;
+import org.cspoker.common.util.threading.LoggingThreadPool;
+import org.cspoker.server.embedded.CSPokerServerImpl;
+
+/**
+ * Starts a server on localhost, unless one is running already, and lets a
+ * number of synthetic clients play against it for a while. A line with the
+ * throughput and the latencies is printed at every interval, a summary at the
+ * end.
+ * 
+ * The test is configured with system properties, e.g.
+ * <code>-Dcspoker.loadtest.clients=2000 -Dcspoker.loadtest.protocol=binary</code>.
+ */
+public final class LoadTest {
+
+	static {
+		Log4JPropertiesLoader.load("org/cspoker/loadtest/logging/log4j.properties");
+	}
+
+	private final static Logger logger = Logger.getLogger(LoadTest.class);
+
+	/** xml, binary or rmi. */
+	public final static String PROTOCOL_PROPERTY = "cspoker.loadtest.protocol";
+
+	public final static String CLIENTS_PROPERTY = "cspoker.loadtest.clients";
+
+	/** The number of clients at a table, at most 8. */
+	public final static String TABLE_SIZE_PROPERTY = "cspoker.loadtest.tablesize";
+
+	/** How long the clients play once they all connected, in seconds. */
+	public final static String DURATION_PROPERTY = "cspoker.loadtest.duration";
+
+	/** The time between two lines of the report, in seconds. */
+	public final static String INTERVAL_PROPERTY = "cspoker.loadtest.interval";
+
+	public final static String PORT_PROPERTY = "cspoker.loadtest.port";
+
+	/** call or random, see {@link Script}. */
+	public final static String SCRIPT_PROPERTY = "cspoker.loadtest.script";
+
+	/** How long a client waits before it acts, in milliseconds. */
+	public final static String THINK_TIME_PROPERTY = "cspoker.loadtest.thinktime";
+
+	/**
+	 * Whether to play against a server that already runs on localhost,
+	 * rather than one started in this virtual machine.
+	 */
+	public final static String EXTERNAL_PROPERTY = "cspoker.loadtest.external";
+
+	private final static int SMALL_BET = 10;
+
+	private final static int BUY_IN = 1000 * SMALL_BET;
+
+	// clients that log in at the same time
+	private final static int NB_CONNECTORS = 16;
+
+	public static void main(String[] args) throws Exception {
+		Protocol protocol = Protocol.valueOf(System.getProperty(
+				PROTOCOL_PROPERTY, "xml").toUpperCase());
+		Script script = Script.valueOf(System.getProperty(SCRIPT_PROPERTY,
+				"random").toUpperCase());
+		int nbClients = Integer.getInteger(CLIENTS_PROPERTY, 1000);
+		int tableSize = Integer.getInteger(TABLE_SIZE_PROPERTY, 6);
+		int duration = Integer.getInteger(DURATION_PROPERTY, 60);
+		int interval = Integer.getInteger(INTERVAL_PROPERTY, 5);
+		int port = Integer.getInteger(PORT_PROPERTY, 18181);
+		long thinkTime = Long.getLong(THINK_TIME_PROPERTY, 0);
+		boolean external = Boolean.getBoolean(EXTERNAL_PROPERTY);
+		if (tableSize < 2 || !TableConfiguration.canHaveAsMaxNbPlayers(tableSize)) {
+			throw new IllegalArgumentException("Not a valid table size: "
+					+ tableSize);
+		}
+
+		if (!external) {
+			protocol.startServer(port, new CSPokerServerImpl());
+		}
+		RemoteCSPokerServer server = protocol.connect(port);
+		System.out.println(nbClients + " " + script.toString().toLowerCase()
+				+ " clients at tables of " + tableSize + " against "
+				+ (external ? "" : "an embedded ") + server);
+
+		List<TableId> tables = createTables(server,
+				(nbClients + tableSize - 1) / tableSize);
+
+		LoadReport report = new LoadReport(System.out, !external);
+		ScheduledExecutorService reporter = new LoggingThreadPool(1,
+				"CSPoker-LoadTest-Report");
+		report.printHeader();
+		reporter.scheduleAtFixedRate(report, interval, interval,
+				TimeUnit.SECONDS);
+
+		// one thread per table that can act at the same time
+		ScheduledExecutorService actors = new LoggingThreadPool(Math.min(
+				tables.size(), 256), "CSPoker-LoadTest-Actor");
+		connect(server, script, nbClients, tableSize, tables, thinkTime,
+				actors, report);
+
+		Thread.sleep(TimeUnit.SECONDS.toMillis(duration));
+		reporter.shutdown();
+		reporter.awaitTermination(interval, TimeUnit.SECONDS);
+		report.printSummary();
+		// the client connections keep their threads alive
+		System.exit(0);
+	}
+
+	private static List<TableId> createTables(RemoteCSPokerServer server,
+			int nbTables) throws Exception {
+		RemoteLobbyContext lobby = server.login("loadtest",
+				SyntheticClient.PASSWORD).getLobbyContext(
+				new DefaultLobbyListener());
+		List<TableId> tables = new ArrayList<TableId>(nbTables);
+		for (int i = 0; i < nbTables; i++) {
+			tables.add(lobby.createHoldemTable("Load test " + i,
+					new TableConfiguration(SMALL_BET)).getId());
+		}
+		return tables;
+	}
+
+	/**
+	 * Connects all clients, a few at a time, and waits until they are all
+	 * playing or failed to connect.
+	 */
+	private static void connect(final RemoteCSPokerServer server,
+			Script script, int nbClients, int tableSize,
+			final List<TableId> tables, long thinkTime,
+			ScheduledExecutorService actors, final LoadReport report)
+			throws InterruptedException {
+		ExecutorService connectors = Executors.newFixedThreadPool(
+				NB_CONNECTORS, new LoggingThreadFactory(
+						"CSPoker-LoadTest-Connector"));
+		for (int i = 0; i < nbClients; i++) {
+			final SyntheticClient client = new SyntheticClient("load" + i,
+					server, script, 2 * SMALL_BET, thinkTime, actors, report);
+			final TableId table = tables.get(i / tableSize);
+			connectors.execute(new Runnable() {
+				public void run() {
+					try {
+						client.connect(table, BUY_IN);
+						report.clientConnected();
+					} catch (Exception e) {
+						report.connectFailed();
+						logger.warn(client + " could not connect: " + e);
+					}
+				}
+			});
+		}
+		connectors.shutdown();
+		connectors.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+	}
+
+}
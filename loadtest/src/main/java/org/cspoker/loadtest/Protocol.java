@@ -0,0 +1,110 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.loadtest;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.rmi.RemoteException;
+
+import org.cspoker.client.rmi.RemoteRMIServer;
+import org.cspoker.client.xml.sockets.RemoteBinarySocketServer;
+import org.cspoker.client.xml.sockets.RemoteSocketServer;
+import org.cspoker.common.CSPokerServer;
+import org.cspoker.common.RemoteCSPokerServer;
+import org.cspoker.server.rmi.RMIServer;
+import org.cspoker.server.xml.sockets.SocketServer;
+
+/**
+ * The ways the synthetic clients can talk to the server. Servers and clients
+ * only ever use the loopback address.
+ */
+public enum Protocol {
+
+	/** XML requests and events over the socket server. */
+	XML {
+		@Override
+		public RemoteCSPokerServer connect(int port) {
+			return new RemoteSocketServer(HOST, port);
+		}
+
+		@Override
+		public void startServer(int port, CSPokerServer server)
+				throws RemoteException {
+			startSocketServer(port, server);
+		}
+	},
+
+	/** The binary framing of the socket server. */
+	BINARY {
+		@Override
+		public RemoteCSPokerServer connect(int port) {
+			return new RemoteBinarySocketServer(HOST, port);
+		}
+
+		@Override
+		public void startServer(int port, CSPokerServer server)
+				throws RemoteException {
+			startSocketServer(port, server);
+		}
+	},
+
+	RMI {
+		@Override
+		public RemoteCSPokerServer connect(int port) {
+			return new RemoteRMIServer(HOST, port);
+		}
+
+		@Override
+		public void startServer(int port, CSPokerServer server)
+				throws RemoteException {
+			// the stubs handed to the clients point at the loopback address
+			System.setProperty("java.rmi.server.hostname", HOST);
+			rmiServer = new RMIServer(port, server);
+			rmiServer.start();
+		}
+	};
+
+	public final static String HOST = "127.0.0.1";
+
+	// keeps the exported server from being collected, as RunCSPoker does
+	private static RMIServer rmiServer;
+
+	/**
+	 * Returns a server to log in to, listening on the given local port.
+	 */
+	public abstract RemoteCSPokerServer connect(int port);
+
+	/**
+	 * Starts a server for this protocol in this virtual machine, on the given
+	 * local port.
+	 */
+	public abstract void startServer(int port, CSPokerServer server)
+			throws RemoteException;
+
+	private static void startSocketServer(int port, CSPokerServer server)
+			throws RemoteException {
+		InetAddress loopback;
+		try {
+			loopback = InetAddress.getByName(HOST);
+		} catch (UnknownHostException e) {
+			throw new IllegalStateException(e);
+		}
+		new SocketServer(new InetSocketAddress(loopback, port), server,
+				Runtime.getRuntime().availableProcessors()).start();
+	}
+
+}
@@ -0,0 +1,51 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.loadtest;
+
+import java.util.Random;
+
+/**
+ * How a synthetic client plays when it is its turn.
+ */
+public enum Script {
+
+	/** Always checks or calls, so the deals go on forever. */
+	CALL {
+		@Override
+		Move next(Random random) {
+			return Move.CHECK_OR_CALL;
+		}
+	},
+
+	/** Mostly checks or calls, sometimes bets or raises, seldom folds. */
+	RANDOM {
+		@Override
+		Move next(Random random) {
+			int n = random.nextInt(10);
+			if (n < 7) {
+				return Move.CHECK_OR_CALL;
+			}
+			return n < 9 ? Move.BET_OR_RAISE : Move.FOLD;
+		}
+	};
+
+	enum Move {
+		CHECK_OR_CALL, BET_OR_RAISE, FOLD
+	}
+
+	abstract Move next(Random random);
+
+}
@@ -0,0 +1,185 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.loadtest;
+
+import java.rmi.RemoteException;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.security.auth.login.LoginException;
+
+import org.apache.log4j.Logger;
+import org.cspoker.common.RemoteCSPokerServer;
+import org.cspoker.common.api.lobby.context.RemoteLobbyContext;
+import org.cspoker.common.api.lobby.holdemtable.context.RemoteHoldemTableContext;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEventWrapper;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.context.RemoteHoldemPlayerContext;
+import org.cspoker.common.api.lobby.holdemtable.listener.UniversalTableListener;
+import org.cspoker.common.api.lobby.listener.DefaultLobbyListener;
+import org.cspoker.common.api.shared.context.RemoteServerContext;
+import org.cspoker.common.api.shared.event.ServerEvent;
+import org.cspoker.common.api.shared.exception.IllegalActionException;
+import org.cspoker.common.api.shared.listener.ServerEventListener;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.TableId;
+import org.cspoker.loadtest.Script.Move;
+
+/**
+ * A player that joins one table, sits in and acts whenever it is its turn.
+ * Actions block until the server replies, so they run on a shared executor
+ * rather than on the thread that delivers the events.
+ */
+class SyntheticClient implements ServerEventListener {
+
+	private final static Logger logger = Logger.getLogger(SyntheticClient.class);
+
+	final static String PASSWORD = "test";
+
+	private final String name;
+
+	private final RemoteCSPokerServer server;
+
+	private final Script script;
+
+	private final int raise;
+
+	private final long thinkTime;
+
+	private final ScheduledExecutorService executor;
+
+	private final LoadReport report;
+
+	private final Random random = new Random();
+
+	// whether it is our turn and no action was scheduled yet
+	private final AtomicBoolean turn = new AtomicBoolean();
+
+	private volatile PlayerId id;
+
+	private volatile RemoteHoldemPlayerContext playerContext;
+
+	private final Runnable act = new Runnable() {
+		public void run() {
+			act();
+		}
+	};
+
+	SyntheticClient(String name, RemoteCSPokerServer server, Script script,
+			int raise, long thinkTime, ScheduledExecutorService executor,
+			LoadReport report) {
+		this.name = name;
+		this.server = server;
+		this.script = script;
+		this.raise = raise;
+		this.thinkTime = thinkTime;
+		this.executor = executor;
+		this.report = report;
+	}
+
+	/**
+	 * Logs in, joins the given table and sits in with the given buy-in.
+	 */
+	void connect(TableId tableId, int buyIn) throws RemoteException,
+			LoginException, IllegalActionException {
+		RemoteServerContext serverContext = server.login(name, PASSWORD);
+		id = serverContext.getAccountContext().getPlayerID();
+		RemoteLobbyContext lobby = serverContext
+				.getLobbyContext(new DefaultLobbyListener());
+		UniversalTableListener listener = new UniversalTableListener(this,
+				tableId);
+		RemoteHoldemTableContext tableContext = lobby.joinHoldemTable(tableId,
+				listener);
+		// the first turn may come in before the reply to the sit in
+		playerContext = tableContext.sitIn(buyIn, listener);
+		scheduleTurn();
+	}
+
+	public void onServerEvent(ServerEvent event) {
+		report.eventReceived();
+		if (!(event instanceof HoldemTableTreeEventWrapper)) {
+			return;
+		}
+		HoldemTableTreeEvent tableEvent = ((HoldemTableTreeEventWrapper) event)
+				.getEvent();
+		if (tableEvent instanceof NextPlayerEvent
+				&& ((NextPlayerEvent) tableEvent).getPlayerId().equals(id)) {
+			turn.set(true);
+			scheduleTurn();
+		}
+	}
+
+	private void scheduleTurn() {
+		if (playerContext != null && turn.getAndSet(false)) {
+			executor.schedule(act, thinkTime, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void act() {
+		Move move = script.next(random);
+		if (!act(move) && move == Move.BET_OR_RAISE) {
+			// e.g. the betting is capped, it is still our turn
+			act(Move.CHECK_OR_CALL);
+		}
+	}
+
+	/**
+	 * Performs the given move and records how long the server took to reply.
+	 * 
+	 * @return whether the move was accepted
+	 */
+	private boolean act(Move move) {
+		long start = System.nanoTime();
+		try {
+			perform(move);
+			report.actionPerformed(System.nanoTime() - start);
+			return true;
+		} catch (IllegalActionException e) {
+			report.actionFailed();
+			if (logger.isDebugEnabled()) {
+				logger.debug(name + " could not " + move + ": " + e.getMessage());
+			}
+		} catch (RemoteException e) {
+			report.actionFailed();
+			logger.warn(name + " could not " + move + ": " + e.getMessage());
+		}
+		return false;
+	}
+
+	private void perform(Move move) throws RemoteException,
+			IllegalActionException {
+		switch (move) {
+		case CHECK_OR_CALL:
+			playerContext.checkOrCall();
+			break;
+		case BET_OR_RAISE:
+			playerContext.betOrRaise(raise);
+			break;
+		case FOLD:
+			playerContext.fold();
+			break;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
@@ -9,6 +9,7 @@ import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
 import org.cspoker.server.embedded.account.ExtendedAccountContext;
 import org.cspoker.server.embedded.lobby.Lobby;
 
@@ -35,6 +36,10 @@ public class LobbyContextImpl
 		return lobby.getTableList();
 	}
 	
+	public TableListDelta getTableListChanges(long sinceVersion) {
+		return lobby.getTableListChanges(sinceVersion);
+	}
+	
 	public HoldemTableContext joinHoldemTable(TableId tableId, HoldemTableListener holdemTableListener)
 			throws IllegalActionException {
 		return lobby.joinTable(tableId, holdemTableListener, accountContext);
@@ -26,6 +26,7 @@ import org.apache.log4j.Logger;
 import org.cspoker.common.api.shared.exception.IllegalActionException;
 import org.cspoker.common.elements.cards.Card;
 import org.cspoker.common.elements.cards.Deck;
+import org.cspoker.common.elements.cards.DeckPool;
 import org.cspoker.common.elements.chips.MutablePots;
 import org.cspoker.common.elements.player.MutableSeatedPlayer;
 import org.cspoker.common.elements.table.SeatId;
@@ -203,12 +204,12 @@ public class Game {
 				deck = table.getPreviousDeck();
 				table.setNbDeckIterations(table.getNbDeckIterations()+1);
 			}else{
-				deck = Deck.createTruelyRandomDeck();
+				deck = DeckPool.getInstance().take();
 				table.setPreviousDeck(deck);
 				table.setNbDeckIterations(1);
 			}
 		}else{
-			deck = Deck.createTruelyRandomDeck();
+			deck = DeckPool.getInstance().take();
 		}
 	}
 	
@@ -33,7 +33,6 @@ import org.cspoker.common.elements.player.PlayerId;
 import org.cspoker.common.elements.player.SeatedPlayer;
 import org.cspoker.common.elements.table.DetailedHoldemTable;
 import org.cspoker.common.elements.table.SeatId;
-import org.cspoker.common.util.threading.SingleThreadRequestExecutor;
 import org.cspoker.server.embedded.HoldemPlayerContextImpl;
 import org.cspoker.server.embedded.elements.table.SeatTakenException;
 import org.cspoker.server.embedded.elements.table.ServerTable;
@@ -343,7 +342,7 @@ extends TableState {
 		long delay = game.getTableConfiguration().getDelay();
 		if (delay > 0) {
 			delay = delay * (Math.min(game.getNbLastShowdown() + 1, 5));
-			SingleThreadRequestExecutor.getInstance().schedule(new AutoDealHandler(), delay, TimeUnit.MILLISECONDS);
+			mediatingTable.schedule(new AutoDealHandler(), delay, TimeUnit.MILLISECONDS);
 			logger.debug("There were " + game.getNbLastShowdown()
 					+ " showdown players. Auto-deal handler submitted with a delay of " + delay + " ms.");
 		} else {
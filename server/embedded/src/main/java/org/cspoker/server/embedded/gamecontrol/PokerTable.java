@@ -22,7 +22,6 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Logger;
@@ -46,7 +45,9 @@ import org.cspoker.common.api.lobby.holdemtable.event.SitOutEvent;
 import org.cspoker.common.api.lobby.holdemtable.event.WinnerEvent;
 import org.cspoker.common.api.lobby.holdemtable.holdemplayer.context.HoldemPlayerContext;
 import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.NewPocketCardsEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.listener.AsynchronousHoldemPlayerListener;
 import org.cspoker.common.api.lobby.holdemtable.holdemplayer.listener.HoldemPlayerListener;
+import org.cspoker.common.api.lobby.holdemtable.listener.AsynchronousHoldemTableListener;
 import org.cspoker.common.api.lobby.holdemtable.listener.HoldemTableListener;
 import org.cspoker.common.api.shared.exception.IllegalActionException;
 import org.cspoker.common.elements.player.MutablePlayer;
@@ -57,11 +58,15 @@ import org.cspoker.common.elements.table.SeatId;
 import org.cspoker.common.elements.table.Table;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
-import org.cspoker.common.util.threading.SingleThreadRequestExecutor;
+import org.cspoker.common.util.metrics.Histogram;
+import org.cspoker.common.util.threading.BoundedSequencePreservingExecutor;
+import org.cspoker.common.util.threading.GlobalThreadPool;
+import org.cspoker.common.util.threading.HashedWheelTimer.Timeout;
 import org.cspoker.server.embedded.HoldemTableContextImpl;
 import org.cspoker.server.embedded.account.ExtendedAccountContext;
 import org.cspoker.server.embedded.chat.ChatServer;
 import org.cspoker.server.embedded.chat.room.TableChatRoom;
+import org.cspoker.server.embedded.lobby.Lobby;
 
 /**
  * A class of game mediators to decouple the game control from all users:
@@ -76,6 +81,17 @@ public class PokerTable {
 	
 	private static Logger logger = Logger.getLogger(PokerTable.class);
 	
+	/**
+	 * The system property with the number of events that may wait for the
+	 * listeners of a joined player before they are cut off.
+	 */
+	public final static String LISTENER_CAPACITY_PROPERTY = "cspoker.table.listener.capacity";
+	
+	public final static int DEFAULT_LISTENER_CAPACITY = 1024;
+	
+	private final static int listenerCapacity = Integer.getInteger(LISTENER_CAPACITY_PROPERTY,
+			DEFAULT_LISTENER_CAPACITY);
+	
 	private final TableId tableId;
 	
 	private String name;
@@ -91,6 +107,36 @@ public class PokerTable {
 	
 	private ConcurrentHashMap<PlayerId, HoldemPlayerListener> sitInPlayers = new ConcurrentHashMap<PlayerId, HoldemPlayerListener>();
 	
+	/**
+	 * The queue of events for the listeners of each joined player. The table
+	 * and player listeners of a player share a queue, so pocket cards never
+	 * overtake the deal they belong to.
+	 */
+	private ConcurrentHashMap<PlayerId, BoundedSequencePreservingExecutor> eventQueues = new ConcurrentHashMap<PlayerId, BoundedSequencePreservingExecutor>();
+	
+	/**
+	 * The mailbox that runs all actions and timeouts of this table in the
+	 * actor mode, <code>null</code> if they run on the calling thread.
+	 */
+	private final TableMailbox mailbox;
+	
+	/**
+	 * The time from an action reaching a table until its events are handed to
+	 * the listeners, for all tables, in nanoseconds.
+	 */
+	private final static Histogram allActionTimes = new Histogram();
+	
+	/**
+	 * The time to hand an event to all listeners of a table, for all tables,
+	 * in nanoseconds.
+	 */
+	private final static Histogram allFanOutTimes = new Histogram();
+	
+	// the actions of a table seldom run at the same time, one stripe will do
+	private final Histogram actionTimes = new Histogram(1);
+	
+	private final Histogram fanOutTimes = new Histogram(1);
+	
 	/***************************************************************************
 	 * Constructor
 	 **************************************************************************/
@@ -110,6 +156,148 @@ public class PokerTable {
 		tableState = new WaitingTableState(this);
 		this.creator = creator;
 		this.chatRoom = chatServer.addTableChatRoom(this);
+		this.mailbox = TableMailbox.isEnabled() ? new TableMailbox() : null;
+	}
+	
+	/***************************************************************************
+	 * Mailbox
+	 **************************************************************************/
+	
+	/*
+	 * Without a mailbox, actions and timeouts run with the lock of this table
+	 * held. The table state publishes its events while holding its own lock,
+	 * and the publish methods lock this table, so this lock has to be taken
+	 * first to avoid a deadlock.
+	 */
+	
+	private <T> T perform(TableMailbox.Action<T> action)
+			throws IllegalActionException {
+		long start = System.nanoTime();
+		try {
+			if (mailbox == null) {
+				synchronized (this) {
+					return action.perform();
+				}
+			}
+			return mailbox.call(action);
+		} finally {
+			performed(start);
+		}
+	}
+	
+	private void perform(final Runnable task) {
+		long start = System.nanoTime();
+		try {
+			if (mailbox == null) {
+				synchronized (this) {
+					task.run();
+				}
+				return;
+			}
+			mailbox.call(new TableMailbox.Action<Void>() {
+				public Void perform() {
+					task.run();
+					return null;
+				}
+			});
+		} catch (IllegalActionException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			performed(start);
+		}
+	}
+	
+	/**
+	 * Runs the given task once the given delay has passed, on the mailbox of
+	 * this table in the actor mode.
+	 */
+	Timeout schedule(final Runnable task, long delay, TimeUnit unit) {
+		TableTimer timer = TableTimer.getInstance();
+		if (mailbox != null) {
+			return timer.schedule(mailbox, task, delay, unit);
+		}
+		return timer.schedule(tableId, new Runnable() {
+			public void run() {
+				synchronized (PokerTable.this) {
+					task.run();
+				}
+			}
+			
+			@Override
+			public String toString() {
+				return task.toString();
+			}
+		}, delay, unit);
+	}
+	
+	/**
+	 * Returns whether the actions of this table run on a mailbox.
+	 */
+	public boolean isActor() {
+		return mailbox != null;
+	}
+	
+	/**
+	 * Returns the number of actions and timeouts waiting for this table, 0
+	 * when it is not an actor.
+	 */
+	public int getMailboxBacklog() {
+		return mailbox == null ? 0 : mailbox.getBacklog();
+	}
+	
+	/***************************************************************************
+	 * Metrics
+	 **************************************************************************/
+	
+	private void performed(long start) {
+		long time = System.nanoTime() - start;
+		actionTimes.record(time);
+		allActionTimes.record(time);
+	}
+	
+	private void fannedOut(long start) {
+		long time = System.nanoTime() - start;
+		fanOutTimes.record(time);
+		allFanOutTimes.record(time);
+	}
+	
+	/**
+	 * Returns the times from an action reaching this table, including the
+	 * wait for its mailbox, until its events were handed to the listeners,
+	 * in nanoseconds.
+	 */
+	public Histogram getActionTimes() {
+		return actionTimes;
+	}
+	
+	/**
+	 * Returns the times to hand an event to all listeners of this table, in
+	 * nanoseconds.
+	 */
+	public Histogram getFanOutTimes() {
+		return fanOutTimes;
+	}
+	
+	/**
+	 * Returns the action times of all tables.
+	 */
+	public static Histogram getAllActionTimes() {
+		return allActionTimes;
+	}
+	
+	/**
+	 * Returns the fan-out times of all tables.
+	 */
+	public static Histogram getAllFanOutTimes() {
+		return allFanOutTimes;
+	}
+	
+	public int getNbJoinedPlayers() {
+		return joinedPlayers.size();
+	}
+	
+	public int getNbSeatedPlayers() {
+		return tableState.getMutableSeatedPlayers().size();
 	}
 	
 	/***************************************************************************
@@ -189,7 +377,7 @@ public class PokerTable {
 	 * @return A short description for this table: #id and name.
 	 */
 	public Table getShortTableInformation() {
-		return new Table(getTableId(), getName());
+		return new Table(getTableId(), getName(), getNbSeatedPlayers());
 	}
 	
 	public DetailedHoldemTable getTableInformation() {
@@ -214,7 +402,17 @@ public class PokerTable {
 		return true;
 	}
 	
-	public synchronized void startGame()
+	public void startGame()
+			throws IllegalActionException {
+		perform(new TableMailbox.Action<Void>() {
+			public Void perform() throws IllegalActionException {
+				doStartGame();
+				return null;
+			}
+		});
+	}
+	
+	private synchronized void doStartGame()
 			throws IllegalActionException {
 		if(configuration.isAutoDeal())
 			throw new IllegalActionException("This functionality is not available in auto-deal games.");
@@ -239,10 +437,15 @@ public class PokerTable {
 	 * @throws IllegalActionException [must] The action performed is not a valid
 	 *             action.
 	 */
-	public void allIn(MutableSeatedPlayer player)
+	public void allIn(final MutableSeatedPlayer player)
 			throws IllegalActionException {
-		tableState.allIn(player);
-		cancelOldTimeOut();
+		perform(new TableMailbox.Action<Void>() {
+			public Void perform() throws IllegalActionException {
+				tableState.allIn(player);
+				cancelOldTimeOut();
+				return null;
+			}
+		});
 	}
 	
 	/**
@@ -255,10 +458,15 @@ public class PokerTable {
 	 * @throws IllegalActionException [must] The action performed is not a valid
 	 *             action.
 	 */
-	public void bet(MutableSeatedPlayer player, int amount)
+	public void bet(final MutableSeatedPlayer player, final int amount)
 			throws IllegalActionException {
-		tableState.bet(player, amount);
-		cancelOldTimeOut();
+		perform(new TableMailbox.Action<Void>() {
+			public Void perform() throws IllegalActionException {
+				tableState.bet(player, amount);
+				cancelOldTimeOut();
+				return null;
+			}
+		});
 	}
 	
 	/**
@@ -271,10 +479,15 @@ public class PokerTable {
 	 * @throws IllegalActionException [must] The action performed is not a valid
 	 *             action.
 	 */
-	public void call(MutableSeatedPlayer player)
+	public void call(final MutableSeatedPlayer player)
 			throws IllegalActionException {
-		tableState.call(player);
-		cancelOldTimeOut();
+		perform(new TableMailbox.Action<Void>() {
+			public Void perform() throws IllegalActionException {
+				tableState.call(player);
+				cancelOldTimeOut();
+				return null;
+			}
+		});
 	}
 	
 	/**
@@ -287,10 +500,15 @@ public class PokerTable {
 	 * @throws IllegalActionException [must] The action performed is not a valid
 	 *             action.
 	 */
-	public void check(MutableSeatedPlayer player)
+	public void check(final MutableSeatedPlayer player)
 			throws IllegalActionException {
-		tableState.check(player);
-		cancelOldTimeOut();
+		perform(new TableMailbox.Action<Void>() {
+			public Void perform() throws IllegalActionException {
+				tableState.check(player);
+				cancelOldTimeOut();
+				return null;
+			}
+		});
 	}
 	
 	/**
@@ -303,10 +521,15 @@ public class PokerTable {
 	 * @throws IllegalActionException [must] The action performed is not a valid
 	 *             action.
 	 */
-	public void fold(MutableSeatedPlayer player)
+	public void fold(final MutableSeatedPlayer player)
 			throws IllegalActionException {
-		tableState.fold(player);
-		cancelOldTimeOut();
+		perform(new TableMailbox.Action<Void>() {
+			public Void perform() throws IllegalActionException {
+				tableState.fold(player);
+				cancelOldTimeOut();
+				return null;
+			}
+		});
 	}
 	
 	/**
@@ -319,27 +542,111 @@ public class PokerTable {
 	 * @throws IllegalActionException [must] The action performed is not a valid
 	 *             action.
 	 */
-	public void raise(MutableSeatedPlayer player, int amount)
+	public void raise(final MutableSeatedPlayer player, final int amount)
 			throws IllegalActionException {
-		tableState.raise(player, amount);
-		cancelOldTimeOut();
+		perform(new TableMailbox.Action<Void>() {
+			public Void perform() throws IllegalActionException {
+				tableState.raise(player, amount);
+				cancelOldTimeOut();
+				return null;
+			}
+		});
 	}
 	
-	public HoldemTableContext joinTable(MutablePlayer player, HoldemTableListener holdemTableListener)
+	public HoldemTableContext joinTable(final MutablePlayer player, final HoldemTableListener holdemTableListener)
 			throws IllegalActionException {
 		if (player == null)
 			throw new IllegalArgumentException("The given player should be effective.");
 		if (holdemTableListener == null)
 			throw new IllegalArgumentException("The given holdem table listener should be effective.");
-		
-		if (joinedPlayers.putIfAbsent(player.getId(), holdemTableListener) != null)
+		return perform(new TableMailbox.Action<HoldemTableContext>() {
+			public HoldemTableContext perform() throws IllegalActionException {
+				return doJoinTable(player, holdemTableListener);
+			}
+		});
+	}
+	
+	private HoldemTableContext doJoinTable(MutablePlayer player, HoldemTableListener holdemTableListener)
+			throws IllegalActionException {
+		BoundedSequencePreservingExecutor eventQueue = newEventQueue(player.getId());
+		HoldemTableListener asyncListener = new AsynchronousHoldemTableListener(eventQueue, holdemTableListener);
+		if (joinedPlayers.putIfAbsent(player.getId(), asyncListener) != null)
 			throw new IllegalActionException(player.toString() + " is already joined at this table.");
+		eventQueues.put(player.getId(), eventQueue);
 		
 		publishJoinTableEvent(new JoinTableEvent(player.getId()));
-		subscribeHoldemTableListener(holdemTableListener);
+		subscribeHoldemTableListener(asyncListener);
 		return new HoldemTableContextImpl(player, this);
 	}
 	
+	/**
+	 * Listeners of players are called on the global thread pool, one event
+	 * at a time, so a slow client never holds up the game. A player whose
+	 * listeners fall too far behind leaves the table.
+	 */
+	private BoundedSequencePreservingExecutor newEventQueue(final PlayerId id) {
+		return new BoundedSequencePreservingExecutor("Listeners of " + id + " at " + tableId,
+				GlobalThreadPool.getInstance(), listenerCapacity) {
+			
+			@Override
+			protected void overflowed() {
+				detachListeners(id, this);
+			}
+		};
+	}
+	
+	/**
+	 * Stops the events for the listeners of the given player and makes the
+	 * player leave the table. The others are told, and the client of the
+	 * player can join again to get the table from scratch.
+	 */
+	private void detachListeners(final PlayerId id, final BoundedSequencePreservingExecutor eventQueue) {
+		HoldemTableListener tableListener = joinedPlayers.get(id);
+		if (tableListener != null) {
+			unsubscribeHoldemTableListener(tableListener);
+		}
+		HoldemPlayerListener playerListener = sitInPlayers.get(id);
+		if (playerListener != null) {
+			unsubscribeHoldemPlayerListener(id, playerListener);
+		}
+		PokerTable.logger.error("The listeners of " + id + " at " + tableId
+				+ " fell too far behind, the player leaves the table.");
+		// the queue overflows while an event is published, leave after that
+		schedule(new Runnable() {
+			public void run() {
+				// unless the player left and joined again in the meantime
+				if (eventQueues.get(id) == eventQueue) {
+					doLeaveTable(id);
+				}
+			}
+			
+			@Override
+			public String toString() {
+				return "Detach " + id + " from " + tableId;
+			}
+		}, 0, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Returns the queue of events for the listeners of the given player, or
+	 * <code>null</code> if the player did not join this table.
+	 */
+	public BoundedSequencePreservingExecutor getEventQueue(PlayerId id) {
+		return eventQueues.get(id);
+	}
+	
+	/**
+	 * Returns how long the oldest event that waits for the listeners of a
+	 * player at this table has been waiting, in milliseconds.
+	 */
+	public long getMaxListenerLag() {
+		long max = 0;
+		for (BoundedSequencePreservingExecutor eventQueue : eventQueues.values()) {
+			max = Math.max(max, eventQueue.getLag());
+		}
+		return max;
+	}
+	
 	public boolean hasAsJoinedPlayer(MutablePlayer player) {
 		return player == null ? false : hasAsJoinedPlayer(player.getId());
 	}
@@ -348,22 +655,32 @@ public class PokerTable {
 		return id == null ? false : joinedPlayers.containsKey(id);
 	}
 	
-	public void leaveTable(MutablePlayer player) {
+	public void leaveTable(final MutablePlayer player) {
 		if (player == null)
 			throw new IllegalArgumentException("The given player should be effective.");
-		HoldemPlayerListener playerListener = sitInPlayers.get(player.getId());
-		HoldemTableListener tableListener = joinedPlayers.remove(player.getId());
+		perform(new Runnable() {
+			public void run() {
+				doLeaveTable(player.getId());
+			}
+		});
+	}
+	
+	private void doLeaveTable(PlayerId id) {
+		HoldemPlayerListener playerListener = sitInPlayers.get(id);
+		HoldemTableListener tableListener = joinedPlayers.remove(id);
+		// the events already queued are still delivered
+		eventQueues.remove(id);
 		if (playerListener != null) {
-			tableState.stopPlaying(player.getId());
-			unsubscribeHoldemPlayerListener(player.getId(), playerListener);
+			tableState.stopPlaying(id);
+			unsubscribeHoldemPlayerListener(id, playerListener);
 		}
 		
 		if (tableListener != null) {
 			unsubscribeHoldemTableListener(tableListener);
 		}
 
-                publishLeaveTableEvent( new LeaveTableEvent( player.getId() ) );
-		
+                publishLeaveTableEvent( new LeaveTableEvent( id ) );
+		Lobby.getInstance().updateTable(this);
 	}
 	
 	/**
@@ -375,13 +692,29 @@ public class PokerTable {
 	 * @return The {@link HoldemPlayerContext}
 	 * @throws IllegalActionException
 	 */
-	public synchronized HoldemPlayerContext sitIn(SeatId seatId, int buyIn, MutablePlayer player,
+	public HoldemPlayerContext sitIn(final SeatId seatId, final int buyIn, final MutablePlayer player,
+			final HoldemPlayerListener holdemPlayerListener)
+			throws IllegalActionException {
+		return perform(new TableMailbox.Action<HoldemPlayerContext>() {
+			public HoldemPlayerContext perform() throws IllegalActionException {
+				return doSitIn(seatId, buyIn, player, holdemPlayerListener);
+			}
+		});
+	}
+	
+	private synchronized HoldemPlayerContext doSitIn(SeatId seatId, int buyIn, MutablePlayer player,
 			HoldemPlayerListener holdemPlayerListener)
 			throws IllegalActionException {
+		// the player listener shares the queue of the table listener
+		BoundedSequencePreservingExecutor eventQueue = eventQueues.get(player.getId());
+		if (eventQueue == null)
+			throw new IllegalActionException(player.toString() + " should join this table before sitting in.");
 		try {
 			HoldemPlayerContext toReturn = tableState.sitIn(seatId, new MutableSeatedPlayer(player, buyIn, true));
-			sitInPlayers.put(player.getId(), holdemPlayerListener);
-			subscribeHoldemPlayerListener(player.getId(), holdemPlayerListener);
+			HoldemPlayerListener asyncListener = new AsynchronousHoldemPlayerListener(eventQueue, holdemPlayerListener);
+			sitInPlayers.put(player.getId(), asyncListener);
+			subscribeHoldemPlayerListener(player.getId(), asyncListener);
+			Lobby.getInstance().updateTable(this);
 			if (sitInPlayers.size() == 2 && configuration.isAutoDeal() && !tableState.isPlaying()) {
 					tableState = tableState.getNextState();
 					tableState.deal();
@@ -398,19 +731,36 @@ public class PokerTable {
 	 * Calls {@link #sitIn(SeatId, int, MutablePlayer, HoldemPlayerListener)}
 	 * with SeatId <code>null</code>
 	 */
-	public synchronized HoldemPlayerContext sitIn(int buyIn, MutablePlayer player,
+	public HoldemPlayerContext sitIn(int buyIn, MutablePlayer player,
 			HoldemPlayerListener holdemPlayerListener)
 			throws IllegalActionException {
 		return sitIn(null, buyIn, player, holdemPlayerListener);
 	}
 	
-	public synchronized void sitOut(MutableSeatedPlayer player) {
+	public void sitOut(final MutableSeatedPlayer player) {
+		perform(new Runnable() {
+			public void run() {
+				doSitOut(player);
+			}
+		});
+	}
+	
+	private synchronized void doSitOut(MutableSeatedPlayer player) {
 		tableState.sitOut(player);
 		unsubscribeHoldemPlayerListener(player.getId(), sitInPlayers.get(player.getId()));
 		sitInPlayers.remove(player.getId());
+		Lobby.getInstance().updateTable(this);
+	}
+	
+	public void stopPlaying(final MutableSeatedPlayer player){
+		perform(new Runnable() {
+			public void run() {
+				doStopPlaying(player);
+			}
+		});
 	}
 	
-	public synchronized void stopPlaying(MutableSeatedPlayer player){
+	private synchronized void doStopPlaying(MutableSeatedPlayer player){
 		tableState.stopPlaying(player.getId());
 	}
 	
@@ -429,7 +779,10 @@ public class PokerTable {
 	private List<HoldemTableListener> holdemTableListeners = new CopyOnWriteArrayList<HoldemTableListener>();
 	
 	/**
-	 * Subscribe the given holdem table listener for holdem table events.
+	 * Subscribe the given holdem table listener for holdem table events. The
+	 * listener is called on the thread that publishes the event, listeners of
+	 * players are subscribed through
+	 * {@link #joinTable(MutablePlayer, HoldemTableListener)} instead.
 	 * 
 	 * @param listener The listener to subscribe.
 	 */
@@ -452,9 +805,11 @@ public class PokerTable {
 	 * onFold() method.
 	 */
 	public synchronized void publishFoldEvent(FoldEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onFold(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -463,9 +818,11 @@ public class PokerTable {
 	 * onRaise() method.
 	 */
 	public synchronized void publishRaiseEvent(RaiseEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onRaise(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -474,9 +831,11 @@ public class PokerTable {
 	 * onCheck() method.
 	 */
 	public synchronized void publishCheckEvent(CheckEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onCheck(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -485,9 +844,11 @@ public class PokerTable {
 	 * onCall() method.
 	 */
 	public synchronized void publishCallEvent(CallEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onCall(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -496,9 +857,11 @@ public class PokerTable {
 	 * method.
 	 */
 	public synchronized void publishBetEvent(BetEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onBet(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -507,9 +870,11 @@ public class PokerTable {
 	 * method.
 	 */
 	public synchronized void publishAllInEvent(AllInEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onAllIn(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -518,9 +883,11 @@ public class PokerTable {
 	 * their onBlind() method.
 	 */
 	public synchronized void publishBlindEvent(BlindEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onBlind(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -530,9 +897,11 @@ public class PokerTable {
 	 */
 	public synchronized void publishNewRoundEvent(NewRoundEvent event) {
 		PokerTable.logger.debug(event);
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onNewRound(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -541,9 +910,11 @@ public class PokerTable {
 	 * calling their onNewCommonCardsEvent() method.
 	 */
 	public synchronized void publishNewCommonCardsEvent(NewCommunityCardsEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onNewCommunityCards(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -552,9 +923,13 @@ public class PokerTable {
 	 * onNewDealEvent() method.
 	 */
 	public synchronized void publishNewDealEvent(NewDealEvent event) {
+		// players that stopped playing leave their seat at a new deal
+		Lobby.getInstance().updateTable(this);
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onNewDeal(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -565,9 +940,11 @@ public class PokerTable {
 	public synchronized void publishNextPlayerEvent(NextPlayerEvent event) {
 		cancelOldTimeOut();
 		submitTimeOutHandler(event.getPlayerId());
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onNextPlayer(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -576,9 +953,11 @@ public class PokerTable {
 	 * method.
 	 */
 	public synchronized void publishWinnerEvent(WinnerEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onWinner(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -587,9 +966,11 @@ public class PokerTable {
 	 * onShowHandEvent() method.
 	 */
 	public synchronized void publishShowHandEvent(ShowHandEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onShowHand(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -598,9 +979,11 @@ public class PokerTable {
 	 * updated by calling their onJoinTable() method.
 	 */
 	public void publishJoinTableEvent(JoinTableEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onJoinTable(event);
 		}
+		fannedOut(start);
 	}
 	
 	/**
@@ -609,21 +992,27 @@ public class PokerTable {
 	 * by calling their onLeaveTable() method.
 	 */
 	public void publishLeaveTableEvent(LeaveTableEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onLeaveTable(event);
 		}
+		fannedOut(start);
 	}
 	
 	public synchronized void publishSitInEvent(SitInEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onSitIn(event);
 		}
+		fannedOut(start);
 	}
 	
 	public synchronized void publishSitOutEvent(SitOutEvent event) {
+		long start = System.nanoTime();
 		for (HoldemTableListener listener : holdemTableListeners) {
 			listener.onSitOut(event);
 		}
+		fannedOut(start);
 	}
 	
 	/***************************************************************************
@@ -714,22 +1103,22 @@ public class PokerTable {
                 oldFuture = currentFuture;
                 cancelOldTimeOut();
 		currentTimeOut = new PlayerActionTimeOut(player);
-		currentFuture = SingleThreadRequestExecutor.getInstance().schedule(currentTimeOut, 30, TimeUnit.SECONDS);
+		currentFuture = schedule(currentTimeOut, 30, TimeUnit.SECONDS);
 		PokerTable.logger.debug("player " + player + " action time out submitted.");
 	}
 	
 	private PlayerActionTimeOut currentTimeOut;
 	
-	private ScheduledFuture<?> currentFuture;
+	private Timeout currentFuture;
 	
-	private ScheduledFuture<?> oldFuture;
+	private Timeout oldFuture;
 	
 	private synchronized void cancelOldTimeOut() {
 		if(currentTimeOut!=null){
 			currentTimeOut.cancel();
 		}
 		if (oldFuture != null) {
-			oldFuture.cancel(false);
+			oldFuture.cancel();
 		}
 	}
 	
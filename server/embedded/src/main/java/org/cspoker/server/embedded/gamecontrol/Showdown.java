@@ -54,6 +54,11 @@ public class Showdown {
 
 	private final Map<PlayerId, MutableWinner> winnersMap = new HashMap<PlayerId, MutableWinner>();
 
+	/**
+	 * The ranked hands of the players, so they are ranked once for all pots.
+	 */
+	private final Map<PlayerId, MutableShowdownPlayer> showdownPlayersMap = new HashMap<PlayerId, MutableShowdownPlayer>();
+
 	/**
 	 * Construct a new showdown with given game and pots.
 	 * 
@@ -213,8 +218,7 @@ public class Showdown {
 	private List<MutableShowdownPlayer> getShowdownPlayersFromPot(MutablePot pot) {
 		List<MutableShowdownPlayer> showDownPlayers = new ArrayList<MutableShowdownPlayer>();
 		for (MutableSeatedPlayer player : pot.getContributors()) {
-			showDownPlayers.add(new MutableShowdownPlayer(player,
-					getBestFiveCardHand(player)));
+			showDownPlayers.add(getShowdownPlayer(player));
 		}
 		if(logger.isInfoEnabled()){
 			for(MutableShowdownPlayer player:showDownPlayers){
@@ -227,26 +231,31 @@ public class Showdown {
 	private List<MutableShowdownPlayer> getShowdownPlayers(Collection<MutableSeatedPlayer> players) {
 		List<MutableShowdownPlayer> showDownPlayers = new ArrayList<MutableShowdownPlayer>();
 		for (MutableSeatedPlayer player : players) {
-			showDownPlayers.add(new MutableShowdownPlayer(player,
-					getBestFiveCardHand(player)));
+			showDownPlayers.add(getShowdownPlayer(player));
 		}
 		return showDownPlayers;
 	}
 
+	private MutableShowdownPlayer getShowdownPlayer(MutableSeatedPlayer player) {
+		MutableShowdownPlayer showdownPlayer = showdownPlayersMap.get(player.getId());
+		if (showdownPlayer == null) {
+			showdownPlayer = new MutableShowdownPlayer(player, getHand(player));
+			showdownPlayersMap.put(player.getId(), showdownPlayer);
+		}
+		return showdownPlayer;
+	}
+
 	/**
-	 * Get the best hand for the given player in the current game.
+	 * Get the hand of the given player in the current game.
 	 * 
 	 * @param player
-	 *            The player to determine the best hand for.
-	 * @return The best hand that can be made with both common and pocket cards.
-	 * 
-	 * @note By using this method, the recalculation of finding the best 5 card
-	 *       hand is omitted.
+	 *            The player to get the hand of.
+	 * @return The hand of both common and pocket cards.
 	 */
-	private Hand getBestFiveCardHand(MutableSeatedPlayer player) {
+	private Hand getHand(MutableSeatedPlayer player) {
 		List<Card> cards = new ArrayList<Card>(7);
 		cards.addAll(getGame().getCommunityCards());
 		cards.addAll(player.getPocketCards());
-		return new Hand(cards).getBestFive();
+		return new Hand(cards);
 	}
 }
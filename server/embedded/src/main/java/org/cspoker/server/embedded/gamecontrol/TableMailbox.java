@@ -0,0 +1,166 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.embedded.gamecontrol;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.cspoker.common.api.shared.exception.IllegalActionException;
+import org.cspoker.common.util.threading.LoggingThreadFactory;
+import org.cspoker.common.util.threading.SequencePreservingExecutor;
+
+/**
+ * The mailbox of a table in the actor mode: every action on the table and
+ * every timeout of the table runs as a task on the mailbox, one at a time,
+ * on a fixed pool shared by all tables. The table monitors are then never
+ * contended, the request threads only wait for the outcome of their own
+ * action.
+ * 
+ * The actor mode is enabled with the {@link #PROPERTY} system property when
+ * the table is created.
+ */
+@ThreadSafe
+public final class TableMailbox implements Executor {
+
+	public final static String PROPERTY = "cspoker.table.actors";
+
+	/**
+	 * The system property with the number of threads that run the mailboxes,
+	 * by default the number of processors.
+	 */
+	public final static String THREADS_PROPERTY = "cspoker.table.actors.threads";
+
+	public static boolean isEnabled() {
+		return Boolean.getBoolean(PROPERTY);
+	}
+
+	private static class PoolHolder {
+		private final static ExecutorService pool;
+		static {
+			int nbThreads = Math.max(1, Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime()
+					.availableProcessors()));
+			final ThreadFactory threadFactory = new LoggingThreadFactory("CSPoker-Table");
+			pool = new ThreadPoolExecutor(nbThreads, nbThreads, 0, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						public Thread newThread(Runnable r) {
+							Thread thread = threadFactory.newThread(r);
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+		}
+	}
+
+	/**
+	 * Something done on a table that may be refused.
+	 */
+	public static interface Action<T> {
+
+		T perform() throws IllegalActionException;
+
+	}
+
+	private final SequencePreservingExecutor mailbox = new SequencePreservingExecutor(PoolHolder.pool);
+
+	private final AtomicInteger backlog = new AtomicInteger();
+
+	// the thread that is running a task of this mailbox, if any
+	private volatile Thread owner;
+
+	/**
+	 * Runs the given task on this mailbox, after all tasks given before.
+	 */
+	public void execute(final Runnable command) {
+		backlog.incrementAndGet();
+		mailbox.execute(new Runnable() {
+			public void run() {
+				backlog.decrementAndGet();
+				owner = Thread.currentThread();
+				try {
+					command.run();
+				} finally {
+					owner = null;
+				}
+			}
+
+			@Override
+			public String toString() {
+				return command.toString();
+			}
+		});
+	}
+
+	/**
+	 * Performs the given action on this mailbox and waits for the outcome. An
+	 * action of a task of this mailbox is performed right away.
+	 */
+	public <T> T call(final Action<T> action) throws IllegalActionException {
+		if (owner == Thread.currentThread()) {
+			return action.perform();
+		}
+		FutureTask<T> task = new FutureTask<T>(new Callable<T>() {
+			public T call() throws IllegalActionException {
+				return action.perform();
+			}
+		});
+		execute(task);
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return task.get();
+				} catch (InterruptedException e) {
+					// the action is performed anyway, its outcome is needed
+					interrupted = true;
+				}
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IllegalActionException) {
+				throw (IllegalActionException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * The number of tasks waiting to run.
+	 */
+	public int getBacklog() {
+		return backlog.get();
+	}
+
+}
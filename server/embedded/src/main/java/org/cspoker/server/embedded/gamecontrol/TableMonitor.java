@@ -0,0 +1,95 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.embedded.gamecontrol;
+
+import static org.cspoker.common.util.metrics.MBeans.toMillis;
+
+/**
+ * Exposes the players, the queues and the latencies of a {@link PokerTable}.
+ */
+public class TableMonitor implements TableMonitorMBean {
+
+	private final PokerTable table;
+
+	public TableMonitor(PokerTable table) {
+		this.table = table;
+	}
+
+	public String getName() {
+		return table.getName();
+	}
+
+	public boolean isPlaying() {
+		return table.isPlaying();
+	}
+
+	public boolean isActor() {
+		return table.isActor();
+	}
+
+	public int getNbJoinedPlayers() {
+		return table.getNbJoinedPlayers();
+	}
+
+	public int getNbSeatedPlayers() {
+		return table.getNbSeatedPlayers();
+	}
+
+	public int getMailboxBacklog() {
+		return table.getMailboxBacklog();
+	}
+
+	public long getMaxListenerLag() {
+		return table.getMaxListenerLag();
+	}
+
+	public long getNbActions() {
+		return table.getActionTimes().getCount();
+	}
+
+	public double getMeanActionTime() {
+		return toMillis(table.getActionTimes().getMean());
+	}
+
+	public double getP50ActionTime() {
+		return toMillis(table.getActionTimes().getPercentile(0.5));
+	}
+
+	public double getP99ActionTime() {
+		return toMillis(table.getActionTimes().getPercentile(0.99));
+	}
+
+	public double getMaxActionTime() {
+		return toMillis(table.getActionTimes().getMax());
+	}
+
+	public long getNbEvents() {
+		return table.getFanOutTimes().getCount();
+	}
+
+	public double getMeanFanOutTime() {
+		return toMillis(table.getFanOutTimes().getMean());
+	}
+
+	public double getP99FanOutTime() {
+		return toMillis(table.getFanOutTimes().getPercentile(0.99));
+	}
+
+	public double getMaxFanOutTime() {
+		return toMillis(table.getFanOutTimes().getMax());
+	}
+
+}
@@ -0,0 +1,127 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.embedded.gamecontrol;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.cspoker.common.elements.table.TableId;
+import org.cspoker.common.util.threading.HashedWheelTimer;
+import org.cspoker.common.util.threading.HashedWheelTimer.Timeout;
+import org.cspoker.common.util.threading.LoggingThreadFactory;
+
+/**
+ * The timer of the action timeouts and auto-deals of all tables.
+ * 
+ * The timeouts are kept on a {@link HashedWheelTimer}. When one expires it
+ * runs on the shard of its table: every table always uses the same thread,
+ * so the timeouts of a table run in order, and a table with a slow handler
+ * only holds up the tables of its own shard.
+ */
+@ThreadSafe
+public final class TableTimer {
+
+	/**
+	 * The system property with the number of threads that run the expired
+	 * timeouts, by default the number of processors.
+	 */
+	public final static String SHARDS_PROPERTY = "cspoker.timer.shards";
+
+	public final static long TICK_DURATION = 100;
+
+	public final static int TICKS_PER_WHEEL = 512;
+
+	private static class InstanceHolder {
+		private final static TableTimer instance = new TableTimer(Integer.getInteger(SHARDS_PROPERTY, Runtime
+				.getRuntime().availableProcessors()));
+	}
+
+	public static TableTimer getInstance() {
+		return InstanceHolder.instance;
+	}
+
+	private final HashedWheelTimer timer = new HashedWheelTimer("CSPoker-TableTimer", TICK_DURATION,
+			TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+
+	private final ExecutorService[] shards;
+
+	private TableTimer(int nbShards) {
+		shards = new ExecutorService[Math.max(1, nbShards)];
+		final ThreadFactory threadFactory = new LoggingThreadFactory("CSPoker-TableTimeout");
+		for (int i = 0; i < shards.length; i++) {
+			shards[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+					new ThreadFactory() {
+						public Thread newThread(Runnable r) {
+							// a pending auto-deal should not keep the server alive
+							Thread thread = threadFactory.newThread(r);
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+		}
+	}
+
+	/**
+	 * Runs the given task on the shard of the given table once the given delay
+	 * has passed, unless the returned timeout is cancelled first.
+	 */
+	public Timeout schedule(TableId tableId, Runnable task, long delay, TimeUnit unit) {
+		return timer.schedule(task, getExecutor(tableId), delay, unit);
+	}
+
+	/**
+	 * Runs the given task on the given executor once the given delay has
+	 * passed, unless the returned timeout is cancelled first.
+	 */
+	public Timeout schedule(Executor executor, Runnable task, long delay, TimeUnit unit) {
+		return timer.schedule(task, executor, delay, unit);
+	}
+
+	/**
+	 * The thread that runs the expired timeouts of the given table.
+	 */
+	public Executor getExecutor(TableId tableId) {
+		return shards[(tableId.hashCode() & Integer.MAX_VALUE) % shards.length];
+	}
+
+	public int getNbShards() {
+		return shards.length;
+	}
+
+	public int getNbPending() {
+		return timer.getNbPending();
+	}
+
+	/**
+	 * The longest time a timeout was handed to its shard after its deadline,
+	 * in milliseconds.
+	 */
+	public double getMaxDelay() {
+		return timer.getMaxDelay();
+	}
+
+	@Override
+	public String toString() {
+		return timer.toString();
+	}
+
+}
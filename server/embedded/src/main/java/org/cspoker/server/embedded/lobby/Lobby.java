@@ -2,13 +2,19 @@ package org.cspoker.server.embedded.lobby;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.Immutable;
+
 import org.cspoker.common.api.lobby.event.TableCreatedEvent;
 import org.cspoker.common.api.lobby.event.TableRemovedEvent;
 import org.cspoker.common.api.lobby.holdemtable.context.HoldemTableContext;
@@ -20,8 +26,11 @@ import org.cspoker.common.elements.table.Table;
 import org.cspoker.common.elements.table.TableConfiguration;
 import org.cspoker.common.elements.table.TableId;
 import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
+import org.cspoker.common.util.metrics.MBeans;
 import org.cspoker.server.embedded.account.ExtendedAccountContext;
 import org.cspoker.server.embedded.gamecontrol.PokerTable;
+import org.cspoker.server.embedded.gamecontrol.TableMonitor;
 
 public class Lobby {
 	
@@ -42,8 +51,32 @@ public class Lobby {
 	 */
 	private ConcurrentHashMap<TableId, PokerTable> tables = new ConcurrentHashMap<TableId, PokerTable>();
 	
+	/**
+	 * The number of changes to the list of tables that are remembered to
+	 * answer {@link #getTableListChanges(long)}.
+	 */
+	public final static int HISTORY_SIZE = 1024;
+	
+	private final Object snapshotLock = new Object();
+	
+	@GuardedBy("snapshotLock")
+	private final TreeMap<Long, Table> tableInfos = new TreeMap<Long, Table>();
+	
+	/**
+	 * The changes of the list of tables, the last one has the version of the
+	 * current snapshot.
+	 */
+	@GuardedBy("snapshotLock")
+	private final LinkedList<Change> history = new LinkedList<Change>();
+	
+	/**
+	 * The current list of tables, never modified, replaced when a table is
+	 * created, removed or changes occupancy.
+	 */
+	private volatile TableList snapshot = new TableList(Collections.<Table> emptyList(), 0);
+	
 	protected Lobby() {
-
+		MBeans.register("Lobby", "Lobby", new LobbyMonitor(this));
 	}
 	
 	public DetailedHoldemTable createTable(ExtendedAccountContext accountContext, String name,
@@ -51,6 +84,8 @@ public class Lobby {
 		TableId tableId = new TableId(counter.getAndIncrement());
 		PokerTable table = new PokerTable(tableId, name, configuration, accountContext);
 		tables.put(tableId, table);
+		updateSnapshot(table.getShortTableInformation(), false);
+		MBeans.register("Table", tableId.toString(), new TableMonitor(table));
 		
 		for (LobbyListener listener : lobbyListeners) {
 			listener.onTableCreated(new TableCreatedEvent(accountContext.getPlayer().getMemento(), new Table(tableId, name)));
@@ -65,12 +100,90 @@ public class Lobby {
 	}
 	
 	public TableList getTableList() {
-		Collection<PokerTable> currentTables = tables.values();
-		Set<Table> tableList = new TreeSet<Table>();
-		for (PokerTable table : currentTables) {
-			tableList.add(table.getShortTableInformation());
+		return snapshot;
+	}
+	
+	/**
+	 * Returns the changes to the list of tables since the given version, or
+	 * the complete list if they are no longer known.
+	 */
+	public TableListDelta getTableListChanges(long sinceVersion) {
+		synchronized (snapshotLock) {
+			TableList current = snapshot;
+			long version = current.getVersion();
+			// the history holds the versions after version - history.size()
+			if (sinceVersion > version || sinceVersion < version - history.size()) {
+				return new TableListDelta(sinceVersion, version, true, current.getTables(), null);
+			}
+			// the last change of each table wins
+			Map<TableId, Change> changes = new LinkedHashMap<TableId, Change>();
+			for (Change change : history) {
+				if (change.version > sinceVersion) {
+					changes.remove(change.table.getId());
+					changes.put(change.table.getId(), change);
+				}
+			}
+			List<Table> changed = new ArrayList<Table>();
+			List<Table> removed = new ArrayList<Table>();
+			for (Change change : changes.values()) {
+				(change.removed ? removed : changed).add(change.table);
+			}
+			return new TableListDelta(sinceVersion, version, false, changed, removed);
 		}
-		return new TableList(new ArrayList<Table>(tableList));
+	}
+	
+	/**
+	 * Updates the list of tables when a table of this lobby changed occupancy.
+	 */
+	public void updateTable(PokerTable table) {
+		if (tables.get(table.getTableId()) == table) {
+			updateSnapshot(table.getShortTableInformation(), false);
+		}
+	}
+	
+	private void updateSnapshot(Table table, boolean removed) {
+		synchronized (snapshotLock) {
+			Long id = table.getId().getId();
+			Table old = removed ? tableInfos.remove(id) : tableInfos.put(id, table);
+			if (removed ? old == null : old != null && isSame(old, table)) {
+				return;
+			}
+			long version = snapshot.getVersion() + 1;
+			history.addLast(new Change(version, table, removed));
+			if (history.size() > HISTORY_SIZE) {
+				history.removeFirst();
+			}
+			snapshot = new TableList(Collections.unmodifiableList(new ArrayList<Table>(tableInfos.values())),
+					version);
+		}
+	}
+	
+	private static boolean isSame(Table table, Table other) {
+		return table.getNbPlayers() == other.getNbPlayers()
+				&& (table.getName() == null ? other.getName() == null : table.getName().equals(other.getName()));
+	}
+	
+	@Immutable
+	private final static class Change {
+		
+		private final long version;
+		
+		private final Table table;
+		
+		private final boolean removed;
+		
+		private Change(long version, Table table, boolean removed) {
+			this.version = version;
+			this.table = table;
+			this.removed = removed;
+		}
+	}
+	
+	/**
+	 * Returns a view of the tables of this lobby.
+	 */
+	public Collection<PokerTable> getTables() {
+		return Collections.unmodifiableCollection(tables.values());
 	}
 	
 	public HoldemTableContext joinTable(TableId tableId, HoldemTableListener holdemTableListener,
@@ -91,7 +204,9 @@ public class Lobby {
 		if (table != null && table.isEmpty()) {
 			tables.remove(new TableId(tableId));
 			Table tableInfo = table.getShortTableInformation();
+			updateSnapshot(tableInfo, true);
 			table.terminate();
+			MBeans.unregister("Table", table.getTableId().toString());
 			for (LobbyListener listener : lobbyListeners) {
 				listener.onTableRemoved(new TableRemovedEvent(tableInfo));
 			}
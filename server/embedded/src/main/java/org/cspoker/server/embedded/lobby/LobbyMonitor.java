@@ -0,0 +1,104 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.embedded.lobby;
+
+import static org.cspoker.common.util.metrics.MBeans.toMillis;
+
+import org.cspoker.server.embedded.gamecontrol.PokerTable;
+
+/**
+ * Exposes the active tables and players of a {@link Lobby}. The players are
+ * counted at every table they joined.
+ */
+public class LobbyMonitor implements LobbyMonitorMBean {
+
+	private final Lobby lobby;
+
+	public LobbyMonitor(Lobby lobby) {
+		this.lobby = lobby;
+	}
+
+	public int getNbTables() {
+		return lobby.getTables().size();
+	}
+
+	public int getNbPlayingTables() {
+		int n = 0;
+		for (PokerTable table : lobby.getTables()) {
+			if (table.isPlaying()) {
+				++n;
+			}
+		}
+		return n;
+	}
+
+	public int getNbJoinedPlayers() {
+		int n = 0;
+		for (PokerTable table : lobby.getTables()) {
+			n += table.getNbJoinedPlayers();
+		}
+		return n;
+	}
+
+	public int getNbSeatedPlayers() {
+		int n = 0;
+		for (PokerTable table : lobby.getTables()) {
+			n += table.getNbSeatedPlayers();
+		}
+		return n;
+	}
+
+	public long getTableListVersion() {
+		return lobby.getTableList().getVersion();
+	}
+
+	public long getNbActions() {
+		return PokerTable.getAllActionTimes().getCount();
+	}
+
+	public double getMeanActionTime() {
+		return toMillis(PokerTable.getAllActionTimes().getMean());
+	}
+
+	public double getP50ActionTime() {
+		return toMillis(PokerTable.getAllActionTimes().getPercentile(0.5));
+	}
+
+	public double getP99ActionTime() {
+		return toMillis(PokerTable.getAllActionTimes().getPercentile(0.99));
+	}
+
+	public double getMaxActionTime() {
+		return toMillis(PokerTable.getAllActionTimes().getMax());
+	}
+
+	public long getNbEvents() {
+		return PokerTable.getAllFanOutTimes().getCount();
+	}
+
+	public double getMeanFanOutTime() {
+		return toMillis(PokerTable.getAllFanOutTimes().getMean());
+	}
+
+	public double getP99FanOutTime() {
+		return toMillis(PokerTable.getAllFanOutTimes().getPercentile(0.99));
+	}
+
+	public double getMaxFanOutTime() {
+		return toMillis(PokerTable.getAllFanOutTimes().getMax());
+	}
+
+}
@@ -0,0 +1,52 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.embedded.lobby;
+
+/**
+ * The attributes of the management bean of the {@link Lobby}. The latencies
+ * are for all tables together, in milliseconds.
+ */
+public interface LobbyMonitorMBean {
+
+	int getNbTables();
+
+	int getNbPlayingTables();
+
+	int getNbJoinedPlayers();
+
+	int getNbSeatedPlayers();
+
+	long getTableListVersion();
+
+	long getNbActions();
+
+	double getMeanActionTime();
+
+	double getP50ActionTime();
+
+	double getP99ActionTime();
+
+	double getMaxActionTime();
+
+	long getNbEvents();
+
+	double getMeanFanOutTime();
+
+	double getP99FanOutTime();
+
+	double getMaxFanOutTime();
+
+}
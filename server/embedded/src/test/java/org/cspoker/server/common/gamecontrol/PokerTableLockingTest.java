@@ -0,0 +1,245 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.common.gamecontrol;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.api.lobby.holdemtable.context.HoldemTableContext;
+import org.cspoker.common.api.lobby.holdemtable.event.LeaveTableEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NewDealEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.NextPlayerEvent;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.context.HoldemPlayerContext;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.listener.ForwardingHoldemPlayerListener;
+import org.cspoker.common.api.lobby.holdemtable.listener.ForwardingHoldemTableListener;
+import org.cspoker.common.api.shared.exception.IllegalActionException;
+import org.cspoker.common.elements.player.MutablePlayer;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+import org.cspoker.common.util.Log4JPropertiesLoader;
+import org.cspoker.common.util.threading.BoundedSequencePreservingExecutor;
+import org.cspoker.server.embedded.account.ExtendedAccountContext;
+import org.cspoker.server.embedded.gamecontrol.PokerTable;
+
+/**
+ * Plays a table whose deals are started by the timer while another player
+ * keeps sitting in and out, to check that actions, timer tasks and seat
+ * changes lock the table and its state in the same order. Also checks that
+ * players whose listeners fall behind leave the table the same way.
+ */
+public class PokerTableLockingTest extends TestCase {
+
+	static {
+		Log4JPropertiesLoader
+		.load("org/cspoker/server/logging/log4j.properties");
+	}
+
+	private final DummyPlayerFactory factory = new DummyPlayerFactory();
+
+	private PokerTable pokerTable;
+
+	private final AtomicInteger nbDeals = new AtomicInteger();
+
+	@Override
+	public void setUp() {
+		// every deal is started by the timer 1ms after the previous one, the
+		// stacks of Doyle's game never run out
+		TableConfiguration configuration = new TableConfiguration(10, 1, true,
+				false, true, 0);
+		pokerTable = new PokerTable(new TableId(0), "table", configuration,
+				new ExtendedAccountContext() {
+
+					public void changePassword(String passwordHash) {
+
+					}
+
+					public void createAccount(String username,
+							String passwordHash) {
+
+					}
+
+					public byte[] getAvatar(PlayerId playerId) {
+						return null;
+					}
+
+					public MutablePlayer getPlayer() {
+						return null;
+					}
+
+					public boolean hasPassword(String passwordHash) {
+						return false;
+					}
+
+					public void setAvatar(byte[] avatar) {
+
+					}
+
+					public PlayerId getPlayerID() {
+						return new PlayerId(0);
+					}
+
+				});
+	}
+
+	public void testSitInAndOutWhileDealing() throws Exception {
+		MutablePlayer kenzo = factory.createNewPlayer("kenzo", 10000);
+		MutablePlayer cedric = factory.createNewPlayer("cedric", 10000);
+		final MutablePlayer guy = factory.createNewPlayer("guy", 10000);
+		CallingPlayer kenzoPlayer = new CallingPlayer(kenzo);
+		CallingPlayer cedricPlayer = new CallingPlayer(cedric);
+		final HoldemTableContext guyTable = pokerTable.joinTable(guy,
+				new ForwardingHoldemTableListener());
+
+		final long end = System.currentTimeMillis() + 2000;
+		final AtomicInteger nbSitIns = new AtomicInteger();
+		Thread sitInAndOut = new Thread("Sit in and out") {
+			@Override
+			public void run() {
+				while (System.currentTimeMillis() < end) {
+					try {
+						HoldemPlayerContext guyPlayer = guyTable.sitIn(0,
+								new ForwardingHoldemPlayerListener());
+						nbSitIns.incrementAndGet();
+						guyPlayer.sitOut();
+					} catch (IllegalActionException e) {
+						// the seat is taken until the deal ends
+					}
+				}
+			}
+		};
+		sitInAndOut.setDaemon(true);
+
+		kenzoPlayer.sitIn();
+		cedricPlayer.sitIn();
+		sitInAndOut.start();
+		sitInAndOut.join(TimeUnit.SECONDS.toMillis(10));
+
+		long[] deadlocked = ManagementFactory.getThreadMXBean()
+				.findMonitorDeadlockedThreads();
+		assertNull("Threads are deadlocked on the table.", deadlocked);
+		assertFalse(sitInAndOut.isAlive());
+		assertTrue(nbSitIns.get() > 0);
+		assertTrue(nbDeals.get() > 1);
+
+		guyTable.leaveTable();
+		kenzoPlayer.leaveTable();
+		cedricPlayer.leaveTable();
+	}
+
+	public void testSlowListenersLeave() throws Exception {
+		final MutablePlayer slow = factory.createNewPlayer("slow", 10000);
+		MutablePlayer other = factory.createNewPlayer("other", 10000);
+		final CountDownLatch left = new CountDownLatch(1);
+		pokerTable.joinTable(slow, new ForwardingHoldemTableListener());
+		pokerTable.joinTable(other, new ForwardingHoldemTableListener() {
+			@Override
+			public void onLeaveTable(LeaveTableEvent leaveTableEvent) {
+				if (slow.getId().equals(leaveTableEvent.getPlayerId())) {
+					left.countDown();
+				}
+			}
+		});
+
+		final CountDownLatch blocked = new CountDownLatch(1);
+		BoundedSequencePreservingExecutor queue = pokerTable.getEventQueue(slow.getId());
+		queue.execute(new Runnable() {
+			public void run() {
+				try {
+					blocked.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		for (int i = 0; i < 100000 && !queue.isClosed(); i++) {
+			queue.execute(new Runnable() {
+				public void run() {
+				}
+			});
+		}
+		blocked.countDown();
+		assertTrue(queue.isClosed());
+		assertTrue(left.await(10, TimeUnit.SECONDS));
+		assertFalse(pokerTable.hasAsJoinedPlayer(slow));
+		assertNull(pokerTable.getEventQueue(slow.getId()));
+
+		// the client can start over
+		pokerTable.joinTable(slow, new ForwardingHoldemTableListener());
+		assertTrue(pokerTable.hasAsJoinedPlayer(slow));
+	}
+
+	public void testSitInWithoutJoining() throws Exception {
+		MutablePlayer player = factory.createNewPlayer("player", 10000);
+		try {
+			pokerTable.sitIn(0, player, new ForwardingHoldemPlayerListener());
+			fail();
+		} catch (IllegalActionException e) {
+			// the player listener needs the queue of the table listener
+		}
+		assertFalse(pokerTable.hasAsJoinedPlayer(player));
+	}
+
+	/**
+	 * Calls whenever it is next to act, from the thread that delivers its
+	 * events.
+	 */
+	private class CallingPlayer extends ForwardingHoldemTableListener {
+
+		private final MutablePlayer player;
+
+		private final HoldemTableContext table;
+
+		private volatile HoldemPlayerContext context;
+
+		public CallingPlayer(MutablePlayer player)
+				throws IllegalActionException {
+			this.player = player;
+			table = pokerTable.joinTable(player, this);
+		}
+
+		public void sitIn() throws IllegalActionException {
+			context = table.sitIn(0, new ForwardingHoldemPlayerListener());
+		}
+
+		public void leaveTable() {
+			table.leaveTable();
+		}
+
+		@Override
+		public void onNewDeal(NewDealEvent newDealEvent) {
+			nbDeals.incrementAndGet();
+		}
+
+		@Override
+		public void onNextPlayer(NextPlayerEvent nextPlayerEvent) {
+			if (player.getId().equals(nextPlayerEvent.getPlayerId())
+					&& context != null) {
+				try {
+					context.checkOrCall();
+				} catch (IllegalActionException e) {
+					// the player is no longer on turn
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,85 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.common.gamecontrol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.api.shared.exception.IllegalActionException;
+import org.cspoker.server.embedded.gamecontrol.TableMailbox;
+
+public class TableMailboxTest extends TestCase {
+
+	public void testActionsRunInOrderOffTheCaller() throws Exception {
+		final TableMailbox mailbox = new TableMailbox();
+		final List<Integer> done = new ArrayList<Integer>();
+		final CountDownLatch finished = new CountDownLatch(100);
+		for (int i = 0; i < 100; i++) {
+			final int task = i;
+			mailbox.execute(new Runnable() {
+				public void run() {
+					// only the mailbox touches the list
+					done.add(task);
+					finished.countDown();
+				}
+			});
+		}
+		assertTrue(finished.await(10, TimeUnit.SECONDS));
+		Thread thread = mailbox.call(new TableMailbox.Action<Thread>() {
+			public Thread perform() {
+				return Thread.currentThread();
+			}
+		});
+		assertNotSame(Thread.currentThread(), thread);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, done.get(i).intValue());
+		}
+	}
+
+	public void testIllegalActionReachesCaller() {
+		TableMailbox mailbox = new TableMailbox();
+		try {
+			mailbox.call(new TableMailbox.Action<Void>() {
+				public Void perform() throws IllegalActionException {
+					throw new IllegalActionException("expected by the test");
+				}
+			});
+			fail("The illegal action should be thrown on the calling thread.");
+		} catch (IllegalActionException e) {
+			assertEquals("expected by the test", e.getMessage());
+		}
+	}
+
+	public void testNestedCallDoesNotWait() throws IllegalActionException {
+		final TableMailbox mailbox = new TableMailbox();
+		int result = mailbox.call(new TableMailbox.Action<Integer>() {
+			public Integer perform() throws IllegalActionException {
+				return mailbox.call(new TableMailbox.Action<Integer>() {
+					public Integer perform() {
+						return 42;
+					}
+				});
+			}
+		});
+		assertEquals(42, result);
+		assertEquals(0, mailbox.getBacklog());
+	}
+
+}
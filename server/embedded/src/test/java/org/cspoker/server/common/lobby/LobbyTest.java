@@ -0,0 +1,149 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.common.lobby;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.elements.player.MutablePlayer;
+import org.cspoker.common.elements.player.PlayerId;
+import org.cspoker.common.elements.table.Table;
+import org.cspoker.common.elements.table.TableConfiguration;
+import org.cspoker.common.elements.table.TableId;
+import org.cspoker.common.elements.table.TableList;
+import org.cspoker.common.elements.table.TableListDelta;
+import org.cspoker.server.embedded.account.ExtendedAccountContext;
+import org.cspoker.server.embedded.lobby.Lobby;
+import org.cspoker.server.embedded.player.PlayerFactory;
+
+public class LobbyTest extends TestCase {
+
+	private final MutablePlayer creator = PlayerFactory.global_Player_Factory.createNewPlayer("creator");
+
+	private final ExtendedAccountContext accountContext = new ExtendedAccountContext() {
+
+		public void changePassword(String passwordHash) {
+
+		}
+
+		public void createAccount(String username, String passwordHash) {
+
+		}
+
+		public byte[] getAvatar(PlayerId playerId) {
+			return null;
+		}
+
+		public MutablePlayer getPlayer() {
+			return creator;
+		}
+
+		public boolean hasPassword(String passwordHash) {
+			return false;
+		}
+
+		public void setAvatar(byte[] avatar) {
+
+		}
+
+		public PlayerId getPlayerID() {
+			return creator.getId();
+		}
+
+	};
+
+	private Lobby lobby;
+
+	@Override
+	protected void setUp() {
+		lobby = new Lobby() {
+		};
+	}
+
+	public void testSnapshotIsSharedUntilChange() {
+		TableList empty = lobby.getTableList();
+		assertEquals(0, empty.getVersion());
+		assertSame(empty, lobby.getTableList());
+		lobby.createTable(accountContext, "first", new TableConfiguration());
+		TableList list = lobby.getTableList();
+		assertEquals(1, list.getVersion());
+		assertEquals(1, list.getTables().size());
+		assertEquals("first", list.getTables().get(0).getName());
+		assertSame(list, lobby.getTableList());
+	}
+
+	public void testChangesSinceVersion() {
+		TableId first = lobby.createTable(accountContext, "first", new TableConfiguration()).getId();
+		TableList old = lobby.getTableList();
+		lobby.createTable(accountContext, "second", new TableConfiguration());
+		lobby.createTable(accountContext, "third", new TableConfiguration());
+
+		TableListDelta delta = lobby.getTableListChanges(old.getVersion());
+		assertFalse(delta.isComplete());
+		assertEquals(2, delta.getTables().size());
+		assertEquals(0, delta.getRemoved().size());
+		assertEquals(3, delta.getVersion());
+
+		TableList updated = delta.applyTo(old);
+		assertEquals(lobby.getTableList().getVersion(), updated.getVersion());
+		assertEquals(lobby.getTableList().getTables(), updated.getTables());
+		assertEquals(first, updated.getTables().get(0).getId());
+
+		TableListDelta none = lobby.getTableListChanges(updated.getVersion());
+		assertFalse(none.isComplete());
+		assertTrue(none.getTables().isEmpty());
+		assertTrue(none.getRemoved().isEmpty());
+	}
+
+	public void testUnknownVersionGivesCompleteList() {
+		lobby.createTable(accountContext, "first", new TableConfiguration());
+		TableListDelta delta = lobby.getTableListChanges(42);
+		assertTrue(delta.isComplete());
+		assertEquals(1, delta.getTables().size());
+		assertEquals(lobby.getTableList().getTables(), delta.applyTo(new TableList(new ArrayList<Table>())).getTables());
+	}
+
+	public void testForgottenVersionGivesCompleteList() {
+		lobby.createTable(accountContext, "first", new TableConfiguration());
+		long version = lobby.getTableList().getVersion();
+		for (int i = 0; i <= Lobby.HISTORY_SIZE; i++) {
+			lobby.createTable(accountContext, "table " + i, new TableConfiguration());
+		}
+		TableListDelta delta = lobby.getTableListChanges(version);
+		assertTrue(delta.isComplete());
+		assertEquals(Lobby.HISTORY_SIZE + 2, delta.getTables().size());
+		assertFalse(lobby.getTableListChanges(version + 1).isComplete());
+	}
+
+	public void testMonitors() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName lobbyName = new ObjectName("org.cspoker:type=Lobby,name=Lobby");
+		assertEquals(0, server.getAttribute(lobbyName, "NbTables"));
+		TableId id = lobby.createTable(accountContext, "first", new TableConfiguration()).getId();
+		assertEquals(1, server.getAttribute(lobbyName, "NbTables"));
+		assertEquals(0, server.getAttribute(lobbyName, "NbSeatedPlayers"));
+		ObjectName tableName = new ObjectName("org.cspoker:type=Table,name=" + id);
+		assertEquals("first", server.getAttribute(tableName, "Name"));
+		assertEquals(0, server.getAttribute(tableName, "NbJoinedPlayers"));
+		assertEquals(0L, server.getAttribute(tableName, "NbActions"));
+	}
+
+}
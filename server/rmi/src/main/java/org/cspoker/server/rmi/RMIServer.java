@@ -33,6 +33,7 @@ import org.cspoker.common.api.shared.context.ExternalRemoteServerContext;
 import org.cspoker.common.api.shared.context.RemoteServerContext;
 import org.cspoker.common.api.shared.context.ServerContext;
 import org.cspoker.common.util.threading.GlobalThreadPool;
+import org.cspoker.common.util.threading.SequencePreservingExecutor;
 import org.cspoker.server.rmi.export.ExportingServerContext;
 import org.cspoker.server.rmi.unremote.context.UnremoteServerContext;
 
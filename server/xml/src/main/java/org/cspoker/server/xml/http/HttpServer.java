@@ -24,6 +24,7 @@ import org.cspoker.common.CSPokerServer;
 import org.cspoker.common.util.threading.GlobalThreadPool;
 import org.cspoker.server.xml.http.handler.CSPokerHandler;
 import org.cspoker.server.xml.http.handler.CrossDomain;
+import org.cspoker.server.xml.http.handler.EventsHandler;
 
 /**
  * Creates a new web server and starts it.
@@ -55,6 +56,7 @@ public class HttpServer {
 	protected void loadContext(CSPokerServer cspokerServer) {
 		final CSPokerHandler handler = new CSPokerHandler(cspokerServer);
 		server.createContext("/cspoker/",handler);
+		server.createContext("/cspoker/events", new EventsHandler(handler));
 		server.setExecutor(GlobalThreadPool.getInstance());
 		server.createContext("/", new CrossDomain());
 
@@ -15,9 +15,10 @@
  */
 package org.cspoker.server.xml.http.handler;
 
-import java.io.StringWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.LinkedList;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.security.auth.login.LoginException;
 import javax.xml.bind.JAXBException;
@@ -31,7 +32,6 @@ import org.cspoker.common.api.shared.context.StaticServerContext;
 import org.cspoker.common.api.shared.event.ServerEvent;
 import org.cspoker.common.api.shared.http.HTTPRequest;
 import org.cspoker.common.api.shared.http.HTTPResponse;
-import org.cspoker.common.api.shared.listener.ServerEventListener;
 import org.cspoker.common.api.shared.listener.UniversalServerListener;
 import org.cspoker.common.jaxbcontext.AllHTTPJAXBContexts;
 import org.cspoker.common.util.Pair;
@@ -51,8 +51,40 @@ public class CSPokerHandler extends AbstractHttpHandler {
 
 	private CSPokerServer cspokerServer;
 
-	private LazyMap1<String, Pair<StaticServerContext, Queue<ServerEvent>>, LoginException> contexts 
-	= new LazyMap1<String, Pair<StaticServerContext, Queue<ServerEvent>>, LoginException>();
+	private final static ThreadLocal<Marshaller> marshallers = new ThreadLocal<Marshaller>() {
+		@Override
+		protected Marshaller initialValue() {
+			try {
+				Marshaller m = AllHTTPJAXBContexts.context.createMarshaller();
+				m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+				m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+				m.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+				return m;
+			} catch (JAXBException exception) {
+				throw new IllegalStateException(exception);
+			}
+		}
+	};
+
+	private final static ThreadLocal<Unmarshaller> unmarshallers = new ThreadLocal<Unmarshaller>() {
+		@Override
+		protected Unmarshaller initialValue() {
+			try {
+				return AllHTTPJAXBContexts.context.createUnmarshaller();
+			} catch (JAXBException exception) {
+				throw new IllegalStateException(exception);
+			}
+		}
+	};
+
+	/**
+	 * Query parameter of a request whose response should not carry events,
+	 * because the client picks them up with long polls.
+	 */
+	public final static String NO_EVENTS = "events=false";
+
+	private LazyMap1<String, Pair<StaticServerContext, PendingEvents>, LoginException> contexts 
+	= new LazyMap1<String, Pair<StaticServerContext, PendingEvents>, LoginException>();
 
 	public CSPokerHandler(CSPokerServer cspokerServer) {
 		this.cspokerServer = cspokerServer;
@@ -60,29 +92,48 @@ public class CSPokerHandler extends AbstractHttpHandler {
 
 	@Override
 	protected byte[] getResponse(HttpExchange http) throws HttpExceptionImpl {
+		try {
+			Pair<StaticServerContext, PendingEvents> state = getState(http);
+
+			Unmarshaller um = unmarshallers.get();
+			HTTPRequest request = (HTTPRequest) um.unmarshal(new InputSource(http.getRequestBody()));
+
+			String query = http.getRequestURI().getQuery();
+			Queue<ServerEvent> events = query != null && query.contains(NO_EVENTS) ? new LinkedList<ServerEvent>()
+					: state.getRight().getQueue();
+			HTTPResponse response = request.performRequest(state.getLeft(), events);
+
+			byte[] xml = marshal(response);
+			if (logger.isTraceEnabled()) {
+				logger.trace("Returning response of length " + xml.length + ":\n" + new String(xml, "UTF-8"));
+			}
+			return xml;
+		} catch (JAXBException e) {
+			logger.debug(e);
+			throw new HttpExceptionImpl(e, 400);
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the context and pending events of the user of the request,
+	 * logging in the user on its first request.
+	 */
+	Pair<StaticServerContext, PendingEvents> getState(HttpExchange http) throws HttpExceptionImpl {
 		final Pair<String,String> credentials = AbstractHttpHandler.getCredentials(http.getRequestHeaders());
 
 		logger.debug("HTTP request from "+credentials.getLeft());
 		
-		Pair<StaticServerContext, Queue<ServerEvent>> state;
 		try {
-			state = contexts.getOrCreate(credentials.getLeft(), new IFactory1<Pair<StaticServerContext, Queue<ServerEvent>>, LoginException>(){
+			Pair<StaticServerContext, PendingEvents> state = contexts.getOrCreate(credentials.getLeft(), new IFactory1<Pair<StaticServerContext, PendingEvents>, LoginException>(){
 
-				public Pair<StaticServerContext, Queue<ServerEvent>> create() throws LoginException {
+				public Pair<StaticServerContext, PendingEvents> create() throws LoginException {
 					ServerContext serverContext = cspokerServer.login(credentials.getLeft(), credentials.getRight());
-					final ConcurrentLinkedQueue<ServerEvent> eventQueue = new ConcurrentLinkedQueue<ServerEvent>();
+					PendingEvents events = new PendingEvents();
 					StaticServerContext staticServerContext = new XmlServerContext(serverContext,
-							new UniversalServerListener(
-									new ServerEventListener(){
-
-										public void onServerEvent(ServerEvent event) {
-											eventQueue.offer(event);
-										}
-
-									}
-							)
-					);
-					return new Pair<StaticServerContext, Queue<ServerEvent>>(staticServerContext,eventQueue);
+							new UniversalServerListener(events));
+					return new Pair<StaticServerContext, PendingEvents>(staticServerContext, events);
 				}
 
 			});
@@ -90,28 +141,17 @@ public class CSPokerHandler extends AbstractHttpHandler {
 			if(!state.getLeft().getAccountContext().hasPassword(credentials.getRight())){
 				throw new LoginException("Bad Password");
 			}
-			
-			Unmarshaller um = AllHTTPJAXBContexts.context.createUnmarshaller();
-			HTTPRequest request = (HTTPRequest) um.unmarshal(new InputSource(http.getRequestBody()));
-
-			HTTPResponse response = request.performRequest(state.getLeft(), state.getRight());
-
-			StringWriter xml = new StringWriter();
-			Marshaller m = AllHTTPJAXBContexts.context.createMarshaller();
-			m.setProperty(Marshaller.JAXB_FRAGMENT, true);
-			m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-			m.marshal(response, xml);
-			xml.flush();
-			logger.trace("Returning response of length " + xml.toString().length()
-					+ ":\n" + xml);
-			return xml.toString().getBytes();
-		} catch (JAXBException e) {
-			logger.debug(e);
-			throw new HttpExceptionImpl(e, 400);
+			return state;
 		} catch (LoginException e) {
 			logger.debug(e);
 			throw new HttpExceptionImpl(e, 401);
 		}
 	}
 
+	static byte[] marshal(HTTPResponse response) throws JAXBException {
+		ByteArrayOutputStream xml = new ByteArrayOutputStream(1024);
+		marshallers.get().marshal(response, xml);
+		return xml.toByteArray();
+	}
+
 }
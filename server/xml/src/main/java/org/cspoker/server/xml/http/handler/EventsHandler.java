@@ -0,0 +1,82 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.http.handler;
+
+import java.io.IOException;
+
+import org.apache.log4j.Logger;
+import org.cspoker.server.xml.http.handler.abstracts.AbstractHttpHandler;
+import org.cspoker.server.xml.http.handler.exception.HttpExceptionImpl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+/**
+ * Long polls for the server events of a user. The exchange is kept open,
+ * without holding a thread, until there are events to return or the timeout
+ * expires. All pending events are returned in one {@code HTTPResponse}.
+ * 
+ * The timeout in milliseconds can be given with a {@code timeout} query
+ * parameter.
+ */
+@SuppressWarnings("restriction")
+public class EventsHandler implements HttpHandler {
+
+	private final static Logger logger = Logger.getLogger(EventsHandler.class);
+
+	public final static long DEFAULT_TIMEOUT = 25000;
+
+	public final static long MAX_TIMEOUT = 60000;
+
+	private final CSPokerHandler cspokerHandler;
+
+	/**
+	 * @param cspokerHandler
+	 *            the handler of the requests, whose users are polled for
+	 */
+	public EventsHandler(CSPokerHandler cspokerHandler) {
+		this.cspokerHandler = cspokerHandler;
+	}
+
+	public void handle(HttpExchange http) throws IOException {
+		try {
+			PendingEvents events = cspokerHandler.getState(http).getRight();
+			// nothing is posted, but the body should be consumed
+			http.getRequestBody().close();
+			events.poll(http, getTimeout(http));
+		} catch (HttpExceptionImpl e) {
+			AbstractHttpHandler.throwException(http, e);
+		}
+	}
+
+	private long getTimeout(HttpExchange http) {
+		String query = http.getRequestURI().getQuery();
+		if (query != null) {
+			for (String parameter : query.split("&")) {
+				if (parameter.startsWith("timeout=")) {
+					try {
+						long timeout = Long.parseLong(parameter.substring(8));
+						return Math.max(0, Math.min(timeout, MAX_TIMEOUT));
+					} catch (NumberFormatException e) {
+						logger.debug("Bad timeout: " + parameter);
+					}
+				}
+			}
+		}
+		return DEFAULT_TIMEOUT;
+	}
+
+}
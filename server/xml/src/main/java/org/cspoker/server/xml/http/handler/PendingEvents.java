@@ -0,0 +1,206 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.http.handler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBException;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import org.apache.log4j.Logger;
+import org.cspoker.common.api.shared.event.ServerEvent;
+import org.cspoker.common.api.shared.http.HTTPResponse;
+import org.cspoker.common.api.shared.listener.ServerEventListener;
+import org.cspoker.common.util.threading.GlobalThreadPool;
+import org.cspoker.common.util.threading.LoggingThreadFactory;
+import org.cspoker.server.xml.http.handler.abstracts.AbstractHttpHandler;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * The server events of an HTTP user that were not delivered yet, and the long
+ * poll that waits for them, if any.
+ * 
+ * A waiting poll is answered a few milliseconds after the first event comes
+ * in, so the events a table publishes for one action go out in one response.
+ * When no event comes in, it is answered with an empty response at its
+ * timeout. Events that could not be written to a poll are queued again, in
+ * front of the events that came in since, for the next poll or request.
+ */
+@ThreadSafe
+@SuppressWarnings("restriction")
+public class PendingEvents implements ServerEventListener {
+
+	private final static Logger logger = Logger.getLogger(PendingEvents.class);
+
+	/**
+	 * How long a poll waits for more events after the first one, in
+	 * milliseconds.
+	 */
+	public final static long LINGER = 10;
+
+	private final static ScheduledExecutorService timer = Executors
+			.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				private final ThreadFactory threadFactory = new LoggingThreadFactory(
+						"CSPoker-HttpLongPoll");
+
+				public Thread newThread(Runnable r) {
+					Thread thread = threadFactory.newThread(r);
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+	private final BlockingDeque<ServerEvent> events = new LinkedBlockingDeque<ServerEvent>();
+
+	@GuardedBy("this")
+	private HttpExchange poll = null;
+
+	@GuardedBy("this")
+	private ScheduledFuture<?> answer = null;
+
+	@GuardedBy("this")
+	private boolean lingering = false;
+
+	public void onServerEvent(ServerEvent event) {
+		events.offer(event);
+		eventsQueued();
+	}
+
+	private void eventsQueued() {
+		synchronized (this) {
+			if (poll != null && !lingering) {
+				answer.cancel(false);
+				answer = timer.schedule(new Answer(poll), LINGER,
+						TimeUnit.MILLISECONDS);
+				lingering = true;
+			}
+		}
+	}
+
+	/**
+	 * The events that were not delivered yet, for the responses to requests.
+	 */
+	public Queue<ServerEvent> getQueue() {
+		return events;
+	}
+
+	/**
+	 * Answers the given poll with the pending events, or once events come in
+	 * or the timeout expires. A previous poll that is still waiting is
+	 * answered right away, without events.
+	 */
+	public void poll(HttpExchange http, long timeout) {
+		HttpExchange previous;
+		boolean now;
+		synchronized (this) {
+			previous = poll;
+			if (answer != null) {
+				answer.cancel(false);
+			}
+			now = !events.isEmpty();
+			if (now) {
+				poll = null;
+				answer = null;
+			} else {
+				poll = http;
+				answer = timer.schedule(new Answer(http), timeout,
+						TimeUnit.MILLISECONDS);
+				lingering = false;
+			}
+		}
+		if (previous != null) {
+			respond(previous, new HTTPResponse());
+		}
+		if (now) {
+			respond(http);
+		}
+	}
+
+	private void respond(HttpExchange http) {
+		List<ServerEvent> sent = new ArrayList<ServerEvent>();
+		events.drainTo(sent);
+		HTTPResponse response = new HTTPResponse();
+		for (ServerEvent event : sent) {
+			response.addServerEvent(event);
+		}
+		if (!respond(http, response)) {
+			for (int i = sent.size() - 1; i >= 0; i--) {
+				events.addFirst(sent.get(i));
+			}
+			if (!sent.isEmpty()) {
+				eventsQueued();
+			}
+		}
+	}
+
+	/**
+	 * Returns false if the response could not be written.
+	 */
+	private boolean respond(HttpExchange http, HTTPResponse response) {
+		try {
+			AbstractHttpHandler.sendResponse(http, 200, CSPokerHandler
+					.marshal(response));
+		} catch (IOException e) {
+			logger.debug("Failed to answer long poll: " + e.getMessage());
+			return false;
+		} catch (JAXBException e) {
+			// queuing them again would fail the next poll as well
+			logger.error("Failed to marshal long poll response", e);
+			http.close();
+		}
+		return true;
+	}
+
+	private class Answer implements Runnable {
+
+		private final HttpExchange http;
+
+		private Answer(HttpExchange http) {
+			this.http = http;
+		}
+
+		public void run() {
+			synchronized (PendingEvents.this) {
+				if (poll != http) {
+					return;
+				}
+				poll = null;
+				answer = null;
+			}
+			// keep the timer free for the other polls
+			GlobalThreadPool.getInstance().execute(new Runnable() {
+				public void run() {
+					respond(http);
+				}
+			});
+		}
+
+	}
+
+}
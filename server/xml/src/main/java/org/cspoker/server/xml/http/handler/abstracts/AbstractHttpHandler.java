@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXTransformerFactory;
@@ -48,20 +49,21 @@ public abstract class AbstractHttpHandler implements HttpHandler {
 	private final static Logger logger = Logger
 			.getLogger(AbstractHttpHandler.class);
 
+	/**
+	 * Smaller responses are not worth compressing.
+	 */
+	public final static int MIN_GZIP_LENGTH = 512;
+
 	public AbstractHttpHandler() {
 		super();
 	}
 
 	public void handle(HttpExchange http) throws IOException {
 		try {
-			http.getResponseHeaders().add("Cache-Control", "no-cache");
 			byte[] response = getResponse(http);
 
 			// send the default status code (no exception occured)
-			http.sendResponseHeaders(getDefaultStatusCode(), response.length);
-			http.getResponseBody().write(response);
-			http.getResponseBody().close();
-			http.close();
+			sendResponse(http, getDefaultStatusCode(), response);
 		} catch (Exception e) {
 			throwException(http, e);
 		}
@@ -71,6 +73,41 @@ public abstract class AbstractHttpHandler implements HttpHandler {
 	protected abstract byte[] getResponse(HttpExchange http)
 			throws HttpExceptionImpl;
 
+	/**
+	 * Sends the response and closes the exchange. The response is gzipped
+	 * when the client accepts it and it is large enough to gain from it.
+	 */
+	public static void sendResponse(HttpExchange http, int status,
+			byte[] response) throws IOException {
+		http.getResponseHeaders().add("Cache-Control", "no-cache");
+		if (response.length >= MIN_GZIP_LENGTH
+				&& acceptsGzip(http.getRequestHeaders())) {
+			ByteArrayOutputStream gzipped = new ByteArrayOutputStream(
+					response.length / 4);
+			GZIPOutputStream gzip = new GZIPOutputStream(gzipped);
+			gzip.write(response);
+			gzip.close();
+			response = gzipped.toByteArray();
+			http.getResponseHeaders().set("Content-Encoding", "gzip");
+		}
+		http.sendResponseHeaders(status, response.length);
+		http.getResponseBody().write(response);
+		http.getResponseBody().close();
+		http.close();
+	}
+
+	private static boolean acceptsGzip(Headers requestHeaders) {
+		List<String> encodings = requestHeaders.get("Accept-Encoding");
+		if (encodings != null) {
+			for (String encoding : encodings) {
+				if (encoding.contains("gzip")) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Throws an exception over the Http connection in XML format.
 	 * 
@@ -83,7 +120,7 @@ public abstract class AbstractHttpHandler implements HttpHandler {
 	 * @throws IOException
 	 *             An exception occured while creating the error response.
 	 */
-	protected void throwException(HttpExchange http, Throwable e, int status)
+	public static void throwException(HttpExchange http, Throwable e, int status)
 			throws IOException {
 		try {
 			logger.debug("Returning serialized exception", e);
@@ -138,7 +175,7 @@ public abstract class AbstractHttpHandler implements HttpHandler {
 		}
 	}
 
-	protected void throwException(HttpExchange http, Throwable e)
+	public static void throwException(HttpExchange http, Throwable e)
 			throws IOException {
 		throwException(http, e, 500);
 	}
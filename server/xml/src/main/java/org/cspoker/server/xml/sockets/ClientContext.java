@@ -16,7 +16,6 @@
 package org.cspoker.server.xml.sockets;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.SelectionKey;
@@ -24,14 +23,12 @@ import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.management.ObjectName;
 import javax.security.auth.login.LoginException;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.PropertyException;
 
 import org.apache.log4j.Logger;
 import org.cspoker.common.CSPokerServer;
@@ -45,20 +42,46 @@ import org.cspoker.common.api.shared.event.ServerEvent;
 import org.cspoker.common.api.shared.exception.IllegalActionException;
 import org.cspoker.common.api.shared.listener.ServerEventListener;
 import org.cspoker.common.api.shared.listener.UniversalServerListener;
+import org.cspoker.common.api.shared.socket.BinaryProtocol;
 import org.cspoker.common.api.shared.socket.LoginAction;
-import org.cspoker.common.jaxbcontext.EventJAXBContext;
+import org.cspoker.common.util.metrics.MBeans;
+import org.cspoker.common.util.threading.SequencePreservingExecutor;
 import org.cspoker.server.xml.common.XmlServerContext;
+import org.cspoker.server.xml.sockets.runnables.ProcessXML;
 
 public class ClientContext {
 
 	private final static Logger logger = Logger.getLogger(ClientContext.class);
 
-	private final StringBuilder buffer;
+	public final static int READ_BUFFER_SIZE = 4 * 1024;
 
-	private final List<ByteBuffer> writeBuffer = new ArrayList<ByteBuffer>();
+	// only used by the reactor of this client
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+	// the start of a request that was not complete after the last read
+	private byte[] partialRequest = new byte[READ_BUFFER_SIZE];
+	private int partialRequestLength = 0;
+
+	// whether the first bytes of the client were read
+	private boolean negotiated = false;
+
+	private volatile boolean binary = false;
+
+	private final static int OUTBOUND_LIMIT = Integer.getInteger(
+			OutboundQueue.LIMIT_PROPERTY, OutboundQueue.DEFAULT_LIMIT);
+
+	private final static SlowConsumerPolicy SLOW_CONSUMER_POLICY = SlowConsumerPolicy
+			.fromSystemProperties();
+
+	private final OutboundQueue writeBuffer = new OutboundQueue(OUTBOUND_LIMIT,
+			SLOW_CONSUMER_POLICY);
 
 	private final Object writeBufferLock = new Object();
 
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private final static AtomicInteger nbConnected = new AtomicInteger();
+
 	private final SocketChannel client;
 	private final Selector selector;
 
@@ -68,74 +91,226 @@ public class ClientContext {
 
 	private volatile StaticServerContext serverContext = null;
 
-	public ClientContext(SocketChannel client, Selector selector, CSPokerServer cspokerServer) {
+	private final Executor requestExecutor;
+
+	private final ObjectName monitorName;
+
+	/**
+	 * @param executor
+	 *            the shared executor the requests of this client are run on,
+	 *            one at a time and in the order they were received
+	 */
+	public ClientContext(SocketChannel client, Selector selector, CSPokerServer cspokerServer, Executor executor) {
 		this.client = client;
 		this.selector = selector;
-		this.buffer = new StringBuilder();
+		this.requestExecutor = new SequencePreservingExecutor(executor);
 
 		this.charset = Charset.forName("UTF-8");
 		this.cspokerServer = cspokerServer;
+		nbConnected.incrementAndGet();
+		this.monitorName = MBeans.register("Client", String.valueOf(client.socket()
+				.getRemoteSocketAddress()), new Monitor(), ClientMonitorMBean.class);
 	}
 
-	public StringBuilder getBuffer() {
-		return buffer;
+	/**
+	 * Reads the bytes that are available and hands every complete request to
+	 * {@link #handle(Runnable)}. Requests end with a zero byte, unless the
+	 * client started with the hello of the {@link BinaryProtocol}.
+	 * 
+	 * @throws IOException
+	 */
+	public void readFromClient() throws IOException {
+		readBuffer.clear();
+		int numBytesRead = client.read(readBuffer);
+		if (numBytesRead == -1) {
+			logger.debug("channel has reached end-of-stream");
+			closeConnection();
+			return;
+		}
+		logger.trace("Reading " + numBytesRead + " bytes from socket");
+		byte[] bytes = readBuffer.array();
+		int start = 0;
+		if (!negotiated) {
+			start = negotiate(bytes, numBytesRead);
+			if (start < 0) {
+				return;
+			}
+		}
+		if (binary) {
+			readFrames(bytes, start, numBytesRead);
+		} else {
+			readXml(bytes, start, numBytesRead);
+		}
 	}
 
 	/**
-	 * Writes the current buffer to the client. If the buffer is emptied, the
-	 * selector is removed from the client.
+	 * Checks whether the connection starts with the hello.
 	 * 
-	 * @throws IOException
+	 * @return where the requests start in the given bytes, or -1 when more
+	 *         bytes are needed
 	 */
-	public void writeBufferToClient() throws IOException {
-		synchronized (writeBufferLock) {
-			Iterator<ByteBuffer> i = writeBuffer.iterator();
-			while (i.hasNext()) {
-				ByteBuffer bytes = i.next();
-				logger.trace("trying to write " + bytes.remaining()+ "bytes.");
-				client.write(bytes);
-				if (bytes.remaining() > 0) {
-					logger.trace("stopping write early because there are "
-							+ bytes.remaining() + " bytes unwritten.");
-					/* //registerWriteInterest(); //bug workaround? */
-					return;
+	private int negotiate(byte[] bytes, int numBytesRead) {
+		int length = Math.min(numBytesRead, BinaryProtocol.HELLO_LENGTH
+				- partialRequestLength);
+		if (!BinaryProtocol.isHello(bytes, 0, length, partialRequestLength)) {
+			// what was taken for the start of a hello starts the xml
+			negotiated = true;
+			return 0;
+		}
+		appendToPartialRequest(bytes, 0, length);
+		if (partialRequestLength < BinaryProtocol.HELLO_LENGTH) {
+			return -1;
+		}
+		partialRequestLength = 0;
+		binary = true;
+		negotiated = true;
+		logger.debug("Binary protocol for " + client.socket().getRemoteSocketAddress());
+		appendToWriteBuffer(ByteBuffer.wrap(BinaryProtocol.getHello()), false);
+		return length;
+	}
+
+	private void readXml(byte[] bytes, int start, int numBytesRead) {
+		for (int i = start; i < numBytesRead; i++) {
+			if (bytes[i] == 0x00) {
+				String xml;
+				if (partialRequestLength == 0) {
+					xml = new String(bytes, start, i - start, charset);
+				} else {
+					appendToPartialRequest(bytes, start, i - start);
+					xml = new String(partialRequest, 0, partialRequestLength, charset);
+					partialRequestLength = 0;
 				}
-				logger.trace("removing bytebuffer from the buffer list.");
-				i.remove();
+				handleXml(xml);
+				start = i + 1;
 			}
-			unregisterWriteInterest();
-			logger.trace("finished entire write operation");
-			if(killAfterResponse){
-				logger.trace("killing connection after write");
-				closeConnection();
+		}
+		appendToPartialRequest(bytes, start, numBytesRead - start);
+	}
+
+	private void readFrames(byte[] bytes, int start, int numBytesRead) throws IOException {
+		appendToPartialRequest(bytes, start, numBytesRead - start);
+		int offset = 0;
+		while (partialRequestLength - offset >= 4) {
+			int length = BinaryProtocol.getLength(partialRequest, offset);
+			if (partialRequestLength - offset - 4 < length) {
+				break;
+			}
+			byte type = partialRequest[offset + 4];
+			if (type != BinaryProtocol.XML_FRAME) {
+				throw new IOException("Unexpected frame type: " + type);
 			}
+			String xml = new String(partialRequest, offset + BinaryProtocol.HEADER_LENGTH, length - 1, charset);
+			handleXml(xml);
+			offset += 4 + length;
 		}
+		System.arraycopy(partialRequest, offset, partialRequest, 0, partialRequestLength - offset);
+		partialRequestLength -= offset;
 	}
 
-	private void unregisterWriteInterest() {
-		client.keyFor(selector).interestOps(SelectionKey.OP_READ);
-		selector.wakeup();
-		logger.trace("removed write interest");
+	private void appendToPartialRequest(byte[] bytes, int offset, int length) {
+		if (partialRequestLength + length > partialRequest.length) {
+			byte[] grown = new byte[Math.max(2 * partialRequest.length, partialRequestLength + length)];
+			System.arraycopy(partialRequest, 0, grown, 0, partialRequestLength);
+			partialRequest = grown;
+		}
+		System.arraycopy(bytes, offset, partialRequest, partialRequestLength, length);
+		partialRequestLength += length;
+	}
 
+	/**
+	 * Handles a complete request that was read from the client.
+	 */
+	void handleXml(String xml) {
+		handle(new ProcessXML(xml, this, cspokerServer));
 	}
 
-	private void registerWriteInterest() {
-		client.keyFor(selector).interestOps(SelectionKey.OP_READ);
-		client.keyFor(selector).interestOps(
-				SelectionKey.OP_READ | SelectionKey.OP_WRITE);
-		selector.wakeup();
+	/**
+	 * Requests of a client are handled in order, so it can send the next
+	 * request before the reply to the previous one has come in.
+	 */
+	public void handle(Runnable request) {
+		requestExecutor.execute(request);
 	}
 
-	public void appendToWriteBuffer(ByteBuffer bytes) {
+	/**
+	 * Writes the queued messages to the client. Once they are all written,
+	 * the write interest of the client is removed. Only called by the reactor
+	 * of this client.
+	 * 
+	 * @throws IOException
+	 */
+	public void writeBufferToClient() throws IOException {
 		synchronized (writeBufferLock) {
-			writeBuffer.add(bytes);
-			logger.trace("adding write interest, added " + bytes.remaining()
-					+ " bytes to the buffer.");
-			registerWriteInterest();
+			if (!writeBuffer.flush(client)) {
+				logger.trace("stopping write early, " + writeBuffer.getNbBytes()
+						+ " bytes unwritten.");
+				return;
+			}
+			client.keyFor(selector).interestOps(SelectionKey.OP_READ);
+			logger.trace("finished entire write operation");
+		}
+		if (killAfterResponse) {
+			logger.trace("killing connection after write");
+			closeConnection();
+		}
+	}
+
+	/**
+	 * Queues a message. Only the first message in an empty queue wakes up the
+	 * reactor, the others are written along with it.
+	 * 
+	 * @param droppable
+	 *            whether the message may be dropped when the client is too
+	 *            slow
+	 */
+	private void appendToWriteBuffer(ByteBuffer bytes, boolean droppable) {
+		if (closed.get()) {
+			return;
+		}
+		synchronized (writeBufferLock) {
+			switch (writeBuffer.offer(bytes, droppable)) {
+			case COALESCED:
+				logger.warn("Client " + client.socket().getRemoteSocketAddress()
+						+ " missed events, disconnecting it once its queue is written: "
+						+ writeBuffer);
+				killAfterResponse();
+				// fall through, all of the queue may have been evicted
+			case FIRST:
+				SelectionKey key = client.keyFor(selector);
+				if (key != null && key.isValid()) {
+					key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+					selector.wakeup();
+				}
+				return;
+			case QUEUED:
+				return;
+			case DROPPED:
+				logger.debug("Dropped an event for a slow client: " + writeBuffer);
+				return;
+			case OVERFLOW:
+				break;
+			}
+		}
+		logger.warn("Disconnecting slow client "
+				+ client.socket().getRemoteSocketAddress() + ": " + writeBuffer);
+		closeConnection();
+	}
+
+	/**
+	 * The number of bytes waiting to be written to this client.
+	 */
+	public int getBacklog() {
+		synchronized (writeBufferLock) {
+			return writeBuffer.getNbBytes();
 		}
 	}
 
 	public void closeConnection() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+		nbConnected.decrementAndGet();
+		MBeans.unregister(monitorName);
 		try {
 			logger.trace("Disconnecting "+client.socket().getRemoteSocketAddress());
 			client.close();
@@ -150,7 +325,11 @@ public class ClientContext {
 
 	public void send(String xml) {
 		try {
-			appendToWriteBuffer(charset.newEncoder().encode(CharBuffer.wrap(xml+ "\u0000")));
+			if (binary) {
+				appendToWriteBuffer(EventEncoder.xmlFrame(xml), false);
+			} else {
+				appendToWriteBuffer(charset.newEncoder().encode(CharBuffer.wrap(xml+ "\u0000")), false);
+			}
 			logger.trace("wrote reply to write buffer list:\n" + xml);
 		} catch (CharacterCodingException e) {
 			logger.error(e.getMessage());
@@ -159,19 +338,12 @@ public class ClientContext {
 	}
 	
 	public void send(Event event){
-		StringWriter output = new StringWriter();
-		try {
-			Marshaller m = EventJAXBContext.context.createMarshaller();
-			m.setProperty(Marshaller.JAXB_FRAGMENT, true);
-			m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-			m.marshal(event, output);
-		} catch (PropertyException exception) {
-			throw new IllegalStateException(exception);
-		} catch (JAXBException exception) {
-			throw new IllegalStateException(exception);
-		}
-		output.flush();
-		send(output.toString());
+		// the client waits for the replies to its own requests
+		ByteBuffer bytes = binary ? EventEncoder.encodeFrame(event) : EventEncoder.encode(event);
+		appendToWriteBuffer(bytes, !(event instanceof ActionEvent));
+		if (logger.isTraceEnabled()) {
+			logger.trace("wrote event to write buffer list: " + event);
+		}
 	}
 	
 	public void perform(DispatchableAction<?> action){
@@ -205,4 +377,55 @@ public class ClientContext {
 		killAfterResponse = true;
 	}
 
+	/**
+	 * The number of clients that are connected, to all socket servers.
+	 */
+	public static int getNbConnected() {
+		return nbConnected.get();
+	}
+
+	private class Monitor implements ClientMonitorMBean {
+
+		public String getRemoteAddress() {
+			return String.valueOf(client.socket().getRemoteSocketAddress());
+		}
+
+		public boolean isAuthenticated() {
+			return ClientContext.this.isAuthenticated();
+		}
+
+		public boolean isBinary() {
+			return binary;
+		}
+
+		public int getBacklog() {
+			return ClientContext.this.getBacklog();
+		}
+
+		public int getMaxBacklog() {
+			synchronized (writeBufferLock) {
+				return writeBuffer.getMaxBytes();
+			}
+		}
+
+		public int getNbQueuedMessages() {
+			synchronized (writeBufferLock) {
+				return writeBuffer.getNbMessages();
+			}
+		}
+
+		public long getNbDropped() {
+			synchronized (writeBufferLock) {
+				return writeBuffer.getNbDropped();
+			}
+		}
+
+		public long getNbCoalesced() {
+			synchronized (writeBufferLock) {
+				return writeBuffer.getNbCoalesced();
+			}
+		}
+
+	}
+
 }
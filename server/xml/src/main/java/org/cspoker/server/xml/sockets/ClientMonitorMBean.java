@@ -0,0 +1,48 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+/**
+ * The attributes of the management bean of a connected socket client.
+ */
+public interface ClientMonitorMBean {
+
+	String getRemoteAddress();
+
+	boolean isAuthenticated();
+
+	boolean isBinary();
+
+	/**
+	 * The number of bytes waiting to be written to the client.
+	 */
+	int getBacklog();
+
+	/**
+	 * The largest number of bytes that were waiting at any time.
+	 */
+	int getMaxBacklog();
+
+	/**
+	 * The number of messages waiting to be written to the client.
+	 */
+	int getNbQueuedMessages();
+
+	long getNbDropped();
+
+	long getNbCoalesced();
+
+}
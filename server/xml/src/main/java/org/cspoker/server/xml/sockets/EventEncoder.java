@@ -0,0 +1,172 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEvent;
+import org.cspoker.common.api.lobby.holdemtable.event.HoldemTableTreeEventWrapper;
+import org.cspoker.common.api.lobby.holdemtable.holdemplayer.event.HoldemPlayerEvent;
+import org.cspoker.common.api.shared.event.Event;
+import org.cspoker.common.api.shared.socket.BinaryProtocol;
+import org.cspoker.common.jaxbcontext.EventJAXBContext;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * Encodes events as they are written to the socket clients: compact UTF-8 XML
+ * followed by the zero byte that ends a message, or a frame of the
+ * {@link BinaryProtocol}.
+ * 
+ * A table publishes the same event object to every player at the table, each
+ * of them wrapped with the same table id. The encoding of such a public event
+ * is kept as long as the event itself is reachable, so it is marshalled once
+ * for all players and shared read-only between their write queues. The same
+ * goes for its binary frame.
+ */
+@ThreadSafe
+public final class EventEncoder {
+
+	private final static ThreadLocal<Marshaller> marshallers = new ThreadLocal<Marshaller>() {
+		@Override
+		protected Marshaller initialValue() {
+			try {
+				Marshaller m = EventJAXBContext.context.createMarshaller();
+				m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+				m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+				m.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+				return m;
+			} catch (JAXBException exception) {
+				throw new IllegalStateException(exception);
+			}
+		}
+	};
+
+	// weak keys compare by identity
+	private final static ConcurrentMap<HoldemTableTreeEvent, ByteBuffer> tableEvents = new MapMaker()
+			.weakKeys().makeMap();
+
+	private final static ConcurrentMap<HoldemTableTreeEvent, ByteBuffer> tableFrames = new MapMaker()
+			.weakKeys().makeMap();
+
+	private final static byte[] HEADER = new byte[BinaryProtocol.HEADER_LENGTH];
+
+	private final static Charset UTF_8 = Charset.forName("UTF-8");
+
+	private EventEncoder() {
+	}
+
+	/**
+	 * Returns the encoded event in a read-only buffer of its own, positioned at
+	 * the start of the message.
+	 */
+	public static ByteBuffer encode(Event event) {
+		if (event instanceof HoldemTableTreeEventWrapper) {
+			HoldemTableTreeEvent tableEvent = ((HoldemTableTreeEventWrapper) event)
+					.getEvent();
+			// pocket cards are for one player only
+			if (!(tableEvent instanceof HoldemPlayerEvent)) {
+				ByteBuffer shared = tableEvents.get(tableEvent);
+				if (shared == null) {
+					shared = marshal(event);
+					ByteBuffer previous = tableEvents.putIfAbsent(tableEvent,
+							shared);
+					if (previous != null) {
+						shared = previous;
+					}
+				}
+				return shared.duplicate();
+			}
+		}
+		return marshal(event);
+	}
+
+	/**
+	 * Returns the event as a frame of the binary protocol in a read-only
+	 * buffer of its own, positioned at the start of the frame.
+	 */
+	public static ByteBuffer encodeFrame(Event event) {
+		if (event instanceof HoldemTableTreeEventWrapper) {
+			HoldemTableTreeEventWrapper wrapper = (HoldemTableTreeEventWrapper) event;
+			HoldemTableTreeEvent tableEvent = wrapper.getEvent();
+			if (tableEvent instanceof HoldemPlayerEvent) {
+				return frame(wrapper, tableEvent);
+			}
+			ByteBuffer shared = tableFrames.get(tableEvent);
+			if (shared == null) {
+				shared = frame(wrapper, tableEvent).asReadOnlyBuffer();
+				ByteBuffer previous = tableFrames.putIfAbsent(tableEvent, shared);
+				if (previous != null) {
+					shared = previous;
+				}
+			}
+			return shared.duplicate();
+		}
+		return xmlFrame(event);
+	}
+
+	private static ByteBuffer frame(HoldemTableTreeEventWrapper wrapper,
+			HoldemTableTreeEvent tableEvent) {
+		ByteBuffer frame = BinaryProtocol.encode(wrapper.getTableId(), tableEvent);
+		return frame == null ? xmlFrame(wrapper) : frame;
+	}
+
+	/**
+	 * Returns the XML document in a frame of the binary protocol.
+	 */
+	public static ByteBuffer xmlFrame(String xml) {
+		byte[] document = xml.getBytes(UTF_8);
+		byte[] frame = new byte[BinaryProtocol.HEADER_LENGTH + document.length];
+		BinaryProtocol.putHeader(frame, BinaryProtocol.XML_FRAME, document.length);
+		System.arraycopy(document, 0, frame, BinaryProtocol.HEADER_LENGTH, document.length);
+		return ByteBuffer.wrap(frame);
+	}
+
+	private static ByteBuffer xmlFrame(Event event) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(512);
+		// room for the header, filled in once the length is known
+		output.write(HEADER, 0, HEADER.length);
+		marshal(event, output);
+		byte[] frame = output.toByteArray();
+		BinaryProtocol.putHeader(frame, BinaryProtocol.XML_FRAME, frame.length
+				- HEADER.length);
+		return ByteBuffer.wrap(frame);
+	}
+
+	private static ByteBuffer marshal(Event event) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(512);
+		marshal(event, output);
+		output.write(0);
+		return ByteBuffer.wrap(output.toByteArray()).asReadOnlyBuffer();
+	}
+
+	private static void marshal(Event event, ByteArrayOutputStream output) {
+		try {
+			marshallers.get().marshal(event, output);
+		} catch (JAXBException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+}
@@ -0,0 +1,307 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * The messages waiting to be written to one socket client. The events in the
+ * queue are bounded by the number of bytes they hold, an event that does not
+ * fit is handled according to a {@link SlowConsumerPolicy}. Replies to
+ * requests are never refused.
+ * 
+ * Messages are flushed with gathering writes, so one write call sends as many
+ * of them as the socket accepts.
+ * 
+ * The queue is guarded by the lock of its {@link ClientContext}.
+ */
+@NotThreadSafe
+public final class OutboundQueue {
+
+	/**
+	 * System property with the maximum number of bytes that can be waiting
+	 * for a client before its {@link SlowConsumerPolicy} applies.
+	 */
+	public final static String LIMIT_PROPERTY = "cspoker.sockets.outbound.limit";
+
+	public final static int DEFAULT_LIMIT = 4 * 1024 * 1024;
+
+	// buffers handed to a single gathering write, well below any IOV_MAX
+	final static int MAX_GATHER = 64;
+
+	/**
+	 * The outcome of {@link OutboundQueue#offer(ByteBuffer, boolean)}.
+	 */
+	public enum Offer {
+		/** Queued, and the queue was empty until now. */
+		FIRST,
+		/** Queued behind other messages. */
+		QUEUED,
+		/**
+		 * Queued after older events made room for it. The client missed
+		 * events and should be disconnected once the queue is written.
+		 */
+		COALESCED,
+		/** Not queued, the client is too slow. */
+		DROPPED,
+		/** Not queued, the client should be disconnected. */
+		OVERFLOW
+	}
+
+	private final static AtomicLong totalDropped = new AtomicLong();
+	private final static AtomicLong totalCoalesced = new AtomicLong();
+	private final static AtomicLong totalOverflows = new AtomicLong();
+	private final static AtomicLong totalMessages = new AtomicLong();
+	private final static AtomicLong totalWrites = new AtomicLong();
+
+	private final ArrayDeque<Message> messages = new ArrayDeque<Message>();
+
+	private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+
+	private final int limit;
+
+	private final SlowConsumerPolicy policy;
+
+	private int nbBytes = 0;
+	private int maxBytes = 0;
+
+	private long nbDropped = 0;
+	private long nbCoalesced = 0;
+
+	// events were evicted, the events that follow are of no use to the client
+	private boolean missedEvents = false;
+
+	public OutboundQueue(int limit, SlowConsumerPolicy policy) {
+		if (limit < 1) {
+			throw new IllegalArgumentException("The limit should be positive: " + limit);
+		}
+		this.limit = limit;
+		this.policy = policy;
+	}
+
+	/**
+	 * Adds a message that starts at the position of the given buffer.
+	 * 
+	 * @param droppable
+	 *            whether the message is an event, rather than a reply the
+	 *            client waits for
+	 */
+	public Offer offer(ByteBuffer bytes, boolean droppable) {
+		int size = bytes.remaining();
+		boolean coalesced = false;
+		if (droppable && (missedEvents || nbBytes + size > limit)) {
+			switch (policy) {
+			case DISCONNECT:
+				totalOverflows.incrementAndGet();
+				return Offer.OVERFLOW;
+			case COALESCE:
+				if (!missedEvents && coalesce(size)) {
+					missedEvents = true;
+					coalesced = true;
+					break;
+				}
+				// fall through, the replies alone fill the queue or the
+				// client is about to be disconnected
+			default:
+				++nbDropped;
+				totalDropped.incrementAndGet();
+				return Offer.DROPPED;
+			}
+		}
+		boolean wasEmpty = messages.isEmpty();
+		messages.addLast(new Message(bytes, droppable));
+		nbBytes += size;
+		maxBytes = Math.max(maxBytes, nbBytes);
+		totalMessages.incrementAndGet();
+		if (coalesced) {
+			return Offer.COALESCED;
+		}
+		return wasEmpty ? Offer.FIRST : Offer.QUEUED;
+	}
+
+	/**
+	 * Removes the oldest events that were not partly written until there is
+	 * room for the given number of bytes, if that is possible at all.
+	 */
+	private boolean coalesce(int size) {
+		int evictable = 0;
+		for (Message message : messages) {
+			if (message.isEvictable()) {
+				evictable += message.length;
+			}
+		}
+		if (nbBytes - evictable + size > limit) {
+			return false;
+		}
+		Iterator<Message> i = messages.iterator();
+		while (nbBytes + size > limit) {
+			Message message = i.next();
+			if (message.isEvictable()) {
+				i.remove();
+				nbBytes -= message.length;
+				++nbCoalesced;
+				totalCoalesced.incrementAndGet();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Writes as much as the channel accepts.
+	 * 
+	 * @return whether the queue is empty
+	 */
+	public boolean flush(GatheringByteChannel channel) throws IOException {
+		while (!messages.isEmpty()) {
+			int n = 0;
+			for (Message message : messages) {
+				if (n == MAX_GATHER) {
+					break;
+				}
+				gather[n++] = message.bytes;
+			}
+			long written;
+			try {
+				written = channel.write(gather, 0, n);
+			} finally {
+				Arrays.fill(gather, 0, n, null);
+			}
+			totalWrites.incrementAndGet();
+			nbBytes -= (int) written;
+			int nbWritten = 0;
+			while (!messages.isEmpty() && !messages.peekFirst().bytes.hasRemaining()) {
+				messages.removeFirst();
+				++nbWritten;
+			}
+			if (nbWritten < n) {
+				// the socket buffer is full
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean isEmpty() {
+		return messages.isEmpty();
+	}
+
+	/**
+	 * The number of bytes waiting to be written.
+	 */
+	public int getNbBytes() {
+		return nbBytes;
+	}
+
+	/**
+	 * The largest number of bytes that were waiting at any time.
+	 */
+	public int getMaxBytes() {
+		return maxBytes;
+	}
+
+	public int getNbMessages() {
+		return messages.size();
+	}
+
+	public long getNbDropped() {
+		return nbDropped;
+	}
+
+	public long getNbCoalesced() {
+		return nbCoalesced;
+	}
+
+	/**
+	 * Whether events were evicted to make room for newer ones. No events are
+	 * queued from then on.
+	 */
+	public boolean hasMissedEvents() {
+		return missedEvents;
+	}
+
+	/**
+	 * The number of events that were not queued, for all clients.
+	 */
+	public static long getTotalDropped() {
+		return totalDropped.get();
+	}
+
+	/**
+	 * The number of events that made room for newer ones, for all clients.
+	 */
+	public static long getTotalCoalesced() {
+		return totalCoalesced.get();
+	}
+
+	/**
+	 * The number of times a client was found too slow to stay connected.
+	 */
+	public static long getTotalOverflows() {
+		return totalOverflows.get();
+	}
+
+	public static long getTotalMessages() {
+		return totalMessages.get();
+	}
+
+	/**
+	 * The number of gathering writes, for all clients.
+	 */
+	public static long getTotalWrites() {
+		return totalWrites.get();
+	}
+
+	@Override
+	public String toString() {
+		return "OutboundQueue[" + messages.size() + " messages, " + nbBytes
+				+ "/" + limit + " bytes, max " + maxBytes + ", dropped "
+				+ nbDropped + ", coalesced " + nbCoalesced + ", " + policy
+				+ "]";
+	}
+
+	private final static class Message {
+
+		private final ByteBuffer bytes;
+
+		private final int length;
+
+		private final boolean droppable;
+
+		private Message(ByteBuffer bytes, boolean droppable) {
+			this.bytes = bytes;
+			this.length = bytes.remaining();
+			this.droppable = droppable;
+		}
+
+		private boolean isStarted() {
+			return bytes.remaining() < length;
+		}
+
+		private boolean isEvictable() {
+			return droppable && !isStarted();
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import org.apache.log4j.Logger;
+import org.cspoker.common.CSPokerServer;
+
+/**
+ * A selector loop, run by a thread of its own, that reads and writes for the
+ * clients that were assigned to it. The requests it reads are handled on the
+ * shared executor.
+ */
+public class Reactor implements Runnable {
+
+	private final static Logger logger = Logger.getLogger(Reactor.class);
+
+	private final Selector selector;
+
+	private final Queue<SocketChannel> newClients = new ConcurrentLinkedQueue<SocketChannel>();
+
+	private final CSPokerServer cspokerServer;
+
+	private final Executor executor;
+
+	public Reactor(CSPokerServer cspokerServer, Executor executor) throws IOException {
+		this.selector = Selector.open();
+		this.cspokerServer = cspokerServer;
+		this.executor = executor;
+	}
+
+	/**
+	 * Adds a non-blocking client, it is registered by the reactor thread.
+	 */
+	public void register(SocketChannel client) {
+		newClients.add(client);
+		selector.wakeup();
+	}
+
+	public void run() {
+		while (selector.isOpen()) {
+			try {
+				selector.select();
+				registerNewClients();
+				processSelectedKeys();
+			} catch (ClosedSelectorException e) {
+				// stopped while the reactor was busy
+				logger.debug("Reactor stopped.");
+				return;
+			} catch (IOException e) {
+				logger.error(e.getMessage(), e);
+			}
+		}
+	}
+
+	public void close() throws IOException {
+		selector.close();
+	}
+
+	private void registerNewClients() {
+		SocketChannel client;
+		while ((client = newClients.poll()) != null) {
+			try {
+				SelectionKey key = client.register(selector, SelectionKey.OP_READ);
+				key.attach(new ClientContext(client, selector, cspokerServer, executor));
+				logger.trace("Registered connection from " + client.socket().getRemoteSocketAddress());
+			} catch (ClosedChannelException e) {
+				logger.debug("Connection closed before it was registered.");
+			}
+		}
+	}
+
+	private void processSelectedKeys() {
+		Iterator<SelectionKey> i = selector.selectedKeys().iterator();
+		while (i.hasNext()) {
+			SelectionKey key = i.next();
+			i.remove();
+			ClientContext context = (ClientContext) key.attachment();
+			try {
+				if (key.isReadable()) {
+					context.readFromClient();
+				}
+				if (key.isValid() && key.isWritable()) {
+					context.writeBufferToClient();
+				}
+			} catch (CancelledKeyException e) {
+				logger.debug("Cancelled selected key, ignoring.");
+			} catch (IOException e) {
+				logger.debug("Exception on socket, closing socket: " + e.getMessage());
+				context.closeConnection();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Reactor";
+	}
+
+}
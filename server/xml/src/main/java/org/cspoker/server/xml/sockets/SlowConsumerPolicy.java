@@ -0,0 +1,70 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+import org.apache.log4j.Logger;
+
+/**
+ * What a {@link ClientContext} does with an event for a client that does not
+ * read fast enough, when its outbound queue is full. Replies to the requests
+ * of the client itself are always queued, the client is waiting for them.
+ */
+public enum SlowConsumerPolicy {
+
+	/**
+	 * The new event is not sent.
+	 */
+	DROP,
+
+	/**
+	 * The oldest events that have not been written yet make room for the new
+	 * one. The client missed events, so no more events are queued and it is
+	 * disconnected once the queued messages are written, the replies it waits
+	 * for included. It sees the state of its tables again when it rejoins
+	 * them.
+	 */
+	COALESCE,
+
+	/**
+	 * The client is disconnected and logged out.
+	 */
+	DISCONNECT;
+
+	/**
+	 * System property with the name of the policy of the socket clients.
+	 * Defaults to {@link #DISCONNECT}.
+	 */
+	public final static String PROPERTY = "cspoker.sockets.slowconsumer";
+
+	private final static Logger logger = Logger
+			.getLogger(SlowConsumerPolicy.class);
+
+	/**
+	 * Returns the policy named by {@link #PROPERTY}, or {@link #DISCONNECT}
+	 * if it names none.
+	 */
+	public static SlowConsumerPolicy fromSystemProperties() {
+		String name = System.getProperty(PROPERTY, DISCONNECT.name());
+		try {
+			return valueOf(name.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			logger.warn("Unknown slow consumer policy " + name + " in "
+					+ PROPERTY + ", using " + DISCONNECT + ".");
+			return DISCONNECT;
+		}
+	}
+
+}
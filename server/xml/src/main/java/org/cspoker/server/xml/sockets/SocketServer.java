@@ -13,59 +13,154 @@
  *  along with this program; if not, write to the Free Software
  *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
  */
-
 package org.cspoker.server.xml.sockets;
 
 import java.io.IOException;
-import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
+import java.net.InetSocketAddress;
 import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.rmi.RemoteException;
-import java.util.concurrent.Executor;
+
+import javax.management.ObjectName;
 
 import org.apache.log4j.Logger;
 import org.cspoker.common.CSPokerServer;
+import org.cspoker.common.util.metrics.MBeans;
 import org.cspoker.common.util.threading.GlobalThreadPool;
-import org.cspoker.server.xml.sockets.runnables.WaitForIO;
+import org.cspoker.common.util.threading.LoggingThread;
 
+/**
+ * Accepts connections on a thread of its own and hands them round-robin to a
+ * number of {@link Reactor}s, each with its own selector and thread.
+ */
 public class SocketServer {
 
 	private final static Logger logger = Logger.getLogger(SocketServer.class);
 
-	private final ServerSocketChannel server;
+	/**
+	 * System property with the number of reactors, when it is not given to
+	 * the constructor. Defaults to the number of processors.
+	 */
+	public final static String NB_REACTORS_PROPERTY = "cspoker.sockets.reactors";
 
-	private final Selector selector;
+	private final ServerSocketChannel server;
 
-	private Executor executor;
+	private final Reactor[] reactors;
 
 	private final int port;
 
-	private CSPokerServer cspokerServer;
+	private volatile ObjectName monitorName;
 
 	public SocketServer(int port, CSPokerServer cspokerServer) throws RemoteException {
+		this(port, cspokerServer, Integer.getInteger(NB_REACTORS_PROPERTY,
+				Runtime.getRuntime().availableProcessors()));
+	}
+
+	public SocketServer(int port, CSPokerServer cspokerServer, int nbReactors) throws RemoteException {
+		this(new InetSocketAddress(port), cspokerServer, nbReactors);
+	}
+
+	/**
+	 * Listens on the given address only, such as the loopback address.
+	 */
+	public SocketServer(InetSocketAddress address, CSPokerServer cspokerServer, int nbReactors)
+			throws RemoteException {
+		if (nbReactors < 1) {
+			throw new IllegalArgumentException("At least one reactor is needed: " + nbReactors);
+		}
 		try {
-			this.port = port;
-			// Create the server socket channel
+			this.port = address.getPort();
+			// Create the server socket channel, the acceptor blocks on it
 			server = ServerSocketChannel.open();
-			// nonblocking I/O
-			server.configureBlocking(false);
-			// host-port 8000
-			server.socket().bind(new java.net.InetSocketAddress(port));
-			// Create the selector
-			selector = Selector.open();
-			// Recording server to selector (type OP_ACCEPT)
-			server.register(selector, SelectionKey.OP_ACCEPT);
-			this.cspokerServer = cspokerServer;
+			server.socket().bind(address);
+			reactors = new Reactor[nbReactors];
+			for (int i = 0; i < nbReactors; i++) {
+				reactors[i] = new Reactor(cspokerServer, GlobalThreadPool.getInstance());
+			}
 		} catch (IOException e) {
 			throw new RemoteException("Creating Socket server failed", e);
 		}
 	}
 
 	public void start() {
-		executor = GlobalThreadPool.getInstance();
-		// Infinite server loop
-		executor.execute(new WaitForIO(executor, selector, server, this.cspokerServer));
-		logger.info("Socket server running on port " + port);
+		for (Reactor reactor : reactors) {
+			new LoggingThread(reactor, "CSPoker-SocketReactor").start();
+		}
+		new LoggingThread(new Runnable() {
+			public void run() {
+				accept();
+			}
+		}, "CSPoker-SocketAcceptor").start();
+		logger.info("Socket server running on port " + port + " with "
+				+ reactors.length + " reactors");
+		monitorName = MBeans.register("SocketServer", Integer.toString(port),
+				new SocketServerMonitorMBean() {
+
+					public int getPort() {
+						return port;
+					}
+
+					public int getNbReactors() {
+						return reactors.length;
+					}
+
+					public int getNbConnectedClients() {
+						return ClientContext.getNbConnected();
+					}
+
+					public long getTotalMessages() {
+						return OutboundQueue.getTotalMessages();
+					}
+
+					public long getTotalWrites() {
+						return OutboundQueue.getTotalWrites();
+					}
+
+					public long getTotalDropped() {
+						return OutboundQueue.getTotalDropped();
+					}
+
+					public long getTotalCoalesced() {
+						return OutboundQueue.getTotalCoalesced();
+					}
+
+					public long getTotalOverflows() {
+						return OutboundQueue.getTotalOverflows();
+					}
+				}, SocketServerMonitorMBean.class);
+	}
+
+	private void accept() {
+		int next = 0;
+		while (server.isOpen()) {
+			try {
+				SocketChannel client = server.accept();
+				client.configureBlocking(false);
+				logger.trace("Accepted new connection from "
+						+ client.socket().getRemoteSocketAddress());
+				reactors[next].register(client);
+				next = (next + 1) % reactors.length;
+			} catch (IOException e) {
+				if (server.isOpen()) {
+					logger.error("Failed to accept a connection: " + e.getMessage());
+					// e.g. out of file descriptors, don't spin
+					try {
+						Thread.sleep(100);
+					} catch (InterruptedException ie) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	public void stop() throws IOException {
+		MBeans.unregister(monitorName);
+		server.close();
+		for (Reactor reactor : reactors) {
+			reactor.close();
+		}
 	}
 
-}
\ No newline at end of file
+}
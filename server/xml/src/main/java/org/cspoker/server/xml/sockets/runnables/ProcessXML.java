@@ -34,6 +34,29 @@ public class ProcessXML implements Runnable, Prioritizable {
 
 	private final static Logger logger = Logger.getLogger(ProcessXML.class);
 
+	// unmarshallers are not thread safe, but can be reused
+	private final static ThreadLocal<Unmarshaller> loginUnmarshallers = new ThreadLocal<Unmarshaller>() {
+		@Override
+		protected Unmarshaller initialValue() {
+			try {
+				return AllSocketJAXBContexts.context.createUnmarshaller();
+			} catch (JAXBException exception) {
+				throw new IllegalStateException(exception);
+			}
+		}
+	};
+
+	private final static ThreadLocal<Unmarshaller> actionUnmarshallers = new ThreadLocal<Unmarshaller>() {
+		@Override
+		protected Unmarshaller initialValue() {
+			try {
+				return ActionJAXBContext.context.createUnmarshaller();
+			} catch (JAXBException exception) {
+				throw new IllegalStateException(exception);
+			}
+		}
+	};
+
 	private final String xml;
 	private final ClientContext context;
 
@@ -57,13 +80,13 @@ public class ProcessXML implements Runnable, Prioritizable {
 				} else {
 					// Check the credentials
 					logger.info("Checking login.");
-					Unmarshaller um = AllSocketJAXBContexts.context.createUnmarshaller();
+					Unmarshaller um = loginUnmarshallers.get();
 					context.login((LoginAction) um.unmarshal(new StringReader(xml)));
 				}
 			} else {
 				// Perform the other requests
 				logger.info("Handling request from logged in.");
-				Unmarshaller um = ActionJAXBContext.context.createUnmarshaller();
+				Unmarshaller um = actionUnmarshallers.get();
 				DispatchableAction<?> action = (DispatchableAction<?>) um.unmarshal(new StringReader(xml));
 				context.perform(action);
 			}
@@ -0,0 +1,202 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import junit.framework.TestCase;
+
+import org.cspoker.common.api.shared.socket.BinaryProtocol;
+
+public class ClientContextTest extends TestCase {
+
+	private ServerSocketChannel server;
+
+	private SocketChannel client;
+
+	private Selector selector;
+
+	private Context context;
+
+	@Override
+	protected void setUp() throws Exception {
+		server = ServerSocketChannel.open();
+		server.socket().bind(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0));
+		client = SocketChannel.open(server.socket().getLocalSocketAddress());
+		selector = Selector.open();
+		context = new Context(server.accept(), selector);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		context.closeConnection();
+		client.close();
+		server.close();
+		selector.close();
+	}
+
+	public void testHelloInPieces() throws Exception {
+		byte[] hello = BinaryProtocol.getHello();
+		write(hello, 0, 2);
+		assertEquals(0, context.getBacklog());
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		bytes.write(hello, 2, hello.length - 2);
+		bytes.write(frame("<a/>"));
+		write(bytes.toByteArray());
+		// the hello is answered, the frame behind it is read
+		assertEquals(BinaryProtocol.HELLO_LENGTH, context.getBacklog());
+		assertEquals(1, context.requests.size());
+		assertEquals("<a/>", context.requests.get(0));
+	}
+
+	public void testFrames() throws Exception {
+		write(BinaryProtocol.getHello());
+		byte[] frame = frame("<split/>");
+		write(frame, 0, 3);
+		write(frame, 3, 5);
+		write(frame, 8, frame.length - 8);
+		assertEquals(1, context.requests.size());
+		assertEquals("<split/>", context.requests.get(0));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		bytes.write(frame("<b/>"));
+		bytes.write(frame("<c/>"));
+		bytes.write(frame("<d/>"), 0, 6);
+		write(bytes.toByteArray());
+		assertEquals(3, context.requests.size());
+		assertEquals("<b/>", context.requests.get(1));
+		assertEquals("<c/>", context.requests.get(2));
+		write(frame("<d/>"), 6, 3);
+		assertEquals(4, context.requests.size());
+		assertEquals("<d/>", context.requests.get(3));
+	}
+
+	public void testLargeFrame() throws Exception {
+		write(BinaryProtocol.getHello());
+		StringBuilder xml = new StringBuilder();
+		while (xml.length() < 3 * ClientContext.READ_BUFFER_SIZE) {
+			xml.append("<large/>");
+		}
+		byte[] frame = frame(xml.toString());
+		client.write(ByteBuffer.wrap(frame));
+		while (context.requests.isEmpty()) {
+			context.readFromClient();
+		}
+		assertEquals(xml.toString(), context.requests.get(0));
+	}
+
+	public void testUnknownFrameType() throws Exception {
+		write(BinaryProtocol.getHello());
+		byte[] frame = frame("<a/>");
+		frame[4] = BinaryProtocol.TABLE_EVENT_FRAME;
+		try {
+			write(frame);
+			fail();
+		} catch (IOException e) {
+			// clients only send xml frames
+		}
+		assertTrue(context.requests.isEmpty());
+	}
+
+	public void testNoHello() throws Exception {
+		write("<a/>\u0000".getBytes("UTF-8"));
+		assertEquals(0, context.getBacklog());
+		assertEquals(1, context.requests.size());
+		assertEquals("<a/>", context.requests.get(0));
+	}
+
+	public void testXmlInPieces() throws Exception {
+		byte[] xml = "<split>request</split>\u0000".getBytes("UTF-8");
+		write(xml, 0, 7);
+		write(xml, 7, 8);
+		assertTrue(context.requests.isEmpty());
+		write(xml, 15, xml.length - 15);
+		assertEquals(1, context.requests.size());
+		assertEquals("<split>request</split>", context.requests.get(0));
+	}
+
+	public void testSeveralXmlRequests() throws Exception {
+		write("<a/>\u0000<b/>\u0000<c".getBytes("UTF-8"));
+		assertEquals(2, context.requests.size());
+		assertEquals("<a/>", context.requests.get(0));
+		assertEquals("<b/>", context.requests.get(1));
+		write("/>\u0000<d/>\u0000".getBytes("UTF-8"));
+		assertEquals(4, context.requests.size());
+		assertEquals("<c/>", context.requests.get(2));
+		assertEquals("<d/>", context.requests.get(3));
+	}
+
+	public void testStartOfHello() throws Exception {
+		// looks like a hello at first, the byte is kept for the xml
+		write(BinaryProtocol.getHello(), 0, 1);
+		write("<a/>\u0000".getBytes("UTF-8"));
+		assertEquals(0, context.getBacklog());
+		assertEquals(1, context.requests.size());
+		assertTrue(context.requests.get(0).endsWith("<a/>"));
+		assertEquals(1 + 4, context.requests.get(0).length());
+	}
+
+	private byte[] frame(String xml) throws IOException {
+		byte[] payload = xml.getBytes("UTF-8");
+		byte[] frame = new byte[BinaryProtocol.HEADER_LENGTH + payload.length];
+		BinaryProtocol.putHeader(frame, BinaryProtocol.XML_FRAME, payload.length);
+		System.arraycopy(payload, 0, frame, BinaryProtocol.HEADER_LENGTH, payload.length);
+		return frame;
+	}
+
+	private void write(byte[] bytes) throws IOException {
+		write(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Sends the given bytes and lets the context read them in one go.
+	 */
+	private void write(byte[] bytes, int offset, int length) throws IOException {
+		client.write(ByteBuffer.wrap(bytes, offset, length));
+		context.readFromClient();
+	}
+
+	/**
+	 * Keeps the requests instead of handling them.
+	 */
+	private static class Context extends ClientContext {
+
+		private final List<String> requests = new ArrayList<String>();
+
+		Context(SocketChannel channel, Selector selector) {
+			super(channel, selector, null, new Executor() {
+				public void execute(Runnable command) {
+					command.run();
+				}
+			});
+		}
+
+		@Override
+		void handleXml(String xml) {
+			requests.add(xml);
+		}
+	}
+}
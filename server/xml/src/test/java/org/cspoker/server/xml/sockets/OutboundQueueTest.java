@@ -0,0 +1,189 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+import junit.framework.TestCase;
+
+import org.cspoker.server.xml.sockets.OutboundQueue.Offer;
+
+public class OutboundQueueTest extends TestCase {
+
+	public void testGatheringWrite() throws Exception {
+		OutboundQueue queue = new OutboundQueue(1000, SlowConsumerPolicy.DROP);
+		assertEquals(Offer.FIRST, queue.offer(message("a"), true));
+		for (int i = 0; i < 9; i++) {
+			assertEquals(Offer.QUEUED, queue.offer(message("b"), true));
+		}
+		Channel channel = new Channel(1000);
+		assertTrue(queue.flush(channel));
+		assertEquals(1, channel.nbWrites);
+		assertEquals("abbbbbbbbb", channel.toString());
+		assertTrue(queue.isEmpty());
+		assertEquals(0, queue.getNbBytes());
+		assertEquals(Offer.FIRST, queue.offer(message("c"), true));
+	}
+
+	public void testPartialWrite() throws Exception {
+		OutboundQueue queue = new OutboundQueue(1000, SlowConsumerPolicy.COALESCE);
+		queue.offer(message("abc"), true);
+		queue.offer(message("def"), true);
+		Channel channel = new Channel(2);
+		assertFalse(queue.flush(channel));
+		assertEquals(4, queue.getNbBytes());
+		channel.capacity = 10;
+		assertTrue(queue.flush(channel));
+		assertEquals("abcdef", channel.toString());
+	}
+
+	public void testManyMessages() throws Exception {
+		OutboundQueue queue = new OutboundQueue(1000, SlowConsumerPolicy.DROP);
+		for (int i = 0; i < 3 * OutboundQueue.MAX_GATHER; i++) {
+			queue.offer(message("x"), true);
+		}
+		Channel channel = new Channel(1000);
+		assertTrue(queue.flush(channel));
+		assertEquals(3, channel.nbWrites);
+		assertEquals(3 * OutboundQueue.MAX_GATHER, channel.toString().length());
+	}
+
+	public void testDrop() {
+		OutboundQueue queue = new OutboundQueue(4, SlowConsumerPolicy.DROP);
+		assertEquals(Offer.FIRST, queue.offer(message("abc"), true));
+		assertEquals(Offer.DROPPED, queue.offer(message("de"), true));
+		assertEquals(Offer.QUEUED, queue.offer(message("fg"), false));
+		assertEquals(1, queue.getNbDropped());
+		assertEquals(5, queue.getNbBytes());
+	}
+
+	public void testCoalesce() throws Exception {
+		OutboundQueue queue = new OutboundQueue(6, SlowConsumerPolicy.COALESCE);
+		queue.offer(message("ab"), true);
+		queue.offer(message("r"), false);
+		queue.offer(message("cd"), true);
+		assertEquals(Offer.COALESCED, queue.offer(message("ef"), true));
+		assertEquals(1, queue.getNbCoalesced());
+		assertTrue(queue.hasMissedEvents());
+		// the client will be disconnected, later events are of no use to it
+		assertEquals(Offer.DROPPED, queue.offer(message("g"), true));
+		assertEquals(Offer.QUEUED, queue.offer(message("s"), false));
+		Channel channel = new Channel(1000);
+		queue.flush(channel);
+		assertEquals("rcdefs", channel.toString());
+	}
+
+	public void testCoalesceRepliesOnly() throws Exception {
+		OutboundQueue queue = new OutboundQueue(6, SlowConsumerPolicy.COALESCE);
+		queue.offer(message("r"), false);
+		// the reply stays, there is no room for more than itself
+		assertEquals(Offer.DROPPED, queue.offer(message("ghijkl"), true));
+		assertFalse(queue.hasMissedEvents());
+		assertEquals(Offer.QUEUED, queue.offer(message("ab"), true));
+	}
+
+	public void testCoalesceKeepsStartedMessage() throws Exception {
+		OutboundQueue queue = new OutboundQueue(4, SlowConsumerPolicy.COALESCE);
+		queue.offer(message("abc"), true);
+		Channel channel = new Channel(1);
+		assertFalse(queue.flush(channel));
+		assertEquals(Offer.DROPPED, queue.offer(message("def"), true));
+		channel.capacity = 1000;
+		queue.flush(channel);
+		assertEquals("abc", channel.toString());
+	}
+
+	public void testDisconnect() {
+		OutboundQueue queue = new OutboundQueue(4, SlowConsumerPolicy.DISCONNECT);
+		queue.offer(message("abc"), true);
+		assertEquals(Offer.OVERFLOW, queue.offer(message("de"), true));
+		assertEquals(Offer.QUEUED, queue.offer(message("de"), false));
+	}
+
+	public void testUnknownPolicy() {
+		String previous = System.getProperty(SlowConsumerPolicy.PROPERTY);
+		try {
+			System.setProperty(SlowConsumerPolicy.PROPERTY, "coalesce ");
+			assertEquals(SlowConsumerPolicy.COALESCE, SlowConsumerPolicy
+					.fromSystemProperties());
+			System.setProperty(SlowConsumerPolicy.PROPERTY, "colaesce");
+			assertEquals(SlowConsumerPolicy.DISCONNECT, SlowConsumerPolicy
+					.fromSystemProperties());
+		} finally {
+			if (previous == null) {
+				System.clearProperty(SlowConsumerPolicy.PROPERTY);
+			} else {
+				System.setProperty(SlowConsumerPolicy.PROPERTY, previous);
+			}
+		}
+	}
+
+	private static ByteBuffer message(String content) {
+		return ByteBuffer.wrap(content.getBytes());
+	}
+
+	/**
+	 * Accepts at most a number of bytes per write.
+	 */
+	private static class Channel implements GatheringByteChannel {
+
+		private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+		private int capacity;
+
+		private int nbWrites = 0;
+
+		private Channel(int capacity) {
+			this.capacity = capacity;
+		}
+
+		public long write(ByteBuffer[] srcs, int offset, int length) {
+			++nbWrites;
+			int total = 0;
+			for (int i = offset; i < offset + length; i++) {
+				while (srcs[i].hasRemaining() && total < capacity) {
+					written.write(srcs[i].get());
+					++total;
+				}
+			}
+			return total;
+		}
+
+		public long write(ByteBuffer[] srcs) {
+			return write(srcs, 0, srcs.length);
+		}
+
+		public int write(ByteBuffer src) {
+			return (int) write(new ByteBuffer[] { src });
+		}
+
+		public boolean isOpen() {
+			return true;
+		}
+
+		public void close() {
+		}
+
+		@Override
+		public String toString() {
+			return written.toString();
+		}
+
+	}
+
+}
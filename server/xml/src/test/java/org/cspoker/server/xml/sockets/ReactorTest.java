@@ -0,0 +1,48 @@
+/**
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, write to the Free Software
+ *  Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ */
+package org.cspoker.server.xml.sockets;
+
+import java.util.concurrent.Executor;
+
+import junit.framework.TestCase;
+
+public class ReactorTest extends TestCase {
+
+	public void testClose() throws Exception {
+		// the reactor may be in any part of its loop when it is closed
+		for (int i = 0; i < 50; i++) {
+			Reactor reactor = new Reactor(null, new Executor() {
+				public void execute(Runnable command) {
+					command.run();
+				}
+			});
+			final Throwable[] uncaught = new Throwable[1];
+			Thread thread = new Thread(reactor, "Reactor");
+			thread.setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
+				public void uncaughtException(Thread t, Throwable e) {
+					uncaught[0] = e;
+				}
+			});
+			thread.start();
+			Thread.sleep(i % 5);
+			reactor.close();
+			thread.join(10000);
+			assertFalse(thread.isAlive());
+			assertNull(uncaught[0]);
+		}
+	}
+
+}